@@ -7,6 +7,20 @@ Date: 2019/7/6 09:52:17
 
 SET FOREIGN_KEY_CHECKS=0;
 
+-- ----------------------------
+--  Table structure for `bms_bill_item`
+-- ----------------------------
+DROP TABLE IF EXISTS `bms_bill_item`;
+CREATE TABLE `bms_bill_item` (
+  `id` bigint(20) NOT NULL AUTO_INCREMENT,
+  `bill_id` bigint(20) DEFAULT NULL,
+  `item_id` bigint(20) DEFAULT NULL COMMENT '挂号id、非药品项目记录id、草药/成药处方id',
+  `type` int(1) DEFAULT NULL COMMENT '0挂号 1检查 2检验 3处置 4草药 5成药',
+  `create_time` datetime DEFAULT NULL,
+  PRIMARY KEY (`id`) USING BTREE,
+  KEY `idx_bill_id` (`bill_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='账单项目（只追加，替代bms_bills_record.record_list）';
+
 -- ----------------------------
 --  Table structure for `bms_bills_record`
 -- ----------------------------
@@ -19,7 +33,7 @@ CREATE TABLE `bms_bills_record` (
   `status` int(1) DEFAULT NULL,
   `invoice_num` int(2) DEFAULT NULL,
   `registration_id` bigint(20) DEFAULT NULL,
-  `record_list` varchar(300) DEFAULT NULL,
+  `record_list` varchar(300) DEFAULT NULL COMMENT '旧版项目串，新项目写入bms_bill_item',
   PRIMARY KEY (`id`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='医院账单流水表';
 
@@ -35,6 +49,33 @@ CREATE TABLE `bms_invoice_exp` (
   PRIMARY KEY (`id`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='费用科目表';
 
+-- ----------------------------
+--  Table structure for `bms_invoice_item`
+-- ----------------------------
+DROP TABLE IF EXISTS `bms_invoice_item`;
+CREATE TABLE `bms_invoice_item` (
+  `id` bigint(20) NOT NULL AUTO_INCREMENT,
+  `invoice_id` bigint(20) DEFAULT NULL,
+  `item_id` bigint(20) DEFAULT NULL,
+  `type` int(1) DEFAULT NULL,
+  `amount` decimal(12,2) DEFAULT NULL,
+  `create_time` datetime DEFAULT NULL,
+  PRIMARY KEY (`id`) USING BTREE,
+  KEY `idx_invoice_id` (`invoice_id`) USING BTREE,
+  KEY `idx_item_id_type` (`item_id`,`type`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='发票明细表（一行一个收费项目）';
+
+-- ----------------------------
+--  Table structure for `bms_invoice_no_seq`
+-- ----------------------------
+DROP TABLE IF EXISTS `bms_invoice_no_seq`;
+CREATE TABLE `bms_invoice_no_seq` (
+  `id` bigint(20) NOT NULL,
+  `next_no` bigint(20) DEFAULT NULL COMMENT '下一个未分配的发票号',
+  `update_time` datetime DEFAULT NULL,
+  PRIMARY KEY (`id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='发票号分配游标';
+
 -- ----------------------------
 --  Table structure for `bms_invoice_record`
 -- ----------------------------
@@ -52,9 +93,28 @@ CREATE TABLE `bms_invoice_record` (
   `settle_record_id` bigint(20) DEFAULT NULL,
   `item_list` varchar(300) DEFAULT NULL,
   `type` int(1) DEFAULT NULL,
-  PRIMARY KEY (`id`) USING BTREE
+  PRIMARY KEY (`id`) USING BTREE,
+  KEY `idx_operator_id_create_time` (`operator_id`,`create_time`),
+  KEY `idx_invoice_no` (`invoice_no`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='发票表';
 
+-- ----------------------------
+--  Table structure for `bms_invoice_segment`
+-- ----------------------------
+DROP TABLE IF EXISTS `bms_invoice_segment`;
+CREATE TABLE `bms_invoice_segment` (
+  `id` bigint(20) NOT NULL AUTO_INCREMENT,
+  `cashier_id` bigint(20) DEFAULT NULL COMMENT '租用的收费员id，空闲号段为空',
+  `start_no` bigint(20) DEFAULT NULL COMMENT '起始发票号（含）',
+  `end_no` bigint(20) DEFAULT NULL COMMENT '结束发票号（不含）',
+  `status` int(1) DEFAULT NULL COMMENT '1 使用中 2 已关闭 3 空闲（日结或服务启动时回收的剩余号段）',
+  `create_time` datetime DEFAULT NULL,
+  `update_time` datetime DEFAULT NULL,
+  PRIMARY KEY (`id`) USING BTREE,
+  KEY `idx_status_start_no` (`status`,`start_no`),
+  KEY `idx_cashier_id_status` (`cashier_id`,`status`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='发票号段（收费员按段租用发票号）';
+
 -- ----------------------------
 --  Table structure for `bms_operator_settle_record`
 -- ----------------------------
@@ -91,6 +151,78 @@ CREATE TABLE `bms_operator_settle_record` (
   PRIMARY KEY (`id`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='收费员日结表';
 
+-- ----------------------------
+--  Table structure for `bms_refundable_item`
+-- ----------------------------
+DROP TABLE IF EXISTS `bms_refundable_item`;
+CREATE TABLE `bms_refundable_item` (
+  `id` bigint(20) NOT NULL AUTO_INCREMENT,
+  `registration_id` bigint(20) DEFAULT NULL,
+  `invoice_no` bigint(20) DEFAULT NULL COMMENT '所在正常发票的发票号',
+  `item_id` bigint(20) DEFAULT NULL COMMENT '非药品项目记录id、草药/成药处方项id',
+  `prescription_id` bigint(20) DEFAULT NULL COMMENT '草药/成药处方id',
+  `type` int(1) DEFAULT NULL COMMENT '1检查 2检验 3处置 4草药 5成药',
+  `name` varchar(64) DEFAULT NULL,
+  `price` decimal(12,2) DEFAULT NULL COMMENT '药品单价',
+  `num` bigint(20) DEFAULT NULL COMMENT '现有数量',
+  `amount` decimal(12,2) DEFAULT NULL COMMENT '可退金额',
+  `status` int(1) DEFAULT NULL COMMENT '项目记录/处方项状态',
+  `refundable` int(1) DEFAULT NULL COMMENT '1 可退',
+  `create_time` datetime DEFAULT NULL COMMENT '开立时间',
+  `update_time` datetime DEFAULT NULL,
+  PRIMARY KEY (`id`) USING BTREE,
+  UNIQUE KEY `uk_registration_id_type_item_id` (`registration_id`,`type`,`item_id`),
+  KEY `idx_item_id_type` (`item_id`,`type`),
+  KEY `idx_prescription_id_type` (`prescription_id`,`type`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='可退费项目（按挂号，随收费、发药、退费更新）';
+
+-- ----------------------------
+--  Table structure for `bms_refundable_registration`
+-- ----------------------------
+DROP TABLE IF EXISTS `bms_refundable_registration`;
+CREATE TABLE `bms_refundable_registration` (
+  `registration_id` bigint(20) NOT NULL,
+  `create_time` datetime DEFAULT NULL,
+  PRIMARY KEY (`registration_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='已生成可退费项目的挂号（没有可退费项目的挂号也不再重新生成）';
+
+-- ----------------------------
+--  Table structure for `bms_settle_aggregate`
+-- ----------------------------
+DROP TABLE IF EXISTS `bms_settle_aggregate`;
+CREATE TABLE `bms_settle_aggregate` (
+  `id` bigint(20) NOT NULL AUTO_INCREMENT,
+  `cashier_id` bigint(20) DEFAULT NULL,
+  `period_start` datetime DEFAULT NULL COMMENT '统计起始时间（上次日结截止时间）',
+  `last_invoice_time` datetime DEFAULT NULL COMMENT '最近一张发票的时间',
+  `invoice_num` bigint(20) DEFAULT NULL,
+  `rush_invoice_num` bigint(20) DEFAULT NULL,
+  `reprint_invoice_num` bigint(20) DEFAULT NULL,
+  `closed_range_str` varchar(1000) DEFAULT NULL COMMENT '已断开的发票号段',
+  `run_start_no` bigint(20) DEFAULT NULL COMMENT '当前连续号段的起始发票号',
+  `last_invoice_no` bigint(20) DEFAULT NULL COMMENT '当前连续号段的最后发票号',
+  `rush_invoice_id_list_str` varchar(1000) DEFAULT NULL,
+  `reprint_invoice_id_list_str` varchar(1000) DEFAULT NULL,
+  `medicine_amount` decimal(12,2) DEFAULT NULL,
+  `herbal_amount` decimal(12,2) DEFAULT NULL,
+  `check_amount` decimal(12,2) DEFAULT NULL,
+  `disposition_amount` decimal(12,2) DEFAULT NULL,
+  `registration_amount` decimal(12,2) DEFAULT NULL,
+  `test_amount` decimal(12,2) DEFAULT NULL,
+  `amount` decimal(12,2) DEFAULT NULL,
+  `cash_amount` decimal(12,2) DEFAULT NULL,
+  `insurance_amount` decimal(12,2) DEFAULT NULL,
+  `bank_card_amount` decimal(12,2) DEFAULT NULL,
+  `alipay_amount` decimal(12,2) DEFAULT NULL,
+  `wechat_amount` decimal(12,2) DEFAULT NULL,
+  `credit_card_amount` decimal(12,2) DEFAULT NULL,
+  `other_amount` decimal(12,2) DEFAULT NULL,
+  `dirty` int(1) DEFAULT NULL COMMENT '1 需要从发票重算',
+  `update_time` datetime DEFAULT NULL,
+  PRIMARY KEY (`id`) USING BTREE,
+  UNIQUE KEY `uk_cashier_id` (`cashier_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='收费员未日结发票的累计统计（随发票写入增量维护）';
+
 -- ----------------------------
 --  Table structure for `bms_settlement_cat`
 -- ----------------------------
@@ -229,6 +361,7 @@ CREATE TABLE `dms_drug` (
   `stock` bigint(20) DEFAULT NULL,
   `generic_name` varchar(64) DEFAULT NULL,
   `status` int(1) DEFAULT NULL,
+  `reserved` bigint(20) NOT NULL DEFAULT '0' COMMENT '已开立未发药（预留）的数量，可用库存为stock-reserved',
   PRIMARY KEY (`id`) USING BTREE
 ) ENGINE=InnoDB AUTO_INCREMENT=2967 DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='药品项目表（包括了重要、中成药、草药）';
 
@@ -287,7 +420,8 @@ CREATE TABLE `dms_herbal_item_record` (
   `usage_num_unit` int(2) DEFAULT NULL,
   `total_num` bigint(20) DEFAULT NULL,
   `current_num` bigint(20) DEFAULT NULL,
-  PRIMARY KEY (`id`) USING BTREE
+  PRIMARY KEY (`id`) USING BTREE,
+  KEY `idx_prescription_id` (`prescription_id`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='草药项记录表';
 
 -- ----------------------------
@@ -324,7 +458,10 @@ CREATE TABLE `dms_herbal_prescription_record` (
   `usage_means` int(2) DEFAULT NULL,
   `type` int(1) DEFAULT NULL,
   `create_staff_id` bigint(20) DEFAULT NULL,
-  PRIMARY KEY (`id`) USING BTREE
+  `update_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '最后修改时间（缴费、发药等），药房增量刷新用',
+  PRIMARY KEY (`id`) USING BTREE,
+  KEY `idx_create_time` (`create_time`) USING BTREE,
+  KEY `idx_update_time` (`update_time`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='草处方表';
 
 -- ----------------------------
@@ -346,7 +483,8 @@ CREATE TABLE `dms_medicine_item_record` (
   `usage_means` int(2) DEFAULT NULL,
   `usage_num_unit` int(2) DEFAULT NULL,
   `current_num` bigint(20) DEFAULT NULL,
-  PRIMARY KEY (`id`) USING BTREE
+  PRIMARY KEY (`id`) USING BTREE,
+  KEY `idx_prescription_id` (`prescription_id`) USING BTREE
 ) ENGINE=InnoDB AUTO_INCREMENT=3 DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='成药项记录表';
 
 -- ----------------------------
@@ -383,7 +521,10 @@ CREATE TABLE `dms_medicine_prescription_record` (
   `refund_status` bigint(20) DEFAULT NULL,
   `type` int(1) DEFAULT NULL,
   `create_staff_id` bigint(20) DEFAULT NULL,
-  PRIMARY KEY (`id`) USING BTREE
+  `update_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '最后修改时间（缴费、发药等），药房增量刷新用',
+  PRIMARY KEY (`id`) USING BTREE,
+  KEY `idx_create_time` (`create_time`) USING BTREE,
+  KEY `idx_update_time` (`update_time`) USING BTREE
 ) ENGINE=InnoDB AUTO_INCREMENT=2 DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='成药处方表';
 
 -- ----------------------------
@@ -452,6 +593,39 @@ CREATE TABLE `dms_non_drug_model` (
   PRIMARY KEY (`id`) USING BTREE
 ) ENGINE=InnoDB AUTO_INCREMENT=7 DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='非药品模版表';
 
+-- ----------------------------
+--  Table structure for `dms_prescription_expiry`
+-- ----------------------------
+DROP TABLE IF EXISTS `dms_prescription_expiry`;
+CREATE TABLE `dms_prescription_expiry` (
+  `id` bigint(20) NOT NULL AUTO_INCREMENT,
+  `item_id` bigint(20) NOT NULL,
+  `type` int(1) NOT NULL,
+  `expire_time` datetime NOT NULL,
+  PRIMARY KEY (`id`) USING BTREE,
+  UNIQUE KEY `uk_item_id_type` (`item_id`,`type`) USING BTREE,
+  KEY `idx_expire_time` (`expire_time`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='处方（项目）超时未缴费作废任务表（type：1检查\检验\处置 4草药 5成药），缴费或作废处理后删除';
+
+-- ----------------------------
+--  Table structure for `dms_drug_stock_txn`
+-- ----------------------------
+DROP TABLE IF EXISTS `dms_drug_stock_txn`;
+CREATE TABLE `dms_drug_stock_txn` (
+  `id` bigint(20) NOT NULL AUTO_INCREMENT,
+  `drug_id` bigint(20) NOT NULL,
+  `stock_delta` bigint(20) NOT NULL COMMENT 'dms_drug.stock的变化量',
+  `reserved_delta` bigint(20) NOT NULL COMMENT 'dms_drug.reserved的变化量',
+  `type` int(1) NOT NULL COMMENT '1开立预留 2作废/过期释放 3发药 4退药',
+  `item_type` int(1) NOT NULL COMMENT '4草药 5成药',
+  `prescription_id` bigint(20) NOT NULL,
+  `item_id` bigint(20) DEFAULT NULL COMMENT '处方项id，开立预留时为空',
+  `create_time` datetime NOT NULL,
+  PRIMARY KEY (`id`) USING BTREE,
+  KEY `idx_drug_id` (`drug_id`) USING BTREE,
+  KEY `idx_prescription_id` (`prescription_id`,`item_type`,`type`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='药品库存流水（只追加），与dms_drug的增量更新在同一事务中写入';
+
 -- ----------------------------
 --  Table structure for `dms_registration`
 -- ----------------------------
@@ -468,7 +642,9 @@ CREATE TABLE `dms_registration` (
   `dept_id` bigint(20) DEFAULT NULL,
   `attendance_date` datetime DEFAULT NULL,
   `patient_age_str` varchar(64) DEFAULT NULL,
-  PRIMARY KEY (`id`) USING BTREE
+  PRIMARY KEY (`id`) USING BTREE,
+  KEY `idx_attendance_date_create_time` (`attendance_date`,`create_time`,`id`) USING BTREE,
+  KEY `idx_patient_id_create_time` (`patient_id`,`create_time`,`id`) USING BTREE
 ) ENGINE=InnoDB AUTO_INCREMENT=2 DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='就诊(门诊)信息表（一个病人一个病历号，多次就诊，多次就诊信息），也可以看作医院的挂号表\n挂了号相当于开了一';
 
 -- ----------------------------
@@ -484,7 +660,9 @@ CREATE TABLE `pms_patient` (
   `phone_no` varchar(64) DEFAULT NULL,
   `gender` int(1) DEFAULT NULL,
   `medical_record_no` varchar(64) DEFAULT NULL,
-  PRIMARY KEY (`id`) USING BTREE
+  PRIMARY KEY (`id`) USING BTREE,
+  UNIQUE KEY `uk_identification_no` (`identification_no`) USING BTREE,
+  KEY `idx_medical_record_no` (`medical_record_no`) USING BTREE
 ) ENGINE=InnoDB AUTO_INCREMENT=19 DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='病人基本信息表';
 
 -- ----------------------------
@@ -1001,38 +1179,38 @@ INSERT INTO `dms_dise_catalog` VALUES ('201','裂伤','1'), ('202','淋巴管疾
 INSERT INTO `dms_dise_catalog` VALUES ('301','软骨瘤','1'), ('302','腮腺炎','1'), ('303','三尖瓣疾病','1'), ('304','晒伤','1'), ('305','疝病','1'), ('306','伤寒','1'), ('307','上肢疾病','1'), ('308','上肢其它疾病','1'), ('309','烧伤','1'), ('310','舌炎','1'), ('311','蛇咬伤','1'), ('312','身材矮小','1'), ('313','神经系统疾病','1'), ('314','肾病','1'), ('315','肾炎','1'), ('316','声带疾病','1'), ('317','失语','1'), ('318','虱病','1'), ('319','湿疣','1'), ('320','湿疹','1'), ('321','十二指肠疾病','1'), ('322','食道疾病','1'), ('323','食管疾病','1'), ('324','食物中毒','1'), ('325','视力疾病','1'), ('326','视网膜疾病','1'), ('327','视网膜炎','1'), ('328','手部疾病','1'), ('329','手部其它疾病','1'), ('330','手术','1'), ('331','输精管疾病','1'), ('332','输卵管疾病','1'), ('333','输尿管疾病','1'), ('334','输尿管炎','1'), ('335','鼠疫','1'), ('336','水痘','1'), ('337','水肿','1'), ('338','睡眠疾病','1'), ('339','四肢其它疾病','1'), ('340','粟疹','1'), ('341','酸尿证','1'), ('342','酸血症','1'), ('343','损伤','1'), ('344','锁骨疾病','1'), ('345','瘫痪','1'), ('346','炭疽','1'), ('347','唐氏综合征','1'), ('348','糖尿病','1'), ('349','天花','1'), ('350','听道疾病','1'), ('351','听骨疾病','1'), ('352','听觉丧失','1'), ('353','听力疾病','1'), ('354','瞳孔疾病','1'), ('355','痛风','1'), ('356','痛经','1'), ('357','头部疾病','1'), ('358','头痛','1'), ('359','土拉菌病','1'), ('360','腿部疾病','1'), ('361','吞咽困难','1'), ('362','脱出','1'), ('363','脱发','1'), ('364','脱髓鞘','1'), ('365','脱位','1'), ('366','外翻','1'), ('367','外阴疾病','1'), ('368','外阴炎','1'), ('369','维生素疾病','1'), ('370','胃部疾病','1'), ('371','胃炎','1'), ('372','吸虫病','1'), ('373','吸收障碍','1'), ('374','息肉','1'), ('375','膝部疾病','1'), ('376','细胞疾病','1'), ('377','细胞瘤','1'), ('378','细胞再生障碍','1'), ('379','细胞增多症','1'), ('380','细菌性疾病','1'), ('381','下疳','1'), ('382','下肢其它疾病','1'), ('383','先天性疾病','1'), ('384','纤维瘤','1'), ('385','腺体疾病','1'), ('386','腺样体疾病','1'), ('387','消化道疾病','1'), ('388','消化疾病','1'), ('389','小肠疾病','1'), ('390','哮喘','1'), ('391','斜视','1'), ('392','心瓣疾病','1'), ('393','心包疾病','1'), ('394','心包炎','1'), ('395','心动过缓','1'), ('396','心动过速','1'), ('397','心肌病','1'), ('398','心绞痛','1'), ('399','心境障碍','1'), ('400','心律疾病','1');
 INSERT INTO `dms_dise_catalog` VALUES ('401','心内膜炎','1'), ('402','心血管病','1'), ('403','心脏病','1'), ('404','心脏疾病','1'), ('405','新生儿疾病','1'), ('406','胸骨疾病','1'), ('407','胸膜疾病','1'), ('408','胸膜炎','1'), ('409','胸腺疾病','1'), ('410','休克','1'), ('411','徐动症','1'), ('412','眩晕','1'), ('413','血管疾病','1'), ('414','血管瘤','1'), ('415','血管炎','1'), ('416','血红蛋白病','1'), ('417','血红蛋白尿','1'), ('418','血尿','1'), ('419','血栓','1'), ('420','血小板疾病','1'), ('421','血友病','1'), ('422','血肿','1'), ('423','荨麻疹','1'), ('424','循环系统疾病','1'), ('425','牙齿疾病','1'), ('426','芽生菌病','1'), ('427','雅司病','1'), ('428','咽峡炎','1'), ('429','咽炎','1'), ('430','眼部疾病','1'), ('431','咬伤','1'), ('432','药物反应','1'), ('433','药物引起的疾病','1'), ('434','依恋障碍','1'), ('435','胰部疾病','1'), ('436','胰岛素疾病','1'), ('437','胰腺炎','1'), ('438','移植','1'), ('439','遗传疾病','1'), ('440','遗尿','1'), ('441','遗尿症','1'), ('442','抑郁','1'), ('443','疫苗引起的疾病','1'), ('444','癔病','1'), ('445','阴囊疾病','1'), ('446','引产','1'), ('447','引流','1'), ('448','营养不良','1'), ('449','营养过度','1'), ('450','蝇蛆病','1'), ('451','痈病','1'), ('452','幽门疾病','1'), ('453','疣病','1'), ('454','幼儿急疹','1'), ('455','原虫性疾病','1'), ('456','晕动病','1'), ('457','晕厥','1'), ('458','孕产妇医疗','1'), ('459','早熟','1'), ('460','造影术','1'), ('461','粘膜斑','1'), ('462','粘液囊炎','1'), ('463','照相术','1'), ('464','真菌性疾病','1'), ('465','支气管炎','1'), ('466','肢体疾病','1'), ('467','脂肪瘤','1'), ('468','直肠疾病','1'), ('469','指','1'), ('470','痣','1'), ('471','中毒','1'), ('472','中医疾病','1'), ('473','肿瘤','1'), ('474','肿胀','1'), ('475','蛛网膜疾病','1'), ('476','蛛网膜炎','1'), ('477','主动脉疾病','1'), ('478','注射','1'), ('479','椎管疾病','1'), ('480','椎管狭窄','1'), ('481','紫癜','1'), ('482','自杀','1');
 INSERT INTO `dms_dosage` VALUES ('110','ZJ','针剂','1'), ('111','PJ','片剂','1'), ('112','ZYYP','中药饮片','1'), ('113','SJ','散剂','1'), ('114','JN','胶囊','1'), ('115','KLJ','颗粒剂','1'), ('116','FJ','粉剂','1'), ('117','BMP','簿膜片','1'), ('118','RJ','乳剂','1'), ('119','YJ','液剂','1'), ('120','NJ','凝胶','1'), ('121','RGJ','软膏剂','1'), ('122','QWJ','气雾剂','1'), ('123','FSP','分散片','1'), ('124','YPQX','药品器械','1'), ('125','SJ','栓剂','1'), ('126','NFSJ','内服水剂','1'), ('127','PJ','喷剂','1'), ('128','JJ','胶剂','1'), ('129','TJ','酊剂','1'), ('130','DJ','滴剂','1'), ('131','HSP','缓释片','1'), ('132','YGZJ','眼膏制剂','1'), ('133','CRP','肠溶片','1'), ('134','SJ','霜剂','1'), ('135','DEJ','滴耳剂','1'), ('136','HXJ','混悬剂','1'), ('137','HSJN','缓释胶囊','1'), ('138','NJJN','凝胶胶囊','1'), ('139','CJ','擦剂','1'), ('140','HP','含片','1'), ('141','GHJ','干混剂','1'), ('142','XJ','洗剂','1'), ('143','BPJ','鼻喷剂','1'), ('144','MJ','膜剂','1'), ('145','TG','贴膏','1'), ('146','TJ','贴剂','1'), ('147','HJ','合剂','1'), ('148','SJ','湿巾','1'), ('149','KPJ','口喷剂','1'), ('150','DSY','大输液','1'), ('151','YPCL','药品材料','1'), ('152','KSP','控释片','1'), ('153','DBJ','滴鼻剂','1'), ('154','DW','滴丸','1'), ('155','GTJJ','干糖浆剂','1'), ('156','WHXRJ','雾化吸入剂','1'), ('157','YLY','原料药','1'), ('158','TJJ','糖浆剂','1'), ('159','RJN','软胶囊','1'), ('160','DYJ','滴眼剂','1'), ('161','DGFZ','冻干粉针','1'), ('162','CJ','冲剂','1'), ('163','WJ','丸剂','1'), ('164','KFYL','口服液类','1');
-INSERT INTO `dms_drug` VALUES ('1','86979474000208','注射用甲氨喋呤','1g×1支','15.73','支','江苏恒瑞医药股份有限公司','110','101','ZSYJAZZ','2019-03-01 00:00:00','10','','1'), ('2','86979474000209','氟康唑氯化钠注射液','200mg×100ml/瓶','7.01','瓶','辉瑞制药有限公司','110','101','FKZLHNZSY(DFK)','2019-03-01 00:00:00','10','大扶康','1'), ('3','86979474000208','50%葡萄糖注射液','10:20ml×1支','25.16','支','中国大冢制药有限公司','110','101','PTTZSY(SP)','2019-03-01 00:00:00','10','塑瓶','1'), ('4','86979474000209','盐酸特比萘芬阴道泡腾片','50mg×7片/盒','40.62','盒','齐鲁制药有限公司','111','101','YSTBZFYDPTP（DK）','2019-03-01 00:00:00','10','丁克','1'), ('5','86979474000208','红芪','10g/袋','30.79','袋','南京药业股份有限公司药材分公司','112','103','HZ','2019-03-01 00:00:00','10','','1'), ('6','86979474000208','盐酸氨酮戊酸散（外用）','118mg×1瓶','19.51','瓶','上海复旦张江生物医药股份有限公司','113','101','YSATWSS（WY）','2019-03-01 00:00:00','10','','1'), ('7','86979474000209','盐酸美金刚片','10mg×28片/盒','22.05','盒','丹麦灵北药厂','111','101','YSMJGP(YBS)','2019-03-01 00:00:00','10','易贝申','1'), ('8','86979474000208','磷酸奥司他韦胶囊','75mg×10粒/盒','60.96','盒','上海罗氏制药有限公司S','114','101','LSASTWJN(DF)','2019-03-01 00:00:00','10','达菲','1'), ('9','86979474000209','泽泻颗粒','1g/10g/袋','0.09','袋','江阴天江药业有限公司','115','102','ZXKL','2019-03-01 00:00:00','10','','1'), ('10','86979474000208','山药颗粒','0.5g/10g/袋','6.79','袋','','115','102','SYKL','2019-03-01 00:00:00','10','','1'), ('11','86979474000208','熟大黄颗粒','1g/6g/袋','23.51','袋','江阴天江药业有限公司','115','102','SDHKL','2019-03-01 00:00:00','10','','1'), ('12','86979474000209','黄连颗粒','0.5g/3g袋','1.07','袋','江阴天江药业有限公司','115','102','HLKL','2019-03-01 00:00:00','10','','1'), ('13','86979474000208','黄芩颗粒(酒)','2g/10g/袋','81.74','袋','江阴天江药业有限公司','115','102','HZKL(J)','2019-03-01 00:00:00','10','','1'), ('14','86979474000209','炒白芍颗粒','1g/10g/袋','31.86','袋','江阴天江药业有限公司','115','102','CBSKL','2019-03-01 00:00:00','10','','1'), ('15','86979474000208','炒白术颗粒','3g/10g/袋','41.50','袋','','115','102','CBSKL','2019-03-01 00:00:00','10','','1'), ('16','86979474000208','白芷颗粒','1g/6g/袋','67.72','袋','江阴天江药业有限公司','115','102','BZKL','2019-03-01 00:00:00','10','','1'), ('17','86979474000209','薤白颗粒','2.5g/10g袋','17.95','袋','江阴天江药业有限公司','115','102','ZBKL','2019-03-01 00:00:00','10','','1'), ('18','86979474000208','川芎颗粒','2g/6g/袋','0.70','袋','','115','102','CZKL','2019-03-01 00:00:00','10','','1'), ('19','86979474000209','维生素K1注射液','1ml:10mg×10支/盒','10.39','盒','芜湖康奇制药','110','101','WSSK1ZSY','2019-03-01 00:00:00','10','','1'), ('20','86979474000208','利培酮片','1mg×20片/盒','5.52','盒','西安杨森制药有限公司','111','101','LPTP（WST）','2019-03-01 00:00:00','10','维思通','1'), ('21','86979474000208','0.9%氯化钠注射液(塑瓶)','2.25g:250ml×1瓶','14.34','瓶','中国大冢制药有限公司','110','101','0.9%LHNZSY(SP)','2019-03-01 00:00:00','10','','1'), ('22','86979474000209','0.9%氯化钠注射液（百特）','500ml×1袋','46.91','瓶','上海百特医疗用品有限公司','110','101','0.9%LHNZSY（BT）','2019-03-01 00:00:00','10','','1'), ('23','86979474000208','0.9%氯化钠注射液(塑瓶)','0.9g:100ml×1瓶','6.34','瓶','中国大冢制药有限公司','110','101','0.9%LHNZSY(SP)','2019-03-01 00:00:00','10','','1'), ('24','86979474000209','10%葡萄糖注射液(塑瓶)','50g:500ml×1瓶','5.04','瓶','中国大冢制药有限公司','110','101','10%PTTZSY(SP)','2019-03-01 00:00:00','10','','1'), ('25','86979474000208','10%葡萄糖注射液(塑瓶)','25g:250ml×1瓶','16.02','袋','中国大冢制药有限公司','110','101','10%PTTZSY(SP)','2019-03-01 00:00:00','10','','1'), ('26','86979474000208','5%葡萄糖注射液(塑瓶)','25g:500ml×1瓶','47.78','瓶','中国大冢制药有限公司','110','101','5%PTTZSY(SP)','2019-03-01 00:00:00','10','','1'), ('27','86979474000209','5%葡萄糖注射液(塑瓶)','12.5g:250ml×1瓶','45.62','瓶','中国大冢制药有限公司','110','101','5%PTTZSY(SP)','2019-03-01 00:00:00','10','','1'), ('28','86979474000208','5%葡萄糖注射液(塑瓶)','5g:100ml×1瓶','17.53','瓶','中国大冢制药有限公司','110','101','5%PTTZSY(SP)','2019-03-01 00:00:00','10','','1'), ('29','86979474000209','胃苏颗粒','5g*9袋/盒','1.73','盒','扬子江药业集团有限公司','115','102','WSKL','2019-03-01 00:00:00','10','','1'), ('30','86979474000208','复方甘露醇注射液','250ml×1袋','15.56','袋','南京正大天晴制药有限公司','110','101','FFGLCZSY(SN)','2019-03-01 00:00:00','10','伸宁','1'), ('31','86979474000208','艾塞那肽注射液(百泌达)','5ug:1.2ml×1支','23.71','支','礼来（美国）公司S','110','101','ASNZZSY(BMD)','2019-03-01 00:00:00','10','','1'), ('32','86979474000209','艾塞那肽注射液(百泌达)','10ug:2.4ml×1支','91.92','支','礼来（美国）公司','110','101','ASNZZSY(BMD)','2019-03-01 00:00:00','10','','1'), ('33','86979474000208','丹参颗粒','2g/10g/袋','11.61','袋','江阴天江药业有限公司','115','102','DCKL','2019-03-01 00:00:00','10','','1'), ('34','86979474000209','亮菌甲素注射液','10ml:5mg×1支','62.41','支','云南大理药业股份有限公司','110','101','LJJSZSY','2019-03-01 00:00:00','10','','1'), ('35','86979474000208','瞿麦','1000mg/g','43.84','克','江苏','112','103','ZM','2019-03-01 00:00:00','10','','1'), ('36','86979474000208','肠内营养粉剂','1000mg/g','3.12','克','雅培荷兰','116','101','CNYYFJ(AS)','2019-03-01 00:00:00','10','安素','1'), ('37','86979474000209','桉叶油','1000g/瓶','3.40','瓶','吉水同仁','157','101','ZYY','2019-03-01 00:00:00','10','','1'), ('38','86979474000208','肉苁蓉','1000mg/g','51.82','克','内蒙','112','103','RZR','2019-03-01 00:00:00','10','','1'), ('39','86979474000209','番木鳖酊','1000mg/g','16.84','克','','157','101','FMBJ','2019-03-01 00:00:00','10','','1'), ('40','86979474000208','枸橼酸芬太尼注射液','0.1mg×1支','19.42','支','湖北宜昌人福药业','110','101','ZZSFTNZSY','2019-03-01 00:00:00','10','','1'), ('41','86979474000208','枸橼酸芬太尼注射液','0.5mg×1支','2.66','支','宜昌人福药业有限责任公司','110','101','ZZSFTNZSY','2019-03-01 00:00:00','10','','1'), ('42','86979474000209','酚红(AR)','25g×1瓶','13.43','瓶','江西济民可信药业有限公司','157','101','FH(AR)','2019-03-01 00:00:00','10','','1'), ('43','86979474000208','酚红IND','25g×1瓶','4.07','瓶','','157','101','FHIND','2019-03-01 00:00:00','10','','1'), ('44','86979474000209','酚酞','25g×1瓶','10.42','瓶','','157','101','FT','2019-03-01 00:00:00','10','','1'), ('45','86979474000208','蜂蜡','500g×1瓶','3.47','瓶','华申康复','157','101','FL','2019-03-01 00:00:00','10','','1'), ('46','86979474000208','呋喃西林','25g×1袋','37.75','袋','','157','101','ZZXL','2019-03-01 00:00:00','10','','1'), ('47','86979474000209','氯雷他定糖浆','60ml：60mg×1瓶','72.62','瓶','上海先灵葆雅制药有限公司','158','101','LLTDTJ(KRT)','2019-03-01 00:00:00','10','开瑞坦','1'), ('48','86979474000208','丙泊酚注射液','50ml：0.5g×1瓶','2.23','瓶','阿斯利康制药有限公司','110','101','BBFZSY(DPLM)','2019-03-01 00:00:00','10','得普利麻','1'), ('49','86979474000209','BG维生素E软胶囊','0.1g×30粒/盒','11.03','盒','浙江医药新昌制药厂','159','101','BGWSSERJN','2019-03-01 00:00:00','10','','1'), ('50','86979474000208','贝前列素钠片','20ug×10片/盒','30.09','盒','北京泰德制药股份有限公司','111','101','BQLSNP','2019-03-01 00:00:00','10','','1'), ('51','86979474000208','盐酸伊立替康注射液','5ml:100mg×1瓶','7.42','瓶','辉瑞制药','110','101','YSYLTKZSY(KPT）','2019-03-01 00:00:00','10','开普拓','1'), ('52','86979474000209','磺胺(AR)','100g×1瓶','1.72','瓶','','157','101','HA(AR)','2019-03-01 00:00:00','10','','1'), ('53','86979474000208','白附子','1000mg/g','31.83','克','','112','103','BFZ','2019-03-01 00:00:00','10','','1'), ('54','86979474000209','白癫风胶囊','1000mg/g','3.41','克','天津宏仁堂药业有限公司','114','101','BZFJN','2019-03-01 00:00:00','10','','1'), ('55','86979474000208','奋乃静片','2mg×100片/瓶','0.54','瓶','上海朝晖药业有限公司','111','101','FNJP','2019-03-01 00:00:00','10','','1'), ('56','86979474000208','注射用头孢他啶','1g×1支','8.05','支','葛兰素史克制药(苏州)有限公司','110','101','ZSYTZTZ(FDX)','2019-03-01 00:00:00','10','复达欣','1'), ('57','86979474000209','复方氨基酸(绿支安)18AA注射液','10.3%200ml×1瓶','49.18','瓶','广州绿十字制药有限公司','110','101','FFAJS(LZA)18AAZSY','2019-03-01 00:00:00','10','','1'), ('58','86979474000208','吡诺克辛滴眼液','5ml×1支','51.24','支','日本参天制药株式会社','160','101','ZNKXDYY(KL-U)','2019-03-01 00:00:00','10','卡林-U','1'), ('59','86979474000209','卡巴胆碱注射液','0.1mg×1支','5.23','支','山东正大福瑞达制药有限公司','160','101','KBDJZSY（KMKL）','2019-03-01 00:00:00','10','卡米可林','1'), ('60','86979474000208','重组人粒细胞(特尔立)巨噬细胞集落冻干粉针','150ug×1瓶','32.97','瓶','夏门特宝生物工程股份有限公司','161','101','ZZRLXB(TEL)JSXBJLDGFZ','2019-03-01 00:00:00','10','','1'), ('61','86979474000208','哌拉西林他唑巴坦钠','4.5g×1支','50.50','支','惠氏制药有限公司','110','101','ZLXLTZBTN(TZX)','2019-03-01 00:00:00','10','特治星','1'), ('62','86979474000209','地黄颗粒','3g/10g/袋','5.48','袋','江阴天江药业有限公司','115','102','DHKL','2019-03-01 00:00:00','10','','1'), ('63','86979474000208','当归颗粒','4g/10g/袋','68.19','袋','江阴天江药业有限公司','115','102','DGKL','2019-03-01 00:00:00','10','','1'), ('64','86979474000209','维生素B1注射液','2ml:100mg×10支/盒','12.70','盒','杭州民生药业有限公司','110','101','WSSB1ZSY','2019-03-01 00:00:00','10','','1'), ('65','86979474000208','芒硝颗粒','10g/4g/袋','13.00','袋','江阴天江药业有限公司','115','102','MXKL','2019-03-01 00:00:00','10','','1'), ('66','86979474000208','生大黄颗粒','1g:3g/袋','30.87','袋','江阴天江药业有限公司','115','102','SDHKL','2019-03-01 00:00:00','10','','1'), ('67','86979474000209','虎杖颗粒','1g/15g/袋','23.76','袋','江阴天江药业有限公司','115','102','HZKL','2019-03-01 00:00:00','10','','1'), ('68','86979474000208','鱼腥草颗粒','1g/15g/袋','14.89','袋','江阴天江药业有限公司','115','102','YXCKL','2019-03-01 00:00:00','10','','1'), ('69','86979474000209','苦参颗粒','1g/10g/袋','1.39','袋','江阴天江药业有限公司','115','102','KCKL','2019-03-01 00:00:00','10','','1'), ('70','86979474000208','硫酸镁注射液','10ml:2.5g×5支/盒','42.29','盒','杭州民生药业有限公司','110','101','LSMZSY','2019-03-01 00:00:00','10','','1'), ('71','86979474000208','胡黄连','1000mg/g','37.20','克','进口','112','103','HHL','2019-03-01 00:00:00','10','','1'), ('72','86979474000209','虎杖','1000mg/g','16.01','克','江苏','112','103','HZ','2019-03-01 00:00:00','10','','1'), ('73','86979474000208','聚桂醇注射液','10ml:100mg×1支/盒','12.87','盒','陕西天宇制药有限公司S','110','101','JGCZSY','2019-03-01 00:00:00','10','','1'), ('74','86979474000209','康肤冲剂(I)','20g×10袋/盒','33.74','盒','南京市中西医结合医院','162','102','KFCJ(I)','2019-03-01 00:00:00','10','','1'), ('75','86979474000208','注射用头孢哌酮舒巴坦','1.5g×1瓶','2.07','瓶','辉瑞制药有限公司（大连）','110','101','ZSYTZZTSBT(SPS)','2019-03-01 00:00:00','10','舒普深','1'), ('76','86979474000208','清热通淋片','0.39g*48片/盒','19.18','盒','江西杏林白马药业有限公司','111','101','QRTLP','2019-03-01 00:00:00','10','','1'), ('77','86979474000209','康莱特注射液','10g×100ml/瓶','11.36','瓶','浙江康莱特药业有限公司','110','101','KLTZSY','2019-03-01 00:00:00','10','','1'), ('78','86979474000208','山茨菇','1000mg/g','70.02','克',' 贵州','112','103','SCG','2019-03-01 00:00:00','10','','1'), ('79','86979474000209','马来酸桂哌齐特注射液','80mg×1支','67.66','支','北京四环制药有限公司','110','101','MLSGZQTZSY(KLA)','2019-03-01 00:00:00','10','克林澳','1'), ('80','86979474000208','氯化镁','500g×1瓶','6.25','瓶','北京','157','101','LHM','2019-03-01 00:00:00','10','','1'), ('81','86979474000208','呋塞米注射液','2ml:20mg×10支/盒','5.63','盒','上海禾丰制药有限公司','110','101','ZSMZSY(SN)','2019-03-01 00:00:00','10','速尿','1'), ('82','86979474000209','注射用奈达铂','10mg×1支','9.04','支','江苏奥赛康药业股份有限公司','110','101','ZSYNDB（AXD）','2019-03-01 00:00:00','10','奥先达','1'), ('83','86979474000208','注射用夫西地酸钠','0.125g×1支','44.97','支','G成都天台山制药有限公司','110','101','ZSYFXDSN','2019-03-01 00:00:00','10','','1'), ('84','86979474000209','阳起石','1000mg/g','25.38','克','','112','103','YQS','2019-03-01 00:00:00','10','','1'), ('85','86979474000208','铜绿假单胞菌注射液','1ml×1支','37.76','支','北京万特尔生物制药有限公司','110','101','TLJDBJZSY','2019-03-01 00:00:00','10','','1'), ('86','86979474000208','盐酸氟西汀胶囊','20mg×7粒/盒','15.61','盒','礼来苏州制药有限公司','111','101','YSFXTJN(BYJ)','2019-03-01 00:00:00','10','百忧解','1'), ('87','86979474000209','10%氯化钠注射液','10ml:1g×5支/盒','4.50','盒','湖北天圣康迪制药有限公司','110','101','10%LHNZSY','2019-03-01 00:00:00','10','','1'), ('88','86979474000208','注射用替考拉宁','200mg×1瓶','14.21','瓶','赛诺菲(北京)制药有限公司','110','101','ZSYTKLN(TGS)','2019-03-01 00:00:00','10','他格适','1'), ('89','86979474000209','石决明','1000mg/g','10.74','克',' 进口','112','103','SJM','2019-03-01 00:00:00','10','','1'), ('90','86979474000208','石榴皮','1000mg/g','9.49','克','','112','103','SLP','2019-03-01 00:00:00','10','','1'), ('91','86979474000208','熟地','1000mg/g','55.10','克','江苏','112','103','SD','2019-03-01 00:00:00','10','','1'), ('92','86979474000209','水牛角片','1000mg/g','5.68','克','江苏','112','103','SNJP','2019-03-01 00:00:00','10','','1'), ('93','86979474000208','水蜈蚣','1000mg/g','2.20','克','','112','103','SZZ','2019-03-01 00:00:00','10','','1'), ('94','86979474000209','水蛭','1000mg/g','71.56','克','江苏','112','103','SZ','2019-03-01 00:00:00','10','','1'), ('95','86979474000208','苏梗','1000mg/g','17.14','克','江苏','112','103','SG','2019-03-01 00:00:00','10','','1'), ('96','86979474000208','苏木','1000mg/g','34.06','克','','112','103','SM','2019-03-01 00:00:00','10','','1'), ('97','86979474000209','太子参','1000mg/g','28.50','克',' 江苏','112','103','TZC','2019-03-01 00:00:00','10','','1'), ('98','86979474000208','檀香','1000mg/g','1.48','克','20101116','112','103','TX','2019-03-01 00:00:00','10','','1'), ('99','86979474000209','桃仁','1000mg/g','41.29','克','陕西','112','103','TR','2019-03-01 00:00:00','10','','1'), ('100','86979474000208','天冬','1000mg/g','38.04','克','湖北','112','103','TD','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('101','86979474000208','天花粉','1000mg/g','18.39','克',' 江苏','112','103','THF','2019-03-01 00:00:00','10','','1'), ('102','86979474000209','天龙','1000mg/g','5.55','克','','112','103','TL','2019-03-01 00:00:00','10','','1'), ('103','86979474000208','天麻','1000mg/g','74.30','克','','112','103','TM','2019-03-01 00:00:00','10','','1'), ('104','86979474000209','天竹黄','1000mg/g','47.82','克','上海','112','103','TZH','2019-03-01 00:00:00','10','','1'), ('105','86979474000208','复方α-酮酸片','0.63g×100片/瓶','69.13','瓶','北京万生药业有限责任公司','111','101','FFα-TSP','2019-03-01 00:00:00','10','','1'), ('106','86979474000208','小牛脾提取物注射液','2ml：5mg×1支','3.88','支','吉林敖东洮南药业股份有限公司S','110','101','XNPTQWZSY','2019-03-01 00:00:00','10','','1'), ('107','86979474000209','血液保存液I','500ml×1袋','1.99','袋','四川南格尔生物医学股份有限公司','110','101','XYBCYI','2019-03-01 00:00:00','10','','1'), ('108','86979474000208','注射用吉西他滨(泽菲)','0.2g×1支','17.15','支','江苏豪森药业股份有限公司','110','101','ZSYJXTB(ZF)','2019-03-01 00:00:00','10','','1'), ('109','86979474000209','注射用吉西他滨(泽菲）','1g×1支','9.59','支','江苏豪森药业股份有限公司','110','101','ZSYJXTB(ZF）','2019-03-01 00:00:00','10','','1'), ('110','86979474000208','泽桂癃爽胶囊','0.44g*24粒/盒','26.15','盒','正大天晴药业集团股份有限公司','163','102','ZGZSJN','2019-03-01 00:00:00','10','','1'), ('111','86979474000208','白丑','1000mg/g','4.99','克','','112','103','BC','2019-03-01 00:00:00','10','','1'), ('112','86979474000209','白附片','1000mg/g','57.28','克','','112','103','BFP','2019-03-01 00:00:00','10','','1'), ('113','86979474000208','白花蛇舌草','1000mg/g','1.13','克','福建','112','103','BHSSC','2019-03-01 00:00:00','10','','1'), ('114','86979474000209','白芨','1000mg/g','62.86','克','山东','112','103','BZ','2019-03-01 00:00:00','10','','1'), ('115','86979474000208','白蒺藜','1000mg/g','25.89','克','','112','103','BZZ','2019-03-01 00:00:00','10','','1'), ('116','86979474000208','党参颗粒','3g/10g/袋','10.07','袋','江阴天江药业有限公司','115','102','DCKL','2019-03-01 00:00:00','10','','1'), ('117','86979474000209','蓝芩口服液','10ml×12支/盒','10.02','盒','扬子江药业集团有限公司','164','102','LZKFY','2019-03-01 00:00:00','10','','1'), ('118','86979474000208','麦考酚钠肠溶片(米芙)','180mg×50片/盒','3.57','盒','诺华制药（瑞士）','111','101','MKFNCRP(MZ)','2019-03-01 00:00:00','10','','1'), ('119','86979474000209','墓头茴','1000mg/g','20.81','克','南京药业股份有限公司','112','103','MTZ','2019-03-01 00:00:00','10','','1'), ('120','86979474000208','B-甘油磷酸钠','250g/瓶','23.71','瓶','','157','101','B-GYLSN','2019-03-01 00:00:00','10','','1'), ('121','86979474000208','注射用亮丙瑞林(抑那通)','3.75mg×1支','14.01','支','天津武田药品有限公司','110','101','ZSYLBRL(YNT)','2019-03-01 00:00:00','10','','1'), ('122','86979474000209','多糖铁复合物胶囊(力蜚能)','150mg×10粒/盒','79.18','盒','美国克雷默斯医药股份有限公司','114','101','DTTFHWJN(LZN)','2019-03-01 00:00:00','10','','1'), ('123','86979474000208','墨旱连','1000mg/g','14.45','克',' 江苏','112','103','MHL','2019-03-01 00:00:00','10','','1'), ('124','86979474000209','牡蛎（煅）','1000mg/g','25.69','克','江苏','112','103','MZ（Z）','2019-03-01 00:00:00','10','','1'), ('125','86979474000208','木瓜','1000mg/g','47.24','克','安徽同路生物','112','103','MG','2019-03-01 00:00:00','10','','1'), ('126','86979474000208','木蝴蝶','1000mg/g','3.74','克','云南1','112','103','MHD','2019-03-01 00:00:00','10','','1'), ('127','86979474000209','炙瓜蒌皮','1000mg/g','2.00','克',' 江苏','112','103','ZGZP','2019-03-01 00:00:00','10','','1'), ('128','86979474000208','炙黄精','1000mg/g','11.18','克','安徽','112','103','ZHJ','2019-03-01 00:00:00','10','','1'), ('129','86979474000209','炙黄芪','1000mg/g','5.56','克','山西普德药业股份有限公司','112','103','ZHZ','2019-03-01 00:00:00','10','','1'), ('130','86979474000208','炙麻黄','1000mg/g','6.20','克','山西普德药业股份有限公司','112','103','ZMH','2019-03-01 00:00:00','10','','1'), ('131','86979474000208','炙桑白皮','1000mg/g','30.88','克','江苏','112','103','ZSBP','2019-03-01 00:00:00','10','','1'), ('132','86979474000209','炙首乌','1000mg/g','8.66','克','江苏','112','103','ZSW','2019-03-01 00:00:00','10','','1'), ('133','86979474000208','炙远志','1000mg/g','42.73','克','内蒙','112','103','ZYZ','2019-03-01 00:00:00','10','','1'), ('134','86979474000209','炙紫苑','1000mg/g','3.12','克','江苏','112','103','ZZY','2019-03-01 00:00:00','10','','1'), ('135','86979474000208','朱砂','1000mg/g','17.28','克','','112','103','ZS','2019-03-01 00:00:00','10','','1'), ('136','86979474000208','猪苓','1000mg/g','88.80','克','山西普德药业股份有限公司','112','103','ZZ','2019-03-01 00:00:00','10','','1'), ('137','86979474000209','竹茹','1000mg/g','1.00','克','江苏','112','103','ZR','2019-03-01 00:00:00','10','','1'), ('138','86979474000208','竹叶','1000mg/g','14.40','克','西南制药二厂','112','103','ZY','2019-03-01 00:00:00','10','','1'), ('139','86979474000209','紫草','1000mg/g','44.75','克','新疆','112','103','ZC','2019-03-01 00:00:00','10','','1'), ('140','86979474000208','丹参','1000mg/g','22.13','克','','112','103','DC','2019-03-01 00:00:00','10','','1'), ('141','86979474000208','紫河车','1000mg/g','32.47','克','','112','103','ZHC','2019-03-01 00:00:00','10','','1'), ('142','86979474000209','紫苏叶','1000mg/g','22.64','克','江苏','112','103','ZSY','2019-03-01 00:00:00','10','','1'), ('143','86979474000208','铁树叶','1000mg/g','16.92','克','','112','103','TSY','2019-03-01 00:00:00','10','','1'), ('144','86979474000209','葶苈子','1000mg/g','17.74','克',' 甘肃','112','103','ZZZ','2019-03-01 00:00:00','10','','1'), ('145','86979474000208','土茯苓','1000mg/g','30.32','克',' 浙江','112','103','TZZ','2019-03-01 00:00:00','10','','1'), ('146','86979474000208','土荆皮','1000mg/g','39.04','克','','112','103','TJP','2019-03-01 00:00:00','10','','1'), ('147','86979474000209','营养琼脂','250g×1瓶','30.55','瓶','','157','101','YYQZ','2019-03-01 00:00:00','10','','1'), ('148','86979474000208','地西泮注射液(安定)','2ml:10mg×10支/盒','10.25','盒','天津金耀氨基酸有限公司','110','101','DXZZSY(AD)','2019-03-01 00:00:00','10','','1'), ('149','86979474000209','盐酸普罗帕酮(心律平)片','50mg×50片/瓶','38.50','瓶','南京白敬宇制药有限责任公司','111','101','YSPLPT(XLP)P','2019-03-01 00:00:00','10','','1'), ('150','86979474000208','硝苯地平(心痛定)片','10mg×100片/瓶','12.54','瓶','南京白敬宇制药有限责任公司','111','101','XBDP(XTD)P','2019-03-01 00:00:00','10','','1'), ('151','86979474000208','呋喃硫胺(新维生素B1)片','25mg×100片/瓶','55.36','瓶','杭州民生药业有限公司','111','102','ZZLA(XWSSB1)P','2019-03-01 00:00:00','10','','1'), ('152','86979474000209','溴吡斯的明片','60mg×60片/瓶','43.73','瓶','上海中西三维药业有限公司','111','102','ZZSDMP','2019-03-01 00:00:00','10','','1'), ('153','86979474000208','山豆根','1000mg/g','17.06','克','','112','103','SDG','2019-03-01 00:00:00','10','','1'), ('154','86979474000209','山药','1000mg/g','9.45','克',' 河南','112','103','SY','2019-03-01 00:00:00','10','','1'), ('155','86979474000208','山芋肉','1000mg/g','25.84','克','河南','112','103','SYR','2019-03-01 00:00:00','10','','1'), ('156','86979474000208','商陆','1000mg/g','68.98','克','江苏','112','103','SL','2019-03-01 00:00:00','10','','1'), ('157','86979474000209','氯雷他定片(开瑞坦)','10mg×6片/盒','4.34','盒','上海先灵葆雅制药有限公司','111','101','LLTDP(KRT)','2019-03-01 00:00:00','10','','1'), ('158','86979474000208','拉米夫定片(贺普丁)','100mg×14片/盒','20.28','盒','葛兰素史克制药(苏州)有限公司8','117','101','LMFDP(HPD)','2019-03-01 00:00:00','10','','1'), ('159','86979474000209','来曲唑片(芙瑞)','2.5mg×10片/盒','3.82','盒','江苏恒瑞医药股份有限公司','111','101','LQZP(ZR)','2019-03-01 00:00:00','10','','1'), ('160','86979474000208','玄明粉','1000mg/g','0.28','克','江苏','112','103','XMF','2019-03-01 00:00:00','10','','1'), ('161','86979474000208','旋复花','1000mg/g','53.02','克',' 河南','112','103','XFH','2019-03-01 00:00:00','10','','1'), ('162','86979474000209','血竭','1000mg/g','18.62','克','','112','103','XJ','2019-03-01 00:00:00','10','','1'), ('163','86979474000208','血余炭','1000mg/g','76.89','克','','112','103','XYT','2019-03-01 00:00:00','10','','1'), ('164','86979474000209','寻骨风','1000mg/g','30.89','克','','112','103','YGF','2019-03-01 00:00:00','10','','1'), ('165','86979474000208','四丁基溴化铵','100g×1瓶','26.67','瓶','','157','101','SDJZHZ','2019-03-01 00:00:00','10','','1'), ('166','86979474000208','盐酸特拉唑嗪片(高特灵）','2mg×28片/盒','1.69','盒','上海雅培制药有限公司','111','101','YSTLZZP(GTL）','2019-03-01 00:00:00','10','','1'), ('167','86979474000209','盐酸二甲双胍片(格华止）','850mg×20片/盒','39.12','盒','中美上海施贵宝制药有限公司','111','101','YSEJSZP(GHZ）','2019-03-01 00:00:00','10','','1'), ('168','86979474000208','格列美脲片(万苏平)','2mg×12片/盒','5.36','盒','江苏万邦生化医药股份有限公司','111','101','GLMZP(WSP)','2019-03-01 00:00:00','10','','1'), ('169','86979474000209','盐酸托莫西汀','10mg×7粒/盒','67.11','盒','礼来（美国）公司S','114','101','YSTMXT','2019-03-01 00:00:00','10','','1'), ('170','86979474000208','蔗糖铁注射液','5ml:100mg×1支','34.75','支','成都天台山制药有限公司','110','101','ZTTZSY','2019-03-01 00:00:00','10','','1'), ('171','86979474000208','勾藤颗粒','0.5g/10g/袋','0.91','袋','江阴天江药业有限公司','115','102','GTKL','2019-03-01 00:00:00','10','','1'), ('172','86979474000209','牡蛎颗粒','0.5g/30g/袋','40.06','袋','','115','102','MZKL','2019-03-01 00:00:00','10','','1'), ('173','86979474000208','盐酸丁螺环酮片(一舒)','5mg×60片/盒','16.50','盒','江苏恩华药业股份有限公司','111','101','YSDLHTP(YS)','2019-03-01 00:00:00','10','','1'), ('174','86979474000209','马破伤风免疫球蛋白','1500iu×1瓶','40.26','瓶','上海赛伦生物技术有限公司','110','101','MPSFMYQDB','2019-03-01 00:00:00','10','','1'), ('175','86979474000208','缬沙坦氢氯噻嗪片(复代文)','80mg/12.5mg×7片/盒','10.81','盒','诺华制药（意大利）','111','102','ZSTQLZZP(FDW)','2019-03-01 00:00:00','10','','1'), ('176','86979474000208','玄麦甘桔颗粒','5g*16袋/盒','33.42','盒','重庆三峡云海药业','115','102','XMGJKL','2019-03-01 00:00:00','10','','1'), ('177','86979474000209','厄贝沙坦片(安博维)','150mg×7片/盒','0.77','盒','赛诺菲（杭州）制药有限公司','111','101','EBSTP(ABW)','2019-03-01 00:00:00','10','','1'), ('178','86979474000208','普罗帕酮注射液(心律平)','10ml:35mg×5支/盒','37.25','盒','广州白云山明兴制药有限公司','110','101','PLPTZSY(XLP)','2019-03-01 00:00:00','10','','1'), ('179','86979474000209','苯巴比妥注射液(鲁米那)','1ml:100mg×10支/盒','5.23','盒','天津金耀药业有限公司','110','101','BBBTZSY(LMN)','2019-03-01 00:00:00','10','','1'), ('180','86979474000208','去氧肾上腺素注射液(苯肾上腺素)','1ml:10mg×2支/盒','61.16','盒','上海禾丰制药有限公司','110','101','QYSSXSZSY(BSSXS)','2019-03-01 00:00:00','10','','1'), ('181','86979474000208','硫酸阿托品注射液','0.5mg×10支/盒','36.42','盒','上海禾丰制药有限公司','110','101','LSATPZSY','2019-03-01 00:00:00','10','','1'), ('182','86979474000209','氨茶碱片','0.1g×100片/瓶','61.36','瓶','南京白敬宇制药有限责任公司','111','101','ACJP','2019-03-01 00:00:00','10','','1'), ('183','86979474000208','拉西地平片(司乐平）','4mg×30片/盒','55.86','盒','哈药集团三精制药有限公司','111','101','LXDPP(SLP）','2019-03-01 00:00:00','10','','1'), ('184','86979474000209','LB巴氯芬片(郝智)','10mg×20片/盒','48.83','盒','卫达化学制药股份有限公司','111','101','LBBLFP(HZ)','2019-03-01 00:00:00','10','','1'), ('185','86979474000208','BG盐酸地尔硫卓片(合心爽)','30.000mg*50片/盒','4.83','盒','天津田边制药有限公司','111','101','BGYSDELZP(HXS)','2019-03-01 00:00:00','10','','1'), ('186','86979474000208','华蟾素注射液','5ml×10支/盒','43.73','盒','安徽淮北金蟾药业','110','101','HCSZSY','2019-03-01 00:00:00','10','','1'), ('187','86979474000209','米氮平片(瑞美隆)','30mg×10片/盒','19.63','盒','雅培荷兰','111','101','MDPP(RML)','2019-03-01 00:00:00','10','','1'), ('188','86979474000208','复方丹参滴丸','27mg*180粒/盒','23.97','盒','天士力制药集团股份有限公司','163','102','FFDCDW','2019-03-01 00:00:00','10','','1'), ('189','86979474000209','夏枯草口服液','10ml*12支/盒','6.63','盒','贵阳新天药业股份有限公司','164','102','XKCKFY','2019-03-01 00:00:00','10','','1'), ('190','86979474000208','盐酸利托君片','10mg×10片/盒','5.67','盒','信东生技股份有限公司','111','101','YSLTJP','2019-03-01 00:00:00','10','','1'), ('191','86979474000208','银杏叶提取物注射液(金纳多)','5ml×17.5mg×10支/盒','0.96','盒','台湾济生化学制药厂股份有限公司','110','101','YXYTQWZSY(JND)','2019-03-01 00:00:00','10','','1'), ('192','86979474000209','金荞麦片','1片*30片/盒','36.89','盒','精华制药集团股份有限公司','111','101','JZMP','2019-03-01 00:00:00','10','','1'), ('193','86979474000208','脂溶性维生素(II)复合包装','2支+1支/盒','37.82','盒','成都天台山制药有限公司','110','101','ZRXWSS(II)FHBZ','2019-03-01 00:00:00','10','','1'), ('194','86979474000209','糖脉康颗粒','5g*21袋/盒','25.24','盒','四川升和药业股份有限公司','115','102','TMKKL','2019-03-01 00:00:00','10','','1'), ('195','86979474000208','鬼见羽','1000mg/g','56.17','克','南京药业有限公司药材分公司','112','103','GJY','2019-03-01 00:00:00','10','','1'), ('196','86979474000208','盐酸阿夫唑嗪缓释片(桑塔)','10mg×10片/盒','8.54','盒','赛诺菲（杭州）制药有限公司','111','101','YSAFZZHSP(ST)','2019-03-01 00:00:00','10','','1'), ('197','86979474000209','柴胡颗粒','1g/6g/袋','21.93','袋','江阴天江药业有限公司','115','102','CHKL','2019-03-01 00:00:00','10','','1'), ('198','86979474000208','陈皮颗粒','1g/6g/袋','0.93','袋','江阴天江药业有限公司','115','102','CPKL','2019-03-01 00:00:00','10','','1'), ('199','86979474000209','黄柏颗粒','0.5g/6g/袋','25.60','袋','江阴天江药业有限公司','115','102','HBKL','2019-03-01 00:00:00','10','','1'), ('200','86979474000208','丹参酮胶囊','0.25g×24粒/盒','31.19','盒','河北兴隆希力药业有限公司','114','101','DCTJN','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('201','86979474000208','升汞','1000g×1瓶','29.90','瓶','','157','101','SG','2019-03-01 00:00:00','10','','1'), ('202','86979474000209','生脉注射液','20ml×1支','30.99','支','江苏苏中药业集团股份有限公司','110','101','SMZSY','2019-03-01 00:00:00','10','','1'), ('203','86979474000208','生物素','1g×1瓶','24.49','瓶','','157','101','SWS','2019-03-01 00:00:00','10','','1'), ('204','86979474000209','盐酸乙哌立松片(妙纳)','50mg×20片/盒','10.53','盒','卫材(中国)药业有限公司','111','101','YSYZLSP(MN)','2019-03-01 00:00:00','10','','1'), ('205','86979474000208','散结镇痛胶囊','0.4g*30粒/瓶','60.61','瓶','江苏康缘药业股份有限公司','114','102','SJZTJN','2019-03-01 00:00:00','10','','1'), ('206','86979474000208','LB天丹通络胶囊','0.4g*45粒/瓶','16.01','瓶','山东凤凰制药股份','114','101','LBTDTLJN','2019-03-01 00:00:00','10','','1'), ('207','86979474000209','氯氮平片(上海）','25mg×100片/瓶','18.71','瓶','上海医药（集团）信谊制药总厂','111','101','LDPP(SH）','2019-03-01 00:00:00','10','','1'), ('208','86979474000208','0.9%氯化钠注射液（塑瓶）','10ml:0.09×1支','8.56','支','中国大冢制药有限公司','110','101','0.9%LHNZSY（SP）','2019-03-01 00:00:00','10','','1'), ('209','86979474000209','乌苯美司胶囊（百士欣）','10.000mg*15粒/盒','7.92','盒','浙江普洛康裕制药有限公司','114','101','WBMSJN（BSX）','2019-03-01 00:00:00','10','','1'), ('210','86979474000208','拉莫三嗪片','50mg×30片/盒','7.67','盒','葛兰素史克（中国）投资有限公司','111','101','LMSZP','2019-03-01 00:00:00','10','','1'), ('211','86979474000208','血塞通软胶囊','0.33g×24粒/盒','2.80','盒','昆明圣火药业','114','101','XSTRJN','2019-03-01 00:00:00','10','','1'), ('212','86979474000209','阿扎司琼氯化钠注射液(天晴日安)','100ml:10mg×1支','41.68','支','正大天晴药业集团股份有限公司','110','101','AZSQLHNZSY(TQRA)','2019-03-01 00:00:00','10','','1'), ('213','86979474000208','黄葵胶囊','0.5g×30粒/盒','26.70','盒','江苏苏中药业集团股份有限公司','114','102','HKJN','2019-03-01 00:00:00','10','','1'), ('214','86979474000209','注射用盐酸吉西他滨(健择)','200mg×1支','29.97','支','礼来（美国）公司','110','101','ZSYYSJXTB(JZ)','2019-03-01 00:00:00','10','','1'), ('215','86979474000208','注射用盐酸吉西他滨(健择)','1g×1瓶','4.36','瓶','礼来（美国）公司','110','101','ZSYYSJXTB(JZ)','2019-03-01 00:00:00','10','','1'), ('216','86979474000208','止痛化症胶囊','72粒×1盒','7.01','盒','吉林省天泰药业股份有限公司','163','102','ZTHZJN','2019-03-01 00:00:00','10','','1'), ('217','86979474000209','罗红霉素胶囊(仁苏)','150mg×12粒/盒','23.21','盒','扬子江药业集团有限公司','114','101','LHMSJN(RS)','2019-03-01 00:00:00','10','','1'), ('218','86979474000208','无水硫酸钠','500g×1瓶','8.44','瓶','南京','157','101','WSLSN','2019-03-01 00:00:00','10','','1'), ('219','86979474000209','多烯磷酯酰胆碱胶囊(易善复)','228mg×24粒/盒','16.52','盒','赛诺菲(北京)制药有限公司','114','101','DXLZXDJJN(YSF)','2019-03-01 00:00:00','10','','1'), ('220','86979474000208','左卡尼汀注射液(雷卡)','5ml:1g×1支','27.81','支','常州兰陵制药有限公司','110','101','ZKNTZSY(LK)','2019-03-01 00:00:00','10','','1'), ('221','86979474000208','肠内营养乳剂TPF-D(瑞代)','500ml×1袋','29.75','袋','费森尤斯卡比（德国）公司','118','101','CNYYRJTPF-D(RD)','2019-03-01 00:00:00','10','','1'), ('222','86979474000209','葛根颗粒','1g/10g/袋','21.03','袋','江阴天江药业有限公司','115','102','GGKL','2019-03-01 00:00:00','10','','1'), ('223','86979474000208','猪苓颗粒','0.5g/10g/袋','73.26','袋','江阴天江药业有限公司','115','102','ZZKL','2019-03-01 00:00:00','10','','1'), ('224','86979474000209','荆芥颗粒','1g/10/g/袋','71.40','袋','江阴天江药业有限公司','115','102','JJKL','2019-03-01 00:00:00','10','','1'), ('225','86979474000208','甘精胰岛素注射液(来得时)','300iu/3ml×1支','29.28','支','赛诺菲(北京)制药有限公司','110','101','GJYDSZSY(LDS)','2019-03-01 00:00:00','10','','1'), ('226','86979474000208','美敏伪麻(惠菲宁)溶液','100ml×1瓶','6.93','瓶','惠氏制药有限公司','119','101','MMWM(HFN)RY','2019-03-01 00:00:00','10','','1'), ('227','86979474000209','精蛋白锌重组(混合优泌林)人胰岛素70/30笔芯','300iu/3ml×1支','0.46','支','礼来苏州制药有限公司','110','101','JDBXZZ(HHYML)RYDS70/30BX','2019-03-01 00:00:00','10','','1'), ('228','86979474000208','活性炭','500g×1袋','6.17','袋','','157','101','HXT','2019-03-01 00:00:00','10','','1'), ('229','86979474000209','四苯硼酸钠','10g×1瓶','39.94','瓶','','157','101','SBPSN','2019-03-01 00:00:00','10','','1'), ('230','86979474000208','绿梅花','1000mg/g','30.38','克','','112','103','LMH','2019-03-01 00:00:00','10','','1'), ('231','86979474000208','莱菔子','1000mg/g','5.64','克','江苏','112','103','LZZ','2019-03-01 00:00:00','10','','1'), ('232','86979474000209','连翘','1000mg/g','3.38','克','山西普德药业股份有限公司','112','103','LQ','2019-03-01 00:00:00','10','','1'), ('233','86979474000208','灵芝','1000mg/g','28.67','克','江苏','112','103','LZ','2019-03-01 00:00:00','10','','1'), ('234','86979474000209','六曲','1000mg/g','26.71','克','','112','103','LQ','2019-03-01 00:00:00','10','','1'), ('235','86979474000208','BG厄贝沙坦氢氯噻嗪片(依伦平)','150mg/12.5mg×7片/盒','86.19','盒','南京正大天晴制药有限公司','111','101','BGEBSTQLZZP(YLP)','2019-03-01 00:00:00','10','','1'), ('236','86979474000208','静注人免疫球蛋白（pH4）(华兰)','50ml:2.5g×1瓶','25.57','瓶','华兰生物工程股份有限公司','110','101','JZRMYQDB（pH4）(HL)','2019-03-01 00:00:00','10','','1'), ('237','86979474000209','甘遂','1000mg/g','2.91','克','','112','103','GS','2019-03-01 00:00:00','10','','1'), ('238','86979474000208','奥氮平片(再普乐)','5mg×28片/盒','57.39','盒','礼来（美国）公司','111','101','ADPP(ZPL)','2019-03-01 00:00:00','10','','1'), ('239','86979474000209','金橘叶','1000mg/g','54.67','克','','112','103','JZY','2019-03-01 00:00:00','10','','1'), ('240','86979474000208','抗人T-淋巴细胞兔免疫球蛋白注射液','100mg×1支','46.48','支','安斯泰来制药(中国)有限公司','110','101','KRT-LBXBTMYQDBZSY','2019-03-01 00:00:00','10','','1'), ('241','86979474000208','BG酒石酸唑吡坦片(思诺思)','10mg×20片/盒','3.01','盒','赛诺菲（杭州）制药有限公司','111','101','BGJSSZZTP(SNS)','2019-03-01 00:00:00','10','','1'), ('242','86979474000209','呋塞米片(速尿)','20mg×100片/瓶','30.94','瓶','江苏亚邦爱普森药业有限公司','111','102','ZSMP(SN)','2019-03-01 00:00:00','10','','1'), ('243','86979474000208','舒血宁注射液(杏雪)','5ml×1支','85.68','支','黑龙江珍宝岛制药','110','101','SXNZSY(XX)','2019-03-01 00:00:00','10','','1'), ('244','86979474000209','硫酸阿托品眼用凝胶（迪善）','2.5g：25mg×1支','28.45','支','沈阳兴齐制药有限公司','120','101','LSATPYYNJ（DS）','2019-03-01 00:00:00','10','','1'), ('245','86979474000208','普伐他汀钠片(美百乐镇)','20mg×7片/盒','81.77','盒','第一三共制药（上海）有限公司','111','101','PFTTNP(MBLZ)','2019-03-01 00:00:00','10','','1'), ('246','86979474000208','卤米松/三氯生软膏(新适确得)','10g×1支','5.05','支','诺华制药（北京）有限公司','121','101','LMS/SLSRG(XSQD)','2019-03-01 00:00:00','10','','1'), ('247','86979474000209','醒脑静注射液','10ml×1支','52.94','支','云南大理药业股份有限公司','110','101','XNJZSY','2019-03-01 00:00:00','10','','1'), ('248','86979474000208','注射用巴利昔单抗(舒莱）','20mg×1支','58.39','支','Novartis Pharma Stein Switzerland','110','101','ZSYBLXDK(SL）','2019-03-01 00:00:00','10','','1'), ('249','86979474000209','沙美特罗替卡松粉吸入剂(舒利迭)','50ug:250ug×1瓶','45.22','瓶','葛兰素史克（中国）投资有限公司','122','101','SMTLTKSFXRJ(SLD)','2019-03-01 00:00:00','10','','1'), ('250','86979474000208','注射用阿莫西林钠舒巴坦(舒萨林)','1.5g×1支','50.36','支','哈药集团制药总厂','110','101','ZSYAMXLNSBT(SSL)','2019-03-01 00:00:00','10','','1'), ('251','86979474000208','南沙参','1000mg/g','12.01','克','安徽省合肥制药二厂','112','103','NSC','2019-03-01 00:00:00','10','','1'), ('252','86979474000209','牛子','1000mg/g','57.90','克','江苏','112','103','NZ','2019-03-01 00:00:00','10','','1'), ('253','86979474000208','糯稻根','1000mg/g','9.07','克','江苏','112','103','NDG','2019-03-01 00:00:00','10','','1'), ('254','86979474000209','藕节炭','1000mg/g','45.26','克','  江苏','112','103','OJT','2019-03-01 00:00:00','10','','1'), ('255','86979474000208','胖大海','1000mg/g','6.88','克','广东','112','103','PDH','2019-03-01 00:00:00','10','','1'), ('256','86979474000208','枇杷叶','1000mg/g','21.23','克','  江苏','112','103','ZZY','2019-03-01 00:00:00','10','','1'), ('257','86979474000209','片姜黄','1000mg/g','26.74','克','四川','112','103','PJH','2019-03-01 00:00:00','10','','1'), ('258','86979474000208','红色石蕊试纸','100片×1盒','3.47','盒','上海','157','101','HSSRSZ','2019-03-01 00:00:00','10','','1'), ('259','86979474000209','抗骨增生胶囊','0.35g*100粒/盒','38.11','盒','江苏康缘药业股份有限公司','114','101','KGZSJN','2019-03-01 00:00:00','10','','1'), ('260','86979474000208','右旋糖酐铁注射液(科莫非)','2ml:100mg×1支','10.63','支','丹麦Pharmacosmos  a/s ','110','101','YXTGTZSY(KMF)','2019-03-01 00:00:00','10','','1'), ('261','86979474000208','枸橼酸','1000g×1袋','14.47','袋','广州','157','101','ZZS','2019-03-01 00:00:00','10','','1'), ('262','86979474000209','枸橼酸','500g×1袋','40.17','袋','湖南华日','157','101','ZZS','2019-03-01 00:00:00','10','','1'), ('263','86979474000208','枸橼酸钾','500g×1瓶','1.33','瓶','广东新宁','157','101','ZZSJ','2019-03-01 00:00:00','10','','1'), ('264','86979474000209','枸橼酸钠(药用）','500g×1瓶','20.80','瓶','广东台山','157','101','ZZSN(YY）','2019-03-01 00:00:00','10','','1'), ('265','86979474000208','枸橼酸铁铵','500g×1瓶','6.50','瓶','','157','101','ZZSTZ','2019-03-01 00:00:00','10','','1'), ('266','86979474000208','磁石','1000mg/g','6.91','克',' 江苏','112','103','CS','2019-03-01 00:00:00','10','','1'), ('267','86979474000209','锝[99TC]亚甲基二瞵酸盐注射液(云克)','A5ml B5.5mg/盒','18.27','盒','成都云克药业有限公司S','110','101','Z[99TC]YJJEZSYZSY(YK)','2019-03-01 00:00:00','10','','1'), ('268','86979474000208','氯胺酮注射液','2ml:0.1g×10支/盒','0.72','盒','福建古田药业有限公司','110','101','LATZSY','2019-03-01 00:00:00','10','','1'), ('269','86979474000209','氯丙嗪注射液','1ml:25mg×10支/盒','49.00','盒','上海禾丰制药有限公司','110','101','LBZZSY','2019-03-01 00:00:00','10','','1'), ('270','86979474000208','谷氨酸钾注射液','20ml:6.3g×5支/盒','37.44','盒','上海旭东海普药业有限公司','110','101','GASJZSY','2019-03-01 00:00:00','10','','1'), ('271','86979474000208','谷氨酸钠注射液','28.75%20ml×5支/盒','35.05','盒','上海旭东海普药业有限公司','110','101','GASNZSY','2019-03-01 00:00:00','10','','1'), ('272','86979474000209','盐酸坦索罗辛缓释胶囊(哈乐）','0.2mg×10片/盒','0.90','盒','安斯泰来制药(中国)有限公司','114','101','YSTSLXHSJN(HL）','2019-03-01 00:00:00','10','','1'), ('273','86979474000208','褐藻多糖硫酸酯胶囊(海昆肾喜)','0.22g×18片/盒','24.68','盒','吉林省辉南长龙生化药业股份有限公司','114','101','HZDTLSZJN(HKSX)','2019-03-01 00:00:00','10','','1'), ('274','86979474000209','拉西地平片(乐息平）','4mg×7片/盒','34.90','盒','葛兰素史克（中国）投资有限公司','111','101','LXDPP(LXP）','2019-03-01 00:00:00','10','','1'), ('275','86979474000208','BG注射用甘露聚糖肽(力尔凡）','5mg×1支','24.53','支','国药一心制药有限公司','110','101','BGZSYGLJTZ(LEF）','2019-03-01 00:00:00','10','','1'), ('276','86979474000208','中长链脂肪乳(力能)注射液','20%250ml×1瓶','5.81','瓶','华瑞制药有限公司','110','101','ZCLZFR(LN)ZSY','2019-03-01 00:00:00','10','','1'), ('277','86979474000209','丙氨酰谷氨酰胺注射液(力肽）','20g×100ml/瓶','1.19','瓶','华瑞制药有限公司','110','101','BAGAAZSY(LZ）','2019-03-01 00:00:00','10','','1'), ('278','86979474000208','红  汞','500g×1瓶','1.32','瓶','','157','101','H  G','2019-03-01 00:00:00','10','','1'), ('279','86979474000209','匹多莫德口服液（芙露饮）','10ml:0.4g×6支/盒','31.28','盒','江苏吴中医药集团有限公司苏州制药厂','164','101','PDMDKFY（ZLY）','2019-03-01 00:00:00','10','','1'), ('280','86979474000208','非那雄胺片(保列治)','5mg×10片/瓶','41.50','瓶','默沙东制药（杭州）有限公司','111','101','FNXAP(BLZ)','2019-03-01 00:00:00','10','','1'), ('281','86979474000208','无水乙酸钠','250g×1瓶','35.07','瓶','南京','157','101','WSYSN','2019-03-01 00:00:00','10','','1'), ('282','86979474000209','酒石酸钾钠(CP)','500g×1瓶','2.00','瓶','','157','101','JSSJN(CP)','2019-03-01 00:00:00','10','','1'), ('283','86979474000208','聚乙烯醇','500g×1瓶','9.30','瓶','','157','101','JYXC','2019-03-01 00:00:00','10','','1'), ('284','86979474000209','木贼草','1000mg/g','27.99','克','辽宁','112','103','MZC','2019-03-01 00:00:00','10','','1'), ('285','86979474000208','盐酸氨溴索口服液（贝莱）','100ml:0.6g×1瓶','10.18','瓶','江苏恒瑞医药股份有限公司','164','101','YSAZSKFY（BL）','2019-03-01 00:00:00','10','','1'), ('286','86979474000208','10%葡萄糖注射液(亚邦软袋)','10g:100ml×1袋','4.71','袋','江苏亚邦生缘药业有限公司','110','101','10%PTTZSY(YBRD)','2019-03-01 00:00:00','10','','1'), ('287','86979474000209','10%葡萄糖注射液(亚邦软袋)','25g 250ml×1袋','42.23','袋','江苏亚邦生缘药业有限公司','110','101','10%PTTZSY(YBRD)','2019-03-01 00:00:00','10','','1'), ('288','86979474000208','茴拉西坦分散片(毕思灵)','100mg×48片/盒','29.17','盒','国药集团工业有限公司','123','101','ZLXTFSP(BSL)','2019-03-01 00:00:00','10','','1'), ('289','86979474000209','富马酸喹硫平片（思瑞康）','25mg×20片/盒','29.28','盒','阿斯利康制药有限公司','111','101','FMSZLPP（SRK）','2019-03-01 00:00:00','10','','1'), ('290','86979474000208','注射用伏立康唑','50mg×1支','1.41','支','珠海亿邦制药有限公司','110','101','ZSYFLKZ','2019-03-01 00:00:00','10','','1'), ('291','86979474000208','复方托吡卡胺滴眼液','1mL/支','5.04','支','沈阳兴齐眼药股份有限公司','160','101','FFTZKADYY','2019-03-01 00:00:00','10','','1'), ('292','86979474000209','万福净消毒片','100片/瓶','68.18','瓶','南京万福金安生物技术有限公司','111','101','WFJXDP','2019-03-01 00:00:00','10','','1'), ('293','86979474000208','诗乐氏AS消毒液','500ml×1瓶','42.50','瓶','诗乐氏实业','157','101','SLSASXDY','2019-03-01 00:00:00','10','','1'), ('294','86979474000209','注射用间苯三酚(艾朴)','40mg×1瓶','0.79','瓶','湖北午时药业股份有限公司','110','101','ZSYJBSF(AP)','2019-03-01 00:00:00','10','','1'), ('295','86979474000208','盐酸坦索罗辛（坦洛新）缓释胶囊','0.2mg×10粒/盒','30.18','盒','江苏恒瑞医药股份有限公司','114','101','YSTSLX（TLX）HSJN','2019-03-01 00:00:00','10','','1'), ('296','86979474000208','注射用多索茶碱(益索)','0.2g×1瓶','0.43','瓶','瑞阳制药有限公司','110','101','ZSYDSCJ(YS)','2019-03-01 00:00:00','10','','1'), ('297','86979474000209','注射用尖吻蝮蛇血凝酶(苏灵)','1单位×1瓶','44.14','瓶','北京康辰药业股份有限公司','110','101','ZSYJWZSXNM(SL)','2019-03-01 00:00:00','10','','1'), ('298','86979474000208','洗得宝牌（小）手消毒凝胶','76ml×1瓶','13.18','瓶','北京洗得宝消毒制品有限公司一分','120','101','XDBP（X）SXDNJ','2019-03-01 00:00:00','10','','1'), ('299','86979474000209','迈之灵片','150mg×20粒/盒','5.12','盒','德国礼达大药厂','111','101','MZLP','2019-03-01 00:00:00','10','','1'), ('300','86979474000208','门冬氨酸钾镁注射液(潘南金)','10ml×5支/盒','16.24','盒','匈牙利吉瑞大药厂','110','101','MDASJMZSY(PNJ)','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('301','86979474000208','脉络宁注射液','10ml×10支/盒','30.98','盒','南京金陵药业','110','101','MLNZSY','2019-03-01 00:00:00','10','','1'), ('302','86979474000209','美司钠注射液(美安)','400mg×5支/盒','21.85','盒','江苏恒瑞医药股份有限公司','110','101','MSNZSY(MA)','2019-03-01 00:00:00','10','','1'), ('303','86979474000208','人血白蛋白(瑞士)','50ml:10g×1瓶','38.64','瓶','瑞士杰特贝林生物制品有限公司','110','101','RXBDB(RS)','2019-03-01 00:00:00','10','','1'), ('304','86979474000209','盐酸苯海索片(安坦)','2mg×100片/瓶','3.14','瓶','常州康普药业有限公司','111','101','YSBHSP(AT)','2019-03-01 00:00:00','10','','1'), ('305','86979474000208','螺内酯片(安体舒通)','20mg×100片/瓶','35.68','瓶','杭州民生药业有限公司','111','101','LNZP(ATST)','2019-03-01 00:00:00','10','','1'), ('306','86979474000208','LB非那雄胺片(保法止)','1mg×28片/盒','67.90','盒','默沙东制药（杭州）有限公司','117','101','LBFNXAP(BFZ)','2019-03-01 00:00:00','10','','1'), ('307','86979474000209','替米沙坦片(美卡素)','80mg×7片/盒','5.52','盒','勃林格殷格翰（德国）国际公司','111','101','TMSTP(MKS)','2019-03-01 00:00:00','10','','1'), ('308','86979474000208','枸橼酸舒芬太尼注射液','1ml:50ug×1支','6.83','支','宜昌人福药业有限责任公司','110','101','ZZSSFTNZSY','2019-03-01 00:00:00','10','','1'), ('309','86979474000209','注射用复方甘草酸苷','40mg×1支','44.16','支','瑞阳制药有限公司','161','101','ZSYFFGCSZ','2019-03-01 00:00:00','10','','1'), ('310','86979474000208','麻仁软胶囊','0.6g*20粒/盒','58.91','盒','天津市中央药业有限公司','114','102','MRRJN','2019-03-01 00:00:00','10','','1'), ('311','86979474000208','噻托溴铵粉吸入剂','18ug×10粒/盒','38.40','盒','勃林格殷格翰（德国）国际公司','116','101','ZTZZFXRJ','2019-03-01 00:00:00','10','','1'), ('312','86979474000209','BG噻托溴铵粉吸入剂(带吸入器）','18ug×10粒/盒','23.54','盒','勃林格殷格翰（德国）国际公司','116','101','BGZTZZFXRJ(DXRQ）','2019-03-01 00:00:00','10','','1'), ('313','86979474000208','BG甘草锌颗粒','5g×10包/盒','22.09','盒','江苏瑞年前进制药有限公司','115','102','BGGCXKL','2019-03-01 00:00:00','10','','1'), ('314','86979474000209','富马酸喹硫平片','0.2g×20片/盒','16.66','盒','阿斯利康制药有限公司','111','101','FMSZLPP','2019-03-01 00:00:00','10','','1'), ('315','86979474000208','LB甲钴胺片(弥可保)','0.5mg×20片/盒','15.02','盒','卫材(中国)药业有限公司','111','101','LBJZAP(MKB)','2019-03-01 00:00:00','10','','1'), ('316','86979474000208','日舒安洗液','250ml×1瓶','6.34','瓶','贵州汉方制药有限公司','119','101','RSAXY','2019-03-01 00:00:00','10','','1'), ('317','86979474000209','注射用柔红霉素','20mg×1支','33.23','支','深圳万乐药业有限公司','110','101','ZSYRHMS','2019-03-01 00:00:00','10','','1'), ('318','86979474000208','鞣酸蛋白','500g×1袋','68.75','袋','','157','101','RSDB','2019-03-01 00:00:00','10','','1'), ('319','86979474000209','爱普列特片','5mg×10片/盒','4.39','盒','江苏联环药业股份有限公司','111','101','APLTP','2019-03-01 00:00:00','10','','1'), ('320','86979474000208','异丙托溴铵吸入溶液(爱全乐)','500ug×10支/盒','5.81','盒','勃林格殷格翰（上海）药业有限公司','119','101','YBTZZXRRY(AQL)','2019-03-01 00:00:00','10','','1'), ('321','86979474000208','川楝子','1000mg/g','4.30','克','20101124','112','103','CZZ','2019-03-01 00:00:00','10','','1'), ('322','86979474000209','川牛夕','1000mg/g','19.33','克','四川','112','103','CNX','2019-03-01 00:00:00','10','','1'), ('323','86979474000208','川乌','1000mg/g','9.81','克','','112','103','CW','2019-03-01 00:00:00','10','','1'), ('324','86979474000209','川芎','1000mg/g','17.84','克','','112','103','CZ','2019-03-01 00:00:00','10','','1'), ('325','86979474000208','垂盆草','1000mg/g','3.64','克','江苏','112','103','CPC','2019-03-01 00:00:00','10','','1'), ('326','86979474000208','椿根皮','1000mg/g','31.90','克','','112','103','CGP','2019-03-01 00:00:00','10','','1'), ('327','86979474000209','马来酸依那普利叶酸(依叶)片','10mg/0.8mg×7片/盒','36.84','盒','深圳奥萨制药有限公司S','111','101','MLSYNPLYS(YY)P','2019-03-01 00:00:00','10','','1'), ('328','86979474000208','茶碱缓释胶囊(时尔平)','0.1g×24粒/盒','26.07','盒','杭州民生药业有限公司','114','101','CJHSJN(SEP)','2019-03-01 00:00:00','10','','1'), ('329','86979474000209','注射用地西他滨(晴唯可)','25mg×1支/瓶','0.73','瓶','正大天晴药业股份有限公司S','110','101','ZSYDXTB(QWK)','2019-03-01 00:00:00','10','','1'), ('330','86979474000208','LB诺氟沙星胶囊(氟哌酸）','0.1g×12粒/板','23.61','板','浙江医药股份有限公司新昌制药厂','114','101','LBNFSXJN(FZS）','2019-03-01 00:00:00','10','','1'), ('331','86979474000208','熊去氧胆酸片','50mg×30片/瓶','19.23','瓶','上海上药信谊药厂有限公司','111','101','XQYDSP','2019-03-01 00:00:00','10','','1'), ('332','86979474000209','5%葡萄糖注射液（百特）','50ml×1袋','12.73','袋','上海百特医疗用品有限公司','110','101','5%PTTZSY（BT）','2019-03-01 00:00:00','10','','1'), ('333','86979474000208','0.9%氯化钠注射液（百特）','50ml×1袋','13.30','袋','上海百特医疗用品有限公司','110','101','0.9%LHNZSY（BT）','2019-03-01 00:00:00','10','','1'), ('334','86979474000209','爱护佳皮肤清洗液','1000ml×1瓶','1.89','瓶','3M中国有限公司','124','101','AHJPFQXY','2019-03-01 00:00:00','10','','1'), ('335','86979474000208','茉莉香精','2kg×1瓶','58.27','瓶','','157','101','ZLXJ','2019-03-01 00:00:00','10','','1'), ('336','86979474000208','还少胶囊(还少丹）','0.42g*50粒/盒','2.51','盒','重庆三峡云海药业','114','101','HSJN(HSD）','2019-03-01 00:00:00','10','','1'), ('337','86979474000209','注射用绒促性素 ','5000iu×1支','1.91','支','丽珠集团丽珠制药厂','161','101','ZSYRCXS ','2019-03-01 00:00:00','10','','1'), ('338','86979474000208','伏立康唑片(威凡)','200mg×10片/盒','18.58','盒','辉瑞制药','111','101','FLKZP(WF)','2019-03-01 00:00:00','10','','1'), ('339','86979474000209','酒石酸伐尼克兰片（畅沛）','0.5mg:1mg×25片/盒','0.48','盒','辉瑞投资有限公司','111','101','JSSFNKLP（CP）','2019-03-01 00:00:00','10','','1'), ('340','86979474000208','酒石酸伐尼克兰片（畅沛）','1mg×28片/盒','46.03','盒','辉瑞投资有限公司','111','101','JSSFNKLP（CP）','2019-03-01 00:00:00','10','','1'), ('341','86979474000208','氢氧化钙AR','500g×1瓶','34.48','瓶','','157','101','QYHGAR','2019-03-01 00:00:00','10','','1'), ('342','86979474000209','氢氧化钾','500g×1瓶','20.55','瓶','','157','101','QYHJ','2019-03-01 00:00:00','10','','1'), ('343','86979474000208','决明子','1000mg/g','1.39','克','江苏','112','103','JMZ','2019-03-01 00:00:00','10','','1'), ('344','86979474000209','硫酸','500ml×1瓶','2.39','瓶','南京化学厂','157','101','LS','2019-03-01 00:00:00','10','','1'), ('345','86979474000208','苯  酚','500g×1瓶','35.52','瓶','广东江门','157','101','B  F','2019-03-01 00:00:00','10','','1'), ('346','86979474000208','苯甲酸钠','500g×1袋','7.63','袋','沈阳第一制药厂','157','101','BJSN','2019-03-01 00:00:00','10','','1'), ('347','86979474000209','洁消净','500g×1袋','11.61','袋','吴县化工二厂','157','101','JXJ','2019-03-01 00:00:00','10','','1'), ('348','86979474000208','结晶紫(AR)','25g×1瓶','27.03','瓶','','157','101','JJZ(AR)','2019-03-01 00:00:00','10','','1'), ('349','86979474000209','陈棕炭','1000mg/g','27.08','克','海南','112','103','CZT','2019-03-01 00:00:00','10','','1'), ('350','86979474000208','海浮石','1000mg/g','10.76','克','','112','103','HFS','2019-03-01 00:00:00','10','','1'), ('351','86979474000208','樟脑粉','200g×1瓶','60.72','瓶','浙江海正','157','101','ZNF','2019-03-01 00:00:00','10','','1'), ('352','86979474000209','蔗糖','500g×1瓶','7.88','瓶','','157','101','ZT','2019-03-01 00:00:00','10','','1'), ('353','86979474000208','炭(针用)','500g×1袋','15.10','袋','','157','101','T(ZY)','2019-03-01 00:00:00','10','','1'), ('354','86979474000209','正丁醇(AR)','500g×1瓶','4.39','瓶','','157','101','ZDC(AR)','2019-03-01 00:00:00','10','','1'), ('355','86979474000208','正丁醇','500ml×1瓶','16.35','瓶','','157','101','ZDC','2019-03-01 00:00:00','10','','1'), ('356','86979474000208','正硅酸乙酯(AR)','500ml×1瓶','2.13','瓶','','157','101','ZGSYZ(AR)','2019-03-01 00:00:00','10','','1'), ('357','86979474000209','正乙烷','500g×1瓶','40.85','瓶','','157','101','ZYW','2019-03-01 00:00:00','10','','1'), ('358','86979474000208','LB消栓通络胶囊','0.37g*36粒/盒','14.29','盒','吉林省东北亚药业股份有限公司','114','101','LBXSTLJN','2019-03-01 00:00:00','10','','1'), ('359','86979474000209','硝化棉','250g×1瓶','1.24','瓶','','157','101','XHM','2019-03-01 00:00:00','10','','1'), ('360','86979474000208','硝酸','500ml×1瓶','54.35','瓶','','157','101','XS','2019-03-01 00:00:00','10','','1'), ('361','86979474000208','液体石腊','500ml×1瓶','5.19','瓶','','157','101','YTSL','2019-03-01 00:00:00','10','','1'), ('362','86979474000209','脂肪乳氨基酸(卡文)葡萄萄糖注射液','1440ml×1袋','53.55','袋','华瑞制药有限公司','110','101','ZFRAJS(KW)PTTTZSY','2019-03-01 00:00:00','10','','1'), ('363','86979474000208','BG保妇康栓','1.74g×8粒/板','28.53','板','海南碧凯药业有限公司','125','101','BGBFKS','2019-03-01 00:00:00','10','','1'), ('364','86979474000209','碘[125I]密封籽源','3.7-222MBq(0.1-6Mci)*1粒','5.12','粒','原子高科股份有限公司','110','101','D[125I]MFZY','2019-03-01 00:00:00','10','','1'), ('365','86979474000208','二乙酰氨乙酸乙二胺注射液(华克盾)','5ml:0.3g×1支','16.47','支','华北制药股份有限公司','110','101','EYXAYSYEAZSY(HKD)','2019-03-01 00:00:00','10','','1'), ('366','86979474000208','盐酸肾上腺素注射液','1ml:1mg×2支/盒','15.99','盒','上海禾丰制药有限公司','110','101','YSSSXSZSY','2019-03-01 00:00:00','10','','1'), ('367','86979474000209','桂利嗪片(脑益嗪)','25mg×100片/瓶','3.49','瓶','南京白敬宇制药有限责任公司','111','101','GLZP(NYZ)','2019-03-01 00:00:00','10','','1'), ('368','86979474000208','诺延手消毒啫哩','500ml×1瓶','13.71','瓶','芬兰奥瑞恩诺瑞 ','157','101','NYSXDZL','2019-03-01 00:00:00','10','','1'), ('369','86979474000209','爱尔施牌消毒片','100片×1瓶','23.46','瓶','上海利康消毒高科技有限公司','111','101','AESPXDP','2019-03-01 00:00:00','10','','1'), ('370','86979474000208','碘酊','500mL/瓶','27.27','瓶','河北健宁药业有限公司','157','101','DJ','2019-03-01 00:00:00','10','','1'), ('371','86979474000208','谷氨酰胺(BR)','5g×1瓶','1.89','瓶','','157','101','GAXA(BR)','2019-03-01 00:00:00','10','','1'), ('372','86979474000209','甲硝唑氯化钠注射液','0.5%100ml×1瓶','44.97','瓶','四川科伦药业股份有限公司','110','101','JXZLHNZSY','2019-03-01 00:00:00','10','','1'), ('373','86979474000208','咪唑斯汀片(皿治林)','10mg×7片/盒','11.48','盒','西安杨森制药有限公司','111','102','ZZSTP(MZL)','2019-03-01 00:00:00','10','','1'), ('374','86979474000209','新斯的明注射液','2ml:1mg×10支/盒','14.78','盒','上海信谊金朱药业有限公司','110','101','XSDMZSY','2019-03-01 00:00:00','10','','1'), ('375','86979474000208','吗替麦考酚酯分散片(赛可平)','0.25g×40片/盒','61.42','盒','杭州中美华东制药有限公司','123','101','MTMKFZFSP(SKP)','2019-03-01 00:00:00','10','','1'), ('376','86979474000208','水合氯醛合剤','10mL×1支','50.76','支','南京市儿童医院0','126','101','SHLQHj','2019-03-01 00:00:00','10','','1'), ('377','86979474000209','榄香烯注射液','20ml:100mg×1支','47.19','支','大连华立金港制药有限公司S','110','101','ZXXZSY','2019-03-01 00:00:00','10','','1'), ('378','86979474000208','宁心宝胶囊','0.25g×24粒/瓶','35.63','瓶','正大青春宝药业有限公司','114','101','NXBJN','2019-03-01 00:00:00','10','','1'), ('379','86979474000209','盐酸雷洛昔芬片','60mg×7片/盒','3.77','盒','江苏恒瑞医药股份有限公司','111','101','YSLLXFP','2019-03-01 00:00:00','10','','1'), ('380','86979474000208','阿托伐他汀钙片(立普妥)','20mg×7片/盒','47.22','盒','辉瑞制药有限公司','111','101','ATFTTGP(LPT)','2019-03-01 00:00:00','10','','1'), ('381','86979474000208','人免疫球蛋白注射液(蓉生静丙)','50ml:2.5g×1瓶','21.18','瓶','成都蓉生药业有限公司','110','101','RMYQDBZSY(RSJB)','2019-03-01 00:00:00','10','','1'), ('382','86979474000209','正清风痛宁注射液','2ml:50mg×1支','15.99','支','湖南正清制药集团股份有限公司','110','101','ZQFTNZSY','2019-03-01 00:00:00','10','','1'), ('383','86979474000208','注射用培美曲塞二钠(普来乐)','200mg×1支','0.59','支','江苏豪森药业股份有限公司S','110','101','ZSYPMQSEN(PLL)','2019-03-01 00:00:00','10','','1'), ('384','86979474000209','屋尘蟎变应原制剂（安脱达）（维持）','5ml×1支','17.60','支','丹麦爱尔开-阿贝优公司S','110','101','WCXBYYZJ（ATD）（WC）','2019-03-01 00:00:00','10','','1'), ('385','86979474000208','羟乙基淀粉130/0.4氯化钠注射液','500ml×1袋','57.81','袋','南京正大天晴制药有限公司','110','101','QYJDF130/0.4LHNZSY','2019-03-01 00:00:00','10','','1'), ('386','86979474000208','积雪苷霜软膏','30g×1支','15.46','支','上海现代制药股份有限公司','121','101','JXZSRG','2019-03-01 00:00:00','10','','1'), ('387','86979474000209','重组牛碱性(贝复济)成纤维细胞胞生长因子喷剂','15ml:63000iu×1支','3.29','支','珠海亿胜生物制药有限公司','127','101','ZZNJX(BFJ)CXWXBBSCYZPJ','2019-03-01 00:00:00','10','','1'), ('388','86979474000208','注射用阿糖胞苷(塞得萨)','500mg×1支','32.73','支','辉瑞制药','110','101','ZSYATBZ(SDS)','2019-03-01 00:00:00','10','','1'), ('389','86979474000209','异丙醇','500ml×1瓶','1.44','瓶','上海','157','101','YBC','2019-03-01 00:00:00','10','','1'), ('390','86979474000208','盐酸维拉帕米注射液(异博定)','5mg×1支','3.16','支','上海禾丰制药有限公司','110','101','YSWLPMZSY(YBD)','2019-03-01 00:00:00','10','','1'), ('391','86979474000208','长春瑞宾注射液(盖诺)','10mg×1支','4.10','支','江苏豪森药业股份有限公司','110','101','CCRBZSY(GN)','2019-03-01 00:00:00','10','','1'), ('392','86979474000209','异丁醇(AR)','500ml×1瓶','31.22','瓶','','157','101','YDC(AR)','2019-03-01 00:00:00','10','','1'), ('393','86979474000208','异戊醇（AR）','500ml×1瓶','14.99','瓶','','157','101','YWC（AR）','2019-03-01 00:00:00','10','','1'), ('394','86979474000209','注射用七叶皂苷钠（麦通纳）','5mg×1支','74.72','支','山东绿叶制药有限公司','110','101','ZSYQYZZN（MTN）','2019-03-01 00:00:00','10','','1'), ('395','86979474000208','复明片','0.3g×90片/盒','37.61','盒','西安碑林药业','111','101','FMP','2019-03-01 00:00:00','10','','1'), ('396','86979474000208','钙红','10g×1瓶','36.79','瓶','','157','101','GH','2019-03-01 00:00:00','10','','1'), ('397','86979474000209','女贞子','1000mg/g','27.38','克','','112','103','NZZ','2019-03-01 00:00:00','10','','1'), ('398','86979474000208','甘  油','500g×1瓶','68.72','瓶','无锡','157','101','G  Y','2019-03-01 00:00:00','10','','1'), ('399','86979474000209','间苯二酚','250g×1瓶','51.89','瓶','昆山','157','101','JBEF','2019-03-01 00:00:00','10','','1'), ('400','86979474000208','百里酚兰','25g×1瓶','0.53','瓶','','157','101','BLFL','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('401','86979474000208','短肽型肠内营养混悬液SP(百普力)','500ml×1瓶','46.68','瓶','纽迪希亚制药（无锡）有限公司','164','101','DZXCNYYHXYSP(BPL)','2019-03-01 00:00:00','10','','1'), ('402','86979474000209','过氧化苯甲酰凝胶（班赛）','5%:15g/盒 ','49.80','瓶','法国高德美制药','128','101','GYHBJXNJ（BS）','2019-03-01 00:00:00','10','','1'), ('403','86979474000208','注射用白眉蛇毒血凝酶（邦亭）','1000iu×1支','52.79','支','锦州奥鸿药业有限责任公司','110','101','ZSYBMSDXNM（BT）','2019-03-01 00:00:00','10','','1'), ('404','86979474000209','注射用前列地尔(保达新)','20ug×1支','3.44','支','珠海许瓦兹制药有限公司','110','101','ZSYQLDE(BDX)','2019-03-01 00:00:00','10','','1'), ('405','86979474000208','保险粉','500g×1瓶','47.19','瓶','','157','101','BXF','2019-03-01 00:00:00','10','','1'), ('406','86979474000208','注射用重组人白细胞介素11(吉巨芬)','3mg×1支','6.29','支','杭州九源基因工程有限公司','110','101','ZSYZZRBXBJS11(JJF)','2019-03-01 00:00:00','10','','1'), ('407','86979474000209','脂溶性维生素注射液(维他利匹特)','10ml×1支','8.65','支','华瑞制药有限公司','110','101','ZRXWSSZSY(WTLPT)','2019-03-01 00:00:00','10','','1'), ('408','86979474000208','异甘草酸镁注射液(天晴甘美)','10ml：50mg×1支','1.09','支','正大天晴药业集团股份有限公司','110','101','YGCSMZSY(TQGM)','2019-03-01 00:00:00','10','','1'), ('409','86979474000209','盐酸利托君注射液(安宝)','5ml:50mg×1支','0.57','支','台湾信东化学工业有限公司S','110','101','YSLTJZSY(AB)','2019-03-01 00:00:00','10','','1'), ('410','86979474000208','注射用米卡芬净钠(米开民)','50mg×1支','7.70','支','安斯泰来制药(中国)有限公司','110','101','ZSYMKFJN(MKM)','2019-03-01 00:00:00','10','','1'), ('411','86979474000208','精蛋白锌(优泌乐25)重组赖脯胰岛素混合注射液','3ml:300iu×1支','35.90','支','礼来苏州制药有限公司','110','101','JDBX(YML25)ZZLFYDSHHZSY','2019-03-01 00:00:00','10','','1'), ('412','86979474000209','生理氯化钠溶液(百特)','0.9%(3000ml:27g)×1袋','11.25','袋','上海百特医疗用品有限公司','119','101','SLLHNRY(BT)','2019-03-01 00:00:00','10','','1'), ('413','86979474000208','瑞舒伐他汀钙(可定)片','10mg×7片/盒','14.41','盒','阿斯利康制药有限公司','111','101','RSFTTG(KD)P','2019-03-01 00:00:00','10','','1'), ('414','86979474000209','血滞通胶囊','0.45g×30粒/盒','37.18','盒','吉林东方制药有限公司','114','101','XZTJN','2019-03-01 00:00:00','10','','1'), ('415','86979474000208','丹参酮IIA磺酸钠注射液','2ml:10mg×1支','63.20','支','上海上药第一生化药业有限公司','110','101','DCTIIAHSNZSY','2019-03-01 00:00:00','10','','1'), ('416','86979474000208','托吡酯片（妥泰）','25mg×60片/盒','31.53','盒','西安杨森制药有限公司','117','101','TZZP（TT）','2019-03-01 00:00:00','10','','1'), ('417','86979474000209','盐酸度洛西汀(欣百达)胶囊','60mg×14粒/盒','0.44','盒','Eli Lilly and Company','114','101','YSDLXT(XBD)JN','2019-03-01 00:00:00','10','','1'), ('418','86979474000208','左氧氟沙星滴眼液（可乐必妥）','5ml：24.4mg×1支','42.88','支','日本参天制药株式会社','160','101','ZYFSXDYY（KLBT）','2019-03-01 00:00:00','10','','1'), ('419','86979474000209','麝香保心丸','22.5mg×42粒/盒','57.43','盒','上海和黄药业','163','102','SXBXW','2019-03-01 00:00:00','10','','1'), ('420','86979474000208','胸腺五肽注射液(欧宁）','1ml:1mg×1支','4.93','支','北京双鹭药业股份有限公司','110','101','XXWZZSY(ON）','2019-03-01 00:00:00','10','','1'), ('421','86979474000208','银杏达莫注射液','5ml×1支','27.60','支','贵州益佰制药股份有限公司','110','101','YXDMZSY','2019-03-01 00:00:00','10','','1'), ('422','86979474000209','玫瑰花','1000mg/g','0.27','克','江苏','112','103','MGH','2019-03-01 00:00:00','10','','1'), ('423','86979474000208','密蒙花','1000mg/g','25.72','克','湖北','112','103','MMH','2019-03-01 00:00:00','10','','1'), ('424','86979474000209','明矾','1000mg/g','40.38','克','','112','103','MF','2019-03-01 00:00:00','10','','1'), ('425','86979474000208','注射用奥沙利铂(艾恒)','50mg×1瓶','8.51','瓶','江苏恒瑞医药股份有限公司','110','101','ZSYASLB(AH)','2019-03-01 00:00:00','10','','1'), ('426','86979474000208','奥沙利铂(艾克博康)注射液','40mg×1支','47.21','支','深圳海王药业有限公司','110','101','ASLB(AKBK)ZSY','2019-03-01 00:00:00','10','','1'), ('427','86979474000209','糠酸莫米松(艾洛松)软膏','5g×1支','15.93','支','上海先灵葆雅制药有限公司','121','101','KSMMS(ALS)RG','2019-03-01 00:00:00','10','','1'), ('428','86979474000208','氟哌利多注射液','2ml:5mg×5支/盒','7.65','盒','上海旭东海普药业有限公司','110','101','FZLDZSY','2019-03-01 00:00:00','10','','1'), ('429','86979474000209','氟他胺片','0.25g×50片/盒','14.75','盒','江苏天士力帝益药业有限公司','111','101','FTAP','2019-03-01 00:00:00','10','','1'), ('430','86979474000208','聚乙二醇口服散剂(福松)','10g×10袋/盒','59.39','盒','法国 博福-益普生（天津）制药','116','101','JYECKFSJ(FS)','2019-03-01 00:00:00','10','','1'), ('431','86979474000208','阿折地平片(贝琪)','8mg×7片/盒','8.35','盒','南京正大天晴制药有限公司S','111','101','AZDPP(BZ)','2019-03-01 00:00:00','10','','1'), ('432','86979474000209','注射用苄星青霉素','120万u×1瓶','0.69','瓶','华北制药股份有限公司','110','101','ZSYZXQMS','2019-03-01 00:00:00','10','','1'), ('433','86979474000208','辅酶Q10氯化钠注射液(合夫)','250ml×1瓶','39.11','瓶','西南药业股份有限公司','110','101','FMQ10LHNZSY(HF)','2019-03-01 00:00:00','10','','1'), ('434','86979474000209','格列吡嗪控释片(瑞易宁)','5mg×14片/盒','14.52','盒','辉瑞制药有限公司','111','101','GLZZKSP(RYN)','2019-03-01 00:00:00','10','','1'), ('435','86979474000208','塞来昔布胶囊(西乐葆)','200mg×6片/盒','31.87','盒','辉瑞制药有限公司（大连）','114','101','SLXBJN(XLZ)','2019-03-01 00:00:00','10','','1'), ('436','86979474000208','厄贝沙坦氢氯噻嗪(安博诺)片','150mg×7片/盒','54.90','盒','赛诺菲（杭州）制药有限公司','111','101','EBSTQLZZ(ABN)P','2019-03-01 00:00:00','10','','1'), ('437','86979474000209','注射用阿昔洛韦(丽科欣)','250mg×1支','66.28','支','湖北科益制药厂','110','101','ZSYAXLW(LKX)','2019-03-01 00:00:00','10','','1'), ('438','86979474000208','克咳胶囊','0.3g×21粒/盒','8.94','盒','贵州益佰制药股份有限公司','114','101','KKJN','2019-03-01 00:00:00','10','','1'), ('439','86979474000209','异丙肾上腺素注射液','2ml:1mg×2支/盒','68.04','盒','上海禾丰制药有限公司','110','101','YBSSXSZSY','2019-03-01 00:00:00','10','','1'), ('440','86979474000208','异丙嗪注射液','25mg×10支/盒','58.10','盒','上海禾丰制药有限公司','110','101','YBZZSY','2019-03-01 00:00:00','10','','1'), ('441','86979474000208','虎红琼脂','250g×1瓶','21.68','瓶','','157','101','HHQZ','2019-03-01 00:00:00','10','','1'), ('442','86979474000209','重组人红细胞生成素注射液(益比奥)','1ml:10000iu×1支','13.12','支','沈阳三生制药股份有限公司','110','101','ZZRHXBSCSZSY(YBA)','2019-03-01 00:00:00','10','','1'), ('443','86979474000208','硫酸氢氯吡格雷片（泰嘉）','25mg×20片/盒','10.87','盒','深圳信立泰药业股份有限公司','111','101','LSQLZGLP（TJ）','2019-03-01 00:00:00','10','','1'), ('444','86979474000209','左旋甲状腺片(优甲乐)','50ug×100片/盒','73.08','盒','德国默克','111','102','ZXJZXP(YJL)','2019-03-01 00:00:00','10','','1'), ('445','86979474000208','LB注射用盐酸阿柔比星(阿克拉霉','20mg×1支','36.26','支','深圳万乐药业有限公司','161','101','LBZSYYSARBX(AKLM','2019-03-01 00:00:00','10','','1'), ('446','86979474000208','东莨菪碱注射液','1ml:0.3mg×1支','15.47','支','徐州莱恩药业有限公司','110','101','DZZJZSY','2019-03-01 00:00:00','10','','1'), ('447','86979474000209','醋香附颗粒','0.5g/10g/袋','20.57','袋','江阴天江药业有限公司','115','102','CXFKL','2019-03-01 00:00:00','10','','1'), ('448','86979474000208','巴戢天颗粒','3g/10g/袋','3.89','袋','江阴天江药业有限公司','115','102','BZTKL','2019-03-01 00:00:00','10','','1'), ('449','86979474000209','干姜颗粒','0.5g/3g/袋','11.55','袋','江阴天江药业有限公司','115','102','GJKL','2019-03-01 00:00:00','10','','1'), ('450','86979474000208','炮姜炭颗粒','0.5g/6g/袋','67.00','袋','江阴天江药业有限公司','115','102','PJTKL','2019-03-01 00:00:00','10','','1'), ('451','86979474000208','乌药颗粒','0.5g/10g/袋','34.32','袋','江阴天江药业有限公司','115','102','WYKL','2019-03-01 00:00:00','10','','1'), ('452','86979474000209','茯苓颗粒','1g/10g/袋','2.77','袋','江阴天江药业有限公司','115','102','ZZKL','2019-03-01 00:00:00','10','','1'), ('453','86979474000208','奥硝唑氯化钠(奥立妥)注射液','100ml:0.5g×1袋','2.58','袋','西安万隆制药有限公司','110','101','AXZLHN(ALT)ZSY','2019-03-01 00:00:00','10','','1'), ('454','86979474000209','头孢噻肟钠舒巴坦钠(治君)','2.25g×1支','75.63','支','湘北威尔曼制药有限公司','110','101','TZZZNSBTN(ZJ)','2019-03-01 00:00:00','10','','1'), ('455','86979474000208','卡介菌纯蛋白衍化物(PPD)注射液','50iu×1支','44.89','支','成都生物制品研究所','110','101','KJJCDBYHW(PPD)ZSY','2019-03-01 00:00:00','10','','1'), ('456','86979474000208','生山楂颗粒','3g/10g/袋','3.94','袋','江苏','115','102','SSZKL','2019-03-01 00:00:00','10','','1'), ('457','86979474000209','紫石英颗粒(醋煅)','0.5g/15g/袋','61.60','袋','江阴天江药业有限公司','115','102','ZSYKL(CZ)','2019-03-01 00:00:00','10','','1'), ('458','86979474000208','果糖注射液(丰海能)','25g:250ml×1瓶','92.31','瓶','江苏正大丰海制药有限公司','110','101','GTZSY(FHN)','2019-03-01 00:00:00','10','','1'), ('459','86979474000209','注射用伏立康唑(威凡）','200mg×1支','59.42','支','法玛西亚普强公司','110','101','ZSYFLKZ(WF）','2019-03-01 00:00:00','10','','1'), ('460','86979474000208','含氯消毒片','500mg*100片/瓶','66.62','瓶','上海方金消毒技术有限公司','111','101','HLXDP','2019-03-01 00:00:00','10','','1'), ('461','86979474000208','LB比沙可啶肠溶片(便塞停）','5mg×8片/盒','0.50','盒','中国药科大学制药有限公司','111','101','LBBSKZCRP(BST）','2019-03-01 00:00:00','10','','1'), ('462','86979474000209','10%葡萄糖注射液（百特）','100ml×1袋','24.17','袋','上海百特医疗用品有限公司','110','101','10%PTTZSY（BT）','2019-03-01 00:00:00','10','','1'), ('463','86979474000208','水飞蓟素片(利加隆)','70mg×20片/盒','10.53','盒','德国马博士大药厂','111','101','SFJSP(LJL)','2019-03-01 00:00:00','10','','1'), ('464','86979474000209','替勃龙片(利维爱)','2.5mg×7粒/盒','13.97','盒','欧加农公司，荷兰N.V.ORGANON','111','101','TBLP(LWA)','2019-03-01 00:00:00','10','','1'), ('465','86979474000208','利可君片(利血生)','20mg×48片/盒','7.96','盒','江苏吉贝尔药业股份有限公司','111','101','LKJP(LXS)','2019-03-01 00:00:00','10','','1'), ('466','86979474000208','色谱甲醇','500ml×1瓶','4.54','瓶','','157','101','SPJC','2019-03-01 00:00:00','10','','1'), ('467','86979474000209','LB消旋山莨菪碱片(654-2)','10mg×100片/瓶','28.86','瓶','杭州民生药业有限公司','111','101','LBXXSZZJP(654-2)','2019-03-01 00:00:00','10','','1'), ('468','86979474000208','头孢克肟(世福素)胶囊','100mg×6片/盒','2.88','盒','广州白云山医药集团有限公司白云山制药总厂','114','101','TZKZ(SFS)JN','2019-03-01 00:00:00','10','','1'), ('469','86979474000209','莉芙敏','0.28g×30片/盒','8.78','盒','德国夏菩天然药物制药公司S','111','101','LZM','2019-03-01 00:00:00','10','','1'), ('470','86979474000208','BG注射用环磷腺苷葡胺(凯缌)','60mg×1支','20.31','支','无锡凯夫制药有限公司','110','101','BGZSYHLXZPA(KZ)','2019-03-01 00:00:00','10','','1'), ('471','86979474000208','利伐沙班片(拜瑞妥)','10mg×5片/盒','8.04','盒','拜耳医药保健有限公司S','111','101','LFSBP(BRT)','2019-03-01 00:00:00','10','','1'), ('472','86979474000209','盐酸曲唑酮片(美时玉)','50mg×20片/盒','3.58','盒','美时化学制药股份有限公司','111','101','YSQZTP(MSY)','2019-03-01 00:00:00','10','','1'), ('473','86979474000208','白芍总苷胶囊(帕夫林)','0.3g×60粒/盒','35.43','盒','宁波立华制药有限公司','114','102','BSZZJN(PFL)','2019-03-01 00:00:00','10','','1'), ('474','86979474000209','多维元素片(善存)','60片/瓶','7.39','瓶','惠氏制药有限公司','111','101','DWYSP(SC)','2019-03-01 00:00:00','10','','1'), ('475','86979474000208','BG茴三硫胶囊','25mg×24粒/盒','12.21','盒','成都国嘉联合制药有限公司','114','102','BGZSLJN','2019-03-01 00:00:00','10','','1'), ('476','86979474000208','消炎利胆片','0.52g*100片/瓶','71.39','瓶','广东万年青制药有限公司','111','101','XYLDP','2019-03-01 00:00:00','10','','1'), ('477','86979474000209','阿卡波糖片(拜糖平)','50mg×30片/盒','55.88','盒','拜耳医药保健有限公司','111','101','AKBTP(BTP)','2019-03-01 00:00:00','10','','1'), ('478','86979474000208','盐酸班布特罗片(邦备)','10mg×10片/盒','1.85','盒','阿斯利康制药有限公司','111','101','YSBBTLP(BB)','2019-03-01 00:00:00','10','','1'), ('479','86979474000209','哌拉西林他唑巴坦钠(邦达)','1.125g*1支','46.97','支','齐鲁天和惠世制药有限公司','110','101','ZLXLTZBTN(BD)','2019-03-01 00:00:00','10','','1'), ('480','86979474000208','黄色氧化汞','100g×1瓶','13.47','瓶','','157','101','HSYHG','2019-03-01 00:00:00','10','','1'), ('481','86979474000208','去痛片','0.5g×24片/盒','28.70','盒','南京白敬宇制药有限责任公司','111','101','QTP','2019-03-01 00:00:00','10','','1'), ('482','86979474000209','破伤风人免疫球蛋白(蜀阳)注射液','2.5ml:250iu×1支','44.76','支','四川远大蜀阳药业有限公司','110','101','PSFRMYQDB(SY)ZSY','2019-03-01 00:00:00','10','','1'), ('483','86979474000208','左乙拉西坦片','500mg×30片/盒','82.88','盒','比利时2','111','102','ZYLXTP','2019-03-01 00:00:00','10','','1'), ('484','86979474000209','复合磷酸氢钾注射液(唯甲林)','2ml×1支','1.39','支','天津金耀氨基酸有限公司','110','101','FHLSQJZSY(WJL)','2019-03-01 00:00:00','10','','1'), ('485','86979474000208','注射用灯盏花素','25mg×1支','15.53','支','昆明龙津药业有限公司','110','101','ZSYDZHS','2019-03-01 00:00:00','10','','1'), ('486','86979474000208','注射用托拉塞米(泽通)','20mg×1支','19.30','支','南京海辰药业有限公司','110','101','ZSYTLSM(ZT)','2019-03-01 00:00:00','10','','1'), ('487','86979474000209','天花粉颗粒','1g/10g/袋','1.36','袋','江阴天江药业有限公司','115','102','THFKL','2019-03-01 00:00:00','10','','1'), ('488','86979474000208','10%葡萄糖注射液（百特）','500ml×1袋','0.86','袋','上海百特医疗用品有限公司','110','101','10%PTTZSY（BT）','2019-03-01 00:00:00','10','','1'), ('489','86979474000209','10%葡萄糖注射液（百特）','250ml×1袋','4.17','袋','上海百特医疗用品有限公司','110','101','10%PTTZSY（BT）','2019-03-01 00:00:00','10','','1'), ('490','86979474000208','5%葡萄糖注射液（百特）','500ml×1袋','13.69','袋','上海百特医疗用品有限公司','110','101','5%PTTZSY（BT）','2019-03-01 00:00:00','10','','1'), ('491','86979474000208','5%葡萄糖注射液（百特）','100ml×1袋','45.10','袋','上海百特医疗用品有限公司','110','101','5%PTTZSY（BT）','2019-03-01 00:00:00','10','','1'), ('492','86979474000209','5%葡萄糖注射液（百特）','250ml×1袋','72.47','袋','上海百特医疗用品有限公司','110','101','5%PTTZSY（BT）','2019-03-01 00:00:00','10','','1'), ('493','86979474000208','厄贝沙坦片（吉加）','150mg×14片/盒','22.83','盒','江苏恒瑞医药股份有限公司','111','101','EBSTP（JJ）','2019-03-01 00:00:00','10','','1'), ('494','86979474000209','注射用氯化钠  ','1000g×1袋','37.35','袋','江苏南通勤奋制药','157','101','ZSYLHN  ','2019-03-01 00:00:00','10','','1'), ('495','86979474000208','注射用氯化钠  ','500g×1瓶','5.76','瓶','上海久亿','157','101','ZSYLHN  ','2019-03-01 00:00:00','10','','1'), ('496','86979474000208','注射用白细胞介素-2(因特康)','100万u×1支','16.05','支','江苏金丝利药业有限公司','110','101','ZSYBXBJS-2(YTK)','2019-03-01 00:00:00','10','','1'), ('497','86979474000209','醋酸奥曲肽注射液(力尔宁)','1ml:0.2mg×1支','72.66','支','国药一心制药有限公司','110','101','CSAQZZSY(LEN)','2019-03-01 00:00:00','10','','1'), ('498','86979474000208','戊酸雌二醇(克龄蒙)/雌二醇坏丙孕酮片','2mg/2mg/1mg×21片/盒','5.54','盒','拜耳医药保健有限公司','111','101','WSCEC(KLM)/CECHBYTP','2019-03-01 00:00:00','10','','1'), ('499','86979474000209','知母颗粒','2.5g/10g/袋','16.57','袋','江阴天江药业有限公司','115','102','ZMKL','2019-03-01 00:00:00','10','','1'), ('500','86979474000208','头孢地尼分散片(兴易比可)','0.1g×6片/盒','63.79','盒','天津市津兰药业有限公司','123','101','TZDNFSP(XYBK)','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('501','86979474000208','格列美脲片(亚莫利)','2mg×15片/盒','37.68','盒','赛诺菲(北京)制药有限公司','111','101','GLMZP(YML)','2019-03-01 00:00:00','10','','1'), ('502','86979474000209','心可舒片','0.31g×72片/盒','9.67','盒','山东沃华医药科技股份有限公司','111','101','XKSP','2019-03-01 00:00:00','10','','1'), ('503','86979474000208','葡萄糖氯化钠注射液（百特）','100ml×1袋','40.61','袋','上海百特医疗用品有限公司','110','101','PTTLHNZSY（BT）','2019-03-01 00:00:00','10','','1'), ('504','86979474000209','葡萄糖氯化钠注射液（百特）','500ml×1袋','60.75','袋','上海百特医疗用品有限公司','110','101','PTTLHNZSY（BT）','2019-03-01 00:00:00','10','','1'), ('505','86979474000208','葡萄糖氯化钠注射液（百特）','250ml×1袋','49.83','袋','上海百特医疗用品有限公司','110','101','PTTLHNZSY（BT）','2019-03-01 00:00:00','10','','1'), ('506','86979474000208','0.9%氯化钠注射液（百特）','250ml×1袋','19.64','袋','上海百特医疗用品有限公司','110','101','0.9%LHNZSY（BT）','2019-03-01 00:00:00','10','','1'), ('507','86979474000209','阿替卡因肾上腺素注射液(必兰)','1.7ml(68mg:17ug)×1支','25.50','支','法国碧兰公司','110','101','ATKYSSXSZSY(BL)','2019-03-01 00:00:00','10','','1'), ('508','86979474000208','生理氯化钠溶液（外用）','500ml×1瓶','64.24','瓶','中国大冢制药有限公司','110','101','SLLHNRY（WY）','2019-03-01 00:00:00','10','','1'), ('509','86979474000209','核糖核酸Ⅱ','100mg×1瓶','38.34','瓶','吉林敖东药业集团延吉股份有限公司','161','101','HTHSⅡ','2019-03-01 00:00:00','10','','1'), ('510','86979474000208','盐酸吡格列酮(瑞彤)片','30mg×14片/盒','0.63','盒','江苏德源药业有限公司','111','101','YSZGLT(RT)P','2019-03-01 00:00:00','10','','1'), ('511','86979474000208','注射用利福平','0.45g×1瓶','16.78','瓶','重庆华邦制药有限公司S','110','101','ZSYLFP','2019-03-01 00:00:00','10','','1'), ('512','86979474000209','脂溶性维生素(II)','1940ug:5ug:100ug:150ug','73.18','支','西安远大德天药业股份有限公司','110','101','ZRXWSS(II)','2019-03-01 00:00:00','10','','1'), ('513','86979474000208','硝酸甘油片(派洛)','0.5mg×48片/盒','9.09','盒','北京益民药业有限公司','111','101','XSGYP(PL)','2019-03-01 00:00:00','10','','1'), ('514','86979474000209','注射用阿替普酶(爱通立)','50mg×1支','7.11','支','勃林格殷格翰（德国）国际公司','110','101','ZSYATPM(ATL)','2019-03-01 00:00:00','10','','1'), ('515','86979474000208','地氯雷他定(恩理思)片','5mg×6片/盒','35.84','盒','默沙东制药（杭州）有限公司','111','101','DLLTD(ELS)P','2019-03-01 00:00:00','10','','1'), ('516','86979474000208','盐酸多柔比星脂质体注射液','20mg×1瓶','21.64','瓶','上海复旦张江生物医药股份S','110','101','YSDRBXZZTZSY','2019-03-01 00:00:00','10','','1'), ('517','86979474000209','硝酸钙','500g×1瓶','1.75','瓶','','157','101','XSG','2019-03-01 00:00:00','10','','1'), ('518','86979474000208','硝酸钾','500g×1瓶','15.07','瓶','','157','101','XSJ','2019-03-01 00:00:00','10','','1'), ('519','86979474000209','刺猬皮','1000mg/g','4.34','克','江苏','112','103','CZP','2019-03-01 00:00:00','10','','1'), ('520','86979474000208','大腹皮','1000mg/g','0.03','克','进口','112','103','DFP','2019-03-01 00:00:00','10','','1'), ('521','86979474000208','大蓟草','1000mg/g','41.65','克','江苏','112','103','DJC','2019-03-01 00:00:00','10','','1'), ('522','86979474000209','大青叶','1000mg/g','72.54','克','江苏','112','103','DQY','2019-03-01 00:00:00','10','','1'), ('523','86979474000208','代赭石','1000mg/g','26.57','克','山西普德药业股份有限公司','112','103','DZS','2019-03-01 00:00:00','10','','1'), ('524','86979474000209','软肥皂','500g×1瓶','8.99','瓶','北京燕京','157','101','RFZ','2019-03-01 00:00:00','10','','1'), ('525','86979474000208','重组人红细胞生成素注射液(益比奥)','1ml:3000iu×1支','11.00','支','沈阳三生制药股份有限公司','110','101','ZZRHXBSCSZSY(YBA)','2019-03-01 00:00:00','10','','1'), ('526','86979474000208','复方聚乙二醇电解口服散','ABC3包/盒','17.51','盒','江西恒康药业有限公司','113','101','FFJYECDJKFS','2019-03-01 00:00:00','10','','1'), ('527','86979474000209','硫酸铵','500ml×1瓶','3.53','瓶','','157','101','LSZ','2019-03-01 00:00:00','10','','1'), ('528','86979474000208','注射用硫酸链霉素','1g×1瓶','43.07','瓶','山东鲁抗制药有限公司','110','101','ZSYLSLMS','2019-03-01 00:00:00','10','','1'), ('529','86979474000209','硫酸镁','500g×1袋','31.94','袋','重庆','157','101','LSM','2019-03-01 00:00:00','10','','1'), ('530','86979474000208','硫酸铁(AR)','500g×1瓶','3.13','瓶','沪山海','157','101','LST(AR)','2019-03-01 00:00:00','10','','1'), ('531','86979474000208','注射用兰索拉唑(奥维加）','30mg×1瓶','2.15','瓶','江苏奥赛康药业股份有限公司','110','101','ZSYLSLZ(AWJ）','2019-03-01 00:00:00','10','','1'), ('532','86979474000209','美洛昔康(莫比可)片','7.5mg×7片/盒','64.23','盒','勃林格殷格翰（上海）药业有限公司','111','101','MLXK(MBK)P','2019-03-01 00:00:00','10','','1'), ('533','86979474000208','火棉胶','500ml×1瓶','7.72','瓶','','157','101','HMJ','2019-03-01 00:00:00','10','','1'), ('534','86979474000209','熟地黄颗粒','4g/10g/袋','87.10','袋','江阴天江药业有限公司','115','102','SDHKL','2019-03-01 00:00:00','10','','1'), ('535','86979474000208','金莲清热泡腾片','4g*12片/盒','15.38','盒','天津中新药业集团股份有限公司','111','101','JLQRPTP','2019-03-01 00:00:00','10','','1'), ('536','86979474000208','缩宫素注射液(催产素)','5iu×1支','27.77','支','安徽宏业药业有限公司','110','101','SGSZSY(CCS)','2019-03-01 00:00:00','10','','1'), ('537','86979474000209','百乐眠胶囊','0.27g×24粒/盒','15.16','盒','扬子江药业集团有限公司','114','102','BLMJN','2019-03-01 00:00:00','10','','1'), ('538','86979474000208','注射用哌甲酯(利他灵)','20mg×1支','7.08','支','苏州第一制药厂','161','101','ZSYZJZ(LTL)','2019-03-01 00:00:00','10','','1'), ('539','86979474000209','猪肺磷脂注射液（固尔苏）','240mg×3ml/支','2.17','支','意大利S','110','101','ZFLZZSY（GES）','2019-03-01 00:00:00','10','','1'), ('540','86979474000208','克霉唑阴道片(凯妮汀)','0.5g×1盒','23.03','盒','拜耳医药保健有限公司','111','101','KMZYDP(KNT)','2019-03-01 00:00:00','10','','1'), ('541','86979474000208','盐酸贝那普利片(信达怡)','5mg×28片/盒','42.49','盒','深圳信立泰药业股份有限公司','111','101','YSBNPLP(XDZ)','2019-03-01 00:00:00','10','','1'), ('542','86979474000209','水红花子','1000mg/g','6.20','克','','112','103','SHHZ','2019-03-01 00:00:00','10','','1'), ('543','86979474000208','碘酊','20mL/瓶','29.78','瓶','常熟市星海制药有限公司','129','101','DJ','2019-03-01 00:00:00','10','','1'), ('544','86979474000209','盐酸羟考酮缓释片(奥施康定)','10mg×10片/盒','13.01','盒','萌蒂(英国)制药有限公司S','111','101','YSQKTHSP(ASKD)','2019-03-01 00:00:00','10','','1'), ('545','86979474000208','来曲唑片(弗隆)','2.5mg×30片/盒','43.83','盒','诺华制药（瑞士）有限公司S','111','101','LQZP(FL)','2019-03-01 00:00:00','10','','1'), ('546','86979474000208','氢氧化钠','500g×1瓶','3.92','瓶','上海久亿','157','101','QYHN','2019-03-01 00:00:00','10','','1'), ('547','86979474000209','沙美特罗替卡松吸入剂(舒利迭)','50ug:100ug×1瓶','69.41','瓶','葛兰素史克（中国）投资有限公司','122','101','SMTLTKSXRJ(SLD)','2019-03-01 00:00:00','10','','1'), ('548','86979474000208','替普瑞酮胶囊（施维舒）','50mg×20粒/盒','0.44','盒','卫材(中国)药业有限公司','114','101','TPRTJN（SWS）','2019-03-01 00:00:00','10','','1'), ('549','86979474000209','联苯','250g×1瓶','2.26','瓶','','157','101','LB','2019-03-01 00:00:00','10','','1'), ('550','86979474000208','联苯胺','25g×1瓶','10.52','瓶','','157','101','LBA','2019-03-01 00:00:00','10','','1'), ('551','86979474000208','联吡啶(AR)','1g×1瓶','86.92','瓶','','157','101','LZZ(AR)','2019-03-01 00:00:00','10','','1'), ('552','86979474000209','亮绿(FMP)','10g×1瓶','62.22','瓶','天士力制药集团股份有限公司','157','101','LL(FMP)','2019-03-01 00:00:00','10','','1'), ('553','86979474000208','疏血通注射液','2ml×1支','2.40','支','牡丹江友博药业','110','101','SXTZSY','2019-03-01 00:00:00','10','','1'), ('554','86979474000209','韭菜子','1000mg/g','5.81','克','','112','103','JCZ','2019-03-01 00:00:00','10','','1'), ('555','86979474000208','桔梗','1000mg/g','3.94','克','江苏','112','103','JG','2019-03-01 00:00:00','10','','1'), ('556','86979474000208','桔红','1000mg/g','8.58','克','','112','103','JH','2019-03-01 00:00:00','10','','1'), ('557','86979474000209','聚维酮碘消毒液(手术用）','250ml×1瓶','39.89','瓶','兴化','119','101','JWTDXDY(SSY）','2019-03-01 00:00:00','10','','1'), ('558','86979474000208','乳酸钠林格注射液(双管软袋)','500ml×1瓶','7.57','瓶','浙江济民制药股份有限公司','110','101','RSNLGZSY(SGRD)','2019-03-01 00:00:00','10','','1'), ('559','86979474000209','注射用甲氨喋呤','5mg×1支','28.92','支','广东岭南制药有限公司','161','101','ZSYJAZZ','2019-03-01 00:00:00','10','','1'), ('560','86979474000208','灭菌注射用水','500ml×1瓶','20.38','瓶','安徽双鹤药业有限公司','110','101','MJZSYS','2019-03-01 00:00:00','10','','1'), ('561','86979474000208','氟哌噻吨美利曲辛片（黛力新）','0.5mg:10mg×20片/盒','8.02','盒','丹麦灵北制药公司','111','101','FZZDMLQXP（DLX）','2019-03-01 00:00:00','10','','1'), ('562','86979474000209','注射用帕瑞昔布钠(特耐)','40mg×1瓶','26.04','瓶','辉瑞制药有限公司','110','101','ZSYPRXBN(TN)','2019-03-01 00:00:00','10','','1'), ('563','86979474000208','小儿复方氨基酸注射液(19AA-I)','20ml:1.2g/1瓶','9.28','瓶','北京双鹤药业股份有限公司','110','101','XEFFAJSZSY(19AA-I)','2019-03-01 00:00:00','10','','1'), ('564','86979474000209','松节油','500ml×1瓶','62.74','瓶','上海久亿','157','101','SJY','2019-03-01 00:00:00','10','','1'), ('565','86979474000208','苏木色素(BS)','5g×1瓶','62.82','瓶','','157','101','SMSS(BS)','2019-03-01 00:00:00','10','','1'), ('566','86979474000208','苏木色素','10g×1瓶','1.75','瓶','','157','101','SMSS','2019-03-01 00:00:00','10','','1'), ('567','86979474000209','那屈肝素钙注射液(速碧林)','0.4ml:4100u×1支','7.14','支','葛兰素史克(天津)有限公司','110','101','NQGSGZSY(SBL)','2019-03-01 00:00:00','10','','1'), ('568','86979474000208','羧甲基纤维素钠','1000mg/g','4.58','克','','157','101','JJJXWSN','2019-03-01 00:00:00','10','','1'), ('569','86979474000209','注射用亚胺培南西司他啶(泰能)','0.5g×1瓶','5.35','瓶','默沙东制药（杭州）有限公司','110','101','ZSYYAPNXSTZ(TN)','2019-03-01 00:00:00','10','','1'), ('570','86979474000208','次碳酸铋','500g×1瓶','24.70','瓶','','157','101','CTSZ','2019-03-01 00:00:00','10','','1'), ('571','86979474000208','醋酸钠','1000g×1瓶','1.44','瓶','','157','101','CSN','2019-03-01 00:00:00','10','','1'), ('572','86979474000209','醋酸钠','500g×1瓶','5.10','瓶','','157','101','CSN','2019-03-01 00:00:00','10','','1'), ('573','86979474000208','甲苯','500ml×1瓶','6.62','瓶','上海九亿','157','101','JB','2019-03-01 00:00:00','10','','1'), ('574','86979474000209','盐酸帕洛诺司琼(欧赛)注射液','5ml:0.25mg×1支','6.00','支','齐鲁制药(海南)有限公司S','110','101','YSPLNSQ(OS)ZSY','2019-03-01 00:00:00','10','','1'), ('575','86979474000208','碳酸氢钠注射液','10ml:0.5g×1支','45.52','支','天津金耀药业有限公司','110','101','TSQNZSY','2019-03-01 00:00:00','10','','1'), ('576','86979474000208','红花颗粒','2g/6g/袋','2.18','袋','江阴天江药业有限公司','115','102','HHKL','2019-03-01 00:00:00','10','','1'), ('577','86979474000209','杏仁颗粒(燀)','1g/10g/袋','12.38','袋','江阴天江药业有限公司','115','102','XRKL','2019-03-01 00:00:00','10','','1'), ('578','86979474000208','银黄颗粒','2g*16袋/盒','4.42','盒','江西济民可信药业有限公司','115','102','YHKL','2019-03-01 00:00:00','10','','1'), ('579','86979474000209','精制银翘解毒胶囊(感冒停）','0.3g*24粒/盒','67.60','盒','贵州恒和制药有限公司','114','102','JZYQJDJN(GMT）','2019-03-01 00:00:00','10','','1'), ('580','86979474000208','荧光素(AR)','25g×1瓶','3.00','瓶','','157','101','YGS(AR)','2019-03-01 00:00:00','10','','1'), ('581','86979474000208','硬脂酸','250g×1瓶','1.09','瓶','','157','101','YZS','2019-03-01 00:00:00','10','','1'), ('582','86979474000209','磷酸','500ml×1瓶','10.93','瓶','','157','101','LS','2019-03-01 00:00:00','10','','1'), ('583','86979474000208','磷酸二氢铵(AR)','500g×1瓶','31.25','瓶','','157','101','LSEQZ(AR)','2019-03-01 00:00:00','10','','1'), ('584','86979474000209','磷酸二氢钾(AR)','500g×1瓶','4.29','瓶','','157','101','LSEQJ(AR)','2019-03-01 00:00:00','10','','1'), ('585','86979474000208','磷酸二氢钠','500g×1瓶','68.45','瓶','上海','157','101','LSEQN','2019-03-01 00:00:00','10','','1'), ('586','86979474000208','磷酸氢二钾','500g×1瓶','61.83','瓶','','157','101','LSQEJ','2019-03-01 00:00:00','10','','1'), ('587','86979474000209','磷酸氢二钠(AR)','500g×1瓶','13.55','瓶','上海','157','101','LSQEN(AR)','2019-03-01 00:00:00','10','','1'), ('588','86979474000208','钠石灰','1000g×1瓶','88.26','瓶','','157','101','NSH','2019-03-01 00:00:00','10','','1'), ('589','86979474000209','钆双胺注射液(欧乃影)','4.305g×15ml/瓶','36.17','瓶','通用电气药业 （上海）有限公司','110','101','ZSAZSY(ONY)','2019-03-01 00:00:00','10','','1'), ('590','86979474000208','柴银口服液','20ml×6支/盒','3.15','盒','鲁南厚普制药有限公司','164','102','CYKFY','2019-03-01 00:00:00','10','','1'), ('591','86979474000208','水牛角颗粒','0.5g/15g/袋','2.55','袋','江阴天江药业有限公司','115','102','SNJKL','2019-03-01 00:00:00','10','','1'), ('592','86979474000209','炒僵蚕颗粒','1g/10g/袋','8.97','袋','江阴天江药业有限公司','115','102','CJCKL','2019-03-01 00:00:00','10','','1'), ('593','86979474000208','三乙醇胺乳膏（比亚芬）','46.5g×1支','42.66','支','法国梅迪克斯制药厂','118','101','SYCARG（BYF）','2019-03-01 00:00:00','10','','1'), ('594','86979474000209','注射用卡络磺钠','40mg×1支','0.02','支','江苏吴中医药集团有限公司苏州制药厂','110','101','ZSYKLHN','2019-03-01 00:00:00','10','','1'), ('595','86979474000208','尿素','1000g×1瓶','0.74','瓶','湖南芙蓉','157','101','NS','2019-03-01 00:00:00','10','','1'), ('596','86979474000208','地塞米松磷酸钠注射液','1ml:5mg×10支/盒','28.55','盒','鲁抗辰欣','110','101','DSMSLSNZSY','2019-03-01 00:00:00','10','','1'), ('597','86979474000209','结构脂肪乳注射液(力文)','250ml:50g×1袋','37.28','袋','华瑞制药有限公司','110','101','JGZFRZSY(LW)','2019-03-01 00:00:00','10','','1'), ('598','86979474000208','巴比妥钠','25g×1瓶','50.47','瓶','','157','101','BBTN','2019-03-01 00:00:00','10','','1'), ('599','86979474000209','人血白蛋白注射液(德国)','50ml:10g×1瓶','14.29','瓶','德国杰特贝公司','110','101','RXBDBZSY(DG)','2019-03-01 00:00:00','10','','1'), ('600','86979474000208','人血白蛋白注射液(华兰)','50ml:5g×1瓶','30.04','瓶','华兰生物工程股份有限公司','110','101','RXBDBZSY(HL)','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('601','86979474000208','人血白蛋白注射液(四川)','5g：25ml×1瓶','50.28','瓶','四川远大蜀阳药业有限公司','110','101','RXBDBZSY(SC)','2019-03-01 00:00:00','10','','1'), ('602','86979474000209','人血白蛋白注射液(蓉生)','50ml:10g×1瓶','6.88','瓶','成都蓉生药业有限公司','110','101','RXBDBZSY(RS)','2019-03-01 00:00:00','10','','1'), ('603','86979474000208','白凡士林','500g×1瓶','1.08','瓶','','157','101','BFSL','2019-03-01 00:00:00','10','','1'), ('604','86979474000209','甲醇','500ml×1瓶','3.55','瓶','上海久亿','157','101','JC','2019-03-01 00:00:00','10','','1'), ('605','86979474000208','甲酚','500ml×1瓶','4.61','瓶','','157','101','JF','2019-03-01 00:00:00','10','','1'), ('606','86979474000208','甲酚皂溶液','500ml×1瓶','61.37','瓶','','157','101','JFZRY','2019-03-01 00:00:00','10','','1'), ('607','86979474000209','恩替卡韦片(博路定)','0.5mg×7片/盒','28.86','盒','中美上海施贵宝制药有限公司S','111','101','ETKWP(BLD)','2019-03-01 00:00:00','10','','1'), ('608','86979474000208','米曲菌胰酶片(慷彼申)','220mg：24mg×20片/盒','34.44','盒','NORDMARK ARZNEIMITTEL Gmbh','111','101','MQJYMP(KBS)','2019-03-01 00:00:00','10','','1'), ('609','86979474000209','琥珀酸索利那新片(卫喜康)','5mg×10片/盒','13.64','盒','安斯泰来制药(中国)有限公司','111','102','ZZSSLNXP(WXK)','2019-03-01 00:00:00','10','','1'), ('610','86979474000208','欧龙马滴剂','50ml*1瓶','2.44','瓶','德国比奥罗历加制药有限公司','130','101','OLMDJ','2019-03-01 00:00:00','10','','1'), ('611','86979474000208','BG盐酸二甲双胍缓释片(泰白)','0.5g×30片/盒','71.47','盒','正大天晴药业集团股份有限公司','111','101','BGYSEJSZHSP(TB)','2019-03-01 00:00:00','10','','1'), ('612','86979474000209','奥美拉唑肠溶胶囊(奥克)','20mg×14粒/盒','72.35','盒','常州四药制药有限公司','114','101','AMLZCRJN(AK)','2019-03-01 00:00:00','10','','1'), ('613','86979474000208','硝酸咪康唑阴道软胶囊','1.2g×1枚/盒','15.02','盒','西安杨森制药有限公司','125','101','XSZKZYDRJN','2019-03-01 00:00:00','10','','1'), ('614','86979474000209','碘伏（越星）','60ml×1瓶','66.83','瓶','兴化市医疗卫生用品有限公司','157','101','DF（YX）','2019-03-01 00:00:00','10','','1'), ('615','86979474000208','皮肤消毒液(鸭嘴形)','500ml×1瓶','28.06','瓶','靖江康爱特化工制造有限公司','157','101','PFXDY(YZX)','2019-03-01 00:00:00','10','','1'), ('616','86979474000208','曲安奈德注射液','50mg×5ml/瓶','4.37','瓶','浙江仙琚制药股份有限公司','110','101','QANDZSY','2019-03-01 00:00:00','10','','1'), ('617','86979474000209','醋酸乙酯','500g×1瓶','48.44','瓶','','157','101','CSYZ','2019-03-01 00:00:00','10','','1'), ('618','86979474000208','硝酸异山梨酯缓释片（长效消心痛）','20mg×30片/瓶','29.28','瓶','青岛黄海制药有限责任公司','111','101','XSYSLZHSP（CXXXT）','2019-03-01 00:00:00','10','','1'), ('619','86979474000209','酒石酸美托洛尔片(倍他乐克）','25mg×20片/盒','10.09','盒','阿斯利康制药有限公司','111','101','JSSMTLEP(BTLK）','2019-03-01 00:00:00','10','','1'), ('620','86979474000208','亚甲蓝注射液（美兰）','2ml:20mg×5支/盒','3.58','盒','济川药业集团有限公司','110','101','YJLZSY（ML）','2019-03-01 00:00:00','10','','1'), ('621','86979474000208','盐酸米诺环素胶囊(美满霉素)','50mg×20粒/盒','55.09','盒','惠氏制药有限公司','114','101','YSMNHSJN(MMMS)','2019-03-01 00:00:00','10','','1'), ('622','86979474000209','钠钾镁钙葡萄糖注射液(乐加)','500ml×1袋','8.01','袋','江苏恒瑞医药股份有限公司','110','101','NJMGPTTZSY(LJ)','2019-03-01 00:00:00','10','','1'), ('623','86979474000208','注射用比阿培南(天册)','0.3g×1支','2.83','支','正大天晴药业集团股份有限公司','110','101','ZSYBAPN(TC)','2019-03-01 00:00:00','10','','1'), ('624','86979474000209','注射用香菇多糖(天地欣)','1mg×1支','24.62','支','南京绿叶思科药业有限公司','110','101','ZSYXGDT(TDX)','2019-03-01 00:00:00','10','','1'), ('625','86979474000208','唑来膦酸注射液(密固达)','100ml:5mg×1瓶','56.43','瓶','诺华制药（瑞士）','110','101','ZLZSZSY(MGD)','2019-03-01 00:00:00','10','','1'), ('626','86979474000208','碘化钾','500克×1瓶','53.43','瓶','广东台山新宁制药厂','157','101','DHJ','2019-03-01 00:00:00','10','','1'), ('627','86979474000209','盐酸多奈哌齐片（安理申）','5mg×7片/盒','32.52','盒','卫材(中国)药业有限公司','111','101','YSDNZQP（ALS）','2019-03-01 00:00:00','10','','1'), ('628','86979474000208','安乃近注射液','2ml:0.5g×10支/盒','79.63','盒','芜湖康奇','110','101','ANJZSY','2019-03-01 00:00:00','10','','1'), ('629','86979474000209','盐酸帕洛诺司琼(止若)注射液','5ml：0.25mg×1支','50.03','支','正大天晴药业集团股份有限公司','110','101','YSPLNSQ(ZR)ZSY','2019-03-01 00:00:00','10','','1'), ('630','86979474000208','地特胰岛素(诺和平)注射液','300iu/3ml/支','8.22','支','丹麦诺和诺德公司','110','101','DTYDS(NHP)ZSY','2019-03-01 00:00:00','10','','1'), ('631','86979474000208','注射用头孢地嗪钠','0.5g×1支','3.77','支','国药集团鲁亚（山东）制药有限公司','110','101','ZSYTZDZN','2019-03-01 00:00:00','10','','1'), ('632','86979474000209','普瑞巴林胶囊(乐瑞卡)','75mg×8粒/盒','24.39','盒','辉瑞制药有限公司（大连）','114','101','PRBLJN(LRK)','2019-03-01 00:00:00','10','','1'), ('633','86979474000208','肠内营养乳剂TPF(瑞先)','500ml×1瓶','50.81','瓶','华瑞制药有限公司','118','101','CNYYRJTPF(RX)','2019-03-01 00:00:00','10','','1'), ('634','86979474000209','注射用替加环素(泰阁)','50mg×1支','51.59','盒','惠氏制药有限公司','110','101','ZSYTJHS(TG)','2019-03-01 00:00:00','10','','1'), ('635','86979474000208','*肝素钠注射液','2ml:1.25万u×10支/盒','3.11','盒','上海第一生化药业有限公司','110','101','GSNZSY','2019-03-01 00:00:00','10','','1'), ('636','86979474000208','人凝血酶原复合物','200iu×1瓶','1.10','瓶','华兰生物工程股份有限公司','161','101','RNXMYFHW','2019-03-01 00:00:00','10','','1'), ('637','86979474000209','注射用醋酸曲普瑞林(达菲林)','0.1mg×1支','12.45','支','博福-益普生(天津)制药有限公司S','110','101','ZSYCSQPRL(DFL)','2019-03-01 00:00:00','10','','1'), ('638','86979474000208','炒酸枣仁颗粒','0.5g/10g/袋','2.21','袋','江阴天江药业有限公司','115','102','CSZRKL','2019-03-01 00:00:00','10','','1'), ('639','86979474000209','柏子仁颗粒','0.5g/10g/袋','0.82','袋','江阴天江药业有限公司','115','102','BZRKL','2019-03-01 00:00:00','10','','1'), ('640','86979474000208','炒枳壳颗粒(麩炒)','1g/6g/袋','7.73','袋','江阴天江药业有限公司','115','102','CZKKL(C)','2019-03-01 00:00:00','10','','1'), ('641','86979474000208','五味子颗粒(醋)','1g/6g/袋','12.88','袋','江阴天江药业有限公司','115','102','WWZKL(C)','2019-03-01 00:00:00','10','','1'), ('642','86979474000209','山萸肉颗粒(酒)','1.5g/6g/袋','47.70','袋','江阴天江药业有限公司','115','102','SZRKL(J)','2019-03-01 00:00:00','10','','1'), ('643','86979474000208','聚乙二醇干扰素α-2b（佩乐能）','100ug×1支','4.17','支','默沙东制药S','161','101','JYECGRSα-2b（PLN）','2019-03-01 00:00:00','10','','1'), ('644','86979474000209','尿素乳膏','50g:5g×1支','39.93','支','张家港市绮丽日用化学品有限公司','118','101','NSRG','2019-03-01 00:00:00','10','','1'), ('645','86979474000208','草乌','1000mg/g','37.93','克','四川','112','103','CW','2019-03-01 00:00:00','10','','1'), ('646','86979474000208','侧柏叶','1000mg/g','19.25','克','江苏','112','103','CBY','2019-03-01 00:00:00','10','','1'), ('647','86979474000209','紫杉醇脂质体针','30mg×1支','42.67','支','南京绿叶制药有限公司','110','101','ZSCZZTZ','2019-03-01 00:00:00','10','','1'), ('648','86979474000208','氧化汞','100g×1瓶','15.16','瓶','','157','101','YHG','2019-03-01 00:00:00','10','','1'), ('649','86979474000209','海金沙','1000mg/g','56.58','克','广东','112','103','HJS','2019-03-01 00:00:00','10','','1'), ('650','86979474000208','浙桐皮','1000mg/g','0.24','克','','112','103','ZTP','2019-03-01 00:00:00','10','','1'), ('651','86979474000208','蒿本','1000mg/g','19.91','克','','112','103','ZB','2019-03-01 00:00:00','10','','1'), ('652','86979474000209','合欢花','1000mg/g','15.69','克','江苏','112','103','HHH','2019-03-01 00:00:00','10','','1'), ('653','86979474000208','山犁醇','100g×1瓶','47.19','瓶','','157','101','SLC','2019-03-01 00:00:00','10','','1'), ('654','86979474000209','注射用阿糖胞苷(塞得萨)','100mg×1支','13.76','支','辉瑞制药','110','101','ZSYATBZ(SDS)','2019-03-01 00:00:00','10','','1'), ('655','86979474000208','甲磺酸多沙唑嗪缓释片（可多华)','4mg×10片/盒','8.85','盒','辉瑞制药有限公司（大连）','131','101','JHSDSZZHSP（KDH)','2019-03-01 00:00:00','10','','1'), ('656','86979474000208','5%葡萄糖注射液（亚邦软袋）','5%250ml×1袋','5.48','袋','江苏亚邦生缘药业有限公司','110','101','5%PTTZSY（YBRD）','2019-03-01 00:00:00','10','','1'), ('657','86979474000209','蛋白琥珀酸铁口服溶液','15ml:40mg×10瓶/盒','12.54','盒','意大泛马克大药厂','164','101','DBZZSTKFRY','2019-03-01 00:00:00','10','','1'), ('658','86979474000208','天山雪莲','3g/袋','2.70','袋','南京药业股份有限公司药材分公司','112','103','TSXL','2019-03-01 00:00:00','10','','1'), ('659','86979474000209','补骨脂','1000mg/g','50.86','克','江苏','112','103','BGZ','2019-03-01 00:00:00','10','','1'), ('660','86979474000208','注射用吡柔比星(吡喃阿霉素)','10mg×1支','2.35','支','深圳万乐药业有限公司','161','101','ZSYZRBX(ZZAMS)','2019-03-01 00:00:00','10','','1'), ('661','86979474000208','依达拉奉注射液(必存)','5ml:10mg×1支','19.91','支','南京先声东元制药有限公司','110','101','YDLFZSY(BC)','2019-03-01 00:00:00','10','','1'), ('662','86979474000209','黄连','1000mg/g','46.56','克','四川','112','103','HL','2019-03-01 00:00:00','10','','1'), ('663','86979474000208','黄芪','1000mg/g','29.01','克','山西普德药业股份有限公司','112','103','HZ','2019-03-01 00:00:00','10','','1'), ('664','86979474000209','盐酸乙胺丁醇片','0.25g×100片/瓶','61.08','瓶','杭州民生药业有限公司','111','101','YSYADCP','2019-03-01 00:00:00','10','','1'), ('665','86979474000208','缬沙坦氨氯地平片(倍博特)','80/5mg×7片/盒','14.06','盒','诺华制药（西班牙）','111','102','ZSTALDPP(BBT)','2019-03-01 00:00:00','10','','1'), ('666','86979474000208','罗库溴铵注射液(爱可松)','5ml:50mg×1支','29.58','支','欧加农公司，荷兰N.V.ORGANON','110','101','LKZZZSY(AKS)','2019-03-01 00:00:00','10','','1'), ('667','86979474000209','盐酸厄洛替尼片','150mg×7片/盒','0.38','盒','上海罗氏制药有限公司S','111','101','YSELTNP','2019-03-01 00:00:00','10','','1'), ('668','86979474000208','帕米膦酸二钠葡萄糖注射液(仁怡)','250ml:30mg×1袋','29.71','袋','南京正大天晴制药有限公司','110','101','PMZSENPTTZSY(RZ)','2019-03-01 00:00:00','10','','1'), ('669','86979474000209','益气复脉胶囊','0.37g*36粒/盒','13.45','盒','海口奇力制药股份有限公司','114','102','YQFMJN','2019-03-01 00:00:00','10','','1'), ('670','86979474000208','混合糖电解质注射液(新海能)','500ml×1瓶','38.97','瓶','江苏正大丰海制药有限公司','110','101','HHTDJZZSY(XHN)','2019-03-01 00:00:00','10','','1'), ('671','86979474000208','注射用二丁酰环磷腺苷钙','20mg×1瓶','5.72','瓶','上海上药第一生化药业有限公司','110','101','ZSYEDXHLXZG','2019-03-01 00:00:00','10','','1'), ('672','86979474000209','0.9%氯化钠注射液(塑瓶)','4.5g:500ml×1瓶','1.86','瓶','中国大冢制药厂','110','101','0.9%LHNZSY(SP)','2019-03-01 00:00:00','10','','1'), ('673','86979474000208','注射用头孢曲松钠(罗氏芬)','1g×1支','9.60','支','上海罗氏制药有限公司','110','101','ZSYTZQSN(LSF)','2019-03-01 00:00:00','10','','1'), ('674','86979474000209','盐酸右美托咪定注射液','2ml:200ug×1支','15.67','支','江苏恒瑞医药股份有限公司','110','101','YSYMTZDZSY','2019-03-01 00:00:00','10','','1'), ('675','86979474000208','0.9%氯化钠注射液（亚邦软袋）','0.9%250ml×1袋','12.79','袋','江苏亚邦生缘药业有限公司','110','101','0.9%LHNZSY（YBRD）','2019-03-01 00:00:00','10','','1'), ('676','86979474000208','盐酸二甲双胍片','0.5g*36片/盒','1.12','盒','昆山培力药品有限公司','111','101','YSEJSZP','2019-03-01 00:00:00','10','','1'), ('677','86979474000209','利福平胶囊','0.15g*100粒/瓶','5.19','瓶','辅仁药业集团有限公司','114','101','LFPJN','2019-03-01 00:00:00','10','','1'), ('678','86979474000208','妥布霉素滴眼液(托百士)','15mg×1支','21.17','支','比利时 爱尔康','160','101','TBMSDYY(TBS)','2019-03-01 00:00:00','10','','1'), ('679','86979474000209','苍耳子','1000mg/g','2.86','克','江苏','112','103','CEZ','2019-03-01 00:00:00','10','','1'), ('680','86979474000208','红花','1000mg/g','4.81','克','','112','103','HH','2019-03-01 00:00:00','10','','1'), ('681','86979474000208','佩兰','1000mg/g','23.28','克','江苏','112','103','PL','2019-03-01 00:00:00','10','','1'), ('682','86979474000209','蜀羊泉','1000mg/g','0.28','克','浙江','112','103','SYQ','2019-03-01 00:00:00','10','','1'), ('683','86979474000208','炒枳壳','1000mg/g','2.66','克','江苏','112','103','CZK','2019-03-01 00:00:00','10','','1'), ('684','86979474000209','炒枳实','1000mg/g','83.69','克','','112','103','CZS','2019-03-01 00:00:00','10','','1'), ('685','86979474000208','车前草','1000mg/g','8.45','克','','112','103','CQC','2019-03-01 00:00:00','10','','1'), ('686','86979474000208','车前子','1000mg/g','53.18','克','安徽','112','103','CQZ','2019-03-01 00:00:00','10','','1'), ('687','86979474000209','沉香','1000mg/g','23.21','克','','112','103','CX','2019-03-01 00:00:00','10','','1'), ('688','86979474000208','陈胆星','1000mg/g','41.29','克','四川','112','103','CDX','2019-03-01 00:00:00','10','','1'), ('689','86979474000209','陈皮','1000mg/g','9.77','克','江苏','112','103','CP','2019-03-01 00:00:00','10','','1'), ('690','86979474000208','赤芍','1000mg/g','51.18','克','','112','103','CS','2019-03-01 00:00:00','10','','1'), ('691','86979474000208','川贝','1000mg/g','20.44','克','四川','112','103','CB','2019-03-01 00:00:00','10','','1'), ('692','86979474000209','川断','1000mg/g','43.53','克','湖北','112','103','CD','2019-03-01 00:00:00','10','','1'), ('693','86979474000208','花椒','1000mg/g','46.37','克','河北','112','103','HJ','2019-03-01 00:00:00','10','','1'), ('694','86979474000209','滑石粉','1000mg/g','4.11','克','江西','112','103','HSF','2019-03-01 00:00:00','10','','1'), ('695','86979474000208','怀牛夕','1000mg/g','16.16','克','河南','112','103','HNX','2019-03-01 00:00:00','10','','1'), ('696','86979474000208','注射用水溶性维生素(水乐维他)','1支','28.84','瓶','华瑞制药有限公司','161','101','ZSYSRXWSS(SLWT)','2019-03-01 00:00:00','10','','1'), ('697','86979474000209','水杨酸毒扁豆硷','2g×1瓶','0.10','瓶','','157','101','SYSDBDJ','2019-03-01 00:00:00','10','','1'), ('698','86979474000208','水杨酸钠','500g×1瓶','69.52','瓶','','157','101','SYSN','2019-03-01 00:00:00','10','','1'), ('699','86979474000209','阿维A胶囊（方希）','10mg×30粒/盒','1.62','盒','重庆华邦制药有限公司','114','101','AWAJN（FX）','2019-03-01 00:00:00','10','','1'), ('700','86979474000208','银杏叶片','19.2mg×36片/盒','50.32','盒','扬子江药业集团有限公司','111','102','YXYP','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('701','86979474000208','甲磺酸酚妥拉明','1ml:10mg×1支','9.55','支','上海旭东海普药业有限公司','110','101','JHSFTLM','2019-03-01 00:00:00','10','','1'), ('702','86979474000209','甲基橙','25g×1瓶','6.75','瓶','','157','101','JJC','2019-03-01 00:00:00','10','','1'), ('703','86979474000208','甲基红','25g×1瓶','49.51','瓶','','157','101','JJH','2019-03-01 00:00:00','10','','1'), ('704','86979474000209','咪哒唑仑(力月西)注射液','1ml:5mg×1支','20.88','支','徐州恩华药业集团','110','101','ZZZL(LYX)ZSY','2019-03-01 00:00:00','10','','1'), ('705','86979474000208','降钙素(密盖息)鼻喷剂','4400iu:2ml/支','1.88','瓶','诺华制药（瑞士）','122','101','JGS(MGX)BPJ','2019-03-01 00:00:00','10','','1'), ('706','86979474000208','蜜桔香精','1000g×1瓶','0.09','瓶','','157','101','MJXJ','2019-03-01 00:00:00','10','','1'), ('707','86979474000209','卡泊三淳软膏','15g:0.75mg×1支','1.72','支','爱尔兰利奥制药有限公司','121','101','KBSCRG','2019-03-01 00:00:00','10','','1'), ('708','86979474000208','单糖浆','500ml×1瓶','46.69','瓶','广州','157','101','DTJ','2019-03-01 00:00:00','10','','1'), ('709','86979474000209','单硬脂酸甘油酯','100g×1瓶','29.79','瓶','','157','101','DYZSGYZ','2019-03-01 00:00:00','10','','1'), ('710','86979474000208','复方倍他米松注射液(得宝松)','7mg×1支','10.49','支','默沙东制药','110','101','FFBTMSZSY(DBS)','2019-03-01 00:00:00','10','','1'), ('711','86979474000208','注射用丙戊酸钠(德巴金)','400mg×1支','7.40','支','赛诺菲（杭州）制药有限公司','161','101','ZSYBWSN(DBJ)','2019-03-01 00:00:00','10','','1'), ('712','86979474000209','低分子肝素钙注射液(博璞青)','0.4ml4000u×1支','10.91','支','天津红日药业股份有限公司','110','101','DFZGSGZSY(BZQ)','2019-03-01 00:00:00','10','','1'), ('713','86979474000208','碘海醇300注射液(欧乃派克)','300mg×100ml/瓶','5.10','瓶','通用电气药业 （上海）有限公司','110','101','DHC300ZSY(ONPK)','2019-03-01 00:00:00','10','','1'), ('714','86979474000209','维生素C泡腾片(力度伸)','1g*10片/盒','15.83','盒','上海罗氏制药有限公司','111','101','WSSCPTP(LDS)','2019-03-01 00:00:00','10','','1'), ('715','86979474000208','乳酸','500ml×1瓶','56.02','瓶','江苏无锡鸿声化工厂','157','101','RS','2019-03-01 00:00:00','10','','1'), ('716','86979474000208','乳酸钠','500g×1瓶','0.32','瓶','','157','101','RSN','2019-03-01 00:00:00','10','','1'), ('717','86979474000209','乳酸钠 L1375','500ml×1瓶','33.94','瓶','','157','101','RSN L1375','2019-03-01 00:00:00','10','','1'), ('718','86979474000208','夏枯草','1000mg/g','78.12','克','江苏','112','103','XKC','2019-03-01 00:00:00','10','','1'), ('719','86979474000209','乳酸钠林格注射液','500ml×1瓶','45.73','瓶','华仁药业（日照）','110','101','RSNLGZSY','2019-03-01 00:00:00','10','','1'), ('720','86979474000208','黑附片颗粒','0.5g/3g/袋','5.52','袋','江阴天江药业有限公司','115','102','HFPKL','2019-03-01 00:00:00','10','','1'), ('721','86979474000208','桔梗颗粒','1.5g/6g/袋','5.89','袋','江阴天江药业有限公司','115','102','JGKL','2019-03-01 00:00:00','10','','1'), ('722','86979474000209','木香颗粒','2g/6g/袋','10.78','袋','江阴天江药业有限公司','115','102','MXKL','2019-03-01 00:00:00','10','','1'), ('723','86979474000208','前胡颗粒','1.5g/10g袋','9.01','袋','江阴天江药业有限公司','115','102','QHKL','2019-03-01 00:00:00','10','','1'), ('724','86979474000209','三磷酸腺苷注射液(ATP)','2ml:20mg×10支/盒','8.04','盒','芜湖康奇制药','110','101','SLSXZZSY(ATP)','2019-03-01 00:00:00','10','','1'), ('725','86979474000208','注射用顺铂','20mg×1支','13.93','支','齐鲁制药有限公司','110','101','ZSYSB','2019-03-01 00:00:00','10','','1'), ('726','86979474000208','卵磷脂(BR)','10g×1瓶','43.24','瓶','','157','101','LLZ(BR)','2019-03-01 00:00:00','10','','1'), ('727','86979474000209','蜂房子（露蜂房）','1000mg/g','3.28','克',' 江苏','112','103','FFZ（LFF）','2019-03-01 00:00:00','10','','1'), ('728','86979474000208','凤尾草','1000mg/g','18.10','克',' 福建','112','103','FWC','2019-03-01 00:00:00','10','','1'), ('729','86979474000209','佛手片','1000mg/g','8.70','克',' 广东','112','103','FSP','2019-03-01 00:00:00','10','','1'), ('730','86979474000208','茯苓','1000mg/g','15.28','克','安徽','112','103','ZZ','2019-03-01 00:00:00','10','','1'), ('731','86979474000208','茯神','1000mg/g','21.56','克','安徽','112','103','ZS','2019-03-01 00:00:00','10','','1'), ('732','86979474000209','盐酸地芬尼多片(眩晕停)','25mg×30片/瓶','22.91','瓶','湖南千金湘江药业股份有限公司','111','101','YSDFNDP(眩YT)','2019-03-01 00:00:00','10','','1'), ('733','86979474000208','甲磺酸伊马替尼片(格列卫)','0.1g×60片/盒','9.00','盒','诺华制药（瑞士）有限公司S','117','101','JHSYMTNP(GLW)','2019-03-01 00:00:00','10','','1'), ('734','86979474000209','阿那曲唑片(瑞宁得)','1mg×14片/盒','10.54','盒','阿斯利康制药有限公司S','111','101','ANQZP(RND)','2019-03-01 00:00:00','10','','1'), ('735','86979474000208','静注人免疫球蛋白(上海)','50ml:2.5g×1瓶','13.37','瓶','上海生物制品研究所','110','101','JZRMYQDB(SH)','2019-03-01 00:00:00','10','','1'), ('736','86979474000208','明胶','500g×1包','9.01','包','','157','101','MJ','2019-03-01 00:00:00','10','','1'), ('737','86979474000209','咪喹莫特(明欣利迪)乳膏','262.5mg×4袋/盒','14.70','盒','四川明欣药业有限公司','118','101','ZZMT(MXLD)RG','2019-03-01 00:00:00','10','','1'), ('738','86979474000208','茉莉香精','1000g×1瓶','6.29','瓶','','157','101','ZLXJ','2019-03-01 00:00:00','10','','1'), ('739','86979474000209','木通','1000mg/g','16.39','克','','112','103','MT','2019-03-01 00:00:00','10','','1'), ('740','86979474000208','钠石灰','500g×1瓶','14.50','瓶','','157','101','NSH','2019-03-01 00:00:00','10','','1'), ('741','86979474000208','胞磷胆碱注射液(尼可林)','2ml:0.25g×10支/盒','2.21','盒','齐鲁制药有限公司','110','101','BLDJZSY(NKL)','2019-03-01 00:00:00','10','','1'), ('742','86979474000209','盐酸达克罗宁胶浆（达己苏）','10ml:0.1g×1支','16.88','支','扬子江药业集团有限公司','128','101','YSDKLNJJ（DJS）','2019-03-01 00:00:00','10','','1'), ('743','86979474000208','枸地氯雷他定片(贝雪)','8.8mg×6片/盒','6.87','盒','扬子江药业集团(广州海瑞药业)','111','101','ZDLLTDP(BX)','2019-03-01 00:00:00','10','','1'), ('744','86979474000209','氟伐他汀钠缓释片(来适可)','80mg×7片/盒','7.43','盒','诺华制药（北京）有限公司','131','101','FFTTNHSP(LSK)','2019-03-01 00:00:00','10','','1'), ('745','86979474000208','0.9%氯化钠注射液（百特）','100ml×1袋','0.28','袋','上海百特医疗用品有限公司','110','101','0.9%LHNZSY（BT）','2019-03-01 00:00:00','10','','1'), ('746','86979474000208','恩他卡朋片（珂丹）','0.2g×30片/盒','38.56','盒','诺华制药（瑞士）有限公司S','111','101','ETKPP（ZD）','2019-03-01 00:00:00','10','','1'), ('747','86979474000209','硝酸銀','100g×1瓶','4.20','瓶','','157','101','XSZ','2019-03-01 00:00:00','10','','1'), ('748','86979474000208','咽立爽口含滴丸','1g *1盒','31.56','盒','贵州黄果树立爽药业有限公司','163','102','YLSKHDW','2019-03-01 00:00:00','10','','1'), ('749','86979474000209','盐酸(AR)','2500ml×1瓶','5.99','瓶','','157','101','YS(AR)','2019-03-01 00:00:00','10','','1'), ('750','86979474000208','盐酸','500ml×1瓶','8.97','瓶','上海久亿','157','101','YS','2019-03-01 00:00:00','10','','1'), ('751','86979474000208','盐酸苯肼','25g×1瓶','44.27','瓶','','157','101','YSBZ','2019-03-01 00:00:00','10','','1'), ('752','86979474000209','富马酸比索洛尔(康忻)片','5mg×10片/盒','22.43','盒','默克雪兰诺（德国）有限公司','111','101','FMSBSLE(KX)P','2019-03-01 00:00:00','10','','1'), ('753','86979474000208','盐酸丙卡特罗片(美普清)','25ug×10片/盒','18.22','盒','大冢（浙江）制药有限公司','111','101','YSBKTLP(MPQ)','2019-03-01 00:00:00','10','','1'), ('754','86979474000209','红景天','1000mg/g','21.05','克','江苏','112','103','HJT','2019-03-01 00:00:00','10','','1'), ('755','86979474000208','清水半夏','1000mg/g','31.67','克','','112','103','QSBX','2019-03-01 00:00:00','10','','1'), ('756','86979474000208','注射用右雷佐生（奥诺先）','250mg×1支','72.83','支','江苏奥赛康药业股份有限公司','110','101','ZSYYLZS（ANX）','2019-03-01 00:00:00','10','','1'), ('757','86979474000209','鲜石斛','10g/袋','5.29','袋','南京药业','112','103','XSH','2019-03-01 00:00:00','10','','1'), ('758','86979474000208','海藻','1000mg/g','2.84','克','南京药业有限药材公司','112','103','HZ','2019-03-01 00:00:00','10','','1'), ('759','86979474000209','昆布','1000mg/g','58.58','克','南京药业','112','103','KB','2019-03-01 00:00:00','10','','1'), ('760','86979474000208','氨酚羟考酮片(泰勒宁)','325mg/5mg×10片/盒','14.03','盒','美国马林克罗制药','111','101','AFQKTP(TLN)','2019-03-01 00:00:00','10','','1'), ('761','86979474000208','环孢素注射液(山地明)','5ml:250mg×10支/盒','3.84','盒','诺华制药（瑞士）','110','101','HZSZSY(SDM)','2019-03-01 00:00:00','10','','1'), ('762','86979474000209','注射用昂丹司琼(奥一麦)','4mg×1支','12.06','支','江苏奥赛康药业股份有限公司','161','101','ZSYADSQ(AYM)','2019-03-01 00:00:00','10','','1'), ('763','86979474000208','注射用盐酸瑞芬太尼','1mg×1支','28.08','支','宜昌人福药业有限责任公司','161','101','ZSYYSRFTN','2019-03-01 00:00:00','10','','1'), ('764','86979474000209','甲醛','500ml×1瓶','1.84','瓶','上海久亿','157','101','JQ','2019-03-01 00:00:00','10','','1'), ('765','86979474000208','BG依折麦布片(益适纯)','10mg×5片/盒','73.95','盒','默沙东制药','111','101','BGYZMBP(YSC)','2019-03-01 00:00:00','10','','1'), ('766','86979474000208','产复康颗粒','5g*15袋/盒','16.98','盒','深圳三顺制药有限公司','115','102','CFKKL','2019-03-01 00:00:00','10','','1'), ('767','86979474000209','鹿血晶','1g*6瓶/盒','2.78','盒','苏州市红冠庄国药饮片有限公司','116','101','LXJ','2019-03-01 00:00:00','10','','1'), ('768','86979474000208','吴茱萸颗粒(制)','0.5g/3g/袋','19.33','袋','江阴天江药业有限公司','115','102','WZZKL(Z)','2019-03-01 00:00:00','10','','1'), ('769','86979474000209','小茴香颗粒(盐)','0.5g/6g/袋','11.06','袋','江阴天江药业有限公司','115','102','XZXKL(Y)','2019-03-01 00:00:00','10','','1'), ('770','86979474000208','紫河车粉颗粒','3g/3/g/袋','3.32','袋','江阴天江药业有限公司','115','102','ZHCFKL','2019-03-01 00:00:00','10','','1'), ('771','86979474000208','龟甲颗粒(醋)','0.5g/10g/袋','13.15','袋','江阴天江药业有限公司','115','102','GJKL(C)','2019-03-01 00:00:00','10','','1'), ('772','86979474000209','阿昔洛韦乳膏(无环鸟甘)','10g:300mg×1支','58.88','支','湖北成田制药有限公司','121','101','AXLWRG(WHNG)','2019-03-01 00:00:00','10','','1'), ('773','86979474000208','乌賊骨颗粒','0.5g/10g/袋','24.86','袋','江阴天江药业有限公司','115','102','WZGKL','2019-03-01 00:00:00','10','','1'), ('774','86979474000209','蜈蚣颗粒','0.5g/1g/袋','0.27','袋','江阴天江药业有限公司','115','102','ZZKL','2019-03-01 00:00:00','10','','1'), ('775','86979474000208','龙骨颗粒','0.5g/30袋','1.55','袋','江阴天江药业有限公司','115','102','LGKL','2019-03-01 00:00:00','10','','1'), ('776','86979474000208','熊去氧胆酸胶囊(优思弗)','250mg×25粒/盒','26.32','盒','LOSAN PHARMA GMBH','114','102','XQYDSJN(YSF)','2019-03-01 00:00:00','10','','1'), ('777','86979474000209','叶酸片','5mg×100片/瓶','44.93','瓶','常州制药厂有限公司','111','101','YSP','2019-03-01 00:00:00','10','','1'), ('778','86979474000208','硫酸氯吡格雷片(波立维）','75mg×7片/盒','46.65','盒','赛诺菲（杭州）制药有限公司','111','101','LSLZGLP(BLW）','2019-03-01 00:00:00','10','','1'), ('779','86979474000209','替吉奥胶囊(维康达)','25mg×36粒/盒','8.75','盒','山东新时代药业有限公司','114','101','TJAJN(WKD)','2019-03-01 00:00:00','10','','1'), ('780','86979474000208','注射用复合辅酶(鑫贝科)','200u×1瓶','40.61','瓶','北京双鹭药业股份有限公司','161','101','ZSYFHFM(XBK)','2019-03-01 00:00:00','10','','1'), ('781','86979474000208','羟糖甘滴眼液(新泪然)','5ml×1支','22.81','支','爱尔康大药厂','160','101','QTGDYY(XLR)','2019-03-01 00:00:00','10','','1'), ('782','86979474000209','BG瑞舒伐他汀钙(托妥）片','10mg×7片/盒','2.97','盒','南京正大天晴制药有限公司','111','101','BGRSFTTG(TT）P','2019-03-01 00:00:00','10','','1'), ('783','86979474000208','夫西地酸乳膏（立思丁）','15g×1支','59.49','支','爱尔兰利奥制药有限公司','118','101','FXDSRG（LSD）','2019-03-01 00:00:00','10','','1'), ('784','86979474000209','姜半夏颗粒','0.5g/6g/袋','56.25','袋','江阴天江药业有限公司','115','102','JBXKL','2019-03-01 00:00:00','10','','1'), ('785','86979474000208','黄芪颗粒','1.5g/10g/袋','61.59','袋','','115','102','HZKL','2019-03-01 00:00:00','10','','1'), ('786','86979474000208','赤芍颗粒','1.5g/10g/袋','61.71','袋','江阴天江药业有限公司','115','102','CSKL','2019-03-01 00:00:00','10','','1'), ('787','86979474000209','川断颗粒','2g/10g/袋','2.61','袋','江阴天江药业有限公司','115','102','CDKL','2019-03-01 00:00:00','10','','1'), ('788','86979474000208','阿法骨化醇软胶囊（阿法迪三）','0.25ug×20粒/盒','0.68','盒','昆明贝克诺顿制药有限公司','114','101','AFGHCRJN（AFDS）','2019-03-01 00:00:00','10','','1'), ('789','86979474000209','黄芩','1000mg/g','19.23','克','河北','112','103','HZ','2019-03-01 00:00:00','10','','1'), ('790','86979474000208','黄药脂','1000mg/g','23.77','克','','112','103','HYZ','2019-03-01 00:00:00','10','','1'), ('791','86979474000208','鸡骨草','1000mg/g','7.96','克','广西','112','103','JGC','2019-03-01 00:00:00','10','','1'), ('792','86979474000209','鸡内金','1000mg/g','9.25','克','江苏','112','103','JNJ','2019-03-01 00:00:00','10','','1'), ('793','86979474000208','鸡血藤','1000mg/g','11.71','克','广西','112','103','JXT','2019-03-01 00:00:00','10','','1'), ('794','86979474000209','急性子','1000mg/g','4.37','克','','112','103','JXZ','2019-03-01 00:00:00','10','','1'), ('795','86979474000208','姜半夏','1000mg/g','5.08','克','四川','112','103','JBX','2019-03-01 00:00:00','10','','1'), ('796','86979474000208','姜黄','1000mg/g','0.10','克','','112','103','JH','2019-03-01 00:00:00','10','','1'), ('797','86979474000209','链霉蛋白酶颗粒','20000单位×1袋/盒','20.58','盒','北京泰德制药股份有限公司','115','102','LMDBMKL','2019-03-01 00:00:00','10','','1'), ('798','86979474000208','枸橼酸莫沙必利分散片（新络纳）','5mg×20片/盒','37.75','盒','成都康弘药业集团股份有限公司','111','102','ZZSMSBLFSP（XLN）','2019-03-01 00:00:00','10','','1'), ('799','86979474000209','双歧杆菌(培菲康)三联活菌胶囊','210mg×36片/盒','40.91','盒','上海信谊药厂有限公司','114','101','SQGJ(PFK)SLHJJN','2019-03-01 00:00:00','10','','1'), ('800','86979474000208','酚麻美敏感冒片(泰诺)','325mg×10片/盒','0.17','盒','上海强生制药有限公司','111','101','FMMMGMP(TN)','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('801','86979474000208','痰热清注射液','10ml×1支','57.77','支','上海凯宝药业','110','101','TRQZSY','2019-03-01 00:00:00','10','','1'), ('802','86979474000209','普拉洛芬滴眼液（普南扑灵）','5ml×1支','46.23','支','日本千寿制药株式会社','160','101','PLLFDYY（PNPL）','2019-03-01 00:00:00','10','','1'), ('803','86979474000208','氨溴特罗口服液（易坦静）','100ml×1瓶','65.54','瓶','北京韩美药品有限公司','164','101','AZTLKFY（YTJ）','2019-03-01 00:00:00','10','','1'), ('804','86979474000209','注射用尿促性素','75iu×1支(附2ml氯化钠注射液)','1.00','支','丽珠集团丽宝','110','101','ZSYNCXS','2019-03-01 00:00:00','10','','1'), ('805','86979474000208','金霉素眼膏','2g×1支','0.86','支','南京白敬宇制药有限责任公司','132','101','JMSYG','2019-03-01 00:00:00','10','','1'), ('806','86979474000208','金钱白花蛇','1条','10.88','条','广东','112','103','JQBHS','2019-03-01 00:00:00','10','','1'), ('807','86979474000209','金星消毒液','460ml×1瓶','93.11','瓶','南京江南消毒剂厂','157','101','JXXDY','2019-03-01 00:00:00','10','','1'), ('808','86979474000208','养血清脑颗粒','4g*15袋/盒','3.30','盒','天士力制药集团股份有限公司','115','102','YXQNKL','2019-03-01 00:00:00','10','','1'), ('809','86979474000209','依托考昔片(安康信)','60mg×5片/盒','0.19','盒','默沙东制药','111','101','YTKXP(AKX)','2019-03-01 00:00:00','10','','1'), ('810','86979474000208','桂枝颗粒','0.5g×6/g袋','17.98','袋','江阴天江药业有限公司','115','102','GZKL','2019-03-01 00:00:00','10','','1'), ('811','86979474000208','薄荷颗粒','0.5g/6g/袋','66.61','袋','江阴天江药业有限公司','115','102','BHKL','2019-03-01 00:00:00','10','','1'), ('812','86979474000209','细辛颗粒','0.5g/3g/袋','5.87','袋','江阴天江药业有限公司','115','102','XXKL','2019-03-01 00:00:00','10','','1'), ('813','86979474000208','麻黄颗粒','0.5g/6g/袋','50.71','袋','江阴天江药业有限公司','115','102','MHKL','2019-03-01 00:00:00','10','','1'), ('814','86979474000209','夏枯草颗粒','0.5g/10g/袋','0.61','袋','江阴天江药业有限公司','115','102','XKCKL','2019-03-01 00:00:00','10','','1'), ('815','86979474000208','淫羊藿颗粒','0.5g/10g/袋','1.00','袋','江阴天江药业有限公司','115','102','YYZKL','2019-03-01 00:00:00','10','','1'), ('816','86979474000208','荷叶颗粒','0.5g/10g/袋','53.41','袋','','115','102','HYKL','2019-03-01 00:00:00','10','','1'), ('817','86979474000209','桑叶颗粒','1g/10g/袋','15.25','袋','江阴天江药业有限公司','115','102','SYKL','2019-03-01 00:00:00','10','','1'), ('818','86979474000208','丹皮颗粒','1g/6g/袋','2.80','袋','','115','102','DPKL','2019-03-01 00:00:00','10','','1'), ('819','86979474000209','肉桂颗粒','0.5g/3g/袋','11.41','袋','江阴天江药业有限公司','115','102','RGKL','2019-03-01 00:00:00','10','','1'), ('820','86979474000208','姜厚扑颗粒','0.5g/3g/袋','32.68','袋','江阴天江药业有限公司','115','102','JHPKL','2019-03-01 00:00:00','10','','1'), ('821','86979474000208','盐酸利多卡因注射液(塑瓶)','5ml:0.1g×1支','37.88','支','中国大冢制药有限公司','110','101','YSLDKYZSY(SP)','2019-03-01 00:00:00','10','','1'), ('822','86979474000209','酮咯酸氨丁三醇注射液','1ml:30mg×1支','6.10','支','山东新时代药业有限公司','110','101','TKSADSCZSY','2019-03-01 00:00:00','10','','1'), ('823','86979474000208','炒僵蚕','1000mg/g','9.41','克','江苏','112','103','CJC','2019-03-01 00:00:00','10','','1'), ('824','86979474000209','焦山楂','1000mg/g','57.46','克','','112','103','JSZ','2019-03-01 00:00:00','10','','1'), ('825','86979474000208','焦山枝','1000mg/g','2.58','克','江苏','112','103','JSZ','2019-03-01 00:00:00','10','','1'), ('826','86979474000208','金荞麦','1000mg/g','75.14','克',' 江苏','112','103','JZM','2019-03-01 00:00:00','10','','1'), ('827','86979474000209','金银花','1000mg/g','0.80','克','山东','112','103','JYH','2019-03-01 00:00:00','10','','1'), ('828','86979474000208','金樱子','1000mg/g','2.13','克','江苏','112','103','JYZ','2019-03-01 00:00:00','10','','1'), ('829','86979474000209','荆芥','1000mg/g','7.39','克','江苏','112','103','JJ','2019-03-01 00:00:00','10','','1'), ('830','86979474000208','氢氯噻嗪片(双氢克尿塞）','25mg×100片/瓶','55.04','瓶','江苏方强制药厂','111','101','QLZZP(SQKNS）','2019-03-01 00:00:00','10','','1'), ('831','86979474000208','水杨酸','250g×1瓶','7.82','瓶','','157','101','SYS','2019-03-01 00:00:00','10','','1'), ('832','86979474000209','司班60','500g×1瓶','2.86','瓶','','157','101','SB60','2019-03-01 00:00:00','10','','1'), ('833','86979474000208','苏木色素','10g×1瓶','5.58','瓶','','157','101','SMSS','2019-03-01 00:00:00','10','','1'), ('834','86979474000209','静注人免疫球蛋白(四川)','50ml:2.5g×1瓶','22.93','瓶','四川远大蜀阳药业有限公司','110','101','JZRMYQDB(SC)','2019-03-01 00:00:00','10','','1'), ('835','86979474000208','阿加曲班注射液(达贝)','20ml：10mg×1支','6.98','支','天津药物研究院药业有限责任公司','110','101','AJQBZSY(DB)','2019-03-01 00:00:00','10','','1'), ('836','86979474000208','洗得宝牌手消毒凝胶','500ml×1瓶','1.75','瓶','北京洗得宝消毒制品有限公司一分','120','101','XDBPSXDNJ','2019-03-01 00:00:00','10','','1'), ('837','86979474000209','海螵蛸','1000mg/g','94.44','克','浙江','112','103','HpZ','2019-03-01 00:00:00','10','','1'), ('838','86979474000208','大枫子','1000mg/g','10.67','克','','112','103','DFZ','2019-03-01 00:00:00','10','','1'), ('839','86979474000209','木香','1000mg/g','1.11','克','进口','112','103','MX','2019-03-01 00:00:00','10','','1'), ('840','86979474000208','枸椽酸托瑞米芬片（法乐通）','60mg×30片/盒','12.44','盒','芬兰奥立安药厂S','111','101','ZCSTRMFP（FLT）','2019-03-01 00:00:00','10','','1'), ('841','86979474000208','胃乐宁薄膜衣片','0.54g×18片/盒','37.07','瓶','南京老山药业股份有限公司','117','101','WLNBMYP','2019-03-01 00:00:00','10','','1'), ('842','86979474000209','注射用氨曲南(锋迈欣)单酰氨菌素','500mg×1支','17.87','支','上海上药新亚药业有限公司','110','101','ZSYAQN(FMX)DXAJS','2019-03-01 00:00:00','10','','1'), ('843','86979474000208','血必净注射液','10ml×1支','6.10','支','天津红日药业股份有限公司','110','101','XBJZSY','2019-03-01 00:00:00','10','','1'), ('844','86979474000209','灯盏细辛注射液','10ml:45mg×2支/盒','54.26','盒','云南生物谷药业股份有限公司','110','101','DZXXZSY','2019-03-01 00:00:00','10','','1'), ('845','86979474000208','多西他赛注射液(泰索帝)','20mg×1支','42.77','支','赛诺菲（杭州）制药有限公司','110','101','DXTSZSY(TSD)','2019-03-01 00:00:00','10','','1'), ('846','86979474000208','*长春西汀氯化钠注射液(杰力纾)','100ml:10mg×1瓶','30.11','瓶','沈阳志鹰制药厂','110','101','CCXTLHNZSY(JLZ)','2019-03-01 00:00:00','10','','1'), ('847','86979474000209','苦碟子注射液','20ml×1支','3.86','支','沈阳双鼎制药有限公司','110','101','KDZZSY','2019-03-01 00:00:00','10','','1'), ('848','86979474000208','酚磺乙胺注射液','2ml:0.5g×10支/盒','6.25','盒','天津金耀药业有限公司','110','101','FHYAZSY','2019-03-01 00:00:00','10','','1'), ('849','86979474000209','普济痔疮栓','1.3g*10粒/盒','37.94','盒','山东新时代药业有限公司','125','101','PJZCS','2019-03-01 00:00:00','10','','1'), ('850','86979474000208','草酸艾司西酞普兰片(来士普）','10mg×7片/盒','47.26','盒','西安杨森制药有限公司','111','101','CSASXTPLP(LSP）','2019-03-01 00:00:00','10','','1'), ('851','86979474000208','氢化泼尼松注射液','2ml:10mg×1支','53.97','支','西安利君制药有限公司','110','101','QHPNSZSY','2019-03-01 00:00:00','10','','1'), ('852','86979474000209','重酒石酸去甲肾上腺素注射液','1ml:2mg×2支/盒','64.49','盒','上海禾丰制药有限公司','110','101','ZJSSQJSSXSZSY','2019-03-01 00:00:00','10','','1'), ('853','86979474000208','赖诺普利胶囊(帝益洛)','10mg×14粒/盒','8.20','盒','江苏天士力帝益药业有限公司','114','101','LNPLJN(DYL)','2019-03-01 00:00:00','10','','1'), ('854','86979474000209','精蛋白重组(重和林)人胰岛素注射液(30/70)','300iu/3ml×1支','12.45','支','拜耳医药保健有限公司','110','101','JDBZZ(ZHL)RYDSZSY(30/70)','2019-03-01 00:00:00','10','','1'), ('855','86979474000208','奥拉西坦注射液(倍清星)','5ml:1g×1支','39.23','支','广东世信药业有限公司','110','101','ALXTZSY(BQX)','2019-03-01 00:00:00','10','','1'), ('856','86979474000208','氯硝西泮片(氯硝安定)','2mg×20片/盒','0.92','盒','徐州恩华药业集团','111','101','LXXZP(LXAD)','2019-03-01 00:00:00','10','','1'), ('857','86979474000209','碳酸钙D3片（钙尔奇D）','0.6g×60片/瓶','70.19','瓶','惠氏制药有限公司','114','101','TSGD3P（GEQD）','2019-03-01 00:00:00','10','','1'), ('858','86979474000208','他克莫司胶囊（普乐可复）','1mg×50粒/盒','12.32','盒','安斯泰来制药(中国)有限公司','114','101','TKMSJN（PLKF）','2019-03-01 00:00:00','10','','1'), ('859','86979474000209','炙南星','1000mg/g','7.07','克','四川','112','103','ZNX','2019-03-01 00:00:00','10','','1'), ('860','86979474000208','肿节风','1000mg/g','38.61','克','','112','103','ZJF','2019-03-01 00:00:00','10','','1'), ('861','86979474000208','苎麻根','1000mg/g','21.53','克','江苏','112','103','ZMG','2019-03-01 00:00:00','10','','1'), ('862','86979474000209','自然酮','1000mg/g','25.97','克','','112','103','ZRT','2019-03-01 00:00:00','10','','1'), ('863','86979474000208','雷公藤','1000mg/g','31.12','克','江苏','112','103','LGT','2019-03-01 00:00:00','10','','1'), ('864','86979474000209','樟脑','1000mg/g','6.81','克','江西','112','103','ZN','2019-03-01 00:00:00','10','','1'), ('865','86979474000208','全蝎颗粒','0.5g/3g/袋','0.69','袋','江阴天江药业有限公司','115','102','QXKL','2019-03-01 00:00:00','10','','1'), ('866','86979474000208','焦苍术','1000mg/g','20.96','克','河北','112','103','JCS','2019-03-01 00:00:00','10','','1'), ('867','86979474000209','宫瘤消(步长）胶囊','0.5g*60粒/盒','6.94','盒','山东步长神州制药有限公司','114','101','GLX(BC）JN','2019-03-01 00:00:00','10','','1'), ('868','86979474000208','强力天麻杜仲胶囊','0.4g*48粒/盒','6.41','盒','贵州三力制药股份有限公司','114','102','QLTMDZJN','2019-03-01 00:00:00','10','','1'), ('869','86979474000209','健儿清解液','1ml*120mL/瓶','13.80','瓶','国药控股深圳中药有限公司','158','101','JEQJY','2019-03-01 00:00:00','10','','1'), ('870','86979474000208','替莫唑胺胶囊(蒂清)','50mg*7粒/盒','7.70','盒','江苏天士力帝益药业有限公司S','114','101','TMZAJN(DQ)','2019-03-01 00:00:00','10','','1'), ('871','86979474000208','枸杞子颗粒','4g/10g/袋','31.92','袋','江阴天江药业有限公司','115','102','ZZZKL','2019-03-01 00:00:00','10','','1'), ('872','86979474000209','花椒颗粒','0.5g/6g/袋','38.62','袋','江阴天江药业有限公司','115','102','HJKL','2019-03-01 00:00:00','10','','1'), ('873','86979474000208','注射用硝普钠','50mg×5支/盒','3.05','盒','湖南科伦制药有限公司','161','101','ZSYXPN','2019-03-01 00:00:00','10','','1'), ('874','86979474000209','双氯芬酸钠缓释片(扶他林)','75mg×10片/盒','1.43','盒','诺华制药（北京）有限公司','111','101','SLFSNHSP(FTL)','2019-03-01 00:00:00','10','','1'), ('875','86979474000208','氟哌啶醇注射液','1ml:5mg×5支/盒','89.01','盒','湖南洞庭药业股份有限公司','110','101','FZZCZSY','2019-03-01 00:00:00','10','','1'), ('876','86979474000208','氯化镁 M2670','100g×1瓶','33.92','瓶','','157','101','LHM M2670','2019-03-01 00:00:00','10','','1'), ('877','86979474000209','0.9%氯化钠注射液(亚邦软袋)','500ml*1袋','65.90','袋','江苏亚邦生缘药业有限公司','110','101','0.9%LHNZSY(YBRD)','2019-03-01 00:00:00','10','','1'), ('878','86979474000208','0.9%氯化钠注射液(百特)','1000ml×1袋','69.28','袋','上海百特医疗用品有限公司','110','101','0.9%LHNZSY(BT)','2019-03-01 00:00:00','10','','1'), ('879','86979474000209','四硼酸钠','500g×1瓶','0.05','瓶','','157','101','SPSN','2019-03-01 00:00:00','10','','1'), ('880','86979474000208','香菇多糖注射液','2ml:1mg×1支','27.15','支','金陵药业 福州梅峰制药厂','110','101','XGDTZSY','2019-03-01 00:00:00','10','','1'), ('881','86979474000208','香精','500g×1瓶','30.69','瓶','南京丽源','157','101','XJ','2019-03-01 00:00:00','10','','1'), ('882','86979474000209','浓氨水','500ml×1瓶','10.75','瓶','','157','101','NAS','2019-03-01 00:00:00','10','','1'), ('883','86979474000208','诺迪康胶囊','0.28g*20粒/盒','5.83','盒','西藏诺迪康药业股份有限公司','114','101','NDKJN','2019-03-01 00:00:00','10','','1'), ('884','86979474000209','草果','1000mg/g','8.41','克','','112','103','CG','2019-03-01 00:00:00','10','','1'), ('885','86979474000208','单甘酯','100g×1瓶','35.31','瓶','','157','101','DGZ','2019-03-01 00:00:00','10','','1'), ('886','86979474000208','茯苓皮','1000mg/g','12.32','克','广西','112','103','ZZP','2019-03-01 00:00:00','10','','1'), ('887','86979474000209','地佐辛注射液','1ml:5mg×1支','79.28','支','扬子江药业集团有限公司','110','101','DZXZSY','2019-03-01 00:00:00','10','','1'), ('888','86979474000208','复方利多卡因乳膏','10g×1支','6.03','支','北京紫光制药有限公司','121','101','FFLDKYRG','2019-03-01 00:00:00','10','','1'), ('889','86979474000209','垂体后叶注射液','1ml:6iu×10支/盒','43.20','盒','南京新百药业有限公司','110','101','CTHYZSY','2019-03-01 00:00:00','10','','1'), ('890','86979474000208','BG注射用头孢西丁钠(海西丁)','2g×1瓶','62.89','瓶','海口市制药厂有限公司','110','101','BGZSYTZXDN(HXD)','2019-03-01 00:00:00','10','','1'), ('891','86979474000208','注射用特利加压素','1mg×1支','1.82','支','深圳翰宇药业股份有限公司S','161','101','ZSYTLJYS','2019-03-01 00:00:00','10','','1'), ('892','86979474000209','非洛地平缓释片(波依定)','5mg×10片/盒','14.12','盒','阿斯利康制药有限公司','111','101','FLDPHSP(BYD)','2019-03-01 00:00:00','10','','1'), ('893','86979474000208','碳酸鈉','500g×1瓶','4.23','瓶','','157','101','TSZ','2019-03-01 00:00:00','10','','1'), ('894','86979474000209','碳酸氢钠注射液(塑瓶)','5%250ml×1瓶','22.14','瓶','回音必集团(江西)东亚制药有限公司','110','101','TSQNZSY(SP)','2019-03-01 00:00:00','10','','1'), ('895','86979474000208','鞣酸','500g×1瓶','8.76','瓶','温州海鹤药业有限公司','157','101','RS','2019-03-01 00:00:00','10','','1'), ('896','86979474000208','氧氟沙星(迪可罗)眼膏','3.5g/10.5mg×1支','0.66','支','沈阳兴齐制药有限责任公司','132','101','YFSX(DKL)YG','2019-03-01 00:00:00','10','','1'), ('897','86979474000209','复方α-酮酸片(开同)','630mg×100片/盒','6.31','盒','费森尤斯卡比（北京）医药有限公司','111','101','FFα-TSP(KT)','2019-03-01 00:00:00','10','','1'), ('898','86979474000208','尼麦角林胶囊(凯尔)','30mg×10片/盒','77.10','盒','海南通用三洋药业有限公司','114','101','NMJLJN(KE)','2019-03-01 00:00:00','10','','1'), ('899','86979474000209','LB硫普罗宁肠溶片(凯西莱)','0.1g×12片/盒','14.43','盒','河南省新谊药业有限公司','133','101','LBLPLNCRP(KXL)','2019-03-01 00:00:00','10','','1'), ('900','86979474000208','鸦旦子','1000mg/g','67.47','克','','112','103','YDZ','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('901','86979474000208','夜交藤','1000mg/g','75.74','克','江苏','112','103','YJT','2019-03-01 00:00:00','10','','1'), ('902','86979474000209','益母草','1000mg/g','10.00','克','江苏','112','103','YMC','2019-03-01 00:00:00','10','','1'), ('903','86979474000208','狗脊','1000mg/g','9.62','克',' 四川','112','103','GJ','2019-03-01 00:00:00','10','','1'), ('904','86979474000209','枸杞子','1000mg/g','9.24','克','宁夏','112','103','ZZZ','2019-03-01 00:00:00','10','','1'), ('905','86979474000208','官桂','1000mg/g','15.89','克','','112','103','GG','2019-03-01 00:00:00','10','','1'), ('906','86979474000208','贯众炭','1000mg/g','0.58','克','江苏','112','103','GZT','2019-03-01 00:00:00','10','','1'), ('907','86979474000209','桂枝','1000mg/g','1.83','克','广西','112','103','GZ','2019-03-01 00:00:00','10','','1'), ('908','86979474000208','哈壳','1000mg/g','1.48','克','','112','103','HK','2019-03-01 00:00:00','10','','1'), ('909','86979474000209','海风藤','1000mg/g','30.53','克','福建','112','103','HFT','2019-03-01 00:00:00','10','','1'), ('910','86979474000208','奥卡西平片(曲莱)','0.3g×50片/盒','8.86','盒','诺华制药（瑞士）','111','101','AKXPP(QL)','2019-03-01 00:00:00','10','','1'), ('911','86979474000208','拜阿司匹林肠溶片(阿司匹林)','100mg×30片/盒','12.79','盒','拜耳医药保健有限公司','111','101','BASPLCRP(ASPL)','2019-03-01 00:00:00','10','','1'), ('912','86979474000209','盐酸莫西沙星片(拜复乐)','0.4g×3片/盒','27.42','盒','拜耳医药保健有限公司','111','101','YSMXSXP(BFL)','2019-03-01 00:00:00','10','','1'), ('913','86979474000208','西洛他唑片(培达)','50mg×12片/盒','81.65','盒','大冢（浙江）制药有限公司','111','101','XLTZP(PD)','2019-03-01 00:00:00','10','','1'), ('914','86979474000209','LB注射用亚叶酸钙','100mg×1支','51.13','支','北京双鹭药业股份有限公司','110','101','LBZSYYYSG','2019-03-01 00:00:00','10','','1'), ('915','86979474000208','乙酸萘酯','25g×1瓶','7.51','瓶','','157','101','YSZZ','2019-03-01 00:00:00','10','','1'), ('916','86979474000208','比卡鲁胺(康士得)片','50mg×28片/盒','28.01','盒','阿斯利康制药有限公司','111','101','BKLA(KSD)P','2019-03-01 00:00:00','10','','1'), ('917','86979474000209','盐酸胺碘酮(可达龙)片','200mg×10片/盒','1.10','盒','赛诺菲（杭州）制药有限公司','111','101','YSADT(KDL)P','2019-03-01 00:00:00','10','','1'), ('918','86979474000208','尼可刹米(可拉明)注射液','1.5ml:0.375g×10支/盒','35.25','盒','上海禾丰制药有限公司','110','101','NKSM(KLM)ZSY','2019-03-01 00:00:00','10','','1'), ('919','86979474000209','天舒胶囊','0.34g×60粒/盒','47.46','盒','江苏康缘药业股份有限公司','114','102','TSJN','2019-03-01 00:00:00','10','','1'), ('920','86979474000208','甜梦胶囊','0.4g*36粒/盒','1.93','盒','烟台荣昌制药有限公司','114','101','TMJN','2019-03-01 00:00:00','10','','1'), ('921','86979474000208','仙合草','1000mg/g','2.20','克','江苏','112','103','XHC','2019-03-01 00:00:00','10','','1'), ('922','86979474000209','仙茅','1000mg/g','20.40','克','','112','103','XM','2019-03-01 00:00:00','10','','1'), ('923','86979474000208','香附','1000mg/g','4.59','克','安徽','112','103','XF','2019-03-01 00:00:00','10','','1'), ('924','86979474000209','香元皮','1000mg/g','10.81','克',' 江苏','112','103','XYP','2019-03-01 00:00:00','10','','1'), ('925','86979474000208','克拉霉素分散片（锋锐）','0.25g×6片/盒','2.12','盒','扬子江药业集团有限公司','111','101','KLMSFSP（FR）','2019-03-01 00:00:00','10','','1'), ('926','86979474000208','密陀僧','1000mg/g','36.77','克','','112','103','MTS','2019-03-01 00:00:00','10','','1'), ('927','86979474000209','硫酸吗啡缓释片(美施康定)','10mg×10片/盒','4.48','盒','北京萌蒂制药有限公司','111','101','LSMFHSP(MSKD)','2019-03-01 00:00:00','10','','1'), ('928','86979474000208','益肾蠲痹丸','8g*12包/盒','37.96','盒','江苏清江药业有限公司','163','102','YSZBW','2019-03-01 00:00:00','10','','1'), ('929','86979474000209','乳癖消片','0.67g*36片/盒','6.56','盒','辽宁上药好护士药业（集团）有限公司','111','101','RZXP','2019-03-01 00:00:00','10','','1'), ('930','86979474000208','乳酸','500g×1瓶','11.54','瓶','','157','101','RS','2019-03-01 00:00:00','10','','1'), ('931','86979474000208','更昔洛韦眼用凝胶','5g:7.5mg×1支','3.81','支','湖北科益药业股份有限公司','160','101','GXLWYYNJ','2019-03-01 00:00:00','10','','1'), ('932','86979474000209','胆舒胶囊','0.45g×30片/盒','44.48','盒','四川济生堂药业有限公司','114','102','DSJN','2019-03-01 00:00:00','10','','1'), ('933','86979474000208','匹维溴铵片（得舒特）','50mg×15片/盒','19.50','盒','雅培贸易（上海）有限公司','111','101','PWZZP（DST）','2019-03-01 00:00:00','10','','1'), ('934','86979474000209','注射用牛肺表面活性剂（珂立苏）','70mg×1支','63.75','支','北京双鹤现代医药技术有限公司S','110','101','ZSYNFBMHXJ（ZLS）','2019-03-01 00:00:00','10','','1'), ('935','86979474000208','双氯芬酸二乙胺乳胶(扶他林)','20g×1支','21.76','支','诺华制药（北京）有限公司','134','101','SLFSEYARJ(FTL)','2019-03-01 00:00:00','10','','1'), ('936','86979474000208','北沙参','1000mg/g','0.87','克','山东','112','103','BSC','2019-03-01 00:00:00','10','','1'), ('937','86979474000209','枸橼酸氢钾钠颗粒（友来特)','97.1g×1瓶','12.02','瓶','德国马博士大药厂','115','101','ZZSQJNKL（YLT)','2019-03-01 00:00:00','10','','1'), ('938','86979474000208','氨氯地平阿托伐他汀钙片(多达一)','5mg:10mg×7片/盒','43.39','盒','辉瑞制药有限公司（大连）','111','101','ALDPATFTTGP(DDY)','2019-03-01 00:00:00','10','','1'), ('939','86979474000209','注射用多种维生素(12)(施尼维他)','5ml×1支','18.32','支','百特医疗用品贸易(上海)有限公司','110','101','ZSYDZWSS(12)(SNWT)','2019-03-01 00:00:00','10','','1'), ('940','86979474000208','香精','1000g×1瓶','43.90','瓶','南京丽源','157','101','XJ','2019-03-01 00:00:00','10','','1'), ('941','86979474000208','龙齿颗粒','0.5g/15g/袋','50.85','袋','江阴天江药业有限公司','115','102','LCKL','2019-03-01 00:00:00','10','','1'), ('942','86979474000209','卡铂注射液(伯尔定)','15ml:150mg×1瓶','30.34','瓶','百时美施贵宝（中国）投资有限公司','110','101','KBZSY(BED)','2019-03-01 00:00:00','10','','1'), ('943','86979474000208','甲硝唑凝胶(麦芙欣)','5g:37.5mg×7支/盒','13.41','盒','天津市天骄制药有限公司','120','101','JXZNJ(MZX)','2019-03-01 00:00:00','10','','1'), ('944','86979474000209','果糖注射液(普利康)','250ml:25g×1袋','3.67','袋','安徽丰原药业股份有限公司','110','101','GTZSY(PLK)','2019-03-01 00:00:00','10','','1'), ('945','86979474000208','地奥司明片','0.45g×24片/盒','41.00','盒','南京正大天晴制药有限公司','111','101','DASMP','2019-03-01 00:00:00','10','','1'), ('946','86979474000208','天麻素注射液(天眩清)','2ml:0.2g×1支','2.03','支','昆明制药集团股份有限公司','110','101','TMSZSY(T眩Q)','2019-03-01 00:00:00','10','','1'), ('947','86979474000209','医用酒精  75%','1000mg/g','3.40','克','江苏太仓新太酒精有限公司','157','101','YYJJ  75%','2019-03-01 00:00:00','10','','1'), ('948','86979474000208','葡萄糖酸钙锌口服液(锌钙特)','10ml×24支/盒','16.52','盒','澳诺(中国)制药有限公司','164','101','PTTSGXKFY(XGT)','2019-03-01 00:00:00','10','','1'), ('949','86979474000209','氢化可的松注射液','20ml:100mg×5支/盒','4.66','盒','天津金耀氨基酸有限公司','110','101','QHKDSZSY','2019-03-01 00:00:00','10','','1'), ('950','86979474000208','盐酸纳美芬注射液(乐萌)','1ml:0.1mg×1支','11.69','支','成都天台山制药有限公司','110','101','YSNMFZSY(LM)','2019-03-01 00:00:00','10','','1'), ('951','86979474000208','丹参川芎嗪注射液','5ml×1支','21.90','支','贵州拜特制药有限公司','110','101','DCCZZZSY','2019-03-01 00:00:00','10','','1'), ('952','86979474000209','炙甘草颗粒','1g/3g/袋','50.94','袋','','115','102','ZGCKL','2019-03-01 00:00:00','10','','1'), ('953','86979474000208','注射用还原型谷光甘肽(阿拓莫兰)','0.6g×1支','2.15','支','重庆药友制药有限公司','110','101','ZSYHYXGGGZ(ATML)','2019-03-01 00:00:00','10','','1'), ('954','86979474000209','参附注射液','10ml×1支','2.88','支','雅安三九药业有限公司','110','101','CFZSY','2019-03-01 00:00:00','10','','1'), ('955','86979474000208','碘伏溶液','200ml×1瓶','10.78','瓶','南京南大药业','157','101','DFRY','2019-03-01 00:00:00','10','','1'), ('956','86979474000208','G噻托溴铵粉吸入剂(带吸入器）','18ug×10粒/盒','5.38','盒','正大天晴药业集团股份有限公司','116','101','GZTZZFXRJ(DXRQ）','2019-03-01 00:00:00','10','','1'), ('957','86979474000209','缬沙坦分散片(平欣)','40mg×24片/盒','70.37','盒','鲁南贝特制药有限公司','123','101','ZSTFSP(PX)','2019-03-01 00:00:00','10','','1'), ('958','86979474000208','二氯甲烷(AR)','500ml×1瓶','22.76','瓶','','157','101','ELJW(AR)','2019-03-01 00:00:00','10','','1'), ('959','86979474000209','二乙胺(AR)','500ml×1瓶','0.15','瓶','','157','101','EYA(AR)','2019-03-01 00:00:00','10','','1'), ('960','86979474000208','达肝素钠注射液(法安明)','0.2ml:5000iu×1支','72.83','支','辉瑞制药有限公司','110','101','DGSNZSY(FAM)','2019-03-01 00:00:00','10','','1'), ('961','86979474000208','桉柠蒎肠溶软胶囊（切诺）','0.3g×18粒/盒','0.77','盒','北京九和药业有限公司S','159','101','ZNZCRRJN（QN）','2019-03-01 00:00:00','10','','1'), ('962','86979474000209','复方氨基酸(丰诺安)注射液20AA','500ml:50g/瓶','0.18','瓶','山东鲁抗辰欣药业有限公司','110','101','FFAJS(FNA)ZSY20AA','2019-03-01 00:00:00','10','','1'), ('963','86979474000208','稀盐酸','500ml×1瓶','8.51','瓶','广东台山','157','101','XYS','2019-03-01 00:00:00','10','','1'), ('964','86979474000209','转化糖注射液(耐能)','250ml×1袋','6.16','袋','四川美大康佳乐药业有限公司','110','101','ZHTZSY(NN)','2019-03-01 00:00:00','10','','1'), ('965','86979474000208','鹿瓜多肽注射液','2ml:4mg×1支','35.44','支','哈尔滨誉衡药业股份有限公司','110','101','LGDZZSY','2019-03-01 00:00:00','10','','1'), ('966','86979474000208','碘解磷定针','500mg×5支/盒','3.56','盒','上海旭东海普药业有限公司','110','101','DJLDZ','2019-03-01 00:00:00','10','','1'), ('967','86979474000209','丁胺卡那霉素注射液','2ml:0.2g×10支/盒','18.24','盒','齐鲁制药有限公司','110','101','DAKNMSZSY','2019-03-01 00:00:00','10','','1'), ('968','86979474000208','非诺贝特胶囊(力平之)','0.2g×10片/盒','30.12','盒','雅培贸易（上海）有限公司','114','101','FNBTJN(LPZ)','2019-03-01 00:00:00','10','','1'), ('969','86979474000209','炔雌醇环丙孕酮片(达英-35）','21片/盒','22.05','盒','拜耳医药保健有限公司','111','101','QCCHBYTP(DY-35）','2019-03-01 00:00:00','10','','1'), ('970','86979474000208','环丙沙星注射液(西普乐)','100ml:200mg×1瓶','40.40','瓶','G1拜耳医药保健品有限公司','110','101','HBSXZSY(XPL)','2019-03-01 00:00:00','10','','1'), ('971','86979474000208','辛伐他汀片（舒降之）','40mg×5片/盒','32.76','盒','默沙东制药（杭州）有限公司','111','101','XFTTP（SJZ）','2019-03-01 00:00:00','10','','1'), ('972','86979474000209','盐酸莫西沙星氯化钠注射液(拜复乐)','400mg×250ml/瓶','7.16','瓶','拜耳医药保健有限公司','110','101','YSMXSXLHNZSY(BFL)','2019-03-01 00:00:00','10','','1'), ('973','86979474000208','藿香','1000mg/g','3.18','克','广东','112','103','ZX','2019-03-01 00:00:00','10','','1'), ('974','86979474000209','LB果糖二磷酸钠口服液(瑞安吉)','1g×6支/盒','12.16','盒','北京华靳制药有限公司','164','101','LBGTELSNKFY(RAJ)','2019-03-01 00:00:00','10','','1'), ('975','86979474000208','良姜','1000mg/g','1.97','克','','112','103','LJ','2019-03-01 00:00:00','10','','1'), ('976','86979474000208','白芥子','1000mg/g','39.22','克','安徽','112','103','BJZ','2019-03-01 00:00:00','10','','1'), ('977','86979474000209','洛贝林注射液','3mg×10支/盒','24.31','盒','上海禾丰制药有限公司','110','101','LBLZSY','2019-03-01 00:00:00','10','','1'), ('978','86979474000208','治疗用A型肉毒素(保妥适)','100u×1支','62.31','支','爱力根爱尔兰制药公司','110','101','ZLYAXRDS(BTS)','2019-03-01 00:00:00','10','','1'), ('979','86979474000209','璜达肝癸钠(安卓)注射液','2.5mg:0.5ml×1支','2.75','支','葛兰素史克(中国投资有限公司)','110','101','ZDGGN(AZ)ZSY','2019-03-01 00:00:00','10','','1'), ('980','86979474000208','雌二醇片(芬吗通)/雌二醇地屈孕酮片','2mg:10mg×28片/盒','3.92','盒','苏威制药有限公司','111','101','CECP(FMT)/CECDQYTP','2019-03-01 00:00:00','10','','1'), ('981','86979474000208','复方氨基酸(安平)20AA注射液','500ml:50g×1瓶','20.90','瓶','贝朗医疗(上海)国际贸易有限公司','110','101','FFAJS(AP)20AAZSY','2019-03-01 00:00:00','10','','1'), ('982','86979474000209','尼莫地平(尼莫同)片','30mg×20片/瓶','10.29','瓶','拜耳医药保健有限公司','111','101','NMDP(NMT)P','2019-03-01 00:00:00','10','','1'), ('983','86979474000208','柠檬酸','500g×1瓶','17.17','瓶','宁','157','101','NMS','2019-03-01 00:00:00','10','','1'), ('984','86979474000209','麸炒苍术颗粒','3g/10g/袋','6.89','袋','江阴天江药业有限公司','115','102','CCSKL','2019-03-01 00:00:00','10','','1'), ('985','86979474000208','盐酸舍曲林片(左洛复)','50mg×14片/瓶','68.94','瓶','辉瑞制药有限公司','111','101','YSSQLP(ZLF)','2019-03-01 00:00:00','10','','1'), ('986','86979474000208','盐酸戊乙奎醚(长托宁)','1mg×1ml/支','6.91','支','成都力思特制药3','110','101','YSWYKM(CTN)','2019-03-01 00:00:00','10','','1'), ('987','86979474000209','艾司唑仑片(舒乐安定)','1mg×20片/盒','17.52','盒','常州四药制药有限公司','111','101','ASZLP(SLAD)','2019-03-01 00:00:00','10','','1'), ('988','86979474000208','石杉碱甲片（双益平）','50ug×40片/盒','25.32','盒','上海复旦复华药业','114','101','SSJJP（SYP）','2019-03-01 00:00:00','10','','1'), ('989','86979474000209','柠檬酸钠(AR)','500g×1瓶','21.33','瓶','','157','101','NMSN(AR)','2019-03-01 00:00:00','10','','1'), ('990','86979474000208','LB凝血酶外用冻干粉','500iu×1瓶','32.15','瓶','湖南一格制药有限公司','110','101','LBNXMWYDGF','2019-03-01 00:00:00','10','','1'), ('991','86979474000208','牛黄消炎丸','1粒*120粒/盒','33.40','盒','南京同仁堂药业有限责任公司','163','102','NHXYW','2019-03-01 00:00:00','10','','1'), ('992','86979474000209','牛肉膏','500g×1瓶','42.74','瓶','','157','101','NRG','2019-03-01 00:00:00','10','','1'), ('993','86979474000208','依托泊苷软胶囊(威克)','50mg×10粒/盒','55.76','盒','江苏恒瑞医药股份有限公司','159','101','YTBZRJN(WK)','2019-03-01 00:00:00','10','','1'), ('994','86979474000209','硫酸氨基葡萄糖胶囊(维固力)','0.25g×20片/盒','90.52','盒','爱尔兰罗达药厂','114','101','LSAJPTTJN(WGL)','2019-03-01 00:00:00','10','','1'), ('995','86979474000208','辅酶Q10片(能气朗)','10mg×30片/盒','6.15','盒','卫材(中国)药业有限公司','111','101','FMQ10P(NQL)','2019-03-01 00:00:00','10','','1'), ('996','86979474000208','5%葡萄糖注射液（亚邦软袋）','5%100ml×1袋','12.81','袋','江苏亚邦生缘药业有限公司','110','101','5%PTTZSY（YBRD）','2019-03-01 00:00:00','10','','1'), ('997','86979474000209','蛇毒血凝酶注射液(速乐涓)','1ml:1单位×1支','50.20','支','兆科药业(合肥)有限公司','110','101','SDXNMZSY(SLZ)','2019-03-01 00:00:00','10','','1'), ('998','86979474000208','盐酸赛庚啶片','2mg×100片/瓶','0.05','瓶','常州四药制药有限公司','111','101','YSSGZP','2019-03-01 00:00:00','10','','1'), ('999','86979474000209','中性树胶','100ml×1瓶','4.71','瓶','上海华申','157','101','ZXSJ','2019-03-01 00:00:00','10','','1'), ('1000','86979474000208','碘海醇350注射液(欧乃派克)','350mg×100ml/瓶','13.85','瓶','通用电气药业 （上海）有限公司','110','101','DHC350ZSY(ONPK)','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('1001','86979474000208','生理氯化钠溶液','0.9%(3000ml:27g)×1袋','27.54','袋','浙江济民制药股份有限公司','119','101','SLLHNRY','2019-03-01 00:00:00','10','','1'), ('1002','86979474000209','石膏颗粒','0.5g/30g/袋','18.45','袋','江阴天江药业有限公司','115','102','SGKL','2019-03-01 00:00:00','10','','1'), ('1003','86979474000208','0.9%氯化钠注射液（亚邦软袋）','0.9%100ml×1袋','37.85','袋','江苏亚邦生缘药业有限公司','110','101','0.9%LHNZSY（YBRD）','2019-03-01 00:00:00','10','','1'), ('1004','86979474000209','注射用紫杉醇(白蛋白结合型)','100mg×1瓶','4.83','瓶','费森尤斯卡比','110','101','ZSYZSC(BDBJHX)','2019-03-01 00:00:00','10','','1'), ('1005','86979474000208','血脂康胶囊','0.3g×12片/盒','4.26','盒','北京北大维信生物科技有限公司','114','101','XZKJN','2019-03-01 00:00:00','10','','1'), ('1006','86979474000208','屋尘蟎变应原制剂(起始）','5ml×4支/盒','68.95','盒','丹麦爱尔开-阿贝优公司S','110','101','WCXBYYZJ(QS）','2019-03-01 00:00:00','10','','1'), ('1007','86979474000209','他扎罗汀凝胶(乐为)','30g:15mg×1支','5.59','支','重庆华邦制药股份有限公司','120','101','TZLTNJ(LW)','2019-03-01 00:00:00','10','','1'), ('1008','86979474000208','长链脂肪乳注射液(克凌诺)','250ml×1袋','56.42','袋','比利时百特','110','101','CLZFRZSY(KLN)','2019-03-01 00:00:00','10','','1'), ('1009','86979474000209','莫匹罗星软膏(百多邦)','10g×1支','2.64','支','中美天津史克制药有限公司','121','101','MPLXRG(BDB)','2019-03-01 00:00:00','10','','1'), ('1010','86979474000208','注射用吲哚菁绿','25mg×1瓶','1.93','瓶','丹东医创药业有限责任公司S','161','101','ZSYZZZL','2019-03-01 00:00:00','10','','1'), ('1011','86979474000208','甲磺酸二氢麦角碱缓释片','2.5mg×25片/瓶','2.35','瓶','宝利化（南京）制药有限公司','131','101','JHSEQMJJHSP','2019-03-01 00:00:00','10','','1'), ('1012','86979474000209','琥珀酸美托洛尔缓释片(倍他乐克)','47.5mg×7片/盒','1.14','盒','阿斯利康制药有限公司','111','102','ZZSMTLEHSP(BTLK)','2019-03-01 00:00:00','10','','1'), ('1013','86979474000208','BG复方血栓通胶囊','0.5g*30粒/盒','36.76','盒','广东众生药业股份有限公司','114','101','BGFFXSTJN','2019-03-01 00:00:00','10','','1'), ('1014','86979474000209','注射用重组人II型肿瘤坏死因子','12.5mg×1支','18.59','支','沈阳三生制药股份有限公司','110','101','ZSYZZRIIXZLHSYZ','2019-03-01 00:00:00','10','','1'), ('1015','86979474000208','薯蓣皂苷片(维奥欣)','80mg×48片/盒','17.95','盒','陕西恒诚制药有限公司','111','101','SZZZP(WAX)','2019-03-01 00:00:00','10','','1'), ('1016','86979474000208','双嘧达莫片','25mg×100片/瓶','32.42','瓶','辅仁药业集团有限公司','111','101','SZDMP','2019-03-01 00:00:00','10','','1'), ('1017','86979474000209','复方鳖甲软肝片','0.5g×48片/盒','20.70','盒','内蒙古福瑞医疗科技股份有限公司','111','101','FFBJRGP','2019-03-01 00:00:00','10','','1'), ('1018','86979474000208','小儿电解质补给注射液','100ml×1袋','76.25','袋','四川科伦药业股份有限公司','110','101','XEDJZBGZSY','2019-03-01 00:00:00','10','','1'), ('1019','86979474000209','米格列奈钙片(法迪)','5mg×36片/盒','31.57','盒','正大天晴药业集团股份有限公司','111','101','MGLNGP(FD)','2019-03-01 00:00:00','10','','1'), ('1020','86979474000208','重组人表皮生长因子凝胶(易孚)','200ug:20g×1支','44.45','支','桂林华诺威基因药业有限公司','120','101','ZZRBPSCYZNJ(YZ)','2019-03-01 00:00:00','10','','1'), ('1021','86979474000208','精蛋白锌重组(优泌乐50)赖脯胰岛素混合注射液','3ml:300iu×1支','43.35','支','礼来苏州制药有限公司(分装)','110','101','JDBXZZ(YML50)LFYDSHHZSY','2019-03-01 00:00:00','10','','1'), ('1022','86979474000209','重组牛碱性(贝复舒)成纤维细胞生长因子眼液','5ml:21000iu/1瓶','3.74','瓶','珠海亿胜生物制药有限公司','160','101','ZZNJX(BFS)CXWXBSCYZYY','2019-03-01 00:00:00','10','','1'), ('1023','86979474000208','注射用复合辅酶(贝科能)','100iu×1支','63.14','支','北京双鹭药业股份有限公司','110','101','ZSYFHFM(BKN)','2019-03-01 00:00:00','10','','1'), ('1024','86979474000209','倍他洛尔眼液(贝特舒)','5ml:12.5mg×1支','6.21','支','爱尔康眼科产品','160','101','BTLEYY(BTS)','2019-03-01 00:00:00','10','','1'), ('1025','86979474000208','薄荷','1000mg/g','17.50','克','江苏','112','103','BH','2019-03-01 00:00:00','10','','1'), ('1026','86979474000208','草河车','1000mg/g','26.69','克','','112','103','CHC','2019-03-01 00:00:00','10','','1'), ('1027','86979474000209','透析消毒液','0.5%500ml×1瓶','48.47','瓶','意大利','157','101','TXXDY','2019-03-01 00:00:00','10','','1'), ('1028','86979474000208','吐温-20','500g×1瓶','70.15','瓶','','157','101','TW-20','2019-03-01 00:00:00','10','','1'), ('1029','86979474000209','吐温-80','500g×1瓶','10.79','瓶','','157','101','TW-80','2019-03-01 00:00:00','10','','1'), ('1030','86979474000208','合欢皮','1000mg/g','6.41','克','浙江','112','103','HHP','2019-03-01 00:00:00','10','','1'), ('1031','86979474000208','黑白丑','1000mg/g','56.68','克','','112','103','HBC','2019-03-01 00:00:00','10','','1'), ('1032','86979474000209','黑附片','1000mg/g','23.64','克','四川','112','103','HFP','2019-03-01 00:00:00','10','','1'), ('1033','86979474000208','黑苏子','1000mg/g','34.61','克','江苏','112','103','HSZ','2019-03-01 00:00:00','10','','1'), ('1034','86979474000209','红藤','1000mg/g','11.37','克','安徽','112','103','HT','2019-03-01 00:00:00','10','','1'), ('1035','86979474000208','厚扑','1000mg/g','13.47','克',' 浙江','112','103','HP','2019-03-01 00:00:00','10','','1'), ('1036','86979474000208','厚朴花','1000mg/g','27.30','克','','112','103','HPH','2019-03-01 00:00:00','10','','1'), ('1037','86979474000209','注射用醋酸卡泊芬净（科赛斯）','50mg×1支','20.82','支','默沙东制药','110','101','ZSYCSKBFJ（KSS）','2019-03-01 00:00:00','10','','1'), ('1038','86979474000208','白消安注射液（白舒非）','10ml:60mg×1支','62.86','支','大冢（浙江）制药有限公司','110','101','BXAZSY（BSF）','2019-03-01 00:00:00','10','','1'), ('1039','86979474000209','BG阿德福韦酯胶囊（名正）','10mg×14粒/盒','6.80','盒','正大天晴药业集团股份有限公司','114','101','BGADFWJN（MZ）','2019-03-01 00:00:00','10','','1'), ('1040','86979474000208','猪肺磷脂注射液(固尔苏）','120mg×1.5ml/支','50.29','支','意大利凯西制药公司','110','101','ZFLZZSY(GES）','2019-03-01 00:00:00','10','','1'), ('1041','86979474000208','乳杆菌活菌胶囊（定君生）','0.25g×5粒/盒','29.10','盒','内蒙古双奇药业股份有限公司','114','102','RGJHJJN（DJS）','2019-03-01 00:00:00','10','','1'), ('1042','86979474000209','注射用磷酸氟达拉滨(福达华)','50mg×1瓶','46.66','瓶','赛诺菲(北京)制药有限公司','110','101','ZSYLSFDLB(FDH)','2019-03-01 00:00:00','10','','1'), ('1043','86979474000208','辅酶II','10g×1瓶','1.83','瓶','','157','101','FMII','2019-03-01 00:00:00','10','','1'), ('1044','86979474000209','前列地尔注射液(凯时)','10ug×1支','5.10','支','北京泰德制药股份有限公司','110','101','QLDEZSY(KS)','2019-03-01 00:00:00','10','','1'), ('1045','86979474000208','注射用硫普罗宁(凯西莱)','0.1g×1瓶','15.98','瓶','河南省新谊药业有限公司','110','101','ZSYLPLN(KXL)','2019-03-01 00:00:00','10','','1'), ('1046','86979474000208','注射用尿激酶','10万×1支','5.18','支','丽珠集团丽珠制药厂','110','101','ZSYNJM','2019-03-01 00:00:00','10','','1'), ('1047','86979474000209','尿素','400g×1瓶','55.21','瓶','湖南芙蓉','157','101','NS','2019-03-01 00:00:00','10','','1'), ('1048','86979474000208','百合颗粒','1g/10g/袋','8.99','袋','江苏','115','102','BHKL','2019-03-01 00:00:00','10','','1'), ('1049','86979474000209','生米仁颗粒','0.5g/10g/袋','25.92','袋','江阴','115','102','SMRKL','2019-03-01 00:00:00','10','','1'), ('1050','86979474000208','苦黄注射液','10ml×6支/盒','50.10','盒','常熟雷允上制药有限公司','110','101','KHZSY','2019-03-01 00:00:00','10','','1'), ('1051','86979474000208','马来酸氟吡汀胶囊(科达得龙)','0.1g×10粒/盒','7.65','盒','梯瓦制药','114','101','MLSFZTJN(KDDL)','2019-03-01 00:00:00','10','','1'), ('1052','86979474000209','盐酸小檗碱片(黄连素)','0.1g×100片/瓶','55.28','瓶','江苏亚邦爱普森药业有限公司','111','101','YSXZJP(HLS)','2019-03-01 00:00:00','10','','1'), ('1053','86979474000208','替吉奥胶囊','20mg×42粒/盒','5.27','盒','江苏恒瑞医药股份有限公司S','114','101','TJAJN','2019-03-01 00:00:00','10','','1'), ('1054','86979474000209','注射用胸腺法新(日达仙)','1.6mg×2支/盒','16.99','盒','意大利赛生制药有限公司','161','101','ZSYXXFX(RDX)','2019-03-01 00:00:00','10','','1'), ('1055','86979474000208','氨酚伪麻美芬片(日夜百服宁)','12片/盒','5.33','盒','中美上海施贵宝制药有限公司','111','101','AFWMMFP(RYBFN)','2019-03-01 00:00:00','10','','1'), ('1056','86979474000208','枯草杆菌肠球菌二联活颗粒(妈咪爱)','1g×15袋/盒','2.32','盒','北京韩美药品有限公司','115','102','KCGJCQJELHKL(MZA)','2019-03-01 00:00:00','10','','1'), ('1057','86979474000209','平消胶囊','0.23g×100粒/盒','0.31','盒','西安正大制药有限公司','114','101','PXJN','2019-03-01 00:00:00','10','','1'), ('1058','86979474000208','注射用A型肉毒素(衡力)','100iu×1支','42.82','支','兰州生物制品研究所','161','101','ZSYAXRDS(HL)','2019-03-01 00:00:00','10','','1'), ('1059','86979474000209','人血白蛋白注射液(百特)','10g*1袋','18.94','袋','百特医疗用品有限公司','110','101','RXBDBZSY(BT)','2019-03-01 00:00:00','10','','1'), ('1060','86979474000208','注射用促皮质素','25iu×10支/盒','26.82','盒','上海第一生化药业有限公司','110','101','ZSYCPZS','2019-03-01 00:00:00','10','','1'), ('1061','86979474000208','降钙素注射液(密钙息)','50iu×5支/盒','13.30','盒','诺华制药（瑞士）','110','101','JGSZSY(MGX)','2019-03-01 00:00:00','10','','1'), ('1062','86979474000209','门冬胰岛素(诺和锐笔芯)注射液','300u×1支','64.33','支','丹麦诺和诺德公司','110','101','MDYDS(NHRBX)ZSY','2019-03-01 00:00:00','10','','1'), ('1063','86979474000208','氨水','500ml/瓶','37.77','瓶','','157','101','AS','2019-03-01 00:00:00','10','','1'), ('1064','86979474000209','砂仁颗粒','0.5g/3g/袋','57.57','袋','江阴天江药业有限公司','115','102','SRKL','2019-03-01 00:00:00','10','','1'), ('1065','86979474000208','豆寇颗粒','0.5g/3g/袋','56.52','袋','江阴天江药业有限公司','115','102','DKKL','2019-03-01 00:00:00','10','','1'), ('1066','86979474000208','盐酸左氧氟沙星滴耳液(左拂)','5ml(0.5%)×1瓶','9.49','瓶','深圳万和制药有限公司','135','101','YSZYFSXDEY(ZF)','2019-03-01 00:00:00','10','','1'), ('1067','86979474000209','缬沙坦胶囊(代文)','80mg×7片/盒','53.37','盒','诺华制药（北京）有限公司','114','101','ZSTJN(DW)','2019-03-01 00:00:00','10','','1'), ('1068','86979474000208','碘','500g×1瓶','76.58','瓶','自贡','157','101','D','2019-03-01 00:00:00','10','','1'), ('1069','86979474000209','碘  仿','500g×1瓶','1.13','瓶','','157','101','DF','2019-03-01 00:00:00','10','','1'), ('1070','86979474000208','碘伏消毒液','250ml×1瓶','3.82','瓶','兴化','157','101','DFXDY','2019-03-01 00:00:00','10','','1'), ('1071','86979474000208','越星碘伏消毒液','500ml/瓶','34.96','瓶','兴化','157','101','YXDFXDY','2019-03-01 00:00:00','10','','1'), ('1072','86979474000209','碘伏溶液','500ml×1瓶','18.58','瓶','南京大学制药厂','157','101','DFRY','2019-03-01 00:00:00','10','','1'), ('1073','86979474000208','碘化钠','500g×1瓶','3.29','瓶','','157','101','DHN','2019-03-01 00:00:00','10','','1'), ('1074','86979474000209','注射用苯磺顺阿曲库铵(艾斯康)','10mg×1支','10.19','支','江苏恒瑞医药股份有限公司S','110','101','ZSYBHSAQKZ(ASK)','2019-03-01 00:00:00','10','','1'), ('1075','86979474000208','马来酸氯苯那敏片','4mg×100片/瓶','1.82','瓶','江苏鹏鹞药业有限公司','111','101','MLSLBNMP','2019-03-01 00:00:00','10','','1'), ('1076','86979474000208','布地奈德混悬液(普米克令舒)','1mg*5支/袋','31.20','袋','阿斯利康制药有限公司','136','101','BDNDHXY(PMKLS)','2019-03-01 00:00:00','10','','1'), ('1077','86979474000209','奥硝唑胶囊（齐克）','0.25g×12粒/盒','25.17','盒','南京海陵药业','114','101','AXZJN（QK）','2019-03-01 00:00:00','10','','1'), ('1078','86979474000208','强骨胶囊','0.25g×12粒/盒','28.99','盒','北京歧黄制药有限公司','114','101','QGJN','2019-03-01 00:00:00','10','','1'), ('1079','86979474000209','三七粉颗粒','3g/3g/袋','15.65','袋','江阴天江药业有限公司','115','102','SQFKL','2019-03-01 00:00:00','10','','1'), ('1080','86979474000208','磷酸奥司他韦胶囊(可威)','75mg×10粒/盒','11.41','盒','宜昌东阳光长江药业股份有限公司','114','101','LSASTWJN(KW)','2019-03-01 00:00:00','10','','1'), ('1081','86979474000208','五味麝香丸','0.03g*25粒/盒','22.98','盒','宁夏多维药业','163','102','WWSXW','2019-03-01 00:00:00','10','','1'), ('1082','86979474000209','硝苯地平控释片（拜新同）','30mg×7片/盒','40.29','盒','拜耳医药保健有限公司','111','101','XBDPKSP（BXT）','2019-03-01 00:00:00','10','','1'), ('1083','86979474000208','蒙脱石混悬液','90ml×1瓶','5.17','瓶','南京白敬宇制药有限责任公司','136','101','MTSHXY','2019-03-01 00:00:00','10','','1'), ('1084','86979474000209','注射用鼠神经生长因子(恩经复)','9000.000ug*1支/支','1.24','支','未名生物医药有限公司','110','101','ZSYSSJSCYZ(EJF)','2019-03-01 00:00:00','10','','1'), ('1085','86979474000208','龙血竭肠溶片','0.4g*36片/盒','10.60','盒','云南大唐汉方制药有限公司','111','101','LXJCRP','2019-03-01 00:00:00','10','','1'), ('1086','86979474000208','硫酸羟氯喹片','0.2g×10片/盒','18.45','盒','英国SANOFI-SYNTHELABO LTD.','117','101','LSQLZP','2019-03-01 00:00:00','10','','1'), ('1087','86979474000209','伊曲康唑注射液(斯皮仁诺)','25ml×250mg×1支','5.82','支','','110','101','YQKZZSY(SPRN)','2019-03-01 00:00:00','10','','1'), ('1088','86979474000208','LB乙酰谷酰胺注射液(苏意)','2ml:0.1g×6支/盒','62.69','盒','山东潍坊制药厂有限公司','110','101','LBYXGXAZSY(SY)','2019-03-01 00:00:00','10','','1'), ('1089','86979474000209','蓖麻油','500ml×1瓶','56.38','瓶','湖北天门二药','157','101','BMY','2019-03-01 00:00:00','10','','1'), ('1090','86979474000208','变色硅胶','500g×1瓶','8.57','瓶','','157','101','BSGJ','2019-03-01 00:00:00','10','','1'), ('1091','86979474000208','BG玻璃酸钠注射液(施沛特)','20mg×1支','51.74','支','山东博士伦福瑞达制药有限公司','110','101','BGBLSNZSY(SPT)','2019-03-01 00:00:00','10','','1'), ('1092','86979474000209','注射用生长抑素14肽(思他宁)','3000ug×1瓶','23.27','瓶','瑞士雪兰诺','110','101','ZSYSCYS14Z(STN)','2019-03-01 00:00:00','10','','1'), ('1093','86979474000208','十二烷基硫酸钠','250g×1瓶','1.48','瓶','','157','101','SEWJLSN','2019-03-01 00:00:00','10','','1'), ('1094','86979474000209','十六醇(CP)','500g×1瓶','24.81','瓶','上海久亿','157','101','SLC(CP)','2019-03-01 00:00:00','10','','1'), ('1095','86979474000208','碘化油注射液','10ml×1支','39.17','支','烟台鲁银药业有限公司','110','101','DHYZSY','2019-03-01 00:00:00','10','','1'), ('1096','86979474000208','健之素牌手消毒剂','750ml×1瓶','36.17','瓶','北京健之素医药科技有限公司','157','101','JZSPSXDJ','2019-03-01 00:00:00','10','','1'), ('1097','86979474000209','雷贝拉唑钠肠溶片（瑞波特）','10mg×14片/盒','57.78','盒','江苏豪森药业股份有限公司','133','101','LBLZNCRP（RBT）','2019-03-01 00:00:00','10','','1'), ('1098','86979474000208','注射用两性霉素B脂质体(锋克松)','10mg×1瓶','1.36','瓶','上海新亚药业有限公司S','161','101','ZSYLXMSBZZT(FKS)','2019-03-01 00:00:00','10','','1'), ('1099','86979474000209','重组人生长激素注射液(赛增)','30iu:10mg:3ml×1瓶','0.37','瓶','长春金赛药业有限责任公司','110','101','ZZRSCJSZSY(SZ)','2019-03-01 00:00:00','10','','1'), ('1100','86979474000208','鼻渊舒口服液','10ml×10支/盒','70.75','盒','成都华神集团股份有限公司制药厂','164','101','BYSKFY','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('1101','86979474000208','盐酸奥布卡因凝胶','10ml:30mg×1支','3.21','支','沈阳绿洲制药有限公司','120','101','YSABKYNJ','2019-03-01 00:00:00','10','','1'), ('1102','86979474000209','盐酸溴己新葡萄糖注射液','100ml×1瓶','8.67','瓶','江西科伦药业有限公司','110','101','YSZJXPTTZSY','2019-03-01 00:00:00','10','','1'), ('1103','86979474000208','硫唑嘌呤片','50mg×60片/盒','5.35','盒','上海信谊药厂有限公司','111','101','LZZZP','2019-03-01 00:00:00','10','','1'), ('1104','86979474000209','苦楝皮','1000mg/g','15.20','克','','112','103','KZP','2019-03-01 00:00:00','10','','1'), ('1105','86979474000208','利妥昔单抗注射液(美罗华)','10ml:100mg×1支','0.23','支','上海罗氏制药有限公司','110','101','LTXDKZSY(MLH)','2019-03-01 00:00:00','10','','1'), ('1106','86979474000208','碘化油注射液(超液)','10ml:4.8g×1支','13.57','支','GUERBET 法国','110','101','DHYZSY(CY)','2019-03-01 00:00:00','10','','1'), ('1107','86979474000209','碘酸钠','500g×1瓶','37.44','瓶','','157','101','DSN','2019-03-01 00:00:00','10','','1'), ('1108','86979474000208','淀粉','1000mg/g','5.75','克','','157','101','DF','2019-03-01 00:00:00','10','','1'), ('1109','86979474000209','外用冻干人纤维蛋白粘合剂','2ml×1瓶','23.21','瓶','上海莱士血液制品股份有限公司','110','101','WYDGRXWDBZHJ','2019-03-01 00:00:00','10','','1'), ('1110','86979474000208','多巴酚丁胺注射液','20mg×10支/盒','6.30','盒','山东方明药业集团股份有限公司','110','101','DBFDAZSY','2019-03-01 00:00:00','10','','1'), ('1111','86979474000208','盐酸伐昔洛韦片(维德思)','0.5g×10片/盒','37.36','盒','葛兰素史克(中国)投资有限公司','111','101','YSFXLWP(WDS)','2019-03-01 00:00:00','10','','1'), ('1112','86979474000209','土牛膝','1000mg/g','48.73','克','江苏','112','103','TNX','2019-03-01 00:00:00','10','','1'), ('1113','86979474000208','一枝黄花','1000mg/g','46.44','克','江苏','112','103','YZHH','2019-03-01 00:00:00','10','','1'), ('1114','86979474000209','挂金灯','1000mg/g','29.75','克','江苏','112','103','GJD','2019-03-01 00:00:00','10','','1'), ('1115','86979474000208','马鞭草','1000mg/g','47.68','克','','112','103','MBC','2019-03-01 00:00:00','10','','1'), ('1116','86979474000208','盐酸托莫西汀','25mg×7粒/盒','22.58','盒','礼来（美国）公司S','114','101','YSTMXT','2019-03-01 00:00:00','10','','1'), ('1117','86979474000209','LB注射用两性霉素B(欧泊)','25mg×1瓶','41.45','瓶','华北制药股份有限公司','110','101','LBZSYLXMSB(OB)','2019-03-01 00:00:00','10','','1'), ('1118','86979474000208','乌灵胶囊','0.33g×36粒/盒','47.07','盒','浙江佐力药业有限公司','114','101','WLJN','2019-03-01 00:00:00','10','','1'), ('1119','86979474000209','参松养心胶囊','0.4g×36粒/盒','3.66','盒','北京以岭药业有限公司','114','102','CSYXJN','2019-03-01 00:00:00','10','','1'), ('1120','86979474000208','健之素牌消毒片','1.25g×80片/瓶','17.14','瓶','北京健之素医药科技有限责任公司','111','101','JZSPXDP','2019-03-01 00:00:00','10','','1'), ('1121','86979474000208','BG丁酸氢化可的松软膏(尤卓尔)','10g×1支','15.08','支','天津药业','121','101','BGDSQHKDSRG(YZE)','2019-03-01 00:00:00','10','','1'), ('1122','86979474000209','丁香油(BR)','100ml×1瓶','57.64','瓶','','157','101','DXY(BR)','2019-03-01 00:00:00','10','','1'), ('1123','86979474000208','巴曲酶注射液(东菱迪芙)','0.5ml×5Bu/支','25.00','支','北京托毕西药业有限公司0','110','101','BQMZSY(DLDZ)','2019-03-01 00:00:00','10','','1'), ('1124','86979474000209','吲哚美辛栓(消炎痛栓)','0.1g×10粒/盒','36.58','盒','湖北东信药业有限公司','125','101','ZZMXS(XYTS)','2019-03-01 00:00:00','10','','1'), ('1125','86979474000208','升麻','1000mg/g','8.42','克','黑龙江','112','103','SM','2019-03-01 00:00:00','10','','1'), ('1126','86979474000208','生百部','1000mg/g','0.34','克','山东','112','103','SBB','2019-03-01 00:00:00','10','','1'), ('1127','86979474000209','山莨菪碱(654-2)注射液','1ml:10mg×10支/盒','28.90','盒','杭州民生药业有限公司','110','101','SZZJ(654-2)ZSY','2019-03-01 00:00:00','10','','1'), ('1128','86979474000208','单硝酸异山梨酯缓释胶囊(异乐定)','50mg×10粒/盒','6.55','盒','珠海许瓦兹制药有限公司','137','101','DXSYSLZHSJN(YLD)','2019-03-01 00:00:00','10','','1'), ('1129','86979474000209','三七通舒胶囊','0.200g*12粒/盒','56.43','盒','成都华神集团有限公司','114','102','SQTSJN','2019-03-01 00:00:00','10','','1'), ('1130','86979474000208','复方对乙酰氨基酚片(散利痛','0.45g*20片/盒','10.74','盒','拜耳医药保健有限公司','111','101','FFDYXAJFP(SLT','2019-03-01 00:00:00','10','','1'), ('1131','86979474000208','BG桂枝茯苓胶囊','0.31g*100粒/盒','48.52','盒','江苏康缘药业股份有限公司','114','102','BGGZZZJN','2019-03-01 00:00:00','10','','1'), ('1132','86979474000209','草酸(AR)','500g×1瓶','82.11','瓶','','157','101','CS(AR)','2019-03-01 00:00:00','10','','1'), ('1133','86979474000208','草酸铵','500g×1瓶','52.22','瓶','','157','101','CSZ','2019-03-01 00:00:00','10','','1'), ('1134','86979474000209','长春西汀注射液(润坦)','2ml:10mg×1支','1.33','支','河南润弘制药股份有限公司','110','101','CCXTZSY(RT)','2019-03-01 00:00:00','10','','1'), ('1135','86979474000208','精蛋白锌胰岛素注射液(长效胰岛素)','400iu/10ml/支','10.87','支','江苏万邦生化医药股份有限公司','110','101','JDBXYDSZSY(CXYDS)','2019-03-01 00:00:00','10','','1'), ('1136','86979474000208','亚硫酸鈉(AR)','500g×1瓶','12.62','瓶','','157','101','YLSZ(AR)','2019-03-01 00:00:00','10','','1'), ('1137','86979474000209','亚硫酸氢钠(CP)','500g×1瓶','27.19','瓶','上海久亿','157','101','YLSQN(CP)','2019-03-01 00:00:00','10','','1'), ('1138','86979474000208','曲伏前列素滴眼液(苏为坦)','2.5ml:0.1mg×1支','36.95','支','美国爱尔康大药厂S','160','101','QFQLSDYY(SWT)','2019-03-01 00:00:00','10','','1'), ('1139','86979474000209','吗替麦考酚脂胶囊(骁悉)','250mg×40粒/盒','26.78','盒','上海罗氏制药有限公司','114','101','MTMKFZJN(ZX)','2019-03-01 00:00:00','10','','1'), ('1140','86979474000208','苯磺酸氨氯地平片(压氏达)','5mg×14片/盒','0.92','盒','华润赛科药业有限责任公司','111','101','BHSALDPP(YSD)','2019-03-01 00:00:00','10','','1'), ('1141','86979474000208','三乙醇胺','500ml×1瓶','78.18','瓶','','157','101','SYCA','2019-03-01 00:00:00','10','','1'), ('1142','86979474000209','色苷酸钠滴眼液','8ml×1支','6.90','支','武汉五景药业','160','101','SZSNDYY','2019-03-01 00:00:00','10','','1'), ('1143','86979474000208','参麦注射液','50ml×1瓶','53.24','瓶','雅安三九药业有限公司','110','101','CMZSY','2019-03-01 00:00:00','10','','1'), ('1144','86979474000209','参芪扶正注射液','250ml×1瓶','6.50','瓶','丽珠集团利民制药厂','110','101','CZFZZSY','2019-03-01 00:00:00','10','','1'), ('1145','86979474000208','LB盐酸布比卡因注射液','5ml:25mg×5支/盒','4.68','盒','上海禾丰制药有限公司','110','101','LBYSBBKYZSY','2019-03-01 00:00:00','10','','1'), ('1146','86979474000208','福辛普利钠片(蒙诺)','10mg×14片/瓶','49.01','瓶','中美上海施贵宝制药有限公司','111','101','FXPLNP(MN)','2019-03-01 00:00:00','10','','1'), ('1147','86979474000209','浓氨水','500ml×1瓶','26.69','瓶','','157','101','NAS','2019-03-01 00:00:00','10','','1'), ('1148','86979474000208','利巴韦林颗粒(同欣)','0.1g×20袋/盒','11.27','盒','中国药科大学制药有限公司','115','102','LBWLKL(TX)','2019-03-01 00:00:00','10','','1'), ('1149','86979474000209','蛇床子','1000mg/g','29.61','克','河北','112','103','SCZ','2019-03-01 00:00:00','10','','1'), ('1150','86979474000208','蛇莓','1000mg/g','68.09','克','江苏','112','103','SZ','2019-03-01 00:00:00','10','','1'), ('1151','86979474000208','射干','1000mg/g','11.25','克','江苏','112','103','SG','2019-03-01 00:00:00','10','','1'), ('1152','86979474000209','伸筋草','1000mg/g','28.34','克',' 浙江','112','103','SJC','2019-03-01 00:00:00','10','','1'), ('1153','86979474000208','三羟甲基氨基甲烷','100g×1瓶','11.25','瓶','','157','101','SQJJAJJW','2019-03-01 00:00:00','10','','1'), ('1154','86979474000209','硫酸羟氯喹片','0.1g*14片/盒','22.32','盒','上海中西制药有限公司','111','101','LSQLZP','2019-03-01 00:00:00','10','','1'), ('1155','86979474000208','辛荑花','1000mg/g','2.81','克','河南','112','103','XZH','2019-03-01 00:00:00','10','','1'), ('1156','86979474000208','杏仁','1000mg/g','6.46','克',' 江苏','112','103','XR','2019-03-01 00:00:00','10','','1'), ('1157','86979474000209','徐长卿','1000mg/g','26.86','克','安徽','112','103','XCQ','2019-03-01 00:00:00','10','','1'), ('1158','86979474000208','玄参','1000mg/g','25.60','克','江苏','112','103','XC','2019-03-01 00:00:00','10','','1'), ('1159','86979474000209','玄胡','1000mg/g','72.75','克','江苏','112','103','XH','2019-03-01 00:00:00','10','','1'), ('1160','86979474000208','丙三醇(AR)','500ml×1瓶','8.05','瓶','上海化试','119','101','BSC(AR)','2019-03-01 00:00:00','10','','1'), ('1161','86979474000208','地龙','1000mg/g','0.49','克','','112','103','DL','2019-03-01 00:00:00','10','','1'), ('1162','86979474000209','地榆炭','1000mg/g','3.23','克','江苏','112','103','DYT','2019-03-01 00:00:00','10','','1'), ('1163','86979474000208','独活','1000mg/g','88.40','克','湖北','112','103','DH','2019-03-01 00:00:00','10','','1'), ('1164','86979474000209','杜仲','1000mg/g','5.84','克',' 陕西','112','103','DZ','2019-03-01 00:00:00','10','','1'), ('1165','86979474000208','莪术','1000mg/g','9.15','克',' 四川','112','103','ZS','2019-03-01 00:00:00','10','','1'), ('1166','86979474000208','防风','1000mg/g','17.03','克','黑龙江','112','103','FF','2019-03-01 00:00:00','10','','1'), ('1167','86979474000209','防已','1000mg/g','32.33','克','广东','112','103','FY','2019-03-01 00:00:00','10','','1'), ('1168','86979474000208','五味子','1000mg/g','10.80','克','吉林','112','103','WWZ','2019-03-01 00:00:00','10','','1'), ('1169','86979474000209','稀签草','1000mg/g','13.82','克','江苏','112','103','XQC','2019-03-01 00:00:00','10','','1'), ('1170','86979474000208','细辛','1000mg/g','0.30','克','辽宁','112','103','XX','2019-03-01 00:00:00','10','','1'), ('1171','86979474000208','注射用地尔硫卓(合贝爽)','10mg×1支','14.65','支','天津田边制药有限公司','110','101','ZSYDELZ(HBS)','2019-03-01 00:00:00','10','','1'), ('1172','86979474000209','参芪片','0.3g×48片/盒','13.60','盒','吉林金恒制药股份有限公司','111','102','CZP','2019-03-01 00:00:00','10','','1'), ('1173','86979474000208','雪山金罗汉止痛涂膜剂','45mL/瓶','37.30','瓶','西藏康达药业有限公司','139','101','XSJLHZTTMJ','2019-03-01 00:00:00','10','','1'), ('1174','86979474000209','吸入用复方异丙托溴铵溶液（可必特','2.5ml*10支/盒','74.07','盒','勃林格殷格翰（上海）药业有限公司','119','101','XRYFFYBTZZRY（KBT','2019-03-01 00:00:00','10','','1'), ('1175','86979474000208','注射用甲泼尼龙琥珀酸钠(甲强龙)','0.5g×1支','19.54','支','辉瑞制药有限公司','110','101','ZSYJPNLZZSN(JQL)','2019-03-01 00:00:00','10','','1'), ('1176','86979474000208','丹红注射液','10ml×1支','53.41','支','山东丹红制药有限公司','110','101','DHZSY','2019-03-01 00:00:00','10','','1'), ('1177','86979474000209','强力枇杷露','100ml×1瓶','31.80','瓶','杭州胡庆余堂药业有限公司','158','102','QLZZL','2019-03-01 00:00:00','10','','1'), ('1178','86979474000208','十味蒂达胶囊','0.45g×10粒/盒','3.72','盒','西藏诺迪康药业股份有限公司','114','102','SWDDJN','2019-03-01 00:00:00','10','','1'), ('1179','86979474000209','麝香草酚','1g×1瓶','8.07','瓶','','157','101','SXCF','2019-03-01 00:00:00','10','','1'), ('1180','86979474000208','注射用醋酸曲普瑞林(达菲林)','3.75mg×1支','11.71','支','法国博福-益普生','161','101','ZSYCSQPRL(DFL)','2019-03-01 00:00:00','10','','1'), ('1181','86979474000208','硝酸咪康唑软膏(达克宁)','20g×1支','19.08','支','西安杨森制药有限公司','121','101','XSZKZRG(DKN)','2019-03-01 00:00:00','10','','1'), ('1182','86979474000209','阿片酊','100ml×1瓶','14.92','瓶','','157','101','AP','2019-03-01 00:00:00','10','','1'), ('1183','86979474000208','复合维生素 B 片','100片/瓶','80.34','瓶','南京白敬宇制药有限责任公司','111','101','FHWSS B P','2019-03-01 00:00:00','10','','1'), ('1184','86979474000209','甘油磷酸钠注射液(格列福斯)','10ml:2.16g×1支','3.72','支','无锡华瑞制药公司','110','101','GYLSNZSY(GLFS)','2019-03-01 00:00:00','10','','1'), ('1185','86979474000208','注射用更昔洛韦(丽科伟)','250mg×1瓶','54.29','瓶','湖北益科药业股份有限公司','161','101','ZSYGXLW(LKW)','2019-03-01 00:00:00','10','','1'), ('1186','86979474000208','注射用更昔洛韦(丽科伟）','50mg×1支','0.58','支','湖北益科药业股份有限公司','161','101','ZSYGXLW(LKW）','2019-03-01 00:00:00','10','','1'), ('1187','86979474000209','汞','250g×1瓶','10.22','瓶','','157','101','G','2019-03-01 00:00:00','10','','1'), ('1188','86979474000208','汞','500g×1瓶','7.01','瓶','','157','101','G','2019-03-01 00:00:00','10','','1'), ('1189','86979474000209','无水羊毛脂','500g×1瓶','27.37','瓶','上海','157','101','WSYMZ','2019-03-01 00:00:00','10','','1'), ('1190','86979474000208','无水乙醇(AR)','500ml×1瓶','1.18','瓶','上海久亿','157','101','WSYC(AR)','2019-03-01 00:00:00','10','','1'), ('1191','86979474000208','五倍子','1000mg/g','17.15','克','','112','103','WBZ','2019-03-01 00:00:00','10','','1'), ('1192','86979474000209','五氧化二砷','250g×1瓶','37.45','瓶','','157','101','WYHES','2019-03-01 00:00:00','10','','1'), ('1193','86979474000208','通心络胶囊','0.26g×30粒/盒','37.92','盒','石家庄以岭药业','114','101','TXLJN','2019-03-01 00:00:00','10','','1'), ('1194','86979474000209','赖氨肌醇维B12口服液(同笑)','100ml×1瓶','13.50','瓶','济川药业集团有限公司','164','101','LAJCWB12KFY(TX)','2019-03-01 00:00:00','10','','1'), ('1195','86979474000208','盐酸洛哌丁胺胶囊(易蒙停)','2mg×6片/盒','54.60','盒','西安杨森制药有限公司','114','101','YSLZDAJN(YMT)','2019-03-01 00:00:00','10','','1'), ('1196','86979474000208','银黄含化片','0.6g×24片/盒','23.37','盒','鲁南厚普制药有限公司','140','102','YHHHP','2019-03-01 00:00:00','10','','1'), ('1197','86979474000209','伊曲康唑口服液(斯皮仁诺)','150ml:1.5g×1瓶','5.74','瓶','比利时杨森制药公司','164','101','YQKZKFY(SPRN)','2019-03-01 00:00:00','10','','1'), ('1198','86979474000208','吡美莫司(爱宁达)乳膏','15g×1支','5.42','支','诺华制药（北京）有限公司','118','101','ZMMS(AND)RG','2019-03-01 00:00:00','10','','1'), ('1199','86979474000209','注射用多西他赛(艾素)','20mg×1支','72.37','支','江苏恒瑞医药股份有限公司','110','101','ZSYDXTS(AS)','2019-03-01 00:00:00','10','','1'), ('1200','86979474000208','萘敏维滴眼液(艾唯多)','10ml×1支','1.40','支','天津大冢制药公司','160','101','ZMWDYY(AWD)','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('1201','86979474000208','注射用放线菌素D(更生霉素）','200ug×1瓶','6.36','瓶','海正辉瑞制药有限公司','110','101','ZSYFXJSD(GSMS）','2019-03-01 00:00:00','10','','1'), ('1202','86979474000209','糊精','500g×1瓶','24.49','瓶','','157','101','HJ','2019-03-01 00:00:00','10','','1'), ('1203','86979474000208','瘪桃干','1000mg/g','26.02','克','江苏','112','103','BTG','2019-03-01 00:00:00','10','','1'), ('1204','86979474000209','地塞米松磷酸钠','5mg×10支/盒','12.17','盒','天津金耀药业有限公司','110','101','DSMSLSN','2019-03-01 00:00:00','10','','1'), ('1205','86979474000208','*碘酊','500ml/瓶','31.15','瓶','江苏常熟星海','157','101','DJ','2019-03-01 00:00:00','10','','1'), ('1206','86979474000208','注射用苯磺酸阿曲库铵','25mg×1瓶','34.55','瓶','上海恒瑞医药股份有限公司','110','101','ZSYBHSAQKZ','2019-03-01 00:00:00','10','','1'), ('1207','86979474000209','尼群地平软胶囊','10mg*24粒/瓶','54.51','瓶','澳诺（青岛）制药有限公司','159','101','NQDPRJN','2019-03-01 00:00:00','10','','1'), ('1208','86979474000208','氨甲苯酸(止血芳酸)注射液','10ml:0.1g×5支/盒','31.86','盒','扬州制药有限公司','110','101','AJBS(ZXFS)ZSY','2019-03-01 00:00:00','10','','1'), ('1209','86979474000209','甲睾酮片','5mg×100片/瓶','75.14','瓶','天津力生制药股份有限公司','111','101','JZTP','2019-03-01 00:00:00','10','','1'), ('1210','86979474000208','阿司匹林肠溶片','25mg×100片/瓶','28.14','瓶','石药集团欧意药业有限公司','133','101','ASPLCRP','2019-03-01 00:00:00','10','','1'), ('1211','86979474000208','米索前列醇片','0.2mg×3片/盒','0.49','盒','湖北葛店人福药业有限责任公司','111','101','MSQLCP','2019-03-01 00:00:00','10','','1'), ('1212','86979474000209','硝酸异山梨醇酯片(消心痛)','5mg×100片/瓶','25.81','瓶','南京白敬宇制药有限责任公司','111','101','XSYSLCZP(XXT)','2019-03-01 00:00:00','10','','1'), ('1213','86979474000208','硝酸钴','100g×1瓶','28.29','瓶','','157','101','XSZ','2019-03-01 00:00:00','10','','1'), ('1214','86979474000209','那格列奈片(唐力)','120mg×12片/盒','3.56','盒','诺华制药（北京）有限公司','111','101','NGLNP(TL)','2019-03-01 00:00:00','10','','1'), ('1215','86979474000208','戊二醛','250ml(6)×1瓶','8.41','瓶','兴化','157','101','WEQ','2019-03-01 00:00:00','10','','1'), ('1216','86979474000208','过氯酸(AR)','500ml×1瓶','64.19','瓶','','157','101','GLS(AR)','2019-03-01 00:00:00','10','','1'), ('1217','86979474000209','过氧化氢溶液','3%500ml×1瓶','9.98','瓶','南昌白云制药','119','101','GYHQRY','2019-03-01 00:00:00','10','','1'), ('1218','86979474000208','过氧乙酸','(AB)50ml/瓶','25.02','瓶','上海印化','157','101','GYYS','2019-03-01 00:00:00','10','','1'), ('1219','86979474000209','荔枝草颗粒','1g/15g/袋','13.68','袋','江阴','115','102','LZCKL','2019-03-01 00:00:00','10','','1'), ('1220','86979474000208','生甘草颗粒','3g/0.5g/袋','1.89','袋','江阴天江药业有限公司','115','102','SGCKL','2019-03-01 00:00:00','10','','1'), ('1221','86979474000208','生川乌','1000mg/g','57.82','克','陕西','112','103','SCW','2019-03-01 00:00:00','10','','1'), ('1222','86979474000209','生大黄','1000mg/g','6.24','克','青海','112','103','SDH','2019-03-01 00:00:00','10','','1'), ('1223','86979474000208','生地','1000mg/g','65.24','克','河南','112','103','SD','2019-03-01 00:00:00','10','','1'), ('1224','86979474000209','生甘草','1000mg/g','11.66','克','内蒙','112','103','SGC','2019-03-01 00:00:00','10','','1'), ('1225','86979474000208','铬黑T(IND)','25g×1瓶','12.44','瓶','南京','157','101','GHT(IND)','2019-03-01 00:00:00','10','','1'), ('1226','86979474000208','普通肉汤培养基','250g×1瓶','77.37','瓶','宁','157','101','PTRTPYJ','2019-03-01 00:00:00','10','','1'), ('1227','86979474000209','BG普乐安片(前列康)','0.5g×60片/瓶','16.09','瓶','楚雄老拨云堂药业有限公司','111','101','BGPLAP(QLK)','2019-03-01 00:00:00','10','','1'), ('1228','86979474000208','重组人粒细胞(格拉诺赛特)集落刺激因子注射液','250ug×1支','8.72','支','日本中外制药株式会社','110','101','ZZRLXB(GLNST)JLCJYZZSY','2019-03-01 00:00:00','10','','1'), ('1229','86979474000209','荔枝草','1000mg/g','7.19','克','','112','103','LZC','2019-03-01 00:00:00','10','','1'), ('1230','86979474000208','布洛芬混悬液(美林)','100ml×1瓶','66.93','瓶','上海强生制药有限公司','136','101','BLFHXY(ML)','2019-03-01 00:00:00','10','','1'), ('1231','86979474000208','硫酸吗啡缓释片(美施康定)','30mg×10片/盒','41.84','瓶','北京萌蒂制药有限公司','111','101','LSMFHSP(MSKD)','2019-03-01 00:00:00','10','','1'), ('1232','86979474000209','瑞格列奈片（诺和龙）','1mg×30片/盒','13.01','盒','丹麦诺和诺德公司','111','101','RGLNP（NHL）','2019-03-01 00:00:00','10','','1'), ('1233','86979474000208','培养基(1640)','1VIT','10.56','瓶','','157','101','PYJ(1640)','2019-03-01 00:00:00','10','','1'), ('1234','86979474000209','丙戊酸钠缓释片(德巴金)','500mg×30片/瓶','21.00','瓶','赛诺菲（杭州）制药有限公司','131','101','BWSNHSP(DBJ)','2019-03-01 00:00:00','10','','1'), ('1235','86979474000208','依帕司他片(唐林)','50mg×10片/盒','29.44','盒','扬子江药业集团南京海陵药业','111','101','YPSTP(TL)','2019-03-01 00:00:00','10','','1'), ('1236','86979474000208','利奈唑胺注射液(斯沃)','300ml:600mg×1瓶','0.17','瓶','辉瑞投资有限公司','110','101','LNZAZSY(SW)','2019-03-01 00:00:00','10','','1'), ('1237','86979474000209','碘[125I]密封籽源(上海）','1.000粒*1粒/粒','41.17','粒','上海欣科医药有限公司','110','101','D[125I]MFZY(SH）','2019-03-01 00:00:00','10','','1'), ('1238','86979474000208','槐耳颗粒(金克)','20g×6包/盒','10.23','盒','启东盖天力药业有限公司','115','102','HEKL(JK)','2019-03-01 00:00:00','10','','1'), ('1239','86979474000209','氨甲环酸氯化钠注射液(捷凝)','100ml:0.5g×1支','6.40','支','长春天诚药业有限公司','110','101','AJHSLHNZSY(JN)','2019-03-01 00:00:00','10','','1'), ('1240','86979474000208','复方甘草酸苷注射液(美能)','20ml×1支','17.80','支','卫材(中国)药业有限公司','110','101','FFGCSZZSY(MN)','2019-03-01 00:00:00','10','','1'), ('1241','86979474000208','戊酸雌二醇片(补佳乐)','1mg×21片/盒','1.55','盒','拜耳医药保健有限公司','111','101','WSCECP(BJL)','2019-03-01 00:00:00','10','','1'), ('1242','86979474000209','雄黄','1000mg/g','16.66','克','','112','103','XH','2019-03-01 00:00:00','10','','1'), ('1243','86979474000208','天葵子','1000mg/g','59.24','克','','112','103','TKZ','2019-03-01 00:00:00','10','','1'), ('1244','86979474000209','阿胶(东阿）','1000mg/g','26.35','克','山东','112','103','AJ(DA）','2019-03-01 00:00:00','10','','1'), ('1245','86979474000208','妥布霉素地塞米松滴眼液(典必殊）','5ml×1支','11.02','支','比利时 爱尔康','160','101','TBMSDSMSDYY(DBS）','2019-03-01 00:00:00','10','','1'), ('1246','86979474000208','生龙骨','1000mg/g','0.06','克','山西普德药业股份有限公司','112','103','SLG','2019-03-01 00:00:00','10','','1'), ('1247','86979474000209','生米仁','1000mg/g','28.47','克','江苏','112','103','SMR','2019-03-01 00:00:00','10','','1'), ('1248','86979474000208','膦甲酸钠注射液(可耐)','3g×250ml/瓶','1.67','瓶','正大天晴药业集团股份有限公司','110','101','ZJSNZSY(KN)','2019-03-01 00:00:00','10','','1'), ('1249','86979474000209','可溶性淀粉','500g×1瓶','50.38','瓶','','157','101','KRXDF','2019-03-01 00:00:00','10','','1'), ('1250','86979474000208','盐酸萘乙烯乙胺(AR)','10g×10克/瓶','8.21','瓶','','157','101','YSZYXYA(AR)','2019-03-01 00:00:00','10','','1'), ('1251','86979474000208','羊毛脂','500g×1瓶','12.13','瓶','中国华亭','157','101','YMZ','2019-03-01 00:00:00','10','','1'), ('1252','86979474000209','阿卡波糖片(卡博平)','50mg×30片/盒','57.69','盒','杭州中美华东制药有限公司','111','101','AKBTP(KBP)','2019-03-01 00:00:00','10','','1'), ('1253','86979474000208','钙羧酸指示剂(IND)','25g×1瓶','19.65','瓶','南京','157','101','GJSZSJ(IND)','2019-03-01 00:00:00','10','','1'), ('1254','86979474000209','乙酸铵','500g×1瓶','15.06','瓶','','157','101','YSZ','2019-03-01 00:00:00','10','','1'), ('1255','86979474000208','乙酸汞(AR)','250ml×1瓶','43.09','瓶','','157','101','YSG(AR)','2019-03-01 00:00:00','10','','1'), ('1256','86979474000208','乙酸乙酯(AR)','500ml×1瓶','1.19','瓶','','157','101','YSYZ(AR)','2019-03-01 00:00:00','10','','1'), ('1257','86979474000209','艾迪注射液','10ml×1支','5.63','支','贵州益佰制药股份有限公司','110','101','ADZSY','2019-03-01 00:00:00','10','','1'), ('1258','86979474000208','依托泊苷注射液(VP16)','5ml:0.1g×5支/盒','6.62','盒','江苏恒瑞医药股份有限公司','110','101','YTBZZSY(VP16)','2019-03-01 00:00:00','10','','1'), ('1259','86979474000209','阿莫西林胶囊(阿莫仙)','250mg×24片/盒','89.53','盒','香港联邦制药厂有限公司','111','101','AMXLJN(AMX)','2019-03-01 00:00:00','10','','1'), ('1260','86979474000208','注射用去甲万古霉素(万迅)','0.4g×1支','37.96','支','华北制药股份有限公司','161','101','ZSYQJWGMS(WY)','2019-03-01 00:00:00','10','','1'), ('1261','86979474000208','奥美沙坦酯片(傲坦)','20mg×7片/盒','95.00','盒','第一三共制药（上海）有限公司S','111','101','AMSTP(AT)','2019-03-01 00:00:00','10','','1'), ('1262','86979474000209','酮康唑乳膏(金达克宁)','15g×1支','42.15','支','西安杨森制药有限公司','121','101','TKZRG(JDKN)','2019-03-01 00:00:00','10','','1'), ('1263','86979474000208','阿普唑仑片','0.4mg×20片/盒','11.82','盒','江苏恩华药业股份有限公司','111','101','APZLP','2019-03-01 00:00:00','10','','1'), ('1264','86979474000209','雌三醇乳膏(欧维婷)','15mg/15g/支','18.24','支','欧加农制药有限公司S','134','101','CSCRG(OWZ)','2019-03-01 00:00:00','10','','1'), ('1265','86979474000208','曙红钠','25g×1瓶','8.56','瓶','','157','101','SHN','2019-03-01 00:00:00','10','','1'), ('1266','86979474000208','铬酸钾(AR)','500g×1瓶','22.00','瓶','','157','101','GSJ(AR)','2019-03-01 00:00:00','10','','1'), ('1267','86979474000209','过碘酸','100g×1瓶','30.81','瓶','','157','101','GDS','2019-03-01 00:00:00','10','','1'), ('1268','86979474000208','蝉蜕','1000mg/g','43.04','克','江苏','112','103','CT','2019-03-01 00:00:00','10','','1'), ('1269','86979474000209','炒白芍','1000mg/g','26.46','克',' 浙江','112','103','CBS','2019-03-01 00:00:00','10','','1'), ('1270','86979474000208','炒白术','1000mg/g','35.19','克','江苏','112','103','CBS','2019-03-01 00:00:00','10','','1'), ('1271','86979474000208','BG六味地黄丸','200粒/瓶','10.13','瓶','河南省宛西制约股份有限公司','163','102','BGLWDHW','2019-03-01 00:00:00','10','','1'), ('1272','86979474000209','格列喹酮(糖适平)片','30.000mg*24片/盒','9.46','盒','北京万辉双鹤药业有限责任公司','111','101','GLZT(TSP)P','2019-03-01 00:00:00','10','','1'), ('1273','86979474000208','吲达帕胺缓释片(纳催离)','1.5mg×10片/盒','13.60','盒','施维雅(天津)制药有限公司','131','101','ZDPAHSP(NCL)','2019-03-01 00:00:00','10','','1'), ('1274','86979474000209','注射用盐酸川芎嗪','0.12g×1支','0.27','支','哈尔滨三联药业股份有限公司','110','101','ZSYYSCZZ','2019-03-01 00:00:00','10','','1'), ('1275','86979474000208','曲克芦丁氯化钠注射液(维脑路通)','250ml:0.8g×1瓶','18.08','瓶','长春天诚药业有限公司','110','101','QKLDLHNZSY(WNLT)','2019-03-01 00:00:00','10','','1'), ('1276','86979474000208','通草','1000mg/g','18.12','克','070601','112','103','TC','2019-03-01 00:00:00','10','','1'), ('1277','86979474000209','LB痛血康胶囊','0.2g×12粒/盒','57.04','盒','福建汇天生物药业有限公司','114','101','LBTXKJN','2019-03-01 00:00:00','10','','1'), ('1278','86979474000208','妪姆色素(BS)','10g×1瓶','12.21','瓶','江西济民可信药业有限公司','157','101','ZMSS(BS)','2019-03-01 00:00:00','10','','1'), ('1279','86979474000209','磷酸三钠/AR','500g×1瓶','3.37','瓶','沪久意化试','157','101','LSSN/AR','2019-03-01 00:00:00','10','','1'), ('1280','86979474000208','妥布霉素地塞米松眼膏(典必殊)','0.3%/0.1:3.5g×1支','8.24','支','比利时 爱尔康','160','101','TBMSDSMSYG(DBS)','2019-03-01 00:00:00','10','','1'), ('1281','86979474000208','布林佐胺滴眼液(派立明)','5ml:50mg×1支','22.16','支','比利时 爱尔康','160','101','BLZADYY(PLM)','2019-03-01 00:00:00','10','','1'), ('1282','86979474000209','MUG培养基','25g/瓶','11.72','瓶','','157','101','MUGPYJ','2019-03-01 00:00:00','10','','1'), ('1283','86979474000208','阿米替林片','25mg×100片/瓶','13.10','瓶','常州第四药厂','111','101','AMTLP','2019-03-01 00:00:00','10','','1'), ('1284','86979474000209','壬二酸','100g×1瓶','33.63','瓶','上海','157','101','RES','2019-03-01 00:00:00','10','','1'), ('1285','86979474000208','精蛋白生物合成(诺和灵30R)人胰岛素笔芯','300iu/3ml/支','61.95','支','丹麦诺和诺德公司','110','101','JDBSWHC(NHL30R)RYDSBX','2019-03-01 00:00:00','10','','1'), ('1286','86979474000208','注射用雷替曲塞','2mg×1瓶','4.51','瓶','南京正大天晴制药有限公司','110','101','ZSYLTQS','2019-03-01 00:00:00','10','','1'), ('1287','86979474000209','孟鲁司特钠片(顺尔宁)','10mg×5片/盒','52.98','盒','默沙东制药（杭州）有限公司','111','101','MLSTNP(SEN)','2019-03-01 00:00:00','10','','1'), ('1288','86979474000208','注射用腺苷蛋氨酸(思美泰)','0.5g×5支/盒','8.10','盒','雅培贸易（上海）有限公司','161','101','ZSYXZDAS(SMT)','2019-03-01 00:00:00','10','','1'), ('1289','86979474000209','LB蒙脱石散(思密达)','3g×10袋/盒','12.54','盒','博福-益普生(天津)制药有限公司','116','101','LBMTSS(SMD)','2019-03-01 00:00:00','10','','1'), ('1290','86979474000208','参一胶囊','10mg×16粒/盒','17.65','盒','吉林亚泰制药股份有限公司','114','102','CYJN','2019-03-01 00:00:00','10','','1'), ('1291','86979474000208','注射用重组人白介素-11(巨和粒)','1.5mg×1支','47.97','支','齐鲁制药有限公司','110','101','ZSYZZRBJS-11(JHL)','2019-03-01 00:00:00','10','','1'), ('1292','86979474000209','六一散','1000mg/g','20.86','克','','112','103','LYS','2019-03-01 00:00:00','10','','1'), ('1293','86979474000208','六月雪','1000mg/g','13.71','克','江苏','112','103','LYX','2019-03-01 00:00:00','10','','1'), ('1294','86979474000209','龙齿','1000mg/g','44.51','克','','112','103','LC','2019-03-01 00:00:00','10','','1'), ('1295','86979474000208','龙胆草','1000mg/g','35.96','克','黑龙江','112','103','LDC','2019-03-01 00:00:00','10','','1'), ('1296','86979474000208','龙骨（煅）','1000mg/g','5.64','克','山西普德药业股份有限公司','112','103','LG（Z）','2019-03-01 00:00:00','10','','1'), ('1297','86979474000209','龙葵','1000mg/g','0.93','克','江苏','112','103','LK','2019-03-01 00:00:00','10','','1'), ('1298','86979474000208','漏芦','1000mg/g','26.13','克','河北','112','103','LL','2019-03-01 00:00:00','10','','1'), ('1299','86979474000209','芦根','1000mg/g','23.38','克','江苏','112','103','LG','2019-03-01 00:00:00','10','','1'), ('1300','86979474000208','鹿衔草','1000mg/g','59.44','克','浙江','112','103','LXC','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('1301','86979474000208','卡维地洛片(金络)','12.5mg×14片/盒','8.61','盒','齐鲁制药有限公司','111','101','KWDLP(JL)','2019-03-01 00:00:00','10','','1'), ('1302','86979474000209','地高辛片(上海)','0.25mg×30片/盒','27.10','盒','上海信谊药业有限公司','111','101','DGXP(SH)','2019-03-01 00:00:00','10','','1'), ('1303','86979474000208','丙戊酸钠片','0.2g×100片/瓶','48.37','瓶','湖南省湘中制药有限公司','111','101','BWSNP','2019-03-01 00:00:00','10','','1'), ('1304','86979474000209','肉桂','1000mg/g','71.55','克',' 广西','112','103','RG','2019-03-01 00:00:00','10','','1'), ('1305','86979474000208','双氯芬酸钠缓释胶囊(英太青)','50mg×20片/盒','12.79','盒','中国药科大学制药有限公司','111','101','SLFSNHSJN(YTQ)','2019-03-01 00:00:00','10','','1'), ('1306','86979474000208','10%葡萄糖注射液(塑瓶)','10g:100ml×1瓶','0.44','瓶','中国大冢制药有限公司','110','101','10%PTTZSY(SP)','2019-03-01 00:00:00','10','','1'), ('1307','86979474000209','注射用培美曲塞二钠(力比泰)','0.5g×1支','56.73','支','美国礼来亚洲公司S','110','101','ZSYPMQSEN(LBT)','2019-03-01 00:00:00','10','','1'), ('1308','86979474000208','阿达帕林凝胶(达芙文）','30g×1支','23.37','支','法国利博福尼制药公司','121','101','ADPLNJ(DZW）','2019-03-01 00:00:00','10','','1'), ('1309','86979474000209','阿拉伯胶','500g×1瓶','12.98','瓶','','157','101','ALBJ','2019-03-01 00:00:00','10','','1'), ('1310','86979474000208','龟板粉','1000mg/g','0.98','克','','112','103','GBF','2019-03-01 00:00:00','10','','1'), ('1311','86979474000208','LB桂林西瓜霜喷剂','2.5G','13.24','盒','桂林三金药业股份有限公司','113','101','LBGLXGSPJ','2019-03-01 00:00:00','10','','1'), ('1312','86979474000209','对乙酰氨基酚混悬滴剂(泰诺林)','15ml×1瓶','29.88','瓶','上海强生有限公司','130','101','DYXAJFHXDJ(TNL)','2019-03-01 00:00:00','10','','1'), ('1313','86979474000208','盐酸文拉法辛缓释片(博乐欣)','75mg×14片/盒','21.40','盒','成都康弘药业集团股份有限公司','111','101','YSWLFXHSP(BLX)','2019-03-01 00:00:00','10','','1'), ('1314','86979474000209','奥扎格雷钠注射液(晴尔)','2ml:40mg×1支','85.15','支','海南碧凯药业有限公司','110','101','AZGLNZSY(QE)','2019-03-01 00:00:00','10','','1'), ('1315','86979474000208','硫化铵','500g×1瓶','10.11','瓶','上海振兴','157','101','LHZ','2019-03-01 00:00:00','10','','1'), ('1316','86979474000208','硫酸铝钾','500g×1瓶','45.21','瓶','','157','101','LSLJ','2019-03-01 00:00:00','10','','1'), ('1317','86979474000209','硫酸铁铵','500g×1瓶','36.31','瓶','','157','101','LSTZ','2019-03-01 00:00:00','10','','1'), ('1318','86979474000208','复方利血平氨苯喋啶片','10片/盒','24.12','盒','华润双鹤药业股份有限公司','111','101','FFLXPABZZP','2019-03-01 00:00:00','10','','1'), ('1319','86979474000209','脑安颗粒','1.2g×10袋/盒','34.48','盒','河南省百泉制药有限公司','115','102','NAKL','2019-03-01 00:00:00','10','','1'), ('1320','86979474000208','溴化钾','500g×1瓶','74.84','瓶','','157','101','ZHJ','2019-03-01 00:00:00','10','','1'), ('1321','86979474000208','溴化钠','500g×1瓶','75.90','瓶','','157','101','ZHN','2019-03-01 00:00:00','10','','1'), ('1322','86979474000209','溴射香草酚兰','10g×1瓶','19.20','瓶','','157','101','ZSXCFL','2019-03-01 00:00:00','10','','1'), ('1323','86979474000208','次氯酸钠液','500ml×1瓶','16.88','瓶','上海久亿','157','101','CLSNY','2019-03-01 00:00:00','10','','1'), ('1324','86979474000209','器械型消毒液','300g×1瓶','86.02','瓶','南京万福金安','157','101','QXXXDY','2019-03-01 00:00:00','10','','1'), ('1325','86979474000208','前列欣胶囊','0.5g×54粒/盒','63.38','盒','济南宏济堂制药有限公司','114','101','QLXJN','2019-03-01 00:00:00','10','','1'), ('1326','86979474000208','醋酸泼尼松龙注射液(强的松龙)','125mg×1瓶','49.33','瓶','华中药业股份有限公司湖北','110','101','CSPNSLZSY(QDSL)','2019-03-01 00:00:00','10','','1'), ('1327','86979474000209','头孢克洛干混悬剂(希刻劳)','125mg×6袋/盒','68.13','盒','礼来苏州制药有限公司','136','101','TZKLGHXJ(XKL)','2019-03-01 00:00:00','10','','1'), ('1328','86979474000208','头孢克洛胶囊(希刻劳)','250mg×6粒/盒','69.64','盒','礼来苏州制药有限公司','114','101','TZKLJN(XKL)','2019-03-01 00:00:00','10','','1'), ('1329','86979474000209','阿奇霉素干混悬剂(希舒美）','0.1g×6袋/盒','58.87','盒','辉瑞制药有限公司','141','101','AQMSGHXJ(XSM）','2019-03-01 00:00:00','10','','1'), ('1330','86979474000208','盐酸普拉克索片(森福罗)','0.25mg×30片/盒','2.00','盒','勃林格殷格翰（德国）国际公司','111','101','YSPLKSP(SFL)','2019-03-01 00:00:00','10','','1'), ('1331','86979474000208','四氢呋喃','500ml×1瓶','88.67','瓶','','157','101','SQZZ','2019-03-01 00:00:00','10','','1'), ('1332','86979474000209','阿仑膦酸钠片(福善美)','70mg×1片/盒','23.59','盒','默沙东制药（杭州）有限公司','111','101','ALZSNP(FSM)','2019-03-01 00:00:00','10','','1'), ('1333','86979474000208','固酱紫GBC盐','10g×1瓶','20.64','瓶','','157','101','GJZGBCY','2019-03-01 00:00:00','10','','1'), ('1334','86979474000209','固兰B盐','10g×1瓶','44.20','瓶','','157','101','GLBY','2019-03-01 00:00:00','10','','1'), ('1335','86979474000208','干毛姜','1000mg/g','24.27','克','浙江','112','103','GMJ','2019-03-01 00:00:00','10','','1'), ('1336','86979474000208','甘露醇粉','1000克/包','11.00','包','','157','101','GLCF','2019-03-01 00:00:00','10','','1'), ('1337','86979474000209','甘松','1000mg/g','81.82','克','四川','112','103','GS','2019-03-01 00:00:00','10','','1'), ('1338','86979474000208','葛根','1000mg/g','54.90','克','广西','112','103','GG','2019-03-01 00:00:00','10','','1'), ('1339','86979474000209','公丁香','1000mg/g','9.87','克','','112','103','GDX','2019-03-01 00:00:00','10','','1'), ('1340','86979474000208','功劳叶','1000mg/g','5.88','克','江苏','112','103','GLY','2019-03-01 00:00:00','10','','1'), ('1341','86979474000208','勾藤','1000mg/g','6.54','克','','112','103','GT','2019-03-01 00:00:00','10','','1'), ('1342','86979474000209','注射用甲泼尼龙琥珀酸钠(甲强龙)','40mg×1支','20.10','支','辉瑞制药有限公司','110','101','ZSYJPNLZZSN(JQL)','2019-03-01 00:00:00','10','','1'), ('1343','86979474000208','注射用胸腺法新(迈普新)','1.6mg×1支','31.82','支','成都地奥九泓制药厂','110','101','ZSYXXFX(MPX)','2019-03-01 00:00:00','10','','1'), ('1344','86979474000209','胸腺五肽注射液(通达)','10mg*1支','96.64','支','北京世桥生物制药有限公司','110','101','XXWZZSY(TD)','2019-03-01 00:00:00','10','','1'), ('1345','86979474000208','亚硝基鉄氰化鈉','25g×1瓶','40.07','瓶','','157','101','YXJZQHZ','2019-03-01 00:00:00','10','','1'), ('1346','86979474000208','亚硝酸钠','500g×1瓶','3.84','瓶','湘尔康','157','101','YXSN','2019-03-01 00:00:00','10','','1'), ('1347','86979474000209','砂仁','1000mg/g','47.23','克',' 进口','112','103','SR','2019-03-01 00:00:00','10','','1'), ('1348','86979474000208','注射用去铁胺(得斯芬)','0.5g×1支','3.22','支','诺华制药（瑞士）','110','101','ZSYQTA(DSF)','2019-03-01 00:00:00','10','','1'), ('1349','86979474000209','乳宁颗粒','15g×9袋/盒','8.29','盒','南京同仁堂药业有限责任公司','115','102','RNKL','2019-03-01 00:00:00','10','','1'), ('1350','86979474000208','当飞利肝宁胶囊','0.25g×36粒/盒','39.08','盒','四川美大康药业有限公司','114','101','DFLGNJN','2019-03-01 00:00:00','10','','1'), ('1351','86979474000208','右旋糖酐40葡萄糖(塑瓶)注射液','500ml:30g:25g×1瓶','28.71','瓶','四川科伦药业有限公司','110','101','YXTG40PTT(SP)ZSY','2019-03-01 00:00:00','10','','1'), ('1352','86979474000209','尼莫地平片','20mg×50片/瓶','0.29','瓶','天津市中央药业有限公司','111','101','NMDPP','2019-03-01 00:00:00','10','','1'), ('1353','86979474000208','盐酸甲氧氯普胺(胃复安)注射液','10mg×10支/盒','6.08','盒','上海禾丰制药有限公司','110','101','YSJYLPA(WFA)ZSY','2019-03-01 00:00:00','10','','1'), ('1354','86979474000209','双氧水(30%)(AR)','500ml×1瓶','8.52','瓶','杭州万邦天诚药业有限公司','157','101','SYS(30%)(AR)','2019-03-01 00:00:00','10','','1'), ('1355','86979474000208','艾叶','1000mg/g','46.15','克','江苏','112','103','AY','2019-03-01 00:00:00','10','','1'), ('1356','86979474000208','八月扎','1000mg/g','62.10','克','江苏','112','103','BYZ','2019-03-01 00:00:00','10','','1'), ('1357','86979474000209','巴戟天','1000mg/g','2.59','克','广东','112','103','BZT','2019-03-01 00:00:00','10','','1'), ('1358','86979474000208','白扁豆','1000mg/g','29.15','克','江苏','112','103','BBD','2019-03-01 00:00:00','10','','1'), ('1359','86979474000209','左西孟旦注射液','5ml:12.5mg×1支','9.57','支','齐鲁制药有限公司','110','101','ZXMDZSY','2019-03-01 00:00:00','10','','1'), ('1360','86979474000208','枫蓼肠胃康颗粒','8g×9袋/盒','3.64','盒','海口市制药厂有限公司','115','102','FZCWKKL','2019-03-01 00:00:00','10','','1'), ('1361','86979474000208','复合维生素片(爱乐维-拜耳)','30片/盒','11.80','盒','拜耳医药保健有限公司','117','101','FHWSSP(ALW-BE)','2019-03-01 00:00:00','10','','1'), ('1362','86979474000209','燀桃仁颗粒','1g/10g/袋','73.23','袋','江阴天江药业有限公司','115','102','TRKL','2019-03-01 00:00:00','10','','1'), ('1363','86979474000208','克痒舒洗液','120ml×1瓶','38.78','瓶','合肥华威药业有限公司','142','101','KYSXY','2019-03-01 00:00:00','10','','1'), ('1364','86979474000209','防风颗粒','1g/6g/袋','22.57','袋','','115','102','FFKL','2019-03-01 00:00:00','10','','1'), ('1365','86979474000208','小牛血去蛋白提取物眼用凝胶','20%:5g×1支','25.14','支','沈阳兴齐眼药股份有限公司','132','101','XNXQDBTQWYYNJ','2019-03-01 00:00:00','10','','1'), ('1366','86979474000208','小儿消积止咳口服液','10ml*6支/盒','15.17','盒','鲁南厚普制药有限公司','164','101','XEXJZKKFY','2019-03-01 00:00:00','10','','1'), ('1367','86979474000209','尿毒清颗粒','5g*18袋/盒','21.52','盒','康臣药业（内蒙古）有限责任公司','115','102','NDQKL','2019-03-01 00:00:00','10','','1'), ('1368','86979474000208','右旋糖酐40葡萄糖注射液','6%500ml×1瓶','20.18','瓶','浙江天瑞药业有限公司','110','101','YXTG40PTTZSY','2019-03-01 00:00:00','10','','1'), ('1369','86979474000209','门冬氨酸鸟氨酸注射液(雅博司)','5g×5支/盒','18.51','盒','德国麦氏大药厂S','110','101','MDASNASZSY(YBS)','2019-03-01 00:00:00','10','','1'), ('1370','86979474000208','甲钴胺注射液(弥可宝)','1ml:500ug×10支/盒','22.81','盒','卫材(中国)药业有限公司','110','101','JZAZSY(MKB)','2019-03-01 00:00:00','10','','1'), ('1371','86979474000208','大黄庶虫丸','0.15g×20支/盒','0.42','盒','★江苏南通精华制药有限公司','163','102','DHSCW','2019-03-01 00:00:00','10','','1'), ('1372','86979474000209','维A酸霜(0.1%迪维霜)','0.1%15g×1支','5.64','支','重庆华邦制药有限公司','121','101','WASS(0.1%DWS)','2019-03-01 00:00:00','10','','1'), ('1373','86979474000208','心通口服液','10ml×6支/盒','1.54','盒','鲁南厚普制药有限公司','164','102','XTKFY','2019-03-01 00:00:00','10','','1'), ('1374','86979474000209','心元胶囊','0.3g×20粒/盒','9.80','盒','吉泰安四川药业有限公司','114','101','XYJN','2019-03-01 00:00:00','10','','1'), ('1375','86979474000208','注射用糜蛋白酶','4000iu×1支','36.98','支','上海上药第一生化药业有限公司','110','101','ZSYMDBM','2019-03-01 00:00:00','10','','1'), ('1376','86979474000208','青鹏软膏','20g×1支','7.93','支','西藏林芝奇正药业','121','101','QPRG','2019-03-01 00:00:00','10','','1'), ('1377','86979474000209','注射用奥美拉唑(洛赛克)','40mg×1支','35.27','支','阿斯利康制药有限公司','110','101','ZSYAMLZ(LSK)','2019-03-01 00:00:00','10','','1'), ('1378','86979474000208','长春瑞宾注射液(诺维本)','1ml:10mg×1支','37.10','支','法国PIERRE FABRE 5','110','101','CCRBZSY(NWB)','2019-03-01 00:00:00','10','','1'), ('1379','86979474000209','钆喷酸葡胺注射液(马根维显)','469mg×15ml/瓶','53.50','瓶','广州先灵药业有限公司','110','101','ZPSPAZSY(MGWX)','2019-03-01 00:00:00','10','','1'), ('1380','86979474000208','马钱子碱','10g×1瓶','2.85','瓶','','157','101','MQZJ','2019-03-01 00:00:00','10','','1'), ('1381','86979474000208','注射用头孢吡肟(马斯平)','1g×1瓶','83.76','瓶','中美上海施贵宝制药有限公司','110','101','ZSYTZZZ(MSP)','2019-03-01 00:00:00','10','','1'), ('1382','86979474000209','盐酸吗啡注射液','10mg×1支','4.10','支','沈阳第一制药有限公司','110','101','YSMFZSY','2019-03-01 00:00:00','10','','1'), ('1383','86979474000208','*B超耦合剂','50g×1瓶','8.99','瓶','','157','101','BCZHJ','2019-03-01 00:00:00','10','','1'), ('1384','86979474000209','精蛋白生物合成(诺和灵50R)人胰岛素笔芯','300iu/3ml/支','62.14','支','丹麦诺和诺德公司','110','101','JDBSWHC(NHL50R)RYDSBX','2019-03-01 00:00:00','10','','1'), ('1385','86979474000208','盐酸羟甲唑林喷雾剂','5mg/10ml/支','29.85','支','南京天朗','143','101','YSQJZLPWJ','2019-03-01 00:00:00','10','','1'), ('1386','86979474000208','巧克力香精','1000g×1瓶','32.57','瓶','','157','101','QKLXJ','2019-03-01 00:00:00','10','','1'), ('1387','86979474000209','吡嗪酰胺片','0.25g×100片/瓶','5.49','瓶','江苏四环生物股份','111','102','ZZXAP','2019-03-01 00:00:00','10','','1'), ('1388','86979474000208','甲磺酸倍他司汀片(敏使朗)','6mg×30片/盒','1.49','盒','卫材(中国)药业有限公司','111','101','JHSBTSTP(MSL)','2019-03-01 00:00:00','10','','1'), ('1389','86979474000209','盐酸伐昔洛韦胶囊(明竹欣)','0.15g×6粒/盒','6.06','盒','四川明欣药业有限公司','111','101','YSFXLWJN(MZX)','2019-03-01 00:00:00','10','','1'), ('1390','86979474000208','盐酸氨溴索片(沐舒坦)','30mg×20片/盒','11.82','盒','勃林格殷格翰（上海）药业有限公司','111','101','YSAZSP(ZST)','2019-03-01 00:00:00','10','','1'), ('1391','86979474000208','盐酸氨溴索注射液(沐舒坦)','2ml:15mg×5支/盒','20.05','盒','勃林格殷格翰（上海）药业有限公司','110','101','YSAZSZSY(ZST)','2019-03-01 00:00:00','10','','1'), ('1392','86979474000209','硝酸异山梨酯注射液(异舒吉)','10ml:10mg×10支/盒','30.56','盒','珠海许瓦兹制药有限公司','110','101','XSYSLZZSY(YSJ)','2019-03-01 00:00:00','10','','1'), ('1393','86979474000208','珍菊降压片','0.25g×60片/盒','71.92','盒','上海雷允上药业有限公司','111','102','ZJJYP','2019-03-01 00:00:00','10','','1'), ('1394','86979474000209','金水宝胶囊','0.33g×63粒/瓶','16.71','瓶','江西济民可信金水宝制药有限公司','114','102','JSBJN','2019-03-01 00:00:00','10','','1'), ('1395','86979474000208','肉果','1000mg/g','3.02','克','  进口','112','103','RG','2019-03-01 00:00:00','10','','1'), ('1396','86979474000208','乳香','1000mg/g','6.28','克','广东','112','103','RX','2019-03-01 00:00:00','10','','1'), ('1397','86979474000209','三棱','1000mg/g','46.63','克','','112','103','SL','2019-03-01 00:00:00','10','','1'), ('1398','86979474000208','生物合成(诺和灵R)人胰岛素','400iu/10ml/瓶','27.54','瓶','丹麦诺和诺德公司','110','101','SWHC(NHLR)RYDS','2019-03-01 00:00:00','10','','1'), ('1399','86979474000209','门冬胰岛素30(诺和锐30笔芯)','300iu/3ml/支','31.24','支','丹麦诺和诺德公司','110','101','MDYDS30(NHR30BX)','2019-03-01 00:00:00','10','','1'), ('1400','86979474000208','醋酸戈舍瑞林缓释植入剂(诺雷得)','3.6mg×1支','7.26','支','阿斯利康制药有限公司','110','101','CSGSRLHSZRJ(NLD)','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('1401','86979474000208','昂丹司琼注射液(欧贝)','4ml:8mg×1支','59.93','支','齐鲁制药有限公司','110','101','ADSQZSY(OB)','2019-03-01 00:00:00','10','','1'), ('1402','86979474000209','重组人粒细胞(瑞白)刺激因子注射液','100ug×1支','57.89','支','齐鲁制药有限公司','110','101','ZZRLXB(RB)CJYZZSY','2019-03-01 00:00:00','10','','1'), ('1403','86979474000208','瑞氏色素','25g×1瓶','1.36','瓶','纟','157','101','RSSS','2019-03-01 00:00:00','10','','1'), ('1404','86979474000209','松龄血脉康胶囊','0.5g×30粒/瓶','61.04','瓶','成都康弘制药有限公司','114','102','SLXMKJN','2019-03-01 00:00:00','10','','1'), ('1405','86979474000208','马来酸氟伏沙明片（兰释）','50mg×30片/盒','36.04','盒','雅培贸易（上海）有限公司','111','101','MLSFFSMP（LS）','2019-03-01 00:00:00','10','','1'), ('1406','86979474000208','多巴胺注射液','2ml:20mg×10支/盒','39.56','盒','江苏亚邦强生业有限公司','110','101','DBAZSY','2019-03-01 00:00:00','10','','1'), ('1407','86979474000209','盐酸法舒地尔注射液','2ml:30mg×1支','1.50','支','天津红日药业股份有限公司','110','101','YSFSDEZSY','2019-03-01 00:00:00','10','','1'), ('1408','86979474000208','注射用伊立替康(艾力)','100mg×1支','67.24','支','江苏恒瑞医药股份有限公司','110','101','ZSYYLTK(AL)','2019-03-01 00:00:00','10','','1'), ('1409','86979474000209','维D钙咀嚼片(迪巧)','300mg×60片/瓶','0.04','瓶','美国安士制药有限公司','111','101','WDGJJP(DQ)','2019-03-01 00:00:00','10','','1'), ('1410','86979474000208','土贝母','1000mg/g','6.08','克','','112','103','TBM','2019-03-01 00:00:00','10','','1'), ('1411','86979474000208','甲巯咪唑片(赛治)','10mg×50片/盒','63.00','盒','德国默克','111','101','JZZZP(SZ)','2019-03-01 00:00:00','10','','1'), ('1412','86979474000209','扁蓄','1000mg/g','69.20','克','江苏','112','103','BX','2019-03-01 00:00:00','10','','1'), ('1413','86979474000208','盐酸罗哌卡因注射液(耐乐品)','10ml:75mg×5支/盒','68.01','盒','阿斯利康制药有限公司','110','101','YSLZKYZSY(NLP)','2019-03-01 00:00:00','10','','1'), ('1414','86979474000209','盐酸普鲁卡因注射液','2ml:40mg×10支/盒','8.21','盒','山东方明药业集团股份有限公司','110','101','YSPLKYZSY','2019-03-01 00:00:00','10','','1'), ('1415','86979474000208','盐酸曲马多注射液(舒敏)','2ml:0.1g×5支/盒','62.99','盒','德国格兰泰有限公司','110','101','YSQMDZSY(SM)','2019-03-01 00:00:00','10','','1'), ('1416','86979474000208','氯化钙注射液','5%20ml×5支/盒','57.90','盒','上海信谊金朱药业有限公司','110','101','LHGZSY','2019-03-01 00:00:00','10','','1'), ('1417','86979474000209','兰索拉唑肠溶片','15mg×14片/盒','41.80','盒','扬子江药业集团有限公司','133','101','LSLZCRP','2019-03-01 00:00:00','10','','1'), ('1418','86979474000208','舒洛地特软胶囊','250LSU×50片/盒','0.28','盒','意大利阿尔法韦士曼制药','111','101','SLDTRJN','2019-03-01 00:00:00','10','','1'), ('1419','86979474000209','注射用头孢曲松钠(罗氏芬)','0.25g×1支','50.30','支','上海罗氏制药','110','101','ZSYTZQSN(LSF)','2019-03-01 00:00:00','10','','1'), ('1420','86979474000208','中性树胶','100ml×1瓶','54.86','瓶','','157','101','ZXSJ','2019-03-01 00:00:00','10','','1'), ('1421','86979474000208','重铬酸钾','500g×1瓶','1.66','瓶','上海信谊天平药业有限公司','157','101','ZGSJ','2019-03-01 00:00:00','10','','1'), ('1422','86979474000209','苯巴比妥钠片(鲁米那)','30mg×100片/瓶','1.73','瓶','上海信谊药厂有限公司','111','101','BBBTNP(LMN)','2019-03-01 00:00:00','10','','1'), ('1423','86979474000208','氯化钾缓释片(补达秀)','0.5g×24片/盒','6.94','盒','广州迈特兴华制药厂有限公司','111','101','LHJHSP(BDX)','2019-03-01 00:00:00','10','','1'), ('1424','86979474000209','雷公藤多甙片','10mg×50片/瓶','7.13','瓶','浙江得恩德制药有限公司','111','101','LGTDZP','2019-03-01 00:00:00','10','','1'), ('1425','86979474000208','利福喷丁胶囊(迪克菲)','0.15g×20粒/瓶','15.95','瓶','无锡福祈制药有限公司','114','101','LFPDJN(DKF)','2019-03-01 00:00:00','10','','1'), ('1426','86979474000208','心脉隆注射液','2ml:100mg×1支','7.36','支','云南腾药制药股份有限公司','110','101','XMLZSY','2019-03-01 00:00:00','10','','1'), ('1427','86979474000209','白菊花','1000mg/g','27.70','克','浙江','112','103','BJH','2019-03-01 00:00:00','10','','1'), ('1428','86979474000208','白毛夏枯草','1000mg/g','8.29','克','','112','103','BMXKC','2019-03-01 00:00:00','10','','1'), ('1429','86979474000209','白茅根','1000mg/g','1.17','克','江苏','112','103','BMG','2019-03-01 00:00:00','10','','1'), ('1430','86979474000208','白前','1000mg/g','5.62','克','','112','103','BQ','2019-03-01 00:00:00','10','','1'), ('1431','86979474000208','白薇','1000mg/g','0.51','克','','112','103','BZ','2019-03-01 00:00:00','10','','1'), ('1432','86979474000209','白藓皮','1000mg/g','8.95','克','  辽宁','112','103','BZP','2019-03-01 00:00:00','10','','1'), ('1433','86979474000208','白芷','1000mg/g','24.16','克','四川','112','103','BZ','2019-03-01 00:00:00','10','','1'), ('1434','86979474000209','百合','1000mg/g','49.30','克','江苏','112','103','BH','2019-03-01 00:00:00','10','','1'), ('1435','86979474000208','柏子仁','1000mg/g','18.07','克','江苏','112','103','BZR','2019-03-01 00:00:00','10','','1'), ('1436','86979474000208','败酱草','1000mg/g','6.00','克',' 江苏','112','103','BJC','2019-03-01 00:00:00','10','','1'), ('1437','86979474000209','板蓝根','1000mg/g','26.70','克',' 江苏','112','103','BLG','2019-03-01 00:00:00','10','','1'), ('1438','86979474000208','半枝连','1000mg/g','28.57','克','江苏','112','103','BZL','2019-03-01 00:00:00','10','','1'), ('1439','86979474000209','特布他林雾化液（博利康尼）','5mg:2ml×5支/袋','22.20','袋','阿斯利康制药有限公司','122','101','TBTLWHY（BLKN）','2019-03-01 00:00:00','10','','1'), ('1440','86979474000208','酪酸梭菌活菌散剂(米雅)','1g×6包/袋','60.14','袋','日本米雅利桑制药株式会社','113','101','LSSJHJSJ(MY)','2019-03-01 00:00:00','10','','1'), ('1441','86979474000208','BG甲硝唑片（灭滴灵）','0.2g×21片/袋','6.47','袋','华中药业股份有限公司湖北','111','101','BGJXZP（MDL）','2019-03-01 00:00:00','10','','1'), ('1442','86979474000209','阳离子树脂732','1000g×1袋','23.84','袋','南京','157','101','YLZSZ732','2019-03-01 00:00:00','10','','1'), ('1443','86979474000208','雷贝拉唑肠溶片（波利特）','10mg×7片/盒','38.54','盒','卫材(中国)药业有限公司','133','101','LBLZCRP（BLT）','2019-03-01 00:00:00','10','','1'), ('1444','86979474000209','鳖甲','1000mg/g','8.45','克','江苏','112','103','BJ','2019-03-01 00:00:00','10','','1'), ('1445','86979474000208','槟榔片','1000mg/g','2.07','克','','112','103','ZLP','2019-03-01 00:00:00','10','','1'), ('1446','86979474000208','冰片','1000mg/g','10.61','克','','112','103','BP','2019-03-01 00:00:00','10','','1'), ('1447','86979474000209','炮姜','1000mg/g','46.45','克','四川','112','103','PJ','2019-03-01 00:00:00','10','','1'), ('1448','86979474000208','浮小麦','1000mg/g','28.54','克','南京','112','103','FXM','2019-03-01 00:00:00','10','','1'), ('1449','86979474000209','复盆子','1000mg/g','21.74','克','安徽','112','103','FPZ','2019-03-01 00:00:00','10','','1'), ('1450','86979474000208','干姜','1000mg/g','5.97','克','四川','112','103','GJ','2019-03-01 00:00:00','10','','1'), ('1451','86979474000208','切片石腊','500g×1瓶','22.39','瓶','','157','101','QPSL','2019-03-01 00:00:00','10','','1'), ('1452','86979474000209','LB黄体酮注射液','20mg×10支/盒','61.19','盒','浙江仙居制药','110','101','LBHTTZSY','2019-03-01 00:00:00','10','','1'), ('1453','86979474000208','盐酸文拉法辛缓释胶囊(怡诺思)','75mg×14粒/盒','52.82','盒','惠氏制药有限公司','137','101','YSWLFXHSJN(ZNS)','2019-03-01 00:00:00','10','','1'), ('1454','86979474000209','门冬胰岛素30(诺和锐30特充)','300iu:3ml×1支','14.94','支','丹麦诺和诺德公司','110','101','MDYDS30(NHR30TC)','2019-03-01 00:00:00','10','','1'), ('1455','86979474000208','诺延手消毒啫哩','5000ml×1瓶','5.22','瓶','芬兰奥瑞恩诺瑞 ','157','101','NYSXDZL','2019-03-01 00:00:00','10','','1'), ('1456','86979474000208','艾尔可牌免洗手消毒凝胶','500ml×1瓶','84.99','瓶','江苏九寿堂生物制品有限公司','157','101','AEKPMXSXDNJ','2019-03-01 00:00:00','10','','1'), ('1457','86979474000209','注射用硼替佐米（万珂）','3.5mg×1支','31.31','支','西安杨森制药有限公司','110','101','ZSYPTZM（WZ）','2019-03-01 00:00:00','10','','1'), ('1458','86979474000208','十二烷基硫酸钠','500g×1瓶','41.11','瓶','上海久亿','157','101','SEWJLSN','2019-03-01 00:00:00','10','','1'), ('1459','86979474000209','盘龙七薄膜衣片','0.3g*36片/盒','41.37','盒','陕西盘龙制药','111','101','PLQBMYP','2019-03-01 00:00:00','10','','1'), ('1460','86979474000208','BG胰激肽原酶肠溶片(怡开)','120u×24片/盒','1.40','盒','常州千红生化制药股份有限公司','111','101','BGYJZYMCRP(ZK)','2019-03-01 00:00:00','10','','1'), ('1461','86979474000208','毛果芸香碱','100g×1瓶','28.32','瓶','德国','157','101','MGZXJ','2019-03-01 00:00:00','10','','1'), ('1462','86979474000209','联苯苄唑乳膏(美克)','10g×1支','0.44','支','拜耳医药保健有限公司','134','101','LBZZRG(MK)','2019-03-01 00:00:00','10','','1'), ('1463','86979474000208','双歧杆菌三联活菌(金双歧)片','0.5g×24片/盒','56.41','盒','内蒙古双奇药业股份有限公司','114','101','SQGJSLHJ(JSQ)P','2019-03-01 00:00:00','10','','1'), ('1464','86979474000209','磷酸可待因片','30mg×20片/盒','2.12','盒','国药工业','111','101','LSKDYP','2019-03-01 00:00:00','10','','1'), ('1465','86979474000208','硫磺','500g×1包','14.66','包','','157','101','LH','2019-03-01 00:00:00','10','','1'), ('1466','86979474000208','B-萘酚','100g/瓶','96.78','瓶','','157','101','B-ZF','2019-03-01 00:00:00','10','','1'), ('1467','86979474000209','B-萘酚(AR)','100g×1瓶','5.93','瓶','','157','101','B-ZF(AR)','2019-03-01 00:00:00','10','','1'), ('1468','86979474000208','*EDTA二鉀','100g/瓶','8.13','瓶','','157','101','EDTAEZ','2019-03-01 00:00:00','10','','1'), ('1469','86979474000209','EDTA二钠','250g/瓶','27.08','瓶','','157','101','EDTAEN','2019-03-01 00:00:00','10','','1'), ('1470','86979474000208','EDTA二钠','250g/瓶','41.78','瓶','','157','101','EDTAEN','2019-03-01 00:00:00','10','','1'), ('1471','86979474000208','KBR','500g/瓶','1.47','瓶','','157','101','KBR','2019-03-01 00:00:00','10','','1'), ('1472','86979474000209','L-组氨酸','5g/瓶','40.81','瓶','','157','101','L-ZAS','2019-03-01 00:00:00','10','','1'), ('1473','86979474000208','PH标准物质','4Ts×1片/袋','17.40','袋','宁','157','101','PHBZWZ','2019-03-01 00:00:00','10','','1'), ('1474','86979474000209','PNP-NAG','0.5g×1瓶','0.14','瓶','','157','101','PNP-NAG','2019-03-01 00:00:00','10','','1'), ('1475','86979474000208','路路通','1000mg/g','7.11','克','江苏','112','103','LLT','2019-03-01 00:00:00','10','','1'), ('1476','86979474000208','络石藤','1000mg/g','82.47','克','安徽','112','103','LST','2019-03-01 00:00:00','10','','1'), ('1477','86979474000209','麻黄根','1000mg/g','6.07','克','山西普德药业股份有限公司','112','103','MHG','2019-03-01 00:00:00','10','','1'), ('1478','86979474000208','麦冬','1000mg/g','89.88','克','四川','112','103','MD','2019-03-01 00:00:00','10','','1'), ('1479','86979474000209','蔓荆子','1000mg/g','14.37','克','','112','103','MJZ','2019-03-01 00:00:00','10','','1'), ('1480','86979474000208','猫爪草','1000mg/g','25.39','克','','112','103','MZC','2019-03-01 00:00:00','10','','1'), ('1481','86979474000208','没药','1000mg/g','75.05','克','  进口','112','103','MY','2019-03-01 00:00:00','10','','1'), ('1482','86979474000209','苯磺酸左旋氨氯地平片(施慧达)','2.5mg×14片/盒','38.76','盒','施慧达药业集团(吉林)有限公司','111','101','BHSZXALDPP(SHD)','2019-03-01 00:00:00','10','','1'), ('1483','86979474000208','平地木','1000mg/g','26.20','克','江苏','112','103','PDM','2019-03-01 00:00:00','10','','1'), ('1484','86979474000209','七叶一枝花（重楼）','1000mg/g','14.99','克','江苏','112','103','QYYZH（ZL）','2019-03-01 00:00:00','10','','1'), ('1485','86979474000208','蕲蛇','1000mg/g','39.79','克','','112','103','ZS','2019-03-01 00:00:00','10','','1'), ('1486','86979474000208','荠菜花','1000mg/g','2.34','克','江苏','112','103','ZCH','2019-03-01 00:00:00','10','','1'), ('1487','86979474000209','千里光','1000mg/g','44.81','克','','112','103','QLG','2019-03-01 00:00:00','10','','1'), ('1488','86979474000208','前胡','1000mg/g','81.76','克','浙江','112','103','QH','2019-03-01 00:00:00','10','','1'), ('1489','86979474000209','芡实','1000mg/g','28.92','克','江苏','112','103','ZS','2019-03-01 00:00:00','10','','1'), ('1490','86979474000208','卡前列素氨丁三醇注射液(欣母沛)','250ug/1ml×1支','50.03','支','美国辉瑞制药','110','101','KQLSADSCZSY(XMP)','2019-03-01 00:00:00','10','','1'), ('1491','86979474000208','芬太尼透皮贴剂(多瑞吉)','4.2mg×5贴/盒','4.71','盒','西安杨森制药有限公司','144','101','FTNTPTJ(DRJ)','2019-03-01 00:00:00','10','','1'), ('1492','86979474000209','转化糖电解质注射液(田力)','500ml×1袋','43.23','袋','扬子江药业集团有限公司','110','101','ZHTDJZZSY(TL)','2019-03-01 00:00:00','10','','1'), ('1493','86979474000208','高氯酸','500ml×1瓶','27.97','瓶','','157','101','GLS','2019-03-01 00:00:00','10','','1'), ('1494','86979474000209','高锰酸钾AR','500g×1瓶','6.89','瓶','南京化学试剂有限公','157','101','GMSJAR','2019-03-01 00:00:00','10','','1'), ('1495','86979474000208','硼砂 药用','500g×1袋','0.38','袋','北京','157','101','PS YY','2019-03-01 00:00:00','10','','1'), ('1496','86979474000208','参莲胶囊','0.5g×60粒/瓶','11.74','瓶','通化金马药业','114','102','CLJN','2019-03-01 00:00:00','10','','1'), ('1497','86979474000209','参麦注射液','20ml×1支','25.56','支','正大青春宝药业有限公司','110','101','CMZSY','2019-03-01 00:00:00','10','','1'), ('1498','86979474000208','环孢素软胶囊(新山地明）','25mg×50粒/盒','17.49','盒','诺华制药（北京）有限公司','114','101','HZSRJN(XSDM）','2019-03-01 00:00:00','10','','1'), ('1499','86979474000209','奥曲肽注射液(善宁)','1ml:0.1mg×5支/盒','33.83','盒','诺华制药（瑞士）','110','101','AQZZSY(SN)','2019-03-01 00:00:00','10','','1'), ('1500','86979474000208','酒石酸托特罗定片(舍尼亭)','2mg×14片/盒','5.62','盒','南京美瑞制药有限公司','111','101','JSSTTLDP(SNT)','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('1501','86979474000208','麝香壮骨膏','8cm*13cm/10片/盒','22.18','盒','重庆陪都药业','145','102','SXZGG','2019-03-01 00:00:00','10','','1'), ('1502','86979474000209','二巯丙磺酸钠针','0.125g×10支/盒','7.94','盒','上海禾丰制药有限公司','110','101','EZBHSNZ','2019-03-01 00:00:00','10','','1'), ('1503','86979474000208','86消毒王','500ml×1瓶','35.65','瓶','','157','101','86XDW','2019-03-01 00:00:00','10','','1'), ('1504','86979474000209','甘草酸二铵注射液(甘利欣)','50mg×10ml×1支','41.65','支','正大天晴药业集团股份有限公司','110','101','GCSEZZSY(GLX)','2019-03-01 00:00:00','10','','1'), ('1505','86979474000208','甘露醇(AR)','100g×1瓶','5.23','瓶','','157','101','GLC(AR)','2019-03-01 00:00:00','10','','1'), ('1506','86979474000208','特比奈芬乳膏(丁克)','10g/0.1g×1支','69.90','支','齐鲁制药有限公司','121','101','TBNFRG(DK)','2019-03-01 00:00:00','10','','1'), ('1507','86979474000209','BG枸橼酸西地那非片(万艾可)','100mg×1片','5.44','片','辉瑞制药有限公司','111','101','BGZZSXDNFP(WAK)','2019-03-01 00:00:00','10','','1'), ('1508','86979474000208','注射用万古霉素(稳可信)','500mg×1支','17.48','支','礼来（美国）公司','161','101','ZSYWGMS(WKX)','2019-03-01 00:00:00','10','','1'), ('1509','86979474000209','重组人血管(恩度)内皮抑制素注射液','3ml：15mg×1支','55.97','支','烟台麦得津生物工程股份有限公司S','110','101','ZZRXG(ED)NPYZSZSY','2019-03-01 00:00:00','10','','1'), ('1510','86979474000208','LB人血白蛋白注射液(奥地利百特)','50ml:10g×1瓶','76.67','瓶','奥地利百特','110','101','LBRXBDBZSY(ADLBT)','2019-03-01 00:00:00','10','','1'), ('1511','86979474000208','瑞格列奈片(孚来迪)','0.5mg×30片/盒','67.28','盒','江苏豪森药业股份有限公司','111','101','RGLNP(ZLD)','2019-03-01 00:00:00','10','','1'), ('1512','86979474000209','单唾液酸四己糖神经节(申捷)注射液','2ml：20mg/1支','14.29','支','齐鲁制药有限公司','110','101','DTYSSJTSJJ(SJ)ZSY','2019-03-01 00:00:00','10','','1'), ('1513','86979474000208','异烟肼注射液','2ml:100mg×10支/盒','74.63','盒','天津金耀药业有限公司','110','101','YYZZSY','2019-03-01 00:00:00','10','','1'), ('1514','86979474000209','大黄炭','1000mg/g','0.07','克','青海','112','103','DHT','2019-03-01 00:00:00','10','','1'), ('1515','86979474000208','炙冬花','1000mg/g','12.11','克','','112','103','ZDH','2019-03-01 00:00:00','10','','1'), ('1516','86979474000208','炙甘草','1000mg/g','10.08','克',' 蒙.浙','112','103','ZGC','2019-03-01 00:00:00','10','','1'), ('1517','86979474000209','炒谷芽','1000mg/g','31.41','克','江苏','112','103','CGY','2019-03-01 00:00:00','10','','1'), ('1518','86979474000208','炒槐米','1000mg/g','22.50','克','河北','112','103','CHM','2019-03-01 00:00:00','10','','1'), ('1519','86979474000209','炒火麻仁','1000mg/g','21.16','克','江苏','112','103','CHMR','2019-03-01 00:00:00','10','','1'), ('1520','86979474000208','炒娄仁','1000mg/g','28.82','克','江苏','112','103','CLR','2019-03-01 00:00:00','10','','1'), ('1521','86979474000208','炒麦芽','1000mg/g','34.99','克','江苏','112','103','CMY','2019-03-01 00:00:00','10','','1'), ('1522','86979474000209','炒米仁','1000mg/g','38.63','克','','112','103','CMR','2019-03-01 00:00:00','10','','1'), ('1523','86979474000208','医用酒精    95%','500ml×1瓶','16.36','瓶','安徽','157','101','YYJJ    95%','2019-03-01 00:00:00','10','','1'), ('1524','86979474000209','医用酒精    95%','1000mg/g','1.74','克','南京','157','101','YYJJ    95%','2019-03-01 00:00:00','10','','1'), ('1525','86979474000208','胆盐乳糖培养基','250g×1瓶','0.40','瓶','','157','101','DYRTPYJ','2019-03-01 00:00:00','10','','1'), ('1526','86979474000208','注射用伊达比星（艾诺宁）','5mg×1支','39.87','支','浙江海正药业股份有限公司S','110','101','ZSYYDBX（ANN）','2019-03-01 00:00:00','10','','1'), ('1527','86979474000209','硫代硫酸钠针','0.64g*1支','92.73','支','上海新亚药业有限公司','110','101','LDLSNZ','2019-03-01 00:00:00','10','','1'), ('1528','86979474000208','硫氰酸铵(AR)','500g×1瓶','59.78','瓶','','157','101','LQSZ(AR)','2019-03-01 00:00:00','10','','1'), ('1529','86979474000209','泽兰叶','1000mg/g','48.41','克','江苏','112','103','ZLY','2019-03-01 00:00:00','10','','1'), ('1530','86979474000208','泽泻','1000mg/g','21.62','克','','112','103','ZX','2019-03-01 00:00:00','10','','1'), ('1531','86979474000208','浙贝母','1000mg/g','54.76','克','浙江','112','103','ZBM','2019-03-01 00:00:00','10','','1'), ('1532','86979474000209','珍珠母','1000mg/g','6.42','克','江苏','112','103','ZZM','2019-03-01 00:00:00','10','','1'), ('1533','86979474000208','知母','1000mg/g','35.82','克','河北','112','103','ZM','2019-03-01 00:00:00','10','','1'), ('1534','86979474000209','多烯磷酯酰胆碱注射液(天兴)','5ml:232.5mg×1支','6.61','支','成都天台山制药有限公司','110','101','DXLZXDJZSY(TX)','2019-03-01 00:00:00','10','','1'), ('1535','86979474000208','鹿角霜','1000mg/g','32.44','克','吉林','112','103','LJS','2019-03-01 00:00:00','10','','1'), ('1536','86979474000208','施保利通片','20片/盒','40.92','盒','德国夏培天然药物制药公司','111','101','SBLTP','2019-03-01 00:00:00','10','','1'), ('1537','86979474000209','BG单硝酸异山梨醇酯注射液(欣康)','20mg×6支/盒','2.26','盒','鲁南贝特制药有限公司','110','101','BGDXSYSLCZSY(XK)','2019-03-01 00:00:00','10','','1'), ('1538','86979474000208','注射用表柔比星(法玛新)','10mg×1支','4.78','支','辉瑞制药有限公司（无锡）','110','101','ZSYBRBX(FMX)','2019-03-01 00:00:00','10','','1'), ('1539','86979474000209','冰醋酸','500ml×1瓶','1.23','瓶','广东台山','157','101','BCS','2019-03-01 00:00:00','10','','1'), ('1540','86979474000208','癃闭舒胶囊','0.3g×36粒/盒','45.10','盒','石家庄科迪药业有限公司','114','102','ZBSJN','2019-03-01 00:00:00','10','','1'), ('1541','86979474000208','碘佛醇注射液','50ml:33.9g×1瓶','42.86','瓶','江苏恒瑞医药有限公司','110','101','DFCZSY','2019-03-01 00:00:00','10','','1'), ('1542','86979474000209','氨酚曲马多(及通安)','37.5mg×10片/盒','4.23','盒','','111','101','AFQMD(JTA)','2019-03-01 00:00:00','10','','1'), ('1543','86979474000208','琼脂粉','250g×1瓶','13.15','瓶','','157','101','QZF','2019-03-01 00:00:00','10','','1'), ('1544','86979474000209','琼脂糖(BR)','10g×1瓶','58.01','瓶','沪惠兴生化','157','101','QZT(BR)','2019-03-01 00:00:00','10','','1'), ('1545','86979474000208','秋水仙素(GR)','1g×1瓶','10.48','瓶','杭州万邦天诚药业有限公司','157','101','QSXS(GR)','2019-03-01 00:00:00','10','','1'), ('1546','86979474000208','注射用伊达比星(善唯达）','10mg×1支','17.40','支','辉瑞制药','110','101','ZSYYDBX(SWD）','2019-03-01 00:00:00','10','','1'), ('1547','86979474000209','醋酯酐(AR)','500ml×1瓶','16.79','瓶','宁','157','101','CZG(AR)','2019-03-01 00:00:00','10','','1'), ('1548','86979474000208','盐酸卡替洛尔滴眼液(美开朗)','2%5ml×1支','27.41','支','天津中国大冢制药','160','101','YSKTLEDYY(MKL)','2019-03-01 00:00:00','10','','1'), ('1549','86979474000209','超声导声胶','250g×1瓶','21.88','瓶','泰州市海陵超声材料','128','101','CSDSJ','2019-03-01 00:00:00','10','','1'), ('1550','86979474000208','布洛芬缓释胶囊(芬必得)','0.3g×20片/盒','5.78','盒','中美天津史克制药有限公司','114','101','BLFHSJN(FBD)','2019-03-01 00:00:00','10','','1'), ('1551','86979474000208','米非司酮片(息隐)','25mg×6片/盒','13.45','盒','上海医药新华联制药','111','101','MFSTP(XY)','2019-03-01 00:00:00','10','','1'), ('1552','86979474000209','氢溴酸西酞普兰片(喜普妙)','20mg×14片/盒','17.01','盒','西安杨森制药有限公司','111','101','QZSXTPLP(XPM)','2019-03-01 00:00:00','10','','1'), ('1553','86979474000208','头孢拉定胶囊(泛捷复)','0.25g×24片/盒','26.72','盒','中美上海施贵宝制药有限公司','114','101','TZLDJN(FJF)','2019-03-01 00:00:00','10','','1'), ('1554','86979474000209','茜草','1000mg/g','32.36','克','安徽','112','103','ZC','2019-03-01 00:00:00','10','','1'), ('1555','86979474000208','羌活','1000mg/g','80.25','克','四川','112','103','QH','2019-03-01 00:00:00','10','','1'), ('1556','86979474000208','秦艽','1000mg/g','34.54','克','内蒙','112','103','QZ','2019-03-01 00:00:00','10','','1'), ('1557','86979474000209','秦皮','1000mg/g','30.07','克','','112','103','QP','2019-03-01 00:00:00','10','','1'), ('1558','86979474000208','青黛','1000mg/g','26.33','克','','112','103','QD','2019-03-01 00:00:00','10','','1'), ('1559','86979474000209','春柴胡','1000mg/g','21.34','克','江苏','112','103','CCH','2019-03-01 00:00:00','10','','1'), ('1560','86979474000208','氟米龙滴眼液（氟美童）','5ml:5mg×1支','10.29','支','日本参天制药','160','101','FMLDYY（FMT）','2019-03-01 00:00:00','10','','1'), ('1561','86979474000208','LB复方地龙胶囊','0.28g×12粒/盒','28.57','盒','南京恒生制药有限公司','114','101','LBFFDLJN','2019-03-01 00:00:00','10','','1'), ('1562','86979474000209','注射用培美曲塞二钠(赛珍)','200mg×1支','9.37','支','齐鲁制药有限公司','110','101','ZSYPMQSEN(SZ)','2019-03-01 00:00:00','10','','1'), ('1563','86979474000208','卡前列甲酯栓','0.5mg×1枚','3.73','枚','东北制药总厂','125','101','KQLJZS','2019-03-01 00:00:00','10','','1'), ('1564','86979474000209','左氧氟沙星氯化钠注射液(左克)','100ml:0.2g×1瓶','11.32','瓶','扬子江药业集团有限公司','110','101','ZYFSXLHNZSY(ZK)','2019-03-01 00:00:00','10','','1'), ('1565','86979474000208','丙戊酸钠口服液','300ml×1瓶','83.86','瓶','赛诺菲（杭州）制药有限公司','164','101','BWSNKFY','2019-03-01 00:00:00','10','','1'), ('1566','86979474000208','地屈孕酮片','10mg×20片/盒','1.48','盒','雅培荷兰','111','101','DQYTP','2019-03-01 00:00:00','10','','1'), ('1567','86979474000209','小儿清肺颗粒','3g×9袋/盒','7.53','盒','河北巨龙药业','111','101','XEQFKL','2019-03-01 00:00:00','10','','1'), ('1568','86979474000208','复方红豆杉胶囊','0.3g×12粒/盒','52.64','盒','重庆赛诺生物药业有限公司','114','102','FFHDSJN','2019-03-01 00:00:00','10','','1'), ('1569','86979474000209','复方苦参注射液','5ml×5支/盒','16.51','盒','山西振东制药股份有限公司','110','101','FFKCZSY','2019-03-01 00:00:00','10','','1'), ('1570','86979474000208','复方氯唑沙宗片(鲁南贝特)','0.2g×24片/盒(0.125g+0.15g)','58.57','盒','鲁南贝特制药有限公司','111','101','FFLZSZP(LNBT)','2019-03-01 00:00:00','10','','1'), ('1571','86979474000208','肝素钠注射液','2ml:1.25万u×10支/盒','16.17','盒','常州千红生化制药股份有限公司','110','101','GSNZSY','2019-03-01 00:00:00','10','','1'), ('1572','86979474000209','葡萄糖氯化钠注射液(塑瓶)','5%250ml×1袋','27.66','袋','中国大冢制药有限公司','110','101','PTTLHNZSY(SP)','2019-03-01 00:00:00','10','','1'), ('1573','86979474000208','甜蜜素','1000g×1瓶','10.20','瓶','','157','101','TMS','2019-03-01 00:00:00','10','','1'), ('1574','86979474000209','硼酸','500g×1瓶','27.87','瓶','北京','157','101','PS','2019-03-01 00:00:00','10','','1'), ('1575','86979474000208','硼酸(AR)','500g×1瓶','70.76','瓶','北京','157','101','PS(AR)','2019-03-01 00:00:00','10','','1'), ('1576','86979474000208','皮肤康洗液','50ml×1瓶','2.00','瓶','北京华洋奎龙药业有限公司','119','101','PFKXY','2019-03-01 00:00:00','10','','1'), ('1577','86979474000209','皮肤消毒液','100ml×1瓶','41.41','瓶','靖江康爱特化工制造有限公司','157','101','PFXDY','2019-03-01 00:00:00','10','','1'), ('1578','86979474000208','生牡蛎','1000mg/g','5.65','克','江苏','112','103','SMZ','2019-03-01 00:00:00','10','','1'), ('1579','86979474000209','呋塞米注射液(速尿)','2ml:20mg×10支/盒','53.71','盒','天津金耀药业有限公司','110','101','ZSMZSY(SN)','2019-03-01 00:00:00','10','','1'), ('1580','86979474000208','异维A酸软胶囊(泰尔丝)','10mg×20片/盒','15.99','盒','上海信谊延安药业有限公司','114','101','YWASRJN(TES)','2019-03-01 00:00:00','10','','1'), ('1581','86979474000208','注射用人纤维蛋白元(法布莱士)','0.5g×1支','18.00','支','上海莱士血液制品股份有限公司','110','101','ZSYRXWDBY(FBLS)','2019-03-01 00:00:00','10','','1'), ('1582','86979474000209','香草醛(AR)','100g×1瓶','50.40','瓶','','157','101','XCQ(AR)','2019-03-01 00:00:00','10','','1'), ('1583','86979474000208','曲安奈德益康唑乳膏(派瑞松)','15g×1支','30.20','支','西安杨森制药有限公司','134','101','QANDYKZRG(PRS)','2019-03-01 00:00:00','10','','1'), ('1584','86979474000209','培养基(mug)','25g×1瓶','66.74','瓶','','157','101','PYJ(mug)','2019-03-01 00:00:00','10','','1'), ('1585','86979474000208','BG喷昔洛韦乳膏(夫坦)','10g×1支','2.67','支','重庆华邦制药有限公司','121','101','BGPXLWRG(FT)','2019-03-01 00:00:00','10','','1'), ('1586','86979474000208','碳酸氢钠','500g×1瓶','4.07','瓶','河北海骅','157','101','TSQN','2019-03-01 00:00:00','10','','1'), ('1587','86979474000209','糖精钠','500g×1瓶','22.52','瓶','','157','101','TJN','2019-03-01 00:00:00','10','','1'), ('1588','86979474000208','丙酮','500ml×1瓶','87.84','瓶','上海九亿','119','101','BT','2019-03-01 00:00:00','10','','1'), ('1589','86979474000209','丙酮酸(br)','20ml×1瓶','28.84','瓶','','157','101','BTS(br)','2019-03-01 00:00:00','10','','1'), ('1590','86979474000208','注射用帕米磷酸二钠(博宁)','15mg×1支','8.26','支','深圳海王药业有限公司','161','101','ZSYPMLSEN(BN)','2019-03-01 00:00:00','10','','1'), ('1591','86979474000208','薄荷脑','250g×1瓶','21.12','瓶','南通','157','101','BHN','2019-03-01 00:00:00','10','','1'), ('1592','86979474000209','注射用胰激肽原酶(怡开)','40u×1支','60.83','支','常州千红生化制药股份有限公司','110','101','ZSYYJZYM(ZK)','2019-03-01 00:00:00','10','','1'), ('1593','86979474000208','乙型肝炎人免疫球蛋白注射液','200iu×1支','82.39','支','成都蓉生药业有限公司','110','101','YXGYRMYQDBZSY','2019-03-01 00:00:00','10','','1'), ('1594','86979474000209','草木犀流浸液片(消脱止)','0.4g×50片/盒','52.50','盒','日本生晃荣养药品株式会社','111','101','CMXLJYP(XTZ)','2019-03-01 00:00:00','10','','1'), ('1595','86979474000208','曲他维林注射液(诺仕帕)','2ml×5支/盒','0.56','盒','赛诺菲（杭州）制药有限公司','110','101','QTWLZSY(NSP)','2019-03-01 00:00:00','10','','1'), ('1596','86979474000208','养血生发胶囊','0.5g*30粒/盒','12.68','盒','广州敬修堂药业股份有限公司','114','102','YXSFJN','2019-03-01 00:00:00','10','','1'), ('1597','86979474000209','肝素钠(BR)','1g×1瓶','6.87','瓶','','157','101','GSN(BR)','2019-03-01 00:00:00','10','','1'), ('1598','86979474000208','小蓟草','1000mg/g','36.55','克','江苏','112','103','XJC','2019-03-01 00:00:00','10','','1'), ('1599','86979474000209','薤白','1000mg/g','42.86','克',' 江苏','112','103','ZB','2019-03-01 00:00:00','10','','1'), ('1600','86979474000208','氟比洛芬酯注射液（凯纷）','5ml:50mg×1支','78.79','支','北京泰德制药股份有限公司','110','101','FBLFZZSY（KF）','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('1601','86979474000208','10%氯化钾注射液(塑瓶)','10ml:1g×1支','24.24','支','中国大冢制药有限公司','110','101','10%LHJZSY(SP)','2019-03-01 00:00:00','10','','1'), ('1602','86979474000209','唑来膦酸注射液(天晴依泰)','5ml:4mg/1支','7.39','支','正大天晴药业集团股份有限公司','110','101','ZLZSZSY(TQYT)','2019-03-01 00:00:00','10','','1'), ('1603','86979474000208','养胃舒胶囊','0.4g*24粒/盒','13.61','盒','合肥华润神鹿药业有限公司','114','101','YWSJN','2019-03-01 00:00:00','10','','1'), ('1604','86979474000209','琥珀酰明胶注射液(长源雪安)','500ml:20g×1瓶','20.06','瓶','吉林长源','110','101','ZZXMJZSY(CYXA)','2019-03-01 00:00:00','10','','1'), ('1605','86979474000208','硫酸鱼精蛋白注射液','50mg×5支/盒','0.97','盒','上海第一生化药业有限公司','110','101','LSYJDBZSY','2019-03-01 00:00:00','10','','1'), ('1606','86979474000208','生南星','1000mg/g','2.64','克','江苏','112','103','SNX','2019-03-01 00:00:00','10','','1'), ('1607','86979474000209','生蒲黄','1000mg/g','26.65','克','','112','103','SPH','2019-03-01 00:00:00','10','','1'), ('1608','86979474000208','生山楂','1000mg/g','18.46','克','','112','103','SSZ','2019-03-01 00:00:00','10','','1'), ('1609','86979474000209','生山枝','1000mg/g','14.90','克','浙江','112','103','SSZ','2019-03-01 00:00:00','10','','1'), ('1610','86979474000208','生石膏','1000mg/g','1.52','克','广东','112','103','SSG','2019-03-01 00:00:00','10','','1'), ('1611','86979474000208','石菖蒲','1000mg/g','14.79','克','江西','112','103','SZP','2019-03-01 00:00:00','10','','1'), ('1612','86979474000209','石斛','1000mg/g','11.95','克','广西','112','103','SH','2019-03-01 00:00:00','10','','1'), ('1613','86979474000208','石见穿','1000mg/g','15.20','克','江苏','112','103','SJC','2019-03-01 00:00:00','10','','1'), ('1614','86979474000209','复方曲安奈德软膏(复方康纳乐霜)','15g×1支','27.99','支','中美上海施贵宝制药有限公司','134','101','FFQANDRG(FFKNLS)','2019-03-01 00:00:00','10','','1'), ('1615','86979474000208','高三尖杉酯碱注射液','1mg×1支','41.32','支','杭州民生药业有限公司','110','101','GSJSZJZSY','2019-03-01 00:00:00','10','','1'), ('1616','86979474000208','二甲苯','500ml×1瓶','32.79','瓶','上海九亿','157','101','EJB','2019-03-01 00:00:00','10','','1'), ('1617','86979474000209','二甲基甲酰胺(AR)','500g×1瓶','15.72','瓶','上海久亿','157','101','EJJJXA(AR)','2019-03-01 00:00:00','10','','1'), ('1618','86979474000208','二甲基亚砜','500ml×1瓶','13.63','瓶','','157','101','EJJYZ','2019-03-01 00:00:00','10','','1'), ('1619','86979474000209','亚砷酸','500g×1瓶','18.46','瓶','','157','101','YSS','2019-03-01 00:00:00','10','','1'), ('1620','86979474000208','亚砷酸氯化钠注射液','10ml:10mg×1支','10.70','支','','110','101','YSSLHNZSY','2019-03-01 00:00:00','10','','1'), ('1621','86979474000208','亚鉄氰化钾(AR)','500g×1瓶','13.00','瓶','','157','101','YZQHJ(AR)','2019-03-01 00:00:00','10','','1'), ('1622','86979474000209','胰酶肠溶胶囊(得每通)','150mg×20片/盒','37.30','盒','雅培德国','114','101','YMCRJN(DMT)','2019-03-01 00:00:00','10','','1'), ('1623','86979474000208','盐酸胺碘酮注射液(可达龙)','150mg/3ml×6支/盒','44.93','盒','赛诺菲（杭州）制药有限公司','110','101','YSADTZSY(KDL)','2019-03-01 00:00:00','10','','1'), ('1624','86979474000209','伊曲康唑胶囊(斯皮仁诺)','100mg×14片/盒','85.73','盒','西安杨森制药有限公司','114','101','YQKZJN(SPRN)','2019-03-01 00:00:00','10','','1'), ('1625','86979474000208','沙利度胺片(反应停）','25mg×20片/盒','6.50','盒','常州制药厂有限公司','111','101','SLDAP(FYT）','2019-03-01 00:00:00','10','','1'), ('1626','86979474000208','黄氏响声丸','0.133g*108粒/盒','27.85','盒','无锡济民可信山禾药业股份有限公司','163','102','HSXSW','2019-03-01 00:00:00','10','','1'), ('1627','86979474000209','参芪降糖颗粒','3g*10袋/盒','15.65','盒','鲁南厚普制药有限公司','115','102','CZJTKL','2019-03-01 00:00:00','10','','1'), ('1628','86979474000208','地榆升白片','0.1g*40片/盒','34.32','盒','成都地奥集团天府药业股份有限公司','111','101','DYSBP','2019-03-01 00:00:00','10','','1'), ('1629','86979474000209','茵栀黄颗粒','3g*10袋/盒','31.21','盒','鲁南厚普制药有限公司','111','102','YZHKL','2019-03-01 00:00:00','10','','1'), ('1630','86979474000208','一清胶囊','0.5g*30粒/瓶','46.46','瓶','成都康弘制药有限公司','114','102','YQJN','2019-03-01 00:00:00','10','','1'), ('1631','86979474000208','乳增宁片','0.6g*60粒/瓶','53.05','瓶','深圳三顺制药有限公司','111','101','RZNP','2019-03-01 00:00:00','10','','1'), ('1632','86979474000209','气滞胃痛颗粒','5g*12袋/盒','25.80','盒','辽宁华润本溪三药有限公司','115','102','QZWTKL','2019-03-01 00:00:00','10','','1'), ('1633','86979474000208','注射用盐酸替罗非班','12.5mg×1瓶','59.33','瓶','山东新时代药业有限公司','110','101','ZSYYSTLFB','2019-03-01 00:00:00','10','','1'), ('1634','86979474000209','注射用重组人干扰素α-1b（赛若金','60ug×1瓶','20.19','瓶','深圳科兴生物工程有限公司S','161','101','ZSYZZRGRSα-1b（SRJ','2019-03-01 00:00:00','10','','1'), ('1635','86979474000208','皮肤消毒液（喷雾型）','100ml×1瓶','14.25','瓶','成都润兴消毒药业有限公司','157','101','PFXDY（PWX）','2019-03-01 00:00:00','10','','1'), ('1636','86979474000208','他克莫司胶囊（普乐可复）','0.5mg×50粒/盒','5.91','盒','安斯泰来制药(中国)有限公司','114','101','TKMSJN（PLKF）','2019-03-01 00:00:00','10','','1'), ('1637','86979474000209','注射用甲磺酸加贝酯(钦克)','0.1g×1瓶','12.89','瓶','常州四药制药有限公司','110','101','ZSYJHSJBZ(QK)','2019-03-01 00:00:00','10','','1'), ('1638','86979474000208','柳氮磺吡啶肠溶片','0.25g×60片/瓶','0.98','瓶','上海信谊天平药业有限公司','111','101','LDHZZCRP','2019-03-01 00:00:00','10','','1'), ('1639','86979474000209','米力农注射液(鲁南力康)','5mg×2支/盒','0.17','盒','鲁南贝特制药有限公司','110','101','MLNZSY(LNLK)','2019-03-01 00:00:00','10','','1'), ('1640','86979474000208','单硝酸异山梨酯片(欣康)','20mg×48片/盒','38.12','盒','鲁南贝特制药有限公司','111','101','DXSYSLZP(XK)','2019-03-01 00:00:00','10','','1'), ('1641','86979474000208','左炔诺孕酮(曼月乐)宫内节育系统','52mg×1粒/盒','12.56','盒','拜耳医药保健有限公司','131','101','ZQNYT(MYL)GNJYXT','2019-03-01 00:00:00','10','','1'), ('1642','86979474000209','粉萆藓','1000mg/g','51.29','克','浙江','112','103','FZZ','2019-03-01 00:00:00','10','','1'), ('1643','86979474000208','尼泊金','500g×1瓶','10.67','瓶','','157','101','NBJ','2019-03-01 00:00:00','10','','1'), ('1644','86979474000209','十六醇','250g×1瓶','94.19','瓶','上海久亿','157','101','SLC','2019-03-01 00:00:00','10','','1'), ('1645','86979474000208','醋酸泼尼松片(强的松)','5mg×100片/瓶','35.10','瓶','浙江仙琚制药股份有限公司','111','101','CSPNSP(QDS)','2019-03-01 00:00:00','10','','1'), ('1646','86979474000208','盐酸多西环素片（强力霉素）','0.1g×100片/瓶','38.98','瓶','','111','101','YSDXHSP（QLMS）','2019-03-01 00:00:00','10','','1'), ('1647','86979474000209','羟基脲片','0.5g×100片/瓶','33.00','瓶','齐鲁制药有限公司','111','102','QJZP','2019-03-01 00:00:00','10','','1'), ('1648','86979474000208','切片石腊','500g×1瓶','0.89','瓶','','157','101','QPSL','2019-03-01 00:00:00','10','','1'), ('1649','86979474000209','注射用奥沙利铂(乐沙定)','50mg*1支','0.78','支','赛诺菲（杭州）制药有限公司','110','101','ZSYASLB(LSD)','2019-03-01 00:00:00','10','','1'), ('1650','86979474000208','富马酸替诺福韦二吡呋酯(韦瑞德)','300mg*30片/盒','3.81','盒','Aspen port Elizabeth (pty) Ltd','111','101','FMSTNFWEZZZ(WRD)','2019-03-01 00:00:00','10','','1'), ('1651','86979474000208','琥珀','1000mg/g','10.67','克','','112','103','ZZ','2019-03-01 00:00:00','10','','1'), ('1652','86979474000209','降香','1000mg/g','21.38','克','','112','103','JX','2019-03-01 00:00:00','10','','1'), ('1653','86979474000208','艾瑞昔布片(恒扬)','0.1g*10片/盒','7.19','盒','江苏恒瑞医药股份有限公司','111','101','ARXBP(HY)','2019-03-01 00:00:00','10','','1'), ('1654','86979474000209','艾普拉唑肠溶片','5.000mg*10片/盒','6.51','盒','丽珠集团丽珠制药厂','111','101','APLZCRP','2019-03-01 00:00:00','10','','1'), ('1655','86979474000208','曲克芦丁脑蛋白水解物注射液(源之久)','2ml*1支','13.91','支','吉林四环制药有限公司','110','101','QKLDNDBSJWZSY(YZJ)','2019-03-01 00:00:00','10','','1'), ('1656','86979474000208','脾多肽注射液','2ml*1支','35.62','支','吉林丰生制药有限公司','110','101','PDZZSY','2019-03-01 00:00:00','10','','1'), ('1657','86979474000209','保妇康栓','1.74g*12粒/盒','2.03','盒','海南碧凯药业有限公司','125','101','BFKS','2019-03-01 00:00:00','10','','1'), ('1658','86979474000208','秋水仙碱片','0.500mg*40片/盒','3.82','盒','云南','111','101','QSXJP','2019-03-01 00:00:00','10','','1'), ('1659','86979474000209','狂犬病人免疫球蛋白（同路）','200.000iu*1瓶/瓶','1.66','瓶','安徽同路生物','110','101','KQBRMYQDB（TL）','2019-03-01 00:00:00','10','','1'), ('1660','86979474000208','复方托吡卡胺滴眼液（美多丽）','10.000ml*1支/支','12.17','支','日本参天制药株式会社','160','101','FFTZKADYY（MDL）','2019-03-01 00:00:00','10','','1'), ('1661','86979474000208','酒石酸唑吡坦片（思诺思）','10.000mg*7片/盒','2.32','盒','赛诺菲（杭州）制药有限公司','111','101','JSSZZTP（SNS）','2019-03-01 00:00:00','10','','1'), ('1662','86979474000209','复方盐酸伪麻黄碱胶囊(新康泰克)','8粒/盒','6.05','盒','中美天津史克制药公司','114','101','FFYSWMHJJN(XKTK)','2019-03-01 00:00:00','10','','1'), ('1663','86979474000208','非布司他（优立通）','40mg*16片/盒','34.49','盒','江苏万邦生化医药股份有限公司','111','101','FBST（YLT）','2019-03-01 00:00:00','10','','1'), ('1664','86979474000209','强肾片','0.630g*36片/盒','11.84','盒','辽宁上药好护士药业（集团）有限公司','111','101','QSP','2019-03-01 00:00:00','10','','1'), ('1665','86979474000208','注射用六氟化硫微泡(声诺维)','59mg*1瓶/盒','35.86','盒','上海博莱科信谊药业有限责任公司','110','101','ZSYLFHLWP(SNW)','2019-03-01 00:00:00','10','','1'), ('1666','86979474000208','非布司他片（瑞扬）','40.000mg*10片/盒','5.66','盒','江苏恒瑞医药股份有限公司S','111','101','FBSTP（RY）','2019-03-01 00:00:00','10','','1'), ('1667','86979474000209','熟大黄','1000mg/g','0.73','克','','112','103','SDH','2019-03-01 00:00:00','10','','1'), ('1668','86979474000208','荔枝核','1000mg/g','31.73','克','','112','103','LZH','2019-03-01 00:00:00','10','','1'), ('1669','86979474000209','枸橘','1000mg/g','5.42','克','','112','103','ZZ','2019-03-01 00:00:00','10','','1'), ('1670','86979474000208','葫芦瓢','1000mg/g','30.44','克','','112','103','HLP','2019-03-01 00:00:00','10','','1'), ('1671','86979474000208','茜草炭','1000mg/g','30.61','克','','112','103','ZCT','2019-03-01 00:00:00','10','','1'), ('1672','86979474000209','贯众','1000mg/g','79.45','克','','112','103','GZ','2019-03-01 00:00:00','10','','1'), ('1673','86979474000208','氨甲环酸片(妥塞敏)','0.5g×100片/盒','8.61','盒','重庆药友制药有限公司','111','101','AJHSP(TSM)','2019-03-01 00:00:00','10','','1'), ('1674','86979474000209','异烟肼片','0.1g*100片/瓶','74.03','瓶','天津力生制药股份有限公司','111','101','YYZP','2019-03-01 00:00:00','10','','1'), ('1675','86979474000208','桉柠蒎肠溶软胶囊(切诺)','0.120g*18粒/盒','0.42','盒','北京九和药业有限公司S','159','101','ZNZCRRJN(QN)','2019-03-01 00:00:00','10','','1'), ('1676','86979474000208','狂犬病人免疫球蛋白','200.000iu*1瓶/瓶','12.79','瓶','武汉生物制品研究所','110','101','KQBRMYQDB','2019-03-01 00:00:00','10','','1'), ('1677','86979474000209','盐酸氨基葡萄糖片(九力)','0.750g*18片/盒','9.38','盒','江苏清江药业有限公司','111','101','YSAJPTTP(JL)','2019-03-01 00:00:00','10','','1'), ('1678','86979474000208','双氯芬酸钠贴（来比新）','50mg*6片/盒(5*10cm)','64.35','盒','蚌埠丰原涂山制药有限公司','146','101','SLFSNT（LBX）','2019-03-01 00:00:00','10','','1'), ('1679','86979474000209','替格瑞洛片(倍林达)','90mg*14片/盒','24.11','盒','阿斯利康制药有限公司S','111','101','TGRLP(BLD)','2019-03-01 00:00:00','10','','1'), ('1680','86979474000208','注射用头孢硫脒(罗冰)','1.0g*1支','45.27','支','山东罗欣药业集团股份有限公司','110','101','ZSYTZLZ(LB)','2019-03-01 00:00:00','10','','1'), ('1681','86979474000208','甘草颗粒 ',' 0.5g/3g*1袋','3.88','袋','江阴天江药业有限公司','115','102','GCKL ','2019-03-01 00:00:00','10','','1'), ('1682','86979474000209','干姜颗粒 ',' 0.5g/3g*1袋','19.02','袋','江阴天江药业有限公司','115','102','GJKL ','2019-03-01 00:00:00','10','','1'), ('1683','86979474000208','高良姜颗粒 ',' 0.5g/6g*1袋','20.00','袋','江阴天江药业有限公司','115','102','GLJKL ','2019-03-01 00:00:00','10','','1'), ('1684','86979474000209','葛根颗粒 ',' 1g/10g*1袋','20.48','袋','江阴天江药业有限公司','115','102','GGKL ','2019-03-01 00:00:00','10','','1'), ('1685','86979474000208','葛花颗粒 ',' 1.5g/10g*1袋','35.11','袋','江阴天江药业有限公司','115','102','GHKL ','2019-03-01 00:00:00','10','','1'), ('1686','86979474000208','功劳叶颗粒',' 0.5g/10g*1袋','38.70','袋','江阴天江药业有限公司','115','102','GLYKL','2019-03-01 00:00:00','10','','1'), ('1687','86979474000209','注射用磷酸肌酸钠(里尔统)','1g×1瓶','16.89','瓶','意大利阿尔法韦士曼制药','110','101','ZSYLSJSN(LET)','2019-03-01 00:00:00','10','','1'), ('1688','86979474000208','滑石粉  药用','1000g×1包','11.91','包','','157','101','HSF  YY','2019-03-01 00:00:00','10','','1'), ('1689','86979474000209','癃清片','0.600g*48片/盒','0.90','盒','天津中新药业集团股份有限公司','111','101','ZQP','2019-03-01 00:00:00','10','','1'), ('1690','86979474000208','炉甘石粉','500g×1瓶','34.70','瓶','上海','157','101','LGSF','2019-03-01 00:00:00','10','','1'), ('1691','86979474000208','鹿角胶','1000mg/g','11.91','克','','112','103','LJJ','2019-03-01 00:00:00','10','','1'), ('1692','86979474000209','氯仿','500ml×1瓶','3.17','瓶','上海复星制药','157','101','LF','2019-03-01 00:00:00','10','','1'), ('1693','86979474000208','氯化铵','500g×1瓶','61.52','瓶','','157','101','LHZ','2019-03-01 00:00:00','10','','1'), ('1694','86979474000209','氯化铵','250g×1瓶','3.79','瓶','','157','101','LHZ','2019-03-01 00:00:00','10','','1'), ('1695','86979474000208','氯化钡','500g×1瓶','2.19','瓶','','157','101','LHB','2019-03-01 00:00:00','10','','1'), ('1696','86979474000208','盐酸罂粟碱注射液','30mg×1支','4.13','支','东北制药集团沈阳第一制药厂','110','101','YSYSJZSY','2019-03-01 00:00:00','10','','1'), ('1697','86979474000209','养血饮','10ml×10支/盒','39.80','盒','吉林敖东集团力源制药股份有限公司','164','102','YXY','2019-03-01 00:00:00','10','','1'), ('1698','86979474000208','瓜蒌仁颗粒 ',' 0.5g/10g*1袋','22.43','袋','江阴天江药业有限公司','115','102','GZRKL ','2019-03-01 00:00:00','10','','1'), ('1699','86979474000209','贯众颗粒 ',' 1g/15g*1袋','21.33','袋','江阴天江药业有限公司','115','102','GZKL ','2019-03-01 00:00:00','10','','1'), ('1700','86979474000208','广地龙颗粒 ',' 1g/10g*1袋','20.17','袋','江阴天江药业有限公司','115','102','GDLKL ','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('1701','86979474000208','广藿香颗粒',' 0.5g/10g*1袋','8.67','袋','江阴天江药业有限公司','115','102','GZXKL','2019-03-01 00:00:00','10','','1'), ('1702','86979474000209','龟板颗粒 ',' 0.5g/10g*1袋','95.92','袋','江阴天江药业有限公司','115','102','GBKL ','2019-03-01 00:00:00','10','','1'), ('1703','86979474000208','鬼见羽颗粒',' 0.5g/10g*1袋','25.36','袋','江阴天江药业有限公司','115','102','GJYKL','2019-03-01 00:00:00','10','','1'), ('1704','86979474000209','桂枝颗粒 ',' 0.5g/6g*1袋','0.33','袋','江阴天江药业有限公司','115','102','GZKL ','2019-03-01 00:00:00','10','','1'), ('1705','86979474000208','海风藤颗粒 ','0.5g/15g*1袋','41.64','袋','江阴天江药业有限公司','115','102','HFTKL ','2019-03-01 00:00:00','10','','1'), ('1706','86979474000208','海螵蛸颗粒',' 0.5g/10g*1袋','58.89','袋','江阴天江药业有限公司','115','102','HpZKL','2019-03-01 00:00:00','10','','1'), ('1707','86979474000209','海桐皮颗粒 ',' 0.5g/6g*1袋','1.73','袋','江阴天江药业有限公司','115','102','HTPKL ','2019-03-01 00:00:00','10','','1'), ('1708','86979474000208','海藻颗粒 ',' 0.5g/10g*1袋','11.65','袋','江阴天江药业有限公司','115','102','HZKL ','2019-03-01 00:00:00','10','','1'), ('1709','86979474000209','合欢花颗粒',' 1g/6g*1袋','32.57','袋','江阴天江药业有限公司','115','102','HHHKL','2019-03-01 00:00:00','10','','1'), ('1710','86979474000208','合欢皮颗粒 ',' 0.5g/15g*1袋','1.96','袋','江阴天江药业有限公司','115','102','HHPKL ','2019-03-01 00:00:00','10','','1'), ('1711','86979474000208','荷叶颗粒',' 0.5g/10g*1袋','13.50','袋','江阴天江药业有限公司','115','102','HYKL','2019-03-01 00:00:00','10','','1'), ('1712','86979474000209','红花颗粒 ',' 2g/6g*1袋','58.85','袋','江阴天江药业有限公司','115','102','HHKL ','2019-03-01 00:00:00','10','','1'), ('1713','86979474000208','红景天颗粒 ',' 1.5g/15g*1袋','31.06','袋','江阴天江药业有限公司','115','102','HJTKL ','2019-03-01 00:00:00','10','','1'), ('1714','86979474000209','红藤颗粒 ','1g/15g*1袋','33.66','袋','江阴天江药业有限公司','115','102','HTKL ','2019-03-01 00:00:00','10','','1'), ('1715','86979474000208','厚朴颗粒 ','0.5g/3g*1袋','16.68','袋','江阴天江药业有限公司','115','102','HPKL ','2019-03-01 00:00:00','10','','1'), ('1716','86979474000208','虎杖颗粒 ','1g/15g*1袋','23.60','袋','江阴天江药业有限公司','115','102','HZKL ','2019-03-01 00:00:00','10','','1'), ('1717','86979474000209','复方甘草口服溶液','180.000ml*1瓶/瓶','43.47','瓶','南京白敬宇制药有限责任公司','164','102','FFGCKFRY','2019-03-01 00:00:00','10','','1'), ('1718','86979474000208','乙酰半胱氨酸泡腾片（富露施）','600mg*4片/盒','0.74','盒','Zambon S.P.A','111','101','YXBZASPTP（FLS）','2019-03-01 00:00:00','10','','1'), ('1719','86979474000209','利鲁唑(力如太）','50mg*56片/盒','10.92','盒','赛诺菲(北京)制药有限公司','117','101','LLZ(LRT）','2019-03-01 00:00:00','10','','1'), ('1720','86979474000208','右归胶囊','0.450g*36粒/盒','0.83','盒','江西银涛','114','101','YGJN','2019-03-01 00:00:00','10','','1'), ('1721','86979474000208','钩藤颗粒 ',' 0.5g/10g*1袋','47.48','袋','江阴天江药业有限公司','115','102','GTKL ','2019-03-01 00:00:00','10','','1'), ('1722','86979474000209','双醋瑞因胶囊(安必丁)','50mg*30粒/盒','0.21','盒','昆明积大制药股份有限公司','114','101','SCRYJN(ABD)','2019-03-01 00:00:00','10','','1'), ('1723','86979474000208','比卡鲁胺片（朝晖先）','50.000mg*14片/盒','43.19','盒','上海朝辉药业有限公司','111','101','BKLAP（CZX）','2019-03-01 00:00:00','10','','1'), ('1724','86979474000209','注射用环磷腺苷葡胺(凯缌)','90.000mg*1支/支','30.74','支','无锡凯夫制药有限公司','161','101','ZSYHLXZPA(KZ)','2019-03-01 00:00:00','10','','1'), ('1725','86979474000208','维生素 B1 片','10mg×100片/瓶','6.25','瓶','南京白敬宇制药有限责任公司','111','101','WSS B1 P','2019-03-01 00:00:00','10','','1'), ('1726','86979474000208','炒青皮','1000mg/g','25.13','克','广东','112','103','CQP','2019-03-01 00:00:00','10','','1'), ('1727','86979474000209','炒酸枣仁','1000mg/g','41.95','克','江苏','112','103','CSZR','2019-03-01 00:00:00','10','','1'), ('1728','86979474000208','妇科千金胶囊','0.4g*24粒/盒','7.68','盒','株洲千金药业','114','102','FKQJJN','2019-03-01 00:00:00','10','','1'), ('1729','86979474000209','鹿角片','1000mg/g','10.82','克','甘肃','112','103','LJP','2019-03-01 00:00:00','10','','1'), ('1730','86979474000208','孟鲁司特钠咀嚼片(顺尔宁)','5mg×5片/盒','2.28','盒','默沙东制药（杭州）有限公司','111','101','MLSTNJJP(SEN)','2019-03-01 00:00:00','10','','1'), ('1731','86979474000208','多潘立酮片','10mg×42片/盒','28.38','盒','西安杨森制药有限公司','111','101','DPLTP','2019-03-01 00:00:00','10','','1'), ('1732','86979474000209','BG硝苯地平缓释片II(伲福达)','20mg×30片/瓶','0.84','瓶','青岛黄海制药有限责任公司','111','101','BGXBDPHSPII(ZFD)','2019-03-01 00:00:00','10','','1'), ('1733','86979474000208','阿苯达唑片(肠虫清)','0.2g×10片/瓶','3.98','瓶','中美天津史克制药公司','111','101','ABDZP(CCQ)','2019-03-01 00:00:00','10','','1'), ('1734','86979474000209','醋酸地塞米松','100g×1瓶','2.64','瓶','沪','157','101','CSDSMS','2019-03-01 00:00:00','10','','1'), ('1735','86979474000208','地骨皮','1000mg/g','8.70','克','甘肃','112','103','DGP','2019-03-01 00:00:00','10','','1'), ('1736','86979474000208','地锦草','1000mg/g','12.94','克','江苏','112','103','DJC','2019-03-01 00:00:00','10','','1'), ('1737','86979474000209','氯霉素滴眼液(润舒)','5ml×1支','61.00','支','山东博士伦福瑞达制药有限公司','160','101','LMSDYY(RS)','2019-03-01 00:00:00','10','','1'), ('1738','86979474000208','花椒颗粒 ',' 0.5g/6g*1袋','4.01','袋','江阴天江药业有限公司','115','102','HJKL ','2019-03-01 00:00:00','10','','1'), ('1739','86979474000209','注射用鼠神经生长因子(金路捷)','20ug:9000AU*1支','23.83','支','武汉海特生物制药股份有限公司','110','101','ZSYSSJSCYZ(JLJ)','2019-03-01 00:00:00','10','','1'), ('1740','86979474000208','5%葡萄糖注射液（亚邦软袋）','500ml*1袋','31.51','袋','江苏亚邦生缘药业有限公司','110','101','5%PTTZSY（YBRD）','2019-03-01 00:00:00','10','','1'), ('1741','86979474000208','葡萄糖氯化钠注射液(亚邦软袋)','500ml*1袋','37.14','袋','江苏亚邦生缘药业有限公司','110','101','PTTLHNZSY(YBRD)','2019-03-01 00:00:00','10','','1'), ('1742','86979474000209','葡萄糖氯化钠注射液(亚邦软袋)','250ml*1袋','0.31','袋','江苏亚邦生缘药业有限公司','110','101','PTTLHNZSY(YBRD)','2019-03-01 00:00:00','10','','1'), ('1743','86979474000208','10%葡萄糖注射液(亚邦软袋)','500ml*1袋','1.39','袋','江苏亚邦生缘药业有限公司','110','101','10%PTTZSY(YBRD)','2019-03-01 00:00:00','10','','1'), ('1744','86979474000209','注射用奥拉西坦(欧来宁）','1g*1瓶/瓶','19.99','瓶','石药集团欧意药业有限公司','161','101','ZSYALXT(OLN）','2019-03-01 00:00:00','10','','1'), ('1745','86979474000208','头孢克肟干混悬剂（立健克）','50.000mg*12包/盒','39.83','盒','深圳立健药业有限公司','141','101','TZKZGHXJ（LJK）','2019-03-01 00:00:00','10','','1'), ('1746','86979474000208','维拉帕米缓释片（缓释异搏定）','0.240g*10片/盒','55.58','盒','Abbvie/德国','131','101','WLPMHSP（HSYBD）','2019-03-01 00:00:00','10','','1'), ('1747','86979474000209','吉非替尼片(易瑞沙）','0.25g×10片/盒','3.09','盒','英国　阿斯利康制药S','111','101','JFTNP(YRS）','2019-03-01 00:00:00','10','','1'), ('1748','86979474000208','六神丸','3.125mg*120粒/盒','50.41','盒','上海雷允上药业有限公司','163','102','LSW','2019-03-01 00:00:00','10','','1'), ('1749','86979474000209','宫瘤清胶囊','0.370g*60粒/瓶','75.68','瓶','四川升和药业股份有限公司','114','101','GLQJN','2019-03-01 00:00:00','10','','1'), ('1750','86979474000208','苏黄止咳胶囊','0.450g*24粒/盒','74.73','盒','扬子江药业集团有限公司','114','102','SHZKJN','2019-03-01 00:00:00','10','','1'), ('1751','86979474000208','神曲消食口服液','10.000ml*6支/盒','74.80','盒','扬子江药业集团有限公司','164','101','SQXSKFY','2019-03-01 00:00:00','10','','1'), ('1752','86979474000209','西帕依固龈液','150.000ml*1瓶/盒','45.51','盒','新疆奇康哈博维药股份有限公司','147','101','XPYGYY','2019-03-01 00:00:00','10','','1'), ('1753','86979474000208','消炎止痛膏','1.000贴*6贴/盒','17.05','盒','杭州仁德医药有限公司','145','101','XYZTG','2019-03-01 00:00:00','10','','1'), ('1754','86979474000209','再造生血胶囊','0.320g*90粒/盒','34.79','盒','辽源誉隆亚东药业 ','114','101','ZZSXJN','2019-03-01 00:00:00','10','','1'), ('1755','86979474000208','摩罗丹','16.000丸*18袋/盒','44.04','盒','邯郸制药股份有限公司','163','102','MLD','2019-03-01 00:00:00','10','','1'), ('1756','86979474000208','复方伤痛胶囊','0.300g*30粒/盒','9.84','盒','甘肃省西峰制药有限责任公司','114','102','FFSTJN','2019-03-01 00:00:00','10','','1'), ('1757','86979474000209','宽胸气雾剂','5.800g/2.7ml*1瓶/盒','55.73','盒','杭州苏泊尔南洋药业有限公司','122','101','KXQWJ','2019-03-01 00:00:00','10','','1'), ('1758','86979474000208','重组人干扰素α2b阴道泡腾片(金舒喜)','50.000万单位*3片/盒','29.47','盒','北京凯因科技股份有限公司','111','102','ZZRGRSα2bYDPTP(JSX)','2019-03-01 00:00:00','10','','1'), ('1759','86979474000209','奥美沙坦酯片(希佳)','20.000mg*7片/盒','0.59','盒','南京正大天晴制药有限公司','111','101','AMSTP(XJ)','2019-03-01 00:00:00','10','','1'), ('1760','86979474000208','甲钴胺胶囊（奇信）','0.500mg*50粒/盒','32.30','盒','扬子江药业集团南京海陵药业','111','101','JZAJN（QX）','2019-03-01 00:00:00','10','','1'), ('1761','86979474000208','肠内营养乳剂(TP-HE)（瑞高）','500.000ml*1袋/袋','18.01','袋','北京费森尤斯医药','118','101','CNYYRJ(TP-HE)（RG）','2019-03-01 00:00:00','10','','1'), ('1762','86979474000209','肠内营养乳剂(TPF-T)(瑞能)(纤维型水果口味)','200.000ml*1瓶/瓶','45.66','瓶','华瑞制药有限公司','118','101','CNYYRJ(TPF-T)(RN)(XWXSGKW)','2019-03-01 00:00:00','10','','1'), ('1763','86979474000208','注射用磷酸肌酸钠（莱博通）','1.000g*1瓶/瓶','10.80','瓶','哈尔滨莱博通药业有限公司','161','101','ZSYLSJSN（LBT）','2019-03-01 00:00:00','10','','1'), ('1764','86979474000209','复方谷氨酰胺肠溶胶囊（谷参）','36粒/瓶','2.30','瓶','地奥集团成都药业股份有限公司','111','101','FFGAXACRJN（GC）','2019-03-01 00:00:00','10','','1'), ('1765','86979474000208','复方氨基酸(普舒清)注射液(18AA-Ⅸ)','200ml：12.250g(总氨基酸)*1瓶/瓶','9.22','瓶','广州绿十字制药有限公司','110','101','FFAJS(PSQ)ZSY(18AA-Ⅸ)','2019-03-01 00:00:00','10','','1'), ('1766','86979474000208','肠内营养混悬液（TP-MCT)（康全甘）','200ml(1kcal/ml)*1瓶/瓶','69.09','瓶','纽迪希亚制药（无锡）有限公司','136','101','CNYYHXY（TP-MCT)（KQG）','2019-03-01 00:00:00','10','','1'), ('1767','86979474000209','玻璃酸钠滴眼液（爱丽）','5ml：15.000mg*1支/盒','65.63','盒','日本参天制药','160','101','BLSNDYY（AL）','2019-03-01 00:00:00','10','','1'), ('1768','86979474000208','静注人免疫球蛋白(同路）','2.500g*1瓶/瓶','14.96','瓶','安徽同路生物','110','101','JZRMYQDB(TL）','2019-03-01 00:00:00','10','','1'), ('1769','86979474000209','天丹通络胶囊','0.4g*60粒/瓶','22.57','瓶','山东凤凰制药股份','114','102','TDTLJN','2019-03-01 00:00:00','10','','1'), ('1770','86979474000208','注射用阿奇霉素(其仙)','0.125g（12.5万单位）*1支/支','12.01','支','东北制药集团沈阳第一制药厂','161','101','ZSYAQMS(QX)','2019-03-01 00:00:00','10','','1'), ('1771','86979474000208','左氧氟沙星氯化钠注射液(可乐必妥)','100ml:0.5g:0.9g*1袋/袋','1.96','袋','第一三共制药（北京）有限公司','110','101','ZYFSXLHNZSY(KLBT)','2019-03-01 00:00:00','10','','1'), ('1772','86979474000209','注射用阿昔洛韦','0.250g*1瓶/瓶','0.40','瓶','国药集团容生制药有限公司','161','101','ZSYAXLW','2019-03-01 00:00:00','10','','1'), ('1773','86979474000208','醋酸曲普瑞林注射液(达必佳)','1ml:0.1mg*1支/支','3.76','支','辉凌(德国)制药有限公司','110','101','CSQPRLZSY(DBJ)','2019-03-01 00:00:00','10','','1'), ('1774','86979474000209','胞磷胆碱钠胶囊(思考林)','0.100g*42粒/盒','7.30','盒','齐鲁制药有限公司','114','101','BLDJNJN(SKL)','2019-03-01 00:00:00','10','','1'), ('1775','86979474000208','盐酸二甲双胍缓释片（泰白）','0.500g*60片/盒','1.48','盒','正大天晴药业集团股份有限公司','131','101','YSEJSZHSP（TB）','2019-03-01 00:00:00','10','','1'), ('1776','86979474000208','甲钴胺片(怡神保)','0.5mg*20片/盒','18.84','盒','华北制药股份有限公司','131','101','JZAP(ZSB)','2019-03-01 00:00:00','10','','1'), ('1777','86979474000209','琥珀酰明胶注射液(佳乐施)','500ml*1瓶','20.45','瓶','贝朗医疗苏州有限公司','131','101','ZZXMJZSY(JLS)','2019-03-01 00:00:00','10','','1'), ('1778','86979474000208','复方氯化钠注射液','500ml*1袋','30.32','袋','浙江济民制药股份有限公司','110','101','FFLHNZSY','2019-03-01 00:00:00','10','','1'), ('1779','86979474000209','龙血竭胶囊','0.3g*36粒/盒','21.55','盒','肇庆星湖制药有限公司','114','102','LXJJN','2019-03-01 00:00:00','10','','1'), ('1780','86979474000208','利奈唑胺片(斯沃)','0.6g*10片/盒','0.83','盒','辉瑞制药有限公司S','111','101','LNZAP(SW)','2019-03-01 00:00:00','10','','1'), ('1781','86979474000208','消毒湿巾(越星)','1片','22.52','片','兴化市医疗卫生用品有限公司','148','101','XDSJ(YX)','2019-03-01 00:00:00','10','','1'), ('1782','86979474000209','地西泮(安定)片','2.5mg*20片/盒','2.36','盒','北京益民药业有限公司','111','101','DXZ(AD)P','2019-03-01 00:00:00','10','','1'), ('1783','86979474000208','健胃消食口服液','10.00ml*12支/盒','0.75','盒','江苏济川制药有限公司','164','101','JWXSKFY','2019-03-01 00:00:00','10','','1'), ('1784','86979474000209','车前草颗粒 ','1.5g/15g*1袋','8.29','袋','江阴天江药业有限公司','115','102','CQCKL ','2019-03-01 00:00:00','10','','1'), ('1785','86979474000208','车前子颗粒 ',' 0.5g/15g*1袋','1.42','袋','江阴天江药业有限公司','115','102','CQZKL ','2019-03-01 00:00:00','10','','1'), ('1786','86979474000208','美洛西林钠舒巴坦钠（萨洛)','3.75g×1支','46.47','支','海南通用三洋药业有限公司','110','101','MLXLNSBTN（SL)','2019-03-01 00:00:00','10','','1'), ('1787','86979474000209','黄凡士林','500g×1瓶','34.15','瓶','南昌白云','157','101','HFSL','2019-03-01 00:00:00','10','','1'), ('1788','86979474000208','黄连上清丸','6g*10包/袋','4.57','袋','河南省宛西制约股份有限公司','163','102','HLSQW','2019-03-01 00:00:00','10','','1'), ('1789','86979474000209','白术(生)','1000mg/g','6.58','克','','112','103','BS(S)','2019-03-01 00:00:00','10','','1'), ('1790','86979474000208','生白芍','1000mg/g','44.33','克','浙江','112','103','SBS','2019-03-01 00:00:00','10','','1'), ('1791','86979474000208','香薷','1000mg/g','7.00','克','','112','103','XZ','2019-03-01 00:00:00','10','','1'), ('1792','86979474000209','佛耳草','1000mg/g','0.51','克','','112','103','FEC','2019-03-01 00:00:00','10','','1'), ('1793','86979474000208','石苇','1000mg/g','31.67','克','','112','103','SW','2019-03-01 00:00:00','10','','1'), ('1794','86979474000209','寒水石','1000mg/g','67.09','克','','112','103','HSS','2019-03-01 00:00:00','10','','1'), ('1795','86979474000208','毕茇','1000mg/g','33.81','克','','112','103','BZ','2019-03-01 00:00:00','10','','1'), ('1796','86979474000208','霍香正气软胶囊','0.45g×30粒/盒','31.68','盒','天津中新药业集团股份有限公司','114','102','HXZQRJN','2019-03-01 00:00:00','10','','1'), ('1797','86979474000209','肠内营养混悬液TPF(能全力','500ml(1kcal/1ml)*1瓶','10.90','瓶','纽迪希亚制药（无锡）有限公司','164','101','CNYYHXYTPF(NQL','2019-03-01 00:00:00','10','','1'), ('1798','86979474000208','艾司洛尔注射液(爱络)','10ml:100mg×1支','28.33','支','齐鲁制药有限公司','110','101','ASLEZSY(AL)','2019-03-01 00:00:00','10','','1'), ('1799','86979474000209','止血镇痛胶囊','0.350g*40粒/盒','0.17','盒','成都九芝堂金鼎药业有限公司','114','101','ZXZTJN','2019-03-01 00:00:00','10','','1'), ('1800','86979474000208','滑石颗粒 ',' 0.5g/10g*1袋','1.68','袋','江阴天江药业有限公司','115','102','HSKL ','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('1801','86979474000208','怀牛膝颗粒 ',' 3g/10g*1袋','13.81','袋','江阴天江药业有限公司','115','102','HNXKL ','2019-03-01 00:00:00','10','','1'), ('1802','86979474000209','槐花颗粒 ',' 2g/10g*1袋','14.62','袋','江阴天江药业有限公司','115','102','HHKL ','2019-03-01 00:00:00','10','','1'), ('1803','86979474000208','黄柏颗粒 ',' 0.5g/6g*1袋','15.24','袋','江阴天江药业有限公司','115','102','HBKL ','2019-03-01 00:00:00','10','','1'), ('1804','86979474000209','黄精颗粒 ',' 4g/10g*1袋','45.95','袋','江阴天江药业有限公司','115','102','HJKL ','2019-03-01 00:00:00','10','','1'), ('1805','86979474000208','黄连颗粒 ',' 0.5g/3g*1袋','38.33','袋','江阴天江药业有限公司','115','102','HLKL ','2019-03-01 00:00:00','10','','1'), ('1806','86979474000208','火麻仁颗粒 ',' 0.5g/10g*1袋','15.37','袋','江阴天江药业有限公司','115','102','HMRKL ','2019-03-01 00:00:00','10','','1'), ('1807','86979474000209','鸡血藤颗粒 ',' 1g/15g*1袋','0.90','袋','江阴天江药业有限公司','115','102','JXTKL ','2019-03-01 00:00:00','10','','1'), ('1808','86979474000208','姜半夏颗粒 ',' 0.5g/6g*1袋','2.28','袋','江阴天江药业有限公司','115','102','JBXKL ','2019-03-01 00:00:00','10','','1'), ('1809','86979474000209','降香颗粒 ',' 0.5g/6g*1袋','51.26','袋','江阴天江药业有限公司','115','102','JXKL ','2019-03-01 00:00:00','10','','1'), ('1810','86979474000208','焦六神曲颗粒',' 1g/10g*1袋','17.61','袋','江阴天江药业有限公司','115','102','JLSQKL','2019-03-01 00:00:00','10','','1'), ('1811','86979474000208','焦山楂颗粒 ',' 3g/10g*1袋','9.82','袋','江阴天江药业有限公司','115','102','JSZKL ','2019-03-01 00:00:00','10','','1'), ('1812','86979474000209','焦山栀颗粒 ',' 1g/10g*1袋','7.52','袋','江阴天江药业有限公司','115','102','JSZKL ','2019-03-01 00:00:00','10','','1'), ('1813','86979474000208','绞股蓝颗粒 ',' 1g/10g*1袋','48.35','袋','江阴天江药业有限公司','115','102','JGLKL ','2019-03-01 00:00:00','10','','1'), ('1814','86979474000209','金钱草颗粒 ','1g/15g*1袋','65.26','袋','江阴天江药业有限公司','115','102','JQCKL ','2019-03-01 00:00:00','10','','1'), ('1815','86979474000208','金荞麦颗粒 ',' 1g/15g*1袋','6.83','袋','江阴天江药业有限公司','115','102','JZMKL ','2019-03-01 00:00:00','10','','1'), ('1816','86979474000208','金银花颗粒 ',' 2g/10g*1袋','3.49','袋','江阴天江药业有限公司','115','102','JYHKL ','2019-03-01 00:00:00','10','','1'), ('1817','86979474000209','荆芥颗粒 ',' 1g/10g*1袋','60.69','袋','江阴天江药业有限公司','115','102','JJKL ','2019-03-01 00:00:00','10','','1'), ('1818','86979474000208','狗脊颗粒 ',' 1g/10g*1袋','96.66','袋','江阴天江药业有限公司','115','102','GJKL ','2019-03-01 00:00:00','10','','1'), ('1819','86979474000209','枸杞子颗粒 ',' 4g/10g*1袋','6.84','袋','江阴天江药业有限公司','115','102','ZZZKL ','2019-03-01 00:00:00','10','','1'), ('1820','86979474000208','氢溴酸东茛菪碱','0.300mg*5支/盒','47.63','盒','隧成药业股份有限公司','110','101','QZSDZZJ','2019-03-01 00:00:00','10','','1'), ('1821','86979474000208','炙百部','1000mg/g','8.20','克','江苏','112','103','ZBB','2019-03-01 00:00:00','10','','1'), ('1822','86979474000209','白头翁','1000mg/g','44.44','克',' 内蒙古','112','103','BTW','2019-03-01 00:00:00','10','','1'), ('1823','86979474000208','碘解磷定针','0.500g*5支/盒','63.05','盒','开开援生制药股份有限公司','110','101','DJLDZ','2019-03-01 00:00:00','10','','1'), ('1824','86979474000209','破伤风人免疫球蛋白（同路）','250iu/支','8.49','支','安徽同路生物','110','101','PSFRMYQDB（TL）','2019-03-01 00:00:00','10','','1'), ('1825','86979474000208','磷霉素钠','2g/支','0.79','支','东北制药集团沈阳第一制药厂','116','101','LMSN','2019-03-01 00:00:00','10','','1'), ('1826','86979474000208','盐酸司来吉兰片（咪多吡）','5.000mg*100片/瓶','3.43','瓶','芬兰奥瑞恩诺瑞 ','111','101','YSSLJLP（ZDZ）','2019-03-01 00:00:00','10','','1'), ('1827','86979474000209','钆塞酸二钠注射液（普美显）','181.430ml*10mL/支','54.69','支','拜耳医药保健有限公司','110','101','ZSSENZSY（PMX）','2019-03-01 00:00:00','10','','1'), ('1828','86979474000208','炮山甲','1000mg/g','54.31','克','成都岷江源药业股份有限公司','112','103','PSJ','2019-03-01 00:00:00','10','','1'), ('1829','86979474000209','克拉霉素缓释片（诺邦）','0.500g*7片/盒','48.60','盒','江苏恒瑞医药股份有限公司S','111','101','KLMSHSP（NB）','2019-03-01 00:00:00','10','','1'), ('1830','86979474000208','大黄蟅虫胶囊(颐海)','0.400g*36粒/盒','8.29','盒','江苏颐海药业有限责任公司','114','102','DHXCJN(YH)','2019-03-01 00:00:00','10','','1'), ('1831','86979474000208','消痛贴膏（奇正）','1.000贴*1贴/袋','9.00','袋','西藏林芝奇正药业','145','101','XTTG（QZ）','2019-03-01 00:00:00','10','','1'), ('1832','86979474000209','氢氯噻嗪片','25.000mg*100片/瓶','39.02','瓶','世贸天阶制药(江苏)有限责任公司','111','101','QLZZP','2019-03-01 00:00:00','10','','1'), ('1833','86979474000208','*右佐匹克隆片','3mg*7片/盒','38.77','盒','成都康弘药业集团股份有限公司S','111','101','YZPKLP','2019-03-01 00:00:00','10','','1'), ('1834','86979474000209','前列地尔注射液(益康宁)','10ug*1支','19.41','支','本溪横康制药有限公司','110','101','QLDEZSY(YKN)','2019-03-01 00:00:00','10','','1'), ('1835','86979474000208','重组人碱性成纤维细胞生长因子凝胶(扶济复)','25000.000iu*1支/支','11.00','支','北京双鹭药业股份有限公司','120','101','ZZRJXCXWXBSCYZNJ(FJF)','2019-03-01 00:00:00','10','','1'), ('1836','86979474000208','注射用甘露聚糖肽（力尔凡）','10.000mg*1支/支','5.89','支','国药一心制药有限公司','161','101','ZSYGLJTZ（LEF）','2019-03-01 00:00:00','10','','1'), ('1837','86979474000209','缩宫素注射液（素星）','10.000iu*1支/支','38.65','支','南京新百药业有限公司','110','101','SGSZSY（SX）','2019-03-01 00:00:00','10','','1'), ('1838','86979474000208','噻托溴铵喷雾剂（思力华能倍乐）','2.500ug*60揿/瓶','2.07','瓶','勃林格殷格翰国际有限公司S','149','101','ZTZZPWJ（SLHNBL）','2019-03-01 00:00:00','10','','1'), ('1839','86979474000209','人血白蛋白注射液（美国基立福）','50ml：12.500g*1瓶/瓶','57.31','瓶','基立福美国','110','101','RXBDBZSY（MGJLF）','2019-03-01 00:00:00','10','','1'), ('1840','86979474000208','甘油果糖氯化钠(固利压)注射液','250.000ml*1袋/袋','50.96','袋','南光化学制药有限股份公司','110','101','GYGTLHN(GLY)ZSY','2019-03-01 00:00:00','10','','1'), ('1841','86979474000208','司本-80','500g×1瓶','10.29','瓶','上海化试','157','101','SB-80','2019-03-01 00:00:00','10','','1'), ('1842','86979474000209','盐酸精氨酸注射液','25%20ml×1支','34.17','支','上海信谊金朱药业有限公司','110','101','YSJASZSY','2019-03-01 00:00:00','10','','1'), ('1843','86979474000208','84消毒液','500ml×1瓶','54.52','瓶','江苏金湖制药厂','157','101','84XDY','2019-03-01 00:00:00','10','','1'), ('1844','86979474000209','还尔金颗粒(槐杞黄)','10g×6袋/盒','4.63','盒','启东盖天力药业有限公司','115','102','HEJKL(HZH)','2019-03-01 00:00:00','10','','1'), ('1845','86979474000208','乳酸环丙沙星氯化钠注射液(悉复欢)','100ml:200mg×瓶','11.50','瓶','广州南新制药厂','110','101','RSHBSXLHNZSY(XFH)','2019-03-01 00:00:00','10','','1'), ('1846','86979474000208','环糊精','250g×1瓶','30.87','瓶','','157','101','HHJ','2019-03-01 00:00:00','10','','1'), ('1847','86979474000209','桔梗颗粒 ',' 1.5g/6g*1袋','26.81','袋','江阴天江药业有限公司','115','102','JGKL ','2019-03-01 00:00:00','10','','1'), ('1848','86979474000208','菊花颗粒 ',' 1g/6g*1袋','61.49','袋','江阴天江药业有限公司','115','102','JHKL ','2019-03-01 00:00:00','10','','1'), ('1849','86979474000209','注射用雷贝拉唑（澳博平）','20mg*1支/支','3.88','支','南京长澳制药有限公司','110','101','ZSYLBLZ（ABP）','2019-03-01 00:00:00','10','','1'), ('1850','86979474000208','依维莫司片（飞尼妥）','5.000mg*30片/盒','36.14','盒','诺华制药（瑞士）','111','101','YWMSP（FNT）','2019-03-01 00:00:00','10','','1'), ('1851','86979474000208','葡萄糖酸钙注射液','1g*1支/支','13.41','支','华润双鹤利民药业（济南）有限公司','110','101','PTTSGZSY','2019-03-01 00:00:00','10','','1'), ('1852','86979474000209','双嘧达莫片','25.000mg*100片/瓶','0.62','瓶','山东仁和堂药业有限责任公司','111','101','SZDMP','2019-03-01 00:00:00','10','','1'), ('1853','86979474000208','滋肾育胎丸','5.000g*6袋/盒','24.00','盒','广州白云山中一药业有限公司','163','102','ZSYTW','2019-03-01 00:00:00','10','','1'), ('1854','86979474000209','痔康胶囊','0.300g*20粒/盒','64.26','盒','长春海外制药集团有限公司','114','102','ZKJN','2019-03-01 00:00:00','10','','1'), ('1855','86979474000208','前列平胶囊','0.400g*60粒/盒','17.93','盒','西安千禾药业股份有限公司','114','101','QLPJN','2019-03-01 00:00:00','10','','1'), ('1856','86979474000208','橘核颗粒 ','0.5g/10g*1袋','38.50','袋','江阴天江药业有限公司','115','102','ZHKL ','2019-03-01 00:00:00','10','','1'), ('1857','86979474000209','橘红颗粒 ','0.5g/6g*1袋','17.12','袋','江阴天江药业有限公司','115','102','ZHKL ','2019-03-01 00:00:00','10','','1'), ('1858','86979474000208','决明子颗粒 ',' 0.5g/10g*1袋','21.40','袋','江阴天江药业有限公司','115','102','JMZKL ','2019-03-01 00:00:00','10','','1'), ('1859','86979474000209','蔻仁颗粒 ',' 0.5g/3g*1袋','46.42','袋','江阴天江药业有限公司','115','102','ZRKL ','2019-03-01 00:00:00','10','','1'), ('1860','86979474000208','苦参颗粒 ',' 1g/10g*1袋','29.90','袋','江阴天江药业有限公司','115','102','KCKL ','2019-03-01 00:00:00','10','','1'), ('1861','86979474000208','醋酸甲地孕酮分散片(艾诺克)','40mg*36片/盒','51.26','盒','西安远大德天药业股份有限公司','111','101','CSJDYTFSP(ANK)','2019-03-01 00:00:00','10','','1'), ('1862','86979474000209','复方吲哚美辛达克罗宁贴膏','1.000贴*5贴/盒','13.71','盒','杭州仁德医药有限公司','145','101','FFZZMXDKLNTG','2019-03-01 00:00:00','10','','1'), ('1863','86979474000208','茶碱葡萄糖注射液(西弗林)','100ml*1瓶/瓶','26.37','瓶','上海华源安徽锦辉制药有限公司','110','101','CJPTTZSY(XFL)','2019-03-01 00:00:00','10','','1'), ('1864','86979474000209','注射用复方三维B(Ⅱ)','复方*1支','29.08','支','吉林津升制药有限公司','161','101','ZSYFFSWB(Ⅱ)','2019-03-01 00:00:00','10','','1'), ('1865','86979474000208','联苯苄唑凝胶(必伏)','30g*1支/支','6.15','支','重庆华邦制药有限公司','120','101','LBZZNJ(BF)','2019-03-01 00:00:00','10','','1'), ('1866','86979474000208','甘草锌颗粒','5g*15包/盒','25.52','盒','南京瑞年百思特制药有限公司','115','102','GCXKL','2019-03-01 00:00:00','10','','1'), ('1867','86979474000209','注射用烟酰胺(冻干)(普扶林)','50mg*1支','60.11','支','吉林津升制药有限公司','161','101','ZSYYXA(DG)(PFL)','2019-03-01 00:00:00','10','','1'), ('1868','86979474000208','普瑞巴林胶囊(莱瑞克)','75mg*10粒/盒','2.03','盒','重庆赛维药业有限公司','114','101','PRBLJN(LRK)','2019-03-01 00:00:00','10','','1'), ('1869','86979474000209','盐酸替扎尼定片(凯莱通)','2mg*24片/盒','64.81','盒','四川科瑞德制药股份有限公司','111','101','YSTZNDP(KLT)','2019-03-01 00:00:00','10','','1'), ('1870','86979474000208','恩他卡朋双多巴片(II)(达灵复)','100mg/25mg/200mg*30片/盒','14.16','盒','Orion Corporation,Finland','111','101','ETKPSDBP(II)(DLF)','2019-03-01 00:00:00','10','','1'), ('1871','86979474000208','艾地苯醌片','30mg*24片/盒','19.08','盒','齐鲁制药有限公司','111','101','ADBP','2019-03-01 00:00:00','10','','1'), ('1872','86979474000209','卡贝缩宫素注射液','100ug:1ml*1支','81.13','支','辉凌制药(中国)有限公司','110','101','KBSGSZSY','2019-03-01 00:00:00','10','','1'), ('1873','86979474000208','门冬氨酸钾(卫唯杰)注射液','10ml:1.712g*1支','16.47','支','内蒙古白医制药股份有限公司','110','101','MDASJ(WWJ)ZSY','2019-03-01 00:00:00','10','','1'), ('1874','86979474000209','赤石脂颗粒 ','1g/15g*1袋','38.37','袋','江阴天江药业有限公司','115','102','CSZKL ','2019-03-01 00:00:00','10','','1'), ('1875','86979474000208','吡格列酮二甲双胍片（卡双平）','15mg/500.000mg*30片/瓶','18.24','瓶','杭州中美华东制药有限公司','111','101','ZGLTEJSZP（KSP）','2019-03-01 00:00:00','10','','1'), ('1876','86979474000208','盐酸利多卡因注射液','5ml：0.100g*5支/盒','0.56','盒','天津金耀药业有限公司','110','101','YSLDKYZSY','2019-03-01 00:00:00','10','','1'), ('1877','86979474000209','磷酸奥司他韦颗粒（可威）','15.000mg*10袋/盒','11.28','盒','宜昌东阳光长江药业股份有限公司','115','102','LSASTWKL（KW）','2019-03-01 00:00:00','10','','1'), ('1878','86979474000208','复方角菜酸酯栓(太宁)','3.4g×12枚/盒','67.50','盒','西安杨森制药有限公司','125','101','FFJCSZS(TN)','2019-03-01 00:00:00','10','','1'), ('1879','86979474000209','米托蒽醌','2mg×5支/盒','59.66','盒','四川升和药业股份有限公司','110','101','MTZk','2019-03-01 00:00:00','10','','1'), ('1880','86979474000208','骨康胶囊','0.400g*48粒/盒','24.42','盒','贵州维康药业有限公司','114','101','GKJN','2019-03-01 00:00:00','10','','1'), ('1881','86979474000208','通滞苏润江胶囊','0.300g*40粒/盒','25.06','盒','黑龙江省济仁药业有限公司','114','101','TZSRJJN','2019-03-01 00:00:00','10','','1'), ('1882','86979474000209','培垛普利吲达帕胺(百普乐)片','(4mg+1.25mg)*20片/盒','4.09','盒','施维雅(天津)制药有限公司S','111','101','PDPLZDPA(BPL)P','2019-03-01 00:00:00','10','','1'), ('1883','86979474000208','豨莶草颗粒 ',' 1.5g/15g*1袋','32.96','袋','江阴天江药业有限公司','115','102','ZZCKL ','2019-03-01 00:00:00','10','','1'), ('1884','86979474000209','细辛颗粒 ',' 0.5g/3g*1袋','4.71','袋','江阴天江药业有限公司','115','102','XXKL ','2019-03-01 00:00:00','10','','1'), ('1885','86979474000208','瓜蒌皮颗粒 ',' 3g/10g*1袋','9.63','袋','江阴天江药业有限公司','115','102','GZPKL ','2019-03-01 00:00:00','10','','1'), ('1886','86979474000208','尪痹片','0.500g*48片/盒','24.32','盒','辽宁好护士药业','111','102','TBP','2019-03-01 00:00:00','10','','1'), ('1887','86979474000209','巫山淫羊藿','10g/袋','8.55','袋','','112','103','WSYYZ','2019-03-01 00:00:00','10','','1'), ('1888','86979474000208','盐酸左氧氟沙星片(乐朗)','0.5g×7片/盒','2.73','盒','江苏恒瑞医药股份有限公司','111','101','YSZYFSXP(LL)','2019-03-01 00:00:00','10','','1'), ('1889','86979474000209','肠内营养混悬液（TP-MCT)康全甘','500ml(1kcal/ml)','7.37','瓶','纽迪希亚制药(无锡)有限公司S','136','101','CNYYHXY（TP-MCT)KQG','2019-03-01 00:00:00','10','','1'), ('1890','86979474000208','卡培他滨片(希罗达)','500mg×12片/盒','1.59','盒','上海罗氏制药有限公司','111','101','KPTBP(XLD)','2019-03-01 00:00:00','10','','1'), ('1891','86979474000208','鼻渊通窍颗粒','15g*10袋/盒','4.82','盒','山东新时代药业有限公司','115','102','BYTQKL','2019-03-01 00:00:00','10','','1'), ('1892','86979474000209','对二甲氨基苯甲醛','25g×25克/瓶','28.17','瓶','','157','101','DEJAJBJQ','2019-03-01 00:00:00','10','','1'), ('1893','86979474000208','多聚甲醛','500g×1瓶','5.10','瓶','','157','101','DJJQ','2019-03-01 00:00:00','10','','1'), ('1894','86979474000209','盐酸多塞平片','25mg×100片/瓶','4.90','瓶','南京白敬宇制药有限责任公司','111','101','YSDSPP','2019-03-01 00:00:00','10','','1'), ('1895','86979474000208','布桂嗪片(强痛定）','30mg×20片/盒','3.56','盒','1天津力生制药厂','111','101','BGZP(QTD）','2019-03-01 00:00:00','10','','1'), ('1896','86979474000208','苦杏仁颗粒 ',' 1g/10g*1袋','11.56','袋','江阴天江药业有限公司','115','102','KXRKL ','2019-03-01 00:00:00','10','','1'), ('1897','86979474000209','款冬花颗粒',' 4g/10g*1袋','15.53','袋','江阴天江药业有限公司','115','102','KDHKL','2019-03-01 00:00:00','10','','1'), ('1898','86979474000208','昆布颗粒 ',' 0.5g/10g*1袋','32.64','袋','江阴天江药业有限公司','115','102','KBKL ','2019-03-01 00:00:00','10','','1'), ('1899','86979474000209','莱菔子颗粒',' 1g/10g*1袋','7.80','袋','江阴天江药业有限公司','115','102','LZZKL','2019-03-01 00:00:00','10','','1'), ('1900','86979474000208','连翘颗粒 ',' 0.5g/10g*1袋','4.00','袋','江阴天江药业有限公司','115','102','LQKL ','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('1901','86979474000208','灵芝颗粒','0.5g/6g*1袋','30.59','袋','江阴天江药业有限公司','115','102','LZKL','2019-03-01 00:00:00','10','','1'), ('1902','86979474000209','六一散颗粒 ',' 0.5g/15g*1袋','51.78','袋','江阴天江药业有限公司','115','102','LYSKL ','2019-03-01 00:00:00','10','','1'), ('1903','86979474000208','龙胆草颗粒 ','1g/6g*1袋','11.18','袋','江阴天江药业有限公司','115','102','LDCKL ','2019-03-01 00:00:00','10','','1'), ('1904','86979474000209','龙葵颗粒 ',' 1g/15g*1袋','67.94','袋','江阴天江药业有限公司','115','102','LKKL ','2019-03-01 00:00:00','10','','1'), ('1905','86979474000208','芦根颗粒 ','1g/10g*1袋','0.52','袋','江阴天江药业有限公司','115','102','LGKL ','2019-03-01 00:00:00','10','','1'), ('1906','86979474000208','鹿角霜颗粒 ',' 0.5g/10g*1袋','9.33','袋','江阴天江药业有限公司','115','102','LJSKL ','2019-03-01 00:00:00','10','','1'), ('1907','86979474000209','鹿衔草颗粒 ',' 1g/15g*1袋','7.33','袋','江阴天江药业有限公司','115','102','LXCKL ','2019-03-01 00:00:00','10','','1'), ('1908','86979474000208','路路通颗粒 ',' 0.5g/10g*1袋','39.32','袋','江阴天江药业有限公司','115','102','LLTKL ','2019-03-01 00:00:00','10','','1'), ('1909','86979474000209','络石藤颗粒 ',' 1g/15g*1袋','14.21','袋','江阴天江药业有限公司','115','102','LSTKL ','2019-03-01 00:00:00','10','','1'), ('1910','86979474000208','胰岛素注射液(胰岛素)','1iu*400iu/瓶','39.88','瓶','江苏万邦生化医药股份有限公司','110','101','YDSZSY(YDS)','2019-03-01 00:00:00','10','','1'), ('1911','86979474000208','焦栀子颗粒','1.0g/10g*1袋','13.67','袋','江阴天江药业有限公司','115','102','JZZKL','2019-03-01 00:00:00','10','','1'), ('1912','86979474000209','麸炒枳实颗粒','0.5g/6g*1袋','89.81','袋','江阴天江药业有限公司','115','102','CZSKL','2019-03-01 00:00:00','10','','1'), ('1913','86979474000208','沙苑子颗粒','1.0g/10g*1袋','58.57','袋','江阴天江药业有限公司','115','102','SYZKL','2019-03-01 00:00:00','10','','1'), ('1914','86979474000209','炒鸡内金颗粒','0.5g/3g*1袋','0.32','袋','江阴天江药业有限公司','115','102','CJNJKL','2019-03-01 00:00:00','10','','1'), ('1915','86979474000208','四磨汤口服液','10ml*10支/盒','16.05','盒','湖南汉森制药股份有限公司','164','101','SMTKFY','2019-03-01 00:00:00','10','','1'), ('1916','86979474000208','屈螺酮炔雌醇片(优思明)','0.03mg:3mg×21片/盒','24.22','盒','拜耳医药保健有限公司','111','101','QLTQCCP(YSM)','2019-03-01 00:00:00','10','','1'), ('1917','86979474000209','注射用硫酸长春地辛(西艾克)','1mg×1瓶','5.08','瓶','杭州民生药业有限公司','110','101','ZSYLSCCDX(XAK)','2019-03-01 00:00:00','10','','1'), ('1918','86979474000208','BG王氏保赤丸','0.15g*20支/盒','45.34','盒','精华制药集团股份有限公司','163','102','BGWSBCW','2019-03-01 00:00:00','10','','1'), ('1919','86979474000209','强力枇杷露（无糖型）','250.000ml*1瓶/瓶','44.72','瓶','哈尔滨市康隆药业有限责任公司','164','101','QLZZL（WTX）','2019-03-01 00:00:00','10','','1'), ('1920','86979474000208','接骨七厘片','0.300g*75片/盒','89.03','盒','湖南金沙药业股份有限公司','117','101','JGQLP','2019-03-01 00:00:00','10','','1'), ('1921','86979474000208','注射用盐酸多巴胺(阿斯克丁)','10mg*1支/支','19.67','支','吉林津升制药有限公司','161','101','ZSYYSDBA(ASKD)','2019-03-01 00:00:00','10','','1'), ('1922','86979474000209','注射用重组人TNK组织型纤溶酶原激活剂(铭复乐)','1.0×107IU/16mg/支','34.85','支','广州铭康生物工程有限公司','161','101','ZSYZZRTNKZZXXRMYJHJ(MFL)','2019-03-01 00:00:00','10','','1'), ('1923','86979474000208','注射用左亚叶酸钙(同奥欣)','25mg*1瓶','56.98','瓶','江苏恒瑞医药股份有限公司','161','101','ZSYZYYSG(TAX)','2019-03-01 00:00:00','10','','1'), ('1924','86979474000209','长春胺缓释胶囊(奥勃兰)','30mg*12粒/盒','2.27','盒','烟台鲁银药业有限公司','137','101','CCAHSJN(ABL)','2019-03-01 00:00:00','10','','1'), ('1925','86979474000208','聚乙二醇化重组人粒细胞(津优力)刺激因子注射液','3mg:1ml*1支','80.05','支','石药集团百克(山东)生物制药有限公司','110','101','JYECHZZRLXB(JYL)CJYZZSY','2019-03-01 00:00:00','10','','1'), ('1926','86979474000208','注射用红色诺卡氏菌细胞壁骨架(艾克佳)','200ug*1瓶','27.18','瓶','福建省山河药业有限公司','161','101','ZSYHSNKSJXBBGJ(AKJ)','2019-03-01 00:00:00','10','','1'), ('1927','86979474000209','氨酚麻美干混悬剂','80mg*12包/盒','44.19','盒','浙江康德药业集团股份有限公司','141','101','AFMMGHXJ','2019-03-01 00:00:00','10','','1'), ('1928','86979474000208','注射用维生素C','1g×10支/盒','8.23','盒','石药集团欧意药业有限公司','110','101','ZSYWSSC','2019-03-01 00:00:00','10','','1'), ('1929','86979474000209','丙硫氧嘧啶片','50mg×100片/瓶','40.23','瓶','上海朝辉药业有限公司','111','101','BLYZZP','2019-03-01 00:00:00','10','','1'), ('1930','86979474000208','泮托拉唑钠肠溶胶囊(U比乐)','40mg*14粒/盒','7.26','盒','湖南华纳大药厂有限公司','114','101','ZTLZNCRJN(UBL)','2019-03-01 00:00:00','10','','1'), ('1931','86979474000208','醒脑静注射液（济民可信）','10.000ml（天然麝香）*1支/支','14.72','支','无锡济民可信山禾药业股份有限公司','110','101','XNJZSY（JMKX）','2019-03-01 00:00:00','10','','1'), ('1932','86979474000209','来氟米特片(爱若华)','10.000mg*32片/盒','63.24','盒','苏州长征—欣凯制药有限公司','111','101','LFMTP(ARH)','2019-03-01 00:00:00','10','','1'), ('1933','86979474000208','羟苯磺酸钙分散片(恒恩)','0.250g*36片/盒','11.22','盒','海南林恒制药有限公司','123','101','QBHSGFSP(HE)','2019-03-01 00:00:00','10','','1'), ('1934','86979474000209','盐酸度洛西汀肠溶片(优必罗)','20.000mg*24片/盒','12.92','盒','江苏恩华药业股份有限公司','133','101','YSDLXTCRP(YBL)','2019-03-01 00:00:00','10','','1'), ('1935','86979474000208','注射用单硝酸异山梨酯(欣康)','50.000mg*1瓶/瓶','44.70','瓶','山东新时代药业有限公司','161','101','ZSYDXSYSLZ(XK)','2019-03-01 00:00:00','10','','1'), ('1936','86979474000208','酮咯酸氨丁三醇胶囊（尼松）','10.000mg*24粒/盒','23.70','盒','山东新时代药业有限公司','114','101','TKSADSCJN（NS）','2019-03-01 00:00:00','10','','1'), ('1937','86979474000209','牛痘疫苗接种家兔炎症皮肤提取物（神经妥乐平）注射液','3.000ml：3.6单位*1支/支','8.28','支','日本脏器制药株式会社','110','101','NDYMJZJTYZPFTQW（SJTLP）ZSY','2019-03-01 00:00:00','10','','1'), ('1938','86979474000208','脑苷肌肽注射液（捷利欣）','5.000ml*1支/支','11.11','支','吉林四环制药有限公司','110','101','NZJZZSY（JLX）','2019-03-01 00:00:00','10','','1'), ('1939','86979474000209','橘核','1000mg/g','0.18','克','','112','103','ZH','2019-03-01 00:00:00','10','','1'), ('1940','86979474000208','福胶','1000mg/g','45.91','克','山东','112','103','FJ','2019-03-01 00:00:00','10','','1'), ('1941','86979474000208','盐酸曲马多缓释片(奇曼丁)','0.1g×10片/盒','0.83','盒','北京萌蒂制药公司','131','101','YSQMDHSP(QMD)','2019-03-01 00:00:00','10','','1'), ('1942','86979474000209','十八醇','500g×1瓶','51.37','瓶','','157','101','SBC','2019-03-01 00:00:00','10','','1'), ('1943','86979474000208','阿德福韦酯片(贺维力)','10mg×14片/盒','5.13','盒','葛兰素史克(天津)有限公司','111','101','ADFWP(HWL)','2019-03-01 00:00:00','10','','1'), ('1944','86979474000209','多种微量元素注射液(安达美)','10ml×10支/盒','43.06','盒','中瑞无锡华瑞','110','101','DZWLYSZSY(ADM)','2019-03-01 00:00:00','10','','1'), ('1945','86979474000208','地塞米松磷酸钠注射液','5mg*10支/盒','17.84','盒','山东新华制药股份有限公司','110','101','DSMSLSNZSY','2019-03-01 00:00:00','10','','1'), ('1946','86979474000208','青相子','1000mg/g','40.25','克','','112','103','QXZ','2019-03-01 00:00:00','10','','1'), ('1947','86979474000209','金钱草','1000mg/g','47.57','克','江苏','112','103','JQC','2019-03-01 00:00:00','10','','1'), ('1948','86979474000208','茵陈','1000mg/g','4.24','克','江苏','112','103','YC','2019-03-01 00:00:00','10','','1'), ('1949','86979474000209','盐酸拉贝洛尔片','50.000mg*30片/盒','9.51','盒','江苏迪赛诺制药有限公司','111','101','YSLBLEP','2019-03-01 00:00:00','10','','1'), ('1950','86979474000208','胆南星','1000mg/g','18.58','克','四川仟源中药饮片有限公司','112','103','DNX','2019-03-01 00:00:00','10','','1'), ('1951','86979474000208','葡萄糖酸氯己定皮肤消毒液','500ml*1瓶','25.76','瓶','3M中国有限公司','119','101','PTTSLJDPFXDY','2019-03-01 00:00:00','10','','1'), ('1952','86979474000209','注射用柔红霉素','20.000mg*1支/支','6.56','支','海正辉瑞制药有限公司','110','101','ZSYRHMS','2019-03-01 00:00:00','10','','1'), ('1953','86979474000208','夏枯草颗粒 ',' 0.5g/10g*1袋','18.75','袋','江阴天江药业有限公司','115','102','XKCKL ','2019-03-01 00:00:00','10','','1'), ('1954','86979474000209','马齿苋颗粒 ',' 1.5g/15g*1袋','89.14','袋','江阴天江药业有限公司','115','102','MCZKL ','2019-03-01 00:00:00','10','','1'), ('1955','86979474000208','麦冬颗粒 ',' 3g/10g*1袋','14.73','袋','江阴天江药业有限公司','115','102','MDKL ','2019-03-01 00:00:00','10','','1'), ('1956','86979474000208','炒麦芽颗粒 ',' 0.5g/10g*1袋','2.84','袋','江阴天江药业有限公司','115','102','CMYKL ','2019-03-01 00:00:00','10','','1'), ('1957','86979474000209','蔓荆子颗粒 ','0.5g/10g*1袋','29.71','袋','江阴天江药业有限公司','115','102','MJZKL ','2019-03-01 00:00:00','10','','1'), ('1958','86979474000208','芒硝颗粒 ','4g/10g*1袋','25.68','袋','江阴天江药业有限公司','115','102','MXKL ','2019-03-01 00:00:00','10','','1'), ('1959','86979474000209','玫瑰花颗粒 ',' 0.5g/6g*1袋','4.60','袋','江阴天江药业有限公司','115','102','MGHKL ','2019-03-01 00:00:00','10','','1'), ('1960','86979474000208','梅花颗粒 ',' 1g/6g*1袋','25.67','袋','江阴天江药业有限公司','115','102','MHKL ','2019-03-01 00:00:00','10','','1'), ('1961','86979474000208','蜜百部颗粒 ',' 4g/10g*1袋','1.04','袋','江阴天江药业有限公司','115','102','MBBKL ','2019-03-01 00:00:00','10','','1'), ('1962','86979474000209','蜜麻黄颗粒 ',' 1g/6g*1袋','46.31','袋','江阴天江药业有限公司','115','102','MMHKL ','2019-03-01 00:00:00','10','','1'), ('1963','86979474000208','蜜枇杷叶颗粒 ',' 1g/6g*1袋','14.32','袋','江阴天江药业有限公司','115','102','MZZYKL ','2019-03-01 00:00:00','10','','1'), ('1964','86979474000209','蜜紫苑颗粒 ','2g/6g*1袋','19.80','袋','江阴天江药业有限公司','115','102','MZYKL ','2019-03-01 00:00:00','10','','1'), ('1965','86979474000208','丁苯酞（恩必普）','0.100g*24粒/瓶','14.52','瓶','石药集团恩必普药业有限公司','159','101','DBT（EBP）','2019-03-01 00:00:00','10','','1'), ('1966','86979474000208','盐酸莫西沙星注射液（佰美诺）','0.4g*20ml/支','5.30','支','南京优科制药有限公司','110','101','YSMXSXZSY（BMN）','2019-03-01 00:00:00','10','','1'), ('1967','86979474000209','注射用辅酶A','100.000iu*10支/盒','5.89','盒','国药集团容生制药有限公司','161','101','ZSYFMA','2019-03-01 00:00:00','10','','1'), ('1968','86979474000208','三磷酸腺苷二钠注射液','20.000mg*10支/盒','11.86','盒','国药集团容生制药有限公司','110','101','SLSXZENZSY','2019-03-01 00:00:00','10','','1'), ('1969','86979474000209','碳酸锂缓释片','0.300g*100片/瓶','12.60','瓶','江苏恩华药业股份有限公司','111','101','TSZHSP','2019-03-01 00:00:00','10','','1'), ('1970','86979474000208','达沙替尼片(施达赛)','50mg*60片/瓶','23.13','瓶','百时美施贵宝（中美上海施贵宝）S','111','101','DSTNP(SDS)','2019-03-01 00:00:00','10','','1'), ('1971','86979474000208','达沙替尼片(小施达赛)','20mg*60片/瓶','23.17','瓶','百时美施贵宝（中美上海施贵宝）S','111','101','DSTNP(XSDS)','2019-03-01 00:00:00','10','','1'), ('1972','86979474000209','忍冬藤颗粒 ',' 0.5g/15g*1袋','46.61','袋','江阴天江药业有限公司','115','102','RDTKL ','2019-03-01 00:00:00','10','','1'), ('1973','86979474000208','替比夫定片（素比伏）','600.000mg*7片/盒','43.39','盒','诺华制药（北京）有限公司','111','101','TBFDP（SBF）','2019-03-01 00:00:00','10','','1'), ('1974','86979474000209','玻璃酸钠注射液(施沛特)','2.5ml:25mg*1支/支','20.27','支','山东博士伦福瑞达制药有限公司','110','101','BLSNZSY(SPT)','2019-03-01 00:00:00','10','','1'), ('1975','86979474000208','注射用环磷酰胺（安道生）','0.200g*1瓶/盒','10.75','盒','Baxter Healthcare of puerto rico','161','101','ZSYHLXA（ADS）','2019-03-01 00:00:00','10','','1'), ('1976','86979474000208','加巴喷丁（维诺定）','0.300g*20片/盒','13.51','盒','海南赛立克药业有限公司','111','101','JBPD（WND）','2019-03-01 00:00:00','10','','1'), ('1977','86979474000209','茺蔚子颗粒 ',' 0.5g/10g*1袋','35.97','袋','江阴天江药业有限公司','115','102','ZWZKL ','2019-03-01 00:00:00','10','','1'), ('1978','86979474000208','安神补脑液','10ml×10支/盒','19.12','盒','鲁南厚普制药有限公司','164','101','ASBNY','2019-03-01 00:00:00','10','','1'), ('1979','86979474000209','门冬氨酸钾镁片(潘南金)','0.3g×50片/瓶','23.27','瓶','匈牙利吉瑞大药厂','111','101','MDASJMP(PNJ)','2019-03-01 00:00:00','10','','1'), ('1980','86979474000208','盐酸美西律片(慢心律)','50mg×100片/瓶','0.12','瓶','上海信谊药厂有限公司委托黄河制药','111','101','YSMXLP(MXL)','2019-03-01 00:00:00','10','','1'), ('1981','86979474000208','多巴丝肼片(美多芭)','0.25g×40片/瓶','26.13','瓶','上海罗氏制药有限公司','111','101','DBSZP(MDB)','2019-03-01 00:00:00','10','','1'), ('1982','86979474000209','新洁尔灭溶液','5%500ml×1瓶','5.52','瓶','常熟市星海制药有限公司','157','101','XJEMRY','2019-03-01 00:00:00','10','','1'), ('1983','86979474000208','奥美拉唑肠溶片','10mg×28片/盒','8.48','盒','山东新时代药业有限公司','111','101','AMLZCRP','2019-03-01 00:00:00','10','','1'), ('1984','86979474000209','苯磺酸氨氯地平片(络活喜)','5mg×7片/盒','23.21','盒','辉瑞制药有限公司','111','101','BHSALDPP(LHX)','2019-03-01 00:00:00','10','','1'), ('1985','86979474000208','墨旱莲颗粒 ',' 1g/10g*1袋','23.74','袋','江阴天江药业有限公司','115','102','MHLKL ','2019-03-01 00:00:00','10','','1'), ('1986','86979474000208','牡丹皮颗粒 ',' 1g/6g*1袋','2.23','袋','江阴天江药业有限公司','115','102','MDPKL ','2019-03-01 00:00:00','10','','1'), ('1987','86979474000209','木瓜颗粒 ',' 3g/10g*1袋','68.34','袋','江阴天江药业有限公司','115','102','MGKL ','2019-03-01 00:00:00','10','','1'), ('1988','86979474000208','木蝴蝶颗粒 ',' 0.5g/3g*1袋','32.07','袋','江阴天江药业有限公司','115','102','MHDKL ','2019-03-01 00:00:00','10','','1'), ('1989','86979474000209','木通颗粒 ',' 0.5g/3g*1袋','5.70','袋','江阴天江药业有限公司','115','102','MTKL ','2019-03-01 00:00:00','10','','1'), ('1990','86979474000208','木香颗粒 ','2g/6g*1袋','19.28','袋','江阴天江药业有限公司','115','102','MXKL ','2019-03-01 00:00:00','10','','1'), ('1991','86979474000208','南沙参颗粒 ',' 2g/10g*1袋','11.51','袋','江阴天江药业有限公司','115','102','NSCKL ','2019-03-01 00:00:00','10','','1'), ('1992','86979474000209','培跺普利叔丁胺片(雅施达)','8mg*15片/盒','20.52','盒','施维雅(天津)制药有限公司','111','101','PDPLSDAP(YSD)','2019-03-01 00:00:00','10','','1'), ('1993','86979474000208','注射用乌司他丁(天普洛安)','10万单位*1瓶','48.90','瓶','广东天普生化医药有限公司','161','101','ZSYWSTD(TPLA)','2019-03-01 00:00:00','10','','1'), ('1994','86979474000209','萆薢颗粒 ',' 0.5g/10g*1袋','7.22','袋','江阴天江药业有限公司','115','102','ZSKL ','2019-03-01 00:00:00','10','','1'), ('1995','86979474000208','氟维司群注射液(芙士得)','5ml：250.000mg*2支/盒','28.00','盒','阿斯利康制药有限公司','110','101','FWSQZSY(ZSD)','2019-03-01 00:00:00','10','','1'), ('1996','86979474000208','*赖脯胰岛素注射液(优泌乐)','300iu:3ml(笔芯)*1支','6.07','支','礼来苏州制药有限公司','110','101','LFYDSZSY(YML)','2019-03-01 00:00:00','10','','1'), ('1997','86979474000209','乳酸依沙吖啶注射液(亚太)','2ml:50.000mg*10支/盒','5.37','盒','广西河丰药业有限责任公司','110','101','RSYSZZZSY(YT)','2019-03-01 00:00:00','10','','1'), ('1998','86979474000208','华法林钠片','2.500mg*60片/瓶','1.65','瓶','上海上药信谊药厂有限公司','111','101','HFLNP','2019-03-01 00:00:00','10','','1'), ('1999','86979474000209','葎草','1000mg/g','1.20','克','','112','103','QC','2019-03-01 00:00:00','10','','1'), ('2000','86979474000208','炒王不留行颗粒','0.5g/10g/袋','4.98','袋','江阴天江药业有限公司','115','102','CWBLXKL','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('2001','86979474000208','注射用泮托拉唑钠（韦迪）','60mg/瓶','45.67','瓶','扬子江药业集团有限公司','161','101','ZSYZTLZN（WD）','2019-03-01 00:00:00','10','','1'), ('2002','86979474000209','羟乙基淀粉130/0.4电解质（万衡）注射液','500.000ml*1袋/袋','0.58','袋','费森尤斯卡比（北京）医药有限公司','110','101','QYJDF130/0.4DJZ（WH）ZSY','2019-03-01 00:00:00','10','','1'), ('2003','86979474000208','乌苯美司胶囊(齐力佳)','10.000mg*18粒/盒','6.86','盒','成都苑东生物制药股份有限公司','114','101','WBMSJN(QLJ)','2019-03-01 00:00:00','10','','1'), ('2004','86979474000209','注射用盐酸瑞芬太尼','2.000mg*1支/支','9.14','支','国药集团工业有限公司','110','101','ZSYYSRFTN','2019-03-01 00:00:00','10','','1'), ('2005','86979474000208','丙氨酰谷氨酰胺注射液(辰佑)','100ml：20.000g*1瓶/瓶','37.45','瓶','山东鲁抗辰欣药业股份有限公司','110','101','BAGAAZSY(CY)','2019-03-01 00:00:00','10','','1'), ('2006','86979474000208','注射用甲磺酸法舒地尔（朗来）','35.000mg*1瓶/瓶','1.97','瓶','武汉启瑞药业有限公司','161','101','ZSYJHSFSDE（LL）','2019-03-01 00:00:00','10','','1'), ('2007','86979474000209','荷叶','1000mg/g','1.92','克','','112','103','HY','2019-03-01 00:00:00','10','','1'), ('2008','86979474000208','生麦芽','1000mg/g','13.04','克','','112','103','SMY','2019-03-01 00:00:00','10','','1'), ('2009','86979474000209','玉米须','1000mg/g','4.41','克','','112','103','YMX','2019-03-01 00:00:00','10','','1'), ('2010','86979474000208','穞豆衣','1000mg/g','15.68','克','','112','103','EDY','2019-03-01 00:00:00','10','','1'), ('2011','86979474000208','浮萍','1000mg/g','76.22','克','','112','103','FP','2019-03-01 00:00:00','10','','1'), ('2012','86979474000209','生侧柏叶','1000mg/g','14.01','克','','112','103','SCBY','2019-03-01 00:00:00','10','','1'), ('2013','86979474000208','阿胶珠','1000mg/g','0.81','克','','112','103','AJZ','2019-03-01 00:00:00','10','','1'), ('2014','86979474000209','紫石英','1000mg/g','23.73','克','','112','103','ZSY','2019-03-01 00:00:00','10','','1'), ('2015','86979474000208','淡豆豉','1000mg/g','12.13','克','','112','103','DDG','2019-03-01 00:00:00','10','','1'), ('2016','86979474000208','洛索洛芬钠片(乐松)','60mg×20片/盒','2.85','盒','第一三共制药（上海）有限公司','111','101','LSLFNP(LS)','2019-03-01 00:00:00','10','','1'), ('2017','86979474000209','盐酸贝那普利片(洛汀新)','10mg×14片/盒','3.93','盒','诺华制药（北京）有限公司','111','101','YSBNPLP(LTX)','2019-03-01 00:00:00','10','','1'), ('2018','86979474000208','盐酸麻黄碱注射液','30mg×10支/盒','12.40','盒','东北制药集团沈阳第一制药厂','110','101','YSMHJZSY','2019-03-01 00:00:00','10','','1'), ('2019','86979474000209','益智仁','1000mg/g','55.74','克','广东','112','103','YZR','2019-03-01 00:00:00','10','','1'), ('2020','86979474000208','淫羊霍','1000mg/g','49.67','克','陕西','112','103','YYH','2019-03-01 00:00:00','10','','1'), ('2021','86979474000208','银柴胡','1000mg/g','74.05','克','内蒙','112','103','YCH','2019-03-01 00:00:00','10','','1'), ('2022','86979474000209','银花藤','1000mg/g','6.83','克',' 江苏','112','103','YHT','2019-03-01 00:00:00','10','','1'), ('2023','86979474000208','鱼腥草','1000mg/g','45.04','克',' 江苏','112','103','YXC','2019-03-01 00:00:00','10','','1'), ('2024','86979474000209','玉竹','1000mg/g','0.92','克','河南','112','103','YZ','2019-03-01 00:00:00','10','','1'), ('2025','86979474000208','郁金','1000mg/g','16.44','克',' 四川','112','103','YJ','2019-03-01 00:00:00','10','','1'), ('2026','86979474000208','皂角刺','1000mg/g','33.54','克',' 河南','112','103','ZJC','2019-03-01 00:00:00','10','','1'), ('2027','86979474000209','小胡麻','1000mg/g','22.75','克','20110117','112','103','XHM','2019-03-01 00:00:00','10','','1'), ('2028','86979474000208','小茴香','1000mg/g','61.73','克','山西普德药业股份有限公司','112','103','XZX','2019-03-01 00:00:00','10','','1'), ('2029','86979474000209','二苯胺(AR)','100g×1瓶','3.58','瓶','','157','101','EBA(AR)','2019-03-01 00:00:00','10','','1'), ('2030','86979474000208','萹蓄颗粒',' 1g/15g*1袋','1.97','袋','江阴天江药业有限公司','115','102','QXKL','2019-03-01 00:00:00','10','','1'), ('2031','86979474000208','瘪桃干颗粒 ',' 0.5g/10g*1袋','52.23','袋','江阴天江药业有限公司','115','102','BTGKL ','2019-03-01 00:00:00','10','','1'), ('2032','86979474000209','槟榔颗粒 ',' 0.5g/10g*1袋','5.63','袋','江阴天江药业有限公司','115','102','ZLKL ','2019-03-01 00:00:00','10','','1'), ('2033','86979474000208','冰片颗粒 ','1g/1g*1袋','38.29','袋','江阴天江药业有限公司','115','102','BPKL ','2019-03-01 00:00:00','10','','1'), ('2034','86979474000209','补骨脂颗粒 ',' 1g/10g*1袋','31.79','袋','江阴天江药业有限公司','115','102','BGZKL ','2019-03-01 00:00:00','10','','1'), ('2035','86979474000208','苍耳子颗粒 ',' 0.5g/10g*1袋','16.85','袋','江阴天江药业有限公司','115','102','CEZKL ','2019-03-01 00:00:00','10','','1'), ('2036','86979474000208','苍术颗粒 ',' 3g/10g*1袋','0.61','袋','江阴天江药业有限公司','115','102','CSKL ','2019-03-01 00:00:00','10','','1'), ('2037','86979474000209','草果颗粒 ',' 0.5g/6g*1袋','1.04','袋','江阴天江药业有限公司','115','102','CGKL ','2019-03-01 00:00:00','10','','1'), ('2038','86979474000208','牛蒡子颗粒 ',' 1g/10g*1袋','0.43','袋','江阴天江药业有限公司','115','102','NZZKL ','2019-03-01 00:00:00','10','','1'), ('2039','86979474000209','女贞子颗粒 ',' 1g/10g*1袋','1.27','袋','江阴天江药业有限公司','115','102','NZZKL ','2019-03-01 00:00:00','10','','1'), ('2040','86979474000208','炮姜炭颗粒 ',' 0.5g/6g*1袋','11.89','袋','江阴天江药业有限公司','115','102','PJTKL ','2019-03-01 00:00:00','10','','1'), ('2041','86979474000208','炮山甲粉颗粒 ',' 3g/3g*1袋','44.95','袋','江阴天江药业有限公司','115','102','PSJFKL ','2019-03-01 00:00:00','10','','1'), ('2042','86979474000209','佩兰颗粒',' 1g/10g*1袋','4.52','袋','江阴天江药业有限公司','115','102','PLKL','2019-03-01 00:00:00','10','','1'), ('2043','86979474000208','片姜黄颗粒 ',' 0.5g/10g*1袋','61.07','袋','江阴天江药业有限公司','115','102','PJHKL ','2019-03-01 00:00:00','10','','1'), ('2044','86979474000209','蒲公英颗粒 ',' 2g/15g*1袋','27.72','袋','江阴天江药业有限公司','115','102','PGYKL ','2019-03-01 00:00:00','10','','1'), ('2045','86979474000208','前胡颗粒 ',' 1.5g/10g*1袋','7.07','袋','江阴天江药业有限公司','115','102','QHKL ','2019-03-01 00:00:00','10','','1'), ('2046','86979474000208','芡实颗粒 ',' 0.5g/10g*1袋','0.10','袋','江阴天江药业有限公司','115','102','ZSKL ','2019-03-01 00:00:00','10','','1'), ('2047','86979474000209','羌活颗粒 ',' 1g/6g*1袋','11.79','袋','江阴天江药业有限公司','115','102','QHKL ','2019-03-01 00:00:00','10','','1'), ('2048','86979474000208','秦艽颗粒',' 2g/10g*1袋','12.30','袋','江阴天江药业有限公司','115','102','QZKL','2019-03-01 00:00:00','10','','1'), ('2049','86979474000209','注射用盐酸多柔比星','10mg/瓶','81.01','瓶','海正辉瑞制药有限公司','161','101','ZSYYSDRBX','2019-03-01 00:00:00','10','','1'), ('2050','86979474000208','关节止痛膏','11*15cm*6片/袋','54.45','袋','常州市盛辉药业有限公司','145','101','GJZTG','2019-03-01 00:00:00','10','','1'), ('2051','86979474000208','卡泊三醇倍他米松软膏（得肤宝）','15g(1g：50μg:0.5 mg)*1支/盒','0.11','盒','爱尔兰利奥制药有限公司','121','101','KBSCBTMSRG（DFB）','2019-03-01 00:00:00','10','','1'), ('2052','86979474000209','八珍颗粒','3.500g*14袋/盒','4.86','盒','宁波立华制药有限公司','115','102','BZKL','2019-03-01 00:00:00','10','','1'), ('2053','86979474000208','注射用舒巴坦钠','0.500g*10支/盒','4.50','盒','华北制药股份有限公司','161','101','ZSYSBTN','2019-03-01 00:00:00','10','','1'), ('2054','86979474000209','甲苯磺酸索拉非尼片（多吉美）','0.200g*60片/盒','12.88','盒','德国拜耳医药保健0','111','101','JBHSSLFNP（DJM）','2019-03-01 00:00:00','10','','1'), ('2055','86979474000208','口服补液盐Ⅲ(博叶)','5.125g*6袋/盒','43.12','盒','西安安健药业有限公司','113','101','KFBYYⅢ(BY)','2019-03-01 00:00:00','10','','1'), ('2056','86979474000208','洗得宝牌手消毒凝胶','250ml*1瓶','2.76','瓶','北京洗得宝消毒制品有限公司一分','120','101','XDBPSXDNJ','2019-03-01 00:00:00','10','','1'), ('2057','86979474000209','溴隐亭片（佰莫亭）','2.500mg*30片/瓶','21.40','瓶','匈牙利吉瑞大药厂','111','102','ZYTP（BMT）','2019-03-01 00:00:00','10','','1'), ('2058','86979474000208','二苯胺','100g×1瓶','31.27','瓶','','157','101','EBA','2019-03-01 00:00:00','10','','1'), ('2059','86979474000209','番红O','25g×1瓶','0.90','瓶','','157','101','FHO','2019-03-01 00:00:00','10','','1'), ('2060','86979474000208','爱护佳免洗外科手消毒液','1000ml×1瓶','44.98','瓶','3M中国有限公司','129','101','AHJMXWKSXDY','2019-03-01 00:00:00','10','','1'), ('2061','86979474000208','爱护佳免洗手消毒液','500ml×1瓶','1.28','瓶','3M中国有限公司','124','101','AHJMXSXDY','2019-03-01 00:00:00','10','','1'), ('2062','86979474000209','冬瓜皮','1000mg/g','0.51','克','','112','103','DGP','2019-03-01 00:00:00','10','','1'), ('2063','86979474000208','骨化三醇注射液(溉纯)','1ml:1ug×1支','0.72','支','上海雅培制药厂','110','101','GHSCZSY(GC)','2019-03-01 00:00:00','10','','1'), ('2064','86979474000209','乙醇消毒液 75%','500ml×1瓶','48.70','瓶','江苏省兴化市医疗卫生用品有限公司','157','101','YCXDY 75%','2019-03-01 00:00:00','10','','1'), ('2065','86979474000208','天麻颗粒','1g/6g/袋','12.96','袋','江阴天江药业有限公司','115','102','TMKL','2019-03-01 00:00:00','10','','1'), ('2066','86979474000208','青皮颗粒 ',' 1g/6g*1袋','61.21','袋','江阴天江药业有限公司','115','102','QPKL ','2019-03-01 00:00:00','10','','1'), ('2067','86979474000209','维A酸片（艾力可）','10mg*20片/盒','54.27','盒','山东良福制药有限公司','111','101','WASP（ALK）','2019-03-01 00:00:00','10','','1'), ('2068','86979474000208','番泻叶','1000mg/g','23.58','克','','112','103','FXY','2019-03-01 00:00:00','10','','1'), ('2069','86979474000209','重组人血小板生成素注射液(特比澳)','15000iu*1瓶/盒','5.10','盒','沈阳三生制药股份有限公司','110','101','ZZRXXBSCSZSY(TBA)','2019-03-01 00:00:00','10','','1'), ('2070','86979474000208','甲磺酸阿帕替尼片（艾坦）','0.25g*10片/盒','14.87','盒','江苏恒瑞医药股份有限公司','111','101','JHSAPTNP（AT）','2019-03-01 00:00:00','10','','1'), ('2071','86979474000208','依西美坦片（阿诺新）','25mg*30片/盒','18.69','盒','Pfizer Italia s.r.l','111','101','YXMTP（ANX）','2019-03-01 00:00:00','10','','1'), ('2072','86979474000209','注射用奥美拉唑(奥西康)','40mg*1支','17.66','支','江苏奥赛康药业股份有限公司','110','101','ZSYAMLZ(AXK)','2019-03-01 00:00:00','10','','1'), ('2073','86979474000208','苦参凝胶','5.000g*4支/盒','28.42','盒','贵阳新天药业股份有限公司','120','101','KCNJ','2019-03-01 00:00:00','10','','1'), ('2074','86979474000209','侧柏叶颗粒 ',' 1g/10g*1袋','19.45','袋','江阴天江药业有限公司','115','102','CBYKL ','2019-03-01 00:00:00','10','','1'), ('2075','86979474000208','柴胡颗粒 ',' 1g/6g*1袋','5.28','袋','江阴天江药业有限公司','115','102','CHKL ','2019-03-01 00:00:00','10','','1'), ('2076','86979474000208','蝉蜕颗粒',' 0.5g/6g*1袋','43.09','袋','江阴天江药业有限公司','115','102','CTKL','2019-03-01 00:00:00','10','','1'), ('2077','86979474000209','炒白芍颗粒 ',' 1g/10g*1袋','44.75','袋','江阴天江药业有限公司','115','102','CBSKL ','2019-03-01 00:00:00','10','','1'), ('2078','86979474000208','炒白术颗粒 ',' 3g/10g*1袋','10.24','袋','江阴天江药业有限公司','115','102','CBSKL ','2019-03-01 00:00:00','10','','1'), ('2079','86979474000209','炒僵蚕颗粒 ',' 1g/10g*1袋','73.72','袋','江阴天江药业有限公司','115','102','CJCKL ','2019-03-01 00:00:00','10','','1'), ('2080','86979474000208','炒没药颗粒 ','1.000g*1袋/袋','1.07','袋','江阴天江药业有限公司','115','102','CMYKL ','2019-03-01 00:00:00','10','','1'), ('2081','86979474000208','炒苡仁颗粒 ','0.5g/10g*1袋','18.62','袋','江阴天江药业有限公司','115','102','CZRKL ','2019-03-01 00:00:00','10','','1'), ('2082','86979474000209','来那度胺（瑞复美）','25mg*21粒/盒','25.46','盒','瑞士Celgene','114','101','LNDA（RFM）','2019-03-01 00:00:00','10','','1'), ('2083','86979474000208','炮山甲粉颗粒','3g/3g/袋','26.23','袋','江阴天江药业有限公司','115','102','PSJFKL','2019-03-01 00:00:00','10','','1'), ('2084','86979474000209','BG重组人促红素注射液(益比奥)','3000iu/支','37.46','支','沈阳三生制药股份有限公司','110','101','BGZZRCHSZSY(YBA)','2019-03-01 00:00:00','10','','1'), ('2085','86979474000208','复方季铵盐消毒液','100ml*1瓶','12.27','瓶','兴化市医疗卫生用品有限公司','119','101','FFJZYXDY','2019-03-01 00:00:00','10','','1'), ('2086','86979474000208','全蝎颗粒 ','0.500g*1袋/袋','46.55','袋','江阴天江药业有限公司','115','102','QXKL ','2019-03-01 00:00:00','10','','1'), ('2087','86979474000209','氯沙坦钾片(科素亚)','50mg*7片/盒','24.72','盒','默沙东制药（杭州）有限公司','111','101','LSTJP(KSY)','2019-03-01 00:00:00','10','','1'), ('2088','86979474000208','季德胜蛇药片','0.4g*30片/盒','23.07','盒','精华制药集团股份有限公司','111','101','JDSSYP','2019-03-01 00:00:00','10','','1'), ('2089','86979474000209','酚磺乙胺注射液（止血敏）','0.500g*10支/盒','0.81','盒','国药集团容生制药有限公司','110','101','FHYAZSY（ZXM）','2019-03-01 00:00:00','10','','1'), ('2090','86979474000208','喷昔洛韦乳膏（夫坦）','20.000g*1支/盒','35.97','盒','重庆华邦制药有限公司','121','101','PXLWRG（FT）','2019-03-01 00:00:00','10','','1'), ('2091','86979474000208','灭菌注射用水','500.000ml*1瓶','16.71','瓶','山东齐都药业有限公司','110','101','MJZSYS','2019-03-01 00:00:00','10','','1'), ('2092','86979474000209','盐酸维拉帕米片(异搏定)','40mg*30片/瓶','4.64','瓶','江苏瑞年前进制药有限公司','111','101','YSWLPMP(YBD)','2019-03-01 00:00:00','10','','1'), ('2093','86979474000208','硫辛酸(凡可佳）','0.15g*1支/支','23.18','支','重庆药友制药有限公司','110','101','LXS(FKJ）','2019-03-01 00:00:00','10','','1'), ('2094','86979474000209','三碘甲烷','100g×1瓶','0.71','瓶','','157','101','SDJW','2019-03-01 00:00:00','10','','1'), ('2095','86979474000208','三氯醋酸','500ml×1瓶','64.90','瓶','','157','101','SLCS','2019-03-01 00:00:00','10','','1'), ('2096','86979474000208','三氯化铁(AR)','50g×1瓶','30.81','瓶','','157','101','SLHT(AR)','2019-03-01 00:00:00','10','','1'), ('2097','86979474000209','三氯甲烷','500ml×1瓶','1.99','瓶','上海久亿','157','101','SLJW','2019-03-01 00:00:00','10','','1'), ('2098','86979474000208','三氯乙酸(AR)','500ml×1瓶','52.40','瓶','','157','101','SLYS(AR)','2019-03-01 00:00:00','10','','1'), ('2099','86979474000209','西黄蓍胶','500g×1包','45.40','包','','157','101','XHZJ','2019-03-01 00:00:00','10','','1'), ('2100','86979474000208','希尔生洗剂','100g/瓶','29.03','瓶','江苏迪赛诺制药有限公司','142','101','XESXJ','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('2101','86979474000208','锡类散','1.5g*1支','19.54','支','精华制药集团股份有限公司','113','101','XLS','2019-03-01 00:00:00','10','','1'), ('2102','86979474000209','洗必泰','25g×1瓶','35.71','瓶','辽宁锦州制药一厂','157','101','XBT','2019-03-01 00:00:00','10','','1'), ('2103','86979474000208','多磺酸粘多糖软膏(喜疗妥)','14g×1支','14.46','支','Mobilat Produktions Gmbh 德国','121','101','DHSZDTRG(XLT)','2019-03-01 00:00:00','10','','1'), ('2104','86979474000209','三七(粉)','1000mg/g','62.80','克','','112','103','SQ(F)','2019-03-01 00:00:00','10','','1'), ('2105','86979474000208','槲寄生','1000mg/g','31.39','克','吉林','112','103','ZJS','2019-03-01 00:00:00','10','','1'), ('2106','86979474000208','桑螵蛸','1000mg/g','12.32','克','','112','103','SpZ','2019-03-01 00:00:00','10','','1'), ('2107','86979474000209','落得打','1000mg/g','23.16','克','','112','103','LDD','2019-03-01 00:00:00','10','','1'), ('2108','86979474000208','桔络','1000mg/g','54.47','克','','112','103','JL','2019-03-01 00:00:00','10','','1'), ('2109','86979474000209','加巴喷丁胶囊（迭力）','0.300g*24粒/盒','35.10','盒','江苏恩华药业股份有限公司','114','101','JBPDJN（DL）','2019-03-01 00:00:00','10','','1'), ('2110','86979474000208','复方聚乙二醇(和爽）电解质散(II)','68.560g*1袋/袋','17.63','袋','深圳万和制药有限公司','113','101','FFJYEC(HS）DJZS(II)','2019-03-01 00:00:00','10','','1'), ('2111','86979474000208','复方尿囊素片','55mg*60片/盒','0.60','盒','江苏正大丰海制药有限公司','111','101','FFNNSP','2019-03-01 00:00:00','10','','1'), ('2112','86979474000209','G噻托溴铵粉雾剂(带吸入器)','18ug*30粒/盒','28.36','盒','正大天晴药业集团股份有限公司','116','101','GZTZZFWJ(DXRQ)','2019-03-01 00:00:00','10','','1'), ('2113','86979474000208','氟比洛芬凝胶贴膏','40mg*6贴/盒','24.01','盒','北京泰德制药股份有限公司','146','101','FBLFNJTG','2019-03-01 00:00:00','10','','1'), ('2114','86979474000209','重组人Ⅱ型肿瘤坏死因子受体-抗体融合蛋白','25mg*1瓶/瓶','3.60','瓶','上海赛金生物医药有限公司','161','101','ZZRⅡXZLHSYZST-KTRHDB','2019-03-01 00:00:00','10','','1'), ('2115','86979474000208','二流苏糖醇','1.000g*1g/瓶','9.92','瓶','','116','101','ELSTC','2019-03-01 00:00:00','10','','1'), ('2116','86979474000208','0.9%氯化钠注射液(大冢袋)','250ml*1袋','0.46','袋','中国大冢制药厂','110','101','0.9%LHNZSY(DZD)','2019-03-01 00:00:00','10','','1'), ('2117','86979474000209','牡丹皮炭','1000mg/g','7.68','克','','112','103','MDPT','2019-03-01 00:00:00','10','','1'), ('2118','86979474000208','氯解磷定注射液','0.500g*5支/盒','37.37','盒','上海旭东海普药业有限公司','110','101','LJLDZSY','2019-03-01 00:00:00','10','','1'), ('2119','86979474000209','碳酸镧咀嚼片','500.000mg*20片/盒','9.44','盒','Shire Pharmaceutical Contracts Limited','111','101','TSZJJP','2019-03-01 00:00:00','10','','1'), ('2120','86979474000208','美沙拉秦缓释颗粒(艾迪莎)','0.5g*10袋/盒','8.32','盒','上海爱的发制药有限公司','115','101','MSLQHSKL(ADS)','2019-03-01 00:00:00','10','','1'), ('2121','86979474000208','加尼瑞克','0.25mg*1支/支','36.04','支','vetter pharma-Fertigung GmbH(Germany)','110','101','JNRK','2019-03-01 00:00:00','10','','1'), ('2122','86979474000209','维生素AD(伊可新(0-1))滴剂胶囊','1500:500iu*40粒/盒','86.18','盒','山东达因海洋生物制药股份有限公司','130','101','WSSAD(YKX(0-1))DJJN','2019-03-01 00:00:00','10','','1'), ('2123','86979474000208','汉防己甲素片（金康）','20.000mg*12片/盒','21.40','盒','浙江金华康恩贝生物制药有限公司','111','101','HFJJSP（JK）','2019-03-01 00:00:00','10','','1'), ('2124','86979474000209','孟鲁司特钠颗粒（顺尔宁）','4.000mg*7袋/盒','0.53','盒','默沙东制药（杭州）有限公司','115','101','MLSTNKL（SEN）','2019-03-01 00:00:00','10','','1'), ('2125','86979474000208','盐酸可乐定片','75.000ug*100片/盒','41.39','盒','常州制药厂有限公司','111','101','YSKLDP','2019-03-01 00:00:00','10','','1'), ('2126','86979474000208','沙格列汀片（安立泽）','5.00mg*7片/盒','34.54','盒','阿斯利康制药有限公司','111','101','SGLTP（ALZ）','2019-03-01 00:00:00','10','','1'), ('2127','86979474000209','注射用门冬酰胺酶(埃希）','10000iu*1瓶/瓶','11.89','瓶','常州千红生化制药股份有限公司','161','101','ZSYMDXAM(AX）','2019-03-01 00:00:00','10','','1'), ('2128','86979474000208','5%葡萄糖注射液（大冢软袋）','250ml:12.5g*1袋/袋','5.79','袋','中国大冢制药有限公司','150','101','5%PTTZSY（DZRD）','2019-03-01 00:00:00','10','','1'), ('2129','86979474000209','抗人T细胞猪免疫球蛋白','5mL：0.250g*1瓶/瓶','4.38','瓶','武汉生物制品研究所','110','101','KRTXBZMYQDB','2019-03-01 00:00:00','10','','1'), ('2130','86979474000208','伏立康唑分散片（复锐）','200.000mg*6片/盒','37.73','盒','扬子江药业集团南京海陵药业','123','101','FLKZFSP（FR）','2019-03-01 00:00:00','10','','1'), ('2131','86979474000208','地西泮片','2.500mg*20片/盒','7.65','盒','华中药业股份有限公司','111','101','DXZP','2019-03-01 00:00:00','10','','1'), ('2132','86979474000209','曲克芦丁脑蛋白水解物注射液(杏唯)','5ml*1支','2.95','支','吉林四环制药有限公司','110','101','QKLDNDBSJWZSY(XW)','2019-03-01 00:00:00','10','','1'), ('2133','86979474000208','巴戟天颗粒 ',' 3g/10g*1袋','9.25','袋','江阴天江药业有限公司','115','102','BZTKL ','2019-03-01 00:00:00','10','','1'), ('2134','86979474000209','月季花','1000mg/g','83.36','克','','112','103','YJH','2019-03-01 00:00:00','10','','1'), ('2135','86979474000208','肠内营养混悬液(TPF-DM)康全力','500ml*1袋(0.75kal/ml)','52.58','袋','纽迪希亚制药(无锡)有限公司S','136','101','CNYYHXY(TPF-DM)KQL','2019-03-01 00:00:00','10','','1'), ('2136','86979474000208','利福平胶囊','0.15g*100粒/瓶','8.13','瓶','沈阳红旗制药有限公司','114','101','LFPJN','2019-03-01 00:00:00','10','','1'), ('2137','86979474000209','盐酸布桂嗪注射液（强痛定）','0.100g*10支/盒','28.87','盒','天津金耀药业有限公司','110','101','YSBGZZSY（QTD）','2019-03-01 00:00:00','10','','1'), ('2138','86979474000208','淋巴细胞分离液','250.000ml*1瓶/瓶','10.11','瓶','上海九亿','119','101','LBXBFLY','2019-03-01 00:00:00','10','','1'), ('2139','86979474000209','川黄口服液','10ml*10支/盒','6.09','盒','四川升和药业股份有限公司','164','102','CHKFY','2019-03-01 00:00:00','10','','1'), ('2140','86979474000208','盐酸西那卡塞（盖平）','25.000mg*10片/盒','4.96','盒','协和发酵麒麟株式会社','111','101','YSXNKS（GP）','2019-03-01 00:00:00','10','','1'), ('2141','86979474000208','油松节','1000mg/g','6.66','克','','112','103','YSJ','2019-03-01 00:00:00','10','','1'), ('2142','86979474000209','生地榆','1000mg/g','7.78','克','','112','103','SDY','2019-03-01 00:00:00','10','','1'), ('2143','86979474000208','羊蹄根','1000mg/g','59.04','克','','112','103','YTG','2019-03-01 00:00:00','10','','1'), ('2144','86979474000209','藤李根','1000mg/g','64.31','克','','112','103','TLG','2019-03-01 00:00:00','10','','1'), ('2145','86979474000208','木馒头','1000mg/g','7.89','克','','112','103','MMT','2019-03-01 00:00:00','10','','1'), ('2146','86979474000208','利拉鲁肽注射液（诺和力）','18mg*1支/支','49.43','支','丹麦诺和诺德公司','110','101','LLLZZSY（NHL）','2019-03-01 00:00:00','10','','1'), ('2147','86979474000209','注射用盐酸博莱霉素','1.5万单位/支','39.97','支','海正辉瑞制药有限公司','161','101','ZSYYSBLMS','2019-03-01 00:00:00','10','','1'), ('2148','86979474000208','醋酸去氨加压素（翰宇）','4ug*1支/支','30.77','支','深圳翰宇药业股份有限公司','110','101','CSQAJYS（HY）','2019-03-01 00:00:00','10','','1'), ('2149','86979474000209','青霉素皮试液','1.000iu*2500iu/支','12.52','支','浙江金华康恩贝生物制药有限公司','110','101','QMSPSY','2019-03-01 00:00:00','10','','1'), ('2150','86979474000208','甲硝唑片','0.2g*100片/瓶','46.06','瓶','山东齐都药业有限公司','111','101','JXZP','2019-03-01 00:00:00','10','','1'), ('2151','86979474000208','氟康唑胶囊（大扶康）','0.150g*1粒/盒','83.69','盒','辉瑞制药','114','101','FKZJN（DFK）','2019-03-01 00:00:00','10','','1'), ('2152','86979474000209','法半夏','1000mg/g','3.63','克','四川','112','103','FBX','2019-03-01 00:00:00','10','','1'), ('2153','86979474000208','龟板','1000mg/g','48.18','克','江苏','112','103','GB','2019-03-01 00:00:00','10','','1'), ('2154','86979474000209','黄柏','1000mg/g','19.21','克','','112','103','HB','2019-03-01 00:00:00','10','','1'), ('2155','86979474000208','枯矾','1000mg/g','12.67','克','','112','103','KF','2019-03-01 00:00:00','10','','1'), ('2156','86979474000208','马齿苋','1000mg/g','18.19','克',' 江苏','112','103','MCZ','2019-03-01 00:00:00','10','','1'), ('2157','86979474000209','田基黄','1000mg/g','22.44','克','','112','103','TJH','2019-03-01 00:00:00','10','','1'), ('2158','86979474000208','蜈蚣(净)','1000mg/g','9.72','克','','112','103','ZZ(J)','2019-03-01 00:00:00','10','','1'), ('2159','86979474000209','桑椹子','1000mg/g','42.38','克','江苏','112','103','SZZ','2019-03-01 00:00:00','10','','1'), ('2160','86979474000208','桑叶','1000mg/g','28.00','克','江苏','112','103','SY','2019-03-01 00:00:00','10','','1'), ('2161','86979474000208','注射用异环磷酰胺(匹服平)','1g×1支','3.95','支','江苏恒瑞医药股份有限公司','161','101','ZSYYHLXA(PFP)','2019-03-01 00:00:00','10','','1'), ('2162','86979474000209','硝酸毛果芸香碱滴眼液(护明)','5ml:50mg/支','64.80','支','河北永光制药','160','101','XSMGZXJDYY(HM)','2019-03-01 00:00:00','10','','1'), ('2163','86979474000208','注射用平阳霉素','8mg×1支','52.06','支','天津太河公司','110','101','ZSYPYMS','2019-03-01 00:00:00','10','','1'), ('2164','86979474000209','葡萄糖(注射用)','1000mg/g','3.94','克','潍坊盛泰药业','157','101','PTT(ZSY)','2019-03-01 00:00:00','10','','1'), ('2165','86979474000208','葡萄糖氯化钠注射液(塑瓶)','5%500ml×1瓶','32.74','瓶','中国大冢制药有限公司','110','101','PTTLHNZSY(SP)','2019-03-01 00:00:00','10','','1'), ('2166','86979474000208','依诺肝素钠注射液(克赛)','0.4ml:4000iu×1支','8.00','支','赛诺菲(北京)制药有限公司','110','101','YNGSNZSY(KS)','2019-03-01 00:00:00','10','','1'), ('2167','86979474000209','尼莫地平注射液(尼莫同)','50ml:10mg×1瓶','30.15','瓶','拜耳医药保健有限公司','110','101','NMDPZSY(NMT)','2019-03-01 00:00:00','10','','1'), ('2168','86979474000208','尿  素','250g×1瓶','6.08','瓶','','157','101','N  S','2019-03-01 00:00:00','10','','1'), ('2169','86979474000209','乳果糖口服溶液（杜密克）','200.000ml*1瓶/瓶','19.36','瓶','雅培贸易（上海）有限公司','164','101','RGTKFRY（DMK）','2019-03-01 00:00:00','10','','1'), ('2170','86979474000208','重酒石酸间羟胺注射液','10.000mg*1支/支','62.11','支','北京市永康药业有限公司','110','101','ZJSSJQAZSY','2019-03-01 00:00:00','10','','1'), ('2171','86979474000208','蜣螂虫','1只','6.91','只','','112','103','ZZC','2019-03-01 00:00:00','10','','1'), ('2172','86979474000209','卷柏','1000mg/g','11.50','克','','112','103','JB','2019-03-01 00:00:00','10','','1'), ('2173','86979474000208','石楠叶','1000mg/g','5.79','克','','112','103','SZY','2019-03-01 00:00:00','10','','1'), ('2174','86979474000209','炒冬瓜子','1000mg/g','27.14','克','','112','103','CDGZ','2019-03-01 00:00:00','10','','1'), ('2175','86979474000208','鲁沃夫TM邻苯二甲醛消毒剂','400ml*1瓶/瓶','50.99','瓶','','151','101','LWFTMLBEJQXDJ','2019-03-01 00:00:00','10','','1'), ('2176','86979474000208','2%葡萄糖洗必泰皮肤消毒液(葡泰牌)','65ml*1瓶','2.94','瓶','上海利康消毒高科技有限公司','142','101','2%PTTXBTPFXDY(PTP)','2019-03-01 00:00:00','10','','1'), ('2177','86979474000209','制川乌颗粒 ','0.500g*1袋/袋','19.89','袋','江阴天江药业有限公司','115','102','ZCWKL ','2019-03-01 00:00:00','10','','1'), ('2178','86979474000208','舒眠胶囊','0.400g*36粒/盒','5.48','盒','贵州大隆药业有限公司','114','102','SMJN','2019-03-01 00:00:00','10','','1'), ('2179','86979474000209','黄体酮注射液','10.000mg*10支/盒','16.74','盒','天津金耀药业有限公司','110','101','HTTZSY','2019-03-01 00:00:00','10','','1'), ('2180','86979474000208','氨茶碱注射液','2ml:0.250g*10支/盒','20.72','盒','河南润弘制药股份有限公司','110','101','ACJZSY','2019-03-01 00:00:00','10','','1'), ('2181','86979474000208','硝苯地平片','10mg*100片/瓶','35.89','瓶','华中药业股份有限公司','111','101','XBDPP','2019-03-01 00:00:00','10','','1'), ('2182','86979474000209','速效救心丸','40mg*150粒/盒','67.74','盒','天津中新药业集团股份有限公司','163','102','SXJXW','2019-03-01 00:00:00','10','','1'), ('2183','86979474000208','富马酸酮替芬分散片(瑞那替)','1mg*24片/盒','0.04','盒','山东绿因药业有限公司','123','101','FMSTTFFSP(RNT)','2019-03-01 00:00:00','10','','1'), ('2184','86979474000209','荆花胃康胶丸','80mg*30粒/盒','6.82','盒','天士力医药集团股份有限公司','163','102','JHWKJW','2019-03-01 00:00:00','10','','1'), ('2185','86979474000208','射干颗粒 ','1.5g/6g*1袋','52.56','袋','江阴天江药业有限公司','115','102','SGKL ','2019-03-01 00:00:00','10','','1'), ('2186','86979474000208','伸筋草颗粒 ',' 1g/15g*1袋','0.02','袋','江阴天江药业有限公司','115','102','SJCKL ','2019-03-01 00:00:00','10','','1'), ('2187','86979474000209','升麻颗粒 ',' 0.5g/6g*1袋','38.13','袋','江阴天江药业有限公司','115','102','SMKL ','2019-03-01 00:00:00','10','','1'), ('2188','86979474000208','生大黄颗粒 ',' 1g/3g*1袋','52.79','袋','江阴天江药业有限公司','115','102','SDHKL ','2019-03-01 00:00:00','10','','1'), ('2189','86979474000209','生地黄颗粒 ',' 3g/10g*1袋','41.89','袋','江阴天江药业有限公司','115','102','SDHKL ','2019-03-01 00:00:00','10','','1'), ('2190','86979474000208','生黄芪颗粒 ','1.5g/10g*1袋','38.33','袋','江阴天江药业有限公司','115','102','SHZKL ','2019-03-01 00:00:00','10','','1'), ('2191','86979474000208','生黄芩颗粒 ',' 2g/10g*1袋','8.64','袋','江阴天江药业有限公司','115','102','SHZKL ','2019-03-01 00:00:00','10','','1'), ('2192','86979474000209','生山楂颗粒 ',' 3g/10g*1袋','37.60','袋','江阴天江药业有限公司','115','102','SSZKL ','2019-03-01 00:00:00','10','','1'), ('2193','86979474000208','生山栀颗粒 ',' 1g/10g*1袋','69.20','袋','江阴天江药业有限公司','115','102','SSZKL ','2019-03-01 00:00:00','10','','1'), ('2194','86979474000209','生苡仁颗粒 ',' 0.5g/10g*1袋','29.23','袋','江阴天江药业有限公司','115','102','SZRKL ','2019-03-01 00:00:00','10','','1'), ('2195','86979474000208','石菖蒲颗粒 ',' 1g/6g*1袋','7.90','袋','江阴天江药业有限公司','115','102','SZPKL ','2019-03-01 00:00:00','10','','1'), ('2196','86979474000208','石膏颗粒 ','0.500g*1袋/袋','19.56','袋','江阴天江药业有限公司','115','102','SGKL ','2019-03-01 00:00:00','10','','1'), ('2197','86979474000209','石斛颗粒 ','0.5g/10g*1袋','9.95','袋','江阴天江药业有限公司','115','102','SHKL ','2019-03-01 00:00:00','10','','1'), ('2198','86979474000208','石见穿颗粒 ','1.5g/15g*1袋','96.00','袋','江阴天江药业有限公司','115','102','SJCKL ','2019-03-01 00:00:00','10','','1'), ('2199','86979474000209','荧光素钠注射液(历设得)','0.5g：5ml*1支','66.77','支','Alcon Laboratories,Inc 美国','110','101','YGSNZSY(LSD)','2019-03-01 00:00:00','10','','1'), ('2200','86979474000208','伊马替尼（昕维）','0.100g*60片/盒','70.27','盒','江苏豪盛药业股份有限公司','111','101','YMTN（ZW）','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('2201','86979474000208','铝碳酸镁片(达喜)','500mg×20片/盒','2.19','盒','拜耳医药保健有限公司','111','101','LTSMP(DX)','2019-03-01 00:00:00','10','','1'), ('2202','86979474000209','阿奇霉素片(希舒美)','0.25g×6片/盒','82.20','盒','辉瑞制药有限公司','111','101','AQMSP(XSM)','2019-03-01 00:00:00','10','','1'), ('2203','86979474000208','卡左双多巴缓释片(息宁)','250mg×30片/盒','22.45','盒','默沙东制药（杭州）有限公司','111','101','KZSDBHSP(XN)','2019-03-01 00:00:00','10','','1'), ('2204','86979474000209','甘油果糖氯化钠(天晴甘安)注射液','250ml×1袋','47.63','袋','南京正大天晴制药有限公司','110','101','GYGTLHN(TQGA)ZSY','2019-03-01 00:00:00','10','','1'), ('2205','86979474000208','甘露醇注射液','250ml:50g×1袋(三层共挤）','1.41','袋','上海百特医疗用品有限公司','110','101','GLCZSY','2019-03-01 00:00:00','10','','1'), ('2206','86979474000208','甘露醇注射液','250ml*1瓶','69.49','瓶','华润双鹤药业股份有限公司','110','101','GLCZSY','2019-03-01 00:00:00','10','','1'), ('2207','86979474000209','甲硝唑氯化钠注射液','100ml*1瓶*0.5%','16.44','瓶','四川科伦药业股份有限公司','110','101','JXZLHNZSY','2019-03-01 00:00:00','10','','1'), ('2208','86979474000208','华法林钠片','3.000mg*100片/瓶','8.27','瓶','芬兰奥立安药厂S','111','101','HFLNP','2019-03-01 00:00:00','10','','1'), ('2209','86979474000209','琥珀酸亚铁缓释片（速力菲）','0.200g*24片/盒','22.98','盒','金陵药业股份有限公司南京金陵制药厂','111','102','ZZSYTHSP（SLF）','2019-03-01 00:00:00','10','','1'), ('2210','86979474000208','托伐普坦片（苏麦卡）','15.000mg*5片/盒','39.58','盒','大冢（浙江）制药有限公司','111','101','TFPTP（SMK）','2019-03-01 00:00:00','10','','1'), ('2211','86979474000208','盐酸帕罗西汀片（乐友）','20.000mg*20片/盒','32.51','盒','浙江华海','111','101','YSPLXTP（LY）','2019-03-01 00:00:00','10','','1'), ('2212','86979474000209','石榴皮颗粒',' 2g/10g*1袋','56.04','袋','江阴天江药业有限公司','115','102','SLPKL','2019-03-01 00:00:00','10','','1'), ('2213','86979474000208','石韦颗粒 ',' 1g/10g*1袋','7.77','袋','江阴天江药业有限公司','115','102','SWKL ','2019-03-01 00:00:00','10','','1'), ('2214','86979474000209','熟地黄颗粒 ',' 4g/10g*1袋','24.30','袋','江阴天江药业有限公司','115','102','SDHKL ','2019-03-01 00:00:00','10','','1'), ('2215','86979474000208','水牛角颗粒 ',' 0.5g/15g*1袋','60.59','袋','江阴天江药业有限公司','115','102','SNJKL ','2019-03-01 00:00:00','10','','1'), ('2216','86979474000208','水蛭颗粒 ',' 0.5g/3g*1袋','3.60','袋','江阴天江药业有限公司','115','102','SZKL ','2019-03-01 00:00:00','10','','1'), ('2217','86979474000209','丝瓜络颗粒 ',' 0.5g/10g*1袋','20.04','袋','江阴天江药业有限公司','115','102','SGLKL ','2019-03-01 00:00:00','10','','1'), ('2218','86979474000208','酸枣仁颗粒 ','0.5g/10g*1袋','61.10','袋','江阴天江药业有限公司','115','102','SZRKL ','2019-03-01 00:00:00','10','','1'), ('2219','86979474000209','锁阳颗粒 ','3g/10g*1袋','27.52','袋','江阴天江药业有限公司','115','102','SYKL ','2019-03-01 00:00:00','10','','1'), ('2220','86979474000208','太子参颗粒 ',' 1.5g/10g*1袋','7.57','袋','江阴天江药业有限公司','115','102','TZCKL ','2019-03-01 00:00:00','10','','1'), ('2221','86979474000208','枸橼酸钠抗凝剂','8g：200ml*1袋','7.96','袋','四川南格尔生物医学股份有限公司','110','101','ZZSNKNJ','2019-03-01 00:00:00','10','','1'), ('2222','86979474000209','地高辛片(可力）','0.250mg*30片/盒','5.38','盒','赛诺菲（杭州）制药有限公司','111','101','DGXP(KL）','2019-03-01 00:00:00','10','','1'), ('2223','86979474000208','川贝母颗粒 ',' 3g/3g*1袋','36.33','袋','江阴天江药业有限公司','115','102','CBMKL ','2019-03-01 00:00:00','10','','1'), ('2224','86979474000209','川楝子颗粒 ','1.5g/10g*1袋','12.28','袋','江阴天江药业有限公司','115','102','CZZKL ','2019-03-01 00:00:00','10','','1'), ('2225','86979474000208','川牛膝颗粒 ','3g/10g*1袋','16.18','袋','江阴天江药业有限公司','115','102','CNXKL ','2019-03-01 00:00:00','10','','1'), ('2226','86979474000208','川芎颗粒',' 2g/6g*1袋','16.65','袋','江阴天江药业有限公司','115','102','CZKL','2019-03-01 00:00:00','10','','1'), ('2227','86979474000209','垂盆草颗粒','1.5g/15g*1袋','20.29','袋','江阴天江药业有限公司','115','102','CPCKL','2019-03-01 00:00:00','10','','1'), ('2228','86979474000208','椿根皮颗粒 ',' 0.5g/10g*1袋','0.91','袋','江阴天江药业有限公司','115','102','CGPKL ','2019-03-01 00:00:00','10','','1'), ('2229','86979474000209','醋鳖甲颗粒 ',' 0.5g/10g*1袋','21.10','袋','江阴天江药业有限公司','115','102','CBJKL ','2019-03-01 00:00:00','10','','1'), ('2230','86979474000208','醋煅紫石英颗粒 ',' 0.5g/15g*1袋','56.94','袋','江阴天江药业有限公司','115','102','CZZSYKL ','2019-03-01 00:00:00','10','','1'), ('2231','86979474000208','醋五灵脂颗粒 ',' 0.5g/10g*1袋','31.99','袋','江阴天江药业有限公司','115','102','CWLZKL ','2019-03-01 00:00:00','10','','1'), ('2232','86979474000209','大腹皮颗粒 ','0.5g/10g*1袋','43.36','袋','江阴天江药业有限公司','115','102','DFPKL ','2019-03-01 00:00:00','10','','1'), ('2233','86979474000208','肾康注射液','20.000ml*1支/支','0.52','支','西安世纪','110','101','SKZSY','2019-03-01 00:00:00','10','','1'), ('2234','86979474000209','喷他佐辛注射液','30.000mg：1ml*1支/支','5.58','支','合肥华润神鹿药业有限公司','110','101','PTZXZSY','2019-03-01 00:00:00','10','','1'), ('2235','86979474000208','小牛血清去蛋白注射液（奥德金）','10ml：0.400g*1支/支','13.12','支','锦州奥鸿药业有限责任公司','110','101','XNXQQDBZSY（ADJ）','2019-03-01 00:00:00','10','','1'), ('2236','86979474000208','糠酸莫米松鼻喷雾剂（内舒拿）','50.000ug*60揿/支','15.53','支','默沙东制药','143','101','KSMMSBPWJ（NSN）','2019-03-01 00:00:00','10','','1'), ('2237','86979474000209','注射用白眉蛇毒血凝酶（邦亭）','2000.000u*1支/支','31.85','支','锦州奥鸿药业有限责任公司','161','101','ZSYBMSDXNM（BT）','2019-03-01 00:00:00','10','','1'), ('2238','86979474000208','氨基酸注射液(洛安命)','250ml:12.5g(总氨基酸)*1瓶/瓶','18.34','瓶','广东利泰制药股份有限公司','110','101','AJSZSY(LAM)','2019-03-01 00:00:00','10','','1'), ('2239','86979474000209','酒石酸布托啡诺注射液（诺扬）','1.000mg：1ml*1瓶/瓶','14.65','瓶','江苏恒瑞医药有限公司','110','101','JSSBTFNZSY（NY）','2019-03-01 00:00:00','10','','1'), ('2240','86979474000208','注射用盐酸丙帕他莫(锡妥)','2.000g*1瓶/瓶','23.04','瓶','瑞阳制药有限公司','161','101','ZSYYSBPTM(XT)','2019-03-01 00:00:00','10','','1'), ('2241','86979474000208','注射用醋酸亮丙瑞林微球（贝依）','3.750mg(附助悬剂2ml)*1支/支','7.81','支','','161','101','ZSYCSLBRLWQ（BY）','2019-03-01 00:00:00','10','','1'), ('2242','86979474000209','北沙参颗粒','2.0g/10g/袋','42.00','袋','','115','102','BSCKL','2019-03-01 00:00:00','10','','1'), ('2243','86979474000208','南沙参颗粒','2g/10g/袋','10.87','袋','','115','102','NSCKL','2019-03-01 00:00:00','10','','1'), ('2244','86979474000209','麦冬颗粒','3g/10g/袋','5.71','袋','','115','102','MDKL','2019-03-01 00:00:00','10','','1'), ('2245','86979474000208','浙贝母颗粒','1g/10g/袋','62.82','袋','','115','102','ZBMKL','2019-03-01 00:00:00','10','','1'), ('2246','86979474000208','连翘颗粒','0.5g/10g/袋','7.03','袋','','115','102','LQKL','2019-03-01 00:00:00','10','','1'), ('2247','86979474000209','金银花颗粒','2g/10g/袋','3.07','袋','','115','102','JYHKL','2019-03-01 00:00:00','10','','1'), ('2248','86979474000208','淡豆豉颗粒','0.5g/10g/袋','4.36','袋','','115','102','DDGKL','2019-03-01 00:00:00','10','','1'), ('2249','86979474000209','复方芦丁片','20/50mg*100片/瓶','20.97','瓶','江苏亚邦爱普森药业有限公司','111','101','FFLDP','2019-03-01 00:00:00','10','','1'), ('2250','86979474000208','盐酸哌甲酯缓释片(专注达)','18mg×15片/瓶','53.56','瓶','美国ALZA(西安杨森制药代理)S','152','101','YSZJHSP(ZZD)','2019-03-01 00:00:00','10','','1'), ('2251','86979474000208','溴酸鉀(AR)','500g×1瓶','76.76','瓶','','157','101','ZSZ(AR)','2019-03-01 00:00:00','10','','1'), ('2252','86979474000209','丹皮','1000mg/g','1.80','克','江苏','112','103','DP','2019-03-01 00:00:00','10','','1'), ('2253','86979474000208','当归','1000mg/g','3.20','克','甘肃','112','103','DG','2019-03-01 00:00:00','10','','1'), ('2254','86979474000209','盐酸曲美他嗪缓释片（万爽力）','35.000mg*30片/盒','43.68','盒','施维雅(天津)制药有限公司S','111','101','YSQMTZHSP（WSL）','2019-03-01 00:00:00','10','','1'), ('2255','86979474000208','尼麦角林片（乐喜林）','5.000mg*60片/盒','3.70','盒','昆山龙灯瑞迪制药有限公司','111','101','NMJLP（LXL）','2019-03-01 00:00:00','10','','1'), ('2256','86979474000208','单唾液酸四己糖神经节苷脂钠(赛典)注射液','5ml：100.000mg*1支/支','71.63','支','北京赛升药业股份有限公司','110','101','DTYSSJTSJJZZN(SD)ZSY','2019-03-01 00:00:00','10','','1'), ('2257','86979474000209','中/长链脂肪乳（力邦特）注射液（C8-24Ve）','250ml:25g:25g：3g：6.25g*1瓶/瓶','56.88','瓶','西安力邦','110','101','Z/CLZFR（LBT）ZSY（C8-24Ve）','2019-03-01 00:00:00','10','','1'), ('2258','86979474000208','盐酸帕洛诺司琼胶囊（若善）','0.500mg*3片/盒','31.85','盒','正大天晴药业集团股份有限公司','111','101','YSPLNSQJN（RS）','2019-03-01 00:00:00','10','','1'), ('2259','86979474000209','脂肪乳氨基酸(17)(卡全)葡萄糖(19%)注射液','1026.000ml*1袋/袋','65.64','袋','费森尤斯卡比','110','101','ZFRAJS(17)(KQ)PTT(19%)ZSY','2019-03-01 00:00:00','10','','1'), ('2260','86979474000208','多种微量元素注射液(Ⅰ)','10.000ml*1支/支','38.32','支','百正药业股份有限公司','110','101','DZWLYSZSY(Ⅰ)','2019-03-01 00:00:00','10','','1'), ('2261','86979474000208','曲克芦丁脑蛋白水解物注射液','10ml400mg曲克芦丁，5mg总氮*1支','47.00','支','吉林四环制药有限公司','110','101','QKLDNDBSJWZSY','2019-03-01 00:00:00','10','','1'), ('2262','86979474000209','蚓激酶肠溶胶囊（百奥）','30.000万单位*30粒/盒','64.35','盒','北京百奥药业有限责任公司','114','101','ZJMCRJN（BA）','2019-03-01 00:00:00','10','','1'), ('2263','86979474000208','甘草酸二铵肠溶胶囊（天晴甘平）','50.000mg*63粒/瓶','29.92','瓶','正大天晴药业集团股份有限公司','111','101','GCSEZCRJN（TQGP）','2019-03-01 00:00:00','10','','1'), ('2264','86979474000209','盐酸美金刚片（邦得清）','10.000mg*24片/盒','79.44','盒','珠海联邦制药有限公司','111','101','YSMJGP（BDQ）','2019-03-01 00:00:00','10','','1'), ('2265','86979474000208','尼卡地平(佩尔)注射液','10mg*10支/盒','57.55','盒','安斯泰来制药(中国)有限公司','110','101','NKDP(PE)ZSY','2019-03-01 00:00:00','10','','1'), ('2266','86979474000208','丹参颗粒 ',' 2g/10g*1袋','57.37','袋','江阴天江药业有限公司','115','102','DCKL ','2019-03-01 00:00:00','10','','1'), ('2267','86979474000209','胆南星颗粒 ','0.5g/6g*1袋','63.32','袋','江阴天江药业有限公司','115','102','DNXKL ','2019-03-01 00:00:00','10','','1'), ('2268','86979474000208','淡豆豉颗粒 ',' 0.5g/10g*1袋','68.40','袋','江阴天江药业有限公司','115','102','DDGKL ','2019-03-01 00:00:00','10','','1'), ('2269','86979474000209','淡竹叶颗粒 ',' 0.5g/10g*1袋','55.91','袋','江阴天江药业有限公司','115','102','DZYKL ','2019-03-01 00:00:00','10','','1'), ('2270','86979474000208','当归颗粒 ','4g/10g*1袋','45.51','袋','江阴天江药业有限公司','115','102','DGKL ','2019-03-01 00:00:00','10','','1'), ('2271','86979474000208','党参颗粒 ',' 3g/10g*1袋','16.23','袋','江阴天江药业有限公司','115','102','DCKL ','2019-03-01 00:00:00','10','','1'), ('2272','86979474000209','地肤子颗粒 ',' 0.5g/10g*1袋','19.68','袋','江阴天江药业有限公司','115','102','DFZKL ','2019-03-01 00:00:00','10','','1'), ('2273','86979474000208','地骨皮颗粒',' 1g/10g*1袋','56.05','袋','江阴天江药业有限公司','115','102','DGPKL','2019-03-01 00:00:00','10','','1'), ('2274','86979474000209','地榆颗粒',' 1g/10g*1袋','40.26','袋','江阴天江药业有限公司','115','102','DYKL','2019-03-01 00:00:00','10','','1'), ('2275','86979474000208','重组人粒细胞(里亚尔)巨噬细胞刺激因子','150ug*1支','17.94','支','哈药集团生物工程有限公司','110','101','ZZRLXB(LYE)JSXBCJYZ','2019-03-01 00:00:00','10','','1'), ('2276','86979474000208','蛇床子颗粒 ',' 1g/10g*1袋','3.63','袋','江阴天江药业有限公司','115','102','SCZKL ','2019-03-01 00:00:00','10','','1'), ('2277','86979474000209','檀香颗粒 ',' 0.5g/3g*1袋','49.00','袋','江阴天江药业有限公司','115','102','TXKL ','2019-03-01 00:00:00','10','','1'), ('2278','86979474000208','桃仁颗粒 ',' 1g/10g*1袋','27.31','袋','江阴天江药业有限公司','115','102','TRKL ','2019-03-01 00:00:00','10','','1'), ('2279','86979474000209','艾叶颗粒 ',' 1g/10g*1袋','46.21','袋','江阴天江药业有限公司','115','102','AYKL ','2019-03-01 00:00:00','10','','1'), ('2280','86979474000208','艾叶炭颗粒 ',' 1g/10g*1袋','73.49','袋','江阴天江药业有限公司','115','102','AYTKL ','2019-03-01 00:00:00','10','','1'), ('2281','86979474000208','白英颗粒 ',' 1g/15g*1袋','1.42','袋','江阴天江药业有限公司','115','102','BYKL ','2019-03-01 00:00:00','10','','1'), ('2282','86979474000209','萆薢颗粒 ',' 0.5g/10g*1袋','8.39','袋','江阴天江药业有限公司','115','102','ZSKL ','2019-03-01 00:00:00','10','','1'), ('2283','86979474000208','萹蓄颗粒',' 1g/15g*1袋','16.36','袋','江阴天江药业有限公司','115','102','QXKL','2019-03-01 00:00:00','10','','1'), ('2284','86979474000209','藏青果颗粒 ',' 2g/10g*1袋','59.90','袋','江阴天江药业有限公司','115','102','CQGKL ','2019-03-01 00:00:00','10','','1'), ('2285','86979474000208','侧柏叶炭颗粒 ',' 1g/10g*1袋','27.53','袋','江阴天江药业有限公司','115','102','CBYTKL ','2019-03-01 00:00:00','10','','1'), ('2286','86979474000208','L-谷氨酰胺呱仑酸钠颗颗粒(麦滋林)','0.67g×15袋/包','0.24','包','寿制药株式会社','115','102','L-GAXAZLSNKKL(MZL)','2019-03-01 00:00:00','10','','1'), ('2287','86979474000209','柯子','1000mg/g','13.67','克','贵州','112','103','KZ','2019-03-01 00:00:00','10','','1'), ('2288','86979474000208','扣仁','1000mg/g','4.09','克','进口','112','103','KR','2019-03-01 00:00:00','10','','1'), ('2289','86979474000209','苦参','1000mg/g','0.52','克','安徽','112','103','KC','2019-03-01 00:00:00','10','','1'), ('2290','86979474000208','硝酸甘油注射液','5mg×10支/盒','37.74','盒','广州白云山明兴制药有限公司','110','101','XSGYZSY','2019-03-01 00:00:00','10','','1'), ('2291','86979474000208','兰油烃油膏','25g×1瓶','0.33','瓶','上海嘉福香料厂','157','101','LYTYG','2019-03-01 00:00:00','10','','1'), ('2292','86979474000209','复方氨基酸(乐凡命）18AA-II注射液','8.5%250ml×1瓶','51.50','瓶','华瑞制药有限公司','110','101','FFAJS(LFM）18AA-IIZSY','2019-03-01 00:00:00','10','','1'), ('2293','86979474000208','注射用炎琥宁','80mg×1支','25.31','支','重庆药友制药有限公司','110','101','ZSYYZN','2019-03-01 00:00:00','10','','1'), ('2294','86979474000209','胶体果胶铋胶囊','50mg×30粒/盒','3.85','盒','山西振东安特生物制药有限公司','114','102','JTGJZJN','2019-03-01 00:00:00','10','','1'), ('2295','86979474000208','盐酸哌替啶注射液','0.05g×1支','30.61','支','青海制药厂有限公司','110','101','YSZTZZSY','2019-03-01 00:00:00','10','','1'), ('2296','86979474000208','党参','1000mg/g','13.89','克','山西普德药业股份有限公司','112','103','DC','2019-03-01 00:00:00','10','','1'), ('2297','86979474000209','地鳖虫','1000mg/g','17.01','克','江苏','112','103','DBC','2019-03-01 00:00:00','10','','1'), ('2298','86979474000208','地丁','1000mg/g','0.50','克',' 江苏','112','103','DD','2019-03-01 00:00:00','10','','1'), ('2299','86979474000209','地肤子','1000mg/g','0.30','克','','112','103','DFZ','2019-03-01 00:00:00','10','','1'), ('2300','86979474000208','羟苯乙酯','500g×1瓶','26.13','瓶','广东台山','157','101','QBYZ','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('2301','86979474000208','桑枝','1000mg/g','26.73','克',' 江苏','112','103','SZ','2019-03-01 00:00:00','10','','1'), ('2302','86979474000209','沙苑子','1000mg/g','12.42','克','陕西','112','103','SYZ','2019-03-01 00:00:00','10','','1'), ('2303','86979474000208','全虫','1000mg/g','49.71','克','山东','112','103','QC','2019-03-01 00:00:00','10','','1'), ('2304','86979474000209','盐酸乌拉地尔注射液(亚宁定)','25mg×1支','7.85','支','德国百克顿药厂','110','101','YSWLDEZSY(YND)','2019-03-01 00:00:00','10','','1'), ('2305','86979474000208','LB鸦胆子油乳注射液','10ml×1支','49.53','支','江苏九旭药业有限公司','110','101','LBYDZYRZSY','2019-03-01 00:00:00','10','','1'), ('2306','86979474000208','葛根素葡萄糖注射液(普润)','0.5g×250ml/瓶','87.41','瓶','南京正大天晴制药有限公司','110','101','GGSPTTZSY(PR)','2019-03-01 00:00:00','10','','1'), ('2307','86979474000209','七氟烷针(喜保福宁)','250ml×1瓶','44.32','瓶','日本丸石制药株式会社','110','101','QFWZ(XBFN)','2019-03-01 00:00:00','10','','1'), ('2308','86979474000208','九香虫','1000mg/g','56.89','克','','112','103','JXC','2019-03-01 00:00:00','10','','1'), ('2309','86979474000209','前列通胶囊','0.380g*36粒/盒','12.77','盒','陕西东泰制药有限公司','114','101','QLTJN','2019-03-01 00:00:00','10','','1'), ('2310','86979474000208','野马追','10g/袋','19.51','袋','','112','103','YMZ','2019-03-01 00:00:00','10','','1'), ('2311','86979474000208','米格列醇片','50mg*30片/盒','14.84','盒','浙江医药股份有限公司新昌制药厂','111','101','MGLCP','2019-03-01 00:00:00','10','','1'), ('2312','86979474000209','盐酸曲唑酮片','50mg*20片/盒','39.95','盒','沈阳福宁药业有限公司','111','101','YSQZTP','2019-03-01 00:00:00','10','','1'), ('2313','86979474000208','钆贝葡胺注射液(莫迪司)','15ml:7.935g*1瓶/盒','21.86','盒','上海博莱科信谊药业有限责任公司','110','101','ZBPAZSY(MDS)','2019-03-01 00:00:00','10','','1'), ('2314','86979474000209','枸橼酸氢钾钠颗粒（逍適柠）','2.5g*40袋/盒','6.86','盒','武汉维奥制药有限公司','115','101','ZZSQJNKL（ZZN）','2019-03-01 00:00:00','10','','1'), ('2315','86979474000208','奥美沙坦酯氢氯噻嗪片(复傲坦)','20mg/12.5mg*7片/盒','59.35','盒','第一三共制药（上海）有限公司','111','101','AMSTQLZZP(FAT)','2019-03-01 00:00:00','10','','1'), ('2316','86979474000208','匹伐他汀钙片(力清之)','2mg*7片/盒','17.17','盒','兴和株式会社','111','101','PFTTGP(LQZ)','2019-03-01 00:00:00','10','','1'), ('2317','86979474000209','匹伐他汀钙片（以清）','1mg*7片/盒','21.18','盒','山东齐都药业有限公司','111','101','PFTTGP（YQ）','2019-03-01 00:00:00','10','','1'), ('2318','86979474000208','盐酸伊伐布雷定片(可兰特)','5mg*14片/盒','50.29','盒','施维雅（法国）药厂  施维雅(天津)分装','111','101','YSYFBLDP(KLT)','2019-03-01 00:00:00','10','','1'), ('2319','86979474000209','复方曲肽注射液','2ml*1支/支','18.01','支','吉林步长制药有限公司','110','101','FFQZZSY','2019-03-01 00:00:00','10','','1'), ('2320','86979474000208','地衣芽孢杆菌活菌胶囊','0.25g*36粒/瓶','49.63','瓶','东北制药集团沈阳第一制药厂','114','102','DYYZGJHJJN','2019-03-01 00:00:00','10','','1'), ('2321','86979474000208','门冬氨酸钾(卫甲)注射液','20ml:3.424g*1支','42.43','支','辽宁药联制药有限公司','110','101','MDASJ(WJ)ZSY','2019-03-01 00:00:00','10','','1'), ('2322','86979474000209','益母草颗粒 ',' 1g/15g*1袋','10.81','袋','江阴天江药业有限公司','115','102','YMCKL ','2019-03-01 00:00:00','10','','1'), ('2323','86979474000208','大蓟颗粒 ',' 1.5g/15g*1袋','14.65','袋','江阴天江药业有限公司','115','102','DJKL ','2019-03-01 00:00:00','10','','1'), ('2324','86979474000209','大青叶颗粒 ',' 3g/15g*1袋','2.45','袋','江阴天江药业有限公司','115','102','DQYKL ','2019-03-01 00:00:00','10','','1'), ('2325','86979474000208','地榆炭颗粒 ',' 1g/10g*1袋','36.71','袋','江阴天江药业有限公司','115','102','DYTKL ','2019-03-01 00:00:00','10','','1'), ('2326','86979474000208','丁香颗粒 ',' 0.5g/3g*1袋','23.23','袋','江阴天江药业有限公司','115','102','DXKL ','2019-03-01 00:00:00','10','','1'), ('2327','86979474000209','番泻叶颗粒 ','1g/1g*1袋','6.07','袋','江阴天江药业有限公司','115','102','FXYKL ','2019-03-01 00:00:00','10','','1'), ('2328','86979474000208','蜂房颗粒 ',' 0.5g/10g*1袋','26.46','袋','江阴天江药业有限公司','115','102','FFKL ','2019-03-01 00:00:00','10','','1'), ('2329','86979474000209','骨碎补颗粒 ',' 0.5g/10g*1袋','2.45','袋','江阴天江药业有限公司','115','102','GSBKL ','2019-03-01 00:00:00','10','','1'), ('2330','86979474000208','海金沙颗粒',' 0.5g/15g*1袋','65.32','袋','江阴天江药业有限公司','115','102','HJSKL','2019-03-01 00:00:00','10','','1'), ('2331','86979474000208','海螵蛸颗粒',' 0.5g/10g*1袋','23.77','袋','江阴天江药业有限公司','115','102','HpZKL','2019-03-01 00:00:00','10','','1'), ('2332','86979474000209','诃子颗粒 ',' 1.5g/10g*1袋','13.58','袋','江阴天江药业有限公司','115','102','ZZKL ','2019-03-01 00:00:00','10','','1'), ('2333','86979474000208','冬瓜皮颗粒 ',' 0.5g/10g*1袋','5.26','袋','江阴天江药业有限公司','115','102','DGPKL ','2019-03-01 00:00:00','10','','1'), ('2334','86979474000209','独活颗粒 ',' 3g/10g*1袋','16.26','袋','江阴天江药业有限公司','115','102','DHKL ','2019-03-01 00:00:00','10','','1'), ('2335','86979474000208','杜仲颗粒 ',' 1g/10g*1袋','1.35','袋','江阴天江药业有限公司','115','102','DZKL ','2019-03-01 00:00:00','10','','1'), ('2336','86979474000208','煅磁石颗粒 ','0.5g/30g*1袋','13.99','袋','江阴天江药业有限公司','115','102','ZCSKL ','2019-03-01 00:00:00','10','','1'), ('2337','86979474000209','煅龙骨颗粒 ',' 0.5g/30g*1袋','4.74','袋','江阴天江药业有限公司','115','102','ZLGKL ','2019-03-01 00:00:00','10','','1'), ('2338','86979474000208','煅牡蛎颗粒 ','0.5g/30g*1袋','33.64','袋','江阴天江药业有限公司','115','102','ZMZKL ','2019-03-01 00:00:00','10','','1'), ('2339','86979474000209','煅赭石颗粒 ',' 0.5g/30g*1袋','15.24','袋','江阴天江药业有限公司','115','102','ZSKL ','2019-03-01 00:00:00','10','','1'), ('2340','86979474000208','醋莪术颗粒 ',' 0.5g/10g*1袋','2.38','袋','江阴天江药业有限公司','115','102','CZSKL ','2019-03-01 00:00:00','10','','1'), ('2341','86979474000208','法半夏颗粒 ','0.5g/6g*1袋','26.24','袋','江阴天江药业有限公司','115','102','FBXKL ','2019-03-01 00:00:00','10','','1'), ('2342','86979474000209','盐酸哌替啶注射液','0.1g×1支','54.92','支','青海制药厂有限公司','110','101','YSZTZZSY','2019-03-01 00:00:00','10','','1'), ('2343','86979474000208','对苯二酚','250g×1瓶','1.04','瓶','','157','101','DBEF','2019-03-01 00:00:00','10','','1'), ('2344','86979474000209','曲尼司特胶囊','0.1g×24片/盒','32.22','盒','中国药科大学制药有限公司','114','101','QNSTJN','2019-03-01 00:00:00','10','','1'), ('2345','86979474000208','碱性品红','25g×1瓶','36.35','瓶','','157','101','JXPH','2019-03-01 00:00:00','10','','1'), ('2346','86979474000208','金刚烷胺片','0.1g×100片/瓶','4.34','瓶','江苏鹏鹞药业有限公司','111','101','JGWAP','2019-03-01 00:00:00','10','','1'), ('2347','86979474000209','多维元素片(金施尔康)','30片/瓶','0.76','瓶','中美上海施贵宝制药有限公司','111','101','DWYSP(JSEK)','2019-03-01 00:00:00','10','','1'), ('2348','86979474000208','红花注射液','20ml×1支','4.37','支','雅安三九药业有限公司','110','101','HHZSY','2019-03-01 00:00:00','10','','1'), ('2349','86979474000209','苦参素葡萄糖注射液(天晴复欣)','0.6g×100ml/瓶','44.27','瓶','正大天晴药业集团股份有限公司','110','101','KCSPTTZSY(TQFX)','2019-03-01 00:00:00','10','','1'), ('2350','86979474000208','苦碟子注射液(碟脉灵)','10ml×1支','76.72','支','吉林省通化华夏药业','110','101','KDZZSY(DML)','2019-03-01 00:00:00','10','','1'), ('2351','86979474000208','乙睛','500ml×1瓶','2.30','瓶','','157','101','YJ','2019-03-01 00:00:00','10','','1'), ('2352','86979474000209','乙醚','500ml×1瓶','21.21','瓶','上海久亿','119','101','YM','2019-03-01 00:00:00','10','','1'), ('2353','86979474000208','乙醛','40%500ml×1瓶','53.59','瓶','','157','101','YQ','2019-03-01 00:00:00','10','','1'), ('2354','86979474000209','维生素 B2 片','5mg×100片/瓶','55.76','瓶','南京白敬宇制药有限责任公司','111','101','WSS B2 P','2019-03-01 00:00:00','10','','1'), ('2355','86979474000208','LB维生素 B6 片','10mg×100片/瓶','22.90','瓶','南京白敬宇制药','111','101','LBWSS B6 P','2019-03-01 00:00:00','10','','1'), ('2356','86979474000208','维生素 C 片','0.1g×100片/瓶','10.65','瓶','南京白敬宇制药有限责任公司','111','101','WSS C P','2019-03-01 00:00:00','10','','1'), ('2357','86979474000209','复方阿米洛利片(武都力)','2.5mg×24片/盒','7.67','盒','江苏迪赛诺制药有限公司','111','101','FFAMLLP(WDL)','2019-03-01 00:00:00','10','','1'), ('2358','86979474000208','盐酸氟桂利嗪胶囊(西比灵)','5mg×20片/盒','36.65','盒','西安杨森制药有限公司','114','101','YSFGLZJN(XBL)','2019-03-01 00:00:00','10','','1'), ('2359','86979474000209','LB苯扎氯铵贴(创可贴)','8张×20袋/盒','0.43','盒','上海强生有限公司','145','101','LBBZLZT(CKT)','2019-03-01 00:00:00','10','','1'), ('2360','86979474000208','益智仁颗粒','1g/10g*1袋','1.20','袋','江阴天江药业有限公司','115','102','YZRKL','2019-03-01 00:00:00','10','','1'), ('2361','86979474000208','茵陈颗粒 ','2g/15g*1袋','68.62','袋','江阴天江药业有限公司','115','102','YCKL ','2019-03-01 00:00:00','10','','1'), ('2362','86979474000209','银柴胡颗粒 ',' 1.5g/6g*1袋','31.68','袋','江阴天江药业有限公司','115','102','YCHKL ','2019-03-01 00:00:00','10','','1'), ('2363','86979474000208','鱼腥草颗粒 ',' 1g/15g*1袋','15.53','袋','江阴天江药业有限公司','115','102','YXCKL ','2019-03-01 00:00:00','10','','1'), ('2364','86979474000209','玉米须颗粒 ',' 0.5g/15g*1袋','29.50','袋','江阴天江药业有限公司','115','102','YMXKL ','2019-03-01 00:00:00','10','','1'), ('2365','86979474000208','玉竹颗粒 ',' 4g/10g*1袋','27.42','袋','江阴天江药业有限公司','115','102','YZKL ','2019-03-01 00:00:00','10','','1'), ('2366','86979474000208','郁金颗粒 ','1g/10g*1袋','73.75','袋','江阴天江药业有限公司','115','102','YJKL ','2019-03-01 00:00:00','10','','1'), ('2367','86979474000209','郁李仁颗粒',' 0.5g/10g*1袋','54.22','袋','江阴天江药业有限公司','115','102','YLRKL','2019-03-01 00:00:00','10','','1'), ('2368','86979474000208','皂角刺颗粒 ',' 0.5g/6g*1袋','80.67','袋','江阴天江药业有限公司','115','102','ZJCKL ','2019-03-01 00:00:00','10','','1'), ('2369','86979474000209','泽兰颗粒 ','1g/10g*1袋','9.71','袋','江阴天江药业有限公司','115','102','ZLKL ','2019-03-01 00:00:00','10','','1'), ('2370','86979474000208','泽泻颗粒 ','1g/10g*1袋','20.11','袋','江阴天江药业有限公司','115','102','ZXKL ','2019-03-01 00:00:00','10','','1'), ('2371','86979474000208','浙贝母颗粒 ','1g/10g*1袋','9.79','袋','江阴天江药业有限公司','115','102','ZBMKL ','2019-03-01 00:00:00','10','','1'), ('2372','86979474000209','注射用胸腺肽(赛威）','100mg×1支','30.05','支','北京赛升药业股份有限公司','161','101','ZSYXXZ(SW）','2019-03-01 00:00:00','10','','1'), ('2373','86979474000208','注射用艾司奥美拉唑钠(耐信)','40mg×1支','46.15','支','阿斯利康制药有限公司','110','101','ZSYASAMLZN(NX)','2019-03-01 00:00:00','10','','1'), ('2374','86979474000209','静注人免疫球蛋白（江西）','5% 2.5g/50.000ml*1瓶/盒','19.08','盒','江西博雅生物制药股份有限公司','110','101','JZRMYQDB（JX）','2019-03-01 00:00:00','10','','1'), ('2375','86979474000208','重酒石酸间羟胺注射液','10mg*1支','9.30','支','天津金耀氨基酸有限公司','110','101','ZJSSJQAZSY','2019-03-01 00:00:00','10','','1'), ('2376','86979474000208','仙灵骨葆胶囊','0.5g*50粒/盒','15.16','盒','国药集团同济堂(贵州)制药有限公司','114','101','XLGZJN','2019-03-01 00:00:00','10','','1'), ('2377','86979474000209','正柴胡饮颗粒','5g*10包/盒','10.99','盒','精华制药集团股份有限公司','115','102','ZCHYKL','2019-03-01 00:00:00','10','','1'), ('2378','86979474000208','玄参颗粒','3.0g/10g/袋','1.13','袋','','115','102','XCKL','2019-03-01 00:00:00','10','','1'), ('2379','86979474000209','防风颗粒 ',' 1g/6g*1袋','4.52','袋','江阴天江药业有限公司','115','102','FFKL ','2019-03-01 00:00:00','10','','1'), ('2380','86979474000208','防己颗粒',' 0.5g/10g*1袋','35.57','袋','江阴天江药业有限公司','115','102','FJKL','2019-03-01 00:00:00','10','','1'), ('2381','86979474000208','佛手颗粒','2g/6g*1袋','9.88','袋','江阴天江药业有限公司','115','102','FSKL','2019-03-01 00:00:00','10','','1'), ('2382','86979474000209','茯苓颗粒 ',' 1g/10g*1袋','14.39','袋','江阴天江药业有限公司','115','102','ZZKL ','2019-03-01 00:00:00','10','','1'), ('2383','86979474000208','茯苓皮颗粒 ',' 0.5g/10g*1袋','41.31','袋','江阴天江药业有限公司','115','102','ZZPKL ','2019-03-01 00:00:00','10','','1'), ('2384','86979474000209','茯神颗粒 ',' 0.5g/10g*1袋','0.55','袋','江阴天江药业有限公司','115','102','ZSKL ','2019-03-01 00:00:00','10','','1'), ('2385','86979474000208','浮萍颗粒','1g/10g*1袋','23.98','袋','江阴天江药业有限公司','115','102','FPKL','2019-03-01 00:00:00','10','','1'), ('2386','86979474000208','浮小麦颗粒 ',' 1g/15g*1袋','33.41','袋','江阴天江药业有限公司','115','102','FXMKL ','2019-03-01 00:00:00','10','','1'), ('2387','86979474000209','附片颗粒',' 0.5g/3g*1袋','1.03','袋','江阴天江药业有限公司','115','102','FPKL','2019-03-01 00:00:00','10','','1'), ('2388','86979474000208','覆盆子颗粒 ',' 1g/10g*1袋','22.19','袋','江阴天江药业有限公司','115','102','FPZKL ','2019-03-01 00:00:00','10','','1'), ('2389','86979474000209','甘松颗粒 ','1g/10g*1袋','16.71','袋','江阴天江药业有限公司','115','102','GSKL ','2019-03-01 00:00:00','10','','1'), ('2390','86979474000208','山慈菇颗粒 ',' 1.5g/10g*1袋','65.00','袋','江阴天江药业有限公司','115','102','SCGKL ','2019-03-01 00:00:00','10','','1'), ('2391','86979474000208','焦山楂颗粒 ',' 3g/10g*1袋','24.25','袋','江阴天江药业有限公司','115','102','JSZKL ','2019-03-01 00:00:00','10','','1'), ('2392','86979474000209','金樱子颗粒 ',' 3g/10g*1袋','32.11','袋','江阴天江药业有限公司','115','102','JYZKL ','2019-03-01 00:00:00','10','','1'), ('2393','86979474000208','酒乌梢蛇颗粒 ',' 1g/10g*1袋','82.08','袋','江阴天江药业有限公司','115','102','JWSSKL ','2019-03-01 00:00:00','10','','1'), ('2394','86979474000209','雷公藤颗粒 ',' 0.5g/10g*1袋','12.66','袋','江阴天江药业有限公司','115','102','LGTKL ','2019-03-01 00:00:00','10','','1'), ('2395','86979474000208','荔枝核颗粒 ','0.5g/10g*1袋','9.73','袋','江阴天江药业有限公司','115','102','LZHKL ','2019-03-01 00:00:00','10','','1'), ('2396','86979474000208','乌药颗粒','0.5g/10g*1袋','37.42','袋','江阴天江药业有限公司','115','102','WYKL','2019-03-01 00:00:00','10','','1'), ('2397','86979474000209','棕榈炭','1000mg/g','2.38','克','','112','103','ZZT','2019-03-01 00:00:00','10','','1'), ('2398','86979474000208','生首乌','1000mg/g','66.47','克','','112','103','SSW','2019-03-01 00:00:00','10','','1'), ('2399','86979474000209','注射用维库溴铵(唯诚)','4mg×1支','16.33','支','扬子江药业集团有限公司','110','101','ZSYWKZZ(WC)','2019-03-01 00:00:00','10','','1'), ('2400','86979474000208','菟丝子','1000mg/g','33.21','克','河北','112','103','ZSZ','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('2401','86979474000208','瓦楞子','1000mg/g','71.77','克','','112','103','WLZ','2019-03-01 00:00:00','10','','1'), ('2402','86979474000209','王不留行','1000mg/g','21.08','克','','112','103','WBLX','2019-03-01 00:00:00','10','','1'), ('2403','86979474000208','威灵仙','1000mg/g','10.03','克',' 江苏','112','103','WLX','2019-03-01 00:00:00','10','','1'), ('2404','86979474000209','乌梢蛇','1000mg/g','60.47','克','江苏','112','103','WSS','2019-03-01 00:00:00','10','','1'), ('2405','86979474000208','乌药','1000mg/g','25.09','克','江苏','112','103','WY','2019-03-01 00:00:00','10','','1'), ('2406','86979474000208','吴芋','1000mg/g','19.95','克','贵州','112','103','WY','2019-03-01 00:00:00','10','','1'), ('2407','86979474000209','梧桐叶','1000mg/g','18.90','克','','112','103','WTY','2019-03-01 00:00:00','10','','1'), ('2408','86979474000208','五加皮','1000mg/g','7.76','克','','112','103','WJP','2019-03-01 00:00:00','10','','1'), ('2409','86979474000209','五灵脂','1000mg/g','15.07','克','河北','112','103','WLZ','2019-03-01 00:00:00','10','','1'), ('2410','86979474000208','甲泼尼龙片(美卓乐)','4mg×30片/瓶','21.08','瓶','辉瑞制药有限公司','111','101','JPNLP(MZL)','2019-03-01 00:00:00','10','','1'), ('2411','86979474000208','甲氰咪胍注射液(西咪替丁)','2ml:200mg×10支/盒','3.22','盒','江苏鹏鹞药业有限公司','110','101','JQZZZSY(XZTD)','2019-03-01 00:00:00','10','','1'), ('2412','86979474000209','呋嘛滴鼻液','10ml×1支','49.14','支','无锡济民可信山禾药业股份有限公司','153','101','ZMDBY','2019-03-01 00:00:00','10','','1'), ('2413','86979474000208','LB哈西奈德溶液(乐肤溶液)','10ml:10mg×1支','22.46','支','安徽新和成皖南药业有限公司','119','101','LBHXNDRY(LFRY)','2019-03-01 00:00:00','10','','1'), ('2414','86979474000209','苦味酸','25克/瓶','53.96','瓶','','157','101','KWS','2019-03-01 00:00:00','10','','1'), ('2415','86979474000208','铁氰化钾','500g×1瓶','34.59','瓶','南京','157','101','TQHJ','2019-03-01 00:00:00','10','','1'), ('2416','86979474000208','卡马西平片(得理多)','200mg×30片/瓶','46.20','瓶','诺华制药（北京）有限公司','111','101','KMXPP(DLD)','2019-03-01 00:00:00','10','','1'), ('2417','86979474000209','痹褀胶囊','0.300g*48粒/盒','69.37','盒','天津达仁堂京万红药业','114','102','BXJN','2019-03-01 00:00:00','10','','1'), ('2418','86979474000208','振源胶囊','0.250g*32粒/盒','0.26','盒','吉林集安益盛药业股份有限公司','114','101','ZYJN','2019-03-01 00:00:00','10','','1'), ('2419','86979474000209','金振口服液','10.000ml*8支/盒','31.24','盒','江苏康缘药业股份有限公司','164','101','JZKFY','2019-03-01 00:00:00','10','','1'), ('2420','86979474000208','丹黄祛瘀胶囊','0.400g*48粒/盒','85.78','盒','吉林龙鑫药业有限公司','114','102','DHZZJN','2019-03-01 00:00:00','10','','1'), ('2421','86979474000208','正清风痛宁缓释片','60.000mg*18片/盒','46.18','盒','湖南正清制药集团股份有限公司','131','101','ZQFTNHSP','2019-03-01 00:00:00','10','','1'), ('2422','86979474000209','抗妇炎胶囊','0.350g*48粒/盒','1.01','盒','贵州远程制药有限责任公司','114','101','KFYJN','2019-03-01 00:00:00','10','','1'), ('2423','86979474000208','荷丹胶囊','0.330g*48粒/盒','11.92','盒','南昌济顺制药有限公司','114','102','HDJN','2019-03-01 00:00:00','10','','1'), ('2424','86979474000209','狗皮膏（改进型）','8cm*4.5cm*6贴/盒','19.23','盒','锦州紫金药业有限公司','145','101','GPG（GJX）','2019-03-01 00:00:00','10','','1'), ('2425','86979474000208','厄贝沙坦氢氯噻嗪片（依伦平）','150mg/12.5mg*14片/盒','26.74','盒','南京正大天晴制药有限公司S','111','101','EBSTQLZZP（YLP）','2019-03-01 00:00:00','10','','1'), ('2426','86979474000208','瑞舒伐他汀钙片（托妥）','10.000mg*14片/盒','11.95','盒','南京正大天晴制药有限公司S','111','101','RSFTTGP（TT）','2019-03-01 00:00:00','10','','1'), ('2427','86979474000209','醋酸阿比特龙片（泽珂）','250.000mg*120片/盒','35.50','盒','Patheon Inc','111','101','CSABTLP（ZZ）','2019-03-01 00:00:00','10','','1'), ('2428','86979474000208','肿痛安胶囊','0.280g*48粒/盒','12.48','盒','河北奥星集团药业有限公司','114','101','ZTAJN','2019-03-01 00:00:00','10','','1'), ('2429','86979474000209','复方玄驹胶囊','0.420g*45粒/盒','25.23','盒','施强药业有限公司','114','102','FFXJJN','2019-03-01 00:00:00','10','','1'), ('2430','86979474000208','蒲地蓝消炎口服液','10.000ml*12支/盒','8.05','盒','济川药业集团有限公司','164','102','PDLXYKFY','2019-03-01 00:00:00','10','','1'), ('2431','86979474000208','独一味胶囊','0.300g*60粒/盒','12.38','盒','康县独一味生物制药有限公司','114','102','DYWJN','2019-03-01 00:00:00','10','','1'), ('2432','86979474000209','盐酸甲氧氯普胺注射液','1ml：10mg*1支/支','4.71','支','河南润弘制药股份有限公司','110','101','YSJYLPAZSY','2019-03-01 00:00:00','10','','1'), ('2433','86979474000208','注射用甲磺酸酚妥拉明','10.000mg*1支/支','3.13','支','上海复旦复华药业有限公司0','161','101','ZSYJHSFTLM','2019-03-01 00:00:00','10','','1'), ('2434','86979474000209','热淋清颗粒','4.000g*12袋/盒','18.38','盒','贵州威门药业股份有限公司','115','102','RLQKL','2019-03-01 00:00:00','10','','1'), ('2435','86979474000208','枸橼酸西地那非片（万艾可）','0.100g*5片/盒','8.00','盒','辉瑞制药有限公司','111','102','ZZSXDNFP（WAK）','2019-03-01 00:00:00','10','','1'), ('2436','86979474000208','鸦胆子油注射液','20.000ml*1支/支','14.48','支','江苏九旭药业有限公司','110','101','YDZYZSY','2019-03-01 00:00:00','10','','1'), ('2437','86979474000209','新癀片','0.320g*48片/盒','0.30','盒','厦门中药厂有限公司','111','101','XZP','2019-03-01 00:00:00','10','','1'), ('2438','86979474000208','双氯芬酸钠利多卡因注射液（雅兵）','2ml（75mg+20mg）*1支/支','72.78','支','山东鲁抗辰欣药业有限公司','110','101','SLFSNLDKYZSY（YB）','2019-03-01 00:00:00','10','','1'), ('2439','86979474000209','注射用重组人尿激酶原（普佑克）','5mg(50万IU)*1支/支','48.41','支','天士力制药集团股份有限公司','161','101','ZSYZZRNJMY（PYK）','2019-03-01 00:00:00','10','','1'), ('2440','86979474000208','维生素K1注射液','10.000mg*10支/盒','36.03','盒','浙江诚意药业','110','101','WSSK1ZSY','2019-03-01 00:00:00','10','','1'), ('2441','86979474000208','丙泊酚中/长链脂肪乳注射液（迪施乐）','10ml：100.000mg*1支/支','73.54','支','广东嘉博制药有限公司','110','101','BBFZ/CLZFRZSY（DSL）','2019-03-01 00:00:00','10','','1'), ('2442','86979474000209','盐酸安罗替尼胶囊（福可维）','12.000mg*7粒/盒','2.20','盒','正大天晴药业集团股份有限公司','114','101','YSALTNJN（FKW）','2019-03-01 00:00:00','10','','1'), ('2443','86979474000208','复方氯化纳注射液','500.000ml*1袋/袋','36.82','袋','回音必集团(江西)东亚制药有限公司','150','101','FFLHNZSY','2019-03-01 00:00:00','10','','1'), ('2444','86979474000209','注射用头孢西酮钠','0.500g*1瓶/瓶','0.79','瓶','南京海辰药业有限公司','161','101','ZSYTZXTN','2019-03-01 00:00:00','10','','1'), ('2445','86979474000208','注射用亚叶酸钙','100.000mg*1支/支','6.37','支','江苏恒瑞医药股份有限公司S','161','101','ZSYYYSG','2019-03-01 00:00:00','10','','1'), ('2446','86979474000208','脑震宁颗粒','10.000g*18袋/盒','19.09','盒','山西振东安特生物制药有限公司','115','102','NZNKL','2019-03-01 00:00:00','10','','1'), ('2447','86979474000209','痛风定胶囊','0.400g*60粒/盒','12.66','盒','四川升和药业股份有限公司','114','101','TFDJN','2019-03-01 00:00:00','10','','1'), ('2448','86979474000208','痛血康胶囊','0.200g*24粒/盒','19.49','盒','福建汇天生物药业有限公司','114','101','TXKJN','2019-03-01 00:00:00','10','','1'), ('2449','86979474000209','西帕依麦孜彼子胶囊','0.250g*18粒/盒','24.38','盒','陕西东泰制药有限公司','114','101','XPYMZBZJN','2019-03-01 00:00:00','10','','1'), ('2450','86979474000208','玄麦甘桔颗粒','5.000g*20袋/包','6.48','包','重庆三峡云海药业','115','102','XMGJKL','2019-03-01 00:00:00','10','','1'), ('2451','86979474000208','回生口服液','10.000ml*10支/盒','11.65','盒','成都地奥集团天府药业股份有限公司','164','101','HSKFY','2019-03-01 00:00:00','10','','1'), ('2452','86979474000209','坤泰胶囊','0.500g*48粒/盒','42.98','盒','贵阳新天药业股份有限公司','114','101','KTJN','2019-03-01 00:00:00','10','','1'), ('2453','86979474000208','宁泌泰胶囊','0.380g*48粒/盒','37.33','盒','贵阳新天药业股份有限公司','114','101','NMTJN','2019-03-01 00:00:00','10','','1'), ('2454','86979474000209','通天口服液','10.000ml*18支/盒','90.02','盒','太极集团重庆涪陵制药厂','164','101','TTKFY','2019-03-01 00:00:00','10','','1'), ('2455','86979474000208','肺力咳合剂','150.000ml*1瓶/盒','52.33','盒','贵州健兴药业有限公司','147','101','FLKHJ','2019-03-01 00:00:00','10','','1'), ('2456','86979474000208','苁蓉通便口服液','100.000ml*1瓶/盒','14.01','盒','甘肃天水歧黄药业集团有限公司','164','102','ZRTBKFY','2019-03-01 00:00:00','10','','1'), ('2457','86979474000209','华蟾素胶囊','0.250g*22粒/盒','4.85','盒','陕西东泰制药有限公司','114','102','HCSJN','2019-03-01 00:00:00','10','','1'), ('2458','86979474000208','参芪十一味颗粒','2.000g*6袋/盒','63.28','盒','江西山高制药有限公司','115','102','CZSYWKL','2019-03-01 00:00:00','10','','1'), ('2459','86979474000209','百令胶囊','0.500g*42粒/盒','15.93','盒','杭州中美华东制药有限公司','114','102','BLJN','2019-03-01 00:00:00','10','','1'), ('2460','86979474000208','蟾酥粉','0.015g*1瓶/瓶','3.89','瓶','四川仟源中药饮片有限公司','116','101','CSF','2019-03-01 00:00:00','10','','1'), ('2461','86979474000208','苯巴比妥片','30.000mg*100片/瓶','22.30','瓶','精华制药集团股份有限公司','111','101','BBBTP','2019-03-01 00:00:00','10','','1'), ('2462','86979474000209','养心氏片','0.6g×36片/盒','75.41','盒','上海医药集团青岛国风药业股份有限公司','111','102','YXSP','2019-03-01 00:00:00','10','','1'), ('2463','86979474000208','丙泊酚中／长链脂肪乳注射液(竟安)','200mg×1支','14.01','支','北京费森尤斯医药','110','101','BBFZ／CLZFRZSY(JA)','2019-03-01 00:00:00','10','','1'), ('2464','86979474000209','布美他尼注射液','2ml:1mg*1支','29.07','支','辽宁玉皇药业有限公司','110','101','BMTNZSY','2019-03-01 00:00:00','10','','1'), ('2465','86979474000208','替吉奥胶囊(爱斯万)','20.000mg*28粒/盒','64.49','盒','大鹏药品工业株式会社','114','101','TJAJN(ASW)','2019-03-01 00:00:00','10','','1'), ('2466','86979474000208','阿德福韦酯胶囊(名正)','10mg*30粒/盒','11.56','盒','正大天晴药业集团股份有限公司','114','101','ADFWJN(MZ)','2019-03-01 00:00:00','10','','1'), ('2467','86979474000209','熊去氧胆酸片(万健）','0.25g*24片/盒','11.83','盒','武汉人福药业有限责任公司','111','101','XQYDSP(WJ）','2019-03-01 00:00:00','10','','1'), ('2468','86979474000208','注射用表柔比星(艾达生）','10mg×1瓶','2.39','瓶','海正辉瑞制药有限公司','110','101','ZSYBRBX(ADS）','2019-03-01 00:00:00','10','','1'), ('2469','86979474000209','贝伐珠单抗注射液(安维汀)','4ml:100mg*1支/瓶','2.44','瓶','瑞士罗氏','110','101','BFZDKZSY(AWT)','2019-03-01 00:00:00','10','','1'), ('2470','86979474000208','天冬颗粒 ',' 4g/10g*1袋','37.51','袋','江阴天江药业有限公司','115','102','TDKL ','2019-03-01 00:00:00','10','','1'), ('2471','86979474000208','盐酸左西替利嗪分散片(诺思达)','5mg*12片/盒','27.97','盒','鲁南贝特制药有限公司','123','101','YSZXTLZFSP(NSD)','2019-03-01 00:00:00','10','','1'), ('2472','86979474000209','富马酸比索洛尔片(博苏)','5mg*18片/袋','16.12','袋','北京华素制药股份有限公司','111','101','FMSBSLEP(BS)','2019-03-01 00:00:00','10','','1'), ('2473','86979474000208','盐酸帕罗西汀肠溶缓释片(赛乐特)','25mg*10片/盒','1.99','盒','GLAXOSMITHKLINE INC.','131','101','YSPLXTCRHSP(SLT)','2019-03-01 00:00:00','10','','1'), ('2474','86979474000209','阿托品注射液','0.5mg*10支/盒','0.17','盒','天津金耀有限公司','110','101','ATPZSY','2019-03-01 00:00:00','10','','1'), ('2475','86979474000208','丁苯酞氯化钠注射液','25mg：0.9g/瓶','6.78','瓶','石药集团恩必普药业有限公司','110','101','DBTLHNZSY','2019-03-01 00:00:00','10','','1'), ('2476','86979474000208','利巴韦林注射液','2ml：0.100g*10支/盒','0.65','盒','山东鲁抗辰欣药业股份有限公司','110','101','LBWLZSY','2019-03-01 00:00:00','10','','1'), ('2477','86979474000209','泊沙康唑口服混悬液','40mg*105ml/瓶','3.71','瓶','patheon Inc,Whitby Operations(Canada)','136','101','BSKZKFHXY','2019-03-01 00:00:00','10','','1'), ('2478','86979474000208','注射用达托霉素(达托美)','0.500g*1瓶/盒','49.21','盒','江苏恒瑞医药有限公司','161','101','ZSYDTMS(DTM)','2019-03-01 00:00:00','10','','1'), ('2479','86979474000209','维生素AD(伊可新1-10)滴剂胶囊','2000.000:700iu*40粒/盒','14.81','盒','山东达因海洋生物制药股份有限公司','114','101','WSSAD(YKX1-10)DJJN','2019-03-01 00:00:00','10','','1'), ('2480','86979474000208','磷霉素氨丁三醇颗粒（美乐力）','5.631g*1包/盒','60.23','盒','Zambon S.P.A','115','102','LMSADSCKL（MLL）','2019-03-01 00:00:00','10','','1'), ('2481','86979474000208','尼妥珠单抗注射液(泰欣生)','50mg*1支','2.03','支','百泰生物药业有限公司','110','101','NTZDKZSY(TXS)','2019-03-01 00:00:00','10','','1'), ('2482','86979474000209','格列齐特缓释片(达美康)','60.000mg*15片/盒','39.31','盒','施维雅（法国）药厂  施维雅(天津)分装','111','101','GLQTHSP(DMK)','2019-03-01 00:00:00','10','','1'), ('2483','86979474000208','野菊花','1000mg/g','45.41','克','江苏','112','103','YJH','2019-03-01 00:00:00','10','','1'), ('2484','86979474000209','六味地黄丸','0.375g*240粒/瓶','26.70','瓶','仲景宛西制药股份有限公司','163','102','LWDHW','2019-03-01 00:00:00','10','','1'), ('2485','86979474000208','牛黄解毒片','1片*12片/盒','42.00','盒','湖南德康制药股份有限公司','111','101','NHJDP','2019-03-01 00:00:00','10','','1'), ('2486','86979474000208','曲安奈德注射液(同息通)','40mg：1ml*1支','40.01','支','昆明积大制药股份有限公司','110','101','QANDZSY(TXT)','2019-03-01 00:00:00','10','','1'), ('2487','86979474000209','氨甲苯酸注射液(止血芳酸）','10ml:100mg×5支/盒','0.35','盒','上海信谊金朱药业有限公司','110','101','AJBSZSY(ZXFS）','2019-03-01 00:00:00','10','','1'), ('2488','86979474000208','冠心丹参滴丸','0.040g*180粒/盒','12.92','盒','中发实业集团业锐药业有限公司','154','101','GXDCDW','2019-03-01 00:00:00','10','','1'), ('2489','86979474000209','伤科灵喷雾剂','60.000ml*1瓶/盒','3.98','盒','贵州横霸药业','127','101','SKLPWJ','2019-03-01 00:00:00','10','','1'), ('2490','86979474000208','醋酸戈舍瑞林缓释植入剂(诺雷得)','10.8mg*1支/盒','27.70','盒','阿斯利康制药有限公司S','110','101','CSGSRLHSZRJ(NLD)','2019-03-01 00:00:00','10','','1'), ('2491','86979474000208','LB克林霉素磷酸酯注射液(先清)','600mg:4ml*1支','1.77','支','山东鲁抗辰欣药业股份有限公司','110','101','LBKLMSLSZZSY(XQ)','2019-03-01 00:00:00','10','','1'), ('2492','86979474000209','二甲硅油散（健亨）','5.000g*1瓶/瓶','9.80','瓶','自贡鸿鹤','113','101','EJGYS（JH）','2019-03-01 00:00:00','10','','1'), ('2493','86979474000208','氟马西尼注射液(赖意)','0.5mg:5ml*1支','39.33','支','浙江奥托康药业集团有限公司','110','101','FMXNZSY(LY)','2019-03-01 00:00:00','10','','1'), ('2494','86979474000209','注射用替加环素(海正力星)','50mg*1瓶/盒','2.31','盒','浙江海正药业股份有限公司','110','101','ZSYTJHS(HZLX)','2019-03-01 00:00:00','10','','1'), ('2495','86979474000208','富马酸卢帕他定（卢苏）','10.000mg*5片/盒','10.09','盒','扬子江药业集团有限公司','111','101','FMSLPTD（LS）','2019-03-01 00:00:00','10','','1'), ('2496','86979474000208','制草乌颗粒 ','0.500g*1袋/袋','24.44','袋','江阴天江药业有限公司','115','102','ZCWKL ','2019-03-01 00:00:00','10','','1'), ('2497','86979474000209','甲氨喋呤片','2.5mg*16片/瓶','6.26','瓶','上海信谊药厂有限公司','111','101','JAZZP','2019-03-01 00:00:00','10','','1'), ('2498','86979474000208','锯叶棕果实提取物软胶囊（沙巴特）','160mg*12粒/盒','2.62','盒','德国泰德制药','159','101','JYZGSTQWRJN（SBT）','2019-03-01 00:00:00','10','','1'), ('2499','86979474000209','注射用醋酸奥曲肽微球(善龙)','20mg*1支','17.27','支','诺华制药（瑞士）有限公司S','110','101','ZSYCSAQZWQ(SL)','2019-03-01 00:00:00','10','','1'), ('2500','86979474000208','二十五味珊瑚胶囊','6.000粒*3板/盒','22.53','盒','西藏金珠雅砻藏药公司','114','102','ESWWSHJN','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('2501','86979474000208','碘佛醇注射液','100ml:74.1g*1瓶/瓶','9.74','瓶','江苏恒瑞医药股份有限公司','110','101','DFCZSY','2019-03-01 00:00:00','10','','1'), ('2502','86979474000209','达比加群酯胶囊（泰毕全）','110.000mg*10粒/盒','2.15','盒','勃林格殷格翰（德国）国际公司','114','101','DBJQZJN（TBQ）','2019-03-01 00:00:00','10','','1'), ('2503','86979474000208','注射用硼替佐米（昕泰）','3.500mg*1支/支','6.72','支','江苏豪森药业股份有限公司S','161','101','ZSYPTZM（ZT）','2019-03-01 00:00:00','10','','1'), ('2504','86979474000209','红芪','10.000g*1袋/袋','95.71','袋','苏州市春晖堂药业有限公司','112','103','HZ','2019-03-01 00:00:00','10','','1'), ('2505','86979474000208','复方骨肽注射液','2ml:30mg×1支','9.60','支','南京新百药业有限公司','110','101','FFGZZSY','2019-03-01 00:00:00','10','','1'), ('2506','86979474000208','骨化三醇胶丸(罗盖全）','0.25ug×10片/瓶','33.99','瓶','上海罗氏制药有限公司','111','101','GHSCJW(LGQ）','2019-03-01 00:00:00','10','','1'), ('2507','86979474000209','醋酸去氨加压素(弥凝片)','100ug×30片/盒','26.37','盒','','111','101','CSQAJYS(MNP)','2019-03-01 00:00:00','10','','1'), ('2508','86979474000208','重组人干扰素α-2a(因特芬)','300万单位*1支','13.49','支','沈阳三生制药股份有限公司','110','101','ZZRGRSα-2a(YTF)','2019-03-01 00:00:00','10','','1'), ('2509','86979474000209','通塞脉片','0.35g*75片/盒','36.02','盒','江苏康缘阳光药业有限公司','111','101','TSMP','2019-03-01 00:00:00','10','','1'), ('2510','86979474000208','苯扎氯铵溶液(优可适)','0.15g:150ml*1瓶','16.39','瓶','汕头保税区洛斯特制药有限公司','119','101','BZLZRY(YKS)','2019-03-01 00:00:00','10','','1'), ('2511','86979474000208','0.9%氯化钠注射液','500ml/瓶','12.87','瓶','石家庄四药有限公司','110','101','0.9%LHNZSY','2019-03-01 00:00:00','10','','1'), ('2512','86979474000209','苯妥英钠片','0.1g×100片/瓶','47.75','瓶','西南药业股份有限公司','111','101','BTYNP','2019-03-01 00:00:00','10','','1'), ('2513','86979474000208','醋酸氢化可的松片','20mg×100片/瓶','16.46','瓶','上海上药信谊药厂有限公司','111','101','CSQHKDSP','2019-03-01 00:00:00','10','','1'), ('2514','86979474000209','氟康唑(大扶康)胶囊','50mg×7片/盒','0.46','盒','辉瑞制药有限公司','114','101','FKZ(DFK)JN','2019-03-01 00:00:00','10','','1'), ('2515','86979474000208','重组人凝血因子Ⅷ(拜科奇)注射液','250iu:2.5ml*1瓶','25.43','瓶','拜耳医药保健有限公司','161','101','ZZRNXYZⅧ(BKQ)ZSY','2019-03-01 00:00:00','10','','1'), ('2516','86979474000208','重酒石酸间羟胺注射液','10mg/1ml*2支/盒','27.86','盒','上海禾丰制药有限公司','110','101','ZJSSJQAZSY','2019-03-01 00:00:00','10','','1'), ('2517','86979474000209','半边连','1000mg/g','5.37','克','江苏','112','103','BBL','2019-03-01 00:00:00','10','','1'), ('2518','86979474000208','盐酸利多卡因注射液','5ml：0.100g*1支/支','17.57','支','山东华鲁制药','110','101','YSLDKYZSY','2019-03-01 00:00:00','10','','1'), ('2519','86979474000209','乳酸钠林格注射液（百特）','500.000ml*1袋/袋','10.23','袋','上海百特医疗用品有限公司','150','101','RSNLGZSY（BT）','2019-03-01 00:00:00','10','','1'), ('2520','86979474000208','谷氨酰胺颗粒（新麦林）','1.000g*10包/盒','48.77','盒','成都力思特制药','115','102','GAXAKL（XML）','2019-03-01 00:00:00','10','','1'), ('2521','86979474000208','吡嗪酰胺片','0.250g*100片/瓶','1.68','瓶','上海上药信谊药厂有限公司','111','102','ZZXAP','2019-03-01 00:00:00','10','','1'), ('2522','86979474000209','延胡索颗粒 ',' 1g/10g*1袋','27.47','袋','江阴天江药业有限公司','115','102','YHSKL ','2019-03-01 00:00:00','10','','1'), ('2523','86979474000208','野菊花颗粒 ',' 2g/10g*1袋','4.77','袋','江阴天江药业有限公司','115','102','YJHKL ','2019-03-01 00:00:00','10','','1'), ('2524','86979474000209','叶下珠颗粒 ',' 1.5g/10g*1袋','48.01','袋','江阴天江药业有限公司','115','102','YXZKL ','2019-03-01 00:00:00','10','','1'), ('2525','86979474000208','夜交藤颗粒 ',' 0.5g/15g*1袋','12.66','袋','江阴天江药业有限公司','115','102','YJTKL ','2019-03-01 00:00:00','10','','1'), ('2526','86979474000208','珍珠母颗粒 ','0.5g/30g*1袋','37.92','袋','江阴天江药业有限公司','115','102','ZZMKL ','2019-03-01 00:00:00','10','','1'), ('2527','86979474000209','知母颗粒 ',' 2.5g/10g*1袋','0.40','袋','江阴天江药业有限公司','115','102','ZMKL ','2019-03-01 00:00:00','10','','1'), ('2528','86979474000208','枳壳颗粒 ',' 1g/6g*1袋','4.00','袋','江阴天江药业有限公司','115','102','ZKKL ','2019-03-01 00:00:00','10','','1'), ('2529','86979474000209','枳实颗粒','0.500g*1袋/袋','47.78','袋','江阴天江药业有限公司','115','102','ZSKL','2019-03-01 00:00:00','10','','1'), ('2530','86979474000208','制大黄颗粒 ',' 1g/6g*1袋','71.34','袋','江阴天江药业有限公司','115','102','ZDHKL ','2019-03-01 00:00:00','10','','1'), ('2531','86979474000208','制乳香颗粒 ','2g/6g*1袋','33.32','袋','江阴天江药业有限公司','115','102','ZRXKL ','2019-03-01 00:00:00','10','','1'), ('2532','86979474000209','制首乌颗粒 ',' 1g/10g*1袋','10.11','袋','江阴天江药业有限公司','115','102','ZSWKL ','2019-03-01 00:00:00','10','','1'), ('2533','86979474000208','制远志颗粒',' 0.5g/6g*1袋','1.08','袋','江阴天江药业有限公司','115','102','ZYZKL','2019-03-01 00:00:00','10','','1'), ('2534','86979474000209','炙甘草颗粒 ',' 1g/3g*1袋','6.67','袋','江阴天江药业有限公司','115','102','ZGCKL ','2019-03-01 00:00:00','10','','1'), ('2535','86979474000208','炙黄芪颗粒 ',' 3g/10g*1袋','1.04','袋','江阴天江药业有限公司','115','102','ZHZKL ','2019-03-01 00:00:00','10','','1'), ('2536','86979474000208','炙内金颗粒',' 0.5g/3g*1袋','26.08','袋','江阴天江药业有限公司','115','102','ZNJKL','2019-03-01 00:00:00','10','','1'), ('2537','86979474000209','注射用洛铂','10.000mg*1支/支','33.00','支','海南长安国际制药有限公司','110','101','ZSYLB','2019-03-01 00:00:00','10','','1'), ('2538','86979474000208','邻苯二甲醛消毒液','50g*1瓶/瓶','26.41','瓶','杭州朗索医用消毒剂有限公司','157','101','LBEJQXDY','2019-03-01 00:00:00','10','','1'), ('2539','86979474000209','鬼蜡烛','1000mg/g','18.42','克','','112','103','GLZ','2019-03-01 00:00:00','10','','1'), ('2540','86979474000208','注射用盐酸拉贝洛尔（欣宇森）','50.000mg*1支/支','9.16','支','海南灵康','161','101','ZSYYSLBLE（XYS）','2019-03-01 00:00:00','10','','1'), ('2541','86979474000208','LB注射用头孢呋辛钠(立健)','1.5g*1瓶','38.11','瓶','深圳立健药业有限公司','110','101','LBZSYTZZXN(LJ)','2019-03-01 00:00:00','10','','1'), ('2542','86979474000209','阿立哌唑口腔崩解(博思清)片','5mg*20片/盒','8.21','盒','成都康弘药业集团股份有限公司S','111','101','ALZZKQBJ(BSQ)P','2019-03-01 00:00:00','10','','1'), ('2543','86979474000208','艾拉莫德（艾得辛）','25.000mg*14片/盒','0.56','盒','先声药业','111','101','ALMD（ADX）','2019-03-01 00:00:00','10','','1'), ('2544','86979474000209','聚普瑞锌颗粒(瑞莱生)','75mg*4袋/盒','7.55','盒','吉林省博大伟业制药有限公司','115','102','JPRXKL(RLS)','2019-03-01 00:00:00','10','','1'), ('2545','86979474000208','盐酸氨溴索氯化钠注射液(维可莱)','100ml:30mg×1瓶','47.90','瓶','江苏豪森药业股份有限公司','110','101','YSAZSLHNZSY(WKL)','2019-03-01 00:00:00','10','','1'), ('2546','86979474000208','沙美特罗替卡松粉吸入剂(舒利迭)','50ug:500ug×1瓶','30.99','瓶','葛兰素史克（中国）投资有限公司','122','101','SMTLTKSFXRJ(SLD)','2019-03-01 00:00:00','10','','1'), ('2547','86979474000209','注射用门冬氨酸鸟氨酸','2.5g×1支','18.56','支','武汉启瑞药业有限公司','110','101','ZSYMDASNAS','2019-03-01 00:00:00','10','','1'), ('2548','86979474000208','中长链脂肪乳(力保肪宁)注射液','20% 250ml×1瓶','65.20','瓶','贝朗医疗苏州有限公司','110','101','ZCLZFR(LBFN)ZSY','2019-03-01 00:00:00','10','','1'), ('2549','86979474000209','注射用硫酸头孢噻利(丰迪)','0.5g×1瓶','22.26','瓶','江苏恒瑞医药股份有限公司','110','101','ZSYLSTZZL(FD)','2019-03-01 00:00:00','10','','1'), ('2550','86979474000208','盐酸托烷司琼葡萄糖注射液(和太)','5mg:100ml×1瓶','68.15','瓶','哈尔滨三联药业股份有限公司','110','101','YSTWSQPTTZSY(HT)','2019-03-01 00:00:00','10','','1'), ('2551','86979474000208','双环醇(百赛诺)片','25mg×9片/盒','8.80','盒','北京协和药厂S','111','101','SHC(BSN)P','2019-03-01 00:00:00','10','','1'), ('2552','86979474000209','清开灵颗粒','3.000g*26袋/盒','51.19','盒','远达药业集团哈尔滨一洲制药','115','102','QKLKL','2019-03-01 00:00:00','10','','1'), ('2553','86979474000208','头孢丙烯干混悬剂','125mg*12包/盒','83.85','盒','南京亿华药业有限公司','141','101','TZBXGHXJ','2019-03-01 00:00:00','10','','1'), ('2554','86979474000209','鞣酸软膏','20.000g*1盒/盒','35.52','盒','','121','101','RSRG','2019-03-01 00:00:00','10','','1'), ('2555','86979474000208','碘解磷定注射液','0.500g*5支/盒','14.09','盒','信合援生制药股份有限公司','110','101','DJLDZSY','2019-03-01 00:00:00','10','','1'), ('2556','86979474000208','重组人粒细胞(吉粒芬)刺激因子注射液','0.150mg:0.6ml*1支/支','4.45','支','杭州九源基因工程有限公司','110','101','ZZRLXB(JLF)CJYZZSY','2019-03-01 00:00:00','10','','1'), ('2557','86979474000209','丁丙诺非透皮贴剂(若思本)','5mg*2贴/盒','43.00','盒','德国','146','101','DBNFTPTJ(RSB)','2019-03-01 00:00:00','10','','1'), ('2558','86979474000208','重组人干扰素α-2a(因特芬)','500万单位*1支/支','14.79','支','沈阳三生制药股份有限公司','110','101','ZZRGRSα-2a(YTF)','2019-03-01 00:00:00','10','','1'), ('2559','86979474000209','高渗枸橼酸盐嘌呤溶液','500ml*1袋/袋','0.69','袋','上海输血技术有限公司','124','101','GSZZSYZZRY','2019-03-01 00:00:00','10','','1'), ('2560','86979474000208','炮姜','1000mg/g','24.36','克','','112','103','PJ','2019-03-01 00:00:00','10','','1'), ('2561','86979474000208','碳酸司维拉姆片（诺维乐）','0.8g*30片/盒','53.86','盒','赛诺菲（杭州）制药有限公司','111','101','TSSWLMP（NWL）','2019-03-01 00:00:00','10','','1'), ('2562','86979474000209','阿莫西林颗粒(阿莫仙)','125mg×12包/盒','11.85','盒','香港联邦制药厂有限公司','155','101','AMXLKL(AMX)','2019-03-01 00:00:00','10','','1'), ('2563','86979474000208','氯米芬片(法地兰）','50mg*10片/盒','3.63','盒','高特制药有限公司。塞浦路斯','111','101','LMFP(FDL）','2019-03-01 00:00:00','10','','1'), ('2564','86979474000209','氟脲嘧啶注射液','0.25g×5支/盒','13.03','盒','天津金耀氨基酸公司','110','101','FZZZZSY','2019-03-01 00:00:00','10','','1'), ('2565','86979474000208','碳酸氢钠片','0.500g*100片/盒','20.24','盒','天津力生制药股份有限公司','111','101','TSQNP','2019-03-01 00:00:00','10','','1'), ('2566','86979474000208','雷珠单抗注射液（诺适得）','0.200ml*1瓶/盒','18.88','盒','Novartis Pharma Stein Switzerland','110','101','LZDKZSY（NSD）','2019-03-01 00:00:00','10','','1'), ('2567','86979474000209','氯化钙注射液','0.5g：10.000ml*5支/盒','63.82','盒','上海信谊金朱药业有限公司','110','101','LHGZSY','2019-03-01 00:00:00','10','','1'), ('2568','86979474000208','氟哌啶醇注射液','1ml：5.000mg*1支/支','10.83','支','山东鲁抗制药有限公司','110','101','FZZCZSY','2019-03-01 00:00:00','10','','1'), ('2569','86979474000209','活血止痛胶囊','0.500g*48粒/盒','3.26','盒','南京中山制药有限公司','114','102','HXZTJN','2019-03-01 00:00:00','10','','1'), ('2570','86979474000208','猪苓颗粒 ',' 0.5g/10g*1袋','16.54','袋','江阴天江药业有限公司','115','102','ZZKL ','2019-03-01 00:00:00','10','','1'), ('2571','86979474000208','竹茹颗粒',' 0.5g/6g*1袋','27.29','袋','江阴天江药业有限公司','115','102','ZRKL','2019-03-01 00:00:00','10','','1'), ('2572','86979474000209','苎麻根颗粒 ',' 0.5g/10g*1袋','27.00','袋','江阴天江药业有限公司','115','102','ZMGKL ','2019-03-01 00:00:00','10','','1'), ('2573','86979474000208','紫草颗粒 ','0.5g/10g*1袋','33.05','袋','江阴天江药业有限公司','115','102','ZCKL ','2019-03-01 00:00:00','10','','1'), ('2574','86979474000209','紫河车颗粒','3g/3g*1袋','5.22','袋','江阴天江药业有限公司','115','102','ZHCKL','2019-03-01 00:00:00','10','','1'), ('2575','86979474000208','紫花地丁颗粒 ','1.5g/15g*1袋','80.22','袋','江阴天江药业有限公司','115','102','ZHDDKL ','2019-03-01 00:00:00','10','','1'), ('2576','86979474000208','紫苏梗颗粒 ',' 0.5g/10g*1袋','1.70','袋','江阴天江药业有限公司','115','102','ZSGKL ','2019-03-01 00:00:00','10','','1'), ('2577','86979474000209','紫苏叶颗粒','0.5g/10g*1袋','78.20','袋','江阴天江药业有限公司','115','102','ZSYKL','2019-03-01 00:00:00','10','','1'), ('2578','86979474000208','别嘌醇片','0.1g*100片/瓶','27.76','瓶','世贸天阶制药(江苏)有限责任公司','111','101','BZCP','2019-03-01 00:00:00','10','','1'), ('2579','86979474000209','七氟烷','120ml*1瓶/瓶','26.87','瓶','上海恒瑞医药股份有限公司','156','101','QFW','2019-03-01 00:00:00','10','','1'), ('2580','86979474000208','盐酸多柔比星脂质体（多美素）注射液','10ml：20.000mg*1支/支','22.38','支','石药集团欧意药业有限公司','110','101','YSDRBXZZT（DMS）ZSY','2019-03-01 00:00:00','10','','1'), ('2581','86979474000208','碘解磷定注射液','0.500g*5支/盒','32.55','盒','隧成药业股份有限公司','110','101','DJLDZSY','2019-03-01 00:00:00','10','','1'), ('2582','86979474000209','维生素 B1 片','10mg*100片/瓶','82.40','瓶','辅仁药业集团有限公司','111','101','WSS B1 P','2019-03-01 00:00:00','10','','1'), ('2583','86979474000208','LB注射用维生素B6','0.200g*1瓶/瓶','12.39','瓶','海南通用制药有限公司','161','101','LBZSYWSSB6','2019-03-01 00:00:00','10','','1'), ('2584','86979474000209','盐酸利多卡因注射液','5ml：0.100g*5支/盒','20.69','盒','国药集团容生制药有限公司','110','101','YSLDKYZSY','2019-03-01 00:00:00','10','','1'), ('2585','86979474000208','柴胡（根）','1000mg/g','27.84','克','','112','103','CH（G）','2019-03-01 00:00:00','10','','1'), ('2586','86979474000208','猪源纤维蛋白粘合剂（倍绣胶）','5.000ml*1套/盒','4.13','盒','广州倍绣生物技术有限公司','161','101','ZYXWDBZHJ（BXJ）','2019-03-01 00:00:00','10','','1'), ('2587','86979474000209','兔抗人胸腺细胞免疫球蛋白(即复宁)','25mg*1瓶/瓶','1.20','瓶','赛诺菲(北京)制药有限公司','161','101','TKRXXXBMYQDB(JFN)','2019-03-01 00:00:00','10','','1'), ('2588','86979474000208','盐酸纳布啡注射液','2ml:20mg*1支','67.25','支','宜昌人福药业有限责任公司','110','101','YSNBFZSY','2019-03-01 00:00:00','10','','1'), ('2589','86979474000209','依折麦布片(益适纯)','10mg*10片/盒','42.31','盒','默沙东制药（杭州）有限公司','111','101','YZMBP(YSC)','2019-03-01 00:00:00','10','','1'), ('2590','86979474000208','注射用重组人(百杰依)白介素-11(Ⅰ)','1.5mg*1支','54.91','支','山东阿华生物药业有限公司','110','101','ZSYZZR(BJY)BJS-11(Ⅰ)','2019-03-01 00:00:00','10','','1'), ('2591','86979474000208','醋酸地塞米松片(氟美松)','0.75mg×100片/瓶','81.25','瓶','上海信谊药厂有限公司','111','101','CSDSMSP(FMS)','2019-03-01 00:00:00','10','','1'), ('2592','86979474000209','LB庆大霉素注射液','8万单位*10支/盒','52.90','盒','金陵药业股份有限公司南京金陵制药厂','110','101','LBQDMSZSY','2019-03-01 00:00:00','10','','1'), ('2593','86979474000208','布地奈德气雾剂（吉舒）','20ml：20mg（100ug*200喷）/盒','24.50','盒','鲁南贝特制药有限公司','122','101','BDNDQWJ（JS）','2019-03-01 00:00:00','10','','1'), ('2594','86979474000209','丙酸氟替卡松鼻喷雾剂（辅舒良）','0.05%（50ug*120喷）/瓶','45.50','瓶','葛兰素史克公司S','143','101','BSFTKSBPWJ（FSL）','2019-03-01 00:00:00','10','','1'), ('2595','86979474000208','丙酸氟替卡松吸入气雾剂（辅舒酮）','125.000ug*60揿/瓶','3.60','瓶','葛兰素史克公司S','122','101','BSFTKSXRQWJ（FST）','2019-03-01 00:00:00','10','','1'), ('2596','86979474000208','锁阳颗粒 ',' 3g/10g*1袋','23.04','袋','江阴天江药业有限公司','115','102','SYKL ','2019-03-01 00:00:00','10','','1'), ('2597','86979474000209','草酸分枝杆菌注射液','1.72ug*1支/支','42.62','支','成都金星健康制药','110','101','CSFZGJZSY','2019-03-01 00:00:00','10','','1'), ('2598','86979474000208','罂粟乙碘油注射液','4.8g/支','10.27','支','江苏恒瑞医药股份有限公司','110','101','YSYDYZSY','2019-03-01 00:00:00','10','','1'), ('2599','86979474000209','盐酸地尔硫卓缓释胶囊(合贝爽)','90mg*10粒/盒','36.92','盒','天津田边制药有限公司','137','101','YSDELZHSJN(HBS)','2019-03-01 00:00:00','10','','1'), ('2600','86979474000208','苯甲酸阿格列汀片(尼欣那)','25mg*10片/盒','43.21','盒','日本武田药品工业株式会社','111','101','BJSAGLTP(NXN)','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('2601','86979474000208','重组人凝血因子Ⅷ(拜科奇)注射液','500iu:2.5ml*1瓶','35.09','瓶','拜耳医药保健有限公司S','161','101','ZZRNXYZⅧ(BKQ)ZSY','2019-03-01 00:00:00','10','','1'), ('2602','86979474000209','10%氯化钠注射液(海普)','1g：10ml*5支/盒','12.64','盒','G1上海旭东海普药业有限公司','110','101','10%LHNZSY(HP)','2019-03-01 00:00:00','10','','1'), ('2603','86979474000208','潼蒺藜颗粒 ',' 1g/10g*1袋','46.94','袋','江阴天江药业有限公司','115','102','ZZZKL ','2019-03-01 00:00:00','10','','1'), ('2604','86979474000209','土鳖虫颗粒 ',' 1g/10g*1袋','8.85','袋','江阴天江药业有限公司','115','102','TBCKL ','2019-03-01 00:00:00','10','','1'), ('2605','86979474000208','土茯苓颗粒 ','1.000g*1袋/袋','74.20','袋','江阴天江药业有限公司','115','102','TZZKL ','2019-03-01 00:00:00','10','','1'), ('2606','86979474000208','菟丝子颗粒 ',' 0.5g/10g*1袋','36.45','袋','江阴天江药业有限公司','115','102','ZSZKL ','2019-03-01 00:00:00','10','','1'), ('2607','86979474000209','瓦楞子颗粒 ',' 0.5g/15g*1袋','49.78','袋','江阴天江药业有限公司','115','102','WLZKL ','2019-03-01 00:00:00','10','','1'), ('2608','86979474000208','王不留行颗粒 ',' 0.5g/10g*1袋','52.71','袋','江阴天江药业有限公司','115','102','WBLXKL ','2019-03-01 00:00:00','10','','1'), ('2609','86979474000209','威灵仙颗粒 ',' 1g/10g*1袋','42.83','袋','江阴天江药业有限公司','115','102','WLXKL ','2019-03-01 00:00:00','10','','1'), ('2610','86979474000208','乌梅颗粒 ',' 3g/10g*1袋','15.38','袋','江阴天江药业有限公司','115','102','WMKL ','2019-03-01 00:00:00','10','','1'), ('2611','86979474000208','乌药颗粒 ',' 0.5g/10g*1袋','31.50','袋','江阴天江药业有限公司','115','102','WYKL ','2019-03-01 00:00:00','10','','1'), ('2612','86979474000209','吴茱萸颗粒 ','0.5g/3g*1袋','63.64','袋','江阴天江药业有限公司','115','102','WZZKL ','2019-03-01 00:00:00','10','','1'), ('2613','86979474000208','蜈蚣颗粒 ',' 0.5g/1g*1袋','5.57','袋','江阴天江药业有限公司','115','102','ZZKL ','2019-03-01 00:00:00','10','','1'), ('2614','86979474000209','紫苏子颗粒',' 0.5g/10g*1袋','10.34','袋','江阴天江药业有限公司','115','102','ZSZKL','2019-03-01 00:00:00','10','','1'), ('2615','86979474000208','盐酸羟考酮注射液(奥诺美)','10mg*1支','4.08','支','萌蒂(英国)制药有限公司S','110','101','YSQKTZSY(ANM)','2019-03-01 00:00:00','10','','1'), ('2616','86979474000208','磷酸钠盐口服液','90ml*1瓶/瓶','1.56','瓶','四川迪康科技药业股份有限公司','164','101','LSNYKFY','2019-03-01 00:00:00','10','','1'), ('2617','86979474000209','注射用培美曲塞二钠','0.1g*1瓶/瓶','24.01','瓶','扬子江药业集团有限公司','161','101','ZSYPMQSEN','2019-03-01 00:00:00','10','','1'), ('2618','86979474000208','碳酸氢钠注射液','0.5g*5支/盒','64.85','盒','济南利民制药','110','101','TSQNZSY','2019-03-01 00:00:00','10','','1'), ('2619','86979474000209','注射用骨肽(I)','10mg*1支','29.10','支','黑龙江江世药业有限公司','110','101','ZSYGZ(I)','2019-03-01 00:00:00','10','','1'), ('2620','86979474000208','五加皮颗粒 ','1g/10g*1袋','57.43','袋','江阴天江药业有限公司','115','102','WJPKL ','2019-03-01 00:00:00','10','','1'), ('2621','86979474000208','五味子颗粒 ',' 1g/6g*1袋','8.30','袋','江阴天江药业有限公司','115','102','WWZKL ','2019-03-01 00:00:00','10','','1'), ('2622','86979474000209','盐酸奥布卡因滴眼液','80mg*1瓶/瓶','46.39','瓶','日本参天制药株式会社','160','101','YSABKYDYY','2019-03-01 00:00:00','10','','1'), ('2623','86979474000208','祖师麻片','0.3g*54片/盒','4.07','盒','秦皇岛山海关制药厂','111','102','ZSMP','2019-03-01 00:00:00','10','','1'), ('2624','86979474000209','林可霉素利多卡因凝胶','15.000g*1支/支','33.60','支','山东方明药业集团股份有限公司','120','101','LKMSLDKYNJ','2019-03-01 00:00:00','10','','1'), ('2625','86979474000208','盐酸金霉素眼膏','2g:0.5%*1支/盒','1.52','盒','新乡华青药业有限公司','132','101','YSJMSYG','2019-03-01 00:00:00','10','','1'), ('2626','86979474000208','赖脯胰岛素注射液(优泌乐)预装注射笔','3ml:300iu*1支/盒','25.22','盒','Eli Lilly and Company','110','101','LFYDSZSY(YML)YZZSB','2019-03-01 00:00:00','10','','1'), ('2627','86979474000209','BG注射用青霉素G钠','80万u*1瓶','1.81','瓶','山东鲁抗医药股份有限公司','110','101','BGZSYQMSGN','2019-03-01 00:00:00','10','','1'), ('2628','86979474000208','达沙替尼片(依尼舒)','50mg*7片/盒','35.32','盒','正大天晴药业股份有限公司S','111','101','DSTNP(YNS)','2019-03-01 00:00:00','10','','1'), ('2629','86979474000209','甲磺酸伊马替尼胶囊(格尼可)','100mg*12粒/盒','39.84','盒','正大天晴药业股份有限公司S','114','101','JHSYMTNJN(GNK)','2019-03-01 00:00:00','10','','1'), ('2630','86979474000208','玉米须颗粒 ','0.500g*15袋/袋','23.07','袋','江阴天江药业有限公司','115','102','YMXKL ','2019-03-01 00:00:00','10','','1'), ('2631','86979474000208','枸橼酸咖啡因注射液（倍优诺）','20mg/支','63.79','支','意大利凯西制药公司','110','101','ZZSKFYZSY（BYN）','2019-03-01 00:00:00','10','','1'), ('2632','86979474000209','维生素K1注射液','10.000mg*10支/盒','3.36','盒','国药集团容生制药有限公司','110','101','WSSK1ZSY','2019-03-01 00:00:00','10','','1'), ('2633','86979474000208','丁卡因注射液','5.000ml/支','28.48','支','江苏九旭药业有限公司','110','101','DKYZSY','2019-03-01 00:00:00','10','','1'), ('2634','86979474000209','人用狂犬病疫苗','0.5ml*1支/支','51.31','支','辽宁成大生物股份有限公司','110','101','RYKQBYM','2019-03-01 00:00:00','10','','1'), ('2635','86979474000208','四季青','10g/袋','61.09','袋','','112','103','SJQ','2019-03-01 00:00:00','10','','1'), ('2636','86979474000208','香砂六君丸','0.375g*240粒/瓶','13.86','瓶','仲景宛西制药股份有限公司','163','102','XSLJW','2019-03-01 00:00:00','10','','1'), ('2637','86979474000209','妇宁胶囊(运通)','0.35g*48粒/盒','12.49','盒','杭州万邦天诚药业有限公司','114','101','FNJN(YT)','2019-03-01 00:00:00','10','','1'), ('2638','86979474000208','去乙酰毛花苷注射液（西地兰）','0.400mg:2mL*2支/盒','37.41','盒','成都倍特药业有限公司','110','101','QYXMHZZSY（XDL）','2019-03-01 00:00:00','10','','1'), ('2639','86979474000209','注射用重组人促黄体激素α(乐芮)','75.000iu*1支+1ml注射用水/盒','19.38','盒','默克雪兰诺（德国）有限公司','161','101','ZSYZZRCHTJSα(LZ)','2019-03-01 00:00:00','10','','1'), ('2640','86979474000208','重组人促卵泡激素注射液（果纳芬）','33ug(450IU)*1支/盒','1.82','盒','默克雪兰诺（德国）有限公司','110','101','ZZRCLPJSZSY（GNF）','2019-03-01 00:00:00','10','','1'), ('2641','86979474000208','百药煎','1000mg/g','51.57','克','桐君堂药业有限公司','112','103','BYJ','2019-03-01 00:00:00','10','','1'), ('2642','86979474000209','十一酸睾酮胶丸(安特尔)','40mg*20粒/盒','10.93','盒','默沙东制药','163','101','SYSZTJW(ATE)','2019-03-01 00:00:00','10','','1'), ('2643','86979474000208','复方氯化钠注射液(双管软袋)','500.000ml*1袋/袋','2.73','袋','浙江济民制药股份有限公司','150','101','FFLHNZSY(SGRD)','2019-03-01 00:00:00','10','','1'), ('2644','86979474000209','注射用美罗培南(海正美特)','0.500g*1瓶/盒','37.87','盒','海正辉瑞制药有限公司','161','101','ZSYMLPN(HZMT)','2019-03-01 00:00:00','10','','1'), ('2645','86979474000208','磷酸西格列汀(捷诺维)片','100mg*7片/盒','1.79','盒','默沙东制药','111','101','LSXGLT(JNW)P','2019-03-01 00:00:00','10','','1'), ('2646','86979474000208','开塞露(含甘油)','20ml*1支','41.72','支','上海运佳制药厂','119','101','KSL(HGY)','2019-03-01 00:00:00','10','','1'), ('2647','86979474000209','青蒿','1000mg/g','27.73','克','  江苏','112','103','QZ','2019-03-01 00:00:00','10','','1'), ('2648','86979474000208','注射用曲妥株单抗（赫赛汀）','440mg*1瓶/瓶','3.17','瓶','上海罗氏制药有限公司','110','101','ZSYQTZDK（HST）','2019-03-01 00:00:00','10','','1'), ('2649','86979474000209','冻干重组人脑利钠肽(新活素)','0.5mg*1支','74.98','支','成都诺迪康生物制药有限公司S','161','101','DGZZRNLNZ(XHS)','2019-03-01 00:00:00','10','','1'), ('2650','86979474000208','蒲公英','1000mg/g','8.92','克','江苏','112','103','PGY','2019-03-01 00:00:00','10','','1'), ('2651','86979474000208','阿戈美拉汀（阿美宁）','25mg*14片/盒','25.55','盒','江苏豪盛药业股份有限公司','111','101','AGMLT（AMN）','2019-03-01 00:00:00','10','','1'), ('2652','86979474000209','血府逐瘀口服液','10.000ml*12支/盒','92.71','盒','吉林敖东延边药业股份有限公司','164','102','XFZZKFY','2019-03-01 00:00:00','10','','1'), ('2653','86979474000208','脑心通胶囊','0.400g*48粒/盒','74.07','盒','陕西步长制药有限公司','114','101','NXTJN','2019-03-01 00:00:00','10','','1'), ('2654','86979474000209','利巴韦林气雾剂（信韦林）','0.500mg*150揿/支','4.18','支','上海信谊药厂有限公司','122','101','LBWLQWJ（XWL）','2019-03-01 00:00:00','10','','1'), ('2655','86979474000208','硫酸沙丁胺醇吸入气雾剂（万托林）','100.000ug*200揿/盒','9.43','盒','葛兰素史克制药(苏州)有限公司8','122','101','LSSDACXRQWJ（WTL）','2019-03-01 00:00:00','10','','1'), ('2656','86979474000208','异丙托溴铵气雾剂（爱全乐）','10ml：20ug*200揿/支','4.48','支','勃林格殷格翰（德国）国际公司','122','101','YBTZZQWJ（AQL）','2019-03-01 00:00:00','10','','1'), ('2657','86979474000209','定坤丹','10.800g*6粒/盒','3.09','盒','山西广誉远国药有限公司','163','102','DKD','2019-03-01 00:00:00','10','','1'), ('2658','86979474000208','BG注射用乳糖酸阿奇霉素(其仙)','0.25g*1支','2.19','支','东北制药集团沈阳第一制药厂','110','101','BGZSYRTSAQMS(QX)','2019-03-01 00:00:00','10','','1'), ('2659','86979474000209','秦艽颗粒','2g/10g/袋','39.51','袋','江阴天江药业有限公司','115','102','QZKL','2019-03-01 00:00:00','10','','1'), ('2660','86979474000208','乙酰半胱氨酸(阿思欣泰)注射液','4g:20ml*1支','20.87','支','杭州民生药业有限公司','110','101','YXBZAS(ASXT)ZSY','2019-03-01 00:00:00','10','','1'), ('2661','86979474000208','谷芽颗粒 ',' 0.5g/10g*1袋','44.83','袋','江阴天江药业有限公司','115','102','GYKL ','2019-03-01 00:00:00','10','','1'), ('2662','86979474000209','小蓟颗粒 ','1.5g/15g*1袋','7.08','袋','江阴天江药业有限公司','115','102','XJKL ','2019-03-01 00:00:00','10','','1'), ('2663','86979474000208','月季花颗粒 ',' 2.5g/10g*1袋','7.17','袋','江阴天江药业有限公司','115','102','YJHKL ','2019-03-01 00:00:00','10','','1'), ('2664','86979474000209','香薷颗粒 ',' 1g/10g*1袋','1.69','袋','江阴天江药业有限公司','115','102','XZKL ','2019-03-01 00:00:00','10','','1'), ('2665','86979474000208','鹿血晶（贵州广济堂）','1g*1瓶/盒','38.48','盒','贵州广济堂药业有限公司','116','101','LXJ（GZGJT）','2019-03-01 00:00:00','10','','1'), ('2666','86979474000208','来那度胺胶囊(瑞复美)','10.000mg*21粒/盒','7.68','盒','瑞士Celgene','114','101','LNDAJN(RFM)','2019-03-01 00:00:00','10','','1'), ('2667','86979474000209','干蟾皮','1000mg/g','0.83','克','','112','103','GCP','2019-03-01 00:00:00','10','','1'), ('2668','86979474000208','青风藤','1000mg/g','4.03','克','','112','103','QFT','2019-03-01 00:00:00','10','','1'), ('2669','86979474000209','莲子心','1000mg/g','30.80','克','','112','103','LZX','2019-03-01 00:00:00','10','','1'), ('2670','86979474000208','冬凌草','1000mg/g','28.08','克','','112','103','DLC','2019-03-01 00:00:00','10','','1'), ('2671','86979474000208','黛哈散','1000mg/g','22.31','克','','112','103','DHS','2019-03-01 00:00:00','10','','1'), ('2672','86979474000209','黑料豆','1000mg/g','4.64','克','','112','103','HLD','2019-03-01 00:00:00','10','','1'), ('2673','86979474000208','蚕砂','1000mg/g','19.07','克','','112','103','CS','2019-03-01 00:00:00','10','','1'), ('2674','86979474000209','藏青果','1000mg/g','76.13','克','','112','103','CQG','2019-03-01 00:00:00','10','','1'), ('2675','86979474000208','泽漆','1000mg/g','25.60','克','','112','103','ZQ','2019-03-01 00:00:00','10','','1'), ('2676','86979474000208','菝契','1000mg/g','25.97','克','','112','103','ZQ','2019-03-01 00:00:00','10','','1'), ('2677','86979474000209','南方红豆杉','5.000g*2包/袋','74.04','袋','南京同仁堂药业有限责任公司','116','101','NFHDS','2019-03-01 00:00:00','10','','1'), ('2678','86979474000208','复方南星止痛膏','1.000贴*4贴/盒','37.68','盒','江苏康缘药业股份有限公司','146','101','FFNXZTG','2019-03-01 00:00:00','10','','1'), ('2679','86979474000209','腰痹通胶囊','0.420g*30粒/盒','13.22','盒','江苏康缘药业股份有限公司','114','102','YBTJN','2019-03-01 00:00:00','10','','1'), ('2680','86979474000208','桂枝茯苓胶囊','0.310g*50粒/盒','10.90','盒','江苏康缘药业股份有限公司','114','102','GZZZJN','2019-03-01 00:00:00','10','','1'), ('2681','86979474000208','排石颗粒','5g×12袋/盒','23.17','盒','南京同仁堂药业有限责任公司','115','102','PSKL','2019-03-01 00:00:00','10','','1'), ('2682','86979474000209','仙鹤草颗粒 ','1g/15g*1袋','34.54','袋','江阴天江药业有限公司','115','102','XHCKL ','2019-03-01 00:00:00','10','','1'), ('2683','86979474000208','仙灵脾颗粒 ','0.5g/10g*1袋','0.43','袋','江阴天江药业有限公司','115','102','XLPKL ','2019-03-01 00:00:00','10','','1'), ('2684','86979474000209','仙茅颗粒 ','0.5g/10g*1袋','5.02','袋','江阴天江药业有限公司','115','102','XMKL ','2019-03-01 00:00:00','10','','1'), ('2685','86979474000208','香附颗粒 ',' 0.5g/10g*1袋','29.35','袋','江阴天江药业有限公司','115','102','XFKL ','2019-03-01 00:00:00','10','','1'), ('2686','86979474000208','小茴香颗粒 ','0.5g/6g*1袋','43.78','袋','江阴天江药业有限公司','115','102','XZXKL ','2019-03-01 00:00:00','10','','1'), ('2687','86979474000209','薤白颗粒 ',' 2.5g/10g*1袋','33.80','袋','江阴天江药业有限公司','115','102','ZBKL ','2019-03-01 00:00:00','10','','1'), ('2688','86979474000208','辛夷颗粒 ',' 0.5g/6g*1袋','80.73','袋','江阴天江药业有限公司','115','102','XYKL ','2019-03-01 00:00:00','10','','1'), ('2689','86979474000209','徐长卿颗粒 ','1.5g/10g*1袋','18.29','袋','江阴天江药业有限公司','115','102','XCQKL ','2019-03-01 00:00:00','10','','1'), ('2690','86979474000208','续断颗粒 ',' 2g/10g*1袋','45.11','袋','江阴天江药业有限公司','115','102','XDKL ','2019-03-01 00:00:00','10','','1'), ('2691','86979474000208','玄参颗粒 ',' 3g/10g*1袋','58.68','袋','江阴天江药业有限公司','115','102','XCKL ','2019-03-01 00:00:00','10','','1'), ('2692','86979474000209','旋覆花颗粒 ',' 0.5g/6g*1袋','17.75','袋','江阴天江药业有限公司','115','102','XFHKL ','2019-03-01 00:00:00','10','','1'), ('2693','86979474000208','血余炭颗粒 ','0.5g/10g*1袋','54.29','袋','江阴天江药业有限公司','115','102','XYTKL ','2019-03-01 00:00:00','10','','1'), ('2694','86979474000209','吸入用硫酸沙丁胺醇溶液(万托林)','5mg*5瓶/盒','48.81','盒','葛兰素史克（中国）投资有限公司','156','101','XRYLSSDACRY(WTL)','2019-03-01 00:00:00','10','','1'), ('2695','86979474000208','10%葡萄糖注射液','100ml*1袋','38.26','袋','安徽丰原药业股份有限公司无为药厂','110','101','10%PTTZSY','2019-03-01 00:00:00','10','','1'), ('2696','86979474000208','葶苈子颗粒 ',' 0.5g/10g*1袋','17.42','袋','江阴天江药业有限公司','115','102','ZZZKL ','2019-03-01 00:00:00','10','','1'), ('2697','86979474000209','透骨草颗粒',' 1g/10g*1袋','3.58','袋','江阴天江药业有限公司','115','102','TGCKL','2019-03-01 00:00:00','10','','1'), ('2698','86979474000208','天竺黄颗粒 ',' 0.5g/10g*1袋','1.30','袋','江阴天江药业有限公司','115','102','T竺HKL ','2019-03-01 00:00:00','10','','1'), ('2699','86979474000209','生山楂颗粒 ',' 3g/10g*1袋','2.90','袋','江阴天江药业有限公司','115','102','SSZKL ','2019-03-01 00:00:00','10','','1'), ('2700','86979474000208','桑螵蛸颗粒 ',' 0.5g/10g*1袋','46.43','袋','江阴天江药业有限公司','115','102','SpZKL ','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('2701','86979474000208','清风藤颗粒 ','0.5g/15g*1袋','8.81','袋','江阴天江药业有限公司','115','102','QFTKL ','2019-03-01 00:00:00','10','','1'), ('2702','86979474000209','青葙子颗粒 ',' 0.5g/10g*1袋','17.80','袋','江阴天江药业有限公司','115','102','QZZKL ','2019-03-01 00:00:00','10','','1'), ('2703','86979474000208','青黛粉颗粒 ',' 3g/3g*1袋','5.61','袋','江阴天江药业有限公司','115','102','QDFKL ','2019-03-01 00:00:00','10','','1'), ('2704','86979474000209','茜草颗粒 ',' 0.5g/10g*1袋','0.05','袋','江阴天江药业有限公司','115','102','ZCKL ','2019-03-01 00:00:00','10','','1'), ('2705','86979474000208','千年健颗粒 ','千年健颗粒 ','8.33','袋','江阴天江药业有限公司','115','102','QNJKL ','2019-03-01 00:00:00','10','','1'), ('2706','86979474000208','七叶一枝花颗粒 ','1.000g*1袋/袋','9.06','袋','江阴天江药业有限公司','115','102','QYYZHKL ','2019-03-01 00:00:00','10','','1'), ('2707','86979474000209','胖大海颗粒 ',' 0.5g/3g*1袋','13.67','袋','江阴天江药业有限公司','115','102','PDHKL ','2019-03-01 00:00:00','10','','1'), ('2708','86979474000208','糯稻根颗粒 ',' 0.5g/30g*1袋','59.52','袋','江阴天江药业有限公司','115','102','NDGKL ','2019-03-01 00:00:00','10','','1'), ('2709','86979474000209','木贼颗粒 ','0.5g/10g*1袋','13.58','袋','江阴天江药业有限公司','115','102','MZKL ','2019-03-01 00:00:00','10','','1'), ('2710','86979474000208','马鞭草颗粒 ',' 1g/10g*1袋','43.31','袋','江阴天江药业有限公司','115','102','MBCKL ','2019-03-01 00:00:00','10','','1'), ('2711','86979474000208','麻黄颗粒 ',' 0.5g/6g*1袋','6.36','袋','江阴天江药业有限公司','115','102','MHKL ','2019-03-01 00:00:00','10','','1'), ('2712','86979474000209','麻黄根颗粒 ',' 1g/10g*1袋','4.26','袋','江阴天江药业有限公司','115','102','MHGKL ','2019-03-01 00:00:00','10','','1'), ('2713','86979474000208','注射用盐酸纳洛酮(纳乐枢)','2mg*1瓶','21.02','瓶','重庆莱美药业股份有限公司','110','101','ZSYYSNLT(NLS)','2019-03-01 00:00:00','10','','1'), ('2714','86979474000209','弹性酶肠溶片(千红怡甘)','600iu*24片/盒','14.03','盒','常州千红生化制药股份有限公司','133','101','DXMCRP(QHZG)','2019-03-01 00:00:00','10','','1'), ('2715','86979474000208','丙酸倍氯米松（宝丽亚）','0.800mg*2ml/支','39.23','支','意大利凯西制药公司','136','101','BSBLMS（BLY）','2019-03-01 00:00:00','10','','1'), ('2716','86979474000208','山茱萸颗粒 ',' 1.5g/6g*1袋','15.44','袋','江阴天江药业有限公司','115','102','SZZKL ','2019-03-01 00:00:00','10','','1'), ('2717','86979474000209','沉香粉颗粒 ',' 1g/1g*1袋','38.55','袋','江阴天江药业有限公司','115','102','CXFKL ','2019-03-01 00:00:00','10','','1'), ('2718','86979474000208','鞣酸软膏','20.000g*1盒/盒','0.76','盒','南京市儿童医院0','121','101','RSRG','2019-03-01 00:00:00','10','','1'), ('2719','86979474000209','硝酸甘油片','0.5mg*100片/瓶','0.81','瓶','北京益民药业有限公司','111','101','XSGYP','2019-03-01 00:00:00','10','','1'), ('2720','86979474000208','硫酸钡干混悬剂','1盒','34.46','盒','上海马陆','157','101','LSBGHXJ','2019-03-01 00:00:00','10','','1'), ('2721','86979474000208','环孢素软胶囊（田可）','50.000mg*50粒/盒','10.95','盒','华北制药股份有限公司','159','101','HZSRJN（TK）','2019-03-01 00:00:00','10','','1'), ('2722','86979474000209','注射用氨苄西林钠','0.500g*1支/支','37.01','支','山东鲁抗医药股份有限公司','161','101','ZSYAZXLN','2019-03-01 00:00:00','10','','1'), ('2723','86979474000208','重酒石酸去甲肾上腺素注射液','2.000mg*2支/盒','31.21','盒','远大医药有限公司','110','101','ZJSSQJSSXSZSY','2019-03-01 00:00:00','10','','1'), ('2724','86979474000209','布地奈德鼻喷剂（雷诺考特）','64.000ug*120喷/盒','18.25','盒','瑞典Astrazeneca','143','101','BDNDBPJ（LNKT）','2019-03-01 00:00:00','10','','1'), ('2725','86979474000208','布地奈德福莫特罗粉吸入剂（信必可都保）','320ug/9ug*60吸/盒','40.91','盒','瑞典Astrazeneca','156','101','BDNDFMTLFXRJ（XBKDB）','2019-03-01 00:00:00','10','','1'), ('2726','86979474000208','脉血康胶囊','0.250g*48粒/盒','28.20','盒','重庆多普泰制药股份有限公司','114','101','MXKJN','2019-03-01 00:00:00','10','','1'), ('2727','86979474000209','酮康唑洗剂(采乐)','50ml×1瓶','36.78','瓶','西安杨森制药有限公司','142','101','TKZXJ(CL)','2019-03-01 00:00:00','10','','1'), ('2728','86979474000208','注射用青霉素G钠','160万单位：0.96g*1瓶/瓶','4.80','瓶','山东鲁抗医药股份有限公司','161','101','ZSYQMSGN','2019-03-01 00:00:00','10','','1'), ('2729','86979474000209','消栓通络胶囊','0.540g*18粒/盒','2.97','盒','吉林省东北亚药业股份有限公司','114','101','XSTLJN','2019-03-01 00:00:00','10','','1'), ('2730','86979474000208','骨通贴膏','1.000贴*6贴/盒','26.93','盒','桂林华润天和药业有限公司','146','101','GTTG','2019-03-01 00:00:00','10','','1'), ('2731','86979474000208','胃复春片','0.360g*80片/盒','1.98','盒','杭州胡庆余堂药业有限公司','111','101','WFCP','2019-03-01 00:00:00','10','','1'), ('2732','86979474000209','双歧杆菌三联活菌散（培菲康）','2.000g*6包/盒','12.48','盒','上海上药信谊药厂有限公司','113','101','SQGJSLHJS（PFK）','2019-03-01 00:00:00','10','','1'), ('2733','86979474000208','脑安胶囊','0.400g*30粒/盒','26.48','盒','辽源誉隆亚东药业 ','114','101','NAJN','2019-03-01 00:00:00','10','','1'), ('2734','86979474000209','硝酸甘油注射液','5.000mg*1支/支','15.65','支','北京益民药业有限公司','110','101','XSGYZSY','2019-03-01 00:00:00','10','','1'), ('2735','86979474000208','生姜','1000mg/g','60.53','克','','112','103','SJ','2019-03-01 00:00:00','10','','1'), ('2736','86979474000208','生姜','1000mg/g','19.26','克','','112','103','SJ','2019-03-01 00:00:00','10','','1'), ('2737','86979474000209','坤宁口服液','20.000ml*10支/盒','22.15','盒','荣昌制药（淄博）有限公司','164','101','KNKFY','2019-03-01 00:00:00','10','','1'), ('2738','86979474000208','甜梦口服液','10.000ml*15支/盒','1.08','盒','荣昌制药（淄博）有限公司','164','101','TMKFY','2019-03-01 00:00:00','10','','1'), ('2739','86979474000209','哈西奈德溶液','10ml（0.1%）*1瓶/瓶','10.40','瓶','国药集团三益药业','119','101','HXNDRY','2019-03-01 00:00:00','10','','1'), ('2740','86979474000208','他达拉非(希爱力）','20mg*2片/盒','5.89','盒','Lilly del Caribe,Inc.Puerto Rico','111','101','TDLF(XAL）','2019-03-01 00:00:00','10','','1'), ('2741','86979474000208','谷氨酰胺颗粒(安凯舒)','2.5g*6袋/盒','9.84','盒','重庆药友制药有限公司','115','102','GAXAKL(AKS)','2019-03-01 00:00:00','10','','1'), ('2742','86979474000209','硫酸庆大霉素注射液','8.000万*1支/支','31.57','支','石药集团欧意药业有限公司','110','101','LSQDMSZSY','2019-03-01 00:00:00','10','','1'), ('2743','86979474000208','白附子颗粒 ',' 0.5g/3g*1袋','1.43','袋','江阴天江药业有限公司','115','102','BFZKL ','2019-03-01 00:00:00','10','','1'), ('2744','86979474000209','白花蛇舌草颗粒 ',' 1g/15g*1袋','7.86','袋','江阴天江药业有限公司','115','102','BHSSCKL ','2019-03-01 00:00:00','10','','1'), ('2745','86979474000208','白及颗粒 ',' 3g/3g*1袋','14.73','袋','江阴天江药业有限公司','115','102','BJKL ','2019-03-01 00:00:00','10','','1'), ('2746','86979474000208','白蒺藜颗粒',' 0.5g/10g*1袋','17.50','袋','江阴天江药业有限公司','115','102','BZZKL','2019-03-01 00:00:00','10','','1'), ('2747','86979474000209','白芥子颗粒 ','1g/10g*1袋','8.90','袋','江阴天江药业有限公司','115','102','BJZKL ','2019-03-01 00:00:00','10','','1'), ('2748','86979474000208','白茅根颗粒 ',' 2g/15g*1袋','3.64','袋','江阴天江药业有限公司','115','102','BMGKL ','2019-03-01 00:00:00','10','','1'), ('2749','86979474000209','白前颗粒 ',' 1g/10g*1袋','2.50','袋','江阴天江药业有限公司','115','102','BQKL ','2019-03-01 00:00:00','10','','1'), ('2750','86979474000208','白头翁颗粒',' 0.5g/10g*1袋','14.63','袋','江阴天江药业有限公司','115','102','BTWKL','2019-03-01 00:00:00','10','','1'), ('2751','86979474000208','白薇颗粒 ',' 0.5g/10g*1袋','29.28','袋','江阴天江药业有限公司','115','102','BZKL ','2019-03-01 00:00:00','10','','1'), ('2752','86979474000209','白鲜皮颗粒 ',' 1.5g/10g*1袋','60.28','袋','江阴天江药业有限公司','115','102','BXPKL ','2019-03-01 00:00:00','10','','1'), ('2753','86979474000208','白芷颗粒 ',' 1g/6g*1袋','57.06','袋','江阴天江药业有限公司','115','102','BZKL ','2019-03-01 00:00:00','10','','1'), ('2754','86979474000209','百合颗粒 ',' 1g/10g*1袋','5.47','袋','江阴天江药业有限公司','115','102','BHKL ','2019-03-01 00:00:00','10','','1'), ('2755','86979474000208','柏子仁颗粒 ',' 0.5g/10g*1袋','14.56','袋','江阴天江药业有限公司','115','102','BZRKL ','2019-03-01 00:00:00','10','','1'), ('2756','86979474000208','败酱草颗粒 ',' 1g/15g*1袋','4.56','袋','江阴天江药业有限公司','115','102','BJCKL ','2019-03-01 00:00:00','10','','1'), ('2757','86979474000209','板蓝根颗粒 ','2g/15g*1袋','2.45','袋','江阴天江药业有限公司','115','102','BLGKL ','2019-03-01 00:00:00','10','','1'), ('2758','86979474000208','半边莲颗粒 ',' 1g/15g*1袋','68.61','袋','江阴天江药业有限公司','115','102','BBLKL ','2019-03-01 00:00:00','10','','1'), ('2759','86979474000209','半枝莲颗粒 ',' 1g/15g*1袋','28.44','袋','江阴天江药业有限公司','115','102','BZLKL ','2019-03-01 00:00:00','10','','1'), ('2760','86979474000208','布地奈德福莫特罗粉吸入剂（信必可都保）','160ug/4.5ug*60吸/盒','4.51','盒','瑞典Astrazeneca','156','101','BDNDFMTLFXRJ（XBKDB）','2019-03-01 00:00:00','10','','1'), ('2761','86979474000208','尼洛替尼胶囊(达希纳)','200mg*120粒/盒','36.07','盒','诺华制药（瑞士）有限公司S','114','101','NLTNJN(DXN)','2019-03-01 00:00:00','10','','1'), ('2762','86979474000209','罗库溴铵注射液','5ml:50mg*1支/支','46.51','支','浙江仙琚制药股份有限公司','110','101','LKZZZSY','2019-03-01 00:00:00','10','','1'), ('2763','86979474000208','炉甘石洗剂','100.000ml*1瓶/瓶','75.93','瓶','湖南湘药药业','136','101','LGSXJ','2019-03-01 00:00:00','10','','1'), ('2764','86979474000209','聚乙二醇化重组人粒细胞(新瑞白)刺激因子注射液','3.000mg*1支/盒','22.43','盒','齐鲁制药有限公司','110','101','JYECHZZRLXB(XRB)CJYZZSY','2019-03-01 00:00:00','10','','1'), ('2765','86979474000208','利福昔明片(昔服申)','0.200g*12片/盒','0.39','盒','意大利阿尔法韦士曼制药','111','101','LFXMP(XFS)','2019-03-01 00:00:00','10','','1'), ('2766','86979474000208','氯化钠(供注射用)','1000mg/g','2.69','克','','157','101','LHN(GZSY)','2019-03-01 00:00:00','10','','1'), ('2767','86979474000209','10%葡萄糖注射液','500ml*1袋','20.62','袋','安徽丰原药业股份有限公司无为药厂','110','101','10%PTTZSY','2019-03-01 00:00:00','10','','1'), ('2768','86979474000208','六味能消胶囊','0.450g*30粒/盒','39.01','盒','西藏藏药集团股份','114','102','LWNXJN','2019-03-01 00:00:00','10','','1'), ('2769','86979474000209','十味龙胆花胶囊','0.450g*24粒/盒','3.69','盒','西藏藏药集团股份','114','102','SWLDHJN','2019-03-01 00:00:00','10','','1'), ('2770','86979474000208','治伤胶囊','0.250g*48粒/盒','3.35','盒','杭州朱养心药业','114','101','ZSJN','2019-03-01 00:00:00','10','','1'), ('2771','86979474000208','薄荷颗粒 ','0.5g/6g*1袋','8.00','袋','江阴天江药业有限公司','115','102','BHKL ','2019-03-01 00:00:00','10','','1'), ('2772','86979474000209','北沙参颗粒',' 2g/10g*1袋','20.22','袋','江阴天江药业有限公司','115','102','BSCKL','2019-03-01 00:00:00','10','','1'), ('2773','86979474000208','山药颗粒 ',' 0.5g/10g*1袋','27.70','袋','江阴天江药业有限公司','115','102','SYKL ','2019-03-01 00:00:00','10','','1'), ('2774','86979474000209','青礞石','1000mg/g','10.69','克','','112','103','QZS','2019-03-01 00:00:00','10','','1'), ('2775','86979474000208','楮实子','1000mg/g','23.86','克','','112','103','ZSZ','2019-03-01 00:00:00','10','','1'), ('2776','86979474000208','锁阳','1000mg/g','44.55','克','','112','103','SY','2019-03-01 00:00:00','10','','1'), ('2777','86979474000209','郁李仁','1000mg/g','22.07','克','','112','103','YLR','2019-03-01 00:00:00','10','','1'), ('2778','86979474000208','刘寄奴','1000mg/g','7.09','克','','112','103','LJN','2019-03-01 00:00:00','10','','1'), ('2779','86979474000209','丝瓜络','1000mg/g','11.94','克','','112','103','SGL','2019-03-01 00:00:00','10','','1'), ('2780','86979474000208','荜菝','1000mg/g','58.91','克','','112','103','ZZ','2019-03-01 00:00:00','10','','1'), ('2781','86979474000208','千年健','1000mg/g','0.66','克','','112','103','QNJ','2019-03-01 00:00:00','10','','1'), ('2782','86979474000209','灯芯草','1000mg/g','35.87','克','','112','103','DXC','2019-03-01 00:00:00','10','','1'), ('2783','86979474000208','刀豆壳','1000mg/g','89.11','克','','112','103','DDK','2019-03-01 00:00:00','10','','1'), ('2784','86979474000209','沉香曲','1000mg/g','71.05','克','','112','103','CXQ','2019-03-01 00:00:00','10','','1'), ('2785','86979474000208','注射用氢化可的松琥珀酸','50.000mg*1支/支','37.25','支','天津生物化学制药有限公司','161','101','ZSYQHKDSZZS','2019-03-01 00:00:00','10','','1'), ('2786','86979474000208','盐酸右美托咪定注射液','0.1mg*1支/支','47.90','支','江苏恩华药业股份有限公司','110','101','YSYMTZDZSY','2019-03-01 00:00:00','10','','1'), ('2787','86979474000209','钆特酸葡胺注射液','15.000ml*1瓶/瓶','16.24','瓶','江苏恒瑞医药股份有限公司S','110','101','ZTSPAZSY','2019-03-01 00:00:00','10','','1'), ('2788','86979474000208','氢化可的松注射液','25mg/支','1.67','支','天津金耀药业有限公司','110','101','QHKDSZSY','2019-03-01 00:00:00','10','','1'), ('2789','86979474000209','硫酸钡（Ⅱ型）干混悬剂','200.000g*1袋/袋','18.18','袋','青岛红蝶新材料有限公司','136','101','LSB（ⅡX）GHXJ','2019-03-01 00:00:00','10','','1'), ('2790','86979474000208','地榆颗粒','1g/10g/袋','35.71','袋','江阴天江药业有限公司','115','102','DYKL','2019-03-01 00:00:00','10','','1'), ('2791','86979474000208','皂角刺颗粒','0.5g/6g/袋','5.25','袋','江阴天江药业有限公司','115','102','ZJCKL','2019-03-01 00:00:00','10','','1'), ('2792','86979474000209','广藿香颗粒','0.5g/10g/袋','0.23','袋','江阴天江药业有限公司','115','102','GZXKL','2019-03-01 00:00:00','10','','1'), ('2793','86979474000208','炒槐花颗粒','2g/10g/袋','34.70','袋','江阴天江药业有限公司','115','102','CHHKL','2019-03-01 00:00:00','10','','1'), ('2794','86979474000209','瓜蒌仁颗粒','0.5g/10g/袋','8.94','袋','江阴天江药业有限公司','115','102','GZRKL','2019-03-01 00:00:00','10','','1'), ('2795','86979474000208','火麻仁颗粒','0.5g/10g/袋','39.46','袋','江阴天江药业有限公司','115','102','HMRKL','2019-03-01 00:00:00','10','','1'), ('2796','86979474000208','槟榔颗粒','0.5g/10g/袋','9.11','袋','江阴天江药业有限公司','115','102','ZLKL','2019-03-01 00:00:00','10','','1'), ('2797','86979474000209','麸炒枳实颗粒','0.5g/6g/袋','12.07','袋','江阴天江药业有限公司','115','102','CZSKL','2019-03-01 00:00:00','10','','1'), ('2798','86979474000208','金乌骨通胶囊','0.5g*30粒/瓶','34.25','瓶','贵州盛世龙方制药','114','102','JWGTJN','2019-03-01 00:00:00','10','','1'), ('2799','86979474000209','唑来膦酸注射液(依固)','5mg：100ml*1瓶','15.39','瓶','正大天晴药业集团股份有限公司','110','101','ZLZSZSY(YG)','2019-03-01 00:00:00','10','','1'), ('2800','86979474000208','多种微量元素(来维)注射液','40ml*1支/瓶','25.75','瓶','法国阿奎坦制药有限公司','110','101','DZWLYS(LW)ZSY','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('2801','86979474000208','磷酸铝凝胶(洁维乐)','20g:11g*4袋/盒','55.79','盒','韩国保宁制药株式会社','120','101','LSLNJ(JWL)','2019-03-01 00:00:00','10','','1'), ('2802','86979474000209','西甲硅油乳剂(柏西)','30ml*1瓶','46.46','瓶','德国柏林化学股份公司','118','101','XJGYRJ(BX)','2019-03-01 00:00:00','10','','1'), ('2803','86979474000208','埃索美拉唑镁肠溶片(耐信)','20mg*7片/盒','11.28','盒','阿斯利康制药有限公司','111','101','ASMLZMCRP(NX)','2019-03-01 00:00:00','10','','1'), ('2804','86979474000209','龙齿颗粒 ',' 0.5g/15g*1袋','9.84','袋','江阴天江药业有限公司','115','102','LCKL ','2019-03-01 00:00:00','10','','1'), ('2805','86979474000208','六月雪颗粒 ',' 0.5g/15g*1袋','39.71','袋','江阴天江药业有限公司','115','102','LYXKL ','2019-03-01 00:00:00','10','','1'), ('2806','86979474000208','莲子芯颗粒 ',' 2g/10g*1袋','43.30','袋','江阴天江药业有限公司','115','102','LZXKL ','2019-03-01 00:00:00','10','','1'), ('2807','86979474000209','荔枝核颗粒 ','0.500g*1袋/袋','61.61','袋','江阴天江药业有限公司','115','102','LZHKL ','2019-03-01 00:00:00','10','','1'), ('2808','86979474000208','藏青果颗粒 ',' 2g/10g*1袋','12.10','袋','江阴天江药业有限公司','115','102','CQGKL ','2019-03-01 00:00:00','10','','1'), ('2809','86979474000209','瞿麦颗粒 ',' 0.5g/10g*1袋','21.86','袋','江阴天江药业有限公司','115','102','MKL ','2019-03-01 00:00:00','10','','1'), ('2810','86979474000208','多巴胺注射液','20mg*10支/盒','12.93','盒','上海禾丰制药有限公司','110','101','DBAZSY','2019-03-01 00:00:00','10','','1'), ('2811','86979474000208','皂角刺颗粒','0.5g/6g/袋','81.59','袋','江阴天江药业有限公司','115','102','ZJCKL','2019-03-01 00:00:00','10','','1'), ('2812','86979474000209','氯沙坦钾片(科素亚)','100mg*7片/盒','22.84','盒','默沙东制药（杭州）有限公司','111','101','LSTJP(KSY)','2019-03-01 00:00:00','10','','1'), ('2813','86979474000208','5%葡萄糖氯化钠注射液','250ml*1袋','53.65','袋','安徽丰原药业股份有限公司无为药厂','110','101','5%PTTLHNZSY','2019-03-01 00:00:00','10','','1'), ('2814','86979474000209','5%葡萄糖氯化钠注射液','500ml*1袋','19.28','袋','安徽丰原药业股份有限公司无为药厂','110','101','5%PTTLHNZSY','2019-03-01 00:00:00','10','','1'), ('2815','86979474000208','5%葡萄糖注射液','50ml*1袋','46.99','袋','四川科伦药业有限公司','110','101','5%PTTZSY','2019-03-01 00:00:00','10','','1'), ('2816','86979474000208','5%葡萄糖注射液','500ml*1袋','58.94','袋','安徽丰原药业股份有限公司无为药厂','110','101','5%PTTZSY','2019-03-01 00:00:00','10','','1'), ('2817','86979474000209','5%葡萄糖注射液','250ml*1袋','4.05','袋','安徽丰原药业股份有限公司无为药厂','110','101','5%PTTZSY','2019-03-01 00:00:00','10','','1'), ('2818','86979474000208','5%葡萄糖注射液','100ml*1袋','13.19','袋','安徽丰原药业股份有限公司无为药厂','110','101','5%PTTZSY','2019-03-01 00:00:00','10','','1'), ('2819','86979474000209','杞明胶囊','0.400g*36粒/盒','23.83','盒','西安碑林药业','114','101','ZMJN','2019-03-01 00:00:00','10','','1'), ('2820','86979474000208','强力枇杷露','200.000ml*1瓶/盒','9.61','盒','杭州胡庆余堂药业有限公司','158','102','QLZZL','2019-03-01 00:00:00','10','','1'), ('2821','86979474000208','依诺肝素钠（亿诺佳）','4000.000iu*1支/支','38.46','支','杭州九源基因工程有限公司','110','101','YNGSN（YNJ）','2019-03-01 00:00:00','10','','1'), ('2822','86979474000209','LB注射用头孢呋辛钠(安可欣)','0.75g*1瓶/瓶','18.56','瓶','欧洲塞浦路斯麦道甘美大药厂','110','101','LBZSYTZZXN(AKX)','2019-03-01 00:00:00','10','','1'), ('2823','86979474000208','脑心清片','0.410g*36片/盒','66.12','盒','广州白云山和记黄埔中药有限公司','111','101','NXQP','2019-03-01 00:00:00','10','','1'), ('2824','86979474000209','水合氯醛溶液（灌肠用）','250ml/瓶','13.17','瓶','江苏省中医院','119','101','SHLQRY（GCY）','2019-03-01 00:00:00','10','','1'), ('2825','86979474000208','康妇消炎栓','2.000g*9粒/盒','7.63','盒','葵花药业集团(伊春)有限公司','125','101','KFXYS','2019-03-01 00:00:00','10','','1'), ('2826','86979474000208','头孢地尼分散片（希福尼）','50mg*12片/盒','23.50','盒','天津市中央药业有限公司','123','101','TZDNFSP（XFN）','2019-03-01 00:00:00','10','','1'), ('2827','86979474000209','依替巴肽注射液（泽悦）','10ml：20.000mg*1瓶/瓶','18.55','瓶','江苏豪森药业股份有限公司S','110','101','YTBZZSY（ZY）','2019-03-01 00:00:00','10','','1'), ('2828','86979474000208','米力农注射液（晴乐心）','10ml：10mg*1支/支','39.87','支','南京正大天晴制药有限公司','110','101','MLNZSY（QLX）','2019-03-01 00:00:00','10','','1'), ('2829','86979474000209','卡培他滨片(首辅)','0.500g*12片/盒','32.58','盒','正大天晴药业集团股份有限公司','111','101','KPTBP(SF)','2019-03-01 00:00:00','10','','1'), ('2830','86979474000208','0.9%氯化钠注射液','50ml/袋','8.51','袋','四川科伦药业有限公司','110','101','0.9%LHNZSY','2019-03-01 00:00:00','10','','1'), ('2831','86979474000208','0.9%氯化钠注射液','100ml/袋','17.00','袋','安徽丰原药业股份有限公司无为药厂','110','101','0.9%LHNZSY','2019-03-01 00:00:00','10','','1'), ('2832','86979474000209','0.9%氯化钠注射液','250ml/袋','52.62','袋','安徽丰原药业股份有限公司无为药厂','110','101','0.9%LHNZSY','2019-03-01 00:00:00','10','','1'), ('2833','86979474000208','10%葡萄糖注射液','50ml/袋','2.57','袋','四川科伦药业有限公司','110','101','10%PTTZSY','2019-03-01 00:00:00','10','','1'), ('2834','86979474000209','10%葡萄糖注射液','250ml/袋','24.34','袋','安徽丰原药业股份有限公司无为药厂','110','101','10%PTTZSY','2019-03-01 00:00:00','10','','1'), ('2835','86979474000208','生地黄炭','1000mg/g','2.64','克','','112','103','SDHT','2019-03-01 00:00:00','10','','1'), ('2836','86979474000208','阿胶颗粒  ','3g/6g*1袋','52.20','袋','江阴天江药业有限公司','115','102','AJKL  ','2019-03-01 00:00:00','10','','1'), ('2837','86979474000209','八月扎颗粒 ',' 0.5g/10g*1袋','39.34','袋','江阴天江药业有限公司','115','102','BYZKL ','2019-03-01 00:00:00','10','','1'), ('2838','86979474000208','注射用多粘菌素B','50.000万单位:10mL*1瓶/盒','48.28','盒','上海上药第一生化药业有限公司','110','101','ZSYDZJSB','2019-03-01 00:00:00','10','','1'), ('2839','86979474000209','去乙酰毛花苷注射液(倍特注射液)','0.400mg*5支/盒','0.66','盒','成都倍特药业有限公司','110','101','QYXMHZZSY(BTZSY)','2019-03-01 00:00:00','10','','1'), ('2840','86979474000208','大株红景天胶囊','0.380g*60粒/盒','64.74','盒','江苏康缘药业股份有限公司','114','102','DZHJTJN','2019-03-01 00:00:00','10','','1'), ('2841','86979474000208','复方多粘菌素B软膏（孚诺）','10.000g*1支/盒','2.29','盒','浙江日升昌药业有限公司','121','101','FFDZJSBRG（ZN）','2019-03-01 00:00:00','10','','1'), ('2842','86979474000209','头孢地尼胶囊（恒丹）','0.100g*10粒/盒','9.80','盒','江苏豪森药业股份有限公司S','114','101','TZDNJN（HD）','2019-03-01 00:00:00','10','','1'), ('2843','86979474000208','注射用苯巴比妥钠','0.100g*1瓶/瓶','19.65','瓶','福建闽东力捷迅药业','161','101','ZSYBBBTN','2019-03-01 00:00:00','10','','1'), ('2844','86979474000209','门冬氨酸鸟氨酸颗粒(瑞甘)','3.000g*10袋/盒','58.12','盒','武汉启瑞药业有限公司','115','102','MDASNASKL(RG)','2019-03-01 00:00:00','10','','1'), ('2845','86979474000208','丁二磺酸腺苷蛋氨酸肠溶片(思美泰)','0.500g*10片/盒','15.91','盒','雅培制药（意大利）','111','101','DEHSXZDASCRP(SMT)','2019-03-01 00:00:00','10','','1'), ('2846','86979474000208','白扁豆颗粒 ','0.5g/10g*1袋','66.78','袋','江阴天江药业有限公司','115','102','BBDKL ','2019-03-01 00:00:00','10','','1'), ('2847','86979474000209','尿促卵泡素（丽申宝）','75iu/支','20.71','支','丽珠集团丽珠制药厂','111','101','NCLPS（LSB）','2019-03-01 00:00:00','10','','1'), ('2848','86979474000208','BG雌二醇凝胶（爱斯妥）','30g/支','21.08','支','比利时法杏制药厂','120','101','BGCECNJ（AST）','2019-03-01 00:00:00','10','','1'), ('2849','86979474000209','ω-3鱼油脂肪乳注射液(尤文)','100ml:10g:1.2g*1瓶/瓶','16.33','瓶','费森尤斯卡比（北京）医药有限公司','110','101','ω-3YYZFRZSY(YW)','2019-03-01 00:00:00','10','','1'), ('2850','86979474000208','注射用地西他滨(昕美)','50.000mg*1瓶/盒','25.70','盒','江苏豪盛药业股份有限公司','161','101','ZSYDXTB(ZM)','2019-03-01 00:00:00','10','','1'), ('2851','86979474000208','炮山甲颗粒','0.25g/5g/袋','14.50','袋','江阴天江药业有限公司','115','102','PSJKL','2019-03-01 00:00:00','10','','1'), ('2852','86979474000209','陈皮颗粒 ',' 1g/6g*1袋','48.67','袋','江阴天江药业有限公司','115','102','CPKL ','2019-03-01 00:00:00','10','','1'), ('2853','86979474000208','赤芍颗粒 ',' 1.5g/10g*1袋','4.60','袋','江阴天江药业有限公司','115','102','CSKL ','2019-03-01 00:00:00','10','','1'), ('2854','86979474000209','地氟烷（优宁）','240ml/瓶','10.43','瓶','Baxter Healthcare of Puerto Rico','156','101','DFW（YN）','2019-03-01 00:00:00','10','','1'), ('2855','86979474000208','依托咪酯乳状注射液(福尔利)','20.000mg*1支/支','0.18','支','江苏恩华药业股份有限公司','110','101','YTZZRZZSY(FEL)','2019-03-01 00:00:00','10','','1'), ('2856','86979474000208','碘普罗胺(优维显300)注射液','100.000ml：62.34g*1瓶/瓶','1.97','瓶','拜耳医药保健有限公司','110','101','DPLA(YWX300)ZSY','2019-03-01 00:00:00','10','','1'), ('2857','86979474000209','碘普罗胺(优维显370)注射液','100.000ml：76.89g*1瓶/瓶','3.47','瓶','拜耳医药保健有限公司','110','101','DPLA(YWX370)ZSY','2019-03-01 00:00:00','10','','1'), ('2858','86979474000208','LB注射用还原型谷胱甘肽钠（松泰斯）','1.200g*1支/盒','20.06','盒','昆明积大制药股份有限公司','161','101','LBZSYHYXGZGZN（STS）','2019-03-01 00:00:00','10','','1'), ('2859','86979474000209','维生素K1注射液','10.000mg*10支/盒','72.12','盒','隧成药业股份有限公司','110','101','WSSK1ZSY','2019-03-01 00:00:00','10','','1'), ('2860','86979474000208','丁酸氢化可的松乳膏(尤卓尔)','0.1%(30g:30mg)*1支','69.41','支','天津金耀药业有限公司','121','101','DSQHKDSRG(YZE)','2019-03-01 00:00:00','10','','1'), ('2861','86979474000208','二甲双胍维格列汀片(II)(宜合瑞)','850mg/50mg*30片/盒','14.69','盒','诺华制药（德国）','111','101','EJSZWGLTP(II)(YHR)','2019-03-01 00:00:00','10','','1'), ('2862','86979474000209','氢溴酸山莨菪碱注射液','10mg/支','18.65','支','成一制药','110','101','QZSSZZJZSY','2019-03-01 00:00:00','10','','1'), ('2863','86979474000208','门冬胰岛素50（诺和锐50笔芯）','300.000iu*1支/支','35.81','支','诺和诺德(中国)制药有限公司','110','101','MDYDS50（NHR50BX）','2019-03-01 00:00:00','10','','1'), ('2864','86979474000209','麦角新碱注射液','0.200mg*1ml/支','15.44','支','成都倍特药业有限公司','110','101','MJXJZSY','2019-03-01 00:00:00','10','','1'), ('2865','86979474000208','利奈唑胺（天礼）葡萄糖注射液','100.000ml：0.2g：5g*1瓶/瓶','16.41','瓶','正大天晴药业集团股份有限公司','110','101','LNZA（TL）PTTZSY','2019-03-01 00:00:00','10','','1'), ('2866','86979474000208','利巴韦林注射液','1ml：100.000mg*10支/盒','34.99','盒','天津金耀药业有限公司','110','101','LBWLZSY','2019-03-01 00:00:00','10','','1'), ('2867','86979474000209','胆宁片','0.360g*100粒/盒','5.59','盒','上海和黄药业','111','101','DNP','2019-03-01 00:00:00','10','','1'), ('2868','86979474000208','阿利沙坦酯片（信立坦）','240.000mg*7片/盒','5.68','盒','深圳信立泰药业股份有限公司','111','101','ALSTP（XLT）','2019-03-01 00:00:00','10','','1'), ('2869','86979474000209','氢化可的松注射液','2mL:10.000mg*10支/盒','15.98','盒','华中药业股份有限公司','110','101','QHKDSZSY','2019-03-01 00:00:00','10','','1'), ('2870','86979474000208','醒脾养儿颗粒','2.000g*18袋/盒','5.52','盒','贵州健兴药业有限公司','115','102','XPYEKL','2019-03-01 00:00:00','10','','1'), ('2871','86979474000208','恩替卡韦分散片(润众)','0.5mg*28片/盒','22.61','盒','正大天晴药业集团股份有限公司','123','101','ETKWFSP(RZ)','2019-03-01 00:00:00','10','','1'), ('2872','86979474000209','注射用比伐芦定(泰加宁)','0.25g*1瓶','6.40','瓶','深圳信立泰药业股份有限公司','110','101','ZSYBFLD(TJN)','2019-03-01 00:00:00','10','','1'), ('2873','86979474000208','乙酰半胱氨酸颗粒(富露施)','0.1g*10包/盒','45.33','盒','海南赞邦制药有限公司','115','102','YXBZASKL(FLS)','2019-03-01 00:00:00','10','','1'), ('2874','86979474000209','氨茶碱注射液','2ml：0.250g*10支/盒','28.56','盒','天津金耀药业有限公司','110','101','ACJZSY','2019-03-01 00:00:00','10','','1'), ('2875','86979474000208','甲苯磺酸拉帕替尼片（泰立沙）','0.250g*70片/盒','59.74','盒','葛兰素史克(天津)有限公司','111','101','JBHSLPTNP（TLS）','2019-03-01 00:00:00','10','','1'), ('2876','86979474000208','舒更葡糖钠注射液（布瑞亭）','2ml：200.000mg*1瓶/瓶','9.85','瓶','默沙东制药（美国）','110','101','SGPTNZSY（BRT）','2019-03-01 00:00:00','10','','1'), ('2877','86979474000209','茴三硫胶囊','25mg*16粒/盒','52.00','盒','成都国嘉联合制药有限公司','114','102','ZSLJN','2019-03-01 00:00:00','10','','1'), ('2878','86979474000208','碘克沙醇注射液','100.000ml：65.2g*1瓶/瓶','34.67','瓶','江苏恒瑞医药股份有限公司','110','101','DKSCZSY','2019-03-01 00:00:00','10','','1'), ('2879','86979474000209','碘克沙醇注射液（威视派克）','100.000ml：32g（I）*1瓶/瓶','1.18','瓶','通用电气药业 （上海）有限公司','110','101','DKSCZSY（WSPK）','2019-03-01 00:00:00','10','','1'), ('2880','86979474000208','谷精草','1000mg/g','23.86','克','','112','103','GJC','2019-03-01 00:00:00','10','','1'), ('2881','86979474000208','卷柏','1000mg/g','4.65','克','','112','103','JB','2019-03-01 00:00:00','10','','1'), ('2882','86979474000209','穿山龙','1000mg/g','12.83','克','','112','103','CSL','2019-03-01 00:00:00','10','','1'), ('2883','86979474000208','龙眼肉','1000mg/g','3.91','克','','112','103','LYR','2019-03-01 00:00:00','10','','1'), ('2884','86979474000209','莲子','1000mg/g','14.56','克','','112','103','LZ','2019-03-01 00:00:00','10','','1'), ('2885','86979474000208','炒蒲黄','1000mg/g','64.14','克','江苏','112','103','CPH','2019-03-01 00:00:00','10','','1'), ('2886','86979474000208','生麻黄','1000mg/g','2.65','克','山西普德药业股份有限公司','112','103','SMH','2019-03-01 00:00:00','10','','1'), ('2887','86979474000209','阿莫西林克拉维酸钾分散片(君尔清)','228.5mg*24片/盒','8.05','盒','鲁南贝特制药有限公司','123','101','AMXLKLWSJFSP(JEQ)','2019-03-01 00:00:00','10','','1'), ('2888','86979474000208','肉苁蓉颗粒 ','3.000g*1袋/袋','72.38','袋','江阴天江药业有限公司','115','102','RZRKL ','2019-03-01 00:00:00','10','','1'), ('2889','86979474000209','肉豆蔻颗粒 ','0.500g*10g/袋','15.65','袋','江阴天江药业有限公司','115','102','RDZKL ','2019-03-01 00:00:00','10','','1'), ('2890','86979474000208','肉桂颗粒 ','0.500g*1袋/袋','41.12','袋','江阴天江药业有限公司','115','102','RGKL ','2019-03-01 00:00:00','10','','1'), ('2891','86979474000208','三棱颗粒 ','0.5g/10g*1袋','50.56','袋','江阴天江药业有限公司','115','102','SLKL ','2019-03-01 00:00:00','10','','1'), ('2892','86979474000209','三七粉颗粒 ',' 3g/3g*1袋','5.82','袋','江阴天江药业有限公司','115','102','SQFKL ','2019-03-01 00:00:00','10','','1'), ('2893','86979474000208','桑白皮颗粒 ',' 2g/10g*1袋','21.66','袋','江阴天江药业有限公司','115','102','SBPKL ','2019-03-01 00:00:00','10','','1'), ('2894','86979474000209','桑寄生颗粒 ',' 1g/10g*1袋','1.56','袋','江阴天江药业有限公司','115','102','SJSKL ','2019-03-01 00:00:00','10','','1'), ('2895','86979474000208','胰激肽原酶肠溶片（怡开）','240.000iu*24片/盒','55.48','盒','常州千红生化制药股份有限公司','133','101','YJZYMCRP（ZK）','2019-03-01 00:00:00','10','','1'), ('2896','86979474000208','注射用头孢西丁钠（海西丁）','0.500g*1支/支','4.33','支','海口市制药厂有限公司','161','101','ZSYTZXDN（HXD）','2019-03-01 00:00:00','10','','1'), ('2897','86979474000209','前列地尔注射液（曼新妥）','2ml：10.000ug*1支/支','28.81','支','哈药集团生物工程有限公司','110','101','QLDEZSY（MXT）','2019-03-01 00:00:00','10','','1'), ('2898','86979474000208','紫杉醇注射液（特素）','5ml：30.000mg*1瓶/盒','24.71','盒','海口市制药厂有限公司','110','101','ZSCZSY（TS）','2019-03-01 00:00:00','10','','1'), ('2899','86979474000209','多种油脂肪乳注射液(C6~24)(合文)','250.000ml*1瓶/瓶','0.60','瓶','费森尤斯卡比','110','101','DZYZFRZSY(C6~24)(HW)','2019-03-01 00:00:00','10','','1'), ('2900','86979474000208','知柏地黄丸','0.170g*240粒/瓶','6.47','瓶','仲景宛西制药股份有限公司','163','102','ZBDHW','2019-03-01 00:00:00','10','','1');
-INSERT INTO `dms_drug` VALUES ('2901','86979474000208','逍遥丸','0.375g*240粒/瓶','36.17','瓶','仲景宛西制药股份有限公司','163','102','ZYW','2019-03-01 00:00:00','10','','1'), ('2902','86979474000209','明目地黄丸','0.375g*240粒/瓶','9.05','瓶','仲景宛西制药股份有限公司','163','102','MMDHW','2019-03-01 00:00:00','10','','1'), ('2903','86979474000208','归脾丸','0.375g*240粒/瓶','50.55','瓶','仲景宛西制药股份有限公司','163','102','GPW','2019-03-01 00:00:00','10','','1'), ('2904','86979474000209','补中益气丸','0.375g*240粒/瓶','44.58','瓶','仲景宛西制药股份有限公司','163','102','BZYQW','2019-03-01 00:00:00','10','','1'), ('2905','86979474000208','王氏保赤丸','60.000丸*12支/盒','0.82','盒','精华制药集团股份有限公司','163','102','WSBCW','2019-03-01 00:00:00','10','','1'), ('2906','86979474000208','注射用乳糖酸红霉素','25万单位:0.25g*1瓶','17.22','瓶','湖南科伦制药有限公司','110','101','ZSYRTSHMS','2019-03-01 00:00:00','10','','1'), ('2907','86979474000209','水飞蓟宾胶囊(水林佳)','35mg*30粒/盒','6.39','盒','天津天士力圣特制药有限公司','114','101','SFJBJN(SLJ)','2019-03-01 00:00:00','10','','1'), ('2908','86979474000208','注射用12种复合维生素(卫美佳)','1支*10支/盒','45.29','盒','山西普德药业股份有限公司','110','101','ZSY12ZFHWSS(WMJ)','2019-03-01 00:00:00','10','','1'), ('2909','86979474000209','多巴酚丁胺','20.000mg*1支/支','26.59','支','浙江瑞新药业股份有限公司','110','101','DBFDA','2019-03-01 00:00:00','10','','1'), ('2910','86979474000208','硝苯地平缓释片II(伲福达)','20mg*42片/盒','15.71','盒','青岛黄海制药有限责任公司','131','101','XBDPHSPII(ZFD)','2019-03-01 00:00:00','10','','1'), ('2911','86979474000208','盐酸奥洛他定滴眼液(帕坦洛)','5ml:5mg(0.1%)*1支','2.37','支','S.a.ALCon-couvr Eur.n.v','160','101','YSALTDDYY(PTL)','2019-03-01 00:00:00','10','','1'), ('2912','86979474000209','狂犬病人免疫球蛋白（蜀阳）','200.000iu*1瓶/盒','27.37','盒','四川远大蜀阳药业有限公司','110','101','KQBRMYQDB（SY）','2019-03-01 00:00:00','10','','1'), ('2913','86979474000208','胃乐宁薄膜衣片','0.54g*30片/盒','26.13','盒','南京老山药业股份有限公司','117','101','WLNBMYP','2019-03-01 00:00:00','10','','1'), ('2914','86979474000209','枸橼酸伊沙佐米胶囊（恩莱瑞）','4.000mg*3粒/盒','11.12','盒','Takeda GmbH Germany(德国）','114','101','ZZSYSZMJN（ELR）','2019-03-01 00:00:00','10','','1'), ('2915','86979474000208','盐酸罂粟碱注射液','1ml：30mg*1支/支','0.44','支','江苏恒瑞医药股份有限公司S','110','101','YSYSJZSY','2019-03-01 00:00:00','10','','1'), ('2916','86979474000208','重组人凝血因子ⅦA(诺其)','1mg*1支','48.98','支','丹麦诺和诺德公司','110','101','ZZRNXYZⅦA(NQ)','2019-03-01 00:00:00','10','','1'), ('2917','86979474000209','天花粉颗粒 ',' 1g/10g*1袋','15.88','袋','江阴天江药业有限公司','115','102','THFKL ','2019-03-01 00:00:00','10','','1'), ('2918','86979474000208','天麻颗粒 ',' 1g/6g*1袋','29.37','袋','江阴天江药业有限公司','115','102','TMKL ','2019-03-01 00:00:00','10','','1'), ('2919','86979474000209','羟苯磺酸钙（导升明）','0.5g*20粒/盒','32.38','盒','依比威药品有限公司奥地利','114','101','QBHSG（DSM）','2019-03-01 00:00:00','10','','1'), ('2920','86979474000208','复方血栓通胶囊','0.500g*36粒/盒','27.70','盒','广东众生药业股份有限公司','114','101','FFXSTJN','2019-03-01 00:00:00','10','','1'), ('2921','86979474000208','马应龙麝香痔疮膏','4.000g*6支/盒','7.65','盒','马应龙药业集团股份有限公司','121','101','MYLSXZCG','2019-03-01 00:00:00','10','','1'), ('2922','86979474000209','苯溴马隆片（立加利仙）','50.00mg*30片/盒','49.99','盒','德国赫曼大药厂(Excella GmbH)','111','101','BZMLP（LJLX）','2019-03-01 00:00:00','10','','1'), ('2923','86979474000208','维生素E软胶囊','100.00mg*60粒/盒','7.86','盒','浙江医药股份有限公司新昌制药厂','159','101','WSSERJN','2019-03-01 00:00:00','10','','1'), ('2924','86979474000209','注射用头孢西丁钠(信希汀)','3g*1支','53.19','支','深圳信立泰药业股份有限公司','110','101','ZSYTZXDN(XXT)','2019-03-01 00:00:00','10','','1'), ('2925','86979474000208','桑螵蛸颗粒 ',' 0.5g/10g*1袋','47.03','袋','江阴天江药业有限公司','115','102','SpZKL ','2019-03-01 00:00:00','10','','1'), ('2926','86979474000208','桑椹子颗粒 ',' 3g/10g*1袋','1.85','袋','江阴天江药业有限公司','115','102','SZZKL ','2019-03-01 00:00:00','10','','1'), ('2927','86979474000209','桑叶颗粒 ',' 1g/10g*1袋','10.52','袋','江阴天江药业有限公司','115','102','SYKL ','2019-03-01 00:00:00','10','','1'), ('2928','86979474000208','桑叶颗粒 ','1.000g*1袋/袋','5.31','袋','江阴天江药业有限公司','115','102','SYKL ','2019-03-01 00:00:00','10','','1'), ('2929','86979474000209','桑枝颗粒 ',' 0.5g/10g*1袋','5.36','袋','江阴天江药业有限公司','115','102','SZKL ','2019-03-01 00:00:00','10','','1'), ('2930','86979474000208','砂仁颗粒 ',' 0.5g/3g*1袋','32.05','袋','江阴天江药业有限公司','115','102','SRKL ','2019-03-01 00:00:00','10','','1'), ('2931','86979474000208','洛索洛芬钠贴剂(乐松)','50.000mg*3贴/盒','14.43','袋','第一三共制药（上海）有限公司','146','101','LSLFNTJ(LS)','2019-03-01 00:00:00','10','','1'), ('2932','86979474000209','地奈德乳膏（力言卓）','20.000g:10mg*1支/盒','77.64','盒','重庆华邦制药有限公司','121','101','DNDRG（LYZ）','2019-03-01 00:00:00','10','','1'), ('2933','86979474000208','灭菌注射用水','500.000ml*1瓶/瓶','11.31','瓶','石药银湖制药有限公司','110','101','MJZSYS','2019-03-01 00:00:00','10','','1'), ('2934','86979474000209','硫酸氨基葡萄糖胶囊(伊索佳)','0.314g(氨基葡萄糖0.25g)*24粒/盒','37.87','盒','浙江海正药业股份有限公司','114','101','LSAJPTTJN(YSJ)','2019-03-01 00:00:00','10','','1'), ('2935','86979474000208','丁二磺酸腺苷蛋氨酸肠溶片(喜美欣)','0.500g*10片/盒','3.60','盒','浙江海正药业股份有限公司','133','101','DEHSXZDASCRP(XMX)','2019-03-01 00:00:00','10','','1'), ('2936','86979474000208','注射用丁二磺酸腺苷蛋氨酸(喜美欣)','0.5g粉针+1支注射用溶剂*1支/支','2.44','支','浙江海正药业股份有限公司','161','101','ZSYDEHSXZDAS(XMX)','2019-03-01 00:00:00','10','','1'), ('2937','86979474000209','氯沙坦钾氢氯噻嗪片(海捷亚)','100.000mg/12.5mg*7片/盒','8.30','盒','默沙东制药（杭州）有限公司','111','101','LSTJQLZZP(HJY)','2019-03-01 00:00:00','10','','1'), ('2938','86979474000208','盐酸托烷司琼注射液(赛格恩)','2.000ml:2mg*1支/支','42.36','支','西南药业股份有限公司','110','101','YSTWSQZSY(SGE)','2019-03-01 00:00:00','10','','1'), ('2939','86979474000209','芪参益气滴丸','0.5g*15袋/盒','7.83','盒','天士力制药集团股份有限公司','154','102','ZCYQDW','2019-03-01 00:00:00','10','','1'), ('2940','86979474000208','葡萄糖酸钙注射液','1g*5支/盒','9.19','盒','扬州中宝制药','110','101','PTTSGZSY','2019-03-01 00:00:00','10','','1'), ('2941','86979474000208','马来酸氟伏沙明片（瑞必乐）','50mg*30片/盒','3.41','盒','丽珠集团丽珠制药厂','111','101','MLSFFSMP（RBL）','2019-03-01 00:00:00','10','','1'), ('2942','86979474000209','大枣','1000mg/g','22.03','克','','112','103','DZ','2019-03-01 00:00:00','10','','1'), ('2943','86979474000208','大株红景天注射液','5ml*1支','10.98','支','通化玉圣药业有限公司','110','101','DZHJTZSY','2019-03-01 00:00:00','10','','1'), ('2944','86979474000209','金樱子颗粒 ',' 3g/10g*1袋','10.46','袋','江阴天江药业有限公司','115','102','JYZKL ','2019-03-01 00:00:00','10','','1'), ('2945','86979474000208','胞二磷胆碱注射液','2ml:0.25g*1支','16.56','支','吉林百年汉克制药有限公司','110','101','BELDJZSY','2019-03-01 00:00:00','10','','1'), ('2946','86979474000208','富马酸福莫特罗粉吸入剂(平适)','12.00ug*30粒/盒','10.32','盒','正大天晴药业集团股份有限公司','156','101','FMSFMTLFXRJ(PS)','2019-03-01 00:00:00','10','','1'), ('2947','86979474000209','碘美普尔注射液(典迈伦)','100ml:40g(I)*1瓶/瓶','11.71','瓶','意大利Patheon Italia S.P.A','110','101','DMPEZSY(DML)','2019-03-01 00:00:00','10','','1'), ('2948','86979474000208','拉坦前列素滴眼液','2.5ml:125ug*1瓶/盒','14.67','盒','韩国Taejoon Pharm.CO.,LTD','160','101','LTQLSDYY','2019-03-01 00:00:00','10','','1'), ('2949','86979474000209','利伐沙班片(拜瑞妥)','15mg*7片/盒','6.63','盒','拜耳医药保健有限公司','111','101','LFSBP(BRT)','2019-03-01 00:00:00','10','','1'), ('2950','86979474000208','阿法骨化醇软胶囊(法能)','0.25ug*30粒/盒','50.96','盒','南通华山药业','114','101','AFGHCRJN(FN)','2019-03-01 00:00:00','10','','1'), ('2951','86979474000208','透骨草','1000mg/g','17.39','克',' 江苏','112','103','TGC','2019-03-01 00:00:00','10','','1'), ('2952','86979474000209','乌梅','1000mg/g','16.22','克','','112','103','WM','2019-03-01 00:00:00','10','','1'), ('2953','86979474000208','甘霖洗剂','230ml*1瓶/瓶','3.46','瓶','杭州易舒特药业','142','101','GLXJ','2019-03-01 00:00:00','10','','1'), ('2954','86979474000209','结合雌激素片（红丽来）','0.625mg*28片/盒','7.33','盒','新疆','111','101','JHCJSP（HLL）','2019-03-01 00:00:00','10','','1'), ('2955','86979474000208','注射用苯巴比妥钠','0.100g*1瓶/瓶','23.11','瓶','上海上药新亚药业有限公司','161','101','ZSYBBBTN','2019-03-01 00:00:00','10','','1'), ('2956','86979474000208','奥氮平片（欧兰宁）','5.000mg*14片/盒','68.82','盒','江苏豪森药业股份有限公司S','111','101','ADPP（OLN）','2019-03-01 00:00:00','10','','1'), ('2957','86979474000209','利奈唑胺(恒捷)葡萄糖注射液','100ml：0.200g*1瓶/瓶','1.82','瓶','江苏豪森药业股份有限公司S','110','101','LNZA(HJ)PTTZSY','2019-03-01 00:00:00','10','','1'), ('2958','86979474000208','吸入用乙酰半胱氨酸溶液(富露施）','0.300g：3ml*5支/盒','27.77','盒','Zambon S.P.A','119','101','XRYYXBZASRY(FLS）','2019-03-01 00:00:00','10','','1'), ('2959','86979474000209','维A酸片（艾力可）','20.000mg*10片/盒','12.92','盒','山东良福制药有限公司','111','101','WASP（ALK）','2019-03-01 00:00:00','10','','1'), ('2960','86979474000208','帕拉米韦氯化钠注射液（力纬）','0.150g：100ml*1瓶/盒','62.34','盒','广州南新制药厂','110','101','PLMWLHNZSY（LW）','2019-03-01 00:00:00','10','','1'), ('2961','86979474000208','帕拉米韦氯化钠注射液（力纬）','0.300g：100ml*1瓶/盒','0.84','盒','广州南新制药厂','110','101','PLMWLHNZSY（LW）','2019-03-01 00:00:00','10','','1'), ('2962','86979474000209','瓜蒌仁','1000mg/g','23.73','克','','112','103','GZR','2019-03-01 00:00:00','10','','1'), ('2963','86979474000208','盐酸利多卡因注射液','5ml：0.100g*5支/盒','43.51','盒','上海朝辉药业有限公司','110','101','YSLDKYZSY','2019-03-01 00:00:00','10','','1'), ('2964','86979474000209','注射用戈那瑞林','100.000ug*1瓶/瓶','5.83','瓶','马鞍山丰原','161','101','ZSYGNRL','2019-03-01 00:00:00','10','','1'), ('2965','86979474000208','甲紫溶液','20.000ml*1瓶/瓶','41.00','瓶','河北健宁药业有限公司','119','101','JZRY','2019-03-01 00:00:00','10','','1'), ('2966','86979474000208','盐酸甲哌卡因/肾上腺素（斯康杜尼）注射液','1.800ml*1支/支','0.79','支','','110','101','YSJZKY/SSXS（SKDN）ZSY','2019-03-01 00:00:00','10','','1');
+INSERT INTO `dms_drug` VALUES ('1','86979474000208','注射用甲氨喋呤','1g×1支','15.73','支','江苏恒瑞医药股份有限公司','110','101','ZSYJAZZ','2019-03-01 00:00:00','10','','1','0'), ('2','86979474000209','氟康唑氯化钠注射液','200mg×100ml/瓶','7.01','瓶','辉瑞制药有限公司','110','101','FKZLHNZSY(DFK)','2019-03-01 00:00:00','10','大扶康','1','0'), ('3','86979474000208','50%葡萄糖注射液','10:20ml×1支','25.16','支','中国大冢制药有限公司','110','101','PTTZSY(SP)','2019-03-01 00:00:00','10','塑瓶','1','0'), ('4','86979474000209','盐酸特比萘芬阴道泡腾片','50mg×7片/盒','40.62','盒','齐鲁制药有限公司','111','101','YSTBZFYDPTP（DK）','2019-03-01 00:00:00','10','丁克','1','0'), ('5','86979474000208','红芪','10g/袋','30.79','袋','南京药业股份有限公司药材分公司','112','103','HZ','2019-03-01 00:00:00','10','','1','0'), ('6','86979474000208','盐酸氨酮戊酸散（外用）','118mg×1瓶','19.51','瓶','上海复旦张江生物医药股份有限公司','113','101','YSATWSS（WY）','2019-03-01 00:00:00','10','','1','0'), ('7','86979474000209','盐酸美金刚片','10mg×28片/盒','22.05','盒','丹麦灵北药厂','111','101','YSMJGP(YBS)','2019-03-01 00:00:00','10','易贝申','1','0'), ('8','86979474000208','磷酸奥司他韦胶囊','75mg×10粒/盒','60.96','盒','上海罗氏制药有限公司S','114','101','LSASTWJN(DF)','2019-03-01 00:00:00','10','达菲','1','0'), ('9','86979474000209','泽泻颗粒','1g/10g/袋','0.09','袋','江阴天江药业有限公司','115','102','ZXKL','2019-03-01 00:00:00','10','','1','0'), ('10','86979474000208','山药颗粒','0.5g/10g/袋','6.79','袋','','115','102','SYKL','2019-03-01 00:00:00','10','','1','0'), ('11','86979474000208','熟大黄颗粒','1g/6g/袋','23.51','袋','江阴天江药业有限公司','115','102','SDHKL','2019-03-01 00:00:00','10','','1','0'), ('12','86979474000209','黄连颗粒','0.5g/3g袋','1.07','袋','江阴天江药业有限公司','115','102','HLKL','2019-03-01 00:00:00','10','','1','0'), ('13','86979474000208','黄芩颗粒(酒)','2g/10g/袋','81.74','袋','江阴天江药业有限公司','115','102','HZKL(J)','2019-03-01 00:00:00','10','','1','0'), ('14','86979474000209','炒白芍颗粒','1g/10g/袋','31.86','袋','江阴天江药业有限公司','115','102','CBSKL','2019-03-01 00:00:00','10','','1','0'), ('15','86979474000208','炒白术颗粒','3g/10g/袋','41.50','袋','','115','102','CBSKL','2019-03-01 00:00:00','10','','1','0'), ('16','86979474000208','白芷颗粒','1g/6g/袋','67.72','袋','江阴天江药业有限公司','115','102','BZKL','2019-03-01 00:00:00','10','','1','0'), ('17','86979474000209','薤白颗粒','2.5g/10g袋','17.95','袋','江阴天江药业有限公司','115','102','ZBKL','2019-03-01 00:00:00','10','','1','0'), ('18','86979474000208','川芎颗粒','2g/6g/袋','0.70','袋','','115','102','CZKL','2019-03-01 00:00:00','10','','1','0'), ('19','86979474000209','维生素K1注射液','1ml:10mg×10支/盒','10.39','盒','芜湖康奇制药','110','101','WSSK1ZSY','2019-03-01 00:00:00','10','','1','0'), ('20','86979474000208','利培酮片','1mg×20片/盒','5.52','盒','西安杨森制药有限公司','111','101','LPTP（WST）','2019-03-01 00:00:00','10','维思通','1','0'), ('21','86979474000208','0.9%氯化钠注射液(塑瓶)','2.25g:250ml×1瓶','14.34','瓶','中国大冢制药有限公司','110','101','0.9%LHNZSY(SP)','2019-03-01 00:00:00','10','','1','0'), ('22','86979474000209','0.9%氯化钠注射液（百特）','500ml×1袋','46.91','瓶','上海百特医疗用品有限公司','110','101','0.9%LHNZSY（BT）','2019-03-01 00:00:00','10','','1','0'), ('23','86979474000208','0.9%氯化钠注射液(塑瓶)','0.9g:100ml×1瓶','6.34','瓶','中国大冢制药有限公司','110','101','0.9%LHNZSY(SP)','2019-03-01 00:00:00','10','','1','0'), ('24','86979474000209','10%葡萄糖注射液(塑瓶)','50g:500ml×1瓶','5.04','瓶','中国大冢制药有限公司','110','101','10%PTTZSY(SP)','2019-03-01 00:00:00','10','','1','0'), ('25','86979474000208','10%葡萄糖注射液(塑瓶)','25g:250ml×1瓶','16.02','袋','中国大冢制药有限公司','110','101','10%PTTZSY(SP)','2019-03-01 00:00:00','10','','1','0'), ('26','86979474000208','5%葡萄糖注射液(塑瓶)','25g:500ml×1瓶','47.78','瓶','中国大冢制药有限公司','110','101','5%PTTZSY(SP)','2019-03-01 00:00:00','10','','1','0'), ('27','86979474000209','5%葡萄糖注射液(塑瓶)','12.5g:250ml×1瓶','45.62','瓶','中国大冢制药有限公司','110','101','5%PTTZSY(SP)','2019-03-01 00:00:00','10','','1','0'), ('28','86979474000208','5%葡萄糖注射液(塑瓶)','5g:100ml×1瓶','17.53','瓶','中国大冢制药有限公司','110','101','5%PTTZSY(SP)','2019-03-01 00:00:00','10','','1','0'), ('29','86979474000209','胃苏颗粒','5g*9袋/盒','1.73','盒','扬子江药业集团有限公司','115','102','WSKL','2019-03-01 00:00:00','10','','1','0'), ('30','86979474000208','复方甘露醇注射液','250ml×1袋','15.56','袋','南京正大天晴制药有限公司','110','101','FFGLCZSY(SN)','2019-03-01 00:00:00','10','伸宁','1','0'), ('31','86979474000208','艾塞那肽注射液(百泌达)','5ug:1.2ml×1支','23.71','支','礼来（美国）公司S','110','101','ASNZZSY(BMD)','2019-03-01 00:00:00','10','','1','0'), ('32','86979474000209','艾塞那肽注射液(百泌达)','10ug:2.4ml×1支','91.92','支','礼来（美国）公司','110','101','ASNZZSY(BMD)','2019-03-01 00:00:00','10','','1','0'), ('33','86979474000208','丹参颗粒','2g/10g/袋','11.61','袋','江阴天江药业有限公司','115','102','DCKL','2019-03-01 00:00:00','10','','1','0'), ('34','86979474000209','亮菌甲素注射液','10ml:5mg×1支','62.41','支','云南大理药业股份有限公司','110','101','LJJSZSY','2019-03-01 00:00:00','10','','1','0'), ('35','86979474000208','瞿麦','1000mg/g','43.84','克','江苏','112','103','ZM','2019-03-01 00:00:00','10','','1','0'), ('36','86979474000208','肠内营养粉剂','1000mg/g','3.12','克','雅培荷兰','116','101','CNYYFJ(AS)','2019-03-01 00:00:00','10','安素','1','0'), ('37','86979474000209','桉叶油','1000g/瓶','3.40','瓶','吉水同仁','157','101','ZYY','2019-03-01 00:00:00','10','','1','0'), ('38','86979474000208','肉苁蓉','1000mg/g','51.82','克','内蒙','112','103','RZR','2019-03-01 00:00:00','10','','1','0'), ('39','86979474000209','番木鳖酊','1000mg/g','16.84','克','','157','101','FMBJ','2019-03-01 00:00:00','10','','1','0'), ('40','86979474000208','枸橼酸芬太尼注射液','0.1mg×1支','19.42','支','湖北宜昌人福药业','110','101','ZZSFTNZSY','2019-03-01 00:00:00','10','','1','0'), ('41','86979474000208','枸橼酸芬太尼注射液','0.5mg×1支','2.66','支','宜昌人福药业有限责任公司','110','101','ZZSFTNZSY','2019-03-01 00:00:00','10','','1','0'), ('42','86979474000209','酚红(AR)','25g×1瓶','13.43','瓶','江西济民可信药业有限公司','157','101','FH(AR)','2019-03-01 00:00:00','10','','1','0'), ('43','86979474000208','酚红IND','25g×1瓶','4.07','瓶','','157','101','FHIND','2019-03-01 00:00:00','10','','1','0'), ('44','86979474000209','酚酞','25g×1瓶','10.42','瓶','','157','101','FT','2019-03-01 00:00:00','10','','1','0'), ('45','86979474000208','蜂蜡','500g×1瓶','3.47','瓶','华申康复','157','101','FL','2019-03-01 00:00:00','10','','1','0'), ('46','86979474000208','呋喃西林','25g×1袋','37.75','袋','','157','101','ZZXL','2019-03-01 00:00:00','10','','1','0'), ('47','86979474000209','氯雷他定糖浆','60ml：60mg×1瓶','72.62','瓶','上海先灵葆雅制药有限公司','158','101','LLTDTJ(KRT)','2019-03-01 00:00:00','10','开瑞坦','1','0'), ('48','86979474000208','丙泊酚注射液','50ml：0.5g×1瓶','2.23','瓶','阿斯利康制药有限公司','110','101','BBFZSY(DPLM)','2019-03-01 00:00:00','10','得普利麻','1','0'), ('49','86979474000209','BG维生素E软胶囊','0.1g×30粒/盒','11.03','盒','浙江医药新昌制药厂','159','101','BGWSSERJN','2019-03-01 00:00:00','10','','1','0'), ('50','86979474000208','贝前列素钠片','20ug×10片/盒','30.09','盒','北京泰德制药股份有限公司','111','101','BQLSNP','2019-03-01 00:00:00','10','','1','0'), ('51','86979474000208','盐酸伊立替康注射液','5ml:100mg×1瓶','7.42','瓶','辉瑞制药','110','101','YSYLTKZSY(KPT）','2019-03-01 00:00:00','10','开普拓','1','0'), ('52','86979474000209','磺胺(AR)','100g×1瓶','1.72','瓶','','157','101','HA(AR)','2019-03-01 00:00:00','10','','1','0'), ('53','86979474000208','白附子','1000mg/g','31.83','克','','112','103','BFZ','2019-03-01 00:00:00','10','','1','0'), ('54','86979474000209','白癫风胶囊','1000mg/g','3.41','克','天津宏仁堂药业有限公司','114','101','BZFJN','2019-03-01 00:00:00','10','','1','0'), ('55','86979474000208','奋乃静片','2mg×100片/瓶','0.54','瓶','上海朝晖药业有限公司','111','101','FNJP','2019-03-01 00:00:00','10','','1','0'), ('56','86979474000208','注射用头孢他啶','1g×1支','8.05','支','葛兰素史克制药(苏州)有限公司','110','101','ZSYTZTZ(FDX)','2019-03-01 00:00:00','10','复达欣','1','0'), ('57','86979474000209','复方氨基酸(绿支安)18AA注射液','10.3%200ml×1瓶','49.18','瓶','广州绿十字制药有限公司','110','101','FFAJS(LZA)18AAZSY','2019-03-01 00:00:00','10','','1','0'), ('58','86979474000208','吡诺克辛滴眼液','5ml×1支','51.24','支','日本参天制药株式会社','160','101','ZNKXDYY(KL-U)','2019-03-01 00:00:00','10','卡林-U','1','0'), ('59','86979474000209','卡巴胆碱注射液','0.1mg×1支','5.23','支','山东正大福瑞达制药有限公司','160','101','KBDJZSY（KMKL）','2019-03-01 00:00:00','10','卡米可林','1','0'), ('60','86979474000208','重组人粒细胞(特尔立)巨噬细胞集落冻干粉针','150ug×1瓶','32.97','瓶','夏门特宝生物工程股份有限公司','161','101','ZZRLXB(TEL)JSXBJLDGFZ','2019-03-01 00:00:00','10','','1','0'), ('61','86979474000208','哌拉西林他唑巴坦钠','4.5g×1支','50.50','支','惠氏制药有限公司','110','101','ZLXLTZBTN(TZX)','2019-03-01 00:00:00','10','特治星','1','0'), ('62','86979474000209','地黄颗粒','3g/10g/袋','5.48','袋','江阴天江药业有限公司','115','102','DHKL','2019-03-01 00:00:00','10','','1','0'), ('63','86979474000208','当归颗粒','4g/10g/袋','68.19','袋','江阴天江药业有限公司','115','102','DGKL','2019-03-01 00:00:00','10','','1','0'), ('64','86979474000209','维生素B1注射液','2ml:100mg×10支/盒','12.70','盒','杭州民生药业有限公司','110','101','WSSB1ZSY','2019-03-01 00:00:00','10','','1','0'), ('65','86979474000208','芒硝颗粒','10g/4g/袋','13.00','袋','江阴天江药业有限公司','115','102','MXKL','2019-03-01 00:00:00','10','','1','0'), ('66','86979474000208','生大黄颗粒','1g:3g/袋','30.87','袋','江阴天江药业有限公司','115','102','SDHKL','2019-03-01 00:00:00','10','','1','0'), ('67','86979474000209','虎杖颗粒','1g/15g/袋','23.76','袋','江阴天江药业有限公司','115','102','HZKL','2019-03-01 00:00:00','10','','1','0'), ('68','86979474000208','鱼腥草颗粒','1g/15g/袋','14.89','袋','江阴天江药业有限公司','115','102','YXCKL','2019-03-01 00:00:00','10','','1','0'), ('69','86979474000209','苦参颗粒','1g/10g/袋','1.39','袋','江阴天江药业有限公司','115','102','KCKL','2019-03-01 00:00:00','10','','1','0'), ('70','86979474000208','硫酸镁注射液','10ml:2.5g×5支/盒','42.29','盒','杭州民生药业有限公司','110','101','LSMZSY','2019-03-01 00:00:00','10','','1','0'), ('71','86979474000208','胡黄连','1000mg/g','37.20','克','进口','112','103','HHL','2019-03-01 00:00:00','10','','1','0'), ('72','86979474000209','虎杖','1000mg/g','16.01','克','江苏','112','103','HZ','2019-03-01 00:00:00','10','','1','0'), ('73','86979474000208','聚桂醇注射液','10ml:100mg×1支/盒','12.87','盒','陕西天宇制药有限公司S','110','101','JGCZSY','2019-03-01 00:00:00','10','','1','0'), ('74','86979474000209','康肤冲剂(I)','20g×10袋/盒','33.74','盒','南京市中西医结合医院','162','102','KFCJ(I)','2019-03-01 00:00:00','10','','1','0'), ('75','86979474000208','注射用头孢哌酮舒巴坦','1.5g×1瓶','2.07','瓶','辉瑞制药有限公司（大连）','110','101','ZSYTZZTSBT(SPS)','2019-03-01 00:00:00','10','舒普深','1','0'), ('76','86979474000208','清热通淋片','0.39g*48片/盒','19.18','盒','江西杏林白马药业有限公司','111','101','QRTLP','2019-03-01 00:00:00','10','','1','0'), ('77','86979474000209','康莱特注射液','10g×100ml/瓶','11.36','瓶','浙江康莱特药业有限公司','110','101','KLTZSY','2019-03-01 00:00:00','10','','1','0'), ('78','86979474000208','山茨菇','1000mg/g','70.02','克',' 贵州','112','103','SCG','2019-03-01 00:00:00','10','','1','0'), ('79','86979474000209','马来酸桂哌齐特注射液','80mg×1支','67.66','支','北京四环制药有限公司','110','101','MLSGZQTZSY(KLA)','2019-03-01 00:00:00','10','克林澳','1','0'), ('80','86979474000208','氯化镁','500g×1瓶','6.25','瓶','北京','157','101','LHM','2019-03-01 00:00:00','10','','1','0'), ('81','86979474000208','呋塞米注射液','2ml:20mg×10支/盒','5.63','盒','上海禾丰制药有限公司','110','101','ZSMZSY(SN)','2019-03-01 00:00:00','10','速尿','1','0'), ('82','86979474000209','注射用奈达铂','10mg×1支','9.04','支','江苏奥赛康药业股份有限公司','110','101','ZSYNDB（AXD）','2019-03-01 00:00:00','10','奥先达','1','0'), ('83','86979474000208','注射用夫西地酸钠','0.125g×1支','44.97','支','G成都天台山制药有限公司','110','101','ZSYFXDSN','2019-03-01 00:00:00','10','','1','0'), ('84','86979474000209','阳起石','1000mg/g','25.38','克','','112','103','YQS','2019-03-01 00:00:00','10','','1','0'), ('85','86979474000208','铜绿假单胞菌注射液','1ml×1支','37.76','支','北京万特尔生物制药有限公司','110','101','TLJDBJZSY','2019-03-01 00:00:00','10','','1','0'), ('86','86979474000208','盐酸氟西汀胶囊','20mg×7粒/盒','15.61','盒','礼来苏州制药有限公司','111','101','YSFXTJN(BYJ)','2019-03-01 00:00:00','10','百忧解','1','0'), ('87','86979474000209','10%氯化钠注射液','10ml:1g×5支/盒','4.50','盒','湖北天圣康迪制药有限公司','110','101','10%LHNZSY','2019-03-01 00:00:00','10','','1','0'), ('88','86979474000208','注射用替考拉宁','200mg×1瓶','14.21','瓶','赛诺菲(北京)制药有限公司','110','101','ZSYTKLN(TGS)','2019-03-01 00:00:00','10','他格适','1','0'), ('89','86979474000209','石决明','1000mg/g','10.74','克',' 进口','112','103','SJM','2019-03-01 00:00:00','10','','1','0'), ('90','86979474000208','石榴皮','1000mg/g','9.49','克','','112','103','SLP','2019-03-01 00:00:00','10','','1','0'), ('91','86979474000208','熟地','1000mg/g','55.10','克','江苏','112','103','SD','2019-03-01 00:00:00','10','','1','0'), ('92','86979474000209','水牛角片','1000mg/g','5.68','克','江苏','112','103','SNJP','2019-03-01 00:00:00','10','','1','0'), ('93','86979474000208','水蜈蚣','1000mg/g','2.20','克','','112','103','SZZ','2019-03-01 00:00:00','10','','1','0'), ('94','86979474000209','水蛭','1000mg/g','71.56','克','江苏','112','103','SZ','2019-03-01 00:00:00','10','','1','0'), ('95','86979474000208','苏梗','1000mg/g','17.14','克','江苏','112','103','SG','2019-03-01 00:00:00','10','','1','0'), ('96','86979474000208','苏木','1000mg/g','34.06','克','','112','103','SM','2019-03-01 00:00:00','10','','1','0'), ('97','86979474000209','太子参','1000mg/g','28.50','克',' 江苏','112','103','TZC','2019-03-01 00:00:00','10','','1','0'), ('98','86979474000208','檀香','1000mg/g','1.48','克','20101116','112','103','TX','2019-03-01 00:00:00','10','','1','0'), ('99','86979474000209','桃仁','1000mg/g','41.29','克','陕西','112','103','TR','2019-03-01 00:00:00','10','','1','0'), ('100','86979474000208','天冬','1000mg/g','38.04','克','湖北','112','103','TD','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('101','86979474000208','天花粉','1000mg/g','18.39','克',' 江苏','112','103','THF','2019-03-01 00:00:00','10','','1','0'), ('102','86979474000209','天龙','1000mg/g','5.55','克','','112','103','TL','2019-03-01 00:00:00','10','','1','0'), ('103','86979474000208','天麻','1000mg/g','74.30','克','','112','103','TM','2019-03-01 00:00:00','10','','1','0'), ('104','86979474000209','天竹黄','1000mg/g','47.82','克','上海','112','103','TZH','2019-03-01 00:00:00','10','','1','0'), ('105','86979474000208','复方α-酮酸片','0.63g×100片/瓶','69.13','瓶','北京万生药业有限责任公司','111','101','FFα-TSP','2019-03-01 00:00:00','10','','1','0'), ('106','86979474000208','小牛脾提取物注射液','2ml：5mg×1支','3.88','支','吉林敖东洮南药业股份有限公司S','110','101','XNPTQWZSY','2019-03-01 00:00:00','10','','1','0'), ('107','86979474000209','血液保存液I','500ml×1袋','1.99','袋','四川南格尔生物医学股份有限公司','110','101','XYBCYI','2019-03-01 00:00:00','10','','1','0'), ('108','86979474000208','注射用吉西他滨(泽菲)','0.2g×1支','17.15','支','江苏豪森药业股份有限公司','110','101','ZSYJXTB(ZF)','2019-03-01 00:00:00','10','','1','0'), ('109','86979474000209','注射用吉西他滨(泽菲）','1g×1支','9.59','支','江苏豪森药业股份有限公司','110','101','ZSYJXTB(ZF）','2019-03-01 00:00:00','10','','1','0'), ('110','86979474000208','泽桂癃爽胶囊','0.44g*24粒/盒','26.15','盒','正大天晴药业集团股份有限公司','163','102','ZGZSJN','2019-03-01 00:00:00','10','','1','0'), ('111','86979474000208','白丑','1000mg/g','4.99','克','','112','103','BC','2019-03-01 00:00:00','10','','1','0'), ('112','86979474000209','白附片','1000mg/g','57.28','克','','112','103','BFP','2019-03-01 00:00:00','10','','1','0'), ('113','86979474000208','白花蛇舌草','1000mg/g','1.13','克','福建','112','103','BHSSC','2019-03-01 00:00:00','10','','1','0'), ('114','86979474000209','白芨','1000mg/g','62.86','克','山东','112','103','BZ','2019-03-01 00:00:00','10','','1','0'), ('115','86979474000208','白蒺藜','1000mg/g','25.89','克','','112','103','BZZ','2019-03-01 00:00:00','10','','1','0'), ('116','86979474000208','党参颗粒','3g/10g/袋','10.07','袋','江阴天江药业有限公司','115','102','DCKL','2019-03-01 00:00:00','10','','1','0'), ('117','86979474000209','蓝芩口服液','10ml×12支/盒','10.02','盒','扬子江药业集团有限公司','164','102','LZKFY','2019-03-01 00:00:00','10','','1','0'), ('118','86979474000208','麦考酚钠肠溶片(米芙)','180mg×50片/盒','3.57','盒','诺华制药（瑞士）','111','101','MKFNCRP(MZ)','2019-03-01 00:00:00','10','','1','0'), ('119','86979474000209','墓头茴','1000mg/g','20.81','克','南京药业股份有限公司','112','103','MTZ','2019-03-01 00:00:00','10','','1','0'), ('120','86979474000208','B-甘油磷酸钠','250g/瓶','23.71','瓶','','157','101','B-GYLSN','2019-03-01 00:00:00','10','','1','0'), ('121','86979474000208','注射用亮丙瑞林(抑那通)','3.75mg×1支','14.01','支','天津武田药品有限公司','110','101','ZSYLBRL(YNT)','2019-03-01 00:00:00','10','','1','0'), ('122','86979474000209','多糖铁复合物胶囊(力蜚能)','150mg×10粒/盒','79.18','盒','美国克雷默斯医药股份有限公司','114','101','DTTFHWJN(LZN)','2019-03-01 00:00:00','10','','1','0'), ('123','86979474000208','墨旱连','1000mg/g','14.45','克',' 江苏','112','103','MHL','2019-03-01 00:00:00','10','','1','0'), ('124','86979474000209','牡蛎（煅）','1000mg/g','25.69','克','江苏','112','103','MZ（Z）','2019-03-01 00:00:00','10','','1','0'), ('125','86979474000208','木瓜','1000mg/g','47.24','克','安徽同路生物','112','103','MG','2019-03-01 00:00:00','10','','1','0'), ('126','86979474000208','木蝴蝶','1000mg/g','3.74','克','云南1','112','103','MHD','2019-03-01 00:00:00','10','','1','0'), ('127','86979474000209','炙瓜蒌皮','1000mg/g','2.00','克',' 江苏','112','103','ZGZP','2019-03-01 00:00:00','10','','1','0'), ('128','86979474000208','炙黄精','1000mg/g','11.18','克','安徽','112','103','ZHJ','2019-03-01 00:00:00','10','','1','0'), ('129','86979474000209','炙黄芪','1000mg/g','5.56','克','山西普德药业股份有限公司','112','103','ZHZ','2019-03-01 00:00:00','10','','1','0'), ('130','86979474000208','炙麻黄','1000mg/g','6.20','克','山西普德药业股份有限公司','112','103','ZMH','2019-03-01 00:00:00','10','','1','0'), ('131','86979474000208','炙桑白皮','1000mg/g','30.88','克','江苏','112','103','ZSBP','2019-03-01 00:00:00','10','','1','0'), ('132','86979474000209','炙首乌','1000mg/g','8.66','克','江苏','112','103','ZSW','2019-03-01 00:00:00','10','','1','0'), ('133','86979474000208','炙远志','1000mg/g','42.73','克','内蒙','112','103','ZYZ','2019-03-01 00:00:00','10','','1','0'), ('134','86979474000209','炙紫苑','1000mg/g','3.12','克','江苏','112','103','ZZY','2019-03-01 00:00:00','10','','1','0'), ('135','86979474000208','朱砂','1000mg/g','17.28','克','','112','103','ZS','2019-03-01 00:00:00','10','','1','0'), ('136','86979474000208','猪苓','1000mg/g','88.80','克','山西普德药业股份有限公司','112','103','ZZ','2019-03-01 00:00:00','10','','1','0'), ('137','86979474000209','竹茹','1000mg/g','1.00','克','江苏','112','103','ZR','2019-03-01 00:00:00','10','','1','0'), ('138','86979474000208','竹叶','1000mg/g','14.40','克','西南制药二厂','112','103','ZY','2019-03-01 00:00:00','10','','1','0'), ('139','86979474000209','紫草','1000mg/g','44.75','克','新疆','112','103','ZC','2019-03-01 00:00:00','10','','1','0'), ('140','86979474000208','丹参','1000mg/g','22.13','克','','112','103','DC','2019-03-01 00:00:00','10','','1','0'), ('141','86979474000208','紫河车','1000mg/g','32.47','克','','112','103','ZHC','2019-03-01 00:00:00','10','','1','0'), ('142','86979474000209','紫苏叶','1000mg/g','22.64','克','江苏','112','103','ZSY','2019-03-01 00:00:00','10','','1','0'), ('143','86979474000208','铁树叶','1000mg/g','16.92','克','','112','103','TSY','2019-03-01 00:00:00','10','','1','0'), ('144','86979474000209','葶苈子','1000mg/g','17.74','克',' 甘肃','112','103','ZZZ','2019-03-01 00:00:00','10','','1','0'), ('145','86979474000208','土茯苓','1000mg/g','30.32','克',' 浙江','112','103','TZZ','2019-03-01 00:00:00','10','','1','0'), ('146','86979474000208','土荆皮','1000mg/g','39.04','克','','112','103','TJP','2019-03-01 00:00:00','10','','1','0'), ('147','86979474000209','营养琼脂','250g×1瓶','30.55','瓶','','157','101','YYQZ','2019-03-01 00:00:00','10','','1','0'), ('148','86979474000208','地西泮注射液(安定)','2ml:10mg×10支/盒','10.25','盒','天津金耀氨基酸有限公司','110','101','DXZZSY(AD)','2019-03-01 00:00:00','10','','1','0'), ('149','86979474000209','盐酸普罗帕酮(心律平)片','50mg×50片/瓶','38.50','瓶','南京白敬宇制药有限责任公司','111','101','YSPLPT(XLP)P','2019-03-01 00:00:00','10','','1','0'), ('150','86979474000208','硝苯地平(心痛定)片','10mg×100片/瓶','12.54','瓶','南京白敬宇制药有限责任公司','111','101','XBDP(XTD)P','2019-03-01 00:00:00','10','','1','0'), ('151','86979474000208','呋喃硫胺(新维生素B1)片','25mg×100片/瓶','55.36','瓶','杭州民生药业有限公司','111','102','ZZLA(XWSSB1)P','2019-03-01 00:00:00','10','','1','0'), ('152','86979474000209','溴吡斯的明片','60mg×60片/瓶','43.73','瓶','上海中西三维药业有限公司','111','102','ZZSDMP','2019-03-01 00:00:00','10','','1','0'), ('153','86979474000208','山豆根','1000mg/g','17.06','克','','112','103','SDG','2019-03-01 00:00:00','10','','1','0'), ('154','86979474000209','山药','1000mg/g','9.45','克',' 河南','112','103','SY','2019-03-01 00:00:00','10','','1','0'), ('155','86979474000208','山芋肉','1000mg/g','25.84','克','河南','112','103','SYR','2019-03-01 00:00:00','10','','1','0'), ('156','86979474000208','商陆','1000mg/g','68.98','克','江苏','112','103','SL','2019-03-01 00:00:00','10','','1','0'), ('157','86979474000209','氯雷他定片(开瑞坦)','10mg×6片/盒','4.34','盒','上海先灵葆雅制药有限公司','111','101','LLTDP(KRT)','2019-03-01 00:00:00','10','','1','0'), ('158','86979474000208','拉米夫定片(贺普丁)','100mg×14片/盒','20.28','盒','葛兰素史克制药(苏州)有限公司8','117','101','LMFDP(HPD)','2019-03-01 00:00:00','10','','1','0'), ('159','86979474000209','来曲唑片(芙瑞)','2.5mg×10片/盒','3.82','盒','江苏恒瑞医药股份有限公司','111','101','LQZP(ZR)','2019-03-01 00:00:00','10','','1','0'), ('160','86979474000208','玄明粉','1000mg/g','0.28','克','江苏','112','103','XMF','2019-03-01 00:00:00','10','','1','0'), ('161','86979474000208','旋复花','1000mg/g','53.02','克',' 河南','112','103','XFH','2019-03-01 00:00:00','10','','1','0'), ('162','86979474000209','血竭','1000mg/g','18.62','克','','112','103','XJ','2019-03-01 00:00:00','10','','1','0'), ('163','86979474000208','血余炭','1000mg/g','76.89','克','','112','103','XYT','2019-03-01 00:00:00','10','','1','0'), ('164','86979474000209','寻骨风','1000mg/g','30.89','克','','112','103','YGF','2019-03-01 00:00:00','10','','1','0'), ('165','86979474000208','四丁基溴化铵','100g×1瓶','26.67','瓶','','157','101','SDJZHZ','2019-03-01 00:00:00','10','','1','0'), ('166','86979474000208','盐酸特拉唑嗪片(高特灵）','2mg×28片/盒','1.69','盒','上海雅培制药有限公司','111','101','YSTLZZP(GTL）','2019-03-01 00:00:00','10','','1','0'), ('167','86979474000209','盐酸二甲双胍片(格华止）','850mg×20片/盒','39.12','盒','中美上海施贵宝制药有限公司','111','101','YSEJSZP(GHZ）','2019-03-01 00:00:00','10','','1','0'), ('168','86979474000208','格列美脲片(万苏平)','2mg×12片/盒','5.36','盒','江苏万邦生化医药股份有限公司','111','101','GLMZP(WSP)','2019-03-01 00:00:00','10','','1','0'), ('169','86979474000209','盐酸托莫西汀','10mg×7粒/盒','67.11','盒','礼来（美国）公司S','114','101','YSTMXT','2019-03-01 00:00:00','10','','1','0'), ('170','86979474000208','蔗糖铁注射液','5ml:100mg×1支','34.75','支','成都天台山制药有限公司','110','101','ZTTZSY','2019-03-01 00:00:00','10','','1','0'), ('171','86979474000208','勾藤颗粒','0.5g/10g/袋','0.91','袋','江阴天江药业有限公司','115','102','GTKL','2019-03-01 00:00:00','10','','1','0'), ('172','86979474000209','牡蛎颗粒','0.5g/30g/袋','40.06','袋','','115','102','MZKL','2019-03-01 00:00:00','10','','1','0'), ('173','86979474000208','盐酸丁螺环酮片(一舒)','5mg×60片/盒','16.50','盒','江苏恩华药业股份有限公司','111','101','YSDLHTP(YS)','2019-03-01 00:00:00','10','','1','0'), ('174','86979474000209','马破伤风免疫球蛋白','1500iu×1瓶','40.26','瓶','上海赛伦生物技术有限公司','110','101','MPSFMYQDB','2019-03-01 00:00:00','10','','1','0'), ('175','86979474000208','缬沙坦氢氯噻嗪片(复代文)','80mg/12.5mg×7片/盒','10.81','盒','诺华制药（意大利）','111','102','ZSTQLZZP(FDW)','2019-03-01 00:00:00','10','','1','0'), ('176','86979474000208','玄麦甘桔颗粒','5g*16袋/盒','33.42','盒','重庆三峡云海药业','115','102','XMGJKL','2019-03-01 00:00:00','10','','1','0'), ('177','86979474000209','厄贝沙坦片(安博维)','150mg×7片/盒','0.77','盒','赛诺菲（杭州）制药有限公司','111','101','EBSTP(ABW)','2019-03-01 00:00:00','10','','1','0'), ('178','86979474000208','普罗帕酮注射液(心律平)','10ml:35mg×5支/盒','37.25','盒','广州白云山明兴制药有限公司','110','101','PLPTZSY(XLP)','2019-03-01 00:00:00','10','','1','0'), ('179','86979474000209','苯巴比妥注射液(鲁米那)','1ml:100mg×10支/盒','5.23','盒','天津金耀药业有限公司','110','101','BBBTZSY(LMN)','2019-03-01 00:00:00','10','','1','0'), ('180','86979474000208','去氧肾上腺素注射液(苯肾上腺素)','1ml:10mg×2支/盒','61.16','盒','上海禾丰制药有限公司','110','101','QYSSXSZSY(BSSXS)','2019-03-01 00:00:00','10','','1','0'), ('181','86979474000208','硫酸阿托品注射液','0.5mg×10支/盒','36.42','盒','上海禾丰制药有限公司','110','101','LSATPZSY','2019-03-01 00:00:00','10','','1','0'), ('182','86979474000209','氨茶碱片','0.1g×100片/瓶','61.36','瓶','南京白敬宇制药有限责任公司','111','101','ACJP','2019-03-01 00:00:00','10','','1','0'), ('183','86979474000208','拉西地平片(司乐平）','4mg×30片/盒','55.86','盒','哈药集团三精制药有限公司','111','101','LXDPP(SLP）','2019-03-01 00:00:00','10','','1','0'), ('184','86979474000209','LB巴氯芬片(郝智)','10mg×20片/盒','48.83','盒','卫达化学制药股份有限公司','111','101','LBBLFP(HZ)','2019-03-01 00:00:00','10','','1','0'), ('185','86979474000208','BG盐酸地尔硫卓片(合心爽)','30.000mg*50片/盒','4.83','盒','天津田边制药有限公司','111','101','BGYSDELZP(HXS)','2019-03-01 00:00:00','10','','1','0'), ('186','86979474000208','华蟾素注射液','5ml×10支/盒','43.73','盒','安徽淮北金蟾药业','110','101','HCSZSY','2019-03-01 00:00:00','10','','1','0'), ('187','86979474000209','米氮平片(瑞美隆)','30mg×10片/盒','19.63','盒','雅培荷兰','111','101','MDPP(RML)','2019-03-01 00:00:00','10','','1','0'), ('188','86979474000208','复方丹参滴丸','27mg*180粒/盒','23.97','盒','天士力制药集团股份有限公司','163','102','FFDCDW','2019-03-01 00:00:00','10','','1','0'), ('189','86979474000209','夏枯草口服液','10ml*12支/盒','6.63','盒','贵阳新天药业股份有限公司','164','102','XKCKFY','2019-03-01 00:00:00','10','','1','0'), ('190','86979474000208','盐酸利托君片','10mg×10片/盒','5.67','盒','信东生技股份有限公司','111','101','YSLTJP','2019-03-01 00:00:00','10','','1','0'), ('191','86979474000208','银杏叶提取物注射液(金纳多)','5ml×17.5mg×10支/盒','0.96','盒','台湾济生化学制药厂股份有限公司','110','101','YXYTQWZSY(JND)','2019-03-01 00:00:00','10','','1','0'), ('192','86979474000209','金荞麦片','1片*30片/盒','36.89','盒','精华制药集团股份有限公司','111','101','JZMP','2019-03-01 00:00:00','10','','1','0'), ('193','86979474000208','脂溶性维生素(II)复合包装','2支+1支/盒','37.82','盒','成都天台山制药有限公司','110','101','ZRXWSS(II)FHBZ','2019-03-01 00:00:00','10','','1','0'), ('194','86979474000209','糖脉康颗粒','5g*21袋/盒','25.24','盒','四川升和药业股份有限公司','115','102','TMKKL','2019-03-01 00:00:00','10','','1','0'), ('195','86979474000208','鬼见羽','1000mg/g','56.17','克','南京药业有限公司药材分公司','112','103','GJY','2019-03-01 00:00:00','10','','1','0'), ('196','86979474000208','盐酸阿夫唑嗪缓释片(桑塔)','10mg×10片/盒','8.54','盒','赛诺菲（杭州）制药有限公司','111','101','YSAFZZHSP(ST)','2019-03-01 00:00:00','10','','1','0'), ('197','86979474000209','柴胡颗粒','1g/6g/袋','21.93','袋','江阴天江药业有限公司','115','102','CHKL','2019-03-01 00:00:00','10','','1','0'), ('198','86979474000208','陈皮颗粒','1g/6g/袋','0.93','袋','江阴天江药业有限公司','115','102','CPKL','2019-03-01 00:00:00','10','','1','0'), ('199','86979474000209','黄柏颗粒','0.5g/6g/袋','25.60','袋','江阴天江药业有限公司','115','102','HBKL','2019-03-01 00:00:00','10','','1','0'), ('200','86979474000208','丹参酮胶囊','0.25g×24粒/盒','31.19','盒','河北兴隆希力药业有限公司','114','101','DCTJN','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('201','86979474000208','升汞','1000g×1瓶','29.90','瓶','','157','101','SG','2019-03-01 00:00:00','10','','1','0'), ('202','86979474000209','生脉注射液','20ml×1支','30.99','支','江苏苏中药业集团股份有限公司','110','101','SMZSY','2019-03-01 00:00:00','10','','1','0'), ('203','86979474000208','生物素','1g×1瓶','24.49','瓶','','157','101','SWS','2019-03-01 00:00:00','10','','1','0'), ('204','86979474000209','盐酸乙哌立松片(妙纳)','50mg×20片/盒','10.53','盒','卫材(中国)药业有限公司','111','101','YSYZLSP(MN)','2019-03-01 00:00:00','10','','1','0'), ('205','86979474000208','散结镇痛胶囊','0.4g*30粒/瓶','60.61','瓶','江苏康缘药业股份有限公司','114','102','SJZTJN','2019-03-01 00:00:00','10','','1','0'), ('206','86979474000208','LB天丹通络胶囊','0.4g*45粒/瓶','16.01','瓶','山东凤凰制药股份','114','101','LBTDTLJN','2019-03-01 00:00:00','10','','1','0'), ('207','86979474000209','氯氮平片(上海）','25mg×100片/瓶','18.71','瓶','上海医药（集团）信谊制药总厂','111','101','LDPP(SH）','2019-03-01 00:00:00','10','','1','0'), ('208','86979474000208','0.9%氯化钠注射液（塑瓶）','10ml:0.09×1支','8.56','支','中国大冢制药有限公司','110','101','0.9%LHNZSY（SP）','2019-03-01 00:00:00','10','','1','0'), ('209','86979474000209','乌苯美司胶囊（百士欣）','10.000mg*15粒/盒','7.92','盒','浙江普洛康裕制药有限公司','114','101','WBMSJN（BSX）','2019-03-01 00:00:00','10','','1','0'), ('210','86979474000208','拉莫三嗪片','50mg×30片/盒','7.67','盒','葛兰素史克（中国）投资有限公司','111','101','LMSZP','2019-03-01 00:00:00','10','','1','0'), ('211','86979474000208','血塞通软胶囊','0.33g×24粒/盒','2.80','盒','昆明圣火药业','114','101','XSTRJN','2019-03-01 00:00:00','10','','1','0'), ('212','86979474000209','阿扎司琼氯化钠注射液(天晴日安)','100ml:10mg×1支','41.68','支','正大天晴药业集团股份有限公司','110','101','AZSQLHNZSY(TQRA)','2019-03-01 00:00:00','10','','1','0'), ('213','86979474000208','黄葵胶囊','0.5g×30粒/盒','26.70','盒','江苏苏中药业集团股份有限公司','114','102','HKJN','2019-03-01 00:00:00','10','','1','0'), ('214','86979474000209','注射用盐酸吉西他滨(健择)','200mg×1支','29.97','支','礼来（美国）公司','110','101','ZSYYSJXTB(JZ)','2019-03-01 00:00:00','10','','1','0'), ('215','86979474000208','注射用盐酸吉西他滨(健择)','1g×1瓶','4.36','瓶','礼来（美国）公司','110','101','ZSYYSJXTB(JZ)','2019-03-01 00:00:00','10','','1','0'), ('216','86979474000208','止痛化症胶囊','72粒×1盒','7.01','盒','吉林省天泰药业股份有限公司','163','102','ZTHZJN','2019-03-01 00:00:00','10','','1','0'), ('217','86979474000209','罗红霉素胶囊(仁苏)','150mg×12粒/盒','23.21','盒','扬子江药业集团有限公司','114','101','LHMSJN(RS)','2019-03-01 00:00:00','10','','1','0'), ('218','86979474000208','无水硫酸钠','500g×1瓶','8.44','瓶','南京','157','101','WSLSN','2019-03-01 00:00:00','10','','1','0'), ('219','86979474000209','多烯磷酯酰胆碱胶囊(易善复)','228mg×24粒/盒','16.52','盒','赛诺菲(北京)制药有限公司','114','101','DXLZXDJJN(YSF)','2019-03-01 00:00:00','10','','1','0'), ('220','86979474000208','左卡尼汀注射液(雷卡)','5ml:1g×1支','27.81','支','常州兰陵制药有限公司','110','101','ZKNTZSY(LK)','2019-03-01 00:00:00','10','','1','0'), ('221','86979474000208','肠内营养乳剂TPF-D(瑞代)','500ml×1袋','29.75','袋','费森尤斯卡比（德国）公司','118','101','CNYYRJTPF-D(RD)','2019-03-01 00:00:00','10','','1','0'), ('222','86979474000209','葛根颗粒','1g/10g/袋','21.03','袋','江阴天江药业有限公司','115','102','GGKL','2019-03-01 00:00:00','10','','1','0'), ('223','86979474000208','猪苓颗粒','0.5g/10g/袋','73.26','袋','江阴天江药业有限公司','115','102','ZZKL','2019-03-01 00:00:00','10','','1','0'), ('224','86979474000209','荆芥颗粒','1g/10/g/袋','71.40','袋','江阴天江药业有限公司','115','102','JJKL','2019-03-01 00:00:00','10','','1','0'), ('225','86979474000208','甘精胰岛素注射液(来得时)','300iu/3ml×1支','29.28','支','赛诺菲(北京)制药有限公司','110','101','GJYDSZSY(LDS)','2019-03-01 00:00:00','10','','1','0'), ('226','86979474000208','美敏伪麻(惠菲宁)溶液','100ml×1瓶','6.93','瓶','惠氏制药有限公司','119','101','MMWM(HFN)RY','2019-03-01 00:00:00','10','','1','0'), ('227','86979474000209','精蛋白锌重组(混合优泌林)人胰岛素70/30笔芯','300iu/3ml×1支','0.46','支','礼来苏州制药有限公司','110','101','JDBXZZ(HHYML)RYDS70/30BX','2019-03-01 00:00:00','10','','1','0'), ('228','86979474000208','活性炭','500g×1袋','6.17','袋','','157','101','HXT','2019-03-01 00:00:00','10','','1','0'), ('229','86979474000209','四苯硼酸钠','10g×1瓶','39.94','瓶','','157','101','SBPSN','2019-03-01 00:00:00','10','','1','0'), ('230','86979474000208','绿梅花','1000mg/g','30.38','克','','112','103','LMH','2019-03-01 00:00:00','10','','1','0'), ('231','86979474000208','莱菔子','1000mg/g','5.64','克','江苏','112','103','LZZ','2019-03-01 00:00:00','10','','1','0'), ('232','86979474000209','连翘','1000mg/g','3.38','克','山西普德药业股份有限公司','112','103','LQ','2019-03-01 00:00:00','10','','1','0'), ('233','86979474000208','灵芝','1000mg/g','28.67','克','江苏','112','103','LZ','2019-03-01 00:00:00','10','','1','0'), ('234','86979474000209','六曲','1000mg/g','26.71','克','','112','103','LQ','2019-03-01 00:00:00','10','','1','0'), ('235','86979474000208','BG厄贝沙坦氢氯噻嗪片(依伦平)','150mg/12.5mg×7片/盒','86.19','盒','南京正大天晴制药有限公司','111','101','BGEBSTQLZZP(YLP)','2019-03-01 00:00:00','10','','1','0'), ('236','86979474000208','静注人免疫球蛋白（pH4）(华兰)','50ml:2.5g×1瓶','25.57','瓶','华兰生物工程股份有限公司','110','101','JZRMYQDB（pH4）(HL)','2019-03-01 00:00:00','10','','1','0'), ('237','86979474000209','甘遂','1000mg/g','2.91','克','','112','103','GS','2019-03-01 00:00:00','10','','1','0'), ('238','86979474000208','奥氮平片(再普乐)','5mg×28片/盒','57.39','盒','礼来（美国）公司','111','101','ADPP(ZPL)','2019-03-01 00:00:00','10','','1','0'), ('239','86979474000209','金橘叶','1000mg/g','54.67','克','','112','103','JZY','2019-03-01 00:00:00','10','','1','0'), ('240','86979474000208','抗人T-淋巴细胞兔免疫球蛋白注射液','100mg×1支','46.48','支','安斯泰来制药(中国)有限公司','110','101','KRT-LBXBTMYQDBZSY','2019-03-01 00:00:00','10','','1','0'), ('241','86979474000208','BG酒石酸唑吡坦片(思诺思)','10mg×20片/盒','3.01','盒','赛诺菲（杭州）制药有限公司','111','101','BGJSSZZTP(SNS)','2019-03-01 00:00:00','10','','1','0'), ('242','86979474000209','呋塞米片(速尿)','20mg×100片/瓶','30.94','瓶','江苏亚邦爱普森药业有限公司','111','102','ZSMP(SN)','2019-03-01 00:00:00','10','','1','0'), ('243','86979474000208','舒血宁注射液(杏雪)','5ml×1支','85.68','支','黑龙江珍宝岛制药','110','101','SXNZSY(XX)','2019-03-01 00:00:00','10','','1','0'), ('244','86979474000209','硫酸阿托品眼用凝胶（迪善）','2.5g：25mg×1支','28.45','支','沈阳兴齐制药有限公司','120','101','LSATPYYNJ（DS）','2019-03-01 00:00:00','10','','1','0'), ('245','86979474000208','普伐他汀钠片(美百乐镇)','20mg×7片/盒','81.77','盒','第一三共制药（上海）有限公司','111','101','PFTTNP(MBLZ)','2019-03-01 00:00:00','10','','1','0'), ('246','86979474000208','卤米松/三氯生软膏(新适确得)','10g×1支','5.05','支','诺华制药（北京）有限公司','121','101','LMS/SLSRG(XSQD)','2019-03-01 00:00:00','10','','1','0'), ('247','86979474000209','醒脑静注射液','10ml×1支','52.94','支','云南大理药业股份有限公司','110','101','XNJZSY','2019-03-01 00:00:00','10','','1','0'), ('248','86979474000208','注射用巴利昔单抗(舒莱）','20mg×1支','58.39','支','Novartis Pharma Stein Switzerland','110','101','ZSYBLXDK(SL）','2019-03-01 00:00:00','10','','1','0'), ('249','86979474000209','沙美特罗替卡松粉吸入剂(舒利迭)','50ug:250ug×1瓶','45.22','瓶','葛兰素史克（中国）投资有限公司','122','101','SMTLTKSFXRJ(SLD)','2019-03-01 00:00:00','10','','1','0'), ('250','86979474000208','注射用阿莫西林钠舒巴坦(舒萨林)','1.5g×1支','50.36','支','哈药集团制药总厂','110','101','ZSYAMXLNSBT(SSL)','2019-03-01 00:00:00','10','','1','0'), ('251','86979474000208','南沙参','1000mg/g','12.01','克','安徽省合肥制药二厂','112','103','NSC','2019-03-01 00:00:00','10','','1','0'), ('252','86979474000209','牛子','1000mg/g','57.90','克','江苏','112','103','NZ','2019-03-01 00:00:00','10','','1','0'), ('253','86979474000208','糯稻根','1000mg/g','9.07','克','江苏','112','103','NDG','2019-03-01 00:00:00','10','','1','0'), ('254','86979474000209','藕节炭','1000mg/g','45.26','克','  江苏','112','103','OJT','2019-03-01 00:00:00','10','','1','0'), ('255','86979474000208','胖大海','1000mg/g','6.88','克','广东','112','103','PDH','2019-03-01 00:00:00','10','','1','0'), ('256','86979474000208','枇杷叶','1000mg/g','21.23','克','  江苏','112','103','ZZY','2019-03-01 00:00:00','10','','1','0'), ('257','86979474000209','片姜黄','1000mg/g','26.74','克','四川','112','103','PJH','2019-03-01 00:00:00','10','','1','0'), ('258','86979474000208','红色石蕊试纸','100片×1盒','3.47','盒','上海','157','101','HSSRSZ','2019-03-01 00:00:00','10','','1','0'), ('259','86979474000209','抗骨增生胶囊','0.35g*100粒/盒','38.11','盒','江苏康缘药业股份有限公司','114','101','KGZSJN','2019-03-01 00:00:00','10','','1','0'), ('260','86979474000208','右旋糖酐铁注射液(科莫非)','2ml:100mg×1支','10.63','支','丹麦Pharmacosmos  a/s ','110','101','YXTGTZSY(KMF)','2019-03-01 00:00:00','10','','1','0'), ('261','86979474000208','枸橼酸','1000g×1袋','14.47','袋','广州','157','101','ZZS','2019-03-01 00:00:00','10','','1','0'), ('262','86979474000209','枸橼酸','500g×1袋','40.17','袋','湖南华日','157','101','ZZS','2019-03-01 00:00:00','10','','1','0'), ('263','86979474000208','枸橼酸钾','500g×1瓶','1.33','瓶','广东新宁','157','101','ZZSJ','2019-03-01 00:00:00','10','','1','0'), ('264','86979474000209','枸橼酸钠(药用）','500g×1瓶','20.80','瓶','广东台山','157','101','ZZSN(YY）','2019-03-01 00:00:00','10','','1','0'), ('265','86979474000208','枸橼酸铁铵','500g×1瓶','6.50','瓶','','157','101','ZZSTZ','2019-03-01 00:00:00','10','','1','0'), ('266','86979474000208','磁石','1000mg/g','6.91','克',' 江苏','112','103','CS','2019-03-01 00:00:00','10','','1','0'), ('267','86979474000209','锝[99TC]亚甲基二瞵酸盐注射液(云克)','A5ml B5.5mg/盒','18.27','盒','成都云克药业有限公司S','110','101','Z[99TC]YJJEZSYZSY(YK)','2019-03-01 00:00:00','10','','1','0'), ('268','86979474000208','氯胺酮注射液','2ml:0.1g×10支/盒','0.72','盒','福建古田药业有限公司','110','101','LATZSY','2019-03-01 00:00:00','10','','1','0'), ('269','86979474000209','氯丙嗪注射液','1ml:25mg×10支/盒','49.00','盒','上海禾丰制药有限公司','110','101','LBZZSY','2019-03-01 00:00:00','10','','1','0'), ('270','86979474000208','谷氨酸钾注射液','20ml:6.3g×5支/盒','37.44','盒','上海旭东海普药业有限公司','110','101','GASJZSY','2019-03-01 00:00:00','10','','1','0'), ('271','86979474000208','谷氨酸钠注射液','28.75%20ml×5支/盒','35.05','盒','上海旭东海普药业有限公司','110','101','GASNZSY','2019-03-01 00:00:00','10','','1','0'), ('272','86979474000209','盐酸坦索罗辛缓释胶囊(哈乐）','0.2mg×10片/盒','0.90','盒','安斯泰来制药(中国)有限公司','114','101','YSTSLXHSJN(HL）','2019-03-01 00:00:00','10','','1','0'), ('273','86979474000208','褐藻多糖硫酸酯胶囊(海昆肾喜)','0.22g×18片/盒','24.68','盒','吉林省辉南长龙生化药业股份有限公司','114','101','HZDTLSZJN(HKSX)','2019-03-01 00:00:00','10','','1','0'), ('274','86979474000209','拉西地平片(乐息平）','4mg×7片/盒','34.90','盒','葛兰素史克（中国）投资有限公司','111','101','LXDPP(LXP）','2019-03-01 00:00:00','10','','1','0'), ('275','86979474000208','BG注射用甘露聚糖肽(力尔凡）','5mg×1支','24.53','支','国药一心制药有限公司','110','101','BGZSYGLJTZ(LEF）','2019-03-01 00:00:00','10','','1','0'), ('276','86979474000208','中长链脂肪乳(力能)注射液','20%250ml×1瓶','5.81','瓶','华瑞制药有限公司','110','101','ZCLZFR(LN)ZSY','2019-03-01 00:00:00','10','','1','0'), ('277','86979474000209','丙氨酰谷氨酰胺注射液(力肽）','20g×100ml/瓶','1.19','瓶','华瑞制药有限公司','110','101','BAGAAZSY(LZ）','2019-03-01 00:00:00','10','','1','0'), ('278','86979474000208','红  汞','500g×1瓶','1.32','瓶','','157','101','H  G','2019-03-01 00:00:00','10','','1','0'), ('279','86979474000209','匹多莫德口服液（芙露饮）','10ml:0.4g×6支/盒','31.28','盒','江苏吴中医药集团有限公司苏州制药厂','164','101','PDMDKFY（ZLY）','2019-03-01 00:00:00','10','','1','0'), ('280','86979474000208','非那雄胺片(保列治)','5mg×10片/瓶','41.50','瓶','默沙东制药（杭州）有限公司','111','101','FNXAP(BLZ)','2019-03-01 00:00:00','10','','1','0'), ('281','86979474000208','无水乙酸钠','250g×1瓶','35.07','瓶','南京','157','101','WSYSN','2019-03-01 00:00:00','10','','1','0'), ('282','86979474000209','酒石酸钾钠(CP)','500g×1瓶','2.00','瓶','','157','101','JSSJN(CP)','2019-03-01 00:00:00','10','','1','0'), ('283','86979474000208','聚乙烯醇','500g×1瓶','9.30','瓶','','157','101','JYXC','2019-03-01 00:00:00','10','','1','0'), ('284','86979474000209','木贼草','1000mg/g','27.99','克','辽宁','112','103','MZC','2019-03-01 00:00:00','10','','1','0'), ('285','86979474000208','盐酸氨溴索口服液（贝莱）','100ml:0.6g×1瓶','10.18','瓶','江苏恒瑞医药股份有限公司','164','101','YSAZSKFY（BL）','2019-03-01 00:00:00','10','','1','0'), ('286','86979474000208','10%葡萄糖注射液(亚邦软袋)','10g:100ml×1袋','4.71','袋','江苏亚邦生缘药业有限公司','110','101','10%PTTZSY(YBRD)','2019-03-01 00:00:00','10','','1','0'), ('287','86979474000209','10%葡萄糖注射液(亚邦软袋)','25g 250ml×1袋','42.23','袋','江苏亚邦生缘药业有限公司','110','101','10%PTTZSY(YBRD)','2019-03-01 00:00:00','10','','1','0'), ('288','86979474000208','茴拉西坦分散片(毕思灵)','100mg×48片/盒','29.17','盒','国药集团工业有限公司','123','101','ZLXTFSP(BSL)','2019-03-01 00:00:00','10','','1','0'), ('289','86979474000209','富马酸喹硫平片（思瑞康）','25mg×20片/盒','29.28','盒','阿斯利康制药有限公司','111','101','FMSZLPP（SRK）','2019-03-01 00:00:00','10','','1','0'), ('290','86979474000208','注射用伏立康唑','50mg×1支','1.41','支','珠海亿邦制药有限公司','110','101','ZSYFLKZ','2019-03-01 00:00:00','10','','1','0'), ('291','86979474000208','复方托吡卡胺滴眼液','1mL/支','5.04','支','沈阳兴齐眼药股份有限公司','160','101','FFTZKADYY','2019-03-01 00:00:00','10','','1','0'), ('292','86979474000209','万福净消毒片','100片/瓶','68.18','瓶','南京万福金安生物技术有限公司','111','101','WFJXDP','2019-03-01 00:00:00','10','','1','0'), ('293','86979474000208','诗乐氏AS消毒液','500ml×1瓶','42.50','瓶','诗乐氏实业','157','101','SLSASXDY','2019-03-01 00:00:00','10','','1','0'), ('294','86979474000209','注射用间苯三酚(艾朴)','40mg×1瓶','0.79','瓶','湖北午时药业股份有限公司','110','101','ZSYJBSF(AP)','2019-03-01 00:00:00','10','','1','0'), ('295','86979474000208','盐酸坦索罗辛（坦洛新）缓释胶囊','0.2mg×10粒/盒','30.18','盒','江苏恒瑞医药股份有限公司','114','101','YSTSLX（TLX）HSJN','2019-03-01 00:00:00','10','','1','0'), ('296','86979474000208','注射用多索茶碱(益索)','0.2g×1瓶','0.43','瓶','瑞阳制药有限公司','110','101','ZSYDSCJ(YS)','2019-03-01 00:00:00','10','','1','0'), ('297','86979474000209','注射用尖吻蝮蛇血凝酶(苏灵)','1单位×1瓶','44.14','瓶','北京康辰药业股份有限公司','110','101','ZSYJWZSXNM(SL)','2019-03-01 00:00:00','10','','1','0'), ('298','86979474000208','洗得宝牌（小）手消毒凝胶','76ml×1瓶','13.18','瓶','北京洗得宝消毒制品有限公司一分','120','101','XDBP（X）SXDNJ','2019-03-01 00:00:00','10','','1','0'), ('299','86979474000209','迈之灵片','150mg×20粒/盒','5.12','盒','德国礼达大药厂','111','101','MZLP','2019-03-01 00:00:00','10','','1','0'), ('300','86979474000208','门冬氨酸钾镁注射液(潘南金)','10ml×5支/盒','16.24','盒','匈牙利吉瑞大药厂','110','101','MDASJMZSY(PNJ)','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('301','86979474000208','脉络宁注射液','10ml×10支/盒','30.98','盒','南京金陵药业','110','101','MLNZSY','2019-03-01 00:00:00','10','','1','0'), ('302','86979474000209','美司钠注射液(美安)','400mg×5支/盒','21.85','盒','江苏恒瑞医药股份有限公司','110','101','MSNZSY(MA)','2019-03-01 00:00:00','10','','1','0'), ('303','86979474000208','人血白蛋白(瑞士)','50ml:10g×1瓶','38.64','瓶','瑞士杰特贝林生物制品有限公司','110','101','RXBDB(RS)','2019-03-01 00:00:00','10','','1','0'), ('304','86979474000209','盐酸苯海索片(安坦)','2mg×100片/瓶','3.14','瓶','常州康普药业有限公司','111','101','YSBHSP(AT)','2019-03-01 00:00:00','10','','1','0'), ('305','86979474000208','螺内酯片(安体舒通)','20mg×100片/瓶','35.68','瓶','杭州民生药业有限公司','111','101','LNZP(ATST)','2019-03-01 00:00:00','10','','1','0'), ('306','86979474000208','LB非那雄胺片(保法止)','1mg×28片/盒','67.90','盒','默沙东制药（杭州）有限公司','117','101','LBFNXAP(BFZ)','2019-03-01 00:00:00','10','','1','0'), ('307','86979474000209','替米沙坦片(美卡素)','80mg×7片/盒','5.52','盒','勃林格殷格翰（德国）国际公司','111','101','TMSTP(MKS)','2019-03-01 00:00:00','10','','1','0'), ('308','86979474000208','枸橼酸舒芬太尼注射液','1ml:50ug×1支','6.83','支','宜昌人福药业有限责任公司','110','101','ZZSSFTNZSY','2019-03-01 00:00:00','10','','1','0'), ('309','86979474000209','注射用复方甘草酸苷','40mg×1支','44.16','支','瑞阳制药有限公司','161','101','ZSYFFGCSZ','2019-03-01 00:00:00','10','','1','0'), ('310','86979474000208','麻仁软胶囊','0.6g*20粒/盒','58.91','盒','天津市中央药业有限公司','114','102','MRRJN','2019-03-01 00:00:00','10','','1','0'), ('311','86979474000208','噻托溴铵粉吸入剂','18ug×10粒/盒','38.40','盒','勃林格殷格翰（德国）国际公司','116','101','ZTZZFXRJ','2019-03-01 00:00:00','10','','1','0'), ('312','86979474000209','BG噻托溴铵粉吸入剂(带吸入器）','18ug×10粒/盒','23.54','盒','勃林格殷格翰（德国）国际公司','116','101','BGZTZZFXRJ(DXRQ）','2019-03-01 00:00:00','10','','1','0'), ('313','86979474000208','BG甘草锌颗粒','5g×10包/盒','22.09','盒','江苏瑞年前进制药有限公司','115','102','BGGCXKL','2019-03-01 00:00:00','10','','1','0'), ('314','86979474000209','富马酸喹硫平片','0.2g×20片/盒','16.66','盒','阿斯利康制药有限公司','111','101','FMSZLPP','2019-03-01 00:00:00','10','','1','0'), ('315','86979474000208','LB甲钴胺片(弥可保)','0.5mg×20片/盒','15.02','盒','卫材(中国)药业有限公司','111','101','LBJZAP(MKB)','2019-03-01 00:00:00','10','','1','0'), ('316','86979474000208','日舒安洗液','250ml×1瓶','6.34','瓶','贵州汉方制药有限公司','119','101','RSAXY','2019-03-01 00:00:00','10','','1','0'), ('317','86979474000209','注射用柔红霉素','20mg×1支','33.23','支','深圳万乐药业有限公司','110','101','ZSYRHMS','2019-03-01 00:00:00','10','','1','0'), ('318','86979474000208','鞣酸蛋白','500g×1袋','68.75','袋','','157','101','RSDB','2019-03-01 00:00:00','10','','1','0'), ('319','86979474000209','爱普列特片','5mg×10片/盒','4.39','盒','江苏联环药业股份有限公司','111','101','APLTP','2019-03-01 00:00:00','10','','1','0'), ('320','86979474000208','异丙托溴铵吸入溶液(爱全乐)','500ug×10支/盒','5.81','盒','勃林格殷格翰（上海）药业有限公司','119','101','YBTZZXRRY(AQL)','2019-03-01 00:00:00','10','','1','0'), ('321','86979474000208','川楝子','1000mg/g','4.30','克','20101124','112','103','CZZ','2019-03-01 00:00:00','10','','1','0'), ('322','86979474000209','川牛夕','1000mg/g','19.33','克','四川','112','103','CNX','2019-03-01 00:00:00','10','','1','0'), ('323','86979474000208','川乌','1000mg/g','9.81','克','','112','103','CW','2019-03-01 00:00:00','10','','1','0'), ('324','86979474000209','川芎','1000mg/g','17.84','克','','112','103','CZ','2019-03-01 00:00:00','10','','1','0'), ('325','86979474000208','垂盆草','1000mg/g','3.64','克','江苏','112','103','CPC','2019-03-01 00:00:00','10','','1','0'), ('326','86979474000208','椿根皮','1000mg/g','31.90','克','','112','103','CGP','2019-03-01 00:00:00','10','','1','0'), ('327','86979474000209','马来酸依那普利叶酸(依叶)片','10mg/0.8mg×7片/盒','36.84','盒','深圳奥萨制药有限公司S','111','101','MLSYNPLYS(YY)P','2019-03-01 00:00:00','10','','1','0'), ('328','86979474000208','茶碱缓释胶囊(时尔平)','0.1g×24粒/盒','26.07','盒','杭州民生药业有限公司','114','101','CJHSJN(SEP)','2019-03-01 00:00:00','10','','1','0'), ('329','86979474000209','注射用地西他滨(晴唯可)','25mg×1支/瓶','0.73','瓶','正大天晴药业股份有限公司S','110','101','ZSYDXTB(QWK)','2019-03-01 00:00:00','10','','1','0'), ('330','86979474000208','LB诺氟沙星胶囊(氟哌酸）','0.1g×12粒/板','23.61','板','浙江医药股份有限公司新昌制药厂','114','101','LBNFSXJN(FZS）','2019-03-01 00:00:00','10','','1','0'), ('331','86979474000208','熊去氧胆酸片','50mg×30片/瓶','19.23','瓶','上海上药信谊药厂有限公司','111','101','XQYDSP','2019-03-01 00:00:00','10','','1','0'), ('332','86979474000209','5%葡萄糖注射液（百特）','50ml×1袋','12.73','袋','上海百特医疗用品有限公司','110','101','5%PTTZSY（BT）','2019-03-01 00:00:00','10','','1','0'), ('333','86979474000208','0.9%氯化钠注射液（百特）','50ml×1袋','13.30','袋','上海百特医疗用品有限公司','110','101','0.9%LHNZSY（BT）','2019-03-01 00:00:00','10','','1','0'), ('334','86979474000209','爱护佳皮肤清洗液','1000ml×1瓶','1.89','瓶','3M中国有限公司','124','101','AHJPFQXY','2019-03-01 00:00:00','10','','1','0'), ('335','86979474000208','茉莉香精','2kg×1瓶','58.27','瓶','','157','101','ZLXJ','2019-03-01 00:00:00','10','','1','0'), ('336','86979474000208','还少胶囊(还少丹）','0.42g*50粒/盒','2.51','盒','重庆三峡云海药业','114','101','HSJN(HSD）','2019-03-01 00:00:00','10','','1','0'), ('337','86979474000209','注射用绒促性素 ','5000iu×1支','1.91','支','丽珠集团丽珠制药厂','161','101','ZSYRCXS ','2019-03-01 00:00:00','10','','1','0'), ('338','86979474000208','伏立康唑片(威凡)','200mg×10片/盒','18.58','盒','辉瑞制药','111','101','FLKZP(WF)','2019-03-01 00:00:00','10','','1','0'), ('339','86979474000209','酒石酸伐尼克兰片（畅沛）','0.5mg:1mg×25片/盒','0.48','盒','辉瑞投资有限公司','111','101','JSSFNKLP（CP）','2019-03-01 00:00:00','10','','1','0'), ('340','86979474000208','酒石酸伐尼克兰片（畅沛）','1mg×28片/盒','46.03','盒','辉瑞投资有限公司','111','101','JSSFNKLP（CP）','2019-03-01 00:00:00','10','','1','0'), ('341','86979474000208','氢氧化钙AR','500g×1瓶','34.48','瓶','','157','101','QYHGAR','2019-03-01 00:00:00','10','','1','0'), ('342','86979474000209','氢氧化钾','500g×1瓶','20.55','瓶','','157','101','QYHJ','2019-03-01 00:00:00','10','','1','0'), ('343','86979474000208','决明子','1000mg/g','1.39','克','江苏','112','103','JMZ','2019-03-01 00:00:00','10','','1','0'), ('344','86979474000209','硫酸','500ml×1瓶','2.39','瓶','南京化学厂','157','101','LS','2019-03-01 00:00:00','10','','1','0'), ('345','86979474000208','苯  酚','500g×1瓶','35.52','瓶','广东江门','157','101','B  F','2019-03-01 00:00:00','10','','1','0'), ('346','86979474000208','苯甲酸钠','500g×1袋','7.63','袋','沈阳第一制药厂','157','101','BJSN','2019-03-01 00:00:00','10','','1','0'), ('347','86979474000209','洁消净','500g×1袋','11.61','袋','吴县化工二厂','157','101','JXJ','2019-03-01 00:00:00','10','','1','0'), ('348','86979474000208','结晶紫(AR)','25g×1瓶','27.03','瓶','','157','101','JJZ(AR)','2019-03-01 00:00:00','10','','1','0'), ('349','86979474000209','陈棕炭','1000mg/g','27.08','克','海南','112','103','CZT','2019-03-01 00:00:00','10','','1','0'), ('350','86979474000208','海浮石','1000mg/g','10.76','克','','112','103','HFS','2019-03-01 00:00:00','10','','1','0'), ('351','86979474000208','樟脑粉','200g×1瓶','60.72','瓶','浙江海正','157','101','ZNF','2019-03-01 00:00:00','10','','1','0'), ('352','86979474000209','蔗糖','500g×1瓶','7.88','瓶','','157','101','ZT','2019-03-01 00:00:00','10','','1','0'), ('353','86979474000208','炭(针用)','500g×1袋','15.10','袋','','157','101','T(ZY)','2019-03-01 00:00:00','10','','1','0'), ('354','86979474000209','正丁醇(AR)','500g×1瓶','4.39','瓶','','157','101','ZDC(AR)','2019-03-01 00:00:00','10','','1','0'), ('355','86979474000208','正丁醇','500ml×1瓶','16.35','瓶','','157','101','ZDC','2019-03-01 00:00:00','10','','1','0'), ('356','86979474000208','正硅酸乙酯(AR)','500ml×1瓶','2.13','瓶','','157','101','ZGSYZ(AR)','2019-03-01 00:00:00','10','','1','0'), ('357','86979474000209','正乙烷','500g×1瓶','40.85','瓶','','157','101','ZYW','2019-03-01 00:00:00','10','','1','0'), ('358','86979474000208','LB消栓通络胶囊','0.37g*36粒/盒','14.29','盒','吉林省东北亚药业股份有限公司','114','101','LBXSTLJN','2019-03-01 00:00:00','10','','1','0'), ('359','86979474000209','硝化棉','250g×1瓶','1.24','瓶','','157','101','XHM','2019-03-01 00:00:00','10','','1','0'), ('360','86979474000208','硝酸','500ml×1瓶','54.35','瓶','','157','101','XS','2019-03-01 00:00:00','10','','1','0'), ('361','86979474000208','液体石腊','500ml×1瓶','5.19','瓶','','157','101','YTSL','2019-03-01 00:00:00','10','','1','0'), ('362','86979474000209','脂肪乳氨基酸(卡文)葡萄萄糖注射液','1440ml×1袋','53.55','袋','华瑞制药有限公司','110','101','ZFRAJS(KW)PTTTZSY','2019-03-01 00:00:00','10','','1','0'), ('363','86979474000208','BG保妇康栓','1.74g×8粒/板','28.53','板','海南碧凯药业有限公司','125','101','BGBFKS','2019-03-01 00:00:00','10','','1','0'), ('364','86979474000209','碘[125I]密封籽源','3.7-222MBq(0.1-6Mci)*1粒','5.12','粒','原子高科股份有限公司','110','101','D[125I]MFZY','2019-03-01 00:00:00','10','','1','0'), ('365','86979474000208','二乙酰氨乙酸乙二胺注射液(华克盾)','5ml:0.3g×1支','16.47','支','华北制药股份有限公司','110','101','EYXAYSYEAZSY(HKD)','2019-03-01 00:00:00','10','','1','0'), ('366','86979474000208','盐酸肾上腺素注射液','1ml:1mg×2支/盒','15.99','盒','上海禾丰制药有限公司','110','101','YSSSXSZSY','2019-03-01 00:00:00','10','','1','0'), ('367','86979474000209','桂利嗪片(脑益嗪)','25mg×100片/瓶','3.49','瓶','南京白敬宇制药有限责任公司','111','101','GLZP(NYZ)','2019-03-01 00:00:00','10','','1','0'), ('368','86979474000208','诺延手消毒啫哩','500ml×1瓶','13.71','瓶','芬兰奥瑞恩诺瑞 ','157','101','NYSXDZL','2019-03-01 00:00:00','10','','1','0'), ('369','86979474000209','爱尔施牌消毒片','100片×1瓶','23.46','瓶','上海利康消毒高科技有限公司','111','101','AESPXDP','2019-03-01 00:00:00','10','','1','0'), ('370','86979474000208','碘酊','500mL/瓶','27.27','瓶','河北健宁药业有限公司','157','101','DJ','2019-03-01 00:00:00','10','','1','0'), ('371','86979474000208','谷氨酰胺(BR)','5g×1瓶','1.89','瓶','','157','101','GAXA(BR)','2019-03-01 00:00:00','10','','1','0'), ('372','86979474000209','甲硝唑氯化钠注射液','0.5%100ml×1瓶','44.97','瓶','四川科伦药业股份有限公司','110','101','JXZLHNZSY','2019-03-01 00:00:00','10','','1','0'), ('373','86979474000208','咪唑斯汀片(皿治林)','10mg×7片/盒','11.48','盒','西安杨森制药有限公司','111','102','ZZSTP(MZL)','2019-03-01 00:00:00','10','','1','0'), ('374','86979474000209','新斯的明注射液','2ml:1mg×10支/盒','14.78','盒','上海信谊金朱药业有限公司','110','101','XSDMZSY','2019-03-01 00:00:00','10','','1','0'), ('375','86979474000208','吗替麦考酚酯分散片(赛可平)','0.25g×40片/盒','61.42','盒','杭州中美华东制药有限公司','123','101','MTMKFZFSP(SKP)','2019-03-01 00:00:00','10','','1','0'), ('376','86979474000208','水合氯醛合剤','10mL×1支','50.76','支','南京市儿童医院0','126','101','SHLQHj','2019-03-01 00:00:00','10','','1','0'), ('377','86979474000209','榄香烯注射液','20ml:100mg×1支','47.19','支','大连华立金港制药有限公司S','110','101','ZXXZSY','2019-03-01 00:00:00','10','','1','0'), ('378','86979474000208','宁心宝胶囊','0.25g×24粒/瓶','35.63','瓶','正大青春宝药业有限公司','114','101','NXBJN','2019-03-01 00:00:00','10','','1','0'), ('379','86979474000209','盐酸雷洛昔芬片','60mg×7片/盒','3.77','盒','江苏恒瑞医药股份有限公司','111','101','YSLLXFP','2019-03-01 00:00:00','10','','1','0'), ('380','86979474000208','阿托伐他汀钙片(立普妥)','20mg×7片/盒','47.22','盒','辉瑞制药有限公司','111','101','ATFTTGP(LPT)','2019-03-01 00:00:00','10','','1','0'), ('381','86979474000208','人免疫球蛋白注射液(蓉生静丙)','50ml:2.5g×1瓶','21.18','瓶','成都蓉生药业有限公司','110','101','RMYQDBZSY(RSJB)','2019-03-01 00:00:00','10','','1','0'), ('382','86979474000209','正清风痛宁注射液','2ml:50mg×1支','15.99','支','湖南正清制药集团股份有限公司','110','101','ZQFTNZSY','2019-03-01 00:00:00','10','','1','0'), ('383','86979474000208','注射用培美曲塞二钠(普来乐)','200mg×1支','0.59','支','江苏豪森药业股份有限公司S','110','101','ZSYPMQSEN(PLL)','2019-03-01 00:00:00','10','','1','0'), ('384','86979474000209','屋尘蟎变应原制剂（安脱达）（维持）','5ml×1支','17.60','支','丹麦爱尔开-阿贝优公司S','110','101','WCXBYYZJ（ATD）（WC）','2019-03-01 00:00:00','10','','1','0'), ('385','86979474000208','羟乙基淀粉130/0.4氯化钠注射液','500ml×1袋','57.81','袋','南京正大天晴制药有限公司','110','101','QYJDF130/0.4LHNZSY','2019-03-01 00:00:00','10','','1','0'), ('386','86979474000208','积雪苷霜软膏','30g×1支','15.46','支','上海现代制药股份有限公司','121','101','JXZSRG','2019-03-01 00:00:00','10','','1','0'), ('387','86979474000209','重组牛碱性(贝复济)成纤维细胞胞生长因子喷剂','15ml:63000iu×1支','3.29','支','珠海亿胜生物制药有限公司','127','101','ZZNJX(BFJ)CXWXBBSCYZPJ','2019-03-01 00:00:00','10','','1','0'), ('388','86979474000208','注射用阿糖胞苷(塞得萨)','500mg×1支','32.73','支','辉瑞制药','110','101','ZSYATBZ(SDS)','2019-03-01 00:00:00','10','','1','0'), ('389','86979474000209','异丙醇','500ml×1瓶','1.44','瓶','上海','157','101','YBC','2019-03-01 00:00:00','10','','1','0'), ('390','86979474000208','盐酸维拉帕米注射液(异博定)','5mg×1支','3.16','支','上海禾丰制药有限公司','110','101','YSWLPMZSY(YBD)','2019-03-01 00:00:00','10','','1','0'), ('391','86979474000208','长春瑞宾注射液(盖诺)','10mg×1支','4.10','支','江苏豪森药业股份有限公司','110','101','CCRBZSY(GN)','2019-03-01 00:00:00','10','','1','0'), ('392','86979474000209','异丁醇(AR)','500ml×1瓶','31.22','瓶','','157','101','YDC(AR)','2019-03-01 00:00:00','10','','1','0'), ('393','86979474000208','异戊醇（AR）','500ml×1瓶','14.99','瓶','','157','101','YWC（AR）','2019-03-01 00:00:00','10','','1','0'), ('394','86979474000209','注射用七叶皂苷钠（麦通纳）','5mg×1支','74.72','支','山东绿叶制药有限公司','110','101','ZSYQYZZN（MTN）','2019-03-01 00:00:00','10','','1','0'), ('395','86979474000208','复明片','0.3g×90片/盒','37.61','盒','西安碑林药业','111','101','FMP','2019-03-01 00:00:00','10','','1','0'), ('396','86979474000208','钙红','10g×1瓶','36.79','瓶','','157','101','GH','2019-03-01 00:00:00','10','','1','0'), ('397','86979474000209','女贞子','1000mg/g','27.38','克','','112','103','NZZ','2019-03-01 00:00:00','10','','1','0'), ('398','86979474000208','甘  油','500g×1瓶','68.72','瓶','无锡','157','101','G  Y','2019-03-01 00:00:00','10','','1','0'), ('399','86979474000209','间苯二酚','250g×1瓶','51.89','瓶','昆山','157','101','JBEF','2019-03-01 00:00:00','10','','1','0'), ('400','86979474000208','百里酚兰','25g×1瓶','0.53','瓶','','157','101','BLFL','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('401','86979474000208','短肽型肠内营养混悬液SP(百普力)','500ml×1瓶','46.68','瓶','纽迪希亚制药（无锡）有限公司','164','101','DZXCNYYHXYSP(BPL)','2019-03-01 00:00:00','10','','1','0'), ('402','86979474000209','过氧化苯甲酰凝胶（班赛）','5%:15g/盒 ','49.80','瓶','法国高德美制药','128','101','GYHBJXNJ（BS）','2019-03-01 00:00:00','10','','1','0'), ('403','86979474000208','注射用白眉蛇毒血凝酶（邦亭）','1000iu×1支','52.79','支','锦州奥鸿药业有限责任公司','110','101','ZSYBMSDXNM（BT）','2019-03-01 00:00:00','10','','1','0'), ('404','86979474000209','注射用前列地尔(保达新)','20ug×1支','3.44','支','珠海许瓦兹制药有限公司','110','101','ZSYQLDE(BDX)','2019-03-01 00:00:00','10','','1','0'), ('405','86979474000208','保险粉','500g×1瓶','47.19','瓶','','157','101','BXF','2019-03-01 00:00:00','10','','1','0'), ('406','86979474000208','注射用重组人白细胞介素11(吉巨芬)','3mg×1支','6.29','支','杭州九源基因工程有限公司','110','101','ZSYZZRBXBJS11(JJF)','2019-03-01 00:00:00','10','','1','0'), ('407','86979474000209','脂溶性维生素注射液(维他利匹特)','10ml×1支','8.65','支','华瑞制药有限公司','110','101','ZRXWSSZSY(WTLPT)','2019-03-01 00:00:00','10','','1','0'), ('408','86979474000208','异甘草酸镁注射液(天晴甘美)','10ml：50mg×1支','1.09','支','正大天晴药业集团股份有限公司','110','101','YGCSMZSY(TQGM)','2019-03-01 00:00:00','10','','1','0'), ('409','86979474000209','盐酸利托君注射液(安宝)','5ml:50mg×1支','0.57','支','台湾信东化学工业有限公司S','110','101','YSLTJZSY(AB)','2019-03-01 00:00:00','10','','1','0'), ('410','86979474000208','注射用米卡芬净钠(米开民)','50mg×1支','7.70','支','安斯泰来制药(中国)有限公司','110','101','ZSYMKFJN(MKM)','2019-03-01 00:00:00','10','','1','0'), ('411','86979474000208','精蛋白锌(优泌乐25)重组赖脯胰岛素混合注射液','3ml:300iu×1支','35.90','支','礼来苏州制药有限公司','110','101','JDBX(YML25)ZZLFYDSHHZSY','2019-03-01 00:00:00','10','','1','0'), ('412','86979474000209','生理氯化钠溶液(百特)','0.9%(3000ml:27g)×1袋','11.25','袋','上海百特医疗用品有限公司','119','101','SLLHNRY(BT)','2019-03-01 00:00:00','10','','1','0'), ('413','86979474000208','瑞舒伐他汀钙(可定)片','10mg×7片/盒','14.41','盒','阿斯利康制药有限公司','111','101','RSFTTG(KD)P','2019-03-01 00:00:00','10','','1','0'), ('414','86979474000209','血滞通胶囊','0.45g×30粒/盒','37.18','盒','吉林东方制药有限公司','114','101','XZTJN','2019-03-01 00:00:00','10','','1','0'), ('415','86979474000208','丹参酮IIA磺酸钠注射液','2ml:10mg×1支','63.20','支','上海上药第一生化药业有限公司','110','101','DCTIIAHSNZSY','2019-03-01 00:00:00','10','','1','0'), ('416','86979474000208','托吡酯片（妥泰）','25mg×60片/盒','31.53','盒','西安杨森制药有限公司','117','101','TZZP（TT）','2019-03-01 00:00:00','10','','1','0'), ('417','86979474000209','盐酸度洛西汀(欣百达)胶囊','60mg×14粒/盒','0.44','盒','Eli Lilly and Company','114','101','YSDLXT(XBD)JN','2019-03-01 00:00:00','10','','1','0'), ('418','86979474000208','左氧氟沙星滴眼液（可乐必妥）','5ml：24.4mg×1支','42.88','支','日本参天制药株式会社','160','101','ZYFSXDYY（KLBT）','2019-03-01 00:00:00','10','','1','0'), ('419','86979474000209','麝香保心丸','22.5mg×42粒/盒','57.43','盒','上海和黄药业','163','102','SXBXW','2019-03-01 00:00:00','10','','1','0'), ('420','86979474000208','胸腺五肽注射液(欧宁）','1ml:1mg×1支','4.93','支','北京双鹭药业股份有限公司','110','101','XXWZZSY(ON）','2019-03-01 00:00:00','10','','1','0'), ('421','86979474000208','银杏达莫注射液','5ml×1支','27.60','支','贵州益佰制药股份有限公司','110','101','YXDMZSY','2019-03-01 00:00:00','10','','1','0'), ('422','86979474000209','玫瑰花','1000mg/g','0.27','克','江苏','112','103','MGH','2019-03-01 00:00:00','10','','1','0'), ('423','86979474000208','密蒙花','1000mg/g','25.72','克','湖北','112','103','MMH','2019-03-01 00:00:00','10','','1','0'), ('424','86979474000209','明矾','1000mg/g','40.38','克','','112','103','MF','2019-03-01 00:00:00','10','','1','0'), ('425','86979474000208','注射用奥沙利铂(艾恒)','50mg×1瓶','8.51','瓶','江苏恒瑞医药股份有限公司','110','101','ZSYASLB(AH)','2019-03-01 00:00:00','10','','1','0'), ('426','86979474000208','奥沙利铂(艾克博康)注射液','40mg×1支','47.21','支','深圳海王药业有限公司','110','101','ASLB(AKBK)ZSY','2019-03-01 00:00:00','10','','1','0'), ('427','86979474000209','糠酸莫米松(艾洛松)软膏','5g×1支','15.93','支','上海先灵葆雅制药有限公司','121','101','KSMMS(ALS)RG','2019-03-01 00:00:00','10','','1','0'), ('428','86979474000208','氟哌利多注射液','2ml:5mg×5支/盒','7.65','盒','上海旭东海普药业有限公司','110','101','FZLDZSY','2019-03-01 00:00:00','10','','1','0'), ('429','86979474000209','氟他胺片','0.25g×50片/盒','14.75','盒','江苏天士力帝益药业有限公司','111','101','FTAP','2019-03-01 00:00:00','10','','1','0'), ('430','86979474000208','聚乙二醇口服散剂(福松)','10g×10袋/盒','59.39','盒','法国 博福-益普生（天津）制药','116','101','JYECKFSJ(FS)','2019-03-01 00:00:00','10','','1','0'), ('431','86979474000208','阿折地平片(贝琪)','8mg×7片/盒','8.35','盒','南京正大天晴制药有限公司S','111','101','AZDPP(BZ)','2019-03-01 00:00:00','10','','1','0'), ('432','86979474000209','注射用苄星青霉素','120万u×1瓶','0.69','瓶','华北制药股份有限公司','110','101','ZSYZXQMS','2019-03-01 00:00:00','10','','1','0'), ('433','86979474000208','辅酶Q10氯化钠注射液(合夫)','250ml×1瓶','39.11','瓶','西南药业股份有限公司','110','101','FMQ10LHNZSY(HF)','2019-03-01 00:00:00','10','','1','0'), ('434','86979474000209','格列吡嗪控释片(瑞易宁)','5mg×14片/盒','14.52','盒','辉瑞制药有限公司','111','101','GLZZKSP(RYN)','2019-03-01 00:00:00','10','','1','0'), ('435','86979474000208','塞来昔布胶囊(西乐葆)','200mg×6片/盒','31.87','盒','辉瑞制药有限公司（大连）','114','101','SLXBJN(XLZ)','2019-03-01 00:00:00','10','','1','0'), ('436','86979474000208','厄贝沙坦氢氯噻嗪(安博诺)片','150mg×7片/盒','54.90','盒','赛诺菲（杭州）制药有限公司','111','101','EBSTQLZZ(ABN)P','2019-03-01 00:00:00','10','','1','0'), ('437','86979474000209','注射用阿昔洛韦(丽科欣)','250mg×1支','66.28','支','湖北科益制药厂','110','101','ZSYAXLW(LKX)','2019-03-01 00:00:00','10','','1','0'), ('438','86979474000208','克咳胶囊','0.3g×21粒/盒','8.94','盒','贵州益佰制药股份有限公司','114','101','KKJN','2019-03-01 00:00:00','10','','1','0'), ('439','86979474000209','异丙肾上腺素注射液','2ml:1mg×2支/盒','68.04','盒','上海禾丰制药有限公司','110','101','YBSSXSZSY','2019-03-01 00:00:00','10','','1','0'), ('440','86979474000208','异丙嗪注射液','25mg×10支/盒','58.10','盒','上海禾丰制药有限公司','110','101','YBZZSY','2019-03-01 00:00:00','10','','1','0'), ('441','86979474000208','虎红琼脂','250g×1瓶','21.68','瓶','','157','101','HHQZ','2019-03-01 00:00:00','10','','1','0'), ('442','86979474000209','重组人红细胞生成素注射液(益比奥)','1ml:10000iu×1支','13.12','支','沈阳三生制药股份有限公司','110','101','ZZRHXBSCSZSY(YBA)','2019-03-01 00:00:00','10','','1','0'), ('443','86979474000208','硫酸氢氯吡格雷片（泰嘉）','25mg×20片/盒','10.87','盒','深圳信立泰药业股份有限公司','111','101','LSQLZGLP（TJ）','2019-03-01 00:00:00','10','','1','0'), ('444','86979474000209','左旋甲状腺片(优甲乐)','50ug×100片/盒','73.08','盒','德国默克','111','102','ZXJZXP(YJL)','2019-03-01 00:00:00','10','','1','0'), ('445','86979474000208','LB注射用盐酸阿柔比星(阿克拉霉','20mg×1支','36.26','支','深圳万乐药业有限公司','161','101','LBZSYYSARBX(AKLM','2019-03-01 00:00:00','10','','1','0'), ('446','86979474000208','东莨菪碱注射液','1ml:0.3mg×1支','15.47','支','徐州莱恩药业有限公司','110','101','DZZJZSY','2019-03-01 00:00:00','10','','1','0'), ('447','86979474000209','醋香附颗粒','0.5g/10g/袋','20.57','袋','江阴天江药业有限公司','115','102','CXFKL','2019-03-01 00:00:00','10','','1','0'), ('448','86979474000208','巴戢天颗粒','3g/10g/袋','3.89','袋','江阴天江药业有限公司','115','102','BZTKL','2019-03-01 00:00:00','10','','1','0'), ('449','86979474000209','干姜颗粒','0.5g/3g/袋','11.55','袋','江阴天江药业有限公司','115','102','GJKL','2019-03-01 00:00:00','10','','1','0'), ('450','86979474000208','炮姜炭颗粒','0.5g/6g/袋','67.00','袋','江阴天江药业有限公司','115','102','PJTKL','2019-03-01 00:00:00','10','','1','0'), ('451','86979474000208','乌药颗粒','0.5g/10g/袋','34.32','袋','江阴天江药业有限公司','115','102','WYKL','2019-03-01 00:00:00','10','','1','0'), ('452','86979474000209','茯苓颗粒','1g/10g/袋','2.77','袋','江阴天江药业有限公司','115','102','ZZKL','2019-03-01 00:00:00','10','','1','0'), ('453','86979474000208','奥硝唑氯化钠(奥立妥)注射液','100ml:0.5g×1袋','2.58','袋','西安万隆制药有限公司','110','101','AXZLHN(ALT)ZSY','2019-03-01 00:00:00','10','','1','0'), ('454','86979474000209','头孢噻肟钠舒巴坦钠(治君)','2.25g×1支','75.63','支','湘北威尔曼制药有限公司','110','101','TZZZNSBTN(ZJ)','2019-03-01 00:00:00','10','','1','0'), ('455','86979474000208','卡介菌纯蛋白衍化物(PPD)注射液','50iu×1支','44.89','支','成都生物制品研究所','110','101','KJJCDBYHW(PPD)ZSY','2019-03-01 00:00:00','10','','1','0'), ('456','86979474000208','生山楂颗粒','3g/10g/袋','3.94','袋','江苏','115','102','SSZKL','2019-03-01 00:00:00','10','','1','0'), ('457','86979474000209','紫石英颗粒(醋煅)','0.5g/15g/袋','61.60','袋','江阴天江药业有限公司','115','102','ZSYKL(CZ)','2019-03-01 00:00:00','10','','1','0'), ('458','86979474000208','果糖注射液(丰海能)','25g:250ml×1瓶','92.31','瓶','江苏正大丰海制药有限公司','110','101','GTZSY(FHN)','2019-03-01 00:00:00','10','','1','0'), ('459','86979474000209','注射用伏立康唑(威凡）','200mg×1支','59.42','支','法玛西亚普强公司','110','101','ZSYFLKZ(WF）','2019-03-01 00:00:00','10','','1','0'), ('460','86979474000208','含氯消毒片','500mg*100片/瓶','66.62','瓶','上海方金消毒技术有限公司','111','101','HLXDP','2019-03-01 00:00:00','10','','1','0'), ('461','86979474000208','LB比沙可啶肠溶片(便塞停）','5mg×8片/盒','0.50','盒','中国药科大学制药有限公司','111','101','LBBSKZCRP(BST）','2019-03-01 00:00:00','10','','1','0'), ('462','86979474000209','10%葡萄糖注射液（百特）','100ml×1袋','24.17','袋','上海百特医疗用品有限公司','110','101','10%PTTZSY（BT）','2019-03-01 00:00:00','10','','1','0'), ('463','86979474000208','水飞蓟素片(利加隆)','70mg×20片/盒','10.53','盒','德国马博士大药厂','111','101','SFJSP(LJL)','2019-03-01 00:00:00','10','','1','0'), ('464','86979474000209','替勃龙片(利维爱)','2.5mg×7粒/盒','13.97','盒','欧加农公司，荷兰N.V.ORGANON','111','101','TBLP(LWA)','2019-03-01 00:00:00','10','','1','0'), ('465','86979474000208','利可君片(利血生)','20mg×48片/盒','7.96','盒','江苏吉贝尔药业股份有限公司','111','101','LKJP(LXS)','2019-03-01 00:00:00','10','','1','0'), ('466','86979474000208','色谱甲醇','500ml×1瓶','4.54','瓶','','157','101','SPJC','2019-03-01 00:00:00','10','','1','0'), ('467','86979474000209','LB消旋山莨菪碱片(654-2)','10mg×100片/瓶','28.86','瓶','杭州民生药业有限公司','111','101','LBXXSZZJP(654-2)','2019-03-01 00:00:00','10','','1','0'), ('468','86979474000208','头孢克肟(世福素)胶囊','100mg×6片/盒','2.88','盒','广州白云山医药集团有限公司白云山制药总厂','114','101','TZKZ(SFS)JN','2019-03-01 00:00:00','10','','1','0'), ('469','86979474000209','莉芙敏','0.28g×30片/盒','8.78','盒','德国夏菩天然药物制药公司S','111','101','LZM','2019-03-01 00:00:00','10','','1','0'), ('470','86979474000208','BG注射用环磷腺苷葡胺(凯缌)','60mg×1支','20.31','支','无锡凯夫制药有限公司','110','101','BGZSYHLXZPA(KZ)','2019-03-01 00:00:00','10','','1','0'), ('471','86979474000208','利伐沙班片(拜瑞妥)','10mg×5片/盒','8.04','盒','拜耳医药保健有限公司S','111','101','LFSBP(BRT)','2019-03-01 00:00:00','10','','1','0'), ('472','86979474000209','盐酸曲唑酮片(美时玉)','50mg×20片/盒','3.58','盒','美时化学制药股份有限公司','111','101','YSQZTP(MSY)','2019-03-01 00:00:00','10','','1','0'), ('473','86979474000208','白芍总苷胶囊(帕夫林)','0.3g×60粒/盒','35.43','盒','宁波立华制药有限公司','114','102','BSZZJN(PFL)','2019-03-01 00:00:00','10','','1','0'), ('474','86979474000209','多维元素片(善存)','60片/瓶','7.39','瓶','惠氏制药有限公司','111','101','DWYSP(SC)','2019-03-01 00:00:00','10','','1','0'), ('475','86979474000208','BG茴三硫胶囊','25mg×24粒/盒','12.21','盒','成都国嘉联合制药有限公司','114','102','BGZSLJN','2019-03-01 00:00:00','10','','1','0'), ('476','86979474000208','消炎利胆片','0.52g*100片/瓶','71.39','瓶','广东万年青制药有限公司','111','101','XYLDP','2019-03-01 00:00:00','10','','1','0'), ('477','86979474000209','阿卡波糖片(拜糖平)','50mg×30片/盒','55.88','盒','拜耳医药保健有限公司','111','101','AKBTP(BTP)','2019-03-01 00:00:00','10','','1','0'), ('478','86979474000208','盐酸班布特罗片(邦备)','10mg×10片/盒','1.85','盒','阿斯利康制药有限公司','111','101','YSBBTLP(BB)','2019-03-01 00:00:00','10','','1','0'), ('479','86979474000209','哌拉西林他唑巴坦钠(邦达)','1.125g*1支','46.97','支','齐鲁天和惠世制药有限公司','110','101','ZLXLTZBTN(BD)','2019-03-01 00:00:00','10','','1','0'), ('480','86979474000208','黄色氧化汞','100g×1瓶','13.47','瓶','','157','101','HSYHG','2019-03-01 00:00:00','10','','1','0'), ('481','86979474000208','去痛片','0.5g×24片/盒','28.70','盒','南京白敬宇制药有限责任公司','111','101','QTP','2019-03-01 00:00:00','10','','1','0'), ('482','86979474000209','破伤风人免疫球蛋白(蜀阳)注射液','2.5ml:250iu×1支','44.76','支','四川远大蜀阳药业有限公司','110','101','PSFRMYQDB(SY)ZSY','2019-03-01 00:00:00','10','','1','0'), ('483','86979474000208','左乙拉西坦片','500mg×30片/盒','82.88','盒','比利时2','111','102','ZYLXTP','2019-03-01 00:00:00','10','','1','0'), ('484','86979474000209','复合磷酸氢钾注射液(唯甲林)','2ml×1支','1.39','支','天津金耀氨基酸有限公司','110','101','FHLSQJZSY(WJL)','2019-03-01 00:00:00','10','','1','0'), ('485','86979474000208','注射用灯盏花素','25mg×1支','15.53','支','昆明龙津药业有限公司','110','101','ZSYDZHS','2019-03-01 00:00:00','10','','1','0'), ('486','86979474000208','注射用托拉塞米(泽通)','20mg×1支','19.30','支','南京海辰药业有限公司','110','101','ZSYTLSM(ZT)','2019-03-01 00:00:00','10','','1','0'), ('487','86979474000209','天花粉颗粒','1g/10g/袋','1.36','袋','江阴天江药业有限公司','115','102','THFKL','2019-03-01 00:00:00','10','','1','0'), ('488','86979474000208','10%葡萄糖注射液（百特）','500ml×1袋','0.86','袋','上海百特医疗用品有限公司','110','101','10%PTTZSY（BT）','2019-03-01 00:00:00','10','','1','0'), ('489','86979474000209','10%葡萄糖注射液（百特）','250ml×1袋','4.17','袋','上海百特医疗用品有限公司','110','101','10%PTTZSY（BT）','2019-03-01 00:00:00','10','','1','0'), ('490','86979474000208','5%葡萄糖注射液（百特）','500ml×1袋','13.69','袋','上海百特医疗用品有限公司','110','101','5%PTTZSY（BT）','2019-03-01 00:00:00','10','','1','0'), ('491','86979474000208','5%葡萄糖注射液（百特）','100ml×1袋','45.10','袋','上海百特医疗用品有限公司','110','101','5%PTTZSY（BT）','2019-03-01 00:00:00','10','','1','0'), ('492','86979474000209','5%葡萄糖注射液（百特）','250ml×1袋','72.47','袋','上海百特医疗用品有限公司','110','101','5%PTTZSY（BT）','2019-03-01 00:00:00','10','','1','0'), ('493','86979474000208','厄贝沙坦片（吉加）','150mg×14片/盒','22.83','盒','江苏恒瑞医药股份有限公司','111','101','EBSTP（JJ）','2019-03-01 00:00:00','10','','1','0'), ('494','86979474000209','注射用氯化钠  ','1000g×1袋','37.35','袋','江苏南通勤奋制药','157','101','ZSYLHN  ','2019-03-01 00:00:00','10','','1','0'), ('495','86979474000208','注射用氯化钠  ','500g×1瓶','5.76','瓶','上海久亿','157','101','ZSYLHN  ','2019-03-01 00:00:00','10','','1','0'), ('496','86979474000208','注射用白细胞介素-2(因特康)','100万u×1支','16.05','支','江苏金丝利药业有限公司','110','101','ZSYBXBJS-2(YTK)','2019-03-01 00:00:00','10','','1','0'), ('497','86979474000209','醋酸奥曲肽注射液(力尔宁)','1ml:0.2mg×1支','72.66','支','国药一心制药有限公司','110','101','CSAQZZSY(LEN)','2019-03-01 00:00:00','10','','1','0'), ('498','86979474000208','戊酸雌二醇(克龄蒙)/雌二醇坏丙孕酮片','2mg/2mg/1mg×21片/盒','5.54','盒','拜耳医药保健有限公司','111','101','WSCEC(KLM)/CECHBYTP','2019-03-01 00:00:00','10','','1','0'), ('499','86979474000209','知母颗粒','2.5g/10g/袋','16.57','袋','江阴天江药业有限公司','115','102','ZMKL','2019-03-01 00:00:00','10','','1','0'), ('500','86979474000208','头孢地尼分散片(兴易比可)','0.1g×6片/盒','63.79','盒','天津市津兰药业有限公司','123','101','TZDNFSP(XYBK)','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('501','86979474000208','格列美脲片(亚莫利)','2mg×15片/盒','37.68','盒','赛诺菲(北京)制药有限公司','111','101','GLMZP(YML)','2019-03-01 00:00:00','10','','1','0'), ('502','86979474000209','心可舒片','0.31g×72片/盒','9.67','盒','山东沃华医药科技股份有限公司','111','101','XKSP','2019-03-01 00:00:00','10','','1','0'), ('503','86979474000208','葡萄糖氯化钠注射液（百特）','100ml×1袋','40.61','袋','上海百特医疗用品有限公司','110','101','PTTLHNZSY（BT）','2019-03-01 00:00:00','10','','1','0'), ('504','86979474000209','葡萄糖氯化钠注射液（百特）','500ml×1袋','60.75','袋','上海百特医疗用品有限公司','110','101','PTTLHNZSY（BT）','2019-03-01 00:00:00','10','','1','0'), ('505','86979474000208','葡萄糖氯化钠注射液（百特）','250ml×1袋','49.83','袋','上海百特医疗用品有限公司','110','101','PTTLHNZSY（BT）','2019-03-01 00:00:00','10','','1','0'), ('506','86979474000208','0.9%氯化钠注射液（百特）','250ml×1袋','19.64','袋','上海百特医疗用品有限公司','110','101','0.9%LHNZSY（BT）','2019-03-01 00:00:00','10','','1','0'), ('507','86979474000209','阿替卡因肾上腺素注射液(必兰)','1.7ml(68mg:17ug)×1支','25.50','支','法国碧兰公司','110','101','ATKYSSXSZSY(BL)','2019-03-01 00:00:00','10','','1','0'), ('508','86979474000208','生理氯化钠溶液（外用）','500ml×1瓶','64.24','瓶','中国大冢制药有限公司','110','101','SLLHNRY（WY）','2019-03-01 00:00:00','10','','1','0'), ('509','86979474000209','核糖核酸Ⅱ','100mg×1瓶','38.34','瓶','吉林敖东药业集团延吉股份有限公司','161','101','HTHSⅡ','2019-03-01 00:00:00','10','','1','0'), ('510','86979474000208','盐酸吡格列酮(瑞彤)片','30mg×14片/盒','0.63','盒','江苏德源药业有限公司','111','101','YSZGLT(RT)P','2019-03-01 00:00:00','10','','1','0'), ('511','86979474000208','注射用利福平','0.45g×1瓶','16.78','瓶','重庆华邦制药有限公司S','110','101','ZSYLFP','2019-03-01 00:00:00','10','','1','0'), ('512','86979474000209','脂溶性维生素(II)','1940ug:5ug:100ug:150ug','73.18','支','西安远大德天药业股份有限公司','110','101','ZRXWSS(II)','2019-03-01 00:00:00','10','','1','0'), ('513','86979474000208','硝酸甘油片(派洛)','0.5mg×48片/盒','9.09','盒','北京益民药业有限公司','111','101','XSGYP(PL)','2019-03-01 00:00:00','10','','1','0'), ('514','86979474000209','注射用阿替普酶(爱通立)','50mg×1支','7.11','支','勃林格殷格翰（德国）国际公司','110','101','ZSYATPM(ATL)','2019-03-01 00:00:00','10','','1','0'), ('515','86979474000208','地氯雷他定(恩理思)片','5mg×6片/盒','35.84','盒','默沙东制药（杭州）有限公司','111','101','DLLTD(ELS)P','2019-03-01 00:00:00','10','','1','0'), ('516','86979474000208','盐酸多柔比星脂质体注射液','20mg×1瓶','21.64','瓶','上海复旦张江生物医药股份S','110','101','YSDRBXZZTZSY','2019-03-01 00:00:00','10','','1','0'), ('517','86979474000209','硝酸钙','500g×1瓶','1.75','瓶','','157','101','XSG','2019-03-01 00:00:00','10','','1','0'), ('518','86979474000208','硝酸钾','500g×1瓶','15.07','瓶','','157','101','XSJ','2019-03-01 00:00:00','10','','1','0'), ('519','86979474000209','刺猬皮','1000mg/g','4.34','克','江苏','112','103','CZP','2019-03-01 00:00:00','10','','1','0'), ('520','86979474000208','大腹皮','1000mg/g','0.03','克','进口','112','103','DFP','2019-03-01 00:00:00','10','','1','0'), ('521','86979474000208','大蓟草','1000mg/g','41.65','克','江苏','112','103','DJC','2019-03-01 00:00:00','10','','1','0'), ('522','86979474000209','大青叶','1000mg/g','72.54','克','江苏','112','103','DQY','2019-03-01 00:00:00','10','','1','0'), ('523','86979474000208','代赭石','1000mg/g','26.57','克','山西普德药业股份有限公司','112','103','DZS','2019-03-01 00:00:00','10','','1','0'), ('524','86979474000209','软肥皂','500g×1瓶','8.99','瓶','北京燕京','157','101','RFZ','2019-03-01 00:00:00','10','','1','0'), ('525','86979474000208','重组人红细胞生成素注射液(益比奥)','1ml:3000iu×1支','11.00','支','沈阳三生制药股份有限公司','110','101','ZZRHXBSCSZSY(YBA)','2019-03-01 00:00:00','10','','1','0'), ('526','86979474000208','复方聚乙二醇电解口服散','ABC3包/盒','17.51','盒','江西恒康药业有限公司','113','101','FFJYECDJKFS','2019-03-01 00:00:00','10','','1','0'), ('527','86979474000209','硫酸铵','500ml×1瓶','3.53','瓶','','157','101','LSZ','2019-03-01 00:00:00','10','','1','0'), ('528','86979474000208','注射用硫酸链霉素','1g×1瓶','43.07','瓶','山东鲁抗制药有限公司','110','101','ZSYLSLMS','2019-03-01 00:00:00','10','','1','0'), ('529','86979474000209','硫酸镁','500g×1袋','31.94','袋','重庆','157','101','LSM','2019-03-01 00:00:00','10','','1','0'), ('530','86979474000208','硫酸铁(AR)','500g×1瓶','3.13','瓶','沪山海','157','101','LST(AR)','2019-03-01 00:00:00','10','','1','0'), ('531','86979474000208','注射用兰索拉唑(奥维加）','30mg×1瓶','2.15','瓶','江苏奥赛康药业股份有限公司','110','101','ZSYLSLZ(AWJ）','2019-03-01 00:00:00','10','','1','0'), ('532','86979474000209','美洛昔康(莫比可)片','7.5mg×7片/盒','64.23','盒','勃林格殷格翰（上海）药业有限公司','111','101','MLXK(MBK)P','2019-03-01 00:00:00','10','','1','0'), ('533','86979474000208','火棉胶','500ml×1瓶','7.72','瓶','','157','101','HMJ','2019-03-01 00:00:00','10','','1','0'), ('534','86979474000209','熟地黄颗粒','4g/10g/袋','87.10','袋','江阴天江药业有限公司','115','102','SDHKL','2019-03-01 00:00:00','10','','1','0'), ('535','86979474000208','金莲清热泡腾片','4g*12片/盒','15.38','盒','天津中新药业集团股份有限公司','111','101','JLQRPTP','2019-03-01 00:00:00','10','','1','0'), ('536','86979474000208','缩宫素注射液(催产素)','5iu×1支','27.77','支','安徽宏业药业有限公司','110','101','SGSZSY(CCS)','2019-03-01 00:00:00','10','','1','0'), ('537','86979474000209','百乐眠胶囊','0.27g×24粒/盒','15.16','盒','扬子江药业集团有限公司','114','102','BLMJN','2019-03-01 00:00:00','10','','1','0'), ('538','86979474000208','注射用哌甲酯(利他灵)','20mg×1支','7.08','支','苏州第一制药厂','161','101','ZSYZJZ(LTL)','2019-03-01 00:00:00','10','','1','0'), ('539','86979474000209','猪肺磷脂注射液（固尔苏）','240mg×3ml/支','2.17','支','意大利S','110','101','ZFLZZSY（GES）','2019-03-01 00:00:00','10','','1','0'), ('540','86979474000208','克霉唑阴道片(凯妮汀)','0.5g×1盒','23.03','盒','拜耳医药保健有限公司','111','101','KMZYDP(KNT)','2019-03-01 00:00:00','10','','1','0'), ('541','86979474000208','盐酸贝那普利片(信达怡)','5mg×28片/盒','42.49','盒','深圳信立泰药业股份有限公司','111','101','YSBNPLP(XDZ)','2019-03-01 00:00:00','10','','1','0'), ('542','86979474000209','水红花子','1000mg/g','6.20','克','','112','103','SHHZ','2019-03-01 00:00:00','10','','1','0'), ('543','86979474000208','碘酊','20mL/瓶','29.78','瓶','常熟市星海制药有限公司','129','101','DJ','2019-03-01 00:00:00','10','','1','0'), ('544','86979474000209','盐酸羟考酮缓释片(奥施康定)','10mg×10片/盒','13.01','盒','萌蒂(英国)制药有限公司S','111','101','YSQKTHSP(ASKD)','2019-03-01 00:00:00','10','','1','0'), ('545','86979474000208','来曲唑片(弗隆)','2.5mg×30片/盒','43.83','盒','诺华制药（瑞士）有限公司S','111','101','LQZP(FL)','2019-03-01 00:00:00','10','','1','0'), ('546','86979474000208','氢氧化钠','500g×1瓶','3.92','瓶','上海久亿','157','101','QYHN','2019-03-01 00:00:00','10','','1','0'), ('547','86979474000209','沙美特罗替卡松吸入剂(舒利迭)','50ug:100ug×1瓶','69.41','瓶','葛兰素史克（中国）投资有限公司','122','101','SMTLTKSXRJ(SLD)','2019-03-01 00:00:00','10','','1','0'), ('548','86979474000208','替普瑞酮胶囊（施维舒）','50mg×20粒/盒','0.44','盒','卫材(中国)药业有限公司','114','101','TPRTJN（SWS）','2019-03-01 00:00:00','10','','1','0'), ('549','86979474000209','联苯','250g×1瓶','2.26','瓶','','157','101','LB','2019-03-01 00:00:00','10','','1','0'), ('550','86979474000208','联苯胺','25g×1瓶','10.52','瓶','','157','101','LBA','2019-03-01 00:00:00','10','','1','0'), ('551','86979474000208','联吡啶(AR)','1g×1瓶','86.92','瓶','','157','101','LZZ(AR)','2019-03-01 00:00:00','10','','1','0'), ('552','86979474000209','亮绿(FMP)','10g×1瓶','62.22','瓶','天士力制药集团股份有限公司','157','101','LL(FMP)','2019-03-01 00:00:00','10','','1','0'), ('553','86979474000208','疏血通注射液','2ml×1支','2.40','支','牡丹江友博药业','110','101','SXTZSY','2019-03-01 00:00:00','10','','1','0'), ('554','86979474000209','韭菜子','1000mg/g','5.81','克','','112','103','JCZ','2019-03-01 00:00:00','10','','1','0'), ('555','86979474000208','桔梗','1000mg/g','3.94','克','江苏','112','103','JG','2019-03-01 00:00:00','10','','1','0'), ('556','86979474000208','桔红','1000mg/g','8.58','克','','112','103','JH','2019-03-01 00:00:00','10','','1','0'), ('557','86979474000209','聚维酮碘消毒液(手术用）','250ml×1瓶','39.89','瓶','兴化','119','101','JWTDXDY(SSY）','2019-03-01 00:00:00','10','','1','0'), ('558','86979474000208','乳酸钠林格注射液(双管软袋)','500ml×1瓶','7.57','瓶','浙江济民制药股份有限公司','110','101','RSNLGZSY(SGRD)','2019-03-01 00:00:00','10','','1','0'), ('559','86979474000209','注射用甲氨喋呤','5mg×1支','28.92','支','广东岭南制药有限公司','161','101','ZSYJAZZ','2019-03-01 00:00:00','10','','1','0'), ('560','86979474000208','灭菌注射用水','500ml×1瓶','20.38','瓶','安徽双鹤药业有限公司','110','101','MJZSYS','2019-03-01 00:00:00','10','','1','0'), ('561','86979474000208','氟哌噻吨美利曲辛片（黛力新）','0.5mg:10mg×20片/盒','8.02','盒','丹麦灵北制药公司','111','101','FZZDMLQXP（DLX）','2019-03-01 00:00:00','10','','1','0'), ('562','86979474000209','注射用帕瑞昔布钠(特耐)','40mg×1瓶','26.04','瓶','辉瑞制药有限公司','110','101','ZSYPRXBN(TN)','2019-03-01 00:00:00','10','','1','0'), ('563','86979474000208','小儿复方氨基酸注射液(19AA-I)','20ml:1.2g/1瓶','9.28','瓶','北京双鹤药业股份有限公司','110','101','XEFFAJSZSY(19AA-I)','2019-03-01 00:00:00','10','','1','0'), ('564','86979474000209','松节油','500ml×1瓶','62.74','瓶','上海久亿','157','101','SJY','2019-03-01 00:00:00','10','','1','0'), ('565','86979474000208','苏木色素(BS)','5g×1瓶','62.82','瓶','','157','101','SMSS(BS)','2019-03-01 00:00:00','10','','1','0'), ('566','86979474000208','苏木色素','10g×1瓶','1.75','瓶','','157','101','SMSS','2019-03-01 00:00:00','10','','1','0'), ('567','86979474000209','那屈肝素钙注射液(速碧林)','0.4ml:4100u×1支','7.14','支','葛兰素史克(天津)有限公司','110','101','NQGSGZSY(SBL)','2019-03-01 00:00:00','10','','1','0'), ('568','86979474000208','羧甲基纤维素钠','1000mg/g','4.58','克','','157','101','JJJXWSN','2019-03-01 00:00:00','10','','1','0'), ('569','86979474000209','注射用亚胺培南西司他啶(泰能)','0.5g×1瓶','5.35','瓶','默沙东制药（杭州）有限公司','110','101','ZSYYAPNXSTZ(TN)','2019-03-01 00:00:00','10','','1','0'), ('570','86979474000208','次碳酸铋','500g×1瓶','24.70','瓶','','157','101','CTSZ','2019-03-01 00:00:00','10','','1','0'), ('571','86979474000208','醋酸钠','1000g×1瓶','1.44','瓶','','157','101','CSN','2019-03-01 00:00:00','10','','1','0'), ('572','86979474000209','醋酸钠','500g×1瓶','5.10','瓶','','157','101','CSN','2019-03-01 00:00:00','10','','1','0'), ('573','86979474000208','甲苯','500ml×1瓶','6.62','瓶','上海九亿','157','101','JB','2019-03-01 00:00:00','10','','1','0'), ('574','86979474000209','盐酸帕洛诺司琼(欧赛)注射液','5ml:0.25mg×1支','6.00','支','齐鲁制药(海南)有限公司S','110','101','YSPLNSQ(OS)ZSY','2019-03-01 00:00:00','10','','1','0'), ('575','86979474000208','碳酸氢钠注射液','10ml:0.5g×1支','45.52','支','天津金耀药业有限公司','110','101','TSQNZSY','2019-03-01 00:00:00','10','','1','0'), ('576','86979474000208','红花颗粒','2g/6g/袋','2.18','袋','江阴天江药业有限公司','115','102','HHKL','2019-03-01 00:00:00','10','','1','0'), ('577','86979474000209','杏仁颗粒(燀)','1g/10g/袋','12.38','袋','江阴天江药业有限公司','115','102','XRKL','2019-03-01 00:00:00','10','','1','0'), ('578','86979474000208','银黄颗粒','2g*16袋/盒','4.42','盒','江西济民可信药业有限公司','115','102','YHKL','2019-03-01 00:00:00','10','','1','0'), ('579','86979474000209','精制银翘解毒胶囊(感冒停）','0.3g*24粒/盒','67.60','盒','贵州恒和制药有限公司','114','102','JZYQJDJN(GMT）','2019-03-01 00:00:00','10','','1','0'), ('580','86979474000208','荧光素(AR)','25g×1瓶','3.00','瓶','','157','101','YGS(AR)','2019-03-01 00:00:00','10','','1','0'), ('581','86979474000208','硬脂酸','250g×1瓶','1.09','瓶','','157','101','YZS','2019-03-01 00:00:00','10','','1','0'), ('582','86979474000209','磷酸','500ml×1瓶','10.93','瓶','','157','101','LS','2019-03-01 00:00:00','10','','1','0'), ('583','86979474000208','磷酸二氢铵(AR)','500g×1瓶','31.25','瓶','','157','101','LSEQZ(AR)','2019-03-01 00:00:00','10','','1','0'), ('584','86979474000209','磷酸二氢钾(AR)','500g×1瓶','4.29','瓶','','157','101','LSEQJ(AR)','2019-03-01 00:00:00','10','','1','0'), ('585','86979474000208','磷酸二氢钠','500g×1瓶','68.45','瓶','上海','157','101','LSEQN','2019-03-01 00:00:00','10','','1','0'), ('586','86979474000208','磷酸氢二钾','500g×1瓶','61.83','瓶','','157','101','LSQEJ','2019-03-01 00:00:00','10','','1','0'), ('587','86979474000209','磷酸氢二钠(AR)','500g×1瓶','13.55','瓶','上海','157','101','LSQEN(AR)','2019-03-01 00:00:00','10','','1','0'), ('588','86979474000208','钠石灰','1000g×1瓶','88.26','瓶','','157','101','NSH','2019-03-01 00:00:00','10','','1','0'), ('589','86979474000209','钆双胺注射液(欧乃影)','4.305g×15ml/瓶','36.17','瓶','通用电气药业 （上海）有限公司','110','101','ZSAZSY(ONY)','2019-03-01 00:00:00','10','','1','0'), ('590','86979474000208','柴银口服液','20ml×6支/盒','3.15','盒','鲁南厚普制药有限公司','164','102','CYKFY','2019-03-01 00:00:00','10','','1','0'), ('591','86979474000208','水牛角颗粒','0.5g/15g/袋','2.55','袋','江阴天江药业有限公司','115','102','SNJKL','2019-03-01 00:00:00','10','','1','0'), ('592','86979474000209','炒僵蚕颗粒','1g/10g/袋','8.97','袋','江阴天江药业有限公司','115','102','CJCKL','2019-03-01 00:00:00','10','','1','0'), ('593','86979474000208','三乙醇胺乳膏（比亚芬）','46.5g×1支','42.66','支','法国梅迪克斯制药厂','118','101','SYCARG（BYF）','2019-03-01 00:00:00','10','','1','0'), ('594','86979474000209','注射用卡络磺钠','40mg×1支','0.02','支','江苏吴中医药集团有限公司苏州制药厂','110','101','ZSYKLHN','2019-03-01 00:00:00','10','','1','0'), ('595','86979474000208','尿素','1000g×1瓶','0.74','瓶','湖南芙蓉','157','101','NS','2019-03-01 00:00:00','10','','1','0'), ('596','86979474000208','地塞米松磷酸钠注射液','1ml:5mg×10支/盒','28.55','盒','鲁抗辰欣','110','101','DSMSLSNZSY','2019-03-01 00:00:00','10','','1','0'), ('597','86979474000209','结构脂肪乳注射液(力文)','250ml:50g×1袋','37.28','袋','华瑞制药有限公司','110','101','JGZFRZSY(LW)','2019-03-01 00:00:00','10','','1','0'), ('598','86979474000208','巴比妥钠','25g×1瓶','50.47','瓶','','157','101','BBTN','2019-03-01 00:00:00','10','','1','0'), ('599','86979474000209','人血白蛋白注射液(德国)','50ml:10g×1瓶','14.29','瓶','德国杰特贝公司','110','101','RXBDBZSY(DG)','2019-03-01 00:00:00','10','','1','0'), ('600','86979474000208','人血白蛋白注射液(华兰)','50ml:5g×1瓶','30.04','瓶','华兰生物工程股份有限公司','110','101','RXBDBZSY(HL)','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('601','86979474000208','人血白蛋白注射液(四川)','5g：25ml×1瓶','50.28','瓶','四川远大蜀阳药业有限公司','110','101','RXBDBZSY(SC)','2019-03-01 00:00:00','10','','1','0'), ('602','86979474000209','人血白蛋白注射液(蓉生)','50ml:10g×1瓶','6.88','瓶','成都蓉生药业有限公司','110','101','RXBDBZSY(RS)','2019-03-01 00:00:00','10','','1','0'), ('603','86979474000208','白凡士林','500g×1瓶','1.08','瓶','','157','101','BFSL','2019-03-01 00:00:00','10','','1','0'), ('604','86979474000209','甲醇','500ml×1瓶','3.55','瓶','上海久亿','157','101','JC','2019-03-01 00:00:00','10','','1','0'), ('605','86979474000208','甲酚','500ml×1瓶','4.61','瓶','','157','101','JF','2019-03-01 00:00:00','10','','1','0'), ('606','86979474000208','甲酚皂溶液','500ml×1瓶','61.37','瓶','','157','101','JFZRY','2019-03-01 00:00:00','10','','1','0'), ('607','86979474000209','恩替卡韦片(博路定)','0.5mg×7片/盒','28.86','盒','中美上海施贵宝制药有限公司S','111','101','ETKWP(BLD)','2019-03-01 00:00:00','10','','1','0'), ('608','86979474000208','米曲菌胰酶片(慷彼申)','220mg：24mg×20片/盒','34.44','盒','NORDMARK ARZNEIMITTEL Gmbh','111','101','MQJYMP(KBS)','2019-03-01 00:00:00','10','','1','0'), ('609','86979474000209','琥珀酸索利那新片(卫喜康)','5mg×10片/盒','13.64','盒','安斯泰来制药(中国)有限公司','111','102','ZZSSLNXP(WXK)','2019-03-01 00:00:00','10','','1','0'), ('610','86979474000208','欧龙马滴剂','50ml*1瓶','2.44','瓶','德国比奥罗历加制药有限公司','130','101','OLMDJ','2019-03-01 00:00:00','10','','1','0'), ('611','86979474000208','BG盐酸二甲双胍缓释片(泰白)','0.5g×30片/盒','71.47','盒','正大天晴药业集团股份有限公司','111','101','BGYSEJSZHSP(TB)','2019-03-01 00:00:00','10','','1','0'), ('612','86979474000209','奥美拉唑肠溶胶囊(奥克)','20mg×14粒/盒','72.35','盒','常州四药制药有限公司','114','101','AMLZCRJN(AK)','2019-03-01 00:00:00','10','','1','0'), ('613','86979474000208','硝酸咪康唑阴道软胶囊','1.2g×1枚/盒','15.02','盒','西安杨森制药有限公司','125','101','XSZKZYDRJN','2019-03-01 00:00:00','10','','1','0'), ('614','86979474000209','碘伏（越星）','60ml×1瓶','66.83','瓶','兴化市医疗卫生用品有限公司','157','101','DF（YX）','2019-03-01 00:00:00','10','','1','0'), ('615','86979474000208','皮肤消毒液(鸭嘴形)','500ml×1瓶','28.06','瓶','靖江康爱特化工制造有限公司','157','101','PFXDY(YZX)','2019-03-01 00:00:00','10','','1','0'), ('616','86979474000208','曲安奈德注射液','50mg×5ml/瓶','4.37','瓶','浙江仙琚制药股份有限公司','110','101','QANDZSY','2019-03-01 00:00:00','10','','1','0'), ('617','86979474000209','醋酸乙酯','500g×1瓶','48.44','瓶','','157','101','CSYZ','2019-03-01 00:00:00','10','','1','0'), ('618','86979474000208','硝酸异山梨酯缓释片（长效消心痛）','20mg×30片/瓶','29.28','瓶','青岛黄海制药有限责任公司','111','101','XSYSLZHSP（CXXXT）','2019-03-01 00:00:00','10','','1','0'), ('619','86979474000209','酒石酸美托洛尔片(倍他乐克）','25mg×20片/盒','10.09','盒','阿斯利康制药有限公司','111','101','JSSMTLEP(BTLK）','2019-03-01 00:00:00','10','','1','0'), ('620','86979474000208','亚甲蓝注射液（美兰）','2ml:20mg×5支/盒','3.58','盒','济川药业集团有限公司','110','101','YJLZSY（ML）','2019-03-01 00:00:00','10','','1','0'), ('621','86979474000208','盐酸米诺环素胶囊(美满霉素)','50mg×20粒/盒','55.09','盒','惠氏制药有限公司','114','101','YSMNHSJN(MMMS)','2019-03-01 00:00:00','10','','1','0'), ('622','86979474000209','钠钾镁钙葡萄糖注射液(乐加)','500ml×1袋','8.01','袋','江苏恒瑞医药股份有限公司','110','101','NJMGPTTZSY(LJ)','2019-03-01 00:00:00','10','','1','0'), ('623','86979474000208','注射用比阿培南(天册)','0.3g×1支','2.83','支','正大天晴药业集团股份有限公司','110','101','ZSYBAPN(TC)','2019-03-01 00:00:00','10','','1','0'), ('624','86979474000209','注射用香菇多糖(天地欣)','1mg×1支','24.62','支','南京绿叶思科药业有限公司','110','101','ZSYXGDT(TDX)','2019-03-01 00:00:00','10','','1','0'), ('625','86979474000208','唑来膦酸注射液(密固达)','100ml:5mg×1瓶','56.43','瓶','诺华制药（瑞士）','110','101','ZLZSZSY(MGD)','2019-03-01 00:00:00','10','','1','0'), ('626','86979474000208','碘化钾','500克×1瓶','53.43','瓶','广东台山新宁制药厂','157','101','DHJ','2019-03-01 00:00:00','10','','1','0'), ('627','86979474000209','盐酸多奈哌齐片（安理申）','5mg×7片/盒','32.52','盒','卫材(中国)药业有限公司','111','101','YSDNZQP（ALS）','2019-03-01 00:00:00','10','','1','0'), ('628','86979474000208','安乃近注射液','2ml:0.5g×10支/盒','79.63','盒','芜湖康奇','110','101','ANJZSY','2019-03-01 00:00:00','10','','1','0'), ('629','86979474000209','盐酸帕洛诺司琼(止若)注射液','5ml：0.25mg×1支','50.03','支','正大天晴药业集团股份有限公司','110','101','YSPLNSQ(ZR)ZSY','2019-03-01 00:00:00','10','','1','0'), ('630','86979474000208','地特胰岛素(诺和平)注射液','300iu/3ml/支','8.22','支','丹麦诺和诺德公司','110','101','DTYDS(NHP)ZSY','2019-03-01 00:00:00','10','','1','0'), ('631','86979474000208','注射用头孢地嗪钠','0.5g×1支','3.77','支','国药集团鲁亚（山东）制药有限公司','110','101','ZSYTZDZN','2019-03-01 00:00:00','10','','1','0'), ('632','86979474000209','普瑞巴林胶囊(乐瑞卡)','75mg×8粒/盒','24.39','盒','辉瑞制药有限公司（大连）','114','101','PRBLJN(LRK)','2019-03-01 00:00:00','10','','1','0'), ('633','86979474000208','肠内营养乳剂TPF(瑞先)','500ml×1瓶','50.81','瓶','华瑞制药有限公司','118','101','CNYYRJTPF(RX)','2019-03-01 00:00:00','10','','1','0'), ('634','86979474000209','注射用替加环素(泰阁)','50mg×1支','51.59','盒','惠氏制药有限公司','110','101','ZSYTJHS(TG)','2019-03-01 00:00:00','10','','1','0'), ('635','86979474000208','*肝素钠注射液','2ml:1.25万u×10支/盒','3.11','盒','上海第一生化药业有限公司','110','101','GSNZSY','2019-03-01 00:00:00','10','','1','0'), ('636','86979474000208','人凝血酶原复合物','200iu×1瓶','1.10','瓶','华兰生物工程股份有限公司','161','101','RNXMYFHW','2019-03-01 00:00:00','10','','1','0'), ('637','86979474000209','注射用醋酸曲普瑞林(达菲林)','0.1mg×1支','12.45','支','博福-益普生(天津)制药有限公司S','110','101','ZSYCSQPRL(DFL)','2019-03-01 00:00:00','10','','1','0'), ('638','86979474000208','炒酸枣仁颗粒','0.5g/10g/袋','2.21','袋','江阴天江药业有限公司','115','102','CSZRKL','2019-03-01 00:00:00','10','','1','0'), ('639','86979474000209','柏子仁颗粒','0.5g/10g/袋','0.82','袋','江阴天江药业有限公司','115','102','BZRKL','2019-03-01 00:00:00','10','','1','0'), ('640','86979474000208','炒枳壳颗粒(麩炒)','1g/6g/袋','7.73','袋','江阴天江药业有限公司','115','102','CZKKL(C)','2019-03-01 00:00:00','10','','1','0'), ('641','86979474000208','五味子颗粒(醋)','1g/6g/袋','12.88','袋','江阴天江药业有限公司','115','102','WWZKL(C)','2019-03-01 00:00:00','10','','1','0'), ('642','86979474000209','山萸肉颗粒(酒)','1.5g/6g/袋','47.70','袋','江阴天江药业有限公司','115','102','SZRKL(J)','2019-03-01 00:00:00','10','','1','0'), ('643','86979474000208','聚乙二醇干扰素α-2b（佩乐能）','100ug×1支','4.17','支','默沙东制药S','161','101','JYECGRSα-2b（PLN）','2019-03-01 00:00:00','10','','1','0'), ('644','86979474000209','尿素乳膏','50g:5g×1支','39.93','支','张家港市绮丽日用化学品有限公司','118','101','NSRG','2019-03-01 00:00:00','10','','1','0'), ('645','86979474000208','草乌','1000mg/g','37.93','克','四川','112','103','CW','2019-03-01 00:00:00','10','','1','0'), ('646','86979474000208','侧柏叶','1000mg/g','19.25','克','江苏','112','103','CBY','2019-03-01 00:00:00','10','','1','0'), ('647','86979474000209','紫杉醇脂质体针','30mg×1支','42.67','支','南京绿叶制药有限公司','110','101','ZSCZZTZ','2019-03-01 00:00:00','10','','1','0'), ('648','86979474000208','氧化汞','100g×1瓶','15.16','瓶','','157','101','YHG','2019-03-01 00:00:00','10','','1','0'), ('649','86979474000209','海金沙','1000mg/g','56.58','克','广东','112','103','HJS','2019-03-01 00:00:00','10','','1','0'), ('650','86979474000208','浙桐皮','1000mg/g','0.24','克','','112','103','ZTP','2019-03-01 00:00:00','10','','1','0'), ('651','86979474000208','蒿本','1000mg/g','19.91','克','','112','103','ZB','2019-03-01 00:00:00','10','','1','0'), ('652','86979474000209','合欢花','1000mg/g','15.69','克','江苏','112','103','HHH','2019-03-01 00:00:00','10','','1','0'), ('653','86979474000208','山犁醇','100g×1瓶','47.19','瓶','','157','101','SLC','2019-03-01 00:00:00','10','','1','0'), ('654','86979474000209','注射用阿糖胞苷(塞得萨)','100mg×1支','13.76','支','辉瑞制药','110','101','ZSYATBZ(SDS)','2019-03-01 00:00:00','10','','1','0'), ('655','86979474000208','甲磺酸多沙唑嗪缓释片（可多华)','4mg×10片/盒','8.85','盒','辉瑞制药有限公司（大连）','131','101','JHSDSZZHSP（KDH)','2019-03-01 00:00:00','10','','1','0'), ('656','86979474000208','5%葡萄糖注射液（亚邦软袋）','5%250ml×1袋','5.48','袋','江苏亚邦生缘药业有限公司','110','101','5%PTTZSY（YBRD）','2019-03-01 00:00:00','10','','1','0'), ('657','86979474000209','蛋白琥珀酸铁口服溶液','15ml:40mg×10瓶/盒','12.54','盒','意大泛马克大药厂','164','101','DBZZSTKFRY','2019-03-01 00:00:00','10','','1','0'), ('658','86979474000208','天山雪莲','3g/袋','2.70','袋','南京药业股份有限公司药材分公司','112','103','TSXL','2019-03-01 00:00:00','10','','1','0'), ('659','86979474000209','补骨脂','1000mg/g','50.86','克','江苏','112','103','BGZ','2019-03-01 00:00:00','10','','1','0'), ('660','86979474000208','注射用吡柔比星(吡喃阿霉素)','10mg×1支','2.35','支','深圳万乐药业有限公司','161','101','ZSYZRBX(ZZAMS)','2019-03-01 00:00:00','10','','1','0'), ('661','86979474000208','依达拉奉注射液(必存)','5ml:10mg×1支','19.91','支','南京先声东元制药有限公司','110','101','YDLFZSY(BC)','2019-03-01 00:00:00','10','','1','0'), ('662','86979474000209','黄连','1000mg/g','46.56','克','四川','112','103','HL','2019-03-01 00:00:00','10','','1','0'), ('663','86979474000208','黄芪','1000mg/g','29.01','克','山西普德药业股份有限公司','112','103','HZ','2019-03-01 00:00:00','10','','1','0'), ('664','86979474000209','盐酸乙胺丁醇片','0.25g×100片/瓶','61.08','瓶','杭州民生药业有限公司','111','101','YSYADCP','2019-03-01 00:00:00','10','','1','0'), ('665','86979474000208','缬沙坦氨氯地平片(倍博特)','80/5mg×7片/盒','14.06','盒','诺华制药（西班牙）','111','102','ZSTALDPP(BBT)','2019-03-01 00:00:00','10','','1','0'), ('666','86979474000208','罗库溴铵注射液(爱可松)','5ml:50mg×1支','29.58','支','欧加农公司，荷兰N.V.ORGANON','110','101','LKZZZSY(AKS)','2019-03-01 00:00:00','10','','1','0'), ('667','86979474000209','盐酸厄洛替尼片','150mg×7片/盒','0.38','盒','上海罗氏制药有限公司S','111','101','YSELTNP','2019-03-01 00:00:00','10','','1','0'), ('668','86979474000208','帕米膦酸二钠葡萄糖注射液(仁怡)','250ml:30mg×1袋','29.71','袋','南京正大天晴制药有限公司','110','101','PMZSENPTTZSY(RZ)','2019-03-01 00:00:00','10','','1','0'), ('669','86979474000209','益气复脉胶囊','0.37g*36粒/盒','13.45','盒','海口奇力制药股份有限公司','114','102','YQFMJN','2019-03-01 00:00:00','10','','1','0'), ('670','86979474000208','混合糖电解质注射液(新海能)','500ml×1瓶','38.97','瓶','江苏正大丰海制药有限公司','110','101','HHTDJZZSY(XHN)','2019-03-01 00:00:00','10','','1','0'), ('671','86979474000208','注射用二丁酰环磷腺苷钙','20mg×1瓶','5.72','瓶','上海上药第一生化药业有限公司','110','101','ZSYEDXHLXZG','2019-03-01 00:00:00','10','','1','0'), ('672','86979474000209','0.9%氯化钠注射液(塑瓶)','4.5g:500ml×1瓶','1.86','瓶','中国大冢制药厂','110','101','0.9%LHNZSY(SP)','2019-03-01 00:00:00','10','','1','0'), ('673','86979474000208','注射用头孢曲松钠(罗氏芬)','1g×1支','9.60','支','上海罗氏制药有限公司','110','101','ZSYTZQSN(LSF)','2019-03-01 00:00:00','10','','1','0'), ('674','86979474000209','盐酸右美托咪定注射液','2ml:200ug×1支','15.67','支','江苏恒瑞医药股份有限公司','110','101','YSYMTZDZSY','2019-03-01 00:00:00','10','','1','0'), ('675','86979474000208','0.9%氯化钠注射液（亚邦软袋）','0.9%250ml×1袋','12.79','袋','江苏亚邦生缘药业有限公司','110','101','0.9%LHNZSY（YBRD）','2019-03-01 00:00:00','10','','1','0'), ('676','86979474000208','盐酸二甲双胍片','0.5g*36片/盒','1.12','盒','昆山培力药品有限公司','111','101','YSEJSZP','2019-03-01 00:00:00','10','','1','0'), ('677','86979474000209','利福平胶囊','0.15g*100粒/瓶','5.19','瓶','辅仁药业集团有限公司','114','101','LFPJN','2019-03-01 00:00:00','10','','1','0'), ('678','86979474000208','妥布霉素滴眼液(托百士)','15mg×1支','21.17','支','比利时 爱尔康','160','101','TBMSDYY(TBS)','2019-03-01 00:00:00','10','','1','0'), ('679','86979474000209','苍耳子','1000mg/g','2.86','克','江苏','112','103','CEZ','2019-03-01 00:00:00','10','','1','0'), ('680','86979474000208','红花','1000mg/g','4.81','克','','112','103','HH','2019-03-01 00:00:00','10','','1','0'), ('681','86979474000208','佩兰','1000mg/g','23.28','克','江苏','112','103','PL','2019-03-01 00:00:00','10','','1','0'), ('682','86979474000209','蜀羊泉','1000mg/g','0.28','克','浙江','112','103','SYQ','2019-03-01 00:00:00','10','','1','0'), ('683','86979474000208','炒枳壳','1000mg/g','2.66','克','江苏','112','103','CZK','2019-03-01 00:00:00','10','','1','0'), ('684','86979474000209','炒枳实','1000mg/g','83.69','克','','112','103','CZS','2019-03-01 00:00:00','10','','1','0'), ('685','86979474000208','车前草','1000mg/g','8.45','克','','112','103','CQC','2019-03-01 00:00:00','10','','1','0'), ('686','86979474000208','车前子','1000mg/g','53.18','克','安徽','112','103','CQZ','2019-03-01 00:00:00','10','','1','0'), ('687','86979474000209','沉香','1000mg/g','23.21','克','','112','103','CX','2019-03-01 00:00:00','10','','1','0'), ('688','86979474000208','陈胆星','1000mg/g','41.29','克','四川','112','103','CDX','2019-03-01 00:00:00','10','','1','0'), ('689','86979474000209','陈皮','1000mg/g','9.77','克','江苏','112','103','CP','2019-03-01 00:00:00','10','','1','0'), ('690','86979474000208','赤芍','1000mg/g','51.18','克','','112','103','CS','2019-03-01 00:00:00','10','','1','0'), ('691','86979474000208','川贝','1000mg/g','20.44','克','四川','112','103','CB','2019-03-01 00:00:00','10','','1','0'), ('692','86979474000209','川断','1000mg/g','43.53','克','湖北','112','103','CD','2019-03-01 00:00:00','10','','1','0'), ('693','86979474000208','花椒','1000mg/g','46.37','克','河北','112','103','HJ','2019-03-01 00:00:00','10','','1','0'), ('694','86979474000209','滑石粉','1000mg/g','4.11','克','江西','112','103','HSF','2019-03-01 00:00:00','10','','1','0'), ('695','86979474000208','怀牛夕','1000mg/g','16.16','克','河南','112','103','HNX','2019-03-01 00:00:00','10','','1','0'), ('696','86979474000208','注射用水溶性维生素(水乐维他)','1支','28.84','瓶','华瑞制药有限公司','161','101','ZSYSRXWSS(SLWT)','2019-03-01 00:00:00','10','','1','0'), ('697','86979474000209','水杨酸毒扁豆硷','2g×1瓶','0.10','瓶','','157','101','SYSDBDJ','2019-03-01 00:00:00','10','','1','0'), ('698','86979474000208','水杨酸钠','500g×1瓶','69.52','瓶','','157','101','SYSN','2019-03-01 00:00:00','10','','1','0'), ('699','86979474000209','阿维A胶囊（方希）','10mg×30粒/盒','1.62','盒','重庆华邦制药有限公司','114','101','AWAJN（FX）','2019-03-01 00:00:00','10','','1','0'), ('700','86979474000208','银杏叶片','19.2mg×36片/盒','50.32','盒','扬子江药业集团有限公司','111','102','YXYP','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('701','86979474000208','甲磺酸酚妥拉明','1ml:10mg×1支','9.55','支','上海旭东海普药业有限公司','110','101','JHSFTLM','2019-03-01 00:00:00','10','','1','0'), ('702','86979474000209','甲基橙','25g×1瓶','6.75','瓶','','157','101','JJC','2019-03-01 00:00:00','10','','1','0'), ('703','86979474000208','甲基红','25g×1瓶','49.51','瓶','','157','101','JJH','2019-03-01 00:00:00','10','','1','0'), ('704','86979474000209','咪哒唑仑(力月西)注射液','1ml:5mg×1支','20.88','支','徐州恩华药业集团','110','101','ZZZL(LYX)ZSY','2019-03-01 00:00:00','10','','1','0'), ('705','86979474000208','降钙素(密盖息)鼻喷剂','4400iu:2ml/支','1.88','瓶','诺华制药（瑞士）','122','101','JGS(MGX)BPJ','2019-03-01 00:00:00','10','','1','0'), ('706','86979474000208','蜜桔香精','1000g×1瓶','0.09','瓶','','157','101','MJXJ','2019-03-01 00:00:00','10','','1','0'), ('707','86979474000209','卡泊三淳软膏','15g:0.75mg×1支','1.72','支','爱尔兰利奥制药有限公司','121','101','KBSCRG','2019-03-01 00:00:00','10','','1','0'), ('708','86979474000208','单糖浆','500ml×1瓶','46.69','瓶','广州','157','101','DTJ','2019-03-01 00:00:00','10','','1','0'), ('709','86979474000209','单硬脂酸甘油酯','100g×1瓶','29.79','瓶','','157','101','DYZSGYZ','2019-03-01 00:00:00','10','','1','0'), ('710','86979474000208','复方倍他米松注射液(得宝松)','7mg×1支','10.49','支','默沙东制药','110','101','FFBTMSZSY(DBS)','2019-03-01 00:00:00','10','','1','0'), ('711','86979474000208','注射用丙戊酸钠(德巴金)','400mg×1支','7.40','支','赛诺菲（杭州）制药有限公司','161','101','ZSYBWSN(DBJ)','2019-03-01 00:00:00','10','','1','0'), ('712','86979474000209','低分子肝素钙注射液(博璞青)','0.4ml4000u×1支','10.91','支','天津红日药业股份有限公司','110','101','DFZGSGZSY(BZQ)','2019-03-01 00:00:00','10','','1','0'), ('713','86979474000208','碘海醇300注射液(欧乃派克)','300mg×100ml/瓶','5.10','瓶','通用电气药业 （上海）有限公司','110','101','DHC300ZSY(ONPK)','2019-03-01 00:00:00','10','','1','0'), ('714','86979474000209','维生素C泡腾片(力度伸)','1g*10片/盒','15.83','盒','上海罗氏制药有限公司','111','101','WSSCPTP(LDS)','2019-03-01 00:00:00','10','','1','0'), ('715','86979474000208','乳酸','500ml×1瓶','56.02','瓶','江苏无锡鸿声化工厂','157','101','RS','2019-03-01 00:00:00','10','','1','0'), ('716','86979474000208','乳酸钠','500g×1瓶','0.32','瓶','','157','101','RSN','2019-03-01 00:00:00','10','','1','0'), ('717','86979474000209','乳酸钠 L1375','500ml×1瓶','33.94','瓶','','157','101','RSN L1375','2019-03-01 00:00:00','10','','1','0'), ('718','86979474000208','夏枯草','1000mg/g','78.12','克','江苏','112','103','XKC','2019-03-01 00:00:00','10','','1','0'), ('719','86979474000209','乳酸钠林格注射液','500ml×1瓶','45.73','瓶','华仁药业（日照）','110','101','RSNLGZSY','2019-03-01 00:00:00','10','','1','0'), ('720','86979474000208','黑附片颗粒','0.5g/3g/袋','5.52','袋','江阴天江药业有限公司','115','102','HFPKL','2019-03-01 00:00:00','10','','1','0'), ('721','86979474000208','桔梗颗粒','1.5g/6g/袋','5.89','袋','江阴天江药业有限公司','115','102','JGKL','2019-03-01 00:00:00','10','','1','0'), ('722','86979474000209','木香颗粒','2g/6g/袋','10.78','袋','江阴天江药业有限公司','115','102','MXKL','2019-03-01 00:00:00','10','','1','0'), ('723','86979474000208','前胡颗粒','1.5g/10g袋','9.01','袋','江阴天江药业有限公司','115','102','QHKL','2019-03-01 00:00:00','10','','1','0'), ('724','86979474000209','三磷酸腺苷注射液(ATP)','2ml:20mg×10支/盒','8.04','盒','芜湖康奇制药','110','101','SLSXZZSY(ATP)','2019-03-01 00:00:00','10','','1','0'), ('725','86979474000208','注射用顺铂','20mg×1支','13.93','支','齐鲁制药有限公司','110','101','ZSYSB','2019-03-01 00:00:00','10','','1','0'), ('726','86979474000208','卵磷脂(BR)','10g×1瓶','43.24','瓶','','157','101','LLZ(BR)','2019-03-01 00:00:00','10','','1','0'), ('727','86979474000209','蜂房子（露蜂房）','1000mg/g','3.28','克',' 江苏','112','103','FFZ（LFF）','2019-03-01 00:00:00','10','','1','0'), ('728','86979474000208','凤尾草','1000mg/g','18.10','克',' 福建','112','103','FWC','2019-03-01 00:00:00','10','','1','0'), ('729','86979474000209','佛手片','1000mg/g','8.70','克',' 广东','112','103','FSP','2019-03-01 00:00:00','10','','1','0'), ('730','86979474000208','茯苓','1000mg/g','15.28','克','安徽','112','103','ZZ','2019-03-01 00:00:00','10','','1','0'), ('731','86979474000208','茯神','1000mg/g','21.56','克','安徽','112','103','ZS','2019-03-01 00:00:00','10','','1','0'), ('732','86979474000209','盐酸地芬尼多片(眩晕停)','25mg×30片/瓶','22.91','瓶','湖南千金湘江药业股份有限公司','111','101','YSDFNDP(眩YT)','2019-03-01 00:00:00','10','','1','0'), ('733','86979474000208','甲磺酸伊马替尼片(格列卫)','0.1g×60片/盒','9.00','盒','诺华制药（瑞士）有限公司S','117','101','JHSYMTNP(GLW)','2019-03-01 00:00:00','10','','1','0'), ('734','86979474000209','阿那曲唑片(瑞宁得)','1mg×14片/盒','10.54','盒','阿斯利康制药有限公司S','111','101','ANQZP(RND)','2019-03-01 00:00:00','10','','1','0'), ('735','86979474000208','静注人免疫球蛋白(上海)','50ml:2.5g×1瓶','13.37','瓶','上海生物制品研究所','110','101','JZRMYQDB(SH)','2019-03-01 00:00:00','10','','1','0'), ('736','86979474000208','明胶','500g×1包','9.01','包','','157','101','MJ','2019-03-01 00:00:00','10','','1','0'), ('737','86979474000209','咪喹莫特(明欣利迪)乳膏','262.5mg×4袋/盒','14.70','盒','四川明欣药业有限公司','118','101','ZZMT(MXLD)RG','2019-03-01 00:00:00','10','','1','0'), ('738','86979474000208','茉莉香精','1000g×1瓶','6.29','瓶','','157','101','ZLXJ','2019-03-01 00:00:00','10','','1','0'), ('739','86979474000209','木通','1000mg/g','16.39','克','','112','103','MT','2019-03-01 00:00:00','10','','1','0'), ('740','86979474000208','钠石灰','500g×1瓶','14.50','瓶','','157','101','NSH','2019-03-01 00:00:00','10','','1','0'), ('741','86979474000208','胞磷胆碱注射液(尼可林)','2ml:0.25g×10支/盒','2.21','盒','齐鲁制药有限公司','110','101','BLDJZSY(NKL)','2019-03-01 00:00:00','10','','1','0'), ('742','86979474000209','盐酸达克罗宁胶浆（达己苏）','10ml:0.1g×1支','16.88','支','扬子江药业集团有限公司','128','101','YSDKLNJJ（DJS）','2019-03-01 00:00:00','10','','1','0'), ('743','86979474000208','枸地氯雷他定片(贝雪)','8.8mg×6片/盒','6.87','盒','扬子江药业集团(广州海瑞药业)','111','101','ZDLLTDP(BX)','2019-03-01 00:00:00','10','','1','0'), ('744','86979474000209','氟伐他汀钠缓释片(来适可)','80mg×7片/盒','7.43','盒','诺华制药（北京）有限公司','131','101','FFTTNHSP(LSK)','2019-03-01 00:00:00','10','','1','0'), ('745','86979474000208','0.9%氯化钠注射液（百特）','100ml×1袋','0.28','袋','上海百特医疗用品有限公司','110','101','0.9%LHNZSY（BT）','2019-03-01 00:00:00','10','','1','0'), ('746','86979474000208','恩他卡朋片（珂丹）','0.2g×30片/盒','38.56','盒','诺华制药（瑞士）有限公司S','111','101','ETKPP（ZD）','2019-03-01 00:00:00','10','','1','0'), ('747','86979474000209','硝酸銀','100g×1瓶','4.20','瓶','','157','101','XSZ','2019-03-01 00:00:00','10','','1','0'), ('748','86979474000208','咽立爽口含滴丸','1g *1盒','31.56','盒','贵州黄果树立爽药业有限公司','163','102','YLSKHDW','2019-03-01 00:00:00','10','','1','0'), ('749','86979474000209','盐酸(AR)','2500ml×1瓶','5.99','瓶','','157','101','YS(AR)','2019-03-01 00:00:00','10','','1','0'), ('750','86979474000208','盐酸','500ml×1瓶','8.97','瓶','上海久亿','157','101','YS','2019-03-01 00:00:00','10','','1','0'), ('751','86979474000208','盐酸苯肼','25g×1瓶','44.27','瓶','','157','101','YSBZ','2019-03-01 00:00:00','10','','1','0'), ('752','86979474000209','富马酸比索洛尔(康忻)片','5mg×10片/盒','22.43','盒','默克雪兰诺（德国）有限公司','111','101','FMSBSLE(KX)P','2019-03-01 00:00:00','10','','1','0'), ('753','86979474000208','盐酸丙卡特罗片(美普清)','25ug×10片/盒','18.22','盒','大冢（浙江）制药有限公司','111','101','YSBKTLP(MPQ)','2019-03-01 00:00:00','10','','1','0'), ('754','86979474000209','红景天','1000mg/g','21.05','克','江苏','112','103','HJT','2019-03-01 00:00:00','10','','1','0'), ('755','86979474000208','清水半夏','1000mg/g','31.67','克','','112','103','QSBX','2019-03-01 00:00:00','10','','1','0'), ('756','86979474000208','注射用右雷佐生（奥诺先）','250mg×1支','72.83','支','江苏奥赛康药业股份有限公司','110','101','ZSYYLZS（ANX）','2019-03-01 00:00:00','10','','1','0'), ('757','86979474000209','鲜石斛','10g/袋','5.29','袋','南京药业','112','103','XSH','2019-03-01 00:00:00','10','','1','0'), ('758','86979474000208','海藻','1000mg/g','2.84','克','南京药业有限药材公司','112','103','HZ','2019-03-01 00:00:00','10','','1','0'), ('759','86979474000209','昆布','1000mg/g','58.58','克','南京药业','112','103','KB','2019-03-01 00:00:00','10','','1','0'), ('760','86979474000208','氨酚羟考酮片(泰勒宁)','325mg/5mg×10片/盒','14.03','盒','美国马林克罗制药','111','101','AFQKTP(TLN)','2019-03-01 00:00:00','10','','1','0'), ('761','86979474000208','环孢素注射液(山地明)','5ml:250mg×10支/盒','3.84','盒','诺华制药（瑞士）','110','101','HZSZSY(SDM)','2019-03-01 00:00:00','10','','1','0'), ('762','86979474000209','注射用昂丹司琼(奥一麦)','4mg×1支','12.06','支','江苏奥赛康药业股份有限公司','161','101','ZSYADSQ(AYM)','2019-03-01 00:00:00','10','','1','0'), ('763','86979474000208','注射用盐酸瑞芬太尼','1mg×1支','28.08','支','宜昌人福药业有限责任公司','161','101','ZSYYSRFTN','2019-03-01 00:00:00','10','','1','0'), ('764','86979474000209','甲醛','500ml×1瓶','1.84','瓶','上海久亿','157','101','JQ','2019-03-01 00:00:00','10','','1','0'), ('765','86979474000208','BG依折麦布片(益适纯)','10mg×5片/盒','73.95','盒','默沙东制药','111','101','BGYZMBP(YSC)','2019-03-01 00:00:00','10','','1','0'), ('766','86979474000208','产复康颗粒','5g*15袋/盒','16.98','盒','深圳三顺制药有限公司','115','102','CFKKL','2019-03-01 00:00:00','10','','1','0'), ('767','86979474000209','鹿血晶','1g*6瓶/盒','2.78','盒','苏州市红冠庄国药饮片有限公司','116','101','LXJ','2019-03-01 00:00:00','10','','1','0'), ('768','86979474000208','吴茱萸颗粒(制)','0.5g/3g/袋','19.33','袋','江阴天江药业有限公司','115','102','WZZKL(Z)','2019-03-01 00:00:00','10','','1','0'), ('769','86979474000209','小茴香颗粒(盐)','0.5g/6g/袋','11.06','袋','江阴天江药业有限公司','115','102','XZXKL(Y)','2019-03-01 00:00:00','10','','1','0'), ('770','86979474000208','紫河车粉颗粒','3g/3/g/袋','3.32','袋','江阴天江药业有限公司','115','102','ZHCFKL','2019-03-01 00:00:00','10','','1','0'), ('771','86979474000208','龟甲颗粒(醋)','0.5g/10g/袋','13.15','袋','江阴天江药业有限公司','115','102','GJKL(C)','2019-03-01 00:00:00','10','','1','0'), ('772','86979474000209','阿昔洛韦乳膏(无环鸟甘)','10g:300mg×1支','58.88','支','湖北成田制药有限公司','121','101','AXLWRG(WHNG)','2019-03-01 00:00:00','10','','1','0'), ('773','86979474000208','乌賊骨颗粒','0.5g/10g/袋','24.86','袋','江阴天江药业有限公司','115','102','WZGKL','2019-03-01 00:00:00','10','','1','0'), ('774','86979474000209','蜈蚣颗粒','0.5g/1g/袋','0.27','袋','江阴天江药业有限公司','115','102','ZZKL','2019-03-01 00:00:00','10','','1','0'), ('775','86979474000208','龙骨颗粒','0.5g/30袋','1.55','袋','江阴天江药业有限公司','115','102','LGKL','2019-03-01 00:00:00','10','','1','0'), ('776','86979474000208','熊去氧胆酸胶囊(优思弗)','250mg×25粒/盒','26.32','盒','LOSAN PHARMA GMBH','114','102','XQYDSJN(YSF)','2019-03-01 00:00:00','10','','1','0'), ('777','86979474000209','叶酸片','5mg×100片/瓶','44.93','瓶','常州制药厂有限公司','111','101','YSP','2019-03-01 00:00:00','10','','1','0'), ('778','86979474000208','硫酸氯吡格雷片(波立维）','75mg×7片/盒','46.65','盒','赛诺菲（杭州）制药有限公司','111','101','LSLZGLP(BLW）','2019-03-01 00:00:00','10','','1','0'), ('779','86979474000209','替吉奥胶囊(维康达)','25mg×36粒/盒','8.75','盒','山东新时代药业有限公司','114','101','TJAJN(WKD)','2019-03-01 00:00:00','10','','1','0'), ('780','86979474000208','注射用复合辅酶(鑫贝科)','200u×1瓶','40.61','瓶','北京双鹭药业股份有限公司','161','101','ZSYFHFM(XBK)','2019-03-01 00:00:00','10','','1','0'), ('781','86979474000208','羟糖甘滴眼液(新泪然)','5ml×1支','22.81','支','爱尔康大药厂','160','101','QTGDYY(XLR)','2019-03-01 00:00:00','10','','1','0'), ('782','86979474000209','BG瑞舒伐他汀钙(托妥）片','10mg×7片/盒','2.97','盒','南京正大天晴制药有限公司','111','101','BGRSFTTG(TT）P','2019-03-01 00:00:00','10','','1','0'), ('783','86979474000208','夫西地酸乳膏（立思丁）','15g×1支','59.49','支','爱尔兰利奥制药有限公司','118','101','FXDSRG（LSD）','2019-03-01 00:00:00','10','','1','0'), ('784','86979474000209','姜半夏颗粒','0.5g/6g/袋','56.25','袋','江阴天江药业有限公司','115','102','JBXKL','2019-03-01 00:00:00','10','','1','0'), ('785','86979474000208','黄芪颗粒','1.5g/10g/袋','61.59','袋','','115','102','HZKL','2019-03-01 00:00:00','10','','1','0'), ('786','86979474000208','赤芍颗粒','1.5g/10g/袋','61.71','袋','江阴天江药业有限公司','115','102','CSKL','2019-03-01 00:00:00','10','','1','0'), ('787','86979474000209','川断颗粒','2g/10g/袋','2.61','袋','江阴天江药业有限公司','115','102','CDKL','2019-03-01 00:00:00','10','','1','0'), ('788','86979474000208','阿法骨化醇软胶囊（阿法迪三）','0.25ug×20粒/盒','0.68','盒','昆明贝克诺顿制药有限公司','114','101','AFGHCRJN（AFDS）','2019-03-01 00:00:00','10','','1','0'), ('789','86979474000209','黄芩','1000mg/g','19.23','克','河北','112','103','HZ','2019-03-01 00:00:00','10','','1','0'), ('790','86979474000208','黄药脂','1000mg/g','23.77','克','','112','103','HYZ','2019-03-01 00:00:00','10','','1','0'), ('791','86979474000208','鸡骨草','1000mg/g','7.96','克','广西','112','103','JGC','2019-03-01 00:00:00','10','','1','0'), ('792','86979474000209','鸡内金','1000mg/g','9.25','克','江苏','112','103','JNJ','2019-03-01 00:00:00','10','','1','0'), ('793','86979474000208','鸡血藤','1000mg/g','11.71','克','广西','112','103','JXT','2019-03-01 00:00:00','10','','1','0'), ('794','86979474000209','急性子','1000mg/g','4.37','克','','112','103','JXZ','2019-03-01 00:00:00','10','','1','0'), ('795','86979474000208','姜半夏','1000mg/g','5.08','克','四川','112','103','JBX','2019-03-01 00:00:00','10','','1','0'), ('796','86979474000208','姜黄','1000mg/g','0.10','克','','112','103','JH','2019-03-01 00:00:00','10','','1','0'), ('797','86979474000209','链霉蛋白酶颗粒','20000单位×1袋/盒','20.58','盒','北京泰德制药股份有限公司','115','102','LMDBMKL','2019-03-01 00:00:00','10','','1','0'), ('798','86979474000208','枸橼酸莫沙必利分散片（新络纳）','5mg×20片/盒','37.75','盒','成都康弘药业集团股份有限公司','111','102','ZZSMSBLFSP（XLN）','2019-03-01 00:00:00','10','','1','0'), ('799','86979474000209','双歧杆菌(培菲康)三联活菌胶囊','210mg×36片/盒','40.91','盒','上海信谊药厂有限公司','114','101','SQGJ(PFK)SLHJJN','2019-03-01 00:00:00','10','','1','0'), ('800','86979474000208','酚麻美敏感冒片(泰诺)','325mg×10片/盒','0.17','盒','上海强生制药有限公司','111','101','FMMMGMP(TN)','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('801','86979474000208','痰热清注射液','10ml×1支','57.77','支','上海凯宝药业','110','101','TRQZSY','2019-03-01 00:00:00','10','','1','0'), ('802','86979474000209','普拉洛芬滴眼液（普南扑灵）','5ml×1支','46.23','支','日本千寿制药株式会社','160','101','PLLFDYY（PNPL）','2019-03-01 00:00:00','10','','1','0'), ('803','86979474000208','氨溴特罗口服液（易坦静）','100ml×1瓶','65.54','瓶','北京韩美药品有限公司','164','101','AZTLKFY（YTJ）','2019-03-01 00:00:00','10','','1','0'), ('804','86979474000209','注射用尿促性素','75iu×1支(附2ml氯化钠注射液)','1.00','支','丽珠集团丽宝','110','101','ZSYNCXS','2019-03-01 00:00:00','10','','1','0'), ('805','86979474000208','金霉素眼膏','2g×1支','0.86','支','南京白敬宇制药有限责任公司','132','101','JMSYG','2019-03-01 00:00:00','10','','1','0'), ('806','86979474000208','金钱白花蛇','1条','10.88','条','广东','112','103','JQBHS','2019-03-01 00:00:00','10','','1','0'), ('807','86979474000209','金星消毒液','460ml×1瓶','93.11','瓶','南京江南消毒剂厂','157','101','JXXDY','2019-03-01 00:00:00','10','','1','0'), ('808','86979474000208','养血清脑颗粒','4g*15袋/盒','3.30','盒','天士力制药集团股份有限公司','115','102','YXQNKL','2019-03-01 00:00:00','10','','1','0'), ('809','86979474000209','依托考昔片(安康信)','60mg×5片/盒','0.19','盒','默沙东制药','111','101','YTKXP(AKX)','2019-03-01 00:00:00','10','','1','0'), ('810','86979474000208','桂枝颗粒','0.5g×6/g袋','17.98','袋','江阴天江药业有限公司','115','102','GZKL','2019-03-01 00:00:00','10','','1','0'), ('811','86979474000208','薄荷颗粒','0.5g/6g/袋','66.61','袋','江阴天江药业有限公司','115','102','BHKL','2019-03-01 00:00:00','10','','1','0'), ('812','86979474000209','细辛颗粒','0.5g/3g/袋','5.87','袋','江阴天江药业有限公司','115','102','XXKL','2019-03-01 00:00:00','10','','1','0'), ('813','86979474000208','麻黄颗粒','0.5g/6g/袋','50.71','袋','江阴天江药业有限公司','115','102','MHKL','2019-03-01 00:00:00','10','','1','0'), ('814','86979474000209','夏枯草颗粒','0.5g/10g/袋','0.61','袋','江阴天江药业有限公司','115','102','XKCKL','2019-03-01 00:00:00','10','','1','0'), ('815','86979474000208','淫羊藿颗粒','0.5g/10g/袋','1.00','袋','江阴天江药业有限公司','115','102','YYZKL','2019-03-01 00:00:00','10','','1','0'), ('816','86979474000208','荷叶颗粒','0.5g/10g/袋','53.41','袋','','115','102','HYKL','2019-03-01 00:00:00','10','','1','0'), ('817','86979474000209','桑叶颗粒','1g/10g/袋','15.25','袋','江阴天江药业有限公司','115','102','SYKL','2019-03-01 00:00:00','10','','1','0'), ('818','86979474000208','丹皮颗粒','1g/6g/袋','2.80','袋','','115','102','DPKL','2019-03-01 00:00:00','10','','1','0'), ('819','86979474000209','肉桂颗粒','0.5g/3g/袋','11.41','袋','江阴天江药业有限公司','115','102','RGKL','2019-03-01 00:00:00','10','','1','0'), ('820','86979474000208','姜厚扑颗粒','0.5g/3g/袋','32.68','袋','江阴天江药业有限公司','115','102','JHPKL','2019-03-01 00:00:00','10','','1','0'), ('821','86979474000208','盐酸利多卡因注射液(塑瓶)','5ml:0.1g×1支','37.88','支','中国大冢制药有限公司','110','101','YSLDKYZSY(SP)','2019-03-01 00:00:00','10','','1','0'), ('822','86979474000209','酮咯酸氨丁三醇注射液','1ml:30mg×1支','6.10','支','山东新时代药业有限公司','110','101','TKSADSCZSY','2019-03-01 00:00:00','10','','1','0'), ('823','86979474000208','炒僵蚕','1000mg/g','9.41','克','江苏','112','103','CJC','2019-03-01 00:00:00','10','','1','0'), ('824','86979474000209','焦山楂','1000mg/g','57.46','克','','112','103','JSZ','2019-03-01 00:00:00','10','','1','0'), ('825','86979474000208','焦山枝','1000mg/g','2.58','克','江苏','112','103','JSZ','2019-03-01 00:00:00','10','','1','0'), ('826','86979474000208','金荞麦','1000mg/g','75.14','克',' 江苏','112','103','JZM','2019-03-01 00:00:00','10','','1','0'), ('827','86979474000209','金银花','1000mg/g','0.80','克','山东','112','103','JYH','2019-03-01 00:00:00','10','','1','0'), ('828','86979474000208','金樱子','1000mg/g','2.13','克','江苏','112','103','JYZ','2019-03-01 00:00:00','10','','1','0'), ('829','86979474000209','荆芥','1000mg/g','7.39','克','江苏','112','103','JJ','2019-03-01 00:00:00','10','','1','0'), ('830','86979474000208','氢氯噻嗪片(双氢克尿塞）','25mg×100片/瓶','55.04','瓶','江苏方强制药厂','111','101','QLZZP(SQKNS）','2019-03-01 00:00:00','10','','1','0'), ('831','86979474000208','水杨酸','250g×1瓶','7.82','瓶','','157','101','SYS','2019-03-01 00:00:00','10','','1','0'), ('832','86979474000209','司班60','500g×1瓶','2.86','瓶','','157','101','SB60','2019-03-01 00:00:00','10','','1','0'), ('833','86979474000208','苏木色素','10g×1瓶','5.58','瓶','','157','101','SMSS','2019-03-01 00:00:00','10','','1','0'), ('834','86979474000209','静注人免疫球蛋白(四川)','50ml:2.5g×1瓶','22.93','瓶','四川远大蜀阳药业有限公司','110','101','JZRMYQDB(SC)','2019-03-01 00:00:00','10','','1','0'), ('835','86979474000208','阿加曲班注射液(达贝)','20ml：10mg×1支','6.98','支','天津药物研究院药业有限责任公司','110','101','AJQBZSY(DB)','2019-03-01 00:00:00','10','','1','0'), ('836','86979474000208','洗得宝牌手消毒凝胶','500ml×1瓶','1.75','瓶','北京洗得宝消毒制品有限公司一分','120','101','XDBPSXDNJ','2019-03-01 00:00:00','10','','1','0'), ('837','86979474000209','海螵蛸','1000mg/g','94.44','克','浙江','112','103','HpZ','2019-03-01 00:00:00','10','','1','0'), ('838','86979474000208','大枫子','1000mg/g','10.67','克','','112','103','DFZ','2019-03-01 00:00:00','10','','1','0'), ('839','86979474000209','木香','1000mg/g','1.11','克','进口','112','103','MX','2019-03-01 00:00:00','10','','1','0'), ('840','86979474000208','枸椽酸托瑞米芬片（法乐通）','60mg×30片/盒','12.44','盒','芬兰奥立安药厂S','111','101','ZCSTRMFP（FLT）','2019-03-01 00:00:00','10','','1','0'), ('841','86979474000208','胃乐宁薄膜衣片','0.54g×18片/盒','37.07','瓶','南京老山药业股份有限公司','117','101','WLNBMYP','2019-03-01 00:00:00','10','','1','0'), ('842','86979474000209','注射用氨曲南(锋迈欣)单酰氨菌素','500mg×1支','17.87','支','上海上药新亚药业有限公司','110','101','ZSYAQN(FMX)DXAJS','2019-03-01 00:00:00','10','','1','0'), ('843','86979474000208','血必净注射液','10ml×1支','6.10','支','天津红日药业股份有限公司','110','101','XBJZSY','2019-03-01 00:00:00','10','','1','0'), ('844','86979474000209','灯盏细辛注射液','10ml:45mg×2支/盒','54.26','盒','云南生物谷药业股份有限公司','110','101','DZXXZSY','2019-03-01 00:00:00','10','','1','0'), ('845','86979474000208','多西他赛注射液(泰索帝)','20mg×1支','42.77','支','赛诺菲（杭州）制药有限公司','110','101','DXTSZSY(TSD)','2019-03-01 00:00:00','10','','1','0'), ('846','86979474000208','*长春西汀氯化钠注射液(杰力纾)','100ml:10mg×1瓶','30.11','瓶','沈阳志鹰制药厂','110','101','CCXTLHNZSY(JLZ)','2019-03-01 00:00:00','10','','1','0'), ('847','86979474000209','苦碟子注射液','20ml×1支','3.86','支','沈阳双鼎制药有限公司','110','101','KDZZSY','2019-03-01 00:00:00','10','','1','0'), ('848','86979474000208','酚磺乙胺注射液','2ml:0.5g×10支/盒','6.25','盒','天津金耀药业有限公司','110','101','FHYAZSY','2019-03-01 00:00:00','10','','1','0'), ('849','86979474000209','普济痔疮栓','1.3g*10粒/盒','37.94','盒','山东新时代药业有限公司','125','101','PJZCS','2019-03-01 00:00:00','10','','1','0'), ('850','86979474000208','草酸艾司西酞普兰片(来士普）','10mg×7片/盒','47.26','盒','西安杨森制药有限公司','111','101','CSASXTPLP(LSP）','2019-03-01 00:00:00','10','','1','0'), ('851','86979474000208','氢化泼尼松注射液','2ml:10mg×1支','53.97','支','西安利君制药有限公司','110','101','QHPNSZSY','2019-03-01 00:00:00','10','','1','0'), ('852','86979474000209','重酒石酸去甲肾上腺素注射液','1ml:2mg×2支/盒','64.49','盒','上海禾丰制药有限公司','110','101','ZJSSQJSSXSZSY','2019-03-01 00:00:00','10','','1','0'), ('853','86979474000208','赖诺普利胶囊(帝益洛)','10mg×14粒/盒','8.20','盒','江苏天士力帝益药业有限公司','114','101','LNPLJN(DYL)','2019-03-01 00:00:00','10','','1','0'), ('854','86979474000209','精蛋白重组(重和林)人胰岛素注射液(30/70)','300iu/3ml×1支','12.45','支','拜耳医药保健有限公司','110','101','JDBZZ(ZHL)RYDSZSY(30/70)','2019-03-01 00:00:00','10','','1','0'), ('855','86979474000208','奥拉西坦注射液(倍清星)','5ml:1g×1支','39.23','支','广东世信药业有限公司','110','101','ALXTZSY(BQX)','2019-03-01 00:00:00','10','','1','0'), ('856','86979474000208','氯硝西泮片(氯硝安定)','2mg×20片/盒','0.92','盒','徐州恩华药业集团','111','101','LXXZP(LXAD)','2019-03-01 00:00:00','10','','1','0'), ('857','86979474000209','碳酸钙D3片（钙尔奇D）','0.6g×60片/瓶','70.19','瓶','惠氏制药有限公司','114','101','TSGD3P（GEQD）','2019-03-01 00:00:00','10','','1','0'), ('858','86979474000208','他克莫司胶囊（普乐可复）','1mg×50粒/盒','12.32','盒','安斯泰来制药(中国)有限公司','114','101','TKMSJN（PLKF）','2019-03-01 00:00:00','10','','1','0'), ('859','86979474000209','炙南星','1000mg/g','7.07','克','四川','112','103','ZNX','2019-03-01 00:00:00','10','','1','0'), ('860','86979474000208','肿节风','1000mg/g','38.61','克','','112','103','ZJF','2019-03-01 00:00:00','10','','1','0'), ('861','86979474000208','苎麻根','1000mg/g','21.53','克','江苏','112','103','ZMG','2019-03-01 00:00:00','10','','1','0'), ('862','86979474000209','自然酮','1000mg/g','25.97','克','','112','103','ZRT','2019-03-01 00:00:00','10','','1','0'), ('863','86979474000208','雷公藤','1000mg/g','31.12','克','江苏','112','103','LGT','2019-03-01 00:00:00','10','','1','0'), ('864','86979474000209','樟脑','1000mg/g','6.81','克','江西','112','103','ZN','2019-03-01 00:00:00','10','','1','0'), ('865','86979474000208','全蝎颗粒','0.5g/3g/袋','0.69','袋','江阴天江药业有限公司','115','102','QXKL','2019-03-01 00:00:00','10','','1','0'), ('866','86979474000208','焦苍术','1000mg/g','20.96','克','河北','112','103','JCS','2019-03-01 00:00:00','10','','1','0'), ('867','86979474000209','宫瘤消(步长）胶囊','0.5g*60粒/盒','6.94','盒','山东步长神州制药有限公司','114','101','GLX(BC）JN','2019-03-01 00:00:00','10','','1','0'), ('868','86979474000208','强力天麻杜仲胶囊','0.4g*48粒/盒','6.41','盒','贵州三力制药股份有限公司','114','102','QLTMDZJN','2019-03-01 00:00:00','10','','1','0'), ('869','86979474000209','健儿清解液','1ml*120mL/瓶','13.80','瓶','国药控股深圳中药有限公司','158','101','JEQJY','2019-03-01 00:00:00','10','','1','0'), ('870','86979474000208','替莫唑胺胶囊(蒂清)','50mg*7粒/盒','7.70','盒','江苏天士力帝益药业有限公司S','114','101','TMZAJN(DQ)','2019-03-01 00:00:00','10','','1','0'), ('871','86979474000208','枸杞子颗粒','4g/10g/袋','31.92','袋','江阴天江药业有限公司','115','102','ZZZKL','2019-03-01 00:00:00','10','','1','0'), ('872','86979474000209','花椒颗粒','0.5g/6g/袋','38.62','袋','江阴天江药业有限公司','115','102','HJKL','2019-03-01 00:00:00','10','','1','0'), ('873','86979474000208','注射用硝普钠','50mg×5支/盒','3.05','盒','湖南科伦制药有限公司','161','101','ZSYXPN','2019-03-01 00:00:00','10','','1','0'), ('874','86979474000209','双氯芬酸钠缓释片(扶他林)','75mg×10片/盒','1.43','盒','诺华制药（北京）有限公司','111','101','SLFSNHSP(FTL)','2019-03-01 00:00:00','10','','1','0'), ('875','86979474000208','氟哌啶醇注射液','1ml:5mg×5支/盒','89.01','盒','湖南洞庭药业股份有限公司','110','101','FZZCZSY','2019-03-01 00:00:00','10','','1','0'), ('876','86979474000208','氯化镁 M2670','100g×1瓶','33.92','瓶','','157','101','LHM M2670','2019-03-01 00:00:00','10','','1','0'), ('877','86979474000209','0.9%氯化钠注射液(亚邦软袋)','500ml*1袋','65.90','袋','江苏亚邦生缘药业有限公司','110','101','0.9%LHNZSY(YBRD)','2019-03-01 00:00:00','10','','1','0'), ('878','86979474000208','0.9%氯化钠注射液(百特)','1000ml×1袋','69.28','袋','上海百特医疗用品有限公司','110','101','0.9%LHNZSY(BT)','2019-03-01 00:00:00','10','','1','0'), ('879','86979474000209','四硼酸钠','500g×1瓶','0.05','瓶','','157','101','SPSN','2019-03-01 00:00:00','10','','1','0'), ('880','86979474000208','香菇多糖注射液','2ml:1mg×1支','27.15','支','金陵药业 福州梅峰制药厂','110','101','XGDTZSY','2019-03-01 00:00:00','10','','1','0'), ('881','86979474000208','香精','500g×1瓶','30.69','瓶','南京丽源','157','101','XJ','2019-03-01 00:00:00','10','','1','0'), ('882','86979474000209','浓氨水','500ml×1瓶','10.75','瓶','','157','101','NAS','2019-03-01 00:00:00','10','','1','0'), ('883','86979474000208','诺迪康胶囊','0.28g*20粒/盒','5.83','盒','西藏诺迪康药业股份有限公司','114','101','NDKJN','2019-03-01 00:00:00','10','','1','0'), ('884','86979474000209','草果','1000mg/g','8.41','克','','112','103','CG','2019-03-01 00:00:00','10','','1','0'), ('885','86979474000208','单甘酯','100g×1瓶','35.31','瓶','','157','101','DGZ','2019-03-01 00:00:00','10','','1','0'), ('886','86979474000208','茯苓皮','1000mg/g','12.32','克','广西','112','103','ZZP','2019-03-01 00:00:00','10','','1','0'), ('887','86979474000209','地佐辛注射液','1ml:5mg×1支','79.28','支','扬子江药业集团有限公司','110','101','DZXZSY','2019-03-01 00:00:00','10','','1','0'), ('888','86979474000208','复方利多卡因乳膏','10g×1支','6.03','支','北京紫光制药有限公司','121','101','FFLDKYRG','2019-03-01 00:00:00','10','','1','0'), ('889','86979474000209','垂体后叶注射液','1ml:6iu×10支/盒','43.20','盒','南京新百药业有限公司','110','101','CTHYZSY','2019-03-01 00:00:00','10','','1','0'), ('890','86979474000208','BG注射用头孢西丁钠(海西丁)','2g×1瓶','62.89','瓶','海口市制药厂有限公司','110','101','BGZSYTZXDN(HXD)','2019-03-01 00:00:00','10','','1','0'), ('891','86979474000208','注射用特利加压素','1mg×1支','1.82','支','深圳翰宇药业股份有限公司S','161','101','ZSYTLJYS','2019-03-01 00:00:00','10','','1','0'), ('892','86979474000209','非洛地平缓释片(波依定)','5mg×10片/盒','14.12','盒','阿斯利康制药有限公司','111','101','FLDPHSP(BYD)','2019-03-01 00:00:00','10','','1','0'), ('893','86979474000208','碳酸鈉','500g×1瓶','4.23','瓶','','157','101','TSZ','2019-03-01 00:00:00','10','','1','0'), ('894','86979474000209','碳酸氢钠注射液(塑瓶)','5%250ml×1瓶','22.14','瓶','回音必集团(江西)东亚制药有限公司','110','101','TSQNZSY(SP)','2019-03-01 00:00:00','10','','1','0'), ('895','86979474000208','鞣酸','500g×1瓶','8.76','瓶','温州海鹤药业有限公司','157','101','RS','2019-03-01 00:00:00','10','','1','0'), ('896','86979474000208','氧氟沙星(迪可罗)眼膏','3.5g/10.5mg×1支','0.66','支','沈阳兴齐制药有限责任公司','132','101','YFSX(DKL)YG','2019-03-01 00:00:00','10','','1','0'), ('897','86979474000209','复方α-酮酸片(开同)','630mg×100片/盒','6.31','盒','费森尤斯卡比（北京）医药有限公司','111','101','FFα-TSP(KT)','2019-03-01 00:00:00','10','','1','0'), ('898','86979474000208','尼麦角林胶囊(凯尔)','30mg×10片/盒','77.10','盒','海南通用三洋药业有限公司','114','101','NMJLJN(KE)','2019-03-01 00:00:00','10','','1','0'), ('899','86979474000209','LB硫普罗宁肠溶片(凯西莱)','0.1g×12片/盒','14.43','盒','河南省新谊药业有限公司','133','101','LBLPLNCRP(KXL)','2019-03-01 00:00:00','10','','1','0'), ('900','86979474000208','鸦旦子','1000mg/g','67.47','克','','112','103','YDZ','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('901','86979474000208','夜交藤','1000mg/g','75.74','克','江苏','112','103','YJT','2019-03-01 00:00:00','10','','1','0'), ('902','86979474000209','益母草','1000mg/g','10.00','克','江苏','112','103','YMC','2019-03-01 00:00:00','10','','1','0'), ('903','86979474000208','狗脊','1000mg/g','9.62','克',' 四川','112','103','GJ','2019-03-01 00:00:00','10','','1','0'), ('904','86979474000209','枸杞子','1000mg/g','9.24','克','宁夏','112','103','ZZZ','2019-03-01 00:00:00','10','','1','0'), ('905','86979474000208','官桂','1000mg/g','15.89','克','','112','103','GG','2019-03-01 00:00:00','10','','1','0'), ('906','86979474000208','贯众炭','1000mg/g','0.58','克','江苏','112','103','GZT','2019-03-01 00:00:00','10','','1','0'), ('907','86979474000209','桂枝','1000mg/g','1.83','克','广西','112','103','GZ','2019-03-01 00:00:00','10','','1','0'), ('908','86979474000208','哈壳','1000mg/g','1.48','克','','112','103','HK','2019-03-01 00:00:00','10','','1','0'), ('909','86979474000209','海风藤','1000mg/g','30.53','克','福建','112','103','HFT','2019-03-01 00:00:00','10','','1','0'), ('910','86979474000208','奥卡西平片(曲莱)','0.3g×50片/盒','8.86','盒','诺华制药（瑞士）','111','101','AKXPP(QL)','2019-03-01 00:00:00','10','','1','0'), ('911','86979474000208','拜阿司匹林肠溶片(阿司匹林)','100mg×30片/盒','12.79','盒','拜耳医药保健有限公司','111','101','BASPLCRP(ASPL)','2019-03-01 00:00:00','10','','1','0'), ('912','86979474000209','盐酸莫西沙星片(拜复乐)','0.4g×3片/盒','27.42','盒','拜耳医药保健有限公司','111','101','YSMXSXP(BFL)','2019-03-01 00:00:00','10','','1','0'), ('913','86979474000208','西洛他唑片(培达)','50mg×12片/盒','81.65','盒','大冢（浙江）制药有限公司','111','101','XLTZP(PD)','2019-03-01 00:00:00','10','','1','0'), ('914','86979474000209','LB注射用亚叶酸钙','100mg×1支','51.13','支','北京双鹭药业股份有限公司','110','101','LBZSYYYSG','2019-03-01 00:00:00','10','','1','0'), ('915','86979474000208','乙酸萘酯','25g×1瓶','7.51','瓶','','157','101','YSZZ','2019-03-01 00:00:00','10','','1','0'), ('916','86979474000208','比卡鲁胺(康士得)片','50mg×28片/盒','28.01','盒','阿斯利康制药有限公司','111','101','BKLA(KSD)P','2019-03-01 00:00:00','10','','1','0'), ('917','86979474000209','盐酸胺碘酮(可达龙)片','200mg×10片/盒','1.10','盒','赛诺菲（杭州）制药有限公司','111','101','YSADT(KDL)P','2019-03-01 00:00:00','10','','1','0'), ('918','86979474000208','尼可刹米(可拉明)注射液','1.5ml:0.375g×10支/盒','35.25','盒','上海禾丰制药有限公司','110','101','NKSM(KLM)ZSY','2019-03-01 00:00:00','10','','1','0'), ('919','86979474000209','天舒胶囊','0.34g×60粒/盒','47.46','盒','江苏康缘药业股份有限公司','114','102','TSJN','2019-03-01 00:00:00','10','','1','0'), ('920','86979474000208','甜梦胶囊','0.4g*36粒/盒','1.93','盒','烟台荣昌制药有限公司','114','101','TMJN','2019-03-01 00:00:00','10','','1','0'), ('921','86979474000208','仙合草','1000mg/g','2.20','克','江苏','112','103','XHC','2019-03-01 00:00:00','10','','1','0'), ('922','86979474000209','仙茅','1000mg/g','20.40','克','','112','103','XM','2019-03-01 00:00:00','10','','1','0'), ('923','86979474000208','香附','1000mg/g','4.59','克','安徽','112','103','XF','2019-03-01 00:00:00','10','','1','0'), ('924','86979474000209','香元皮','1000mg/g','10.81','克',' 江苏','112','103','XYP','2019-03-01 00:00:00','10','','1','0'), ('925','86979474000208','克拉霉素分散片（锋锐）','0.25g×6片/盒','2.12','盒','扬子江药业集团有限公司','111','101','KLMSFSP（FR）','2019-03-01 00:00:00','10','','1','0'), ('926','86979474000208','密陀僧','1000mg/g','36.77','克','','112','103','MTS','2019-03-01 00:00:00','10','','1','0'), ('927','86979474000209','硫酸吗啡缓释片(美施康定)','10mg×10片/盒','4.48','盒','北京萌蒂制药有限公司','111','101','LSMFHSP(MSKD)','2019-03-01 00:00:00','10','','1','0'), ('928','86979474000208','益肾蠲痹丸','8g*12包/盒','37.96','盒','江苏清江药业有限公司','163','102','YSZBW','2019-03-01 00:00:00','10','','1','0'), ('929','86979474000209','乳癖消片','0.67g*36片/盒','6.56','盒','辽宁上药好护士药业（集团）有限公司','111','101','RZXP','2019-03-01 00:00:00','10','','1','0'), ('930','86979474000208','乳酸','500g×1瓶','11.54','瓶','','157','101','RS','2019-03-01 00:00:00','10','','1','0'), ('931','86979474000208','更昔洛韦眼用凝胶','5g:7.5mg×1支','3.81','支','湖北科益药业股份有限公司','160','101','GXLWYYNJ','2019-03-01 00:00:00','10','','1','0'), ('932','86979474000209','胆舒胶囊','0.45g×30片/盒','44.48','盒','四川济生堂药业有限公司','114','102','DSJN','2019-03-01 00:00:00','10','','1','0'), ('933','86979474000208','匹维溴铵片（得舒特）','50mg×15片/盒','19.50','盒','雅培贸易（上海）有限公司','111','101','PWZZP（DST）','2019-03-01 00:00:00','10','','1','0'), ('934','86979474000209','注射用牛肺表面活性剂（珂立苏）','70mg×1支','63.75','支','北京双鹤现代医药技术有限公司S','110','101','ZSYNFBMHXJ（ZLS）','2019-03-01 00:00:00','10','','1','0'), ('935','86979474000208','双氯芬酸二乙胺乳胶(扶他林)','20g×1支','21.76','支','诺华制药（北京）有限公司','134','101','SLFSEYARJ(FTL)','2019-03-01 00:00:00','10','','1','0'), ('936','86979474000208','北沙参','1000mg/g','0.87','克','山东','112','103','BSC','2019-03-01 00:00:00','10','','1','0'), ('937','86979474000209','枸橼酸氢钾钠颗粒（友来特)','97.1g×1瓶','12.02','瓶','德国马博士大药厂','115','101','ZZSQJNKL（YLT)','2019-03-01 00:00:00','10','','1','0'), ('938','86979474000208','氨氯地平阿托伐他汀钙片(多达一)','5mg:10mg×7片/盒','43.39','盒','辉瑞制药有限公司（大连）','111','101','ALDPATFTTGP(DDY)','2019-03-01 00:00:00','10','','1','0'), ('939','86979474000209','注射用多种维生素(12)(施尼维他)','5ml×1支','18.32','支','百特医疗用品贸易(上海)有限公司','110','101','ZSYDZWSS(12)(SNWT)','2019-03-01 00:00:00','10','','1','0'), ('940','86979474000208','香精','1000g×1瓶','43.90','瓶','南京丽源','157','101','XJ','2019-03-01 00:00:00','10','','1','0'), ('941','86979474000208','龙齿颗粒','0.5g/15g/袋','50.85','袋','江阴天江药业有限公司','115','102','LCKL','2019-03-01 00:00:00','10','','1','0'), ('942','86979474000209','卡铂注射液(伯尔定)','15ml:150mg×1瓶','30.34','瓶','百时美施贵宝（中国）投资有限公司','110','101','KBZSY(BED)','2019-03-01 00:00:00','10','','1','0'), ('943','86979474000208','甲硝唑凝胶(麦芙欣)','5g:37.5mg×7支/盒','13.41','盒','天津市天骄制药有限公司','120','101','JXZNJ(MZX)','2019-03-01 00:00:00','10','','1','0'), ('944','86979474000209','果糖注射液(普利康)','250ml:25g×1袋','3.67','袋','安徽丰原药业股份有限公司','110','101','GTZSY(PLK)','2019-03-01 00:00:00','10','','1','0'), ('945','86979474000208','地奥司明片','0.45g×24片/盒','41.00','盒','南京正大天晴制药有限公司','111','101','DASMP','2019-03-01 00:00:00','10','','1','0'), ('946','86979474000208','天麻素注射液(天眩清)','2ml:0.2g×1支','2.03','支','昆明制药集团股份有限公司','110','101','TMSZSY(T眩Q)','2019-03-01 00:00:00','10','','1','0'), ('947','86979474000209','医用酒精  75%','1000mg/g','3.40','克','江苏太仓新太酒精有限公司','157','101','YYJJ  75%','2019-03-01 00:00:00','10','','1','0'), ('948','86979474000208','葡萄糖酸钙锌口服液(锌钙特)','10ml×24支/盒','16.52','盒','澳诺(中国)制药有限公司','164','101','PTTSGXKFY(XGT)','2019-03-01 00:00:00','10','','1','0'), ('949','86979474000209','氢化可的松注射液','20ml:100mg×5支/盒','4.66','盒','天津金耀氨基酸有限公司','110','101','QHKDSZSY','2019-03-01 00:00:00','10','','1','0'), ('950','86979474000208','盐酸纳美芬注射液(乐萌)','1ml:0.1mg×1支','11.69','支','成都天台山制药有限公司','110','101','YSNMFZSY(LM)','2019-03-01 00:00:00','10','','1','0'), ('951','86979474000208','丹参川芎嗪注射液','5ml×1支','21.90','支','贵州拜特制药有限公司','110','101','DCCZZZSY','2019-03-01 00:00:00','10','','1','0'), ('952','86979474000209','炙甘草颗粒','1g/3g/袋','50.94','袋','','115','102','ZGCKL','2019-03-01 00:00:00','10','','1','0'), ('953','86979474000208','注射用还原型谷光甘肽(阿拓莫兰)','0.6g×1支','2.15','支','重庆药友制药有限公司','110','101','ZSYHYXGGGZ(ATML)','2019-03-01 00:00:00','10','','1','0'), ('954','86979474000209','参附注射液','10ml×1支','2.88','支','雅安三九药业有限公司','110','101','CFZSY','2019-03-01 00:00:00','10','','1','0'), ('955','86979474000208','碘伏溶液','200ml×1瓶','10.78','瓶','南京南大药业','157','101','DFRY','2019-03-01 00:00:00','10','','1','0'), ('956','86979474000208','G噻托溴铵粉吸入剂(带吸入器）','18ug×10粒/盒','5.38','盒','正大天晴药业集团股份有限公司','116','101','GZTZZFXRJ(DXRQ）','2019-03-01 00:00:00','10','','1','0'), ('957','86979474000209','缬沙坦分散片(平欣)','40mg×24片/盒','70.37','盒','鲁南贝特制药有限公司','123','101','ZSTFSP(PX)','2019-03-01 00:00:00','10','','1','0'), ('958','86979474000208','二氯甲烷(AR)','500ml×1瓶','22.76','瓶','','157','101','ELJW(AR)','2019-03-01 00:00:00','10','','1','0'), ('959','86979474000209','二乙胺(AR)','500ml×1瓶','0.15','瓶','','157','101','EYA(AR)','2019-03-01 00:00:00','10','','1','0'), ('960','86979474000208','达肝素钠注射液(法安明)','0.2ml:5000iu×1支','72.83','支','辉瑞制药有限公司','110','101','DGSNZSY(FAM)','2019-03-01 00:00:00','10','','1','0'), ('961','86979474000208','桉柠蒎肠溶软胶囊（切诺）','0.3g×18粒/盒','0.77','盒','北京九和药业有限公司S','159','101','ZNZCRRJN（QN）','2019-03-01 00:00:00','10','','1','0'), ('962','86979474000209','复方氨基酸(丰诺安)注射液20AA','500ml:50g/瓶','0.18','瓶','山东鲁抗辰欣药业有限公司','110','101','FFAJS(FNA)ZSY20AA','2019-03-01 00:00:00','10','','1','0'), ('963','86979474000208','稀盐酸','500ml×1瓶','8.51','瓶','广东台山','157','101','XYS','2019-03-01 00:00:00','10','','1','0'), ('964','86979474000209','转化糖注射液(耐能)','250ml×1袋','6.16','袋','四川美大康佳乐药业有限公司','110','101','ZHTZSY(NN)','2019-03-01 00:00:00','10','','1','0'), ('965','86979474000208','鹿瓜多肽注射液','2ml:4mg×1支','35.44','支','哈尔滨誉衡药业股份有限公司','110','101','LGDZZSY','2019-03-01 00:00:00','10','','1','0'), ('966','86979474000208','碘解磷定针','500mg×5支/盒','3.56','盒','上海旭东海普药业有限公司','110','101','DJLDZ','2019-03-01 00:00:00','10','','1','0'), ('967','86979474000209','丁胺卡那霉素注射液','2ml:0.2g×10支/盒','18.24','盒','齐鲁制药有限公司','110','101','DAKNMSZSY','2019-03-01 00:00:00','10','','1','0'), ('968','86979474000208','非诺贝特胶囊(力平之)','0.2g×10片/盒','30.12','盒','雅培贸易（上海）有限公司','114','101','FNBTJN(LPZ)','2019-03-01 00:00:00','10','','1','0'), ('969','86979474000209','炔雌醇环丙孕酮片(达英-35）','21片/盒','22.05','盒','拜耳医药保健有限公司','111','101','QCCHBYTP(DY-35）','2019-03-01 00:00:00','10','','1','0'), ('970','86979474000208','环丙沙星注射液(西普乐)','100ml:200mg×1瓶','40.40','瓶','G1拜耳医药保健品有限公司','110','101','HBSXZSY(XPL)','2019-03-01 00:00:00','10','','1','0'), ('971','86979474000208','辛伐他汀片（舒降之）','40mg×5片/盒','32.76','盒','默沙东制药（杭州）有限公司','111','101','XFTTP（SJZ）','2019-03-01 00:00:00','10','','1','0'), ('972','86979474000209','盐酸莫西沙星氯化钠注射液(拜复乐)','400mg×250ml/瓶','7.16','瓶','拜耳医药保健有限公司','110','101','YSMXSXLHNZSY(BFL)','2019-03-01 00:00:00','10','','1','0'), ('973','86979474000208','藿香','1000mg/g','3.18','克','广东','112','103','ZX','2019-03-01 00:00:00','10','','1','0'), ('974','86979474000209','LB果糖二磷酸钠口服液(瑞安吉)','1g×6支/盒','12.16','盒','北京华靳制药有限公司','164','101','LBGTELSNKFY(RAJ)','2019-03-01 00:00:00','10','','1','0'), ('975','86979474000208','良姜','1000mg/g','1.97','克','','112','103','LJ','2019-03-01 00:00:00','10','','1','0'), ('976','86979474000208','白芥子','1000mg/g','39.22','克','安徽','112','103','BJZ','2019-03-01 00:00:00','10','','1','0'), ('977','86979474000209','洛贝林注射液','3mg×10支/盒','24.31','盒','上海禾丰制药有限公司','110','101','LBLZSY','2019-03-01 00:00:00','10','','1','0'), ('978','86979474000208','治疗用A型肉毒素(保妥适)','100u×1支','62.31','支','爱力根爱尔兰制药公司','110','101','ZLYAXRDS(BTS)','2019-03-01 00:00:00','10','','1','0'), ('979','86979474000209','璜达肝癸钠(安卓)注射液','2.5mg:0.5ml×1支','2.75','支','葛兰素史克(中国投资有限公司)','110','101','ZDGGN(AZ)ZSY','2019-03-01 00:00:00','10','','1','0'), ('980','86979474000208','雌二醇片(芬吗通)/雌二醇地屈孕酮片','2mg:10mg×28片/盒','3.92','盒','苏威制药有限公司','111','101','CECP(FMT)/CECDQYTP','2019-03-01 00:00:00','10','','1','0'), ('981','86979474000208','复方氨基酸(安平)20AA注射液','500ml:50g×1瓶','20.90','瓶','贝朗医疗(上海)国际贸易有限公司','110','101','FFAJS(AP)20AAZSY','2019-03-01 00:00:00','10','','1','0'), ('982','86979474000209','尼莫地平(尼莫同)片','30mg×20片/瓶','10.29','瓶','拜耳医药保健有限公司','111','101','NMDP(NMT)P','2019-03-01 00:00:00','10','','1','0'), ('983','86979474000208','柠檬酸','500g×1瓶','17.17','瓶','宁','157','101','NMS','2019-03-01 00:00:00','10','','1','0'), ('984','86979474000209','麸炒苍术颗粒','3g/10g/袋','6.89','袋','江阴天江药业有限公司','115','102','CCSKL','2019-03-01 00:00:00','10','','1','0'), ('985','86979474000208','盐酸舍曲林片(左洛复)','50mg×14片/瓶','68.94','瓶','辉瑞制药有限公司','111','101','YSSQLP(ZLF)','2019-03-01 00:00:00','10','','1','0'), ('986','86979474000208','盐酸戊乙奎醚(长托宁)','1mg×1ml/支','6.91','支','成都力思特制药3','110','101','YSWYKM(CTN)','2019-03-01 00:00:00','10','','1','0'), ('987','86979474000209','艾司唑仑片(舒乐安定)','1mg×20片/盒','17.52','盒','常州四药制药有限公司','111','101','ASZLP(SLAD)','2019-03-01 00:00:00','10','','1','0'), ('988','86979474000208','石杉碱甲片（双益平）','50ug×40片/盒','25.32','盒','上海复旦复华药业','114','101','SSJJP（SYP）','2019-03-01 00:00:00','10','','1','0'), ('989','86979474000209','柠檬酸钠(AR)','500g×1瓶','21.33','瓶','','157','101','NMSN(AR)','2019-03-01 00:00:00','10','','1','0'), ('990','86979474000208','LB凝血酶外用冻干粉','500iu×1瓶','32.15','瓶','湖南一格制药有限公司','110','101','LBNXMWYDGF','2019-03-01 00:00:00','10','','1','0'), ('991','86979474000208','牛黄消炎丸','1粒*120粒/盒','33.40','盒','南京同仁堂药业有限责任公司','163','102','NHXYW','2019-03-01 00:00:00','10','','1','0'), ('992','86979474000209','牛肉膏','500g×1瓶','42.74','瓶','','157','101','NRG','2019-03-01 00:00:00','10','','1','0'), ('993','86979474000208','依托泊苷软胶囊(威克)','50mg×10粒/盒','55.76','盒','江苏恒瑞医药股份有限公司','159','101','YTBZRJN(WK)','2019-03-01 00:00:00','10','','1','0'), ('994','86979474000209','硫酸氨基葡萄糖胶囊(维固力)','0.25g×20片/盒','90.52','盒','爱尔兰罗达药厂','114','101','LSAJPTTJN(WGL)','2019-03-01 00:00:00','10','','1','0'), ('995','86979474000208','辅酶Q10片(能气朗)','10mg×30片/盒','6.15','盒','卫材(中国)药业有限公司','111','101','FMQ10P(NQL)','2019-03-01 00:00:00','10','','1','0'), ('996','86979474000208','5%葡萄糖注射液（亚邦软袋）','5%100ml×1袋','12.81','袋','江苏亚邦生缘药业有限公司','110','101','5%PTTZSY（YBRD）','2019-03-01 00:00:00','10','','1','0'), ('997','86979474000209','蛇毒血凝酶注射液(速乐涓)','1ml:1单位×1支','50.20','支','兆科药业(合肥)有限公司','110','101','SDXNMZSY(SLZ)','2019-03-01 00:00:00','10','','1','0'), ('998','86979474000208','盐酸赛庚啶片','2mg×100片/瓶','0.05','瓶','常州四药制药有限公司','111','101','YSSGZP','2019-03-01 00:00:00','10','','1','0'), ('999','86979474000209','中性树胶','100ml×1瓶','4.71','瓶','上海华申','157','101','ZXSJ','2019-03-01 00:00:00','10','','1','0'), ('1000','86979474000208','碘海醇350注射液(欧乃派克)','350mg×100ml/瓶','13.85','瓶','通用电气药业 （上海）有限公司','110','101','DHC350ZSY(ONPK)','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('1001','86979474000208','生理氯化钠溶液','0.9%(3000ml:27g)×1袋','27.54','袋','浙江济民制药股份有限公司','119','101','SLLHNRY','2019-03-01 00:00:00','10','','1','0'), ('1002','86979474000209','石膏颗粒','0.5g/30g/袋','18.45','袋','江阴天江药业有限公司','115','102','SGKL','2019-03-01 00:00:00','10','','1','0'), ('1003','86979474000208','0.9%氯化钠注射液（亚邦软袋）','0.9%100ml×1袋','37.85','袋','江苏亚邦生缘药业有限公司','110','101','0.9%LHNZSY（YBRD）','2019-03-01 00:00:00','10','','1','0'), ('1004','86979474000209','注射用紫杉醇(白蛋白结合型)','100mg×1瓶','4.83','瓶','费森尤斯卡比','110','101','ZSYZSC(BDBJHX)','2019-03-01 00:00:00','10','','1','0'), ('1005','86979474000208','血脂康胶囊','0.3g×12片/盒','4.26','盒','北京北大维信生物科技有限公司','114','101','XZKJN','2019-03-01 00:00:00','10','','1','0'), ('1006','86979474000208','屋尘蟎变应原制剂(起始）','5ml×4支/盒','68.95','盒','丹麦爱尔开-阿贝优公司S','110','101','WCXBYYZJ(QS）','2019-03-01 00:00:00','10','','1','0'), ('1007','86979474000209','他扎罗汀凝胶(乐为)','30g:15mg×1支','5.59','支','重庆华邦制药股份有限公司','120','101','TZLTNJ(LW)','2019-03-01 00:00:00','10','','1','0'), ('1008','86979474000208','长链脂肪乳注射液(克凌诺)','250ml×1袋','56.42','袋','比利时百特','110','101','CLZFRZSY(KLN)','2019-03-01 00:00:00','10','','1','0'), ('1009','86979474000209','莫匹罗星软膏(百多邦)','10g×1支','2.64','支','中美天津史克制药有限公司','121','101','MPLXRG(BDB)','2019-03-01 00:00:00','10','','1','0'), ('1010','86979474000208','注射用吲哚菁绿','25mg×1瓶','1.93','瓶','丹东医创药业有限责任公司S','161','101','ZSYZZZL','2019-03-01 00:00:00','10','','1','0'), ('1011','86979474000208','甲磺酸二氢麦角碱缓释片','2.5mg×25片/瓶','2.35','瓶','宝利化（南京）制药有限公司','131','101','JHSEQMJJHSP','2019-03-01 00:00:00','10','','1','0'), ('1012','86979474000209','琥珀酸美托洛尔缓释片(倍他乐克)','47.5mg×7片/盒','1.14','盒','阿斯利康制药有限公司','111','102','ZZSMTLEHSP(BTLK)','2019-03-01 00:00:00','10','','1','0'), ('1013','86979474000208','BG复方血栓通胶囊','0.5g*30粒/盒','36.76','盒','广东众生药业股份有限公司','114','101','BGFFXSTJN','2019-03-01 00:00:00','10','','1','0'), ('1014','86979474000209','注射用重组人II型肿瘤坏死因子','12.5mg×1支','18.59','支','沈阳三生制药股份有限公司','110','101','ZSYZZRIIXZLHSYZ','2019-03-01 00:00:00','10','','1','0'), ('1015','86979474000208','薯蓣皂苷片(维奥欣)','80mg×48片/盒','17.95','盒','陕西恒诚制药有限公司','111','101','SZZZP(WAX)','2019-03-01 00:00:00','10','','1','0'), ('1016','86979474000208','双嘧达莫片','25mg×100片/瓶','32.42','瓶','辅仁药业集团有限公司','111','101','SZDMP','2019-03-01 00:00:00','10','','1','0'), ('1017','86979474000209','复方鳖甲软肝片','0.5g×48片/盒','20.70','盒','内蒙古福瑞医疗科技股份有限公司','111','101','FFBJRGP','2019-03-01 00:00:00','10','','1','0'), ('1018','86979474000208','小儿电解质补给注射液','100ml×1袋','76.25','袋','四川科伦药业股份有限公司','110','101','XEDJZBGZSY','2019-03-01 00:00:00','10','','1','0'), ('1019','86979474000209','米格列奈钙片(法迪)','5mg×36片/盒','31.57','盒','正大天晴药业集团股份有限公司','111','101','MGLNGP(FD)','2019-03-01 00:00:00','10','','1','0'), ('1020','86979474000208','重组人表皮生长因子凝胶(易孚)','200ug:20g×1支','44.45','支','桂林华诺威基因药业有限公司','120','101','ZZRBPSCYZNJ(YZ)','2019-03-01 00:00:00','10','','1','0'), ('1021','86979474000208','精蛋白锌重组(优泌乐50)赖脯胰岛素混合注射液','3ml:300iu×1支','43.35','支','礼来苏州制药有限公司(分装)','110','101','JDBXZZ(YML50)LFYDSHHZSY','2019-03-01 00:00:00','10','','1','0'), ('1022','86979474000209','重组牛碱性(贝复舒)成纤维细胞生长因子眼液','5ml:21000iu/1瓶','3.74','瓶','珠海亿胜生物制药有限公司','160','101','ZZNJX(BFS)CXWXBSCYZYY','2019-03-01 00:00:00','10','','1','0'), ('1023','86979474000208','注射用复合辅酶(贝科能)','100iu×1支','63.14','支','北京双鹭药业股份有限公司','110','101','ZSYFHFM(BKN)','2019-03-01 00:00:00','10','','1','0'), ('1024','86979474000209','倍他洛尔眼液(贝特舒)','5ml:12.5mg×1支','6.21','支','爱尔康眼科产品','160','101','BTLEYY(BTS)','2019-03-01 00:00:00','10','','1','0'), ('1025','86979474000208','薄荷','1000mg/g','17.50','克','江苏','112','103','BH','2019-03-01 00:00:00','10','','1','0'), ('1026','86979474000208','草河车','1000mg/g','26.69','克','','112','103','CHC','2019-03-01 00:00:00','10','','1','0'), ('1027','86979474000209','透析消毒液','0.5%500ml×1瓶','48.47','瓶','意大利','157','101','TXXDY','2019-03-01 00:00:00','10','','1','0'), ('1028','86979474000208','吐温-20','500g×1瓶','70.15','瓶','','157','101','TW-20','2019-03-01 00:00:00','10','','1','0'), ('1029','86979474000209','吐温-80','500g×1瓶','10.79','瓶','','157','101','TW-80','2019-03-01 00:00:00','10','','1','0'), ('1030','86979474000208','合欢皮','1000mg/g','6.41','克','浙江','112','103','HHP','2019-03-01 00:00:00','10','','1','0'), ('1031','86979474000208','黑白丑','1000mg/g','56.68','克','','112','103','HBC','2019-03-01 00:00:00','10','','1','0'), ('1032','86979474000209','黑附片','1000mg/g','23.64','克','四川','112','103','HFP','2019-03-01 00:00:00','10','','1','0'), ('1033','86979474000208','黑苏子','1000mg/g','34.61','克','江苏','112','103','HSZ','2019-03-01 00:00:00','10','','1','0'), ('1034','86979474000209','红藤','1000mg/g','11.37','克','安徽','112','103','HT','2019-03-01 00:00:00','10','','1','0'), ('1035','86979474000208','厚扑','1000mg/g','13.47','克',' 浙江','112','103','HP','2019-03-01 00:00:00','10','','1','0'), ('1036','86979474000208','厚朴花','1000mg/g','27.30','克','','112','103','HPH','2019-03-01 00:00:00','10','','1','0'), ('1037','86979474000209','注射用醋酸卡泊芬净（科赛斯）','50mg×1支','20.82','支','默沙东制药','110','101','ZSYCSKBFJ（KSS）','2019-03-01 00:00:00','10','','1','0'), ('1038','86979474000208','白消安注射液（白舒非）','10ml:60mg×1支','62.86','支','大冢（浙江）制药有限公司','110','101','BXAZSY（BSF）','2019-03-01 00:00:00','10','','1','0'), ('1039','86979474000209','BG阿德福韦酯胶囊（名正）','10mg×14粒/盒','6.80','盒','正大天晴药业集团股份有限公司','114','101','BGADFWJN（MZ）','2019-03-01 00:00:00','10','','1','0'), ('1040','86979474000208','猪肺磷脂注射液(固尔苏）','120mg×1.5ml/支','50.29','支','意大利凯西制药公司','110','101','ZFLZZSY(GES）','2019-03-01 00:00:00','10','','1','0'), ('1041','86979474000208','乳杆菌活菌胶囊（定君生）','0.25g×5粒/盒','29.10','盒','内蒙古双奇药业股份有限公司','114','102','RGJHJJN（DJS）','2019-03-01 00:00:00','10','','1','0'), ('1042','86979474000209','注射用磷酸氟达拉滨(福达华)','50mg×1瓶','46.66','瓶','赛诺菲(北京)制药有限公司','110','101','ZSYLSFDLB(FDH)','2019-03-01 00:00:00','10','','1','0'), ('1043','86979474000208','辅酶II','10g×1瓶','1.83','瓶','','157','101','FMII','2019-03-01 00:00:00','10','','1','0'), ('1044','86979474000209','前列地尔注射液(凯时)','10ug×1支','5.10','支','北京泰德制药股份有限公司','110','101','QLDEZSY(KS)','2019-03-01 00:00:00','10','','1','0'), ('1045','86979474000208','注射用硫普罗宁(凯西莱)','0.1g×1瓶','15.98','瓶','河南省新谊药业有限公司','110','101','ZSYLPLN(KXL)','2019-03-01 00:00:00','10','','1','0'), ('1046','86979474000208','注射用尿激酶','10万×1支','5.18','支','丽珠集团丽珠制药厂','110','101','ZSYNJM','2019-03-01 00:00:00','10','','1','0'), ('1047','86979474000209','尿素','400g×1瓶','55.21','瓶','湖南芙蓉','157','101','NS','2019-03-01 00:00:00','10','','1','0'), ('1048','86979474000208','百合颗粒','1g/10g/袋','8.99','袋','江苏','115','102','BHKL','2019-03-01 00:00:00','10','','1','0'), ('1049','86979474000209','生米仁颗粒','0.5g/10g/袋','25.92','袋','江阴','115','102','SMRKL','2019-03-01 00:00:00','10','','1','0'), ('1050','86979474000208','苦黄注射液','10ml×6支/盒','50.10','盒','常熟雷允上制药有限公司','110','101','KHZSY','2019-03-01 00:00:00','10','','1','0'), ('1051','86979474000208','马来酸氟吡汀胶囊(科达得龙)','0.1g×10粒/盒','7.65','盒','梯瓦制药','114','101','MLSFZTJN(KDDL)','2019-03-01 00:00:00','10','','1','0'), ('1052','86979474000209','盐酸小檗碱片(黄连素)','0.1g×100片/瓶','55.28','瓶','江苏亚邦爱普森药业有限公司','111','101','YSXZJP(HLS)','2019-03-01 00:00:00','10','','1','0'), ('1053','86979474000208','替吉奥胶囊','20mg×42粒/盒','5.27','盒','江苏恒瑞医药股份有限公司S','114','101','TJAJN','2019-03-01 00:00:00','10','','1','0'), ('1054','86979474000209','注射用胸腺法新(日达仙)','1.6mg×2支/盒','16.99','盒','意大利赛生制药有限公司','161','101','ZSYXXFX(RDX)','2019-03-01 00:00:00','10','','1','0'), ('1055','86979474000208','氨酚伪麻美芬片(日夜百服宁)','12片/盒','5.33','盒','中美上海施贵宝制药有限公司','111','101','AFWMMFP(RYBFN)','2019-03-01 00:00:00','10','','1','0'), ('1056','86979474000208','枯草杆菌肠球菌二联活颗粒(妈咪爱)','1g×15袋/盒','2.32','盒','北京韩美药品有限公司','115','102','KCGJCQJELHKL(MZA)','2019-03-01 00:00:00','10','','1','0'), ('1057','86979474000209','平消胶囊','0.23g×100粒/盒','0.31','盒','西安正大制药有限公司','114','101','PXJN','2019-03-01 00:00:00','10','','1','0'), ('1058','86979474000208','注射用A型肉毒素(衡力)','100iu×1支','42.82','支','兰州生物制品研究所','161','101','ZSYAXRDS(HL)','2019-03-01 00:00:00','10','','1','0'), ('1059','86979474000209','人血白蛋白注射液(百特)','10g*1袋','18.94','袋','百特医疗用品有限公司','110','101','RXBDBZSY(BT)','2019-03-01 00:00:00','10','','1','0'), ('1060','86979474000208','注射用促皮质素','25iu×10支/盒','26.82','盒','上海第一生化药业有限公司','110','101','ZSYCPZS','2019-03-01 00:00:00','10','','1','0'), ('1061','86979474000208','降钙素注射液(密钙息)','50iu×5支/盒','13.30','盒','诺华制药（瑞士）','110','101','JGSZSY(MGX)','2019-03-01 00:00:00','10','','1','0'), ('1062','86979474000209','门冬胰岛素(诺和锐笔芯)注射液','300u×1支','64.33','支','丹麦诺和诺德公司','110','101','MDYDS(NHRBX)ZSY','2019-03-01 00:00:00','10','','1','0'), ('1063','86979474000208','氨水','500ml/瓶','37.77','瓶','','157','101','AS','2019-03-01 00:00:00','10','','1','0'), ('1064','86979474000209','砂仁颗粒','0.5g/3g/袋','57.57','袋','江阴天江药业有限公司','115','102','SRKL','2019-03-01 00:00:00','10','','1','0'), ('1065','86979474000208','豆寇颗粒','0.5g/3g/袋','56.52','袋','江阴天江药业有限公司','115','102','DKKL','2019-03-01 00:00:00','10','','1','0'), ('1066','86979474000208','盐酸左氧氟沙星滴耳液(左拂)','5ml(0.5%)×1瓶','9.49','瓶','深圳万和制药有限公司','135','101','YSZYFSXDEY(ZF)','2019-03-01 00:00:00','10','','1','0'), ('1067','86979474000209','缬沙坦胶囊(代文)','80mg×7片/盒','53.37','盒','诺华制药（北京）有限公司','114','101','ZSTJN(DW)','2019-03-01 00:00:00','10','','1','0'), ('1068','86979474000208','碘','500g×1瓶','76.58','瓶','自贡','157','101','D','2019-03-01 00:00:00','10','','1','0'), ('1069','86979474000209','碘  仿','500g×1瓶','1.13','瓶','','157','101','DF','2019-03-01 00:00:00','10','','1','0'), ('1070','86979474000208','碘伏消毒液','250ml×1瓶','3.82','瓶','兴化','157','101','DFXDY','2019-03-01 00:00:00','10','','1','0'), ('1071','86979474000208','越星碘伏消毒液','500ml/瓶','34.96','瓶','兴化','157','101','YXDFXDY','2019-03-01 00:00:00','10','','1','0'), ('1072','86979474000209','碘伏溶液','500ml×1瓶','18.58','瓶','南京大学制药厂','157','101','DFRY','2019-03-01 00:00:00','10','','1','0'), ('1073','86979474000208','碘化钠','500g×1瓶','3.29','瓶','','157','101','DHN','2019-03-01 00:00:00','10','','1','0'), ('1074','86979474000209','注射用苯磺顺阿曲库铵(艾斯康)','10mg×1支','10.19','支','江苏恒瑞医药股份有限公司S','110','101','ZSYBHSAQKZ(ASK)','2019-03-01 00:00:00','10','','1','0'), ('1075','86979474000208','马来酸氯苯那敏片','4mg×100片/瓶','1.82','瓶','江苏鹏鹞药业有限公司','111','101','MLSLBNMP','2019-03-01 00:00:00','10','','1','0'), ('1076','86979474000208','布地奈德混悬液(普米克令舒)','1mg*5支/袋','31.20','袋','阿斯利康制药有限公司','136','101','BDNDHXY(PMKLS)','2019-03-01 00:00:00','10','','1','0'), ('1077','86979474000209','奥硝唑胶囊（齐克）','0.25g×12粒/盒','25.17','盒','南京海陵药业','114','101','AXZJN（QK）','2019-03-01 00:00:00','10','','1','0'), ('1078','86979474000208','强骨胶囊','0.25g×12粒/盒','28.99','盒','北京歧黄制药有限公司','114','101','QGJN','2019-03-01 00:00:00','10','','1','0'), ('1079','86979474000209','三七粉颗粒','3g/3g/袋','15.65','袋','江阴天江药业有限公司','115','102','SQFKL','2019-03-01 00:00:00','10','','1','0'), ('1080','86979474000208','磷酸奥司他韦胶囊(可威)','75mg×10粒/盒','11.41','盒','宜昌东阳光长江药业股份有限公司','114','101','LSASTWJN(KW)','2019-03-01 00:00:00','10','','1','0'), ('1081','86979474000208','五味麝香丸','0.03g*25粒/盒','22.98','盒','宁夏多维药业','163','102','WWSXW','2019-03-01 00:00:00','10','','1','0'), ('1082','86979474000209','硝苯地平控释片（拜新同）','30mg×7片/盒','40.29','盒','拜耳医药保健有限公司','111','101','XBDPKSP（BXT）','2019-03-01 00:00:00','10','','1','0'), ('1083','86979474000208','蒙脱石混悬液','90ml×1瓶','5.17','瓶','南京白敬宇制药有限责任公司','136','101','MTSHXY','2019-03-01 00:00:00','10','','1','0'), ('1084','86979474000209','注射用鼠神经生长因子(恩经复)','9000.000ug*1支/支','1.24','支','未名生物医药有限公司','110','101','ZSYSSJSCYZ(EJF)','2019-03-01 00:00:00','10','','1','0'), ('1085','86979474000208','龙血竭肠溶片','0.4g*36片/盒','10.60','盒','云南大唐汉方制药有限公司','111','101','LXJCRP','2019-03-01 00:00:00','10','','1','0'), ('1086','86979474000208','硫酸羟氯喹片','0.2g×10片/盒','18.45','盒','英国SANOFI-SYNTHELABO LTD.','117','101','LSQLZP','2019-03-01 00:00:00','10','','1','0'), ('1087','86979474000209','伊曲康唑注射液(斯皮仁诺)','25ml×250mg×1支','5.82','支','','110','101','YQKZZSY(SPRN)','2019-03-01 00:00:00','10','','1','0'), ('1088','86979474000208','LB乙酰谷酰胺注射液(苏意)','2ml:0.1g×6支/盒','62.69','盒','山东潍坊制药厂有限公司','110','101','LBYXGXAZSY(SY)','2019-03-01 00:00:00','10','','1','0'), ('1089','86979474000209','蓖麻油','500ml×1瓶','56.38','瓶','湖北天门二药','157','101','BMY','2019-03-01 00:00:00','10','','1','0'), ('1090','86979474000208','变色硅胶','500g×1瓶','8.57','瓶','','157','101','BSGJ','2019-03-01 00:00:00','10','','1','0'), ('1091','86979474000208','BG玻璃酸钠注射液(施沛特)','20mg×1支','51.74','支','山东博士伦福瑞达制药有限公司','110','101','BGBLSNZSY(SPT)','2019-03-01 00:00:00','10','','1','0'), ('1092','86979474000209','注射用生长抑素14肽(思他宁)','3000ug×1瓶','23.27','瓶','瑞士雪兰诺','110','101','ZSYSCYS14Z(STN)','2019-03-01 00:00:00','10','','1','0'), ('1093','86979474000208','十二烷基硫酸钠','250g×1瓶','1.48','瓶','','157','101','SEWJLSN','2019-03-01 00:00:00','10','','1','0'), ('1094','86979474000209','十六醇(CP)','500g×1瓶','24.81','瓶','上海久亿','157','101','SLC(CP)','2019-03-01 00:00:00','10','','1','0'), ('1095','86979474000208','碘化油注射液','10ml×1支','39.17','支','烟台鲁银药业有限公司','110','101','DHYZSY','2019-03-01 00:00:00','10','','1','0'), ('1096','86979474000208','健之素牌手消毒剂','750ml×1瓶','36.17','瓶','北京健之素医药科技有限公司','157','101','JZSPSXDJ','2019-03-01 00:00:00','10','','1','0'), ('1097','86979474000209','雷贝拉唑钠肠溶片（瑞波特）','10mg×14片/盒','57.78','盒','江苏豪森药业股份有限公司','133','101','LBLZNCRP（RBT）','2019-03-01 00:00:00','10','','1','0'), ('1098','86979474000208','注射用两性霉素B脂质体(锋克松)','10mg×1瓶','1.36','瓶','上海新亚药业有限公司S','161','101','ZSYLXMSBZZT(FKS)','2019-03-01 00:00:00','10','','1','0'), ('1099','86979474000209','重组人生长激素注射液(赛增)','30iu:10mg:3ml×1瓶','0.37','瓶','长春金赛药业有限责任公司','110','101','ZZRSCJSZSY(SZ)','2019-03-01 00:00:00','10','','1','0'), ('1100','86979474000208','鼻渊舒口服液','10ml×10支/盒','70.75','盒','成都华神集团股份有限公司制药厂','164','101','BYSKFY','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('1101','86979474000208','盐酸奥布卡因凝胶','10ml:30mg×1支','3.21','支','沈阳绿洲制药有限公司','120','101','YSABKYNJ','2019-03-01 00:00:00','10','','1','0'), ('1102','86979474000209','盐酸溴己新葡萄糖注射液','100ml×1瓶','8.67','瓶','江西科伦药业有限公司','110','101','YSZJXPTTZSY','2019-03-01 00:00:00','10','','1','0'), ('1103','86979474000208','硫唑嘌呤片','50mg×60片/盒','5.35','盒','上海信谊药厂有限公司','111','101','LZZZP','2019-03-01 00:00:00','10','','1','0'), ('1104','86979474000209','苦楝皮','1000mg/g','15.20','克','','112','103','KZP','2019-03-01 00:00:00','10','','1','0'), ('1105','86979474000208','利妥昔单抗注射液(美罗华)','10ml:100mg×1支','0.23','支','上海罗氏制药有限公司','110','101','LTXDKZSY(MLH)','2019-03-01 00:00:00','10','','1','0'), ('1106','86979474000208','碘化油注射液(超液)','10ml:4.8g×1支','13.57','支','GUERBET 法国','110','101','DHYZSY(CY)','2019-03-01 00:00:00','10','','1','0'), ('1107','86979474000209','碘酸钠','500g×1瓶','37.44','瓶','','157','101','DSN','2019-03-01 00:00:00','10','','1','0'), ('1108','86979474000208','淀粉','1000mg/g','5.75','克','','157','101','DF','2019-03-01 00:00:00','10','','1','0'), ('1109','86979474000209','外用冻干人纤维蛋白粘合剂','2ml×1瓶','23.21','瓶','上海莱士血液制品股份有限公司','110','101','WYDGRXWDBZHJ','2019-03-01 00:00:00','10','','1','0'), ('1110','86979474000208','多巴酚丁胺注射液','20mg×10支/盒','6.30','盒','山东方明药业集团股份有限公司','110','101','DBFDAZSY','2019-03-01 00:00:00','10','','1','0'), ('1111','86979474000208','盐酸伐昔洛韦片(维德思)','0.5g×10片/盒','37.36','盒','葛兰素史克(中国)投资有限公司','111','101','YSFXLWP(WDS)','2019-03-01 00:00:00','10','','1','0'), ('1112','86979474000209','土牛膝','1000mg/g','48.73','克','江苏','112','103','TNX','2019-03-01 00:00:00','10','','1','0'), ('1113','86979474000208','一枝黄花','1000mg/g','46.44','克','江苏','112','103','YZHH','2019-03-01 00:00:00','10','','1','0'), ('1114','86979474000209','挂金灯','1000mg/g','29.75','克','江苏','112','103','GJD','2019-03-01 00:00:00','10','','1','0'), ('1115','86979474000208','马鞭草','1000mg/g','47.68','克','','112','103','MBC','2019-03-01 00:00:00','10','','1','0'), ('1116','86979474000208','盐酸托莫西汀','25mg×7粒/盒','22.58','盒','礼来（美国）公司S','114','101','YSTMXT','2019-03-01 00:00:00','10','','1','0'), ('1117','86979474000209','LB注射用两性霉素B(欧泊)','25mg×1瓶','41.45','瓶','华北制药股份有限公司','110','101','LBZSYLXMSB(OB)','2019-03-01 00:00:00','10','','1','0'), ('1118','86979474000208','乌灵胶囊','0.33g×36粒/盒','47.07','盒','浙江佐力药业有限公司','114','101','WLJN','2019-03-01 00:00:00','10','','1','0'), ('1119','86979474000209','参松养心胶囊','0.4g×36粒/盒','3.66','盒','北京以岭药业有限公司','114','102','CSYXJN','2019-03-01 00:00:00','10','','1','0'), ('1120','86979474000208','健之素牌消毒片','1.25g×80片/瓶','17.14','瓶','北京健之素医药科技有限责任公司','111','101','JZSPXDP','2019-03-01 00:00:00','10','','1','0'), ('1121','86979474000208','BG丁酸氢化可的松软膏(尤卓尔)','10g×1支','15.08','支','天津药业','121','101','BGDSQHKDSRG(YZE)','2019-03-01 00:00:00','10','','1','0'), ('1122','86979474000209','丁香油(BR)','100ml×1瓶','57.64','瓶','','157','101','DXY(BR)','2019-03-01 00:00:00','10','','1','0'), ('1123','86979474000208','巴曲酶注射液(东菱迪芙)','0.5ml×5Bu/支','25.00','支','北京托毕西药业有限公司0','110','101','BQMZSY(DLDZ)','2019-03-01 00:00:00','10','','1','0'), ('1124','86979474000209','吲哚美辛栓(消炎痛栓)','0.1g×10粒/盒','36.58','盒','湖北东信药业有限公司','125','101','ZZMXS(XYTS)','2019-03-01 00:00:00','10','','1','0'), ('1125','86979474000208','升麻','1000mg/g','8.42','克','黑龙江','112','103','SM','2019-03-01 00:00:00','10','','1','0'), ('1126','86979474000208','生百部','1000mg/g','0.34','克','山东','112','103','SBB','2019-03-01 00:00:00','10','','1','0'), ('1127','86979474000209','山莨菪碱(654-2)注射液','1ml:10mg×10支/盒','28.90','盒','杭州民生药业有限公司','110','101','SZZJ(654-2)ZSY','2019-03-01 00:00:00','10','','1','0'), ('1128','86979474000208','单硝酸异山梨酯缓释胶囊(异乐定)','50mg×10粒/盒','6.55','盒','珠海许瓦兹制药有限公司','137','101','DXSYSLZHSJN(YLD)','2019-03-01 00:00:00','10','','1','0'), ('1129','86979474000209','三七通舒胶囊','0.200g*12粒/盒','56.43','盒','成都华神集团有限公司','114','102','SQTSJN','2019-03-01 00:00:00','10','','1','0'), ('1130','86979474000208','复方对乙酰氨基酚片(散利痛','0.45g*20片/盒','10.74','盒','拜耳医药保健有限公司','111','101','FFDYXAJFP(SLT','2019-03-01 00:00:00','10','','1','0'), ('1131','86979474000208','BG桂枝茯苓胶囊','0.31g*100粒/盒','48.52','盒','江苏康缘药业股份有限公司','114','102','BGGZZZJN','2019-03-01 00:00:00','10','','1','0'), ('1132','86979474000209','草酸(AR)','500g×1瓶','82.11','瓶','','157','101','CS(AR)','2019-03-01 00:00:00','10','','1','0'), ('1133','86979474000208','草酸铵','500g×1瓶','52.22','瓶','','157','101','CSZ','2019-03-01 00:00:00','10','','1','0'), ('1134','86979474000209','长春西汀注射液(润坦)','2ml:10mg×1支','1.33','支','河南润弘制药股份有限公司','110','101','CCXTZSY(RT)','2019-03-01 00:00:00','10','','1','0'), ('1135','86979474000208','精蛋白锌胰岛素注射液(长效胰岛素)','400iu/10ml/支','10.87','支','江苏万邦生化医药股份有限公司','110','101','JDBXYDSZSY(CXYDS)','2019-03-01 00:00:00','10','','1','0'), ('1136','86979474000208','亚硫酸鈉(AR)','500g×1瓶','12.62','瓶','','157','101','YLSZ(AR)','2019-03-01 00:00:00','10','','1','0'), ('1137','86979474000209','亚硫酸氢钠(CP)','500g×1瓶','27.19','瓶','上海久亿','157','101','YLSQN(CP)','2019-03-01 00:00:00','10','','1','0'), ('1138','86979474000208','曲伏前列素滴眼液(苏为坦)','2.5ml:0.1mg×1支','36.95','支','美国爱尔康大药厂S','160','101','QFQLSDYY(SWT)','2019-03-01 00:00:00','10','','1','0'), ('1139','86979474000209','吗替麦考酚脂胶囊(骁悉)','250mg×40粒/盒','26.78','盒','上海罗氏制药有限公司','114','101','MTMKFZJN(ZX)','2019-03-01 00:00:00','10','','1','0'), ('1140','86979474000208','苯磺酸氨氯地平片(压氏达)','5mg×14片/盒','0.92','盒','华润赛科药业有限责任公司','111','101','BHSALDPP(YSD)','2019-03-01 00:00:00','10','','1','0'), ('1141','86979474000208','三乙醇胺','500ml×1瓶','78.18','瓶','','157','101','SYCA','2019-03-01 00:00:00','10','','1','0'), ('1142','86979474000209','色苷酸钠滴眼液','8ml×1支','6.90','支','武汉五景药业','160','101','SZSNDYY','2019-03-01 00:00:00','10','','1','0'), ('1143','86979474000208','参麦注射液','50ml×1瓶','53.24','瓶','雅安三九药业有限公司','110','101','CMZSY','2019-03-01 00:00:00','10','','1','0'), ('1144','86979474000209','参芪扶正注射液','250ml×1瓶','6.50','瓶','丽珠集团利民制药厂','110','101','CZFZZSY','2019-03-01 00:00:00','10','','1','0'), ('1145','86979474000208','LB盐酸布比卡因注射液','5ml:25mg×5支/盒','4.68','盒','上海禾丰制药有限公司','110','101','LBYSBBKYZSY','2019-03-01 00:00:00','10','','1','0'), ('1146','86979474000208','福辛普利钠片(蒙诺)','10mg×14片/瓶','49.01','瓶','中美上海施贵宝制药有限公司','111','101','FXPLNP(MN)','2019-03-01 00:00:00','10','','1','0'), ('1147','86979474000209','浓氨水','500ml×1瓶','26.69','瓶','','157','101','NAS','2019-03-01 00:00:00','10','','1','0'), ('1148','86979474000208','利巴韦林颗粒(同欣)','0.1g×20袋/盒','11.27','盒','中国药科大学制药有限公司','115','102','LBWLKL(TX)','2019-03-01 00:00:00','10','','1','0'), ('1149','86979474000209','蛇床子','1000mg/g','29.61','克','河北','112','103','SCZ','2019-03-01 00:00:00','10','','1','0'), ('1150','86979474000208','蛇莓','1000mg/g','68.09','克','江苏','112','103','SZ','2019-03-01 00:00:00','10','','1','0'), ('1151','86979474000208','射干','1000mg/g','11.25','克','江苏','112','103','SG','2019-03-01 00:00:00','10','','1','0'), ('1152','86979474000209','伸筋草','1000mg/g','28.34','克',' 浙江','112','103','SJC','2019-03-01 00:00:00','10','','1','0'), ('1153','86979474000208','三羟甲基氨基甲烷','100g×1瓶','11.25','瓶','','157','101','SQJJAJJW','2019-03-01 00:00:00','10','','1','0'), ('1154','86979474000209','硫酸羟氯喹片','0.1g*14片/盒','22.32','盒','上海中西制药有限公司','111','101','LSQLZP','2019-03-01 00:00:00','10','','1','0'), ('1155','86979474000208','辛荑花','1000mg/g','2.81','克','河南','112','103','XZH','2019-03-01 00:00:00','10','','1','0'), ('1156','86979474000208','杏仁','1000mg/g','6.46','克',' 江苏','112','103','XR','2019-03-01 00:00:00','10','','1','0'), ('1157','86979474000209','徐长卿','1000mg/g','26.86','克','安徽','112','103','XCQ','2019-03-01 00:00:00','10','','1','0'), ('1158','86979474000208','玄参','1000mg/g','25.60','克','江苏','112','103','XC','2019-03-01 00:00:00','10','','1','0'), ('1159','86979474000209','玄胡','1000mg/g','72.75','克','江苏','112','103','XH','2019-03-01 00:00:00','10','','1','0'), ('1160','86979474000208','丙三醇(AR)','500ml×1瓶','8.05','瓶','上海化试','119','101','BSC(AR)','2019-03-01 00:00:00','10','','1','0'), ('1161','86979474000208','地龙','1000mg/g','0.49','克','','112','103','DL','2019-03-01 00:00:00','10','','1','0'), ('1162','86979474000209','地榆炭','1000mg/g','3.23','克','江苏','112','103','DYT','2019-03-01 00:00:00','10','','1','0'), ('1163','86979474000208','独活','1000mg/g','88.40','克','湖北','112','103','DH','2019-03-01 00:00:00','10','','1','0'), ('1164','86979474000209','杜仲','1000mg/g','5.84','克',' 陕西','112','103','DZ','2019-03-01 00:00:00','10','','1','0'), ('1165','86979474000208','莪术','1000mg/g','9.15','克',' 四川','112','103','ZS','2019-03-01 00:00:00','10','','1','0'), ('1166','86979474000208','防风','1000mg/g','17.03','克','黑龙江','112','103','FF','2019-03-01 00:00:00','10','','1','0'), ('1167','86979474000209','防已','1000mg/g','32.33','克','广东','112','103','FY','2019-03-01 00:00:00','10','','1','0'), ('1168','86979474000208','五味子','1000mg/g','10.80','克','吉林','112','103','WWZ','2019-03-01 00:00:00','10','','1','0'), ('1169','86979474000209','稀签草','1000mg/g','13.82','克','江苏','112','103','XQC','2019-03-01 00:00:00','10','','1','0'), ('1170','86979474000208','细辛','1000mg/g','0.30','克','辽宁','112','103','XX','2019-03-01 00:00:00','10','','1','0'), ('1171','86979474000208','注射用地尔硫卓(合贝爽)','10mg×1支','14.65','支','天津田边制药有限公司','110','101','ZSYDELZ(HBS)','2019-03-01 00:00:00','10','','1','0'), ('1172','86979474000209','参芪片','0.3g×48片/盒','13.60','盒','吉林金恒制药股份有限公司','111','102','CZP','2019-03-01 00:00:00','10','','1','0'), ('1173','86979474000208','雪山金罗汉止痛涂膜剂','45mL/瓶','37.30','瓶','西藏康达药业有限公司','139','101','XSJLHZTTMJ','2019-03-01 00:00:00','10','','1','0'), ('1174','86979474000209','吸入用复方异丙托溴铵溶液（可必特','2.5ml*10支/盒','74.07','盒','勃林格殷格翰（上海）药业有限公司','119','101','XRYFFYBTZZRY（KBT','2019-03-01 00:00:00','10','','1','0'), ('1175','86979474000208','注射用甲泼尼龙琥珀酸钠(甲强龙)','0.5g×1支','19.54','支','辉瑞制药有限公司','110','101','ZSYJPNLZZSN(JQL)','2019-03-01 00:00:00','10','','1','0'), ('1176','86979474000208','丹红注射液','10ml×1支','53.41','支','山东丹红制药有限公司','110','101','DHZSY','2019-03-01 00:00:00','10','','1','0'), ('1177','86979474000209','强力枇杷露','100ml×1瓶','31.80','瓶','杭州胡庆余堂药业有限公司','158','102','QLZZL','2019-03-01 00:00:00','10','','1','0'), ('1178','86979474000208','十味蒂达胶囊','0.45g×10粒/盒','3.72','盒','西藏诺迪康药业股份有限公司','114','102','SWDDJN','2019-03-01 00:00:00','10','','1','0'), ('1179','86979474000209','麝香草酚','1g×1瓶','8.07','瓶','','157','101','SXCF','2019-03-01 00:00:00','10','','1','0'), ('1180','86979474000208','注射用醋酸曲普瑞林(达菲林)','3.75mg×1支','11.71','支','法国博福-益普生','161','101','ZSYCSQPRL(DFL)','2019-03-01 00:00:00','10','','1','0'), ('1181','86979474000208','硝酸咪康唑软膏(达克宁)','20g×1支','19.08','支','西安杨森制药有限公司','121','101','XSZKZRG(DKN)','2019-03-01 00:00:00','10','','1','0'), ('1182','86979474000209','阿片酊','100ml×1瓶','14.92','瓶','','157','101','AP','2019-03-01 00:00:00','10','','1','0'), ('1183','86979474000208','复合维生素 B 片','100片/瓶','80.34','瓶','南京白敬宇制药有限责任公司','111','101','FHWSS B P','2019-03-01 00:00:00','10','','1','0'), ('1184','86979474000209','甘油磷酸钠注射液(格列福斯)','10ml:2.16g×1支','3.72','支','无锡华瑞制药公司','110','101','GYLSNZSY(GLFS)','2019-03-01 00:00:00','10','','1','0'), ('1185','86979474000208','注射用更昔洛韦(丽科伟)','250mg×1瓶','54.29','瓶','湖北益科药业股份有限公司','161','101','ZSYGXLW(LKW)','2019-03-01 00:00:00','10','','1','0'), ('1186','86979474000208','注射用更昔洛韦(丽科伟）','50mg×1支','0.58','支','湖北益科药业股份有限公司','161','101','ZSYGXLW(LKW）','2019-03-01 00:00:00','10','','1','0'), ('1187','86979474000209','汞','250g×1瓶','10.22','瓶','','157','101','G','2019-03-01 00:00:00','10','','1','0'), ('1188','86979474000208','汞','500g×1瓶','7.01','瓶','','157','101','G','2019-03-01 00:00:00','10','','1','0'), ('1189','86979474000209','无水羊毛脂','500g×1瓶','27.37','瓶','上海','157','101','WSYMZ','2019-03-01 00:00:00','10','','1','0'), ('1190','86979474000208','无水乙醇(AR)','500ml×1瓶','1.18','瓶','上海久亿','157','101','WSYC(AR)','2019-03-01 00:00:00','10','','1','0'), ('1191','86979474000208','五倍子','1000mg/g','17.15','克','','112','103','WBZ','2019-03-01 00:00:00','10','','1','0'), ('1192','86979474000209','五氧化二砷','250g×1瓶','37.45','瓶','','157','101','WYHES','2019-03-01 00:00:00','10','','1','0'), ('1193','86979474000208','通心络胶囊','0.26g×30粒/盒','37.92','盒','石家庄以岭药业','114','101','TXLJN','2019-03-01 00:00:00','10','','1','0'), ('1194','86979474000209','赖氨肌醇维B12口服液(同笑)','100ml×1瓶','13.50','瓶','济川药业集团有限公司','164','101','LAJCWB12KFY(TX)','2019-03-01 00:00:00','10','','1','0'), ('1195','86979474000208','盐酸洛哌丁胺胶囊(易蒙停)','2mg×6片/盒','54.60','盒','西安杨森制药有限公司','114','101','YSLZDAJN(YMT)','2019-03-01 00:00:00','10','','1','0'), ('1196','86979474000208','银黄含化片','0.6g×24片/盒','23.37','盒','鲁南厚普制药有限公司','140','102','YHHHP','2019-03-01 00:00:00','10','','1','0'), ('1197','86979474000209','伊曲康唑口服液(斯皮仁诺)','150ml:1.5g×1瓶','5.74','瓶','比利时杨森制药公司','164','101','YQKZKFY(SPRN)','2019-03-01 00:00:00','10','','1','0'), ('1198','86979474000208','吡美莫司(爱宁达)乳膏','15g×1支','5.42','支','诺华制药（北京）有限公司','118','101','ZMMS(AND)RG','2019-03-01 00:00:00','10','','1','0'), ('1199','86979474000209','注射用多西他赛(艾素)','20mg×1支','72.37','支','江苏恒瑞医药股份有限公司','110','101','ZSYDXTS(AS)','2019-03-01 00:00:00','10','','1','0'), ('1200','86979474000208','萘敏维滴眼液(艾唯多)','10ml×1支','1.40','支','天津大冢制药公司','160','101','ZMWDYY(AWD)','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('1201','86979474000208','注射用放线菌素D(更生霉素）','200ug×1瓶','6.36','瓶','海正辉瑞制药有限公司','110','101','ZSYFXJSD(GSMS）','2019-03-01 00:00:00','10','','1','0'), ('1202','86979474000209','糊精','500g×1瓶','24.49','瓶','','157','101','HJ','2019-03-01 00:00:00','10','','1','0'), ('1203','86979474000208','瘪桃干','1000mg/g','26.02','克','江苏','112','103','BTG','2019-03-01 00:00:00','10','','1','0'), ('1204','86979474000209','地塞米松磷酸钠','5mg×10支/盒','12.17','盒','天津金耀药业有限公司','110','101','DSMSLSN','2019-03-01 00:00:00','10','','1','0'), ('1205','86979474000208','*碘酊','500ml/瓶','31.15','瓶','江苏常熟星海','157','101','DJ','2019-03-01 00:00:00','10','','1','0'), ('1206','86979474000208','注射用苯磺酸阿曲库铵','25mg×1瓶','34.55','瓶','上海恒瑞医药股份有限公司','110','101','ZSYBHSAQKZ','2019-03-01 00:00:00','10','','1','0'), ('1207','86979474000209','尼群地平软胶囊','10mg*24粒/瓶','54.51','瓶','澳诺（青岛）制药有限公司','159','101','NQDPRJN','2019-03-01 00:00:00','10','','1','0'), ('1208','86979474000208','氨甲苯酸(止血芳酸)注射液','10ml:0.1g×5支/盒','31.86','盒','扬州制药有限公司','110','101','AJBS(ZXFS)ZSY','2019-03-01 00:00:00','10','','1','0'), ('1209','86979474000209','甲睾酮片','5mg×100片/瓶','75.14','瓶','天津力生制药股份有限公司','111','101','JZTP','2019-03-01 00:00:00','10','','1','0'), ('1210','86979474000208','阿司匹林肠溶片','25mg×100片/瓶','28.14','瓶','石药集团欧意药业有限公司','133','101','ASPLCRP','2019-03-01 00:00:00','10','','1','0'), ('1211','86979474000208','米索前列醇片','0.2mg×3片/盒','0.49','盒','湖北葛店人福药业有限责任公司','111','101','MSQLCP','2019-03-01 00:00:00','10','','1','0'), ('1212','86979474000209','硝酸异山梨醇酯片(消心痛)','5mg×100片/瓶','25.81','瓶','南京白敬宇制药有限责任公司','111','101','XSYSLCZP(XXT)','2019-03-01 00:00:00','10','','1','0'), ('1213','86979474000208','硝酸钴','100g×1瓶','28.29','瓶','','157','101','XSZ','2019-03-01 00:00:00','10','','1','0'), ('1214','86979474000209','那格列奈片(唐力)','120mg×12片/盒','3.56','盒','诺华制药（北京）有限公司','111','101','NGLNP(TL)','2019-03-01 00:00:00','10','','1','0'), ('1215','86979474000208','戊二醛','250ml(6)×1瓶','8.41','瓶','兴化','157','101','WEQ','2019-03-01 00:00:00','10','','1','0'), ('1216','86979474000208','过氯酸(AR)','500ml×1瓶','64.19','瓶','','157','101','GLS(AR)','2019-03-01 00:00:00','10','','1','0'), ('1217','86979474000209','过氧化氢溶液','3%500ml×1瓶','9.98','瓶','南昌白云制药','119','101','GYHQRY','2019-03-01 00:00:00','10','','1','0'), ('1218','86979474000208','过氧乙酸','(AB)50ml/瓶','25.02','瓶','上海印化','157','101','GYYS','2019-03-01 00:00:00','10','','1','0'), ('1219','86979474000209','荔枝草颗粒','1g/15g/袋','13.68','袋','江阴','115','102','LZCKL','2019-03-01 00:00:00','10','','1','0'), ('1220','86979474000208','生甘草颗粒','3g/0.5g/袋','1.89','袋','江阴天江药业有限公司','115','102','SGCKL','2019-03-01 00:00:00','10','','1','0'), ('1221','86979474000208','生川乌','1000mg/g','57.82','克','陕西','112','103','SCW','2019-03-01 00:00:00','10','','1','0'), ('1222','86979474000209','生大黄','1000mg/g','6.24','克','青海','112','103','SDH','2019-03-01 00:00:00','10','','1','0'), ('1223','86979474000208','生地','1000mg/g','65.24','克','河南','112','103','SD','2019-03-01 00:00:00','10','','1','0'), ('1224','86979474000209','生甘草','1000mg/g','11.66','克','内蒙','112','103','SGC','2019-03-01 00:00:00','10','','1','0'), ('1225','86979474000208','铬黑T(IND)','25g×1瓶','12.44','瓶','南京','157','101','GHT(IND)','2019-03-01 00:00:00','10','','1','0'), ('1226','86979474000208','普通肉汤培养基','250g×1瓶','77.37','瓶','宁','157','101','PTRTPYJ','2019-03-01 00:00:00','10','','1','0'), ('1227','86979474000209','BG普乐安片(前列康)','0.5g×60片/瓶','16.09','瓶','楚雄老拨云堂药业有限公司','111','101','BGPLAP(QLK)','2019-03-01 00:00:00','10','','1','0'), ('1228','86979474000208','重组人粒细胞(格拉诺赛特)集落刺激因子注射液','250ug×1支','8.72','支','日本中外制药株式会社','110','101','ZZRLXB(GLNST)JLCJYZZSY','2019-03-01 00:00:00','10','','1','0'), ('1229','86979474000209','荔枝草','1000mg/g','7.19','克','','112','103','LZC','2019-03-01 00:00:00','10','','1','0'), ('1230','86979474000208','布洛芬混悬液(美林)','100ml×1瓶','66.93','瓶','上海强生制药有限公司','136','101','BLFHXY(ML)','2019-03-01 00:00:00','10','','1','0'), ('1231','86979474000208','硫酸吗啡缓释片(美施康定)','30mg×10片/盒','41.84','瓶','北京萌蒂制药有限公司','111','101','LSMFHSP(MSKD)','2019-03-01 00:00:00','10','','1','0'), ('1232','86979474000209','瑞格列奈片（诺和龙）','1mg×30片/盒','13.01','盒','丹麦诺和诺德公司','111','101','RGLNP（NHL）','2019-03-01 00:00:00','10','','1','0'), ('1233','86979474000208','培养基(1640)','1VIT','10.56','瓶','','157','101','PYJ(1640)','2019-03-01 00:00:00','10','','1','0'), ('1234','86979474000209','丙戊酸钠缓释片(德巴金)','500mg×30片/瓶','21.00','瓶','赛诺菲（杭州）制药有限公司','131','101','BWSNHSP(DBJ)','2019-03-01 00:00:00','10','','1','0'), ('1235','86979474000208','依帕司他片(唐林)','50mg×10片/盒','29.44','盒','扬子江药业集团南京海陵药业','111','101','YPSTP(TL)','2019-03-01 00:00:00','10','','1','0'), ('1236','86979474000208','利奈唑胺注射液(斯沃)','300ml:600mg×1瓶','0.17','瓶','辉瑞投资有限公司','110','101','LNZAZSY(SW)','2019-03-01 00:00:00','10','','1','0'), ('1237','86979474000209','碘[125I]密封籽源(上海）','1.000粒*1粒/粒','41.17','粒','上海欣科医药有限公司','110','101','D[125I]MFZY(SH）','2019-03-01 00:00:00','10','','1','0'), ('1238','86979474000208','槐耳颗粒(金克)','20g×6包/盒','10.23','盒','启东盖天力药业有限公司','115','102','HEKL(JK)','2019-03-01 00:00:00','10','','1','0'), ('1239','86979474000209','氨甲环酸氯化钠注射液(捷凝)','100ml:0.5g×1支','6.40','支','长春天诚药业有限公司','110','101','AJHSLHNZSY(JN)','2019-03-01 00:00:00','10','','1','0'), ('1240','86979474000208','复方甘草酸苷注射液(美能)','20ml×1支','17.80','支','卫材(中国)药业有限公司','110','101','FFGCSZZSY(MN)','2019-03-01 00:00:00','10','','1','0'), ('1241','86979474000208','戊酸雌二醇片(补佳乐)','1mg×21片/盒','1.55','盒','拜耳医药保健有限公司','111','101','WSCECP(BJL)','2019-03-01 00:00:00','10','','1','0'), ('1242','86979474000209','雄黄','1000mg/g','16.66','克','','112','103','XH','2019-03-01 00:00:00','10','','1','0'), ('1243','86979474000208','天葵子','1000mg/g','59.24','克','','112','103','TKZ','2019-03-01 00:00:00','10','','1','0'), ('1244','86979474000209','阿胶(东阿）','1000mg/g','26.35','克','山东','112','103','AJ(DA）','2019-03-01 00:00:00','10','','1','0'), ('1245','86979474000208','妥布霉素地塞米松滴眼液(典必殊）','5ml×1支','11.02','支','比利时 爱尔康','160','101','TBMSDSMSDYY(DBS）','2019-03-01 00:00:00','10','','1','0'), ('1246','86979474000208','生龙骨','1000mg/g','0.06','克','山西普德药业股份有限公司','112','103','SLG','2019-03-01 00:00:00','10','','1','0'), ('1247','86979474000209','生米仁','1000mg/g','28.47','克','江苏','112','103','SMR','2019-03-01 00:00:00','10','','1','0'), ('1248','86979474000208','膦甲酸钠注射液(可耐)','3g×250ml/瓶','1.67','瓶','正大天晴药业集团股份有限公司','110','101','ZJSNZSY(KN)','2019-03-01 00:00:00','10','','1','0'), ('1249','86979474000209','可溶性淀粉','500g×1瓶','50.38','瓶','','157','101','KRXDF','2019-03-01 00:00:00','10','','1','0'), ('1250','86979474000208','盐酸萘乙烯乙胺(AR)','10g×10克/瓶','8.21','瓶','','157','101','YSZYXYA(AR)','2019-03-01 00:00:00','10','','1','0'), ('1251','86979474000208','羊毛脂','500g×1瓶','12.13','瓶','中国华亭','157','101','YMZ','2019-03-01 00:00:00','10','','1','0'), ('1252','86979474000209','阿卡波糖片(卡博平)','50mg×30片/盒','57.69','盒','杭州中美华东制药有限公司','111','101','AKBTP(KBP)','2019-03-01 00:00:00','10','','1','0'), ('1253','86979474000208','钙羧酸指示剂(IND)','25g×1瓶','19.65','瓶','南京','157','101','GJSZSJ(IND)','2019-03-01 00:00:00','10','','1','0'), ('1254','86979474000209','乙酸铵','500g×1瓶','15.06','瓶','','157','101','YSZ','2019-03-01 00:00:00','10','','1','0'), ('1255','86979474000208','乙酸汞(AR)','250ml×1瓶','43.09','瓶','','157','101','YSG(AR)','2019-03-01 00:00:00','10','','1','0'), ('1256','86979474000208','乙酸乙酯(AR)','500ml×1瓶','1.19','瓶','','157','101','YSYZ(AR)','2019-03-01 00:00:00','10','','1','0'), ('1257','86979474000209','艾迪注射液','10ml×1支','5.63','支','贵州益佰制药股份有限公司','110','101','ADZSY','2019-03-01 00:00:00','10','','1','0'), ('1258','86979474000208','依托泊苷注射液(VP16)','5ml:0.1g×5支/盒','6.62','盒','江苏恒瑞医药股份有限公司','110','101','YTBZZSY(VP16)','2019-03-01 00:00:00','10','','1','0'), ('1259','86979474000209','阿莫西林胶囊(阿莫仙)','250mg×24片/盒','89.53','盒','香港联邦制药厂有限公司','111','101','AMXLJN(AMX)','2019-03-01 00:00:00','10','','1','0'), ('1260','86979474000208','注射用去甲万古霉素(万迅)','0.4g×1支','37.96','支','华北制药股份有限公司','161','101','ZSYQJWGMS(WY)','2019-03-01 00:00:00','10','','1','0'), ('1261','86979474000208','奥美沙坦酯片(傲坦)','20mg×7片/盒','95.00','盒','第一三共制药（上海）有限公司S','111','101','AMSTP(AT)','2019-03-01 00:00:00','10','','1','0'), ('1262','86979474000209','酮康唑乳膏(金达克宁)','15g×1支','42.15','支','西安杨森制药有限公司','121','101','TKZRG(JDKN)','2019-03-01 00:00:00','10','','1','0'), ('1263','86979474000208','阿普唑仑片','0.4mg×20片/盒','11.82','盒','江苏恩华药业股份有限公司','111','101','APZLP','2019-03-01 00:00:00','10','','1','0'), ('1264','86979474000209','雌三醇乳膏(欧维婷)','15mg/15g/支','18.24','支','欧加农制药有限公司S','134','101','CSCRG(OWZ)','2019-03-01 00:00:00','10','','1','0'), ('1265','86979474000208','曙红钠','25g×1瓶','8.56','瓶','','157','101','SHN','2019-03-01 00:00:00','10','','1','0'), ('1266','86979474000208','铬酸钾(AR)','500g×1瓶','22.00','瓶','','157','101','GSJ(AR)','2019-03-01 00:00:00','10','','1','0'), ('1267','86979474000209','过碘酸','100g×1瓶','30.81','瓶','','157','101','GDS','2019-03-01 00:00:00','10','','1','0'), ('1268','86979474000208','蝉蜕','1000mg/g','43.04','克','江苏','112','103','CT','2019-03-01 00:00:00','10','','1','0'), ('1269','86979474000209','炒白芍','1000mg/g','26.46','克',' 浙江','112','103','CBS','2019-03-01 00:00:00','10','','1','0'), ('1270','86979474000208','炒白术','1000mg/g','35.19','克','江苏','112','103','CBS','2019-03-01 00:00:00','10','','1','0'), ('1271','86979474000208','BG六味地黄丸','200粒/瓶','10.13','瓶','河南省宛西制约股份有限公司','163','102','BGLWDHW','2019-03-01 00:00:00','10','','1','0'), ('1272','86979474000209','格列喹酮(糖适平)片','30.000mg*24片/盒','9.46','盒','北京万辉双鹤药业有限责任公司','111','101','GLZT(TSP)P','2019-03-01 00:00:00','10','','1','0'), ('1273','86979474000208','吲达帕胺缓释片(纳催离)','1.5mg×10片/盒','13.60','盒','施维雅(天津)制药有限公司','131','101','ZDPAHSP(NCL)','2019-03-01 00:00:00','10','','1','0'), ('1274','86979474000209','注射用盐酸川芎嗪','0.12g×1支','0.27','支','哈尔滨三联药业股份有限公司','110','101','ZSYYSCZZ','2019-03-01 00:00:00','10','','1','0'), ('1275','86979474000208','曲克芦丁氯化钠注射液(维脑路通)','250ml:0.8g×1瓶','18.08','瓶','长春天诚药业有限公司','110','101','QKLDLHNZSY(WNLT)','2019-03-01 00:00:00','10','','1','0'), ('1276','86979474000208','通草','1000mg/g','18.12','克','070601','112','103','TC','2019-03-01 00:00:00','10','','1','0'), ('1277','86979474000209','LB痛血康胶囊','0.2g×12粒/盒','57.04','盒','福建汇天生物药业有限公司','114','101','LBTXKJN','2019-03-01 00:00:00','10','','1','0'), ('1278','86979474000208','妪姆色素(BS)','10g×1瓶','12.21','瓶','江西济民可信药业有限公司','157','101','ZMSS(BS)','2019-03-01 00:00:00','10','','1','0'), ('1279','86979474000209','磷酸三钠/AR','500g×1瓶','3.37','瓶','沪久意化试','157','101','LSSN/AR','2019-03-01 00:00:00','10','','1','0'), ('1280','86979474000208','妥布霉素地塞米松眼膏(典必殊)','0.3%/0.1:3.5g×1支','8.24','支','比利时 爱尔康','160','101','TBMSDSMSYG(DBS)','2019-03-01 00:00:00','10','','1','0'), ('1281','86979474000208','布林佐胺滴眼液(派立明)','5ml:50mg×1支','22.16','支','比利时 爱尔康','160','101','BLZADYY(PLM)','2019-03-01 00:00:00','10','','1','0'), ('1282','86979474000209','MUG培养基','25g/瓶','11.72','瓶','','157','101','MUGPYJ','2019-03-01 00:00:00','10','','1','0'), ('1283','86979474000208','阿米替林片','25mg×100片/瓶','13.10','瓶','常州第四药厂','111','101','AMTLP','2019-03-01 00:00:00','10','','1','0'), ('1284','86979474000209','壬二酸','100g×1瓶','33.63','瓶','上海','157','101','RES','2019-03-01 00:00:00','10','','1','0'), ('1285','86979474000208','精蛋白生物合成(诺和灵30R)人胰岛素笔芯','300iu/3ml/支','61.95','支','丹麦诺和诺德公司','110','101','JDBSWHC(NHL30R)RYDSBX','2019-03-01 00:00:00','10','','1','0'), ('1286','86979474000208','注射用雷替曲塞','2mg×1瓶','4.51','瓶','南京正大天晴制药有限公司','110','101','ZSYLTQS','2019-03-01 00:00:00','10','','1','0'), ('1287','86979474000209','孟鲁司特钠片(顺尔宁)','10mg×5片/盒','52.98','盒','默沙东制药（杭州）有限公司','111','101','MLSTNP(SEN)','2019-03-01 00:00:00','10','','1','0'), ('1288','86979474000208','注射用腺苷蛋氨酸(思美泰)','0.5g×5支/盒','8.10','盒','雅培贸易（上海）有限公司','161','101','ZSYXZDAS(SMT)','2019-03-01 00:00:00','10','','1','0'), ('1289','86979474000209','LB蒙脱石散(思密达)','3g×10袋/盒','12.54','盒','博福-益普生(天津)制药有限公司','116','101','LBMTSS(SMD)','2019-03-01 00:00:00','10','','1','0'), ('1290','86979474000208','参一胶囊','10mg×16粒/盒','17.65','盒','吉林亚泰制药股份有限公司','114','102','CYJN','2019-03-01 00:00:00','10','','1','0'), ('1291','86979474000208','注射用重组人白介素-11(巨和粒)','1.5mg×1支','47.97','支','齐鲁制药有限公司','110','101','ZSYZZRBJS-11(JHL)','2019-03-01 00:00:00','10','','1','0'), ('1292','86979474000209','六一散','1000mg/g','20.86','克','','112','103','LYS','2019-03-01 00:00:00','10','','1','0'), ('1293','86979474000208','六月雪','1000mg/g','13.71','克','江苏','112','103','LYX','2019-03-01 00:00:00','10','','1','0'), ('1294','86979474000209','龙齿','1000mg/g','44.51','克','','112','103','LC','2019-03-01 00:00:00','10','','1','0'), ('1295','86979474000208','龙胆草','1000mg/g','35.96','克','黑龙江','112','103','LDC','2019-03-01 00:00:00','10','','1','0'), ('1296','86979474000208','龙骨（煅）','1000mg/g','5.64','克','山西普德药业股份有限公司','112','103','LG（Z）','2019-03-01 00:00:00','10','','1','0'), ('1297','86979474000209','龙葵','1000mg/g','0.93','克','江苏','112','103','LK','2019-03-01 00:00:00','10','','1','0'), ('1298','86979474000208','漏芦','1000mg/g','26.13','克','河北','112','103','LL','2019-03-01 00:00:00','10','','1','0'), ('1299','86979474000209','芦根','1000mg/g','23.38','克','江苏','112','103','LG','2019-03-01 00:00:00','10','','1','0'), ('1300','86979474000208','鹿衔草','1000mg/g','59.44','克','浙江','112','103','LXC','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('1301','86979474000208','卡维地洛片(金络)','12.5mg×14片/盒','8.61','盒','齐鲁制药有限公司','111','101','KWDLP(JL)','2019-03-01 00:00:00','10','','1','0'), ('1302','86979474000209','地高辛片(上海)','0.25mg×30片/盒','27.10','盒','上海信谊药业有限公司','111','101','DGXP(SH)','2019-03-01 00:00:00','10','','1','0'), ('1303','86979474000208','丙戊酸钠片','0.2g×100片/瓶','48.37','瓶','湖南省湘中制药有限公司','111','101','BWSNP','2019-03-01 00:00:00','10','','1','0'), ('1304','86979474000209','肉桂','1000mg/g','71.55','克',' 广西','112','103','RG','2019-03-01 00:00:00','10','','1','0'), ('1305','86979474000208','双氯芬酸钠缓释胶囊(英太青)','50mg×20片/盒','12.79','盒','中国药科大学制药有限公司','111','101','SLFSNHSJN(YTQ)','2019-03-01 00:00:00','10','','1','0'), ('1306','86979474000208','10%葡萄糖注射液(塑瓶)','10g:100ml×1瓶','0.44','瓶','中国大冢制药有限公司','110','101','10%PTTZSY(SP)','2019-03-01 00:00:00','10','','1','0'), ('1307','86979474000209','注射用培美曲塞二钠(力比泰)','0.5g×1支','56.73','支','美国礼来亚洲公司S','110','101','ZSYPMQSEN(LBT)','2019-03-01 00:00:00','10','','1','0'), ('1308','86979474000208','阿达帕林凝胶(达芙文）','30g×1支','23.37','支','法国利博福尼制药公司','121','101','ADPLNJ(DZW）','2019-03-01 00:00:00','10','','1','0'), ('1309','86979474000209','阿拉伯胶','500g×1瓶','12.98','瓶','','157','101','ALBJ','2019-03-01 00:00:00','10','','1','0'), ('1310','86979474000208','龟板粉','1000mg/g','0.98','克','','112','103','GBF','2019-03-01 00:00:00','10','','1','0'), ('1311','86979474000208','LB桂林西瓜霜喷剂','2.5G','13.24','盒','桂林三金药业股份有限公司','113','101','LBGLXGSPJ','2019-03-01 00:00:00','10','','1','0'), ('1312','86979474000209','对乙酰氨基酚混悬滴剂(泰诺林)','15ml×1瓶','29.88','瓶','上海强生有限公司','130','101','DYXAJFHXDJ(TNL)','2019-03-01 00:00:00','10','','1','0'), ('1313','86979474000208','盐酸文拉法辛缓释片(博乐欣)','75mg×14片/盒','21.40','盒','成都康弘药业集团股份有限公司','111','101','YSWLFXHSP(BLX)','2019-03-01 00:00:00','10','','1','0'), ('1314','86979474000209','奥扎格雷钠注射液(晴尔)','2ml:40mg×1支','85.15','支','海南碧凯药业有限公司','110','101','AZGLNZSY(QE)','2019-03-01 00:00:00','10','','1','0'), ('1315','86979474000208','硫化铵','500g×1瓶','10.11','瓶','上海振兴','157','101','LHZ','2019-03-01 00:00:00','10','','1','0'), ('1316','86979474000208','硫酸铝钾','500g×1瓶','45.21','瓶','','157','101','LSLJ','2019-03-01 00:00:00','10','','1','0'), ('1317','86979474000209','硫酸铁铵','500g×1瓶','36.31','瓶','','157','101','LSTZ','2019-03-01 00:00:00','10','','1','0'), ('1318','86979474000208','复方利血平氨苯喋啶片','10片/盒','24.12','盒','华润双鹤药业股份有限公司','111','101','FFLXPABZZP','2019-03-01 00:00:00','10','','1','0'), ('1319','86979474000209','脑安颗粒','1.2g×10袋/盒','34.48','盒','河南省百泉制药有限公司','115','102','NAKL','2019-03-01 00:00:00','10','','1','0'), ('1320','86979474000208','溴化钾','500g×1瓶','74.84','瓶','','157','101','ZHJ','2019-03-01 00:00:00','10','','1','0'), ('1321','86979474000208','溴化钠','500g×1瓶','75.90','瓶','','157','101','ZHN','2019-03-01 00:00:00','10','','1','0'), ('1322','86979474000209','溴射香草酚兰','10g×1瓶','19.20','瓶','','157','101','ZSXCFL','2019-03-01 00:00:00','10','','1','0'), ('1323','86979474000208','次氯酸钠液','500ml×1瓶','16.88','瓶','上海久亿','157','101','CLSNY','2019-03-01 00:00:00','10','','1','0'), ('1324','86979474000209','器械型消毒液','300g×1瓶','86.02','瓶','南京万福金安','157','101','QXXXDY','2019-03-01 00:00:00','10','','1','0'), ('1325','86979474000208','前列欣胶囊','0.5g×54粒/盒','63.38','盒','济南宏济堂制药有限公司','114','101','QLXJN','2019-03-01 00:00:00','10','','1','0'), ('1326','86979474000208','醋酸泼尼松龙注射液(强的松龙)','125mg×1瓶','49.33','瓶','华中药业股份有限公司湖北','110','101','CSPNSLZSY(QDSL)','2019-03-01 00:00:00','10','','1','0'), ('1327','86979474000209','头孢克洛干混悬剂(希刻劳)','125mg×6袋/盒','68.13','盒','礼来苏州制药有限公司','136','101','TZKLGHXJ(XKL)','2019-03-01 00:00:00','10','','1','0'), ('1328','86979474000208','头孢克洛胶囊(希刻劳)','250mg×6粒/盒','69.64','盒','礼来苏州制药有限公司','114','101','TZKLJN(XKL)','2019-03-01 00:00:00','10','','1','0'), ('1329','86979474000209','阿奇霉素干混悬剂(希舒美）','0.1g×6袋/盒','58.87','盒','辉瑞制药有限公司','141','101','AQMSGHXJ(XSM）','2019-03-01 00:00:00','10','','1','0'), ('1330','86979474000208','盐酸普拉克索片(森福罗)','0.25mg×30片/盒','2.00','盒','勃林格殷格翰（德国）国际公司','111','101','YSPLKSP(SFL)','2019-03-01 00:00:00','10','','1','0'), ('1331','86979474000208','四氢呋喃','500ml×1瓶','88.67','瓶','','157','101','SQZZ','2019-03-01 00:00:00','10','','1','0'), ('1332','86979474000209','阿仑膦酸钠片(福善美)','70mg×1片/盒','23.59','盒','默沙东制药（杭州）有限公司','111','101','ALZSNP(FSM)','2019-03-01 00:00:00','10','','1','0'), ('1333','86979474000208','固酱紫GBC盐','10g×1瓶','20.64','瓶','','157','101','GJZGBCY','2019-03-01 00:00:00','10','','1','0'), ('1334','86979474000209','固兰B盐','10g×1瓶','44.20','瓶','','157','101','GLBY','2019-03-01 00:00:00','10','','1','0'), ('1335','86979474000208','干毛姜','1000mg/g','24.27','克','浙江','112','103','GMJ','2019-03-01 00:00:00','10','','1','0'), ('1336','86979474000208','甘露醇粉','1000克/包','11.00','包','','157','101','GLCF','2019-03-01 00:00:00','10','','1','0'), ('1337','86979474000209','甘松','1000mg/g','81.82','克','四川','112','103','GS','2019-03-01 00:00:00','10','','1','0'), ('1338','86979474000208','葛根','1000mg/g','54.90','克','广西','112','103','GG','2019-03-01 00:00:00','10','','1','0'), ('1339','86979474000209','公丁香','1000mg/g','9.87','克','','112','103','GDX','2019-03-01 00:00:00','10','','1','0'), ('1340','86979474000208','功劳叶','1000mg/g','5.88','克','江苏','112','103','GLY','2019-03-01 00:00:00','10','','1','0'), ('1341','86979474000208','勾藤','1000mg/g','6.54','克','','112','103','GT','2019-03-01 00:00:00','10','','1','0'), ('1342','86979474000209','注射用甲泼尼龙琥珀酸钠(甲强龙)','40mg×1支','20.10','支','辉瑞制药有限公司','110','101','ZSYJPNLZZSN(JQL)','2019-03-01 00:00:00','10','','1','0'), ('1343','86979474000208','注射用胸腺法新(迈普新)','1.6mg×1支','31.82','支','成都地奥九泓制药厂','110','101','ZSYXXFX(MPX)','2019-03-01 00:00:00','10','','1','0'), ('1344','86979474000209','胸腺五肽注射液(通达)','10mg*1支','96.64','支','北京世桥生物制药有限公司','110','101','XXWZZSY(TD)','2019-03-01 00:00:00','10','','1','0'), ('1345','86979474000208','亚硝基鉄氰化鈉','25g×1瓶','40.07','瓶','','157','101','YXJZQHZ','2019-03-01 00:00:00','10','','1','0'), ('1346','86979474000208','亚硝酸钠','500g×1瓶','3.84','瓶','湘尔康','157','101','YXSN','2019-03-01 00:00:00','10','','1','0'), ('1347','86979474000209','砂仁','1000mg/g','47.23','克',' 进口','112','103','SR','2019-03-01 00:00:00','10','','1','0'), ('1348','86979474000208','注射用去铁胺(得斯芬)','0.5g×1支','3.22','支','诺华制药（瑞士）','110','101','ZSYQTA(DSF)','2019-03-01 00:00:00','10','','1','0'), ('1349','86979474000209','乳宁颗粒','15g×9袋/盒','8.29','盒','南京同仁堂药业有限责任公司','115','102','RNKL','2019-03-01 00:00:00','10','','1','0'), ('1350','86979474000208','当飞利肝宁胶囊','0.25g×36粒/盒','39.08','盒','四川美大康药业有限公司','114','101','DFLGNJN','2019-03-01 00:00:00','10','','1','0'), ('1351','86979474000208','右旋糖酐40葡萄糖(塑瓶)注射液','500ml:30g:25g×1瓶','28.71','瓶','四川科伦药业有限公司','110','101','YXTG40PTT(SP)ZSY','2019-03-01 00:00:00','10','','1','0'), ('1352','86979474000209','尼莫地平片','20mg×50片/瓶','0.29','瓶','天津市中央药业有限公司','111','101','NMDPP','2019-03-01 00:00:00','10','','1','0'), ('1353','86979474000208','盐酸甲氧氯普胺(胃复安)注射液','10mg×10支/盒','6.08','盒','上海禾丰制药有限公司','110','101','YSJYLPA(WFA)ZSY','2019-03-01 00:00:00','10','','1','0'), ('1354','86979474000209','双氧水(30%)(AR)','500ml×1瓶','8.52','瓶','杭州万邦天诚药业有限公司','157','101','SYS(30%)(AR)','2019-03-01 00:00:00','10','','1','0'), ('1355','86979474000208','艾叶','1000mg/g','46.15','克','江苏','112','103','AY','2019-03-01 00:00:00','10','','1','0'), ('1356','86979474000208','八月扎','1000mg/g','62.10','克','江苏','112','103','BYZ','2019-03-01 00:00:00','10','','1','0'), ('1357','86979474000209','巴戟天','1000mg/g','2.59','克','广东','112','103','BZT','2019-03-01 00:00:00','10','','1','0'), ('1358','86979474000208','白扁豆','1000mg/g','29.15','克','江苏','112','103','BBD','2019-03-01 00:00:00','10','','1','0'), ('1359','86979474000209','左西孟旦注射液','5ml:12.5mg×1支','9.57','支','齐鲁制药有限公司','110','101','ZXMDZSY','2019-03-01 00:00:00','10','','1','0'), ('1360','86979474000208','枫蓼肠胃康颗粒','8g×9袋/盒','3.64','盒','海口市制药厂有限公司','115','102','FZCWKKL','2019-03-01 00:00:00','10','','1','0'), ('1361','86979474000208','复合维生素片(爱乐维-拜耳)','30片/盒','11.80','盒','拜耳医药保健有限公司','117','101','FHWSSP(ALW-BE)','2019-03-01 00:00:00','10','','1','0'), ('1362','86979474000209','燀桃仁颗粒','1g/10g/袋','73.23','袋','江阴天江药业有限公司','115','102','TRKL','2019-03-01 00:00:00','10','','1','0'), ('1363','86979474000208','克痒舒洗液','120ml×1瓶','38.78','瓶','合肥华威药业有限公司','142','101','KYSXY','2019-03-01 00:00:00','10','','1','0'), ('1364','86979474000209','防风颗粒','1g/6g/袋','22.57','袋','','115','102','FFKL','2019-03-01 00:00:00','10','','1','0'), ('1365','86979474000208','小牛血去蛋白提取物眼用凝胶','20%:5g×1支','25.14','支','沈阳兴齐眼药股份有限公司','132','101','XNXQDBTQWYYNJ','2019-03-01 00:00:00','10','','1','0'), ('1366','86979474000208','小儿消积止咳口服液','10ml*6支/盒','15.17','盒','鲁南厚普制药有限公司','164','101','XEXJZKKFY','2019-03-01 00:00:00','10','','1','0'), ('1367','86979474000209','尿毒清颗粒','5g*18袋/盒','21.52','盒','康臣药业（内蒙古）有限责任公司','115','102','NDQKL','2019-03-01 00:00:00','10','','1','0'), ('1368','86979474000208','右旋糖酐40葡萄糖注射液','6%500ml×1瓶','20.18','瓶','浙江天瑞药业有限公司','110','101','YXTG40PTTZSY','2019-03-01 00:00:00','10','','1','0'), ('1369','86979474000209','门冬氨酸鸟氨酸注射液(雅博司)','5g×5支/盒','18.51','盒','德国麦氏大药厂S','110','101','MDASNASZSY(YBS)','2019-03-01 00:00:00','10','','1','0'), ('1370','86979474000208','甲钴胺注射液(弥可宝)','1ml:500ug×10支/盒','22.81','盒','卫材(中国)药业有限公司','110','101','JZAZSY(MKB)','2019-03-01 00:00:00','10','','1','0'), ('1371','86979474000208','大黄庶虫丸','0.15g×20支/盒','0.42','盒','★江苏南通精华制药有限公司','163','102','DHSCW','2019-03-01 00:00:00','10','','1','0'), ('1372','86979474000209','维A酸霜(0.1%迪维霜)','0.1%15g×1支','5.64','支','重庆华邦制药有限公司','121','101','WASS(0.1%DWS)','2019-03-01 00:00:00','10','','1','0'), ('1373','86979474000208','心通口服液','10ml×6支/盒','1.54','盒','鲁南厚普制药有限公司','164','102','XTKFY','2019-03-01 00:00:00','10','','1','0'), ('1374','86979474000209','心元胶囊','0.3g×20粒/盒','9.80','盒','吉泰安四川药业有限公司','114','101','XYJN','2019-03-01 00:00:00','10','','1','0'), ('1375','86979474000208','注射用糜蛋白酶','4000iu×1支','36.98','支','上海上药第一生化药业有限公司','110','101','ZSYMDBM','2019-03-01 00:00:00','10','','1','0'), ('1376','86979474000208','青鹏软膏','20g×1支','7.93','支','西藏林芝奇正药业','121','101','QPRG','2019-03-01 00:00:00','10','','1','0'), ('1377','86979474000209','注射用奥美拉唑(洛赛克)','40mg×1支','35.27','支','阿斯利康制药有限公司','110','101','ZSYAMLZ(LSK)','2019-03-01 00:00:00','10','','1','0'), ('1378','86979474000208','长春瑞宾注射液(诺维本)','1ml:10mg×1支','37.10','支','法国PIERRE FABRE 5','110','101','CCRBZSY(NWB)','2019-03-01 00:00:00','10','','1','0'), ('1379','86979474000209','钆喷酸葡胺注射液(马根维显)','469mg×15ml/瓶','53.50','瓶','广州先灵药业有限公司','110','101','ZPSPAZSY(MGWX)','2019-03-01 00:00:00','10','','1','0'), ('1380','86979474000208','马钱子碱','10g×1瓶','2.85','瓶','','157','101','MQZJ','2019-03-01 00:00:00','10','','1','0'), ('1381','86979474000208','注射用头孢吡肟(马斯平)','1g×1瓶','83.76','瓶','中美上海施贵宝制药有限公司','110','101','ZSYTZZZ(MSP)','2019-03-01 00:00:00','10','','1','0'), ('1382','86979474000209','盐酸吗啡注射液','10mg×1支','4.10','支','沈阳第一制药有限公司','110','101','YSMFZSY','2019-03-01 00:00:00','10','','1','0'), ('1383','86979474000208','*B超耦合剂','50g×1瓶','8.99','瓶','','157','101','BCZHJ','2019-03-01 00:00:00','10','','1','0'), ('1384','86979474000209','精蛋白生物合成(诺和灵50R)人胰岛素笔芯','300iu/3ml/支','62.14','支','丹麦诺和诺德公司','110','101','JDBSWHC(NHL50R)RYDSBX','2019-03-01 00:00:00','10','','1','0'), ('1385','86979474000208','盐酸羟甲唑林喷雾剂','5mg/10ml/支','29.85','支','南京天朗','143','101','YSQJZLPWJ','2019-03-01 00:00:00','10','','1','0'), ('1386','86979474000208','巧克力香精','1000g×1瓶','32.57','瓶','','157','101','QKLXJ','2019-03-01 00:00:00','10','','1','0'), ('1387','86979474000209','吡嗪酰胺片','0.25g×100片/瓶','5.49','瓶','江苏四环生物股份','111','102','ZZXAP','2019-03-01 00:00:00','10','','1','0'), ('1388','86979474000208','甲磺酸倍他司汀片(敏使朗)','6mg×30片/盒','1.49','盒','卫材(中国)药业有限公司','111','101','JHSBTSTP(MSL)','2019-03-01 00:00:00','10','','1','0'), ('1389','86979474000209','盐酸伐昔洛韦胶囊(明竹欣)','0.15g×6粒/盒','6.06','盒','四川明欣药业有限公司','111','101','YSFXLWJN(MZX)','2019-03-01 00:00:00','10','','1','0'), ('1390','86979474000208','盐酸氨溴索片(沐舒坦)','30mg×20片/盒','11.82','盒','勃林格殷格翰（上海）药业有限公司','111','101','YSAZSP(ZST)','2019-03-01 00:00:00','10','','1','0'), ('1391','86979474000208','盐酸氨溴索注射液(沐舒坦)','2ml:15mg×5支/盒','20.05','盒','勃林格殷格翰（上海）药业有限公司','110','101','YSAZSZSY(ZST)','2019-03-01 00:00:00','10','','1','0'), ('1392','86979474000209','硝酸异山梨酯注射液(异舒吉)','10ml:10mg×10支/盒','30.56','盒','珠海许瓦兹制药有限公司','110','101','XSYSLZZSY(YSJ)','2019-03-01 00:00:00','10','','1','0'), ('1393','86979474000208','珍菊降压片','0.25g×60片/盒','71.92','盒','上海雷允上药业有限公司','111','102','ZJJYP','2019-03-01 00:00:00','10','','1','0'), ('1394','86979474000209','金水宝胶囊','0.33g×63粒/瓶','16.71','瓶','江西济民可信金水宝制药有限公司','114','102','JSBJN','2019-03-01 00:00:00','10','','1','0'), ('1395','86979474000208','肉果','1000mg/g','3.02','克','  进口','112','103','RG','2019-03-01 00:00:00','10','','1','0'), ('1396','86979474000208','乳香','1000mg/g','6.28','克','广东','112','103','RX','2019-03-01 00:00:00','10','','1','0'), ('1397','86979474000209','三棱','1000mg/g','46.63','克','','112','103','SL','2019-03-01 00:00:00','10','','1','0'), ('1398','86979474000208','生物合成(诺和灵R)人胰岛素','400iu/10ml/瓶','27.54','瓶','丹麦诺和诺德公司','110','101','SWHC(NHLR)RYDS','2019-03-01 00:00:00','10','','1','0'), ('1399','86979474000209','门冬胰岛素30(诺和锐30笔芯)','300iu/3ml/支','31.24','支','丹麦诺和诺德公司','110','101','MDYDS30(NHR30BX)','2019-03-01 00:00:00','10','','1','0'), ('1400','86979474000208','醋酸戈舍瑞林缓释植入剂(诺雷得)','3.6mg×1支','7.26','支','阿斯利康制药有限公司','110','101','CSGSRLHSZRJ(NLD)','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('1401','86979474000208','昂丹司琼注射液(欧贝)','4ml:8mg×1支','59.93','支','齐鲁制药有限公司','110','101','ADSQZSY(OB)','2019-03-01 00:00:00','10','','1','0'), ('1402','86979474000209','重组人粒细胞(瑞白)刺激因子注射液','100ug×1支','57.89','支','齐鲁制药有限公司','110','101','ZZRLXB(RB)CJYZZSY','2019-03-01 00:00:00','10','','1','0'), ('1403','86979474000208','瑞氏色素','25g×1瓶','1.36','瓶','纟','157','101','RSSS','2019-03-01 00:00:00','10','','1','0'), ('1404','86979474000209','松龄血脉康胶囊','0.5g×30粒/瓶','61.04','瓶','成都康弘制药有限公司','114','102','SLXMKJN','2019-03-01 00:00:00','10','','1','0'), ('1405','86979474000208','马来酸氟伏沙明片（兰释）','50mg×30片/盒','36.04','盒','雅培贸易（上海）有限公司','111','101','MLSFFSMP（LS）','2019-03-01 00:00:00','10','','1','0'), ('1406','86979474000208','多巴胺注射液','2ml:20mg×10支/盒','39.56','盒','江苏亚邦强生业有限公司','110','101','DBAZSY','2019-03-01 00:00:00','10','','1','0'), ('1407','86979474000209','盐酸法舒地尔注射液','2ml:30mg×1支','1.50','支','天津红日药业股份有限公司','110','101','YSFSDEZSY','2019-03-01 00:00:00','10','','1','0'), ('1408','86979474000208','注射用伊立替康(艾力)','100mg×1支','67.24','支','江苏恒瑞医药股份有限公司','110','101','ZSYYLTK(AL)','2019-03-01 00:00:00','10','','1','0'), ('1409','86979474000209','维D钙咀嚼片(迪巧)','300mg×60片/瓶','0.04','瓶','美国安士制药有限公司','111','101','WDGJJP(DQ)','2019-03-01 00:00:00','10','','1','0'), ('1410','86979474000208','土贝母','1000mg/g','6.08','克','','112','103','TBM','2019-03-01 00:00:00','10','','1','0'), ('1411','86979474000208','甲巯咪唑片(赛治)','10mg×50片/盒','63.00','盒','德国默克','111','101','JZZZP(SZ)','2019-03-01 00:00:00','10','','1','0'), ('1412','86979474000209','扁蓄','1000mg/g','69.20','克','江苏','112','103','BX','2019-03-01 00:00:00','10','','1','0'), ('1413','86979474000208','盐酸罗哌卡因注射液(耐乐品)','10ml:75mg×5支/盒','68.01','盒','阿斯利康制药有限公司','110','101','YSLZKYZSY(NLP)','2019-03-01 00:00:00','10','','1','0'), ('1414','86979474000209','盐酸普鲁卡因注射液','2ml:40mg×10支/盒','8.21','盒','山东方明药业集团股份有限公司','110','101','YSPLKYZSY','2019-03-01 00:00:00','10','','1','0'), ('1415','86979474000208','盐酸曲马多注射液(舒敏)','2ml:0.1g×5支/盒','62.99','盒','德国格兰泰有限公司','110','101','YSQMDZSY(SM)','2019-03-01 00:00:00','10','','1','0'), ('1416','86979474000208','氯化钙注射液','5%20ml×5支/盒','57.90','盒','上海信谊金朱药业有限公司','110','101','LHGZSY','2019-03-01 00:00:00','10','','1','0'), ('1417','86979474000209','兰索拉唑肠溶片','15mg×14片/盒','41.80','盒','扬子江药业集团有限公司','133','101','LSLZCRP','2019-03-01 00:00:00','10','','1','0'), ('1418','86979474000208','舒洛地特软胶囊','250LSU×50片/盒','0.28','盒','意大利阿尔法韦士曼制药','111','101','SLDTRJN','2019-03-01 00:00:00','10','','1','0'), ('1419','86979474000209','注射用头孢曲松钠(罗氏芬)','0.25g×1支','50.30','支','上海罗氏制药','110','101','ZSYTZQSN(LSF)','2019-03-01 00:00:00','10','','1','0'), ('1420','86979474000208','中性树胶','100ml×1瓶','54.86','瓶','','157','101','ZXSJ','2019-03-01 00:00:00','10','','1','0'), ('1421','86979474000208','重铬酸钾','500g×1瓶','1.66','瓶','上海信谊天平药业有限公司','157','101','ZGSJ','2019-03-01 00:00:00','10','','1','0'), ('1422','86979474000209','苯巴比妥钠片(鲁米那)','30mg×100片/瓶','1.73','瓶','上海信谊药厂有限公司','111','101','BBBTNP(LMN)','2019-03-01 00:00:00','10','','1','0'), ('1423','86979474000208','氯化钾缓释片(补达秀)','0.5g×24片/盒','6.94','盒','广州迈特兴华制药厂有限公司','111','101','LHJHSP(BDX)','2019-03-01 00:00:00','10','','1','0'), ('1424','86979474000209','雷公藤多甙片','10mg×50片/瓶','7.13','瓶','浙江得恩德制药有限公司','111','101','LGTDZP','2019-03-01 00:00:00','10','','1','0'), ('1425','86979474000208','利福喷丁胶囊(迪克菲)','0.15g×20粒/瓶','15.95','瓶','无锡福祈制药有限公司','114','101','LFPDJN(DKF)','2019-03-01 00:00:00','10','','1','0'), ('1426','86979474000208','心脉隆注射液','2ml:100mg×1支','7.36','支','云南腾药制药股份有限公司','110','101','XMLZSY','2019-03-01 00:00:00','10','','1','0'), ('1427','86979474000209','白菊花','1000mg/g','27.70','克','浙江','112','103','BJH','2019-03-01 00:00:00','10','','1','0'), ('1428','86979474000208','白毛夏枯草','1000mg/g','8.29','克','','112','103','BMXKC','2019-03-01 00:00:00','10','','1','0'), ('1429','86979474000209','白茅根','1000mg/g','1.17','克','江苏','112','103','BMG','2019-03-01 00:00:00','10','','1','0'), ('1430','86979474000208','白前','1000mg/g','5.62','克','','112','103','BQ','2019-03-01 00:00:00','10','','1','0'), ('1431','86979474000208','白薇','1000mg/g','0.51','克','','112','103','BZ','2019-03-01 00:00:00','10','','1','0'), ('1432','86979474000209','白藓皮','1000mg/g','8.95','克','  辽宁','112','103','BZP','2019-03-01 00:00:00','10','','1','0'), ('1433','86979474000208','白芷','1000mg/g','24.16','克','四川','112','103','BZ','2019-03-01 00:00:00','10','','1','0'), ('1434','86979474000209','百合','1000mg/g','49.30','克','江苏','112','103','BH','2019-03-01 00:00:00','10','','1','0'), ('1435','86979474000208','柏子仁','1000mg/g','18.07','克','江苏','112','103','BZR','2019-03-01 00:00:00','10','','1','0'), ('1436','86979474000208','败酱草','1000mg/g','6.00','克',' 江苏','112','103','BJC','2019-03-01 00:00:00','10','','1','0'), ('1437','86979474000209','板蓝根','1000mg/g','26.70','克',' 江苏','112','103','BLG','2019-03-01 00:00:00','10','','1','0'), ('1438','86979474000208','半枝连','1000mg/g','28.57','克','江苏','112','103','BZL','2019-03-01 00:00:00','10','','1','0'), ('1439','86979474000209','特布他林雾化液（博利康尼）','5mg:2ml×5支/袋','22.20','袋','阿斯利康制药有限公司','122','101','TBTLWHY（BLKN）','2019-03-01 00:00:00','10','','1','0'), ('1440','86979474000208','酪酸梭菌活菌散剂(米雅)','1g×6包/袋','60.14','袋','日本米雅利桑制药株式会社','113','101','LSSJHJSJ(MY)','2019-03-01 00:00:00','10','','1','0'), ('1441','86979474000208','BG甲硝唑片（灭滴灵）','0.2g×21片/袋','6.47','袋','华中药业股份有限公司湖北','111','101','BGJXZP（MDL）','2019-03-01 00:00:00','10','','1','0'), ('1442','86979474000209','阳离子树脂732','1000g×1袋','23.84','袋','南京','157','101','YLZSZ732','2019-03-01 00:00:00','10','','1','0'), ('1443','86979474000208','雷贝拉唑肠溶片（波利特）','10mg×7片/盒','38.54','盒','卫材(中国)药业有限公司','133','101','LBLZCRP（BLT）','2019-03-01 00:00:00','10','','1','0'), ('1444','86979474000209','鳖甲','1000mg/g','8.45','克','江苏','112','103','BJ','2019-03-01 00:00:00','10','','1','0'), ('1445','86979474000208','槟榔片','1000mg/g','2.07','克','','112','103','ZLP','2019-03-01 00:00:00','10','','1','0'), ('1446','86979474000208','冰片','1000mg/g','10.61','克','','112','103','BP','2019-03-01 00:00:00','10','','1','0'), ('1447','86979474000209','炮姜','1000mg/g','46.45','克','四川','112','103','PJ','2019-03-01 00:00:00','10','','1','0'), ('1448','86979474000208','浮小麦','1000mg/g','28.54','克','南京','112','103','FXM','2019-03-01 00:00:00','10','','1','0'), ('1449','86979474000209','复盆子','1000mg/g','21.74','克','安徽','112','103','FPZ','2019-03-01 00:00:00','10','','1','0'), ('1450','86979474000208','干姜','1000mg/g','5.97','克','四川','112','103','GJ','2019-03-01 00:00:00','10','','1','0'), ('1451','86979474000208','切片石腊','500g×1瓶','22.39','瓶','','157','101','QPSL','2019-03-01 00:00:00','10','','1','0'), ('1452','86979474000209','LB黄体酮注射液','20mg×10支/盒','61.19','盒','浙江仙居制药','110','101','LBHTTZSY','2019-03-01 00:00:00','10','','1','0'), ('1453','86979474000208','盐酸文拉法辛缓释胶囊(怡诺思)','75mg×14粒/盒','52.82','盒','惠氏制药有限公司','137','101','YSWLFXHSJN(ZNS)','2019-03-01 00:00:00','10','','1','0'), ('1454','86979474000209','门冬胰岛素30(诺和锐30特充)','300iu:3ml×1支','14.94','支','丹麦诺和诺德公司','110','101','MDYDS30(NHR30TC)','2019-03-01 00:00:00','10','','1','0'), ('1455','86979474000208','诺延手消毒啫哩','5000ml×1瓶','5.22','瓶','芬兰奥瑞恩诺瑞 ','157','101','NYSXDZL','2019-03-01 00:00:00','10','','1','0'), ('1456','86979474000208','艾尔可牌免洗手消毒凝胶','500ml×1瓶','84.99','瓶','江苏九寿堂生物制品有限公司','157','101','AEKPMXSXDNJ','2019-03-01 00:00:00','10','','1','0'), ('1457','86979474000209','注射用硼替佐米（万珂）','3.5mg×1支','31.31','支','西安杨森制药有限公司','110','101','ZSYPTZM（WZ）','2019-03-01 00:00:00','10','','1','0'), ('1458','86979474000208','十二烷基硫酸钠','500g×1瓶','41.11','瓶','上海久亿','157','101','SEWJLSN','2019-03-01 00:00:00','10','','1','0'), ('1459','86979474000209','盘龙七薄膜衣片','0.3g*36片/盒','41.37','盒','陕西盘龙制药','111','101','PLQBMYP','2019-03-01 00:00:00','10','','1','0'), ('1460','86979474000208','BG胰激肽原酶肠溶片(怡开)','120u×24片/盒','1.40','盒','常州千红生化制药股份有限公司','111','101','BGYJZYMCRP(ZK)','2019-03-01 00:00:00','10','','1','0'), ('1461','86979474000208','毛果芸香碱','100g×1瓶','28.32','瓶','德国','157','101','MGZXJ','2019-03-01 00:00:00','10','','1','0'), ('1462','86979474000209','联苯苄唑乳膏(美克)','10g×1支','0.44','支','拜耳医药保健有限公司','134','101','LBZZRG(MK)','2019-03-01 00:00:00','10','','1','0'), ('1463','86979474000208','双歧杆菌三联活菌(金双歧)片','0.5g×24片/盒','56.41','盒','内蒙古双奇药业股份有限公司','114','101','SQGJSLHJ(JSQ)P','2019-03-01 00:00:00','10','','1','0'), ('1464','86979474000209','磷酸可待因片','30mg×20片/盒','2.12','盒','国药工业','111','101','LSKDYP','2019-03-01 00:00:00','10','','1','0'), ('1465','86979474000208','硫磺','500g×1包','14.66','包','','157','101','LH','2019-03-01 00:00:00','10','','1','0'), ('1466','86979474000208','B-萘酚','100g/瓶','96.78','瓶','','157','101','B-ZF','2019-03-01 00:00:00','10','','1','0'), ('1467','86979474000209','B-萘酚(AR)','100g×1瓶','5.93','瓶','','157','101','B-ZF(AR)','2019-03-01 00:00:00','10','','1','0'), ('1468','86979474000208','*EDTA二鉀','100g/瓶','8.13','瓶','','157','101','EDTAEZ','2019-03-01 00:00:00','10','','1','0'), ('1469','86979474000209','EDTA二钠','250g/瓶','27.08','瓶','','157','101','EDTAEN','2019-03-01 00:00:00','10','','1','0'), ('1470','86979474000208','EDTA二钠','250g/瓶','41.78','瓶','','157','101','EDTAEN','2019-03-01 00:00:00','10','','1','0'), ('1471','86979474000208','KBR','500g/瓶','1.47','瓶','','157','101','KBR','2019-03-01 00:00:00','10','','1','0'), ('1472','86979474000209','L-组氨酸','5g/瓶','40.81','瓶','','157','101','L-ZAS','2019-03-01 00:00:00','10','','1','0'), ('1473','86979474000208','PH标准物质','4Ts×1片/袋','17.40','袋','宁','157','101','PHBZWZ','2019-03-01 00:00:00','10','','1','0'), ('1474','86979474000209','PNP-NAG','0.5g×1瓶','0.14','瓶','','157','101','PNP-NAG','2019-03-01 00:00:00','10','','1','0'), ('1475','86979474000208','路路通','1000mg/g','7.11','克','江苏','112','103','LLT','2019-03-01 00:00:00','10','','1','0'), ('1476','86979474000208','络石藤','1000mg/g','82.47','克','安徽','112','103','LST','2019-03-01 00:00:00','10','','1','0'), ('1477','86979474000209','麻黄根','1000mg/g','6.07','克','山西普德药业股份有限公司','112','103','MHG','2019-03-01 00:00:00','10','','1','0'), ('1478','86979474000208','麦冬','1000mg/g','89.88','克','四川','112','103','MD','2019-03-01 00:00:00','10','','1','0'), ('1479','86979474000209','蔓荆子','1000mg/g','14.37','克','','112','103','MJZ','2019-03-01 00:00:00','10','','1','0'), ('1480','86979474000208','猫爪草','1000mg/g','25.39','克','','112','103','MZC','2019-03-01 00:00:00','10','','1','0'), ('1481','86979474000208','没药','1000mg/g','75.05','克','  进口','112','103','MY','2019-03-01 00:00:00','10','','1','0'), ('1482','86979474000209','苯磺酸左旋氨氯地平片(施慧达)','2.5mg×14片/盒','38.76','盒','施慧达药业集团(吉林)有限公司','111','101','BHSZXALDPP(SHD)','2019-03-01 00:00:00','10','','1','0'), ('1483','86979474000208','平地木','1000mg/g','26.20','克','江苏','112','103','PDM','2019-03-01 00:00:00','10','','1','0'), ('1484','86979474000209','七叶一枝花（重楼）','1000mg/g','14.99','克','江苏','112','103','QYYZH（ZL）','2019-03-01 00:00:00','10','','1','0'), ('1485','86979474000208','蕲蛇','1000mg/g','39.79','克','','112','103','ZS','2019-03-01 00:00:00','10','','1','0'), ('1486','86979474000208','荠菜花','1000mg/g','2.34','克','江苏','112','103','ZCH','2019-03-01 00:00:00','10','','1','0'), ('1487','86979474000209','千里光','1000mg/g','44.81','克','','112','103','QLG','2019-03-01 00:00:00','10','','1','0'), ('1488','86979474000208','前胡','1000mg/g','81.76','克','浙江','112','103','QH','2019-03-01 00:00:00','10','','1','0'), ('1489','86979474000209','芡实','1000mg/g','28.92','克','江苏','112','103','ZS','2019-03-01 00:00:00','10','','1','0'), ('1490','86979474000208','卡前列素氨丁三醇注射液(欣母沛)','250ug/1ml×1支','50.03','支','美国辉瑞制药','110','101','KQLSADSCZSY(XMP)','2019-03-01 00:00:00','10','','1','0'), ('1491','86979474000208','芬太尼透皮贴剂(多瑞吉)','4.2mg×5贴/盒','4.71','盒','西安杨森制药有限公司','144','101','FTNTPTJ(DRJ)','2019-03-01 00:00:00','10','','1','0'), ('1492','86979474000209','转化糖电解质注射液(田力)','500ml×1袋','43.23','袋','扬子江药业集团有限公司','110','101','ZHTDJZZSY(TL)','2019-03-01 00:00:00','10','','1','0'), ('1493','86979474000208','高氯酸','500ml×1瓶','27.97','瓶','','157','101','GLS','2019-03-01 00:00:00','10','','1','0'), ('1494','86979474000209','高锰酸钾AR','500g×1瓶','6.89','瓶','南京化学试剂有限公','157','101','GMSJAR','2019-03-01 00:00:00','10','','1','0'), ('1495','86979474000208','硼砂 药用','500g×1袋','0.38','袋','北京','157','101','PS YY','2019-03-01 00:00:00','10','','1','0'), ('1496','86979474000208','参莲胶囊','0.5g×60粒/瓶','11.74','瓶','通化金马药业','114','102','CLJN','2019-03-01 00:00:00','10','','1','0'), ('1497','86979474000209','参麦注射液','20ml×1支','25.56','支','正大青春宝药业有限公司','110','101','CMZSY','2019-03-01 00:00:00','10','','1','0'), ('1498','86979474000208','环孢素软胶囊(新山地明）','25mg×50粒/盒','17.49','盒','诺华制药（北京）有限公司','114','101','HZSRJN(XSDM）','2019-03-01 00:00:00','10','','1','0'), ('1499','86979474000209','奥曲肽注射液(善宁)','1ml:0.1mg×5支/盒','33.83','盒','诺华制药（瑞士）','110','101','AQZZSY(SN)','2019-03-01 00:00:00','10','','1','0'), ('1500','86979474000208','酒石酸托特罗定片(舍尼亭)','2mg×14片/盒','5.62','盒','南京美瑞制药有限公司','111','101','JSSTTLDP(SNT)','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('1501','86979474000208','麝香壮骨膏','8cm*13cm/10片/盒','22.18','盒','重庆陪都药业','145','102','SXZGG','2019-03-01 00:00:00','10','','1','0'), ('1502','86979474000209','二巯丙磺酸钠针','0.125g×10支/盒','7.94','盒','上海禾丰制药有限公司','110','101','EZBHSNZ','2019-03-01 00:00:00','10','','1','0'), ('1503','86979474000208','86消毒王','500ml×1瓶','35.65','瓶','','157','101','86XDW','2019-03-01 00:00:00','10','','1','0'), ('1504','86979474000209','甘草酸二铵注射液(甘利欣)','50mg×10ml×1支','41.65','支','正大天晴药业集团股份有限公司','110','101','GCSEZZSY(GLX)','2019-03-01 00:00:00','10','','1','0'), ('1505','86979474000208','甘露醇(AR)','100g×1瓶','5.23','瓶','','157','101','GLC(AR)','2019-03-01 00:00:00','10','','1','0'), ('1506','86979474000208','特比奈芬乳膏(丁克)','10g/0.1g×1支','69.90','支','齐鲁制药有限公司','121','101','TBNFRG(DK)','2019-03-01 00:00:00','10','','1','0'), ('1507','86979474000209','BG枸橼酸西地那非片(万艾可)','100mg×1片','5.44','片','辉瑞制药有限公司','111','101','BGZZSXDNFP(WAK)','2019-03-01 00:00:00','10','','1','0'), ('1508','86979474000208','注射用万古霉素(稳可信)','500mg×1支','17.48','支','礼来（美国）公司','161','101','ZSYWGMS(WKX)','2019-03-01 00:00:00','10','','1','0'), ('1509','86979474000209','重组人血管(恩度)内皮抑制素注射液','3ml：15mg×1支','55.97','支','烟台麦得津生物工程股份有限公司S','110','101','ZZRXG(ED)NPYZSZSY','2019-03-01 00:00:00','10','','1','0'), ('1510','86979474000208','LB人血白蛋白注射液(奥地利百特)','50ml:10g×1瓶','76.67','瓶','奥地利百特','110','101','LBRXBDBZSY(ADLBT)','2019-03-01 00:00:00','10','','1','0'), ('1511','86979474000208','瑞格列奈片(孚来迪)','0.5mg×30片/盒','67.28','盒','江苏豪森药业股份有限公司','111','101','RGLNP(ZLD)','2019-03-01 00:00:00','10','','1','0'), ('1512','86979474000209','单唾液酸四己糖神经节(申捷)注射液','2ml：20mg/1支','14.29','支','齐鲁制药有限公司','110','101','DTYSSJTSJJ(SJ)ZSY','2019-03-01 00:00:00','10','','1','0'), ('1513','86979474000208','异烟肼注射液','2ml:100mg×10支/盒','74.63','盒','天津金耀药业有限公司','110','101','YYZZSY','2019-03-01 00:00:00','10','','1','0'), ('1514','86979474000209','大黄炭','1000mg/g','0.07','克','青海','112','103','DHT','2019-03-01 00:00:00','10','','1','0'), ('1515','86979474000208','炙冬花','1000mg/g','12.11','克','','112','103','ZDH','2019-03-01 00:00:00','10','','1','0'), ('1516','86979474000208','炙甘草','1000mg/g','10.08','克',' 蒙.浙','112','103','ZGC','2019-03-01 00:00:00','10','','1','0'), ('1517','86979474000209','炒谷芽','1000mg/g','31.41','克','江苏','112','103','CGY','2019-03-01 00:00:00','10','','1','0'), ('1518','86979474000208','炒槐米','1000mg/g','22.50','克','河北','112','103','CHM','2019-03-01 00:00:00','10','','1','0'), ('1519','86979474000209','炒火麻仁','1000mg/g','21.16','克','江苏','112','103','CHMR','2019-03-01 00:00:00','10','','1','0'), ('1520','86979474000208','炒娄仁','1000mg/g','28.82','克','江苏','112','103','CLR','2019-03-01 00:00:00','10','','1','0'), ('1521','86979474000208','炒麦芽','1000mg/g','34.99','克','江苏','112','103','CMY','2019-03-01 00:00:00','10','','1','0'), ('1522','86979474000209','炒米仁','1000mg/g','38.63','克','','112','103','CMR','2019-03-01 00:00:00','10','','1','0'), ('1523','86979474000208','医用酒精    95%','500ml×1瓶','16.36','瓶','安徽','157','101','YYJJ    95%','2019-03-01 00:00:00','10','','1','0'), ('1524','86979474000209','医用酒精    95%','1000mg/g','1.74','克','南京','157','101','YYJJ    95%','2019-03-01 00:00:00','10','','1','0'), ('1525','86979474000208','胆盐乳糖培养基','250g×1瓶','0.40','瓶','','157','101','DYRTPYJ','2019-03-01 00:00:00','10','','1','0'), ('1526','86979474000208','注射用伊达比星（艾诺宁）','5mg×1支','39.87','支','浙江海正药业股份有限公司S','110','101','ZSYYDBX（ANN）','2019-03-01 00:00:00','10','','1','0'), ('1527','86979474000209','硫代硫酸钠针','0.64g*1支','92.73','支','上海新亚药业有限公司','110','101','LDLSNZ','2019-03-01 00:00:00','10','','1','0'), ('1528','86979474000208','硫氰酸铵(AR)','500g×1瓶','59.78','瓶','','157','101','LQSZ(AR)','2019-03-01 00:00:00','10','','1','0'), ('1529','86979474000209','泽兰叶','1000mg/g','48.41','克','江苏','112','103','ZLY','2019-03-01 00:00:00','10','','1','0'), ('1530','86979474000208','泽泻','1000mg/g','21.62','克','','112','103','ZX','2019-03-01 00:00:00','10','','1','0'), ('1531','86979474000208','浙贝母','1000mg/g','54.76','克','浙江','112','103','ZBM','2019-03-01 00:00:00','10','','1','0'), ('1532','86979474000209','珍珠母','1000mg/g','6.42','克','江苏','112','103','ZZM','2019-03-01 00:00:00','10','','1','0'), ('1533','86979474000208','知母','1000mg/g','35.82','克','河北','112','103','ZM','2019-03-01 00:00:00','10','','1','0'), ('1534','86979474000209','多烯磷酯酰胆碱注射液(天兴)','5ml:232.5mg×1支','6.61','支','成都天台山制药有限公司','110','101','DXLZXDJZSY(TX)','2019-03-01 00:00:00','10','','1','0'), ('1535','86979474000208','鹿角霜','1000mg/g','32.44','克','吉林','112','103','LJS','2019-03-01 00:00:00','10','','1','0'), ('1536','86979474000208','施保利通片','20片/盒','40.92','盒','德国夏培天然药物制药公司','111','101','SBLTP','2019-03-01 00:00:00','10','','1','0'), ('1537','86979474000209','BG单硝酸异山梨醇酯注射液(欣康)','20mg×6支/盒','2.26','盒','鲁南贝特制药有限公司','110','101','BGDXSYSLCZSY(XK)','2019-03-01 00:00:00','10','','1','0'), ('1538','86979474000208','注射用表柔比星(法玛新)','10mg×1支','4.78','支','辉瑞制药有限公司（无锡）','110','101','ZSYBRBX(FMX)','2019-03-01 00:00:00','10','','1','0'), ('1539','86979474000209','冰醋酸','500ml×1瓶','1.23','瓶','广东台山','157','101','BCS','2019-03-01 00:00:00','10','','1','0'), ('1540','86979474000208','癃闭舒胶囊','0.3g×36粒/盒','45.10','盒','石家庄科迪药业有限公司','114','102','ZBSJN','2019-03-01 00:00:00','10','','1','0'), ('1541','86979474000208','碘佛醇注射液','50ml:33.9g×1瓶','42.86','瓶','江苏恒瑞医药有限公司','110','101','DFCZSY','2019-03-01 00:00:00','10','','1','0'), ('1542','86979474000209','氨酚曲马多(及通安)','37.5mg×10片/盒','4.23','盒','','111','101','AFQMD(JTA)','2019-03-01 00:00:00','10','','1','0'), ('1543','86979474000208','琼脂粉','250g×1瓶','13.15','瓶','','157','101','QZF','2019-03-01 00:00:00','10','','1','0'), ('1544','86979474000209','琼脂糖(BR)','10g×1瓶','58.01','瓶','沪惠兴生化','157','101','QZT(BR)','2019-03-01 00:00:00','10','','1','0'), ('1545','86979474000208','秋水仙素(GR)','1g×1瓶','10.48','瓶','杭州万邦天诚药业有限公司','157','101','QSXS(GR)','2019-03-01 00:00:00','10','','1','0'), ('1546','86979474000208','注射用伊达比星(善唯达）','10mg×1支','17.40','支','辉瑞制药','110','101','ZSYYDBX(SWD）','2019-03-01 00:00:00','10','','1','0'), ('1547','86979474000209','醋酯酐(AR)','500ml×1瓶','16.79','瓶','宁','157','101','CZG(AR)','2019-03-01 00:00:00','10','','1','0'), ('1548','86979474000208','盐酸卡替洛尔滴眼液(美开朗)','2%5ml×1支','27.41','支','天津中国大冢制药','160','101','YSKTLEDYY(MKL)','2019-03-01 00:00:00','10','','1','0'), ('1549','86979474000209','超声导声胶','250g×1瓶','21.88','瓶','泰州市海陵超声材料','128','101','CSDSJ','2019-03-01 00:00:00','10','','1','0'), ('1550','86979474000208','布洛芬缓释胶囊(芬必得)','0.3g×20片/盒','5.78','盒','中美天津史克制药有限公司','114','101','BLFHSJN(FBD)','2019-03-01 00:00:00','10','','1','0'), ('1551','86979474000208','米非司酮片(息隐)','25mg×6片/盒','13.45','盒','上海医药新华联制药','111','101','MFSTP(XY)','2019-03-01 00:00:00','10','','1','0'), ('1552','86979474000209','氢溴酸西酞普兰片(喜普妙)','20mg×14片/盒','17.01','盒','西安杨森制药有限公司','111','101','QZSXTPLP(XPM)','2019-03-01 00:00:00','10','','1','0'), ('1553','86979474000208','头孢拉定胶囊(泛捷复)','0.25g×24片/盒','26.72','盒','中美上海施贵宝制药有限公司','114','101','TZLDJN(FJF)','2019-03-01 00:00:00','10','','1','0'), ('1554','86979474000209','茜草','1000mg/g','32.36','克','安徽','112','103','ZC','2019-03-01 00:00:00','10','','1','0'), ('1555','86979474000208','羌活','1000mg/g','80.25','克','四川','112','103','QH','2019-03-01 00:00:00','10','','1','0'), ('1556','86979474000208','秦艽','1000mg/g','34.54','克','内蒙','112','103','QZ','2019-03-01 00:00:00','10','','1','0'), ('1557','86979474000209','秦皮','1000mg/g','30.07','克','','112','103','QP','2019-03-01 00:00:00','10','','1','0'), ('1558','86979474000208','青黛','1000mg/g','26.33','克','','112','103','QD','2019-03-01 00:00:00','10','','1','0'), ('1559','86979474000209','春柴胡','1000mg/g','21.34','克','江苏','112','103','CCH','2019-03-01 00:00:00','10','','1','0'), ('1560','86979474000208','氟米龙滴眼液（氟美童）','5ml:5mg×1支','10.29','支','日本参天制药','160','101','FMLDYY（FMT）','2019-03-01 00:00:00','10','','1','0'), ('1561','86979474000208','LB复方地龙胶囊','0.28g×12粒/盒','28.57','盒','南京恒生制药有限公司','114','101','LBFFDLJN','2019-03-01 00:00:00','10','','1','0'), ('1562','86979474000209','注射用培美曲塞二钠(赛珍)','200mg×1支','9.37','支','齐鲁制药有限公司','110','101','ZSYPMQSEN(SZ)','2019-03-01 00:00:00','10','','1','0'), ('1563','86979474000208','卡前列甲酯栓','0.5mg×1枚','3.73','枚','东北制药总厂','125','101','KQLJZS','2019-03-01 00:00:00','10','','1','0'), ('1564','86979474000209','左氧氟沙星氯化钠注射液(左克)','100ml:0.2g×1瓶','11.32','瓶','扬子江药业集团有限公司','110','101','ZYFSXLHNZSY(ZK)','2019-03-01 00:00:00','10','','1','0'), ('1565','86979474000208','丙戊酸钠口服液','300ml×1瓶','83.86','瓶','赛诺菲（杭州）制药有限公司','164','101','BWSNKFY','2019-03-01 00:00:00','10','','1','0'), ('1566','86979474000208','地屈孕酮片','10mg×20片/盒','1.48','盒','雅培荷兰','111','101','DQYTP','2019-03-01 00:00:00','10','','1','0'), ('1567','86979474000209','小儿清肺颗粒','3g×9袋/盒','7.53','盒','河北巨龙药业','111','101','XEQFKL','2019-03-01 00:00:00','10','','1','0'), ('1568','86979474000208','复方红豆杉胶囊','0.3g×12粒/盒','52.64','盒','重庆赛诺生物药业有限公司','114','102','FFHDSJN','2019-03-01 00:00:00','10','','1','0'), ('1569','86979474000209','复方苦参注射液','5ml×5支/盒','16.51','盒','山西振东制药股份有限公司','110','101','FFKCZSY','2019-03-01 00:00:00','10','','1','0'), ('1570','86979474000208','复方氯唑沙宗片(鲁南贝特)','0.2g×24片/盒(0.125g+0.15g)','58.57','盒','鲁南贝特制药有限公司','111','101','FFLZSZP(LNBT)','2019-03-01 00:00:00','10','','1','0'), ('1571','86979474000208','肝素钠注射液','2ml:1.25万u×10支/盒','16.17','盒','常州千红生化制药股份有限公司','110','101','GSNZSY','2019-03-01 00:00:00','10','','1','0'), ('1572','86979474000209','葡萄糖氯化钠注射液(塑瓶)','5%250ml×1袋','27.66','袋','中国大冢制药有限公司','110','101','PTTLHNZSY(SP)','2019-03-01 00:00:00','10','','1','0'), ('1573','86979474000208','甜蜜素','1000g×1瓶','10.20','瓶','','157','101','TMS','2019-03-01 00:00:00','10','','1','0'), ('1574','86979474000209','硼酸','500g×1瓶','27.87','瓶','北京','157','101','PS','2019-03-01 00:00:00','10','','1','0'), ('1575','86979474000208','硼酸(AR)','500g×1瓶','70.76','瓶','北京','157','101','PS(AR)','2019-03-01 00:00:00','10','','1','0'), ('1576','86979474000208','皮肤康洗液','50ml×1瓶','2.00','瓶','北京华洋奎龙药业有限公司','119','101','PFKXY','2019-03-01 00:00:00','10','','1','0'), ('1577','86979474000209','皮肤消毒液','100ml×1瓶','41.41','瓶','靖江康爱特化工制造有限公司','157','101','PFXDY','2019-03-01 00:00:00','10','','1','0'), ('1578','86979474000208','生牡蛎','1000mg/g','5.65','克','江苏','112','103','SMZ','2019-03-01 00:00:00','10','','1','0'), ('1579','86979474000209','呋塞米注射液(速尿)','2ml:20mg×10支/盒','53.71','盒','天津金耀药业有限公司','110','101','ZSMZSY(SN)','2019-03-01 00:00:00','10','','1','0'), ('1580','86979474000208','异维A酸软胶囊(泰尔丝)','10mg×20片/盒','15.99','盒','上海信谊延安药业有限公司','114','101','YWASRJN(TES)','2019-03-01 00:00:00','10','','1','0'), ('1581','86979474000208','注射用人纤维蛋白元(法布莱士)','0.5g×1支','18.00','支','上海莱士血液制品股份有限公司','110','101','ZSYRXWDBY(FBLS)','2019-03-01 00:00:00','10','','1','0'), ('1582','86979474000209','香草醛(AR)','100g×1瓶','50.40','瓶','','157','101','XCQ(AR)','2019-03-01 00:00:00','10','','1','0'), ('1583','86979474000208','曲安奈德益康唑乳膏(派瑞松)','15g×1支','30.20','支','西安杨森制药有限公司','134','101','QANDYKZRG(PRS)','2019-03-01 00:00:00','10','','1','0'), ('1584','86979474000209','培养基(mug)','25g×1瓶','66.74','瓶','','157','101','PYJ(mug)','2019-03-01 00:00:00','10','','1','0'), ('1585','86979474000208','BG喷昔洛韦乳膏(夫坦)','10g×1支','2.67','支','重庆华邦制药有限公司','121','101','BGPXLWRG(FT)','2019-03-01 00:00:00','10','','1','0'), ('1586','86979474000208','碳酸氢钠','500g×1瓶','4.07','瓶','河北海骅','157','101','TSQN','2019-03-01 00:00:00','10','','1','0'), ('1587','86979474000209','糖精钠','500g×1瓶','22.52','瓶','','157','101','TJN','2019-03-01 00:00:00','10','','1','0'), ('1588','86979474000208','丙酮','500ml×1瓶','87.84','瓶','上海九亿','119','101','BT','2019-03-01 00:00:00','10','','1','0'), ('1589','86979474000209','丙酮酸(br)','20ml×1瓶','28.84','瓶','','157','101','BTS(br)','2019-03-01 00:00:00','10','','1','0'), ('1590','86979474000208','注射用帕米磷酸二钠(博宁)','15mg×1支','8.26','支','深圳海王药业有限公司','161','101','ZSYPMLSEN(BN)','2019-03-01 00:00:00','10','','1','0'), ('1591','86979474000208','薄荷脑','250g×1瓶','21.12','瓶','南通','157','101','BHN','2019-03-01 00:00:00','10','','1','0'), ('1592','86979474000209','注射用胰激肽原酶(怡开)','40u×1支','60.83','支','常州千红生化制药股份有限公司','110','101','ZSYYJZYM(ZK)','2019-03-01 00:00:00','10','','1','0'), ('1593','86979474000208','乙型肝炎人免疫球蛋白注射液','200iu×1支','82.39','支','成都蓉生药业有限公司','110','101','YXGYRMYQDBZSY','2019-03-01 00:00:00','10','','1','0'), ('1594','86979474000209','草木犀流浸液片(消脱止)','0.4g×50片/盒','52.50','盒','日本生晃荣养药品株式会社','111','101','CMXLJYP(XTZ)','2019-03-01 00:00:00','10','','1','0'), ('1595','86979474000208','曲他维林注射液(诺仕帕)','2ml×5支/盒','0.56','盒','赛诺菲（杭州）制药有限公司','110','101','QTWLZSY(NSP)','2019-03-01 00:00:00','10','','1','0'), ('1596','86979474000208','养血生发胶囊','0.5g*30粒/盒','12.68','盒','广州敬修堂药业股份有限公司','114','102','YXSFJN','2019-03-01 00:00:00','10','','1','0'), ('1597','86979474000209','肝素钠(BR)','1g×1瓶','6.87','瓶','','157','101','GSN(BR)','2019-03-01 00:00:00','10','','1','0'), ('1598','86979474000208','小蓟草','1000mg/g','36.55','克','江苏','112','103','XJC','2019-03-01 00:00:00','10','','1','0'), ('1599','86979474000209','薤白','1000mg/g','42.86','克',' 江苏','112','103','ZB','2019-03-01 00:00:00','10','','1','0'), ('1600','86979474000208','氟比洛芬酯注射液（凯纷）','5ml:50mg×1支','78.79','支','北京泰德制药股份有限公司','110','101','FBLFZZSY（KF）','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('1601','86979474000208','10%氯化钾注射液(塑瓶)','10ml:1g×1支','24.24','支','中国大冢制药有限公司','110','101','10%LHJZSY(SP)','2019-03-01 00:00:00','10','','1','0'), ('1602','86979474000209','唑来膦酸注射液(天晴依泰)','5ml:4mg/1支','7.39','支','正大天晴药业集团股份有限公司','110','101','ZLZSZSY(TQYT)','2019-03-01 00:00:00','10','','1','0'), ('1603','86979474000208','养胃舒胶囊','0.4g*24粒/盒','13.61','盒','合肥华润神鹿药业有限公司','114','101','YWSJN','2019-03-01 00:00:00','10','','1','0'), ('1604','86979474000209','琥珀酰明胶注射液(长源雪安)','500ml:20g×1瓶','20.06','瓶','吉林长源','110','101','ZZXMJZSY(CYXA)','2019-03-01 00:00:00','10','','1','0'), ('1605','86979474000208','硫酸鱼精蛋白注射液','50mg×5支/盒','0.97','盒','上海第一生化药业有限公司','110','101','LSYJDBZSY','2019-03-01 00:00:00','10','','1','0'), ('1606','86979474000208','生南星','1000mg/g','2.64','克','江苏','112','103','SNX','2019-03-01 00:00:00','10','','1','0'), ('1607','86979474000209','生蒲黄','1000mg/g','26.65','克','','112','103','SPH','2019-03-01 00:00:00','10','','1','0'), ('1608','86979474000208','生山楂','1000mg/g','18.46','克','','112','103','SSZ','2019-03-01 00:00:00','10','','1','0'), ('1609','86979474000209','生山枝','1000mg/g','14.90','克','浙江','112','103','SSZ','2019-03-01 00:00:00','10','','1','0'), ('1610','86979474000208','生石膏','1000mg/g','1.52','克','广东','112','103','SSG','2019-03-01 00:00:00','10','','1','0'), ('1611','86979474000208','石菖蒲','1000mg/g','14.79','克','江西','112','103','SZP','2019-03-01 00:00:00','10','','1','0'), ('1612','86979474000209','石斛','1000mg/g','11.95','克','广西','112','103','SH','2019-03-01 00:00:00','10','','1','0'), ('1613','86979474000208','石见穿','1000mg/g','15.20','克','江苏','112','103','SJC','2019-03-01 00:00:00','10','','1','0'), ('1614','86979474000209','复方曲安奈德软膏(复方康纳乐霜)','15g×1支','27.99','支','中美上海施贵宝制药有限公司','134','101','FFQANDRG(FFKNLS)','2019-03-01 00:00:00','10','','1','0'), ('1615','86979474000208','高三尖杉酯碱注射液','1mg×1支','41.32','支','杭州民生药业有限公司','110','101','GSJSZJZSY','2019-03-01 00:00:00','10','','1','0'), ('1616','86979474000208','二甲苯','500ml×1瓶','32.79','瓶','上海九亿','157','101','EJB','2019-03-01 00:00:00','10','','1','0'), ('1617','86979474000209','二甲基甲酰胺(AR)','500g×1瓶','15.72','瓶','上海久亿','157','101','EJJJXA(AR)','2019-03-01 00:00:00','10','','1','0'), ('1618','86979474000208','二甲基亚砜','500ml×1瓶','13.63','瓶','','157','101','EJJYZ','2019-03-01 00:00:00','10','','1','0'), ('1619','86979474000209','亚砷酸','500g×1瓶','18.46','瓶','','157','101','YSS','2019-03-01 00:00:00','10','','1','0'), ('1620','86979474000208','亚砷酸氯化钠注射液','10ml:10mg×1支','10.70','支','','110','101','YSSLHNZSY','2019-03-01 00:00:00','10','','1','0'), ('1621','86979474000208','亚鉄氰化钾(AR)','500g×1瓶','13.00','瓶','','157','101','YZQHJ(AR)','2019-03-01 00:00:00','10','','1','0'), ('1622','86979474000209','胰酶肠溶胶囊(得每通)','150mg×20片/盒','37.30','盒','雅培德国','114','101','YMCRJN(DMT)','2019-03-01 00:00:00','10','','1','0'), ('1623','86979474000208','盐酸胺碘酮注射液(可达龙)','150mg/3ml×6支/盒','44.93','盒','赛诺菲（杭州）制药有限公司','110','101','YSADTZSY(KDL)','2019-03-01 00:00:00','10','','1','0'), ('1624','86979474000209','伊曲康唑胶囊(斯皮仁诺)','100mg×14片/盒','85.73','盒','西安杨森制药有限公司','114','101','YQKZJN(SPRN)','2019-03-01 00:00:00','10','','1','0'), ('1625','86979474000208','沙利度胺片(反应停）','25mg×20片/盒','6.50','盒','常州制药厂有限公司','111','101','SLDAP(FYT）','2019-03-01 00:00:00','10','','1','0'), ('1626','86979474000208','黄氏响声丸','0.133g*108粒/盒','27.85','盒','无锡济民可信山禾药业股份有限公司','163','102','HSXSW','2019-03-01 00:00:00','10','','1','0'), ('1627','86979474000209','参芪降糖颗粒','3g*10袋/盒','15.65','盒','鲁南厚普制药有限公司','115','102','CZJTKL','2019-03-01 00:00:00','10','','1','0'), ('1628','86979474000208','地榆升白片','0.1g*40片/盒','34.32','盒','成都地奥集团天府药业股份有限公司','111','101','DYSBP','2019-03-01 00:00:00','10','','1','0'), ('1629','86979474000209','茵栀黄颗粒','3g*10袋/盒','31.21','盒','鲁南厚普制药有限公司','111','102','YZHKL','2019-03-01 00:00:00','10','','1','0'), ('1630','86979474000208','一清胶囊','0.5g*30粒/瓶','46.46','瓶','成都康弘制药有限公司','114','102','YQJN','2019-03-01 00:00:00','10','','1','0'), ('1631','86979474000208','乳增宁片','0.6g*60粒/瓶','53.05','瓶','深圳三顺制药有限公司','111','101','RZNP','2019-03-01 00:00:00','10','','1','0'), ('1632','86979474000209','气滞胃痛颗粒','5g*12袋/盒','25.80','盒','辽宁华润本溪三药有限公司','115','102','QZWTKL','2019-03-01 00:00:00','10','','1','0'), ('1633','86979474000208','注射用盐酸替罗非班','12.5mg×1瓶','59.33','瓶','山东新时代药业有限公司','110','101','ZSYYSTLFB','2019-03-01 00:00:00','10','','1','0'), ('1634','86979474000209','注射用重组人干扰素α-1b（赛若金','60ug×1瓶','20.19','瓶','深圳科兴生物工程有限公司S','161','101','ZSYZZRGRSα-1b（SRJ','2019-03-01 00:00:00','10','','1','0'), ('1635','86979474000208','皮肤消毒液（喷雾型）','100ml×1瓶','14.25','瓶','成都润兴消毒药业有限公司','157','101','PFXDY（PWX）','2019-03-01 00:00:00','10','','1','0'), ('1636','86979474000208','他克莫司胶囊（普乐可复）','0.5mg×50粒/盒','5.91','盒','安斯泰来制药(中国)有限公司','114','101','TKMSJN（PLKF）','2019-03-01 00:00:00','10','','1','0'), ('1637','86979474000209','注射用甲磺酸加贝酯(钦克)','0.1g×1瓶','12.89','瓶','常州四药制药有限公司','110','101','ZSYJHSJBZ(QK)','2019-03-01 00:00:00','10','','1','0'), ('1638','86979474000208','柳氮磺吡啶肠溶片','0.25g×60片/瓶','0.98','瓶','上海信谊天平药业有限公司','111','101','LDHZZCRP','2019-03-01 00:00:00','10','','1','0'), ('1639','86979474000209','米力农注射液(鲁南力康)','5mg×2支/盒','0.17','盒','鲁南贝特制药有限公司','110','101','MLNZSY(LNLK)','2019-03-01 00:00:00','10','','1','0'), ('1640','86979474000208','单硝酸异山梨酯片(欣康)','20mg×48片/盒','38.12','盒','鲁南贝特制药有限公司','111','101','DXSYSLZP(XK)','2019-03-01 00:00:00','10','','1','0'), ('1641','86979474000208','左炔诺孕酮(曼月乐)宫内节育系统','52mg×1粒/盒','12.56','盒','拜耳医药保健有限公司','131','101','ZQNYT(MYL)GNJYXT','2019-03-01 00:00:00','10','','1','0'), ('1642','86979474000209','粉萆藓','1000mg/g','51.29','克','浙江','112','103','FZZ','2019-03-01 00:00:00','10','','1','0'), ('1643','86979474000208','尼泊金','500g×1瓶','10.67','瓶','','157','101','NBJ','2019-03-01 00:00:00','10','','1','0'), ('1644','86979474000209','十六醇','250g×1瓶','94.19','瓶','上海久亿','157','101','SLC','2019-03-01 00:00:00','10','','1','0'), ('1645','86979474000208','醋酸泼尼松片(强的松)','5mg×100片/瓶','35.10','瓶','浙江仙琚制药股份有限公司','111','101','CSPNSP(QDS)','2019-03-01 00:00:00','10','','1','0'), ('1646','86979474000208','盐酸多西环素片（强力霉素）','0.1g×100片/瓶','38.98','瓶','','111','101','YSDXHSP（QLMS）','2019-03-01 00:00:00','10','','1','0'), ('1647','86979474000209','羟基脲片','0.5g×100片/瓶','33.00','瓶','齐鲁制药有限公司','111','102','QJZP','2019-03-01 00:00:00','10','','1','0'), ('1648','86979474000208','切片石腊','500g×1瓶','0.89','瓶','','157','101','QPSL','2019-03-01 00:00:00','10','','1','0'), ('1649','86979474000209','注射用奥沙利铂(乐沙定)','50mg*1支','0.78','支','赛诺菲（杭州）制药有限公司','110','101','ZSYASLB(LSD)','2019-03-01 00:00:00','10','','1','0'), ('1650','86979474000208','富马酸替诺福韦二吡呋酯(韦瑞德)','300mg*30片/盒','3.81','盒','Aspen port Elizabeth (pty) Ltd','111','101','FMSTNFWEZZZ(WRD)','2019-03-01 00:00:00','10','','1','0'), ('1651','86979474000208','琥珀','1000mg/g','10.67','克','','112','103','ZZ','2019-03-01 00:00:00','10','','1','0'), ('1652','86979474000209','降香','1000mg/g','21.38','克','','112','103','JX','2019-03-01 00:00:00','10','','1','0'), ('1653','86979474000208','艾瑞昔布片(恒扬)','0.1g*10片/盒','7.19','盒','江苏恒瑞医药股份有限公司','111','101','ARXBP(HY)','2019-03-01 00:00:00','10','','1','0'), ('1654','86979474000209','艾普拉唑肠溶片','5.000mg*10片/盒','6.51','盒','丽珠集团丽珠制药厂','111','101','APLZCRP','2019-03-01 00:00:00','10','','1','0'), ('1655','86979474000208','曲克芦丁脑蛋白水解物注射液(源之久)','2ml*1支','13.91','支','吉林四环制药有限公司','110','101','QKLDNDBSJWZSY(YZJ)','2019-03-01 00:00:00','10','','1','0'), ('1656','86979474000208','脾多肽注射液','2ml*1支','35.62','支','吉林丰生制药有限公司','110','101','PDZZSY','2019-03-01 00:00:00','10','','1','0'), ('1657','86979474000209','保妇康栓','1.74g*12粒/盒','2.03','盒','海南碧凯药业有限公司','125','101','BFKS','2019-03-01 00:00:00','10','','1','0'), ('1658','86979474000208','秋水仙碱片','0.500mg*40片/盒','3.82','盒','云南','111','101','QSXJP','2019-03-01 00:00:00','10','','1','0'), ('1659','86979474000209','狂犬病人免疫球蛋白（同路）','200.000iu*1瓶/瓶','1.66','瓶','安徽同路生物','110','101','KQBRMYQDB（TL）','2019-03-01 00:00:00','10','','1','0'), ('1660','86979474000208','复方托吡卡胺滴眼液（美多丽）','10.000ml*1支/支','12.17','支','日本参天制药株式会社','160','101','FFTZKADYY（MDL）','2019-03-01 00:00:00','10','','1','0'), ('1661','86979474000208','酒石酸唑吡坦片（思诺思）','10.000mg*7片/盒','2.32','盒','赛诺菲（杭州）制药有限公司','111','101','JSSZZTP（SNS）','2019-03-01 00:00:00','10','','1','0'), ('1662','86979474000209','复方盐酸伪麻黄碱胶囊(新康泰克)','8粒/盒','6.05','盒','中美天津史克制药公司','114','101','FFYSWMHJJN(XKTK)','2019-03-01 00:00:00','10','','1','0'), ('1663','86979474000208','非布司他（优立通）','40mg*16片/盒','34.49','盒','江苏万邦生化医药股份有限公司','111','101','FBST（YLT）','2019-03-01 00:00:00','10','','1','0'), ('1664','86979474000209','强肾片','0.630g*36片/盒','11.84','盒','辽宁上药好护士药业（集团）有限公司','111','101','QSP','2019-03-01 00:00:00','10','','1','0'), ('1665','86979474000208','注射用六氟化硫微泡(声诺维)','59mg*1瓶/盒','35.86','盒','上海博莱科信谊药业有限责任公司','110','101','ZSYLFHLWP(SNW)','2019-03-01 00:00:00','10','','1','0'), ('1666','86979474000208','非布司他片（瑞扬）','40.000mg*10片/盒','5.66','盒','江苏恒瑞医药股份有限公司S','111','101','FBSTP（RY）','2019-03-01 00:00:00','10','','1','0'), ('1667','86979474000209','熟大黄','1000mg/g','0.73','克','','112','103','SDH','2019-03-01 00:00:00','10','','1','0'), ('1668','86979474000208','荔枝核','1000mg/g','31.73','克','','112','103','LZH','2019-03-01 00:00:00','10','','1','0'), ('1669','86979474000209','枸橘','1000mg/g','5.42','克','','112','103','ZZ','2019-03-01 00:00:00','10','','1','0'), ('1670','86979474000208','葫芦瓢','1000mg/g','30.44','克','','112','103','HLP','2019-03-01 00:00:00','10','','1','0'), ('1671','86979474000208','茜草炭','1000mg/g','30.61','克','','112','103','ZCT','2019-03-01 00:00:00','10','','1','0'), ('1672','86979474000209','贯众','1000mg/g','79.45','克','','112','103','GZ','2019-03-01 00:00:00','10','','1','0'), ('1673','86979474000208','氨甲环酸片(妥塞敏)','0.5g×100片/盒','8.61','盒','重庆药友制药有限公司','111','101','AJHSP(TSM)','2019-03-01 00:00:00','10','','1','0'), ('1674','86979474000209','异烟肼片','0.1g*100片/瓶','74.03','瓶','天津力生制药股份有限公司','111','101','YYZP','2019-03-01 00:00:00','10','','1','0'), ('1675','86979474000208','桉柠蒎肠溶软胶囊(切诺)','0.120g*18粒/盒','0.42','盒','北京九和药业有限公司S','159','101','ZNZCRRJN(QN)','2019-03-01 00:00:00','10','','1','0'), ('1676','86979474000208','狂犬病人免疫球蛋白','200.000iu*1瓶/瓶','12.79','瓶','武汉生物制品研究所','110','101','KQBRMYQDB','2019-03-01 00:00:00','10','','1','0'), ('1677','86979474000209','盐酸氨基葡萄糖片(九力)','0.750g*18片/盒','9.38','盒','江苏清江药业有限公司','111','101','YSAJPTTP(JL)','2019-03-01 00:00:00','10','','1','0'), ('1678','86979474000208','双氯芬酸钠贴（来比新）','50mg*6片/盒(5*10cm)','64.35','盒','蚌埠丰原涂山制药有限公司','146','101','SLFSNT（LBX）','2019-03-01 00:00:00','10','','1','0'), ('1679','86979474000209','替格瑞洛片(倍林达)','90mg*14片/盒','24.11','盒','阿斯利康制药有限公司S','111','101','TGRLP(BLD)','2019-03-01 00:00:00','10','','1','0'), ('1680','86979474000208','注射用头孢硫脒(罗冰)','1.0g*1支','45.27','支','山东罗欣药业集团股份有限公司','110','101','ZSYTZLZ(LB)','2019-03-01 00:00:00','10','','1','0'), ('1681','86979474000208','甘草颗粒 ',' 0.5g/3g*1袋','3.88','袋','江阴天江药业有限公司','115','102','GCKL ','2019-03-01 00:00:00','10','','1','0'), ('1682','86979474000209','干姜颗粒 ',' 0.5g/3g*1袋','19.02','袋','江阴天江药业有限公司','115','102','GJKL ','2019-03-01 00:00:00','10','','1','0'), ('1683','86979474000208','高良姜颗粒 ',' 0.5g/6g*1袋','20.00','袋','江阴天江药业有限公司','115','102','GLJKL ','2019-03-01 00:00:00','10','','1','0'), ('1684','86979474000209','葛根颗粒 ',' 1g/10g*1袋','20.48','袋','江阴天江药业有限公司','115','102','GGKL ','2019-03-01 00:00:00','10','','1','0'), ('1685','86979474000208','葛花颗粒 ',' 1.5g/10g*1袋','35.11','袋','江阴天江药业有限公司','115','102','GHKL ','2019-03-01 00:00:00','10','','1','0'), ('1686','86979474000208','功劳叶颗粒',' 0.5g/10g*1袋','38.70','袋','江阴天江药业有限公司','115','102','GLYKL','2019-03-01 00:00:00','10','','1','0'), ('1687','86979474000209','注射用磷酸肌酸钠(里尔统)','1g×1瓶','16.89','瓶','意大利阿尔法韦士曼制药','110','101','ZSYLSJSN(LET)','2019-03-01 00:00:00','10','','1','0'), ('1688','86979474000208','滑石粉  药用','1000g×1包','11.91','包','','157','101','HSF  YY','2019-03-01 00:00:00','10','','1','0'), ('1689','86979474000209','癃清片','0.600g*48片/盒','0.90','盒','天津中新药业集团股份有限公司','111','101','ZQP','2019-03-01 00:00:00','10','','1','0'), ('1690','86979474000208','炉甘石粉','500g×1瓶','34.70','瓶','上海','157','101','LGSF','2019-03-01 00:00:00','10','','1','0'), ('1691','86979474000208','鹿角胶','1000mg/g','11.91','克','','112','103','LJJ','2019-03-01 00:00:00','10','','1','0'), ('1692','86979474000209','氯仿','500ml×1瓶','3.17','瓶','上海复星制药','157','101','LF','2019-03-01 00:00:00','10','','1','0'), ('1693','86979474000208','氯化铵','500g×1瓶','61.52','瓶','','157','101','LHZ','2019-03-01 00:00:00','10','','1','0'), ('1694','86979474000209','氯化铵','250g×1瓶','3.79','瓶','','157','101','LHZ','2019-03-01 00:00:00','10','','1','0'), ('1695','86979474000208','氯化钡','500g×1瓶','2.19','瓶','','157','101','LHB','2019-03-01 00:00:00','10','','1','0'), ('1696','86979474000208','盐酸罂粟碱注射液','30mg×1支','4.13','支','东北制药集团沈阳第一制药厂','110','101','YSYSJZSY','2019-03-01 00:00:00','10','','1','0'), ('1697','86979474000209','养血饮','10ml×10支/盒','39.80','盒','吉林敖东集团力源制药股份有限公司','164','102','YXY','2019-03-01 00:00:00','10','','1','0'), ('1698','86979474000208','瓜蒌仁颗粒 ',' 0.5g/10g*1袋','22.43','袋','江阴天江药业有限公司','115','102','GZRKL ','2019-03-01 00:00:00','10','','1','0'), ('1699','86979474000209','贯众颗粒 ',' 1g/15g*1袋','21.33','袋','江阴天江药业有限公司','115','102','GZKL ','2019-03-01 00:00:00','10','','1','0'), ('1700','86979474000208','广地龙颗粒 ',' 1g/10g*1袋','20.17','袋','江阴天江药业有限公司','115','102','GDLKL ','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('1701','86979474000208','广藿香颗粒',' 0.5g/10g*1袋','8.67','袋','江阴天江药业有限公司','115','102','GZXKL','2019-03-01 00:00:00','10','','1','0'), ('1702','86979474000209','龟板颗粒 ',' 0.5g/10g*1袋','95.92','袋','江阴天江药业有限公司','115','102','GBKL ','2019-03-01 00:00:00','10','','1','0'), ('1703','86979474000208','鬼见羽颗粒',' 0.5g/10g*1袋','25.36','袋','江阴天江药业有限公司','115','102','GJYKL','2019-03-01 00:00:00','10','','1','0'), ('1704','86979474000209','桂枝颗粒 ',' 0.5g/6g*1袋','0.33','袋','江阴天江药业有限公司','115','102','GZKL ','2019-03-01 00:00:00','10','','1','0'), ('1705','86979474000208','海风藤颗粒 ','0.5g/15g*1袋','41.64','袋','江阴天江药业有限公司','115','102','HFTKL ','2019-03-01 00:00:00','10','','1','0'), ('1706','86979474000208','海螵蛸颗粒',' 0.5g/10g*1袋','58.89','袋','江阴天江药业有限公司','115','102','HpZKL','2019-03-01 00:00:00','10','','1','0'), ('1707','86979474000209','海桐皮颗粒 ',' 0.5g/6g*1袋','1.73','袋','江阴天江药业有限公司','115','102','HTPKL ','2019-03-01 00:00:00','10','','1','0'), ('1708','86979474000208','海藻颗粒 ',' 0.5g/10g*1袋','11.65','袋','江阴天江药业有限公司','115','102','HZKL ','2019-03-01 00:00:00','10','','1','0'), ('1709','86979474000209','合欢花颗粒',' 1g/6g*1袋','32.57','袋','江阴天江药业有限公司','115','102','HHHKL','2019-03-01 00:00:00','10','','1','0'), ('1710','86979474000208','合欢皮颗粒 ',' 0.5g/15g*1袋','1.96','袋','江阴天江药业有限公司','115','102','HHPKL ','2019-03-01 00:00:00','10','','1','0'), ('1711','86979474000208','荷叶颗粒',' 0.5g/10g*1袋','13.50','袋','江阴天江药业有限公司','115','102','HYKL','2019-03-01 00:00:00','10','','1','0'), ('1712','86979474000209','红花颗粒 ',' 2g/6g*1袋','58.85','袋','江阴天江药业有限公司','115','102','HHKL ','2019-03-01 00:00:00','10','','1','0'), ('1713','86979474000208','红景天颗粒 ',' 1.5g/15g*1袋','31.06','袋','江阴天江药业有限公司','115','102','HJTKL ','2019-03-01 00:00:00','10','','1','0'), ('1714','86979474000209','红藤颗粒 ','1g/15g*1袋','33.66','袋','江阴天江药业有限公司','115','102','HTKL ','2019-03-01 00:00:00','10','','1','0'), ('1715','86979474000208','厚朴颗粒 ','0.5g/3g*1袋','16.68','袋','江阴天江药业有限公司','115','102','HPKL ','2019-03-01 00:00:00','10','','1','0'), ('1716','86979474000208','虎杖颗粒 ','1g/15g*1袋','23.60','袋','江阴天江药业有限公司','115','102','HZKL ','2019-03-01 00:00:00','10','','1','0'), ('1717','86979474000209','复方甘草口服溶液','180.000ml*1瓶/瓶','43.47','瓶','南京白敬宇制药有限责任公司','164','102','FFGCKFRY','2019-03-01 00:00:00','10','','1','0'), ('1718','86979474000208','乙酰半胱氨酸泡腾片（富露施）','600mg*4片/盒','0.74','盒','Zambon S.P.A','111','101','YXBZASPTP（FLS）','2019-03-01 00:00:00','10','','1','0'), ('1719','86979474000209','利鲁唑(力如太）','50mg*56片/盒','10.92','盒','赛诺菲(北京)制药有限公司','117','101','LLZ(LRT）','2019-03-01 00:00:00','10','','1','0'), ('1720','86979474000208','右归胶囊','0.450g*36粒/盒','0.83','盒','江西银涛','114','101','YGJN','2019-03-01 00:00:00','10','','1','0'), ('1721','86979474000208','钩藤颗粒 ',' 0.5g/10g*1袋','47.48','袋','江阴天江药业有限公司','115','102','GTKL ','2019-03-01 00:00:00','10','','1','0'), ('1722','86979474000209','双醋瑞因胶囊(安必丁)','50mg*30粒/盒','0.21','盒','昆明积大制药股份有限公司','114','101','SCRYJN(ABD)','2019-03-01 00:00:00','10','','1','0'), ('1723','86979474000208','比卡鲁胺片（朝晖先）','50.000mg*14片/盒','43.19','盒','上海朝辉药业有限公司','111','101','BKLAP（CZX）','2019-03-01 00:00:00','10','','1','0'), ('1724','86979474000209','注射用环磷腺苷葡胺(凯缌)','90.000mg*1支/支','30.74','支','无锡凯夫制药有限公司','161','101','ZSYHLXZPA(KZ)','2019-03-01 00:00:00','10','','1','0'), ('1725','86979474000208','维生素 B1 片','10mg×100片/瓶','6.25','瓶','南京白敬宇制药有限责任公司','111','101','WSS B1 P','2019-03-01 00:00:00','10','','1','0'), ('1726','86979474000208','炒青皮','1000mg/g','25.13','克','广东','112','103','CQP','2019-03-01 00:00:00','10','','1','0'), ('1727','86979474000209','炒酸枣仁','1000mg/g','41.95','克','江苏','112','103','CSZR','2019-03-01 00:00:00','10','','1','0'), ('1728','86979474000208','妇科千金胶囊','0.4g*24粒/盒','7.68','盒','株洲千金药业','114','102','FKQJJN','2019-03-01 00:00:00','10','','1','0'), ('1729','86979474000209','鹿角片','1000mg/g','10.82','克','甘肃','112','103','LJP','2019-03-01 00:00:00','10','','1','0'), ('1730','86979474000208','孟鲁司特钠咀嚼片(顺尔宁)','5mg×5片/盒','2.28','盒','默沙东制药（杭州）有限公司','111','101','MLSTNJJP(SEN)','2019-03-01 00:00:00','10','','1','0'), ('1731','86979474000208','多潘立酮片','10mg×42片/盒','28.38','盒','西安杨森制药有限公司','111','101','DPLTP','2019-03-01 00:00:00','10','','1','0'), ('1732','86979474000209','BG硝苯地平缓释片II(伲福达)','20mg×30片/瓶','0.84','瓶','青岛黄海制药有限责任公司','111','101','BGXBDPHSPII(ZFD)','2019-03-01 00:00:00','10','','1','0'), ('1733','86979474000208','阿苯达唑片(肠虫清)','0.2g×10片/瓶','3.98','瓶','中美天津史克制药公司','111','101','ABDZP(CCQ)','2019-03-01 00:00:00','10','','1','0'), ('1734','86979474000209','醋酸地塞米松','100g×1瓶','2.64','瓶','沪','157','101','CSDSMS','2019-03-01 00:00:00','10','','1','0'), ('1735','86979474000208','地骨皮','1000mg/g','8.70','克','甘肃','112','103','DGP','2019-03-01 00:00:00','10','','1','0'), ('1736','86979474000208','地锦草','1000mg/g','12.94','克','江苏','112','103','DJC','2019-03-01 00:00:00','10','','1','0'), ('1737','86979474000209','氯霉素滴眼液(润舒)','5ml×1支','61.00','支','山东博士伦福瑞达制药有限公司','160','101','LMSDYY(RS)','2019-03-01 00:00:00','10','','1','0'), ('1738','86979474000208','花椒颗粒 ',' 0.5g/6g*1袋','4.01','袋','江阴天江药业有限公司','115','102','HJKL ','2019-03-01 00:00:00','10','','1','0'), ('1739','86979474000209','注射用鼠神经生长因子(金路捷)','20ug:9000AU*1支','23.83','支','武汉海特生物制药股份有限公司','110','101','ZSYSSJSCYZ(JLJ)','2019-03-01 00:00:00','10','','1','0'), ('1740','86979474000208','5%葡萄糖注射液（亚邦软袋）','500ml*1袋','31.51','袋','江苏亚邦生缘药业有限公司','110','101','5%PTTZSY（YBRD）','2019-03-01 00:00:00','10','','1','0'), ('1741','86979474000208','葡萄糖氯化钠注射液(亚邦软袋)','500ml*1袋','37.14','袋','江苏亚邦生缘药业有限公司','110','101','PTTLHNZSY(YBRD)','2019-03-01 00:00:00','10','','1','0'), ('1742','86979474000209','葡萄糖氯化钠注射液(亚邦软袋)','250ml*1袋','0.31','袋','江苏亚邦生缘药业有限公司','110','101','PTTLHNZSY(YBRD)','2019-03-01 00:00:00','10','','1','0'), ('1743','86979474000208','10%葡萄糖注射液(亚邦软袋)','500ml*1袋','1.39','袋','江苏亚邦生缘药业有限公司','110','101','10%PTTZSY(YBRD)','2019-03-01 00:00:00','10','','1','0'), ('1744','86979474000209','注射用奥拉西坦(欧来宁）','1g*1瓶/瓶','19.99','瓶','石药集团欧意药业有限公司','161','101','ZSYALXT(OLN）','2019-03-01 00:00:00','10','','1','0'), ('1745','86979474000208','头孢克肟干混悬剂（立健克）','50.000mg*12包/盒','39.83','盒','深圳立健药业有限公司','141','101','TZKZGHXJ（LJK）','2019-03-01 00:00:00','10','','1','0'), ('1746','86979474000208','维拉帕米缓释片（缓释异搏定）','0.240g*10片/盒','55.58','盒','Abbvie/德国','131','101','WLPMHSP（HSYBD）','2019-03-01 00:00:00','10','','1','0'), ('1747','86979474000209','吉非替尼片(易瑞沙）','0.25g×10片/盒','3.09','盒','英国　阿斯利康制药S','111','101','JFTNP(YRS）','2019-03-01 00:00:00','10','','1','0'), ('1748','86979474000208','六神丸','3.125mg*120粒/盒','50.41','盒','上海雷允上药业有限公司','163','102','LSW','2019-03-01 00:00:00','10','','1','0'), ('1749','86979474000209','宫瘤清胶囊','0.370g*60粒/瓶','75.68','瓶','四川升和药业股份有限公司','114','101','GLQJN','2019-03-01 00:00:00','10','','1','0'), ('1750','86979474000208','苏黄止咳胶囊','0.450g*24粒/盒','74.73','盒','扬子江药业集团有限公司','114','102','SHZKJN','2019-03-01 00:00:00','10','','1','0'), ('1751','86979474000208','神曲消食口服液','10.000ml*6支/盒','74.80','盒','扬子江药业集团有限公司','164','101','SQXSKFY','2019-03-01 00:00:00','10','','1','0'), ('1752','86979474000209','西帕依固龈液','150.000ml*1瓶/盒','45.51','盒','新疆奇康哈博维药股份有限公司','147','101','XPYGYY','2019-03-01 00:00:00','10','','1','0'), ('1753','86979474000208','消炎止痛膏','1.000贴*6贴/盒','17.05','盒','杭州仁德医药有限公司','145','101','XYZTG','2019-03-01 00:00:00','10','','1','0'), ('1754','86979474000209','再造生血胶囊','0.320g*90粒/盒','34.79','盒','辽源誉隆亚东药业 ','114','101','ZZSXJN','2019-03-01 00:00:00','10','','1','0'), ('1755','86979474000208','摩罗丹','16.000丸*18袋/盒','44.04','盒','邯郸制药股份有限公司','163','102','MLD','2019-03-01 00:00:00','10','','1','0'), ('1756','86979474000208','复方伤痛胶囊','0.300g*30粒/盒','9.84','盒','甘肃省西峰制药有限责任公司','114','102','FFSTJN','2019-03-01 00:00:00','10','','1','0'), ('1757','86979474000209','宽胸气雾剂','5.800g/2.7ml*1瓶/盒','55.73','盒','杭州苏泊尔南洋药业有限公司','122','101','KXQWJ','2019-03-01 00:00:00','10','','1','0'), ('1758','86979474000208','重组人干扰素α2b阴道泡腾片(金舒喜)','50.000万单位*3片/盒','29.47','盒','北京凯因科技股份有限公司','111','102','ZZRGRSα2bYDPTP(JSX)','2019-03-01 00:00:00','10','','1','0'), ('1759','86979474000209','奥美沙坦酯片(希佳)','20.000mg*7片/盒','0.59','盒','南京正大天晴制药有限公司','111','101','AMSTP(XJ)','2019-03-01 00:00:00','10','','1','0'), ('1760','86979474000208','甲钴胺胶囊（奇信）','0.500mg*50粒/盒','32.30','盒','扬子江药业集团南京海陵药业','111','101','JZAJN（QX）','2019-03-01 00:00:00','10','','1','0'), ('1761','86979474000208','肠内营养乳剂(TP-HE)（瑞高）','500.000ml*1袋/袋','18.01','袋','北京费森尤斯医药','118','101','CNYYRJ(TP-HE)（RG）','2019-03-01 00:00:00','10','','1','0'), ('1762','86979474000209','肠内营养乳剂(TPF-T)(瑞能)(纤维型水果口味)','200.000ml*1瓶/瓶','45.66','瓶','华瑞制药有限公司','118','101','CNYYRJ(TPF-T)(RN)(XWXSGKW)','2019-03-01 00:00:00','10','','1','0'), ('1763','86979474000208','注射用磷酸肌酸钠（莱博通）','1.000g*1瓶/瓶','10.80','瓶','哈尔滨莱博通药业有限公司','161','101','ZSYLSJSN（LBT）','2019-03-01 00:00:00','10','','1','0'), ('1764','86979474000209','复方谷氨酰胺肠溶胶囊（谷参）','36粒/瓶','2.30','瓶','地奥集团成都药业股份有限公司','111','101','FFGAXACRJN（GC）','2019-03-01 00:00:00','10','','1','0'), ('1765','86979474000208','复方氨基酸(普舒清)注射液(18AA-Ⅸ)','200ml：12.250g(总氨基酸)*1瓶/瓶','9.22','瓶','广州绿十字制药有限公司','110','101','FFAJS(PSQ)ZSY(18AA-Ⅸ)','2019-03-01 00:00:00','10','','1','0'), ('1766','86979474000208','肠内营养混悬液（TP-MCT)（康全甘）','200ml(1kcal/ml)*1瓶/瓶','69.09','瓶','纽迪希亚制药（无锡）有限公司','136','101','CNYYHXY（TP-MCT)（KQG）','2019-03-01 00:00:00','10','','1','0'), ('1767','86979474000209','玻璃酸钠滴眼液（爱丽）','5ml：15.000mg*1支/盒','65.63','盒','日本参天制药','160','101','BLSNDYY（AL）','2019-03-01 00:00:00','10','','1','0'), ('1768','86979474000208','静注人免疫球蛋白(同路）','2.500g*1瓶/瓶','14.96','瓶','安徽同路生物','110','101','JZRMYQDB(TL）','2019-03-01 00:00:00','10','','1','0'), ('1769','86979474000209','天丹通络胶囊','0.4g*60粒/瓶','22.57','瓶','山东凤凰制药股份','114','102','TDTLJN','2019-03-01 00:00:00','10','','1','0'), ('1770','86979474000208','注射用阿奇霉素(其仙)','0.125g（12.5万单位）*1支/支','12.01','支','东北制药集团沈阳第一制药厂','161','101','ZSYAQMS(QX)','2019-03-01 00:00:00','10','','1','0'), ('1771','86979474000208','左氧氟沙星氯化钠注射液(可乐必妥)','100ml:0.5g:0.9g*1袋/袋','1.96','袋','第一三共制药（北京）有限公司','110','101','ZYFSXLHNZSY(KLBT)','2019-03-01 00:00:00','10','','1','0'), ('1772','86979474000209','注射用阿昔洛韦','0.250g*1瓶/瓶','0.40','瓶','国药集团容生制药有限公司','161','101','ZSYAXLW','2019-03-01 00:00:00','10','','1','0'), ('1773','86979474000208','醋酸曲普瑞林注射液(达必佳)','1ml:0.1mg*1支/支','3.76','支','辉凌(德国)制药有限公司','110','101','CSQPRLZSY(DBJ)','2019-03-01 00:00:00','10','','1','0'), ('1774','86979474000209','胞磷胆碱钠胶囊(思考林)','0.100g*42粒/盒','7.30','盒','齐鲁制药有限公司','114','101','BLDJNJN(SKL)','2019-03-01 00:00:00','10','','1','0'), ('1775','86979474000208','盐酸二甲双胍缓释片（泰白）','0.500g*60片/盒','1.48','盒','正大天晴药业集团股份有限公司','131','101','YSEJSZHSP（TB）','2019-03-01 00:00:00','10','','1','0'), ('1776','86979474000208','甲钴胺片(怡神保)','0.5mg*20片/盒','18.84','盒','华北制药股份有限公司','131','101','JZAP(ZSB)','2019-03-01 00:00:00','10','','1','0'), ('1777','86979474000209','琥珀酰明胶注射液(佳乐施)','500ml*1瓶','20.45','瓶','贝朗医疗苏州有限公司','131','101','ZZXMJZSY(JLS)','2019-03-01 00:00:00','10','','1','0'), ('1778','86979474000208','复方氯化钠注射液','500ml*1袋','30.32','袋','浙江济民制药股份有限公司','110','101','FFLHNZSY','2019-03-01 00:00:00','10','','1','0'), ('1779','86979474000209','龙血竭胶囊','0.3g*36粒/盒','21.55','盒','肇庆星湖制药有限公司','114','102','LXJJN','2019-03-01 00:00:00','10','','1','0'), ('1780','86979474000208','利奈唑胺片(斯沃)','0.6g*10片/盒','0.83','盒','辉瑞制药有限公司S','111','101','LNZAP(SW)','2019-03-01 00:00:00','10','','1','0'), ('1781','86979474000208','消毒湿巾(越星)','1片','22.52','片','兴化市医疗卫生用品有限公司','148','101','XDSJ(YX)','2019-03-01 00:00:00','10','','1','0'), ('1782','86979474000209','地西泮(安定)片','2.5mg*20片/盒','2.36','盒','北京益民药业有限公司','111','101','DXZ(AD)P','2019-03-01 00:00:00','10','','1','0'), ('1783','86979474000208','健胃消食口服液','10.00ml*12支/盒','0.75','盒','江苏济川制药有限公司','164','101','JWXSKFY','2019-03-01 00:00:00','10','','1','0'), ('1784','86979474000209','车前草颗粒 ','1.5g/15g*1袋','8.29','袋','江阴天江药业有限公司','115','102','CQCKL ','2019-03-01 00:00:00','10','','1','0'), ('1785','86979474000208','车前子颗粒 ',' 0.5g/15g*1袋','1.42','袋','江阴天江药业有限公司','115','102','CQZKL ','2019-03-01 00:00:00','10','','1','0'), ('1786','86979474000208','美洛西林钠舒巴坦钠（萨洛)','3.75g×1支','46.47','支','海南通用三洋药业有限公司','110','101','MLXLNSBTN（SL)','2019-03-01 00:00:00','10','','1','0'), ('1787','86979474000209','黄凡士林','500g×1瓶','34.15','瓶','南昌白云','157','101','HFSL','2019-03-01 00:00:00','10','','1','0'), ('1788','86979474000208','黄连上清丸','6g*10包/袋','4.57','袋','河南省宛西制约股份有限公司','163','102','HLSQW','2019-03-01 00:00:00','10','','1','0'), ('1789','86979474000209','白术(生)','1000mg/g','6.58','克','','112','103','BS(S)','2019-03-01 00:00:00','10','','1','0'), ('1790','86979474000208','生白芍','1000mg/g','44.33','克','浙江','112','103','SBS','2019-03-01 00:00:00','10','','1','0'), ('1791','86979474000208','香薷','1000mg/g','7.00','克','','112','103','XZ','2019-03-01 00:00:00','10','','1','0'), ('1792','86979474000209','佛耳草','1000mg/g','0.51','克','','112','103','FEC','2019-03-01 00:00:00','10','','1','0'), ('1793','86979474000208','石苇','1000mg/g','31.67','克','','112','103','SW','2019-03-01 00:00:00','10','','1','0'), ('1794','86979474000209','寒水石','1000mg/g','67.09','克','','112','103','HSS','2019-03-01 00:00:00','10','','1','0'), ('1795','86979474000208','毕茇','1000mg/g','33.81','克','','112','103','BZ','2019-03-01 00:00:00','10','','1','0'), ('1796','86979474000208','霍香正气软胶囊','0.45g×30粒/盒','31.68','盒','天津中新药业集团股份有限公司','114','102','HXZQRJN','2019-03-01 00:00:00','10','','1','0'), ('1797','86979474000209','肠内营养混悬液TPF(能全力','500ml(1kcal/1ml)*1瓶','10.90','瓶','纽迪希亚制药（无锡）有限公司','164','101','CNYYHXYTPF(NQL','2019-03-01 00:00:00','10','','1','0'), ('1798','86979474000208','艾司洛尔注射液(爱络)','10ml:100mg×1支','28.33','支','齐鲁制药有限公司','110','101','ASLEZSY(AL)','2019-03-01 00:00:00','10','','1','0'), ('1799','86979474000209','止血镇痛胶囊','0.350g*40粒/盒','0.17','盒','成都九芝堂金鼎药业有限公司','114','101','ZXZTJN','2019-03-01 00:00:00','10','','1','0'), ('1800','86979474000208','滑石颗粒 ',' 0.5g/10g*1袋','1.68','袋','江阴天江药业有限公司','115','102','HSKL ','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('1801','86979474000208','怀牛膝颗粒 ',' 3g/10g*1袋','13.81','袋','江阴天江药业有限公司','115','102','HNXKL ','2019-03-01 00:00:00','10','','1','0'), ('1802','86979474000209','槐花颗粒 ',' 2g/10g*1袋','14.62','袋','江阴天江药业有限公司','115','102','HHKL ','2019-03-01 00:00:00','10','','1','0'), ('1803','86979474000208','黄柏颗粒 ',' 0.5g/6g*1袋','15.24','袋','江阴天江药业有限公司','115','102','HBKL ','2019-03-01 00:00:00','10','','1','0'), ('1804','86979474000209','黄精颗粒 ',' 4g/10g*1袋','45.95','袋','江阴天江药业有限公司','115','102','HJKL ','2019-03-01 00:00:00','10','','1','0'), ('1805','86979474000208','黄连颗粒 ',' 0.5g/3g*1袋','38.33','袋','江阴天江药业有限公司','115','102','HLKL ','2019-03-01 00:00:00','10','','1','0'), ('1806','86979474000208','火麻仁颗粒 ',' 0.5g/10g*1袋','15.37','袋','江阴天江药业有限公司','115','102','HMRKL ','2019-03-01 00:00:00','10','','1','0'), ('1807','86979474000209','鸡血藤颗粒 ',' 1g/15g*1袋','0.90','袋','江阴天江药业有限公司','115','102','JXTKL ','2019-03-01 00:00:00','10','','1','0'), ('1808','86979474000208','姜半夏颗粒 ',' 0.5g/6g*1袋','2.28','袋','江阴天江药业有限公司','115','102','JBXKL ','2019-03-01 00:00:00','10','','1','0'), ('1809','86979474000209','降香颗粒 ',' 0.5g/6g*1袋','51.26','袋','江阴天江药业有限公司','115','102','JXKL ','2019-03-01 00:00:00','10','','1','0'), ('1810','86979474000208','焦六神曲颗粒',' 1g/10g*1袋','17.61','袋','江阴天江药业有限公司','115','102','JLSQKL','2019-03-01 00:00:00','10','','1','0'), ('1811','86979474000208','焦山楂颗粒 ',' 3g/10g*1袋','9.82','袋','江阴天江药业有限公司','115','102','JSZKL ','2019-03-01 00:00:00','10','','1','0'), ('1812','86979474000209','焦山栀颗粒 ',' 1g/10g*1袋','7.52','袋','江阴天江药业有限公司','115','102','JSZKL ','2019-03-01 00:00:00','10','','1','0'), ('1813','86979474000208','绞股蓝颗粒 ',' 1g/10g*1袋','48.35','袋','江阴天江药业有限公司','115','102','JGLKL ','2019-03-01 00:00:00','10','','1','0'), ('1814','86979474000209','金钱草颗粒 ','1g/15g*1袋','65.26','袋','江阴天江药业有限公司','115','102','JQCKL ','2019-03-01 00:00:00','10','','1','0'), ('1815','86979474000208','金荞麦颗粒 ',' 1g/15g*1袋','6.83','袋','江阴天江药业有限公司','115','102','JZMKL ','2019-03-01 00:00:00','10','','1','0'), ('1816','86979474000208','金银花颗粒 ',' 2g/10g*1袋','3.49','袋','江阴天江药业有限公司','115','102','JYHKL ','2019-03-01 00:00:00','10','','1','0'), ('1817','86979474000209','荆芥颗粒 ',' 1g/10g*1袋','60.69','袋','江阴天江药业有限公司','115','102','JJKL ','2019-03-01 00:00:00','10','','1','0'), ('1818','86979474000208','狗脊颗粒 ',' 1g/10g*1袋','96.66','袋','江阴天江药业有限公司','115','102','GJKL ','2019-03-01 00:00:00','10','','1','0'), ('1819','86979474000209','枸杞子颗粒 ',' 4g/10g*1袋','6.84','袋','江阴天江药业有限公司','115','102','ZZZKL ','2019-03-01 00:00:00','10','','1','0'), ('1820','86979474000208','氢溴酸东茛菪碱','0.300mg*5支/盒','47.63','盒','隧成药业股份有限公司','110','101','QZSDZZJ','2019-03-01 00:00:00','10','','1','0'), ('1821','86979474000208','炙百部','1000mg/g','8.20','克','江苏','112','103','ZBB','2019-03-01 00:00:00','10','','1','0'), ('1822','86979474000209','白头翁','1000mg/g','44.44','克',' 内蒙古','112','103','BTW','2019-03-01 00:00:00','10','','1','0'), ('1823','86979474000208','碘解磷定针','0.500g*5支/盒','63.05','盒','开开援生制药股份有限公司','110','101','DJLDZ','2019-03-01 00:00:00','10','','1','0'), ('1824','86979474000209','破伤风人免疫球蛋白（同路）','250iu/支','8.49','支','安徽同路生物','110','101','PSFRMYQDB（TL）','2019-03-01 00:00:00','10','','1','0'), ('1825','86979474000208','磷霉素钠','2g/支','0.79','支','东北制药集团沈阳第一制药厂','116','101','LMSN','2019-03-01 00:00:00','10','','1','0'), ('1826','86979474000208','盐酸司来吉兰片（咪多吡）','5.000mg*100片/瓶','3.43','瓶','芬兰奥瑞恩诺瑞 ','111','101','YSSLJLP（ZDZ）','2019-03-01 00:00:00','10','','1','0'), ('1827','86979474000209','钆塞酸二钠注射液（普美显）','181.430ml*10mL/支','54.69','支','拜耳医药保健有限公司','110','101','ZSSENZSY（PMX）','2019-03-01 00:00:00','10','','1','0'), ('1828','86979474000208','炮山甲','1000mg/g','54.31','克','成都岷江源药业股份有限公司','112','103','PSJ','2019-03-01 00:00:00','10','','1','0'), ('1829','86979474000209','克拉霉素缓释片（诺邦）','0.500g*7片/盒','48.60','盒','江苏恒瑞医药股份有限公司S','111','101','KLMSHSP（NB）','2019-03-01 00:00:00','10','','1','0'), ('1830','86979474000208','大黄蟅虫胶囊(颐海)','0.400g*36粒/盒','8.29','盒','江苏颐海药业有限责任公司','114','102','DHXCJN(YH)','2019-03-01 00:00:00','10','','1','0'), ('1831','86979474000208','消痛贴膏（奇正）','1.000贴*1贴/袋','9.00','袋','西藏林芝奇正药业','145','101','XTTG（QZ）','2019-03-01 00:00:00','10','','1','0'), ('1832','86979474000209','氢氯噻嗪片','25.000mg*100片/瓶','39.02','瓶','世贸天阶制药(江苏)有限责任公司','111','101','QLZZP','2019-03-01 00:00:00','10','','1','0'), ('1833','86979474000208','*右佐匹克隆片','3mg*7片/盒','38.77','盒','成都康弘药业集团股份有限公司S','111','101','YZPKLP','2019-03-01 00:00:00','10','','1','0'), ('1834','86979474000209','前列地尔注射液(益康宁)','10ug*1支','19.41','支','本溪横康制药有限公司','110','101','QLDEZSY(YKN)','2019-03-01 00:00:00','10','','1','0'), ('1835','86979474000208','重组人碱性成纤维细胞生长因子凝胶(扶济复)','25000.000iu*1支/支','11.00','支','北京双鹭药业股份有限公司','120','101','ZZRJXCXWXBSCYZNJ(FJF)','2019-03-01 00:00:00','10','','1','0'), ('1836','86979474000208','注射用甘露聚糖肽（力尔凡）','10.000mg*1支/支','5.89','支','国药一心制药有限公司','161','101','ZSYGLJTZ（LEF）','2019-03-01 00:00:00','10','','1','0'), ('1837','86979474000209','缩宫素注射液（素星）','10.000iu*1支/支','38.65','支','南京新百药业有限公司','110','101','SGSZSY（SX）','2019-03-01 00:00:00','10','','1','0'), ('1838','86979474000208','噻托溴铵喷雾剂（思力华能倍乐）','2.500ug*60揿/瓶','2.07','瓶','勃林格殷格翰国际有限公司S','149','101','ZTZZPWJ（SLHNBL）','2019-03-01 00:00:00','10','','1','0'), ('1839','86979474000209','人血白蛋白注射液（美国基立福）','50ml：12.500g*1瓶/瓶','57.31','瓶','基立福美国','110','101','RXBDBZSY（MGJLF）','2019-03-01 00:00:00','10','','1','0'), ('1840','86979474000208','甘油果糖氯化钠(固利压)注射液','250.000ml*1袋/袋','50.96','袋','南光化学制药有限股份公司','110','101','GYGTLHN(GLY)ZSY','2019-03-01 00:00:00','10','','1','0'), ('1841','86979474000208','司本-80','500g×1瓶','10.29','瓶','上海化试','157','101','SB-80','2019-03-01 00:00:00','10','','1','0'), ('1842','86979474000209','盐酸精氨酸注射液','25%20ml×1支','34.17','支','上海信谊金朱药业有限公司','110','101','YSJASZSY','2019-03-01 00:00:00','10','','1','0'), ('1843','86979474000208','84消毒液','500ml×1瓶','54.52','瓶','江苏金湖制药厂','157','101','84XDY','2019-03-01 00:00:00','10','','1','0'), ('1844','86979474000209','还尔金颗粒(槐杞黄)','10g×6袋/盒','4.63','盒','启东盖天力药业有限公司','115','102','HEJKL(HZH)','2019-03-01 00:00:00','10','','1','0'), ('1845','86979474000208','乳酸环丙沙星氯化钠注射液(悉复欢)','100ml:200mg×瓶','11.50','瓶','广州南新制药厂','110','101','RSHBSXLHNZSY(XFH)','2019-03-01 00:00:00','10','','1','0'), ('1846','86979474000208','环糊精','250g×1瓶','30.87','瓶','','157','101','HHJ','2019-03-01 00:00:00','10','','1','0'), ('1847','86979474000209','桔梗颗粒 ',' 1.5g/6g*1袋','26.81','袋','江阴天江药业有限公司','115','102','JGKL ','2019-03-01 00:00:00','10','','1','0'), ('1848','86979474000208','菊花颗粒 ',' 1g/6g*1袋','61.49','袋','江阴天江药业有限公司','115','102','JHKL ','2019-03-01 00:00:00','10','','1','0'), ('1849','86979474000209','注射用雷贝拉唑（澳博平）','20mg*1支/支','3.88','支','南京长澳制药有限公司','110','101','ZSYLBLZ（ABP）','2019-03-01 00:00:00','10','','1','0'), ('1850','86979474000208','依维莫司片（飞尼妥）','5.000mg*30片/盒','36.14','盒','诺华制药（瑞士）','111','101','YWMSP（FNT）','2019-03-01 00:00:00','10','','1','0'), ('1851','86979474000208','葡萄糖酸钙注射液','1g*1支/支','13.41','支','华润双鹤利民药业（济南）有限公司','110','101','PTTSGZSY','2019-03-01 00:00:00','10','','1','0'), ('1852','86979474000209','双嘧达莫片','25.000mg*100片/瓶','0.62','瓶','山东仁和堂药业有限责任公司','111','101','SZDMP','2019-03-01 00:00:00','10','','1','0'), ('1853','86979474000208','滋肾育胎丸','5.000g*6袋/盒','24.00','盒','广州白云山中一药业有限公司','163','102','ZSYTW','2019-03-01 00:00:00','10','','1','0'), ('1854','86979474000209','痔康胶囊','0.300g*20粒/盒','64.26','盒','长春海外制药集团有限公司','114','102','ZKJN','2019-03-01 00:00:00','10','','1','0'), ('1855','86979474000208','前列平胶囊','0.400g*60粒/盒','17.93','盒','西安千禾药业股份有限公司','114','101','QLPJN','2019-03-01 00:00:00','10','','1','0'), ('1856','86979474000208','橘核颗粒 ','0.5g/10g*1袋','38.50','袋','江阴天江药业有限公司','115','102','ZHKL ','2019-03-01 00:00:00','10','','1','0'), ('1857','86979474000209','橘红颗粒 ','0.5g/6g*1袋','17.12','袋','江阴天江药业有限公司','115','102','ZHKL ','2019-03-01 00:00:00','10','','1','0'), ('1858','86979474000208','决明子颗粒 ',' 0.5g/10g*1袋','21.40','袋','江阴天江药业有限公司','115','102','JMZKL ','2019-03-01 00:00:00','10','','1','0'), ('1859','86979474000209','蔻仁颗粒 ',' 0.5g/3g*1袋','46.42','袋','江阴天江药业有限公司','115','102','ZRKL ','2019-03-01 00:00:00','10','','1','0'), ('1860','86979474000208','苦参颗粒 ',' 1g/10g*1袋','29.90','袋','江阴天江药业有限公司','115','102','KCKL ','2019-03-01 00:00:00','10','','1','0'), ('1861','86979474000208','醋酸甲地孕酮分散片(艾诺克)','40mg*36片/盒','51.26','盒','西安远大德天药业股份有限公司','111','101','CSJDYTFSP(ANK)','2019-03-01 00:00:00','10','','1','0'), ('1862','86979474000209','复方吲哚美辛达克罗宁贴膏','1.000贴*5贴/盒','13.71','盒','杭州仁德医药有限公司','145','101','FFZZMXDKLNTG','2019-03-01 00:00:00','10','','1','0'), ('1863','86979474000208','茶碱葡萄糖注射液(西弗林)','100ml*1瓶/瓶','26.37','瓶','上海华源安徽锦辉制药有限公司','110','101','CJPTTZSY(XFL)','2019-03-01 00:00:00','10','','1','0'), ('1864','86979474000209','注射用复方三维B(Ⅱ)','复方*1支','29.08','支','吉林津升制药有限公司','161','101','ZSYFFSWB(Ⅱ)','2019-03-01 00:00:00','10','','1','0'), ('1865','86979474000208','联苯苄唑凝胶(必伏)','30g*1支/支','6.15','支','重庆华邦制药有限公司','120','101','LBZZNJ(BF)','2019-03-01 00:00:00','10','','1','0'), ('1866','86979474000208','甘草锌颗粒','5g*15包/盒','25.52','盒','南京瑞年百思特制药有限公司','115','102','GCXKL','2019-03-01 00:00:00','10','','1','0'), ('1867','86979474000209','注射用烟酰胺(冻干)(普扶林)','50mg*1支','60.11','支','吉林津升制药有限公司','161','101','ZSYYXA(DG)(PFL)','2019-03-01 00:00:00','10','','1','0'), ('1868','86979474000208','普瑞巴林胶囊(莱瑞克)','75mg*10粒/盒','2.03','盒','重庆赛维药业有限公司','114','101','PRBLJN(LRK)','2019-03-01 00:00:00','10','','1','0'), ('1869','86979474000209','盐酸替扎尼定片(凯莱通)','2mg*24片/盒','64.81','盒','四川科瑞德制药股份有限公司','111','101','YSTZNDP(KLT)','2019-03-01 00:00:00','10','','1','0'), ('1870','86979474000208','恩他卡朋双多巴片(II)(达灵复)','100mg/25mg/200mg*30片/盒','14.16','盒','Orion Corporation,Finland','111','101','ETKPSDBP(II)(DLF)','2019-03-01 00:00:00','10','','1','0'), ('1871','86979474000208','艾地苯醌片','30mg*24片/盒','19.08','盒','齐鲁制药有限公司','111','101','ADBP','2019-03-01 00:00:00','10','','1','0'), ('1872','86979474000209','卡贝缩宫素注射液','100ug:1ml*1支','81.13','支','辉凌制药(中国)有限公司','110','101','KBSGSZSY','2019-03-01 00:00:00','10','','1','0'), ('1873','86979474000208','门冬氨酸钾(卫唯杰)注射液','10ml:1.712g*1支','16.47','支','内蒙古白医制药股份有限公司','110','101','MDASJ(WWJ)ZSY','2019-03-01 00:00:00','10','','1','0'), ('1874','86979474000209','赤石脂颗粒 ','1g/15g*1袋','38.37','袋','江阴天江药业有限公司','115','102','CSZKL ','2019-03-01 00:00:00','10','','1','0'), ('1875','86979474000208','吡格列酮二甲双胍片（卡双平）','15mg/500.000mg*30片/瓶','18.24','瓶','杭州中美华东制药有限公司','111','101','ZGLTEJSZP（KSP）','2019-03-01 00:00:00','10','','1','0'), ('1876','86979474000208','盐酸利多卡因注射液','5ml：0.100g*5支/盒','0.56','盒','天津金耀药业有限公司','110','101','YSLDKYZSY','2019-03-01 00:00:00','10','','1','0'), ('1877','86979474000209','磷酸奥司他韦颗粒（可威）','15.000mg*10袋/盒','11.28','盒','宜昌东阳光长江药业股份有限公司','115','102','LSASTWKL（KW）','2019-03-01 00:00:00','10','','1','0'), ('1878','86979474000208','复方角菜酸酯栓(太宁)','3.4g×12枚/盒','67.50','盒','西安杨森制药有限公司','125','101','FFJCSZS(TN)','2019-03-01 00:00:00','10','','1','0'), ('1879','86979474000209','米托蒽醌','2mg×5支/盒','59.66','盒','四川升和药业股份有限公司','110','101','MTZk','2019-03-01 00:00:00','10','','1','0'), ('1880','86979474000208','骨康胶囊','0.400g*48粒/盒','24.42','盒','贵州维康药业有限公司','114','101','GKJN','2019-03-01 00:00:00','10','','1','0'), ('1881','86979474000208','通滞苏润江胶囊','0.300g*40粒/盒','25.06','盒','黑龙江省济仁药业有限公司','114','101','TZSRJJN','2019-03-01 00:00:00','10','','1','0'), ('1882','86979474000209','培垛普利吲达帕胺(百普乐)片','(4mg+1.25mg)*20片/盒','4.09','盒','施维雅(天津)制药有限公司S','111','101','PDPLZDPA(BPL)P','2019-03-01 00:00:00','10','','1','0'), ('1883','86979474000208','豨莶草颗粒 ',' 1.5g/15g*1袋','32.96','袋','江阴天江药业有限公司','115','102','ZZCKL ','2019-03-01 00:00:00','10','','1','0'), ('1884','86979474000209','细辛颗粒 ',' 0.5g/3g*1袋','4.71','袋','江阴天江药业有限公司','115','102','XXKL ','2019-03-01 00:00:00','10','','1','0'), ('1885','86979474000208','瓜蒌皮颗粒 ',' 3g/10g*1袋','9.63','袋','江阴天江药业有限公司','115','102','GZPKL ','2019-03-01 00:00:00','10','','1','0'), ('1886','86979474000208','尪痹片','0.500g*48片/盒','24.32','盒','辽宁好护士药业','111','102','TBP','2019-03-01 00:00:00','10','','1','0'), ('1887','86979474000209','巫山淫羊藿','10g/袋','8.55','袋','','112','103','WSYYZ','2019-03-01 00:00:00','10','','1','0'), ('1888','86979474000208','盐酸左氧氟沙星片(乐朗)','0.5g×7片/盒','2.73','盒','江苏恒瑞医药股份有限公司','111','101','YSZYFSXP(LL)','2019-03-01 00:00:00','10','','1','0'), ('1889','86979474000209','肠内营养混悬液（TP-MCT)康全甘','500ml(1kcal/ml)','7.37','瓶','纽迪希亚制药(无锡)有限公司S','136','101','CNYYHXY（TP-MCT)KQG','2019-03-01 00:00:00','10','','1','0'), ('1890','86979474000208','卡培他滨片(希罗达)','500mg×12片/盒','1.59','盒','上海罗氏制药有限公司','111','101','KPTBP(XLD)','2019-03-01 00:00:00','10','','1','0'), ('1891','86979474000208','鼻渊通窍颗粒','15g*10袋/盒','4.82','盒','山东新时代药业有限公司','115','102','BYTQKL','2019-03-01 00:00:00','10','','1','0'), ('1892','86979474000209','对二甲氨基苯甲醛','25g×25克/瓶','28.17','瓶','','157','101','DEJAJBJQ','2019-03-01 00:00:00','10','','1','0'), ('1893','86979474000208','多聚甲醛','500g×1瓶','5.10','瓶','','157','101','DJJQ','2019-03-01 00:00:00','10','','1','0'), ('1894','86979474000209','盐酸多塞平片','25mg×100片/瓶','4.90','瓶','南京白敬宇制药有限责任公司','111','101','YSDSPP','2019-03-01 00:00:00','10','','1','0'), ('1895','86979474000208','布桂嗪片(强痛定）','30mg×20片/盒','3.56','盒','1天津力生制药厂','111','101','BGZP(QTD）','2019-03-01 00:00:00','10','','1','0'), ('1896','86979474000208','苦杏仁颗粒 ',' 1g/10g*1袋','11.56','袋','江阴天江药业有限公司','115','102','KXRKL ','2019-03-01 00:00:00','10','','1','0'), ('1897','86979474000209','款冬花颗粒',' 4g/10g*1袋','15.53','袋','江阴天江药业有限公司','115','102','KDHKL','2019-03-01 00:00:00','10','','1','0'), ('1898','86979474000208','昆布颗粒 ',' 0.5g/10g*1袋','32.64','袋','江阴天江药业有限公司','115','102','KBKL ','2019-03-01 00:00:00','10','','1','0'), ('1899','86979474000209','莱菔子颗粒',' 1g/10g*1袋','7.80','袋','江阴天江药业有限公司','115','102','LZZKL','2019-03-01 00:00:00','10','','1','0'), ('1900','86979474000208','连翘颗粒 ',' 0.5g/10g*1袋','4.00','袋','江阴天江药业有限公司','115','102','LQKL ','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('1901','86979474000208','灵芝颗粒','0.5g/6g*1袋','30.59','袋','江阴天江药业有限公司','115','102','LZKL','2019-03-01 00:00:00','10','','1','0'), ('1902','86979474000209','六一散颗粒 ',' 0.5g/15g*1袋','51.78','袋','江阴天江药业有限公司','115','102','LYSKL ','2019-03-01 00:00:00','10','','1','0'), ('1903','86979474000208','龙胆草颗粒 ','1g/6g*1袋','11.18','袋','江阴天江药业有限公司','115','102','LDCKL ','2019-03-01 00:00:00','10','','1','0'), ('1904','86979474000209','龙葵颗粒 ',' 1g/15g*1袋','67.94','袋','江阴天江药业有限公司','115','102','LKKL ','2019-03-01 00:00:00','10','','1','0'), ('1905','86979474000208','芦根颗粒 ','1g/10g*1袋','0.52','袋','江阴天江药业有限公司','115','102','LGKL ','2019-03-01 00:00:00','10','','1','0'), ('1906','86979474000208','鹿角霜颗粒 ',' 0.5g/10g*1袋','9.33','袋','江阴天江药业有限公司','115','102','LJSKL ','2019-03-01 00:00:00','10','','1','0'), ('1907','86979474000209','鹿衔草颗粒 ',' 1g/15g*1袋','7.33','袋','江阴天江药业有限公司','115','102','LXCKL ','2019-03-01 00:00:00','10','','1','0'), ('1908','86979474000208','路路通颗粒 ',' 0.5g/10g*1袋','39.32','袋','江阴天江药业有限公司','115','102','LLTKL ','2019-03-01 00:00:00','10','','1','0'), ('1909','86979474000209','络石藤颗粒 ',' 1g/15g*1袋','14.21','袋','江阴天江药业有限公司','115','102','LSTKL ','2019-03-01 00:00:00','10','','1','0'), ('1910','86979474000208','胰岛素注射液(胰岛素)','1iu*400iu/瓶','39.88','瓶','江苏万邦生化医药股份有限公司','110','101','YDSZSY(YDS)','2019-03-01 00:00:00','10','','1','0'), ('1911','86979474000208','焦栀子颗粒','1.0g/10g*1袋','13.67','袋','江阴天江药业有限公司','115','102','JZZKL','2019-03-01 00:00:00','10','','1','0'), ('1912','86979474000209','麸炒枳实颗粒','0.5g/6g*1袋','89.81','袋','江阴天江药业有限公司','115','102','CZSKL','2019-03-01 00:00:00','10','','1','0'), ('1913','86979474000208','沙苑子颗粒','1.0g/10g*1袋','58.57','袋','江阴天江药业有限公司','115','102','SYZKL','2019-03-01 00:00:00','10','','1','0'), ('1914','86979474000209','炒鸡内金颗粒','0.5g/3g*1袋','0.32','袋','江阴天江药业有限公司','115','102','CJNJKL','2019-03-01 00:00:00','10','','1','0'), ('1915','86979474000208','四磨汤口服液','10ml*10支/盒','16.05','盒','湖南汉森制药股份有限公司','164','101','SMTKFY','2019-03-01 00:00:00','10','','1','0'), ('1916','86979474000208','屈螺酮炔雌醇片(优思明)','0.03mg:3mg×21片/盒','24.22','盒','拜耳医药保健有限公司','111','101','QLTQCCP(YSM)','2019-03-01 00:00:00','10','','1','0'), ('1917','86979474000209','注射用硫酸长春地辛(西艾克)','1mg×1瓶','5.08','瓶','杭州民生药业有限公司','110','101','ZSYLSCCDX(XAK)','2019-03-01 00:00:00','10','','1','0'), ('1918','86979474000208','BG王氏保赤丸','0.15g*20支/盒','45.34','盒','精华制药集团股份有限公司','163','102','BGWSBCW','2019-03-01 00:00:00','10','','1','0'), ('1919','86979474000209','强力枇杷露（无糖型）','250.000ml*1瓶/瓶','44.72','瓶','哈尔滨市康隆药业有限责任公司','164','101','QLZZL（WTX）','2019-03-01 00:00:00','10','','1','0'), ('1920','86979474000208','接骨七厘片','0.300g*75片/盒','89.03','盒','湖南金沙药业股份有限公司','117','101','JGQLP','2019-03-01 00:00:00','10','','1','0'), ('1921','86979474000208','注射用盐酸多巴胺(阿斯克丁)','10mg*1支/支','19.67','支','吉林津升制药有限公司','161','101','ZSYYSDBA(ASKD)','2019-03-01 00:00:00','10','','1','0'), ('1922','86979474000209','注射用重组人TNK组织型纤溶酶原激活剂(铭复乐)','1.0×107IU/16mg/支','34.85','支','广州铭康生物工程有限公司','161','101','ZSYZZRTNKZZXXRMYJHJ(MFL)','2019-03-01 00:00:00','10','','1','0'), ('1923','86979474000208','注射用左亚叶酸钙(同奥欣)','25mg*1瓶','56.98','瓶','江苏恒瑞医药股份有限公司','161','101','ZSYZYYSG(TAX)','2019-03-01 00:00:00','10','','1','0'), ('1924','86979474000209','长春胺缓释胶囊(奥勃兰)','30mg*12粒/盒','2.27','盒','烟台鲁银药业有限公司','137','101','CCAHSJN(ABL)','2019-03-01 00:00:00','10','','1','0'), ('1925','86979474000208','聚乙二醇化重组人粒细胞(津优力)刺激因子注射液','3mg:1ml*1支','80.05','支','石药集团百克(山东)生物制药有限公司','110','101','JYECHZZRLXB(JYL)CJYZZSY','2019-03-01 00:00:00','10','','1','0'), ('1926','86979474000208','注射用红色诺卡氏菌细胞壁骨架(艾克佳)','200ug*1瓶','27.18','瓶','福建省山河药业有限公司','161','101','ZSYHSNKSJXBBGJ(AKJ)','2019-03-01 00:00:00','10','','1','0'), ('1927','86979474000209','氨酚麻美干混悬剂','80mg*12包/盒','44.19','盒','浙江康德药业集团股份有限公司','141','101','AFMMGHXJ','2019-03-01 00:00:00','10','','1','0'), ('1928','86979474000208','注射用维生素C','1g×10支/盒','8.23','盒','石药集团欧意药业有限公司','110','101','ZSYWSSC','2019-03-01 00:00:00','10','','1','0'), ('1929','86979474000209','丙硫氧嘧啶片','50mg×100片/瓶','40.23','瓶','上海朝辉药业有限公司','111','101','BLYZZP','2019-03-01 00:00:00','10','','1','0'), ('1930','86979474000208','泮托拉唑钠肠溶胶囊(U比乐)','40mg*14粒/盒','7.26','盒','湖南华纳大药厂有限公司','114','101','ZTLZNCRJN(UBL)','2019-03-01 00:00:00','10','','1','0'), ('1931','86979474000208','醒脑静注射液（济民可信）','10.000ml（天然麝香）*1支/支','14.72','支','无锡济民可信山禾药业股份有限公司','110','101','XNJZSY（JMKX）','2019-03-01 00:00:00','10','','1','0'), ('1932','86979474000209','来氟米特片(爱若华)','10.000mg*32片/盒','63.24','盒','苏州长征—欣凯制药有限公司','111','101','LFMTP(ARH)','2019-03-01 00:00:00','10','','1','0'), ('1933','86979474000208','羟苯磺酸钙分散片(恒恩)','0.250g*36片/盒','11.22','盒','海南林恒制药有限公司','123','101','QBHSGFSP(HE)','2019-03-01 00:00:00','10','','1','0'), ('1934','86979474000209','盐酸度洛西汀肠溶片(优必罗)','20.000mg*24片/盒','12.92','盒','江苏恩华药业股份有限公司','133','101','YSDLXTCRP(YBL)','2019-03-01 00:00:00','10','','1','0'), ('1935','86979474000208','注射用单硝酸异山梨酯(欣康)','50.000mg*1瓶/瓶','44.70','瓶','山东新时代药业有限公司','161','101','ZSYDXSYSLZ(XK)','2019-03-01 00:00:00','10','','1','0'), ('1936','86979474000208','酮咯酸氨丁三醇胶囊（尼松）','10.000mg*24粒/盒','23.70','盒','山东新时代药业有限公司','114','101','TKSADSCJN（NS）','2019-03-01 00:00:00','10','','1','0'), ('1937','86979474000209','牛痘疫苗接种家兔炎症皮肤提取物（神经妥乐平）注射液','3.000ml：3.6单位*1支/支','8.28','支','日本脏器制药株式会社','110','101','NDYMJZJTYZPFTQW（SJTLP）ZSY','2019-03-01 00:00:00','10','','1','0'), ('1938','86979474000208','脑苷肌肽注射液（捷利欣）','5.000ml*1支/支','11.11','支','吉林四环制药有限公司','110','101','NZJZZSY（JLX）','2019-03-01 00:00:00','10','','1','0'), ('1939','86979474000209','橘核','1000mg/g','0.18','克','','112','103','ZH','2019-03-01 00:00:00','10','','1','0'), ('1940','86979474000208','福胶','1000mg/g','45.91','克','山东','112','103','FJ','2019-03-01 00:00:00','10','','1','0'), ('1941','86979474000208','盐酸曲马多缓释片(奇曼丁)','0.1g×10片/盒','0.83','盒','北京萌蒂制药公司','131','101','YSQMDHSP(QMD)','2019-03-01 00:00:00','10','','1','0'), ('1942','86979474000209','十八醇','500g×1瓶','51.37','瓶','','157','101','SBC','2019-03-01 00:00:00','10','','1','0'), ('1943','86979474000208','阿德福韦酯片(贺维力)','10mg×14片/盒','5.13','盒','葛兰素史克(天津)有限公司','111','101','ADFWP(HWL)','2019-03-01 00:00:00','10','','1','0'), ('1944','86979474000209','多种微量元素注射液(安达美)','10ml×10支/盒','43.06','盒','中瑞无锡华瑞','110','101','DZWLYSZSY(ADM)','2019-03-01 00:00:00','10','','1','0'), ('1945','86979474000208','地塞米松磷酸钠注射液','5mg*10支/盒','17.84','盒','山东新华制药股份有限公司','110','101','DSMSLSNZSY','2019-03-01 00:00:00','10','','1','0'), ('1946','86979474000208','青相子','1000mg/g','40.25','克','','112','103','QXZ','2019-03-01 00:00:00','10','','1','0'), ('1947','86979474000209','金钱草','1000mg/g','47.57','克','江苏','112','103','JQC','2019-03-01 00:00:00','10','','1','0'), ('1948','86979474000208','茵陈','1000mg/g','4.24','克','江苏','112','103','YC','2019-03-01 00:00:00','10','','1','0'), ('1949','86979474000209','盐酸拉贝洛尔片','50.000mg*30片/盒','9.51','盒','江苏迪赛诺制药有限公司','111','101','YSLBLEP','2019-03-01 00:00:00','10','','1','0'), ('1950','86979474000208','胆南星','1000mg/g','18.58','克','四川仟源中药饮片有限公司','112','103','DNX','2019-03-01 00:00:00','10','','1','0'), ('1951','86979474000208','葡萄糖酸氯己定皮肤消毒液','500ml*1瓶','25.76','瓶','3M中国有限公司','119','101','PTTSLJDPFXDY','2019-03-01 00:00:00','10','','1','0'), ('1952','86979474000209','注射用柔红霉素','20.000mg*1支/支','6.56','支','海正辉瑞制药有限公司','110','101','ZSYRHMS','2019-03-01 00:00:00','10','','1','0'), ('1953','86979474000208','夏枯草颗粒 ',' 0.5g/10g*1袋','18.75','袋','江阴天江药业有限公司','115','102','XKCKL ','2019-03-01 00:00:00','10','','1','0'), ('1954','86979474000209','马齿苋颗粒 ',' 1.5g/15g*1袋','89.14','袋','江阴天江药业有限公司','115','102','MCZKL ','2019-03-01 00:00:00','10','','1','0'), ('1955','86979474000208','麦冬颗粒 ',' 3g/10g*1袋','14.73','袋','江阴天江药业有限公司','115','102','MDKL ','2019-03-01 00:00:00','10','','1','0'), ('1956','86979474000208','炒麦芽颗粒 ',' 0.5g/10g*1袋','2.84','袋','江阴天江药业有限公司','115','102','CMYKL ','2019-03-01 00:00:00','10','','1','0'), ('1957','86979474000209','蔓荆子颗粒 ','0.5g/10g*1袋','29.71','袋','江阴天江药业有限公司','115','102','MJZKL ','2019-03-01 00:00:00','10','','1','0'), ('1958','86979474000208','芒硝颗粒 ','4g/10g*1袋','25.68','袋','江阴天江药业有限公司','115','102','MXKL ','2019-03-01 00:00:00','10','','1','0'), ('1959','86979474000209','玫瑰花颗粒 ',' 0.5g/6g*1袋','4.60','袋','江阴天江药业有限公司','115','102','MGHKL ','2019-03-01 00:00:00','10','','1','0'), ('1960','86979474000208','梅花颗粒 ',' 1g/6g*1袋','25.67','袋','江阴天江药业有限公司','115','102','MHKL ','2019-03-01 00:00:00','10','','1','0'), ('1961','86979474000208','蜜百部颗粒 ',' 4g/10g*1袋','1.04','袋','江阴天江药业有限公司','115','102','MBBKL ','2019-03-01 00:00:00','10','','1','0'), ('1962','86979474000209','蜜麻黄颗粒 ',' 1g/6g*1袋','46.31','袋','江阴天江药业有限公司','115','102','MMHKL ','2019-03-01 00:00:00','10','','1','0'), ('1963','86979474000208','蜜枇杷叶颗粒 ',' 1g/6g*1袋','14.32','袋','江阴天江药业有限公司','115','102','MZZYKL ','2019-03-01 00:00:00','10','','1','0'), ('1964','86979474000209','蜜紫苑颗粒 ','2g/6g*1袋','19.80','袋','江阴天江药业有限公司','115','102','MZYKL ','2019-03-01 00:00:00','10','','1','0'), ('1965','86979474000208','丁苯酞（恩必普）','0.100g*24粒/瓶','14.52','瓶','石药集团恩必普药业有限公司','159','101','DBT（EBP）','2019-03-01 00:00:00','10','','1','0'), ('1966','86979474000208','盐酸莫西沙星注射液（佰美诺）','0.4g*20ml/支','5.30','支','南京优科制药有限公司','110','101','YSMXSXZSY（BMN）','2019-03-01 00:00:00','10','','1','0'), ('1967','86979474000209','注射用辅酶A','100.000iu*10支/盒','5.89','盒','国药集团容生制药有限公司','161','101','ZSYFMA','2019-03-01 00:00:00','10','','1','0'), ('1968','86979474000208','三磷酸腺苷二钠注射液','20.000mg*10支/盒','11.86','盒','国药集团容生制药有限公司','110','101','SLSXZENZSY','2019-03-01 00:00:00','10','','1','0'), ('1969','86979474000209','碳酸锂缓释片','0.300g*100片/瓶','12.60','瓶','江苏恩华药业股份有限公司','111','101','TSZHSP','2019-03-01 00:00:00','10','','1','0'), ('1970','86979474000208','达沙替尼片(施达赛)','50mg*60片/瓶','23.13','瓶','百时美施贵宝（中美上海施贵宝）S','111','101','DSTNP(SDS)','2019-03-01 00:00:00','10','','1','0'), ('1971','86979474000208','达沙替尼片(小施达赛)','20mg*60片/瓶','23.17','瓶','百时美施贵宝（中美上海施贵宝）S','111','101','DSTNP(XSDS)','2019-03-01 00:00:00','10','','1','0'), ('1972','86979474000209','忍冬藤颗粒 ',' 0.5g/15g*1袋','46.61','袋','江阴天江药业有限公司','115','102','RDTKL ','2019-03-01 00:00:00','10','','1','0'), ('1973','86979474000208','替比夫定片（素比伏）','600.000mg*7片/盒','43.39','盒','诺华制药（北京）有限公司','111','101','TBFDP（SBF）','2019-03-01 00:00:00','10','','1','0'), ('1974','86979474000209','玻璃酸钠注射液(施沛特)','2.5ml:25mg*1支/支','20.27','支','山东博士伦福瑞达制药有限公司','110','101','BLSNZSY(SPT)','2019-03-01 00:00:00','10','','1','0'), ('1975','86979474000208','注射用环磷酰胺（安道生）','0.200g*1瓶/盒','10.75','盒','Baxter Healthcare of puerto rico','161','101','ZSYHLXA（ADS）','2019-03-01 00:00:00','10','','1','0'), ('1976','86979474000208','加巴喷丁（维诺定）','0.300g*20片/盒','13.51','盒','海南赛立克药业有限公司','111','101','JBPD（WND）','2019-03-01 00:00:00','10','','1','0'), ('1977','86979474000209','茺蔚子颗粒 ',' 0.5g/10g*1袋','35.97','袋','江阴天江药业有限公司','115','102','ZWZKL ','2019-03-01 00:00:00','10','','1','0'), ('1978','86979474000208','安神补脑液','10ml×10支/盒','19.12','盒','鲁南厚普制药有限公司','164','101','ASBNY','2019-03-01 00:00:00','10','','1','0'), ('1979','86979474000209','门冬氨酸钾镁片(潘南金)','0.3g×50片/瓶','23.27','瓶','匈牙利吉瑞大药厂','111','101','MDASJMP(PNJ)','2019-03-01 00:00:00','10','','1','0'), ('1980','86979474000208','盐酸美西律片(慢心律)','50mg×100片/瓶','0.12','瓶','上海信谊药厂有限公司委托黄河制药','111','101','YSMXLP(MXL)','2019-03-01 00:00:00','10','','1','0'), ('1981','86979474000208','多巴丝肼片(美多芭)','0.25g×40片/瓶','26.13','瓶','上海罗氏制药有限公司','111','101','DBSZP(MDB)','2019-03-01 00:00:00','10','','1','0'), ('1982','86979474000209','新洁尔灭溶液','5%500ml×1瓶','5.52','瓶','常熟市星海制药有限公司','157','101','XJEMRY','2019-03-01 00:00:00','10','','1','0'), ('1983','86979474000208','奥美拉唑肠溶片','10mg×28片/盒','8.48','盒','山东新时代药业有限公司','111','101','AMLZCRP','2019-03-01 00:00:00','10','','1','0'), ('1984','86979474000209','苯磺酸氨氯地平片(络活喜)','5mg×7片/盒','23.21','盒','辉瑞制药有限公司','111','101','BHSALDPP(LHX)','2019-03-01 00:00:00','10','','1','0'), ('1985','86979474000208','墨旱莲颗粒 ',' 1g/10g*1袋','23.74','袋','江阴天江药业有限公司','115','102','MHLKL ','2019-03-01 00:00:00','10','','1','0'), ('1986','86979474000208','牡丹皮颗粒 ',' 1g/6g*1袋','2.23','袋','江阴天江药业有限公司','115','102','MDPKL ','2019-03-01 00:00:00','10','','1','0'), ('1987','86979474000209','木瓜颗粒 ',' 3g/10g*1袋','68.34','袋','江阴天江药业有限公司','115','102','MGKL ','2019-03-01 00:00:00','10','','1','0'), ('1988','86979474000208','木蝴蝶颗粒 ',' 0.5g/3g*1袋','32.07','袋','江阴天江药业有限公司','115','102','MHDKL ','2019-03-01 00:00:00','10','','1','0'), ('1989','86979474000209','木通颗粒 ',' 0.5g/3g*1袋','5.70','袋','江阴天江药业有限公司','115','102','MTKL ','2019-03-01 00:00:00','10','','1','0'), ('1990','86979474000208','木香颗粒 ','2g/6g*1袋','19.28','袋','江阴天江药业有限公司','115','102','MXKL ','2019-03-01 00:00:00','10','','1','0'), ('1991','86979474000208','南沙参颗粒 ',' 2g/10g*1袋','11.51','袋','江阴天江药业有限公司','115','102','NSCKL ','2019-03-01 00:00:00','10','','1','0'), ('1992','86979474000209','培跺普利叔丁胺片(雅施达)','8mg*15片/盒','20.52','盒','施维雅(天津)制药有限公司','111','101','PDPLSDAP(YSD)','2019-03-01 00:00:00','10','','1','0'), ('1993','86979474000208','注射用乌司他丁(天普洛安)','10万单位*1瓶','48.90','瓶','广东天普生化医药有限公司','161','101','ZSYWSTD(TPLA)','2019-03-01 00:00:00','10','','1','0'), ('1994','86979474000209','萆薢颗粒 ',' 0.5g/10g*1袋','7.22','袋','江阴天江药业有限公司','115','102','ZSKL ','2019-03-01 00:00:00','10','','1','0'), ('1995','86979474000208','氟维司群注射液(芙士得)','5ml：250.000mg*2支/盒','28.00','盒','阿斯利康制药有限公司','110','101','FWSQZSY(ZSD)','2019-03-01 00:00:00','10','','1','0'), ('1996','86979474000208','*赖脯胰岛素注射液(优泌乐)','300iu:3ml(笔芯)*1支','6.07','支','礼来苏州制药有限公司','110','101','LFYDSZSY(YML)','2019-03-01 00:00:00','10','','1','0'), ('1997','86979474000209','乳酸依沙吖啶注射液(亚太)','2ml:50.000mg*10支/盒','5.37','盒','广西河丰药业有限责任公司','110','101','RSYSZZZSY(YT)','2019-03-01 00:00:00','10','','1','0'), ('1998','86979474000208','华法林钠片','2.500mg*60片/瓶','1.65','瓶','上海上药信谊药厂有限公司','111','101','HFLNP','2019-03-01 00:00:00','10','','1','0'), ('1999','86979474000209','葎草','1000mg/g','1.20','克','','112','103','QC','2019-03-01 00:00:00','10','','1','0'), ('2000','86979474000208','炒王不留行颗粒','0.5g/10g/袋','4.98','袋','江阴天江药业有限公司','115','102','CWBLXKL','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('2001','86979474000208','注射用泮托拉唑钠（韦迪）','60mg/瓶','45.67','瓶','扬子江药业集团有限公司','161','101','ZSYZTLZN（WD）','2019-03-01 00:00:00','10','','1','0'), ('2002','86979474000209','羟乙基淀粉130/0.4电解质（万衡）注射液','500.000ml*1袋/袋','0.58','袋','费森尤斯卡比（北京）医药有限公司','110','101','QYJDF130/0.4DJZ（WH）ZSY','2019-03-01 00:00:00','10','','1','0'), ('2003','86979474000208','乌苯美司胶囊(齐力佳)','10.000mg*18粒/盒','6.86','盒','成都苑东生物制药股份有限公司','114','101','WBMSJN(QLJ)','2019-03-01 00:00:00','10','','1','0'), ('2004','86979474000209','注射用盐酸瑞芬太尼','2.000mg*1支/支','9.14','支','国药集团工业有限公司','110','101','ZSYYSRFTN','2019-03-01 00:00:00','10','','1','0'), ('2005','86979474000208','丙氨酰谷氨酰胺注射液(辰佑)','100ml：20.000g*1瓶/瓶','37.45','瓶','山东鲁抗辰欣药业股份有限公司','110','101','BAGAAZSY(CY)','2019-03-01 00:00:00','10','','1','0'), ('2006','86979474000208','注射用甲磺酸法舒地尔（朗来）','35.000mg*1瓶/瓶','1.97','瓶','武汉启瑞药业有限公司','161','101','ZSYJHSFSDE（LL）','2019-03-01 00:00:00','10','','1','0'), ('2007','86979474000209','荷叶','1000mg/g','1.92','克','','112','103','HY','2019-03-01 00:00:00','10','','1','0'), ('2008','86979474000208','生麦芽','1000mg/g','13.04','克','','112','103','SMY','2019-03-01 00:00:00','10','','1','0'), ('2009','86979474000209','玉米须','1000mg/g','4.41','克','','112','103','YMX','2019-03-01 00:00:00','10','','1','0'), ('2010','86979474000208','穞豆衣','1000mg/g','15.68','克','','112','103','EDY','2019-03-01 00:00:00','10','','1','0'), ('2011','86979474000208','浮萍','1000mg/g','76.22','克','','112','103','FP','2019-03-01 00:00:00','10','','1','0'), ('2012','86979474000209','生侧柏叶','1000mg/g','14.01','克','','112','103','SCBY','2019-03-01 00:00:00','10','','1','0'), ('2013','86979474000208','阿胶珠','1000mg/g','0.81','克','','112','103','AJZ','2019-03-01 00:00:00','10','','1','0'), ('2014','86979474000209','紫石英','1000mg/g','23.73','克','','112','103','ZSY','2019-03-01 00:00:00','10','','1','0'), ('2015','86979474000208','淡豆豉','1000mg/g','12.13','克','','112','103','DDG','2019-03-01 00:00:00','10','','1','0'), ('2016','86979474000208','洛索洛芬钠片(乐松)','60mg×20片/盒','2.85','盒','第一三共制药（上海）有限公司','111','101','LSLFNP(LS)','2019-03-01 00:00:00','10','','1','0'), ('2017','86979474000209','盐酸贝那普利片(洛汀新)','10mg×14片/盒','3.93','盒','诺华制药（北京）有限公司','111','101','YSBNPLP(LTX)','2019-03-01 00:00:00','10','','1','0'), ('2018','86979474000208','盐酸麻黄碱注射液','30mg×10支/盒','12.40','盒','东北制药集团沈阳第一制药厂','110','101','YSMHJZSY','2019-03-01 00:00:00','10','','1','0'), ('2019','86979474000209','益智仁','1000mg/g','55.74','克','广东','112','103','YZR','2019-03-01 00:00:00','10','','1','0'), ('2020','86979474000208','淫羊霍','1000mg/g','49.67','克','陕西','112','103','YYH','2019-03-01 00:00:00','10','','1','0'), ('2021','86979474000208','银柴胡','1000mg/g','74.05','克','内蒙','112','103','YCH','2019-03-01 00:00:00','10','','1','0'), ('2022','86979474000209','银花藤','1000mg/g','6.83','克',' 江苏','112','103','YHT','2019-03-01 00:00:00','10','','1','0'), ('2023','86979474000208','鱼腥草','1000mg/g','45.04','克',' 江苏','112','103','YXC','2019-03-01 00:00:00','10','','1','0'), ('2024','86979474000209','玉竹','1000mg/g','0.92','克','河南','112','103','YZ','2019-03-01 00:00:00','10','','1','0'), ('2025','86979474000208','郁金','1000mg/g','16.44','克',' 四川','112','103','YJ','2019-03-01 00:00:00','10','','1','0'), ('2026','86979474000208','皂角刺','1000mg/g','33.54','克',' 河南','112','103','ZJC','2019-03-01 00:00:00','10','','1','0'), ('2027','86979474000209','小胡麻','1000mg/g','22.75','克','20110117','112','103','XHM','2019-03-01 00:00:00','10','','1','0'), ('2028','86979474000208','小茴香','1000mg/g','61.73','克','山西普德药业股份有限公司','112','103','XZX','2019-03-01 00:00:00','10','','1','0'), ('2029','86979474000209','二苯胺(AR)','100g×1瓶','3.58','瓶','','157','101','EBA(AR)','2019-03-01 00:00:00','10','','1','0'), ('2030','86979474000208','萹蓄颗粒',' 1g/15g*1袋','1.97','袋','江阴天江药业有限公司','115','102','QXKL','2019-03-01 00:00:00','10','','1','0'), ('2031','86979474000208','瘪桃干颗粒 ',' 0.5g/10g*1袋','52.23','袋','江阴天江药业有限公司','115','102','BTGKL ','2019-03-01 00:00:00','10','','1','0'), ('2032','86979474000209','槟榔颗粒 ',' 0.5g/10g*1袋','5.63','袋','江阴天江药业有限公司','115','102','ZLKL ','2019-03-01 00:00:00','10','','1','0'), ('2033','86979474000208','冰片颗粒 ','1g/1g*1袋','38.29','袋','江阴天江药业有限公司','115','102','BPKL ','2019-03-01 00:00:00','10','','1','0'), ('2034','86979474000209','补骨脂颗粒 ',' 1g/10g*1袋','31.79','袋','江阴天江药业有限公司','115','102','BGZKL ','2019-03-01 00:00:00','10','','1','0'), ('2035','86979474000208','苍耳子颗粒 ',' 0.5g/10g*1袋','16.85','袋','江阴天江药业有限公司','115','102','CEZKL ','2019-03-01 00:00:00','10','','1','0'), ('2036','86979474000208','苍术颗粒 ',' 3g/10g*1袋','0.61','袋','江阴天江药业有限公司','115','102','CSKL ','2019-03-01 00:00:00','10','','1','0'), ('2037','86979474000209','草果颗粒 ',' 0.5g/6g*1袋','1.04','袋','江阴天江药业有限公司','115','102','CGKL ','2019-03-01 00:00:00','10','','1','0'), ('2038','86979474000208','牛蒡子颗粒 ',' 1g/10g*1袋','0.43','袋','江阴天江药业有限公司','115','102','NZZKL ','2019-03-01 00:00:00','10','','1','0'), ('2039','86979474000209','女贞子颗粒 ',' 1g/10g*1袋','1.27','袋','江阴天江药业有限公司','115','102','NZZKL ','2019-03-01 00:00:00','10','','1','0'), ('2040','86979474000208','炮姜炭颗粒 ',' 0.5g/6g*1袋','11.89','袋','江阴天江药业有限公司','115','102','PJTKL ','2019-03-01 00:00:00','10','','1','0'), ('2041','86979474000208','炮山甲粉颗粒 ',' 3g/3g*1袋','44.95','袋','江阴天江药业有限公司','115','102','PSJFKL ','2019-03-01 00:00:00','10','','1','0'), ('2042','86979474000209','佩兰颗粒',' 1g/10g*1袋','4.52','袋','江阴天江药业有限公司','115','102','PLKL','2019-03-01 00:00:00','10','','1','0'), ('2043','86979474000208','片姜黄颗粒 ',' 0.5g/10g*1袋','61.07','袋','江阴天江药业有限公司','115','102','PJHKL ','2019-03-01 00:00:00','10','','1','0'), ('2044','86979474000209','蒲公英颗粒 ',' 2g/15g*1袋','27.72','袋','江阴天江药业有限公司','115','102','PGYKL ','2019-03-01 00:00:00','10','','1','0'), ('2045','86979474000208','前胡颗粒 ',' 1.5g/10g*1袋','7.07','袋','江阴天江药业有限公司','115','102','QHKL ','2019-03-01 00:00:00','10','','1','0'), ('2046','86979474000208','芡实颗粒 ',' 0.5g/10g*1袋','0.10','袋','江阴天江药业有限公司','115','102','ZSKL ','2019-03-01 00:00:00','10','','1','0'), ('2047','86979474000209','羌活颗粒 ',' 1g/6g*1袋','11.79','袋','江阴天江药业有限公司','115','102','QHKL ','2019-03-01 00:00:00','10','','1','0'), ('2048','86979474000208','秦艽颗粒',' 2g/10g*1袋','12.30','袋','江阴天江药业有限公司','115','102','QZKL','2019-03-01 00:00:00','10','','1','0'), ('2049','86979474000209','注射用盐酸多柔比星','10mg/瓶','81.01','瓶','海正辉瑞制药有限公司','161','101','ZSYYSDRBX','2019-03-01 00:00:00','10','','1','0'), ('2050','86979474000208','关节止痛膏','11*15cm*6片/袋','54.45','袋','常州市盛辉药业有限公司','145','101','GJZTG','2019-03-01 00:00:00','10','','1','0'), ('2051','86979474000208','卡泊三醇倍他米松软膏（得肤宝）','15g(1g：50μg:0.5 mg)*1支/盒','0.11','盒','爱尔兰利奥制药有限公司','121','101','KBSCBTMSRG（DFB）','2019-03-01 00:00:00','10','','1','0'), ('2052','86979474000209','八珍颗粒','3.500g*14袋/盒','4.86','盒','宁波立华制药有限公司','115','102','BZKL','2019-03-01 00:00:00','10','','1','0'), ('2053','86979474000208','注射用舒巴坦钠','0.500g*10支/盒','4.50','盒','华北制药股份有限公司','161','101','ZSYSBTN','2019-03-01 00:00:00','10','','1','0'), ('2054','86979474000209','甲苯磺酸索拉非尼片（多吉美）','0.200g*60片/盒','12.88','盒','德国拜耳医药保健0','111','101','JBHSSLFNP（DJM）','2019-03-01 00:00:00','10','','1','0'), ('2055','86979474000208','口服补液盐Ⅲ(博叶)','5.125g*6袋/盒','43.12','盒','西安安健药业有限公司','113','101','KFBYYⅢ(BY)','2019-03-01 00:00:00','10','','1','0'), ('2056','86979474000208','洗得宝牌手消毒凝胶','250ml*1瓶','2.76','瓶','北京洗得宝消毒制品有限公司一分','120','101','XDBPSXDNJ','2019-03-01 00:00:00','10','','1','0'), ('2057','86979474000209','溴隐亭片（佰莫亭）','2.500mg*30片/瓶','21.40','瓶','匈牙利吉瑞大药厂','111','102','ZYTP（BMT）','2019-03-01 00:00:00','10','','1','0'), ('2058','86979474000208','二苯胺','100g×1瓶','31.27','瓶','','157','101','EBA','2019-03-01 00:00:00','10','','1','0'), ('2059','86979474000209','番红O','25g×1瓶','0.90','瓶','','157','101','FHO','2019-03-01 00:00:00','10','','1','0'), ('2060','86979474000208','爱护佳免洗外科手消毒液','1000ml×1瓶','44.98','瓶','3M中国有限公司','129','101','AHJMXWKSXDY','2019-03-01 00:00:00','10','','1','0'), ('2061','86979474000208','爱护佳免洗手消毒液','500ml×1瓶','1.28','瓶','3M中国有限公司','124','101','AHJMXSXDY','2019-03-01 00:00:00','10','','1','0'), ('2062','86979474000209','冬瓜皮','1000mg/g','0.51','克','','112','103','DGP','2019-03-01 00:00:00','10','','1','0'), ('2063','86979474000208','骨化三醇注射液(溉纯)','1ml:1ug×1支','0.72','支','上海雅培制药厂','110','101','GHSCZSY(GC)','2019-03-01 00:00:00','10','','1','0'), ('2064','86979474000209','乙醇消毒液 75%','500ml×1瓶','48.70','瓶','江苏省兴化市医疗卫生用品有限公司','157','101','YCXDY 75%','2019-03-01 00:00:00','10','','1','0'), ('2065','86979474000208','天麻颗粒','1g/6g/袋','12.96','袋','江阴天江药业有限公司','115','102','TMKL','2019-03-01 00:00:00','10','','1','0'), ('2066','86979474000208','青皮颗粒 ',' 1g/6g*1袋','61.21','袋','江阴天江药业有限公司','115','102','QPKL ','2019-03-01 00:00:00','10','','1','0'), ('2067','86979474000209','维A酸片（艾力可）','10mg*20片/盒','54.27','盒','山东良福制药有限公司','111','101','WASP（ALK）','2019-03-01 00:00:00','10','','1','0'), ('2068','86979474000208','番泻叶','1000mg/g','23.58','克','','112','103','FXY','2019-03-01 00:00:00','10','','1','0'), ('2069','86979474000209','重组人血小板生成素注射液(特比澳)','15000iu*1瓶/盒','5.10','盒','沈阳三生制药股份有限公司','110','101','ZZRXXBSCSZSY(TBA)','2019-03-01 00:00:00','10','','1','0'), ('2070','86979474000208','甲磺酸阿帕替尼片（艾坦）','0.25g*10片/盒','14.87','盒','江苏恒瑞医药股份有限公司','111','101','JHSAPTNP（AT）','2019-03-01 00:00:00','10','','1','0'), ('2071','86979474000208','依西美坦片（阿诺新）','25mg*30片/盒','18.69','盒','Pfizer Italia s.r.l','111','101','YXMTP（ANX）','2019-03-01 00:00:00','10','','1','0'), ('2072','86979474000209','注射用奥美拉唑(奥西康)','40mg*1支','17.66','支','江苏奥赛康药业股份有限公司','110','101','ZSYAMLZ(AXK)','2019-03-01 00:00:00','10','','1','0'), ('2073','86979474000208','苦参凝胶','5.000g*4支/盒','28.42','盒','贵阳新天药业股份有限公司','120','101','KCNJ','2019-03-01 00:00:00','10','','1','0'), ('2074','86979474000209','侧柏叶颗粒 ',' 1g/10g*1袋','19.45','袋','江阴天江药业有限公司','115','102','CBYKL ','2019-03-01 00:00:00','10','','1','0'), ('2075','86979474000208','柴胡颗粒 ',' 1g/6g*1袋','5.28','袋','江阴天江药业有限公司','115','102','CHKL ','2019-03-01 00:00:00','10','','1','0'), ('2076','86979474000208','蝉蜕颗粒',' 0.5g/6g*1袋','43.09','袋','江阴天江药业有限公司','115','102','CTKL','2019-03-01 00:00:00','10','','1','0'), ('2077','86979474000209','炒白芍颗粒 ',' 1g/10g*1袋','44.75','袋','江阴天江药业有限公司','115','102','CBSKL ','2019-03-01 00:00:00','10','','1','0'), ('2078','86979474000208','炒白术颗粒 ',' 3g/10g*1袋','10.24','袋','江阴天江药业有限公司','115','102','CBSKL ','2019-03-01 00:00:00','10','','1','0'), ('2079','86979474000209','炒僵蚕颗粒 ',' 1g/10g*1袋','73.72','袋','江阴天江药业有限公司','115','102','CJCKL ','2019-03-01 00:00:00','10','','1','0'), ('2080','86979474000208','炒没药颗粒 ','1.000g*1袋/袋','1.07','袋','江阴天江药业有限公司','115','102','CMYKL ','2019-03-01 00:00:00','10','','1','0'), ('2081','86979474000208','炒苡仁颗粒 ','0.5g/10g*1袋','18.62','袋','江阴天江药业有限公司','115','102','CZRKL ','2019-03-01 00:00:00','10','','1','0'), ('2082','86979474000209','来那度胺（瑞复美）','25mg*21粒/盒','25.46','盒','瑞士Celgene','114','101','LNDA（RFM）','2019-03-01 00:00:00','10','','1','0'), ('2083','86979474000208','炮山甲粉颗粒','3g/3g/袋','26.23','袋','江阴天江药业有限公司','115','102','PSJFKL','2019-03-01 00:00:00','10','','1','0'), ('2084','86979474000209','BG重组人促红素注射液(益比奥)','3000iu/支','37.46','支','沈阳三生制药股份有限公司','110','101','BGZZRCHSZSY(YBA)','2019-03-01 00:00:00','10','','1','0'), ('2085','86979474000208','复方季铵盐消毒液','100ml*1瓶','12.27','瓶','兴化市医疗卫生用品有限公司','119','101','FFJZYXDY','2019-03-01 00:00:00','10','','1','0'), ('2086','86979474000208','全蝎颗粒 ','0.500g*1袋/袋','46.55','袋','江阴天江药业有限公司','115','102','QXKL ','2019-03-01 00:00:00','10','','1','0'), ('2087','86979474000209','氯沙坦钾片(科素亚)','50mg*7片/盒','24.72','盒','默沙东制药（杭州）有限公司','111','101','LSTJP(KSY)','2019-03-01 00:00:00','10','','1','0'), ('2088','86979474000208','季德胜蛇药片','0.4g*30片/盒','23.07','盒','精华制药集团股份有限公司','111','101','JDSSYP','2019-03-01 00:00:00','10','','1','0'), ('2089','86979474000209','酚磺乙胺注射液（止血敏）','0.500g*10支/盒','0.81','盒','国药集团容生制药有限公司','110','101','FHYAZSY（ZXM）','2019-03-01 00:00:00','10','','1','0'), ('2090','86979474000208','喷昔洛韦乳膏（夫坦）','20.000g*1支/盒','35.97','盒','重庆华邦制药有限公司','121','101','PXLWRG（FT）','2019-03-01 00:00:00','10','','1','0'), ('2091','86979474000208','灭菌注射用水','500.000ml*1瓶','16.71','瓶','山东齐都药业有限公司','110','101','MJZSYS','2019-03-01 00:00:00','10','','1','0'), ('2092','86979474000209','盐酸维拉帕米片(异搏定)','40mg*30片/瓶','4.64','瓶','江苏瑞年前进制药有限公司','111','101','YSWLPMP(YBD)','2019-03-01 00:00:00','10','','1','0'), ('2093','86979474000208','硫辛酸(凡可佳）','0.15g*1支/支','23.18','支','重庆药友制药有限公司','110','101','LXS(FKJ）','2019-03-01 00:00:00','10','','1','0'), ('2094','86979474000209','三碘甲烷','100g×1瓶','0.71','瓶','','157','101','SDJW','2019-03-01 00:00:00','10','','1','0'), ('2095','86979474000208','三氯醋酸','500ml×1瓶','64.90','瓶','','157','101','SLCS','2019-03-01 00:00:00','10','','1','0'), ('2096','86979474000208','三氯化铁(AR)','50g×1瓶','30.81','瓶','','157','101','SLHT(AR)','2019-03-01 00:00:00','10','','1','0'), ('2097','86979474000209','三氯甲烷','500ml×1瓶','1.99','瓶','上海久亿','157','101','SLJW','2019-03-01 00:00:00','10','','1','0'), ('2098','86979474000208','三氯乙酸(AR)','500ml×1瓶','52.40','瓶','','157','101','SLYS(AR)','2019-03-01 00:00:00','10','','1','0'), ('2099','86979474000209','西黄蓍胶','500g×1包','45.40','包','','157','101','XHZJ','2019-03-01 00:00:00','10','','1','0'), ('2100','86979474000208','希尔生洗剂','100g/瓶','29.03','瓶','江苏迪赛诺制药有限公司','142','101','XESXJ','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('2101','86979474000208','锡类散','1.5g*1支','19.54','支','精华制药集团股份有限公司','113','101','XLS','2019-03-01 00:00:00','10','','1','0'), ('2102','86979474000209','洗必泰','25g×1瓶','35.71','瓶','辽宁锦州制药一厂','157','101','XBT','2019-03-01 00:00:00','10','','1','0'), ('2103','86979474000208','多磺酸粘多糖软膏(喜疗妥)','14g×1支','14.46','支','Mobilat Produktions Gmbh 德国','121','101','DHSZDTRG(XLT)','2019-03-01 00:00:00','10','','1','0'), ('2104','86979474000209','三七(粉)','1000mg/g','62.80','克','','112','103','SQ(F)','2019-03-01 00:00:00','10','','1','0'), ('2105','86979474000208','槲寄生','1000mg/g','31.39','克','吉林','112','103','ZJS','2019-03-01 00:00:00','10','','1','0'), ('2106','86979474000208','桑螵蛸','1000mg/g','12.32','克','','112','103','SpZ','2019-03-01 00:00:00','10','','1','0'), ('2107','86979474000209','落得打','1000mg/g','23.16','克','','112','103','LDD','2019-03-01 00:00:00','10','','1','0'), ('2108','86979474000208','桔络','1000mg/g','54.47','克','','112','103','JL','2019-03-01 00:00:00','10','','1','0'), ('2109','86979474000209','加巴喷丁胶囊（迭力）','0.300g*24粒/盒','35.10','盒','江苏恩华药业股份有限公司','114','101','JBPDJN（DL）','2019-03-01 00:00:00','10','','1','0'), ('2110','86979474000208','复方聚乙二醇(和爽）电解质散(II)','68.560g*1袋/袋','17.63','袋','深圳万和制药有限公司','113','101','FFJYEC(HS）DJZS(II)','2019-03-01 00:00:00','10','','1','0'), ('2111','86979474000208','复方尿囊素片','55mg*60片/盒','0.60','盒','江苏正大丰海制药有限公司','111','101','FFNNSP','2019-03-01 00:00:00','10','','1','0'), ('2112','86979474000209','G噻托溴铵粉雾剂(带吸入器)','18ug*30粒/盒','28.36','盒','正大天晴药业集团股份有限公司','116','101','GZTZZFWJ(DXRQ)','2019-03-01 00:00:00','10','','1','0'), ('2113','86979474000208','氟比洛芬凝胶贴膏','40mg*6贴/盒','24.01','盒','北京泰德制药股份有限公司','146','101','FBLFNJTG','2019-03-01 00:00:00','10','','1','0'), ('2114','86979474000209','重组人Ⅱ型肿瘤坏死因子受体-抗体融合蛋白','25mg*1瓶/瓶','3.60','瓶','上海赛金生物医药有限公司','161','101','ZZRⅡXZLHSYZST-KTRHDB','2019-03-01 00:00:00','10','','1','0'), ('2115','86979474000208','二流苏糖醇','1.000g*1g/瓶','9.92','瓶','','116','101','ELSTC','2019-03-01 00:00:00','10','','1','0'), ('2116','86979474000208','0.9%氯化钠注射液(大冢袋)','250ml*1袋','0.46','袋','中国大冢制药厂','110','101','0.9%LHNZSY(DZD)','2019-03-01 00:00:00','10','','1','0'), ('2117','86979474000209','牡丹皮炭','1000mg/g','7.68','克','','112','103','MDPT','2019-03-01 00:00:00','10','','1','0'), ('2118','86979474000208','氯解磷定注射液','0.500g*5支/盒','37.37','盒','上海旭东海普药业有限公司','110','101','LJLDZSY','2019-03-01 00:00:00','10','','1','0'), ('2119','86979474000209','碳酸镧咀嚼片','500.000mg*20片/盒','9.44','盒','Shire Pharmaceutical Contracts Limited','111','101','TSZJJP','2019-03-01 00:00:00','10','','1','0'), ('2120','86979474000208','美沙拉秦缓释颗粒(艾迪莎)','0.5g*10袋/盒','8.32','盒','上海爱的发制药有限公司','115','101','MSLQHSKL(ADS)','2019-03-01 00:00:00','10','','1','0'), ('2121','86979474000208','加尼瑞克','0.25mg*1支/支','36.04','支','vetter pharma-Fertigung GmbH(Germany)','110','101','JNRK','2019-03-01 00:00:00','10','','1','0'), ('2122','86979474000209','维生素AD(伊可新(0-1))滴剂胶囊','1500:500iu*40粒/盒','86.18','盒','山东达因海洋生物制药股份有限公司','130','101','WSSAD(YKX(0-1))DJJN','2019-03-01 00:00:00','10','','1','0'), ('2123','86979474000208','汉防己甲素片（金康）','20.000mg*12片/盒','21.40','盒','浙江金华康恩贝生物制药有限公司','111','101','HFJJSP（JK）','2019-03-01 00:00:00','10','','1','0'), ('2124','86979474000209','孟鲁司特钠颗粒（顺尔宁）','4.000mg*7袋/盒','0.53','盒','默沙东制药（杭州）有限公司','115','101','MLSTNKL（SEN）','2019-03-01 00:00:00','10','','1','0'), ('2125','86979474000208','盐酸可乐定片','75.000ug*100片/盒','41.39','盒','常州制药厂有限公司','111','101','YSKLDP','2019-03-01 00:00:00','10','','1','0'), ('2126','86979474000208','沙格列汀片（安立泽）','5.00mg*7片/盒','34.54','盒','阿斯利康制药有限公司','111','101','SGLTP（ALZ）','2019-03-01 00:00:00','10','','1','0'), ('2127','86979474000209','注射用门冬酰胺酶(埃希）','10000iu*1瓶/瓶','11.89','瓶','常州千红生化制药股份有限公司','161','101','ZSYMDXAM(AX）','2019-03-01 00:00:00','10','','1','0'), ('2128','86979474000208','5%葡萄糖注射液（大冢软袋）','250ml:12.5g*1袋/袋','5.79','袋','中国大冢制药有限公司','150','101','5%PTTZSY（DZRD）','2019-03-01 00:00:00','10','','1','0'), ('2129','86979474000209','抗人T细胞猪免疫球蛋白','5mL：0.250g*1瓶/瓶','4.38','瓶','武汉生物制品研究所','110','101','KRTXBZMYQDB','2019-03-01 00:00:00','10','','1','0'), ('2130','86979474000208','伏立康唑分散片（复锐）','200.000mg*6片/盒','37.73','盒','扬子江药业集团南京海陵药业','123','101','FLKZFSP（FR）','2019-03-01 00:00:00','10','','1','0'), ('2131','86979474000208','地西泮片','2.500mg*20片/盒','7.65','盒','华中药业股份有限公司','111','101','DXZP','2019-03-01 00:00:00','10','','1','0'), ('2132','86979474000209','曲克芦丁脑蛋白水解物注射液(杏唯)','5ml*1支','2.95','支','吉林四环制药有限公司','110','101','QKLDNDBSJWZSY(XW)','2019-03-01 00:00:00','10','','1','0'), ('2133','86979474000208','巴戟天颗粒 ',' 3g/10g*1袋','9.25','袋','江阴天江药业有限公司','115','102','BZTKL ','2019-03-01 00:00:00','10','','1','0'), ('2134','86979474000209','月季花','1000mg/g','83.36','克','','112','103','YJH','2019-03-01 00:00:00','10','','1','0'), ('2135','86979474000208','肠内营养混悬液(TPF-DM)康全力','500ml*1袋(0.75kal/ml)','52.58','袋','纽迪希亚制药(无锡)有限公司S','136','101','CNYYHXY(TPF-DM)KQL','2019-03-01 00:00:00','10','','1','0'), ('2136','86979474000208','利福平胶囊','0.15g*100粒/瓶','8.13','瓶','沈阳红旗制药有限公司','114','101','LFPJN','2019-03-01 00:00:00','10','','1','0'), ('2137','86979474000209','盐酸布桂嗪注射液（强痛定）','0.100g*10支/盒','28.87','盒','天津金耀药业有限公司','110','101','YSBGZZSY（QTD）','2019-03-01 00:00:00','10','','1','0'), ('2138','86979474000208','淋巴细胞分离液','250.000ml*1瓶/瓶','10.11','瓶','上海九亿','119','101','LBXBFLY','2019-03-01 00:00:00','10','','1','0'), ('2139','86979474000209','川黄口服液','10ml*10支/盒','6.09','盒','四川升和药业股份有限公司','164','102','CHKFY','2019-03-01 00:00:00','10','','1','0'), ('2140','86979474000208','盐酸西那卡塞（盖平）','25.000mg*10片/盒','4.96','盒','协和发酵麒麟株式会社','111','101','YSXNKS（GP）','2019-03-01 00:00:00','10','','1','0'), ('2141','86979474000208','油松节','1000mg/g','6.66','克','','112','103','YSJ','2019-03-01 00:00:00','10','','1','0'), ('2142','86979474000209','生地榆','1000mg/g','7.78','克','','112','103','SDY','2019-03-01 00:00:00','10','','1','0'), ('2143','86979474000208','羊蹄根','1000mg/g','59.04','克','','112','103','YTG','2019-03-01 00:00:00','10','','1','0'), ('2144','86979474000209','藤李根','1000mg/g','64.31','克','','112','103','TLG','2019-03-01 00:00:00','10','','1','0'), ('2145','86979474000208','木馒头','1000mg/g','7.89','克','','112','103','MMT','2019-03-01 00:00:00','10','','1','0'), ('2146','86979474000208','利拉鲁肽注射液（诺和力）','18mg*1支/支','49.43','支','丹麦诺和诺德公司','110','101','LLLZZSY（NHL）','2019-03-01 00:00:00','10','','1','0'), ('2147','86979474000209','注射用盐酸博莱霉素','1.5万单位/支','39.97','支','海正辉瑞制药有限公司','161','101','ZSYYSBLMS','2019-03-01 00:00:00','10','','1','0'), ('2148','86979474000208','醋酸去氨加压素（翰宇）','4ug*1支/支','30.77','支','深圳翰宇药业股份有限公司','110','101','CSQAJYS（HY）','2019-03-01 00:00:00','10','','1','0'), ('2149','86979474000209','青霉素皮试液','1.000iu*2500iu/支','12.52','支','浙江金华康恩贝生物制药有限公司','110','101','QMSPSY','2019-03-01 00:00:00','10','','1','0'), ('2150','86979474000208','甲硝唑片','0.2g*100片/瓶','46.06','瓶','山东齐都药业有限公司','111','101','JXZP','2019-03-01 00:00:00','10','','1','0'), ('2151','86979474000208','氟康唑胶囊（大扶康）','0.150g*1粒/盒','83.69','盒','辉瑞制药','114','101','FKZJN（DFK）','2019-03-01 00:00:00','10','','1','0'), ('2152','86979474000209','法半夏','1000mg/g','3.63','克','四川','112','103','FBX','2019-03-01 00:00:00','10','','1','0'), ('2153','86979474000208','龟板','1000mg/g','48.18','克','江苏','112','103','GB','2019-03-01 00:00:00','10','','1','0'), ('2154','86979474000209','黄柏','1000mg/g','19.21','克','','112','103','HB','2019-03-01 00:00:00','10','','1','0'), ('2155','86979474000208','枯矾','1000mg/g','12.67','克','','112','103','KF','2019-03-01 00:00:00','10','','1','0'), ('2156','86979474000208','马齿苋','1000mg/g','18.19','克',' 江苏','112','103','MCZ','2019-03-01 00:00:00','10','','1','0'), ('2157','86979474000209','田基黄','1000mg/g','22.44','克','','112','103','TJH','2019-03-01 00:00:00','10','','1','0'), ('2158','86979474000208','蜈蚣(净)','1000mg/g','9.72','克','','112','103','ZZ(J)','2019-03-01 00:00:00','10','','1','0'), ('2159','86979474000209','桑椹子','1000mg/g','42.38','克','江苏','112','103','SZZ','2019-03-01 00:00:00','10','','1','0'), ('2160','86979474000208','桑叶','1000mg/g','28.00','克','江苏','112','103','SY','2019-03-01 00:00:00','10','','1','0'), ('2161','86979474000208','注射用异环磷酰胺(匹服平)','1g×1支','3.95','支','江苏恒瑞医药股份有限公司','161','101','ZSYYHLXA(PFP)','2019-03-01 00:00:00','10','','1','0'), ('2162','86979474000209','硝酸毛果芸香碱滴眼液(护明)','5ml:50mg/支','64.80','支','河北永光制药','160','101','XSMGZXJDYY(HM)','2019-03-01 00:00:00','10','','1','0'), ('2163','86979474000208','注射用平阳霉素','8mg×1支','52.06','支','天津太河公司','110','101','ZSYPYMS','2019-03-01 00:00:00','10','','1','0'), ('2164','86979474000209','葡萄糖(注射用)','1000mg/g','3.94','克','潍坊盛泰药业','157','101','PTT(ZSY)','2019-03-01 00:00:00','10','','1','0'), ('2165','86979474000208','葡萄糖氯化钠注射液(塑瓶)','5%500ml×1瓶','32.74','瓶','中国大冢制药有限公司','110','101','PTTLHNZSY(SP)','2019-03-01 00:00:00','10','','1','0'), ('2166','86979474000208','依诺肝素钠注射液(克赛)','0.4ml:4000iu×1支','8.00','支','赛诺菲(北京)制药有限公司','110','101','YNGSNZSY(KS)','2019-03-01 00:00:00','10','','1','0'), ('2167','86979474000209','尼莫地平注射液(尼莫同)','50ml:10mg×1瓶','30.15','瓶','拜耳医药保健有限公司','110','101','NMDPZSY(NMT)','2019-03-01 00:00:00','10','','1','0'), ('2168','86979474000208','尿  素','250g×1瓶','6.08','瓶','','157','101','N  S','2019-03-01 00:00:00','10','','1','0'), ('2169','86979474000209','乳果糖口服溶液（杜密克）','200.000ml*1瓶/瓶','19.36','瓶','雅培贸易（上海）有限公司','164','101','RGTKFRY（DMK）','2019-03-01 00:00:00','10','','1','0'), ('2170','86979474000208','重酒石酸间羟胺注射液','10.000mg*1支/支','62.11','支','北京市永康药业有限公司','110','101','ZJSSJQAZSY','2019-03-01 00:00:00','10','','1','0'), ('2171','86979474000208','蜣螂虫','1只','6.91','只','','112','103','ZZC','2019-03-01 00:00:00','10','','1','0'), ('2172','86979474000209','卷柏','1000mg/g','11.50','克','','112','103','JB','2019-03-01 00:00:00','10','','1','0'), ('2173','86979474000208','石楠叶','1000mg/g','5.79','克','','112','103','SZY','2019-03-01 00:00:00','10','','1','0'), ('2174','86979474000209','炒冬瓜子','1000mg/g','27.14','克','','112','103','CDGZ','2019-03-01 00:00:00','10','','1','0'), ('2175','86979474000208','鲁沃夫TM邻苯二甲醛消毒剂','400ml*1瓶/瓶','50.99','瓶','','151','101','LWFTMLBEJQXDJ','2019-03-01 00:00:00','10','','1','0'), ('2176','86979474000208','2%葡萄糖洗必泰皮肤消毒液(葡泰牌)','65ml*1瓶','2.94','瓶','上海利康消毒高科技有限公司','142','101','2%PTTXBTPFXDY(PTP)','2019-03-01 00:00:00','10','','1','0'), ('2177','86979474000209','制川乌颗粒 ','0.500g*1袋/袋','19.89','袋','江阴天江药业有限公司','115','102','ZCWKL ','2019-03-01 00:00:00','10','','1','0'), ('2178','86979474000208','舒眠胶囊','0.400g*36粒/盒','5.48','盒','贵州大隆药业有限公司','114','102','SMJN','2019-03-01 00:00:00','10','','1','0'), ('2179','86979474000209','黄体酮注射液','10.000mg*10支/盒','16.74','盒','天津金耀药业有限公司','110','101','HTTZSY','2019-03-01 00:00:00','10','','1','0'), ('2180','86979474000208','氨茶碱注射液','2ml:0.250g*10支/盒','20.72','盒','河南润弘制药股份有限公司','110','101','ACJZSY','2019-03-01 00:00:00','10','','1','0'), ('2181','86979474000208','硝苯地平片','10mg*100片/瓶','35.89','瓶','华中药业股份有限公司','111','101','XBDPP','2019-03-01 00:00:00','10','','1','0'), ('2182','86979474000209','速效救心丸','40mg*150粒/盒','67.74','盒','天津中新药业集团股份有限公司','163','102','SXJXW','2019-03-01 00:00:00','10','','1','0'), ('2183','86979474000208','富马酸酮替芬分散片(瑞那替)','1mg*24片/盒','0.04','盒','山东绿因药业有限公司','123','101','FMSTTFFSP(RNT)','2019-03-01 00:00:00','10','','1','0'), ('2184','86979474000209','荆花胃康胶丸','80mg*30粒/盒','6.82','盒','天士力医药集团股份有限公司','163','102','JHWKJW','2019-03-01 00:00:00','10','','1','0'), ('2185','86979474000208','射干颗粒 ','1.5g/6g*1袋','52.56','袋','江阴天江药业有限公司','115','102','SGKL ','2019-03-01 00:00:00','10','','1','0'), ('2186','86979474000208','伸筋草颗粒 ',' 1g/15g*1袋','0.02','袋','江阴天江药业有限公司','115','102','SJCKL ','2019-03-01 00:00:00','10','','1','0'), ('2187','86979474000209','升麻颗粒 ',' 0.5g/6g*1袋','38.13','袋','江阴天江药业有限公司','115','102','SMKL ','2019-03-01 00:00:00','10','','1','0'), ('2188','86979474000208','生大黄颗粒 ',' 1g/3g*1袋','52.79','袋','江阴天江药业有限公司','115','102','SDHKL ','2019-03-01 00:00:00','10','','1','0'), ('2189','86979474000209','生地黄颗粒 ',' 3g/10g*1袋','41.89','袋','江阴天江药业有限公司','115','102','SDHKL ','2019-03-01 00:00:00','10','','1','0'), ('2190','86979474000208','生黄芪颗粒 ','1.5g/10g*1袋','38.33','袋','江阴天江药业有限公司','115','102','SHZKL ','2019-03-01 00:00:00','10','','1','0'), ('2191','86979474000208','生黄芩颗粒 ',' 2g/10g*1袋','8.64','袋','江阴天江药业有限公司','115','102','SHZKL ','2019-03-01 00:00:00','10','','1','0'), ('2192','86979474000209','生山楂颗粒 ',' 3g/10g*1袋','37.60','袋','江阴天江药业有限公司','115','102','SSZKL ','2019-03-01 00:00:00','10','','1','0'), ('2193','86979474000208','生山栀颗粒 ',' 1g/10g*1袋','69.20','袋','江阴天江药业有限公司','115','102','SSZKL ','2019-03-01 00:00:00','10','','1','0'), ('2194','86979474000209','生苡仁颗粒 ',' 0.5g/10g*1袋','29.23','袋','江阴天江药业有限公司','115','102','SZRKL ','2019-03-01 00:00:00','10','','1','0'), ('2195','86979474000208','石菖蒲颗粒 ',' 1g/6g*1袋','7.90','袋','江阴天江药业有限公司','115','102','SZPKL ','2019-03-01 00:00:00','10','','1','0'), ('2196','86979474000208','石膏颗粒 ','0.500g*1袋/袋','19.56','袋','江阴天江药业有限公司','115','102','SGKL ','2019-03-01 00:00:00','10','','1','0'), ('2197','86979474000209','石斛颗粒 ','0.5g/10g*1袋','9.95','袋','江阴天江药业有限公司','115','102','SHKL ','2019-03-01 00:00:00','10','','1','0'), ('2198','86979474000208','石见穿颗粒 ','1.5g/15g*1袋','96.00','袋','江阴天江药业有限公司','115','102','SJCKL ','2019-03-01 00:00:00','10','','1','0'), ('2199','86979474000209','荧光素钠注射液(历设得)','0.5g：5ml*1支','66.77','支','Alcon Laboratories,Inc 美国','110','101','YGSNZSY(LSD)','2019-03-01 00:00:00','10','','1','0'), ('2200','86979474000208','伊马替尼（昕维）','0.100g*60片/盒','70.27','盒','江苏豪盛药业股份有限公司','111','101','YMTN（ZW）','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('2201','86979474000208','铝碳酸镁片(达喜)','500mg×20片/盒','2.19','盒','拜耳医药保健有限公司','111','101','LTSMP(DX)','2019-03-01 00:00:00','10','','1','0'), ('2202','86979474000209','阿奇霉素片(希舒美)','0.25g×6片/盒','82.20','盒','辉瑞制药有限公司','111','101','AQMSP(XSM)','2019-03-01 00:00:00','10','','1','0'), ('2203','86979474000208','卡左双多巴缓释片(息宁)','250mg×30片/盒','22.45','盒','默沙东制药（杭州）有限公司','111','101','KZSDBHSP(XN)','2019-03-01 00:00:00','10','','1','0'), ('2204','86979474000209','甘油果糖氯化钠(天晴甘安)注射液','250ml×1袋','47.63','袋','南京正大天晴制药有限公司','110','101','GYGTLHN(TQGA)ZSY','2019-03-01 00:00:00','10','','1','0'), ('2205','86979474000208','甘露醇注射液','250ml:50g×1袋(三层共挤）','1.41','袋','上海百特医疗用品有限公司','110','101','GLCZSY','2019-03-01 00:00:00','10','','1','0'), ('2206','86979474000208','甘露醇注射液','250ml*1瓶','69.49','瓶','华润双鹤药业股份有限公司','110','101','GLCZSY','2019-03-01 00:00:00','10','','1','0'), ('2207','86979474000209','甲硝唑氯化钠注射液','100ml*1瓶*0.5%','16.44','瓶','四川科伦药业股份有限公司','110','101','JXZLHNZSY','2019-03-01 00:00:00','10','','1','0'), ('2208','86979474000208','华法林钠片','3.000mg*100片/瓶','8.27','瓶','芬兰奥立安药厂S','111','101','HFLNP','2019-03-01 00:00:00','10','','1','0'), ('2209','86979474000209','琥珀酸亚铁缓释片（速力菲）','0.200g*24片/盒','22.98','盒','金陵药业股份有限公司南京金陵制药厂','111','102','ZZSYTHSP（SLF）','2019-03-01 00:00:00','10','','1','0'), ('2210','86979474000208','托伐普坦片（苏麦卡）','15.000mg*5片/盒','39.58','盒','大冢（浙江）制药有限公司','111','101','TFPTP（SMK）','2019-03-01 00:00:00','10','','1','0'), ('2211','86979474000208','盐酸帕罗西汀片（乐友）','20.000mg*20片/盒','32.51','盒','浙江华海','111','101','YSPLXTP（LY）','2019-03-01 00:00:00','10','','1','0'), ('2212','86979474000209','石榴皮颗粒',' 2g/10g*1袋','56.04','袋','江阴天江药业有限公司','115','102','SLPKL','2019-03-01 00:00:00','10','','1','0'), ('2213','86979474000208','石韦颗粒 ',' 1g/10g*1袋','7.77','袋','江阴天江药业有限公司','115','102','SWKL ','2019-03-01 00:00:00','10','','1','0'), ('2214','86979474000209','熟地黄颗粒 ',' 4g/10g*1袋','24.30','袋','江阴天江药业有限公司','115','102','SDHKL ','2019-03-01 00:00:00','10','','1','0'), ('2215','86979474000208','水牛角颗粒 ',' 0.5g/15g*1袋','60.59','袋','江阴天江药业有限公司','115','102','SNJKL ','2019-03-01 00:00:00','10','','1','0'), ('2216','86979474000208','水蛭颗粒 ',' 0.5g/3g*1袋','3.60','袋','江阴天江药业有限公司','115','102','SZKL ','2019-03-01 00:00:00','10','','1','0'), ('2217','86979474000209','丝瓜络颗粒 ',' 0.5g/10g*1袋','20.04','袋','江阴天江药业有限公司','115','102','SGLKL ','2019-03-01 00:00:00','10','','1','0'), ('2218','86979474000208','酸枣仁颗粒 ','0.5g/10g*1袋','61.10','袋','江阴天江药业有限公司','115','102','SZRKL ','2019-03-01 00:00:00','10','','1','0'), ('2219','86979474000209','锁阳颗粒 ','3g/10g*1袋','27.52','袋','江阴天江药业有限公司','115','102','SYKL ','2019-03-01 00:00:00','10','','1','0'), ('2220','86979474000208','太子参颗粒 ',' 1.5g/10g*1袋','7.57','袋','江阴天江药业有限公司','115','102','TZCKL ','2019-03-01 00:00:00','10','','1','0'), ('2221','86979474000208','枸橼酸钠抗凝剂','8g：200ml*1袋','7.96','袋','四川南格尔生物医学股份有限公司','110','101','ZZSNKNJ','2019-03-01 00:00:00','10','','1','0'), ('2222','86979474000209','地高辛片(可力）','0.250mg*30片/盒','5.38','盒','赛诺菲（杭州）制药有限公司','111','101','DGXP(KL）','2019-03-01 00:00:00','10','','1','0'), ('2223','86979474000208','川贝母颗粒 ',' 3g/3g*1袋','36.33','袋','江阴天江药业有限公司','115','102','CBMKL ','2019-03-01 00:00:00','10','','1','0'), ('2224','86979474000209','川楝子颗粒 ','1.5g/10g*1袋','12.28','袋','江阴天江药业有限公司','115','102','CZZKL ','2019-03-01 00:00:00','10','','1','0'), ('2225','86979474000208','川牛膝颗粒 ','3g/10g*1袋','16.18','袋','江阴天江药业有限公司','115','102','CNXKL ','2019-03-01 00:00:00','10','','1','0'), ('2226','86979474000208','川芎颗粒',' 2g/6g*1袋','16.65','袋','江阴天江药业有限公司','115','102','CZKL','2019-03-01 00:00:00','10','','1','0'), ('2227','86979474000209','垂盆草颗粒','1.5g/15g*1袋','20.29','袋','江阴天江药业有限公司','115','102','CPCKL','2019-03-01 00:00:00','10','','1','0'), ('2228','86979474000208','椿根皮颗粒 ',' 0.5g/10g*1袋','0.91','袋','江阴天江药业有限公司','115','102','CGPKL ','2019-03-01 00:00:00','10','','1','0'), ('2229','86979474000209','醋鳖甲颗粒 ',' 0.5g/10g*1袋','21.10','袋','江阴天江药业有限公司','115','102','CBJKL ','2019-03-01 00:00:00','10','','1','0'), ('2230','86979474000208','醋煅紫石英颗粒 ',' 0.5g/15g*1袋','56.94','袋','江阴天江药业有限公司','115','102','CZZSYKL ','2019-03-01 00:00:00','10','','1','0'), ('2231','86979474000208','醋五灵脂颗粒 ',' 0.5g/10g*1袋','31.99','袋','江阴天江药业有限公司','115','102','CWLZKL ','2019-03-01 00:00:00','10','','1','0'), ('2232','86979474000209','大腹皮颗粒 ','0.5g/10g*1袋','43.36','袋','江阴天江药业有限公司','115','102','DFPKL ','2019-03-01 00:00:00','10','','1','0'), ('2233','86979474000208','肾康注射液','20.000ml*1支/支','0.52','支','西安世纪','110','101','SKZSY','2019-03-01 00:00:00','10','','1','0'), ('2234','86979474000209','喷他佐辛注射液','30.000mg：1ml*1支/支','5.58','支','合肥华润神鹿药业有限公司','110','101','PTZXZSY','2019-03-01 00:00:00','10','','1','0'), ('2235','86979474000208','小牛血清去蛋白注射液（奥德金）','10ml：0.400g*1支/支','13.12','支','锦州奥鸿药业有限责任公司','110','101','XNXQQDBZSY（ADJ）','2019-03-01 00:00:00','10','','1','0'), ('2236','86979474000208','糠酸莫米松鼻喷雾剂（内舒拿）','50.000ug*60揿/支','15.53','支','默沙东制药','143','101','KSMMSBPWJ（NSN）','2019-03-01 00:00:00','10','','1','0'), ('2237','86979474000209','注射用白眉蛇毒血凝酶（邦亭）','2000.000u*1支/支','31.85','支','锦州奥鸿药业有限责任公司','161','101','ZSYBMSDXNM（BT）','2019-03-01 00:00:00','10','','1','0'), ('2238','86979474000208','氨基酸注射液(洛安命)','250ml:12.5g(总氨基酸)*1瓶/瓶','18.34','瓶','广东利泰制药股份有限公司','110','101','AJSZSY(LAM)','2019-03-01 00:00:00','10','','1','0'), ('2239','86979474000209','酒石酸布托啡诺注射液（诺扬）','1.000mg：1ml*1瓶/瓶','14.65','瓶','江苏恒瑞医药有限公司','110','101','JSSBTFNZSY（NY）','2019-03-01 00:00:00','10','','1','0'), ('2240','86979474000208','注射用盐酸丙帕他莫(锡妥)','2.000g*1瓶/瓶','23.04','瓶','瑞阳制药有限公司','161','101','ZSYYSBPTM(XT)','2019-03-01 00:00:00','10','','1','0'), ('2241','86979474000208','注射用醋酸亮丙瑞林微球（贝依）','3.750mg(附助悬剂2ml)*1支/支','7.81','支','','161','101','ZSYCSLBRLWQ（BY）','2019-03-01 00:00:00','10','','1','0'), ('2242','86979474000209','北沙参颗粒','2.0g/10g/袋','42.00','袋','','115','102','BSCKL','2019-03-01 00:00:00','10','','1','0'), ('2243','86979474000208','南沙参颗粒','2g/10g/袋','10.87','袋','','115','102','NSCKL','2019-03-01 00:00:00','10','','1','0'), ('2244','86979474000209','麦冬颗粒','3g/10g/袋','5.71','袋','','115','102','MDKL','2019-03-01 00:00:00','10','','1','0'), ('2245','86979474000208','浙贝母颗粒','1g/10g/袋','62.82','袋','','115','102','ZBMKL','2019-03-01 00:00:00','10','','1','0'), ('2246','86979474000208','连翘颗粒','0.5g/10g/袋','7.03','袋','','115','102','LQKL','2019-03-01 00:00:00','10','','1','0'), ('2247','86979474000209','金银花颗粒','2g/10g/袋','3.07','袋','','115','102','JYHKL','2019-03-01 00:00:00','10','','1','0'), ('2248','86979474000208','淡豆豉颗粒','0.5g/10g/袋','4.36','袋','','115','102','DDGKL','2019-03-01 00:00:00','10','','1','0'), ('2249','86979474000209','复方芦丁片','20/50mg*100片/瓶','20.97','瓶','江苏亚邦爱普森药业有限公司','111','101','FFLDP','2019-03-01 00:00:00','10','','1','0'), ('2250','86979474000208','盐酸哌甲酯缓释片(专注达)','18mg×15片/瓶','53.56','瓶','美国ALZA(西安杨森制药代理)S','152','101','YSZJHSP(ZZD)','2019-03-01 00:00:00','10','','1','0'), ('2251','86979474000208','溴酸鉀(AR)','500g×1瓶','76.76','瓶','','157','101','ZSZ(AR)','2019-03-01 00:00:00','10','','1','0'), ('2252','86979474000209','丹皮','1000mg/g','1.80','克','江苏','112','103','DP','2019-03-01 00:00:00','10','','1','0'), ('2253','86979474000208','当归','1000mg/g','3.20','克','甘肃','112','103','DG','2019-03-01 00:00:00','10','','1','0'), ('2254','86979474000209','盐酸曲美他嗪缓释片（万爽力）','35.000mg*30片/盒','43.68','盒','施维雅(天津)制药有限公司S','111','101','YSQMTZHSP（WSL）','2019-03-01 00:00:00','10','','1','0'), ('2255','86979474000208','尼麦角林片（乐喜林）','5.000mg*60片/盒','3.70','盒','昆山龙灯瑞迪制药有限公司','111','101','NMJLP（LXL）','2019-03-01 00:00:00','10','','1','0'), ('2256','86979474000208','单唾液酸四己糖神经节苷脂钠(赛典)注射液','5ml：100.000mg*1支/支','71.63','支','北京赛升药业股份有限公司','110','101','DTYSSJTSJJZZN(SD)ZSY','2019-03-01 00:00:00','10','','1','0'), ('2257','86979474000209','中/长链脂肪乳（力邦特）注射液（C8-24Ve）','250ml:25g:25g：3g：6.25g*1瓶/瓶','56.88','瓶','西安力邦','110','101','Z/CLZFR（LBT）ZSY（C8-24Ve）','2019-03-01 00:00:00','10','','1','0'), ('2258','86979474000208','盐酸帕洛诺司琼胶囊（若善）','0.500mg*3片/盒','31.85','盒','正大天晴药业集团股份有限公司','111','101','YSPLNSQJN（RS）','2019-03-01 00:00:00','10','','1','0'), ('2259','86979474000209','脂肪乳氨基酸(17)(卡全)葡萄糖(19%)注射液','1026.000ml*1袋/袋','65.64','袋','费森尤斯卡比','110','101','ZFRAJS(17)(KQ)PTT(19%)ZSY','2019-03-01 00:00:00','10','','1','0'), ('2260','86979474000208','多种微量元素注射液(Ⅰ)','10.000ml*1支/支','38.32','支','百正药业股份有限公司','110','101','DZWLYSZSY(Ⅰ)','2019-03-01 00:00:00','10','','1','0'), ('2261','86979474000208','曲克芦丁脑蛋白水解物注射液','10ml400mg曲克芦丁，5mg总氮*1支','47.00','支','吉林四环制药有限公司','110','101','QKLDNDBSJWZSY','2019-03-01 00:00:00','10','','1','0'), ('2262','86979474000209','蚓激酶肠溶胶囊（百奥）','30.000万单位*30粒/盒','64.35','盒','北京百奥药业有限责任公司','114','101','ZJMCRJN（BA）','2019-03-01 00:00:00','10','','1','0'), ('2263','86979474000208','甘草酸二铵肠溶胶囊（天晴甘平）','50.000mg*63粒/瓶','29.92','瓶','正大天晴药业集团股份有限公司','111','101','GCSEZCRJN（TQGP）','2019-03-01 00:00:00','10','','1','0'), ('2264','86979474000209','盐酸美金刚片（邦得清）','10.000mg*24片/盒','79.44','盒','珠海联邦制药有限公司','111','101','YSMJGP（BDQ）','2019-03-01 00:00:00','10','','1','0'), ('2265','86979474000208','尼卡地平(佩尔)注射液','10mg*10支/盒','57.55','盒','安斯泰来制药(中国)有限公司','110','101','NKDP(PE)ZSY','2019-03-01 00:00:00','10','','1','0'), ('2266','86979474000208','丹参颗粒 ',' 2g/10g*1袋','57.37','袋','江阴天江药业有限公司','115','102','DCKL ','2019-03-01 00:00:00','10','','1','0'), ('2267','86979474000209','胆南星颗粒 ','0.5g/6g*1袋','63.32','袋','江阴天江药业有限公司','115','102','DNXKL ','2019-03-01 00:00:00','10','','1','0'), ('2268','86979474000208','淡豆豉颗粒 ',' 0.5g/10g*1袋','68.40','袋','江阴天江药业有限公司','115','102','DDGKL ','2019-03-01 00:00:00','10','','1','0'), ('2269','86979474000209','淡竹叶颗粒 ',' 0.5g/10g*1袋','55.91','袋','江阴天江药业有限公司','115','102','DZYKL ','2019-03-01 00:00:00','10','','1','0'), ('2270','86979474000208','当归颗粒 ','4g/10g*1袋','45.51','袋','江阴天江药业有限公司','115','102','DGKL ','2019-03-01 00:00:00','10','','1','0'), ('2271','86979474000208','党参颗粒 ',' 3g/10g*1袋','16.23','袋','江阴天江药业有限公司','115','102','DCKL ','2019-03-01 00:00:00','10','','1','0'), ('2272','86979474000209','地肤子颗粒 ',' 0.5g/10g*1袋','19.68','袋','江阴天江药业有限公司','115','102','DFZKL ','2019-03-01 00:00:00','10','','1','0'), ('2273','86979474000208','地骨皮颗粒',' 1g/10g*1袋','56.05','袋','江阴天江药业有限公司','115','102','DGPKL','2019-03-01 00:00:00','10','','1','0'), ('2274','86979474000209','地榆颗粒',' 1g/10g*1袋','40.26','袋','江阴天江药业有限公司','115','102','DYKL','2019-03-01 00:00:00','10','','1','0'), ('2275','86979474000208','重组人粒细胞(里亚尔)巨噬细胞刺激因子','150ug*1支','17.94','支','哈药集团生物工程有限公司','110','101','ZZRLXB(LYE)JSXBCJYZ','2019-03-01 00:00:00','10','','1','0'), ('2276','86979474000208','蛇床子颗粒 ',' 1g/10g*1袋','3.63','袋','江阴天江药业有限公司','115','102','SCZKL ','2019-03-01 00:00:00','10','','1','0'), ('2277','86979474000209','檀香颗粒 ',' 0.5g/3g*1袋','49.00','袋','江阴天江药业有限公司','115','102','TXKL ','2019-03-01 00:00:00','10','','1','0'), ('2278','86979474000208','桃仁颗粒 ',' 1g/10g*1袋','27.31','袋','江阴天江药业有限公司','115','102','TRKL ','2019-03-01 00:00:00','10','','1','0'), ('2279','86979474000209','艾叶颗粒 ',' 1g/10g*1袋','46.21','袋','江阴天江药业有限公司','115','102','AYKL ','2019-03-01 00:00:00','10','','1','0'), ('2280','86979474000208','艾叶炭颗粒 ',' 1g/10g*1袋','73.49','袋','江阴天江药业有限公司','115','102','AYTKL ','2019-03-01 00:00:00','10','','1','0'), ('2281','86979474000208','白英颗粒 ',' 1g/15g*1袋','1.42','袋','江阴天江药业有限公司','115','102','BYKL ','2019-03-01 00:00:00','10','','1','0'), ('2282','86979474000209','萆薢颗粒 ',' 0.5g/10g*1袋','8.39','袋','江阴天江药业有限公司','115','102','ZSKL ','2019-03-01 00:00:00','10','','1','0'), ('2283','86979474000208','萹蓄颗粒',' 1g/15g*1袋','16.36','袋','江阴天江药业有限公司','115','102','QXKL','2019-03-01 00:00:00','10','','1','0'), ('2284','86979474000209','藏青果颗粒 ',' 2g/10g*1袋','59.90','袋','江阴天江药业有限公司','115','102','CQGKL ','2019-03-01 00:00:00','10','','1','0'), ('2285','86979474000208','侧柏叶炭颗粒 ',' 1g/10g*1袋','27.53','袋','江阴天江药业有限公司','115','102','CBYTKL ','2019-03-01 00:00:00','10','','1','0'), ('2286','86979474000208','L-谷氨酰胺呱仑酸钠颗颗粒(麦滋林)','0.67g×15袋/包','0.24','包','寿制药株式会社','115','102','L-GAXAZLSNKKL(MZL)','2019-03-01 00:00:00','10','','1','0'), ('2287','86979474000209','柯子','1000mg/g','13.67','克','贵州','112','103','KZ','2019-03-01 00:00:00','10','','1','0'), ('2288','86979474000208','扣仁','1000mg/g','4.09','克','进口','112','103','KR','2019-03-01 00:00:00','10','','1','0'), ('2289','86979474000209','苦参','1000mg/g','0.52','克','安徽','112','103','KC','2019-03-01 00:00:00','10','','1','0'), ('2290','86979474000208','硝酸甘油注射液','5mg×10支/盒','37.74','盒','广州白云山明兴制药有限公司','110','101','XSGYZSY','2019-03-01 00:00:00','10','','1','0'), ('2291','86979474000208','兰油烃油膏','25g×1瓶','0.33','瓶','上海嘉福香料厂','157','101','LYTYG','2019-03-01 00:00:00','10','','1','0'), ('2292','86979474000209','复方氨基酸(乐凡命）18AA-II注射液','8.5%250ml×1瓶','51.50','瓶','华瑞制药有限公司','110','101','FFAJS(LFM）18AA-IIZSY','2019-03-01 00:00:00','10','','1','0'), ('2293','86979474000208','注射用炎琥宁','80mg×1支','25.31','支','重庆药友制药有限公司','110','101','ZSYYZN','2019-03-01 00:00:00','10','','1','0'), ('2294','86979474000209','胶体果胶铋胶囊','50mg×30粒/盒','3.85','盒','山西振东安特生物制药有限公司','114','102','JTGJZJN','2019-03-01 00:00:00','10','','1','0'), ('2295','86979474000208','盐酸哌替啶注射液','0.05g×1支','30.61','支','青海制药厂有限公司','110','101','YSZTZZSY','2019-03-01 00:00:00','10','','1','0'), ('2296','86979474000208','党参','1000mg/g','13.89','克','山西普德药业股份有限公司','112','103','DC','2019-03-01 00:00:00','10','','1','0'), ('2297','86979474000209','地鳖虫','1000mg/g','17.01','克','江苏','112','103','DBC','2019-03-01 00:00:00','10','','1','0'), ('2298','86979474000208','地丁','1000mg/g','0.50','克',' 江苏','112','103','DD','2019-03-01 00:00:00','10','','1','0'), ('2299','86979474000209','地肤子','1000mg/g','0.30','克','','112','103','DFZ','2019-03-01 00:00:00','10','','1','0'), ('2300','86979474000208','羟苯乙酯','500g×1瓶','26.13','瓶','广东台山','157','101','QBYZ','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('2301','86979474000208','桑枝','1000mg/g','26.73','克',' 江苏','112','103','SZ','2019-03-01 00:00:00','10','','1','0'), ('2302','86979474000209','沙苑子','1000mg/g','12.42','克','陕西','112','103','SYZ','2019-03-01 00:00:00','10','','1','0'), ('2303','86979474000208','全虫','1000mg/g','49.71','克','山东','112','103','QC','2019-03-01 00:00:00','10','','1','0'), ('2304','86979474000209','盐酸乌拉地尔注射液(亚宁定)','25mg×1支','7.85','支','德国百克顿药厂','110','101','YSWLDEZSY(YND)','2019-03-01 00:00:00','10','','1','0'), ('2305','86979474000208','LB鸦胆子油乳注射液','10ml×1支','49.53','支','江苏九旭药业有限公司','110','101','LBYDZYRZSY','2019-03-01 00:00:00','10','','1','0'), ('2306','86979474000208','葛根素葡萄糖注射液(普润)','0.5g×250ml/瓶','87.41','瓶','南京正大天晴制药有限公司','110','101','GGSPTTZSY(PR)','2019-03-01 00:00:00','10','','1','0'), ('2307','86979474000209','七氟烷针(喜保福宁)','250ml×1瓶','44.32','瓶','日本丸石制药株式会社','110','101','QFWZ(XBFN)','2019-03-01 00:00:00','10','','1','0'), ('2308','86979474000208','九香虫','1000mg/g','56.89','克','','112','103','JXC','2019-03-01 00:00:00','10','','1','0'), ('2309','86979474000209','前列通胶囊','0.380g*36粒/盒','12.77','盒','陕西东泰制药有限公司','114','101','QLTJN','2019-03-01 00:00:00','10','','1','0'), ('2310','86979474000208','野马追','10g/袋','19.51','袋','','112','103','YMZ','2019-03-01 00:00:00','10','','1','0'), ('2311','86979474000208','米格列醇片','50mg*30片/盒','14.84','盒','浙江医药股份有限公司新昌制药厂','111','101','MGLCP','2019-03-01 00:00:00','10','','1','0'), ('2312','86979474000209','盐酸曲唑酮片','50mg*20片/盒','39.95','盒','沈阳福宁药业有限公司','111','101','YSQZTP','2019-03-01 00:00:00','10','','1','0'), ('2313','86979474000208','钆贝葡胺注射液(莫迪司)','15ml:7.935g*1瓶/盒','21.86','盒','上海博莱科信谊药业有限责任公司','110','101','ZBPAZSY(MDS)','2019-03-01 00:00:00','10','','1','0'), ('2314','86979474000209','枸橼酸氢钾钠颗粒（逍適柠）','2.5g*40袋/盒','6.86','盒','武汉维奥制药有限公司','115','101','ZZSQJNKL（ZZN）','2019-03-01 00:00:00','10','','1','0'), ('2315','86979474000208','奥美沙坦酯氢氯噻嗪片(复傲坦)','20mg/12.5mg*7片/盒','59.35','盒','第一三共制药（上海）有限公司','111','101','AMSTQLZZP(FAT)','2019-03-01 00:00:00','10','','1','0'), ('2316','86979474000208','匹伐他汀钙片(力清之)','2mg*7片/盒','17.17','盒','兴和株式会社','111','101','PFTTGP(LQZ)','2019-03-01 00:00:00','10','','1','0'), ('2317','86979474000209','匹伐他汀钙片（以清）','1mg*7片/盒','21.18','盒','山东齐都药业有限公司','111','101','PFTTGP（YQ）','2019-03-01 00:00:00','10','','1','0'), ('2318','86979474000208','盐酸伊伐布雷定片(可兰特)','5mg*14片/盒','50.29','盒','施维雅（法国）药厂  施维雅(天津)分装','111','101','YSYFBLDP(KLT)','2019-03-01 00:00:00','10','','1','0'), ('2319','86979474000209','复方曲肽注射液','2ml*1支/支','18.01','支','吉林步长制药有限公司','110','101','FFQZZSY','2019-03-01 00:00:00','10','','1','0'), ('2320','86979474000208','地衣芽孢杆菌活菌胶囊','0.25g*36粒/瓶','49.63','瓶','东北制药集团沈阳第一制药厂','114','102','DYYZGJHJJN','2019-03-01 00:00:00','10','','1','0'), ('2321','86979474000208','门冬氨酸钾(卫甲)注射液','20ml:3.424g*1支','42.43','支','辽宁药联制药有限公司','110','101','MDASJ(WJ)ZSY','2019-03-01 00:00:00','10','','1','0'), ('2322','86979474000209','益母草颗粒 ',' 1g/15g*1袋','10.81','袋','江阴天江药业有限公司','115','102','YMCKL ','2019-03-01 00:00:00','10','','1','0'), ('2323','86979474000208','大蓟颗粒 ',' 1.5g/15g*1袋','14.65','袋','江阴天江药业有限公司','115','102','DJKL ','2019-03-01 00:00:00','10','','1','0'), ('2324','86979474000209','大青叶颗粒 ',' 3g/15g*1袋','2.45','袋','江阴天江药业有限公司','115','102','DQYKL ','2019-03-01 00:00:00','10','','1','0'), ('2325','86979474000208','地榆炭颗粒 ',' 1g/10g*1袋','36.71','袋','江阴天江药业有限公司','115','102','DYTKL ','2019-03-01 00:00:00','10','','1','0'), ('2326','86979474000208','丁香颗粒 ',' 0.5g/3g*1袋','23.23','袋','江阴天江药业有限公司','115','102','DXKL ','2019-03-01 00:00:00','10','','1','0'), ('2327','86979474000209','番泻叶颗粒 ','1g/1g*1袋','6.07','袋','江阴天江药业有限公司','115','102','FXYKL ','2019-03-01 00:00:00','10','','1','0'), ('2328','86979474000208','蜂房颗粒 ',' 0.5g/10g*1袋','26.46','袋','江阴天江药业有限公司','115','102','FFKL ','2019-03-01 00:00:00','10','','1','0'), ('2329','86979474000209','骨碎补颗粒 ',' 0.5g/10g*1袋','2.45','袋','江阴天江药业有限公司','115','102','GSBKL ','2019-03-01 00:00:00','10','','1','0'), ('2330','86979474000208','海金沙颗粒',' 0.5g/15g*1袋','65.32','袋','江阴天江药业有限公司','115','102','HJSKL','2019-03-01 00:00:00','10','','1','0'), ('2331','86979474000208','海螵蛸颗粒',' 0.5g/10g*1袋','23.77','袋','江阴天江药业有限公司','115','102','HpZKL','2019-03-01 00:00:00','10','','1','0'), ('2332','86979474000209','诃子颗粒 ',' 1.5g/10g*1袋','13.58','袋','江阴天江药业有限公司','115','102','ZZKL ','2019-03-01 00:00:00','10','','1','0'), ('2333','86979474000208','冬瓜皮颗粒 ',' 0.5g/10g*1袋','5.26','袋','江阴天江药业有限公司','115','102','DGPKL ','2019-03-01 00:00:00','10','','1','0'), ('2334','86979474000209','独活颗粒 ',' 3g/10g*1袋','16.26','袋','江阴天江药业有限公司','115','102','DHKL ','2019-03-01 00:00:00','10','','1','0'), ('2335','86979474000208','杜仲颗粒 ',' 1g/10g*1袋','1.35','袋','江阴天江药业有限公司','115','102','DZKL ','2019-03-01 00:00:00','10','','1','0'), ('2336','86979474000208','煅磁石颗粒 ','0.5g/30g*1袋','13.99','袋','江阴天江药业有限公司','115','102','ZCSKL ','2019-03-01 00:00:00','10','','1','0'), ('2337','86979474000209','煅龙骨颗粒 ',' 0.5g/30g*1袋','4.74','袋','江阴天江药业有限公司','115','102','ZLGKL ','2019-03-01 00:00:00','10','','1','0'), ('2338','86979474000208','煅牡蛎颗粒 ','0.5g/30g*1袋','33.64','袋','江阴天江药业有限公司','115','102','ZMZKL ','2019-03-01 00:00:00','10','','1','0'), ('2339','86979474000209','煅赭石颗粒 ',' 0.5g/30g*1袋','15.24','袋','江阴天江药业有限公司','115','102','ZSKL ','2019-03-01 00:00:00','10','','1','0'), ('2340','86979474000208','醋莪术颗粒 ',' 0.5g/10g*1袋','2.38','袋','江阴天江药业有限公司','115','102','CZSKL ','2019-03-01 00:00:00','10','','1','0'), ('2341','86979474000208','法半夏颗粒 ','0.5g/6g*1袋','26.24','袋','江阴天江药业有限公司','115','102','FBXKL ','2019-03-01 00:00:00','10','','1','0'), ('2342','86979474000209','盐酸哌替啶注射液','0.1g×1支','54.92','支','青海制药厂有限公司','110','101','YSZTZZSY','2019-03-01 00:00:00','10','','1','0'), ('2343','86979474000208','对苯二酚','250g×1瓶','1.04','瓶','','157','101','DBEF','2019-03-01 00:00:00','10','','1','0'), ('2344','86979474000209','曲尼司特胶囊','0.1g×24片/盒','32.22','盒','中国药科大学制药有限公司','114','101','QNSTJN','2019-03-01 00:00:00','10','','1','0'), ('2345','86979474000208','碱性品红','25g×1瓶','36.35','瓶','','157','101','JXPH','2019-03-01 00:00:00','10','','1','0'), ('2346','86979474000208','金刚烷胺片','0.1g×100片/瓶','4.34','瓶','江苏鹏鹞药业有限公司','111','101','JGWAP','2019-03-01 00:00:00','10','','1','0'), ('2347','86979474000209','多维元素片(金施尔康)','30片/瓶','0.76','瓶','中美上海施贵宝制药有限公司','111','101','DWYSP(JSEK)','2019-03-01 00:00:00','10','','1','0'), ('2348','86979474000208','红花注射液','20ml×1支','4.37','支','雅安三九药业有限公司','110','101','HHZSY','2019-03-01 00:00:00','10','','1','0'), ('2349','86979474000209','苦参素葡萄糖注射液(天晴复欣)','0.6g×100ml/瓶','44.27','瓶','正大天晴药业集团股份有限公司','110','101','KCSPTTZSY(TQFX)','2019-03-01 00:00:00','10','','1','0'), ('2350','86979474000208','苦碟子注射液(碟脉灵)','10ml×1支','76.72','支','吉林省通化华夏药业','110','101','KDZZSY(DML)','2019-03-01 00:00:00','10','','1','0'), ('2351','86979474000208','乙睛','500ml×1瓶','2.30','瓶','','157','101','YJ','2019-03-01 00:00:00','10','','1','0'), ('2352','86979474000209','乙醚','500ml×1瓶','21.21','瓶','上海久亿','119','101','YM','2019-03-01 00:00:00','10','','1','0'), ('2353','86979474000208','乙醛','40%500ml×1瓶','53.59','瓶','','157','101','YQ','2019-03-01 00:00:00','10','','1','0'), ('2354','86979474000209','维生素 B2 片','5mg×100片/瓶','55.76','瓶','南京白敬宇制药有限责任公司','111','101','WSS B2 P','2019-03-01 00:00:00','10','','1','0'), ('2355','86979474000208','LB维生素 B6 片','10mg×100片/瓶','22.90','瓶','南京白敬宇制药','111','101','LBWSS B6 P','2019-03-01 00:00:00','10','','1','0'), ('2356','86979474000208','维生素 C 片','0.1g×100片/瓶','10.65','瓶','南京白敬宇制药有限责任公司','111','101','WSS C P','2019-03-01 00:00:00','10','','1','0'), ('2357','86979474000209','复方阿米洛利片(武都力)','2.5mg×24片/盒','7.67','盒','江苏迪赛诺制药有限公司','111','101','FFAMLLP(WDL)','2019-03-01 00:00:00','10','','1','0'), ('2358','86979474000208','盐酸氟桂利嗪胶囊(西比灵)','5mg×20片/盒','36.65','盒','西安杨森制药有限公司','114','101','YSFGLZJN(XBL)','2019-03-01 00:00:00','10','','1','0'), ('2359','86979474000209','LB苯扎氯铵贴(创可贴)','8张×20袋/盒','0.43','盒','上海强生有限公司','145','101','LBBZLZT(CKT)','2019-03-01 00:00:00','10','','1','0'), ('2360','86979474000208','益智仁颗粒','1g/10g*1袋','1.20','袋','江阴天江药业有限公司','115','102','YZRKL','2019-03-01 00:00:00','10','','1','0'), ('2361','86979474000208','茵陈颗粒 ','2g/15g*1袋','68.62','袋','江阴天江药业有限公司','115','102','YCKL ','2019-03-01 00:00:00','10','','1','0'), ('2362','86979474000209','银柴胡颗粒 ',' 1.5g/6g*1袋','31.68','袋','江阴天江药业有限公司','115','102','YCHKL ','2019-03-01 00:00:00','10','','1','0'), ('2363','86979474000208','鱼腥草颗粒 ',' 1g/15g*1袋','15.53','袋','江阴天江药业有限公司','115','102','YXCKL ','2019-03-01 00:00:00','10','','1','0'), ('2364','86979474000209','玉米须颗粒 ',' 0.5g/15g*1袋','29.50','袋','江阴天江药业有限公司','115','102','YMXKL ','2019-03-01 00:00:00','10','','1','0'), ('2365','86979474000208','玉竹颗粒 ',' 4g/10g*1袋','27.42','袋','江阴天江药业有限公司','115','102','YZKL ','2019-03-01 00:00:00','10','','1','0'), ('2366','86979474000208','郁金颗粒 ','1g/10g*1袋','73.75','袋','江阴天江药业有限公司','115','102','YJKL ','2019-03-01 00:00:00','10','','1','0'), ('2367','86979474000209','郁李仁颗粒',' 0.5g/10g*1袋','54.22','袋','江阴天江药业有限公司','115','102','YLRKL','2019-03-01 00:00:00','10','','1','0'), ('2368','86979474000208','皂角刺颗粒 ',' 0.5g/6g*1袋','80.67','袋','江阴天江药业有限公司','115','102','ZJCKL ','2019-03-01 00:00:00','10','','1','0'), ('2369','86979474000209','泽兰颗粒 ','1g/10g*1袋','9.71','袋','江阴天江药业有限公司','115','102','ZLKL ','2019-03-01 00:00:00','10','','1','0'), ('2370','86979474000208','泽泻颗粒 ','1g/10g*1袋','20.11','袋','江阴天江药业有限公司','115','102','ZXKL ','2019-03-01 00:00:00','10','','1','0'), ('2371','86979474000208','浙贝母颗粒 ','1g/10g*1袋','9.79','袋','江阴天江药业有限公司','115','102','ZBMKL ','2019-03-01 00:00:00','10','','1','0'), ('2372','86979474000209','注射用胸腺肽(赛威）','100mg×1支','30.05','支','北京赛升药业股份有限公司','161','101','ZSYXXZ(SW）','2019-03-01 00:00:00','10','','1','0'), ('2373','86979474000208','注射用艾司奥美拉唑钠(耐信)','40mg×1支','46.15','支','阿斯利康制药有限公司','110','101','ZSYASAMLZN(NX)','2019-03-01 00:00:00','10','','1','0'), ('2374','86979474000209','静注人免疫球蛋白（江西）','5% 2.5g/50.000ml*1瓶/盒','19.08','盒','江西博雅生物制药股份有限公司','110','101','JZRMYQDB（JX）','2019-03-01 00:00:00','10','','1','0'), ('2375','86979474000208','重酒石酸间羟胺注射液','10mg*1支','9.30','支','天津金耀氨基酸有限公司','110','101','ZJSSJQAZSY','2019-03-01 00:00:00','10','','1','0'), ('2376','86979474000208','仙灵骨葆胶囊','0.5g*50粒/盒','15.16','盒','国药集团同济堂(贵州)制药有限公司','114','101','XLGZJN','2019-03-01 00:00:00','10','','1','0'), ('2377','86979474000209','正柴胡饮颗粒','5g*10包/盒','10.99','盒','精华制药集团股份有限公司','115','102','ZCHYKL','2019-03-01 00:00:00','10','','1','0'), ('2378','86979474000208','玄参颗粒','3.0g/10g/袋','1.13','袋','','115','102','XCKL','2019-03-01 00:00:00','10','','1','0'), ('2379','86979474000209','防风颗粒 ',' 1g/6g*1袋','4.52','袋','江阴天江药业有限公司','115','102','FFKL ','2019-03-01 00:00:00','10','','1','0'), ('2380','86979474000208','防己颗粒',' 0.5g/10g*1袋','35.57','袋','江阴天江药业有限公司','115','102','FJKL','2019-03-01 00:00:00','10','','1','0'), ('2381','86979474000208','佛手颗粒','2g/6g*1袋','9.88','袋','江阴天江药业有限公司','115','102','FSKL','2019-03-01 00:00:00','10','','1','0'), ('2382','86979474000209','茯苓颗粒 ',' 1g/10g*1袋','14.39','袋','江阴天江药业有限公司','115','102','ZZKL ','2019-03-01 00:00:00','10','','1','0'), ('2383','86979474000208','茯苓皮颗粒 ',' 0.5g/10g*1袋','41.31','袋','江阴天江药业有限公司','115','102','ZZPKL ','2019-03-01 00:00:00','10','','1','0'), ('2384','86979474000209','茯神颗粒 ',' 0.5g/10g*1袋','0.55','袋','江阴天江药业有限公司','115','102','ZSKL ','2019-03-01 00:00:00','10','','1','0'), ('2385','86979474000208','浮萍颗粒','1g/10g*1袋','23.98','袋','江阴天江药业有限公司','115','102','FPKL','2019-03-01 00:00:00','10','','1','0'), ('2386','86979474000208','浮小麦颗粒 ',' 1g/15g*1袋','33.41','袋','江阴天江药业有限公司','115','102','FXMKL ','2019-03-01 00:00:00','10','','1','0'), ('2387','86979474000209','附片颗粒',' 0.5g/3g*1袋','1.03','袋','江阴天江药业有限公司','115','102','FPKL','2019-03-01 00:00:00','10','','1','0'), ('2388','86979474000208','覆盆子颗粒 ',' 1g/10g*1袋','22.19','袋','江阴天江药业有限公司','115','102','FPZKL ','2019-03-01 00:00:00','10','','1','0'), ('2389','86979474000209','甘松颗粒 ','1g/10g*1袋','16.71','袋','江阴天江药业有限公司','115','102','GSKL ','2019-03-01 00:00:00','10','','1','0'), ('2390','86979474000208','山慈菇颗粒 ',' 1.5g/10g*1袋','65.00','袋','江阴天江药业有限公司','115','102','SCGKL ','2019-03-01 00:00:00','10','','1','0'), ('2391','86979474000208','焦山楂颗粒 ',' 3g/10g*1袋','24.25','袋','江阴天江药业有限公司','115','102','JSZKL ','2019-03-01 00:00:00','10','','1','0'), ('2392','86979474000209','金樱子颗粒 ',' 3g/10g*1袋','32.11','袋','江阴天江药业有限公司','115','102','JYZKL ','2019-03-01 00:00:00','10','','1','0'), ('2393','86979474000208','酒乌梢蛇颗粒 ',' 1g/10g*1袋','82.08','袋','江阴天江药业有限公司','115','102','JWSSKL ','2019-03-01 00:00:00','10','','1','0'), ('2394','86979474000209','雷公藤颗粒 ',' 0.5g/10g*1袋','12.66','袋','江阴天江药业有限公司','115','102','LGTKL ','2019-03-01 00:00:00','10','','1','0'), ('2395','86979474000208','荔枝核颗粒 ','0.5g/10g*1袋','9.73','袋','江阴天江药业有限公司','115','102','LZHKL ','2019-03-01 00:00:00','10','','1','0'), ('2396','86979474000208','乌药颗粒','0.5g/10g*1袋','37.42','袋','江阴天江药业有限公司','115','102','WYKL','2019-03-01 00:00:00','10','','1','0'), ('2397','86979474000209','棕榈炭','1000mg/g','2.38','克','','112','103','ZZT','2019-03-01 00:00:00','10','','1','0'), ('2398','86979474000208','生首乌','1000mg/g','66.47','克','','112','103','SSW','2019-03-01 00:00:00','10','','1','0'), ('2399','86979474000209','注射用维库溴铵(唯诚)','4mg×1支','16.33','支','扬子江药业集团有限公司','110','101','ZSYWKZZ(WC)','2019-03-01 00:00:00','10','','1','0'), ('2400','86979474000208','菟丝子','1000mg/g','33.21','克','河北','112','103','ZSZ','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('2401','86979474000208','瓦楞子','1000mg/g','71.77','克','','112','103','WLZ','2019-03-01 00:00:00','10','','1','0'), ('2402','86979474000209','王不留行','1000mg/g','21.08','克','','112','103','WBLX','2019-03-01 00:00:00','10','','1','0'), ('2403','86979474000208','威灵仙','1000mg/g','10.03','克',' 江苏','112','103','WLX','2019-03-01 00:00:00','10','','1','0'), ('2404','86979474000209','乌梢蛇','1000mg/g','60.47','克','江苏','112','103','WSS','2019-03-01 00:00:00','10','','1','0'), ('2405','86979474000208','乌药','1000mg/g','25.09','克','江苏','112','103','WY','2019-03-01 00:00:00','10','','1','0'), ('2406','86979474000208','吴芋','1000mg/g','19.95','克','贵州','112','103','WY','2019-03-01 00:00:00','10','','1','0'), ('2407','86979474000209','梧桐叶','1000mg/g','18.90','克','','112','103','WTY','2019-03-01 00:00:00','10','','1','0'), ('2408','86979474000208','五加皮','1000mg/g','7.76','克','','112','103','WJP','2019-03-01 00:00:00','10','','1','0'), ('2409','86979474000209','五灵脂','1000mg/g','15.07','克','河北','112','103','WLZ','2019-03-01 00:00:00','10','','1','0'), ('2410','86979474000208','甲泼尼龙片(美卓乐)','4mg×30片/瓶','21.08','瓶','辉瑞制药有限公司','111','101','JPNLP(MZL)','2019-03-01 00:00:00','10','','1','0'), ('2411','86979474000208','甲氰咪胍注射液(西咪替丁)','2ml:200mg×10支/盒','3.22','盒','江苏鹏鹞药业有限公司','110','101','JQZZZSY(XZTD)','2019-03-01 00:00:00','10','','1','0'), ('2412','86979474000209','呋嘛滴鼻液','10ml×1支','49.14','支','无锡济民可信山禾药业股份有限公司','153','101','ZMDBY','2019-03-01 00:00:00','10','','1','0'), ('2413','86979474000208','LB哈西奈德溶液(乐肤溶液)','10ml:10mg×1支','22.46','支','安徽新和成皖南药业有限公司','119','101','LBHXNDRY(LFRY)','2019-03-01 00:00:00','10','','1','0'), ('2414','86979474000209','苦味酸','25克/瓶','53.96','瓶','','157','101','KWS','2019-03-01 00:00:00','10','','1','0'), ('2415','86979474000208','铁氰化钾','500g×1瓶','34.59','瓶','南京','157','101','TQHJ','2019-03-01 00:00:00','10','','1','0'), ('2416','86979474000208','卡马西平片(得理多)','200mg×30片/瓶','46.20','瓶','诺华制药（北京）有限公司','111','101','KMXPP(DLD)','2019-03-01 00:00:00','10','','1','0'), ('2417','86979474000209','痹褀胶囊','0.300g*48粒/盒','69.37','盒','天津达仁堂京万红药业','114','102','BXJN','2019-03-01 00:00:00','10','','1','0'), ('2418','86979474000208','振源胶囊','0.250g*32粒/盒','0.26','盒','吉林集安益盛药业股份有限公司','114','101','ZYJN','2019-03-01 00:00:00','10','','1','0'), ('2419','86979474000209','金振口服液','10.000ml*8支/盒','31.24','盒','江苏康缘药业股份有限公司','164','101','JZKFY','2019-03-01 00:00:00','10','','1','0'), ('2420','86979474000208','丹黄祛瘀胶囊','0.400g*48粒/盒','85.78','盒','吉林龙鑫药业有限公司','114','102','DHZZJN','2019-03-01 00:00:00','10','','1','0'), ('2421','86979474000208','正清风痛宁缓释片','60.000mg*18片/盒','46.18','盒','湖南正清制药集团股份有限公司','131','101','ZQFTNHSP','2019-03-01 00:00:00','10','','1','0'), ('2422','86979474000209','抗妇炎胶囊','0.350g*48粒/盒','1.01','盒','贵州远程制药有限责任公司','114','101','KFYJN','2019-03-01 00:00:00','10','','1','0'), ('2423','86979474000208','荷丹胶囊','0.330g*48粒/盒','11.92','盒','南昌济顺制药有限公司','114','102','HDJN','2019-03-01 00:00:00','10','','1','0'), ('2424','86979474000209','狗皮膏（改进型）','8cm*4.5cm*6贴/盒','19.23','盒','锦州紫金药业有限公司','145','101','GPG（GJX）','2019-03-01 00:00:00','10','','1','0'), ('2425','86979474000208','厄贝沙坦氢氯噻嗪片（依伦平）','150mg/12.5mg*14片/盒','26.74','盒','南京正大天晴制药有限公司S','111','101','EBSTQLZZP（YLP）','2019-03-01 00:00:00','10','','1','0'), ('2426','86979474000208','瑞舒伐他汀钙片（托妥）','10.000mg*14片/盒','11.95','盒','南京正大天晴制药有限公司S','111','101','RSFTTGP（TT）','2019-03-01 00:00:00','10','','1','0'), ('2427','86979474000209','醋酸阿比特龙片（泽珂）','250.000mg*120片/盒','35.50','盒','Patheon Inc','111','101','CSABTLP（ZZ）','2019-03-01 00:00:00','10','','1','0'), ('2428','86979474000208','肿痛安胶囊','0.280g*48粒/盒','12.48','盒','河北奥星集团药业有限公司','114','101','ZTAJN','2019-03-01 00:00:00','10','','1','0'), ('2429','86979474000209','复方玄驹胶囊','0.420g*45粒/盒','25.23','盒','施强药业有限公司','114','102','FFXJJN','2019-03-01 00:00:00','10','','1','0'), ('2430','86979474000208','蒲地蓝消炎口服液','10.000ml*12支/盒','8.05','盒','济川药业集团有限公司','164','102','PDLXYKFY','2019-03-01 00:00:00','10','','1','0'), ('2431','86979474000208','独一味胶囊','0.300g*60粒/盒','12.38','盒','康县独一味生物制药有限公司','114','102','DYWJN','2019-03-01 00:00:00','10','','1','0'), ('2432','86979474000209','盐酸甲氧氯普胺注射液','1ml：10mg*1支/支','4.71','支','河南润弘制药股份有限公司','110','101','YSJYLPAZSY','2019-03-01 00:00:00','10','','1','0'), ('2433','86979474000208','注射用甲磺酸酚妥拉明','10.000mg*1支/支','3.13','支','上海复旦复华药业有限公司0','161','101','ZSYJHSFTLM','2019-03-01 00:00:00','10','','1','0'), ('2434','86979474000209','热淋清颗粒','4.000g*12袋/盒','18.38','盒','贵州威门药业股份有限公司','115','102','RLQKL','2019-03-01 00:00:00','10','','1','0'), ('2435','86979474000208','枸橼酸西地那非片（万艾可）','0.100g*5片/盒','8.00','盒','辉瑞制药有限公司','111','102','ZZSXDNFP（WAK）','2019-03-01 00:00:00','10','','1','0'), ('2436','86979474000208','鸦胆子油注射液','20.000ml*1支/支','14.48','支','江苏九旭药业有限公司','110','101','YDZYZSY','2019-03-01 00:00:00','10','','1','0'), ('2437','86979474000209','新癀片','0.320g*48片/盒','0.30','盒','厦门中药厂有限公司','111','101','XZP','2019-03-01 00:00:00','10','','1','0'), ('2438','86979474000208','双氯芬酸钠利多卡因注射液（雅兵）','2ml（75mg+20mg）*1支/支','72.78','支','山东鲁抗辰欣药业有限公司','110','101','SLFSNLDKYZSY（YB）','2019-03-01 00:00:00','10','','1','0'), ('2439','86979474000209','注射用重组人尿激酶原（普佑克）','5mg(50万IU)*1支/支','48.41','支','天士力制药集团股份有限公司','161','101','ZSYZZRNJMY（PYK）','2019-03-01 00:00:00','10','','1','0'), ('2440','86979474000208','维生素K1注射液','10.000mg*10支/盒','36.03','盒','浙江诚意药业','110','101','WSSK1ZSY','2019-03-01 00:00:00','10','','1','0'), ('2441','86979474000208','丙泊酚中/长链脂肪乳注射液（迪施乐）','10ml：100.000mg*1支/支','73.54','支','广东嘉博制药有限公司','110','101','BBFZ/CLZFRZSY（DSL）','2019-03-01 00:00:00','10','','1','0'), ('2442','86979474000209','盐酸安罗替尼胶囊（福可维）','12.000mg*7粒/盒','2.20','盒','正大天晴药业集团股份有限公司','114','101','YSALTNJN（FKW）','2019-03-01 00:00:00','10','','1','0'), ('2443','86979474000208','复方氯化纳注射液','500.000ml*1袋/袋','36.82','袋','回音必集团(江西)东亚制药有限公司','150','101','FFLHNZSY','2019-03-01 00:00:00','10','','1','0'), ('2444','86979474000209','注射用头孢西酮钠','0.500g*1瓶/瓶','0.79','瓶','南京海辰药业有限公司','161','101','ZSYTZXTN','2019-03-01 00:00:00','10','','1','0'), ('2445','86979474000208','注射用亚叶酸钙','100.000mg*1支/支','6.37','支','江苏恒瑞医药股份有限公司S','161','101','ZSYYYSG','2019-03-01 00:00:00','10','','1','0'), ('2446','86979474000208','脑震宁颗粒','10.000g*18袋/盒','19.09','盒','山西振东安特生物制药有限公司','115','102','NZNKL','2019-03-01 00:00:00','10','','1','0'), ('2447','86979474000209','痛风定胶囊','0.400g*60粒/盒','12.66','盒','四川升和药业股份有限公司','114','101','TFDJN','2019-03-01 00:00:00','10','','1','0'), ('2448','86979474000208','痛血康胶囊','0.200g*24粒/盒','19.49','盒','福建汇天生物药业有限公司','114','101','TXKJN','2019-03-01 00:00:00','10','','1','0'), ('2449','86979474000209','西帕依麦孜彼子胶囊','0.250g*18粒/盒','24.38','盒','陕西东泰制药有限公司','114','101','XPYMZBZJN','2019-03-01 00:00:00','10','','1','0'), ('2450','86979474000208','玄麦甘桔颗粒','5.000g*20袋/包','6.48','包','重庆三峡云海药业','115','102','XMGJKL','2019-03-01 00:00:00','10','','1','0'), ('2451','86979474000208','回生口服液','10.000ml*10支/盒','11.65','盒','成都地奥集团天府药业股份有限公司','164','101','HSKFY','2019-03-01 00:00:00','10','','1','0'), ('2452','86979474000209','坤泰胶囊','0.500g*48粒/盒','42.98','盒','贵阳新天药业股份有限公司','114','101','KTJN','2019-03-01 00:00:00','10','','1','0'), ('2453','86979474000208','宁泌泰胶囊','0.380g*48粒/盒','37.33','盒','贵阳新天药业股份有限公司','114','101','NMTJN','2019-03-01 00:00:00','10','','1','0'), ('2454','86979474000209','通天口服液','10.000ml*18支/盒','90.02','盒','太极集团重庆涪陵制药厂','164','101','TTKFY','2019-03-01 00:00:00','10','','1','0'), ('2455','86979474000208','肺力咳合剂','150.000ml*1瓶/盒','52.33','盒','贵州健兴药业有限公司','147','101','FLKHJ','2019-03-01 00:00:00','10','','1','0'), ('2456','86979474000208','苁蓉通便口服液','100.000ml*1瓶/盒','14.01','盒','甘肃天水歧黄药业集团有限公司','164','102','ZRTBKFY','2019-03-01 00:00:00','10','','1','0'), ('2457','86979474000209','华蟾素胶囊','0.250g*22粒/盒','4.85','盒','陕西东泰制药有限公司','114','102','HCSJN','2019-03-01 00:00:00','10','','1','0'), ('2458','86979474000208','参芪十一味颗粒','2.000g*6袋/盒','63.28','盒','江西山高制药有限公司','115','102','CZSYWKL','2019-03-01 00:00:00','10','','1','0'), ('2459','86979474000209','百令胶囊','0.500g*42粒/盒','15.93','盒','杭州中美华东制药有限公司','114','102','BLJN','2019-03-01 00:00:00','10','','1','0'), ('2460','86979474000208','蟾酥粉','0.015g*1瓶/瓶','3.89','瓶','四川仟源中药饮片有限公司','116','101','CSF','2019-03-01 00:00:00','10','','1','0'), ('2461','86979474000208','苯巴比妥片','30.000mg*100片/瓶','22.30','瓶','精华制药集团股份有限公司','111','101','BBBTP','2019-03-01 00:00:00','10','','1','0'), ('2462','86979474000209','养心氏片','0.6g×36片/盒','75.41','盒','上海医药集团青岛国风药业股份有限公司','111','102','YXSP','2019-03-01 00:00:00','10','','1','0'), ('2463','86979474000208','丙泊酚中／长链脂肪乳注射液(竟安)','200mg×1支','14.01','支','北京费森尤斯医药','110','101','BBFZ／CLZFRZSY(JA)','2019-03-01 00:00:00','10','','1','0'), ('2464','86979474000209','布美他尼注射液','2ml:1mg*1支','29.07','支','辽宁玉皇药业有限公司','110','101','BMTNZSY','2019-03-01 00:00:00','10','','1','0'), ('2465','86979474000208','替吉奥胶囊(爱斯万)','20.000mg*28粒/盒','64.49','盒','大鹏药品工业株式会社','114','101','TJAJN(ASW)','2019-03-01 00:00:00','10','','1','0'), ('2466','86979474000208','阿德福韦酯胶囊(名正)','10mg*30粒/盒','11.56','盒','正大天晴药业集团股份有限公司','114','101','ADFWJN(MZ)','2019-03-01 00:00:00','10','','1','0'), ('2467','86979474000209','熊去氧胆酸片(万健）','0.25g*24片/盒','11.83','盒','武汉人福药业有限责任公司','111','101','XQYDSP(WJ）','2019-03-01 00:00:00','10','','1','0'), ('2468','86979474000208','注射用表柔比星(艾达生）','10mg×1瓶','2.39','瓶','海正辉瑞制药有限公司','110','101','ZSYBRBX(ADS）','2019-03-01 00:00:00','10','','1','0'), ('2469','86979474000209','贝伐珠单抗注射液(安维汀)','4ml:100mg*1支/瓶','2.44','瓶','瑞士罗氏','110','101','BFZDKZSY(AWT)','2019-03-01 00:00:00','10','','1','0'), ('2470','86979474000208','天冬颗粒 ',' 4g/10g*1袋','37.51','袋','江阴天江药业有限公司','115','102','TDKL ','2019-03-01 00:00:00','10','','1','0'), ('2471','86979474000208','盐酸左西替利嗪分散片(诺思达)','5mg*12片/盒','27.97','盒','鲁南贝特制药有限公司','123','101','YSZXTLZFSP(NSD)','2019-03-01 00:00:00','10','','1','0'), ('2472','86979474000209','富马酸比索洛尔片(博苏)','5mg*18片/袋','16.12','袋','北京华素制药股份有限公司','111','101','FMSBSLEP(BS)','2019-03-01 00:00:00','10','','1','0'), ('2473','86979474000208','盐酸帕罗西汀肠溶缓释片(赛乐特)','25mg*10片/盒','1.99','盒','GLAXOSMITHKLINE INC.','131','101','YSPLXTCRHSP(SLT)','2019-03-01 00:00:00','10','','1','0'), ('2474','86979474000209','阿托品注射液','0.5mg*10支/盒','0.17','盒','天津金耀有限公司','110','101','ATPZSY','2019-03-01 00:00:00','10','','1','0'), ('2475','86979474000208','丁苯酞氯化钠注射液','25mg：0.9g/瓶','6.78','瓶','石药集团恩必普药业有限公司','110','101','DBTLHNZSY','2019-03-01 00:00:00','10','','1','0'), ('2476','86979474000208','利巴韦林注射液','2ml：0.100g*10支/盒','0.65','盒','山东鲁抗辰欣药业股份有限公司','110','101','LBWLZSY','2019-03-01 00:00:00','10','','1','0'), ('2477','86979474000209','泊沙康唑口服混悬液','40mg*105ml/瓶','3.71','瓶','patheon Inc,Whitby Operations(Canada)','136','101','BSKZKFHXY','2019-03-01 00:00:00','10','','1','0'), ('2478','86979474000208','注射用达托霉素(达托美)','0.500g*1瓶/盒','49.21','盒','江苏恒瑞医药有限公司','161','101','ZSYDTMS(DTM)','2019-03-01 00:00:00','10','','1','0'), ('2479','86979474000209','维生素AD(伊可新1-10)滴剂胶囊','2000.000:700iu*40粒/盒','14.81','盒','山东达因海洋生物制药股份有限公司','114','101','WSSAD(YKX1-10)DJJN','2019-03-01 00:00:00','10','','1','0'), ('2480','86979474000208','磷霉素氨丁三醇颗粒（美乐力）','5.631g*1包/盒','60.23','盒','Zambon S.P.A','115','102','LMSADSCKL（MLL）','2019-03-01 00:00:00','10','','1','0'), ('2481','86979474000208','尼妥珠单抗注射液(泰欣生)','50mg*1支','2.03','支','百泰生物药业有限公司','110','101','NTZDKZSY(TXS)','2019-03-01 00:00:00','10','','1','0'), ('2482','86979474000209','格列齐特缓释片(达美康)','60.000mg*15片/盒','39.31','盒','施维雅（法国）药厂  施维雅(天津)分装','111','101','GLQTHSP(DMK)','2019-03-01 00:00:00','10','','1','0'), ('2483','86979474000208','野菊花','1000mg/g','45.41','克','江苏','112','103','YJH','2019-03-01 00:00:00','10','','1','0'), ('2484','86979474000209','六味地黄丸','0.375g*240粒/瓶','26.70','瓶','仲景宛西制药股份有限公司','163','102','LWDHW','2019-03-01 00:00:00','10','','1','0'), ('2485','86979474000208','牛黄解毒片','1片*12片/盒','42.00','盒','湖南德康制药股份有限公司','111','101','NHJDP','2019-03-01 00:00:00','10','','1','0'), ('2486','86979474000208','曲安奈德注射液(同息通)','40mg：1ml*1支','40.01','支','昆明积大制药股份有限公司','110','101','QANDZSY(TXT)','2019-03-01 00:00:00','10','','1','0'), ('2487','86979474000209','氨甲苯酸注射液(止血芳酸）','10ml:100mg×5支/盒','0.35','盒','上海信谊金朱药业有限公司','110','101','AJBSZSY(ZXFS）','2019-03-01 00:00:00','10','','1','0'), ('2488','86979474000208','冠心丹参滴丸','0.040g*180粒/盒','12.92','盒','中发实业集团业锐药业有限公司','154','101','GXDCDW','2019-03-01 00:00:00','10','','1','0'), ('2489','86979474000209','伤科灵喷雾剂','60.000ml*1瓶/盒','3.98','盒','贵州横霸药业','127','101','SKLPWJ','2019-03-01 00:00:00','10','','1','0'), ('2490','86979474000208','醋酸戈舍瑞林缓释植入剂(诺雷得)','10.8mg*1支/盒','27.70','盒','阿斯利康制药有限公司S','110','101','CSGSRLHSZRJ(NLD)','2019-03-01 00:00:00','10','','1','0'), ('2491','86979474000208','LB克林霉素磷酸酯注射液(先清)','600mg:4ml*1支','1.77','支','山东鲁抗辰欣药业股份有限公司','110','101','LBKLMSLSZZSY(XQ)','2019-03-01 00:00:00','10','','1','0'), ('2492','86979474000209','二甲硅油散（健亨）','5.000g*1瓶/瓶','9.80','瓶','自贡鸿鹤','113','101','EJGYS（JH）','2019-03-01 00:00:00','10','','1','0'), ('2493','86979474000208','氟马西尼注射液(赖意)','0.5mg:5ml*1支','39.33','支','浙江奥托康药业集团有限公司','110','101','FMXNZSY(LY)','2019-03-01 00:00:00','10','','1','0'), ('2494','86979474000209','注射用替加环素(海正力星)','50mg*1瓶/盒','2.31','盒','浙江海正药业股份有限公司','110','101','ZSYTJHS(HZLX)','2019-03-01 00:00:00','10','','1','0'), ('2495','86979474000208','富马酸卢帕他定（卢苏）','10.000mg*5片/盒','10.09','盒','扬子江药业集团有限公司','111','101','FMSLPTD（LS）','2019-03-01 00:00:00','10','','1','0'), ('2496','86979474000208','制草乌颗粒 ','0.500g*1袋/袋','24.44','袋','江阴天江药业有限公司','115','102','ZCWKL ','2019-03-01 00:00:00','10','','1','0'), ('2497','86979474000209','甲氨喋呤片','2.5mg*16片/瓶','6.26','瓶','上海信谊药厂有限公司','111','101','JAZZP','2019-03-01 00:00:00','10','','1','0'), ('2498','86979474000208','锯叶棕果实提取物软胶囊（沙巴特）','160mg*12粒/盒','2.62','盒','德国泰德制药','159','101','JYZGSTQWRJN（SBT）','2019-03-01 00:00:00','10','','1','0'), ('2499','86979474000209','注射用醋酸奥曲肽微球(善龙)','20mg*1支','17.27','支','诺华制药（瑞士）有限公司S','110','101','ZSYCSAQZWQ(SL)','2019-03-01 00:00:00','10','','1','0'), ('2500','86979474000208','二十五味珊瑚胶囊','6.000粒*3板/盒','22.53','盒','西藏金珠雅砻藏药公司','114','102','ESWWSHJN','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('2501','86979474000208','碘佛醇注射液','100ml:74.1g*1瓶/瓶','9.74','瓶','江苏恒瑞医药股份有限公司','110','101','DFCZSY','2019-03-01 00:00:00','10','','1','0'), ('2502','86979474000209','达比加群酯胶囊（泰毕全）','110.000mg*10粒/盒','2.15','盒','勃林格殷格翰（德国）国际公司','114','101','DBJQZJN（TBQ）','2019-03-01 00:00:00','10','','1','0'), ('2503','86979474000208','注射用硼替佐米（昕泰）','3.500mg*1支/支','6.72','支','江苏豪森药业股份有限公司S','161','101','ZSYPTZM（ZT）','2019-03-01 00:00:00','10','','1','0'), ('2504','86979474000209','红芪','10.000g*1袋/袋','95.71','袋','苏州市春晖堂药业有限公司','112','103','HZ','2019-03-01 00:00:00','10','','1','0'), ('2505','86979474000208','复方骨肽注射液','2ml:30mg×1支','9.60','支','南京新百药业有限公司','110','101','FFGZZSY','2019-03-01 00:00:00','10','','1','0'), ('2506','86979474000208','骨化三醇胶丸(罗盖全）','0.25ug×10片/瓶','33.99','瓶','上海罗氏制药有限公司','111','101','GHSCJW(LGQ）','2019-03-01 00:00:00','10','','1','0'), ('2507','86979474000209','醋酸去氨加压素(弥凝片)','100ug×30片/盒','26.37','盒','','111','101','CSQAJYS(MNP)','2019-03-01 00:00:00','10','','1','0'), ('2508','86979474000208','重组人干扰素α-2a(因特芬)','300万单位*1支','13.49','支','沈阳三生制药股份有限公司','110','101','ZZRGRSα-2a(YTF)','2019-03-01 00:00:00','10','','1','0'), ('2509','86979474000209','通塞脉片','0.35g*75片/盒','36.02','盒','江苏康缘阳光药业有限公司','111','101','TSMP','2019-03-01 00:00:00','10','','1','0'), ('2510','86979474000208','苯扎氯铵溶液(优可适)','0.15g:150ml*1瓶','16.39','瓶','汕头保税区洛斯特制药有限公司','119','101','BZLZRY(YKS)','2019-03-01 00:00:00','10','','1','0'), ('2511','86979474000208','0.9%氯化钠注射液','500ml/瓶','12.87','瓶','石家庄四药有限公司','110','101','0.9%LHNZSY','2019-03-01 00:00:00','10','','1','0'), ('2512','86979474000209','苯妥英钠片','0.1g×100片/瓶','47.75','瓶','西南药业股份有限公司','111','101','BTYNP','2019-03-01 00:00:00','10','','1','0'), ('2513','86979474000208','醋酸氢化可的松片','20mg×100片/瓶','16.46','瓶','上海上药信谊药厂有限公司','111','101','CSQHKDSP','2019-03-01 00:00:00','10','','1','0'), ('2514','86979474000209','氟康唑(大扶康)胶囊','50mg×7片/盒','0.46','盒','辉瑞制药有限公司','114','101','FKZ(DFK)JN','2019-03-01 00:00:00','10','','1','0'), ('2515','86979474000208','重组人凝血因子Ⅷ(拜科奇)注射液','250iu:2.5ml*1瓶','25.43','瓶','拜耳医药保健有限公司','161','101','ZZRNXYZⅧ(BKQ)ZSY','2019-03-01 00:00:00','10','','1','0'), ('2516','86979474000208','重酒石酸间羟胺注射液','10mg/1ml*2支/盒','27.86','盒','上海禾丰制药有限公司','110','101','ZJSSJQAZSY','2019-03-01 00:00:00','10','','1','0'), ('2517','86979474000209','半边连','1000mg/g','5.37','克','江苏','112','103','BBL','2019-03-01 00:00:00','10','','1','0'), ('2518','86979474000208','盐酸利多卡因注射液','5ml：0.100g*1支/支','17.57','支','山东华鲁制药','110','101','YSLDKYZSY','2019-03-01 00:00:00','10','','1','0'), ('2519','86979474000209','乳酸钠林格注射液（百特）','500.000ml*1袋/袋','10.23','袋','上海百特医疗用品有限公司','150','101','RSNLGZSY（BT）','2019-03-01 00:00:00','10','','1','0'), ('2520','86979474000208','谷氨酰胺颗粒（新麦林）','1.000g*10包/盒','48.77','盒','成都力思特制药','115','102','GAXAKL（XML）','2019-03-01 00:00:00','10','','1','0'), ('2521','86979474000208','吡嗪酰胺片','0.250g*100片/瓶','1.68','瓶','上海上药信谊药厂有限公司','111','102','ZZXAP','2019-03-01 00:00:00','10','','1','0'), ('2522','86979474000209','延胡索颗粒 ',' 1g/10g*1袋','27.47','袋','江阴天江药业有限公司','115','102','YHSKL ','2019-03-01 00:00:00','10','','1','0'), ('2523','86979474000208','野菊花颗粒 ',' 2g/10g*1袋','4.77','袋','江阴天江药业有限公司','115','102','YJHKL ','2019-03-01 00:00:00','10','','1','0'), ('2524','86979474000209','叶下珠颗粒 ',' 1.5g/10g*1袋','48.01','袋','江阴天江药业有限公司','115','102','YXZKL ','2019-03-01 00:00:00','10','','1','0'), ('2525','86979474000208','夜交藤颗粒 ',' 0.5g/15g*1袋','12.66','袋','江阴天江药业有限公司','115','102','YJTKL ','2019-03-01 00:00:00','10','','1','0'), ('2526','86979474000208','珍珠母颗粒 ','0.5g/30g*1袋','37.92','袋','江阴天江药业有限公司','115','102','ZZMKL ','2019-03-01 00:00:00','10','','1','0'), ('2527','86979474000209','知母颗粒 ',' 2.5g/10g*1袋','0.40','袋','江阴天江药业有限公司','115','102','ZMKL ','2019-03-01 00:00:00','10','','1','0'), ('2528','86979474000208','枳壳颗粒 ',' 1g/6g*1袋','4.00','袋','江阴天江药业有限公司','115','102','ZKKL ','2019-03-01 00:00:00','10','','1','0'), ('2529','86979474000209','枳实颗粒','0.500g*1袋/袋','47.78','袋','江阴天江药业有限公司','115','102','ZSKL','2019-03-01 00:00:00','10','','1','0'), ('2530','86979474000208','制大黄颗粒 ',' 1g/6g*1袋','71.34','袋','江阴天江药业有限公司','115','102','ZDHKL ','2019-03-01 00:00:00','10','','1','0'), ('2531','86979474000208','制乳香颗粒 ','2g/6g*1袋','33.32','袋','江阴天江药业有限公司','115','102','ZRXKL ','2019-03-01 00:00:00','10','','1','0'), ('2532','86979474000209','制首乌颗粒 ',' 1g/10g*1袋','10.11','袋','江阴天江药业有限公司','115','102','ZSWKL ','2019-03-01 00:00:00','10','','1','0'), ('2533','86979474000208','制远志颗粒',' 0.5g/6g*1袋','1.08','袋','江阴天江药业有限公司','115','102','ZYZKL','2019-03-01 00:00:00','10','','1','0'), ('2534','86979474000209','炙甘草颗粒 ',' 1g/3g*1袋','6.67','袋','江阴天江药业有限公司','115','102','ZGCKL ','2019-03-01 00:00:00','10','','1','0'), ('2535','86979474000208','炙黄芪颗粒 ',' 3g/10g*1袋','1.04','袋','江阴天江药业有限公司','115','102','ZHZKL ','2019-03-01 00:00:00','10','','1','0'), ('2536','86979474000208','炙内金颗粒',' 0.5g/3g*1袋','26.08','袋','江阴天江药业有限公司','115','102','ZNJKL','2019-03-01 00:00:00','10','','1','0'), ('2537','86979474000209','注射用洛铂','10.000mg*1支/支','33.00','支','海南长安国际制药有限公司','110','101','ZSYLB','2019-03-01 00:00:00','10','','1','0'), ('2538','86979474000208','邻苯二甲醛消毒液','50g*1瓶/瓶','26.41','瓶','杭州朗索医用消毒剂有限公司','157','101','LBEJQXDY','2019-03-01 00:00:00','10','','1','0'), ('2539','86979474000209','鬼蜡烛','1000mg/g','18.42','克','','112','103','GLZ','2019-03-01 00:00:00','10','','1','0'), ('2540','86979474000208','注射用盐酸拉贝洛尔（欣宇森）','50.000mg*1支/支','9.16','支','海南灵康','161','101','ZSYYSLBLE（XYS）','2019-03-01 00:00:00','10','','1','0'), ('2541','86979474000208','LB注射用头孢呋辛钠(立健)','1.5g*1瓶','38.11','瓶','深圳立健药业有限公司','110','101','LBZSYTZZXN(LJ)','2019-03-01 00:00:00','10','','1','0'), ('2542','86979474000209','阿立哌唑口腔崩解(博思清)片','5mg*20片/盒','8.21','盒','成都康弘药业集团股份有限公司S','111','101','ALZZKQBJ(BSQ)P','2019-03-01 00:00:00','10','','1','0'), ('2543','86979474000208','艾拉莫德（艾得辛）','25.000mg*14片/盒','0.56','盒','先声药业','111','101','ALMD（ADX）','2019-03-01 00:00:00','10','','1','0'), ('2544','86979474000209','聚普瑞锌颗粒(瑞莱生)','75mg*4袋/盒','7.55','盒','吉林省博大伟业制药有限公司','115','102','JPRXKL(RLS)','2019-03-01 00:00:00','10','','1','0'), ('2545','86979474000208','盐酸氨溴索氯化钠注射液(维可莱)','100ml:30mg×1瓶','47.90','瓶','江苏豪森药业股份有限公司','110','101','YSAZSLHNZSY(WKL)','2019-03-01 00:00:00','10','','1','0'), ('2546','86979474000208','沙美特罗替卡松粉吸入剂(舒利迭)','50ug:500ug×1瓶','30.99','瓶','葛兰素史克（中国）投资有限公司','122','101','SMTLTKSFXRJ(SLD)','2019-03-01 00:00:00','10','','1','0'), ('2547','86979474000209','注射用门冬氨酸鸟氨酸','2.5g×1支','18.56','支','武汉启瑞药业有限公司','110','101','ZSYMDASNAS','2019-03-01 00:00:00','10','','1','0'), ('2548','86979474000208','中长链脂肪乳(力保肪宁)注射液','20% 250ml×1瓶','65.20','瓶','贝朗医疗苏州有限公司','110','101','ZCLZFR(LBFN)ZSY','2019-03-01 00:00:00','10','','1','0'), ('2549','86979474000209','注射用硫酸头孢噻利(丰迪)','0.5g×1瓶','22.26','瓶','江苏恒瑞医药股份有限公司','110','101','ZSYLSTZZL(FD)','2019-03-01 00:00:00','10','','1','0'), ('2550','86979474000208','盐酸托烷司琼葡萄糖注射液(和太)','5mg:100ml×1瓶','68.15','瓶','哈尔滨三联药业股份有限公司','110','101','YSTWSQPTTZSY(HT)','2019-03-01 00:00:00','10','','1','0'), ('2551','86979474000208','双环醇(百赛诺)片','25mg×9片/盒','8.80','盒','北京协和药厂S','111','101','SHC(BSN)P','2019-03-01 00:00:00','10','','1','0'), ('2552','86979474000209','清开灵颗粒','3.000g*26袋/盒','51.19','盒','远达药业集团哈尔滨一洲制药','115','102','QKLKL','2019-03-01 00:00:00','10','','1','0'), ('2553','86979474000208','头孢丙烯干混悬剂','125mg*12包/盒','83.85','盒','南京亿华药业有限公司','141','101','TZBXGHXJ','2019-03-01 00:00:00','10','','1','0'), ('2554','86979474000209','鞣酸软膏','20.000g*1盒/盒','35.52','盒','','121','101','RSRG','2019-03-01 00:00:00','10','','1','0'), ('2555','86979474000208','碘解磷定注射液','0.500g*5支/盒','14.09','盒','信合援生制药股份有限公司','110','101','DJLDZSY','2019-03-01 00:00:00','10','','1','0'), ('2556','86979474000208','重组人粒细胞(吉粒芬)刺激因子注射液','0.150mg:0.6ml*1支/支','4.45','支','杭州九源基因工程有限公司','110','101','ZZRLXB(JLF)CJYZZSY','2019-03-01 00:00:00','10','','1','0'), ('2557','86979474000209','丁丙诺非透皮贴剂(若思本)','5mg*2贴/盒','43.00','盒','德国','146','101','DBNFTPTJ(RSB)','2019-03-01 00:00:00','10','','1','0'), ('2558','86979474000208','重组人干扰素α-2a(因特芬)','500万单位*1支/支','14.79','支','沈阳三生制药股份有限公司','110','101','ZZRGRSα-2a(YTF)','2019-03-01 00:00:00','10','','1','0'), ('2559','86979474000209','高渗枸橼酸盐嘌呤溶液','500ml*1袋/袋','0.69','袋','上海输血技术有限公司','124','101','GSZZSYZZRY','2019-03-01 00:00:00','10','','1','0'), ('2560','86979474000208','炮姜','1000mg/g','24.36','克','','112','103','PJ','2019-03-01 00:00:00','10','','1','0'), ('2561','86979474000208','碳酸司维拉姆片（诺维乐）','0.8g*30片/盒','53.86','盒','赛诺菲（杭州）制药有限公司','111','101','TSSWLMP（NWL）','2019-03-01 00:00:00','10','','1','0'), ('2562','86979474000209','阿莫西林颗粒(阿莫仙)','125mg×12包/盒','11.85','盒','香港联邦制药厂有限公司','155','101','AMXLKL(AMX)','2019-03-01 00:00:00','10','','1','0'), ('2563','86979474000208','氯米芬片(法地兰）','50mg*10片/盒','3.63','盒','高特制药有限公司。塞浦路斯','111','101','LMFP(FDL）','2019-03-01 00:00:00','10','','1','0'), ('2564','86979474000209','氟脲嘧啶注射液','0.25g×5支/盒','13.03','盒','天津金耀氨基酸公司','110','101','FZZZZSY','2019-03-01 00:00:00','10','','1','0'), ('2565','86979474000208','碳酸氢钠片','0.500g*100片/盒','20.24','盒','天津力生制药股份有限公司','111','101','TSQNP','2019-03-01 00:00:00','10','','1','0'), ('2566','86979474000208','雷珠单抗注射液（诺适得）','0.200ml*1瓶/盒','18.88','盒','Novartis Pharma Stein Switzerland','110','101','LZDKZSY（NSD）','2019-03-01 00:00:00','10','','1','0'), ('2567','86979474000209','氯化钙注射液','0.5g：10.000ml*5支/盒','63.82','盒','上海信谊金朱药业有限公司','110','101','LHGZSY','2019-03-01 00:00:00','10','','1','0'), ('2568','86979474000208','氟哌啶醇注射液','1ml：5.000mg*1支/支','10.83','支','山东鲁抗制药有限公司','110','101','FZZCZSY','2019-03-01 00:00:00','10','','1','0'), ('2569','86979474000209','活血止痛胶囊','0.500g*48粒/盒','3.26','盒','南京中山制药有限公司','114','102','HXZTJN','2019-03-01 00:00:00','10','','1','0'), ('2570','86979474000208','猪苓颗粒 ',' 0.5g/10g*1袋','16.54','袋','江阴天江药业有限公司','115','102','ZZKL ','2019-03-01 00:00:00','10','','1','0'), ('2571','86979474000208','竹茹颗粒',' 0.5g/6g*1袋','27.29','袋','江阴天江药业有限公司','115','102','ZRKL','2019-03-01 00:00:00','10','','1','0'), ('2572','86979474000209','苎麻根颗粒 ',' 0.5g/10g*1袋','27.00','袋','江阴天江药业有限公司','115','102','ZMGKL ','2019-03-01 00:00:00','10','','1','0'), ('2573','86979474000208','紫草颗粒 ','0.5g/10g*1袋','33.05','袋','江阴天江药业有限公司','115','102','ZCKL ','2019-03-01 00:00:00','10','','1','0'), ('2574','86979474000209','紫河车颗粒','3g/3g*1袋','5.22','袋','江阴天江药业有限公司','115','102','ZHCKL','2019-03-01 00:00:00','10','','1','0'), ('2575','86979474000208','紫花地丁颗粒 ','1.5g/15g*1袋','80.22','袋','江阴天江药业有限公司','115','102','ZHDDKL ','2019-03-01 00:00:00','10','','1','0'), ('2576','86979474000208','紫苏梗颗粒 ',' 0.5g/10g*1袋','1.70','袋','江阴天江药业有限公司','115','102','ZSGKL ','2019-03-01 00:00:00','10','','1','0'), ('2577','86979474000209','紫苏叶颗粒','0.5g/10g*1袋','78.20','袋','江阴天江药业有限公司','115','102','ZSYKL','2019-03-01 00:00:00','10','','1','0'), ('2578','86979474000208','别嘌醇片','0.1g*100片/瓶','27.76','瓶','世贸天阶制药(江苏)有限责任公司','111','101','BZCP','2019-03-01 00:00:00','10','','1','0'), ('2579','86979474000209','七氟烷','120ml*1瓶/瓶','26.87','瓶','上海恒瑞医药股份有限公司','156','101','QFW','2019-03-01 00:00:00','10','','1','0'), ('2580','86979474000208','盐酸多柔比星脂质体（多美素）注射液','10ml：20.000mg*1支/支','22.38','支','石药集团欧意药业有限公司','110','101','YSDRBXZZT（DMS）ZSY','2019-03-01 00:00:00','10','','1','0'), ('2581','86979474000208','碘解磷定注射液','0.500g*5支/盒','32.55','盒','隧成药业股份有限公司','110','101','DJLDZSY','2019-03-01 00:00:00','10','','1','0'), ('2582','86979474000209','维生素 B1 片','10mg*100片/瓶','82.40','瓶','辅仁药业集团有限公司','111','101','WSS B1 P','2019-03-01 00:00:00','10','','1','0'), ('2583','86979474000208','LB注射用维生素B6','0.200g*1瓶/瓶','12.39','瓶','海南通用制药有限公司','161','101','LBZSYWSSB6','2019-03-01 00:00:00','10','','1','0'), ('2584','86979474000209','盐酸利多卡因注射液','5ml：0.100g*5支/盒','20.69','盒','国药集团容生制药有限公司','110','101','YSLDKYZSY','2019-03-01 00:00:00','10','','1','0'), ('2585','86979474000208','柴胡（根）','1000mg/g','27.84','克','','112','103','CH（G）','2019-03-01 00:00:00','10','','1','0'), ('2586','86979474000208','猪源纤维蛋白粘合剂（倍绣胶）','5.000ml*1套/盒','4.13','盒','广州倍绣生物技术有限公司','161','101','ZYXWDBZHJ（BXJ）','2019-03-01 00:00:00','10','','1','0'), ('2587','86979474000209','兔抗人胸腺细胞免疫球蛋白(即复宁)','25mg*1瓶/瓶','1.20','瓶','赛诺菲(北京)制药有限公司','161','101','TKRXXXBMYQDB(JFN)','2019-03-01 00:00:00','10','','1','0'), ('2588','86979474000208','盐酸纳布啡注射液','2ml:20mg*1支','67.25','支','宜昌人福药业有限责任公司','110','101','YSNBFZSY','2019-03-01 00:00:00','10','','1','0'), ('2589','86979474000209','依折麦布片(益适纯)','10mg*10片/盒','42.31','盒','默沙东制药（杭州）有限公司','111','101','YZMBP(YSC)','2019-03-01 00:00:00','10','','1','0'), ('2590','86979474000208','注射用重组人(百杰依)白介素-11(Ⅰ)','1.5mg*1支','54.91','支','山东阿华生物药业有限公司','110','101','ZSYZZR(BJY)BJS-11(Ⅰ)','2019-03-01 00:00:00','10','','1','0'), ('2591','86979474000208','醋酸地塞米松片(氟美松)','0.75mg×100片/瓶','81.25','瓶','上海信谊药厂有限公司','111','101','CSDSMSP(FMS)','2019-03-01 00:00:00','10','','1','0'), ('2592','86979474000209','LB庆大霉素注射液','8万单位*10支/盒','52.90','盒','金陵药业股份有限公司南京金陵制药厂','110','101','LBQDMSZSY','2019-03-01 00:00:00','10','','1','0'), ('2593','86979474000208','布地奈德气雾剂（吉舒）','20ml：20mg（100ug*200喷）/盒','24.50','盒','鲁南贝特制药有限公司','122','101','BDNDQWJ（JS）','2019-03-01 00:00:00','10','','1','0'), ('2594','86979474000209','丙酸氟替卡松鼻喷雾剂（辅舒良）','0.05%（50ug*120喷）/瓶','45.50','瓶','葛兰素史克公司S','143','101','BSFTKSBPWJ（FSL）','2019-03-01 00:00:00','10','','1','0'), ('2595','86979474000208','丙酸氟替卡松吸入气雾剂（辅舒酮）','125.000ug*60揿/瓶','3.60','瓶','葛兰素史克公司S','122','101','BSFTKSXRQWJ（FST）','2019-03-01 00:00:00','10','','1','0'), ('2596','86979474000208','锁阳颗粒 ',' 3g/10g*1袋','23.04','袋','江阴天江药业有限公司','115','102','SYKL ','2019-03-01 00:00:00','10','','1','0'), ('2597','86979474000209','草酸分枝杆菌注射液','1.72ug*1支/支','42.62','支','成都金星健康制药','110','101','CSFZGJZSY','2019-03-01 00:00:00','10','','1','0'), ('2598','86979474000208','罂粟乙碘油注射液','4.8g/支','10.27','支','江苏恒瑞医药股份有限公司','110','101','YSYDYZSY','2019-03-01 00:00:00','10','','1','0'), ('2599','86979474000209','盐酸地尔硫卓缓释胶囊(合贝爽)','90mg*10粒/盒','36.92','盒','天津田边制药有限公司','137','101','YSDELZHSJN(HBS)','2019-03-01 00:00:00','10','','1','0'), ('2600','86979474000208','苯甲酸阿格列汀片(尼欣那)','25mg*10片/盒','43.21','盒','日本武田药品工业株式会社','111','101','BJSAGLTP(NXN)','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('2601','86979474000208','重组人凝血因子Ⅷ(拜科奇)注射液','500iu:2.5ml*1瓶','35.09','瓶','拜耳医药保健有限公司S','161','101','ZZRNXYZⅧ(BKQ)ZSY','2019-03-01 00:00:00','10','','1','0'), ('2602','86979474000209','10%氯化钠注射液(海普)','1g：10ml*5支/盒','12.64','盒','G1上海旭东海普药业有限公司','110','101','10%LHNZSY(HP)','2019-03-01 00:00:00','10','','1','0'), ('2603','86979474000208','潼蒺藜颗粒 ',' 1g/10g*1袋','46.94','袋','江阴天江药业有限公司','115','102','ZZZKL ','2019-03-01 00:00:00','10','','1','0'), ('2604','86979474000209','土鳖虫颗粒 ',' 1g/10g*1袋','8.85','袋','江阴天江药业有限公司','115','102','TBCKL ','2019-03-01 00:00:00','10','','1','0'), ('2605','86979474000208','土茯苓颗粒 ','1.000g*1袋/袋','74.20','袋','江阴天江药业有限公司','115','102','TZZKL ','2019-03-01 00:00:00','10','','1','0'), ('2606','86979474000208','菟丝子颗粒 ',' 0.5g/10g*1袋','36.45','袋','江阴天江药业有限公司','115','102','ZSZKL ','2019-03-01 00:00:00','10','','1','0'), ('2607','86979474000209','瓦楞子颗粒 ',' 0.5g/15g*1袋','49.78','袋','江阴天江药业有限公司','115','102','WLZKL ','2019-03-01 00:00:00','10','','1','0'), ('2608','86979474000208','王不留行颗粒 ',' 0.5g/10g*1袋','52.71','袋','江阴天江药业有限公司','115','102','WBLXKL ','2019-03-01 00:00:00','10','','1','0'), ('2609','86979474000209','威灵仙颗粒 ',' 1g/10g*1袋','42.83','袋','江阴天江药业有限公司','115','102','WLXKL ','2019-03-01 00:00:00','10','','1','0'), ('2610','86979474000208','乌梅颗粒 ',' 3g/10g*1袋','15.38','袋','江阴天江药业有限公司','115','102','WMKL ','2019-03-01 00:00:00','10','','1','0'), ('2611','86979474000208','乌药颗粒 ',' 0.5g/10g*1袋','31.50','袋','江阴天江药业有限公司','115','102','WYKL ','2019-03-01 00:00:00','10','','1','0'), ('2612','86979474000209','吴茱萸颗粒 ','0.5g/3g*1袋','63.64','袋','江阴天江药业有限公司','115','102','WZZKL ','2019-03-01 00:00:00','10','','1','0'), ('2613','86979474000208','蜈蚣颗粒 ',' 0.5g/1g*1袋','5.57','袋','江阴天江药业有限公司','115','102','ZZKL ','2019-03-01 00:00:00','10','','1','0'), ('2614','86979474000209','紫苏子颗粒',' 0.5g/10g*1袋','10.34','袋','江阴天江药业有限公司','115','102','ZSZKL','2019-03-01 00:00:00','10','','1','0'), ('2615','86979474000208','盐酸羟考酮注射液(奥诺美)','10mg*1支','4.08','支','萌蒂(英国)制药有限公司S','110','101','YSQKTZSY(ANM)','2019-03-01 00:00:00','10','','1','0'), ('2616','86979474000208','磷酸钠盐口服液','90ml*1瓶/瓶','1.56','瓶','四川迪康科技药业股份有限公司','164','101','LSNYKFY','2019-03-01 00:00:00','10','','1','0'), ('2617','86979474000209','注射用培美曲塞二钠','0.1g*1瓶/瓶','24.01','瓶','扬子江药业集团有限公司','161','101','ZSYPMQSEN','2019-03-01 00:00:00','10','','1','0'), ('2618','86979474000208','碳酸氢钠注射液','0.5g*5支/盒','64.85','盒','济南利民制药','110','101','TSQNZSY','2019-03-01 00:00:00','10','','1','0'), ('2619','86979474000209','注射用骨肽(I)','10mg*1支','29.10','支','黑龙江江世药业有限公司','110','101','ZSYGZ(I)','2019-03-01 00:00:00','10','','1','0'), ('2620','86979474000208','五加皮颗粒 ','1g/10g*1袋','57.43','袋','江阴天江药业有限公司','115','102','WJPKL ','2019-03-01 00:00:00','10','','1','0'), ('2621','86979474000208','五味子颗粒 ',' 1g/6g*1袋','8.30','袋','江阴天江药业有限公司','115','102','WWZKL ','2019-03-01 00:00:00','10','','1','0'), ('2622','86979474000209','盐酸奥布卡因滴眼液','80mg*1瓶/瓶','46.39','瓶','日本参天制药株式会社','160','101','YSABKYDYY','2019-03-01 00:00:00','10','','1','0'), ('2623','86979474000208','祖师麻片','0.3g*54片/盒','4.07','盒','秦皇岛山海关制药厂','111','102','ZSMP','2019-03-01 00:00:00','10','','1','0'), ('2624','86979474000209','林可霉素利多卡因凝胶','15.000g*1支/支','33.60','支','山东方明药业集团股份有限公司','120','101','LKMSLDKYNJ','2019-03-01 00:00:00','10','','1','0'), ('2625','86979474000208','盐酸金霉素眼膏','2g:0.5%*1支/盒','1.52','盒','新乡华青药业有限公司','132','101','YSJMSYG','2019-03-01 00:00:00','10','','1','0'), ('2626','86979474000208','赖脯胰岛素注射液(优泌乐)预装注射笔','3ml:300iu*1支/盒','25.22','盒','Eli Lilly and Company','110','101','LFYDSZSY(YML)YZZSB','2019-03-01 00:00:00','10','','1','0'), ('2627','86979474000209','BG注射用青霉素G钠','80万u*1瓶','1.81','瓶','山东鲁抗医药股份有限公司','110','101','BGZSYQMSGN','2019-03-01 00:00:00','10','','1','0'), ('2628','86979474000208','达沙替尼片(依尼舒)','50mg*7片/盒','35.32','盒','正大天晴药业股份有限公司S','111','101','DSTNP(YNS)','2019-03-01 00:00:00','10','','1','0'), ('2629','86979474000209','甲磺酸伊马替尼胶囊(格尼可)','100mg*12粒/盒','39.84','盒','正大天晴药业股份有限公司S','114','101','JHSYMTNJN(GNK)','2019-03-01 00:00:00','10','','1','0'), ('2630','86979474000208','玉米须颗粒 ','0.500g*15袋/袋','23.07','袋','江阴天江药业有限公司','115','102','YMXKL ','2019-03-01 00:00:00','10','','1','0'), ('2631','86979474000208','枸橼酸咖啡因注射液（倍优诺）','20mg/支','63.79','支','意大利凯西制药公司','110','101','ZZSKFYZSY（BYN）','2019-03-01 00:00:00','10','','1','0'), ('2632','86979474000209','维生素K1注射液','10.000mg*10支/盒','3.36','盒','国药集团容生制药有限公司','110','101','WSSK1ZSY','2019-03-01 00:00:00','10','','1','0'), ('2633','86979474000208','丁卡因注射液','5.000ml/支','28.48','支','江苏九旭药业有限公司','110','101','DKYZSY','2019-03-01 00:00:00','10','','1','0'), ('2634','86979474000209','人用狂犬病疫苗','0.5ml*1支/支','51.31','支','辽宁成大生物股份有限公司','110','101','RYKQBYM','2019-03-01 00:00:00','10','','1','0'), ('2635','86979474000208','四季青','10g/袋','61.09','袋','','112','103','SJQ','2019-03-01 00:00:00','10','','1','0'), ('2636','86979474000208','香砂六君丸','0.375g*240粒/瓶','13.86','瓶','仲景宛西制药股份有限公司','163','102','XSLJW','2019-03-01 00:00:00','10','','1','0'), ('2637','86979474000209','妇宁胶囊(运通)','0.35g*48粒/盒','12.49','盒','杭州万邦天诚药业有限公司','114','101','FNJN(YT)','2019-03-01 00:00:00','10','','1','0'), ('2638','86979474000208','去乙酰毛花苷注射液（西地兰）','0.400mg:2mL*2支/盒','37.41','盒','成都倍特药业有限公司','110','101','QYXMHZZSY（XDL）','2019-03-01 00:00:00','10','','1','0'), ('2639','86979474000209','注射用重组人促黄体激素α(乐芮)','75.000iu*1支+1ml注射用水/盒','19.38','盒','默克雪兰诺（德国）有限公司','161','101','ZSYZZRCHTJSα(LZ)','2019-03-01 00:00:00','10','','1','0'), ('2640','86979474000208','重组人促卵泡激素注射液（果纳芬）','33ug(450IU)*1支/盒','1.82','盒','默克雪兰诺（德国）有限公司','110','101','ZZRCLPJSZSY（GNF）','2019-03-01 00:00:00','10','','1','0'), ('2641','86979474000208','百药煎','1000mg/g','51.57','克','桐君堂药业有限公司','112','103','BYJ','2019-03-01 00:00:00','10','','1','0'), ('2642','86979474000209','十一酸睾酮胶丸(安特尔)','40mg*20粒/盒','10.93','盒','默沙东制药','163','101','SYSZTJW(ATE)','2019-03-01 00:00:00','10','','1','0'), ('2643','86979474000208','复方氯化钠注射液(双管软袋)','500.000ml*1袋/袋','2.73','袋','浙江济民制药股份有限公司','150','101','FFLHNZSY(SGRD)','2019-03-01 00:00:00','10','','1','0'), ('2644','86979474000209','注射用美罗培南(海正美特)','0.500g*1瓶/盒','37.87','盒','海正辉瑞制药有限公司','161','101','ZSYMLPN(HZMT)','2019-03-01 00:00:00','10','','1','0'), ('2645','86979474000208','磷酸西格列汀(捷诺维)片','100mg*7片/盒','1.79','盒','默沙东制药','111','101','LSXGLT(JNW)P','2019-03-01 00:00:00','10','','1','0'), ('2646','86979474000208','开塞露(含甘油)','20ml*1支','41.72','支','上海运佳制药厂','119','101','KSL(HGY)','2019-03-01 00:00:00','10','','1','0'), ('2647','86979474000209','青蒿','1000mg/g','27.73','克','  江苏','112','103','QZ','2019-03-01 00:00:00','10','','1','0'), ('2648','86979474000208','注射用曲妥株单抗（赫赛汀）','440mg*1瓶/瓶','3.17','瓶','上海罗氏制药有限公司','110','101','ZSYQTZDK（HST）','2019-03-01 00:00:00','10','','1','0'), ('2649','86979474000209','冻干重组人脑利钠肽(新活素)','0.5mg*1支','74.98','支','成都诺迪康生物制药有限公司S','161','101','DGZZRNLNZ(XHS)','2019-03-01 00:00:00','10','','1','0'), ('2650','86979474000208','蒲公英','1000mg/g','8.92','克','江苏','112','103','PGY','2019-03-01 00:00:00','10','','1','0'), ('2651','86979474000208','阿戈美拉汀（阿美宁）','25mg*14片/盒','25.55','盒','江苏豪盛药业股份有限公司','111','101','AGMLT（AMN）','2019-03-01 00:00:00','10','','1','0'), ('2652','86979474000209','血府逐瘀口服液','10.000ml*12支/盒','92.71','盒','吉林敖东延边药业股份有限公司','164','102','XFZZKFY','2019-03-01 00:00:00','10','','1','0'), ('2653','86979474000208','脑心通胶囊','0.400g*48粒/盒','74.07','盒','陕西步长制药有限公司','114','101','NXTJN','2019-03-01 00:00:00','10','','1','0'), ('2654','86979474000209','利巴韦林气雾剂（信韦林）','0.500mg*150揿/支','4.18','支','上海信谊药厂有限公司','122','101','LBWLQWJ（XWL）','2019-03-01 00:00:00','10','','1','0'), ('2655','86979474000208','硫酸沙丁胺醇吸入气雾剂（万托林）','100.000ug*200揿/盒','9.43','盒','葛兰素史克制药(苏州)有限公司8','122','101','LSSDACXRQWJ（WTL）','2019-03-01 00:00:00','10','','1','0'), ('2656','86979474000208','异丙托溴铵气雾剂（爱全乐）','10ml：20ug*200揿/支','4.48','支','勃林格殷格翰（德国）国际公司','122','101','YBTZZQWJ（AQL）','2019-03-01 00:00:00','10','','1','0'), ('2657','86979474000209','定坤丹','10.800g*6粒/盒','3.09','盒','山西广誉远国药有限公司','163','102','DKD','2019-03-01 00:00:00','10','','1','0'), ('2658','86979474000208','BG注射用乳糖酸阿奇霉素(其仙)','0.25g*1支','2.19','支','东北制药集团沈阳第一制药厂','110','101','BGZSYRTSAQMS(QX)','2019-03-01 00:00:00','10','','1','0'), ('2659','86979474000209','秦艽颗粒','2g/10g/袋','39.51','袋','江阴天江药业有限公司','115','102','QZKL','2019-03-01 00:00:00','10','','1','0'), ('2660','86979474000208','乙酰半胱氨酸(阿思欣泰)注射液','4g:20ml*1支','20.87','支','杭州民生药业有限公司','110','101','YXBZAS(ASXT)ZSY','2019-03-01 00:00:00','10','','1','0'), ('2661','86979474000208','谷芽颗粒 ',' 0.5g/10g*1袋','44.83','袋','江阴天江药业有限公司','115','102','GYKL ','2019-03-01 00:00:00','10','','1','0'), ('2662','86979474000209','小蓟颗粒 ','1.5g/15g*1袋','7.08','袋','江阴天江药业有限公司','115','102','XJKL ','2019-03-01 00:00:00','10','','1','0'), ('2663','86979474000208','月季花颗粒 ',' 2.5g/10g*1袋','7.17','袋','江阴天江药业有限公司','115','102','YJHKL ','2019-03-01 00:00:00','10','','1','0'), ('2664','86979474000209','香薷颗粒 ',' 1g/10g*1袋','1.69','袋','江阴天江药业有限公司','115','102','XZKL ','2019-03-01 00:00:00','10','','1','0'), ('2665','86979474000208','鹿血晶（贵州广济堂）','1g*1瓶/盒','38.48','盒','贵州广济堂药业有限公司','116','101','LXJ（GZGJT）','2019-03-01 00:00:00','10','','1','0'), ('2666','86979474000208','来那度胺胶囊(瑞复美)','10.000mg*21粒/盒','7.68','盒','瑞士Celgene','114','101','LNDAJN(RFM)','2019-03-01 00:00:00','10','','1','0'), ('2667','86979474000209','干蟾皮','1000mg/g','0.83','克','','112','103','GCP','2019-03-01 00:00:00','10','','1','0'), ('2668','86979474000208','青风藤','1000mg/g','4.03','克','','112','103','QFT','2019-03-01 00:00:00','10','','1','0'), ('2669','86979474000209','莲子心','1000mg/g','30.80','克','','112','103','LZX','2019-03-01 00:00:00','10','','1','0'), ('2670','86979474000208','冬凌草','1000mg/g','28.08','克','','112','103','DLC','2019-03-01 00:00:00','10','','1','0'), ('2671','86979474000208','黛哈散','1000mg/g','22.31','克','','112','103','DHS','2019-03-01 00:00:00','10','','1','0'), ('2672','86979474000209','黑料豆','1000mg/g','4.64','克','','112','103','HLD','2019-03-01 00:00:00','10','','1','0'), ('2673','86979474000208','蚕砂','1000mg/g','19.07','克','','112','103','CS','2019-03-01 00:00:00','10','','1','0'), ('2674','86979474000209','藏青果','1000mg/g','76.13','克','','112','103','CQG','2019-03-01 00:00:00','10','','1','0'), ('2675','86979474000208','泽漆','1000mg/g','25.60','克','','112','103','ZQ','2019-03-01 00:00:00','10','','1','0'), ('2676','86979474000208','菝契','1000mg/g','25.97','克','','112','103','ZQ','2019-03-01 00:00:00','10','','1','0'), ('2677','86979474000209','南方红豆杉','5.000g*2包/袋','74.04','袋','南京同仁堂药业有限责任公司','116','101','NFHDS','2019-03-01 00:00:00','10','','1','0'), ('2678','86979474000208','复方南星止痛膏','1.000贴*4贴/盒','37.68','盒','江苏康缘药业股份有限公司','146','101','FFNXZTG','2019-03-01 00:00:00','10','','1','0'), ('2679','86979474000209','腰痹通胶囊','0.420g*30粒/盒','13.22','盒','江苏康缘药业股份有限公司','114','102','YBTJN','2019-03-01 00:00:00','10','','1','0'), ('2680','86979474000208','桂枝茯苓胶囊','0.310g*50粒/盒','10.90','盒','江苏康缘药业股份有限公司','114','102','GZZZJN','2019-03-01 00:00:00','10','','1','0'), ('2681','86979474000208','排石颗粒','5g×12袋/盒','23.17','盒','南京同仁堂药业有限责任公司','115','102','PSKL','2019-03-01 00:00:00','10','','1','0'), ('2682','86979474000209','仙鹤草颗粒 ','1g/15g*1袋','34.54','袋','江阴天江药业有限公司','115','102','XHCKL ','2019-03-01 00:00:00','10','','1','0'), ('2683','86979474000208','仙灵脾颗粒 ','0.5g/10g*1袋','0.43','袋','江阴天江药业有限公司','115','102','XLPKL ','2019-03-01 00:00:00','10','','1','0'), ('2684','86979474000209','仙茅颗粒 ','0.5g/10g*1袋','5.02','袋','江阴天江药业有限公司','115','102','XMKL ','2019-03-01 00:00:00','10','','1','0'), ('2685','86979474000208','香附颗粒 ',' 0.5g/10g*1袋','29.35','袋','江阴天江药业有限公司','115','102','XFKL ','2019-03-01 00:00:00','10','','1','0'), ('2686','86979474000208','小茴香颗粒 ','0.5g/6g*1袋','43.78','袋','江阴天江药业有限公司','115','102','XZXKL ','2019-03-01 00:00:00','10','','1','0'), ('2687','86979474000209','薤白颗粒 ',' 2.5g/10g*1袋','33.80','袋','江阴天江药业有限公司','115','102','ZBKL ','2019-03-01 00:00:00','10','','1','0'), ('2688','86979474000208','辛夷颗粒 ',' 0.5g/6g*1袋','80.73','袋','江阴天江药业有限公司','115','102','XYKL ','2019-03-01 00:00:00','10','','1','0'), ('2689','86979474000209','徐长卿颗粒 ','1.5g/10g*1袋','18.29','袋','江阴天江药业有限公司','115','102','XCQKL ','2019-03-01 00:00:00','10','','1','0'), ('2690','86979474000208','续断颗粒 ',' 2g/10g*1袋','45.11','袋','江阴天江药业有限公司','115','102','XDKL ','2019-03-01 00:00:00','10','','1','0'), ('2691','86979474000208','玄参颗粒 ',' 3g/10g*1袋','58.68','袋','江阴天江药业有限公司','115','102','XCKL ','2019-03-01 00:00:00','10','','1','0'), ('2692','86979474000209','旋覆花颗粒 ',' 0.5g/6g*1袋','17.75','袋','江阴天江药业有限公司','115','102','XFHKL ','2019-03-01 00:00:00','10','','1','0'), ('2693','86979474000208','血余炭颗粒 ','0.5g/10g*1袋','54.29','袋','江阴天江药业有限公司','115','102','XYTKL ','2019-03-01 00:00:00','10','','1','0'), ('2694','86979474000209','吸入用硫酸沙丁胺醇溶液(万托林)','5mg*5瓶/盒','48.81','盒','葛兰素史克（中国）投资有限公司','156','101','XRYLSSDACRY(WTL)','2019-03-01 00:00:00','10','','1','0'), ('2695','86979474000208','10%葡萄糖注射液','100ml*1袋','38.26','袋','安徽丰原药业股份有限公司无为药厂','110','101','10%PTTZSY','2019-03-01 00:00:00','10','','1','0'), ('2696','86979474000208','葶苈子颗粒 ',' 0.5g/10g*1袋','17.42','袋','江阴天江药业有限公司','115','102','ZZZKL ','2019-03-01 00:00:00','10','','1','0'), ('2697','86979474000209','透骨草颗粒',' 1g/10g*1袋','3.58','袋','江阴天江药业有限公司','115','102','TGCKL','2019-03-01 00:00:00','10','','1','0'), ('2698','86979474000208','天竺黄颗粒 ',' 0.5g/10g*1袋','1.30','袋','江阴天江药业有限公司','115','102','T竺HKL ','2019-03-01 00:00:00','10','','1','0'), ('2699','86979474000209','生山楂颗粒 ',' 3g/10g*1袋','2.90','袋','江阴天江药业有限公司','115','102','SSZKL ','2019-03-01 00:00:00','10','','1','0'), ('2700','86979474000208','桑螵蛸颗粒 ',' 0.5g/10g*1袋','46.43','袋','江阴天江药业有限公司','115','102','SpZKL ','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('2701','86979474000208','清风藤颗粒 ','0.5g/15g*1袋','8.81','袋','江阴天江药业有限公司','115','102','QFTKL ','2019-03-01 00:00:00','10','','1','0'), ('2702','86979474000209','青葙子颗粒 ',' 0.5g/10g*1袋','17.80','袋','江阴天江药业有限公司','115','102','QZZKL ','2019-03-01 00:00:00','10','','1','0'), ('2703','86979474000208','青黛粉颗粒 ',' 3g/3g*1袋','5.61','袋','江阴天江药业有限公司','115','102','QDFKL ','2019-03-01 00:00:00','10','','1','0'), ('2704','86979474000209','茜草颗粒 ',' 0.5g/10g*1袋','0.05','袋','江阴天江药业有限公司','115','102','ZCKL ','2019-03-01 00:00:00','10','','1','0'), ('2705','86979474000208','千年健颗粒 ','千年健颗粒 ','8.33','袋','江阴天江药业有限公司','115','102','QNJKL ','2019-03-01 00:00:00','10','','1','0'), ('2706','86979474000208','七叶一枝花颗粒 ','1.000g*1袋/袋','9.06','袋','江阴天江药业有限公司','115','102','QYYZHKL ','2019-03-01 00:00:00','10','','1','0'), ('2707','86979474000209','胖大海颗粒 ',' 0.5g/3g*1袋','13.67','袋','江阴天江药业有限公司','115','102','PDHKL ','2019-03-01 00:00:00','10','','1','0'), ('2708','86979474000208','糯稻根颗粒 ',' 0.5g/30g*1袋','59.52','袋','江阴天江药业有限公司','115','102','NDGKL ','2019-03-01 00:00:00','10','','1','0'), ('2709','86979474000209','木贼颗粒 ','0.5g/10g*1袋','13.58','袋','江阴天江药业有限公司','115','102','MZKL ','2019-03-01 00:00:00','10','','1','0'), ('2710','86979474000208','马鞭草颗粒 ',' 1g/10g*1袋','43.31','袋','江阴天江药业有限公司','115','102','MBCKL ','2019-03-01 00:00:00','10','','1','0'), ('2711','86979474000208','麻黄颗粒 ',' 0.5g/6g*1袋','6.36','袋','江阴天江药业有限公司','115','102','MHKL ','2019-03-01 00:00:00','10','','1','0'), ('2712','86979474000209','麻黄根颗粒 ',' 1g/10g*1袋','4.26','袋','江阴天江药业有限公司','115','102','MHGKL ','2019-03-01 00:00:00','10','','1','0'), ('2713','86979474000208','注射用盐酸纳洛酮(纳乐枢)','2mg*1瓶','21.02','瓶','重庆莱美药业股份有限公司','110','101','ZSYYSNLT(NLS)','2019-03-01 00:00:00','10','','1','0'), ('2714','86979474000209','弹性酶肠溶片(千红怡甘)','600iu*24片/盒','14.03','盒','常州千红生化制药股份有限公司','133','101','DXMCRP(QHZG)','2019-03-01 00:00:00','10','','1','0'), ('2715','86979474000208','丙酸倍氯米松（宝丽亚）','0.800mg*2ml/支','39.23','支','意大利凯西制药公司','136','101','BSBLMS（BLY）','2019-03-01 00:00:00','10','','1','0'), ('2716','86979474000208','山茱萸颗粒 ',' 1.5g/6g*1袋','15.44','袋','江阴天江药业有限公司','115','102','SZZKL ','2019-03-01 00:00:00','10','','1','0'), ('2717','86979474000209','沉香粉颗粒 ',' 1g/1g*1袋','38.55','袋','江阴天江药业有限公司','115','102','CXFKL ','2019-03-01 00:00:00','10','','1','0'), ('2718','86979474000208','鞣酸软膏','20.000g*1盒/盒','0.76','盒','南京市儿童医院0','121','101','RSRG','2019-03-01 00:00:00','10','','1','0'), ('2719','86979474000209','硝酸甘油片','0.5mg*100片/瓶','0.81','瓶','北京益民药业有限公司','111','101','XSGYP','2019-03-01 00:00:00','10','','1','0'), ('2720','86979474000208','硫酸钡干混悬剂','1盒','34.46','盒','上海马陆','157','101','LSBGHXJ','2019-03-01 00:00:00','10','','1','0'), ('2721','86979474000208','环孢素软胶囊（田可）','50.000mg*50粒/盒','10.95','盒','华北制药股份有限公司','159','101','HZSRJN（TK）','2019-03-01 00:00:00','10','','1','0'), ('2722','86979474000209','注射用氨苄西林钠','0.500g*1支/支','37.01','支','山东鲁抗医药股份有限公司','161','101','ZSYAZXLN','2019-03-01 00:00:00','10','','1','0'), ('2723','86979474000208','重酒石酸去甲肾上腺素注射液','2.000mg*2支/盒','31.21','盒','远大医药有限公司','110','101','ZJSSQJSSXSZSY','2019-03-01 00:00:00','10','','1','0'), ('2724','86979474000209','布地奈德鼻喷剂（雷诺考特）','64.000ug*120喷/盒','18.25','盒','瑞典Astrazeneca','143','101','BDNDBPJ（LNKT）','2019-03-01 00:00:00','10','','1','0'), ('2725','86979474000208','布地奈德福莫特罗粉吸入剂（信必可都保）','320ug/9ug*60吸/盒','40.91','盒','瑞典Astrazeneca','156','101','BDNDFMTLFXRJ（XBKDB）','2019-03-01 00:00:00','10','','1','0'), ('2726','86979474000208','脉血康胶囊','0.250g*48粒/盒','28.20','盒','重庆多普泰制药股份有限公司','114','101','MXKJN','2019-03-01 00:00:00','10','','1','0'), ('2727','86979474000209','酮康唑洗剂(采乐)','50ml×1瓶','36.78','瓶','西安杨森制药有限公司','142','101','TKZXJ(CL)','2019-03-01 00:00:00','10','','1','0'), ('2728','86979474000208','注射用青霉素G钠','160万单位：0.96g*1瓶/瓶','4.80','瓶','山东鲁抗医药股份有限公司','161','101','ZSYQMSGN','2019-03-01 00:00:00','10','','1','0'), ('2729','86979474000209','消栓通络胶囊','0.540g*18粒/盒','2.97','盒','吉林省东北亚药业股份有限公司','114','101','XSTLJN','2019-03-01 00:00:00','10','','1','0'), ('2730','86979474000208','骨通贴膏','1.000贴*6贴/盒','26.93','盒','桂林华润天和药业有限公司','146','101','GTTG','2019-03-01 00:00:00','10','','1','0'), ('2731','86979474000208','胃复春片','0.360g*80片/盒','1.98','盒','杭州胡庆余堂药业有限公司','111','101','WFCP','2019-03-01 00:00:00','10','','1','0'), ('2732','86979474000209','双歧杆菌三联活菌散（培菲康）','2.000g*6包/盒','12.48','盒','上海上药信谊药厂有限公司','113','101','SQGJSLHJS（PFK）','2019-03-01 00:00:00','10','','1','0'), ('2733','86979474000208','脑安胶囊','0.400g*30粒/盒','26.48','盒','辽源誉隆亚东药业 ','114','101','NAJN','2019-03-01 00:00:00','10','','1','0'), ('2734','86979474000209','硝酸甘油注射液','5.000mg*1支/支','15.65','支','北京益民药业有限公司','110','101','XSGYZSY','2019-03-01 00:00:00','10','','1','0'), ('2735','86979474000208','生姜','1000mg/g','60.53','克','','112','103','SJ','2019-03-01 00:00:00','10','','1','0'), ('2736','86979474000208','生姜','1000mg/g','19.26','克','','112','103','SJ','2019-03-01 00:00:00','10','','1','0'), ('2737','86979474000209','坤宁口服液','20.000ml*10支/盒','22.15','盒','荣昌制药（淄博）有限公司','164','101','KNKFY','2019-03-01 00:00:00','10','','1','0'), ('2738','86979474000208','甜梦口服液','10.000ml*15支/盒','1.08','盒','荣昌制药（淄博）有限公司','164','101','TMKFY','2019-03-01 00:00:00','10','','1','0'), ('2739','86979474000209','哈西奈德溶液','10ml（0.1%）*1瓶/瓶','10.40','瓶','国药集团三益药业','119','101','HXNDRY','2019-03-01 00:00:00','10','','1','0'), ('2740','86979474000208','他达拉非(希爱力）','20mg*2片/盒','5.89','盒','Lilly del Caribe,Inc.Puerto Rico','111','101','TDLF(XAL）','2019-03-01 00:00:00','10','','1','0'), ('2741','86979474000208','谷氨酰胺颗粒(安凯舒)','2.5g*6袋/盒','9.84','盒','重庆药友制药有限公司','115','102','GAXAKL(AKS)','2019-03-01 00:00:00','10','','1','0'), ('2742','86979474000209','硫酸庆大霉素注射液','8.000万*1支/支','31.57','支','石药集团欧意药业有限公司','110','101','LSQDMSZSY','2019-03-01 00:00:00','10','','1','0'), ('2743','86979474000208','白附子颗粒 ',' 0.5g/3g*1袋','1.43','袋','江阴天江药业有限公司','115','102','BFZKL ','2019-03-01 00:00:00','10','','1','0'), ('2744','86979474000209','白花蛇舌草颗粒 ',' 1g/15g*1袋','7.86','袋','江阴天江药业有限公司','115','102','BHSSCKL ','2019-03-01 00:00:00','10','','1','0'), ('2745','86979474000208','白及颗粒 ',' 3g/3g*1袋','14.73','袋','江阴天江药业有限公司','115','102','BJKL ','2019-03-01 00:00:00','10','','1','0'), ('2746','86979474000208','白蒺藜颗粒',' 0.5g/10g*1袋','17.50','袋','江阴天江药业有限公司','115','102','BZZKL','2019-03-01 00:00:00','10','','1','0'), ('2747','86979474000209','白芥子颗粒 ','1g/10g*1袋','8.90','袋','江阴天江药业有限公司','115','102','BJZKL ','2019-03-01 00:00:00','10','','1','0'), ('2748','86979474000208','白茅根颗粒 ',' 2g/15g*1袋','3.64','袋','江阴天江药业有限公司','115','102','BMGKL ','2019-03-01 00:00:00','10','','1','0'), ('2749','86979474000209','白前颗粒 ',' 1g/10g*1袋','2.50','袋','江阴天江药业有限公司','115','102','BQKL ','2019-03-01 00:00:00','10','','1','0'), ('2750','86979474000208','白头翁颗粒',' 0.5g/10g*1袋','14.63','袋','江阴天江药业有限公司','115','102','BTWKL','2019-03-01 00:00:00','10','','1','0'), ('2751','86979474000208','白薇颗粒 ',' 0.5g/10g*1袋','29.28','袋','江阴天江药业有限公司','115','102','BZKL ','2019-03-01 00:00:00','10','','1','0'), ('2752','86979474000209','白鲜皮颗粒 ',' 1.5g/10g*1袋','60.28','袋','江阴天江药业有限公司','115','102','BXPKL ','2019-03-01 00:00:00','10','','1','0'), ('2753','86979474000208','白芷颗粒 ',' 1g/6g*1袋','57.06','袋','江阴天江药业有限公司','115','102','BZKL ','2019-03-01 00:00:00','10','','1','0'), ('2754','86979474000209','百合颗粒 ',' 1g/10g*1袋','5.47','袋','江阴天江药业有限公司','115','102','BHKL ','2019-03-01 00:00:00','10','','1','0'), ('2755','86979474000208','柏子仁颗粒 ',' 0.5g/10g*1袋','14.56','袋','江阴天江药业有限公司','115','102','BZRKL ','2019-03-01 00:00:00','10','','1','0'), ('2756','86979474000208','败酱草颗粒 ',' 1g/15g*1袋','4.56','袋','江阴天江药业有限公司','115','102','BJCKL ','2019-03-01 00:00:00','10','','1','0'), ('2757','86979474000209','板蓝根颗粒 ','2g/15g*1袋','2.45','袋','江阴天江药业有限公司','115','102','BLGKL ','2019-03-01 00:00:00','10','','1','0'), ('2758','86979474000208','半边莲颗粒 ',' 1g/15g*1袋','68.61','袋','江阴天江药业有限公司','115','102','BBLKL ','2019-03-01 00:00:00','10','','1','0'), ('2759','86979474000209','半枝莲颗粒 ',' 1g/15g*1袋','28.44','袋','江阴天江药业有限公司','115','102','BZLKL ','2019-03-01 00:00:00','10','','1','0'), ('2760','86979474000208','布地奈德福莫特罗粉吸入剂（信必可都保）','160ug/4.5ug*60吸/盒','4.51','盒','瑞典Astrazeneca','156','101','BDNDFMTLFXRJ（XBKDB）','2019-03-01 00:00:00','10','','1','0'), ('2761','86979474000208','尼洛替尼胶囊(达希纳)','200mg*120粒/盒','36.07','盒','诺华制药（瑞士）有限公司S','114','101','NLTNJN(DXN)','2019-03-01 00:00:00','10','','1','0'), ('2762','86979474000209','罗库溴铵注射液','5ml:50mg*1支/支','46.51','支','浙江仙琚制药股份有限公司','110','101','LKZZZSY','2019-03-01 00:00:00','10','','1','0'), ('2763','86979474000208','炉甘石洗剂','100.000ml*1瓶/瓶','75.93','瓶','湖南湘药药业','136','101','LGSXJ','2019-03-01 00:00:00','10','','1','0'), ('2764','86979474000209','聚乙二醇化重组人粒细胞(新瑞白)刺激因子注射液','3.000mg*1支/盒','22.43','盒','齐鲁制药有限公司','110','101','JYECHZZRLXB(XRB)CJYZZSY','2019-03-01 00:00:00','10','','1','0'), ('2765','86979474000208','利福昔明片(昔服申)','0.200g*12片/盒','0.39','盒','意大利阿尔法韦士曼制药','111','101','LFXMP(XFS)','2019-03-01 00:00:00','10','','1','0'), ('2766','86979474000208','氯化钠(供注射用)','1000mg/g','2.69','克','','157','101','LHN(GZSY)','2019-03-01 00:00:00','10','','1','0'), ('2767','86979474000209','10%葡萄糖注射液','500ml*1袋','20.62','袋','安徽丰原药业股份有限公司无为药厂','110','101','10%PTTZSY','2019-03-01 00:00:00','10','','1','0'), ('2768','86979474000208','六味能消胶囊','0.450g*30粒/盒','39.01','盒','西藏藏药集团股份','114','102','LWNXJN','2019-03-01 00:00:00','10','','1','0'), ('2769','86979474000209','十味龙胆花胶囊','0.450g*24粒/盒','3.69','盒','西藏藏药集团股份','114','102','SWLDHJN','2019-03-01 00:00:00','10','','1','0'), ('2770','86979474000208','治伤胶囊','0.250g*48粒/盒','3.35','盒','杭州朱养心药业','114','101','ZSJN','2019-03-01 00:00:00','10','','1','0'), ('2771','86979474000208','薄荷颗粒 ','0.5g/6g*1袋','8.00','袋','江阴天江药业有限公司','115','102','BHKL ','2019-03-01 00:00:00','10','','1','0'), ('2772','86979474000209','北沙参颗粒',' 2g/10g*1袋','20.22','袋','江阴天江药业有限公司','115','102','BSCKL','2019-03-01 00:00:00','10','','1','0'), ('2773','86979474000208','山药颗粒 ',' 0.5g/10g*1袋','27.70','袋','江阴天江药业有限公司','115','102','SYKL ','2019-03-01 00:00:00','10','','1','0'), ('2774','86979474000209','青礞石','1000mg/g','10.69','克','','112','103','QZS','2019-03-01 00:00:00','10','','1','0'), ('2775','86979474000208','楮实子','1000mg/g','23.86','克','','112','103','ZSZ','2019-03-01 00:00:00','10','','1','0'), ('2776','86979474000208','锁阳','1000mg/g','44.55','克','','112','103','SY','2019-03-01 00:00:00','10','','1','0'), ('2777','86979474000209','郁李仁','1000mg/g','22.07','克','','112','103','YLR','2019-03-01 00:00:00','10','','1','0'), ('2778','86979474000208','刘寄奴','1000mg/g','7.09','克','','112','103','LJN','2019-03-01 00:00:00','10','','1','0'), ('2779','86979474000209','丝瓜络','1000mg/g','11.94','克','','112','103','SGL','2019-03-01 00:00:00','10','','1','0'), ('2780','86979474000208','荜菝','1000mg/g','58.91','克','','112','103','ZZ','2019-03-01 00:00:00','10','','1','0'), ('2781','86979474000208','千年健','1000mg/g','0.66','克','','112','103','QNJ','2019-03-01 00:00:00','10','','1','0'), ('2782','86979474000209','灯芯草','1000mg/g','35.87','克','','112','103','DXC','2019-03-01 00:00:00','10','','1','0'), ('2783','86979474000208','刀豆壳','1000mg/g','89.11','克','','112','103','DDK','2019-03-01 00:00:00','10','','1','0'), ('2784','86979474000209','沉香曲','1000mg/g','71.05','克','','112','103','CXQ','2019-03-01 00:00:00','10','','1','0'), ('2785','86979474000208','注射用氢化可的松琥珀酸','50.000mg*1支/支','37.25','支','天津生物化学制药有限公司','161','101','ZSYQHKDSZZS','2019-03-01 00:00:00','10','','1','0'), ('2786','86979474000208','盐酸右美托咪定注射液','0.1mg*1支/支','47.90','支','江苏恩华药业股份有限公司','110','101','YSYMTZDZSY','2019-03-01 00:00:00','10','','1','0'), ('2787','86979474000209','钆特酸葡胺注射液','15.000ml*1瓶/瓶','16.24','瓶','江苏恒瑞医药股份有限公司S','110','101','ZTSPAZSY','2019-03-01 00:00:00','10','','1','0'), ('2788','86979474000208','氢化可的松注射液','25mg/支','1.67','支','天津金耀药业有限公司','110','101','QHKDSZSY','2019-03-01 00:00:00','10','','1','0'), ('2789','86979474000209','硫酸钡（Ⅱ型）干混悬剂','200.000g*1袋/袋','18.18','袋','青岛红蝶新材料有限公司','136','101','LSB（ⅡX）GHXJ','2019-03-01 00:00:00','10','','1','0'), ('2790','86979474000208','地榆颗粒','1g/10g/袋','35.71','袋','江阴天江药业有限公司','115','102','DYKL','2019-03-01 00:00:00','10','','1','0'), ('2791','86979474000208','皂角刺颗粒','0.5g/6g/袋','5.25','袋','江阴天江药业有限公司','115','102','ZJCKL','2019-03-01 00:00:00','10','','1','0'), ('2792','86979474000209','广藿香颗粒','0.5g/10g/袋','0.23','袋','江阴天江药业有限公司','115','102','GZXKL','2019-03-01 00:00:00','10','','1','0'), ('2793','86979474000208','炒槐花颗粒','2g/10g/袋','34.70','袋','江阴天江药业有限公司','115','102','CHHKL','2019-03-01 00:00:00','10','','1','0'), ('2794','86979474000209','瓜蒌仁颗粒','0.5g/10g/袋','8.94','袋','江阴天江药业有限公司','115','102','GZRKL','2019-03-01 00:00:00','10','','1','0'), ('2795','86979474000208','火麻仁颗粒','0.5g/10g/袋','39.46','袋','江阴天江药业有限公司','115','102','HMRKL','2019-03-01 00:00:00','10','','1','0'), ('2796','86979474000208','槟榔颗粒','0.5g/10g/袋','9.11','袋','江阴天江药业有限公司','115','102','ZLKL','2019-03-01 00:00:00','10','','1','0'), ('2797','86979474000209','麸炒枳实颗粒','0.5g/6g/袋','12.07','袋','江阴天江药业有限公司','115','102','CZSKL','2019-03-01 00:00:00','10','','1','0'), ('2798','86979474000208','金乌骨通胶囊','0.5g*30粒/瓶','34.25','瓶','贵州盛世龙方制药','114','102','JWGTJN','2019-03-01 00:00:00','10','','1','0'), ('2799','86979474000209','唑来膦酸注射液(依固)','5mg：100ml*1瓶','15.39','瓶','正大天晴药业集团股份有限公司','110','101','ZLZSZSY(YG)','2019-03-01 00:00:00','10','','1','0'), ('2800','86979474000208','多种微量元素(来维)注射液','40ml*1支/瓶','25.75','瓶','法国阿奎坦制药有限公司','110','101','DZWLYS(LW)ZSY','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('2801','86979474000208','磷酸铝凝胶(洁维乐)','20g:11g*4袋/盒','55.79','盒','韩国保宁制药株式会社','120','101','LSLNJ(JWL)','2019-03-01 00:00:00','10','','1','0'), ('2802','86979474000209','西甲硅油乳剂(柏西)','30ml*1瓶','46.46','瓶','德国柏林化学股份公司','118','101','XJGYRJ(BX)','2019-03-01 00:00:00','10','','1','0'), ('2803','86979474000208','埃索美拉唑镁肠溶片(耐信)','20mg*7片/盒','11.28','盒','阿斯利康制药有限公司','111','101','ASMLZMCRP(NX)','2019-03-01 00:00:00','10','','1','0'), ('2804','86979474000209','龙齿颗粒 ',' 0.5g/15g*1袋','9.84','袋','江阴天江药业有限公司','115','102','LCKL ','2019-03-01 00:00:00','10','','1','0'), ('2805','86979474000208','六月雪颗粒 ',' 0.5g/15g*1袋','39.71','袋','江阴天江药业有限公司','115','102','LYXKL ','2019-03-01 00:00:00','10','','1','0'), ('2806','86979474000208','莲子芯颗粒 ',' 2g/10g*1袋','43.30','袋','江阴天江药业有限公司','115','102','LZXKL ','2019-03-01 00:00:00','10','','1','0'), ('2807','86979474000209','荔枝核颗粒 ','0.500g*1袋/袋','61.61','袋','江阴天江药业有限公司','115','102','LZHKL ','2019-03-01 00:00:00','10','','1','0'), ('2808','86979474000208','藏青果颗粒 ',' 2g/10g*1袋','12.10','袋','江阴天江药业有限公司','115','102','CQGKL ','2019-03-01 00:00:00','10','','1','0'), ('2809','86979474000209','瞿麦颗粒 ',' 0.5g/10g*1袋','21.86','袋','江阴天江药业有限公司','115','102','MKL ','2019-03-01 00:00:00','10','','1','0'), ('2810','86979474000208','多巴胺注射液','20mg*10支/盒','12.93','盒','上海禾丰制药有限公司','110','101','DBAZSY','2019-03-01 00:00:00','10','','1','0'), ('2811','86979474000208','皂角刺颗粒','0.5g/6g/袋','81.59','袋','江阴天江药业有限公司','115','102','ZJCKL','2019-03-01 00:00:00','10','','1','0'), ('2812','86979474000209','氯沙坦钾片(科素亚)','100mg*7片/盒','22.84','盒','默沙东制药（杭州）有限公司','111','101','LSTJP(KSY)','2019-03-01 00:00:00','10','','1','0'), ('2813','86979474000208','5%葡萄糖氯化钠注射液','250ml*1袋','53.65','袋','安徽丰原药业股份有限公司无为药厂','110','101','5%PTTLHNZSY','2019-03-01 00:00:00','10','','1','0'), ('2814','86979474000209','5%葡萄糖氯化钠注射液','500ml*1袋','19.28','袋','安徽丰原药业股份有限公司无为药厂','110','101','5%PTTLHNZSY','2019-03-01 00:00:00','10','','1','0'), ('2815','86979474000208','5%葡萄糖注射液','50ml*1袋','46.99','袋','四川科伦药业有限公司','110','101','5%PTTZSY','2019-03-01 00:00:00','10','','1','0'), ('2816','86979474000208','5%葡萄糖注射液','500ml*1袋','58.94','袋','安徽丰原药业股份有限公司无为药厂','110','101','5%PTTZSY','2019-03-01 00:00:00','10','','1','0'), ('2817','86979474000209','5%葡萄糖注射液','250ml*1袋','4.05','袋','安徽丰原药业股份有限公司无为药厂','110','101','5%PTTZSY','2019-03-01 00:00:00','10','','1','0'), ('2818','86979474000208','5%葡萄糖注射液','100ml*1袋','13.19','袋','安徽丰原药业股份有限公司无为药厂','110','101','5%PTTZSY','2019-03-01 00:00:00','10','','1','0'), ('2819','86979474000209','杞明胶囊','0.400g*36粒/盒','23.83','盒','西安碑林药业','114','101','ZMJN','2019-03-01 00:00:00','10','','1','0'), ('2820','86979474000208','强力枇杷露','200.000ml*1瓶/盒','9.61','盒','杭州胡庆余堂药业有限公司','158','102','QLZZL','2019-03-01 00:00:00','10','','1','0'), ('2821','86979474000208','依诺肝素钠（亿诺佳）','4000.000iu*1支/支','38.46','支','杭州九源基因工程有限公司','110','101','YNGSN（YNJ）','2019-03-01 00:00:00','10','','1','0'), ('2822','86979474000209','LB注射用头孢呋辛钠(安可欣)','0.75g*1瓶/瓶','18.56','瓶','欧洲塞浦路斯麦道甘美大药厂','110','101','LBZSYTZZXN(AKX)','2019-03-01 00:00:00','10','','1','0'), ('2823','86979474000208','脑心清片','0.410g*36片/盒','66.12','盒','广州白云山和记黄埔中药有限公司','111','101','NXQP','2019-03-01 00:00:00','10','','1','0'), ('2824','86979474000209','水合氯醛溶液（灌肠用）','250ml/瓶','13.17','瓶','江苏省中医院','119','101','SHLQRY（GCY）','2019-03-01 00:00:00','10','','1','0'), ('2825','86979474000208','康妇消炎栓','2.000g*9粒/盒','7.63','盒','葵花药业集团(伊春)有限公司','125','101','KFXYS','2019-03-01 00:00:00','10','','1','0'), ('2826','86979474000208','头孢地尼分散片（希福尼）','50mg*12片/盒','23.50','盒','天津市中央药业有限公司','123','101','TZDNFSP（XFN）','2019-03-01 00:00:00','10','','1','0'), ('2827','86979474000209','依替巴肽注射液（泽悦）','10ml：20.000mg*1瓶/瓶','18.55','瓶','江苏豪森药业股份有限公司S','110','101','YTBZZSY（ZY）','2019-03-01 00:00:00','10','','1','0'), ('2828','86979474000208','米力农注射液（晴乐心）','10ml：10mg*1支/支','39.87','支','南京正大天晴制药有限公司','110','101','MLNZSY（QLX）','2019-03-01 00:00:00','10','','1','0'), ('2829','86979474000209','卡培他滨片(首辅)','0.500g*12片/盒','32.58','盒','正大天晴药业集团股份有限公司','111','101','KPTBP(SF)','2019-03-01 00:00:00','10','','1','0'), ('2830','86979474000208','0.9%氯化钠注射液','50ml/袋','8.51','袋','四川科伦药业有限公司','110','101','0.9%LHNZSY','2019-03-01 00:00:00','10','','1','0'), ('2831','86979474000208','0.9%氯化钠注射液','100ml/袋','17.00','袋','安徽丰原药业股份有限公司无为药厂','110','101','0.9%LHNZSY','2019-03-01 00:00:00','10','','1','0'), ('2832','86979474000209','0.9%氯化钠注射液','250ml/袋','52.62','袋','安徽丰原药业股份有限公司无为药厂','110','101','0.9%LHNZSY','2019-03-01 00:00:00','10','','1','0'), ('2833','86979474000208','10%葡萄糖注射液','50ml/袋','2.57','袋','四川科伦药业有限公司','110','101','10%PTTZSY','2019-03-01 00:00:00','10','','1','0'), ('2834','86979474000209','10%葡萄糖注射液','250ml/袋','24.34','袋','安徽丰原药业股份有限公司无为药厂','110','101','10%PTTZSY','2019-03-01 00:00:00','10','','1','0'), ('2835','86979474000208','生地黄炭','1000mg/g','2.64','克','','112','103','SDHT','2019-03-01 00:00:00','10','','1','0'), ('2836','86979474000208','阿胶颗粒  ','3g/6g*1袋','52.20','袋','江阴天江药业有限公司','115','102','AJKL  ','2019-03-01 00:00:00','10','','1','0'), ('2837','86979474000209','八月扎颗粒 ',' 0.5g/10g*1袋','39.34','袋','江阴天江药业有限公司','115','102','BYZKL ','2019-03-01 00:00:00','10','','1','0'), ('2838','86979474000208','注射用多粘菌素B','50.000万单位:10mL*1瓶/盒','48.28','盒','上海上药第一生化药业有限公司','110','101','ZSYDZJSB','2019-03-01 00:00:00','10','','1','0'), ('2839','86979474000209','去乙酰毛花苷注射液(倍特注射液)','0.400mg*5支/盒','0.66','盒','成都倍特药业有限公司','110','101','QYXMHZZSY(BTZSY)','2019-03-01 00:00:00','10','','1','0'), ('2840','86979474000208','大株红景天胶囊','0.380g*60粒/盒','64.74','盒','江苏康缘药业股份有限公司','114','102','DZHJTJN','2019-03-01 00:00:00','10','','1','0'), ('2841','86979474000208','复方多粘菌素B软膏（孚诺）','10.000g*1支/盒','2.29','盒','浙江日升昌药业有限公司','121','101','FFDZJSBRG（ZN）','2019-03-01 00:00:00','10','','1','0'), ('2842','86979474000209','头孢地尼胶囊（恒丹）','0.100g*10粒/盒','9.80','盒','江苏豪森药业股份有限公司S','114','101','TZDNJN（HD）','2019-03-01 00:00:00','10','','1','0'), ('2843','86979474000208','注射用苯巴比妥钠','0.100g*1瓶/瓶','19.65','瓶','福建闽东力捷迅药业','161','101','ZSYBBBTN','2019-03-01 00:00:00','10','','1','0'), ('2844','86979474000209','门冬氨酸鸟氨酸颗粒(瑞甘)','3.000g*10袋/盒','58.12','盒','武汉启瑞药业有限公司','115','102','MDASNASKL(RG)','2019-03-01 00:00:00','10','','1','0'), ('2845','86979474000208','丁二磺酸腺苷蛋氨酸肠溶片(思美泰)','0.500g*10片/盒','15.91','盒','雅培制药（意大利）','111','101','DEHSXZDASCRP(SMT)','2019-03-01 00:00:00','10','','1','0'), ('2846','86979474000208','白扁豆颗粒 ','0.5g/10g*1袋','66.78','袋','江阴天江药业有限公司','115','102','BBDKL ','2019-03-01 00:00:00','10','','1','0'), ('2847','86979474000209','尿促卵泡素（丽申宝）','75iu/支','20.71','支','丽珠集团丽珠制药厂','111','101','NCLPS（LSB）','2019-03-01 00:00:00','10','','1','0'), ('2848','86979474000208','BG雌二醇凝胶（爱斯妥）','30g/支','21.08','支','比利时法杏制药厂','120','101','BGCECNJ（AST）','2019-03-01 00:00:00','10','','1','0'), ('2849','86979474000209','ω-3鱼油脂肪乳注射液(尤文)','100ml:10g:1.2g*1瓶/瓶','16.33','瓶','费森尤斯卡比（北京）医药有限公司','110','101','ω-3YYZFRZSY(YW)','2019-03-01 00:00:00','10','','1','0'), ('2850','86979474000208','注射用地西他滨(昕美)','50.000mg*1瓶/盒','25.70','盒','江苏豪盛药业股份有限公司','161','101','ZSYDXTB(ZM)','2019-03-01 00:00:00','10','','1','0'), ('2851','86979474000208','炮山甲颗粒','0.25g/5g/袋','14.50','袋','江阴天江药业有限公司','115','102','PSJKL','2019-03-01 00:00:00','10','','1','0'), ('2852','86979474000209','陈皮颗粒 ',' 1g/6g*1袋','48.67','袋','江阴天江药业有限公司','115','102','CPKL ','2019-03-01 00:00:00','10','','1','0'), ('2853','86979474000208','赤芍颗粒 ',' 1.5g/10g*1袋','4.60','袋','江阴天江药业有限公司','115','102','CSKL ','2019-03-01 00:00:00','10','','1','0'), ('2854','86979474000209','地氟烷（优宁）','240ml/瓶','10.43','瓶','Baxter Healthcare of Puerto Rico','156','101','DFW（YN）','2019-03-01 00:00:00','10','','1','0'), ('2855','86979474000208','依托咪酯乳状注射液(福尔利)','20.000mg*1支/支','0.18','支','江苏恩华药业股份有限公司','110','101','YTZZRZZSY(FEL)','2019-03-01 00:00:00','10','','1','0'), ('2856','86979474000208','碘普罗胺(优维显300)注射液','100.000ml：62.34g*1瓶/瓶','1.97','瓶','拜耳医药保健有限公司','110','101','DPLA(YWX300)ZSY','2019-03-01 00:00:00','10','','1','0'), ('2857','86979474000209','碘普罗胺(优维显370)注射液','100.000ml：76.89g*1瓶/瓶','3.47','瓶','拜耳医药保健有限公司','110','101','DPLA(YWX370)ZSY','2019-03-01 00:00:00','10','','1','0'), ('2858','86979474000208','LB注射用还原型谷胱甘肽钠（松泰斯）','1.200g*1支/盒','20.06','盒','昆明积大制药股份有限公司','161','101','LBZSYHYXGZGZN（STS）','2019-03-01 00:00:00','10','','1','0'), ('2859','86979474000209','维生素K1注射液','10.000mg*10支/盒','72.12','盒','隧成药业股份有限公司','110','101','WSSK1ZSY','2019-03-01 00:00:00','10','','1','0'), ('2860','86979474000208','丁酸氢化可的松乳膏(尤卓尔)','0.1%(30g:30mg)*1支','69.41','支','天津金耀药业有限公司','121','101','DSQHKDSRG(YZE)','2019-03-01 00:00:00','10','','1','0'), ('2861','86979474000208','二甲双胍维格列汀片(II)(宜合瑞)','850mg/50mg*30片/盒','14.69','盒','诺华制药（德国）','111','101','EJSZWGLTP(II)(YHR)','2019-03-01 00:00:00','10','','1','0'), ('2862','86979474000209','氢溴酸山莨菪碱注射液','10mg/支','18.65','支','成一制药','110','101','QZSSZZJZSY','2019-03-01 00:00:00','10','','1','0'), ('2863','86979474000208','门冬胰岛素50（诺和锐50笔芯）','300.000iu*1支/支','35.81','支','诺和诺德(中国)制药有限公司','110','101','MDYDS50（NHR50BX）','2019-03-01 00:00:00','10','','1','0'), ('2864','86979474000209','麦角新碱注射液','0.200mg*1ml/支','15.44','支','成都倍特药业有限公司','110','101','MJXJZSY','2019-03-01 00:00:00','10','','1','0'), ('2865','86979474000208','利奈唑胺（天礼）葡萄糖注射液','100.000ml：0.2g：5g*1瓶/瓶','16.41','瓶','正大天晴药业集团股份有限公司','110','101','LNZA（TL）PTTZSY','2019-03-01 00:00:00','10','','1','0'), ('2866','86979474000208','利巴韦林注射液','1ml：100.000mg*10支/盒','34.99','盒','天津金耀药业有限公司','110','101','LBWLZSY','2019-03-01 00:00:00','10','','1','0'), ('2867','86979474000209','胆宁片','0.360g*100粒/盒','5.59','盒','上海和黄药业','111','101','DNP','2019-03-01 00:00:00','10','','1','0'), ('2868','86979474000208','阿利沙坦酯片（信立坦）','240.000mg*7片/盒','5.68','盒','深圳信立泰药业股份有限公司','111','101','ALSTP（XLT）','2019-03-01 00:00:00','10','','1','0'), ('2869','86979474000209','氢化可的松注射液','2mL:10.000mg*10支/盒','15.98','盒','华中药业股份有限公司','110','101','QHKDSZSY','2019-03-01 00:00:00','10','','1','0'), ('2870','86979474000208','醒脾养儿颗粒','2.000g*18袋/盒','5.52','盒','贵州健兴药业有限公司','115','102','XPYEKL','2019-03-01 00:00:00','10','','1','0'), ('2871','86979474000208','恩替卡韦分散片(润众)','0.5mg*28片/盒','22.61','盒','正大天晴药业集团股份有限公司','123','101','ETKWFSP(RZ)','2019-03-01 00:00:00','10','','1','0'), ('2872','86979474000209','注射用比伐芦定(泰加宁)','0.25g*1瓶','6.40','瓶','深圳信立泰药业股份有限公司','110','101','ZSYBFLD(TJN)','2019-03-01 00:00:00','10','','1','0'), ('2873','86979474000208','乙酰半胱氨酸颗粒(富露施)','0.1g*10包/盒','45.33','盒','海南赞邦制药有限公司','115','102','YXBZASKL(FLS)','2019-03-01 00:00:00','10','','1','0'), ('2874','86979474000209','氨茶碱注射液','2ml：0.250g*10支/盒','28.56','盒','天津金耀药业有限公司','110','101','ACJZSY','2019-03-01 00:00:00','10','','1','0'), ('2875','86979474000208','甲苯磺酸拉帕替尼片（泰立沙）','0.250g*70片/盒','59.74','盒','葛兰素史克(天津)有限公司','111','101','JBHSLPTNP（TLS）','2019-03-01 00:00:00','10','','1','0'), ('2876','86979474000208','舒更葡糖钠注射液（布瑞亭）','2ml：200.000mg*1瓶/瓶','9.85','瓶','默沙东制药（美国）','110','101','SGPTNZSY（BRT）','2019-03-01 00:00:00','10','','1','0'), ('2877','86979474000209','茴三硫胶囊','25mg*16粒/盒','52.00','盒','成都国嘉联合制药有限公司','114','102','ZSLJN','2019-03-01 00:00:00','10','','1','0'), ('2878','86979474000208','碘克沙醇注射液','100.000ml：65.2g*1瓶/瓶','34.67','瓶','江苏恒瑞医药股份有限公司','110','101','DKSCZSY','2019-03-01 00:00:00','10','','1','0'), ('2879','86979474000209','碘克沙醇注射液（威视派克）','100.000ml：32g（I）*1瓶/瓶','1.18','瓶','通用电气药业 （上海）有限公司','110','101','DKSCZSY（WSPK）','2019-03-01 00:00:00','10','','1','0'), ('2880','86979474000208','谷精草','1000mg/g','23.86','克','','112','103','GJC','2019-03-01 00:00:00','10','','1','0'), ('2881','86979474000208','卷柏','1000mg/g','4.65','克','','112','103','JB','2019-03-01 00:00:00','10','','1','0'), ('2882','86979474000209','穿山龙','1000mg/g','12.83','克','','112','103','CSL','2019-03-01 00:00:00','10','','1','0'), ('2883','86979474000208','龙眼肉','1000mg/g','3.91','克','','112','103','LYR','2019-03-01 00:00:00','10','','1','0'), ('2884','86979474000209','莲子','1000mg/g','14.56','克','','112','103','LZ','2019-03-01 00:00:00','10','','1','0'), ('2885','86979474000208','炒蒲黄','1000mg/g','64.14','克','江苏','112','103','CPH','2019-03-01 00:00:00','10','','1','0'), ('2886','86979474000208','生麻黄','1000mg/g','2.65','克','山西普德药业股份有限公司','112','103','SMH','2019-03-01 00:00:00','10','','1','0'), ('2887','86979474000209','阿莫西林克拉维酸钾分散片(君尔清)','228.5mg*24片/盒','8.05','盒','鲁南贝特制药有限公司','123','101','AMXLKLWSJFSP(JEQ)','2019-03-01 00:00:00','10','','1','0'), ('2888','86979474000208','肉苁蓉颗粒 ','3.000g*1袋/袋','72.38','袋','江阴天江药业有限公司','115','102','RZRKL ','2019-03-01 00:00:00','10','','1','0'), ('2889','86979474000209','肉豆蔻颗粒 ','0.500g*10g/袋','15.65','袋','江阴天江药业有限公司','115','102','RDZKL ','2019-03-01 00:00:00','10','','1','0'), ('2890','86979474000208','肉桂颗粒 ','0.500g*1袋/袋','41.12','袋','江阴天江药业有限公司','115','102','RGKL ','2019-03-01 00:00:00','10','','1','0'), ('2891','86979474000208','三棱颗粒 ','0.5g/10g*1袋','50.56','袋','江阴天江药业有限公司','115','102','SLKL ','2019-03-01 00:00:00','10','','1','0'), ('2892','86979474000209','三七粉颗粒 ',' 3g/3g*1袋','5.82','袋','江阴天江药业有限公司','115','102','SQFKL ','2019-03-01 00:00:00','10','','1','0'), ('2893','86979474000208','桑白皮颗粒 ',' 2g/10g*1袋','21.66','袋','江阴天江药业有限公司','115','102','SBPKL ','2019-03-01 00:00:00','10','','1','0'), ('2894','86979474000209','桑寄生颗粒 ',' 1g/10g*1袋','1.56','袋','江阴天江药业有限公司','115','102','SJSKL ','2019-03-01 00:00:00','10','','1','0'), ('2895','86979474000208','胰激肽原酶肠溶片（怡开）','240.000iu*24片/盒','55.48','盒','常州千红生化制药股份有限公司','133','101','YJZYMCRP（ZK）','2019-03-01 00:00:00','10','','1','0'), ('2896','86979474000208','注射用头孢西丁钠（海西丁）','0.500g*1支/支','4.33','支','海口市制药厂有限公司','161','101','ZSYTZXDN（HXD）','2019-03-01 00:00:00','10','','1','0'), ('2897','86979474000209','前列地尔注射液（曼新妥）','2ml：10.000ug*1支/支','28.81','支','哈药集团生物工程有限公司','110','101','QLDEZSY（MXT）','2019-03-01 00:00:00','10','','1','0'), ('2898','86979474000208','紫杉醇注射液（特素）','5ml：30.000mg*1瓶/盒','24.71','盒','海口市制药厂有限公司','110','101','ZSCZSY（TS）','2019-03-01 00:00:00','10','','1','0'), ('2899','86979474000209','多种油脂肪乳注射液(C6~24)(合文)','250.000ml*1瓶/瓶','0.60','瓶','费森尤斯卡比','110','101','DZYZFRZSY(C6~24)(HW)','2019-03-01 00:00:00','10','','1','0'), ('2900','86979474000208','知柏地黄丸','0.170g*240粒/瓶','6.47','瓶','仲景宛西制药股份有限公司','163','102','ZBDHW','2019-03-01 00:00:00','10','','1','0');
+INSERT INTO `dms_drug` VALUES ('2901','86979474000208','逍遥丸','0.375g*240粒/瓶','36.17','瓶','仲景宛西制药股份有限公司','163','102','ZYW','2019-03-01 00:00:00','10','','1','0'), ('2902','86979474000209','明目地黄丸','0.375g*240粒/瓶','9.05','瓶','仲景宛西制药股份有限公司','163','102','MMDHW','2019-03-01 00:00:00','10','','1','0'), ('2903','86979474000208','归脾丸','0.375g*240粒/瓶','50.55','瓶','仲景宛西制药股份有限公司','163','102','GPW','2019-03-01 00:00:00','10','','1','0'), ('2904','86979474000209','补中益气丸','0.375g*240粒/瓶','44.58','瓶','仲景宛西制药股份有限公司','163','102','BZYQW','2019-03-01 00:00:00','10','','1','0'), ('2905','86979474000208','王氏保赤丸','60.000丸*12支/盒','0.82','盒','精华制药集团股份有限公司','163','102','WSBCW','2019-03-01 00:00:00','10','','1','0'), ('2906','86979474000208','注射用乳糖酸红霉素','25万单位:0.25g*1瓶','17.22','瓶','湖南科伦制药有限公司','110','101','ZSYRTSHMS','2019-03-01 00:00:00','10','','1','0'), ('2907','86979474000209','水飞蓟宾胶囊(水林佳)','35mg*30粒/盒','6.39','盒','天津天士力圣特制药有限公司','114','101','SFJBJN(SLJ)','2019-03-01 00:00:00','10','','1','0'), ('2908','86979474000208','注射用12种复合维生素(卫美佳)','1支*10支/盒','45.29','盒','山西普德药业股份有限公司','110','101','ZSY12ZFHWSS(WMJ)','2019-03-01 00:00:00','10','','1','0'), ('2909','86979474000209','多巴酚丁胺','20.000mg*1支/支','26.59','支','浙江瑞新药业股份有限公司','110','101','DBFDA','2019-03-01 00:00:00','10','','1','0'), ('2910','86979474000208','硝苯地平缓释片II(伲福达)','20mg*42片/盒','15.71','盒','青岛黄海制药有限责任公司','131','101','XBDPHSPII(ZFD)','2019-03-01 00:00:00','10','','1','0'), ('2911','86979474000208','盐酸奥洛他定滴眼液(帕坦洛)','5ml:5mg(0.1%)*1支','2.37','支','S.a.ALCon-couvr Eur.n.v','160','101','YSALTDDYY(PTL)','2019-03-01 00:00:00','10','','1','0'), ('2912','86979474000209','狂犬病人免疫球蛋白（蜀阳）','200.000iu*1瓶/盒','27.37','盒','四川远大蜀阳药业有限公司','110','101','KQBRMYQDB（SY）','2019-03-01 00:00:00','10','','1','0'), ('2913','86979474000208','胃乐宁薄膜衣片','0.54g*30片/盒','26.13','盒','南京老山药业股份有限公司','117','101','WLNBMYP','2019-03-01 00:00:00','10','','1','0'), ('2914','86979474000209','枸橼酸伊沙佐米胶囊（恩莱瑞）','4.000mg*3粒/盒','11.12','盒','Takeda GmbH Germany(德国）','114','101','ZZSYSZMJN（ELR）','2019-03-01 00:00:00','10','','1','0'), ('2915','86979474000208','盐酸罂粟碱注射液','1ml：30mg*1支/支','0.44','支','江苏恒瑞医药股份有限公司S','110','101','YSYSJZSY','2019-03-01 00:00:00','10','','1','0'), ('2916','86979474000208','重组人凝血因子ⅦA(诺其)','1mg*1支','48.98','支','丹麦诺和诺德公司','110','101','ZZRNXYZⅦA(NQ)','2019-03-01 00:00:00','10','','1','0'), ('2917','86979474000209','天花粉颗粒 ',' 1g/10g*1袋','15.88','袋','江阴天江药业有限公司','115','102','THFKL ','2019-03-01 00:00:00','10','','1','0'), ('2918','86979474000208','天麻颗粒 ',' 1g/6g*1袋','29.37','袋','江阴天江药业有限公司','115','102','TMKL ','2019-03-01 00:00:00','10','','1','0'), ('2919','86979474000209','羟苯磺酸钙（导升明）','0.5g*20粒/盒','32.38','盒','依比威药品有限公司奥地利','114','101','QBHSG（DSM）','2019-03-01 00:00:00','10','','1','0'), ('2920','86979474000208','复方血栓通胶囊','0.500g*36粒/盒','27.70','盒','广东众生药业股份有限公司','114','101','FFXSTJN','2019-03-01 00:00:00','10','','1','0'), ('2921','86979474000208','马应龙麝香痔疮膏','4.000g*6支/盒','7.65','盒','马应龙药业集团股份有限公司','121','101','MYLSXZCG','2019-03-01 00:00:00','10','','1','0'), ('2922','86979474000209','苯溴马隆片（立加利仙）','50.00mg*30片/盒','49.99','盒','德国赫曼大药厂(Excella GmbH)','111','101','BZMLP（LJLX）','2019-03-01 00:00:00','10','','1','0'), ('2923','86979474000208','维生素E软胶囊','100.00mg*60粒/盒','7.86','盒','浙江医药股份有限公司新昌制药厂','159','101','WSSERJN','2019-03-01 00:00:00','10','','1','0'), ('2924','86979474000209','注射用头孢西丁钠(信希汀)','3g*1支','53.19','支','深圳信立泰药业股份有限公司','110','101','ZSYTZXDN(XXT)','2019-03-01 00:00:00','10','','1','0'), ('2925','86979474000208','桑螵蛸颗粒 ',' 0.5g/10g*1袋','47.03','袋','江阴天江药业有限公司','115','102','SpZKL ','2019-03-01 00:00:00','10','','1','0'), ('2926','86979474000208','桑椹子颗粒 ',' 3g/10g*1袋','1.85','袋','江阴天江药业有限公司','115','102','SZZKL ','2019-03-01 00:00:00','10','','1','0'), ('2927','86979474000209','桑叶颗粒 ',' 1g/10g*1袋','10.52','袋','江阴天江药业有限公司','115','102','SYKL ','2019-03-01 00:00:00','10','','1','0'), ('2928','86979474000208','桑叶颗粒 ','1.000g*1袋/袋','5.31','袋','江阴天江药业有限公司','115','102','SYKL ','2019-03-01 00:00:00','10','','1','0'), ('2929','86979474000209','桑枝颗粒 ',' 0.5g/10g*1袋','5.36','袋','江阴天江药业有限公司','115','102','SZKL ','2019-03-01 00:00:00','10','','1','0'), ('2930','86979474000208','砂仁颗粒 ',' 0.5g/3g*1袋','32.05','袋','江阴天江药业有限公司','115','102','SRKL ','2019-03-01 00:00:00','10','','1','0'), ('2931','86979474000208','洛索洛芬钠贴剂(乐松)','50.000mg*3贴/盒','14.43','袋','第一三共制药（上海）有限公司','146','101','LSLFNTJ(LS)','2019-03-01 00:00:00','10','','1','0'), ('2932','86979474000209','地奈德乳膏（力言卓）','20.000g:10mg*1支/盒','77.64','盒','重庆华邦制药有限公司','121','101','DNDRG（LYZ）','2019-03-01 00:00:00','10','','1','0'), ('2933','86979474000208','灭菌注射用水','500.000ml*1瓶/瓶','11.31','瓶','石药银湖制药有限公司','110','101','MJZSYS','2019-03-01 00:00:00','10','','1','0'), ('2934','86979474000209','硫酸氨基葡萄糖胶囊(伊索佳)','0.314g(氨基葡萄糖0.25g)*24粒/盒','37.87','盒','浙江海正药业股份有限公司','114','101','LSAJPTTJN(YSJ)','2019-03-01 00:00:00','10','','1','0'), ('2935','86979474000208','丁二磺酸腺苷蛋氨酸肠溶片(喜美欣)','0.500g*10片/盒','3.60','盒','浙江海正药业股份有限公司','133','101','DEHSXZDASCRP(XMX)','2019-03-01 00:00:00','10','','1','0'), ('2936','86979474000208','注射用丁二磺酸腺苷蛋氨酸(喜美欣)','0.5g粉针+1支注射用溶剂*1支/支','2.44','支','浙江海正药业股份有限公司','161','101','ZSYDEHSXZDAS(XMX)','2019-03-01 00:00:00','10','','1','0'), ('2937','86979474000209','氯沙坦钾氢氯噻嗪片(海捷亚)','100.000mg/12.5mg*7片/盒','8.30','盒','默沙东制药（杭州）有限公司','111','101','LSTJQLZZP(HJY)','2019-03-01 00:00:00','10','','1','0'), ('2938','86979474000208','盐酸托烷司琼注射液(赛格恩)','2.000ml:2mg*1支/支','42.36','支','西南药业股份有限公司','110','101','YSTWSQZSY(SGE)','2019-03-01 00:00:00','10','','1','0'), ('2939','86979474000209','芪参益气滴丸','0.5g*15袋/盒','7.83','盒','天士力制药集团股份有限公司','154','102','ZCYQDW','2019-03-01 00:00:00','10','','1','0'), ('2940','86979474000208','葡萄糖酸钙注射液','1g*5支/盒','9.19','盒','扬州中宝制药','110','101','PTTSGZSY','2019-03-01 00:00:00','10','','1','0'), ('2941','86979474000208','马来酸氟伏沙明片（瑞必乐）','50mg*30片/盒','3.41','盒','丽珠集团丽珠制药厂','111','101','MLSFFSMP（RBL）','2019-03-01 00:00:00','10','','1','0'), ('2942','86979474000209','大枣','1000mg/g','22.03','克','','112','103','DZ','2019-03-01 00:00:00','10','','1','0'), ('2943','86979474000208','大株红景天注射液','5ml*1支','10.98','支','通化玉圣药业有限公司','110','101','DZHJTZSY','2019-03-01 00:00:00','10','','1','0'), ('2944','86979474000209','金樱子颗粒 ',' 3g/10g*1袋','10.46','袋','江阴天江药业有限公司','115','102','JYZKL ','2019-03-01 00:00:00','10','','1','0'), ('2945','86979474000208','胞二磷胆碱注射液','2ml:0.25g*1支','16.56','支','吉林百年汉克制药有限公司','110','101','BELDJZSY','2019-03-01 00:00:00','10','','1','0'), ('2946','86979474000208','富马酸福莫特罗粉吸入剂(平适)','12.00ug*30粒/盒','10.32','盒','正大天晴药业集团股份有限公司','156','101','FMSFMTLFXRJ(PS)','2019-03-01 00:00:00','10','','1','0'), ('2947','86979474000209','碘美普尔注射液(典迈伦)','100ml:40g(I)*1瓶/瓶','11.71','瓶','意大利Patheon Italia S.P.A','110','101','DMPEZSY(DML)','2019-03-01 00:00:00','10','','1','0'), ('2948','86979474000208','拉坦前列素滴眼液','2.5ml:125ug*1瓶/盒','14.67','盒','韩国Taejoon Pharm.CO.,LTD','160','101','LTQLSDYY','2019-03-01 00:00:00','10','','1','0'), ('2949','86979474000209','利伐沙班片(拜瑞妥)','15mg*7片/盒','6.63','盒','拜耳医药保健有限公司','111','101','LFSBP(BRT)','2019-03-01 00:00:00','10','','1','0'), ('2950','86979474000208','阿法骨化醇软胶囊(法能)','0.25ug*30粒/盒','50.96','盒','南通华山药业','114','101','AFGHCRJN(FN)','2019-03-01 00:00:00','10','','1','0'), ('2951','86979474000208','透骨草','1000mg/g','17.39','克',' 江苏','112','103','TGC','2019-03-01 00:00:00','10','','1','0'), ('2952','86979474000209','乌梅','1000mg/g','16.22','克','','112','103','WM','2019-03-01 00:00:00','10','','1','0'), ('2953','86979474000208','甘霖洗剂','230ml*1瓶/瓶','3.46','瓶','杭州易舒特药业','142','101','GLXJ','2019-03-01 00:00:00','10','','1','0'), ('2954','86979474000209','结合雌激素片（红丽来）','0.625mg*28片/盒','7.33','盒','新疆','111','101','JHCJSP（HLL）','2019-03-01 00:00:00','10','','1','0'), ('2955','86979474000208','注射用苯巴比妥钠','0.100g*1瓶/瓶','23.11','瓶','上海上药新亚药业有限公司','161','101','ZSYBBBTN','2019-03-01 00:00:00','10','','1','0'), ('2956','86979474000208','奥氮平片（欧兰宁）','5.000mg*14片/盒','68.82','盒','江苏豪森药业股份有限公司S','111','101','ADPP（OLN）','2019-03-01 00:00:00','10','','1','0'), ('2957','86979474000209','利奈唑胺(恒捷)葡萄糖注射液','100ml：0.200g*1瓶/瓶','1.82','瓶','江苏豪森药业股份有限公司S','110','101','LNZA(HJ)PTTZSY','2019-03-01 00:00:00','10','','1','0'), ('2958','86979474000208','吸入用乙酰半胱氨酸溶液(富露施）','0.300g：3ml*5支/盒','27.77','盒','Zambon S.P.A','119','101','XRYYXBZASRY(FLS）','2019-03-01 00:00:00','10','','1','0'), ('2959','86979474000209','维A酸片（艾力可）','20.000mg*10片/盒','12.92','盒','山东良福制药有限公司','111','101','WASP（ALK）','2019-03-01 00:00:00','10','','1','0'), ('2960','86979474000208','帕拉米韦氯化钠注射液（力纬）','0.150g：100ml*1瓶/盒','62.34','盒','广州南新制药厂','110','101','PLMWLHNZSY（LW）','2019-03-01 00:00:00','10','','1','0'), ('2961','86979474000208','帕拉米韦氯化钠注射液（力纬）','0.300g：100ml*1瓶/盒','0.84','盒','广州南新制药厂','110','101','PLMWLHNZSY（LW）','2019-03-01 00:00:00','10','','1','0'), ('2962','86979474000209','瓜蒌仁','1000mg/g','23.73','克','','112','103','GZR','2019-03-01 00:00:00','10','','1','0'), ('2963','86979474000208','盐酸利多卡因注射液','5ml：0.100g*5支/盒','43.51','盒','上海朝辉药业有限公司','110','101','YSLDKYZSY','2019-03-01 00:00:00','10','','1','0'), ('2964','86979474000209','注射用戈那瑞林','100.000ug*1瓶/瓶','5.83','瓶','马鞍山丰原','161','101','ZSYGNRL','2019-03-01 00:00:00','10','','1','0'), ('2965','86979474000208','甲紫溶液','20.000ml*1瓶/瓶','41.00','瓶','河北健宁药业有限公司','119','101','JZRY','2019-03-01 00:00:00','10','','1','0'), ('2966','86979474000208','盐酸甲哌卡因/肾上腺素（斯康杜尼）注射液','1.800ml*1支/支','0.79','支','','110','101','YSJZKY/SSXS（SKDN）ZSY','2019-03-01 00:00:00','10','','1','0');
 INSERT INTO `dms_medicine_item_record` VALUES ('1','9','2','1','1','3','1','5','口服建议',NULL,'1','1','1','5'), ('2','10','2','1','1','3','1','5','口服建议',NULL,'1','1','1','5');
-INSERT INTO `dms_medicine_prescription_record` VALUES ('1','1','2019-07-05 09:26:40','40.00','草药处方1','1',NULL,'1','10');
+INSERT INTO `dms_medicine_prescription_record` VALUES ('1','1','2019-07-05 09:26:40','40.00','草药处方1','1',NULL,'1','10','2019-07-05 09:26:40');
 INSERT INTO `dms_non_drug` VALUES ('1','120200001','大抢救','日','200.00','16','DQJ','3','2019-03-01 00:00:00','1','133'), ('2','120200002','中抢救','日','150.00','16','ZQJ','3','2019-03-01 00:00:00','1','133'), ('3','120200003','小抢救','日','80.00','16','XQJ','3','2019-03-01 00:00:00','1','133'), ('4','120300001','中心吸氧','小时','2.50','16','ZXXY','3','2019-03-01 00:00:00','1','122'), ('5','120300002','低流量吸氧','小时','2.00','16','DLLXY','3','2019-03-01 00:00:00','1','122'), ('6','120300003','高频吸氧','小时','4.00','16','GPXY','3','2019-03-01 00:00:00','1','122'), ('7','120500001','大清创缝合','次','120.00','16','DQCFH','3','2019-03-01 00:00:00','1','133'), ('8','120500002','中清创缝合','次','80.00','16','ZQCFH','3','2019-03-01 00:00:00','1','133'), ('9','120500003','小清创缝合','次','40.00','16','XQCFH','3','2019-03-01 00:00:00','1','133'), ('10','121000001','洗胃','次','40.00','16','XW','3','2019-03-01 00:00:00','1','133'), ('11','120800002','肠内高营养治疗','日','5.00','16','CNGYYZL','3','2019-03-01 00:00:00','1','133'), ('12','121500001','灌肠','次','10.00','16','GC','3','2019-03-01 00:00:00','1','133'), ('13','240100003','计算机治疗计划系统(TPS)','疗程','180.00','7','JSJZLJHXT','3','2019-03-01 00:00:00','1','128'), ('14','240100004','特定计算机治疗计划系统','疗程','500.00','7','TDJSJZLJHXT','3','2019-03-01 00:00:00','1','128'), ('15','240100004b','加速器适型治疗计划系统','疗程','500.00','7','JSQSXZLJHXT','3','2019-03-01 00:00:00','1','128'), ('16','240100004c','伽玛刀治疗计划系统','疗程','500.00','7','GMDZLJHXT','3','2019-03-01 00:00:00','1','128'), ('17','240100004d','X刀之TPS治疗计划系统','疗程','500.00','7','XDZTPSZLJHXT','3','2019-03-01 00:00:00','1','128'), ('18','240100004e','逆向调强TPS及优化治疗计划系统','疗程','500.00','7','NXTQTPSJYHZLJHXT','3','2019-03-01 00:00:00','1','128'), ('19','240100005','放射治疗的适时监控','次','50.00','7','FSZLDSSJK','3','2019-03-01 00:00:00','1','128'), ('20','210101001','普通透视','每个部位','5.00','7','PTTS','1','2019-03-01 00:00:00','1','128'), ('25','210101002','食管钡餐透视','次','15.00','7','SGBCTS','1','2019-03-01 00:00:00','1','128'), ('26','210101003','床旁透视与术中透视','半小时','40.00','7','CPTSYSZTS','1','2019-03-01 00:00:00','1','128'), ('27','210101004','C型臂术中透视','半小时','150.00','7','CXBSZTS','1','2019-03-01 00:00:00','1','128'), ('28','210103001','气脑造影','次','80.00','7','QNZY','1','2019-03-01 00:00:00','1','128'), ('29','210103003','脑室碘水造影','次','60.00','7','NSDSZY','1','2019-03-01 00:00:00','1','128'), ('30','210103004','X清肌酸激酶－MB同工酶活性测定（干化X法）','次','60.00','3','XQJSJM－MBTGMHXCD（GHXF）','2','2019-03-01 00:00:00','1','125'), ('31','210103005','X清肌酸激酶－MB同工酶活性测定（金标法）','次','60.00','3','XQJSJM－MBTGMHXCD（JBF）','2','2019-03-01 00:00:00','1','125'), ('32','210103006','尿α1微量球蛋白测定（化X发光法）','单侧','50.00','3','Nα1WLQDBCD（HXFGF）','2','2019-03-01 00:00:00','1','125'), ('33','210103007','β2微球蛋白测定（各种免疫X方法）','单侧','50.00','3','β2WQDBCD（GZMYXFF）','2','2019-03-01 00:00:00','1','125'), ('34','210103008','X清β2微球蛋白测定（化X发光法）','单侧','40.00','3','XQβ2WQDBCD（HXFGF）','2','2019-03-01 00:00:00','1','125'), ('35','210103009','尿β2微球蛋白测定（化X发光法）','单侧','80.00','3','Nβ2WQDBCD（HXFGF）','2','2019-03-01 00:00:00','1','125'), ('36','210103010','尿蛋白电泳分析（凝胶法）','单侧','70.00','3','NDBDYFX（NJF）','2','2019-03-01 00:00:00','1','125'), ('37','210103011','X清抗谷氨酸脱J酶抗体测定（各种免疫X方法）','单侧','50.00','3','XQKGASTJMKTCD（GZMYXFF）','2','2019-03-01 00:00:00','1','125'), ('38','210103012','胃泌素测定（各种免疫X方法）','次','50.00','3','WMSCD（GZMYXFF）','2','2019-03-01 00:00:00','1','125'), ('39','210103013','X浆凝X酶原时间测定(PT)(仪器法)','次','50.00','3','XJNXMYSJCD(PT)(YQF)','2','2019-03-01 00:00:00','1','125'), ('40','210103014','X清肌酸激酶－MB同工酶活性测定（速率法）','次','60.00','3','XQJSJM－MBTGMHXCD（SLF）','2','2019-03-01 00:00:00','1','125'), ('41','210103015','醛固酮测定（化X发光法、荧光免疫法）','次','50.00','3','QGTCD（HXFGF、YGMYF）','2','2019-03-01 00:00:00','1','125'), ('42','210103016','尿儿茶酚胺测定（色谱法）','次','80.00','3','NECFACD（SPF）','2','2019-03-01 00:00:00','1','125'), ('43','210103017','尿香草苦杏仁酸(VMA)测定（色谱法）','次','60.00','3','NXCKXRS(VMA)CD（SPF）','2','2019-03-01 00:00:00','1','125'), ('44','210103018','X浆肾素活性测定','次','80.00','3','XJSSHXCD','2','2019-03-01 00:00:00','1','125'), ('45','210103019','X管紧张素Ⅱ测定','次','100.00','3','XGJZSⅡCD','2','2019-03-01 00:00:00','1','125'), ('46','210103020','促红细胞生成素测定','次','50.00','3','CHXBSCSCD','2','2019-03-01 00:00:00','1','125'), ('47','210103021','睾酮测定（化X发光法、荧光免疫法）','次','80.00','3','ZTCD（HXFGF、YGMYF）','2','2019-03-01 00:00:00','1','125'), ('48','210103022','葡萄糖测定（干化X法）(X清)','次','300.00','3','PTTCD（GHXF）(XQ)','2','2019-03-01 00:00:00','1','125'), ('49','210103023','糖化X红蛋白测定（色谱法）','次','80.00','3','THXHDBCD（SPF）','2','2019-03-01 00:00:00','1','125'), ('50','210103024','X浆乳酸测定','次','80.00','3','XJRSCD','2','2019-03-01 00:00:00','1','125'), ('51','210103025','尿N-X-β-D-氨基葡萄糖苷酶测定','次','70.00','3','NN-X-β-D-AJPTTZMCD','2','2019-03-01 00:00:00','1','125'), ('52','210103026','尿β-D-半乳糖苷酶测定','次','50.00','3','Nβ-D-BRTZMCD','2','2019-03-01 00:00:00','1','125'), ('53','210103027','唐氏综合症筛查','单侧','70.00','3','TSZHZSC','2','2019-03-01 00:00:00','1','125'), ('54','210103028','雌三醇测定（化X发光法、荧光免疫法）','次','50.00','3','CSCCD（HXFGF、YGMYF）','2','2019-03-01 00:00:00','1','125'), ('55','210103029','雌二醇测定（化X发光法、荧光免疫法）','次','50.00','3','CECCD（HXFGF、YGMYF）','2','2019-03-01 00:00:00','1','125'), ('56','210103030','孕酮测定（化X发光法、荧光免疫法）','单侧','50.00','3','YTCD（HXFGF、YGMYF）','2','2019-03-01 00:00:00','1','125');
 INSERT INTO `dms_non_drug_item_record` VALUES ('1','1','4','目标','需求','1','两侧脑内未见多发点片状长T1长T2信号，水抑制序列呈高信号，各脑室、脑池大小形态正常','http://zain-images.oss-cn-beijing.aliyuncs.com/mall/images/20190705/1012111944f5d53269d9d99e06.jpg,http://zain-images.oss-cn-beijing.aliyuncs.com/mall/images/20190705/201304260934009696.jpg','临床检验','临床要求','2019-07-06 09:18:45','10','2019-07-06 08:18:56','20','头','0','2','10','10','2019-07-06 09:19:25','100.50');
 INSERT INTO `dms_non_drug_model` VALUES ('1','1','普通透视检查模板','25,27','0','1','检查脊柱自然生理曲度','2019-07-03 13:53:05','20190703135305','0'), ('2','1','普通造影检查模板','28,29','0','1','置入5F动脉鞘','2019-07-03 13:53:06','20190703135306','0'), ('3','1','X清肌酸激酶检验模板','40','0','1','用于排除急性心肌梗塞的诊断','2019-07-03 13:53:07','20190703135307','1'), ('4','1','雌二醇测定检验模板','55','0','1','判断正常骨骼和心血管健康','2019-07-03 13:53:08','20190703135308','1'), ('5','1','洗胃处置模板','10','0','1','解毒清除胃内毒物或刺激物','2019-07-03 13:53:09','20190703135309','2'), ('6','1','小清创缝合','9','0','1','清除开放伤口内的异物','2019-07-03 13:53:10','20190703135310','2');
@@ -0,0 +1,7 @@
+/*
+在已有库上为发票表增加发票号索引（新建库直接使用his.sql）
+日结、服务启动回收发票号段时按号段范围查询已开出的最大发票号
+*/
+
+ALTER TABLE `bms_invoice_record`
+  ADD KEY `idx_invoice_no` (`invoice_no`);
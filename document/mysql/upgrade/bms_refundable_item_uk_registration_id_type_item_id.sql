@@ -0,0 +1,35 @@
+/*
+在已有库上为bms_refundable_item增加uk_registration_id_type_item_id前执行（新建库直接使用his.sql）
+1.并发查询退费项目时可能重复生成，同一挂号的同一项目保留id最小的一条
+2.新建bms_refundable_registration，已有可退费项目的挂号记为已生成，其余挂号首次查询时生成
+3.以唯一索引代替原挂号id索引
+*/
+
+START TRANSACTION;
+
+DELETE i FROM `bms_refundable_item` i
+JOIN (
+  SELECT `registration_id`, `type`, `item_id`, MIN(`id`) AS `keep_id`
+  FROM `bms_refundable_item`
+  GROUP BY `registration_id`, `type`, `item_id`
+  HAVING COUNT(*) > 1
+) k ON i.`registration_id` = k.`registration_id` AND i.`type` = k.`type` AND i.`item_id` = k.`item_id`
+WHERE i.`id` <> k.`keep_id`;
+
+COMMIT;
+
+CREATE TABLE IF NOT EXISTS `bms_refundable_registration` (
+  `registration_id` bigint(20) NOT NULL,
+  `create_time` datetime DEFAULT NULL,
+  PRIMARY KEY (`registration_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 ROW_FORMAT=DYNAMIC COMMENT='已生成可退费项目的挂号（没有可退费项目的挂号也不再重新生成）';
+
+INSERT IGNORE INTO `bms_refundable_registration` (`registration_id`, `create_time`)
+SELECT DISTINCT `registration_id`, NOW()
+FROM `bms_refundable_item`
+WHERE `registration_id` IS NOT NULL;
+
+-- DDL会隐式提交，放在事务之后
+ALTER TABLE `bms_refundable_item`
+  ADD UNIQUE KEY `uk_registration_id_type_item_id` (`registration_id`,`type`,`item_id`),
+  DROP KEY `idx_registration_id`;
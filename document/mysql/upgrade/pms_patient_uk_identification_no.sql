@@ -0,0 +1,61 @@
+/*
+在已有库上为pms_patient增加uk_identification_no前执行（新建库直接使用his.sql）
+1.同一身份证号的多个病人保留id最小的一个（病历号最早），其余病人的挂号、病历改为指向保留的病人
+2.保留的病人用最新一条（id最大）记录中非空的姓名、出生日期、住址、电话、性别补齐
+3.删除重复病人后增加唯一索引
+身份证号为空的病人不受唯一索引约束，不处理；整个脚本在一个事务中执行
+*/
+
+START TRANSACTION;
+
+DROP TEMPORARY TABLE IF EXISTS `tmp_patient_dedupe`;
+CREATE TEMPORARY TABLE `tmp_patient_dedupe` (
+  `dup_id` bigint(20) NOT NULL,
+  `keep_id` bigint(20) NOT NULL,
+  PRIMARY KEY (`dup_id`)
+) ENGINE=InnoDB;
+
+INSERT INTO `tmp_patient_dedupe` (`dup_id`, `keep_id`)
+SELECT p.`id`, k.`keep_id`
+FROM `pms_patient` p
+JOIN (
+  SELECT `identification_no`, MIN(`id`) AS `keep_id`
+  FROM `pms_patient`
+  WHERE `identification_no` IS NOT NULL
+  GROUP BY `identification_no`
+  HAVING COUNT(*) > 1
+) k ON p.`identification_no` = k.`identification_no`
+WHERE p.`id` <> k.`keep_id`;
+
+-- 挂号、病历改为指向保留的病人
+UPDATE `dms_registration` r
+JOIN `tmp_patient_dedupe` t ON r.`patient_id` = t.`dup_id`
+SET r.`patient_id` = t.`keep_id`;
+
+UPDATE `dms_case_history` c
+JOIN `tmp_patient_dedupe` t ON c.`patient_id` = t.`dup_id`
+SET c.`patient_id` = t.`keep_id`;
+
+-- 用最新一条重复记录补齐保留的病人
+UPDATE `pms_patient` k
+JOIN (
+  SELECT `keep_id`, MAX(`dup_id`) AS `latest_id`
+  FROM `tmp_patient_dedupe`
+  GROUP BY `keep_id`
+) t ON k.`id` = t.`keep_id`
+JOIN `pms_patient` l ON l.`id` = t.`latest_id`
+SET k.`name` = IFNULL(l.`name`, k.`name`),
+    k.`date_of_birth` = IFNULL(l.`date_of_birth`, k.`date_of_birth`),
+    k.`home_address` = IFNULL(l.`home_address`, k.`home_address`),
+    k.`phone_no` = IFNULL(l.`phone_no`, k.`phone_no`),
+    k.`gender` = IFNULL(l.`gender`, k.`gender`);
+
+DELETE p FROM `pms_patient` p
+JOIN `tmp_patient_dedupe` t ON p.`id` = t.`dup_id`;
+
+COMMIT;
+
+DROP TEMPORARY TABLE IF EXISTS `tmp_patient_dedupe`;
+
+-- DDL会隐式提交，放在事务之后
+ALTER TABLE `pms_patient` ADD UNIQUE KEY `uk_identification_no` (`identification_no`) USING BTREE;
@@ -0,0 +1,12 @@
+/*
+在已有库上为草药、成药处方增加最后修改时间，药房列表按该时间增量刷新（新建库直接使用his.sql）
+已有处方的update_time为执行时间，执行后药房第一次增量刷新会取到当天全部处方
+*/
+
+ALTER TABLE `dms_herbal_prescription_record`
+  ADD COLUMN `update_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '最后修改时间（缴费、发药等），药房增量刷新用',
+  ADD KEY `idx_update_time` (`update_time`) USING BTREE;
+
+ALTER TABLE `dms_medicine_prescription_record`
+  ADD COLUMN `update_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '最后修改时间（缴费、发药等），药房增量刷新用',
+  ADD KEY `idx_update_time` (`update_time`) USING BTREE;
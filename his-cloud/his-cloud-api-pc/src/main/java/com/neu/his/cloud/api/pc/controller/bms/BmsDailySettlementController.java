@@ -64,4 +64,11 @@ public class BmsDailySettlementController {
     public CommonResult  verifySettle(@RequestParam("verifyOperatorId") Long verifyOperatorId, @RequestParam("settleRecordId") Long settleRecordId){
        return bmsDailySettlementService.verifySettle(verifyOperatorId, settleRecordId);
     }
+
+    @ApiOperation(value = "用发票重算校验收费员的日结累计统计（repair为true且不一致时重建）")
+    @RequestMapping(value = "/verifySettleAggregate", method = RequestMethod.GET)
+    @ResponseBody
+    public CommonResult verifySettleAggregate(@RequestParam("cashierId") Long cashierId, @RequestParam(value = "repair", required = false, defaultValue = "false") Boolean repair){
+        return bmsDailySettlementService.verifySettleAggregate(cashierId, repair);
+    }
 }
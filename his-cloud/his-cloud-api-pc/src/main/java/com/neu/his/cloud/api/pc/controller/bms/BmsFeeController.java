@@ -35,6 +35,17 @@ public class BmsFeeController {
        return bmsFeeService.listRegisteredPatient(medicalRecordNo,queryDate,pageSize,pageNum);
     }
 
+    @ApiOperation(value = "游标分页查询挂号人")
+    @RequestMapping(value = "/listRegisteredPatientAfter", method = RequestMethod.GET)
+    @ResponseBody
+    public CommonResult<List<BmsRegistrationPatientResult>> listRegisteredPatientAfter(@RequestParam(required=false,name = "medicalRecordNo") String  medicalRecordNo,
+                                                                                       @RequestParam(required=false,name="queryDate")@DateTimeFormat(pattern = "yyyy-MM-dd") Date queryDate,
+                                                                                       @RequestParam(required=false,name="lastCreateTime")@DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") Date lastCreateTime,
+                                                                                       @RequestParam(required=false,name="lastId") Long lastId,
+                                                                                       @RequestParam(value = "pageSize", defaultValue = "5") Integer pageSize){
+       return bmsFeeService.listRegisteredPatientAfter(medicalRecordNo,queryDate,lastCreateTime,lastId,pageSize);
+    }
+
     @ApiOperation(value = "收费")
     @RequestMapping(value = "/charge", method = RequestMethod.POST)
     @ResponseBody
@@ -71,4 +82,11 @@ public class BmsFeeController {
         return bmsFeeService.listChargeByRegistrationId(registrationId);
 
     }
+
+    @ApiOperation(value = "根据门诊号查询账单项目串（旧版格式：项目id,类型><）")
+    @RequestMapping(value = "/getBillRecordList", method = RequestMethod.GET)
+    @ResponseBody
+    public CommonResult getBillRecordList(@RequestParam("registrationId") Long registrationId){
+       return bmsFeeService.getBillRecordList(registrationId);
+    }
 }
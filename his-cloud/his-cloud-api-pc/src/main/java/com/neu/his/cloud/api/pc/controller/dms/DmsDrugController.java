@@ -17,6 +17,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @Api(tags = "DmsDrugController", description = "药品管理")
@@ -83,4 +84,11 @@ public class DmsDrugController {
         return dmsDrugService.selectById(id);
     }
 
+    @ApiOperation("根据ids查询药品可用库存")
+    @RequestMapping(value = "/listAvailableStock", method = RequestMethod.GET)
+    @ResponseBody
+    public CommonResult<Map<Long, Long>> listAvailableStock(@RequestParam("ids") List<Long> ids){
+        return dmsDrugService.listAvailableStock(ids);
+    }
+
 }
@@ -2,6 +2,7 @@ package com.neu.his.cloud.api.pc.controller.dms;
 
 import com.neu.his.cloud.api.pc.common.CommonResult;
 import com.neu.his.cloud.api.pc.dto.dms.DmsRefundDrugListParam;
+import com.neu.his.cloud.api.pc.dto.dms.DmsReleaseDrugResult;
 import com.neu.his.cloud.api.pc.dto.pms.PmsDrugStorePatientListResult;
 import com.neu.his.cloud.api.pc.service.dms.DmsDrugStoreService;
 import io.swagger.annotations.Api;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Date;
+import java.util.List;
 
 @RestController
 @Api(tags = "DmsDrugStoreController", description = "药房工作台")
@@ -28,8 +30,9 @@ public class DmsDrugStoreController {
     @ResponseBody
     public CommonResult<PmsDrugStorePatientListResult> listPatient(@RequestParam(value = "medicalRecordNo",required = false) String medicalRecordNo,
                                                                    @RequestParam("queryDate") String queryDate,
-                                                                   @RequestParam("type") Integer type){
-        return  dmsDrugStoreService.listPatient(medicalRecordNo,queryDate,type);
+                                                                   @RequestParam("type") Integer type,
+                                                                   @RequestParam(value = "paidSince",required = false) String paidSince){
+        return  dmsDrugStoreService.listPatient(medicalRecordNo,queryDate,type,paidSince);
     }
 
 
@@ -41,6 +44,14 @@ public class DmsDrugStoreController {
        return dmsDrugStoreService.releaseDrug(prescriptionId,type);
     }
 
+    @ApiOperation("批量发药")
+    @RequestMapping(value = "/releaseDrugBatch", method = RequestMethod.POST)
+    @ResponseBody
+    public CommonResult<List<DmsReleaseDrugResult>> releaseDrugBatch(@RequestParam("prescriptionIds") List<Long> prescriptionIds,
+                                                                     @RequestParam("type") Integer type){
+        return dmsDrugStoreService.releaseDrugBatch(prescriptionIds,type);
+    }
+
     @ApiOperation("退药")
     @RequestMapping(value = "/refundDrug", method = RequestMethod.POST)
     @ResponseBody
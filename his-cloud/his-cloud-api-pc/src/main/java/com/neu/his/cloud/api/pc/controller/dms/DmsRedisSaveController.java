@@ -4,6 +4,7 @@ package com.neu.his.cloud.api.pc.controller.dms;
 
 import com.neu.his.cloud.api.pc.common.CommonResult;
 import com.neu.his.cloud.api.pc.dto.dms.DmsCaseHistoryParam;
+import com.neu.his.cloud.api.pc.dto.dms.DmsDraftRestoreResult;
 import com.neu.his.cloud.api.pc.dto.dms.DmsDrugRedisParam;
 import com.neu.his.cloud.api.pc.dto.dms.DmsNonDrugRedisParam;
 import com.neu.his.cloud.api.pc.service.dms.DmsRedisSaveService;
@@ -44,7 +45,7 @@ public class DmsRedisSaveController {
 
 
 
-    @ApiOperation(value = "暂存药方（根据挂号号和类型（4成药、5草药））")
+    @ApiOperation(value = "暂存药方（根据挂号号和类型（4草药、5成药））")
     @RequestMapping(value = "/saveDrugPrescription", method = RequestMethod.POST)
     @ResponseBody
     public CommonResult saveDrugPrescription(@RequestBody List<DmsDrugRedisParam> dmsDrugRedisParam,
@@ -54,7 +55,7 @@ public class DmsRedisSaveController {
         return dmsRedisSaveService.saveDrugPrescription(dmsDrugRedisParam,registrationId,type);
     }
 
-    @ApiOperation(value = "取出药方（根据挂号号和类型（4成药、5草药））")
+    @ApiOperation(value = "取出药方（根据挂号号和类型（4草药、5成药））")
     @RequestMapping(value = "/getDrugPrescription", method = RequestMethod.POST)
     @ResponseBody
     public CommonResult<List<DmsDrugRedisParam>> getDrugPrescription(@RequestParam("registrationId") Long registrationId,
@@ -82,4 +83,12 @@ public class DmsRedisSaveController {
 
         return dmsRedisSaveService.getNonDrug(registrationId,type);
     }
+
+    @ApiOperation(value = "取出全部暂存（根据挂号号）")
+    @RequestMapping(value = "/restoreAll", method = RequestMethod.POST)
+    @ResponseBody
+    public CommonResult<DmsDraftRestoreResult> restoreAll(@RequestParam("registrationId") Long registrationId){
+
+        return dmsRedisSaveService.restoreAll(registrationId);
+    }
 }
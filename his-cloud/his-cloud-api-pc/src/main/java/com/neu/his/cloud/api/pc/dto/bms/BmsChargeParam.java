@@ -18,7 +18,7 @@ public class BmsChargeParam  implements Serializable {
     Integer type;
     @ApiModelProperty(value = "结算类型")
     Long settlementCatId;
-    @ApiModelProperty(value = "发票号")
+    @ApiModelProperty(value = "发票号（由服务端分配，无需传入）")
     Long invoiceNo;
     @ApiModelProperty(value = "操作人id")
     Long operatorId;
@@ -25,9 +25,9 @@ public class BmsRefundChargeParam  implements Serializable {
     /*
     wang
      */
-    @ApiModelProperty(value = "冲红发票号")
+    @ApiModelProperty(value = "冲红发票号（由服务端分配，无需传入）")
     Long redInvoiceNo;
-    @ApiModelProperty(value = "新发票号")
+    @ApiModelProperty(value = "新发票号（由服务端分配，无需传入）")
     Long newInvoiceNo;
     @ApiModelProperty(value = "结算类型")
     Long settlementCatId;
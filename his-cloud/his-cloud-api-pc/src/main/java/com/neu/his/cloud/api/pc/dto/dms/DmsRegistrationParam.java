@@ -48,7 +48,7 @@ public class DmsRegistrationParam  implements Serializable {
     @ApiModelProperty(value = "性别")
     private Integer gender;
 
-    @ApiModelProperty(value = "病历号")
+    @ApiModelProperty(value = "病历号（没有身份证号时按病历号取回已有病人）")
     private String medicalRecordNo;
 
     @ApiModelProperty(value = "结算类别id")
@@ -57,7 +57,7 @@ public class DmsRegistrationParam  implements Serializable {
     @ApiModelProperty(value = "应收金额")
     private BigDecimal amount;
 
-    @ApiModelProperty(value = "发票号")
+    @ApiModelProperty(value = "发票号（由服务端分配，无需传入）")
     private Long invoiceNo;
 
     @ApiModelProperty(value = "操作员id")
@@ -1,11 +1,13 @@
 package com.neu.his.cloud.api.pc.dto.pms;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
 import java.io.Serializable;
+import java.util.Date;
 import java.util.List;
 
 @Setter
@@ -16,6 +18,9 @@ public class PmsDrugStorePatientListResult  implements Serializable {
     List<PmsDrugStorePatientResult> undoPatientList ;
     @ApiModelProperty(value = "已发药患者")
     List<PmsDrugStorePatientResult> donePatientList ;
+    @ApiModelProperty(value = "本次刷新时间，下次增量刷新时作为paidSince传入")
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", timezone = "GMT+8")
+    Date refreshTime;
 
 
 
@@ -39,4 +39,7 @@ public interface BmsDailySettlementService {
 
     @RequestMapping(value = "/dailySettlement/verifySettle", method = RequestMethod.GET)
     CommonResult  verifySettle(@RequestParam("verifyOperatorId") Long verifyOperatorId, @RequestParam("settleRecordId") Long settleRecordId);
+
+    @RequestMapping(value = "/dailySettlement/verifySettleAggregate", method = RequestMethod.GET)
+    CommonResult verifySettleAggregate(@RequestParam("cashierId") Long cashierId, @RequestParam("repair") Boolean repair);
 }
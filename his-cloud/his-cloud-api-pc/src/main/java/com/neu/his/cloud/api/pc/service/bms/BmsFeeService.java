@@ -26,6 +26,14 @@ public interface BmsFeeService {
                                                                                         @RequestParam(value = "pageNum", defaultValue = "1") Integer pageNum);
 
 
+    @RequestMapping(value = "/fee/listRegisteredPatientAfter", method = RequestMethod.GET)
+    CommonResult<List<BmsRegistrationPatientResult>> listRegisteredPatientAfter(@RequestParam(required=false,name = "medicalRecordNo") String  medicalRecordNo,
+                                                                                       @RequestParam(required=false,name="queryDate")@DateTimeFormat(pattern = "yyyy-MM-dd") Date queryDate,
+                                                                                       @RequestParam(required=false,name="lastCreateTime")@DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") Date lastCreateTime,
+                                                                                       @RequestParam(required=false,name="lastId") Long lastId,
+                                                                                       @RequestParam(value = "pageSize", defaultValue = "5") Integer pageSize);
+
+
     @RequestMapping(value = "/fee/charge", method = RequestMethod.POST)
     CommonResult charge(@RequestBody List<BmsChargeParam> bmsChargeParamList);
 
@@ -45,4 +53,7 @@ public interface BmsFeeService {
 
     @RequestMapping(value = "/fee/listChargeByRegistrationId", method = RequestMethod.GET)
     CommonResult<List<BmsChargeResult>>  listChargeByRegistrationId(@RequestParam("registrationId") Long registrationId);
+
+    @RequestMapping(value = "/fee/getBillRecordList", method = RequestMethod.GET)
+    CommonResult getBillRecordList(@RequestParam("registrationId") Long registrationId);
 }
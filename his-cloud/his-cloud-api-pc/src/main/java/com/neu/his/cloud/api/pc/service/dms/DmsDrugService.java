@@ -14,6 +14,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @FeignClient(value = "his-cloud-service-dms")
 public interface DmsDrugService {
@@ -44,4 +45,7 @@ public interface DmsDrugService {
 
     @RequestMapping(value = "/drug/selectById", method = RequestMethod.GET)
     CommonResult<DmsDrugResult> selectById(@RequestParam("id") Long id);
+
+    @RequestMapping(value = "/drug/listAvailableStock", method = RequestMethod.GET)
+    CommonResult<Map<Long, Long>> listAvailableStock(@RequestParam("ids") List<Long> ids);
 }
@@ -2,6 +2,7 @@ package com.neu.his.cloud.api.pc.service.dms;
 
 import com.neu.his.cloud.api.pc.common.CommonResult;
 import com.neu.his.cloud.api.pc.dto.dms.DmsRefundDrugListParam;
+import com.neu.his.cloud.api.pc.dto.dms.DmsReleaseDrugResult;
 import com.neu.his.cloud.api.pc.dto.pms.PmsDrugStorePatientListResult;
 import io.swagger.annotations.ApiOperation;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -9,6 +10,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Date;
+import java.util.List;
 
 @FeignClient(value = "his-cloud-service-dms")
 public interface DmsDrugStoreService {
@@ -17,13 +19,18 @@ public interface DmsDrugStoreService {
     @RequestMapping(value = "/drugStore/listPatient", method = RequestMethod.POST)
     CommonResult<PmsDrugStorePatientListResult> listPatient(@RequestParam(value = "medicalRecordNo",required = false) String medicalRecordNo,
                                                             @RequestParam("queryDate")  String  queryDate,
-                                                                   @RequestParam("type") Integer type);
+                                                                   @RequestParam("type") Integer type,
+                                                            @RequestParam(value = "paidSince",required = false) String paidSince);
 
 
     @RequestMapping(value = "/drugStore/releaseDrug", method = RequestMethod.POST)
     public CommonResult releaseDrug(@RequestParam("prescriptionId") Long prescriptionId,
                                     @RequestParam("type") Integer type);
 
+    @RequestMapping(value = "/drugStore/releaseDrugBatch", method = RequestMethod.POST)
+    CommonResult<List<DmsReleaseDrugResult>> releaseDrugBatch(@RequestParam("prescriptionIds") List<Long> prescriptionIds,
+                                                              @RequestParam("type") Integer type);
+
 
     @RequestMapping(value = "/drugStore/refundDrug", method = RequestMethod.POST)
 
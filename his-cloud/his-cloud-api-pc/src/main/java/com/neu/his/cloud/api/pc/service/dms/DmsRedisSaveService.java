@@ -3,6 +3,7 @@ package com.neu.his.cloud.api.pc.service.dms;
 
 import com.neu.his.cloud.api.pc.common.CommonResult;
 import com.neu.his.cloud.api.pc.dto.dms.DmsCaseHistoryParam;
+import com.neu.his.cloud.api.pc.dto.dms.DmsDraftRestoreResult;
 
 import com.neu.his.cloud.api.pc.dto.dms.DmsDrugRedisParam;
 import com.neu.his.cloud.api.pc.dto.dms.DmsNonDrugRedisParam;
@@ -46,4 +47,7 @@ public interface DmsRedisSaveService {
     @RequestMapping(value = "/redisSave/getNonDrug", method = RequestMethod.POST)
     CommonResult<DmsNonDrugRedisParam> getNonDrug(@RequestParam("registrationId") Long registrationId,
                                                   @RequestParam("type") int type);
-}
\ No newline at end of file
+
+    @RequestMapping(value = "/redisSave/restoreAll", method = RequestMethod.POST)
+    CommonResult<DmsDraftRestoreResult> restoreAll(@RequestParam("registrationId") Long registrationId);
+}
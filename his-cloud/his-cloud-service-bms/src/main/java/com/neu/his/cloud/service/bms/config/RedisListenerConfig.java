@@ -0,0 +1,24 @@
+package com.neu.his.cloud.service.bms.config;
+
+import com.neu.his.cloud.service.bms.component.DrugCatalogCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis消息订阅
+ * <p>com.neu.his.cloud.service.dms.config.RedisListenerConfig的副本，以dms为准同步修改
+ */
+@Configuration
+public class RedisListenerConfig {
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       DrugCatalogCache drugCatalogCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(drugCatalogCache, new ChannelTopic(DrugCatalogCache.INVALIDATE_CHANNEL));
+        return container;
+    }
+}
@@ -3,6 +3,7 @@ package com.neu.his.cloud.service.bms.controller;
 
 import com.neu.his.cloud.service.bms.common.CommonResult;
 import com.neu.his.cloud.service.bms.dto.bms.BmsDailySettleRecordResult;
+import com.neu.his.cloud.service.bms.dto.bms.BmsSettleAggregateVerifyResult;
 import com.neu.his.cloud.service.bms.dto.bms.BmsSettleListItemResult;
 import com.neu.his.cloud.service.bms.service.BmsDailySettlementService;
 import io.swagger.annotations.Api;
@@ -86,4 +87,13 @@ public class BmsDailySettlementController {
             return CommonResult.failed();
         }
     }
+
+    @ApiOperation(value = "用发票重算校验收费员的日结累计统计（repair为true且不一致时重建）")
+    @RequestMapping(value = "/verifySettleAggregate", method = RequestMethod.GET)
+    @ResponseBody
+    public CommonResult<BmsSettleAggregateVerifyResult> verifySettleAggregate(@RequestParam("cashierId") Long cashierId,
+                                                                              @RequestParam(value = "repair", required = false, defaultValue = "false") Boolean repair){
+        BmsSettleAggregateVerifyResult bmsSettleAggregateVerifyResult = bmsDailySettlementService.verifySettleAggregate(cashierId, repair);
+        return CommonResult.success(bmsSettleAggregateVerifyResult);
+    }
 }
@@ -0,0 +1,57 @@
+package com.neu.his.cloud.service.bms.controller;
+
+
+import com.neu.his.cloud.service.bms.service.BmsExportService;
+import com.neu.his.cloud.service.bms.util.ExportWriter;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Date;
+
+@Controller
+@Api(tags = "BmsExportController", description = "财务导出")
+@RequestMapping("/export")
+@CrossOrigin(allowCredentials = "true")
+public class BmsExportController {
+    @Autowired
+    BmsExportService bmsExportService;
+
+    @ApiOperation(value = "根据起始、结束时间（及收费员Id）流式导出发票记录，format为csv或ndjson")
+    @RequestMapping(value = "/invoice", method = RequestMethod.GET)
+    public void exportInvoice(@RequestParam(value = "cashierId", required = false) Long cashierId,
+                              @RequestParam("startDatetime") @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") Date startDatetime,
+                              @RequestParam("endDatetime") @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") Date endDatetime,
+                              @RequestParam(value = "format", defaultValue = ExportWriter.FORMAT_CSV) String format,
+                              HttpServletResponse response) throws IOException {
+        prepareResponse(response, "invoice", format);
+        bmsExportService.exportInvoice(cashierId, startDatetime, endDatetime, format, response.getOutputStream());
+    }
+
+    @ApiOperation(value = "根据起始、结束时间（及收费员Id）流式导出日结记录，format为csv或ndjson")
+    @RequestMapping(value = "/settleRecord", method = RequestMethod.GET)
+    public void exportSettleRecord(@RequestParam(value = "cashierId", required = false) Long cashierId,
+                                   @RequestParam("startDatetime") @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") Date startDatetime,
+                                   @RequestParam("endDatetime") @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") Date endDatetime,
+                                   @RequestParam(value = "format", defaultValue = ExportWriter.FORMAT_CSV) String format,
+                                   HttpServletResponse response) throws IOException {
+        prepareResponse(response, "settle_record", format);
+        bmsExportService.exportSettleRecord(cashierId, startDatetime, endDatetime, format, response.getOutputStream());
+    }
+
+    private void prepareResponse(HttpServletResponse response, String fileName, String format) {
+        //不设置Content-Length，由容器以分块方式边查边写
+        if (ExportWriter.isNdjson(format)) {
+            response.setContentType("application/x-ndjson;charset=UTF-8");
+            response.setHeader("Content-Disposition", "attachment; filename=" + fileName + ".ndjson");
+        } else {
+            response.setContentType("text/csv;charset=UTF-8");
+            response.setHeader("Content-Disposition", "attachment; filename=" + fileName + ".csv");
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.neu.his.cloud.service.bms.common.CommonPage;
 import com.neu.his.cloud.service.bms.common.CommonResult;
 import com.neu.his.cloud.service.bms.dto.bms.*;
 import com.neu.his.cloud.service.bms.dto.dms.DmsHerbalPrescriptionRecordResult;
+import com.neu.his.cloud.service.bms.service.BmsBillItemService;
 import com.neu.his.cloud.service.bms.service.BmsFeeService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -26,6 +27,8 @@ public class BmsFeeController {
 
     @Autowired
     BmsFeeService bmsFeeService;
+    @Autowired
+    BmsBillItemService bmsBillItemService;
 
 
     @ApiOperation(value = "查询挂号人")
@@ -43,16 +46,31 @@ public class BmsFeeController {
         return CommonResult.success(CommonPage.restPage(list,pageTotal));
     }
 
+    @ApiOperation(value = "游标分页查询挂号人")
+    @RequestMapping(value = "/listRegisteredPatientAfter", method = RequestMethod.GET)
+    @ResponseBody
+    public CommonResult<List<BmsRegistrationPatientResult>> listRegisteredPatientAfter(@RequestParam(required=false,name = "medicalRecordNo") String  medicalRecordNo,
+                                                                                       @RequestParam(required=false,name="queryDate")@DateTimeFormat(pattern = "yyyy-MM-dd") Date queryDate,
+                                                                                       @RequestParam(required=false,name="lastCreateTime")@DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") Date lastCreateTime,
+                                                                                       @RequestParam(required=false,name="lastId") Long lastId,
+                                                                                       @RequestParam(value = "pageSize", defaultValue = "5") Integer pageSize){
+        List<BmsRegistrationPatientResult> list = bmsFeeService.listRegisteredPatientAfter(medicalRecordNo,queryDate,lastCreateTime,lastId,pageSize);
+        return CommonResult.success(list);
+    }
+
     @ApiOperation(value = "收费")
     @RequestMapping(value = "/charge", method = RequestMethod.POST)
     @ResponseBody
-    public CommonResult charge(@RequestBody List<BmsChargeParam> bmsChargeParamList){
-        int result = bmsFeeService.charge(bmsChargeParamList);
-        if (result == 1){
-            return CommonResult.success(result);
+    public CommonResult<BmsChargeReportResult> charge(@RequestBody List<BmsChargeParam> bmsChargeParamList){
+        BmsChargeReportResult result = bmsFeeService.charge(bmsChargeParamList);
+        if (result.getChargedCount() == 0){
+            return CommonResult.failed("所选项目均已缴费或不存在");
+        }
+        else if (!result.getConflictList().isEmpty()){
+            return CommonResult.success(result, "部分项目已被收费，未重复收取");
         }
         else {
-            return CommonResult.failed();
+            return CommonResult.success(result);
         }
     }
 
@@ -72,8 +90,8 @@ public class BmsFeeController {
     @RequestMapping(value = "/refundCharge", method = RequestMethod.POST)
     @ResponseBody
     public CommonResult refundCharge(@RequestBody List<BmsRefundChargeParam> bmsRefundChargeParamList){
-        int result = bmsFeeService.refundCharge(bmsRefundChargeParamList);
-        if (result == 1){
+        BmsRefundInvoiceResult result = bmsFeeService.refundCharge(bmsRefundChargeParamList);
+        if (result != null){
             return CommonResult.success(result);
         }else {
             return CommonResult.failed();
@@ -85,8 +103,8 @@ public class BmsFeeController {
     @RequestMapping(value = "/refundRegistrationCharge", method = RequestMethod.POST)
     @ResponseBody
     public CommonResult refundRegistrationCharge(@RequestBody BmsRefundRegChargeParam bmsRefundRegChargeParam){
-        int result = bmsFeeService.refundRegistrationCharge(bmsRefundRegChargeParam);
-        if (result == 1){
+        BmsRefundInvoiceResult result = bmsFeeService.refundRegistrationCharge(bmsRefundRegChargeParam);
+        if (result != null){
             return CommonResult.success(result);
         }
         else {
@@ -108,4 +126,11 @@ public class BmsFeeController {
             return CommonResult.success(bmsChargeResultList);
         }
     }
+
+    @ApiOperation(value = "根据门诊号查询账单项目串（旧版格式：项目id,类型><）")
+    @RequestMapping(value = "/getBillRecordList", method = RequestMethod.GET)
+    @ResponseBody
+    public CommonResult<String> getBillRecordList(@RequestParam("registrationId") Long registrationId){
+        return CommonResult.success(bmsBillItemService.getRecordListStr(registrationId));
+    }
 }
@@ -3,6 +3,7 @@ package com.neu.his.cloud.service.bms.controller;
 
 import com.neu.his.cloud.service.bms.common.CommonResult;
 import com.neu.his.cloud.service.bms.dto.bms.BmsInvoiceResult;
+import com.neu.his.cloud.service.bms.service.BmsInvoiceItemService;
 import com.neu.his.cloud.service.bms.service.BmsInvoiceService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -21,6 +22,8 @@ import java.util.List;
 public class BmsInvoiceController {
     @Autowired
     BmsInvoiceService bmsInvoiceService;
+    @Autowired
+    BmsInvoiceItemService bmsInvoiceItemService;
 
     @ApiOperation(value = "发票补打")
     @RequestMapping(value = "/supplementPrintInvoice", method = RequestMethod.GET)
@@ -63,4 +66,12 @@ public class BmsInvoiceController {
         List<BmsInvoiceResult> bmsInvoiceResultList = bmsInvoiceService.queryInvoiceInfoBySettleId(settleRecordId);
         return CommonResult.success(bmsInvoiceResultList);
     }
+
+    @ApiOperation(value = "将历史发票的itemList字符串迁移到发票明细表，返回迁移的发票数")
+    @RequestMapping(value = "/backfillItems", method = RequestMethod.POST)
+    @ResponseBody
+    public CommonResult<Integer> backfillItems(@RequestParam(value = "batchSize", required = false) Integer batchSize){
+        int count = bmsInvoiceItemService.backfillItems(batchSize);
+        return CommonResult.success(count);
+    }
 }
@@ -0,0 +1,26 @@
+package com.neu.his.cloud.service.bms.dto.bms;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.List;
+
+@Setter
+@Getter
+@ToString
+public class BmsChargeReportResult implements Serializable {
+    @ApiModelProperty(value = "发票id")
+    Long invoiceId;
+    @ApiModelProperty(value = "发票号")
+    Long invoiceNo;
+    @ApiModelProperty(value = "本次收费项目数")
+    Integer chargedCount;
+    @ApiModelProperty(value = "本次收费总金额")
+    BigDecimal amount;
+    @ApiModelProperty(value = "未能收费的项目（已被其他收费员收费、状态不是未缴费或不存在），status为当前状态")
+    List<BmsChargeResult> conflictList;
+}
@@ -0,0 +1,18 @@
+package com.neu.his.cloud.service.bms.dto.bms;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+@Setter
+@Getter
+@ToString
+public class BmsRefundInvoiceResult implements Serializable {
+    @ApiModelProperty(value = "冲红发票号")
+    Long redInvoiceNo;
+    @ApiModelProperty(value = "新发票号（挂号退费没有新发票）")
+    Long newInvoiceNo;
+}
@@ -0,0 +1,25 @@
+package com.neu.his.cloud.service.bms.dto.bms;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Setter
+@Getter
+@ToString
+public class BmsSettleAggregateVerifyResult implements Serializable {
+    @ApiModelProperty(value = "累计统计与发票重算结果是否一致")
+    Boolean consistent;
+    @ApiModelProperty(value = "不一致的字段")
+    List<String> mismatchList;
+    @ApiModelProperty(value = "是否已按发票重建累计统计")
+    Boolean repaired;
+    @ApiModelProperty(value = "累计统计")
+    BmsDailySettleRecordResult aggregate;
+    @ApiModelProperty(value = "由发票重算的统计")
+    BmsDailySettleRecordResult recomputed;
+}
@@ -0,0 +1,19 @@
+package com.neu.his.cloud.service.bms.mapper;
+
+import com.neu.his.cloud.service.bms.model.BmsBillItem;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * @ClassName: BmsBillItemDao
+ * @description: 账单项目（只追加）
+ */
+@Mapper
+public interface BmsBillItemDao {
+    /**
+     * 批量追加账单项目
+     */
+    int insertList(@Param("list") List<BmsBillItem> list);
+}
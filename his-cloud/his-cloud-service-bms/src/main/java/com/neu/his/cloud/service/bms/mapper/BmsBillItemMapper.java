@@ -0,0 +1,30 @@
+package com.neu.his.cloud.service.bms.mapper;
+
+import com.neu.his.cloud.service.bms.model.BmsBillItem;
+import com.neu.his.cloud.service.bms.model.BmsBillItemExample;
+import java.util.List;
+import org.apache.ibatis.annotations.Param;
+
+public interface BmsBillItemMapper {
+    int countByExample(BmsBillItemExample example);
+
+    int deleteByExample(BmsBillItemExample example);
+
+    int deleteByPrimaryKey(Long id);
+
+    int insert(BmsBillItem record);
+
+    int insertSelective(BmsBillItem record);
+
+    List<BmsBillItem> selectByExample(BmsBillItemExample example);
+
+    BmsBillItem selectByPrimaryKey(Long id);
+
+    int updateByExampleSelective(@Param("record") BmsBillItem record, @Param("example") BmsBillItemExample example);
+
+    int updateByExample(@Param("record") BmsBillItem record, @Param("example") BmsBillItemExample example);
+
+    int updateByPrimaryKeySelective(BmsBillItem record);
+
+    int updateByPrimaryKey(BmsBillItem record);
+}
\ No newline at end of file
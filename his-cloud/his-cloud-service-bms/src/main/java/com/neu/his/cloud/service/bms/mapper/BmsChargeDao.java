@@ -0,0 +1,51 @@
+package com.neu.his.cloud.service.bms.mapper;
+
+import com.neu.his.cloud.service.bms.model.DmsHerbalPrescriptionRecord;
+import com.neu.his.cloud.service.bms.model.DmsMedicinePrescriptionRecord;
+import com.neu.his.cloud.service.bms.model.DmsNonDrugItemRecord;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * @ClassName: BmsChargeDao
+ * @description: 收费批量操作（锁定收费项目、按状态批量修改、追加账单项目串、取消超时作废任务）
+ */
+@Mapper
+public interface BmsChargeDao {
+    /**
+     * 锁定非药品项目（只查id、挂号id、状态），需在事务中调用
+     */
+    List<DmsNonDrugItemRecord> lockNonDrugItemRecords(@Param("ids") List<Long> ids);
+
+    /**
+     * 锁定草药处方（只查id、挂号id、状态），需在事务中调用
+     */
+    List<DmsHerbalPrescriptionRecord> lockHerbalPrescriptionRecords(@Param("ids") List<Long> ids);
+
+    /**
+     * 锁定成药处方（只查id、挂号id、状态），需在事务中调用
+     */
+    List<DmsMedicinePrescriptionRecord> lockMedicinePrescriptionRecords(@Param("ids") List<Long> ids);
+
+    /**
+     * 批量修改非药品项目状态，只修改状态为fromStatus的记录
+     */
+    int updateNonDrugItemStatus(@Param("ids") List<Long> ids, @Param("fromStatus") Integer fromStatus, @Param("toStatus") Integer toStatus);
+
+    /**
+     * 批量修改草药处方状态，只修改状态为fromStatus的记录
+     */
+    int updateHerbalPrescriptionStatus(@Param("ids") List<Long> ids, @Param("fromStatus") Integer fromStatus, @Param("toStatus") Integer toStatus);
+
+    /**
+     * 批量修改成药处方状态，只修改状态为fromStatus的记录
+     */
+    int updateMedicinePrescriptionStatus(@Param("ids") List<Long> ids, @Param("fromStatus") Integer fromStatus, @Param("toStatus") Integer toStatus);
+
+    /**
+     * 删除已缴费项目的超时作废任务（dms_prescription_expiry），type：1非药品 4草药 5成药
+     */
+    int deleteExpiry(@Param("ids") List<Long> ids, @Param("type") Integer type);
+}
@@ -0,0 +1,22 @@
+package com.neu.his.cloud.service.bms.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * @ClassName: BmsDrugStockDao
+ * @description: 退费时释放未发药处方项的库存预留（dms_drug.reserved），并写库存流水（dms_drug_stock_txn），
+ * 与dms的DrugStockLedger使用相同的流水类型；开立时没有预留的处方项（上线前开立）不处理
+ */
+@Mapper
+public interface BmsDrugStockDao {
+    /**
+     * 写入释放预留的流水（类型2），须在releaseByItem和处方项修改之前调用；type：4草药 5成药
+     */
+    int insertReleaseTxnByItem(@Param("itemId") Long itemId, @Param("type") Integer type);
+
+    /**
+     * 状态为1（未发药）的处方项：reserved减去其数量，须在处方项修改之前调用；type：4草药 5成药
+     */
+    int releaseByItem(@Param("itemId") Long itemId, @Param("type") Integer type);
+}
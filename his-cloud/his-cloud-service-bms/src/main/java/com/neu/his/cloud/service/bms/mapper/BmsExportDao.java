@@ -0,0 +1,32 @@
+package com.neu.his.cloud.service.bms.mapper;
+
+import com.neu.his.cloud.service.bms.model.BmsInvoiceRecord;
+import com.neu.his.cloud.service.bms.model.BmsOperatorSettleRecord;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.util.Date;
+
+/**
+ * @ClassName: BmsExportDao
+ * @description: 财务导出（发票、日结记录），以游标方式逐行读取，避免一次性加载到内存
+ */
+@Mapper
+public interface BmsExportDao {
+    /**
+     * 按时间段（及收费员）流式读取发票记录，不含item_list
+     * <p>cashierId为空时导出全部收费员
+     */
+    Cursor<BmsInvoiceRecord> cursorInvoice(@Param("cashierId") Long cashierId,
+                                           @Param("startDatetime") Date startDatetime,
+                                           @Param("endDatetime") Date endDatetime);
+
+    /**
+     * 按时间段（及收费员）流式读取日结记录
+     * <p>cashierId为空时导出全部收费员
+     */
+    Cursor<BmsOperatorSettleRecord> cursorSettleRecord(@Param("cashierId") Long cashierId,
+                                                       @Param("startDatetime") Date startDatetime,
+                                                       @Param("endDatetime") Date endDatetime);
+}
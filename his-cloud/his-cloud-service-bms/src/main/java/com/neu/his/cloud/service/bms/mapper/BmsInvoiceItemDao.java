@@ -0,0 +1,30 @@
+package com.neu.his.cloud.service.bms.mapper;
+
+import com.neu.his.cloud.service.bms.model.BmsInvoiceItem;
+import com.neu.his.cloud.service.bms.model.BmsInvoiceRecord;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * @ClassName: BmsInvoiceItemDao
+ * @description: 发票明细批量读写
+ */
+@Mapper
+public interface BmsInvoiceItemDao {
+    /**
+     * 批量插入发票明细
+     */
+    int insertList(@Param("list") List<BmsInvoiceItem> list);
+
+    /**
+     * 根据发票ids查询发票明细
+     */
+    List<BmsInvoiceItem> listByInvoiceIds(@Param("invoiceIds") List<Long> invoiceIds);
+
+    /**
+     * 按id顺序分批查询尚未拆分明细的历史发票（item_list不为空且无明细行）
+     */
+    List<BmsInvoiceRecord> listLegacyInvoiceAfter(@Param("lastId") Long lastId, @Param("limit") Integer limit);
+}
@@ -0,0 +1,21 @@
+package com.neu.his.cloud.service.bms.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Date;
+
+/**
+ * @ClassName: BmsInvoiceRecordDao
+ * @description: 发票批量更新
+ */
+@Mapper
+public interface BmsInvoiceRecordDao {
+    /**
+     * 把收费员在时间段内尚未日结的发票一次性标记为所属日结记录并冻结，返回标记的发票数
+     */
+    int stampSettleRecord(@Param("cashierId") Long cashierId,
+                          @Param("startDatetime") Date startDatetime,
+                          @Param("endDatetime") Date endDatetime,
+                          @Param("settleRecordId") Long settleRecordId);
+}
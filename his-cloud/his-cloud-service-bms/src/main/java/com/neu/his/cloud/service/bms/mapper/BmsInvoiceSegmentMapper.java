@@ -0,0 +1,30 @@
+package com.neu.his.cloud.service.bms.mapper;
+
+import com.neu.his.cloud.service.bms.model.BmsInvoiceSegment;
+import com.neu.his.cloud.service.bms.model.BmsInvoiceSegmentExample;
+import java.util.List;
+import org.apache.ibatis.annotations.Param;
+
+public interface BmsInvoiceSegmentMapper {
+    int countByExample(BmsInvoiceSegmentExample example);
+
+    int deleteByExample(BmsInvoiceSegmentExample example);
+
+    int deleteByPrimaryKey(Long id);
+
+    int insert(BmsInvoiceSegment record);
+
+    int insertSelective(BmsInvoiceSegment record);
+
+    List<BmsInvoiceSegment> selectByExample(BmsInvoiceSegmentExample example);
+
+    BmsInvoiceSegment selectByPrimaryKey(Long id);
+
+    int updateByExampleSelective(@Param("record") BmsInvoiceSegment record, @Param("example") BmsInvoiceSegmentExample example);
+
+    int updateByExample(@Param("record") BmsInvoiceSegment record, @Param("example") BmsInvoiceSegmentExample example);
+
+    int updateByPrimaryKeySelective(BmsInvoiceSegment record);
+
+    int updateByPrimaryKey(BmsInvoiceSegment record);
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.neu.his.cloud.service.bms.mapper;
+
+import com.neu.his.cloud.service.bms.model.BmsRefundableItem;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * @ClassName: BmsRefundableItemDao
+ * @description: 可退费项目批量写入；生成可退费项目前锁定挂号，生成后在bms_refundable_registration中登记
+ */
+@Mapper
+public interface BmsRefundableItemDao {
+    /**
+     * 批量插入可退费项目
+     */
+    int insertList(@Param("list") List<BmsRefundableItem> list);
+
+    /**
+     * 锁定挂号（SELECT ... FOR UPDATE），同一挂号的可退费项目串行生成，返回挂号id，挂号不存在时返回null
+     */
+    Long lockRegistration(@Param("registrationId") Long registrationId);
+
+    /**
+     * 挂号的可退费项目是否已生成（没有可退费项目时也登记），1已生成 0未生成
+     */
+    int countBuilt(@Param("registrationId") Long registrationId);
+
+    /**
+     * 登记挂号的可退费项目已生成，已登记时忽略
+     */
+    int insertBuilt(@Param("registrationId") Long registrationId);
+}
@@ -0,0 +1,30 @@
+package com.neu.his.cloud.service.bms.mapper;
+
+import com.neu.his.cloud.service.bms.model.BmsRefundableItem;
+import com.neu.his.cloud.service.bms.model.BmsRefundableItemExample;
+import java.util.List;
+import org.apache.ibatis.annotations.Param;
+
+public interface BmsRefundableItemMapper {
+    int countByExample(BmsRefundableItemExample example);
+
+    int deleteByExample(BmsRefundableItemExample example);
+
+    int deleteByPrimaryKey(Long id);
+
+    int insert(BmsRefundableItem record);
+
+    int insertSelective(BmsRefundableItem record);
+
+    List<BmsRefundableItem> selectByExample(BmsRefundableItemExample example);
+
+    BmsRefundableItem selectByPrimaryKey(Long id);
+
+    int updateByExampleSelective(@Param("record") BmsRefundableItem record, @Param("example") BmsRefundableItemExample example);
+
+    int updateByExample(@Param("record") BmsRefundableItem record, @Param("example") BmsRefundableItemExample example);
+
+    int updateByPrimaryKeySelective(BmsRefundableItem record);
+
+    int updateByPrimaryKey(BmsRefundableItem record);
+}
\ No newline at end of file
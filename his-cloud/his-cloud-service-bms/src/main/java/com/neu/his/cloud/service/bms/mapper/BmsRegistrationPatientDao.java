@@ -0,0 +1,32 @@
+package com.neu.his.cloud.service.bms.mapper;
+
+import com.neu.his.cloud.service.bms.dto.bms.BmsRegistrationPatientResult;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * @ClassName: BmsRegistrationPatientDao
+ * @description: 收费处挂号人列表（挂号、病人、排班、医生、挂号级别、科室一次联表查询）
+ */
+@Mapper
+public interface BmsRegistrationPatientDao {
+    /**
+     * 按病历号/就诊日期查询挂号人，按挂号时间倒序
+     * <p>medicalRecordNo、attendanceDate可为空，为空时不作为条件
+     */
+    List<BmsRegistrationPatientResult> listRegisteredPatient(@Param("medicalRecordNo") String medicalRecordNo,
+                                                             @Param("attendanceDate") Date attendanceDate);
+
+    /**
+     * 游标（键集）分页：返回排在(lastCreateTime,lastId)之后的pageSize条记录
+     * <p>lastCreateTime、lastId为空时从第一条开始
+     */
+    List<BmsRegistrationPatientResult> listRegisteredPatientAfter(@Param("medicalRecordNo") String medicalRecordNo,
+                                                                  @Param("attendanceDate") Date attendanceDate,
+                                                                  @Param("lastCreateTime") Date lastCreateTime,
+                                                                  @Param("lastId") Long lastId,
+                                                                  @Param("pageSize") Integer pageSize);
+}
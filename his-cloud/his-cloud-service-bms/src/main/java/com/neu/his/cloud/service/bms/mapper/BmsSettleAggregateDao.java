@@ -0,0 +1,37 @@
+package com.neu.his.cloud.service.bms.mapper;
+
+import com.neu.his.cloud.service.bms.model.BmsSettleAggregate;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Date;
+
+/**
+ * @ClassName: BmsSettleAggregateDao
+ * @description: 收费员日结累计统计的增量维护
+ */
+@Mapper
+public interface BmsSettleAggregateDao {
+    /**
+     * 在收费员的累计统计上叠加增量（数量、金额、id串），invoiceNo不为空时同时追加发票号段
+     * <p>只有invoiceTime晚于统计起始时间（与重建、校验时按create_time大于period_start取发票一致）且统计未标记重算时才会更新
+     */
+    int applyDelta(@Param("delta") BmsSettleAggregate delta,
+                   @Param("invoiceNo") Long invoiceNo,
+                   @Param("invoiceTime") Date invoiceTime);
+
+    /**
+     * 锁定收费员的累计统计行，行不存在时先插入待重建的占位行，需在事务中调用
+     */
+    int lockByCashierId(@Param("cashierId") Long cashierId);
+
+    /**
+     * 读取并锁定收费员的累计统计，需在事务中调用
+     */
+    BmsSettleAggregate selectByCashierIdForUpdate(@Param("cashierId") Long cashierId);
+
+    /**
+     * 标记收费员的累计统计需要从发票重算
+     */
+    int markDirty(@Param("cashierId") Long cashierId);
+}
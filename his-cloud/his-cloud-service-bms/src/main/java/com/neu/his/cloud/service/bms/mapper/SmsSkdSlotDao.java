@@ -0,0 +1,16 @@
+package com.neu.his.cloud.service.bms.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * @ClassName: SmsSkdSlotDao
+ * @description: 排班限额（sms_skd.remain）归还，与dms挂号时的条件扣减对应
+ */
+@Mapper
+public interface SmsSkdSlotDao {
+    /**
+     * 归还一个号源：remain+1，但不超过排班限额sk_limit
+     */
+    int release(@Param("skdId") Long skdId);
+}
@@ -0,0 +1,175 @@
+package com.neu.his.cloud.service.bms.model;
+
+import io.swagger.annotations.ApiModelProperty;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Date;
+
+public class BmsRefundableItem implements Serializable {
+    private Long id;
+
+    private Long registrationId;
+
+    private Long invoiceNo;
+
+    private Long itemId;
+
+    private Long prescriptionId;
+
+    private Integer type;
+
+    private String name;
+
+    private BigDecimal price;
+
+    private Long num;
+
+    private BigDecimal amount;
+
+    private Integer status;
+
+    private Integer refundable;
+
+    private Date createTime;
+
+    private Date updateTime;
+
+    private static final long serialVersionUID = 1L;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getRegistrationId() {
+        return registrationId;
+    }
+
+    public void setRegistrationId(Long registrationId) {
+        this.registrationId = registrationId;
+    }
+
+    public Long getInvoiceNo() {
+        return invoiceNo;
+    }
+
+    public void setInvoiceNo(Long invoiceNo) {
+        this.invoiceNo = invoiceNo;
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public void setItemId(Long itemId) {
+        this.itemId = itemId;
+    }
+
+    public Long getPrescriptionId() {
+        return prescriptionId;
+    }
+
+    public void setPrescriptionId(Long prescriptionId) {
+        this.prescriptionId = prescriptionId;
+    }
+
+    public Integer getType() {
+        return type;
+    }
+
+    public void setType(Integer type) {
+        this.type = type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public Long getNum() {
+        return num;
+    }
+
+    public void setNum(Long num) {
+        this.num = num;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public Integer getStatus() {
+        return status;
+    }
+
+    public void setStatus(Integer status) {
+        this.status = status;
+    }
+
+    public Integer getRefundable() {
+        return refundable;
+    }
+
+    public void setRefundable(Integer refundable) {
+        this.refundable = refundable;
+    }
+
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+
+    public Date getUpdateTime() {
+        return updateTime;
+    }
+
+    public void setUpdateTime(Date updateTime) {
+        this.updateTime = updateTime;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [");
+        sb.append("Hash = ").append(hashCode());
+        sb.append(", id=").append(id);
+        sb.append(", registrationId=").append(registrationId);
+        sb.append(", invoiceNo=").append(invoiceNo);
+        sb.append(", itemId=").append(itemId);
+        sb.append(", prescriptionId=").append(prescriptionId);
+        sb.append(", type=").append(type);
+        sb.append(", name=").append(name);
+        sb.append(", price=").append(price);
+        sb.append(", num=").append(num);
+        sb.append(", amount=").append(amount);
+        sb.append(", status=").append(status);
+        sb.append(", refundable=").append(refundable);
+        sb.append(", createTime=").append(createTime);
+        sb.append(", updateTime=").append(updateTime);
+        sb.append(", serialVersionUID=").append(serialVersionUID);
+        sb.append("]");
+        return sb.toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,329 @@
+package com.neu.his.cloud.service.bms.model;
+
+import io.swagger.annotations.ApiModelProperty;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Date;
+
+public class BmsSettleAggregate implements Serializable {
+    private Long id;
+
+    private Long cashierId;
+
+    private Date periodStart;
+
+    private Date lastInvoiceTime;
+
+    private Long invoiceNum;
+
+    private Long rushInvoiceNum;
+
+    private Long reprintInvoiceNum;
+
+    private String closedRangeStr;
+
+    private Long runStartNo;
+
+    private Long lastInvoiceNo;
+
+    private String rushInvoiceIdListStr;
+
+    private String reprintInvoiceIdListStr;
+
+    private BigDecimal medicineAmount;
+
+    private BigDecimal herbalAmount;
+
+    private BigDecimal checkAmount;
+
+    private BigDecimal dispositionAmount;
+
+    private BigDecimal registrationAmount;
+
+    private BigDecimal testAmount;
+
+    private BigDecimal amount;
+
+    private BigDecimal cashAmount;
+
+    private BigDecimal insuranceAmount;
+
+    private BigDecimal bankCardAmount;
+
+    private BigDecimal alipayAmount;
+
+    private BigDecimal wechatAmount;
+
+    private BigDecimal creditCardAmount;
+
+    private BigDecimal otherAmount;
+
+    private Integer dirty;
+
+    private Date updateTime;
+
+    private static final long serialVersionUID = 1L;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getCashierId() {
+        return cashierId;
+    }
+
+    public void setCashierId(Long cashierId) {
+        this.cashierId = cashierId;
+    }
+
+    public Date getPeriodStart() {
+        return periodStart;
+    }
+
+    public void setPeriodStart(Date periodStart) {
+        this.periodStart = periodStart;
+    }
+
+    public Date getLastInvoiceTime() {
+        return lastInvoiceTime;
+    }
+
+    public void setLastInvoiceTime(Date lastInvoiceTime) {
+        this.lastInvoiceTime = lastInvoiceTime;
+    }
+
+    public Long getInvoiceNum() {
+        return invoiceNum;
+    }
+
+    public void setInvoiceNum(Long invoiceNum) {
+        this.invoiceNum = invoiceNum;
+    }
+
+    public Long getRushInvoiceNum() {
+        return rushInvoiceNum;
+    }
+
+    public void setRushInvoiceNum(Long rushInvoiceNum) {
+        this.rushInvoiceNum = rushInvoiceNum;
+    }
+
+    public Long getReprintInvoiceNum() {
+        return reprintInvoiceNum;
+    }
+
+    public void setReprintInvoiceNum(Long reprintInvoiceNum) {
+        this.reprintInvoiceNum = reprintInvoiceNum;
+    }
+
+    public String getClosedRangeStr() {
+        return closedRangeStr;
+    }
+
+    public void setClosedRangeStr(String closedRangeStr) {
+        this.closedRangeStr = closedRangeStr;
+    }
+
+    public Long getRunStartNo() {
+        return runStartNo;
+    }
+
+    public void setRunStartNo(Long runStartNo) {
+        this.runStartNo = runStartNo;
+    }
+
+    public Long getLastInvoiceNo() {
+        return lastInvoiceNo;
+    }
+
+    public void setLastInvoiceNo(Long lastInvoiceNo) {
+        this.lastInvoiceNo = lastInvoiceNo;
+    }
+
+    public String getRushInvoiceIdListStr() {
+        return rushInvoiceIdListStr;
+    }
+
+    public void setRushInvoiceIdListStr(String rushInvoiceIdListStr) {
+        this.rushInvoiceIdListStr = rushInvoiceIdListStr;
+    }
+
+    public String getReprintInvoiceIdListStr() {
+        return reprintInvoiceIdListStr;
+    }
+
+    public void setReprintInvoiceIdListStr(String reprintInvoiceIdListStr) {
+        this.reprintInvoiceIdListStr = reprintInvoiceIdListStr;
+    }
+
+    public BigDecimal getMedicineAmount() {
+        return medicineAmount;
+    }
+
+    public void setMedicineAmount(BigDecimal medicineAmount) {
+        this.medicineAmount = medicineAmount;
+    }
+
+    public BigDecimal getHerbalAmount() {
+        return herbalAmount;
+    }
+
+    public void setHerbalAmount(BigDecimal herbalAmount) {
+        this.herbalAmount = herbalAmount;
+    }
+
+    public BigDecimal getCheckAmount() {
+        return checkAmount;
+    }
+
+    public void setCheckAmount(BigDecimal checkAmount) {
+        this.checkAmount = checkAmount;
+    }
+
+    public BigDecimal getDispositionAmount() {
+        return dispositionAmount;
+    }
+
+    public void setDispositionAmount(BigDecimal dispositionAmount) {
+        this.dispositionAmount = dispositionAmount;
+    }
+
+    public BigDecimal getRegistrationAmount() {
+        return registrationAmount;
+    }
+
+    public void setRegistrationAmount(BigDecimal registrationAmount) {
+        this.registrationAmount = registrationAmount;
+    }
+
+    public BigDecimal getTestAmount() {
+        return testAmount;
+    }
+
+    public void setTestAmount(BigDecimal testAmount) {
+        this.testAmount = testAmount;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public BigDecimal getCashAmount() {
+        return cashAmount;
+    }
+
+    public void setCashAmount(BigDecimal cashAmount) {
+        this.cashAmount = cashAmount;
+    }
+
+    public BigDecimal getInsuranceAmount() {
+        return insuranceAmount;
+    }
+
+    public void setInsuranceAmount(BigDecimal insuranceAmount) {
+        this.insuranceAmount = insuranceAmount;
+    }
+
+    public BigDecimal getBankCardAmount() {
+        return bankCardAmount;
+    }
+
+    public void setBankCardAmount(BigDecimal bankCardAmount) {
+        this.bankCardAmount = bankCardAmount;
+    }
+
+    public BigDecimal getAlipayAmount() {
+        return alipayAmount;
+    }
+
+    public void setAlipayAmount(BigDecimal alipayAmount) {
+        this.alipayAmount = alipayAmount;
+    }
+
+    public BigDecimal getWechatAmount() {
+        return wechatAmount;
+    }
+
+    public void setWechatAmount(BigDecimal wechatAmount) {
+        this.wechatAmount = wechatAmount;
+    }
+
+    public BigDecimal getCreditCardAmount() {
+        return creditCardAmount;
+    }
+
+    public void setCreditCardAmount(BigDecimal creditCardAmount) {
+        this.creditCardAmount = creditCardAmount;
+    }
+
+    public BigDecimal getOtherAmount() {
+        return otherAmount;
+    }
+
+    public void setOtherAmount(BigDecimal otherAmount) {
+        this.otherAmount = otherAmount;
+    }
+
+    public Integer getDirty() {
+        return dirty;
+    }
+
+    public void setDirty(Integer dirty) {
+        this.dirty = dirty;
+    }
+
+    public Date getUpdateTime() {
+        return updateTime;
+    }
+
+    public void setUpdateTime(Date updateTime) {
+        this.updateTime = updateTime;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [");
+        sb.append("Hash = ").append(hashCode());
+        sb.append(", id=").append(id);
+        sb.append(", cashierId=").append(cashierId);
+        sb.append(", periodStart=").append(periodStart);
+        sb.append(", lastInvoiceTime=").append(lastInvoiceTime);
+        sb.append(", invoiceNum=").append(invoiceNum);
+        sb.append(", rushInvoiceNum=").append(rushInvoiceNum);
+        sb.append(", reprintInvoiceNum=").append(reprintInvoiceNum);
+        sb.append(", closedRangeStr=").append(closedRangeStr);
+        sb.append(", runStartNo=").append(runStartNo);
+        sb.append(", lastInvoiceNo=").append(lastInvoiceNo);
+        sb.append(", rushInvoiceIdListStr=").append(rushInvoiceIdListStr);
+        sb.append(", reprintInvoiceIdListStr=").append(reprintInvoiceIdListStr);
+        sb.append(", medicineAmount=").append(medicineAmount);
+        sb.append(", herbalAmount=").append(herbalAmount);
+        sb.append(", checkAmount=").append(checkAmount);
+        sb.append(", dispositionAmount=").append(dispositionAmount);
+        sb.append(", registrationAmount=").append(registrationAmount);
+        sb.append(", testAmount=").append(testAmount);
+        sb.append(", amount=").append(amount);
+        sb.append(", cashAmount=").append(cashAmount);
+        sb.append(", insuranceAmount=").append(insuranceAmount);
+        sb.append(", bankCardAmount=").append(bankCardAmount);
+        sb.append(", alipayAmount=").append(alipayAmount);
+        sb.append(", wechatAmount=").append(wechatAmount);
+        sb.append(", creditCardAmount=").append(creditCardAmount);
+        sb.append(", otherAmount=").append(otherAmount);
+        sb.append(", dirty=").append(dirty);
+        sb.append(", updateTime=").append(updateTime);
+        sb.append(", serialVersionUID=").append(serialVersionUID);
+        sb.append("]");
+        return sb.toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.neu.his.cloud.service.bms.service;
+
+import com.neu.his.cloud.service.bms.model.BmsInvoiceItemList;
+
+import java.util.List;
+
+/**
+ * 账单项目
+ */
+public interface BmsBillItemService {
+    /**
+     * 描述：向账单追加项目（一次批量插入）
+     */
+    void appendItems(Long billId, List<BmsInvoiceItemList> itemList);
+    /**
+     * 描述：按旧版格式（项目id,类型><）拼出账单的项目串，供旧客户端使用；没有账单时返回null
+     */
+    String getRecordListStr(Long registrationId);
+}
@@ -1,6 +1,7 @@
 package com.neu.his.cloud.service.bms.service;
 
 import com.neu.his.cloud.service.bms.dto.bms.BmsDailySettleRecordResult;
+import com.neu.his.cloud.service.bms.dto.bms.BmsSettleAggregateVerifyResult;
 import com.neu.his.cloud.service.bms.dto.bms.BmsSettleListItemResult;
 
 import java.util.Date;
@@ -35,4 +36,9 @@ public interface BmsDailySettlementService {
      * 描述：对账
      */
     int verifySettle(Long verifyOperatorId, Long settleRecordId);
+
+    /**
+     * 描述：用发票重算校验收费员的累计统计，repair为true且不一致时重建
+     */
+    BmsSettleAggregateVerifyResult verifySettleAggregate(Long cashierId, Boolean repair);
 }
@@ -0,0 +1,21 @@
+package com.neu.his.cloud.service.bms.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
+
+/**
+ * 财务导出
+ */
+public interface BmsExportService {
+
+    /**
+     * 描述：按时间段（及收费员）流式导出发票记录，format为csv或ndjson
+     */
+    void exportInvoice(Long cashierId, Date startDatetime, Date endDatetime, String format, OutputStream outputStream) throws IOException;
+
+    /**
+     * 描述：按时间段（及收费员）流式导出日结记录，format为csv或ndjson
+     */
+    void exportSettleRecord(Long cashierId, Date startDatetime, Date endDatetime, String format, OutputStream outputStream) throws IOException;
+}
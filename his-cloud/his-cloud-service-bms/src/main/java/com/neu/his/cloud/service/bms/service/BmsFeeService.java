@@ -14,24 +14,28 @@ public interface BmsFeeService {
      * 描述：查询当日挂号人
      */
     List<BmsRegistrationPatientResult> listRegisteredPatient(String medicalRecordNo, Date queryDate);
+    /**
+     * 描述：游标分页查询挂号人（传入上一页最后一条的挂号时间和挂号id）
+     */
+    List<BmsRegistrationPatientResult> listRegisteredPatientAfter(String medicalRecordNo, Date queryDate, Date lastCreateTime, Long lastId, Integer pageSize);
     /**
      * 描述：根据挂号id查询未缴费项目
      */
     List<BmsChargeResult>  listChargeByRegistrationId(Long registrationId);
     /**
-     * 描述：收费
+     * 描述：收费（同一事务内批量收费，返回收费结果及冲突项目）
      */
-    int charge(List<BmsChargeParam> bmsChargeParamList);
+    BmsChargeReportResult charge(List<BmsChargeParam> bmsChargeParamList);
     /**
      * 描述：退费查询（根据挂号id查找出所有发票）
      */
     List<BmsRefundChargeResult> listRefundByRegistrationId(Long registrationId);
     /**
-     * 描述：非药品、药品退费
+     * 描述：非药品、药品退费（冲红发票号、新发票号由服务端分配），没有可退发票时返回null
      */
-    int refundCharge(List<BmsRefundChargeParam> bmsRefundChargeParamList);
+    BmsRefundInvoiceResult refundCharge(List<BmsRefundChargeParam> bmsRefundChargeParamList);
     /**
-     * 描述：挂号退费
+     * 描述：挂号退费（冲红发票号由服务端分配）
      */
-    int refundRegistrationCharge(BmsRefundRegChargeParam bmsRefundRegChargeParam);
+    BmsRefundInvoiceResult refundRegistrationCharge(BmsRefundRegChargeParam bmsRefundRegChargeParam);
 }
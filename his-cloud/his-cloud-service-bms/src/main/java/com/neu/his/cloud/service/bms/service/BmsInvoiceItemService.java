@@ -0,0 +1,33 @@
+package com.neu.his.cloud.service.bms.service;
+
+import com.neu.his.cloud.service.bms.model.BmsInvoiceItemList;
+import com.neu.his.cloud.service.bms.model.BmsInvoiceRecord;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 发票明细
+ */
+public interface BmsInvoiceItemService {
+    /**
+     * 描述：批量写入一张发票的明细
+     */
+    int saveItems(Long invoiceId, List<BmsInvoiceItemList> itemList);
+    /**
+     * 描述：查询多张发票的明细，key为发票id（尚未拆分明细的历史发票解析item_list）
+     */
+    Map<Long, List<BmsInvoiceItemList>> mapItemsByInvoice(List<BmsInvoiceRecord> invoiceRecordList);
+    /**
+     * 描述：生成兼容旧客户端的item_list串（id,type,amount><）
+     */
+    String toItemListStr(List<BmsInvoiceItemList> itemList);
+    /**
+     * 描述：解析历史发票的item_list串
+     */
+    List<BmsInvoiceItemList> parseItemListStr(String itemListStr);
+    /**
+     * 描述：按批拆分历史发票的item_list到发票明细表，返回处理的发票数
+     */
+    int backfillItems(Integer batchSize);
+}
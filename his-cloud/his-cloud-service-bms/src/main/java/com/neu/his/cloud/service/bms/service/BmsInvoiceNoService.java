@@ -0,0 +1,15 @@
+package com.neu.his.cloud.service.bms.service;
+
+/**
+ * 发票号分配
+ */
+public interface BmsInvoiceNoService {
+    /**
+     * 描述：为收费员分配下一个发票号
+     */
+    Long nextInvoiceNo(Long cashierId);
+    /**
+     * 描述：日结时在数据库中回收收费员所有使用中号段的未使用部分，须在锁定累计统计的日结事务中调用
+     */
+    void reclaim(Long cashierId);
+}
@@ -0,0 +1,29 @@
+package com.neu.his.cloud.service.bms.service;
+
+import com.neu.his.cloud.service.bms.dto.bms.BmsRefundChargeResult;
+import com.neu.his.cloud.service.bms.model.BmsInvoiceItemList;
+import com.neu.his.cloud.service.bms.model.BmsInvoiceRecord;
+
+import java.util.List;
+
+/**
+ * 可退费项目（按挂号维护）
+ */
+public interface BmsRefundableItemService {
+    /**
+     * 描述：根据挂号id查询可退费项目，尚未生成时锁定挂号并按发票生成（每个挂号只生成一次）；没有账单时返回null
+     */
+    List<BmsRefundChargeResult> listByRegistrationId(Long registrationId);
+    /**
+     * 描述：收费后写入该发票的项目
+     */
+    void addInvoice(Long registrationId, BmsInvoiceRecord bmsInvoiceRecord, List<BmsInvoiceItemList> itemList);
+    /**
+     * 描述：退费、重打等改变发票后，按挂号重新生成
+     */
+    void rebuild(Long registrationId);
+    /**
+     * 描述：根据账单id重新生成
+     */
+    void rebuildByBillId(Long billId);
+}
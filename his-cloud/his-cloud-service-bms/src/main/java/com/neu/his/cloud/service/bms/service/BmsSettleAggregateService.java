@@ -0,0 +1,52 @@
+package com.neu.his.cloud.service.bms.service;
+
+import com.neu.his.cloud.service.bms.dto.bms.BmsDailySettleRecordResult;
+import com.neu.his.cloud.service.bms.dto.bms.BmsSettleAggregateVerifyResult;
+import com.neu.his.cloud.service.bms.model.BmsInvoiceItemList;
+import com.neu.his.cloud.service.bms.model.BmsInvoiceRecord;
+import com.neu.his.cloud.service.bms.model.BmsSettleAggregate;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 收费员日结累计统计
+ */
+public interface BmsSettleAggregateService {
+    /**
+     * 描述：新发票（正常、冲红）插入后累加到收费员的累计统计
+     */
+    void addInvoice(BmsInvoiceRecord bmsInvoiceRecord, List<BmsInvoiceItemList> itemList);
+    /**
+     * 描述：正常发票改为被冲红（3）或重打（4）前调用，从累计统计中扣除其金额
+     */
+    void removeInvoice(BmsInvoiceRecord bmsInvoiceRecord, List<BmsInvoiceItemList> itemList, Integer newType);
+    /**
+     * 描述：无法增量维护时（如修改发票号）标记累计统计需要重算
+     */
+    void markDirty(Long cashierId);
+    /**
+     * 描述：在当前事务中按收费员id升序锁定累计统计行（不存在时插入并重建），收费、退费、日结在写发票前调用
+     */
+    void lockAggregate(Long... cashierIds);
+    /**
+     * 描述：统计区间正好是累计统计的区间时返回累计统计，否则返回null
+     */
+    BmsSettleAggregate getAggregate(Long cashierId, Date startDatetime, Date endDatetime);
+    /**
+     * 描述：由发票列表（按时间升序）计算统计
+     */
+    BmsSettleAggregate computeFromInvoices(Long cashierId, List<BmsInvoiceRecord> bmsInvoiceRecordList);
+    /**
+     * 描述：以periodStart为起点，按之后的发票重建累计统计
+     */
+    BmsSettleAggregate rebuild(Long cashierId, Date periodStart);
+    /**
+     * 描述：转换为日结统计信息
+     */
+    BmsDailySettleRecordResult toSettleRecordResult(BmsSettleAggregate bmsSettleAggregate);
+    /**
+     * 描述：用发票重算校验累计统计，repair为true且不一致时重建
+     */
+    BmsSettleAggregateVerifyResult verify(Long cashierId, Boolean repair);
+}
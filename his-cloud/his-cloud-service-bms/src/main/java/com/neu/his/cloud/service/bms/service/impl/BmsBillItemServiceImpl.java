@@ -0,0 +1,65 @@
+package com.neu.his.cloud.service.bms.service.impl;
+
+import com.neu.his.cloud.service.bms.mapper.BmsBillItemDao;
+import com.neu.his.cloud.service.bms.mapper.BmsBillItemMapper;
+import com.neu.his.cloud.service.bms.mapper.BmsBillsRecordMapper;
+import com.neu.his.cloud.service.bms.model.*;
+import com.neu.his.cloud.service.bms.service.BmsBillItemService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+@Service
+public class BmsBillItemServiceImpl implements BmsBillItemService {
+    @Autowired
+    BmsBillItemDao bmsBillItemDao;
+    @Autowired
+    BmsBillItemMapper bmsBillItemMapper;
+    @Autowired
+    BmsBillsRecordMapper bmsBillsRecordMapper;
+
+    @Override
+    public void appendItems(Long billId, List<BmsInvoiceItemList> itemList) {
+        if (itemList == null || itemList.isEmpty()){
+            return;
+        }
+        Date date = new Date();
+        List<BmsBillItem> bmsBillItemList = new ArrayList<>();
+        for (BmsInvoiceItemList item : itemList){
+            BmsBillItem bmsBillItem = new BmsBillItem();
+            bmsBillItem.setBillId(billId);
+            bmsBillItem.setItemId(item.getId());
+            bmsBillItem.setType(item.getType());
+            bmsBillItem.setCreateTime(date);
+            bmsBillItemList.add(bmsBillItem);
+        }
+        bmsBillItemDao.insertList(bmsBillItemList);
+    }
+
+    //1.根据挂号id查出账单
+    //2.旧账单record_list中已有的串在前，账单项目表中的记录按追加顺序拼在后面
+    @Override
+    public String getRecordListStr(Long registrationId) {
+        BmsBillsRecordExample bmsBillsRecordExample = new BmsBillsRecordExample();
+        bmsBillsRecordExample.createCriteria().andRegistrationIdEqualTo(registrationId);
+        List<BmsBillsRecord> bmsBillsRecordList = bmsBillsRecordMapper.selectByExample(bmsBillsRecordExample);
+        if (bmsBillsRecordList.isEmpty()){
+            return null;
+        }
+        BmsBillsRecord bmsBillsRecord = bmsBillsRecordList.get(0);
+        StringBuilder recordList = new StringBuilder();
+        if (bmsBillsRecord.getRecordList() != null){
+            recordList.append(bmsBillsRecord.getRecordList());
+        }
+        BmsBillItemExample bmsBillItemExample = new BmsBillItemExample();
+        bmsBillItemExample.createCriteria().andBillIdEqualTo(bmsBillsRecord.getId());
+        bmsBillItemExample.setOrderByClause("id asc");
+        for (BmsBillItem bmsBillItem : bmsBillItemMapper.selectByExample(bmsBillItemExample)){
+            recordList.append(bmsBillItem.getItemId()).append(",").append(bmsBillItem.getType()).append("><");
+        }
+        return recordList.toString();
+    }
+}
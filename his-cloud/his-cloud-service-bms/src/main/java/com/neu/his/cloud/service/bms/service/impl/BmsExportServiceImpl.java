@@ -0,0 +1,101 @@
+package com.neu.his.cloud.service.bms.service.impl;
+
+import com.neu.his.cloud.service.bms.mapper.BmsExportDao;
+import com.neu.his.cloud.service.bms.mapper.BmsSettlementCatMapper;
+import com.neu.his.cloud.service.bms.mapper.SmsStaffMapper;
+import com.neu.his.cloud.service.bms.model.*;
+import com.neu.his.cloud.service.bms.service.BmsExportService;
+import com.neu.his.cloud.service.bms.util.ExportWriter;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+@Service
+public class BmsExportServiceImpl implements BmsExportService {
+    @Autowired
+    private BmsExportDao bmsExportDao;
+
+    @Autowired
+    private BmsSettlementCatMapper bmsSettlementCatMapper;
+
+    @Autowired
+    private SmsStaffMapper smsStaffMapper;
+
+    /**
+     * 游标需要在同一个SqlSession内遍历，因此整个导出放在一个只读事务中
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportInvoice(Long cashierId, Date startDatetime, Date endDatetime, String format, OutputStream outputStream) throws IOException {
+        //结算类别、收费员名称一次性加载到内存，逐行翻译
+        Map<Long, String> settlementCatNameMap = settlementCatNameMap();
+        Map<Long, String> staffNameMap = staffNameMap();
+
+        ExportWriter exportWriter = ExportWriter.create(format, outputStream,
+                "id", "invoiceNo", "createTime", "billId", "amount", "freezeStatus", "associateId", "type",
+                "operatorId", "operatorName", "settlementCatId", "settlementCatName", "settleRecordId");
+        try (Cursor<BmsInvoiceRecord> cursor = bmsExportDao.cursorInvoice(cashierId, startDatetime, endDatetime)) {
+            for (BmsInvoiceRecord invoiceRecord : cursor) {
+                exportWriter.writeRow(invoiceRecord.getId(), invoiceRecord.getInvoiceNo(), invoiceRecord.getCreateTime(),
+                        invoiceRecord.getBillId(), invoiceRecord.getAmount(), invoiceRecord.getFreezeStatus(),
+                        invoiceRecord.getAssociateId(), invoiceRecord.getType(),
+                        invoiceRecord.getOperatorId(), staffNameMap.get(invoiceRecord.getOperatorId()),
+                        invoiceRecord.getSettlementCatId(), settlementCatNameMap.get(invoiceRecord.getSettlementCatId()),
+                        invoiceRecord.getSettleRecordId());
+            }
+        }
+        exportWriter.finish();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportSettleRecord(Long cashierId, Date startDatetime, Date endDatetime, String format, OutputStream outputStream) throws IOException {
+        Map<Long, String> staffNameMap = staffNameMap();
+
+        ExportWriter exportWriter = ExportWriter.create(format, outputStream,
+                "id", "cashierId", "cashierName", "startDatetime", "endDatetime", "createDatetime",
+                "invoiceNum", "rushInvoiceNum", "reprintInvoiceNum",
+                "startEndInvoiceIdStr", "rushInvoiceIdListStr", "reprintInvoiceIdListStr",
+                "medicineAmount", "herbalAmount", "checkAmount", "dispositionAmount", "registrationAmount", "testAmount", "amount",
+                "cashAmount", "insuranceAmount", "bankCardAmount", "alipayAmount", "wechatAmount", "creditCardAmount", "otherAmount",
+                "verifyOperatorId", "verifyOperatorName", "verifyDatetime", "verifyStatus");
+        try (Cursor<BmsOperatorSettleRecord> cursor = bmsExportDao.cursorSettleRecord(cashierId, startDatetime, endDatetime)) {
+            for (BmsOperatorSettleRecord settleRecord : cursor) {
+                exportWriter.writeRow(settleRecord.getId(), settleRecord.getCashierId(), staffNameMap.get(settleRecord.getCashierId()),
+                        settleRecord.getStartDatetime(), settleRecord.getEndDatetime(), settleRecord.getCreateDatetime(),
+                        settleRecord.getInvoiceNum(), settleRecord.getRushInvoiceNum(), settleRecord.getReprintInvoiceNum(),
+                        settleRecord.getStartEndInvoiceIdStr(), settleRecord.getRushInvoiceIdListStr(), settleRecord.getReprintInvoiceIdListStr(),
+                        settleRecord.getMedicineAmount(), settleRecord.getHerbalAmount(), settleRecord.getCheckAmount(),
+                        settleRecord.getDispositionAmount(), settleRecord.getRegistrationAmount(), settleRecord.getTestAmount(), settleRecord.getAmount(),
+                        settleRecord.getCashAmount(), settleRecord.getInsuranceAmount(), settleRecord.getBankCardAmount(),
+                        settleRecord.getAlipayAmount(), settleRecord.getWechatAmount(), settleRecord.getCreditCardAmount(), settleRecord.getOtherAmount(),
+                        settleRecord.getVerifyOperatorId(), staffNameMap.get(settleRecord.getVerifyOperatorId()),
+                        settleRecord.getVerifyDatetime(), settleRecord.getVerifyStatus());
+            }
+        }
+        exportWriter.finish();
+    }
+
+    private Map<Long, String> settlementCatNameMap() {
+        Map<Long, String> settlementCatNameMap = new HashMap<>();
+        for (BmsSettlementCat settlementCat : bmsSettlementCatMapper.selectByExample(new BmsSettlementCatExample())) {
+            settlementCatNameMap.put(settlementCat.getId(), settlementCat.getName());
+        }
+        return settlementCatNameMap;
+    }
+
+    private Map<Long, String> staffNameMap() {
+        Map<Long, String> staffNameMap = new HashMap<>();
+        for (SmsStaff staff : smsStaffMapper.selectByExample(new SmsStaffExample())) {
+            staffNameMap.put(staff.getId(), staff.getName());
+        }
+        return staffNameMap;
+    }
+}
@@ -1,17 +1,18 @@
 package com.neu.his.cloud.service.bms.service.impl;
 
 
+import com.neu.his.cloud.service.bms.component.DrugCatalogCache;
 import com.neu.his.cloud.service.bms.dto.app.AppDrugItemResult;
 import com.neu.his.cloud.service.bms.dto.app.AppHistoryRegResult;
 import com.neu.his.cloud.service.bms.dto.bms.BmsDoctorPatientFeeResult;
+import com.neu.his.cloud.service.bms.dto.dms.DmsDrugView;
 import com.neu.his.cloud.service.bms.mapper.*;
 import com.neu.his.cloud.service.bms.model.*;
 import com.neu.his.cloud.service.bms.service.BmsFeeQueryService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 @Service
 public class BmsFeeQueryServiceImpl implements BmsFeeQueryService {
@@ -35,8 +36,9 @@ public class BmsFeeQueryServiceImpl implements BmsFeeQueryService {
     private DmsMedicineItemRecordMapper dmsMedicineItemRecordMapper;
 
     @Autowired
-    private DmsDrugMapper dmsDrugMapper;
+    private DrugCatalogCache drugCatalogCache;
 
+    //每张表一次查询：非药品项目、非药品、草药处方、草药处方项、成药处方、成药处方项，药品从药品目录缓存读取，与处方数量无关
     @Override
     public List<BmsDoctorPatientFeeResult> listFeeByRegistrationId(Long registrationId){
         List<BmsDoctorPatientFeeResult> resultList = new ArrayList<>();
@@ -44,9 +46,10 @@ public class BmsFeeQueryServiceImpl implements BmsFeeQueryService {
         DmsNonDrugItemRecordExample nonDrugExample = new DmsNonDrugItemRecordExample();
         nonDrugExample.createCriteria().andRegistrationIdEqualTo(registrationId);
         List<DmsNonDrugItemRecord> nonDrugList = dmsNonDrugItemRecordMapper.selectByExample(nonDrugExample);
+        Map<Long, DmsNonDrug> nonDrugMap = mapNonDrug(nonDrugList);
         for(DmsNonDrugItemRecord item : nonDrugList){
             //封装非药品
-            DmsNonDrug nonDrug = dmsNonDrugMapper.selectByPrimaryKey(item.getNoDrugId());
+            DmsNonDrug nonDrug = nonDrugMap.get(item.getNoDrugId());
             if(nonDrug == null){
                 continue;
             }
@@ -70,15 +73,49 @@ public class BmsFeeQueryServiceImpl implements BmsFeeQueryService {
         DmsHerbalPrescriptionRecordExample herbalExample = new DmsHerbalPrescriptionRecordExample();
         herbalExample.createCriteria().andRegistrationIdEqualTo(registrationId);
         List<DmsHerbalPrescriptionRecord> herbalList = dmsHerbalPrescriptionRecordMapper.selectByExample(herbalExample);
-        //遍历多个处方单
-        for(DmsHerbalPrescriptionRecord item : herbalList){
+        //所有处方单的处方项一次查出，按处方id分组
+        Map<Long, List<DmsHerbalItemRecord>> herbalItemMap = new HashMap<>();
+        List<Long> drugIdList = new ArrayList<>();
+        if(!herbalList.isEmpty()){
+            List<Long> herbalIdList = new ArrayList<>();
+            for(DmsHerbalPrescriptionRecord item : herbalList){
+                herbalIdList.add(item.getId());
+            }
             DmsHerbalItemRecordExample herbalItemExample = new DmsHerbalItemRecordExample();
-            herbalItemExample.createCriteria().andPrescriptionIdEqualTo(item.getId());
-            List<DmsHerbalItemRecord> drugList = dmsHerbalItemRecordMapper.selectByExample(herbalItemExample);
+            herbalItemExample.createCriteria().andPrescriptionIdIn(herbalIdList);
+            for(DmsHerbalItemRecord itemRecord : dmsHerbalItemRecordMapper.selectByExample(herbalItemExample)){
+                herbalItemMap.computeIfAbsent(itemRecord.getPrescriptionId(), k -> new ArrayList<>()).add(itemRecord);
+                drugIdList.add(itemRecord.getDrugId());
+            }
+        }
+
+        //查询成药
+        DmsMedicinePrescriptionRecordExample medicineExample = new DmsMedicinePrescriptionRecordExample();
+        medicineExample.createCriteria().andRegistrationIdEqualTo(registrationId);
+        List<DmsMedicinePrescriptionRecord> medicineList = dmsMedicinePrescriptionRecordMapper.selectByExample(medicineExample);
+        Map<Long, List<DmsMedicineItemRecord>> medicineItemMap = new HashMap<>();
+        if(!medicineList.isEmpty()){
+            List<Long> medicineIdList = new ArrayList<>();
+            for(DmsMedicinePrescriptionRecord item : medicineList){
+                medicineIdList.add(item.getId());
+            }
+            DmsMedicineItemRecordExample medicineItemExample = new DmsMedicineItemRecordExample();
+            medicineItemExample.createCriteria().andPrescriptionIdIn(medicineIdList);
+            for(DmsMedicineItemRecord itemRecord : dmsMedicineItemRecordMapper.selectByExample(medicineItemExample)){
+                medicineItemMap.computeIfAbsent(itemRecord.getPrescriptionId(), k -> new ArrayList<>()).add(itemRecord);
+                drugIdList.add(itemRecord.getDrugId());
+            }
+        }
+        //草药、成药用到的药品一次查出
+        Map<Long, DmsDrugView> drugMap = drugCatalogCache.getAll(drugIdList);
+
+        //遍历多个草药处方单
+        for(DmsHerbalPrescriptionRecord item : herbalList){
+            List<DmsHerbalItemRecord> drugList = herbalItemMap.getOrDefault(item.getId(), Collections.emptyList());
             //遍历一个处方单多个处方项
             for(DmsHerbalItemRecord itemRecord : drugList){
                 //封装药品
-                DmsDrug drug = dmsDrugMapper.selectByPrimaryKey(itemRecord.getDrugId());
+                DmsDrugView drug = drugMap.get(itemRecord.getDrugId());
                 if(drug == null){
                     continue;
                 }
@@ -99,19 +136,13 @@ public class BmsFeeQueryServiceImpl implements BmsFeeQueryService {
             }
         }
 
-        //查询成药
-        DmsMedicinePrescriptionRecordExample medicineExample = new DmsMedicinePrescriptionRecordExample();
-        medicineExample.createCriteria().andRegistrationIdEqualTo(registrationId);
-        List<DmsMedicinePrescriptionRecord> medicineList = dmsMedicinePrescriptionRecordMapper.selectByExample(medicineExample);
-        //遍历多个处方单
+        //遍历多个成药处方单
         for(DmsMedicinePrescriptionRecord item : medicineList){
-            DmsMedicineItemRecordExample medicineItemExample = new DmsMedicineItemRecordExample();
-            medicineItemExample.createCriteria().andPrescriptionIdEqualTo(item.getId());
-            List<DmsMedicineItemRecord> drugList = dmsMedicineItemRecordMapper.selectByExample(medicineItemExample);
+            List<DmsMedicineItemRecord> drugList = medicineItemMap.getOrDefault(item.getId(), Collections.emptyList());
             //遍历一个处方单多个处方项
             for(DmsMedicineItemRecord itemRecord : drugList){
                 //封装药品
-                DmsDrug drug = dmsDrugMapper.selectByPrimaryKey(itemRecord.getDrugId());
+                DmsDrugView drug = drugMap.get(itemRecord.getDrugId());
                 if(drug == null){
                     continue;
                 }
@@ -143,9 +174,10 @@ public class BmsFeeQueryServiceImpl implements BmsFeeQueryService {
         DmsNonDrugItemRecordExample nonDrugExample = new DmsNonDrugItemRecordExample();
         nonDrugExample.createCriteria().andRegistrationIdEqualTo(registrationId);
         List<DmsNonDrugItemRecord> nonDrugList = dmsNonDrugItemRecordMapper.selectByExample(nonDrugExample);
+        Map<Long, DmsNonDrug> nonDrugMap = mapNonDrug(nonDrugList);
         for(DmsNonDrugItemRecord item : nonDrugList){
             //封装非药品
-            DmsNonDrug nonDrug = dmsNonDrugMapper.selectByPrimaryKey(item.getNoDrugId());
+            DmsNonDrug nonDrug = nonDrugMap.get(item.getNoDrugId());
             if(nonDrug == null){
                 continue;
             }
@@ -201,10 +233,15 @@ public class BmsFeeQueryServiceImpl implements BmsFeeQueryService {
             DmsHerbalItemRecordExample herbalItemExample = new DmsHerbalItemRecordExample();
             herbalItemExample.createCriteria().andPrescriptionIdEqualTo(prescriptionId);
             List<DmsHerbalItemRecord> drugList = dmsHerbalItemRecordMapper.selectByExample(herbalItemExample);
+            List<Long> drugIdList = new ArrayList<>();
+            for(DmsHerbalItemRecord itemRecord : drugList){
+                drugIdList.add(itemRecord.getDrugId());
+            }
+            Map<Long, DmsDrugView> drugMap = drugCatalogCache.getAll(drugIdList);
             //遍历一个处方单多个处方项
             for(DmsHerbalItemRecord itemRecord : drugList){
                 //封装药品
-                DmsDrug drug = dmsDrugMapper.selectByPrimaryKey(itemRecord.getDrugId());
+                DmsDrugView drug = drugMap.get(itemRecord.getDrugId());
                 if(drug == null){
                     continue;
                 }
@@ -220,10 +257,15 @@ public class BmsFeeQueryServiceImpl implements BmsFeeQueryService {
             DmsMedicineItemRecordExample medicineItemExample = new DmsMedicineItemRecordExample();
             medicineItemExample.createCriteria().andPrescriptionIdEqualTo(prescriptionId);
             List<DmsMedicineItemRecord> drugList = dmsMedicineItemRecordMapper.selectByExample(medicineItemExample);
+            List<Long> drugIdList = new ArrayList<>();
+            for(DmsMedicineItemRecord itemRecord : drugList){
+                drugIdList.add(itemRecord.getDrugId());
+            }
+            Map<Long, DmsDrugView> drugMap = drugCatalogCache.getAll(drugIdList);
             //遍历一个处方单多个处方项
             for(DmsMedicineItemRecord itemRecord : drugList){
                 //封装药品
-                DmsDrug drug = dmsDrugMapper.selectByPrimaryKey(itemRecord.getDrugId());
+                DmsDrugView drug = drugMap.get(itemRecord.getDrugId());
                 if(drug == null){
                     continue;
                 }
@@ -240,5 +282,23 @@ public class BmsFeeQueryServiceImpl implements BmsFeeQueryService {
         return resultList;
     }
 
-
+    //非药品项目用到的非药品，一次IN查询
+    private Map<Long, DmsNonDrug> mapNonDrug(List<DmsNonDrugItemRecord> nonDrugItemList){
+        Map<Long, DmsNonDrug> nonDrugMap = new HashMap<>();
+        Set<Long> nonDrugIdSet = new HashSet<>();
+        for(DmsNonDrugItemRecord item : nonDrugItemList){
+            if(item.getNoDrugId() != null){
+                nonDrugIdSet.add(item.getNoDrugId());
+            }
+        }
+        if(nonDrugIdSet.isEmpty()){
+            return nonDrugMap;
+        }
+        DmsNonDrugExample nonDrugExample = new DmsNonDrugExample();
+        nonDrugExample.createCriteria().andIdIn(new ArrayList<>(nonDrugIdSet));
+        for(DmsNonDrug nonDrug : dmsNonDrugMapper.selectByExample(nonDrugExample)){
+            nonDrugMap.put(nonDrug.getId(), nonDrug);
+        }
+        return nonDrugMap;
+    }
 }
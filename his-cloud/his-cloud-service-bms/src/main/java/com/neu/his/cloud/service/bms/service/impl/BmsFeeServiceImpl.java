@@ -1,20 +1,28 @@
 package com.neu.his.cloud.service.bms.service.impl;
 
-import cn.hutool.core.collection.CollectionUtil;
+import com.neu.his.cloud.service.bms.component.RabbitMQRegistrationSender;
 import com.neu.his.cloud.service.bms.dto.bms.*;
 import com.neu.his.cloud.service.bms.mapper.*;
 import com.neu.his.cloud.service.bms.model.*;
+import com.neu.his.cloud.service.bms.service.BmsBillItemService;
 import com.neu.his.cloud.service.bms.service.BmsFeeService;
+import com.neu.his.cloud.service.bms.service.BmsInvoiceItemService;
+import com.neu.his.cloud.service.bms.service.BmsInvoiceNoService;
+import com.neu.his.cloud.service.bms.service.BmsRefundableItemService;
+import com.neu.his.cloud.service.bms.service.BmsSettleAggregateService;
 import com.neu.his.cloud.service.bms.util.DateUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class BmsFeeServiceImpl implements BmsFeeService {
@@ -33,11 +41,9 @@ public class BmsFeeServiceImpl implements BmsFeeService {
     @Autowired
     PmsPatientMapper pmsPatientMapper;
     @Autowired
-    SmsSkdMapper smsSkdMapper;
+    SmsSkdSlotDao smsSkdSlotDao;
     @Autowired
-    SmsStaffMapper smsStaffMapper;
-    @Autowired
-    SmsRegistrationRankMapper smsRegistrationRankMapper;
+    RabbitMQRegistrationSender rabbitMQRegistrationSender;
     @Autowired
     SmsDeptMapper smsDeptMapper;
     @Autowired
@@ -48,12 +54,29 @@ public class BmsFeeServiceImpl implements BmsFeeService {
     DmsMedicinePrescriptionRecordMapper dmsMedicinePrescriptionRecordMapper;
     @Autowired
     DmsHerbalPrescriptionRecordMapper dmsHerbalPrescriptionRecordMapper;
+    @Autowired
+    BmsRegistrationPatientDao bmsRegistrationPatientDao;
+    @Autowired
+    BmsInvoiceItemService bmsInvoiceItemService;
+    @Autowired
+    BmsChargeDao bmsChargeDao;
+    @Autowired
+    BmsDrugStockDao bmsDrugStockDao;
+    @Autowired
+    BmsSettleAggregateService bmsSettleAggregateService;
+    @Autowired
+    BmsRefundableItemService bmsRefundableItemService;
+    @Autowired
+    BmsInvoiceNoService bmsInvoiceNoService;
+    @Autowired
+    BmsBillItemService bmsBillItemService;
     //查询当日挂号人
     //1.传入病历号和挂号日期
     //2.1.如果病历号为空和挂号日期为空，则显示今天的挂号记录按时间倒序
     //2.2 如果病历号为空挂号日期不为空，则根据日期查询所有挂号，并倒序
     //2.3 如果病历号不为空，挂号日期为空，则显示该患者所有就诊信息
     //2.4 如果病历号为和挂号日期都不为空，则直接查询
+    //以上四种情况均由BmsRegistrationPatientDao一次联表查询完成（病人、排班、医生、挂号级别、科室）
 
     /**
      *   20190624 赵煜 排除大量空指针异常
@@ -63,190 +86,25 @@ public class BmsFeeServiceImpl implements BmsFeeService {
      */
     @Override
     public List<BmsRegistrationPatientResult> listRegisteredPatient(String medicalRecordNo, Date queryDate) {
-        List<BmsRegistrationPatientResult> bmsRegistrationPatientResultList = new ArrayList<>();
-        if (medicalRecordNo == null && queryDate == null){//如果病历号为空和挂号日期为空，则显示今天的挂号记录按创建时间倒序
-            Date date = DateUtil.getDate(new Date());
-            Date startOfDate = DateUtil.setMilliSecond(date,0);//毫秒设为0
-            DmsRegistrationExample dmsRegistrationExample = new DmsRegistrationExample();
-            dmsRegistrationExample.createCriteria().andAttendanceDateEqualTo(startOfDate);
-            dmsRegistrationExample.setOrderByClause("create_time desc");
-            List<DmsRegistration> dmsRegistrationList = dmsRegistrationMapper.selectByExample(dmsRegistrationExample);
-            if (!dmsRegistrationList.isEmpty()){
-                for (DmsRegistration dmsRegistration: dmsRegistrationList) {
-                    BmsRegistrationPatientResult bmsRegistrationPatientResult = new BmsRegistrationPatientResult();
-                    bmsRegistrationPatientResult.setRegistrationStatus(dmsRegistration.getStatus());
-                    bmsRegistrationPatientResult.setAttendanceDate(dmsRegistration.getAttendanceDate());
-                    bmsRegistrationPatientResult.setRegistrationCreateDate(dmsRegistration.getCreateTime());
-                    bmsRegistrationPatientResult.setNeedBook(dmsRegistration.getNeedBook());
-                    bmsRegistrationPatientResult.setRegistrationId(dmsRegistration.getId());
-                    //病人name，病人出生日期，病人性别,病历号
-                    PmsPatient pmsPatient = pmsPatientMapper.selectByPrimaryKey(dmsRegistration.getPatientId());
-                    bmsRegistrationPatientResult.setPatientName(pmsPatient.getName());
-                    bmsRegistrationPatientResult.setPatientDateOfBirth(pmsPatient.getDateOfBirth());
-                    bmsRegistrationPatientResult.setPatientGender(pmsPatient.getGender());
-                    bmsRegistrationPatientResult.setMedicalRecordNo(pmsPatient.getMedicalRecordNo());
-                    //挂号级别name,看诊医生名
-                    SmsSkd smsSkd = smsSkdMapper.selectByPrimaryKey(dmsRegistration.getSkdId());
-
-                    SmsStaff smsStaff = smsStaffMapper.selectByPrimaryKey(smsSkd==null?null:smsSkd.getStaffId());
-                    SmsRegistrationRank smsRegistrationRank = smsRegistrationRankMapper.selectByPrimaryKey(smsStaff==null?null:smsStaff.getRegistrationRankId());
-
-                    bmsRegistrationPatientResult.setRegistrationRankName(smsRegistrationRank==null?null:smsRegistrationRank.getName());
-                    bmsRegistrationPatientResult.setBindDoctorName(smsStaff==null?null:smsStaff.getName());
-                    //挂号科室名
-                    SmsDept smsDept = smsDeptMapper.selectByPrimaryKey(dmsRegistration.getDeptId());
-                    bmsRegistrationPatientResult.setDeptName(smsDept==null?null:smsDept.getName());
-
-                    bmsRegistrationPatientResultList.add(bmsRegistrationPatientResult);
-                }
-            }
-            return bmsRegistrationPatientResultList;
-        }
-        else if (medicalRecordNo == null && queryDate != null){//如果病历号为空挂号日期不为空，则根据日期查询所有挂号，并倒序
-            Date date = DateUtil.getDate(queryDate);
-            Date startOfDate = DateUtil.setMilliSecond(date,0);
-            DmsRegistrationExample dmsRegistrationExample = new DmsRegistrationExample();
-            dmsRegistrationExample.createCriteria().andAttendanceDateEqualTo(startOfDate);
-            dmsRegistrationExample.setOrderByClause("create_time desc");
-            List<DmsRegistration> dmsRegistrationList = dmsRegistrationMapper.selectByExample(dmsRegistrationExample);
-            if (!dmsRegistrationList.isEmpty()){
-                for (DmsRegistration dmsRegistration: dmsRegistrationList) {
-                    BmsRegistrationPatientResult bmsRegistrationPatientResult = new BmsRegistrationPatientResult();
-                    bmsRegistrationPatientResult.setRegistrationStatus(dmsRegistration.getStatus());
-                    bmsRegistrationPatientResult.setAttendanceDate(dmsRegistration.getAttendanceDate());
-                    bmsRegistrationPatientResult.setRegistrationCreateDate(dmsRegistration.getCreateTime());
-                    bmsRegistrationPatientResult.setNeedBook(dmsRegistration.getNeedBook());
-                    bmsRegistrationPatientResult.setRegistrationId(dmsRegistration.getId());
-                    //病人name，病人出生日期，病人性别,病历号
-                    PmsPatient pmsPatient = pmsPatientMapper.selectByPrimaryKey(dmsRegistration.getPatientId());
-                    bmsRegistrationPatientResult.setPatientName(pmsPatient.getName());
-                    bmsRegistrationPatientResult.setPatientDateOfBirth(pmsPatient.getDateOfBirth());
-                    bmsRegistrationPatientResult.setPatientGender(pmsPatient.getGender());
-                    bmsRegistrationPatientResult.setMedicalRecordNo(pmsPatient.getMedicalRecordNo());
-                    //挂号级别name,看诊医生名
-
-                    SmsSkd smsSkd = smsSkdMapper.selectByPrimaryKey(dmsRegistration.getSkdId());
-                    SmsStaff smsStaff=null;
-                    SmsRegistrationRank smsRegistrationRank=null;
-                    if(null != smsSkd)
-                      smsStaff = smsStaffMapper.selectByPrimaryKey(smsSkd.getStaffId());
-                    if(smsStaff!=null)
-                        smsRegistrationRank = smsRegistrationRankMapper.selectByPrimaryKey(smsStaff.getRegistrationRankId());
-                    if(smsRegistrationRank!=null)
-                        bmsRegistrationPatientResult.setRegistrationRankName(smsRegistrationRank.getName());
-                    if(smsStaff!=null)
-                        bmsRegistrationPatientResult.setBindDoctorName(smsStaff.getName());
-                    //挂号科室名
-                    SmsDept smsDept = smsDeptMapper.selectByPrimaryKey(dmsRegistration.getDeptId());
-                    if(null != smsDept)
-                        bmsRegistrationPatientResult.setDeptName(smsDept.getName());
-
-                    bmsRegistrationPatientResultList.add(bmsRegistrationPatientResult);
-                }
-            }
-            return bmsRegistrationPatientResultList;
-        }
-        else if (medicalRecordNo != null && queryDate == null){//如果病历号不为空，挂号日期为空，则显示该患者所有就诊信息
-            PmsPatientExample pmsPatientExample = new PmsPatientExample();
-            pmsPatientExample.createCriteria().andMedicalRecordNoEqualTo(medicalRecordNo);
-            List<PmsPatient> pmsPatientList = pmsPatientMapper.selectByExample(pmsPatientExample);
-            //如果数据正常，则一个病历号只会存在一个病人
-
-            if (!CollectionUtil.isEmpty(pmsPatientList)){//如果有对应的患者记录
-                PmsPatient pmsPatient = pmsPatientList.get(0);
-
-                //查询该患者的所有就诊记录并按时间倒序
-                DmsRegistrationExample dmsRegistrationExample = new DmsRegistrationExample();
-                dmsRegistrationExample.createCriteria().andPatientIdEqualTo(pmsPatient.getId());
-                dmsRegistrationExample.setOrderByClause("create_time desc");
-                List<DmsRegistration> dmsRegistrationList = dmsRegistrationMapper.selectByExample(dmsRegistrationExample);
-                for (DmsRegistration dmsRegistration:dmsRegistrationList) {
-                    BmsRegistrationPatientResult bmsRegistrationPatientResult = new BmsRegistrationPatientResult();
-                    bmsRegistrationPatientResult.setRegistrationStatus(dmsRegistration.getStatus());
-                    bmsRegistrationPatientResult.setAttendanceDate(dmsRegistration.getAttendanceDate());
-                    bmsRegistrationPatientResult.setRegistrationCreateDate(dmsRegistration.getCreateTime());
-                    bmsRegistrationPatientResult.setNeedBook(dmsRegistration.getNeedBook());
-                    bmsRegistrationPatientResult.setRegistrationId(dmsRegistration.getId());
-                    //病人name，病人出生日期，病人性别,病历号
-                    bmsRegistrationPatientResult.setPatientName(pmsPatient.getName());
-                    bmsRegistrationPatientResult.setPatientDateOfBirth(pmsPatient.getDateOfBirth());
-                    bmsRegistrationPatientResult.setPatientGender(pmsPatient.getGender());
-                    bmsRegistrationPatientResult.setMedicalRecordNo(pmsPatient.getMedicalRecordNo());
-                    //挂号级别name
-                    SmsSkd smsSkd = smsSkdMapper.selectByPrimaryKey(dmsRegistration.getSkdId());
-                    SmsStaff smsStaff =null;
-                    SmsRegistrationRank smsRegistrationRank=null;
-
-                    if(null != smsSkd)
-                        smsStaff = smsStaffMapper.selectByPrimaryKey(smsSkd.getStaffId());
-                    //挂号级别name
-                    if(null !=smsStaff)
-                        smsRegistrationRank = smsRegistrationRankMapper.selectByPrimaryKey(smsStaff.getRegistrationRankId());
-                    //挂号级别名
-                    if(null != smsRegistrationRank)
-                        bmsRegistrationPatientResult.setRegistrationRankName(smsRegistrationRank.getName());
-                    // 医生名
-                    if(null != smsStaff)
-                        bmsRegistrationPatientResult.setBindDoctorName(smsStaff.getName());
-                    //挂号科室名
-                    SmsDept smsDept = smsDeptMapper.selectByPrimaryKey(dmsRegistration.getDeptId());
-                    if(null != smsDept)
-                        bmsRegistrationPatientResult.setDeptName(smsDept.getName());
-
+        return bmsRegistrationPatientDao.listRegisteredPatient(medicalRecordNo, resolveAttendanceDate(medicalRecordNo, queryDate));
+    }
 
-                    bmsRegistrationPatientResultList.add(bmsRegistrationPatientResult);
-                }
-                return bmsRegistrationPatientResultList;
-            }
-            else{////如果没有对应的患者记录
-                return null;
-            }
-        }
-        else {//如果病历号为和挂号日期都不为空，则直接查询
-            Date date = DateUtil.getDate(queryDate);
-            Date startOfDate = DateUtil.setMilliSecond(date,0);
-            PmsPatientExample pmsPatientExample = new PmsPatientExample();
-            pmsPatientExample.createCriteria().andMedicalRecordNoEqualTo(medicalRecordNo);
-            List<PmsPatient> pmsPatientList = pmsPatientMapper.selectByExample(pmsPatientExample);
-            if (!pmsPatientList.isEmpty()){//如果有对应的患者记录
-                PmsPatient pmsPatient = pmsPatientList.get(0);
-                DmsRegistrationExample dmsRegistrationExample = new DmsRegistrationExample();
-                dmsRegistrationExample.createCriteria().andPatientIdEqualTo(pmsPatient.getId()).andAttendanceDateEqualTo(startOfDate);
-                dmsRegistrationExample.setOrderByClause("create_time desc");
-                List<DmsRegistration> dmsRegistrationList = dmsRegistrationMapper.selectByExample(dmsRegistrationExample);
-                for (DmsRegistration dmsRegistration:dmsRegistrationList) {
-                    BmsRegistrationPatientResult bmsRegistrationPatientResult = new BmsRegistrationPatientResult();
-                    bmsRegistrationPatientResult.setRegistrationStatus(dmsRegistration.getStatus());
-                    bmsRegistrationPatientResult.setAttendanceDate(dmsRegistration.getAttendanceDate());
-                    bmsRegistrationPatientResult.setRegistrationCreateDate(dmsRegistration.getCreateTime());
-                    bmsRegistrationPatientResult.setNeedBook(dmsRegistration.getNeedBook());
-                    bmsRegistrationPatientResult.setRegistrationId(dmsRegistration.getId());
-                    //病人name，病人出生日期，病人性别,病历号
-                    bmsRegistrationPatientResult.setPatientName(pmsPatient.getName());
-                    bmsRegistrationPatientResult.setPatientDateOfBirth(pmsPatient.getDateOfBirth());
-                    bmsRegistrationPatientResult.setPatientGender(pmsPatient.getGender());
-                    bmsRegistrationPatientResult.setMedicalRecordNo(pmsPatient.getMedicalRecordNo());
-                    //挂号级别name,看诊医生名
-                    SmsSkd smsSkd = smsSkdMapper.selectByPrimaryKey(dmsRegistration.getSkdId());
-                    SmsStaff smsStaff = smsStaffMapper.selectByPrimaryKey(smsSkd.getStaffId());
-                    SmsRegistrationRank smsRegistrationRank = smsRegistrationRankMapper.selectByPrimaryKey(smsStaff.getRegistrationRankId());
-                    if(null!=smsRegistrationRank)
-                        bmsRegistrationPatientResult.setRegistrationRankName(smsRegistrationRank.getName());
-                    if(null != smsStaff)
-                        bmsRegistrationPatientResult.setBindDoctorName(smsStaff.getName());
-                    //挂号科室名
-                    SmsDept smsDept = smsDeptMapper.selectByPrimaryKey(dmsRegistration.getDeptId());
-                    if(null != smsDept)
-                    bmsRegistrationPatientResult.setDeptName(smsDept.getName());
+    //游标分页查询挂号人：查询条件同listRegisteredPatient，返回排在上一页最后一条(lastCreateTime,lastId)之后的pageSize条
+    @Override
+    public List<BmsRegistrationPatientResult> listRegisteredPatientAfter(String medicalRecordNo, Date queryDate, Date lastCreateTime, Long lastId, Integer pageSize) {
+        return bmsRegistrationPatientDao.listRegisteredPatientAfter(medicalRecordNo, resolveAttendanceDate(medicalRecordNo, queryDate), lastCreateTime, lastId, pageSize);
+    }
 
-                    bmsRegistrationPatientResultList.add(bmsRegistrationPatientResult);
-                }
-                return bmsRegistrationPatientResultList;
-            }
-            else{//如果没有对应的患者记录
+    //病历号和日期都为空时查今天；病历号不为空日期为空时不限日期
+    private Date resolveAttendanceDate(String medicalRecordNo, Date queryDate){
+        if (queryDate == null){
+            if (medicalRecordNo != null){
                 return null;
             }
+            queryDate = new Date();
         }
+        Date date = DateUtil.getDate(queryDate);
+        return DateUtil.setMilliSecond(date,0);//毫秒设为0
     }
     //根据挂号id查找出未缴费项目
     //1.传入挂号id
@@ -320,261 +178,190 @@ public class BmsFeeServiceImpl implements BmsFeeService {
         }
         return bmsChargeResultList;
     }
-    //收费
-    //1.传入收费项目ids和对应type（0 挂号 1检查 2检验 3处置 4草药 5成药）、发票号、操作人id，遍历并判断项目状态是否为1，并修改状态为2，顺便查出挂号id等字段
-    //2.根据挂号id查出账单记录，并关联项目（更新串）
-    //4.插入发票
+    //收费：
+    //1.按类型分组（1检查 2检验 3处置为非药品，4草药，5成药），每类一次锁定所选项目（select ... for update）
+    //2.状态为1（未缴费）且属于同一挂号的项目才收费，其余作为冲突项返回（如已被其他收费员收费）
+    //3.每类一次批量把状态由1改为2，删除其超时作废任务，账单项目一次批量追加
+    //4.插入一张发票及发票明细，以上在同一事务中完成
     @Override
-    public int charge(List<BmsChargeParam> bmsChargeParamList) {
-        if (bmsChargeParamList.isEmpty()){
-            return 0;
+    @Transactional
+    public BmsChargeReportResult charge(List<BmsChargeParam> bmsChargeParamList) {
+        BmsChargeReportResult bmsChargeReportResult = new BmsChargeReportResult();
+        List<BmsChargeResult> conflictList = new ArrayList<>();
+        bmsChargeReportResult.setConflictList(conflictList);
+        bmsChargeReportResult.setChargedCount(0);
+        bmsChargeReportResult.setAmount(BigDecimal.ZERO);
+        if (bmsChargeParamList == null || bmsChargeParamList.isEmpty()){
+            return bmsChargeReportResult;
         }
-        else{
-            //这些属性插入发票的时候要用
-            Long billId = 0l;//账单id
-            BigDecimal totalAmount = new BigDecimal(0.0);//总金额  每一项叠加
-            String itemList = "";//项目列表串 叠加
-
-            for (BmsChargeParam bmsChargeParam : bmsChargeParamList){
-                Integer type = bmsChargeParam.getType();
-                if (type == 1 || type == 2 || type == 3){//1检查 2检验 3处置
-                    DmsNonDrugItemRecord dmsNonDrugItemRecord = dmsNonDrugItemRecordMapper.selectByPrimaryKey(bmsChargeParam.getChargeItemId());
-                    if (dmsNonDrugItemRecord.getStatus() == 1){
-                        dmsNonDrugItemRecord.setStatus(2);
-                        dmsNonDrugItemRecordMapper.updateByPrimaryKeySelective(dmsNonDrugItemRecord);
-                    }
-                    //根据挂号id查出账单记录，并关联项目（更新串）
-                    Long registrationId = dmsNonDrugItemRecord.getRegistrationId();
-                    BmsBillsRecordExample bmsBillsRecordExample = new BmsBillsRecordExample();
-                    bmsBillsRecordExample.createCriteria().andRegistrationIdEqualTo(registrationId);
-                    List<BmsBillsRecord> bmsBillsRecordList = bmsBillsRecordMapper.selectByExample(bmsBillsRecordExample);
-                    if (!bmsBillsRecordList.isEmpty()){
-                        BmsBillsRecord bmsBillsRecord = bmsBillsRecordList.get(0);
-                        String recordList = bmsBillsRecord.getRecordList();
-                        if (recordList == null){
-                            recordList = "";
-                        }
-                        String insertRecord = dmsNonDrugItemRecord.getId() + "," + type + "><";
-                        recordList = recordList + insertRecord;
-                        bmsBillsRecord.setRecordList(recordList);
-                        bmsBillsRecordMapper.updateByExampleSelective(bmsBillsRecord,bmsBillsRecordExample);
 
-                        billId = bmsBillsRecord.getId();//账单id:插入发票的时候要用
-                        itemList = itemList + dmsNonDrugItemRecord.getId() + "," + type + "," + bmsChargeParam.getAmount() + "><";//项目列表串:插入发票的时候要用
-                        totalAmount = totalAmount.add(bmsChargeParam.getAmount());//金额累加
-                    }
-                }
-                else if (type == 4){//4草药
-                    DmsHerbalPrescriptionRecord dmsHerbalPrescriptionRecord = dmsHerbalPrescriptionRecordMapper.selectByPrimaryKey(bmsChargeParam.getChargeItemId());
-                    if (dmsHerbalPrescriptionRecord.getStatus() == 1){
-                        dmsHerbalPrescriptionRecord.setStatus(2);
-                        dmsHerbalPrescriptionRecordMapper.updateByPrimaryKeySelective(dmsHerbalPrescriptionRecord);
-                    }
-                    //根据挂号id查出账单记录，并关联项目（更新串）
-                    Long registrationId = dmsHerbalPrescriptionRecord.getRegistrationId();
-                    BmsBillsRecordExample bmsBillsRecordExample = new BmsBillsRecordExample();
-                    bmsBillsRecordExample.createCriteria().andRegistrationIdEqualTo(registrationId);
-                    List<BmsBillsRecord> bmsBillsRecordList = bmsBillsRecordMapper.selectByExample(bmsBillsRecordExample);
-                    if (!bmsBillsRecordList.isEmpty()){
-                        BmsBillsRecord bmsBillsRecord = bmsBillsRecordList.get(0);
-                        String recordList = bmsBillsRecord.getRecordList();
-                        if (recordList == null){
-                            recordList = "";
-                        }
-                        String insertRecord = dmsHerbalPrescriptionRecord.getId() + "," + type + "><";
-                        recordList = recordList + insertRecord;
-                        bmsBillsRecord.setRecordList(recordList);
-                        bmsBillsRecordMapper.updateByExampleSelective(bmsBillsRecord,bmsBillsRecordExample);
+        //先锁定收费员的累计统计行，再锁项目、写发票：与日结（先锁累计统计行，再更新发票）加锁顺序一致，避免死锁
+        bmsSettleAggregateService.lockAggregate(bmsChargeParamList.get(0).getOperatorId());
+
+        //按类型分组，每类一次锁定
+        List<Long> nonDrugIdList = new ArrayList<>();
+        List<Long> herbalIdList = new ArrayList<>();
+        List<Long> medicineIdList = new ArrayList<>();
+        for (BmsChargeParam bmsChargeParam : bmsChargeParamList){
+            Integer type = bmsChargeParam.getType();
+            if (type == null){
+                continue;
+            }
+            if (type == 1 || type == 2 || type == 3){
+                nonDrugIdList.add(bmsChargeParam.getChargeItemId());
+            }
+            else if (type == 4){
+                herbalIdList.add(bmsChargeParam.getChargeItemId());
+            }
+            else if (type == 5){
+                medicineIdList.add(bmsChargeParam.getChargeItemId());
+            }
+        }
+        Map<Long, DmsNonDrugItemRecord> nonDrugRecordMap = new HashMap<>();
+        if (!nonDrugIdList.isEmpty()){
+            for (DmsNonDrugItemRecord record : bmsChargeDao.lockNonDrugItemRecords(nonDrugIdList)){
+                nonDrugRecordMap.put(record.getId(), record);
+            }
+        }
+        Map<Long, DmsHerbalPrescriptionRecord> herbalRecordMap = new HashMap<>();
+        if (!herbalIdList.isEmpty()){
+            for (DmsHerbalPrescriptionRecord record : bmsChargeDao.lockHerbalPrescriptionRecords(herbalIdList)){
+                herbalRecordMap.put(record.getId(), record);
+            }
+        }
+        Map<Long, DmsMedicinePrescriptionRecord> medicineRecordMap = new HashMap<>();
+        if (!medicineIdList.isEmpty()){
+            for (DmsMedicinePrescriptionRecord record : bmsChargeDao.lockMedicinePrescriptionRecords(medicineIdList)){
+                medicineRecordMap.put(record.getId(), record);
+            }
+        }
 
-                        billId = bmsBillsRecord.getId();//账单id:插入发票的时候要用
-                        itemList = itemList + dmsHerbalPrescriptionRecord.getId() + "," + type + "," + bmsChargeParam.getAmount() + "><";//项目列表串:插入发票的时候要用
-                        totalAmount = totalAmount.add(bmsChargeParam.getAmount());//金额累加
-                    }
-                }
-                else if (type == 5){//5成药
-                    DmsMedicinePrescriptionRecord dmsMedicinePrescriptionRecord = dmsMedicinePrescriptionRecordMapper.selectByPrimaryKey(bmsChargeParam.getChargeItemId());
-                    if (dmsMedicinePrescriptionRecord.getStatus() == 1){
-                        dmsMedicinePrescriptionRecord.setStatus(2);
-                        dmsMedicinePrescriptionRecordMapper.updateByPrimaryKeySelective(dmsMedicinePrescriptionRecord);
-                    }
-                    //根据挂号id查出账单记录，并关联项目（更新串）
-                    Long registrationId = dmsMedicinePrescriptionRecord.getRegistrationId();
-                    BmsBillsRecordExample bmsBillsRecordExample = new BmsBillsRecordExample();
-                    bmsBillsRecordExample.createCriteria().andRegistrationIdEqualTo(registrationId);
-                    List<BmsBillsRecord> bmsBillsRecordList = bmsBillsRecordMapper.selectByExample(bmsBillsRecordExample);
-                    if (!bmsBillsRecordList.isEmpty()){
-                        BmsBillsRecord bmsBillsRecord = bmsBillsRecordList.get(0);
-                        String recordList = bmsBillsRecord.getRecordList();
-                        if (recordList == null){
-                            recordList = "";
-                        }
-                        String insertRecord = dmsMedicinePrescriptionRecord.getId() + "," + type + "><";
-                        recordList = recordList + insertRecord;
-                        bmsBillsRecord.setRecordList(recordList);
-                        bmsBillsRecordMapper.updateByExampleSelective(bmsBillsRecord,bmsBillsRecordExample);
+        //筛选可收费项目
+        Long registrationId = null;
+        Set<Long> chargeNonDrugIdSet = new LinkedHashSet<>();
+        Set<Long> chargeHerbalIdSet = new LinkedHashSet<>();
+        Set<Long> chargeMedicineIdSet = new LinkedHashSet<>();
+        List<BmsInvoiceItemList> itemList = new ArrayList<>();//项目列表:插入发票的时候要用
+        BigDecimal totalAmount = BigDecimal.ZERO;//总金额
+        for (BmsChargeParam bmsChargeParam : bmsChargeParamList){
+            Long id = bmsChargeParam.getChargeItemId();
+            Integer type = bmsChargeParam.getType();
+            Integer status = null;
+            Long itemRegistrationId = null;
+            Set<Long> chargeIdSet = null;
+            if (type != null && (type == 1 || type == 2 || type == 3) && nonDrugRecordMap.containsKey(id)){
+                status = nonDrugRecordMap.get(id).getStatus();
+                itemRegistrationId = nonDrugRecordMap.get(id).getRegistrationId();
+                chargeIdSet = chargeNonDrugIdSet;
+            }
+            else if (type != null && type == 4 && herbalRecordMap.containsKey(id)){
+                status = herbalRecordMap.get(id).getStatus();
+                itemRegistrationId = herbalRecordMap.get(id).getRegistrationId();
+                chargeIdSet = chargeHerbalIdSet;
+            }
+            else if (type != null && type == 5 && medicineRecordMap.containsKey(id)){
+                status = medicineRecordMap.get(id).getStatus();
+                itemRegistrationId = medicineRecordMap.get(id).getRegistrationId();
+                chargeIdSet = chargeMedicineIdSet;
+            }
+            if (registrationId == null && status != null && status == 1){
+                registrationId = itemRegistrationId;//以第一个可收费项目的挂号为准
+            }
+            //不存在、不是未缴费、不属于同一挂号或重复提交的项目不收费
+            if (chargeIdSet == null || status == null || status != 1
+                    || !itemRegistrationId.equals(registrationId) || !chargeIdSet.add(id)){
+                BmsChargeResult conflict = new BmsChargeResult();
+                conflict.setId(id);
+                conflict.setType(type);
+                conflict.setStatus(status);
+                conflict.setAmount(bmsChargeParam.getAmount());
+                conflictList.add(conflict);
+                continue;
+            }
+            itemList.add(new BmsInvoiceItemList(id, type, bmsChargeParam.getAmount()));
+            totalAmount = totalAmount.add(bmsChargeParam.getAmount());
+        }
+        if (itemList.isEmpty()){
+            return bmsChargeReportResult;
+        }
 
-                        billId = bmsBillsRecord.getId();//账单id:插入发票的时候要用
-                        itemList = itemList + dmsMedicinePrescriptionRecord.getId() + "," + type + "," + bmsChargeParam.getAmount() + "><";//项目列表串:插入发票的时候要用
-                        totalAmount = totalAmount.add(bmsChargeParam.getAmount());//金额累加
-                    }
-                }
+        //根据挂号id查出账单记录
+        BmsBillsRecordExample bmsBillsRecordExample = new BmsBillsRecordExample();
+        bmsBillsRecordExample.createCriteria().andRegistrationIdEqualTo(registrationId);
+        List<BmsBillsRecord> bmsBillsRecordList = bmsBillsRecordMapper.selectByExample(bmsBillsRecordExample);
+        if (bmsBillsRecordList.isEmpty()){//没有账单则都不收费
+            for (BmsInvoiceItemList item : itemList){
+                BmsChargeResult conflict = new BmsChargeResult();
+                conflict.setId(item.getId());
+                conflict.setType(item.getType());
+                conflict.setStatus(1);
+                conflict.setAmount(item.getAmount());
+                conflictList.add(conflict);
             }
-            //插入发票
-            BmsInvoiceRecord bmsInvoiceRecord = new BmsInvoiceRecord();
-            bmsInvoiceRecord.setCreateTime(new Date());
-            bmsInvoiceRecord.setInvoiceNo(bmsChargeParamList.get(0).getInvoiceNo());
-            bmsInvoiceRecord.setBillId(billId);
-            bmsInvoiceRecord.setAmount(totalAmount);
-            bmsInvoiceRecord.setOperatorId(bmsChargeParamList.get(0).getOperatorId());
-            bmsInvoiceRecord.setSettlementCatId(bmsChargeParamList.get(0).getSettlementCatId());
-            bmsInvoiceRecord.setItemList(itemList);
-            bmsInvoiceRecord.setType(1);
-            bmsInvoiceRecordMapper.insertSelective(bmsInvoiceRecord);
+            return bmsChargeReportResult;
+        }
+        Long billId = bmsBillsRecordList.get(0).getId();
 
-            return 1;
+        //每类一次把状态由1改为2，项目已锁定，条数不符说明数据被并发修改，回滚
+        int updateCount = 0;
+        if (!chargeNonDrugIdSet.isEmpty()){
+            updateCount += bmsChargeDao.updateNonDrugItemStatus(new ArrayList<>(chargeNonDrugIdSet), 1, 2);
+        }
+        if (!chargeHerbalIdSet.isEmpty()){
+            updateCount += bmsChargeDao.updateHerbalPrescriptionStatus(new ArrayList<>(chargeHerbalIdSet), 1, 2);
         }
+        if (!chargeMedicineIdSet.isEmpty()){
+            updateCount += bmsChargeDao.updateMedicinePrescriptionStatus(new ArrayList<>(chargeMedicineIdSet), 1, 2);
+        }
+        if (updateCount != itemList.size()){
+            throw new IllegalStateException("收费项目状态已变化，请刷新后重新收费");
+        }
+        //取消已缴费项目的超时作废
+        if (!chargeNonDrugIdSet.isEmpty()){
+            bmsChargeDao.deleteExpiry(new ArrayList<>(chargeNonDrugIdSet), 1);
+        }
+        if (!chargeHerbalIdSet.isEmpty()){
+            bmsChargeDao.deleteExpiry(new ArrayList<>(chargeHerbalIdSet), 4);
+        }
+        if (!chargeMedicineIdSet.isEmpty()){
+            bmsChargeDao.deleteExpiry(new ArrayList<>(chargeMedicineIdSet), 5);
+        }
+
+        //账单关联项目（追加到账单项目表）
+        bmsBillItemService.appendItems(billId, itemList);
+
+        //插入发票
+        BmsInvoiceRecord bmsInvoiceRecord = new BmsInvoiceRecord();
+        bmsInvoiceRecord.setCreateTime(new Date());
+        bmsInvoiceRecord.setInvoiceNo(bmsInvoiceNoService.nextInvoiceNo(bmsChargeParamList.get(0).getOperatorId()));
+        bmsInvoiceRecord.setBillId(billId);
+        bmsInvoiceRecord.setAmount(totalAmount);
+        bmsInvoiceRecord.setOperatorId(bmsChargeParamList.get(0).getOperatorId());
+        bmsInvoiceRecord.setSettlementCatId(bmsChargeParamList.get(0).getSettlementCatId());
+        bmsInvoiceRecord.setItemList(bmsInvoiceItemService.toItemListStr(itemList));
+        bmsInvoiceRecord.setType(1);
+        bmsInvoiceRecordMapper.insertSelective(bmsInvoiceRecord);
+        //插入发票明细
+        bmsInvoiceItemService.saveItems(bmsInvoiceRecord.getId(), itemList);
+        //累加收费员日结统计
+        bmsSettleAggregateService.addInvoice(bmsInvoiceRecord, itemList);
+        //写入可退费项目
+        bmsRefundableItemService.addInvoice(registrationId, bmsInvoiceRecord, itemList);
+
+        bmsChargeReportResult.setInvoiceId(bmsInvoiceRecord.getId());
+        bmsChargeReportResult.setInvoiceNo(bmsInvoiceRecord.getInvoiceNo());
+        bmsChargeReportResult.setChargedCount(itemList.size());
+        bmsChargeReportResult.setAmount(totalAmount);
+        return bmsChargeReportResult;
     }
     //退费查询：根据挂号id查找出所有发票
     //1.传入挂号id,根据挂号id查找账单id
     //2.根据账单id查询所有发票，type为（1  正常）
     //3.解析串，并封装成对象（筛选非药品（status=2未登记（已缴费））,药品（遍历药品项，封装可退处方项和处方）、计算退款金额），
+    //以上由bms_refundable_item预先维护（收费、发药、退药、退费时更新），此处按挂号id一次查询
     @Override
     public List<BmsRefundChargeResult> listRefundByRegistrationId(Long registrationId) {
-        List<BmsRefundChargeResult> bmsRefundChargeResultList = new ArrayList<>();
-        //根据挂号id查找账单id
-        BmsBillsRecordExample bmsBillsRecordExample = new BmsBillsRecordExample();
-        bmsBillsRecordExample.createCriteria().andRegistrationIdEqualTo(registrationId);
-        List<BmsBillsRecord> bmsBillsRecordList = bmsBillsRecordMapper.selectByExample(bmsBillsRecordExample);
-        if (!bmsBillsRecordList.isEmpty()){
-            //根据账单id查询所有发票，type为（1  正常）
-            BmsBillsRecord bmsBillsRecord = bmsBillsRecordList.get(0);
-            Long billId = bmsBillsRecord.getId();
-            BmsInvoiceRecordExample bmsInvoiceRecordExample = new BmsInvoiceRecordExample();
-            bmsInvoiceRecordExample.createCriteria().andBillIdEqualTo(billId).andTypeEqualTo(1);
-            List<BmsInvoiceRecord> bmsInvoiceRecordList = bmsInvoiceRecordMapper.selectByExample(bmsInvoiceRecordExample);
-            for (BmsInvoiceRecord bmsInvoiceRecord : bmsInvoiceRecordList){
-                String itemList = bmsInvoiceRecord.getItemList();
-                String[][] resolvedItemList = resolveItemList(itemList);
-                if (resolvedItemList.length != 0){
-                        for(int x = 0; x < resolvedItemList.length ; x++) {
-                         if(StringUtils.isEmpty(resolvedItemList[x][0])){
-                             continue;
-                         }
-                        Long id = Long.valueOf(resolvedItemList[x][0]);
-                        Integer type = Integer.valueOf(resolvedItemList[x][1]);
-                        BigDecimal amount = new BigDecimal(resolvedItemList[x][2]);
-
-                            System.err.println(id + " "+type+" "+amount);
-
-                            //非药品
-                        if (type == 1 || type == 2 || type == 3){
-                            DmsNonDrugItemRecord dmsNonDrugItemRecord = dmsNonDrugItemRecordMapper.selectByPrimaryKey(id);
-                            if (dmsNonDrugItemRecord.getStatus() == 2){//status=2未登记（已缴费）
-                                BmsRefundChargeResult bmsRefundChargeResult = new BmsRefundChargeResult();
-                                bmsRefundChargeResult.setInvoiceIdfNo(bmsInvoiceRecord.getInvoiceNo());
-                                bmsRefundChargeResult.setId(dmsNonDrugItemRecord.getId());
-                                //退款项名称
-                                DmsNonDrug dmsNonDrug = dmsNonDrugMapper.selectByPrimaryKey(dmsNonDrugItemRecord.getNoDrugId());
-                                bmsRefundChargeResult.setName(dmsNonDrug.getName());
-
-                                bmsRefundChargeResult.setAmount(dmsNonDrugItemRecord.getAmount());
-                                bmsRefundChargeResult.setType(type);
-                                bmsRefundChargeResult.setStatus(dmsNonDrugItemRecord.getStatus());
-                                bmsRefundChargeResult.setCreateTime(dmsNonDrugItemRecord.getCreateTime());
-                                bmsRefundChargeResult.setNum(1l);
-
-                                bmsRefundChargeResultList.add(bmsRefundChargeResult);
-                            }
-                        }
-                        //草药
-                        if (type == 4){
-                            DmsHerbalItemRecordExample dmsHerbalItemRecordExample = new DmsHerbalItemRecordExample();
-                            dmsHerbalItemRecordExample.createCriteria().andPrescriptionIdEqualTo(id);
-                            List<DmsHerbalItemRecord> dmsHerbalItemRecordList = dmsHerbalItemRecordMapper.selectByExample(dmsHerbalItemRecordExample);
-                            if (!dmsHerbalItemRecordList.isEmpty()){
-                                for (DmsHerbalItemRecord dmsHerbalItemRecord : dmsHerbalItemRecordList){
-                                        if ((dmsHerbalItemRecord.getStatus() == 3 || dmsHerbalItemRecord.getStatus() == 1) && dmsHerbalItemRecord.getCurrentNum() != 0l){//3退药、未发药
-                                        BmsRefundChargeResult bmsRefundChargeResult = new BmsRefundChargeResult();
-                                        bmsRefundChargeResult.setInvoiceIdfNo(bmsInvoiceRecord.getInvoiceNo());
-                                        bmsRefundChargeResult.setId(dmsHerbalItemRecord.getId());
-                                        //退款项名称
-                                        DmsDrug dmsDrug = dmsDrugMapper.selectByPrimaryKey(dmsHerbalItemRecord.getDrugId());
-                                        bmsRefundChargeResult.setName(dmsDrug.getName());
-
-                                        if (dmsHerbalItemRecord.getStatus() == 3){
-                                            bmsRefundChargeResult.setAmount(dmsDrug.getPrice().multiply(new BigDecimal(dmsHerbalItemRecord.getCurrentNum())));
-                                        }
-                                        else{
-                                            bmsRefundChargeResult.setAmount(dmsDrug.getPrice().multiply(new BigDecimal(dmsHerbalItemRecord.getTotalNum())));
-                                        }
-                                        bmsRefundChargeResult.setType(type);
-                                        bmsRefundChargeResult.setStatus(dmsHerbalItemRecord.getStatus());
-                                        //开立时间
-                                        DmsHerbalPrescriptionRecord dmsHerbalPrescriptionRecord = dmsHerbalPrescriptionRecordMapper.selectByPrimaryKey(dmsHerbalItemRecord.getPrescriptionId());
-                                        bmsRefundChargeResult.setCreateTime(dmsHerbalPrescriptionRecord.getCreateTime());
-
-                                        bmsRefundChargeResult.setNum(dmsHerbalItemRecord.getCurrentNum());
-
-                                        bmsRefundChargeResultList.add(bmsRefundChargeResult);
-                                    }
-
-                                }
-                            }
-                        }
-                        //成药
-                        if (type == 5){
-                            DmsMedicineItemRecordExample dmsMedicineItemRecordExample = new DmsMedicineItemRecordExample();
-                            dmsMedicineItemRecordExample.createCriteria().andPrescriptionIdEqualTo(id);
-                            List<DmsMedicineItemRecord> dmsMedicineItemRecordList = dmsMedicineItemRecordMapper.selectByExample(dmsMedicineItemRecordExample);
-                            if (!dmsMedicineItemRecordList.isEmpty()){
-                                for (DmsMedicineItemRecord dmsMedicineItemRecord : dmsMedicineItemRecordList){
-                                    System.err.println("getCurrentNum:"+dmsMedicineItemRecord.getCurrentNum());
-                                    System.err.println("getRefundNum:"+dmsMedicineItemRecord.getRefundNum());
-                                    System.err.println("getStatus:"+dmsMedicineItemRecord.getStatus());
-
-                                    if((dmsMedicineItemRecord.getStatus() == 1 && dmsMedicineItemRecord.getCurrentNum()!= 0)|| (dmsMedicineItemRecord.getStatus() == 3  && dmsMedicineItemRecord.getRefundNum() != 0))
-                                    {//退药、未发药(现有数量不为0)
-                                        BmsRefundChargeResult bmsRefundChargeResult = new BmsRefundChargeResult();
-                                        bmsRefundChargeResult.setInvoiceIdfNo(bmsInvoiceRecord.getInvoiceNo());
-                                        bmsRefundChargeResult.setId(dmsMedicineItemRecord.getId());
-                                        //退款项名称
-                                        DmsDrug dmsDrug = dmsDrugMapper.selectByPrimaryKey(dmsMedicineItemRecord.getDrugId());
-                                        bmsRefundChargeResult.setName(dmsDrug.getName());
-                                        if (dmsMedicineItemRecord.getStatus() == 3){
-                                            bmsRefundChargeResult.setAmount(dmsDrug.getPrice().multiply(new BigDecimal(dmsMedicineItemRecord.getRefundNum())));
-                                        }
-                                        else{
-                                            bmsRefundChargeResult.setAmount(dmsDrug.getPrice().multiply(new BigDecimal(dmsMedicineItemRecord.getNum())));
-                                        }
-                                        bmsRefundChargeResult.setType(type);
-                                        bmsRefundChargeResult.setStatus(dmsMedicineItemRecord.getStatus());
-                                        //开立时间
-                                        DmsMedicinePrescriptionRecord dmsMedicinePrescriptionRecord = dmsMedicinePrescriptionRecordMapper.selectByPrimaryKey(id);
-                                        bmsRefundChargeResult.setCreateTime(dmsMedicinePrescriptionRecord.getCreateTime());
-
-                                        bmsRefundChargeResult.setNum(dmsMedicineItemRecord.getCurrentNum());
-
-                                        bmsRefundChargeResultList.add(bmsRefundChargeResult);
-                                    }
-                                }
-                            }
-                        }
-                    }
-
-                }
-            }
-            //Collections.sort(bmsRefundChargeResultList,Comparator.comparing(BmsRefundChargeResult::getInvoiceIdfNo));
-            bmsRefundChargeResultList.sort(new Comparator<BmsRefundChargeResult>() {
-                @Override
-                public int compare(BmsRefundChargeResult o1, BmsRefundChargeResult o2) {
-                    return o1.getInvoiceIdfNo().compareTo(o2.getInvoiceIdfNo());//升序
-                    //return o2.getInvoiceIdfNo().compareTo(o1.getInvoiceIdfNo());//降序
-                }
-            });
-
-            return bmsRefundChargeResultList;
-        }
-        return null;
+        return bmsRefundableItemService.listByRegistrationId(registrationId);
     }
     //非药品、药品退费过程
     //1.传入待退项目记录（成药、草药、非药品）ids、原发票、操作员Id、type、退款金额
@@ -583,30 +370,41 @@ public class BmsFeeServiceImpl implements BmsFeeService {
     //3.2.如果为药品，则根据项目记录（成药、草药）id和type修改处方项（refund变为0，status变为2已发药），更新处方记录中的amount
     //4.新增一条冲红发票记录（金额为原发票总钱负值，与原发票关联），原发票状态改为3
     //5.插入新发票（重新拼串，并更新amount为原amount总退款金额）
+    //以上在同一事务中完成
     @Override
-    public int refundCharge(List<BmsRefundChargeParam> bmsRefundChargeParamList) {
+    @Transactional
+    public BmsRefundInvoiceResult refundCharge(List<BmsRefundChargeParam> bmsRefundChargeParamList) {
         if (!bmsRefundChargeParamList.isEmpty()){
+            Long invoiceNo = bmsRefundChargeParamList.get(0).getInvoiceNo();//原发票号
+            Long operatorId = bmsRefundChargeParamList.get(0).getOperatorId();//操作员id
+            Long settlementCatId = bmsRefundChargeParamList.get(0).getSettlementCatId();//结算类型
+            BmsInvoiceRecordExample bmsInvoiceRecordExample = new BmsInvoiceRecordExample();
+            bmsInvoiceRecordExample.createCriteria().andInvoiceNoEqualTo(invoiceNo);
+            List<BmsInvoiceRecord> bmsInvoiceRecordList = bmsInvoiceRecordMapper.selectByExample(bmsInvoiceRecordExample);
+            //先锁定本收费员和原发票收费员的累计统计行，再写项目和发票，与日结加锁顺序一致
+            bmsSettleAggregateService.lockAggregate(operatorId, bmsInvoiceRecordList.isEmpty() ? null : bmsInvoiceRecordList.get(0).getOperatorId());
+
             BigDecimal totalRefundAmount = new BigDecimal(0);//存要退的总金额
             List<BmsInvoiceItemList> refundList = new ArrayList<>();//存退了哪些项目
             for (BmsRefundChargeParam bmsRefundChargeParam : bmsRefundChargeParamList){
 
-                System.err.println("bmsRefundChargeParam: "+bmsRefundChargeParam);
-
                 Integer type = bmsRefundChargeParam.getType();
                 //非药品
                 if (type == 1 || type == 2 || type ==3){
                     DmsNonDrugItemRecord dmsNonDrugItemRecord = dmsNonDrugItemRecordMapper.selectByPrimaryKey(bmsRefundChargeParam.getChargeItemId());
                     dmsNonDrugItemRecord.setStatus(5);//5（已退费）
                     dmsNonDrugItemRecordMapper.updateByPrimaryKeySelective(dmsNonDrugItemRecord);
-                    //加入refundList，非药品直接加入
-                    BmsInvoiceItemList bmsInvoiceItemList = new BmsInvoiceItemList(bmsRefundChargeParam.getChargeItemId(),type,new BigDecimal(0));
+                    //加入refundList，非药品整项退费
                     totalRefundAmount = totalRefundAmount.add(bmsRefundChargeParam.getRefundAmount());
-                    refundList.add(bmsInvoiceItemList);
+                    addRefundAmount(refundList, bmsRefundChargeParam.getChargeItemId(), type, bmsRefundChargeParam.getRefundAmount());
                 }
                 //草药
                 if (type == 4){
                     DmsHerbalItemRecord dmsHerbalItemRecord = dmsHerbalItemRecordMapper.selectByPrimaryKey(bmsRefundChargeParam.getChargeItemId());
                     if (dmsHerbalItemRecord.getStatus() == 1){//未发药
+                        //释放开立时的库存预留，须在数量清零之前
+                        bmsDrugStockDao.insertReleaseTxnByItem(dmsHerbalItemRecord.getId(), type);
+                        bmsDrugStockDao.releaseByItem(dmsHerbalItemRecord.getId(), type);
                         dmsHerbalItemRecord.setCurrentNum(0l);
                     }
                     dmsHerbalItemRecord.setStatus(2);//2已发药
@@ -617,33 +415,17 @@ public class BmsFeeServiceImpl implements BmsFeeService {
                     dmsHerbalPrescriptionRecord.setAmount(dmsHerbalPrescriptionRecord.getAmount().subtract(bmsRefundChargeParam.getRefundAmount()));
                     dmsHerbalPrescriptionRecordMapper.updateByPrimaryKeySelective(dmsHerbalPrescriptionRecord);
                     totalRefundAmount = totalRefundAmount.add(bmsRefundChargeParam.getRefundAmount());
-                    //加入refundList，药品按照处方加入
-                    if (!refundList.isEmpty()){
-                        int flag = 0;//标志该处方是否已加入
-                        int index = 0;//若该处方以加入，则标志该处方在list的index
-                        for (int i = 0;i < refundList.size();i++){
-                            if (refundList.get(i).getId() == dmsHerbalPrescriptionRecord.getId() && refundList.get(i).getType() == type){
-                                flag = 1;
-                                index = i;
-                                break;
-                            }
-                        }
-                        if (flag ==1){//若存在，则跟新金额
-                            BigDecimal oldAmount = refundList.get(index).getAmount();
-                            BigDecimal newAmount = oldAmount.add(bmsRefundChargeParam.getRefundAmount());
-                            refundList.get(index).setAmount(newAmount);
-                        }
-                        else{//如果不存在，则加入refundList
-                            BmsInvoiceItemList bmsInvoiceItemList = new BmsInvoiceItemList(dmsHerbalPrescriptionRecord.getId(),type,bmsRefundChargeParam.getRefundAmount());
-                            refundList.add(bmsInvoiceItemList);
-                        }
-                    }
+                    //加入refundList，药品按照处方累加退费金额
+                    addRefundAmount(refundList, dmsHerbalPrescriptionRecord.getId(), type, bmsRefundChargeParam.getRefundAmount());
                 }
                 //成药
                 if (type == 5){
                     DmsMedicineItemRecord dmsMedicineItemRecord = dmsMedicineItemRecordMapper.selectByPrimaryKey(bmsRefundChargeParam.getChargeItemId());
                     dmsMedicineItemRecord.setRefundNum(0l);
                     if (dmsMedicineItemRecord.getStatus() == 1){//未发药
+                        //释放开立时的库存预留，须在数量清零之前
+                        bmsDrugStockDao.insertReleaseTxnByItem(dmsMedicineItemRecord.getId(), type);
+                        bmsDrugStockDao.releaseByItem(dmsMedicineItemRecord.getId(), type);
                         dmsMedicineItemRecord.setCurrentNum(0l);
                     }
                     dmsMedicineItemRecord.setStatus(2);//2已发药
@@ -654,40 +436,19 @@ public class BmsFeeServiceImpl implements BmsFeeService {
                     dmsMedicinePrescriptionRecord.setAmount(dmsMedicinePrescriptionRecord.getAmount().subtract(bmsRefundChargeParam.getRefundAmount()));
                     dmsMedicinePrescriptionRecordMapper.updateByPrimaryKeySelective(dmsMedicinePrescriptionRecord);
                     totalRefundAmount = totalRefundAmount.add(bmsRefundChargeParam.getRefundAmount());
-                    //加入refundList，药品按照处方加入
-                    if (!refundList.isEmpty()){
-                        int flag = 0;//标志该处方是否已加入
-                        int index = 0;//若该处方以加入，则标志该处方在list的index
-                        for (int i = 0;i < refundList.size();i++){
-                            if (refundList.get(i).getId() == dmsMedicinePrescriptionRecord.getId() && refundList.get(i).getType() == type){
-                                flag = 1;
-                                index = i;
-                                break;
-                            }
-                        }
-                        if (flag ==1){//若存在，则跟新金额
-                            BigDecimal oldAmount = refundList.get(index).getAmount();
-                            BigDecimal newAmount = oldAmount.add(bmsRefundChargeParam.getRefundAmount());
-                            refundList.get(index).setAmount(newAmount);
-                        }
-                        else{//如果不存在，则加入refundList
-                            BmsInvoiceItemList bmsInvoiceItemList = new BmsInvoiceItemList(dmsMedicinePrescriptionRecord.getId(),type,bmsRefundChargeParam.getRefundAmount());
-                            refundList.add(bmsInvoiceItemList);
-                        }
-                    }
+                    //加入refundList，药品按照处方累加退费金额
+                    addRefundAmount(refundList, dmsMedicinePrescriptionRecord.getId(), type, bmsRefundChargeParam.getRefundAmount());
                 }
             }
-            Long invoiceNo = bmsRefundChargeParamList.get(0).getInvoiceNo();//原发票号
-            Long redInvoiceNo = bmsRefundChargeParamList.get(0).getRedInvoiceNo();//冲红发票号
-            Long newInvoiceNo = bmsRefundChargeParamList.get(0).getNewInvoiceNo();//新发票号
-            Long operatorId = bmsRefundChargeParamList.get(0).getOperatorId();//操作员id
-            Long settlementCatId = bmsRefundChargeParamList.get(0).getSettlementCatId();//结算类型
+            BmsRefundInvoiceResult bmsRefundInvoiceResult = new BmsRefundInvoiceResult();
             //for (Long invoiceNO : sortByInvoiceOfAmount.keySet()){
-            BmsInvoiceRecordExample bmsInvoiceRecordExample = new BmsInvoiceRecordExample();
-            bmsInvoiceRecordExample.createCriteria().andInvoiceNoEqualTo(invoiceNo);
-            List<BmsInvoiceRecord> bmsInvoiceRecordList = bmsInvoiceRecordMapper.selectByExample(bmsInvoiceRecordExample);
             if (!bmsInvoiceRecordList.isEmpty()){
                 Date date = new Date();
+                //冲红发票号、新发票号由服务端分配
+                Long redInvoiceNo = bmsInvoiceNoService.nextInvoiceNo(operatorId);
+                Long newInvoiceNo = bmsInvoiceNoService.nextInvoiceNo(operatorId);
+                bmsRefundInvoiceResult.setRedInvoiceNo(redInvoiceNo);
+                bmsRefundInvoiceResult.setNewInvoiceNo(newInvoiceNo);
 
                 BmsInvoiceRecord bmsInvoiceRecord = bmsInvoiceRecordList.get(0);
 
@@ -702,6 +463,7 @@ public class BmsFeeServiceImpl implements BmsFeeService {
                 redBmsInvoiceRecord.setBillId(bmsInvoiceRecord.getBillId());
                 redBmsInvoiceRecord.setType(2);//2冲红
                 bmsInvoiceRecordMapper.insertSelective(redBmsInvoiceRecord);
+                bmsSettleAggregateService.addInvoice(redBmsInvoiceRecord, null);
 
                 //插入新发票（重新拼串，并更新amount为原amount总退款金额）
                 BigDecimal newAmount = oldAmount.subtract(totalRefundAmount);//新发票的金额
@@ -714,71 +476,89 @@ public class BmsFeeServiceImpl implements BmsFeeService {
                 newBmsInvoiceRecord.setOperatorId(operatorId);
                 newBmsInvoiceRecord.setSettlementCatId(settlementCatId);
                 newBmsInvoiceRecord.setType(1);
-                //新发票的itemList
-                String oldItemList = bmsInvoiceRecord.getItemList();
-                String[][] resolvedItemList = resolveItemList(oldItemList);
-                String newList = "";
-                if (resolvedItemList.length != 0){
-                    for(int x = 0; x < resolvedItemList.length ; x++) {
-                        Long id = Long.valueOf(resolvedItemList[x][0]);
-                        Integer type = Integer.valueOf(resolvedItemList[x][1]);
-                        BigDecimal amount = new BigDecimal(resolvedItemList[x][2]);
-                        //List<BmsInvoiceItemList> refundList = new ArrayList<>();//存退了哪些项目
-                        for (int i = 0;i < refundList.size();i++){
-                            if (refundList.get(i).getId() == id && refundList.get(i).getType() == type){
-                                resolvedItemList[x][2] = refundList.get(i).getAmount().toString();//可能有问题
-                            }
-                        }
+                //新发票的itemList：非药品被退则整项去掉，处方扣除refundList中的退费金额，金额不大于0的项目不再计入
+                List<BmsInvoiceItemList> oldItemList = bmsInvoiceItemService.mapItemsByInvoice(bmsInvoiceRecordList.subList(0, 1)).get(bmsInvoiceRecord.getId());
+                List<BmsInvoiceItemList> newItemList = new ArrayList<>();
+                for (BmsInvoiceItemList oldItem : oldItemList){
+                    BigDecimal amount = oldItem.getAmount();
+                    BmsInvoiceItemList refundItem = findItem(refundList, oldItem.getId(), oldItem.getType());
+                    if (refundItem != null){
+                        Integer oldType = oldItem.getType();
+                        boolean nonDrug = oldType == 1 || oldType == 2 || oldType == 3;
+                        amount = nonDrug || amount == null ? BigDecimal.ZERO : amount.subtract(refundItem.getAmount());
                     }
-                    for (int j = 0;j< resolvedItemList.length;j++){
-                        if (Double.parseDouble(resolvedItemList[j][2]) == 0){
-                            continue;
-                        }else {
-                            newList = newList + resolvedItemList[j][0] + "," + resolvedItemList[j][1] + "," +resolvedItemList[j][2] + "><";
-                        }
+                    if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0){
+                        continue;
                     }
+                    newItemList.add(new BmsInvoiceItemList(oldItem.getId(), oldItem.getType(), amount));
                 }
 
+                //新发票属于当前未日结的时段，settle_record_id留空，日结时标记
+                newBmsInvoiceRecord.setItemList(bmsInvoiceItemService.toItemListStr(newItemList));
+                bmsInvoiceRecordMapper.insertSelective(newBmsInvoiceRecord);
+                bmsInvoiceItemService.saveItems(newBmsInvoiceRecord.getId(), newItemList);
+                bmsSettleAggregateService.addInvoice(newBmsInvoiceRecord, newItemList);
 
                 //原发票type改为3,原发票与新发票关联
-                bmsInvoiceRecordExample.clear();
-                bmsInvoiceRecordExample.createCriteria().andInvoiceNoEqualTo(invoiceNo);
-                List<BmsInvoiceRecord> bmsInvoiceRecordList1 = bmsInvoiceRecordMapper.selectByExample(bmsInvoiceRecordExample);
-                if (!bmsInvoiceRecordList1.isEmpty()){
-                    Long newInvoiceId = bmsInvoiceRecordList1.get(0).getId();
-                    bmsInvoiceRecord.setType(3);//3被冲红
-                    bmsInvoiceRecord.setAssociateId(newInvoiceId);
-                    bmsInvoiceRecordMapper.updateByPrimaryKeySelective(bmsInvoiceRecord);
-
-                    newBmsInvoiceRecord.setSettleRecordId(bmsInvoiceRecordList1.get(0).getSettleRecordId());
-                }
+                bmsSettleAggregateService.removeInvoice(bmsInvoiceRecord, oldItemList, 3);
+                bmsInvoiceRecord.setType(3);//3被冲红
+                bmsInvoiceRecord.setAssociateId(newBmsInvoiceRecord.getId());
+                bmsInvoiceRecordMapper.updateByPrimaryKeySelective(bmsInvoiceRecord);
+                //按新发票重新生成该挂号的可退费项目
+                bmsRefundableItemService.rebuildByBillId(bmsInvoiceRecord.getBillId());
+            }
+            return bmsRefundInvoiceResult;
+        }
+        return null;
+    }
+    //refundList中同一项目（id、type相同）的退费金额累加，没有则加入
+    private void addRefundAmount(List<BmsInvoiceItemList> refundList, Long id, Integer type, BigDecimal refundAmount){
+        BigDecimal amount = refundAmount == null ? BigDecimal.ZERO : refundAmount;
+        BmsInvoiceItemList refundItem = findItem(refundList, id, type);
+        if (refundItem != null){
+            refundItem.setAmount(refundItem.getAmount().add(amount));
+        }
+        else{
+            refundList.add(new BmsInvoiceItemList(id, type, amount));
+        }
+    }
 
-                newBmsInvoiceRecord.setItemList(newList);
-                bmsInvoiceRecordMapper.insertSelective(newBmsInvoiceRecord);
+    private BmsInvoiceItemList findItem(List<BmsInvoiceItemList> itemList, Long id, Integer type){
+        for (BmsInvoiceItemList item : itemList){
+            if (item.getId().equals(id) && item.getType().equals(type)){
+                return item;
             }
-            return 1;
         }
-        return 0;
+        return null;
     }
     //挂号退费过程
     //1.传入挂号id
     //2.判断状态为1（待诊），则直接退费，修改项目状态为4（已退号），
     //3.根据挂号id查找账单，根据账单id和status为1找到发票
     //3.新增一条冲红发票记录（原发票amount负值，与原发票关联）,把状态改为3（被冲红）
-    //5.根据挂号id，判断是否为专家号，如果为专家号，则修改skd,相关医生的限额+1
+    //5.根据挂号id，判断是否为专家号，如果为专家号，则归还占用的号源（skd限额+1）
     @Override
-    public int refundRegistrationCharge(BmsRefundRegChargeParam bmsRefundRegChargeParam) {
+    @Transactional
+    public BmsRefundInvoiceResult refundRegistrationCharge(BmsRefundRegChargeParam bmsRefundRegChargeParam) {
+        BmsInvoiceRecordExample bmsInvoiceRecordExample = new BmsInvoiceRecordExample();
+        bmsInvoiceRecordExample.createCriteria().andInvoiceNoEqualTo(bmsRefundRegChargeParam.getOldInvoiceNo());
+        List<BmsInvoiceRecord> bmsInvoiceRecordList = bmsInvoiceRecordMapper.selectByExample(bmsInvoiceRecordExample);
+        //先锁定本收费员和原发票收费员的累计统计行，再写挂号和发票，与日结加锁顺序一致
+        bmsSettleAggregateService.lockAggregate(bmsRefundRegChargeParam.getOperatorId(), bmsInvoiceRecordList.isEmpty() ? null : bmsInvoiceRecordList.get(0).getOperatorId());
         DmsRegistration dmsRegistration = dmsRegistrationMapper.selectByPrimaryKey(bmsRefundRegChargeParam.getRegistrationId());
+        boolean withdrawn = false;//本次是否由待诊改为已退号
         if (dmsRegistration.getStatus() == 1){//1（待诊）
             dmsRegistration.setStatus(4);//4（已退号）
             dmsRegistrationMapper.updateByPrimaryKeySelective(dmsRegistration);
+            withdrawn = true;
+            rabbitMQRegistrationSender.sendChange(dmsRegistration.getId());//通知医生工作站移除该患者
         }
-        BmsInvoiceRecordExample bmsInvoiceRecordExample = new BmsInvoiceRecordExample();
-        bmsInvoiceRecordExample.createCriteria().andInvoiceNoEqualTo(bmsRefundRegChargeParam.getOldInvoiceNo());
-        List<BmsInvoiceRecord> bmsInvoiceRecordList = bmsInvoiceRecordMapper.selectByExample(bmsInvoiceRecordExample);
+        BmsRefundInvoiceResult bmsRefundInvoiceResult = new BmsRefundInvoiceResult();
         if (!bmsInvoiceRecordList.isEmpty()){
             BmsInvoiceRecord bmsInvoiceRecord = bmsInvoiceRecordList.get(0);
-            //更新原发票
+            //更新原发票（先从收费员日结统计中扣除）
+            List<BmsInvoiceItemList> itemList = bmsInvoiceItemService.mapItemsByInvoice(bmsInvoiceRecordList.subList(0, 1)).get(bmsInvoiceRecord.getId());
+            bmsSettleAggregateService.removeInvoice(bmsInvoiceRecord, itemList, 3);
             bmsInvoiceRecord.setType(3);
             bmsInvoiceRecordMapper.updateByPrimaryKeySelective(bmsInvoiceRecord);
 
@@ -786,7 +566,7 @@ public class BmsFeeServiceImpl implements BmsFeeService {
             BigDecimal oldAmount = bmsInvoiceRecord.getAmount();
             BigDecimal newAmount = oldAmount.multiply(new BigDecimal(-1));
             BmsInvoiceRecord redBmsInvoiceRecord = new BmsInvoiceRecord();
-            redBmsInvoiceRecord.setInvoiceNo(bmsRefundRegChargeParam.getRedInvoiceNo());
+            redBmsInvoiceRecord.setInvoiceNo(bmsInvoiceNoService.nextInvoiceNo(bmsRefundRegChargeParam.getOperatorId()));
             redBmsInvoiceRecord.setAssociateId(bmsInvoiceRecord.getId());
             redBmsInvoiceRecord.setAmount(newAmount);
             redBmsInvoiceRecord.setCreateTime(new Date());
@@ -794,28 +574,14 @@ public class BmsFeeServiceImpl implements BmsFeeService {
             redBmsInvoiceRecord.setOperatorId(bmsRefundRegChargeParam.getOperatorId());
             redBmsInvoiceRecord.setBillId(bmsInvoiceRecord.getBillId());
             bmsInvoiceRecordMapper.insertSelective(redBmsInvoiceRecord);
-            //根据挂号id，判断是否为专家号，如果为专家号，则修改skd,相关医生的限额+1
-            SmsSkd smsSkd = smsSkdMapper.selectByPrimaryKey(dmsRegistration.getSkdId());
-            SmsStaff smsStaff = smsStaffMapper.selectByPrimaryKey(smsSkd.getStaffId());
-            SmsRegistrationRank registrationRank = smsRegistrationRankMapper.selectByPrimaryKey(smsStaff.getRegistrationRankId());
-            if (registrationRank.getCode() == "specialist"){
-                smsSkd.setRemain(smsSkd.getRemain()+1);
-                smsSkdMapper.updateByPrimaryKey(smsSkd);
+            bmsSettleAggregateService.addInvoice(redBmsInvoiceRecord, null);
+            //专家号（绑定了排班）且本次退号成功时，归还占用的号源（限额+1）
+            if (withdrawn && dmsRegistration.getSkdId() != null){
+                smsSkdSlotDao.release(dmsRegistration.getSkdId());
             }
+            bmsRefundInvoiceResult.setRedInvoiceNo(redBmsInvoiceRecord.getInvoiceNo());
         }
-        return 1;
+        return bmsRefundInvoiceResult;
     }
 
-    //解析发票的itemList
-    public String[][] resolveItemList(String itemList){
-        String[] prescription = itemList.split("><");
-        String[][] result = new String[prescription.length][3];
-        for (int i = 0 ; i < prescription.length ; i++){
-            String[] item = prescription[i].split(",");
-            for (int j = 0 ; j < item.length ; j++){
-                result[i][j] = item[j];
-            }
-        }
-        return result;
-    }
 }
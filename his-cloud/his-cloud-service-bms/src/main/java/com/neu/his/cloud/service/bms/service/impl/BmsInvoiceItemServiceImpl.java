@@ -0,0 +1,141 @@
+package com.neu.his.cloud.service.bms.service.impl;
+
+import com.neu.his.cloud.service.bms.mapper.BmsInvoiceItemDao;
+import com.neu.his.cloud.service.bms.model.BmsInvoiceItem;
+import com.neu.his.cloud.service.bms.model.BmsInvoiceItemList;
+import com.neu.his.cloud.service.bms.model.BmsInvoiceRecord;
+import com.neu.his.cloud.service.bms.service.BmsInvoiceItemService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+@Service
+public class BmsInvoiceItemServiceImpl implements BmsInvoiceItemService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BmsInvoiceItemServiceImpl.class);
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
+    @Autowired
+    BmsInvoiceItemDao bmsInvoiceItemDao;
+
+    //批量写入一张发票的明细
+    @Override
+    public int saveItems(Long invoiceId, List<BmsInvoiceItemList> itemList) {
+        if (invoiceId == null || itemList == null || itemList.isEmpty()){
+            return 0;
+        }
+        Date createTime = new Date();
+        List<BmsInvoiceItem> bmsInvoiceItemList = new ArrayList<>();
+        for (BmsInvoiceItemList item : itemList){
+            BmsInvoiceItem bmsInvoiceItem = new BmsInvoiceItem();
+            bmsInvoiceItem.setInvoiceId(invoiceId);
+            bmsInvoiceItem.setItemId(item.getId());
+            bmsInvoiceItem.setType(item.getType());
+            bmsInvoiceItem.setAmount(item.getAmount());
+            bmsInvoiceItem.setCreateTime(createTime);
+            bmsInvoiceItemList.add(bmsInvoiceItem);
+        }
+        return bmsInvoiceItemDao.insertList(bmsInvoiceItemList);
+    }
+
+    //1.根据发票ids一次查询所有明细，并按发票id分组
+    //2.没有明细行的历史发票（未执行拆分）解析item_list
+    @Override
+    public Map<Long, List<BmsInvoiceItemList>> mapItemsByInvoice(List<BmsInvoiceRecord> invoiceRecordList) {
+        Map<Long, List<BmsInvoiceItemList>> result = new HashMap<>();
+        if (invoiceRecordList == null || invoiceRecordList.isEmpty()){
+            return result;
+        }
+        List<Long> invoiceIds = new ArrayList<>();
+        for (BmsInvoiceRecord bmsInvoiceRecord : invoiceRecordList){
+            invoiceIds.add(bmsInvoiceRecord.getId());
+        }
+        for (BmsInvoiceItem bmsInvoiceItem : bmsInvoiceItemDao.listByInvoiceIds(invoiceIds)){
+            List<BmsInvoiceItemList> itemList = result.get(bmsInvoiceItem.getInvoiceId());
+            if (itemList == null){
+                itemList = new ArrayList<>();
+                result.put(bmsInvoiceItem.getInvoiceId(), itemList);
+            }
+            itemList.add(new BmsInvoiceItemList(bmsInvoiceItem.getItemId(), bmsInvoiceItem.getType(), bmsInvoiceItem.getAmount()));
+        }
+        for (BmsInvoiceRecord bmsInvoiceRecord : invoiceRecordList){
+            if (!result.containsKey(bmsInvoiceRecord.getId())){
+                result.put(bmsInvoiceRecord.getId(), parseItemListStr(bmsInvoiceRecord.getItemList()));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toItemListStr(List<BmsInvoiceItemList> itemList) {
+        StringBuilder sb = new StringBuilder();
+        for (BmsInvoiceItemList item : itemList){
+            sb.append(item.getId()).append(",").append(item.getType()).append(",").append(item.getAmount()).append("><");
+        }
+        return sb.toString();
+    }
+
+    //解析发票的itemList：id,type,amount><id,type,amount><
+    @Override
+    public List<BmsInvoiceItemList> parseItemListStr(String itemListStr) {
+        List<BmsInvoiceItemList> itemList = new ArrayList<>();
+        if (StringUtils.isEmpty(itemListStr)){
+            return itemList;
+        }
+        for (String itemStr : itemListStr.split("><")){
+            String[] item = itemStr.split(",");
+            if (item.length < 2 || StringUtils.isEmpty(item[0])){
+                continue;
+            }
+            BigDecimal amount = BigDecimal.ZERO;
+            if (item.length > 2 && !StringUtils.isEmpty(item[2]) && !"null".equals(item[2])){
+                amount = new BigDecimal(item[2]);
+            }
+            itemList.add(new BmsInvoiceItemList(Long.valueOf(item[0]), Integer.valueOf(item[1]), amount));
+        }
+        return itemList;
+    }
+
+    //按发票id顺序分批拆分，每批只在内存中保留batchSize张发票，可重复执行（已有明细的发票会被跳过）
+    @Override
+    public int backfillItems(Integer batchSize) {
+        int limit = (batchSize == null || batchSize <= 0) ? DEFAULT_BATCH_SIZE : batchSize;
+        int total = 0;
+        Long lastId = 0L;
+        while (true){
+            List<BmsInvoiceRecord> bmsInvoiceRecordList = bmsInvoiceItemDao.listLegacyInvoiceAfter(lastId, limit);
+            if (bmsInvoiceRecordList.isEmpty()){
+                break;
+            }
+            backfillBatch(bmsInvoiceRecordList);
+            total += bmsInvoiceRecordList.size();
+            lastId = bmsInvoiceRecordList.get(bmsInvoiceRecordList.size() - 1).getId();
+            LOGGER.info("backfill bms_invoice_item: {} invoices done, last invoice id {}", total, lastId);
+        }
+        return total;
+    }
+
+    //一批发票的明细用一条多行INSERT写入
+    private void backfillBatch(List<BmsInvoiceRecord> bmsInvoiceRecordList) {
+        Date createTime = new Date();
+        List<BmsInvoiceItem> bmsInvoiceItemList = new ArrayList<>();
+        for (BmsInvoiceRecord bmsInvoiceRecord : bmsInvoiceRecordList){
+            for (BmsInvoiceItemList item : parseItemListStr(bmsInvoiceRecord.getItemList())){
+                BmsInvoiceItem bmsInvoiceItem = new BmsInvoiceItem();
+                bmsInvoiceItem.setInvoiceId(bmsInvoiceRecord.getId());
+                bmsInvoiceItem.setItemId(item.getId());
+                bmsInvoiceItem.setType(item.getType());
+                bmsInvoiceItem.setAmount(item.getAmount());
+                bmsInvoiceItem.setCreateTime(bmsInvoiceRecord.getCreateTime() == null ? createTime : bmsInvoiceRecord.getCreateTime());
+                bmsInvoiceItemList.add(bmsInvoiceItem);
+            }
+        }
+        if (!bmsInvoiceItemList.isEmpty()){
+            bmsInvoiceItemDao.insertList(bmsInvoiceItemList);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.neu.his.cloud.service.bms.service.impl;
+
+import com.neu.his.cloud.service.bms.mapper.BmsInvoiceSegmentDao;
+import com.neu.his.cloud.service.bms.mapper.BmsInvoiceSegmentMapper;
+import com.neu.his.cloud.service.bms.model.BmsInvoiceSegment;
+import com.neu.his.cloud.service.bms.service.BmsInvoiceNoService;
+import com.neu.his.cloud.service.bms.service.BmsSettleAggregateService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class BmsInvoiceNoServiceImpl implements BmsInvoiceNoService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BmsInvoiceNoServiceImpl.class);
+    //每次租用的号段长度
+    private static final long SEGMENT_SIZE = 100;
+
+    @Autowired
+    BmsInvoiceSegmentDao bmsInvoiceSegmentDao;
+    @Autowired
+    BmsInvoiceSegmentMapper bmsInvoiceSegmentMapper;
+    @Autowired
+    BmsSettleAggregateService bmsSettleAggregateService;
+
+    //租用号段、校验号段在独立事务中完成：收费事务回滚时号段不随之回滚，避免内存中的号段与数据库不一致
+    private final TransactionTemplate transactionTemplate;
+
+    //收费员id -> 当前号段，只在收费员的锁对象上读写
+    private final Map<Long, Segment> segmentMap = new ConcurrentHashMap<>();
+    //收费员id -> 锁对象，同一收费员串行取号，租号时不占用segmentMap的锁
+    private final Map<Long, Object> lockMap = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BmsInvoiceNoServiceImpl(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    //1.调用方已锁定收费员的累计统计行，日结回收号段时也持有该锁，取号与回收不会交错
+    //2.取号前确认号段仍在使用中：日结或其他实例启动时可能已在数据库中回收了该号段
+    //3.号段用完或已被回收时租用新号段
+    @Override
+    public Long nextInvoiceNo(Long cashierId) {
+        if (cashierId == null){
+            throw new IllegalArgumentException("收费员id不能为空");
+        }
+        synchronized (lockOf(cashierId)){
+            Segment segment = segmentMap.get(cashierId);
+            if (segment != null && segment.next < segment.end && !isLeased(cashierId, segment)){
+                segment = null;
+            }
+            if (segment == null || segment.next >= segment.end){
+                segment = lease(cashierId, segment);
+                segmentMap.put(cashierId, segment);
+            }
+            return segment.next++;
+        }
+    }
+
+    //1.在数据库中回收收费员所有使用中的号段（包括挂号服务租用的）：已用部分关闭，剩余部分作为空闲号段，租号时优先认领
+    //2.与日结在同一事务中执行，调用方已锁定累计统计行，号段内取出的发票号都已提交或回滚
+    //3.本实例丢弃缓存的号段，其他服务、实例缓存的号段在取号前校验时丢弃
+    @Override
+    public void reclaim(Long cashierId) {
+        bmsInvoiceSegmentDao.insertFreeTailByCashier(cashierId);
+        bmsInvoiceSegmentDao.closeByCashier(cashierId);
+        synchronized (lockOf(cashierId)){
+            segmentMap.remove(cashierId);
+        }
+    }
+
+    //启动时回收所有使用中号段的剩余部分，上次退出时内存中的号段已丢失
+    //仍在运行的其他实例的号段也会被回收，这些实例取号前校验时重新租用
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        for (Long cashierId : bmsInvoiceSegmentDao.selectLeasedCashierIds()){
+            try {
+                transactionTemplate.execute(status -> {
+                    bmsSettleAggregateService.lockAggregate(cashierId);
+                    bmsInvoiceSegmentDao.insertFreeTailByCashier(cashierId);
+                    bmsInvoiceSegmentDao.closeByCashier(cashierId);
+                    return null;
+                });
+            } catch (Exception e) {
+                //日结时再回收
+                LOGGER.warn("回收收费员{}的发票号段失败", cashierId, e);
+            }
+        }
+    }
+
+    private Object lockOf(Long cashierId) {
+        return lockMap.computeIfAbsent(cashierId, key -> new Object());
+    }
+
+    //独立事务中读取，看到的是最新提交的号段状态
+    private boolean isLeased(Long cashierId, Segment segment) {
+        BmsInvoiceSegment bmsInvoiceSegment = transactionTemplate.execute(status -> bmsInvoiceSegmentMapper.selectByPrimaryKey(segment.id));
+        return bmsInvoiceSegment != null && Integer.valueOf(1).equals(bmsInvoiceSegment.getStatus())
+                && cashierId.equals(bmsInvoiceSegment.getCashierId());
+    }
+
+    //租用号段：先认领空闲号段，没有则推进游标取一段新号；旧号段已用完，关闭
+    private Segment lease(Long cashierId, Segment current) {
+        BmsInvoiceSegment bmsInvoiceSegment = transactionTemplate.execute(status -> {
+            Date date = new Date();
+            if (current != null){
+                BmsInvoiceSegment closed = new BmsInvoiceSegment();
+                closed.setId(current.id);
+                closed.setStatus(2);
+                closed.setUpdateTime(date);
+                bmsInvoiceSegmentMapper.updateByPrimaryKeySelective(closed);
+            }
+            if (bmsInvoiceSegmentDao.claimFreeSegment(cashierId) == 1){
+                return bmsInvoiceSegmentMapper.selectByPrimaryKey(bmsInvoiceSegmentDao.selectLastInsertId());
+            }
+            if (bmsInvoiceSegmentDao.advanceNextNo(SEGMENT_SIZE) == 0){
+                bmsInvoiceSegmentDao.initNextNo();
+                bmsInvoiceSegmentDao.advanceNextNo(SEGMENT_SIZE);
+            }
+            Long endNo = bmsInvoiceSegmentDao.selectLastInsertId();
+            BmsInvoiceSegment leased = new BmsInvoiceSegment();
+            leased.setCashierId(cashierId);
+            leased.setStartNo(endNo - SEGMENT_SIZE);
+            leased.setEndNo(endNo);
+            leased.setStatus(1);
+            leased.setCreateTime(date);
+            leased.setUpdateTime(date);
+            bmsInvoiceSegmentMapper.insertSelective(leased);
+            return leased;
+        });
+        return new Segment(bmsInvoiceSegment.getId(), bmsInvoiceSegment.getStartNo(), bmsInvoiceSegment.getEndNo());
+    }
+
+    //next只在收费员的锁对象上读写
+    private static class Segment {
+        final Long id;
+        final long end;
+        long next;
+
+        Segment(Long id, long start, long end) {
+            this.id = id;
+            this.next = start;
+            this.end = end;
+        }
+    }
+}
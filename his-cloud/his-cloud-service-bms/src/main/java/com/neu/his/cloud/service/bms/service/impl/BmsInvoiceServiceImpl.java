@@ -7,7 +7,10 @@ import com.neu.his.cloud.service.bms.mapper.BmsInvoiceRecordMapper;
 import com.neu.his.cloud.service.bms.mapper.BmsOperatorSettleRecordMapper;
 import com.neu.his.cloud.service.bms.mapper.BmsSettlementCatMapper;
 import com.neu.his.cloud.service.bms.model.*;
+import com.neu.his.cloud.service.bms.service.BmsInvoiceItemService;
 import com.neu.his.cloud.service.bms.service.BmsInvoiceService;
+import com.neu.his.cloud.service.bms.service.BmsRefundableItemService;
+import com.neu.his.cloud.service.bms.service.BmsSettleAggregateService;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -26,6 +29,12 @@ public class BmsInvoiceServiceImpl implements BmsInvoiceService {
     BmsSettlementCatMapper bmsSettlementCatMapper;
     @Autowired
     BmsOperatorSettleRecordMapper bmsOperatorSettleRecordMapper;
+    @Autowired
+    BmsInvoiceItemService bmsInvoiceItemService;
+    @Autowired
+    BmsSettleAggregateService bmsSettleAggregateService;
+    @Autowired
+    BmsRefundableItemService bmsRefundableItemService;
     //发票补打：
     //1.传入更新后的发票号，挂号id
     //2.根据挂号id在账单表中查找出账单，根据账单id在发票表中查找出最近的一条发票，更新发票号
@@ -46,6 +55,10 @@ public class BmsInvoiceServiceImpl implements BmsInvoiceService {
                 BmsInvoiceRecord bmsInvoiceRecord = bmsInvoiceRecordList.get(0);//可能有问题
                 bmsInvoiceRecord.setInvoiceNo(newInvoiceNo);
                 bmsInvoiceRecordMapper.updateByPrimaryKeySelective(bmsInvoiceRecord);
+                //发票号段已变化，累计统计需要重算
+                bmsSettleAggregateService.markDirty(bmsInvoiceRecord.getOperatorId());
+                //可退费项目中的发票号随之更新
+                bmsRefundableItemService.rebuild(registrationId);
                 return 1;
             }
         }
@@ -64,12 +77,22 @@ public class BmsInvoiceServiceImpl implements BmsInvoiceService {
             BmsInvoiceRecord bmsInvoiceRecord = bmsInvoiceRecordList.get(0);
             BmsInvoiceRecord newBmsInvoiceRecord = new BmsInvoiceRecord();
             BeanUtils.copyProperties(bmsInvoiceRecord,newBmsInvoiceRecord);
+            List<BmsInvoiceItemList> itemList = bmsInvoiceItemService.mapItemsByInvoice(bmsInvoiceRecordList.subList(0, 1)).get(bmsInvoiceRecord.getId());
+            bmsSettleAggregateService.removeInvoice(bmsInvoiceRecord, itemList, 4);
             bmsInvoiceRecord.setType(4);
             newBmsInvoiceRecord.setInvoiceNo(newInvoiceNo);
             newBmsInvoiceRecord.setType(1);
             newBmsInvoiceRecord.setCreateTime(new Date());
+            //新发票属于当前未日结的时段，不沿用原发票的日结记录，日结时标记
+            newBmsInvoiceRecord.setSettleRecordId(null);
+            newBmsInvoiceRecord.setFreezeStatus(null);
             bmsInvoiceRecordMapper.updateByPrimaryKeySelective(bmsInvoiceRecord);
+            newBmsInvoiceRecord.setId(null);
             bmsInvoiceRecordMapper.insertSelective(newBmsInvoiceRecord);
+            //新发票沿用原发票的明细
+            bmsInvoiceItemService.saveItems(newBmsInvoiceRecord.getId(), itemList);
+            bmsSettleAggregateService.addInvoice(newBmsInvoiceRecord, itemList);
+            bmsRefundableItemService.rebuildByBillId(newBmsInvoiceRecord.getBillId());
             return 1;
         }
         return 0;
@@ -0,0 +1,347 @@
+package com.neu.his.cloud.service.bms.service.impl;
+
+import com.neu.his.cloud.service.bms.component.DrugCatalogCache;
+import com.neu.his.cloud.service.bms.dto.bms.BmsRefundChargeResult;
+import com.neu.his.cloud.service.bms.dto.dms.DmsDrugView;
+import com.neu.his.cloud.service.bms.mapper.*;
+import com.neu.his.cloud.service.bms.model.*;
+import com.neu.his.cloud.service.bms.service.BmsInvoiceItemService;
+import com.neu.his.cloud.service.bms.service.BmsRefundableItemService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+@Service
+public class BmsRefundableItemServiceImpl implements BmsRefundableItemService {
+    @Autowired
+    BmsRefundableItemMapper bmsRefundableItemMapper;
+    @Autowired
+    BmsRefundableItemDao bmsRefundableItemDao;
+    @Autowired
+    BmsBillsRecordMapper bmsBillsRecordMapper;
+    @Autowired
+    BmsInvoiceRecordMapper bmsInvoiceRecordMapper;
+    @Autowired
+    BmsInvoiceItemService bmsInvoiceItemService;
+    @Autowired
+    DmsNonDrugItemRecordMapper dmsNonDrugItemRecordMapper;
+    @Autowired
+    DmsNonDrugMapper dmsNonDrugMapper;
+    @Autowired
+    DmsHerbalItemRecordMapper dmsHerbalItemRecordMapper;
+    @Autowired
+    DmsHerbalPrescriptionRecordMapper dmsHerbalPrescriptionRecordMapper;
+    @Autowired
+    DmsMedicineItemRecordMapper dmsMedicineItemRecordMapper;
+    @Autowired
+    DmsMedicinePrescriptionRecordMapper dmsMedicinePrescriptionRecordMapper;
+    @Autowired
+    DrugCatalogCache drugCatalogCache;
+
+    //查询时生成可退费项目在独立事务中完成，锁定挂号到生成的项目提交
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public BmsRefundableItemServiceImpl(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    //1.按挂号id一次查询所有项目（含已不可退的），按发票号升序
+    //2.一条都没有时在事务中锁定挂号，尚未生成过（历史数据）的按发票生成；已生成过的（没有可退费项目）不再生成
+    @Override
+    public List<BmsRefundChargeResult> listByRegistrationId(Long registrationId) {
+        List<BmsRefundableItem> bmsRefundableItemList = selectByRegistrationId(registrationId);
+        if (bmsRefundableItemList.isEmpty()){
+            bmsRefundableItemList = transactionTemplate.execute(status -> buildIfAbsent(registrationId));
+            if (bmsRefundableItemList == null){
+                return null;
+            }
+        }
+        List<BmsRefundChargeResult> bmsRefundChargeResultList = new ArrayList<>();
+        for (BmsRefundableItem bmsRefundableItem : bmsRefundableItemList){
+            if (bmsRefundableItem.getRefundable() == null || bmsRefundableItem.getRefundable() != 1){
+                continue;
+            }
+            BmsRefundChargeResult bmsRefundChargeResult = new BmsRefundChargeResult();
+            bmsRefundChargeResult.setInvoiceIdfNo(bmsRefundableItem.getInvoiceNo());
+            bmsRefundChargeResult.setId(bmsRefundableItem.getItemId());
+            bmsRefundChargeResult.setName(bmsRefundableItem.getName());
+            bmsRefundChargeResult.setAmount(bmsRefundableItem.getAmount());
+            bmsRefundChargeResult.setType(bmsRefundableItem.getType());
+            bmsRefundChargeResult.setStatus(bmsRefundableItem.getStatus());
+            bmsRefundChargeResult.setCreateTime(bmsRefundableItem.getCreateTime());
+            bmsRefundChargeResult.setNum(bmsRefundableItem.getNum());
+            bmsRefundChargeResultList.add(bmsRefundChargeResult);
+        }
+        return bmsRefundChargeResultList;
+    }
+
+    //尚未生成过的挂号（历史数据）按账单下所有发票生成，包括这张发票；已生成过的只追加这张发票的项目
+    @Override
+    public void addInvoice(Long registrationId, BmsInvoiceRecord bmsInvoiceRecord, List<BmsInvoiceItemList> itemList) {
+        bmsRefundableItemDao.lockRegistration(registrationId);
+        if (bmsRefundableItemDao.countBuilt(registrationId) == 0){
+            rebuild(registrationId, bmsInvoiceRecord.getBillId());
+            return;
+        }
+        Map<Long, List<BmsInvoiceItemList>> invoiceItemMap = new HashMap<>();
+        invoiceItemMap.put(bmsInvoiceRecord.getId(), itemList);
+        List<BmsRefundableItem> bmsRefundableItemList = buildItems(registrationId, Collections.singletonList(bmsInvoiceRecord), invoiceItemMap);
+        if (!bmsRefundableItemList.isEmpty()){
+            bmsRefundableItemDao.insertList(bmsRefundableItemList);
+        }
+    }
+
+    @Override
+    public void rebuild(Long registrationId) {
+        BmsBillsRecordExample bmsBillsRecordExample = new BmsBillsRecordExample();
+        bmsBillsRecordExample.createCriteria().andRegistrationIdEqualTo(registrationId);
+        List<BmsBillsRecord> bmsBillsRecordList = bmsBillsRecordMapper.selectByExample(bmsBillsRecordExample);
+        if (!bmsBillsRecordList.isEmpty()){
+            rebuild(registrationId, bmsBillsRecordList.get(0).getId());
+        }
+    }
+
+    @Override
+    public void rebuildByBillId(Long billId) {
+        if (billId == null){
+            return;
+        }
+        BmsBillsRecord bmsBillsRecord = bmsBillsRecordMapper.selectByPrimaryKey(billId);
+        if (bmsBillsRecord != null && bmsBillsRecord.getRegistrationId() != null){
+            rebuild(bmsBillsRecord.getRegistrationId(), billId);
+        }
+    }
+
+    //锁定挂号后重新检查：并发的查询已生成时直接读取，否则生成；没有账单时返回null
+    private List<BmsRefundableItem> buildIfAbsent(Long registrationId) {
+        bmsRefundableItemDao.lockRegistration(registrationId);
+        if (bmsRefundableItemDao.countBuilt(registrationId) > 0){
+            return selectByRegistrationId(registrationId);
+        }
+        BmsBillsRecordExample bmsBillsRecordExample = new BmsBillsRecordExample();
+        bmsBillsRecordExample.createCriteria().andRegistrationIdEqualTo(registrationId);
+        List<BmsBillsRecord> bmsBillsRecordList = bmsBillsRecordMapper.selectByExample(bmsBillsRecordExample);
+        if (bmsBillsRecordList.isEmpty()){
+            return null;
+        }
+        return rebuild(registrationId, bmsBillsRecordList.get(0).getId());
+    }
+
+    private List<BmsRefundableItem> selectByRegistrationId(Long registrationId) {
+        BmsRefundableItemExample bmsRefundableItemExample = new BmsRefundableItemExample();
+        bmsRefundableItemExample.createCriteria().andRegistrationIdEqualTo(registrationId);
+        bmsRefundableItemExample.setOrderByClause("invoice_no asc, id asc");
+        return bmsRefundableItemMapper.selectByExample(bmsRefundableItemExample);
+    }
+
+    //锁定挂号，删除该挂号原有项目，按账单下所有正常发票（type=1）重新生成并登记已生成
+    private List<BmsRefundableItem> rebuild(Long registrationId, Long billId) {
+        bmsRefundableItemDao.lockRegistration(registrationId);
+        BmsRefundableItemExample bmsRefundableItemExample = new BmsRefundableItemExample();
+        bmsRefundableItemExample.createCriteria().andRegistrationIdEqualTo(registrationId);
+        bmsRefundableItemMapper.deleteByExample(bmsRefundableItemExample);
+
+        BmsInvoiceRecordExample bmsInvoiceRecordExample = new BmsInvoiceRecordExample();
+        bmsInvoiceRecordExample.createCriteria().andBillIdEqualTo(billId).andTypeEqualTo(1);
+        bmsInvoiceRecordExample.setOrderByClause("invoice_no asc");
+        List<BmsInvoiceRecord> bmsInvoiceRecordList = bmsInvoiceRecordMapper.selectByExample(bmsInvoiceRecordExample);
+        Map<Long, List<BmsInvoiceItemList>> invoiceItemMap = bmsInvoiceItemService.mapItemsByInvoice(bmsInvoiceRecordList);
+        List<BmsRefundableItem> bmsRefundableItemList = buildItems(registrationId, bmsInvoiceRecordList, invoiceItemMap);
+        if (!bmsRefundableItemList.isEmpty()){
+            bmsRefundableItemDao.insertList(bmsRefundableItemList);
+        }
+        bmsRefundableItemDao.insertBuilt(registrationId);
+        return bmsRefundableItemList;
+    }
+
+    //按发票明细生成项目：非药品一项一条，草药/成药按处方展开为处方项
+    //项目记录、处方项、处方、药品、非药品各一次批量查询
+    private List<BmsRefundableItem> buildItems(Long registrationId, List<BmsInvoiceRecord> bmsInvoiceRecordList, Map<Long, List<BmsInvoiceItemList>> invoiceItemMap) {
+        List<BmsRefundableItem> bmsRefundableItemList = new ArrayList<>();
+        //收集各类id
+        List<Long> nonDrugItemIdList = new ArrayList<>();
+        List<Long> herbalPrescriptionIdList = new ArrayList<>();
+        List<Long> medicinePrescriptionIdList = new ArrayList<>();
+        for (BmsInvoiceRecord bmsInvoiceRecord : bmsInvoiceRecordList){
+            List<BmsInvoiceItemList> itemList = invoiceItemMap.get(bmsInvoiceRecord.getId());
+            if (itemList == null){
+                continue;
+            }
+            for (BmsInvoiceItemList item : itemList){
+                Integer type = item.getType();
+                if (type == null){
+                    continue;
+                }
+                if (type == 1 || type == 2 || type == 3){
+                    nonDrugItemIdList.add(item.getId());
+                }
+                else if (type == 4){
+                    herbalPrescriptionIdList.add(item.getId());
+                }
+                else if (type == 5){
+                    medicinePrescriptionIdList.add(item.getId());
+                }
+            }
+        }
+        if (nonDrugItemIdList.isEmpty() && herbalPrescriptionIdList.isEmpty() && medicinePrescriptionIdList.isEmpty()){
+            return bmsRefundableItemList;
+        }
+
+        //非药品项目记录及名称
+        Map<Long, DmsNonDrugItemRecord> nonDrugItemRecordMap = new HashMap<>();
+        Map<Long, DmsNonDrug> nonDrugMap = new HashMap<>();
+        if (!nonDrugItemIdList.isEmpty()){
+            DmsNonDrugItemRecordExample dmsNonDrugItemRecordExample = new DmsNonDrugItemRecordExample();
+            dmsNonDrugItemRecordExample.createCriteria().andIdIn(nonDrugItemIdList);
+            List<Long> nonDrugIdList = new ArrayList<>();
+            for (DmsNonDrugItemRecord dmsNonDrugItemRecord : dmsNonDrugItemRecordMapper.selectByExample(dmsNonDrugItemRecordExample)){
+                nonDrugItemRecordMap.put(dmsNonDrugItemRecord.getId(), dmsNonDrugItemRecord);
+                if (dmsNonDrugItemRecord.getNoDrugId() != null){
+                    nonDrugIdList.add(dmsNonDrugItemRecord.getNoDrugId());
+                }
+            }
+            if (!nonDrugIdList.isEmpty()){
+                DmsNonDrugExample dmsNonDrugExample = new DmsNonDrugExample();
+                dmsNonDrugExample.createCriteria().andIdIn(nonDrugIdList);
+                for (DmsNonDrug dmsNonDrug : dmsNonDrugMapper.selectByExample(dmsNonDrugExample)){
+                    nonDrugMap.put(dmsNonDrug.getId(), dmsNonDrug);
+                }
+            }
+        }
+        //草药、成药处方项及处方（开立时间）
+        List<Long> drugIdList = new ArrayList<>();
+        Map<Long, List<DmsHerbalItemRecord>> herbalItemRecordMap = new HashMap<>();
+        Map<Long, DmsHerbalPrescriptionRecord> herbalPrescriptionRecordMap = new HashMap<>();
+        if (!herbalPrescriptionIdList.isEmpty()){
+            DmsHerbalItemRecordExample dmsHerbalItemRecordExample = new DmsHerbalItemRecordExample();
+            dmsHerbalItemRecordExample.createCriteria().andPrescriptionIdIn(herbalPrescriptionIdList);
+            for (DmsHerbalItemRecord dmsHerbalItemRecord : dmsHerbalItemRecordMapper.selectByExample(dmsHerbalItemRecordExample)){
+                herbalItemRecordMap.computeIfAbsent(dmsHerbalItemRecord.getPrescriptionId(), k -> new ArrayList<>()).add(dmsHerbalItemRecord);
+                drugIdList.add(dmsHerbalItemRecord.getDrugId());
+            }
+            DmsHerbalPrescriptionRecordExample dmsHerbalPrescriptionRecordExample = new DmsHerbalPrescriptionRecordExample();
+            dmsHerbalPrescriptionRecordExample.createCriteria().andIdIn(herbalPrescriptionIdList);
+            for (DmsHerbalPrescriptionRecord dmsHerbalPrescriptionRecord : dmsHerbalPrescriptionRecordMapper.selectByExample(dmsHerbalPrescriptionRecordExample)){
+                herbalPrescriptionRecordMap.put(dmsHerbalPrescriptionRecord.getId(), dmsHerbalPrescriptionRecord);
+            }
+        }
+        Map<Long, List<DmsMedicineItemRecord>> medicineItemRecordMap = new HashMap<>();
+        Map<Long, DmsMedicinePrescriptionRecord> medicinePrescriptionRecordMap = new HashMap<>();
+        if (!medicinePrescriptionIdList.isEmpty()){
+            DmsMedicineItemRecordExample dmsMedicineItemRecordExample = new DmsMedicineItemRecordExample();
+            dmsMedicineItemRecordExample.createCriteria().andPrescriptionIdIn(medicinePrescriptionIdList);
+            for (DmsMedicineItemRecord dmsMedicineItemRecord : dmsMedicineItemRecordMapper.selectByExample(dmsMedicineItemRecordExample)){
+                medicineItemRecordMap.computeIfAbsent(dmsMedicineItemRecord.getPrescriptionId(), k -> new ArrayList<>()).add(dmsMedicineItemRecord);
+                drugIdList.add(dmsMedicineItemRecord.getDrugId());
+            }
+            DmsMedicinePrescriptionRecordExample dmsMedicinePrescriptionRecordExample = new DmsMedicinePrescriptionRecordExample();
+            dmsMedicinePrescriptionRecordExample.createCriteria().andIdIn(medicinePrescriptionIdList);
+            for (DmsMedicinePrescriptionRecord dmsMedicinePrescriptionRecord : dmsMedicinePrescriptionRecordMapper.selectByExample(dmsMedicinePrescriptionRecordExample)){
+                medicinePrescriptionRecordMap.put(dmsMedicinePrescriptionRecord.getId(), dmsMedicinePrescriptionRecord);
+            }
+        }
+        //药品名称、单价
+        Map<Long, DmsDrugView> drugMap = drugCatalogCache.getAll(drugIdList);
+
+        Date now = new Date();
+        for (BmsInvoiceRecord bmsInvoiceRecord : bmsInvoiceRecordList){
+            List<BmsInvoiceItemList> itemList = invoiceItemMap.get(bmsInvoiceRecord.getId());
+            if (itemList == null){
+                continue;
+            }
+            for (BmsInvoiceItemList item : itemList){
+                Integer type = item.getType();
+                if (type == null){
+                    continue;
+                }
+                //非药品：状态为2（已缴费未登记）可退
+                if (type == 1 || type == 2 || type == 3){
+                    DmsNonDrugItemRecord dmsNonDrugItemRecord = nonDrugItemRecordMap.get(item.getId());
+                    if (dmsNonDrugItemRecord == null){
+                        continue;
+                    }
+                    BmsRefundableItem bmsRefundableItem = newItem(registrationId, bmsInvoiceRecord, type, now);
+                    bmsRefundableItem.setItemId(dmsNonDrugItemRecord.getId());
+                    DmsNonDrug dmsNonDrug = nonDrugMap.get(dmsNonDrugItemRecord.getNoDrugId());
+                    bmsRefundableItem.setName(dmsNonDrug == null ? null : dmsNonDrug.getName());
+                    bmsRefundableItem.setAmount(dmsNonDrugItemRecord.getAmount());
+                    bmsRefundableItem.setNum(1L);
+                    bmsRefundableItem.setStatus(dmsNonDrugItemRecord.getStatus());
+                    bmsRefundableItem.setRefundable(Integer.valueOf(2).equals(dmsNonDrugItemRecord.getStatus()) ? 1 : 0);
+                    bmsRefundableItem.setCreateTime(dmsNonDrugItemRecord.getCreateTime());
+                    bmsRefundableItemList.add(bmsRefundableItem);
+                }
+                //草药：未发药（1）或退药（3）且现有数量不为0可退；退药按现有数量、未发药按总数量计算金额
+                else if (type == 4 && herbalItemRecordMap.containsKey(item.getId())){
+                    DmsHerbalPrescriptionRecord dmsHerbalPrescriptionRecord = herbalPrescriptionRecordMap.get(item.getId());
+                    for (DmsHerbalItemRecord dmsHerbalItemRecord : herbalItemRecordMap.get(item.getId())){
+                        DmsDrugView dmsDrug = drugMap.get(dmsHerbalItemRecord.getDrugId());
+                        Integer status = dmsHerbalItemRecord.getStatus();
+                        long currentNum = numOf(dmsHerbalItemRecord.getCurrentNum());
+                        BmsRefundableItem bmsRefundableItem = newItem(registrationId, bmsInvoiceRecord, type, now);
+                        bmsRefundableItem.setItemId(dmsHerbalItemRecord.getId());
+                        bmsRefundableItem.setPrescriptionId(item.getId());
+                        bmsRefundableItem.setNum(dmsHerbalItemRecord.getCurrentNum());
+                        bmsRefundableItem.setStatus(status);
+                        bmsRefundableItem.setRefundable((Integer.valueOf(1).equals(status) || Integer.valueOf(3).equals(status)) && currentNum != 0 ? 1 : 0);
+                        if (dmsDrug != null){
+                            bmsRefundableItem.setName(dmsDrug.getName());
+                            bmsRefundableItem.setPrice(dmsDrug.getPrice());
+                            long num = Integer.valueOf(3).equals(status) ? currentNum : numOf(dmsHerbalItemRecord.getTotalNum());
+                            bmsRefundableItem.setAmount(priceOf(dmsDrug).multiply(new BigDecimal(num)));
+                        }
+                        bmsRefundableItem.setCreateTime(dmsHerbalPrescriptionRecord == null ? null : dmsHerbalPrescriptionRecord.getCreateTime());
+                        bmsRefundableItemList.add(bmsRefundableItem);
+                    }
+                }
+                //成药：未发药（1）且现有数量不为0、或退药（3）且退药数量不为0可退；退药按退药数量、未发药按数量计算金额
+                else if (type == 5 && medicineItemRecordMap.containsKey(item.getId())){
+                    DmsMedicinePrescriptionRecord dmsMedicinePrescriptionRecord = medicinePrescriptionRecordMap.get(item.getId());
+                    for (DmsMedicineItemRecord dmsMedicineItemRecord : medicineItemRecordMap.get(item.getId())){
+                        DmsDrugView dmsDrug = drugMap.get(dmsMedicineItemRecord.getDrugId());
+                        Integer status = dmsMedicineItemRecord.getStatus();
+                        long currentNum = numOf(dmsMedicineItemRecord.getCurrentNum());
+                        long refundNum = numOf(dmsMedicineItemRecord.getRefundNum());
+                        BmsRefundableItem bmsRefundableItem = newItem(registrationId, bmsInvoiceRecord, type, now);
+                        bmsRefundableItem.setItemId(dmsMedicineItemRecord.getId());
+                        bmsRefundableItem.setPrescriptionId(item.getId());
+                        bmsRefundableItem.setNum(dmsMedicineItemRecord.getCurrentNum());
+                        bmsRefundableItem.setStatus(status);
+                        bmsRefundableItem.setRefundable((Integer.valueOf(1).equals(status) && currentNum != 0) || (Integer.valueOf(3).equals(status) && refundNum != 0) ? 1 : 0);
+                        if (dmsDrug != null){
+                            bmsRefundableItem.setName(dmsDrug.getName());
+                            bmsRefundableItem.setPrice(dmsDrug.getPrice());
+                            long num = Integer.valueOf(3).equals(status) ? refundNum : numOf(dmsMedicineItemRecord.getNum());
+                            bmsRefundableItem.setAmount(priceOf(dmsDrug).multiply(new BigDecimal(num)));
+                        }
+                        bmsRefundableItem.setCreateTime(dmsMedicinePrescriptionRecord == null ? null : dmsMedicinePrescriptionRecord.getCreateTime());
+                        bmsRefundableItemList.add(bmsRefundableItem);
+                    }
+                }
+            }
+        }
+        return bmsRefundableItemList;
+    }
+
+    private BmsRefundableItem newItem(Long registrationId, BmsInvoiceRecord bmsInvoiceRecord, Integer type, Date now) {
+        BmsRefundableItem bmsRefundableItem = new BmsRefundableItem();
+        bmsRefundableItem.setRegistrationId(registrationId);
+        bmsRefundableItem.setInvoiceNo(bmsInvoiceRecord.getInvoiceNo());
+        bmsRefundableItem.setType(type);
+        bmsRefundableItem.setUpdateTime(now);
+        return bmsRefundableItem;
+    }
+
+    private long numOf(Long num) {
+        return num == null ? 0 : num;
+    }
+
+    private BigDecimal priceOf(DmsDrugView dmsDrug) {
+        return dmsDrug.getPrice() == null ? BigDecimal.ZERO : dmsDrug.getPrice();
+    }
+}
@@ -0,0 +1,426 @@
+package com.neu.his.cloud.service.bms.service.impl;
+
+import com.neu.his.cloud.service.bms.dto.bms.BmsDailySettleRecordResult;
+import com.neu.his.cloud.service.bms.dto.bms.BmsSettleAggregateVerifyResult;
+import com.neu.his.cloud.service.bms.mapper.BmsInvoiceRecordMapper;
+import com.neu.his.cloud.service.bms.mapper.BmsOperatorSettleRecordMapper;
+import com.neu.his.cloud.service.bms.mapper.BmsSettleAggregateDao;
+import com.neu.his.cloud.service.bms.mapper.BmsSettleAggregateMapper;
+import com.neu.his.cloud.service.bms.model.*;
+import com.neu.his.cloud.service.bms.service.BmsInvoiceItemService;
+import com.neu.his.cloud.service.bms.service.BmsSettleAggregateService;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+@Service
+public class BmsSettleAggregateServiceImpl implements BmsSettleAggregateService {
+    @Autowired
+    BmsSettleAggregateMapper bmsSettleAggregateMapper;
+    @Autowired
+    BmsSettleAggregateDao bmsSettleAggregateDao;
+    @Autowired
+    BmsInvoiceRecordMapper bmsInvoiceRecordMapper;
+    @Autowired
+    BmsInvoiceItemService bmsInvoiceItemService;
+    @Autowired
+    BmsOperatorSettleRecordMapper bmsOperatorSettleRecordMapper;
+
+    //新发票：按发票类型生成增量，并追加发票号段
+    @Override
+    public void addInvoice(BmsInvoiceRecord bmsInvoiceRecord, List<BmsInvoiceItemList> itemList) {
+        if (bmsInvoiceRecord.getOperatorId() == null){
+            return;
+        }
+        BmsSettleAggregate delta = newAggregate(bmsInvoiceRecord.getOperatorId());
+        accumulate(delta, bmsInvoiceRecord, itemList);
+        bmsSettleAggregateDao.applyDelta(delta, bmsInvoiceRecord.getInvoiceNo(), bmsInvoiceRecord.getCreateTime());
+    }
+
+    //正常发票被冲红或重打：扣除金额（发票数量不变），重打时记录重打发票
+    //原发票早于统计起始时间（已日结）时不会更新
+    @Override
+    public void removeInvoice(BmsInvoiceRecord bmsInvoiceRecord, List<BmsInvoiceItemList> itemList, Integer newType) {
+        if (bmsInvoiceRecord.getOperatorId() == null || bmsInvoiceRecord.getType() == null || bmsInvoiceRecord.getType() != 1){
+            return;
+        }
+        BmsSettleAggregate delta = newAggregate(bmsInvoiceRecord.getOperatorId());
+        if (itemList != null && !itemList.isEmpty()){
+            addAmounts(delta, bmsInvoiceRecord, itemList, new BigDecimal(-1));
+        }
+        if (newType != null && newType == 4){
+            delta.setReprintInvoiceNum(1L);
+            delta.setReprintInvoiceIdListStr(String.valueOf(bmsInvoiceRecord.getInvoiceNo()));
+        }
+        bmsSettleAggregateDao.applyDelta(delta, null, bmsInvoiceRecord.getCreateTime());
+    }
+
+    @Override
+    public void markDirty(Long cashierId) {
+        if (cashierId != null){
+            bmsSettleAggregateDao.markDirty(cashierId);
+        }
+    }
+
+    //日结先锁累计统计行再更新发票，收费、退费也要先锁累计统计行再写发票，否则两者会互相等待对方持有的锁
+    @Override
+    public void lockAggregate(Long... cashierIds) {
+        //涉及多个收费员（如退费时原发票由其他收费员开具）时按id升序加锁
+        Set<Long> cashierIdSet = new TreeSet<>();
+        for (Long cashierId : cashierIds){
+            if (cashierId != null){
+                cashierIdSet.add(cashierId);
+            }
+        }
+        for (Long cashierId : cashierIdSet){
+            bmsSettleAggregateDao.lockByCashierId(cashierId);
+            BmsSettleAggregate bmsSettleAggregate = bmsSettleAggregateDao.selectByCashierIdForUpdate(cashierId);
+            //占位行（第一次写发票时刚插入，或由挂号服务插入）：有日结记录时从上次日结截止时间重建，之后的发票按增量累加
+            //从未日结的收费员保持待重算，第一次日结按发票统计后重建
+            if (bmsSettleAggregate.getPeriodStart() == null){
+                Date periodStart = queryLastSettleEndDatetime(cashierId);
+                if (periodStart != null){
+                    rebuild(cashierId, periodStart);
+                }
+            }
+        }
+    }
+
+    //累计统计可用的条件：未标记重算，起始时间与统计起始时间一致，且截止时间之后没有新发票
+    @Override
+    public BmsSettleAggregate getAggregate(Long cashierId, Date startDatetime, Date endDatetime) {
+        BmsSettleAggregate bmsSettleAggregate = selectByCashierId(cashierId);
+        if (bmsSettleAggregate == null || startDatetime == null || endDatetime == null){
+            return null;
+        }
+        if (bmsSettleAggregate.getDirty() == null || bmsSettleAggregate.getDirty() != 0){
+            return null;
+        }
+        if (bmsSettleAggregate.getPeriodStart() == null || bmsSettleAggregate.getPeriodStart().getTime() != startDatetime.getTime()){
+            return null;
+        }
+        if (bmsSettleAggregate.getLastInvoiceTime() != null && bmsSettleAggregate.getLastInvoiceTime().getTime() > endDatetime.getTime()){
+            return null;
+        }
+        return bmsSettleAggregate;
+    }
+
+    @Override
+    public BmsSettleAggregate computeFromInvoices(Long cashierId, List<BmsInvoiceRecord> bmsInvoiceRecordList) {
+        BmsSettleAggregate bmsSettleAggregate = newAggregate(cashierId);
+        if (bmsInvoiceRecordList.isEmpty()){
+            return bmsSettleAggregate;
+        }
+        //一次查询所有发票的明细
+        Map<Long, List<BmsInvoiceItemList>> invoiceItemMap = bmsInvoiceItemService.mapItemsByInvoice(bmsInvoiceRecordList);
+        for (BmsInvoiceRecord bmsInvoiceRecord : bmsInvoiceRecordList){
+            accumulate(bmsSettleAggregate, bmsInvoiceRecord, invoiceItemMap.get(bmsInvoiceRecord.getId()));
+            appendInvoiceNo(bmsSettleAggregate, bmsInvoiceRecord.getInvoiceNo());
+            if (bmsSettleAggregate.getLastInvoiceTime() == null || bmsSettleAggregate.getLastInvoiceTime().before(bmsInvoiceRecord.getCreateTime())){
+                bmsSettleAggregate.setLastInvoiceTime(bmsInvoiceRecord.getCreateTime());
+            }
+        }
+        return bmsSettleAggregate;
+    }
+
+    //重建：先锁定（或插入）收费员的累计统计行，再读发票，保证并发写入的发票要么已计入，要么在提交后增量累加
+    //只统计create_time晚于periodStart的发票，与applyDelta的条件一致
+    @Override
+    @Transactional
+    public BmsSettleAggregate rebuild(Long cashierId, Date periodStart) {
+        bmsSettleAggregateDao.lockByCashierId(cashierId);
+        BmsSettleAggregate old = bmsSettleAggregateDao.selectByCashierIdForUpdate(cashierId);
+        BmsInvoiceRecordExample bmsInvoiceRecordExample = new BmsInvoiceRecordExample();
+        bmsInvoiceRecordExample.createCriteria().andOperatorIdEqualTo(cashierId).andCreateTimeGreaterThan(periodStart);
+        bmsInvoiceRecordExample.setOrderByClause("create_time asc");
+        List<BmsInvoiceRecord> bmsInvoiceRecordList = bmsInvoiceRecordMapper.selectByExample(bmsInvoiceRecordExample);
+
+        BmsSettleAggregate bmsSettleAggregate = computeFromInvoices(cashierId, bmsInvoiceRecordList);
+        bmsSettleAggregate.setId(old.getId());
+        bmsSettleAggregate.setPeriodStart(periodStart);
+        bmsSettleAggregate.setDirty(0);
+        bmsSettleAggregate.setUpdateTime(new Date());
+        bmsSettleAggregateMapper.updateByPrimaryKey(bmsSettleAggregate);
+        return bmsSettleAggregate;
+    }
+
+    @Override
+    public BmsDailySettleRecordResult toSettleRecordResult(BmsSettleAggregate bmsSettleAggregate) {
+        BmsDailySettleRecordResult bmsDailySettleRecordResult = new BmsDailySettleRecordResult();
+        BeanUtils.copyProperties(bmsSettleAggregate, bmsDailySettleRecordResult);
+        bmsDailySettleRecordResult.setStartDatetime(bmsSettleAggregate.getPeriodStart());
+        bmsDailySettleRecordResult.setEndDatetime(bmsSettleAggregate.getLastInvoiceTime());
+        bmsDailySettleRecordResult.setStartEndInvoiceIdStr(renderInvoiceRange(bmsSettleAggregate));
+        if (bmsDailySettleRecordResult.getRushInvoiceIdListStr() == null){
+            bmsDailySettleRecordResult.setRushInvoiceIdListStr("");
+        }
+        if (bmsDailySettleRecordResult.getReprintInvoiceIdListStr() == null){
+            bmsDailySettleRecordResult.setReprintInvoiceIdListStr("");
+        }
+        return bmsDailySettleRecordResult;
+    }
+
+    //校验：用统计起始时间之后的发票重算，与累计统计逐项比较
+    @Override
+    @Transactional
+    public BmsSettleAggregateVerifyResult verify(Long cashierId, Boolean repair) {
+        BmsSettleAggregateVerifyResult bmsSettleAggregateVerifyResult = new BmsSettleAggregateVerifyResult();
+        List<String> mismatchList = new ArrayList<>();
+        bmsSettleAggregateVerifyResult.setMismatchList(mismatchList);
+        bmsSettleAggregateVerifyResult.setRepaired(false);
+
+        BmsSettleAggregate bmsSettleAggregate = selectByCashierId(cashierId);
+        if (bmsSettleAggregate == null){
+            mismatchList.add("aggregate");
+            bmsSettleAggregateVerifyResult.setConsistent(false);
+            return bmsSettleAggregateVerifyResult;
+        }
+        BmsInvoiceRecordExample bmsInvoiceRecordExample = new BmsInvoiceRecordExample();
+        bmsInvoiceRecordExample.createCriteria().andOperatorIdEqualTo(cashierId).andCreateTimeGreaterThan(bmsSettleAggregate.getPeriodStart());
+        bmsInvoiceRecordExample.setOrderByClause("create_time asc");
+        List<BmsInvoiceRecord> bmsInvoiceRecordList = bmsInvoiceRecordMapper.selectByExample(bmsInvoiceRecordExample);
+        BmsSettleAggregate recomputed = computeFromInvoices(cashierId, bmsInvoiceRecordList);
+        recomputed.setPeriodStart(bmsSettleAggregate.getPeriodStart());
+
+        BmsDailySettleRecordResult aggregateResult = toSettleRecordResult(bmsSettleAggregate);
+        BmsDailySettleRecordResult recomputedResult = toSettleRecordResult(recomputed);
+        if (bmsSettleAggregate.getDirty() == null || bmsSettleAggregate.getDirty() != 0){
+            mismatchList.add("dirty");
+        }
+        compareCount(mismatchList, "invoiceNum", aggregateResult.getInvoiceNum(), recomputedResult.getInvoiceNum());
+        compareCount(mismatchList, "rushInvoiceNum", aggregateResult.getRushInvoiceNum(), recomputedResult.getRushInvoiceNum());
+        compareCount(mismatchList, "reprintInvoiceNum", aggregateResult.getReprintInvoiceNum(), recomputedResult.getReprintInvoiceNum());
+        if (!aggregateResult.getStartEndInvoiceIdStr().equals(recomputedResult.getStartEndInvoiceIdStr())){
+            mismatchList.add("startEndInvoiceIdStr");
+        }
+        //id串的顺序与发生顺序有关，按集合比较
+        if (!toNoSet(aggregateResult.getRushInvoiceIdListStr()).equals(toNoSet(recomputedResult.getRushInvoiceIdListStr()))){
+            mismatchList.add("rushInvoiceIdListStr");
+        }
+        if (!toNoSet(aggregateResult.getReprintInvoiceIdListStr()).equals(toNoSet(recomputedResult.getReprintInvoiceIdListStr()))){
+            mismatchList.add("reprintInvoiceIdListStr");
+        }
+        compareAmount(mismatchList, "medicineAmount", aggregateResult.getMedicineAmount(), recomputedResult.getMedicineAmount());
+        compareAmount(mismatchList, "herbalAmount", aggregateResult.getHerbalAmount(), recomputedResult.getHerbalAmount());
+        compareAmount(mismatchList, "checkAmount", aggregateResult.getCheckAmount(), recomputedResult.getCheckAmount());
+        compareAmount(mismatchList, "registrationAmount", aggregateResult.getRegistrationAmount(), recomputedResult.getRegistrationAmount());
+        compareAmount(mismatchList, "dispositionAmount", aggregateResult.getDispositionAmount(), recomputedResult.getDispositionAmount());
+        compareAmount(mismatchList, "testAmount", aggregateResult.getTestAmount(), recomputedResult.getTestAmount());
+        compareAmount(mismatchList, "amount", aggregateResult.getAmount(), recomputedResult.getAmount());
+        compareAmount(mismatchList, "cashAmount", aggregateResult.getCashAmount(), recomputedResult.getCashAmount());
+        compareAmount(mismatchList, "insuranceAmount", aggregateResult.getInsuranceAmount(), recomputedResult.getInsuranceAmount());
+        compareAmount(mismatchList, "bankCardAmount", aggregateResult.getBankCardAmount(), recomputedResult.getBankCardAmount());
+        compareAmount(mismatchList, "alipayAmount", aggregateResult.getAlipayAmount(), recomputedResult.getAlipayAmount());
+        compareAmount(mismatchList, "wechatAmount", aggregateResult.getWechatAmount(), recomputedResult.getWechatAmount());
+        compareAmount(mismatchList, "creditCardAmount", aggregateResult.getCreditCardAmount(), recomputedResult.getCreditCardAmount());
+        compareAmount(mismatchList, "otherAmount", aggregateResult.getOtherAmount(), recomputedResult.getOtherAmount());
+
+        bmsSettleAggregateVerifyResult.setConsistent(mismatchList.isEmpty());
+        bmsSettleAggregateVerifyResult.setAggregate(aggregateResult);
+        bmsSettleAggregateVerifyResult.setRecomputed(recomputedResult);
+        if (!mismatchList.isEmpty() && repair != null && repair){
+            rebuild(cashierId, bmsSettleAggregate.getPeriodStart());
+            bmsSettleAggregateVerifyResult.setRepaired(true);
+        }
+        return bmsSettleAggregateVerifyResult;
+    }
+
+    //最近一次日结的截止时间，没有日结记录时返回null
+    private Date queryLastSettleEndDatetime(Long cashierId) {
+        BmsOperatorSettleRecordExample bmsOperatorSettleRecordExample = new BmsOperatorSettleRecordExample();
+        bmsOperatorSettleRecordExample.createCriteria().andCashierIdEqualTo(cashierId);
+        bmsOperatorSettleRecordExample.setOrderByClause("end_datetime desc");
+        List<BmsOperatorSettleRecord> bmsOperatorSettleRecordList = bmsOperatorSettleRecordMapper.selectByExample(bmsOperatorSettleRecordExample);
+        if (bmsOperatorSettleRecordList.isEmpty()){
+            return null;
+        }
+        return bmsOperatorSettleRecordList.get(0).getEndDatetime();
+    }
+
+    private BmsSettleAggregate selectByCashierId(Long cashierId) {
+        BmsSettleAggregateExample bmsSettleAggregateExample = new BmsSettleAggregateExample();
+        bmsSettleAggregateExample.createCriteria().andCashierIdEqualTo(cashierId);
+        List<BmsSettleAggregate> bmsSettleAggregateList = bmsSettleAggregateMapper.selectByExample(bmsSettleAggregateExample);
+        if (bmsSettleAggregateList.isEmpty()){
+            return null;
+        }
+        return bmsSettleAggregateList.get(0);
+    }
+
+    //数量、金额都置0
+    private BmsSettleAggregate newAggregate(Long cashierId) {
+        BmsSettleAggregate bmsSettleAggregate = new BmsSettleAggregate();
+        bmsSettleAggregate.setCashierId(cashierId);
+        bmsSettleAggregate.setInvoiceNum(0L);
+        bmsSettleAggregate.setRushInvoiceNum(0L);
+        bmsSettleAggregate.setReprintInvoiceNum(0L);
+        bmsSettleAggregate.setClosedRangeStr("");
+        bmsSettleAggregate.setRushInvoiceIdListStr("");
+        bmsSettleAggregate.setReprintInvoiceIdListStr("");
+        bmsSettleAggregate.setMedicineAmount(BigDecimal.ZERO);
+        bmsSettleAggregate.setHerbalAmount(BigDecimal.ZERO);
+        bmsSettleAggregate.setCheckAmount(BigDecimal.ZERO);
+        bmsSettleAggregate.setDispositionAmount(BigDecimal.ZERO);
+        bmsSettleAggregate.setRegistrationAmount(BigDecimal.ZERO);
+        bmsSettleAggregate.setTestAmount(BigDecimal.ZERO);
+        bmsSettleAggregate.setAmount(BigDecimal.ZERO);
+        bmsSettleAggregate.setCashAmount(BigDecimal.ZERO);
+        bmsSettleAggregate.setInsuranceAmount(BigDecimal.ZERO);
+        bmsSettleAggregate.setBankCardAmount(BigDecimal.ZERO);
+        bmsSettleAggregate.setAlipayAmount(BigDecimal.ZERO);
+        bmsSettleAggregate.setWechatAmount(BigDecimal.ZERO);
+        bmsSettleAggregate.setCreditCardAmount(BigDecimal.ZERO);
+        bmsSettleAggregate.setOtherAmount(BigDecimal.ZERO);
+        return bmsSettleAggregate;
+    }
+
+    //按发票当前类型累加：所有发票都计数，2冲红、4重打记录发票号，1正常发票累加项目金额和结算类别金额
+    private void accumulate(BmsSettleAggregate bmsSettleAggregate, BmsInvoiceRecord bmsInvoiceRecord, List<BmsInvoiceItemList> itemList) {
+        bmsSettleAggregate.setInvoiceNum(bmsSettleAggregate.getInvoiceNum() + 1);
+        Integer type = bmsInvoiceRecord.getType();
+        if (type == null){
+            return;
+        }
+        if (type == 2){//冲红发票
+            bmsSettleAggregate.setRushInvoiceNum(bmsSettleAggregate.getRushInvoiceNum() + 1);
+            bmsSettleAggregate.setRushInvoiceIdListStr(appendNo(bmsSettleAggregate.getRushInvoiceIdListStr(), bmsInvoiceRecord.getInvoiceNo()));
+        }
+        else if (type == 4){//重打发票
+            bmsSettleAggregate.setReprintInvoiceNum(bmsSettleAggregate.getReprintInvoiceNum() + 1);
+            bmsSettleAggregate.setReprintInvoiceIdListStr(appendNo(bmsSettleAggregate.getReprintInvoiceIdListStr(), bmsInvoiceRecord.getInvoiceNo()));
+        }
+        else if (type == 1 && itemList != null && !itemList.isEmpty()){//正常发票
+            addAmounts(bmsSettleAggregate, bmsInvoiceRecord, itemList, BigDecimal.ONE);
+        }
+    }
+
+    //累加项目金额（按项目类型）和发票金额（按结算类别），sign为-1时扣除
+    private void addAmounts(BmsSettleAggregate bmsSettleAggregate, BmsInvoiceRecord bmsInvoiceRecord, List<BmsInvoiceItemList> itemList, BigDecimal sign) {
+        for (BmsInvoiceItemList invoiceItem : itemList){
+            Integer typeOfOneItem = invoiceItem.getType();
+            if (typeOfOneItem == null || invoiceItem.getAmount() == null){
+                continue;
+            }
+            BigDecimal amountOfOneItem = invoiceItem.getAmount().multiply(sign);
+            if (typeOfOneItem == 0){//挂号
+                bmsSettleAggregate.setRegistrationAmount(bmsSettleAggregate.getRegistrationAmount().add(amountOfOneItem));
+            }
+            else if (typeOfOneItem == 1){//检查
+                bmsSettleAggregate.setCheckAmount(bmsSettleAggregate.getCheckAmount().add(amountOfOneItem));
+            }
+            else if (typeOfOneItem == 2){//检验
+                bmsSettleAggregate.setTestAmount(bmsSettleAggregate.getTestAmount().add(amountOfOneItem));
+            }
+            else if (typeOfOneItem == 3){//处置
+                bmsSettleAggregate.setDispositionAmount(bmsSettleAggregate.getDispositionAmount().add(amountOfOneItem));
+            }
+            else if (typeOfOneItem == 4){//草药
+                bmsSettleAggregate.setHerbalAmount(bmsSettleAggregate.getHerbalAmount().add(amountOfOneItem));
+            }
+            else if (typeOfOneItem == 5){//成药
+                bmsSettleAggregate.setMedicineAmount(bmsSettleAggregate.getMedicineAmount().add(amountOfOneItem));
+            }
+        }
+        if (bmsInvoiceRecord.getAmount() == null){
+            return;
+        }
+        BigDecimal invoiceAmount = bmsInvoiceRecord.getAmount().multiply(sign);
+        bmsSettleAggregate.setAmount(bmsSettleAggregate.getAmount().add(invoiceAmount));//总金额
+        Long settlementCatId = bmsInvoiceRecord.getSettlementCatId();
+        if (settlementCatId == null){
+            return;
+        }
+        if (settlementCatId == 1){//现金
+            bmsSettleAggregate.setCashAmount(bmsSettleAggregate.getCashAmount().add(invoiceAmount));
+        }
+        else if (settlementCatId == 2){//银行卡
+            bmsSettleAggregate.setBankCardAmount(bmsSettleAggregate.getBankCardAmount().add(invoiceAmount));
+        }
+        else if (settlementCatId == 3){//医保
+            bmsSettleAggregate.setInsuranceAmount(bmsSettleAggregate.getInsuranceAmount().add(invoiceAmount));
+        }
+        else if (settlementCatId == 4){//信用卡
+            bmsSettleAggregate.setCreditCardAmount(bmsSettleAggregate.getCreditCardAmount().add(invoiceAmount));
+        }
+        else if (settlementCatId == 5){//支付宝
+            bmsSettleAggregate.setAlipayAmount(bmsSettleAggregate.getAlipayAmount().add(invoiceAmount));
+        }
+        else if (settlementCatId == 6){//微信
+            bmsSettleAggregate.setWechatAmount(bmsSettleAggregate.getWechatAmount().add(invoiceAmount));
+        }
+        else if (settlementCatId == 7){//其他
+            bmsSettleAggregate.setOtherAmount(bmsSettleAggregate.getOtherAmount().add(invoiceAmount));
+        }
+    }
+
+    //追加发票号：与上一张连续则延长当前号段，否则结束当前号段（与BmsSettleAggregateDao.applyDelta一致）
+    private void appendInvoiceNo(BmsSettleAggregate bmsSettleAggregate, Long invoiceNo) {
+        if (invoiceNo == null){
+            return;
+        }
+        Long lastInvoiceNo = bmsSettleAggregate.getLastInvoiceNo();
+        if (lastInvoiceNo == null){
+            bmsSettleAggregate.setRunStartNo(invoiceNo);
+        }
+        else if (invoiceNo != lastInvoiceNo + 1){
+            bmsSettleAggregate.setClosedRangeStr(appendNo(bmsSettleAggregate.getClosedRangeStr(), rangeOf(bmsSettleAggregate.getRunStartNo(), lastInvoiceNo)));
+            bmsSettleAggregate.setRunStartNo(invoiceNo);
+        }
+        bmsSettleAggregate.setLastInvoiceNo(invoiceNo);
+    }
+
+    //起始结束发票号串，如 1001-1005,1008,1010-1012
+    private String renderInvoiceRange(BmsSettleAggregate bmsSettleAggregate) {
+        String closedRangeStr = bmsSettleAggregate.getClosedRangeStr() == null ? "" : bmsSettleAggregate.getClosedRangeStr();
+        if (bmsSettleAggregate.getLastInvoiceNo() == null){
+            return closedRangeStr;
+        }
+        return appendNo(closedRangeStr, rangeOf(bmsSettleAggregate.getRunStartNo(), bmsSettleAggregate.getLastInvoiceNo()));
+    }
+
+    private String rangeOf(Long startNo, Long endNo) {
+        if (startNo == null || startNo.equals(endNo)){
+            return String.valueOf(endNo);
+        }
+        return startNo + "-" + endNo;
+    }
+
+    private String appendNo(String listStr, Object no) {
+        if (listStr == null || listStr.isEmpty()){
+            return String.valueOf(no);
+        }
+        return listStr + "," + no;
+    }
+
+    private Set<String> toNoSet(String listStr) {
+        Set<String> noSet = new HashSet<>();
+        if (listStr != null){
+            for (String no : listStr.split(",")){
+                if (!no.isEmpty()){
+                    noSet.add(no);
+                }
+            }
+        }
+        return noSet;
+    }
+
+    private void compareCount(List<String> mismatchList, String name, Long aggregateValue, Long recomputedValue) {
+        long left = aggregateValue == null ? 0 : aggregateValue;
+        long right = recomputedValue == null ? 0 : recomputedValue;
+        if (left != right){
+            mismatchList.add(name);
+        }
+    }
+
+    private void compareAmount(List<String> mismatchList, String name, BigDecimal aggregateValue, BigDecimal recomputedValue) {
+        BigDecimal left = aggregateValue == null ? BigDecimal.ZERO : aggregateValue;
+        BigDecimal right = recomputedValue == null ? BigDecimal.ZERO : recomputedValue;
+        if (left.compareTo(right) != 0){
+            mismatchList.add(name);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.neu.his.cloud.service.bms.util;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * 导出写出工具：按行写出CSV或NDJSON，每FLUSH_ROWS行刷新一次输出流
+ */
+public class ExportWriter {
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    private static final int FLUSH_ROWS = 500;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String[] columns;
+    private final Writer csvWriter;
+    private final JsonGenerator jsonGenerator;
+    private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+    private int rowCount = 0;
+
+    private ExportWriter(String format, OutputStream outputStream, String[] columns) throws IOException {
+        this.columns = columns;
+        if (FORMAT_NDJSON.equalsIgnoreCase(format)) {
+            this.csvWriter = null;
+            this.jsonGenerator = OBJECT_MAPPER.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+            this.jsonGenerator.setRootValueSeparator(null);
+        } else {
+            this.jsonGenerator = null;
+            this.csvWriter = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            //写入BOM，Excel打开时不乱码
+            this.csvWriter.write('\uFEFF');
+            writeCsvLine(columns);
+        }
+    }
+
+    /**
+     * 创建写出器，format不是ndjson时一律按csv处理（csv会先写出表头）
+     */
+    public static ExportWriter create(String format, OutputStream outputStream, String... columns) throws IOException {
+        return new ExportWriter(format, outputStream, columns);
+    }
+
+    /**
+     * 是否为NDJSON格式
+     */
+    public static boolean isNdjson(String format) {
+        return FORMAT_NDJSON.equalsIgnoreCase(format);
+    }
+
+    /**
+     * 写出一行，values与列名一一对应
+     */
+    public void writeRow(Object... values) throws IOException {
+        if (jsonGenerator != null) {
+            jsonGenerator.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                Object value = values[i];
+                if (value == null) {
+                    jsonGenerator.writeNullField(columns[i]);
+                } else if (value instanceof BigDecimal) {
+                    jsonGenerator.writeNumberField(columns[i], (BigDecimal) value);
+                } else if (value instanceof Long) {
+                    jsonGenerator.writeNumberField(columns[i], (Long) value);
+                } else if (value instanceof Integer) {
+                    jsonGenerator.writeNumberField(columns[i], (Integer) value);
+                } else {
+                    jsonGenerator.writeStringField(columns[i], format(value));
+                }
+            }
+            jsonGenerator.writeEndObject();
+            jsonGenerator.writeRaw('\n');
+        } else {
+            String[] cells = new String[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                cells[i] = values[i] == null ? "" : format(values[i]);
+            }
+            writeCsvLine(cells);
+        }
+        if (++rowCount % FLUSH_ROWS == 0) {
+            flush();
+        }
+    }
+
+    /**
+     * 写出剩余内容并刷新，不关闭底层输出流
+     */
+    public void finish() throws IOException {
+        flush();
+    }
+
+    private void flush() throws IOException {
+        if (jsonGenerator != null) {
+            jsonGenerator.flush();
+        } else {
+            csvWriter.flush();
+        }
+    }
+
+    private String format(Object value) {
+        if (value instanceof Date) {
+            return dateFormat.format((Date) value);
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        return value.toString();
+    }
+
+    private void writeCsvLine(String[] cells) throws IOException {
+        for (int i = 0; i < cells.length; i++) {
+            if (i > 0) {
+                csvWriter.write(',');
+            }
+            csvWriter.write(escapeCsv(cells[i]));
+        }
+        csvWriter.write("\r\n");
+    }
+
+    private String escapeCsv(String cell) {
+        if (cell.indexOf(',') < 0 && cell.indexOf('"') < 0 && cell.indexOf('\n') < 0 && cell.indexOf('\r') < 0) {
+            return cell;
+        }
+        return "\"" + cell.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,102 @@
+package com.neu.his.cloud.service.bms.util;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 以long为key的只读哈希表（开放寻址、线性探测），key不装箱，查找不产生对象
+ * <p>1.创建后不再修改，可在线程间直接共享；修改用with生成新表，由调用方整体替换引用
+ * <p>2.负载因子不超过0.5，value不允许为null（null表示空槽）
+ * <p>com.neu.his.cloud.service.dms.util.LongObjectMap的副本，以dms为准同步修改
+ */
+public final class LongObjectMap<V> {
+    private static final int MIN_CAPACITY = 16;
+    private static final LongObjectMap<?> EMPTY = new LongObjectMap<>(MIN_CAPACITY);
+
+    private final long[] keys;
+    private final Object[] values;
+    private final int mask;
+    private int size;
+
+    private LongObjectMap(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> LongObjectMap<V> empty() {
+        return (LongObjectMap<V>) EMPTY;
+    }
+
+    public static <V> LongObjectMap<V> of(Map<Long, V> map) {
+        LongObjectMap<V> result = new LongObjectMap<>(capacityFor(map.size()));
+        for (Map.Entry<Long, V> entry : map.entrySet()) {
+            result.putInternal(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int index = indexOf(key);
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                return (V) values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 复制出新表：先去掉removeKeys，再放入putMap，原表不变
+     */
+    @SuppressWarnings("unchecked")
+    public LongObjectMap<V> with(Map<Long, V> putMap, Collection<Long> removeKeys) {
+        LongObjectMap<V> result = new LongObjectMap<>(capacityFor(size + putMap.size()));
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null && !removeKeys.contains(keys[i]) && !putMap.containsKey(keys[i])) {
+                result.putInternal(keys[i], (V) values[i]);
+            }
+        }
+        for (Map.Entry<Long, V> entry : putMap.entrySet()) {
+            result.putInternal(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    private void putInternal(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value不能为null");
+        }
+        int index = indexOf(key);
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        size++;
+    }
+
+    private int indexOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int capacityFor(int size) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
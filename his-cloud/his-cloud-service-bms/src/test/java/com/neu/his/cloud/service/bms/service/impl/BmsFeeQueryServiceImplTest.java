@@ -0,0 +1,170 @@
+package com.neu.his.cloud.service.bms.service.impl;
+
+import com.neu.his.cloud.service.bms.component.DrugCatalogCache;
+import com.neu.his.cloud.service.bms.dto.bms.BmsDoctorPatientFeeResult;
+import com.neu.his.cloud.service.bms.dto.dms.DmsDrugView;
+import com.neu.his.cloud.service.bms.mapper.*;
+import com.neu.his.cloud.service.bms.model.*;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * BmsFeeQueryServiceImpl.listFeeByRegistrationId：查询次数固定，与处方、处方项数量无关
+ * <p>各Mapper和药品目录缓存用mock代替，统计每个mock的调用次数
+ */
+public class BmsFeeQueryServiceImplTest {
+    private static final Long REGISTRATION_ID = 1L;
+    private static final int ITEMS_PER_PRESCRIPTION = 3;
+
+    private DmsNonDrugItemRecordMapper dmsNonDrugItemRecordMapper;
+    private DmsNonDrugMapper dmsNonDrugMapper;
+    private DmsHerbalPrescriptionRecordMapper dmsHerbalPrescriptionRecordMapper;
+    private DmsHerbalItemRecordMapper dmsHerbalItemRecordMapper;
+    private DmsMedicinePrescriptionRecordMapper dmsMedicinePrescriptionRecordMapper;
+    private DmsMedicineItemRecordMapper dmsMedicineItemRecordMapper;
+    private DrugCatalogCache drugCatalogCache;
+    private BmsFeeQueryServiceImpl bmsFeeQueryService;
+
+    @Before
+    public void setUp() {
+        dmsNonDrugItemRecordMapper = mock(DmsNonDrugItemRecordMapper.class);
+        dmsNonDrugMapper = mock(DmsNonDrugMapper.class);
+        dmsHerbalPrescriptionRecordMapper = mock(DmsHerbalPrescriptionRecordMapper.class);
+        dmsHerbalItemRecordMapper = mock(DmsHerbalItemRecordMapper.class);
+        dmsMedicinePrescriptionRecordMapper = mock(DmsMedicinePrescriptionRecordMapper.class);
+        dmsMedicineItemRecordMapper = mock(DmsMedicineItemRecordMapper.class);
+        drugCatalogCache = mock(DrugCatalogCache.class);
+
+        bmsFeeQueryService = new BmsFeeQueryServiceImpl();
+        ReflectionTestUtils.setField(bmsFeeQueryService, "dmsNonDrugItemRecordMapper", dmsNonDrugItemRecordMapper);
+        ReflectionTestUtils.setField(bmsFeeQueryService, "dmsNonDrugMapper", dmsNonDrugMapper);
+        ReflectionTestUtils.setField(bmsFeeQueryService, "dmsHerbalPrescriptionRecordMapper", dmsHerbalPrescriptionRecordMapper);
+        ReflectionTestUtils.setField(bmsFeeQueryService, "dmsHerbalItemRecordMapper", dmsHerbalItemRecordMapper);
+        ReflectionTestUtils.setField(bmsFeeQueryService, "dmsMedicinePrescriptionRecordMapper", dmsMedicinePrescriptionRecordMapper);
+        ReflectionTestUtils.setField(bmsFeeQueryService, "dmsMedicineItemRecordMapper", dmsMedicineItemRecordMapper);
+        ReflectionTestUtils.setField(bmsFeeQueryService, "drugCatalogCache", drugCatalogCache);
+    }
+
+    @Test
+    public void onePrescriptionOfEachKindUsesSevenCalls() {
+        givenPrescriptions(1);
+
+        List<BmsDoctorPatientFeeResult> resultList = bmsFeeQueryService.listFeeByRegistrationId(REGISTRATION_ID);
+
+        assertEquals(1 + 2 * ITEMS_PER_PRESCRIPTION, resultList.size());
+        assertEquals(7, totalCalls());
+        verifyEachLookupOnce();
+    }
+
+    @Test
+    public void manyPrescriptionsUseTheSameNumberOfCalls() {
+        givenPrescriptions(1);
+        bmsFeeQueryService.listFeeByRegistrationId(REGISTRATION_ID);
+        int oneCalls = totalCalls();
+
+        setUp();
+        givenPrescriptions(50);
+        List<BmsDoctorPatientFeeResult> resultList = bmsFeeQueryService.listFeeByRegistrationId(REGISTRATION_ID);
+
+        assertEquals(50 + 2 * 50 * ITEMS_PER_PRESCRIPTION, resultList.size());
+        assertEquals(oneCalls, totalCalls());
+        verifyEachLookupOnce();
+    }
+
+    @Test
+    public void noPrescriptionsSkipItemAndDrugQueries() {
+        givenPrescriptions(0);
+
+        assertTrue(bmsFeeQueryService.listFeeByRegistrationId(REGISTRATION_ID).isEmpty());
+
+        verify(dmsNonDrugMapper, never()).selectByExample(any());
+        verify(dmsHerbalItemRecordMapper, never()).selectByExample(any());
+        verify(dmsMedicineItemRecordMapper, never()).selectByExample(any());
+    }
+
+    //n条非药品项目、n张草药处方、n张成药处方，每张处方ITEMS_PER_PRESCRIPTION个处方项
+    private void givenPrescriptions(int n) {
+        List<DmsNonDrugItemRecord> nonDrugItemList = new ArrayList<>();
+        List<DmsNonDrug> nonDrugList = new ArrayList<>();
+        List<DmsHerbalPrescriptionRecord> herbalList = new ArrayList<>();
+        List<DmsHerbalItemRecord> herbalItemList = new ArrayList<>();
+        List<DmsMedicinePrescriptionRecord> medicineList = new ArrayList<>();
+        List<DmsMedicineItemRecord> medicineItemList = new ArrayList<>();
+        Map<Long, DmsDrugView> drugMap = new HashMap<>();
+        for (long i = 1; i <= n; i++) {
+            DmsNonDrugItemRecord nonDrugItem = new DmsNonDrugItemRecord();
+            nonDrugItem.setId(i);
+            nonDrugItem.setNoDrugId(i);
+            nonDrugItem.setType(1);
+            nonDrugItem.setStatus(1);
+            nonDrugItemList.add(nonDrugItem);
+            DmsNonDrug nonDrug = new DmsNonDrug();
+            nonDrug.setId(i);
+            nonDrug.setName("非药品" + i);
+            nonDrug.setPrice(BigDecimal.ONE);
+            nonDrugList.add(nonDrug);
+
+            DmsHerbalPrescriptionRecord herbal = new DmsHerbalPrescriptionRecord();
+            herbal.setId(i);
+            herbal.setStatus(1);
+            herbalList.add(herbal);
+            DmsMedicinePrescriptionRecord medicine = new DmsMedicinePrescriptionRecord();
+            medicine.setId(i);
+            medicine.setStatus(2);
+            medicineList.add(medicine);
+            for (long j = 1; j <= ITEMS_PER_PRESCRIPTION; j++) {
+                long drugId = i * 100 + j;
+                DmsHerbalItemRecord herbalItem = new DmsHerbalItemRecord();
+                herbalItem.setPrescriptionId(i);
+                herbalItem.setDrugId(drugId);
+                herbalItem.setCurrentNum(j);
+                herbalItemList.add(herbalItem);
+                DmsMedicineItemRecord medicineItem = new DmsMedicineItemRecord();
+                medicineItem.setPrescriptionId(i);
+                medicineItem.setDrugId(drugId);
+                medicineItem.setCurrentNum(j);
+                medicineItemList.add(medicineItem);
+                DmsDrug drug = new DmsDrug();
+                drug.setId(drugId);
+                drug.setName("药品" + drugId);
+                drug.setPrice(BigDecimal.TEN);
+                drugMap.put(drugId, DmsDrugView.of(drug, null));
+            }
+        }
+        when(dmsNonDrugItemRecordMapper.selectByExample(any())).thenReturn(nonDrugItemList);
+        when(dmsNonDrugMapper.selectByExample(any())).thenReturn(nonDrugList);
+        when(dmsHerbalPrescriptionRecordMapper.selectByExample(any())).thenReturn(herbalList);
+        when(dmsHerbalItemRecordMapper.selectByExample(any())).thenReturn(herbalItemList);
+        when(dmsMedicinePrescriptionRecordMapper.selectByExample(any())).thenReturn(medicineList);
+        when(dmsMedicineItemRecordMapper.selectByExample(any())).thenReturn(medicineItemList);
+        when(drugCatalogCache.getAll(anyCollection())).thenReturn(drugMap);
+    }
+
+    private void verifyEachLookupOnce() {
+        verify(dmsNonDrugItemRecordMapper, times(1)).selectByExample(any());
+        verify(dmsNonDrugMapper, times(1)).selectByExample(any());
+        verify(dmsHerbalPrescriptionRecordMapper, times(1)).selectByExample(any());
+        verify(dmsHerbalItemRecordMapper, times(1)).selectByExample(any());
+        verify(dmsMedicinePrescriptionRecordMapper, times(1)).selectByExample(any());
+        verify(dmsMedicineItemRecordMapper, times(1)).selectByExample(any());
+        verify(drugCatalogCache, times(1)).getAll(anyCollection());
+    }
+
+    //所有mock上的调用次数，stub时的调用Mockito不计入
+    private int totalCalls() {
+        int count = 0;
+        for (Object mock : Arrays.asList(dmsNonDrugItemRecordMapper, dmsNonDrugMapper, dmsHerbalPrescriptionRecordMapper,
+                dmsHerbalItemRecordMapper, dmsMedicinePrescriptionRecordMapper, dmsMedicineItemRecordMapper, drugCatalogCache)) {
+            count += mockingDetails(mock).getInvocations().size();
+        }
+        return count;
+    }
+}
@@ -7,10 +7,12 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.netflix.eureka.EnableEurekaClient;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = "com.neu.his.cloud.service.dms")
 @EnableEurekaClient
 @MapperScan("com.neu.his.cloud.service.dms.mapper")
+@EnableScheduling
 
 public class ServiceDmsApplication {
     public static void main(String[] args) {
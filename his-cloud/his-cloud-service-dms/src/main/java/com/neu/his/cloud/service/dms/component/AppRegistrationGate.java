@@ -0,0 +1,203 @@
+package com.neu.his.cloud.service.dms.component;
+
+import com.neu.his.cloud.service.dms.dto.app.AppRegistrationParam;
+import com.neu.his.cloud.service.dms.mapper.SmsSkdMapper;
+import com.neu.his.cloud.service.dms.model.SmsSkd;
+import com.neu.his.cloud.service.dms.service.DmsRegistrationService;
+import com.neu.his.cloud.service.dms.util.DateUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Date;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * APP挂号入口的准入控制
+ * <p>1.每个排班在内存中维护一份剩余号源令牌（从sms_skd.remain加载），令牌用完直接拒绝，不再访问数据库
+ * <p>2.拿到令牌的请求按先后顺序排队，由少量工作线程执行挂号，限制同时落到sms_skd同一行上的条件更新数
+ * <p>3.队列已满时返回繁忙；等待超时返回处理中，超时的挂号仍在执行，可能成功，令牌由执行线程处理
+ * <p>  挂号对同一病人同一排班幂等，处理中的请求被重试时不会重复占用号源
+ * <p>4.挂号失败时以数据库剩余号源减去仍在执行的请求数重置令牌；排班日期已过的令牌每天清理
+ */
+@Component
+public class AppRegistrationGate {
+    private static Logger LOGGER = LoggerFactory.getLogger(AppRegistrationGate.class);
+
+    public static final int RESULT_SUCCESS = 1;
+    public static final int RESULT_FAILED = 0;
+    public static final int RESULT_SOLD_OUT = -1;
+    public static final int RESULT_BUSY = -2;
+    public static final int RESULT_PENDING = -3;
+
+    private static final int WORKER_NUM = 4;
+    private static final int QUEUE_CAPACITY = 500;
+    //令牌为0后，超过该时间再从数据库核对一次（窗口退号会归还号源）
+    private static final long SOLD_OUT_RECHECK_MILLIS = 5000;
+    //等待挂号结果的最长时间
+    private static final long REGISTER_TIMEOUT_MILLIS = 10000;
+
+    @Autowired
+    private DmsRegistrationService dmsRegistrationService;
+    @Autowired
+    private SmsSkdMapper smsSkdMapper;
+
+    private final ConcurrentHashMap<Long, SkdTokens> tokensMap = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(WORKER_NUM, WORKER_NUM, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY), new ThreadPoolExecutor.AbortPolicy());
+
+    /**
+     * 排队执行APP挂号，返回RESULT_*之一
+     */
+    public int register(AppRegistrationParam appRegistrationParam) {
+        Long skdId = appRegistrationParam.getSkdId();
+        if (skdId == null) {
+            return RESULT_FAILED;
+        }
+        SkdTokens tokens = tokensMap.computeIfAbsent(skdId, this::load);
+        if (tokens == null) {//排班不存在
+            return RESULT_FAILED;
+        }
+        if (!tokens.acquire()) {
+            return RESULT_SOLD_OUT;
+        }
+
+        Future<Integer> future;
+        tokens.start();
+        try {
+            future = executor.submit(() -> execute(tokens, appRegistrationParam));
+        } catch (RejectedExecutionException e) {
+            tokens.finish();
+            tokens.release();
+            return RESULT_BUSY;
+        }
+        try {
+            return future.get(REGISTER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS) > 0 ? RESULT_SUCCESS : RESULT_FAILED;
+        } catch (TimeoutException e) {
+            //挂号仍在执行，结果未知，不能告诉调用方失败
+            LOGGER.warn("APP挂号等待超时 skdId:{}", skdId);
+            return RESULT_PENDING;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return RESULT_PENDING;
+        } catch (ExecutionException e) {
+            LOGGER.warn("APP挂号失败 skdId:{}", skdId, e.getCause());
+            return RESULT_FAILED;
+        }
+    }
+
+    /**
+     * 清理排班日期已过的令牌，每天凌晨执行一次
+     */
+    @Scheduled(cron = "${app-registration.evict-cron:0 5 0 * * ?}")
+    public void evictExpired() {
+        Date today = DateUtil.getDate(DateUtil.setMilliSecond(new Date(), 0));
+        tokensMap.values().removeIf(tokens -> tokens.isExpired(today));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    //在工作线程中执行挂号，调用方等待超时后仍会执行完并处理令牌
+    private int execute(SkdTokens tokens, AppRegistrationParam appRegistrationParam) {
+        int count = 0;
+        try {
+            count = dmsRegistrationService.appRegistration(appRegistrationParam);
+        } finally {
+            tokens.finish();
+            if (count <= 0) {
+                //挂号失败（已约满、病人不存在或异常），以数据库中的剩余号源为准
+                tokens.resync();
+            }
+        }
+        return count;
+    }
+
+    private SkdTokens load(Long skdId) {
+        SmsSkd smsSkd = smsSkdMapper.selectByPrimaryKey(skdId);
+        if (smsSkd == null) {
+            return null;
+        }
+        return new SkdTokens(skdId, smsSkd.getDate(), smsSkd.getRemain() == null ? 0 : smsSkd.getRemain());
+    }
+
+    private long remainOf(Long skdId) {
+        SmsSkd smsSkd = smsSkdMapper.selectByPrimaryKey(skdId);
+        return smsSkd == null || smsSkd.getRemain() == null ? 0 : smsSkd.getRemain();
+    }
+
+    /**
+     * 单个排班的剩余号源令牌
+     */
+    private class SkdTokens {
+        private final Long skdId;
+        private final Date date;
+        private final AtomicLong remain;
+        //已拿到令牌、挂号尚未执行完的请求数，这些号源在数据库中还未扣减
+        private final AtomicLong inFlight = new AtomicLong();
+        private volatile long loadTime;
+
+        SkdTokens(Long skdId, Date date, long remain) {
+            this.skdId = skdId;
+            this.date = date;
+            this.remain = new AtomicLong(remain);
+            this.loadTime = System.currentTimeMillis();
+        }
+
+        boolean acquire() {
+            if (tryAcquire()) {
+                return true;
+            }
+            //令牌已用完且较久未核对，重新从数据库读取一次
+            if (System.currentTimeMillis() - loadTime > SOLD_OUT_RECHECK_MILLIS) {
+                resync();
+                return tryAcquire();
+            }
+            return false;
+        }
+
+        void release() {
+            remain.incrementAndGet();
+        }
+
+        void start() {
+            inFlight.incrementAndGet();
+        }
+
+        void finish() {
+            inFlight.decrementAndGet();
+        }
+
+        /**
+         * 以数据库剩余号源为准重置令牌，扣除仍在执行的请求已占用的令牌
+         * <p>先读执行中数量再查库：期间完成的请求会被多扣一次，只会少放号，下次核对时恢复
+         */
+        void resync() {
+            long running = inFlight.get();
+            remain.set(Math.max(0, remainOf(skdId) - running));
+            loadTime = System.currentTimeMillis();
+        }
+
+        boolean isExpired(Date today) {
+            return date != null && date.before(today);
+        }
+
+        private boolean tryAcquire() {
+            while (true) {
+                long current = remain.get();
+                if (current <= 0) {
+                    return false;
+                }
+                if (remain.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.neu.his.cloud.service.dms.component;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neu.his.cloud.service.dms.util.DraftCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 医生工作站暂存（病历首页、药方、非药品项目）
+ * <p>1.key为draft:{挂号id}:{种类}，不同种类不会互相覆盖
+ * <p>2.value由DraftCodec编码（JSON + 压缩），不依赖JDK序列化
+ * <p>3.写入与过期时间在同一条SET命令中完成
+ */
+@Component
+public class DraftStore {
+    private static Logger LOGGER = LoggerFactory.getLogger(DraftStore.class);
+
+    public static final String KIND_CASE_PAGE = "casePage";
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper;
+    private final DraftCodec draftCodec;
+
+    public DraftStore(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.draftCodec = new DraftCodec(objectMapper);
+    }
+
+    /**
+     * 药方种类（4草药、5成药）
+     */
+    public static String drugKind(int type) {
+        return "drug:" + type;
+    }
+
+    /**
+     * 非药品项目种类（0检查、1检验、2处置）
+     */
+    public static String nonDrugKind(int type) {
+        return "nonDrug:" + type;
+    }
+
+    public static String keyOf(Long registrationId, String kind) {
+        return "draft:" + registrationId + ":" + kind;
+    }
+
+    /**
+     * 暂存，expireSeconds秒后过期
+     */
+    public void save(Long registrationId, String kind, Object value, long expireSeconds) {
+        final byte[] key = keyOf(registrationId, kind).getBytes(StandardCharsets.UTF_8);
+        final byte[] data;
+        try {
+            data = draftCodec.encode(value);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("暂存数据无法编码", e);
+        }
+        stringRedisTemplate.execute((RedisCallback<Boolean>) connection -> connection.set(key, data,
+                Expiration.from(expireSeconds, TimeUnit.SECONDS), RedisStringCommands.SetOption.UPSERT));
+    }
+
+    /**
+     * 取出暂存，不存在、已过期或无法解码时返回null
+     */
+    public <T> T get(Long registrationId, String kind, Class<T> type) {
+        return get(registrationId, kind, typeOf(type));
+    }
+
+    public <T> T get(Long registrationId, String kind, JavaType type) {
+        final byte[] key = keyOf(registrationId, kind).getBytes(StandardCharsets.UTF_8);
+        byte[] data = stringRedisTemplate.execute((RedisCallback<byte[]>) connection -> connection.get(key));
+        return decode(data, type, registrationId, kind);
+    }
+
+    /**
+     * 一次MGET取出同一挂号的多种暂存，返回值与kindList一一对应，不存在的为null
+     */
+    public List<byte[]> getRawAll(Long registrationId, List<String> kindList) {
+        final byte[][] keys = new byte[kindList.size()][];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keyOf(registrationId, kindList.get(i)).getBytes(StandardCharsets.UTF_8);
+        }
+        return stringRedisTemplate.execute((RedisCallback<List<byte[]>>) connection -> connection.mGet(keys));
+    }
+
+    /**
+     * 解码getRawAll取出的暂存，无法解码时返回null
+     */
+    public <T> T decode(byte[] data, JavaType type) {
+        try {
+            return draftCodec.decode(data, type);
+        } catch (IOException e) {
+            LOGGER.warn("暂存数据解码失败", e);
+            return null;
+        }
+    }
+
+    public JavaType typeOf(Class<?> type) {
+        return objectMapper.getTypeFactory().constructType(type);
+    }
+
+    public JavaType listType(Class<?> elementType) {
+        return objectMapper.getTypeFactory().constructCollectionType(List.class, elementType);
+    }
+
+    private <T> T decode(byte[] data, JavaType type, Long registrationId, String kind) {
+        try {
+            return draftCodec.decode(data, type);
+        } catch (IOException e) {
+            LOGGER.warn("暂存数据解码失败 registrationId:{} kind:{}", registrationId, kind, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.neu.his.cloud.service.dms.component;
+
+import com.neu.his.cloud.service.dms.dto.dms.DmsDrugStockResult;
+import com.neu.his.cloud.service.dms.mapper.DmsDrugStockDao;
+import com.neu.his.cloud.service.dms.model.DmsDrugStockTxn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 药品可用库存（stock-reserved）的内存缓存，医生开立时查看库存不查询dms_drug
+ * <p>1.启动时及每隔reload-ms全量加载，与当时最大的流水id在同一快照中读取
+ * <p>2.每隔poll-ms按id顺序读取新的dms_drug_stock_txn，把stock_delta-reserved_delta累加到对应药品，
+ * 其他实例、其他服务写入的流水同样生效
+ * <p>3.流水id不一定按提交顺序可见：遇到空缺的id时后面的流水照常累加并记下，空缺最多等待GAP_WAIT_MILLIS，
+ * 超时视为回滚留下的空号；极少数更晚提交的由下一次全量加载校正
+ * <p>读取只访问ConcurrentHashMap（按桶加锁，读不加锁），写入只有刷新线程
+ */
+@Component
+public class DrugStockCache {
+    private static Logger LOGGER = LoggerFactory.getLogger(DrugStockCache.class);
+
+    private static final int POLL_PAGE_SIZE = 1000;
+    private static final long GAP_WAIT_MILLIS = 10 * 1000;
+
+    @Autowired
+    private DmsDrugStockDao dmsDrugStockDao;
+
+    private final TransactionTemplate snapshotTemplate;
+    private volatile ConcurrentHashMap<Long, Long> availableMap = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    //以下只在持有this锁时访问：safeTxnId及之前的流水均已处理，appliedTxnIds为safeTxnId之后已处理的流水
+    private long safeTxnId;
+    private final Set<Long> appliedTxnIds = new HashSet<>();
+    private long gapSince;
+
+    public DrugStockCache(PlatformTransactionManager transactionManager) {
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setReadOnly(true);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reload();
+    }
+
+    /**
+     * 查询可用库存，缓存中没有的（新增的药品）从数据库加载；返回药品id->可用库存
+     */
+    public Map<Long, Long> listAvailable(List<Long> drugIds) {
+        Map<Long, Long> resultMap = new LinkedHashMap<>();
+        List<Long> missIdList = new ArrayList<>();
+        ConcurrentHashMap<Long, Long> currentMap = availableMap;
+        for (Long drugId : drugIds) {
+            Long available = currentMap.get(drugId);
+            if (available != null) {
+                resultMap.put(drugId, available);
+            } else {
+                missIdList.add(drugId);
+            }
+        }
+        if (!missIdList.isEmpty()) {
+            for (DmsDrugStockResult stock : dmsDrugStockDao.listStock(missIdList)) {
+                currentMap.putIfAbsent(stock.getDrugId(), stock.getAvailable());
+                resultMap.put(stock.getDrugId(), stock.getAvailable());
+            }
+        }
+        return resultMap;
+    }
+
+    /**
+     * 直接修改了dms_drug.stock（药品维护）后重新加载该药品
+     */
+    public void refresh(Long drugId) {
+        List<DmsDrugStockResult> stockList = dmsDrugStockDao.listStock(Collections.singletonList(drugId));
+        if (stockList.isEmpty()) {
+            availableMap.remove(drugId);
+        } else {
+            availableMap.put(drugId, stockList.get(0).getAvailable());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${drug-stock.reload-ms:300000}", fixedDelayString = "${drug-stock.reload-ms:300000}")
+    public synchronized void reload() {
+        Snapshot snapshot = snapshotTemplate.execute(status -> {
+            long maxTxnId = dmsDrugStockDao.maxTxnId();
+            return new Snapshot(maxTxnId, dmsDrugStockDao.listStock(null));
+        });
+        ConcurrentHashMap<Long, Long> newMap = new ConcurrentHashMap<>(snapshot.stockList.size() * 2);
+        for (DmsDrugStockResult stock : snapshot.stockList) {
+            newMap.put(stock.getDrugId(), stock.getAvailable());
+        }
+        availableMap = newMap;
+        safeTxnId = snapshot.maxTxnId;
+        appliedTxnIds.clear();
+        gapSince = 0;
+        loaded = true;
+        LOGGER.debug("加载药品可用库存{}种，流水id:{}", newMap.size(), safeTxnId);
+    }
+
+    @Scheduled(fixedDelayString = "${drug-stock.poll-ms:500}")
+    public synchronized void poll() {
+        if (!loaded) {
+            return;
+        }
+        long lastId = safeTxnId;
+        while (true) {
+            List<DmsDrugStockTxn> txnList = dmsDrugStockDao.listTxnAfter(lastId, POLL_PAGE_SIZE);
+            for (DmsDrugStockTxn txn : txnList) {
+                //不在缓存中的药品查询时从数据库加载，已包含这条流水
+                if (appliedTxnIds.add(txn.getId())) {
+                    long delta = txn.getStockDelta() - txn.getReservedDelta();
+                    availableMap.computeIfPresent(txn.getDrugId(), (drugId, available) -> available + delta);
+                }
+            }
+            if (txnList.size() < POLL_PAGE_SIZE) {
+                break;
+            }
+            lastId = txnList.get(txnList.size() - 1).getId();
+        }
+        advanceSafeTxnId();
+    }
+
+    private void advanceSafeTxnId() {
+        while (!appliedTxnIds.isEmpty()) {
+            if (appliedTxnIds.remove(safeTxnId + 1)) {
+                safeTxnId++;
+                gapSince = 0;
+                continue;
+            }
+            long now = System.currentTimeMillis();
+            if (gapSince == 0) {
+                gapSince = now;
+                return;
+            }
+            if (now - gapSince < GAP_WAIT_MILLIS) {
+                return;
+            }
+            //空缺等待超时，跳到下一条已处理的流水之前
+            safeTxnId = Collections.min(appliedTxnIds) - 1;
+            gapSince = 0;
+        }
+    }
+
+    private static class Snapshot {
+        private final long maxTxnId;
+        private final List<DmsDrugStockResult> stockList;
+
+        Snapshot(long maxTxnId, List<DmsDrugStockResult> stockList) {
+            this.maxTxnId = maxTxnId;
+            this.stockList = stockList;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.neu.his.cloud.service.dms.component;
+
+import com.neu.his.cloud.service.dms.mapper.DmsDrugStockDao;
+import com.neu.his.cloud.service.dms.model.DmsDrugStockTxn;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 药品库存台账，调用方须在自己的事务中调用，库存修改与流水同时提交或回滚
+ * <p>1.开立：按药品汇总后reserved+数量，可用库存（stock-reserved）不足时失败
+ * <p>2.作废、超时未缴费：释放未发药处方项的预留
+ * <p>3.发药：stock、reserved同时减去未发药处方项的数量，任一药品库存不足时失败
+ * <p>4.退药：stock+退药数量
+ * <p>每次修改都写一条dms_drug_stock_txn，DrugStockCache据此增量刷新
+ */
+@Component
+public class DrugStockLedger {
+    //流水类型：1开立预留 2作废/过期释放 3发药 4退药
+    public static final int TXN_RESERVE = 1;
+    public static final int TXN_RELEASE = 2;
+    public static final int TXN_DISPENSE = 3;
+    public static final int TXN_RETURN = 4;
+
+    @Autowired
+    private DmsDrugStockDao dmsDrugStockDao;
+
+    /**
+     * 开立处方时预留库存，drugNumMap为药品id->数量；返回false时已预留的部分需由调用方回滚事务
+     * <p>按药品id顺序加锁，同时开立含相同药品的处方不会死锁
+     */
+    public boolean reserve(int itemType, Long prescriptionId, Map<Long, Long> drugNumMap) {
+        List<DmsDrugStockTxn> txnList = new ArrayList<>(drugNumMap.size());
+        Date now = new Date();
+        for (Map.Entry<Long, Long> entry : new TreeMap<>(drugNumMap).entrySet()) {
+            Long num = entry.getValue();
+            if (num == null || num <= 0) {
+                continue;
+            }
+            if (dmsDrugStockDao.reserve(entry.getKey(), num) <= 0) {
+                return false;
+            }
+            txnList.add(createTxn(entry.getKey(), 0L, num, TXN_RESERVE, itemType, prescriptionId, null, now));
+        }
+        if (!txnList.isEmpty()) {
+            dmsDrugStockDao.insertTxnList(txnList);
+        }
+        return true;
+    }
+
+    /**
+     * 作废、超时未缴费时释放处方中未发药处方项的预留，须在处方项状态修改之前调用
+     */
+    public int release(List<Long> prescriptionIds, int itemType) {
+        return post(prescriptionIds, itemType, 0, -1, TXN_RELEASE);
+    }
+
+    /**
+     * 发药时扣减库存并释放预留，须在处方项状态修改之前调用
+     * <p>返回false表示有药品库存不足，其余药品可能已扣减，需由调用方回滚事务（或回滚到保存点）
+     */
+    public boolean dispense(List<Long> prescriptionIds, int itemType) {
+        if (prescriptionIds == null || prescriptionIds.isEmpty()) {
+            return true;
+        }
+        int drugCount = dmsDrugStockDao.countDrugByPrescription(prescriptionIds, itemType);
+        if (dmsDrugStockDao.updateByPrescription(prescriptionIds, itemType, -1, -1) < drugCount) {
+            return false;
+        }
+        dmsDrugStockDao.insertTxnByPrescription(prescriptionIds, itemType, -1, -1, TXN_DISPENSE);
+        return true;
+    }
+
+    /**
+     * 退药，库存加回
+     */
+    public int returnStock(int itemType, Long prescriptionId, Long itemId, Long drugId, Long num) {
+        int count = dmsDrugStockDao.addStock(drugId, num);
+        if (count > 0) {
+            dmsDrugStockDao.insertTxnList(Collections.singletonList(
+                    createTxn(drugId, num, 0L, TXN_RETURN, itemType, prescriptionId, itemId, new Date())));
+        }
+        return count;
+    }
+
+    private int post(List<Long> prescriptionIds, int itemType, int stockSign, int reservedSign, int txnType) {
+        if (prescriptionIds == null || prescriptionIds.isEmpty()) {
+            return 0;
+        }
+        dmsDrugStockDao.insertTxnByPrescription(prescriptionIds, itemType, stockSign, reservedSign, txnType);
+        return dmsDrugStockDao.updateByPrescription(prescriptionIds, itemType, stockSign, reservedSign);
+    }
+
+    private static DmsDrugStockTxn createTxn(Long drugId, Long stockDelta, Long reservedDelta, int type, int itemType,
+                                             Long prescriptionId, Long itemId, Date createTime) {
+        DmsDrugStockTxn txn = new DmsDrugStockTxn();
+        txn.setDrugId(drugId);
+        txn.setStockDelta(stockDelta);
+        txn.setReservedDelta(reservedDelta);
+        txn.setType(type);
+        txn.setItemType(itemType);
+        txn.setPrescriptionId(prescriptionId);
+        txn.setItemId(itemId);
+        txn.setCreateTime(createTime);
+        return txn;
+    }
+}
@@ -0,0 +1,178 @@
+package com.neu.his.cloud.service.dms.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neu.his.cloud.service.dms.domain.OrderCancelMessage;
+import com.neu.his.cloud.service.dms.domain.QueueEnum;
+import com.neu.his.cloud.service.dms.mapper.DmsPrescriptionExpiryDao;
+import com.neu.his.cloud.service.dms.model.DmsPrescriptionExpiry;
+import com.neu.his.cloud.service.dms.util.HashedTimingWheel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 处方（项目）超时未缴费作废，替代RabbitMQ逐条消息TTL（队头消息未过期时后面的消息无法过期）
+ * <p>1.开立时在开立事务中写入dms_prescription_expiry，与处方同时提交或回滚，服务重启不丢；
+ * 到期时间在horizon以内的在事务提交后放入时间轮
+ * <p>2.启动时及每隔一段时间把horizon以内到期、尚未在时间轮中的记录加载进时间轮，停机期间已到期的会立即处理；
+ * 时间轮只保存近期到期的任务，待处理任务再多内存也有上限
+ * <p>3.到期后立即向his.order.cancel发送OrderCancelMessage（不设TTL），由RabbitMQOrderReceiver批量作废并删除记录
+ * <p>4.缴费时收费服务在同一事务中删除记录，已缴费的不会再加载，已在时间轮中的到期时也因状态不是未缴费而不作废
+ */
+@Component
+public class PrescriptionExpiryScheduler {
+    private static Logger LOGGER = LoggerFactory.getLogger(PrescriptionExpiryScheduler.class);
+
+    //类型：1检查\检验\处置 4草药 5成药
+    public static final int TYPE_NON_DRUG = 1;
+    public static final int TYPE_HERBAL = 4;
+    public static final int TYPE_MEDICINE = 5;
+
+    private static final long TICK_MS = 1000;
+    private static final int WHEEL_SIZE = 1024;
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    @Autowired
+    private DmsPrescriptionExpiryDao dmsPrescriptionExpiryDao;
+    @Autowired
+    private AmqpTemplate amqpTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final long delayMs;
+    private final long horizonMs;
+    private final HashedTimingWheel<DmsPrescriptionExpiry> wheel;
+    //发送消息不占用时间轮的工作线程
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    public PrescriptionExpiryScheduler(@Value("${prescription-expiry.delay-ms:43200000}") long delayMs,
+                                       @Value("${prescription-expiry.horizon-ms:600000}") long horizonMs,
+                                       @Value("${prescription-expiry.max-pending:200000}") int maxPending) {
+        if (horizonMs >= TICK_MS * WHEEL_SIZE) {
+            throw new IllegalArgumentException("prescription-expiry.horizon-ms必须小于" + TICK_MS * WHEEL_SIZE);
+        }
+        this.delayMs = delayMs;
+        this.horizonMs = horizonMs;
+        this.wheel = new HashedTimingWheel<>("prescription-expiry", TICK_MS, WHEEL_SIZE, maxPending,
+                expiry -> executor.execute(() -> handle(expiry)));
+    }
+
+    /**
+     * 开立时登记超时作废，须在开立事务中调用
+     */
+    public void schedule(Long itemId, int type) {
+        scheduleAll(Collections.singletonList(itemId), type);
+    }
+
+    /**
+     * 批量登记超时作废（同一类型），须在开立事务中调用
+     */
+    public void scheduleAll(List<Long> itemIdList, int type) {
+        if (itemIdList == null || itemIdList.isEmpty()) {
+            return;
+        }
+        Date expireTime = new Date(System.currentTimeMillis() + delayMs);
+        dmsPrescriptionExpiryDao.insertAll(itemIdList, type, expireTime);
+        if (delayMs > horizonMs) {//由定时加载放入时间轮
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            //事务提交后再放入时间轮，回滚的处方不会到期作废；提交后放入失败的由定时加载补上
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    scheduleInWheel(itemIdList, type, expireTime);
+                }
+            });
+        } else {
+            scheduleInWheel(itemIdList, type, expireTime);
+        }
+    }
+
+    private void scheduleInWheel(List<Long> itemIdList, int type, Date expireTime) {
+        for (Long itemId : itemIdList) {
+            DmsPrescriptionExpiry expiry = new DmsPrescriptionExpiry();
+            expiry.setItemId(itemId);
+            expiry.setType(type);
+            expiry.setExpireTime(expireTime);
+            wheel.schedule(keyOf(itemId, type), expiry, expireTime.getTime());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        wheel.start();
+        load();
+    }
+
+    /**
+     * 把horizon以内到期的记录加载进时间轮，已在时间轮中的跳过，时间轮已满时等下次加载
+     */
+    @Scheduled(initialDelayString = "${prescription-expiry.load-interval-ms:60000}",
+            fixedDelayString = "${prescription-expiry.load-interval-ms:60000}")
+    public synchronized void load() {
+        Date until = new Date(System.currentTimeMillis() + horizonMs);
+        Date lastExpireTime = null;
+        Long lastId = null;
+        int loadCount = 0;
+        while (!wheel.isFull()) {
+            List<DmsPrescriptionExpiry> expiryList = dmsPrescriptionExpiryDao.listDue(until, lastExpireTime, lastId, LOAD_PAGE_SIZE);
+            for (DmsPrescriptionExpiry expiry : expiryList) {
+                if (wheel.schedule(keyOf(expiry.getItemId(), expiry.getType()), expiry, expiry.getExpireTime().getTime())) {
+                    loadCount++;
+                }
+            }
+            if (expiryList.size() < LOAD_PAGE_SIZE) {
+                break;
+            }
+            DmsPrescriptionExpiry last = expiryList.get(expiryList.size() - 1);
+            lastExpireTime = last.getExpireTime();
+            lastId = last.getId();
+        }
+        if (loadCount > 0) {
+            LOGGER.info("加载处方超时任务{}条，时间轮中共{}条", loadCount, wheel.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.stop();
+        executor.shutdown();
+    }
+
+    private void handle(DmsPrescriptionExpiry expiry) {
+        OrderCancelMessage message = new OrderCancelMessage(expiry.getItemId(), expiry.getType());
+        try {
+            amqpTemplate.send(QueueEnum.QUEUE_ORDER_CANCEL.getExchange(), QueueEnum.QUEUE_ORDER_CANCEL.getRouteKey(),
+                    MessageBuilder.withBody(objectMapper.writeValueAsBytes(message))
+                            .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                            .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                            .build());
+        } catch (Exception e) {
+            //记录仍在，下次加载时重试
+            LOGGER.warn("处方超时消息发送失败 message:{}", message, e);
+        }
+    }
+
+    private static String keyOf(Long itemId, int type) {
+        return itemId + "&" + type;
+    }
+}
@@ -1,40 +1,268 @@
 package com.neu.his.cloud.service.dms.component;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neu.his.cloud.service.dms.domain.OrderCancelMessage;
+import com.neu.his.cloud.service.dms.domain.QueueEnum;
 import com.neu.his.cloud.service.dms.service.DmsFeeRabbitMQService;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.DefaultConsumer;
+import com.rabbitmq.client.Envelope;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.amqp.rabbit.annotation.RabbitHandler;
-import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.connection.AbstractConnectionFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 处方（项目）超时作废消息的批量消费
+ * <p>1.攒够batch-size条或等待wait-ms后作为一批，按类型分组，每类一条UPDATE ... WHERE id IN (...) AND status=1
+ * <p>2.整批处理成功后一次ack（multiple），失败则整批重新入队
+ * <p>3.通过actuator暴露指标：his.order.cancel.consumed（已消费条数）、his.order.cancel.batch（每批耗时）、
+ * his.order.cancel.backlog（队列中未投递的条数）
+ * <p>消息为JSON格式的OrderCancelMessage，兼容升级前队列中残留的"id&类型"字符串
+ * <p>使用独立的物理连接消费（不经过CachingConnectionFactory的channel缓存），出错时关闭连接，
+ * broker把该连接上所有未ack的消息（包括已预取还未处理的）重新入队
+ */
 @Component
-@RabbitListener(queues = "his.order.cancel")
 public class RabbitMQOrderReceiver {
     private static Logger LOGGER = LoggerFactory.getLogger(RabbitMQOrderReceiver.class);
 
+    //失败或断线后重试间隔
+    private static final long RETRY_MILLIS = 1000;
+    //队列积压数最多每隔多久查询一次
+    private static final long BACKLOG_REFRESH_MILLIS = 1000;
+
     @Autowired
     private DmsFeeRabbitMQService dmsFeeRabbitMQService;
+    @Autowired
+    private ConnectionFactory connectionFactory;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final int batchSize;
+    private final long waitMs;
+    private final LinkedBlockingQueue<Delivery> deliveryQueue = new LinkedBlockingQueue<>();
+    private final Thread workerThread;
+    private final Counter consumedCounter;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+    private volatile long backlog;
+    private long backlogRefreshTime;
+    private Connection connection;
+    private Channel channel;
 
-    @RabbitHandler
-    public void handle(String msg){
-        LOGGER.info("receive order message msg:{}",msg);
-        String[] temp = msg.split("&");
-        if(temp.length != 2){
-            LOGGER.warn("处方单超时处理失败： msg:{}",msg);
+    public RabbitMQOrderReceiver(@Value("${prescription-expiry.consumer.batch-size:500}") int batchSize,
+                                 @Value("${prescription-expiry.consumer.wait-ms:200}") long waitMs,
+                                 MeterRegistry meterRegistry) {
+        this.batchSize = batchSize;
+        this.waitMs = waitMs;
+        this.workerThread = new Thread(this::run, "order-cancel-consumer");
+        this.workerThread.setDaemon(true);
+        this.consumedCounter = meterRegistry.counter("his.order.cancel.consumed");
+        this.batchTimer = meterRegistry.timer("his.order.cancel.batch");
+        Gauge.builder("his.order.cancel.backlog", this, receiver -> receiver.backlog).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
             return;
         }
-        Long id = new Long(temp[0]);
-        int type = Integer.parseInt(temp[1]);
-        int handleCount = 0;
-        if(type == 4){
-            handleCount = dmsFeeRabbitMQService.herbalOutOfTime(id);
-        }else if(type == 5){
-            handleCount = dmsFeeRabbitMQService.medicineOutOfTime(id);
-        }else{
-            handleCount = dmsFeeRabbitMQService.nonDrugOutOfTime(id);
+        running = true;
+        workerThread.start();
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        running = false;
+        workerThread.interrupt();
+        closeChannel();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                Channel current = ensureChannel();
+                List<Delivery> batch = nextBatch(current);
+                if (batch.isEmpty()) {
+                    refreshBacklog(current);
+                    continue;
+                }
+                handle(current, batch);
+                refreshBacklog(current);
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                LOGGER.warn("处方超时消息消费失败，{}ms后重试", RETRY_MILLIS, e);
+                closeChannel();
+                sleepQuietly();
+            }
+        }
+    }
+
+    /**
+     * 等待第一条消息最多wait-ms，之后在wait-ms内尽量攒满batch-size条
+     */
+    private List<Delivery> nextBatch(Channel current) throws InterruptedException {
+        List<Delivery> batch = new ArrayList<>(batchSize);
+        Delivery first = deliveryQueue.poll(waitMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        long deadline = System.currentTimeMillis() + waitMs;
+        Delivery delivery = first;
+        while (delivery != null) {
+            //断线重连后旧channel的投递由broker重新投递，这里丢弃
+            if (delivery.channel == current) {
+                batch.add(delivery);
+            }
+            if (batch.size() >= batchSize) {
+                break;
+            }
+            long remain = deadline - System.currentTimeMillis();
+            delivery = remain > 0 ? deliveryQueue.poll(remain, TimeUnit.MILLISECONDS) : deliveryQueue.poll();
+        }
+        return batch;
+    }
+
+    private void handle(Channel current, List<Delivery> batch) throws IOException {
+        Map<Integer, List<Long>> itemIdMap = new HashMap<>();
+        for (Delivery delivery : batch) {
+            OrderCancelMessage message = parse(delivery.body);
+            if (message == null || message.getItemId() == null || message.getType() == null) {
+                LOGGER.warn("处方超时消息格式错误，丢弃 msg:{}", new String(delivery.body, StandardCharsets.UTF_8));
+                continue;
+            }
+            itemIdMap.computeIfAbsent(message.getType(), type -> new ArrayList<>()).add(message.getItemId());
+        }
+        long lastTag = batch.get(batch.size() - 1).deliveryTag;
+        long start = System.nanoTime();
+        try {
+            int handleCount = itemIdMap.isEmpty() ? 0 : dmsFeeRabbitMQService.outOfTime(itemIdMap);
+            current.basicAck(lastTag, true);
+            LOGGER.debug("处方超时批量处理 消息数:{} 作废数:{}", batch.size(), handleCount);
+        } catch (RuntimeException e) {
+            current.basicNack(lastTag, true, true);
+            throw e;
+        } finally {
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        consumedCounter.increment(batch.size());
+    }
+
+    private OrderCancelMessage parse(byte[] body) {
+        String msg = new String(body, StandardCharsets.UTF_8).trim();
+        try {
+            if (msg.startsWith("{")) {
+                return objectMapper.readValue(body, OrderCancelMessage.class);
+            }
+            String[] temp = msg.split("&");
+            if (temp.length == 2) {
+                return new OrderCancelMessage(Long.valueOf(temp[0]), Integer.valueOf(temp[1]));
+            }
+        } catch (IOException | NumberFormatException e) {
+            LOGGER.debug("parse order message failed msg:{}", msg, e);
         }
-        System.out.println("处理结果:" + handleCount);
+        return null;
     }
 
+    private synchronized Channel ensureChannel() throws IOException, TimeoutException {
+        if (channel != null && channel.isOpen()) {
+            return channel;
+        }
+        closeChannel();
+        //旧连接已关闭，其未ack的消息已由broker重新入队，本地残留的直接丢弃
+        deliveryQueue.clear();
+        connection = rabbitConnectionFactory().newConnection("order-cancel-consumer");
+        Channel current = connection.createChannel();
+        QueueEnum queue = QueueEnum.QUEUE_ORDER_CANCEL;
+        current.exchangeDeclare(queue.getExchange(), "direct", true);
+        current.queueDeclare(queue.getName(), true, false, false, null);
+        current.queueBind(queue.getName(), queue.getExchange(), queue.getRouteKey());
+        //未ack的消息最多两批，既能攒满一批又不会一次拉走整个积压
+        current.basicQos(batchSize * 2);
+        current.basicConsume(queue.getName(), false, new DefaultConsumer(current) {
+            @Override
+            public void handleDelivery(String consumerTag, Envelope envelope, AMQP.BasicProperties properties, byte[] body) {
+                deliveryQueue.add(new Delivery(current, envelope.getDeliveryTag(), body));
+            }
+        });
+        channel = current;
+        return current;
+    }
+
+    private void refreshBacklog(Channel current) {
+        long now = System.currentTimeMillis();
+        if (now - backlogRefreshTime < BACKLOG_REFRESH_MILLIS) {
+            return;
+        }
+        backlogRefreshTime = now;
+        try {
+            backlog = current.messageCount(QueueEnum.QUEUE_ORDER_CANCEL.getName()) + deliveryQueue.size();
+        } catch (IOException e) {
+            LOGGER.debug("query order cancel backlog failed", e);
+        }
+    }
+
+    //关闭物理连接，未ack的消息由broker重新入队
+    private synchronized void closeChannel() {
+        channel = null;
+        if (connection == null) {
+            return;
+        }
+        try {
+            if (connection.isOpen()) {
+                connection.close();
+            }
+        } catch (Exception e) {
+            LOGGER.debug("close order cancel connection failed", e);
+        }
+        connection = null;
+    }
+
+    private com.rabbitmq.client.ConnectionFactory rabbitConnectionFactory() {
+        if (connectionFactory instanceof AbstractConnectionFactory) {
+            return ((AbstractConnectionFactory) connectionFactory).getRabbitConnectionFactory();
+        }
+        throw new IllegalStateException("不支持的连接工厂:" + connectionFactory.getClass().getName());
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(RETRY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class Delivery {
+        private final Channel channel;
+        private final long deliveryTag;
+        private final byte[] body;
+
+        Delivery(Channel channel, long deliveryTag, byte[] body) {
+            this.channel = channel;
+            this.deliveryTag = deliveryTag;
+            this.body = body;
+        }
+    }
 }
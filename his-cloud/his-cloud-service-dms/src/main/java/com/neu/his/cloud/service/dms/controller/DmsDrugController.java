@@ -16,6 +16,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @Controller
 @Api(tags = "DmsDrugController", description = "药品管理")
@@ -124,4 +125,15 @@ public class DmsDrugController {
         return CommonResult.success(dmsDrugResult);
     }
 
+    /**
+     * 描述:根据ids查询药品可用库存（开立处方时查看）
+     */
+    @ApiOperation("根据ids查询药品可用库存")
+    @RequestMapping(value = "/listAvailableStock", method = RequestMethod.GET)
+    @ResponseBody
+    public CommonResult<Map<Long, Long>> listAvailableStock(@RequestParam("ids") List<Long> ids){
+        Map<Long, Long> availableMap = dmsDrugService.listAvailableStock(ids);
+        return CommonResult.success(availableMap);
+    }
+
 }
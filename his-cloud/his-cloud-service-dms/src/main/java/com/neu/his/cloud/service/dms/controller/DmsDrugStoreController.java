@@ -2,6 +2,7 @@ package com.neu.his.cloud.service.dms.controller;
 
 import com.neu.his.cloud.service.dms.common.CommonResult;
 import com.neu.his.cloud.service.dms.dto.dms.DmsRefundDrugListParam;
+import com.neu.his.cloud.service.dms.dto.dms.DmsReleaseDrugResult;
 import com.neu.his.cloud.service.dms.dto.pms.PmsDrugStorePatientListResult;
 import com.neu.his.cloud.service.dms.service.DmsDrugStoreService;
 import io.swagger.annotations.Api;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Date;
+import java.util.List;
 
 @Controller
 @Api(tags = "DmsDrugStoreController", description = "药方工作台")
@@ -31,8 +33,9 @@ public class DmsDrugStoreController {
     @ResponseBody
     public CommonResult<PmsDrugStorePatientListResult> listPatient(@RequestParam(value = "medicalRecordNo",required = false) String medicalRecordNo,
                                                                    @RequestParam("queryDate") @DateTimeFormat(pattern = "yyyy-MM-dd") Date queryDate,
-                                                                   @RequestParam("type") Integer type){
-        PmsDrugStorePatientListResult result = dmsDrugStoreService.listPatient(queryDate,medicalRecordNo,type);
+                                                                   @RequestParam("type") Integer type,
+                                                                   @RequestParam(value = "paidSince",required = false) @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") Date paidSince){
+        PmsDrugStorePatientListResult result = dmsDrugStoreService.listPatient(queryDate,medicalRecordNo,type,paidSince);
         return CommonResult.success(result);
     }
 
@@ -49,9 +52,28 @@ public class DmsDrugStoreController {
         if(count > 0){
             return CommonResult.success(count, "发药成功");
         }
+        if(count == -1){
+            return CommonResult.failed("药品库存不足，发药失败");
+        }
         return CommonResult.failed("发药失败");
     }
 
+    /**
+     * 描述:批量发药（同一类型的多张处方），返回每张处方的结果
+     */
+    @ApiOperation("批量发药")
+    @RequestMapping(value = "/releaseDrugBatch", method = RequestMethod.POST)
+    @ResponseBody
+    public CommonResult<List<DmsReleaseDrugResult>> releaseDrugBatch(@RequestParam("prescriptionIds") List<Long> prescriptionIds,
+                                                                     @RequestParam("type") Integer type){
+        List<DmsReleaseDrugResult> resultList = dmsDrugStoreService.releaseDrugBatch(prescriptionIds,type);
+        long successCount = resultList.stream().filter(DmsReleaseDrugResult::getSuccess).count();
+        if(successCount > 0){
+            return CommonResult.success(resultList, "发药成功" + successCount + "张，失败" + (resultList.size() - successCount) + "张");
+        }
+        return CommonResult.success(resultList, "发药失败");
+    }
+
     /**
      * 描述:退药
      * <p>author: ma
@@ -1,7 +1,6 @@
 package com.neu.his.cloud.service.dms.controller;
 
 import com.neu.his.cloud.service.dms.common.CommonResult;
-import com.neu.his.cloud.service.dms.component.RabbitMQOrderSender;
 import com.neu.his.cloud.service.dms.dto.dms.DmsHerbalPrescriptionRecordParam;
 import com.neu.his.cloud.service.dms.dto.dms.DmsHerbalPrescriptionRecordResult;
 import com.neu.his.cloud.service.dms.service.DmsHerbalPrescriptionRecordService;
@@ -22,9 +21,6 @@ public class DmsHerbalPrescriptionRecordController {
 
     @Autowired
     private DmsHerbalPrescriptionRecordService dmsHerbalPrescriptionRecordService;
-
-    @Autowired
-    private RabbitMQOrderSender rabbitMQOrderSender;
     /**
      * 描述:开立处方（发送）
      * <p>author: ma
@@ -35,11 +31,6 @@ public class DmsHerbalPrescriptionRecordController {
     public CommonResult apply(@RequestBody DmsHerbalPrescriptionRecordParam dmsHerbalPrescriptionRecordParam, BindingResult result){
         Long currentId = dmsHerbalPrescriptionRecordService.apply(dmsHerbalPrescriptionRecordParam);
         if(currentId > 0){
-            //获取订单超时时间，假设为30s
-            long delayTimes = 60 * 1000 *60 *12;
-            //发送延迟消息
-            rabbitMQOrderSender.sendMessage(currentId, 4, delayTimes);
-
             return CommonResult.success(currentId, "开立成功");
         }
         return CommonResult.failed("开立失败");
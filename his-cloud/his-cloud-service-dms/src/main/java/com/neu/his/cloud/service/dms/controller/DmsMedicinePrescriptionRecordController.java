@@ -1,7 +1,6 @@
 package com.neu.his.cloud.service.dms.controller;
 
 import com.neu.his.cloud.service.dms.common.CommonResult;
-import com.neu.his.cloud.service.dms.component.RabbitMQOrderSender;
 import com.neu.his.cloud.service.dms.dto.dms.DmsMedicinePrescriptionRecordParam;
 import com.neu.his.cloud.service.dms.dto.dms.DmsMedicinePrescriptionRecordResult;
 import com.neu.his.cloud.service.dms.service.DmsMedicinePrescriptionRecordService;
@@ -23,9 +22,6 @@ public class DmsMedicinePrescriptionRecordController {
 
     @Autowired
     private DmsMedicinePrescriptionRecordService dmsMedicinePrescriptionRecordService;
-
-    @Autowired
-    private RabbitMQOrderSender rabbitMQOrderSender;
     /**
      * 描述:开立处方（发送）
      * <p>author: ma
@@ -36,11 +32,6 @@ public class DmsMedicinePrescriptionRecordController {
     public CommonResult apply(@RequestBody DmsMedicinePrescriptionRecordParam dmsMedicinePrescriptionRecordParam, BindingResult result){
         Long currentId = dmsMedicinePrescriptionRecordService.apply(dmsMedicinePrescriptionRecordParam);
         if(currentId > 0){
-            //获取订单超时时间，假设为30s
-            long delayTimes = 60 * 1000 * 60 * 12;
-            //发送延迟消息
-            rabbitMQOrderSender.sendMessage(currentId, 5, delayTimes);
-
             return CommonResult.success(currentId, "开立成功");
         }
         return CommonResult.failed("开立失败");
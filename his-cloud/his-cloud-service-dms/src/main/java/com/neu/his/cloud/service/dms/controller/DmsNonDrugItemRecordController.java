@@ -2,7 +2,6 @@ package com.neu.his.cloud.service.dms.controller;
 
 
 import com.neu.his.cloud.service.dms.common.CommonResult;
-import com.neu.his.cloud.service.dms.component.RabbitMQOrderSender;
 import com.neu.his.cloud.service.dms.dto.app.AppCheckTestResult;
 import com.neu.his.cloud.service.dms.dto.dms.DmsNonDrugItemRecordListParam;
 import com.neu.his.cloud.service.dms.dto.dms.DmsNonDrugItemRecordResult;
@@ -24,9 +23,6 @@ public class DmsNonDrugItemRecordController {
 
     @Autowired
     DmsNonDrugItemRecordService dmsNonDrugItemRecordService;
-
-    @Autowired
-    RabbitMQOrderSender rabbitMQOrderSender;
     //开立项目
     //1.调用DmsNonDrugItemRecordService的apply
     @ApiOperation(value = "开立项目")
@@ -37,13 +33,6 @@ public class DmsNonDrugItemRecordController {
         if(currentIdList == null || currentIdList.size() <= 0){
             return CommonResult.failed("开立失败");
         }else{
-            //获取订单超时时间，假设为30s
-            long delayTimes = 60 * 1000 *60 *12;
-            //发送延迟消息
-            for(Long id : currentIdList){
-                rabbitMQOrderSender.sendMessage(id, 1, delayTimes);
-            }
-
             return CommonResult.success("开立成功");
         }
     }
@@ -2,10 +2,12 @@ package com.neu.his.cloud.service.dms.controller;
 
 
 import com.neu.his.cloud.service.dms.common.CommonResult;
+import com.fasterxml.jackson.databind.JavaType;
 import com.neu.his.cloud.service.dms.dto.dms.DmsCaseHistoryParam;
+import com.neu.his.cloud.service.dms.dto.dms.DmsDraftRestoreResult;
 import com.neu.his.cloud.service.dms.dto.dms.DmsDrugRedisParam;
 import com.neu.his.cloud.service.dms.dto.dms.DmsNonDrugRedisParam;
-import com.neu.his.cloud.service.dms.util.RedisUtil;
+import com.neu.his.cloud.service.dms.component.DraftStore;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import org.slf4j.Logger;
@@ -14,7 +16,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Controller
 @Api(tags = "DmsRedisSaveController", description = "redis暂存管理")
@@ -23,18 +28,19 @@ import java.util.List;
 public class DmsRedisSaveController {
     private static Logger LOGGER = LoggerFactory.getLogger(DmsRedisSaveController.class);
 
-    private static Long outOfTime = new Long(60 * 30);//单位为秒
+    private static final long outOfTime = 60 * 30;//单位为秒
+    private static final int[] DRUG_TYPES = {4, 5};
+    private static final int[] NON_DRUG_TYPES = {0, 1, 2};
 
     @Autowired
-    private RedisUtil redisUtil;
+    private DraftStore draftStore;
 
     @ApiOperation(value = "暂存病历首页（根据挂号号）")
     @RequestMapping(value = "/saveCasePage", method = RequestMethod.POST)
     @ResponseBody
     public CommonResult saveCasePage(@RequestBody DmsCaseHistoryParam dmsCaseHistoryParam,
                                      @RequestParam("registrationId") Long registrationId){
-        redisUtil.setObj("1" + registrationId.toString(),dmsCaseHistoryParam);
-        redisUtil.expireStr("1" + registrationId.toString(),outOfTime);
+        draftStore.save(registrationId, DraftStore.KIND_CASE_PAGE, dmsCaseHistoryParam, outOfTime);
         LOGGER.info("redis暂存成功：" + dmsCaseHistoryParam.toString());
         return CommonResult.success("暂存成功");
     }
@@ -43,7 +49,7 @@ public class DmsRedisSaveController {
     @RequestMapping(value = "/getCasePage", method = RequestMethod.POST)
     @ResponseBody
     public CommonResult<DmsCaseHistoryParam> getCasePage(@RequestParam("registrationId") Long registrationId){
-        DmsCaseHistoryParam param = (DmsCaseHistoryParam)redisUtil.getObj("1" + registrationId.toString());
+        DmsCaseHistoryParam param = draftStore.get(registrationId, DraftStore.KIND_CASE_PAGE, DmsCaseHistoryParam.class);
         if(param == null){
             LOGGER.info("redis取出失败");
             return CommonResult.success(null);
@@ -54,24 +60,24 @@ public class DmsRedisSaveController {
 
 
 
-    @ApiOperation(value = "暂存药方（根据挂号号和类型（4成药、5草药））")
+    @ApiOperation(value = "暂存药方（根据挂号号和类型（4草药、5成药））")
     @RequestMapping(value = "/saveDrugPrescription", method = RequestMethod.POST)
     @ResponseBody
     public CommonResult saveDrugPrescription(@RequestBody List<DmsDrugRedisParam> dmsDrugRedisParam,
                                              @RequestParam("registrationId") Long registrationId,
                                              @RequestParam("type") int type){
-        redisUtil.setObj(type + registrationId.toString(),dmsDrugRedisParam);
-        redisUtil.expireStr(type + registrationId.toString(),outOfTime);
+        draftStore.save(registrationId, DraftStore.drugKind(type), dmsDrugRedisParam, outOfTime);
         LOGGER.info("redis暂存成功：" + dmsDrugRedisParam.toString());
         return CommonResult.success("暂存成功");
     }
 
-    @ApiOperation(value = "取出药方（根据挂号号和类型（4成药、5草药））")
+    @ApiOperation(value = "取出药方（根据挂号号和类型（4草药、5成药））")
     @RequestMapping(value = "/getDrugPrescription", method = RequestMethod.POST)
     @ResponseBody
     public CommonResult<List<DmsDrugRedisParam>> getDrugPrescription(@RequestParam("registrationId") Long registrationId,
                                                                      @RequestParam("type") int type){
-        List<DmsDrugRedisParam> paramList = (List<DmsDrugRedisParam>)redisUtil.getObj(type + registrationId.toString());
+        List<DmsDrugRedisParam> paramList = draftStore.get(registrationId, DraftStore.drugKind(type),
+                draftStore.listType(DmsDrugRedisParam.class));
         if(paramList == null){
             LOGGER.info("redis取出失败");
             return CommonResult.success(null);
@@ -89,8 +95,7 @@ public class DmsRedisSaveController {
     public CommonResult saveNonDrug(@RequestBody DmsNonDrugRedisParam dmsNonDrugRedisParam,
                                     @RequestParam("registrationId") Long registrationId,
                                     @RequestParam("type") int type){
-        redisUtil.setObj(type + registrationId.toString(),dmsNonDrugRedisParam);
-        redisUtil.expireStr(type + registrationId.toString(),outOfTime);
+        draftStore.save(registrationId, DraftStore.nonDrugKind(type), dmsNonDrugRedisParam, outOfTime);
         LOGGER.info("redis暂存成功：" + dmsNonDrugRedisParam.toString());
         return CommonResult.success("暂存成功");
     }
@@ -100,7 +105,7 @@ public class DmsRedisSaveController {
     @ResponseBody
     public CommonResult<DmsNonDrugRedisParam> getNonDrug(@RequestParam("registrationId") Long registrationId,
                                                          @RequestParam("type") int type){
-        DmsNonDrugRedisParam paramList = (DmsNonDrugRedisParam)redisUtil.getObj(type + registrationId.toString());
+        DmsNonDrugRedisParam paramList = draftStore.get(registrationId, DraftStore.nonDrugKind(type), DmsNonDrugRedisParam.class);
         if(paramList == null){
             LOGGER.info("redis取出失败");
             return CommonResult.success(null);
@@ -108,4 +113,42 @@ public class DmsRedisSaveController {
         LOGGER.info("redis取出成功：" + paramList.toString());
         return CommonResult.success(paramList);
     }
+
+    //取出该挂号的全部暂存（病历首页、两类药方、三类非药品项目），一次MGET完成，不存在的不返回
+    @ApiOperation(value = "取出全部暂存（根据挂号号）")
+    @RequestMapping(value = "/restoreAll", method = RequestMethod.POST)
+    @ResponseBody
+    public CommonResult<DmsDraftRestoreResult> restoreAll(@RequestParam("registrationId") Long registrationId){
+        List<String> kindList = new ArrayList<>();
+        kindList.add(DraftStore.KIND_CASE_PAGE);
+        for (int type : DRUG_TYPES) {
+            kindList.add(DraftStore.drugKind(type));
+        }
+        for (int type : NON_DRUG_TYPES) {
+            kindList.add(DraftStore.nonDrugKind(type));
+        }
+        List<byte[]> dataList = draftStore.getRawAll(registrationId, kindList);
+
+        DmsDraftRestoreResult restoreResult = new DmsDraftRestoreResult();
+        restoreResult.setCasePage(draftStore.decode(dataList.get(0), draftStore.typeOf(DmsCaseHistoryParam.class)));
+        Map<Integer, List<DmsDrugRedisParam>> drugPrescriptionMap = new HashMap<>();
+        JavaType drugListType = draftStore.listType(DmsDrugRedisParam.class);
+        for (int i = 0; i < DRUG_TYPES.length; i++) {
+            List<DmsDrugRedisParam> paramList = draftStore.decode(dataList.get(1 + i), drugListType);
+            if (paramList != null) {
+                drugPrescriptionMap.put(DRUG_TYPES[i], paramList);
+            }
+        }
+        restoreResult.setDrugPrescriptionMap(drugPrescriptionMap);
+        Map<Integer, DmsNonDrugRedisParam> nonDrugMap = new HashMap<>();
+        JavaType nonDrugType = draftStore.typeOf(DmsNonDrugRedisParam.class);
+        for (int i = 0; i < NON_DRUG_TYPES.length; i++) {
+            DmsNonDrugRedisParam param = draftStore.decode(dataList.get(1 + DRUG_TYPES.length + i), nonDrugType);
+            if (param != null) {
+                nonDrugMap.put(NON_DRUG_TYPES[i], param);
+            }
+        }
+        restoreResult.setNonDrugMap(nonDrugMap);
+        return CommonResult.success(restoreResult);
+    }
 }
@@ -1,6 +1,7 @@
 package com.neu.his.cloud.service.dms.controller;
 
 import com.neu.his.cloud.service.dms.common.CommonResult;
+import com.neu.his.cloud.service.dms.component.AppRegistrationGate;
 import com.neu.his.cloud.service.dms.dto.app.AppRegistrationParam;
 import com.neu.his.cloud.service.dms.dto.dms.DmsRegHistoryResult;
 import com.neu.his.cloud.service.dms.dto.dms.DmsRegistrationParam;
@@ -23,6 +24,8 @@ public class DmsRegistrationController {
 
     @Autowired
     DmsRegistrationService dmsRegistrationService;
+    @Autowired
+    AppRegistrationGate appRegistrationGate;
 
 
     @ApiOperation("查询历史挂号信息")
@@ -41,9 +44,13 @@ public class DmsRegistrationController {
     @RequestMapping(value = "/createRegistration", method = RequestMethod.POST)
     @ResponseBody
     public CommonResult createRegistration(@RequestBody DmsRegistrationParam dmsRegistrationParam , BindingResult result){
-        int returnResult = dmsRegistrationService.createRegistration(dmsRegistrationParam);
-        if (returnResult == 1){
-            return CommonResult.success(returnResult);
+        if (dmsRegistrationParam.getOpratorId() == null){
+            return CommonResult.validateFailed("收费员id不能为空");
+        }
+        //成功时返回发票号
+        Long invoiceNo = dmsRegistrationService.createRegistration(dmsRegistrationParam);
+        if (invoiceNo != null){
+            return CommonResult.success(invoiceNo);
         }
         else{
             return CommonResult.failed();
@@ -55,10 +62,18 @@ public class DmsRegistrationController {
     @RequestMapping(value = "/appReg", method = RequestMethod.POST)
     @ResponseBody
     public CommonResult registration(@RequestBody AppRegistrationParam appRegistrationParam, BindingResult result){
-        System.err.println(appRegistrationParam.toString());
-        int count = dmsRegistrationService.appRegistration(appRegistrationParam);
-        if(count > 0){
-            return CommonResult.success(count, "挂号成功");
+        int gateResult = appRegistrationGate.register(appRegistrationParam);
+        if(gateResult == AppRegistrationGate.RESULT_SUCCESS){
+            return CommonResult.success(gateResult, "挂号成功");
+        }
+        if(gateResult == AppRegistrationGate.RESULT_SOLD_OUT){
+            return CommonResult.failed("号源已约满");
+        }
+        if(gateResult == AppRegistrationGate.RESULT_BUSY){
+            return CommonResult.failed("挂号人数过多，请稍后再试");
+        }
+        if(gateResult == AppRegistrationGate.RESULT_PENDING){
+            return CommonResult.failed("挂号处理中，请稍后查看挂号记录，勿重复挂号");
         }
         return CommonResult.failed("挂号失败");
     }
@@ -0,0 +1,27 @@
+package com.neu.his.cloud.service.dms.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 处方（项目）超时作废消息，以JSON发送到his.order.cancel
+ */
+@Setter
+@Getter
+@ToString
+public class OrderCancelMessage {
+    //处方（项目）id
+    private Long itemId;
+
+    //类型：1检查\检验\处置 4草药 5成药
+    private Integer type;
+
+    public OrderCancelMessage() {
+    }
+
+    public OrderCancelMessage(Long itemId, Integer type) {
+        this.itemId = itemId;
+        this.type = type;
+    }
+}
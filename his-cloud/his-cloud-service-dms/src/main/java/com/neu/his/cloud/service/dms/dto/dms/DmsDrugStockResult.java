@@ -0,0 +1,23 @@
+package com.neu.his.cloud.service.dms.dto.dms;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+@Setter
+@Getter
+@ToString
+public class DmsDrugStockResult implements Serializable {
+
+    @ApiModelProperty(value = "药品id" )
+    private Long drugId;
+    @ApiModelProperty(value = "库存" )
+    private Long stock;
+    @ApiModelProperty(value = "已开立未发药的预留数量" )
+    private Long reserved;
+    @ApiModelProperty(value = "可用库存（库存-预留）" )
+    private Long available;
+}
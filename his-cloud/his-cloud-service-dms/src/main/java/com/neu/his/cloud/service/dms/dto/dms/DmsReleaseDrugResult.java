@@ -0,0 +1,23 @@
+package com.neu.his.cloud.service.dms.dto.dms;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+@Setter
+@Getter
+@ToString
+public class DmsReleaseDrugResult implements Serializable {
+
+    @ApiModelProperty(value = "处方id" )
+    private Long prescriptionId;
+    @ApiModelProperty(value = "是否发药成功" )
+    private Boolean success;
+    @ApiModelProperty(value = "处方当前状态（0作废 1未缴费 2未发药 3已发药 4已过期），处方不存在时为空" )
+    private Integer status;
+    @ApiModelProperty(value = "结果说明" )
+    private String message;
+}
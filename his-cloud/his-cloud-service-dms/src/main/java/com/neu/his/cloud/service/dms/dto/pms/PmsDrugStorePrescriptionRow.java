@@ -0,0 +1,22 @@
+package com.neu.his.cloud.service.dms.dto.pms;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/**
+ * 药房发药列表的一行：处方及其挂号、患者信息（DmsDrugStoreDao联表查询结果）
+ */
+@Setter
+@Getter
+@ToString
+public class PmsDrugStorePrescriptionRow implements Serializable {
+    private Long prescriptionId;
+    private Integer status;
+    private Long registrationId;
+    private Long patientId;
+    private String patientName;
+    private String medicalRecordNo;
+}
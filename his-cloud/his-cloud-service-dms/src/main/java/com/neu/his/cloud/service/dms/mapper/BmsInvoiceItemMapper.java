@@ -0,0 +1,30 @@
+package com.neu.his.cloud.service.dms.mapper;
+
+import com.neu.his.cloud.service.dms.model.BmsInvoiceItem;
+import com.neu.his.cloud.service.dms.model.BmsInvoiceItemExample;
+import java.util.List;
+import org.apache.ibatis.annotations.Param;
+
+public interface BmsInvoiceItemMapper {
+    int countByExample(BmsInvoiceItemExample example);
+
+    int deleteByExample(BmsInvoiceItemExample example);
+
+    int deleteByPrimaryKey(Long id);
+
+    int insert(BmsInvoiceItem record);
+
+    int insertSelective(BmsInvoiceItem record);
+
+    List<BmsInvoiceItem> selectByExample(BmsInvoiceItemExample example);
+
+    BmsInvoiceItem selectByPrimaryKey(Long id);
+
+    int updateByExampleSelective(@Param("record") BmsInvoiceItem record, @Param("example") BmsInvoiceItemExample example);
+
+    int updateByExample(@Param("record") BmsInvoiceItem record, @Param("example") BmsInvoiceItemExample example);
+
+    int updateByPrimaryKeySelective(BmsInvoiceItem record);
+
+    int updateByPrimaryKey(BmsInvoiceItem record);
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.neu.his.cloud.service.dms.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * @ClassName: BmsInvoiceSegmentDao
+ * @description: 发票号段租用（游标推进、空闲号段认领均为单条原子更新）
+ */
+@Mapper
+public interface BmsInvoiceSegmentDao {
+    /**
+     * 游标后移size个号，新的游标值写入LAST_INSERT_ID()；游标不存在时返回0
+     */
+    int advanceNextNo(@Param("size") Long size);
+
+    /**
+     * 游标不存在时以已用最大发票号+1初始化
+     */
+    int initNextNo();
+
+    /**
+     * 认领一个空闲号段（起始号最小）给收费员，号段id写入LAST_INSERT_ID()；没有空闲号段时返回0
+     */
+    int claimFreeSegment(@Param("cashierId") Long cashierId);
+
+    /**
+     * 同一连接上最近一次LAST_INSERT_ID()的值，须与上面的更新在同一事务中调用
+     */
+    Long selectLastInsertId();
+
+    /**
+     * 收费员使用中号段的未用部分（号段内已开出的最大发票号之后）插入为空闲号段，须在closeByCashier之前调用
+     */
+    int insertFreeTailByCashier(@Param("cashierId") Long cashierId);
+
+    /**
+     * 关闭收费员使用中的号段，结束号截到已开出的最大发票号+1
+     */
+    int closeByCashier(@Param("cashierId") Long cashierId);
+
+    /**
+     * 有使用中号段的收费员
+     */
+    List<Long> selectLeasedCashierIds();
+}
@@ -0,0 +1,40 @@
+package com.neu.his.cloud.service.dms.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * @ClassName: BmsRefundableItemDao
+ * @description: 发药、退药、登记时同步更新收费处的可退费项目
+ */
+@Mapper
+public interface BmsRefundableItemDao {
+    /**
+     * 发药：处方下未发药的处方项改为已发药，不可退
+     */
+    int releasePrescription(@Param("prescriptionId") Long prescriptionId, @Param("type") Integer type);
+
+    /**
+     * 批量发药：同一类型的多张处方
+     */
+    int releasePrescriptionList(@Param("prescriptionIds") List<Long> prescriptionIds, @Param("type") Integer type);
+
+    /**
+     * 草药退药：按退药后的现有数量计算可退金额
+     */
+    int refundHerbalItem(@Param("itemId") Long itemId, @Param("currentNum") Long currentNum);
+
+    /**
+     * 成药退药：按累计退药数量计算可退金额
+     */
+    int refundMedicineItem(@Param("itemId") Long itemId,
+                           @Param("currentNum") Long currentNum,
+                           @Param("refundNum") Long refundNum);
+
+    /**
+     * 非药品登记：已缴费未登记的项目改为已登记，不可退
+     */
+    int logNonDrugItem(@Param("itemId") Long itemId);
+}
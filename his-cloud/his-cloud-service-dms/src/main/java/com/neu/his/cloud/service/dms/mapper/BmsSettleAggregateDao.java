@@ -0,0 +1,27 @@
+package com.neu.his.cloud.service.dms.mapper;
+
+import com.neu.his.cloud.service.dms.model.BmsSettleAggregate;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Date;
+
+/**
+ * @ClassName: BmsSettleAggregateDao
+ * @description: 收费员日结累计统计的增量维护（挂号发票）
+ */
+@Mapper
+public interface BmsSettleAggregateDao {
+    /**
+     * 锁定收费员的累计统计行，行不存在时先插入待重建的占位行（由收费服务第一次写发票或日结时重建），须在事务中、写发票之前调用
+     */
+    int lockByCashierId(@Param("cashierId") Long cashierId);
+
+    /**
+     * 在收费员的累计统计上叠加增量（数量、金额、id串），invoiceNo不为空时同时追加发票号段
+     * <p>只有invoiceTime晚于统计起始时间且统计未标记重算时才会更新
+     */
+    int applyDelta(@Param("delta") BmsSettleAggregate delta,
+                   @Param("invoiceNo") Long invoiceNo,
+                   @Param("invoiceTime") Date invoiceTime);
+}
@@ -0,0 +1,30 @@
+package com.neu.his.cloud.service.dms.mapper;
+
+import com.neu.his.cloud.service.dms.model.BmsSettleAggregate;
+import com.neu.his.cloud.service.dms.model.BmsSettleAggregateExample;
+import java.util.List;
+import org.apache.ibatis.annotations.Param;
+
+public interface BmsSettleAggregateMapper {
+    int countByExample(BmsSettleAggregateExample example);
+
+    int deleteByExample(BmsSettleAggregateExample example);
+
+    int deleteByPrimaryKey(Long id);
+
+    int insert(BmsSettleAggregate record);
+
+    int insertSelective(BmsSettleAggregate record);
+
+    List<BmsSettleAggregate> selectByExample(BmsSettleAggregateExample example);
+
+    BmsSettleAggregate selectByPrimaryKey(Long id);
+
+    int updateByExampleSelective(@Param("record") BmsSettleAggregate record, @Param("example") BmsSettleAggregateExample example);
+
+    int updateByExample(@Param("record") BmsSettleAggregate record, @Param("example") BmsSettleAggregateExample example);
+
+    int updateByPrimaryKeySelective(BmsSettleAggregate record);
+
+    int updateByPrimaryKey(BmsSettleAggregate record);
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.neu.his.cloud.service.dms.mapper;
+
+import com.neu.his.cloud.service.dms.dto.dms.DmsDrugStockResult;
+import com.neu.his.cloud.service.dms.model.DmsDrugStockTxn;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * @ClassName: DmsDrugStockDao
+ * @description: 药品库存（dms_drug.stock/reserved）的增量更新与库存流水（dms_drug_stock_txn）；
+ * 所有修改都是stock = stock + ?形式的单条UPDATE，不在Java中读出再写回
+ */
+@Mapper
+public interface DmsDrugStockDao {
+    /**
+     * 预留库存：可用库存（stock-reserved）足够时reserved+num，返回1成功，0表示库存不足或药品不存在
+     */
+    int reserve(@Param("drugId") Long drugId, @Param("num") Long num);
+
+    /**
+     * 增加库存（退药）
+     */
+    int addStock(@Param("drugId") Long drugId, @Param("num") Long num);
+
+    /**
+     * 按处方中状态为1（未发药）的处方项，按药品汇总后一条UPDATE修改库存：
+     * stock += stockSign * 数量，reserved += reservedSign * 数量（只计开立时有预留的处方项）
+     * <p>stockSign为0（只释放预留）时跳过没有预留的处方项；stockSign为负（发药）时库存不足的药品不修改；type：4草药 5成药
+     * <p>返回修改的药品数
+     */
+    int updateByPrescription(@Param("prescriptionIds") List<Long> prescriptionIds, @Param("type") Integer type,
+                             @Param("stockSign") int stockSign, @Param("reservedSign") int reservedSign);
+
+    /**
+     * 处方中状态为1（未发药）的处方项涉及的药品数，发药时与updateByPrescription的返回值比较
+     */
+    int countDrugByPrescription(@Param("prescriptionIds") List<Long> prescriptionIds, @Param("type") Integer type);
+
+    /**
+     * 按处方中状态为1（未发药）的处方项写入库存流水，每个处方项一条，与updateByPrescription在同一事务中调用，
+     * 流水中的变化量与updateByPrescription的实际修改一致
+     */
+    int insertTxnByPrescription(@Param("prescriptionIds") List<Long> prescriptionIds, @Param("type") Integer type,
+                                @Param("stockSign") int stockSign, @Param("reservedSign") int reservedSign,
+                                @Param("txnType") int txnType);
+
+    /**
+     * 批量写入库存流水
+     */
+    int insertTxnList(@Param("txnList") List<DmsDrugStockTxn> txnList);
+
+    /**
+     * 锁定（SELECT ... FOR UPDATE）ids中指定状态的处方，返回其id，type：4草药 5成药
+     */
+    List<Long> lockPrescription(@Param("prescriptionIds") List<Long> prescriptionIds, @Param("type") Integer type,
+                                @Param("status") Integer status);
+
+    /**
+     * 查询药品库存，drugIds为null时查询全部
+     */
+    List<DmsDrugStockResult> listStock(@Param("drugIds") List<Long> drugIds);
+
+    /**
+     * 当前最大的库存流水id，没有流水时返回0
+     */
+    long maxTxnId();
+
+    /**
+     * 按id顺序查询lastId之后的库存流水
+     */
+    List<DmsDrugStockTxn> listTxnAfter(@Param("lastId") long lastId, @Param("limit") int limit);
+}
@@ -0,0 +1,25 @@
+package com.neu.his.cloud.service.dms.mapper;
+
+import com.neu.his.cloud.service.dms.dto.pms.PmsDrugStorePrescriptionRow;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * @ClassName: DmsDrugStoreDao
+ * @description: 药房发药列表，处方、挂号、患者一次联表查询
+ */
+@Mapper
+public interface DmsDrugStoreDao {
+    /**
+     * 查询开立时间在[startTime, endTime]之间、状态为2（未发药）或3（已发药）的处方，type：4草药 5成药
+     * <p>medicalRecordNo不为空时只查该患者；paidSince不为空时只查该时间之后有修改（缴费、发药等）的处方
+     */
+    List<PmsDrugStorePrescriptionRow> listPrescription(@Param("type") Integer type,
+                                                       @Param("startTime") Date startTime,
+                                                       @Param("endTime") Date endTime,
+                                                       @Param("medicalRecordNo") String medicalRecordNo,
+                                                       @Param("paidSince") Date paidSince);
+}
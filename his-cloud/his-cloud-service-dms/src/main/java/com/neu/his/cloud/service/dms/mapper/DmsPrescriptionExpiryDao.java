@@ -0,0 +1,31 @@
+package com.neu.his.cloud.service.dms.mapper;
+
+import com.neu.his.cloud.service.dms.model.DmsPrescriptionExpiry;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * @ClassName: DmsPrescriptionExpiryDao
+ * @description: 处方（项目）超时未缴费作废的持久化定时任务（dms_prescription_expiry），缴费或到期处理后删除
+ */
+@Mapper
+public interface DmsPrescriptionExpiryDao {
+    /**
+     * 批量写入定时任务，同一项目重复写入时更新到期时间
+     */
+    int insertAll(@Param("itemIds") List<Long> itemIds, @Param("type") Integer type, @Param("expireTime") Date expireTime);
+
+    /**
+     * 按(expire_time, id)分页查询until之前到期的任务，lastExpireTime/lastId为上一页最后一条，首页传null
+     */
+    List<DmsPrescriptionExpiry> listDue(@Param("until") Date until, @Param("lastExpireTime") Date lastExpireTime,
+                                        @Param("lastId") Long lastId, @Param("limit") int limit);
+
+    /**
+     * 批量删除同一类型的定时任务
+     */
+    int deleteAll(@Param("itemIds") List<Long> itemIds, @Param("type") Integer type);
+}
@@ -0,0 +1,50 @@
+package com.neu.his.cloud.service.dms.mapper;
+
+import com.neu.his.cloud.service.dms.model.*;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * @ClassName: DmsPrescriptionPipelineDao
+ * @description: 开立处方、新建药品模版中的插入语句，均使用useGeneratedKeys回填id；
+ * 处方项、模版项为一条多行INSERT ... VALUES，列表不能为空
+ */
+@Mapper
+public interface DmsPrescriptionPipelineDao {
+    /**
+     * 插入草药处方并回填id
+     */
+    int insertHerbalPrescription(DmsHerbalPrescriptionRecord record);
+
+    /**
+     * 批量插入草药处方项并回填id
+     */
+    int insertHerbalItemList(@Param("itemList") List<DmsHerbalItemRecord> itemList);
+
+    /**
+     * 插入成药处方并回填id
+     */
+    int insertMedicinePrescription(DmsMedicinePrescriptionRecord record);
+
+    /**
+     * 批量插入成药处方项并回填id
+     */
+    int insertMedicineItemList(@Param("itemList") List<DmsMedicineItemRecord> itemList);
+
+    /**
+     * 插入药品模版并回填id
+     */
+    int insertDrugModel(DmsDrugModel dmsDrugModel);
+
+    /**
+     * 批量插入草药模版项
+     */
+    int insertHerbalModelItemList(@Param("itemList") List<DmsHerbalModelItem> itemList);
+
+    /**
+     * 批量插入成药模版项
+     */
+    int insertMedicineModelItemList(@Param("itemList") List<DmsMedicineModelItem> itemList);
+}
@@ -0,0 +1,47 @@
+package com.neu.his.cloud.service.dms.mapper;
+
+import com.neu.his.cloud.service.dms.model.*;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * @ClassName: DmsRegistrationPipelineDao
+ * @description: 挂号流程中的插入语句，均使用useGeneratedKeys回填id，无需再查询一次
+ */
+@Mapper
+public interface DmsRegistrationPipelineDao {
+    /**
+     * 按身份证号插入病人，已存在时更新姓名、出生日期、住址、电话、性别（为null的不更新）并回填已有病人的id（依赖uk_identification_no）
+     */
+    int upsertPatient(PmsPatient pmsPatient);
+
+    /**
+     * 查询并锁定病人（SELECT ... FOR UPDATE），同一病人的APP挂号串行执行
+     */
+    PmsPatient selectPatientForUpdate(@Param("id") Long id);
+
+    /**
+     * 插入挂号记录并回填id
+     */
+    int insertRegistration(DmsRegistration dmsRegistration);
+
+    /**
+     * 插入账单并回填id
+     */
+    int insertBill(BmsBillsRecord bmsBillsRecord);
+
+    /**
+     * 插入账单项目
+     */
+    int insertBillItem(BmsBillItem bmsBillItem);
+
+    /**
+     * 插入发票并回填id
+     */
+    int insertInvoice(BmsInvoiceRecord bmsInvoiceRecord);
+
+    /**
+     * 插入发票明细
+     */
+    int insertInvoiceItem(BmsInvoiceItem bmsInvoiceItem);
+}
@@ -0,0 +1,21 @@
+package com.neu.his.cloud.service.dms.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * @ClassName: SmsSkdSlotDao
+ * @description: 排班限额（sms_skd.remain）的条件扣减与归还，单条UPDATE完成判断与修改，并发下不会超卖
+ */
+@Mapper
+public interface SmsSkdSlotDao {
+    /**
+     * 占用一个号源：remain>0时remain-1，返回1成功，0表示已约满或排班不存在
+     */
+    int hold(@Param("skdId") Long skdId);
+
+    /**
+     * 归还一个号源：remain+1，但不超过排班限额sk_limit
+     */
+    int release(@Param("skdId") Long skdId);
+}
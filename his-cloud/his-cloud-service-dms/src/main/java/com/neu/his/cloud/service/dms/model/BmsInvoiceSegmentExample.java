@@ -0,0 +1,621 @@
+package com.neu.his.cloud.service.dms.model;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+public class BmsInvoiceSegmentExample {
+    protected String orderByClause;
+
+    protected boolean distinct;
+
+    protected List<Criteria> oredCriteria;
+
+    public BmsInvoiceSegmentExample() {
+        oredCriteria = new ArrayList<Criteria>();
+    }
+
+    public void setOrderByClause(String orderByClause) {
+        this.orderByClause = orderByClause;
+    }
+
+    public String getOrderByClause() {
+        return orderByClause;
+    }
+
+    public void setDistinct(boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    public boolean isDistinct() {
+        return distinct;
+    }
+
+    public List<Criteria> getOredCriteria() {
+        return oredCriteria;
+    }
+
+    public void or(Criteria criteria) {
+        oredCriteria.add(criteria);
+    }
+
+    public Criteria or() {
+        Criteria criteria = createCriteriaInternal();
+        oredCriteria.add(criteria);
+        return criteria;
+    }
+
+    public Criteria createCriteria() {
+        Criteria criteria = createCriteriaInternal();
+        if (oredCriteria.size() == 0) {
+            oredCriteria.add(criteria);
+        }
+        return criteria;
+    }
+
+    protected Criteria createCriteriaInternal() {
+        Criteria criteria = new Criteria();
+        return criteria;
+    }
+
+    public void clear() {
+        oredCriteria.clear();
+        orderByClause = null;
+        distinct = false;
+    }
+
+    protected abstract static class GeneratedCriteria {
+        protected List<Criterion> criteria;
+
+        protected GeneratedCriteria() {
+            super();
+            criteria = new ArrayList<Criterion>();
+        }
+
+        public boolean isValid() {
+            return criteria.size() > 0;
+        }
+
+        public List<Criterion> getAllCriteria() {
+            return criteria;
+        }
+
+        public List<Criterion> getCriteria() {
+            return criteria;
+        }
+
+        protected void addCriterion(String condition) {
+            if (condition == null) {
+                throw new RuntimeException("Value for condition cannot be null");
+            }
+            criteria.add(new Criterion(condition));
+        }
+
+        protected void addCriterion(String condition, Object value, String property) {
+            if (value == null) {
+                throw new RuntimeException("Value for " + property + " cannot be null");
+            }
+            criteria.add(new Criterion(condition, value));
+        }
+
+        protected void addCriterion(String condition, Object value1, Object value2, String property) {
+            if (value1 == null || value2 == null) {
+                throw new RuntimeException("Between values for " + property + " cannot be null");
+            }
+            criteria.add(new Criterion(condition, value1, value2));
+        }
+
+        public Criteria andIdIsNull() {
+            addCriterion("id is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdIsNotNull() {
+            addCriterion("id is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdEqualTo(Long value) {
+            addCriterion("id =", value, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdNotEqualTo(Long value) {
+            addCriterion("id <>", value, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdGreaterThan(Long value) {
+            addCriterion("id >", value, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdGreaterThanOrEqualTo(Long value) {
+            addCriterion("id >=", value, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdLessThan(Long value) {
+            addCriterion("id <", value, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdLessThanOrEqualTo(Long value) {
+            addCriterion("id <=", value, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdIn(List<Long> values) {
+            addCriterion("id in", values, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdNotIn(List<Long> values) {
+            addCriterion("id not in", values, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdBetween(Long value1, Long value2) {
+            addCriterion("id between", value1, value2, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdNotBetween(Long value1, Long value2) {
+            addCriterion("id not between", value1, value2, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andCashierIdIsNull() {
+            addCriterion("cashier_id is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andCashierIdIsNotNull() {
+            addCriterion("cashier_id is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andCashierIdEqualTo(Long value) {
+            addCriterion("cashier_id =", value, "cashierId");
+            return (Criteria) this;
+        }
+
+        public Criteria andCashierIdNotEqualTo(Long value) {
+            addCriterion("cashier_id <>", value, "cashierId");
+            return (Criteria) this;
+        }
+
+        public Criteria andCashierIdGreaterThan(Long value) {
+            addCriterion("cashier_id >", value, "cashierId");
+            return (Criteria) this;
+        }
+
+        public Criteria andCashierIdGreaterThanOrEqualTo(Long value) {
+            addCriterion("cashier_id >=", value, "cashierId");
+            return (Criteria) this;
+        }
+
+        public Criteria andCashierIdLessThan(Long value) {
+            addCriterion("cashier_id <", value, "cashierId");
+            return (Criteria) this;
+        }
+
+        public Criteria andCashierIdLessThanOrEqualTo(Long value) {
+            addCriterion("cashier_id <=", value, "cashierId");
+            return (Criteria) this;
+        }
+
+        public Criteria andCashierIdIn(List<Long> values) {
+            addCriterion("cashier_id in", values, "cashierId");
+            return (Criteria) this;
+        }
+
+        public Criteria andCashierIdNotIn(List<Long> values) {
+            addCriterion("cashier_id not in", values, "cashierId");
+            return (Criteria) this;
+        }
+
+        public Criteria andCashierIdBetween(Long value1, Long value2) {
+            addCriterion("cashier_id between", value1, value2, "cashierId");
+            return (Criteria) this;
+        }
+
+        public Criteria andCashierIdNotBetween(Long value1, Long value2) {
+            addCriterion("cashier_id not between", value1, value2, "cashierId");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartNoIsNull() {
+            addCriterion("start_no is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartNoIsNotNull() {
+            addCriterion("start_no is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartNoEqualTo(Long value) {
+            addCriterion("start_no =", value, "startNo");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartNoNotEqualTo(Long value) {
+            addCriterion("start_no <>", value, "startNo");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartNoGreaterThan(Long value) {
+            addCriterion("start_no >", value, "startNo");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartNoGreaterThanOrEqualTo(Long value) {
+            addCriterion("start_no >=", value, "startNo");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartNoLessThan(Long value) {
+            addCriterion("start_no <", value, "startNo");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartNoLessThanOrEqualTo(Long value) {
+            addCriterion("start_no <=", value, "startNo");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartNoIn(List<Long> values) {
+            addCriterion("start_no in", values, "startNo");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartNoNotIn(List<Long> values) {
+            addCriterion("start_no not in", values, "startNo");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartNoBetween(Long value1, Long value2) {
+            addCriterion("start_no between", value1, value2, "startNo");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartNoNotBetween(Long value1, Long value2) {
+            addCriterion("start_no not between", value1, value2, "startNo");
+            return (Criteria) this;
+        }
+
+        public Criteria andEndNoIsNull() {
+            addCriterion("end_no is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andEndNoIsNotNull() {
+            addCriterion("end_no is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andEndNoEqualTo(Long value) {
+            addCriterion("end_no =", value, "endNo");
+            return (Criteria) this;
+        }
+
+        public Criteria andEndNoNotEqualTo(Long value) {
+            addCriterion("end_no <>", value, "endNo");
+            return (Criteria) this;
+        }
+
+        public Criteria andEndNoGreaterThan(Long value) {
+            addCriterion("end_no >", value, "endNo");
+            return (Criteria) this;
+        }
+
+        public Criteria andEndNoGreaterThanOrEqualTo(Long value) {
+            addCriterion("end_no >=", value, "endNo");
+            return (Criteria) this;
+        }
+
+        public Criteria andEndNoLessThan(Long value) {
+            addCriterion("end_no <", value, "endNo");
+            return (Criteria) this;
+        }
+
+        public Criteria andEndNoLessThanOrEqualTo(Long value) {
+            addCriterion("end_no <=", value, "endNo");
+            return (Criteria) this;
+        }
+
+        public Criteria andEndNoIn(List<Long> values) {
+            addCriterion("end_no in", values, "endNo");
+            return (Criteria) this;
+        }
+
+        public Criteria andEndNoNotIn(List<Long> values) {
+            addCriterion("end_no not in", values, "endNo");
+            return (Criteria) this;
+        }
+
+        public Criteria andEndNoBetween(Long value1, Long value2) {
+            addCriterion("end_no between", value1, value2, "endNo");
+            return (Criteria) this;
+        }
+
+        public Criteria andEndNoNotBetween(Long value1, Long value2) {
+            addCriterion("end_no not between", value1, value2, "endNo");
+            return (Criteria) this;
+        }
+
+        public Criteria andStatusIsNull() {
+            addCriterion("status is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andStatusIsNotNull() {
+            addCriterion("status is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andStatusEqualTo(Integer value) {
+            addCriterion("status =", value, "status");
+            return (Criteria) this;
+        }
+
+        public Criteria andStatusNotEqualTo(Integer value) {
+            addCriterion("status <>", value, "status");
+            return (Criteria) this;
+        }
+
+        public Criteria andStatusGreaterThan(Integer value) {
+            addCriterion("status >", value, "status");
+            return (Criteria) this;
+        }
+
+        public Criteria andStatusGreaterThanOrEqualTo(Integer value) {
+            addCriterion("status >=", value, "status");
+            return (Criteria) this;
+        }
+
+        public Criteria andStatusLessThan(Integer value) {
+            addCriterion("status <", value, "status");
+            return (Criteria) this;
+        }
+
+        public Criteria andStatusLessThanOrEqualTo(Integer value) {
+            addCriterion("status <=", value, "status");
+            return (Criteria) this;
+        }
+
+        public Criteria andStatusIn(List<Integer> values) {
+            addCriterion("status in", values, "status");
+            return (Criteria) this;
+        }
+
+        public Criteria andStatusNotIn(List<Integer> values) {
+            addCriterion("status not in", values, "status");
+            return (Criteria) this;
+        }
+
+        public Criteria andStatusBetween(Integer value1, Integer value2) {
+            addCriterion("status between", value1, value2, "status");
+            return (Criteria) this;
+        }
+
+        public Criteria andStatusNotBetween(Integer value1, Integer value2) {
+            addCriterion("status not between", value1, value2, "status");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreateTimeIsNull() {
+            addCriterion("create_time is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreateTimeIsNotNull() {
+            addCriterion("create_time is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreateTimeEqualTo(Date value) {
+            addCriterion("create_time =", value, "createTime");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreateTimeNotEqualTo(Date value) {
+            addCriterion("create_time <>", value, "createTime");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreateTimeGreaterThan(Date value) {
+            addCriterion("create_time >", value, "createTime");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreateTimeGreaterThanOrEqualTo(Date value) {
+            addCriterion("create_time >=", value, "createTime");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreateTimeLessThan(Date value) {
+            addCriterion("create_time <", value, "createTime");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreateTimeLessThanOrEqualTo(Date value) {
+            addCriterion("create_time <=", value, "createTime");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreateTimeIn(List<Date> values) {
+            addCriterion("create_time in", values, "createTime");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreateTimeNotIn(List<Date> values) {
+            addCriterion("create_time not in", values, "createTime");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreateTimeBetween(Date value1, Date value2) {
+            addCriterion("create_time between", value1, value2, "createTime");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreateTimeNotBetween(Date value1, Date value2) {
+            addCriterion("create_time not between", value1, value2, "createTime");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdateTimeIsNull() {
+            addCriterion("update_time is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdateTimeIsNotNull() {
+            addCriterion("update_time is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdateTimeEqualTo(Date value) {
+            addCriterion("update_time =", value, "updateTime");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdateTimeNotEqualTo(Date value) {
+            addCriterion("update_time <>", value, "updateTime");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdateTimeGreaterThan(Date value) {
+            addCriterion("update_time >", value, "updateTime");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdateTimeGreaterThanOrEqualTo(Date value) {
+            addCriterion("update_time >=", value, "updateTime");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdateTimeLessThan(Date value) {
+            addCriterion("update_time <", value, "updateTime");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdateTimeLessThanOrEqualTo(Date value) {
+            addCriterion("update_time <=", value, "updateTime");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdateTimeIn(List<Date> values) {
+            addCriterion("update_time in", values, "updateTime");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdateTimeNotIn(List<Date> values) {
+            addCriterion("update_time not in", values, "updateTime");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdateTimeBetween(Date value1, Date value2) {
+            addCriterion("update_time between", value1, value2, "updateTime");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdateTimeNotBetween(Date value1, Date value2) {
+            addCriterion("update_time not between", value1, value2, "updateTime");
+            return (Criteria) this;
+        }
+    }
+
+    public static class Criteria extends GeneratedCriteria {
+
+        protected Criteria() {
+            super();
+        }
+    }
+
+    public static class Criterion {
+        private String condition;
+
+        private Object value;
+
+        private Object secondValue;
+
+        private boolean noValue;
+
+        private boolean singleValue;
+
+        private boolean betweenValue;
+
+        private boolean listValue;
+
+        private String typeHandler;
+
+        public String getCondition() {
+            return condition;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        public Object getSecondValue() {
+            return secondValue;
+        }
+
+        public boolean isNoValue() {
+            return noValue;
+        }
+
+        public boolean isSingleValue() {
+            return singleValue;
+        }
+
+        public boolean isBetweenValue() {
+            return betweenValue;
+        }
+
+        public boolean isListValue() {
+            return listValue;
+        }
+
+        public String getTypeHandler() {
+            return typeHandler;
+        }
+
+        protected Criterion(String condition) {
+            super();
+            this.condition = condition;
+            this.typeHandler = null;
+            this.noValue = true;
+        }
+
+        protected Criterion(String condition, Object value, String typeHandler) {
+            super();
+            this.condition = condition;
+            this.value = value;
+            this.typeHandler = typeHandler;
+            if (value instanceof List<?>) {
+                this.listValue = true;
+            } else {
+                this.singleValue = true;
+            }
+        }
+
+        protected Criterion(String condition, Object value) {
+            this(condition, value, null);
+        }
+
+        protected Criterion(String condition, Object value, Object secondValue, String typeHandler) {
+            super();
+            this.condition = condition;
+            this.value = value;
+            this.secondValue = secondValue;
+            this.typeHandler = typeHandler;
+            this.betweenValue = true;
+        }
+
+        protected Criterion(String condition, Object value, Object secondValue) {
+            this(condition, value, secondValue, null);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+package com.neu.his.cloud.service.dms.model;
+
+import java.io.Serializable;
+import java.util.Date;
+
+public class DmsDrugStockTxn implements Serializable {
+    private Long id;
+
+    private Long drugId;
+
+    private Long stockDelta;
+
+    private Long reservedDelta;
+
+    private Integer type;
+
+    private Integer itemType;
+
+    private Long prescriptionId;
+
+    private Long itemId;
+
+    private Date createTime;
+
+    private static final long serialVersionUID = 1L;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getDrugId() {
+        return drugId;
+    }
+
+    public void setDrugId(Long drugId) {
+        this.drugId = drugId;
+    }
+
+    public Long getStockDelta() {
+        return stockDelta;
+    }
+
+    public void setStockDelta(Long stockDelta) {
+        this.stockDelta = stockDelta;
+    }
+
+    public Long getReservedDelta() {
+        return reservedDelta;
+    }
+
+    public void setReservedDelta(Long reservedDelta) {
+        this.reservedDelta = reservedDelta;
+    }
+
+    public Integer getType() {
+        return type;
+    }
+
+    public void setType(Integer type) {
+        this.type = type;
+    }
+
+    public Integer getItemType() {
+        return itemType;
+    }
+
+    public void setItemType(Integer itemType) {
+        this.itemType = itemType;
+    }
+
+    public Long getPrescriptionId() {
+        return prescriptionId;
+    }
+
+    public void setPrescriptionId(Long prescriptionId) {
+        this.prescriptionId = prescriptionId;
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public void setItemId(Long itemId) {
+        this.itemId = itemId;
+    }
+
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [");
+        sb.append("Hash = ").append(hashCode());
+        sb.append(", id=").append(id);
+        sb.append(", drugId=").append(drugId);
+        sb.append(", stockDelta=").append(stockDelta);
+        sb.append(", reservedDelta=").append(reservedDelta);
+        sb.append(", type=").append(type);
+        sb.append(", itemType=").append(itemType);
+        sb.append(", prescriptionId=").append(prescriptionId);
+        sb.append(", itemId=").append(itemId);
+        sb.append(", createTime=").append(createTime);
+        sb.append(", serialVersionUID=").append(serialVersionUID);
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,11 @@
+package com.neu.his.cloud.service.dms.service;
+
+/**
+ * 挂号发票号分配，与收费服务共用发票号段（bms_invoice_no_seq、bms_invoice_segment）
+ */
+public interface BmsInvoiceNoService {
+    /**
+     * 描述：为收费员分配下一个发票号
+     */
+    Long nextInvoiceNo(Long cashierId);
+}
@@ -5,6 +5,7 @@ import com.neu.his.cloud.service.dms.dto.dms.DmsDrugParam;
 import com.neu.his.cloud.service.dms.dto.dms.DmsDrugResult;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 药品
@@ -45,4 +46,9 @@ public interface DmsDrugService {
      * 描述：根据id查询药品
      */
     DmsDrugResult selectById(Long id);
+
+    /**
+     * 描述：查询药品可用库存（库存-已开立未发药的预留），返回药品id->可用库存
+     */
+    Map<Long, Long> listAvailableStock(List<Long> ids);
 }
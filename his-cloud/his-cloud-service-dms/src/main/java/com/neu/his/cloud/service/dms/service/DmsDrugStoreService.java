@@ -1,10 +1,12 @@
 package com.neu.his.cloud.service.dms.service;
 
 import com.neu.his.cloud.service.dms.dto.dms.DmsRefundDrugListParam;
+import com.neu.his.cloud.service.dms.dto.dms.DmsReleaseDrugResult;
 import com.neu.his.cloud.service.dms.dto.pms.PmsDrugStorePatientListResult;
 
 
 import java.util.Date;
+import java.util.List;
 
 /**
  * 药房
@@ -12,15 +14,20 @@ import java.util.Date;
 public interface DmsDrugStoreService {
 
     /**
-     * 描述：列出患者
+     * 描述：列出患者，paidSince不为空时只列出该时间之后有修改（缴费、发药等）的处方
      */
-    PmsDrugStorePatientListResult listPatient(Date date, String medicalRecordNo, Integer type);
+    PmsDrugStorePatientListResult listPatient(Date date, String medicalRecordNo, Integer type, Date paidSince);
 
     /**
-     * 描述：发药
+     * 描述：发药，药品库存不足时不发药，返回-1
      */
     int releaseDrug(Long prescriptionId, Integer type);
 
+    /**
+     * 描述：批量发药（同一类型的多张处方），返回每张处方的发药结果，药品库存不足的处方不发药
+     */
+    List<DmsReleaseDrugResult> releaseDrugBatch(List<Long> prescriptionIds, Integer type);
+
     /**
      * 描述：退药
      */
@@ -1,5 +1,8 @@
 package com.neu.his.cloud.service.dms.service;
 
+import java.util.List;
+import java.util.Map;
+
 public interface DmsFeeRabbitMQService {
 
     /**
@@ -20,4 +23,9 @@ public interface DmsFeeRabbitMQService {
      */
     int nonDrugOutOfTime(Long prescriptionId);
 
+    /**
+     * 描述:批量超时未缴费处理，key为类型（1非药品 4草药 5成药），每类一条UPDATE，并删除对应的超时作废任务
+     */
+    int outOfTime(Map<Integer, List<Long>> itemIdMap);
+
 }
@@ -12,9 +12,9 @@ import java.util.List;
  */
 public interface DmsRegistrationService {
     /**
-     * 描述：挂号
+     * 描述：挂号，返回服务端分配的发票号，挂号失败（号源已约满）返回null
      */
-    int createRegistration(DmsRegistrationParam dmsRegistrationParam);
+    Long createRegistration(DmsRegistrationParam dmsRegistrationParam);
     /**
      * 描述：根据身份证号查询历史挂号记录
      */
@@ -26,6 +26,7 @@ public interface DmsRegistrationService {
      * 2.如果大于0，绑定医生（skd_id、bind_status=1）,并修改sms_skd中的排班限额（-1）
      * 3.向dms_registration插入信息
      * 4.向bms_bills_record中插入账单记录
+     * 同一病人同一排班已有未退号的挂号时直接返回1，不重复挂号
      */
     int appRegistration(AppRegistrationParam appRegistrationParam);
 }
@@ -1,7 +1,10 @@
 package com.neu.his.cloud.service.dms.service.impl;
 
+import com.neu.his.cloud.service.dms.component.DrugCatalogCache;
+import com.neu.his.cloud.service.dms.component.RabbitMQRegistrationSender;
 import com.neu.his.cloud.service.dms.dto.dms.DmsCaseHistoryParam;
 import com.neu.his.cloud.service.dms.dto.dms.DmsCaseHistoryResult;
+import com.neu.his.cloud.service.dms.dto.dms.DmsDrugView;
 import com.neu.his.cloud.service.dms.mapper.*;
 import com.neu.his.cloud.service.dms.model.*;
 import com.neu.his.cloud.service.dms.service.DmsCaseHistoryService;
@@ -30,9 +33,11 @@ public class DmsCaseHistoryServiceImpl implements DmsCaseHistoryService {
     @Autowired
     DmsMedicineItemRecordMapper dmsMedicineItemRecordMapper;
     @Autowired
-    DmsDrugMapper dmsDrugMapper;
+    DrugCatalogCache drugCatalogCache;
     @Autowired
     PmsPatientMapper pmsPatientMapper;
+    @Autowired
+    RabbitMQRegistrationSender rabbitMQRegistrationSender;
 
     //chiefComplaint
     //historyOfPresentIllness
@@ -168,6 +173,7 @@ public class DmsCaseHistoryServiceImpl implements DmsCaseHistoryService {
         registration.setId(dmsCaseHistoryParam.getRegistrationId());
         registration.setStatus(3);
         dmsRegistrationMapper.updateByPrimaryKeySelective(registration);
+        rabbitMQRegistrationSender.sendChange(registration.getId());
 
         return 1;
     }
@@ -223,7 +229,7 @@ public class DmsCaseHistoryServiceImpl implements DmsCaseHistoryService {
             String oneItemRecord = "";//用于记录一个处方项（即一种药）
             for (DmsHerbalItemRecord dmsHerbalItemRecord: dmsHerbalItemRecordList) {
                 Long itemId = dmsHerbalItemRecord.getDrugId();
-                DmsDrug dmsDrug = dmsDrugMapper.selectByPrimaryKey(itemId);
+                DmsDrugView dmsDrug = drugCatalogCache.get(itemId);
                 String itemName = dmsDrug.getName();
                 Long num = dmsHerbalItemRecord.getTotalNum();
                 oneItemRecord = oneItemRecord + itemName + "<<>>" + num + "><";
@@ -251,7 +257,7 @@ public class DmsCaseHistoryServiceImpl implements DmsCaseHistoryService {
             String oneItemRecord = "";//用于记录一个处方项（即一种药）
             for(DmsMedicineItemRecord dmsMedicineItemRecord: dmsMedicineItemRecordList){
                 Long itemId = dmsMedicineItemRecord.getDrugId();
-                DmsDrug dmsDrug = dmsDrugMapper.selectByPrimaryKey(itemId);
+                DmsDrugView dmsDrug = drugCatalogCache.get(itemId);
                 String itemName = dmsDrug.getName();
                 Long num = dmsMedicineItemRecord.getNum();
                 oneItemRecord = oneItemRecord + itemName + "<<>>" + num + "><";
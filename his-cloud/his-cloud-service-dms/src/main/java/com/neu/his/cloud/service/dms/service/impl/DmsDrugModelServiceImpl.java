@@ -6,6 +6,7 @@ import com.neu.his.cloud.service.dms.dto.dms.DmsDrugModelResult;
 import com.neu.his.cloud.service.dms.mapper.DmsDrugModelMapper;
 import com.neu.his.cloud.service.dms.mapper.DmsHerbalModelItemMapper;
 import com.neu.his.cloud.service.dms.mapper.DmsMedicineModelItemMapper;
+import com.neu.his.cloud.service.dms.mapper.DmsPrescriptionPipelineDao;
 import com.neu.his.cloud.service.dms.model.*;
 import com.neu.his.cloud.service.dms.service.DmsDrugModelService;
 import com.neu.his.cloud.service.dms.util.DateUtil;
@@ -13,6 +14,7 @@ import com.neu.his.cloud.service.dms.util.DateUtil;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
@@ -28,11 +30,15 @@ public class DmsDrugModelServiceImpl implements DmsDrugModelService {
     DmsMedicineModelItemMapper dmsMedicineModelItemMapper;
     @Autowired
     DmsHerbalModelItemMapper dmsHerbalModelItemMapper;
+    @Autowired
+    DmsPrescriptionPipelineDao dmsPrescriptionPipelineDao;
 
+    //1.插入模版并回填id
+    //2.一条多行INSERT插入全部模版项
     @Override
+    @Transactional
     public int createModel(DmsDrugModelParam dmsDrugModelParam) {
 
-        DmsDrugModelExample example=new DmsDrugModelExample();
         //插入模版
         DmsDrugModel dmsDrugModel=new DmsDrugModel();
         BeanUtils.copyProperties(dmsDrugModelParam,dmsDrugModel);
@@ -41,23 +47,26 @@ public class DmsDrugModelServiceImpl implements DmsDrugModelService {
         dmsDrugModel.setCreateTime(currentTime);
         String code=codeGenerator(currentTime);
         dmsDrugModel.setCode(code);
-        dmsDrugModelMapper.insert(dmsDrugModel);
-        //根据code返回id
-        example.clear();
-        example.createCriteria().andCodeEqualTo(code);
-        Long id = dmsDrugModelMapper.selectByExample(example).get(0).getId();
+        dmsPrescriptionPipelineDao.insertDrugModel(dmsDrugModel);
+        Long id = dmsDrugModel.getId();
         //插入模版项
         if(dmsDrugModelParam.getType()==0){//草药
-            for(DmsHerbalModelItem dmsHerbalModelItem:dmsDrugModelParam.getDmsHerbalModelItemList()){
-                dmsHerbalModelItem.setModelId(id);
-                dmsHerbalModelItem.setStatus(1);//正常
-                dmsHerbalModelItemMapper.insert(dmsHerbalModelItem);
+            List<DmsHerbalModelItem> itemList = dmsDrugModelParam.getDmsHerbalModelItemList();
+            if(!CollectionUtils.isEmpty(itemList)){
+                for(DmsHerbalModelItem dmsHerbalModelItem:itemList){
+                    dmsHerbalModelItem.setModelId(id);
+                    dmsHerbalModelItem.setStatus(1);//正常
+                }
+                dmsPrescriptionPipelineDao.insertHerbalModelItemList(itemList);
             }
         }else{//成药
-            for(DmsMedicineModelItem dmsMedicineModelItem:dmsDrugModelParam.getDmsMedicineModelItemList()){
-                dmsMedicineModelItem.setModelId(id);
-                dmsMedicineModelItem.setStatus(1);//正常
-                dmsMedicineModelItemMapper.insert(dmsMedicineModelItem);
+            List<DmsMedicineModelItem> itemList = dmsDrugModelParam.getDmsMedicineModelItemList();
+            if(!CollectionUtils.isEmpty(itemList)){
+                for(DmsMedicineModelItem dmsMedicineModelItem:itemList){
+                    dmsMedicineModelItem.setModelId(id);
+                    dmsMedicineModelItem.setStatus(1);//正常
+                }
+                dmsPrescriptionPipelineDao.insertMedicineModelItemList(itemList);
             }
         }
         return 1;
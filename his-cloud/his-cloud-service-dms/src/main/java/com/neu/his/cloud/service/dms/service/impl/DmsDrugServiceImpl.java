@@ -3,6 +3,8 @@ package com.neu.his.cloud.service.dms.service.impl;
 
 
 import cn.hutool.core.collection.CollectionUtil;
+import com.neu.his.cloud.service.dms.component.DrugCatalogCache;
+import com.neu.his.cloud.service.dms.component.DrugStockCache;
 import com.neu.his.cloud.service.dms.dto.dms.DmsDosageResult;
 import com.neu.his.cloud.service.dms.dto.dms.DmsDrugParam;
 import com.neu.his.cloud.service.dms.dto.dms.DmsDrugResult;
@@ -19,7 +21,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class DmsDrugServiceImpl implements DmsDrugService {
@@ -27,6 +31,12 @@ public class DmsDrugServiceImpl implements DmsDrugService {
     @Autowired
     private DmsDrugMapper dmsDrugMapper;
 
+    @Autowired
+    private DrugStockCache drugStockCache;
+
+    @Autowired
+    private DrugCatalogCache drugCatalogCache;
+
     @Autowired
     private DmsDosageMapper dmsDosageMapper;
 
@@ -53,7 +63,10 @@ public class DmsDrugServiceImpl implements DmsDrugService {
         }else{
             //status不为0,先删除，再插入
             dmsDrugMapper.deleteByExample(example);
-            return dmsDrugMapper.insert(dmsDrug);
+            int count = dmsDrugMapper.insert(dmsDrug);
+            //新药品不在缓存中，查询时加载；被删除的旧药品需从各实例的缓存中移除
+            drugCatalogCache.publishInvalidate(Collections.singletonList(oldDrug.getId()));
+            return count;
         }
     }
 
@@ -63,7 +76,9 @@ public class DmsDrugServiceImpl implements DmsDrugService {
         dmsDrug.setStatus(0);
         DmsDrugExample example = new DmsDrugExample();
         example.createCriteria().andIdIn(ids);
-        return dmsDrugMapper.updateByExampleSelective(dmsDrug, example);
+        int count = dmsDrugMapper.updateByExampleSelective(dmsDrug, example);
+        drugCatalogCache.publishInvalidate(ids);
+        return count;
     }
 
 
@@ -77,7 +92,11 @@ public class DmsDrugServiceImpl implements DmsDrugService {
         DmsDrug dmsDrug = new DmsDrug();
         BeanUtils.copyProperties(dmsDrugParam, dmsDrug);
         dmsDrug.setId(id);
-        return dmsDrugMapper.updateByPrimaryKeySelective(dmsDrug);
+        int count = dmsDrugMapper.updateByPrimaryKeySelective(dmsDrug);
+        //库存可能被直接修改，重新加载可用库存
+        drugStockCache.refresh(id);
+        drugCatalogCache.publishInvalidate(Collections.singletonList(id));
+        return count;
     }
 
     @Override
@@ -202,4 +221,9 @@ public class DmsDrugServiceImpl implements DmsDrugService {
         return dmsDrugResult;
     }
 
+    @Override
+    public Map<Long, Long> listAvailableStock(List<Long> ids) {
+        return drugStockCache.listAvailable(ids);
+    }
+
 }
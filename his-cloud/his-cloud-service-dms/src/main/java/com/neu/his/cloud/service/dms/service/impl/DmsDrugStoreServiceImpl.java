@@ -1,20 +1,28 @@
 package com.neu.his.cloud.service.dms.service.impl;
 
+import com.neu.his.cloud.service.dms.component.DrugStockLedger;
 import com.neu.his.cloud.service.dms.dto.dms.DmsRefundDrugListParam;
 import com.neu.his.cloud.service.dms.dto.dms.DmsRefundDrugParam;
+import com.neu.his.cloud.service.dms.dto.dms.DmsReleaseDrugResult;
 import com.neu.his.cloud.service.dms.dto.pms.PmsDrugStorePatientListResult;
 import com.neu.his.cloud.service.dms.dto.pms.PmsDrugStorePatientResult;
+import com.neu.his.cloud.service.dms.dto.pms.PmsDrugStorePrescriptionRow;
 import com.neu.his.cloud.service.dms.mapper.*;
 import com.neu.his.cloud.service.dms.model.*;
 import com.neu.his.cloud.service.dms.service.DmsDrugStoreService;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.util.*;
 
 @Service
 public class DmsDrugStoreServiceImpl implements DmsDrugStoreService {
+    //增量刷新起点相对查询时间的提前量
+    private static final long REFRESH_OVERLAP_MILLIS = 10 * 1000;
 
     @Autowired
     private DmsHerbalPrescriptionRecordMapper dmsHerbalPrescriptionRecordMapper;
@@ -29,223 +37,62 @@ public class DmsDrugStoreServiceImpl implements DmsDrugStoreService {
     private DmsMedicineItemRecordMapper dmsMedicineItemRecordMapper;
 
     @Autowired
-    private DmsRegistrationMapper dmsRegistrationMapper;
+    private DmsDrugStoreDao dmsDrugStoreDao;
 
     @Autowired
-    private PmsPatientMapper pmsPatientMapper;
+    private DrugStockLedger drugStockLedger;
 
     @Autowired
-    private DmsDrugMapper dmsDrugMapper;
+    private DmsDrugStockDao dmsDrugStockDao;
 
     @Autowired
     private DmsDrugRefundItemRecordMapper dmsDrugRefundItemRecordMapper;
 
+    @Autowired
+    private BmsRefundableItemDao bmsRefundableItemDao;
+
+    //1.一次联表查询当天状态为2（未发药）、3（已发药）的处方及其挂号、患者信息，按病历号、处方修改时间（增量刷新）在SQL中筛选
+    //2.按状态分为未发药、已发药，同一挂号的处方合并为一个患者
+    //3.返回本次刷新时间，药房下次以此作为paidSince只取之后缴费或发药的处方
     @Override
-    public PmsDrugStorePatientListResult listPatient(Date date, String medicalRecordNo, Integer type){
+    public PmsDrugStorePatientListResult listPatient(Date date, String medicalRecordNo, Integer type, Date paidSince){
         //根据type(4 草药，5 成药)判断处方类型
-        if(type == 4 ){
-            return listWhenHerbal(date,medicalRecordNo);
-        }else if(type == 5){
-            return listWhenMedicine(date,medicalRecordNo);
+        if(type == null || (type != 4 && type != 5)){
+            return null;
         }
-
-        return null;
-    }
-
-    //type=4时查草药处方
-    public PmsDrugStorePatientListResult listWhenHerbal(Date date, String medicalRecordNo){
-        System.err.println("正在查询草药处方");
-        List<PmsDrugStorePatientResult> undoPatientList = new ArrayList<>();
-        List<PmsDrugStorePatientResult> donePatientList = new ArrayList<>();
-        //在处方表中根据时间查询
+        //提前一段时间作为下次的起点，避免漏掉查询时尚未提交的收费
+        Date refreshTime = new Date(System.currentTimeMillis() - REFRESH_OVERLAP_MILLIS);
         List<Date> dateList = createDate(date);
-        DmsHerbalPrescriptionRecordExample recordExample = new DmsHerbalPrescriptionRecordExample();
-        recordExample.createCriteria().andCreateTimeBetween(dateList.get(0),dateList.get(1)); // 今天之内
-        List<DmsHerbalPrescriptionRecord> recordList = dmsHerbalPrescriptionRecordMapper.selectByExample(recordExample);
-
-        //判断处方项状态为2(未领药)\3（已领药）分类，查询挂号Id并去重
-        Map<Long, List<Long>> undoPatientToRecord = new Hashtable();
-        Map<Long, List<Long>> donePatientToRecord = new Hashtable();
-        for(DmsHerbalPrescriptionRecord record : recordList){
-            if(record.getStatus() == 2){
-                if(undoPatientToRecord.get(record.getRegistrationId()) == null){
-                    List<Long> longList = new ArrayList<>();
-                    longList.add(record.getId());
-                    undoPatientToRecord.put(record.getRegistrationId(),longList);
-                }else{
-                    List<Long> longList = undoPatientToRecord.get(record.getRegistrationId());
-                    longList.add(record.getId());
-                    undoPatientToRecord.put(record.getRegistrationId(),longList);
-                }
-            }else if(record.getStatus() == 3){
-                if(donePatientToRecord.get(record.getRegistrationId()) == null){
-                    List<Long> longList = new ArrayList<>();
-                    longList.add(record.getId());
-                    donePatientToRecord.put(record.getRegistrationId(),longList);
-                }else{
-                    List<Long> longList = donePatientToRecord.get(record.getRegistrationId());
-                    longList.add(record.getId());
-                    donePatientToRecord.put(record.getRegistrationId(),longList);
-                }
-            }
-        }
-
-        //根据病人id再在患者表中封装病人信息，如果传入患者病历号，则筛选患者
-        for(Long key : undoPatientToRecord.keySet()){
-            PmsDrugStorePatientResult result = new PmsDrugStorePatientResult();
-            //查挂号表
-            DmsRegistration registration = dmsRegistrationMapper.selectByPrimaryKey(key);
-            if(registration == null){
-                continue;
-            }
-            //查患者表，封装信息
-            PmsPatient patient = pmsPatientMapper.selectByPrimaryKey(registration.getPatientId());
-            if(patient == null){
-                continue;
-            }
-            if(medicalRecordNo != null){
-                if(!patient.getMedicalRecordNo().equals(medicalRecordNo)){
-                    continue;
-                }
-            }
-            result.setPatientId(patient.getId());
-            result.setPatientName(patient.getName());
-            result.setMedicalRecordNo(patient.getMedicalRecordNo());
-            result.setPrescriptionIdList(undoPatientToRecord.get(key));
-            undoPatientList.add(result);
-        }
-        for(Long key : donePatientToRecord.keySet()){
-            PmsDrugStorePatientResult result = new PmsDrugStorePatientResult();
-            //查挂号表
-            DmsRegistration registration = dmsRegistrationMapper.selectByPrimaryKey(key);
-            if(registration == null){
-                continue;
-            }
-            //查患者表，封装信息
-            PmsPatient patient = pmsPatientMapper.selectByPrimaryKey(registration.getPatientId());
-            if(patient == null){
-                continue;
-            }
-            if(medicalRecordNo != null){
-                if(!patient.getMedicalRecordNo().equals(medicalRecordNo)){
-                    continue;
-                }
-            }
-            result.setPatientId(patient.getId());
-            result.setPatientName(patient.getName());
-            result.setMedicalRecordNo(patient.getMedicalRecordNo());
-            result.setPrescriptionIdList(donePatientToRecord.get(key));
-            donePatientList.add(result);
-        }
-
-        PmsDrugStorePatientListResult result = new PmsDrugStorePatientListResult();
-        result.setUndoPatientList(undoPatientList);
-        result.setDonePatientList(donePatientList);
-        return result;
-    }
-    //type=5时查成药处方
-    public PmsDrugStorePatientListResult listWhenMedicine(Date date, String medicalRecordNo){
-        System.err.println("正在查询西药处方");
-        List<PmsDrugStorePatientResult> undoPatientList = new ArrayList<>();
-        List<PmsDrugStorePatientResult> donePatientList = new ArrayList<>();
-        //在处方表中根据时间查询
-        List<Date> dateList = createDate(date);
-        DmsMedicinePrescriptionRecordExample recordExample = new DmsMedicinePrescriptionRecordExample();
-        recordExample.createCriteria().andCreateTimeBetween(dateList.get(0),dateList.get(1));
-        List<DmsMedicinePrescriptionRecord> recordList = dmsMedicinePrescriptionRecordMapper.selectByExample(recordExample);
-        System.err.println("在时间范围内的西药处方条数："+recordList.size());
-
-
-        //判断处方项状态为2(未领药)\3（已领药）分类，查询挂号Id并去重
-        Map<Long, List<Long>> undoPatientToRecord = new Hashtable();
-        Map<Long, List<Long>> donePatientToRecord = new Hashtable();
-        for(DmsMedicinePrescriptionRecord record : recordList){
-            if(record.getStatus() == 2){  //未领药
-                if(undoPatientToRecord.get(record.getRegistrationId()) == null){
-                    List<Long> longList = new ArrayList<>();
-                    longList.add(record.getId());
-                    undoPatientToRecord.put(record.getRegistrationId(),longList);
-                }else{
-                    List<Long> longList = undoPatientToRecord.get(record.getRegistrationId());
-                    longList.add(record.getId());
-                    undoPatientToRecord.put(record.getRegistrationId(),longList);
-                }
-            }else if(record.getStatus() == 3){ //已领药
-                if(donePatientToRecord.get(record.getRegistrationId()) == null){
-                    List<Long> longList = new ArrayList<>();
-                    longList.add(record.getId());
-                    donePatientToRecord.put(record.getRegistrationId(),longList);
-                }else{
-                    List<Long> longList = donePatientToRecord.get(record.getRegistrationId());
-                    longList.add(record.getId());
-                    donePatientToRecord.put(record.getRegistrationId(),longList);
-                }
-            }
-        }
-
-        System.err.println("undoPatientToRecord:"+undoPatientToRecord.size());
-        //根据病人id再在患者表中封装病人信息，如果传入患者病历号，则筛选患者
-        for(Long key : undoPatientToRecord.keySet()){
-            PmsDrugStorePatientResult result = new PmsDrugStorePatientResult();
-            //查挂号表
-            DmsRegistration registration = dmsRegistrationMapper.selectByPrimaryKey(key);
-            if(registration == null){
-                continue;
-            }
-            //查患者表，封装信息
-            PmsPatient patient = pmsPatientMapper.selectByPrimaryKey(registration.getPatientId());
-            if(patient == null){
-                continue;
-            }
-            if(medicalRecordNo != null){
-                if(!patient.getMedicalRecordNo().equals(medicalRecordNo)){
-                    continue;
-                }
-            }
-            result.setPatientId(patient.getId());
-            result.setPatientName(patient.getName());
-            result.setMedicalRecordNo(patient.getMedicalRecordNo());
-            result.setPrescriptionIdList(undoPatientToRecord.get(key));
-            undoPatientList.add(result);
-        }
-
-
-        System.err.println("donePatientToRecord:"+donePatientToRecord.size());
-        for(Long key : donePatientToRecord.keySet()){
-            PmsDrugStorePatientResult result = new PmsDrugStorePatientResult();
-            //查挂号表
-            DmsRegistration registration = dmsRegistrationMapper.selectByPrimaryKey(key);
-            if(registration == null){
-                continue;
-            }
-            //查患者表，封装信息
-            PmsPatient patient = pmsPatientMapper.selectByPrimaryKey(registration.getPatientId());
-            if(patient == null){
-                continue;
+        List<PmsDrugStorePrescriptionRow> rowList = dmsDrugStoreDao.listPrescription(type, dateList.get(0), dateList.get(1),
+                medicalRecordNo, paidSince);
+
+        Map<Long, PmsDrugStorePatientResult> undoPatientMap = new LinkedHashMap<>();
+        Map<Long, PmsDrugStorePatientResult> donePatientMap = new LinkedHashMap<>();
+        for(PmsDrugStorePrescriptionRow row : rowList){
+            Map<Long, PmsDrugStorePatientResult> patientMap = row.getStatus() == 2 ? undoPatientMap : donePatientMap;
+            PmsDrugStorePatientResult patientResult = patientMap.get(row.getRegistrationId());
+            if(patientResult == null){
+                patientResult = new PmsDrugStorePatientResult();
+                patientResult.setPatientId(row.getPatientId());
+                patientResult.setPatientName(row.getPatientName());
+                patientResult.setMedicalRecordNo(row.getMedicalRecordNo());
+                patientResult.setPrescriptionIdList(new ArrayList<>());
+                patientMap.put(row.getRegistrationId(), patientResult);
             }
-            if(medicalRecordNo != null){
-                if(!patient.getMedicalRecordNo().equals(medicalRecordNo)){
-                    continue;
-                }
-            }
-            result.setPatientId(patient.getId());
-            result.setPatientName(patient.getName());
-            result.setMedicalRecordNo(patient.getMedicalRecordNo());
-            result.setPrescriptionIdList(donePatientToRecord.get(key));
-            donePatientList.add(result);
+            patientResult.getPrescriptionIdList().add(row.getPrescriptionId());
         }
 
-
-        System.err.println("undoPatientList:"+undoPatientList.size());
-        System.err.println("donePatientList:"+donePatientList.size());
         PmsDrugStorePatientListResult result = new PmsDrugStorePatientListResult();
-        result.setUndoPatientList(undoPatientList);
-        result.setDonePatientList(donePatientList);
+        result.setUndoPatientList(new ArrayList<>(undoPatientMap.values()));
+        result.setDonePatientList(new ArrayList<>(donePatientMap.values()));
+        result.setRefreshTime(refreshTime);
         return result;
     }
 
-
+    //1.处方状态2（已缴费）修改为3（已发药）
+    //2.按未发药的处方项扣减库存、释放预留，再修改处方项状态；任一药品库存不足时回滚，返回-1
     @Override
+    @Transactional
     public int releaseDrug(Long prescriptionId,Integer type){
         //根据处方id判断处方状态为2修改为3
         int count = 0;
@@ -258,6 +105,10 @@ public class DmsDrugStoreServiceImpl implements DmsDrugStoreService {
             if(count == 0){
                 return count;
             }
+            if(!drugStockLedger.dispense(Collections.singletonList(prescriptionId), type)){//库存不足
+                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+                return -1;
+            }
 
             //根据处方id修改处方项status 1的 为 2
             DmsHerbalItemRecordExample itemExample = new DmsHerbalItemRecordExample();
@@ -274,6 +125,10 @@ public class DmsDrugStoreServiceImpl implements DmsDrugStoreService {
             if(count == 0){
                 return count;
             }
+            if(!drugStockLedger.dispense(Collections.singletonList(prescriptionId), type)){//库存不足
+                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+                return -1;
+            }
 
             //根据处方id修改处方项status 1的 为 2
             DmsMedicineItemRecordExample itemExample = new DmsMedicineItemRecordExample();
@@ -282,11 +137,119 @@ public class DmsDrugStoreServiceImpl implements DmsDrugStoreService {
             itemRecord.setStatus(2);
             count += dmsMedicineItemRecordMapper.updateByExampleSelective(itemRecord,itemExample);
         }
+        //同步收费处可退费项目
+        bmsRefundableItemDao.releasePrescription(prescriptionId, type);
 
         return count;
     }
 
+    //1.锁定其中状态为2（已缴费未发药）的处方，其余的不发药
+    //2.按这些处方未发药的处方项扣减库存、释放预留并记流水；有药品库存不足时回滚到保存点，逐张处方扣减，库存不足的处方不发药
+    //3.处方状态2改为3、处方项状态1改为2、收费处可退费项目改为不可退，各一条UPDATE ... WHERE id IN (...)
+    //4.未发药的处方查询当前状态，返回每张处方的结果
     @Override
+    @Transactional
+    public List<DmsReleaseDrugResult> releaseDrugBatch(List<Long> prescriptionIds, Integer type){
+        if(prescriptionIds == null || prescriptionIds.isEmpty() || type == null || (type != 4 && type != 5)){
+            return new ArrayList<>();
+        }
+        List<Long> idList = new ArrayList<>(new LinkedHashSet<>(prescriptionIds));
+        List<Long> paidIdList = dmsDrugStockDao.lockPrescription(idList, type, 2);
+        Set<Long> shortIdSet = new HashSet<>();
+        if(!paidIdList.isEmpty()){
+            TransactionStatus transactionStatus = TransactionAspectSupport.currentTransactionStatus();
+            Object savepoint = transactionStatus.createSavepoint();
+            if(!drugStockLedger.dispense(paidIdList, type)){
+                transactionStatus.rollbackToSavepoint(savepoint);
+                for(Long id : paidIdList){
+                    Object itemSavepoint = transactionStatus.createSavepoint();
+                    if(!drugStockLedger.dispense(Collections.singletonList(id), type)){
+                        transactionStatus.rollbackToSavepoint(itemSavepoint);
+                        shortIdSet.add(id);
+                    }
+                    transactionStatus.releaseSavepoint(itemSavepoint);
+                }
+                paidIdList = new ArrayList<>(paidIdList);
+                paidIdList.removeAll(shortIdSet);
+            }
+            transactionStatus.releaseSavepoint(savepoint);
+        }
+        if(!paidIdList.isEmpty()){
+            if(type == 4){
+                DmsHerbalPrescriptionRecord record = new DmsHerbalPrescriptionRecord();
+                record.setStatus(3);
+                DmsHerbalPrescriptionRecordExample example = new DmsHerbalPrescriptionRecordExample();
+                example.createCriteria().andIdIn(paidIdList);
+                dmsHerbalPrescriptionRecordMapper.updateByExampleSelective(record,example);
+
+                DmsHerbalItemRecord itemRecord = new DmsHerbalItemRecord();
+                itemRecord.setStatus(2);
+                DmsHerbalItemRecordExample itemExample = new DmsHerbalItemRecordExample();
+                itemExample.createCriteria().andPrescriptionIdIn(paidIdList).andStatusEqualTo(1);
+                dmsHerbalItemRecordMapper.updateByExampleSelective(itemRecord,itemExample);
+            }else{
+                DmsMedicinePrescriptionRecord record = new DmsMedicinePrescriptionRecord();
+                record.setStatus(3);
+                DmsMedicinePrescriptionRecordExample example = new DmsMedicinePrescriptionRecordExample();
+                example.createCriteria().andIdIn(paidIdList);
+                dmsMedicinePrescriptionRecordMapper.updateByExampleSelective(record,example);
+
+                DmsMedicineItemRecord itemRecord = new DmsMedicineItemRecord();
+                itemRecord.setStatus(2);
+                DmsMedicineItemRecordExample itemExample = new DmsMedicineItemRecordExample();
+                itemExample.createCriteria().andPrescriptionIdIn(paidIdList).andStatusEqualTo(1);
+                dmsMedicineItemRecordMapper.updateByExampleSelective(itemRecord,itemExample);
+            }
+            //同步收费处可退费项目
+            bmsRefundableItemDao.releasePrescriptionList(paidIdList, type);
+        }
+
+        //未发药的处方查询当前状态
+        Set<Long> paidIdSet = new HashSet<>(paidIdList);
+        List<Long> failIdList = new ArrayList<>();
+        for(Long id : idList){
+            if(!paidIdSet.contains(id)){
+                failIdList.add(id);
+            }
+        }
+        Map<Long, Integer> statusMap = new HashMap<>();
+        if(!failIdList.isEmpty()){
+            if(type == 4){
+                DmsHerbalPrescriptionRecordExample example = new DmsHerbalPrescriptionRecordExample();
+                example.createCriteria().andIdIn(failIdList);
+                for(DmsHerbalPrescriptionRecord record : dmsHerbalPrescriptionRecordMapper.selectByExample(example)){
+                    statusMap.put(record.getId(), record.getStatus());
+                }
+            }else{
+                DmsMedicinePrescriptionRecordExample example = new DmsMedicinePrescriptionRecordExample();
+                example.createCriteria().andIdIn(failIdList);
+                for(DmsMedicinePrescriptionRecord record : dmsMedicinePrescriptionRecordMapper.selectByExample(example)){
+                    statusMap.put(record.getId(), record.getStatus());
+                }
+            }
+        }
+
+        List<DmsReleaseDrugResult> resultList = new ArrayList<>(idList.size());
+        for(Long id : idList){
+            DmsReleaseDrugResult result = new DmsReleaseDrugResult();
+            result.setPrescriptionId(id);
+            if(paidIdSet.contains(id)){
+                result.setSuccess(true);
+                result.setStatus(3);
+                result.setMessage("发药成功");
+            }else{
+                Integer status = statusMap.get(id);
+                result.setSuccess(false);
+                result.setStatus(status);
+                result.setMessage(shortIdSet.contains(id) ? "药品库存不足" : releaseFailMessage(status));
+            }
+            resultList.add(result);
+        }
+        return resultList;
+    }
+
+    @Override
+    @Transactional
     public int refundDrug(DmsRefundDrugListParam dmsRefundDrugListParam) {
         int count = 0;
 
@@ -308,16 +271,10 @@ public class DmsDrugStoreServiceImpl implements DmsDrugStoreService {
                 record.setStatus(3);
                 record.setCurrentNum(item.getCurrentNum() - refundItem.getRefundNum());
                 count += dmsHerbalItemRecordMapper.updateByPrimaryKeySelective(record);
+                bmsRefundableItemDao.refundHerbalItem(record.getId(), record.getCurrentNum());
 
-                //修改库存
-                DmsDrug drug = dmsDrugMapper.selectByPrimaryKey(item.getDrugId());
-                if (drug == null) {
-                    return count;
-                }
-                DmsDrug newDrug = new DmsDrug();
-                newDrug.setId(item.getDrugId());
-                newDrug.setStock(drug.getStock() + refundItem.getRefundNum());
-                count += dmsDrugMapper.updateByPrimaryKeySelective(newDrug);
+                //库存加回（stock = stock + 退药数量）并记流水
+                count += drugStockLedger.returnStock(4, item.getPrescriptionId(), item.getId(), item.getDrugId(), refundItem.getRefundNum());
 
                 //获取草药处方单
                 DmsHerbalPrescriptionRecord prescriptionRecord = dmsHerbalPrescriptionRecordMapper.selectByPrimaryKey(item.getPrescriptionId());
@@ -352,16 +309,10 @@ public class DmsDrugStoreServiceImpl implements DmsDrugStoreService {
                 record.setCurrentNum(item.getCurrentNum() - refundItem.getRefundNum());
                 record.setRefundNum(item.getRefundNum()+refundItem.getRefundNum());
                 count += dmsMedicineItemRecordMapper.updateByPrimaryKeySelective(record);
+                bmsRefundableItemDao.refundMedicineItem(record.getId(), record.getCurrentNum(), record.getRefundNum());
 
-                //修改库存
-                DmsDrug drug = dmsDrugMapper.selectByPrimaryKey(item.getDrugId());
-                if (drug == null) {
-                    return count;
-                }
-                DmsDrug newDrug = new DmsDrug();
-                newDrug.setId(item.getDrugId());
-                newDrug.setStock(drug.getStock() + refundItem.getRefundNum());
-                count += dmsDrugMapper.updateByPrimaryKeySelective(newDrug);
+                //库存加回（stock = stock + 退药数量）并记流水
+                count += drugStockLedger.returnStock(5, item.getPrescriptionId(), item.getId(), item.getDrugId(), refundItem.getRefundNum());
 
                 //获取成药处方单
                 DmsMedicinePrescriptionRecord prescriptionRecord = dmsMedicinePrescriptionRecordMapper.selectByPrimaryKey(item.getPrescriptionId());
@@ -387,6 +338,20 @@ public class DmsDrugStoreServiceImpl implements DmsDrugStoreService {
     }
 
 
+    //处方不能发药的原因
+    private String releaseFailMessage(Integer status){
+        if(status == null){
+            return "处方不存在";
+        }
+        switch (status){
+            case 0: return "处方已作废";
+            case 1: return "处方未缴费";
+            case 3: return "处方已发药";
+            case 4: return "处方已过期";
+            default: return "处方状态不允许发药";
+        }
+    }
+
     //获取给定时间的时间段
     public List<Date> createDate(Date date){
         List<Date> dateList = new ArrayList<>();
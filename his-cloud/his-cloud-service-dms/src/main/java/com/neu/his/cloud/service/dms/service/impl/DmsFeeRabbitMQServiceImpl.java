@@ -1,12 +1,20 @@
 package com.neu.his.cloud.service.dms.service.impl;
 
+import com.neu.his.cloud.service.dms.component.DrugStockLedger;
+import com.neu.his.cloud.service.dms.mapper.DmsDrugStockDao;
 import com.neu.his.cloud.service.dms.mapper.DmsHerbalPrescriptionRecordMapper;
 import com.neu.his.cloud.service.dms.mapper.DmsMedicinePrescriptionRecordMapper;
 import com.neu.his.cloud.service.dms.mapper.DmsNonDrugItemRecordMapper;
+import com.neu.his.cloud.service.dms.mapper.DmsPrescriptionExpiryDao;
 import com.neu.his.cloud.service.dms.model.*;
 import com.neu.his.cloud.service.dms.service.DmsFeeRabbitMQService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 
 @Service
@@ -21,29 +29,27 @@ public class DmsFeeRabbitMQServiceImpl implements DmsFeeRabbitMQService {
     @Autowired
     private DmsNonDrugItemRecordMapper dmsNonDrugItemRecordMapper;
 
+    @Autowired
+    private DmsPrescriptionExpiryDao dmsPrescriptionExpiryDao;
+
+    @Autowired
+    private DmsDrugStockDao dmsDrugStockDao;
+
+    @Autowired
+    private DrugStockLedger drugStockLedger;
+
     @Override
+    @Transactional
     public int herbalOutOfTime(Long prescriptionId){
-        int count = 0;
-        //草药处方超时未缴费处理（设置状态为4已过期）
-        DmsHerbalPrescriptionRecord herbalRecord = new DmsHerbalPrescriptionRecord();
-        herbalRecord.setStatus(4);
-        DmsHerbalPrescriptionRecordExample example = new DmsHerbalPrescriptionRecordExample();
-        example.createCriteria().andIdEqualTo(prescriptionId).andStatusEqualTo(1);
-        count += dmsHerbalPrescriptionRecordMapper.updateByExampleSelective(herbalRecord,example);
-        return count;
+        //草药处方超时未缴费处理（设置状态为4已过期，释放预留库存）
+        return outOfTime(Collections.singletonMap(4, Collections.singletonList(prescriptionId)));
     }
 
     @Override
+    @Transactional
     public int medicineOutOfTime(Long prescriptionId){
-        int count = 0;
-        //成药处方超时未缴费处理（设置状态为4已过期）
-        DmsMedicinePrescriptionRecord medicineRecord = new DmsMedicinePrescriptionRecord();
-        medicineRecord.setStatus(4);
-        DmsMedicinePrescriptionRecordExample example = new DmsMedicinePrescriptionRecordExample();
-        example.createCriteria().andIdEqualTo(prescriptionId).andStatusEqualTo(1);
-        count += dmsMedicinePrescriptionRecordMapper.updateByExampleSelective(medicineRecord,example);
-
-        return count;
+        //成药处方超时未缴费处理（设置状态为4已过期，释放预留库存）
+        return outOfTime(Collections.singletonMap(5, Collections.singletonList(prescriptionId)));
     }
 
     @Override
@@ -58,4 +64,50 @@ public class DmsFeeRabbitMQServiceImpl implements DmsFeeRabbitMQService {
 
         return count;
     }
+
+    //1.按类型各执行一条 UPDATE ... SET status=过期 WHERE id IN (...) AND status=1（已缴费、已作废的不受影响）
+    //  药品处方先锁定其中仍为未缴费的处方，只对这些处方释放预留库存并修改状态
+    //2.删除这些项目的超时作废任务
+    @Override
+    @Transactional
+    public int outOfTime(Map<Integer, List<Long>> itemIdMap){
+        int count = 0;
+        for (Map.Entry<Integer, List<Long>> entry : itemIdMap.entrySet()){
+            Integer type = entry.getKey();
+            List<Long> itemIdList = entry.getValue();
+            if (itemIdList == null || itemIdList.isEmpty()){
+                continue;
+            }
+            if (type == 4 || type == 5){
+                List<Long> unpaidIdList = dmsDrugStockDao.lockPrescription(itemIdList, type, 1);
+                if (!unpaidIdList.isEmpty()){
+                    drugStockLedger.release(unpaidIdList, type);
+                    count += expirePrescription(unpaidIdList, type);
+                }
+            }else{
+                DmsNonDrugItemRecord nonDrugRecord = new DmsNonDrugItemRecord();
+                nonDrugRecord.setStatus(6);
+                DmsNonDrugItemRecordExample example = new DmsNonDrugItemRecordExample();
+                example.createCriteria().andIdIn(itemIdList).andStatusEqualTo(1);
+                count += dmsNonDrugItemRecordMapper.updateByExampleSelective(nonDrugRecord, example);
+            }
+            dmsPrescriptionExpiryDao.deleteAll(itemIdList, type);
+        }
+        return count;
+    }
+
+    private int expirePrescription(List<Long> prescriptionIdList, int type){
+        if (type == 4){
+            DmsHerbalPrescriptionRecord herbalRecord = new DmsHerbalPrescriptionRecord();
+            herbalRecord.setStatus(4);
+            DmsHerbalPrescriptionRecordExample example = new DmsHerbalPrescriptionRecordExample();
+            example.createCriteria().andIdIn(prescriptionIdList);
+            return dmsHerbalPrescriptionRecordMapper.updateByExampleSelective(herbalRecord, example);
+        }
+        DmsMedicinePrescriptionRecord medicineRecord = new DmsMedicinePrescriptionRecord();
+        medicineRecord.setStatus(4);
+        DmsMedicinePrescriptionRecordExample example = new DmsMedicinePrescriptionRecordExample();
+        example.createCriteria().andIdIn(prescriptionIdList);
+        return dmsMedicinePrescriptionRecordMapper.updateByExampleSelective(medicineRecord, example);
+    }
 }
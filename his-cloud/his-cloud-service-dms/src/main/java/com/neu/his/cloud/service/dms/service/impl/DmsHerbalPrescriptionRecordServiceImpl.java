@@ -1,22 +1,27 @@
 package com.neu.his.cloud.service.dms.service.impl;
 
+import com.neu.his.cloud.service.dms.component.DrugCatalogCache;
+import com.neu.his.cloud.service.dms.component.DrugStockLedger;
+import com.neu.his.cloud.service.dms.component.PrescriptionExpiryScheduler;
+import com.neu.his.cloud.service.dms.dto.dms.DmsDrugView;
 import com.neu.his.cloud.service.dms.dto.dms.DmsHerbalItemRecordResult;
 import com.neu.his.cloud.service.dms.dto.dms.DmsHerbalPrescriptionRecordParam;
 import com.neu.his.cloud.service.dms.dto.dms.DmsHerbalPrescriptionRecordResult;
-import com.neu.his.cloud.service.dms.mapper.DmsDrugMapper;
+import com.neu.his.cloud.service.dms.mapper.DmsDrugStockDao;
 import com.neu.his.cloud.service.dms.mapper.DmsHerbalItemRecordMapper;
 import com.neu.his.cloud.service.dms.mapper.DmsHerbalPrescriptionRecordMapper;
+import com.neu.his.cloud.service.dms.mapper.DmsPrescriptionPipelineDao;
 import com.neu.his.cloud.service.dms.mapper.SmsStaffMapper;
 import com.neu.his.cloud.service.dms.model.*;
 import com.neu.his.cloud.service.dms.service.DmsHerbalPrescriptionRecordService;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
+import java.util.*;
 
 @Service
 public class DmsHerbalPrescriptionRecordServiceImpl implements DmsHerbalPrescriptionRecordService {
@@ -30,49 +35,76 @@ public class DmsHerbalPrescriptionRecordServiceImpl implements DmsHerbalPrescrip
     @Autowired
     private SmsStaffMapper smsStaffMapper;
     @Autowired
-    private DmsDrugMapper dmsDrugMapper;
+    private DrugCatalogCache drugCatalogCache;
+    @Autowired
+    private DmsDrugStockDao dmsDrugStockDao;
+    @Autowired
+    private DrugStockLedger drugStockLedger;
+    @Autowired
+    private DmsPrescriptionPipelineDao dmsPrescriptionPipelineDao;
+    @Autowired
+    private PrescriptionExpiryScheduler prescriptionExpiryScheduler;
 
 
+    //1.插入处方并回填id，一条多行INSERT插入全部处方项
+    //2.按药品汇总总量（付数*每付用量）预留库存，任一药品可用库存不足则整个处方回滚
+    //3.登记超时未缴费作废，与处方同一事务提交
     @Override
+    @Transactional
     public Long apply(DmsHerbalPrescriptionRecordParam dmsHerbalPrescriptionRecordParam){
         DmsHerbalPrescriptionRecord record = new DmsHerbalPrescriptionRecord();
         BeanUtils.copyProperties(dmsHerbalPrescriptionRecordParam,record);
         record.setStatus(1);
         record.setCreateTime(new Date());
-        int insertCount = dmsHerbalPrescriptionRecordMapper.insertSelective(record);
-        if(insertCount <=0){
-            new Long(0);
+        if(dmsPrescriptionPipelineDao.insertHerbalPrescription(record) <= 0){
+            return 0L;
         }
-
-        DmsHerbalPrescriptionRecordExample recordExample = new DmsHerbalPrescriptionRecordExample();
-        recordExample.createCriteria().andRegistrationIdEqualTo(dmsHerbalPrescriptionRecordParam.getRegistrationId());
-        recordExample.setOrderByClause("create_time desc");
-        Long currentId = dmsHerbalPrescriptionRecordMapper.selectByExample(recordExample).get(0).getId();
+        Long currentId = record.getId();
 
         List<DmsHerbalItemRecord> dmsHerbalItemRecordList = dmsHerbalPrescriptionRecordParam.getDmsHerbalItemRecordList();
-        for(DmsHerbalItemRecord dmsHerbalItemRecord : dmsHerbalItemRecordList){
-            if(dmsHerbalItemRecord.getUsageNum() != null){
-                dmsHerbalItemRecord.setTotalNum(record.getPairNum() * dmsHerbalItemRecord.getUsageNum());
+        Map<Long, Long> drugNumMap = new HashMap<>();
+        if(dmsHerbalItemRecordList != null && !dmsHerbalItemRecordList.isEmpty()){
+            for(DmsHerbalItemRecord dmsHerbalItemRecord : dmsHerbalItemRecordList){
+                if(dmsHerbalItemRecord.getUsageNum() != null){
+                    dmsHerbalItemRecord.setTotalNum(record.getPairNum() * dmsHerbalItemRecord.getUsageNum());
+                }
+                dmsHerbalItemRecord.setId(null);
+                dmsHerbalItemRecord.setStatus(1);
+                dmsHerbalItemRecord.setPrescriptionId(currentId);
+                dmsHerbalItemRecord.setCurrentNum(dmsHerbalItemRecord.getTotalNum());
+                if(dmsHerbalItemRecord.getDrugId() != null && dmsHerbalItemRecord.getTotalNum() != null){
+                    drugNumMap.merge(dmsHerbalItemRecord.getDrugId(), dmsHerbalItemRecord.getTotalNum(), Long::sum);
+                }
             }
-            dmsHerbalItemRecord.setId(null);
-            dmsHerbalItemRecord.setStatus(1);
-            dmsHerbalItemRecord.setPrescriptionId(currentId);
-            dmsHerbalItemRecord.setCurrentNum(dmsHerbalItemRecord.getTotalNum());
-            insertCount += dmsHerbalItemRecordMapper.insert(dmsHerbalItemRecord);
+            dmsPrescriptionPipelineDao.insertHerbalItemList(dmsHerbalItemRecordList);
+        }
+        if(!drugStockLedger.reserve(4, currentId, drugNumMap)){//库存不足
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return 0L;
         }
+        prescriptionExpiryScheduler.schedule(currentId, PrescriptionExpiryScheduler.TYPE_HERBAL);
         return currentId;
     }
 
+    //1.锁定状态为1（未缴费）的处方，释放其处方项预留的库存
+    //2.修改这些处方及处方项状态为0（作废）
     @Override
+    @Transactional
     public int invalid(List<Long> ids){
+        List<Long> unpaidIdList = dmsDrugStockDao.lockPrescription(ids, 4, 1);
+        if(unpaidIdList.isEmpty()){
+            return 0;
+        }
+        drugStockLedger.release(unpaidIdList, 4);
+
         DmsHerbalPrescriptionRecordExample example = new DmsHerbalPrescriptionRecordExample();
-        example.createCriteria().andIdIn(ids).andStatusEqualTo(1);
+        example.createCriteria().andIdIn(unpaidIdList);
         DmsHerbalPrescriptionRecord record = new DmsHerbalPrescriptionRecord();
         record.setStatus(0);
         int updateCount = dmsHerbalPrescriptionRecordMapper.updateByExampleSelective(record,example);
 
         DmsHerbalItemRecordExample itemRecordExample = new DmsHerbalItemRecordExample();
-        itemRecordExample.createCriteria().andPrescriptionIdIn(ids);
+        itemRecordExample.createCriteria().andPrescriptionIdIn(unpaidIdList);
         DmsHerbalItemRecord itemRecord = new DmsHerbalItemRecord();
         itemRecord.setStatus(0);
         updateCount += dmsHerbalItemRecordMapper.updateByExampleSelective(itemRecord,itemRecordExample);
@@ -106,9 +138,11 @@ public class DmsHerbalPrescriptionRecordServiceImpl implements DmsHerbalPrescrip
             for(DmsHerbalItemRecord dmsHerbalItemRecord:itemRecordList){
                 DmsHerbalItemRecordResult dmsHerbalItemRecordResult=new DmsHerbalItemRecordResult();
                 BeanUtils.copyProperties(dmsHerbalItemRecord,dmsHerbalItemRecordResult);
-                BigDecimal price = dmsDrugMapper.selectByPrimaryKey(dmsHerbalItemRecordResult.getDrugId()).getPrice();
-                String drugName=dmsDrugMapper.selectByPrimaryKey(dmsHerbalItemRecordResult.getDrugId()).getName();
-
+                DmsDrugView drug = drugCatalogCache.get(dmsHerbalItemRecordResult.getDrugId());
+                BigDecimal price = drug == null ? null : drug.getPrice();
+                String drugName = drug == null ? null : drug.getName();
+                dmsHerbalItemRecordResult.setDrugName(drugName);
+                dmsHerbalItemRecordResult.setPrice(price);
                 dmsHerbalItemRecordResultList.add(dmsHerbalItemRecordResult);
 
             }
@@ -153,8 +187,9 @@ public class DmsHerbalPrescriptionRecordServiceImpl implements DmsHerbalPrescrip
             for(DmsHerbalItemRecord dmsHerbalItemRecord:itemRecordList){
                 DmsHerbalItemRecordResult dmsHerbalItemRecordResult=new DmsHerbalItemRecordResult();
                 BeanUtils.copyProperties(dmsHerbalItemRecord,dmsHerbalItemRecordResult);
-                BigDecimal price = dmsDrugMapper.selectByPrimaryKey(dmsHerbalItemRecord.getDrugId()).getPrice();
-                String drugName=dmsDrugMapper.selectByPrimaryKey(dmsHerbalItemRecord.getDrugId()).getName();
+                DmsDrugView drug = drugCatalogCache.get(dmsHerbalItemRecord.getDrugId());
+                BigDecimal price = drug == null ? null : drug.getPrice();
+                String drugName = drug == null ? null : drug.getName();
                 dmsHerbalItemRecordResult.setDrugName(drugName);
                 dmsHerbalItemRecordResult.setPrice(price);
                 dmsMedicineItemRecordResultList.add(dmsHerbalItemRecordResult);
@@ -28,6 +28,8 @@ public class DmsMechanicItemRecordServiceImpl implements DmsMechanicItemRecordSe
     private PmsPatientMapper pmsPatientMapper;
     @Autowired
     private SmsStaffMapper smsStaffMapper;
+    @Autowired
+    private BmsRefundableItemDao bmsRefundableItemDao;
 
 
     /**
@@ -100,7 +102,11 @@ public class DmsMechanicItemRecordServiceImpl implements DmsMechanicItemRecordSe
         record.setLogStaffId(logStaffId);
         record.setLogDatetime(new Date());
 
-        return dmsNonDrugItemRecordMapper.updateByExampleSelective(record,recordExample);
+        int count = dmsNonDrugItemRecordMapper.updateByExampleSelective(record,recordExample);
+        if (count > 0){
+            bmsRefundableItemDao.logNonDrugItem(itemRecordId);
+        }
+        return count;
     }
 
     @Override
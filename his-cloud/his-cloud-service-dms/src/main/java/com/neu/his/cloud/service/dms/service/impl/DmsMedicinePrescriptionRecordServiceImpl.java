@@ -1,22 +1,27 @@
 package com.neu.his.cloud.service.dms.service.impl;
 
+import com.neu.his.cloud.service.dms.component.DrugCatalogCache;
+import com.neu.his.cloud.service.dms.component.DrugStockLedger;
+import com.neu.his.cloud.service.dms.component.PrescriptionExpiryScheduler;
+import com.neu.his.cloud.service.dms.dto.dms.DmsDrugView;
 import com.neu.his.cloud.service.dms.dto.dms.DmsMedicineItemRecordResult;
 import com.neu.his.cloud.service.dms.dto.dms.DmsMedicinePrescriptionRecordParam;
 import com.neu.his.cloud.service.dms.dto.dms.DmsMedicinePrescriptionRecordResult;
-import com.neu.his.cloud.service.dms.mapper.DmsDrugMapper;
+import com.neu.his.cloud.service.dms.mapper.DmsDrugStockDao;
 import com.neu.his.cloud.service.dms.mapper.DmsMedicineItemRecordMapper;
 import com.neu.his.cloud.service.dms.mapper.DmsMedicinePrescriptionRecordMapper;
+import com.neu.his.cloud.service.dms.mapper.DmsPrescriptionPipelineDao;
 import com.neu.his.cloud.service.dms.mapper.SmsStaffMapper;
 import com.neu.his.cloud.service.dms.model.*;
 import com.neu.his.cloud.service.dms.service.DmsMedicinePrescriptionRecordService;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
+import java.util.*;
 
 @Service
 public class DmsMedicinePrescriptionRecordServiceImpl implements DmsMedicinePrescriptionRecordService {
@@ -30,46 +35,73 @@ public class DmsMedicinePrescriptionRecordServiceImpl implements DmsMedicinePres
     @Autowired
     private SmsStaffMapper smsStaffMapper;
     @Autowired
-    private DmsDrugMapper dmsDrugMapper;
+    private DrugCatalogCache drugCatalogCache;
+    @Autowired
+    private DmsDrugStockDao dmsDrugStockDao;
+    @Autowired
+    private DrugStockLedger drugStockLedger;
+    @Autowired
+    private DmsPrescriptionPipelineDao dmsPrescriptionPipelineDao;
+    @Autowired
+    private PrescriptionExpiryScheduler prescriptionExpiryScheduler;
 
+    //1.插入处方并回填id，一条多行INSERT插入全部处方项
+    //2.按药品汇总数量预留库存，任一药品可用库存不足则整个处方回滚
+    //3.登记超时未缴费作废，与处方同一事务提交
     @Override
+    @Transactional
     public Long apply(DmsMedicinePrescriptionRecordParam dmsMedicinePrescriptionRecordParam){
         DmsMedicinePrescriptionRecord dmsMedicinePrescriptionRecord = new DmsMedicinePrescriptionRecord();
         BeanUtils.copyProperties(dmsMedicinePrescriptionRecordParam,dmsMedicinePrescriptionRecord);
         dmsMedicinePrescriptionRecord.setStatus(1);
         dmsMedicinePrescriptionRecord.setCreateTime(new Date());
-        int insertCount = dmsMedicinePrescriptionRecordMapper.insert(dmsMedicinePrescriptionRecord);
-        if(insertCount <=0){
-            new Long(0);
+        if(dmsPrescriptionPipelineDao.insertMedicinePrescription(dmsMedicinePrescriptionRecord) <= 0){
+            return 0L;
         }
-
-        DmsMedicinePrescriptionRecordExample recordExample = new DmsMedicinePrescriptionRecordExample();
-        recordExample.createCriteria().andRegistrationIdEqualTo(dmsMedicinePrescriptionRecordParam.getRegistrationId());
-        recordExample.setOrderByClause("create_time desc");
-        Long currentId = dmsMedicinePrescriptionRecordMapper.selectByExample(recordExample).get(0).getId();
+        Long currentId = dmsMedicinePrescriptionRecord.getId();
 
         List<DmsMedicineItemRecord> dmsMedicineItemRecordList = dmsMedicinePrescriptionRecordParam.getDmsMedicineItemRecordList();
-        for(DmsMedicineItemRecord dmsMedicineItemRecord : dmsMedicineItemRecordList){
-            dmsMedicineItemRecord.setId(null);
-            dmsMedicineItemRecord.setStatus(1);
-            dmsMedicineItemRecord.setPrescriptionId(currentId);
-            dmsMedicineItemRecord.setCurrentNum(dmsMedicineItemRecord.getNum());
-            dmsMedicineItemRecord.setRefundNum(new Long(0));
-            insertCount += dmsMedicineItemRecordMapper.insert(dmsMedicineItemRecord);
+        Map<Long, Long> drugNumMap = new HashMap<>();
+        if(dmsMedicineItemRecordList != null && !dmsMedicineItemRecordList.isEmpty()){
+            for(DmsMedicineItemRecord dmsMedicineItemRecord : dmsMedicineItemRecordList){
+                dmsMedicineItemRecord.setId(null);
+                dmsMedicineItemRecord.setStatus(1);
+                dmsMedicineItemRecord.setPrescriptionId(currentId);
+                dmsMedicineItemRecord.setCurrentNum(dmsMedicineItemRecord.getNum());
+                dmsMedicineItemRecord.setRefundNum(new Long(0));
+                if(dmsMedicineItemRecord.getDrugId() != null && dmsMedicineItemRecord.getNum() != null){
+                    drugNumMap.merge(dmsMedicineItemRecord.getDrugId(), dmsMedicineItemRecord.getNum(), Long::sum);
+                }
+            }
+            dmsPrescriptionPipelineDao.insertMedicineItemList(dmsMedicineItemRecordList);
+        }
+        if(!drugStockLedger.reserve(5, currentId, drugNumMap)){//库存不足
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return 0L;
         }
+        prescriptionExpiryScheduler.schedule(currentId, PrescriptionExpiryScheduler.TYPE_MEDICINE);
         return currentId;
     }
 
+    //1.锁定状态为1（未缴费）的处方，释放其处方项预留的库存
+    //2.修改这些处方及处方项状态为0（作废）
     @Override
+    @Transactional
     public int invalid(List<Long> ids){
+        List<Long> unpaidIdList = dmsDrugStockDao.lockPrescription(ids, 5, 1);
+        if(unpaidIdList.isEmpty()){
+            return 0;
+        }
+        drugStockLedger.release(unpaidIdList, 5);
+
         DmsMedicinePrescriptionRecordExample example = new DmsMedicinePrescriptionRecordExample();
-        example.createCriteria().andIdIn(ids).andStatusEqualTo(1);
+        example.createCriteria().andIdIn(unpaidIdList);
         DmsMedicinePrescriptionRecord record = new DmsMedicinePrescriptionRecord();
         record.setStatus(0);
         int updateCount = dmsMedicinePrescriptionRecordMapper.updateByExampleSelective(record,example);
 
         DmsMedicineItemRecordExample itemRecordExample = new DmsMedicineItemRecordExample();
-        itemRecordExample.createCriteria().andPrescriptionIdIn(ids);
+        itemRecordExample.createCriteria().andPrescriptionIdIn(unpaidIdList);
         DmsMedicineItemRecord itemRecord = new DmsMedicineItemRecord();
         itemRecord.setStatus(0);
         updateCount += dmsMedicineItemRecordMapper.updateByExampleSelective(itemRecord,itemRecordExample);
@@ -106,8 +138,9 @@ public class DmsMedicinePrescriptionRecordServiceImpl implements DmsMedicinePres
 
                 DmsMedicineItemRecordResult dmsMedicineItemRecordResult=new DmsMedicineItemRecordResult();
                 BeanUtils.copyProperties(dmsMedicineItemRecord,dmsMedicineItemRecordResult);
-                BigDecimal price = dmsDrugMapper.selectByPrimaryKey(dmsMedicineItemRecordResult.getDrugId()).getPrice();
-                String drugName=dmsDrugMapper.selectByPrimaryKey(dmsMedicineItemRecordResult.getDrugId()).getName();
+                DmsDrugView drug = drugCatalogCache.get(dmsMedicineItemRecordResult.getDrugId());
+                BigDecimal price = drug == null ? null : drug.getPrice();
+                String drugName = drug == null ? null : drug.getName();
                 dmsMedicineItemRecordResult.setDrugName(drugName);
                 dmsMedicineItemRecordResult.setPrice(price);
                 dmsMedicineItemRecordResultList.add(dmsMedicineItemRecordResult);
@@ -156,8 +189,9 @@ public class DmsMedicinePrescriptionRecordServiceImpl implements DmsMedicinePres
             for(DmsMedicineItemRecord dmsMedicineItemRecord:itemRecordList){
                 DmsMedicineItemRecordResult dmsMedicineItemRecordResult=new DmsMedicineItemRecordResult();
                 BeanUtils.copyProperties(dmsMedicineItemRecord,dmsMedicineItemRecordResult);
-                BigDecimal price = dmsDrugMapper.selectByPrimaryKey(dmsMedicineItemRecord.getDrugId()).getPrice();
-                String drugName=dmsDrugMapper.selectByPrimaryKey(dmsMedicineItemRecord.getDrugId()).getName();
+                DmsDrugView drug = drugCatalogCache.get(dmsMedicineItemRecord.getDrugId());
+                BigDecimal price = drug == null ? null : drug.getPrice();
+                String drugName = drug == null ? null : drug.getName();
                 dmsMedicineItemRecordResult.setDrugName(drugName);
                 dmsMedicineItemRecordResult.setPrice(price);
                 dmsMedicineItemRecordResultList.add(dmsMedicineItemRecordResult);
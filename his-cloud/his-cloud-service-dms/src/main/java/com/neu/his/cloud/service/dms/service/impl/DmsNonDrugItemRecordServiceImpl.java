@@ -1,5 +1,6 @@
 package com.neu.his.cloud.service.dms.service.impl;
 
+import com.neu.his.cloud.service.dms.component.PrescriptionExpiryScheduler;
 import com.neu.his.cloud.service.dms.dto.app.AppCheckTestResult;
 import com.neu.his.cloud.service.dms.dto.dms.DmsNonDrugItemRecordListParam;
 import com.neu.his.cloud.service.dms.dto.dms.DmsNonDrugItemRecordParam;
@@ -16,6 +17,7 @@ import com.neu.his.cloud.service.dms.util.DateUtil;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Calendar;
@@ -30,9 +32,13 @@ public class DmsNonDrugItemRecordServiceImpl implements DmsNonDrugItemRecordServ
     SmsDeptMapper smsDeptMapper;
     @Autowired
     SmsStaffMapper smsStaffMapper;
+    @Autowired
+    PrescriptionExpiryScheduler prescriptionExpiryScheduler;
 
     //1.封装多条dms_non_drug_item_record信息并插入
+    //2.登记超时未缴费作废，与项目同一事务提交
     @Override
+    @Transactional
     public  List<Long> apply(DmsNonDrugItemRecordListParam dmsNonDrugItemRecordListParam) {
 
         Date startDate = new Date();
@@ -72,6 +78,7 @@ public class DmsNonDrugItemRecordServiceImpl implements DmsNonDrugItemRecordServ
         for(DmsNonDrugItemRecord record : recordList){
             idList.add(record.getId());
         }
+        prescriptionExpiryScheduler.scheduleAll(idList, PrescriptionExpiryScheduler.TYPE_NON_DRUG);
 
         return idList;
 
@@ -1,16 +1,20 @@
 package com.neu.his.cloud.service.dms.service.impl;
 
+import com.neu.his.cloud.service.dms.component.RabbitMQRegistrationSender;
 import com.neu.his.cloud.service.dms.dto.app.AppRegistrationParam;
 import com.neu.his.cloud.service.dms.dto.dms.DmsRegHistoryResult;
 import com.neu.his.cloud.service.dms.dto.dms.DmsRegistrationParam;
 import com.neu.his.cloud.service.dms.mapper.*;
 import com.neu.his.cloud.service.dms.model.*;
+import com.neu.his.cloud.service.dms.service.BmsInvoiceNoService;
 import com.neu.his.cloud.service.dms.service.DmsRegistrationService;
 import com.neu.his.cloud.service.dms.util.AgeStrUtil;
-import com.neu.his.cloud.service.dms.util.DateUtil;
+import com.neu.his.cloud.service.dms.util.IdGenerator;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Date;
@@ -29,119 +33,151 @@ public class DmsRegistrationServiceImpl implements DmsRegistrationService {
     @Autowired
     private DmsRegistrationMapper dmsRegistrationMapper;
     @Autowired
-    private BmsBillsRecordMapper bmsBillsRecordMapper;
+    private BmsSettleAggregateDao bmsSettleAggregateDao;
     @Autowired
-    private BmsInvoiceRecordMapper bmsInvoiceRecordMapper;
+    private DmsRegistrationPipelineDao dmsRegistrationPipelineDao;
+    @Autowired
+    private BmsInvoiceNoService bmsInvoiceNoService;
+    @Autowired
+    private SmsSkdSlotDao smsSkdSlotDao;
+    @Autowired
+    private IdGenerator idGenerator;
+    @Autowired
+    private RabbitMQRegistrationSender rabbitMQRegistrationSender;
     @Autowired
     private  SmsDeptMapper smsDeptMapper;
 
-    //1.调用PmsPatientDao根据身份证号查询是否存在
-    //2.1如果不存在，则向PmsPatient表中插入数据，返回id
-    //3.判断是否为专家号
-    //3.1 如果为专家号，则先根据skd_id判断remain是否>0，如果大于0，则向dms_registration插入信息，并且绑定医生（skd_id、bind_status=1）,并修改sms_skd中的排班限额（-1），否则挂号失败
-    //3.2 如果为非专家号，则向dms_registration插入信息，bin_status=0
-    //4.向bms_bills_record中插入账单记录
-    //5. 通过门诊号和最近时间返回账单id
-    //6.插入发票记录
+    //0.发票号、日结统计都按收费员，没有收费员id时挂号失败
+    //1.如果为专家号，先条件扣减sms_skd中的排班限额（remain>0时-1），扣减失败则挂号失败
+    //2.按身份证号插入或取回病人（pms_patient），回填病人id；没有身份证号时按病历号取回，都没有时插入新病人
+    //3.向dms_registration插入信息，专家号绑定医生（bind_status=1），非专家号bind_status=0，回填挂号id
+    //4.向bms_bills_record中插入账单记录，回填账单id，并记录账单项目
+    //5.插入发票记录及发票明细，发票号由服务端从收费员的号段中分配
+    //6.累加收费员日结统计
+    //以上在同一事务中完成，任一步失败整体回滚（包括占用的号源）
     @Override
-    public int createRegistration(DmsRegistrationParam dmsRegistrationParam) {
-        PmsPatientExample example = new PmsPatientExample();
-        example.createCriteria().andIdentificationNoEqualTo(dmsRegistrationParam.getIdentificationNo());
-        List<PmsPatient> pmsPatientList = pmsPatientMapper.selectByExample(example);
-        if (pmsPatientList.size() == 0) {//如果不存在，则向PmsPatient表中插入数据
-            PmsPatient pmsPatient = new PmsPatient();
-            BeanUtils.copyProperties(dmsRegistrationParam, pmsPatient);
-            //生成病历号
-            String medicalRecordNo = generateMedicalRecordNo(dmsRegistrationParam.getIdentificationNo());
-            pmsPatient.setMedicalRecordNo(medicalRecordNo);
-            pmsPatientMapper.insertSelective(pmsPatient);
+    @Transactional
+    public Long createRegistration(DmsRegistrationParam dmsRegistrationParam) {
+        if (dmsRegistrationParam.getOpratorId() == null){
+            return null;
+        }
+        boolean expert = dmsRegistrationParam.getSkdId() != null;
+        if (expert && smsSkdSlotDao.hold(dmsRegistrationParam.getSkdId()) <= 0) {//已约满或无该排班信息
+            return null;
         }
-        //通过身份证号查询并返回病人id
-        PmsPatientExample example1 = new PmsPatientExample();
-        example1.createCriteria().andIdentificationNoEqualTo(dmsRegistrationParam.getIdentificationNo());
-        List<PmsPatient> pmsPatientList1 = pmsPatientMapper.selectByExample(example1);
-        if(!pmsPatientList1.isEmpty()){
-            Long patientId = pmsPatientList1.get(0).getId();
 
-            //创建要插入的DmsRegistration对象
-            DmsRegistration dmsRegistration = new DmsRegistration();
-            BeanUtils.copyProperties(dmsRegistrationParam, dmsRegistration);
-            dmsRegistration.setPatientId(patientId);
-            Date createDate = new Date();//获取当前时间，并在之后通过该时间与病人id获取挂号id
-            dmsRegistration.setCreateTime(createDate);
-            dmsRegistration.setStatus(1);//挂号状态为待诊1
+        //插入或取回病人，新病人生成病历号
+        Long patientId = savePatient(dmsRegistrationParam);
 
-            //处理年龄
-            Date dateOfBirth = dmsRegistrationParam.getDateOfBirth();
-            String age = AgeStrUtil.getAgeStr(dateOfBirth);
-            dmsRegistration.setPatientAgeStr(age);
+        //创建要插入的DmsRegistration对象
+        DmsRegistration dmsRegistration = new DmsRegistration();
+        BeanUtils.copyProperties(dmsRegistrationParam, dmsRegistration);
+        dmsRegistration.setPatientId(patientId);
+        dmsRegistration.setCreateTime(new Date());
+        dmsRegistration.setStatus(1);//挂号状态为待诊1
+        dmsRegistration.setBindStatus(expert ? 1 : 0);//专家号绑定状态为1，非专家号为0
+        //处理年龄
+        Date dateOfBirth = dmsRegistrationParam.getDateOfBirth();
+        dmsRegistration.setPatientAgeStr(AgeStrUtil.getAgeStr(dateOfBirth));
+        dmsRegistrationPipelineDao.insertRegistration(dmsRegistration);
+        Long registrationId = dmsRegistration.getId();
 
-            Long registrationId;//用于存储插入的挂号信息的id
+        //插入账单
+        BmsBillsRecord bmsBillsRecord = new BmsBillsRecord();
+        bmsBillsRecord.setBillNo(idGenerator.nextBillNo());
+        bmsBillsRecord.setCreateTime(new Date());
+        bmsBillsRecord.setStatus(1);//1为正常
+        bmsBillsRecord.setInvoiceNum(1);//挂号只有一张发票
+        bmsBillsRecord.setRegistrationId(registrationId);
+        dmsRegistrationPipelineDao.insertBill(bmsBillsRecord);
+        Long billId = bmsBillsRecord.getId();//账单id
+        //账单项目：挂号（项目id为挂号id，类型0）
+        insertRegistrationBillItem(billId, registrationId);
 
-            if (dmsRegistrationParam.getSkdId() == null){//非专家号
-                dmsRegistration.setBindStatus(0);//非专家号绑定状态为0
-                dmsRegistrationMapper.insertSelective(dmsRegistration);//向dms_registration插入信息
+        //先锁定收费员的累计统计行再写发票，与日结（先锁累计统计行，再更新发票）加锁顺序一致，避免死锁
+        bmsSettleAggregateDao.lockByCashierId(dmsRegistrationParam.getOpratorId());
+        //插入发票记录
+        BmsInvoiceRecord bmsInvoiceRecord = new BmsInvoiceRecord();
+        bmsInvoiceRecord.setType(1);//1表示挂号
+        Date invoiceCreateTime = new Date();
+        bmsInvoiceRecord.setCreateTime(invoiceCreateTime);
+        bmsInvoiceRecord.setInvoiceNo(bmsInvoiceNoService.nextInvoiceNo(dmsRegistrationParam.getOpratorId()));
+        bmsInvoiceRecord.setBillId(billId);
+        bmsInvoiceRecord.setAmount(dmsRegistrationParam.getAmount());
+        bmsInvoiceRecord.setOperatorId(dmsRegistrationParam.getOpratorId());
+        bmsInvoiceRecord.setSettlementCatId(dmsRegistrationParam.getSettlementCatId());
+        bmsInvoiceRecord.setItemList(registrationId + "," + 0 + "," + dmsRegistrationParam.getAmount() + "><");//挂号id,0,amount><
+        dmsRegistrationPipelineDao.insertInvoice(bmsInvoiceRecord);
 
-                registrationId = dmsRegistration.getId();
-            }
-            else{//专家号
-                SmsSkdExample example2 = new SmsSkdExample();
-                example2.createCriteria().andIdEqualTo(dmsRegistrationParam.getSkdId());
-                List<SmsSkd> smsSkdList = smsSkdMapper.selectByExample(example2);
-                if (!smsSkdList.isEmpty()){
-                    if (smsSkdList.get(0).getRemain() > 0) {//如果还有挂号限额
-                        dmsRegistration.setBindStatus(1);//专家号绑定状态为1
-                        dmsRegistrationMapper.insertSelective(dmsRegistration);//向dms_registration插入信息
-                        registrationId = dmsRegistration.getId();
+        //插入发票明细（挂号费）
+        BmsInvoiceItem bmsInvoiceItem = new BmsInvoiceItem();
+        bmsInvoiceItem.setInvoiceId(bmsInvoiceRecord.getId());
+        bmsInvoiceItem.setItemId(registrationId);
+        bmsInvoiceItem.setType(0);
+        bmsInvoiceItem.setAmount(dmsRegistrationParam.getAmount());
+        bmsInvoiceItem.setCreateTime(invoiceCreateTime);
+        dmsRegistrationPipelineDao.insertInvoiceItem(bmsInvoiceItem);
 
-                        SmsSkd smsSkd = smsSkdList.get(0);
-                        smsSkd.setRemain(smsSkdList.get(0).getRemain() - 1);
-                        //smsSkdList.get(0).setRemain(smsSkdList.get(0).getRemain()-1);
-                        smsSkdMapper.updateByPrimaryKey(smsSkd);//修改sms_skd中的排班限额（-1）
-                        //return 1;
-                    } else {//挂号限额已用完，挂号失败
-                        return 0;
-                    }
-                }
-                else {
-                    return 0;//无该排班信息,挂号失败
-                }
+        //累加收费员日结统计（发票数、挂号金额、总金额及结算类别金额）
+        BmsSettleAggregate delta = new BmsSettleAggregate();
+        delta.setCashierId(dmsRegistrationParam.getOpratorId());
+        delta.setInvoiceNum(1L);
+        delta.setRegistrationAmount(dmsRegistrationParam.getAmount());
+        delta.setAmount(dmsRegistrationParam.getAmount());
+        Long settlementCatId = dmsRegistrationParam.getSettlementCatId();
+        if (settlementCatId != null && settlementCatId == 1){//现金
+            delta.setCashAmount(dmsRegistrationParam.getAmount());
+        }
+        else if (settlementCatId != null && settlementCatId == 2){//银行卡
+            delta.setBankCardAmount(dmsRegistrationParam.getAmount());
+        }
+        else if (settlementCatId != null && settlementCatId == 3){//医保
+            delta.setInsuranceAmount(dmsRegistrationParam.getAmount());
+        }
+        else if (settlementCatId != null && settlementCatId == 4){//信用卡
+            delta.setCreditCardAmount(dmsRegistrationParam.getAmount());
+        }
+        else if (settlementCatId != null && settlementCatId == 5){//支付宝
+            delta.setAlipayAmount(dmsRegistrationParam.getAmount());
+        }
+        else if (settlementCatId != null && settlementCatId == 6){//微信
+            delta.setWechatAmount(dmsRegistrationParam.getAmount());
+        }
+        else if (settlementCatId != null && settlementCatId == 7){//其他
+            delta.setOtherAmount(dmsRegistrationParam.getAmount());
+        }
+        bmsSettleAggregateDao.applyDelta(delta, bmsInvoiceRecord.getInvoiceNo(), invoiceCreateTime);
+        //通知医生工作站有新挂号
+        rabbitMQRegistrationSender.sendChange(registrationId);
+        return bmsInvoiceRecord.getInvoiceNo();
+    }
 
+    //1.有身份证号：按uk_identification_no插入或更新病人
+    //2.没有身份证号（无证件就诊）：身份证号为NULL不会与已有病人冲突，按病历号取回已有病人并更新本次填写的信息，
+    //  没有病历号或病历号不存在时插入新病人
+    private Long savePatient(DmsRegistrationParam dmsRegistrationParam) {
+        PmsPatient pmsPatient = new PmsPatient();
+        BeanUtils.copyProperties(dmsRegistrationParam, pmsPatient);
+        if (StringUtils.hasText(dmsRegistrationParam.getIdentificationNo())){
+            pmsPatient.setMedicalRecordNo(idGenerator.nextMedicalRecordNo());
+            dmsRegistrationPipelineDao.upsertPatient(pmsPatient);
+            return pmsPatient.getId();
+        }
+        pmsPatient.setIdentificationNo(null);
+        if (StringUtils.hasText(dmsRegistrationParam.getMedicalRecordNo())){
+            PmsPatientExample pmsPatientExample = new PmsPatientExample();
+            pmsPatientExample.createCriteria().andMedicalRecordNoEqualTo(dmsRegistrationParam.getMedicalRecordNo());
+            List<PmsPatient> pmsPatientList = pmsPatientMapper.selectByExample(pmsPatientExample);
+            if (!pmsPatientList.isEmpty()){
+                pmsPatient.setId(pmsPatientList.get(0).getId());
+                pmsPatient.setMedicalRecordNo(null);
+                pmsPatientMapper.updateByPrimaryKeySelective(pmsPatient);
+                return pmsPatient.getId();
             }
-            BmsBillsRecord bmsBillsRecord = new BmsBillsRecord();//保存除了发票号以外的所有属性
-
-            //生成账单号
-            String billNo = generateBillNo(registrationId);
-            bmsBillsRecord.setBillNo(billNo);
-            Date billCreateDate = new Date();//获取当前时间，并在之后通过该时间与病人id获取账单id
-            bmsBillsRecord.setCreateTime(billCreateDate);
-            bmsBillsRecord.setStatus(1);//1为正常
-            bmsBillsRecord.setInvoiceNum(1);//挂号只有一张发票
-            bmsBillsRecord.setRegistrationId(registrationId);
-            bmsBillsRecord.setRecordList(registrationId + "," + 0 + "><");//recordList怎么用字符串表示,例如挂号id,0><草药id,4><成药,3
-            bmsBillsRecordMapper.insertSelective(bmsBillsRecord);//向bms_bills_record中插入账单记录
-            //通过挂号id和最近时间返回账单id
-            BmsBillsRecordExample example5 = new BmsBillsRecordExample();
-            example5.createCriteria().andRegistrationIdEqualTo(registrationId).andBillNoEqualTo(billNo);////通过挂号id和账单号查询刚插入账单的id
-            List<BmsBillsRecord> bmsBillsRecordList = bmsBillsRecordMapper.selectByExample(example5);
-            Long billId = bmsBillsRecordList.get(0).getId();//账单id
-
-            //插入发票记录
-            BmsInvoiceRecord bmsInvoiceRecord = new BmsInvoiceRecord();
-            bmsInvoiceRecord.setType(1);//1表示挂号
-            Date invoiceCreateTime = new Date();
-            bmsInvoiceRecord.setCreateTime(invoiceCreateTime);
-            bmsInvoiceRecord.setInvoiceNo(dmsRegistrationParam.getInvoiceNo());
-            bmsInvoiceRecord.setBillId(billId);
-            bmsInvoiceRecord.setAmount(dmsRegistrationParam.getAmount());
-           // bmsInvoiceRecord.setFreezeStatus(1);//冻结状态为1正常
-            bmsInvoiceRecord.setOperatorId(dmsRegistrationParam.getOpratorId());
-            bmsInvoiceRecord.setSettlementCatId(dmsRegistrationParam.getSettlementCatId());
-            bmsInvoiceRecord.setItemList(registrationId + "," + 0 + "," + dmsRegistrationParam.getAmount() + "><");//挂号id,0,amount><
-            bmsInvoiceRecordMapper.insertSelective(bmsInvoiceRecord);
-            return 1;
         }
-        return 0;
+        pmsPatient.setMedicalRecordNo(idGenerator.nextMedicalRecordNo());
+        pmsPatientMapper.insertSelective(pmsPatient);
+        return pmsPatient.getId();
     }
 
 
@@ -186,27 +222,22 @@ public class DmsRegistrationServiceImpl implements DmsRegistrationService {
     //先根据skd_id判断remain是否>0，如果大于0，则向dms_registration插入信息，并且绑定医生（skd_id、bind_status=1）,并修改sms_skd中的排班限额（-1），否则挂号失败
     //向bms_bills_record中插入账单记录
     @Override
+    @Transactional
     public int appRegistration(AppRegistrationParam appRegistrationParam){
-        PmsPatient patient = pmsPatientMapper.selectByPrimaryKey(appRegistrationParam.getPatientId());
+        //锁定病人，同一病人的挂号串行执行
+        PmsPatient patient = dmsRegistrationPipelineDao.selectPatientForUpdate(appRegistrationParam.getPatientId());
         if(patient == null){
             return 0;
         }
-        SmsSkd skd = smsSkdMapper.selectByPrimaryKey(appRegistrationParam.getSkdId());
-        if(skd == null){
-            return 0;
-        }
-        //先根据skd_id判断remain是否>0
-        if(skd.getRemain() <= 0){
-            return  0;
+        //同一病人同一排班已有未退号的挂号（如等待超时后重试）时直接返回成功，不重复占用号源
+        DmsRegistrationExample dmsRegistrationExample = new DmsRegistrationExample();
+        dmsRegistrationExample.createCriteria().andPatientIdEqualTo(appRegistrationParam.getPatientId())
+                .andSkdIdEqualTo(appRegistrationParam.getSkdId()).andStatusNotEqualTo(4);
+        if (dmsRegistrationMapper.countByExample(dmsRegistrationExample) > 0){
+            return 1;
         }
-
-        //如果大于0，绑定医生（skd_id、bind_status=1）,并修改sms_skd中的排班限额（-1）
-        SmsSkd skdRecord = new SmsSkd();
-        skdRecord.setRemain(skd.getRemain() - 1);
-        SmsSkdExample example = new SmsSkdExample();
-        example.createCriteria().andIdEqualTo(skd.getId()).andRemainGreaterThan(new Long(0));
-        int count = smsSkdMapper.updateByExampleSelective(skdRecord,example);
-        if(count <= 0){
+        //条件扣减排班限额（remain>0时-1），与窗口挂号共用同一条件更新，排班不存在或已约满时失败
+        if(smsSkdSlotDao.hold(appRegistrationParam.getSkdId()) <= 0){
             return 0;
         }
 
@@ -215,7 +246,7 @@ public class DmsRegistrationServiceImpl implements DmsRegistrationService {
         registration.setPatientId(appRegistrationParam.getPatientId());
         registration.setCreateTime(new Date());
         registration.setStatus(1);
-        registration.setSkdId(skd.getId());
+        registration.setSkdId(appRegistrationParam.getSkdId());
         registration.setNeedBook(0);    //默认不需要病历本
         registration.setBindStatus(1);
         registration.setDeptId(appRegistrationParam.getDeptId());
@@ -223,67 +254,31 @@ public class DmsRegistrationServiceImpl implements DmsRegistrationService {
         if(patient.getDateOfBirth() != null){
             registration.setPatientAgeStr(AgeStrUtil.getAgeStr(patient.getDateOfBirth()));
         }
-        int regCount = dmsRegistrationMapper.insertSelective(registration);
-
-        //得到刚插入的挂号记录的registrationId
-        DmsRegistrationExample registrationExample = new DmsRegistrationExample();
-        registrationExample.createCriteria()
-                .andPatientIdEqualTo(appRegistrationParam.getPatientId())
-                .andSkdIdEqualTo(appRegistrationParam.getSkdId());//通过病人id和skdId查询刚插入挂号记录的id
-        registrationExample.setOrderByClause("create_time desc");   //获取最新一次的
-        List<DmsRegistration> dmsRegistrationList = dmsRegistrationMapper.selectByExample(registrationExample);
-        if(dmsRegistrationList.size() <= 0){
-            return 0;
-        }
-        Long registrationId = dmsRegistrationList.get(0).getId();
+        dmsRegistrationPipelineDao.insertRegistration(registration);
+        Long registrationId = registration.getId();
 
         //向bms_bills_record中插入账单记录
         BmsBillsRecord billsRecord = new BmsBillsRecord();
-        //生成账单号
-        String billNo = generateBillNo(registrationId);
-        billsRecord.setBillNo(billNo);
+        billsRecord.setBillNo(idGenerator.nextBillNo());//生成账单号
         billsRecord.setCreateTime(new Date());
         billsRecord.setStatus(1);
         billsRecord.setInvoiceNum(0);   //免费挂号，不产生发票
         billsRecord.setRegistrationId(registrationId);
-        billsRecord.setRecordList(registrationId + "," + 0 + "><");//recordList怎么用字符串表示,例如挂号id,0><草药id,4><成药,3
-        int billCount = bmsBillsRecordMapper.insertSelective(billsRecord);//向bms_bills_record中插入账单记录
+        int billCount = dmsRegistrationPipelineDao.insertBill(billsRecord);//向bms_bills_record中插入账单记录
+        insertRegistrationBillItem(billsRecord.getId(), registrationId);
+        //通知医生工作站有新挂号
+        rabbitMQRegistrationSender.sendChange(registrationId);
 
         return billCount;
     }
 
-
-    //生成病历号
-    public String generateMedicalRecordNo(String identificationNo) {
-        Date date = new Date();
-        String yyyymmdd = DateUtil.getDateStr(date);//年月日字符串
-        String hhmm = DateUtil.getTimeStr(date, 4);//时分字符串
-        int length = identificationNo.length();
-        String lastFour;
-        if (length > 4) {
-            lastFour = identificationNo.substring(length - 4, length);
-            return yyyymmdd + hhmm + lastFour;
-        }
-        return null;
-    }
-
-    //生成账单号
-    public String generateBillNo(Long registrationId) {
-        Date date = new Date();
-        String yyyymmdd = DateUtil.getDateStr(date);//年月日字符串
-        String hhmm = DateUtil.getTimeStr(date, 4);//时分字符串
-        int length = registrationId.toString().length();
-        String lastFour;
-        if (length >= 4) {
-            Long lastFourNo = registrationId % 10000;
-            lastFour = lastFourNo.toString();
-        } else if (length == 3) {
-            lastFour = "0" + registrationId.toString();
-        } else if (length == 2) {
-            lastFour = "00" + registrationId.toString();
-        } else {
-            lastFour = "000" + registrationId.toString();
-        }
-        return yyyymmdd + hhmm + lastFour;
+    //账单项目表中追加挂号项目（原record_list中的“挂号id,0><”）
+    private void insertRegistrationBillItem(Long billId, Long registrationId) {
+        BmsBillItem bmsBillItem = new BmsBillItem();
+        bmsBillItem.setBillId(billId);
+        bmsBillItem.setItemId(registrationId);
+        bmsBillItem.setType(0);
+        bmsBillItem.setCreateTime(new Date());
+        dmsRegistrationPipelineDao.insertBillItem(bmsBillItem);
     }
 }
@@ -0,0 +1,100 @@
+package com.neu.his.cloud.service.dms.util;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 暂存数据编解码：JSON，超过COMPRESS_THRESHOLD字节时再用Deflate压缩
+ * <p>第一个字节为格式标记（0为JSON原文，1为压缩后的JSON），其后为内容；不带类名等元数据，字段增删不影响已暂存的数据
+ */
+public class DraftCodec {
+    private static final byte FORMAT_JSON = 0;
+    private static final byte FORMAT_DEFLATE = 1;
+    //短内容压缩收益小，不压缩
+    private static final int COMPRESS_THRESHOLD = 256;
+
+    private final ObjectMapper objectMapper;
+
+    public DraftCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public byte[] encode(Object value) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(value);
+        if (json.length >= COMPRESS_THRESHOLD) {
+            byte[] compressed = deflate(json);
+            if (compressed.length < json.length) {
+                return withFormat(FORMAT_DEFLATE, compressed);
+            }
+        }
+        return withFormat(FORMAT_JSON, json);
+    }
+
+    public <T> T decode(byte[] data, JavaType type) throws IOException {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+        if (data[0] == FORMAT_JSON) {
+            return objectMapper.readValue(data, 1, data.length - 1, type);
+        }
+        if (data[0] == FORMAT_DEFLATE) {
+            byte[] json = inflate(data);
+            return objectMapper.readValue(json, type);
+        }
+        throw new IOException("未知的暂存数据格式：" + data[0]);
+    }
+
+    private static byte[] withFormat(byte format, byte[] content) {
+        byte[] data = new byte[content.length + 1];
+        data[0] = format;
+        System.arraycopy(content, 0, data, 1, content.length);
+        return data;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            byte[] buffer = new byte[input.length];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == buffer.length) {//压缩后反而更大
+                    return input;
+                }
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, 1, data.length - 1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("暂存数据不完整");
+                }
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IOException("暂存数据解压失败", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
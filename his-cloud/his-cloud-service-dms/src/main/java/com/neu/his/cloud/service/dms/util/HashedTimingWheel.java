@@ -0,0 +1,241 @@
+package com.neu.his.cloud.service.dms.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 哈希时间轮
+ * <p>1.环形数组共wheelSize格，每格tickMs毫秒；任务按到期时间落入对应格子，超过一圈的记录剩余圈数
+ * <p>2.工作线程每走一格只处理该格中的任务，加入、取消都是O(1)，与待处理任务总数无关，不存在队头阻塞
+ * <p>3.同一key只保留一个任务；任务数达到maxPending时拒绝加入，由调用方稍后重试，内存占用有上限
+ * <p>到期任务在工作线程中交给expiredHandler，handler中不要做耗时操作
+ */
+public class HashedTimingWheel<T> {
+    private static Logger LOGGER = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+    //每格最多转入的新任务数，避免大量加入时一格处理过久
+    private static final int MAX_TRANSFER_PER_TICK = 100000;
+
+    private final long tickMs;
+    private final int mask;
+    private final Bucket[] buckets;
+    private final int maxPending;
+    private final Consumer<T> expiredHandler;
+    private final ConcurrentHashMap<String, Timeout> timeoutMap = new ConcurrentHashMap<>();
+    //加入、取消先进入队列，由工作线程放入/移出格子，格子只由工作线程访问
+    private final ConcurrentLinkedQueue<Timeout> pendingQueue = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Timeout> cancelledQueue = new ConcurrentLinkedQueue<>();
+    private final Thread workerThread;
+
+    private volatile boolean running;
+    private volatile long startTime;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, long tickMs, int wheelSize, int maxPending, Consumer<T> expiredHandler) {
+        if (tickMs <= 0 || wheelSize <= 0 || maxPending <= 0) {
+            throw new IllegalArgumentException("tickMs、wheelSize、maxPending必须大于0");
+        }
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickMs = tickMs;
+        this.mask = size - 1;
+        this.buckets = (Bucket[]) new HashedTimingWheel<?>.Bucket[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new Bucket();
+        }
+        this.maxPending = maxPending;
+        this.expiredHandler = expiredHandler;
+        this.workerThread = new Thread(this::run, name);
+        this.workerThread.setDaemon(true);
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        startTime = System.currentTimeMillis();
+        running = true;
+        workerThread.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        workerThread.interrupt();
+    }
+
+    /**
+     * 加入任务，deadline为到期的毫秒时间戳；key已存在或任务数已达上限时返回false
+     */
+    public boolean schedule(String key, T task, long deadline) {
+        if (timeoutMap.size() >= maxPending) {
+            return false;
+        }
+        Timeout timeout = new Timeout(key, task, deadline);
+        if (timeoutMap.putIfAbsent(key, timeout) != null) {
+            return false;
+        }
+        pendingQueue.add(timeout);
+        return true;
+    }
+
+    /**
+     * 取消任务，任务不存在（未加入或已到期）时返回false
+     */
+    public boolean cancel(String key) {
+        Timeout timeout = timeoutMap.remove(key);
+        if (timeout == null) {
+            return false;
+        }
+        timeout.cancelled = true;
+        cancelledQueue.add(timeout);
+        return true;
+    }
+
+    public boolean contains(String key) {
+        return timeoutMap.containsKey(key);
+    }
+
+    public int size() {
+        return timeoutMap.size();
+    }
+
+    public boolean isFull() {
+        return timeoutMap.size() >= maxPending;
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = startTime + (tick + 1) * tickMs;
+            long sleepMs = deadline - System.currentTimeMillis();
+            if (sleepMs > 0) {
+                try {
+                    Thread.sleep(sleepMs);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                }
+                continue;
+            }
+            transferPending();
+            removeCancelled();
+            buckets[(int) (tick & mask)].expire(deadline);
+            tick++;
+        }
+    }
+
+    private void transferPending() {
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            Timeout timeout = pendingQueue.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.cancelled) {
+                continue;
+            }
+            long calculated = (timeout.deadline - startTime) / tickMs;
+            timeout.remainingRounds = (calculated - tick) / buckets.length;
+            //已过期的放入当前格，本次即处理
+            long ticks = Math.max(calculated, tick);
+            buckets[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        while (true) {
+            Timeout timeout = cancelledQueue.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void fire(Timeout timeout) {
+        if (timeout.cancelled || !timeoutMap.remove(timeout.key, timeout)) {
+            return;
+        }
+        try {
+            expiredHandler.accept(timeout.task);
+        } catch (Exception e) {
+            LOGGER.warn("定时任务处理失败 key:{}", timeout.key, e);
+        }
+    }
+
+    private class Timeout {
+        private final String key;
+        private final T task;
+        private final long deadline;
+        private volatile boolean cancelled;
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        Timeout(String key, T task, long deadline) {
+            this.key = key;
+            this.task = task;
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * 一格中的任务，双向链表，只由工作线程访问
+     */
+    private class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        void expire(long deadline) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.cancelled) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    fire(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.neu.his.cloud.service.dms.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 雪花算法id生成器：41位毫秒时间戳 + 10位机器号 + 12位序列号
+ * <p>时间有序、单节点单调递增、无需访问数据库；机器号通过id-generator.worker-id配置，多实例部署时必须各不相同
+ */
+@Component
+public class IdGenerator {
+    //起始时间 2019-01-01 00:00:00 (GMT+8)
+    private static final long EPOCH = 1546272000000L;
+    private static final int WORKER_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    public static final long MAX_WORKER_ID = (1L << WORKER_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long workerId;
+    //高位为相对EPOCH的毫秒数，低12位为该毫秒内的序列号
+    private final AtomicLong state = new AtomicLong();
+
+    public IdGenerator(@Value("${id-generator.worker-id:0}") long workerId) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("id-generator.worker-id必须在0到" + MAX_WORKER_ID + "之间");
+        }
+        this.workerId = workerId;
+    }
+
+    /**
+     * 生成下一个id
+     * <p>无锁CAS实现；同一毫秒序列号用尽或时钟回拨时沿用上一时间戳继续递增，保证单调
+     */
+    public long nextId() {
+        while (true) {
+            long last = state.get();
+            long now = System.currentTimeMillis() - EPOCH;
+            long next = now > (last >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : last + 1;
+            if (state.compareAndSet(last, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                return (timestamp << (WORKER_BITS + SEQUENCE_BITS)) | (workerId << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * 生成病历号
+     */
+    public String nextMedicalRecordNo() {
+        return format(nextId());
+    }
+
+    /**
+     * 生成账单号
+     */
+    public String nextBillNo() {
+        return format(nextId());
+    }
+
+    /**
+     * 转为可打印的编号：yyyyMMddHHmmss + 3位毫秒 + 4位机器号 + 4位序列号，共25位
+     */
+    public static String format(long id) {
+        long timestamp = (id >>> (WORKER_BITS + SEQUENCE_BITS)) + EPOCH;
+        long worker = (id >>> SEQUENCE_BITS) & MAX_WORKER_ID;
+        long sequence = id & SEQUENCE_MASK;
+        String time = new SimpleDateFormat("yyyyMMddHHmmss").format(new Date(timestamp));
+        return time + String.format("%03d%04d%04d", timestamp % 1000, worker, sequence);
+    }
+}
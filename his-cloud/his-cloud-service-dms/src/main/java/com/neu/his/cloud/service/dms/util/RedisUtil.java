@@ -30,9 +30,16 @@ public class RedisUtil {
     }
 
     /**
-     * 设置超期时间
+     * 设置超期时间（setStr写入的key）
      */
     public boolean expireStr(String key, long expire) {
+        return stringRedisTemplate.expire(key, expire, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 设置超期时间（setObj写入的key）
+     */
+    public boolean expireObj(String key, long expire) {
         return redisTemplate.expire(key, expire, TimeUnit.SECONDS);
     }
 
@@ -0,0 +1,212 @@
+package com.neu.his.cloud.service.dms.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neu.his.cloud.service.dms.domain.OrderCancelMessage;
+import com.neu.his.cloud.service.dms.domain.QueueEnum;
+import com.neu.his.cloud.service.dms.mapper.DmsPrescriptionExpiryDao;
+import com.neu.his.cloud.service.dms.model.DmsPrescriptionExpiry;
+import com.neu.his.cloud.service.dms.util.HashedTimingWheel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PrescriptionExpiryScheduler：开立事务中登记、提交后进时间轮，从dms_prescription_expiry加载、到期发送作废消息；
+ * 数据库和RabbitMQ分别用mock的DmsPrescriptionExpiryDao和记录消息的AmqpTemplate代替
+ */
+public class PrescriptionExpirySchedulerTest {
+    private static final long DELAY_MS = 43200000;
+    private static final long HORIZON_MS = 600000;
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    //发送到his.order.cancel的消息
+    private final BlockingQueue<Message> sentQueue = new LinkedBlockingQueue<>();
+    private DmsPrescriptionExpiryDao dmsPrescriptionExpiryDao;
+    private PrescriptionExpiryScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        dmsPrescriptionExpiryDao = mock(DmsPrescriptionExpiryDao.class);
+        AmqpTemplate amqpTemplate = mock(AmqpTemplate.class);
+        doAnswer(invocation -> sentQueue.add(invocation.getArgument(2)))
+                .when(amqpTemplate).send(eq(QueueEnum.QUEUE_ORDER_CANCEL.getExchange()),
+                eq(QueueEnum.QUEUE_ORDER_CANCEL.getRouteKey()), any(Message.class));
+        scheduler = newScheduler(DELAY_MS, 2000, amqpTemplate);
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void loadSendsMessagesForDueRecordsInExpireOrder() throws Exception {
+        long now = System.currentTimeMillis();
+        when(dmsPrescriptionExpiryDao.listDue(any(Date.class), isNull(), isNull(), eq(LOAD_PAGE_SIZE)))
+                .thenReturn(Arrays.asList(expiry(1L, 11L, 4, now - 60000), expiry(2L, 12L, 5, now + 100)));
+
+        scheduler.start();
+
+        OrderCancelMessage first = poll();
+        OrderCancelMessage second = poll();
+        assertEquals(Long.valueOf(11), first.getItemId());
+        assertEquals(Integer.valueOf(4), first.getType());
+        assertEquals(Long.valueOf(12), second.getItemId());
+        assertEquals(Integer.valueOf(5), second.getType());
+        assertEquals(0, wheel().size());
+    }
+
+    @Test
+    public void loadSkipsRecordsAlreadyInWheel() {
+        long expireTime = System.currentTimeMillis() + 60000;
+        when(dmsPrescriptionExpiryDao.listDue(any(Date.class), isNull(), isNull(), eq(LOAD_PAGE_SIZE)))
+                .thenReturn(Arrays.asList(expiry(1L, 11L, 1, expireTime), expiry(2L, 12L, 1, expireTime)));
+
+        scheduler.load();
+        scheduler.load();
+
+        assertEquals(2, wheel().size());
+        assertTrue(wheel().contains("11&1"));
+        verify(dmsPrescriptionExpiryDao, times(2)).listDue(any(Date.class), isNull(), isNull(), eq(LOAD_PAGE_SIZE));
+    }
+
+    @Test
+    public void loadPagesByLastExpireTimeAndId() {
+        long expireTime = System.currentTimeMillis() + 60000;
+        List<DmsPrescriptionExpiry> firstPage = new ArrayList<>();
+        for (long id = 1; id <= LOAD_PAGE_SIZE; id++) {
+            firstPage.add(expiry(id, id, 1, expireTime + id));
+        }
+        DmsPrescriptionExpiry last = firstPage.get(LOAD_PAGE_SIZE - 1);
+        when(dmsPrescriptionExpiryDao.listDue(any(Date.class), isNull(), isNull(), eq(LOAD_PAGE_SIZE)))
+                .thenReturn(firstPage);
+        when(dmsPrescriptionExpiryDao.listDue(any(Date.class), eq(last.getExpireTime()), eq(last.getId()), eq(LOAD_PAGE_SIZE)))
+                .thenReturn(Collections.singletonList(expiry(5000L, 5000L, 1, expireTime + 5000)));
+
+        scheduler.load();
+
+        assertEquals(LOAD_PAGE_SIZE + 1, wheel().size());
+        verify(dmsPrescriptionExpiryDao, times(2)).listDue(any(Date.class), any(), any(), eq(LOAD_PAGE_SIZE));
+    }
+
+    @Test
+    public void loadStopsWhenWheelIsFull() {
+        scheduler.shutdown();
+        scheduler = newScheduler(DELAY_MS, 1, mock(AmqpTemplate.class));
+        long expireTime = System.currentTimeMillis() + 60000;
+        when(dmsPrescriptionExpiryDao.listDue(any(Date.class), isNull(), isNull(), eq(LOAD_PAGE_SIZE)))
+                .thenReturn(Arrays.asList(expiry(1L, 11L, 1, expireTime), expiry(2L, 12L, 1, expireTime)));
+
+        scheduler.load();
+        scheduler.load();
+
+        assertEquals(1, wheel().size());
+        //第二次加载时时间轮已满，不再查询
+        verify(dmsPrescriptionExpiryDao, times(1)).listDue(any(Date.class), any(), any(), anyInt());
+    }
+
+    @Test
+    public void scheduleAllPersistsAndLeavesFarExpiryToLoad() {
+        scheduler.scheduleAll(Arrays.asList(11L, 12L), PrescriptionExpiryScheduler.TYPE_HERBAL);
+
+        verify(dmsPrescriptionExpiryDao).insertAll(eq(Arrays.asList(11L, 12L)), eq(PrescriptionExpiryScheduler.TYPE_HERBAL), any(Date.class));
+        assertEquals(0, wheel().size());
+    }
+
+    @Test
+    public void scheduleAllWithinHorizonGoesStraightToWheel() throws Exception {
+        AmqpTemplate amqpTemplate = mock(AmqpTemplate.class);
+        doAnswer(invocation -> sentQueue.add(invocation.getArgument(2)))
+                .when(amqpTemplate).send(anyString(), anyString(), any(Message.class));
+        scheduler.shutdown();
+        scheduler = newScheduler(100, 2000, amqpTemplate);
+        scheduler.start();
+
+        scheduler.schedule(11L, PrescriptionExpiryScheduler.TYPE_MEDICINE);
+        assertTrue(wheel().contains("11&5"));
+
+        OrderCancelMessage message = poll();
+        assertEquals(Long.valueOf(11), message.getItemId());
+        assertEquals(Integer.valueOf(PrescriptionExpiryScheduler.TYPE_MEDICINE), message.getType());
+    }
+
+    @Test
+    public void scheduleInTransactionWaitsForCommitBeforeWheel() {
+        scheduler.shutdown();
+        scheduler = newScheduler(100, 2000, mock(AmqpTemplate.class));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            scheduler.schedule(11L, PrescriptionExpiryScheduler.TYPE_HERBAL);
+
+            //记录随开立事务写入，提交前不进时间轮
+            verify(dmsPrescriptionExpiryDao).insertAll(eq(Collections.singletonList(11L)), eq(PrescriptionExpiryScheduler.TYPE_HERBAL), any(Date.class));
+            assertEquals(0, wheel().size());
+
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+            assertTrue(wheel().contains("11&4"));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void scheduleInRolledBackTransactionNeverReachesWheel() {
+        scheduler.shutdown();
+        scheduler = newScheduler(100, 2000, mock(AmqpTemplate.class));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            scheduler.scheduleAll(Arrays.asList(11L, 12L), PrescriptionExpiryScheduler.TYPE_NON_DRUG);
+
+            TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_ROLLED_BACK);
+            assertEquals(0, wheel().size());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private PrescriptionExpiryScheduler newScheduler(long delayMs, int maxPending, AmqpTemplate amqpTemplate) {
+        PrescriptionExpiryScheduler result = new PrescriptionExpiryScheduler(delayMs, HORIZON_MS, maxPending);
+        ReflectionTestUtils.setField(result, "dmsPrescriptionExpiryDao", dmsPrescriptionExpiryDao);
+        ReflectionTestUtils.setField(result, "amqpTemplate", amqpTemplate);
+        ReflectionTestUtils.setField(result, "objectMapper", objectMapper);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private HashedTimingWheel<DmsPrescriptionExpiry> wheel() {
+        return (HashedTimingWheel<DmsPrescriptionExpiry>) ReflectionTestUtils.getField(scheduler, "wheel");
+    }
+
+    //时间轮每格1秒，到期消息最多约2秒后发出
+    private OrderCancelMessage poll() throws Exception {
+        Message message = sentQueue.poll(5, TimeUnit.SECONDS);
+        assertNotNull("5秒内未发送作废消息", message);
+        return objectMapper.readValue(message.getBody(), OrderCancelMessage.class);
+    }
+
+    private static DmsPrescriptionExpiry expiry(Long id, Long itemId, int type, long expireTime) {
+        DmsPrescriptionExpiry expiry = new DmsPrescriptionExpiry();
+        expiry.setId(id);
+        expiry.setItemId(itemId);
+        expiry.setType(type);
+        expiry.setExpireTime(new Date(expireTime));
+        return expiry;
+    }
+}
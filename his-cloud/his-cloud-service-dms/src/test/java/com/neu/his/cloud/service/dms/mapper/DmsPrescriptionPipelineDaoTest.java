@@ -0,0 +1,155 @@
+package com.neu.his.cloud.service.dms.mapper;
+
+import com.neu.his.cloud.service.dms.model.DmsHerbalItemRecord;
+import com.neu.his.cloud.service.dms.model.DmsHerbalPrescriptionRecord;
+import com.neu.his.cloud.service.dms.model.DmsMedicineItemRecord;
+import com.neu.his.cloud.service.dms.model.DmsMedicinePrescriptionRecord;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * DmsPrescriptionPipelineDao：插入处方回填id，多行插入处方项后每个处方项按行顺序回填数据库生成的id
+ * <p>在H2内存数据库（MySQL模式）上执行Mapper XML中的原始SQL
+ */
+public class DmsPrescriptionPipelineDaoTest {
+    private static final int ITEM_NUM = 30;
+    //表中已有的行，生成的id不从1开始
+    private static final int EXISTING_ROWS = 7;
+
+    private PooledDataSource dataSource;
+    private SqlSession sqlSession;
+    private DmsPrescriptionPipelineDao dmsPrescriptionPipelineDao;
+
+    @Before
+    public void setUp() throws SQLException {
+        dataSource = new PooledDataSource("org.h2.Driver",
+                "jdbc:h2:mem:prescription_pipeline;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        execute("CREATE TABLE dms_herbal_prescription_record (id BIGINT AUTO_INCREMENT PRIMARY KEY, status INT, "
+                + "create_time TIMESTAMP, amount DECIMAL(10,2), name VARCHAR(64), therapy VARCHAR(64), "
+                + "therapy_details VARCHAR(255), medical_advice VARCHAR(255), pair_num BIGINT, registration_id BIGINT, "
+                + "frequency INT, usage_means INT, type INT, create_staff_id BIGINT)");
+        execute("CREATE TABLE dms_herbal_item_record (id BIGINT AUTO_INCREMENT PRIMARY KEY, status INT, "
+                + "prescription_id BIGINT, medical_advice VARCHAR(255), footnote VARCHAR(255), drug_id BIGINT, "
+                + "usage_num BIGINT, usage_num_unit INT, total_num BIGINT, current_num BIGINT)");
+        execute("CREATE TABLE dms_medicine_prescription_record (id BIGINT AUTO_INCREMENT PRIMARY KEY, status INT, "
+                + "create_time TIMESTAMP, amount DECIMAL(10,2), name VARCHAR(64), registration_id BIGINT, "
+                + "refund_status BIGINT, type INT, create_staff_id BIGINT)");
+        execute("CREATE TABLE dms_medicine_item_record (id BIGINT AUTO_INCREMENT PRIMARY KEY, drug_id BIGINT, "
+                + "status INT, prescription_id BIGINT, medicine_usage INT, frequency INT, days BIGINT, num BIGINT, "
+                + "medical_advice VARCHAR(255), refund_num BIGINT, usage_num BIGINT, usage_means INT, "
+                + "usage_num_unit INT, current_num BIGINT)");
+        for (int i = 0; i < EXISTING_ROWS; i++) {
+            execute("INSERT INTO dms_herbal_item_record (prescription_id, drug_id) VALUES (0, 0)");
+            execute("INSERT INTO dms_medicine_item_record (prescription_id, drug_id) VALUES (0, 0)");
+        }
+
+        Configuration configuration = new Configuration(new Environment("test", new JdbcTransactionFactory(), dataSource));
+        configuration.addMapper(DmsPrescriptionPipelineDao.class);
+        sqlSession = new SqlSessionFactoryBuilder().build(configuration).openSession(true);
+        dmsPrescriptionPipelineDao = sqlSession.getMapper(DmsPrescriptionPipelineDao.class);
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        sqlSession.close();
+        execute("DROP TABLE dms_herbal_prescription_record, dms_herbal_item_record, "
+                + "dms_medicine_prescription_record, dms_medicine_item_record");
+        dataSource.forceCloseAll();
+    }
+
+    @Test
+    public void herbalItemIdsAreCopiedBack() throws SQLException {
+        DmsHerbalPrescriptionRecord prescription = new DmsHerbalPrescriptionRecord();
+        prescription.setStatus(1);
+        prescription.setRegistrationId(1L);
+        assertEquals(1, dmsPrescriptionPipelineDao.insertHerbalPrescription(prescription));
+        assertNotNull(prescription.getId());
+
+        List<DmsHerbalItemRecord> itemList = new ArrayList<>();
+        for (long i = 1; i <= ITEM_NUM; i++) {
+            DmsHerbalItemRecord item = new DmsHerbalItemRecord();
+            item.setPrescriptionId(prescription.getId());
+            item.setDrugId(i);
+            item.setStatus(1);
+            itemList.add(item);
+        }
+        assertEquals(ITEM_NUM, dmsPrescriptionPipelineDao.insertHerbalItemList(itemList));
+
+        Map<Long, Long> drugIdById = drugIdById("dms_herbal_item_record", prescription.getId());
+        assertEquals(ITEM_NUM, drugIdById.size());
+        Set<Long> idSet = new HashSet<>();
+        for (DmsHerbalItemRecord item : itemList) {
+            assertNotNull("id not copied back for drug " + item.getDrugId(), item.getId());
+            assertTrue(item.getId() > EXISTING_ROWS);
+            //回填的id对应数据库中同一行
+            assertEquals(item.getDrugId(), drugIdById.get(item.getId()));
+            assertTrue("duplicate id " + item.getId(), idSet.add(item.getId()));
+        }
+    }
+
+    @Test
+    public void medicineItemIdsAreCopiedBack() throws SQLException {
+        DmsMedicinePrescriptionRecord prescription = new DmsMedicinePrescriptionRecord();
+        prescription.setStatus(1);
+        prescription.setRegistrationId(1L);
+        assertEquals(1, dmsPrescriptionPipelineDao.insertMedicinePrescription(prescription));
+        assertNotNull(prescription.getId());
+
+        List<DmsMedicineItemRecord> itemList = new ArrayList<>();
+        for (long i = 1; i <= ITEM_NUM; i++) {
+            DmsMedicineItemRecord item = new DmsMedicineItemRecord();
+            item.setPrescriptionId(prescription.getId());
+            item.setDrugId(i);
+            item.setStatus(1);
+            item.setNum(i);
+            itemList.add(item);
+        }
+        assertEquals(ITEM_NUM, dmsPrescriptionPipelineDao.insertMedicineItemList(itemList));
+
+        Map<Long, Long> drugIdById = drugIdById("dms_medicine_item_record", prescription.getId());
+        assertEquals(ITEM_NUM, drugIdById.size());
+        Set<Long> idSet = new HashSet<>();
+        for (DmsMedicineItemRecord item : itemList) {
+            assertNotNull("id not copied back for drug " + item.getDrugId(), item.getId());
+            assertTrue(item.getId() > EXISTING_ROWS);
+            assertEquals(item.getDrugId(), drugIdById.get(item.getId()));
+            assertTrue("duplicate id " + item.getId(), idSet.add(item.getId()));
+        }
+    }
+
+    //处方下各处方项的id -> drug_id
+    private Map<Long, Long> drugIdById(String table, Long prescriptionId) throws SQLException {
+        Map<Long, Long> drugIdById = new HashMap<>();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT id, drug_id FROM " + table + " WHERE prescription_id = " + prescriptionId)) {
+            while (resultSet.next()) {
+                drugIdById.put(resultSet.getLong(1), resultSet.getLong(2));
+            }
+        }
+        return drugIdById;
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.neu.his.cloud.service.dms.mapper;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * SmsSkdSlotDao：多线程并发占用、归还号源，不超卖，归还不超过排班限额
+ * <p>在H2内存数据库（MySQL模式）上执行Mapper XML中的原始SQL
+ */
+public class SmsSkdSlotDaoTest {
+    private static final long SKD_ID = 1L;
+    private static final int SK_LIMIT = 5;
+    private static final int THREAD_NUM = 16;
+    private static final int ATTEMPTS_PER_THREAD = 50;
+
+    private PooledDataSource dataSource;
+    private SqlSessionFactory sqlSessionFactory;
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() throws SQLException {
+        dataSource = new PooledDataSource("org.h2.Driver",
+                "jdbc:h2:mem:skd_slot;MODE=MySQL;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1", "sa", "");
+        dataSource.setPoolMaximumActiveConnections(THREAD_NUM);
+        dataSource.setPoolMaximumIdleConnections(THREAD_NUM);
+        execute("CREATE TABLE sms_skd (id BIGINT PRIMARY KEY, remain BIGINT, sk_limit BIGINT)");
+        execute("INSERT INTO sms_skd (id, remain, sk_limit) VALUES (" + SKD_ID + ", " + SK_LIMIT + ", " + SK_LIMIT + ")");
+
+        Configuration configuration = new Configuration(new Environment("test", new JdbcTransactionFactory(), dataSource));
+        configuration.addMapper(SmsSkdSlotDao.class);
+        sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+        executor = Executors.newFixedThreadPool(THREAD_NUM);
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        executor.shutdownNow();
+        execute("DROP TABLE sms_skd");
+        dataSource.forceCloseAll();
+    }
+
+    @Test
+    public void concurrentHoldNeverOversells() throws Exception {
+        int held = hammer(THREAD_NUM * ATTEMPTS_PER_THREAD, SmsSkdSlotDao::hold);
+        assertEquals(SK_LIMIT, held);
+        assertEquals(0, remain());
+    }
+
+    @Test
+    public void concurrentReleaseStopsAtLimit() throws Exception {
+        assertEquals(SK_LIMIT, hammer(SK_LIMIT * 2, SmsSkdSlotDao::hold));
+        //退号多于已占用的号源：只归还占用的部分
+        int released = hammer(THREAD_NUM * ATTEMPTS_PER_THREAD, SmsSkdSlotDao::release);
+        assertEquals(SK_LIMIT, released);
+        assertEquals(SK_LIMIT, remain());
+    }
+
+    @Test
+    public void interleavedHoldAndReleaseKeepCountsConsistent() throws Exception {
+        AtomicInteger held = new AtomicInteger();
+        AtomicInteger released = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREAD_NUM; i++) {
+            boolean holder = i % 2 == 0;
+            tasks.add(() -> {
+                for (int j = 0; j < ATTEMPTS_PER_THREAD; j++) {
+                    if (holder) {
+                        held.addAndGet(run(SmsSkdSlotDao::hold));
+                    } else if (held.get() > released.get()) {
+                        //只归还已占用的号源，对应退号
+                        released.addAndGet(run(SmsSkdSlotDao::release));
+                    }
+                    long remain = remain();
+                    assertTrue("remain out of range: " + remain, remain >= 0 && remain <= SK_LIMIT);
+                }
+                return null;
+            });
+        }
+        for (Future<Void> future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+        assertTrue(held.get() >= SK_LIMIT);
+        assertEquals(SK_LIMIT - held.get() + released.get(), remain());
+    }
+
+    //并发执行attempts次操作，返回成功（影响1行）的次数
+    private int hammer(int attempts, SlotCall call) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return run(call);
+            }));
+        }
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Integer> future : futures) {
+            succeeded += future.get(30, TimeUnit.SECONDS);
+        }
+        return succeeded;
+    }
+
+    //每次操作在独立的会话中执行并提交，对应一次挂号或退号事务
+    private int run(SlotCall call) {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(true)) {
+            return call.apply(sqlSession.getMapper(SmsSkdSlotDao.class), SKD_ID);
+        }
+    }
+
+    private long remain() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT remain FROM sms_skd WHERE id = " + SKD_ID)) {
+            assertTrue(resultSet.next());
+            return resultSet.getLong(1);
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private interface SlotCall {
+        int apply(SmsSkdSlotDao dao, Long skdId);
+    }
+}
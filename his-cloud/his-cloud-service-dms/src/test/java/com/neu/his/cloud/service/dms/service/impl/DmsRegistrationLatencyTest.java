@@ -0,0 +1,121 @@
+package com.neu.his.cloud.service.dms.service.impl;
+
+import com.neu.his.cloud.service.dms.component.RabbitMQRegistrationSender;
+import com.neu.his.cloud.service.dms.dto.dms.DmsRegistrationParam;
+import com.neu.his.cloud.service.dms.mapper.*;
+import com.neu.his.cloud.service.dms.service.BmsInvoiceNoService;
+import com.neu.his.cloud.service.dms.util.IdGenerator;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 窗口挂号（createRegistration）的耗时测量：每次访问数据库按一次往返计，用固定的往返耗时模拟
+ * <p>挂号耗时主要由数据库往返次数决定，本测试统计往返次数并测量模拟往返下的耗时分布，与改为单事务前的往返次数比较；
+ * 真实数据库上的绝对耗时需在有MySQL的环境中测量
+ * <p>往返耗时、次数可通过-Dregistration.rtt-ms、-Dregistration.iterations调整
+ */
+public class DmsRegistrationLatencyTest {
+    private static final long RTT_MS = Long.getLong("registration.rtt-ms", 1);
+    private static final int ITERATIONS = Integer.getInteger("registration.iterations", 200);
+    //改为单事务前新病人挂专家号的往返：按身份证号查病人、插入病人、再查病人、扣减号源、插入挂号、插入账单、
+    //按账单号查账单、插入账单项目、插入发票、插入发票明细、累加日结统计；每条语句自动提交
+    private static final int ROUND_TRIPS_BEFORE = 11;
+
+    private final AtomicInteger roundTrips = new AtomicInteger();
+    private final AtomicLong generatedId = new AtomicLong();
+    private DmsRegistrationServiceImpl dmsRegistrationService;
+
+    @Before
+    public void setUp() {
+        dmsRegistrationService = new DmsRegistrationServiceImpl();
+        ReflectionTestUtils.setField(dmsRegistrationService, "dmsRegistrationPipelineDao", mockDao(DmsRegistrationPipelineDao.class));
+        ReflectionTestUtils.setField(dmsRegistrationService, "pmsPatientMapper", mockDao(PmsPatientMapper.class));
+        ReflectionTestUtils.setField(dmsRegistrationService, "bmsSettleAggregateDao", mockDao(BmsSettleAggregateDao.class));
+        ReflectionTestUtils.setField(dmsRegistrationService, "smsSkdSlotDao", mockDao(SmsSkdSlotDao.class));
+        //取号时校验号段是否仍在使用，一次往返
+        ReflectionTestUtils.setField(dmsRegistrationService, "bmsInvoiceNoService", mockDao(BmsInvoiceNoService.class));
+        ReflectionTestUtils.setField(dmsRegistrationService, "idGenerator", new IdGenerator(1));
+        //事务提交后异步发送，不计入
+        ReflectionTestUtils.setField(dmsRegistrationService, "rabbitMQRegistrationSender", mock(RabbitMQRegistrationSender.class));
+    }
+
+    @Test
+    public void expertRegistrationRoundTripsAndLatency() {
+        //预热
+        for (int i = 0; i < 20; i++) {
+            assertNotNull(dmsRegistrationService.createRegistration(param(i)));
+        }
+        roundTrips.set(0);
+
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            assertNotNull(dmsRegistrationService.createRegistration(param(i)));
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        int roundTripsAfter = roundTrips.get() / ITERATIONS;
+        System.out.printf("createRegistration rtt=%dms: round trips %d (before %d), p50=%.2fms p99=%.2fms, before~%dms%n",
+                RTT_MS, roundTripsAfter, ROUND_TRIPS_BEFORE, millis(nanos[ITERATIONS / 2]),
+                millis(nanos[ITERATIONS * 99 / 100]), ROUND_TRIPS_BEFORE * RTT_MS);
+
+        //扣减号源、写病人、挂号、账单、账单项目、锁定日结统计、取号、发票、发票明细、累加日结统计
+        assertEquals(10, roundTripsAfter);
+        assertTrue(roundTripsAfter < ROUND_TRIPS_BEFORE);
+    }
+
+    private DmsRegistrationParam param(int i) {
+        DmsRegistrationParam param = new DmsRegistrationParam();
+        param.setIdentificationNo(String.format("21010019900101%04d", i));
+        param.setName("病人" + i);
+        param.setDateOfBirth(new GregorianCalendar(1990, Calendar.JANUARY, 1).getTime());
+        param.setSkdId(1L);
+        param.setOpratorId(1L);
+        param.setSettlementCatId(1L);
+        param.setAmount(BigDecimal.TEN);
+        return param;
+    }
+
+    //每次调用计一次往返并等待RTT_MS；插入语句回填自增id，修改语句返回影响1行
+    private <T> T mockDao(Class<T> type) {
+        Answer<Object> answer = invocation -> {
+            roundTrips.incrementAndGet();
+            TimeUnit.MILLISECONDS.sleep(RTT_MS);
+            Method method = invocation.getMethod();
+            Object[] args = invocation.getArguments();
+            if (args.length == 1 && args[0] != null) {
+                try {
+                    args[0].getClass().getMethod("setId", Long.class).invoke(args[0], generatedId.incrementAndGet());
+                } catch (NoSuchMethodException ignored) {
+                    //参数不是实体
+                }
+            }
+            if (method.getReturnType() == int.class) {
+                return 1;
+            }
+            if (method.getReturnType() == Long.class) {
+                return generatedId.incrementAndGet();
+            }
+            return null;
+        };
+        return mock(type, answer);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1000000.0;
+    }
+}
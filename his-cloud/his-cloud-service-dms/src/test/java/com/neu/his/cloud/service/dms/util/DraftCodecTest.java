@@ -0,0 +1,130 @@
+package com.neu.his.cloud.service.dms.util;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neu.his.cloud.service.dms.dto.dms.DmsCaseHistoryParam;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * DraftCodec：短内容原文、长内容压缩后的往返，空数据解码为null，损坏的数据解码失败
+ */
+public class DraftCodecTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final DraftCodec draftCodec = new DraftCodec(objectMapper);
+
+    @Test
+    public void shortValueIsStoredRaw() throws IOException {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("name", "阿莫西林");
+        value.put("num", 2);
+
+        byte[] data = draftCodec.encode(value);
+
+        assertEquals(0, data[0]);
+        assertArrayEquals(objectMapper.writeValueAsBytes(value), Arrays.copyOfRange(data, 1, data.length));
+        assertEquals(value, draftCodec.decode(data, mapType()));
+    }
+
+    @Test
+    public void casePageIsDeflatedAndRoundTrips() throws IOException {
+        DmsCaseHistoryParam casePage = casePage();
+        byte[] json = objectMapper.writeValueAsBytes(casePage);
+
+        byte[] data = draftCodec.encode(casePage);
+
+        assertTrue(json.length >= 256);
+        assertEquals(1, data[0]);
+        assertTrue("deflated " + data.length + " >= json " + json.length, data.length < json.length);
+        DmsCaseHistoryParam decoded = draftCodec.decode(data, objectMapper.constructType(DmsCaseHistoryParam.class));
+        assertEquals(casePage.getChiefComplaint(), decoded.getChiefComplaint());
+        assertEquals(casePage.getHistoryOfPresentIllness(), decoded.getHistoryOfPresentIllness());
+        assertEquals(casePage.getRegistrationId(), decoded.getRegistrationId());
+        assertEquals(casePage.getStartDate(), decoded.getStartDate());
+        assertEquals(casePage.getGender(), decoded.getGender());
+        assertEquals(casePage.getDefiniteDiseStrList(), decoded.getDefiniteDiseStrList());
+    }
+
+    @Test
+    public void compressibleValueBelowThresholdStaysRaw() throws IOException {
+        //内容可压缩但不足256字节，不压缩
+        char[] chars = new char[200];
+        Arrays.fill(chars, 'a');
+        List<String> value = Collections.singletonList(new String(chars));
+
+        byte[] data = draftCodec.encode(value);
+
+        assertTrue(objectMapper.writeValueAsBytes(value).length < 256);
+        assertEquals(0, data[0]);
+        assertEquals(value, draftCodec.decode(data, listType()));
+    }
+
+    @Test
+    public void nullOrEmptyDecodesToNull() throws IOException {
+        assertNull(draftCodec.decode(null, mapType()));
+        assertNull(draftCodec.decode(new byte[0], mapType()));
+    }
+
+    @Test(expected = IOException.class)
+    public void unknownFormatFails() throws IOException {
+        byte[] data = draftCodec.encode(Collections.singletonMap("a", 1));
+        data[0] = 9;
+        draftCodec.decode(data, mapType());
+    }
+
+    @Test(expected = IOException.class)
+    public void truncatedDeflateFails() throws IOException {
+        byte[] data = draftCodec.encode(casePage());
+        assertEquals(1, data[0]);
+        draftCodec.decode(Arrays.copyOf(data, data.length / 2), mapType());
+    }
+
+    @Test(expected = IOException.class)
+    public void corruptDeflateFails() throws IOException {
+        byte[] data = draftCodec.encode(casePage());
+        assertEquals(1, data[0]);
+        for (int i = 1; i < data.length; i++) {
+            data[i] = (byte) 0xFF;
+        }
+        draftCodec.decode(data, mapType());
+    }
+
+    @Test(expected = IOException.class)
+    public void corruptJsonFails() throws IOException {
+        byte[] data = draftCodec.encode(Collections.singletonMap("a", 1));
+        data[data.length - 1] = '[';
+        draftCodec.decode(data, mapType());
+    }
+
+    private JavaType mapType() {
+        return objectMapper.getTypeFactory().constructMapType(LinkedHashMap.class, String.class, Object.class);
+    }
+
+    private JavaType listType() {
+        return objectMapper.getTypeFactory().constructCollectionType(List.class, String.class);
+    }
+
+    private static DmsCaseHistoryParam casePage() {
+        DmsCaseHistoryParam casePage = new DmsCaseHistoryParam();
+        casePage.setRegistrationId(1024L);
+        casePage.setName("张三");
+        casePage.setGender(1);
+        casePage.setAgeStr("30岁");
+        casePage.setStartDate(new Date(1571234567000L));
+        casePage.setChiefComplaint("咳嗽、咳痰三天，伴发热一天，最高体温38.5℃，无胸痛、咯血。");
+        casePage.setHistoryOfPresentIllness("患者三天前受凉后出现咳嗽、咳痰，痰白量少，一天前出现发热，最高体温38.5℃，"
+                + "自服感冒药后症状无明显缓解，无胸痛、咯血，无呼吸困难，为进一步诊治来院。");
+        casePage.setHistoryOfTreatment("自服感冒药");
+        casePage.setPastHistory("既往体健，否认高血压、糖尿病病史，否认手术外伤史。");
+        casePage.setAllergies("否认药物及食物过敏史");
+        casePage.setHealthCheckup("体温38.2℃，咽部充血，双肺呼吸音粗，可闻及少许湿啰音。");
+        casePage.setPriliminaryDiseStrList("急性支气管炎,上呼吸道感染");
+        casePage.setPriliminaryDiseIdList("101,102");
+        casePage.setDefiniteDiseStrList("急性支气管炎");
+        return casePage;
+    }
+}
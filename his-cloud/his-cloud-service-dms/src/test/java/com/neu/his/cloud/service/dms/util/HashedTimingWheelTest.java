@@ -0,0 +1,138 @@
+package com.neu.his.cloud.service.dms.util;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * HashedTimingWheel：加入、取消、按到期时间顺序触发
+ */
+public class HashedTimingWheelTest {
+    private static final long TICK_MS = 10;
+
+    //任务 -> 到期时间
+    private final Map<String, Long> deadlineMap = new ConcurrentHashMap<>();
+    //已触发的任务
+    private final BlockingQueue<Fired> firedQueue = new LinkedBlockingQueue<>();
+    private HashedTimingWheel<String> wheel;
+
+    @After
+    public void tearDown() {
+        if (wheel != null) {
+            wheel.stop();
+        }
+    }
+
+    @Test
+    public void expiresInDeadlineOrder() throws InterruptedException {
+        wheel = newWheel(8, 100);
+        long now = System.currentTimeMillis();
+        assertTrue(schedule("c", now + 150));
+        assertTrue(schedule("a", now + 50));
+        assertTrue(schedule("b", now + 100));
+        assertEquals(3, wheel.size());
+        wheel.start();
+
+        List<String> taskList = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Fired fired = poll();
+            taskList.add(fired.task);
+            //不会提前触发
+            assertTrue(fired.time >= deadlineMap.get(fired.task));
+        }
+        assertEquals("[a, b, c]", taskList.toString());
+        assertEquals(0, wheel.size());
+        assertFalse(wheel.contains("a"));
+    }
+
+    @Test
+    public void cancelledTaskDoesNotFire() throws InterruptedException {
+        wheel = newWheel(8, 100);
+        long now = System.currentTimeMillis();
+        schedule("a", now + 50);
+        schedule("b", now + 100);
+        wheel.start();
+
+        assertTrue(wheel.cancel("a"));
+        assertFalse(wheel.cancel("a"));
+        assertFalse(wheel.contains("a"));
+        assertEquals("b", poll().task);
+        assertNull(firedQueue.poll(100, TimeUnit.MILLISECONDS));
+        //已触发的任务不能再取消
+        assertFalse(wheel.cancel("b"));
+    }
+
+    @Test
+    public void pastDeadlineFiresOnNextTick() throws InterruptedException {
+        wheel = newWheel(8, 100);
+        wheel.start();
+        schedule("a", System.currentTimeMillis() - 60000);
+        assertEquals("a", poll().task);
+    }
+
+    @Test
+    public void deadlineBeyondOneRoundWaitsForRemainingRounds() throws InterruptedException {
+        //一圈4格共40ms，a在第3圈到期，与b落在同一格
+        wheel = newWheel(4, 100);
+        long now = System.currentTimeMillis();
+        schedule("a", now + 100);
+        schedule("b", now + 20);
+        wheel.start();
+
+        assertEquals("b", poll().task);
+        Fired fired = poll();
+        assertEquals("a", fired.task);
+        assertTrue(fired.time >= deadlineMap.get("a"));
+    }
+
+    @Test
+    public void rejectsDuplicateKeyAndWhenFull() {
+        wheel = newWheel(8, 2);
+        long deadline = System.currentTimeMillis() + 60000;
+        assertTrue(schedule("a", deadline));
+        assertFalse(wheel.schedule("a", "other", deadline));
+        assertTrue(schedule("b", deadline));
+        assertTrue(wheel.isFull());
+        assertFalse(schedule("c", deadline));
+
+        //取消后腾出位置
+        assertTrue(wheel.cancel("a"));
+        assertFalse(wheel.isFull());
+        assertTrue(schedule("c", deadline));
+    }
+
+    private HashedTimingWheel<String> newWheel(int wheelSize, int maxPending) {
+        return new HashedTimingWheel<>("timing-wheel-test", TICK_MS, wheelSize, maxPending,
+                task -> firedQueue.add(new Fired(task, System.currentTimeMillis())));
+    }
+
+    private boolean schedule(String task, long deadline) {
+        deadlineMap.put(task, deadline);
+        return wheel.schedule(task, task, deadline);
+    }
+
+    private Fired poll() throws InterruptedException {
+        Fired fired = firedQueue.poll(5, TimeUnit.SECONDS);
+        assertNotNull("任务未在5秒内触发", fired);
+        return fired;
+    }
+
+    private static class Fired {
+        private final String task;
+        private final long time;
+
+        Fired(String task, long time) {
+            this.task = task;
+            this.time = time;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.neu.his.cloud.service.dms.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * IdGenerator：多线程下唯一、单线程内单调递增，编号为25位且与id同序
+ */
+public class IdGeneratorTest {
+    private static final int THREAD_NUM = 8;
+    private static final int IDS_PER_THREAD = 100000;
+
+    @Test
+    public void idsAreUniqueAndMonotonicAcrossThreads() throws Exception {
+        IdGenerator idGenerator = new IdGenerator(7);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_NUM);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int i = 0; i < THREAD_NUM; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                long[] ids = new long[IDS_PER_THREAD];
+                for (int j = 0; j < IDS_PER_THREAD; j++) {
+                    ids[j] = idGenerator.nextId();
+                }
+                return ids;
+            }));
+        }
+        start.countDown();
+
+        Set<Long> idSet = ConcurrentHashMap.newKeySet();
+        try {
+            for (Future<long[]> future : futures) {
+                long[] ids = future.get(60, TimeUnit.SECONDS);
+                for (int j = 0; j < ids.length; j++) {
+                    //每个线程取到的id严格递增
+                    if (j > 0) {
+                        assertTrue("id not increasing: " + ids[j - 1] + " -> " + ids[j], ids[j] > ids[j - 1]);
+                    }
+                    assertTrue("duplicate id: " + ids[j], idSet.add(ids[j]));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(THREAD_NUM * IDS_PER_THREAD, idSet.size());
+    }
+
+    @Test
+    public void formattedNumbersHave25DigitsAndKeepIdOrder() {
+        IdGenerator idGenerator = new IdGenerator(IdGenerator.MAX_WORKER_ID);
+        String last = null;
+        //跨越多个毫秒，包括序列号较大的情况
+        for (int i = 0; i < 20000; i++) {
+            long id = idGenerator.nextId();
+            String no = IdGenerator.format(id);
+            assertEquals(25, no.length());
+            assertTrue(no, no.matches("\\d{25}"));
+            assertEquals(String.format("%04d", IdGenerator.MAX_WORKER_ID), no.substring(17, 21));
+            if (last != null) {
+                assertTrue(last + " -> " + no, no.compareTo(last) > 0);
+            }
+            last = no;
+        }
+    }
+
+    @Test
+    public void medicalRecordAndBillNumbersDoNotCollide() {
+        IdGenerator idGenerator = new IdGenerator(0);
+        String medicalRecordNo = idGenerator.nextMedicalRecordNo();
+        String billNo = idGenerator.nextBillNo();
+        assertEquals(25, medicalRecordNo.length());
+        assertNotEquals(medicalRecordNo, billNo);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNegativeWorkerId() {
+        new IdGenerator(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsWorkerIdAboveMax() {
+        new IdGenerator(IdGenerator.MAX_WORKER_ID + 1);
+    }
+}
@@ -6,10 +6,12 @@ import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.netflix.eureka.EnableEurekaClient;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = "com.neu.his.cloud.service.pms")
 @EnableEurekaClient
 @MapperScan("com.neu.his.cloud.service.pms.mapper")
+@EnableScheduling
 public class ServicePmsApplication {
     public static void main(String[] args) {
         SpringApplication.run(ServicePmsApplication.class,args);
@@ -0,0 +1,421 @@
+package com.neu.his.cloud.service.pms.component;
+
+import com.neu.his.cloud.service.pms.mapper.DmsRegistrationMapper;
+import com.neu.his.cloud.service.pms.mapper.PmsPatientMapper;
+import com.neu.his.cloud.service.pms.mapper.SmsSkdMapper;
+import com.neu.his.cloud.service.pms.mapper.SmsStaffMapper;
+import com.neu.his.cloud.service.pms.model.*;
+import com.neu.his.cloud.service.pms.util.DateUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 门诊队列（内存）
+ * <p>保存昨天至今天的待诊、诊中、诊毕挂号，按科室（未绑定的待诊）和排班（已绑定医生）建立索引，
+ * 启动及每天零点从数据库加载，之后由挂号变更消息保持同步
+ * <p>绑定医生只修改内存并立即返回，数据库由后台线程异步写入；写入时仍要求待诊且未绑定，
+ * 已被其他实例绑定时以数据库为准恢复内存并广播挂号变更
+ */
+@Component
+public class DeptQueueRegistry {
+    private static Logger LOGGER = LoggerFactory.getLogger(DeptQueueRegistry.class);
+
+    //医生排班缓存的有效期，排班在系统管理中修改后最多这么久生效
+    private static final long STAFF_SCHEDULE_TTL_MS = 60 * 1000;
+
+    @Autowired
+    private DmsRegistrationMapper dmsRegistrationMapper;
+    @Autowired
+    private PmsPatientMapper pmsPatientMapper;
+    @Autowired
+    private SmsStaffMapper smsStaffMapper;
+    @Autowired
+    private SmsSkdMapper smsSkdMapper;
+    @Autowired
+    private RabbitMQRegistrationSender rabbitMQRegistrationSender;
+
+    //挂号id -> 队列项（不可变，修改时整体替换）
+    private final Map<Long, QueueEntry> entryMap = new ConcurrentHashMap<>();
+    //科室id -> 未绑定医生的待诊挂号（按挂号id排序）
+    private final Map<Long, ConcurrentSkipListMap<Long, QueueEntry>> deptWaitMap = new ConcurrentHashMap<>();
+    //排班id -> 已绑定该排班的挂号（按挂号id排序）
+    private final Map<Long, ConcurrentSkipListMap<Long, QueueEntry>> skdQueueMap = new ConcurrentHashMap<>();
+    //医生id -> 所在科室及今日排班，过期后重新读取
+    private final Map<Long, StaffSchedule> staffScheduleMap = new ConcurrentHashMap<>();
+
+    private final ExecutorService writeExecutor = Executors.newSingleThreadExecutor();
+
+    /**
+     * 启动完成及每天零点重新加载（零点后排班、就诊日期窗口都发生变化）
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 0 * * ?")
+    public synchronized void warm() {
+        Date today = DateUtil.getDate(new Date());
+        DmsRegistrationExample dmsRegistrationExample = new DmsRegistrationExample();
+        dmsRegistrationExample.createCriteria()
+                .andAttendanceDateBetween(DateUtil.getDateBefore(today, 1), DateUtil.getEndOfDate(today))
+                .andStatusIn(Arrays.asList(1, 2, 3));
+        List<DmsRegistration> dmsRegistrationList = dmsRegistrationMapper.selectByExample(dmsRegistrationExample);
+        Map<Long, PmsPatient> patientMap = mapPatient(dmsRegistrationList);
+
+        entryMap.clear();
+        deptWaitMap.clear();
+        skdQueueMap.clear();
+        staffScheduleMap.clear();
+        for (DmsRegistration dmsRegistration : dmsRegistrationList) {
+            index(new QueueEntry(dmsRegistration, patientMap.get(dmsRegistration.getPatientId())));
+        }
+        LOGGER.info("门诊队列加载完成，挂号数:{}", entryMap.size());
+    }
+
+    /**
+     * 从数据库重新读取一条挂号并更新队列，返回最新的队列项（挂号不存在时返回null）
+     * <p>退号等非1~3状态的挂号会移出队列，但仍返回队列项用于通知
+     */
+    public QueueEntry reload(Long registrationId) {
+        DmsRegistration dmsRegistration = dmsRegistrationMapper.selectByPrimaryKey(registrationId);
+        if (dmsRegistration == null) {
+            synchronized (this) {
+                unindex(entryMap.remove(registrationId));
+            }
+            return null;
+        }
+        PmsPatient pmsPatient = pmsPatientMapper.selectByPrimaryKey(dmsRegistration.getPatientId());
+        QueueEntry entry = new QueueEntry(dmsRegistration, pmsPatient);
+        synchronized (this) {
+            unindex(entryMap.remove(registrationId));
+            index(entry);
+        }
+        return entry;
+    }
+
+    /**
+     * 绑定医生：待诊且未绑定的挂号移入排班队列，返回false表示不可绑定（不存在、已绑定或不是待诊）
+     * <p>数据库异步写入，写入后广播挂号变更；数据库中已不是待诊未绑定（如其他实例已绑定）时不写入，
+     * 以数据库为准恢复内存，医生工作站收到挂号变更后刷新
+     */
+    public boolean bind(Long registrationId, Long skdId) {
+        if (!entryMap.containsKey(registrationId)) {
+            reload(registrationId);
+        }
+        synchronized (this) {
+            QueueEntry entry = entryMap.get(registrationId);
+            if (entry == null || entry.getBindStatus() != 0 || entry.getStatus() != 1) {
+                return false;
+            }
+            unindex(entry);
+            index(entry.bindTo(skdId));
+        }
+        writeExecutor.execute(() -> {
+            try {
+                DmsRegistration dmsRegistration = new DmsRegistration();
+                dmsRegistration.setBindStatus(1);
+                dmsRegistration.setSkdId(skdId);
+                DmsRegistrationExample dmsRegistrationExample = new DmsRegistrationExample();
+                dmsRegistrationExample.createCriteria().andIdEqualTo(registrationId).andBindStatusEqualTo(0).andStatusEqualTo(1);
+                if (dmsRegistrationMapper.updateByExampleSelective(dmsRegistration, dmsRegistrationExample) == 0) {
+                    LOGGER.warn("绑定医生未生效，挂号已被绑定或不是待诊 registrationId:{} skdId:{}", registrationId, skdId);
+                    reload(registrationId);
+                }
+            } catch (RuntimeException e) {
+                //写入失败，以数据库为准恢复内存
+                LOGGER.error("绑定医生写入失败 registrationId:{} skdId:{}", registrationId, skdId, e);
+                reload(registrationId);
+            }
+            rabbitMQRegistrationSender.sendChange(registrationId);
+        });
+        return true;
+    }
+
+    /**
+     * 修改队列中挂号的诊断状态（数据库由调用方写入）
+     */
+    public synchronized void updateStatus(Long registrationId, Integer status) {
+        QueueEntry entry = entryMap.remove(registrationId);
+        if (entry != null) {
+            unindex(entry);
+            index(entry.withStatus(status));
+        }
+    }
+
+    /**
+     * 科室待诊（未绑定医生、就诊日期在昨天到现在之间）
+     */
+    public List<QueueEntry> listDeptWait(Long deptId) {
+        Map<Long, QueueEntry> queue = deptId == null ? null : deptWaitMap.get(deptId);
+        if (queue == null) {
+            return new ArrayList<>();
+        }
+        Date now = new Date();
+        Date beforeAday = DateUtil.getDateBefore(now, 1);
+        List<QueueEntry> entryList = new ArrayList<>();
+        for (QueueEntry entry : queue.values()) {
+            if (entry.inDeptWindow(beforeAday, now)) {
+                entryList.add(entry);
+            }
+        }
+        return entryList;
+    }
+
+    /**
+     * 科室待诊人数
+     */
+    public int countDeptWait(Long deptId) {
+        return listDeptWait(deptId).size();
+    }
+
+    /**
+     * 绑定到这些排班的全部挂号
+     */
+    public List<QueueEntry> listSkdQueue(Collection<Long> skdIds) {
+        List<QueueEntry> entryList = new ArrayList<>();
+        for (Long skdId : skdIds) {
+            Map<Long, QueueEntry> queue = skdQueueMap.get(skdId);
+            if (queue != null) {
+                entryList.addAll(queue.values());
+            }
+        }
+        return entryList;
+    }
+
+    /**
+     * 医生所在科室及今日排班，从数据库读取后缓存STAFF_SCHEDULE_TTL_MS，过期或跨天后重新读取
+     */
+    public StaffSchedule staffSchedule(Long staffId) {
+        StaffSchedule staffSchedule = staffScheduleMap.get(staffId);
+        Date today = DateUtil.getDate(DateUtil.setMilliSecond(new Date(), 0));
+        if (staffSchedule != null && staffSchedule.isFresh(today)) {
+            return staffSchedule;
+        }
+        SmsStaff smsStaff = smsStaffMapper.selectByPrimaryKey(staffId);
+        if (smsStaff == null) {
+            return null;
+        }
+        SmsSkdExample smsSkdExample = new SmsSkdExample();
+        smsSkdExample.createCriteria().andStaffIdEqualTo(staffId).andDateEqualTo(today);
+        staffSchedule = new StaffSchedule(smsStaff.getDeptId(), smsSkdMapper.selectByExample(smsSkdExample), today);
+        staffScheduleMap.put(staffId, staffSchedule);
+        return staffSchedule;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writeExecutor.shutdown();
+    }
+
+    private Map<Long, PmsPatient> mapPatient(List<DmsRegistration> dmsRegistrationList) {
+        Map<Long, PmsPatient> patientMap = new HashMap<>();
+        Set<Long> patientIdSet = new HashSet<>();
+        for (DmsRegistration dmsRegistration : dmsRegistrationList) {
+            if (dmsRegistration.getPatientId() != null) {
+                patientIdSet.add(dmsRegistration.getPatientId());
+            }
+        }
+        if (patientIdSet.isEmpty()) {
+            return patientMap;
+        }
+        PmsPatientExample pmsPatientExample = new PmsPatientExample();
+        pmsPatientExample.createCriteria().andIdIn(new ArrayList<>(patientIdSet));
+        for (PmsPatient pmsPatient : pmsPatientMapper.selectByExample(pmsPatientExample)) {
+            patientMap.put(pmsPatient.getId(), pmsPatient);
+        }
+        return patientMap;
+    }
+
+    //调用方持有锁
+    private void index(QueueEntry entry) {
+        if (!entry.isActive()) {
+            return;
+        }
+        entryMap.put(entry.getRegistrationId(), entry);
+        if (entry.getBindStatus() == 1 && entry.getSkdId() != null) {
+            skdQueueMap.computeIfAbsent(entry.getSkdId(), k -> new ConcurrentSkipListMap<>()).put(entry.getRegistrationId(), entry);
+        } else if (entry.getBindStatus() == 0 && entry.getStatus() == 1 && entry.getDeptId() != null) {
+            deptWaitMap.computeIfAbsent(entry.getDeptId(), k -> new ConcurrentSkipListMap<>()).put(entry.getRegistrationId(), entry);
+        }
+    }
+
+    //调用方持有锁
+    private void unindex(QueueEntry entry) {
+        if (entry == null) {
+            return;
+        }
+        entryMap.remove(entry.getRegistrationId(), entry);
+        if (entry.getSkdId() != null && skdQueueMap.containsKey(entry.getSkdId())) {
+            skdQueueMap.get(entry.getSkdId()).remove(entry.getRegistrationId());
+        }
+        if (entry.getDeptId() != null && deptWaitMap.containsKey(entry.getDeptId())) {
+            deptWaitMap.get(entry.getDeptId()).remove(entry.getRegistrationId());
+        }
+    }
+
+    /**
+     * 队列项：挂号及病人信息快照
+     */
+    public static class QueueEntry {
+        private final Long registrationId;
+        private final Long patientId;
+        private final Long deptId;
+        private final Long skdId;
+        private final int bindStatus;
+        private final int status;
+        private final Date attendanceDate;
+        private final String patientAgeStr;
+        private final String patientName;
+        private final String patientHomeAddress;
+        private final Integer patientGender;
+        private final String patientMedicalRecordNo;
+
+        QueueEntry(DmsRegistration dmsRegistration, PmsPatient pmsPatient) {
+            this.registrationId = dmsRegistration.getId();
+            this.patientId = dmsRegistration.getPatientId();
+            this.deptId = dmsRegistration.getDeptId();
+            this.skdId = dmsRegistration.getSkdId();
+            this.bindStatus = dmsRegistration.getBindStatus() == null ? 0 : dmsRegistration.getBindStatus();
+            this.status = dmsRegistration.getStatus() == null ? 0 : dmsRegistration.getStatus();
+            this.attendanceDate = dmsRegistration.getAttendanceDate();
+            this.patientAgeStr = dmsRegistration.getPatientAgeStr();
+            this.patientName = pmsPatient == null ? null : pmsPatient.getName();
+            this.patientHomeAddress = pmsPatient == null ? null : pmsPatient.getHomeAddress();
+            this.patientGender = pmsPatient == null ? null : pmsPatient.getGender();
+            this.patientMedicalRecordNo = pmsPatient == null ? null : pmsPatient.getMedicalRecordNo();
+        }
+
+        private QueueEntry(QueueEntry source, Long skdId, int bindStatus, int status) {
+            this.registrationId = source.registrationId;
+            this.patientId = source.patientId;
+            this.deptId = source.deptId;
+            this.skdId = skdId;
+            this.bindStatus = bindStatus;
+            this.status = status;
+            this.attendanceDate = source.attendanceDate;
+            this.patientAgeStr = source.patientAgeStr;
+            this.patientName = source.patientName;
+            this.patientHomeAddress = source.patientHomeAddress;
+            this.patientGender = source.patientGender;
+            this.patientMedicalRecordNo = source.patientMedicalRecordNo;
+        }
+
+        QueueEntry bindTo(Long skdId) {
+            return new QueueEntry(this, skdId, 1, status);
+        }
+
+        QueueEntry withStatus(int status) {
+            return new QueueEntry(this, skdId, bindStatus, status);
+        }
+
+        /**
+         * 待诊、诊中、诊毕的挂号在队列中，其他（如已退号）不在
+         */
+        public boolean isActive() {
+            return status >= 1 && status <= 3;
+        }
+
+        /**
+         * 是否为就诊日期在[start, end]之间的科室待诊
+         */
+        public boolean inDeptWindow(Date start, Date end) {
+            return bindStatus == 0 && status == 1 && attendanceDate != null
+                    && !attendanceDate.before(start) && !attendanceDate.after(end);
+        }
+
+        public Long getRegistrationId() {
+            return registrationId;
+        }
+
+        public Long getPatientId() {
+            return patientId;
+        }
+
+        public Long getDeptId() {
+            return deptId;
+        }
+
+        public Long getSkdId() {
+            return skdId;
+        }
+
+        public int getBindStatus() {
+            return bindStatus;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public String getPatientAgeStr() {
+            return patientAgeStr;
+        }
+
+        public String getPatientName() {
+            return patientName;
+        }
+
+        public String getPatientHomeAddress() {
+            return patientHomeAddress;
+        }
+
+        public Integer getPatientGender() {
+            return patientGender;
+        }
+
+        public String getPatientMedicalRecordNo() {
+            return patientMedicalRecordNo;
+        }
+    }
+
+    /**
+     * 医生所在科室及今日排班
+     */
+    public static class StaffSchedule {
+        private final Long deptId;
+        private final Date date;
+        private final long loadTime = System.currentTimeMillis();
+        private final Set<Long> skdIdSet = new HashSet<>();
+        //午别（0上午 1下午）-> 排班id
+        private final Map<Integer, Long> noonSkdMap = new HashMap<>();
+
+        StaffSchedule(Long deptId, List<SmsSkd> smsSkdList, Date date) {
+            this.deptId = deptId;
+            this.date = date;
+            for (SmsSkd smsSkd : smsSkdList) {
+                skdIdSet.add(smsSkd.getId());
+                noonSkdMap.putIfAbsent(smsSkd.getNoon(), smsSkd.getId());
+            }
+        }
+
+        //读取日期是today且未超过有效期
+        boolean isFresh(Date today) {
+            return date.equals(today) && System.currentTimeMillis() - loadTime < STAFF_SCHEDULE_TTL_MS;
+        }
+
+        public Long getDeptId() {
+            return deptId;
+        }
+
+        public Set<Long> getSkdIdSet() {
+            return skdIdSet;
+        }
+
+        /**
+         * 当前午别的排班id，没有排班时返回null
+         */
+        public Long currentSkdId() {
+            int hour = Calendar.getInstance().get(Calendar.HOUR_OF_DAY);
+            return noonSkdMap.get(hour <= 12 ? 0 : 1);//12点及以前为上午
+        }
+    }
+}
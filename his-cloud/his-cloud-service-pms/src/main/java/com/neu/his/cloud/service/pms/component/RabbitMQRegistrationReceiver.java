@@ -0,0 +1,36 @@
+package com.neu.his.cloud.service.pms.component;
+
+import com.neu.his.cloud.service.pms.service.PmsWorklistService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 接收挂号变更广播：每个pms实例绑定一个匿名队列，各自推送给连在本实例上的医生
+ */
+@Component
+public class RabbitMQRegistrationReceiver {
+    private static Logger LOGGER = LoggerFactory.getLogger(RabbitMQRegistrationReceiver.class);
+
+    @Autowired
+    private PmsWorklistService pmsWorklistService;
+
+    @RabbitListener(bindings = @QueueBinding(value = @Queue,
+            exchange = @Exchange(value = RabbitMQRegistrationSender.EXCHANGE_REGISTRATION, type = ExchangeTypes.FANOUT)))
+    public void handle(String msg) {
+        Long registrationId;
+        try {
+            registrationId = Long.valueOf(msg);
+        } catch (NumberFormatException e) {
+            LOGGER.warn("挂号变更消息格式错误 msg:{}", msg);
+            return;
+        }
+        pmsWorklistService.onRegistrationChange(registrationId);
+    }
+}
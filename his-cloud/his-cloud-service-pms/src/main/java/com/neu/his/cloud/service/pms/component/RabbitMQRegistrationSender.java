@@ -0,0 +1,51 @@
+package com.neu.his.cloud.service.pms.component;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 挂号变更通知：向his.registration.fanout广播挂号id，医生工作站（pms）据此推送待诊列表变化
+ */
+@Component
+public class RabbitMQRegistrationSender {
+    private static Logger LOGGER = LoggerFactory.getLogger(RabbitMQRegistrationSender.class);
+
+    public static final String EXCHANGE_REGISTRATION = "his.registration.fanout";
+
+    @Autowired
+    private AmqpTemplate amqpTemplate;
+
+    /**
+     * 发送挂号变更消息（消息内容为挂号id）；处于事务中时在提交后发送，保证接收方能读到最新数据
+     */
+    public void sendChange(final Long registrationId) {
+        if (registrationId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    send(registrationId);
+                }
+            });
+        } else {
+            send(registrationId);
+        }
+    }
+
+    private void send(Long registrationId) {
+        try {
+            amqpTemplate.convertAndSend(EXCHANGE_REGISTRATION, "", registrationId.toString());
+        } catch (AmqpException e) {
+            //通知失败不影响挂号本身，医生端重连时会重新拉取完整列表
+            LOGGER.warn("send registration change failed registrationId:{}", registrationId, e);
+        }
+    }
+}
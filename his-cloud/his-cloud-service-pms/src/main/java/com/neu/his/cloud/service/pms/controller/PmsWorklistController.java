@@ -0,0 +1,35 @@
+package com.neu.his.cloud.service.pms.controller;
+
+import com.neu.his.cloud.service.pms.common.CommonResult;
+import com.neu.his.cloud.service.pms.service.PmsWorklistService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Controller
+@Api(tags = "PmsWorklistController", description = "医生待诊列表推送")
+@RequestMapping("/worklist")
+@CrossOrigin(allowCredentials = "true")
+public class PmsWorklistController {
+    @Autowired
+    PmsWorklistService pmsWorklistService;
+
+    //医生订阅待诊列表（Server-Sent Events）
+    //连接后先收到snapshot事件（完整列表，同refreshPatient），之后收到delta事件（单个挂号所在列表的变化）
+    @ApiOperation(value = "医生订阅待诊列表推送")
+    @RequestMapping(value = "/subscribe", method = RequestMethod.GET, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestParam("staffId") Long staffId){
+        return pmsWorklistService.subscribe(staffId);
+    }
+
+    @ApiOperation(value = "医生所在科室的待诊人数")
+    @RequestMapping(value = "/countDeptWait", method = RequestMethod.GET)
+    @ResponseBody
+    public CommonResult<Integer> countDeptWait(@RequestParam("staffId") Long staffId){
+        return CommonResult.success(pmsWorklistService.countDeptWait(staffId));
+    }
+}
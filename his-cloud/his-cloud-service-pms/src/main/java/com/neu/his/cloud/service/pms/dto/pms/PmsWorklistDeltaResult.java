@@ -0,0 +1,18 @@
+package com.neu.his.cloud.service.pms.dto.pms;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Setter
+@Getter
+@ToString
+public class PmsWorklistDeltaResult {
+    @ApiModelProperty(value = "就诊号(挂号号)")
+    Long registrationId;
+    @ApiModelProperty(value = "所在列表：deptWait科室待诊 personalWait个人待诊 personalDuring个人诊中 personalEnd个人已诊 removed移出")
+    String list;
+    @ApiModelProperty(value = "患者信息（removed时为空）")
+    PmsDiagnosisPatientResult patient;
+}
@@ -0,0 +1,23 @@
+package com.neu.his.cloud.service.pms.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 医生工作站待诊列表推送
+ */
+public interface PmsWorklistService {
+    /**
+     * 描述：医生订阅待诊列表，先推送一次完整列表（snapshot），之后推送变化（delta）
+     */
+    SseEmitter subscribe(Long staffId);
+
+    /**
+     * 描述：挂号发生变化（新挂号、绑定医生、诊断状态变化、退号）时，向相关科室和排班的医生推送
+     */
+    void onRegistrationChange(Long registrationId);
+
+    /**
+     * 描述：医生所在科室的待诊人数
+     */
+    int countDeptWait(Long staffId);
+}
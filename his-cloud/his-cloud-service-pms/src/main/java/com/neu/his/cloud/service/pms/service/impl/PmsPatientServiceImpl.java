@@ -2,6 +2,8 @@ package com.neu.his.cloud.service.pms.service.impl;
 
 
 import cn.hutool.core.collection.CollectionUtil;
+import com.neu.his.cloud.service.pms.component.DeptQueueRegistry;
+import com.neu.his.cloud.service.pms.component.RabbitMQRegistrationSender;
 import com.neu.his.cloud.service.pms.dto.dms.DmsCaseHistoryResult;
 import com.neu.his.cloud.service.pms.dto.pms.PmsDiagnosisPatientListResult;
 import com.neu.his.cloud.service.pms.dto.pms.PmsDiagnosisPatientResult;
@@ -10,12 +12,10 @@ import com.neu.his.cloud.service.pms.mapper.*;
 import com.neu.his.cloud.service.pms.model.*;
 import com.neu.his.cloud.service.pms.service.PmsPatientService;
 import com.neu.his.cloud.service.pms.util.AgeStrUtil;
-import com.neu.his.cloud.service.pms.util.DateUtil;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -25,13 +25,13 @@ public class PmsPatientServiceImpl implements PmsPatientService {
     @Autowired
     private PmsPatientMapper pmsPatientMapper;
     @Autowired
-    private SmsStaffMapper smsStaffMapper;
-    @Autowired
     private DmsRegistrationMapper dmsRegistrationMapper;
     @Autowired
-    private SmsSkdMapper smsSkdMapper;
-    @Autowired
     private DmsCaseHistoryMapper dmsCaseHistoryMapper;
+    @Autowired
+    private RabbitMQRegistrationSender rabbitMQRegistrationSender;
+    @Autowired
+    private DeptQueueRegistry deptQueueRegistry;
     //1.调用PmsPatientDao根据身份证号查询病人信息，并封装
     //2. 如果病人信息不存在，则直接返回
 
@@ -61,10 +61,8 @@ public class PmsPatientServiceImpl implements PmsPatientService {
         return null;
     }
     //1.传入医生id
-    // 2.先根据医生id查找部门id,再从dms_registration中根据bind_status（0）、attendance_date、dept_id、status(1)查找出科室待诊患者
-    // 3.
-    //	3.1先通过午别、时间、医生id在表sms_skd中查找出sms_skd的id
-    //	3.1.从dms_registration中根据bind_status（1）、attendance_date、skd_id查找出分配了的患者信息，并根据status分类（1，2，3）
+    //2.从门诊队列（内存）中取出医生所在科室的待诊患者（未绑定、待诊、就诊日期在昨天到现在之间）
+    //3.取出绑定到医生今日排班的患者，并根据status分类（1，2，3）
     /**
      * 描述：
      * <p>author:王思阳
@@ -74,107 +72,31 @@ public class PmsPatientServiceImpl implements PmsPatientService {
      */
     @Override
     public PmsDiagnosisPatientListResult refreshPatient(Long staffId) {
-        //根据医生id查找部门id
-        SmsStaffExample smsStaffExample = new SmsStaffExample();
-        smsStaffExample.createCriteria().andIdEqualTo(staffId);
-        List<SmsStaff> smsStaffList = smsStaffMapper.selectByExample(smsStaffExample);
-        Long deptId = smsStaffList.get(0).getDeptId();
-        System.err.println("deptId:"+deptId);
-
-
-        //从dms_registration中根据bind_status（0）、attendance_date、dept_id、status(1)查找出科室待诊患者
-        DmsRegistrationExample dmsRegistrationExample = new DmsRegistrationExample();
-        Date date = new Date();//注意：这里的时间判断可能有问题
-
-        //时间  对于科室等待患者，列出今天和昨天的（防止12点出故障）
-
-        Date beforeAday= DateUtil.getDateBefore(date,1);
-        System.err.println("date:"+date);
-        System.err.println("beforeAday:"+beforeAday);
-
-        dmsRegistrationExample.createCriteria().andBindStatusEqualTo(0).andDeptIdEqualTo(deptId).andStatusEqualTo(1).andAttendanceDateBetween(beforeAday,date);
-        List<DmsRegistration> dmsRegistrationList = dmsRegistrationMapper.selectByExample(dmsRegistrationExample);
-
-        System.err.println("dmsRegistrationList.size: " + dmsRegistrationList.size());
-
-        //映射List<DmsRegistration>到List<PmsDiagnosisPatientResult>
-        List<PmsDiagnosisPatientResult> deptWaitList = new ArrayList<>();//科室待诊列表
-        for (DmsRegistration dmsRegistration : dmsRegistrationList) {
-            PmsDiagnosisPatientResult pmsDiagnosisPatientResult = new PmsDiagnosisPatientResult();
-            pmsDiagnosisPatientResult.setPatientId(dmsRegistration.getPatientId());
-            pmsDiagnosisPatientResult.setPatientAge(dmsRegistration.getPatientAgeStr());
-            pmsDiagnosisPatientResult.setRegistrationId(dmsRegistration.getId());
-            pmsDiagnosisPatientResult.setRegistrationStatus(dmsRegistration.getStatus());
-            //从PmsPatient中查询其他字段并封装
-            PmsPatientExample pmsPatientExample = new PmsPatientExample();
-            pmsPatientExample.createCriteria().andIdEqualTo(dmsRegistration.getPatientId());
-            List<PmsPatient> pmsPatientList = pmsPatientMapper.selectByExample(pmsPatientExample);
-            pmsDiagnosisPatientResult.setPatientName(pmsPatientList.get(0).getName());
-            pmsDiagnosisPatientResult.setPatientHomeAdress(pmsPatientList.get(0).getHomeAddress());
-            pmsDiagnosisPatientResult.setPatientGender(pmsPatientList.get(0).getGender());
-            pmsDiagnosisPatientResult.setPatientMedicalRecordNo(pmsPatientList.get(0).getMedicalRecordNo());
-            deptWaitList.add(pmsDiagnosisPatientResult);//加入List<PmsDiagnosisPatientResult>
-        }
-        System.err.println("deptWaitList.size: " + deptWaitList.size());
-
-        //获取当前午别
-        SimpleDateFormat df = new SimpleDateFormat("HH");
-        String hourStr = df.format(date);
-
-        //通过午别、时间、医生id在表sms_skd中查找出sms_skd的id
-        SmsSkdExample smsSkdExample = new SmsSkdExample();
-        System.err.println("staffId:"+staffId);
-        smsSkdExample.createCriteria().andStaffIdEqualTo(staffId).andDateEqualTo(DateUtil.getDate(DateUtil.setMilliSecond(date,0)));
-        List<SmsSkd> smsSkdList = smsSkdMapper.selectByExample(smsSkdExample);
-
-        System.err.println(smsSkdList==null?"smsSkdList=null":"smsSkdList!=null");
-
-        System.err.println(smsSkdList.size());
-        if(CollectionUtil.isEmpty(smsSkdList)){
+        DeptQueueRegistry.StaffSchedule staffSchedule = deptQueueRegistry.staffSchedule(staffId);
+        if (staffSchedule == null) {
             return null;
         }
-
-        List<Long> idList = new ArrayList<>();
-        for(SmsSkd skd : smsSkdList){
-            idList.add(skd.getId());
+        //科室待诊列表
+        List<PmsDiagnosisPatientResult> deptWaitList = new ArrayList<>();
+        for (DeptQueueRegistry.QueueEntry entry : deptQueueRegistry.listDeptWait(staffSchedule.getDeptId())) {
+            deptWaitList.add(toDiagnosisPatientResult(entry));
+        }
+        if (staffSchedule.getSkdIdSet().isEmpty()) {
+            return null;
         }
-
-
-
-        //从dms_registration中根据bind_status（1）、attendance_date、skd_id查找出分配了的患者信息，并根据status分类（1，2，3）
-        DmsRegistrationExample dmsRegistrationExample1 = new DmsRegistrationExample();
-        //使用DateUtil只截取日期部分
-        dmsRegistrationExample1.createCriteria().andBindStatusEqualTo(1).andAttendanceDateEqualTo(DateUtil.getDate(DateUtil.setMilliSecond(date,0))).andSkdIdIn(idList);
-        ;
-
-
-        List<DmsRegistration> dmsRegistrationList1 = dmsRegistrationMapper.selectByExample(dmsRegistrationExample1);
 
         List<PmsDiagnosisPatientResult> personalWaitList = new ArrayList<>();//个人待诊
         List<PmsDiagnosisPatientResult> personalDuringList = new ArrayList<>();//个人诊中
         List<PmsDiagnosisPatientResult> personalEndList = new ArrayList<>();//个人已诊
-        for (DmsRegistration dmsRegistration:dmsRegistrationList1) {
-            PmsDiagnosisPatientResult pmsDiagnosisPatientResult = new PmsDiagnosisPatientResult();
-            pmsDiagnosisPatientResult.setPatientId(dmsRegistration.getPatientId());
-            pmsDiagnosisPatientResult.setPatientAge(dmsRegistration.getPatientAgeStr());
-            pmsDiagnosisPatientResult.setRegistrationId(dmsRegistration.getId());
-            pmsDiagnosisPatientResult.setRegistrationStatus(dmsRegistration.getStatus());
-            //从PmsPatient中查询其他字段并封装
-            PmsPatientExample pmsPatientExample = new PmsPatientExample();
-            pmsPatientExample.createCriteria().andIdEqualTo(dmsRegistration.getPatientId());
-            List<PmsPatient> pmsPatientList = pmsPatientMapper.selectByExample(pmsPatientExample);
-            pmsDiagnosisPatientResult.setPatientName(pmsPatientList.get(0).getName());
-            pmsDiagnosisPatientResult.setPatientHomeAdress(pmsPatientList.get(0).getHomeAddress());
-            pmsDiagnosisPatientResult.setPatientGender(pmsPatientList.get(0).getGender());
-            pmsDiagnosisPatientResult.setPatientMedicalRecordNo(pmsPatientList.get(0).getMedicalRecordNo());
-            if (pmsDiagnosisPatientResult.getRegistrationStatus() == 1){//待诊
-                personalWaitList.add(pmsDiagnosisPatientResult);
+        for (DeptQueueRegistry.QueueEntry entry : deptQueueRegistry.listSkdQueue(staffSchedule.getSkdIdSet())) {
+            if (entry.getStatus() == 1){//待诊
+                personalWaitList.add(toDiagnosisPatientResult(entry));
             }
-            else if (pmsDiagnosisPatientResult.getRegistrationStatus() == 2){//诊中
-                personalDuringList.add(pmsDiagnosisPatientResult);
+            else if (entry.getStatus() == 2){//诊中
+                personalDuringList.add(toDiagnosisPatientResult(entry));
             }
-            else if (pmsDiagnosisPatientResult.getRegistrationStatus() == 3){//诊毕
-                personalEndList.add(pmsDiagnosisPatientResult);
+            else if (entry.getStatus() == 3){//诊毕
+                personalEndList.add(toDiagnosisPatientResult(entry));
             }
         }
         //封装PmsDiagnosisPatientListResult对象并返回
@@ -186,42 +108,16 @@ public class PmsPatientServiceImpl implements PmsPatientService {
         return pmsDiagnosisPatientListResult;
     }
     //1. 传入dms_registration的id和医生id
-    //2. 先根据医生id、时间、午别查找sms_skd的id
-    //3.根据dms_registration的id修改dms_registration中bind_status为1,并添加skd_id
+    //2. 从门诊队列中取医生当前午别的排班id
+    //3. 在门诊队列中把挂号移入该排班（bind_status为1，并添加skd_id），数据库异步写入
     @Override
     public int bindPatient(Long registrationId, Long staffId) {
-        //根据医生id、时间、午别查找sms_skd的id
-            //获取当前午别
-        Date date = new Date();
-        SimpleDateFormat df = new SimpleDateFormat("HH");
-        String hourStr = df.format(date);
-        int hour = Integer.parseInt(hourStr);
-        Integer noon;//午别
-        if (hour <= 12){
-            noon = 0;//上午
-        }
-        else {
-            noon = 1;//下午
-        }
-        SmsSkdExample smsSkdExample = new SmsSkdExample();
-        smsSkdExample.createCriteria().andStaffIdEqualTo(staffId).andDateEqualTo(DateUtil.getDate(DateUtil.setMilliSecond(date,0))).andNoonEqualTo(noon);
-        /*
-        时间判断问题
-         */
-        //smsSkdExample.createCriteria().andStaffIdEqualTo(staffId).andNoonEqualTo(noon);
-        List<SmsSkd> smsSkdList = smsSkdMapper.selectByExample(smsSkdExample);
-        Long skdId = smsSkdList.get(0).getId();
+        DeptQueueRegistry.StaffSchedule staffSchedule = deptQueueRegistry.staffSchedule(staffId);
+        Long skdId = staffSchedule == null ? null : staffSchedule.currentSkdId();
         if (skdId == null){
             return 0;
         }
-        //根据dms_registration的id修改dms_registration中bind_status为1,并添加skd_id
-        DmsRegistrationExample dmsRegistrationExample = new DmsRegistrationExample();
-        dmsRegistrationExample.createCriteria().andIdEqualTo(registrationId);
-        DmsRegistration dmsRegistration = new DmsRegistration();
-        dmsRegistration.setBindStatus(1);
-        dmsRegistration.setSkdId(skdId);
-        dmsRegistrationMapper.updateByExampleSelective(dmsRegistration,dmsRegistrationExample);
-        return 1;
+        return deptQueueRegistry.bind(registrationId, skdId) ? 1 : 0;
     }
     //1.调用PmsPatientService的updateDiagnosisSatus 根据挂号id修改status状态为2
     //2.调用PmsPatientService的selectCaseHistoryByPatient()
@@ -238,6 +134,8 @@ public class PmsPatientServiceImpl implements PmsPatientService {
         dmsRegistration.setId(registrationId);
         dmsRegistration.setStatus(status);
         dmsRegistrationMapper.updateByPrimaryKeySelective(dmsRegistration);
+        deptQueueRegistry.updateStatus(registrationId, status);
+        rabbitMQRegistrationSender.sendChange(registrationId);
         return 1;
     }
     //1.根据registrationId查找出patientId
@@ -272,4 +170,17 @@ public class PmsPatientServiceImpl implements PmsPatientService {
         return pmsPatientResult;
 
     }
+
+    private PmsDiagnosisPatientResult toDiagnosisPatientResult(DeptQueueRegistry.QueueEntry entry) {
+        PmsDiagnosisPatientResult pmsDiagnosisPatientResult = new PmsDiagnosisPatientResult();
+        pmsDiagnosisPatientResult.setPatientId(entry.getPatientId());
+        pmsDiagnosisPatientResult.setPatientAge(entry.getPatientAgeStr());
+        pmsDiagnosisPatientResult.setRegistrationId(entry.getRegistrationId());
+        pmsDiagnosisPatientResult.setRegistrationStatus(entry.getStatus());
+        pmsDiagnosisPatientResult.setPatientName(entry.getPatientName());
+        pmsDiagnosisPatientResult.setPatientHomeAdress(entry.getPatientHomeAddress());
+        pmsDiagnosisPatientResult.setPatientGender(entry.getPatientGender());
+        pmsDiagnosisPatientResult.setPatientMedicalRecordNo(entry.getPatientMedicalRecordNo());
+        return pmsDiagnosisPatientResult;
+    }
 }
@@ -0,0 +1,195 @@
+package com.neu.his.cloud.service.pms.service.impl;
+
+import com.neu.his.cloud.service.pms.component.DeptQueueRegistry;
+import com.neu.his.cloud.service.pms.dto.pms.PmsDiagnosisPatientListResult;
+import com.neu.his.cloud.service.pms.dto.pms.PmsDiagnosisPatientResult;
+import com.neu.his.cloud.service.pms.dto.pms.PmsWorklistDeltaResult;
+import com.neu.his.cloud.service.pms.service.PmsPatientService;
+import com.neu.his.cloud.service.pms.service.PmsWorklistService;
+import com.neu.his.cloud.service.pms.util.DateUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class PmsWorklistServiceImpl implements PmsWorklistService {
+    private static Logger LOGGER = LoggerFactory.getLogger(PmsWorklistServiceImpl.class);
+
+    //连接超时后由客户端重连，重连时重新推送完整列表
+    private static final long EMITTER_TIMEOUT = 30 * 60 * 1000L;
+
+    @Autowired
+    private PmsPatientService pmsPatientService;
+    @Autowired
+    private DeptQueueRegistry deptQueueRegistry;
+
+    //按科室、按排班索引的订阅者
+    private final Map<Long, Set<Subscriber>> deptSubscriberMap = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscriber>> skdSubscriberMap = new ConcurrentHashMap<>();
+    //全部订阅者，发送心跳用
+    private final Set<Subscriber> subscriberSet = ConcurrentHashMap.newKeySet();
+
+    //1.从门诊队列取医生所在科室及今日排班，按科室、排班登记订阅者
+    //2.推送完整列表（与refreshPatient相同）
+    @Override
+    public SseEmitter subscribe(Long staffId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT);
+        DeptQueueRegistry.StaffSchedule staffSchedule = deptQueueRegistry.staffSchedule(staffId);
+        if (staffSchedule == null) {
+            emitter.complete();
+            return emitter;
+        }
+
+        Subscriber subscriber = new Subscriber(staffSchedule.getDeptId(), staffSchedule.getSkdIdSet(), emitter);
+        register(subscriber);
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+
+        PmsDiagnosisPatientListResult snapshot = pmsPatientService.refreshPatient(staffId);
+        subscriber.send("snapshot", snapshot != null ? snapshot : new PmsDiagnosisPatientListResult());
+        return emitter;
+    }
+
+    //1.重新加载该挂号到门诊队列（每次变化只查一次，与在线医生数无关）
+    //2.找出同科室及该排班的订阅者，按各自视角计算所在列表并推送
+    @Override
+    public void onRegistrationChange(Long registrationId) {
+        DeptQueueRegistry.QueueEntry entry = deptQueueRegistry.reload(registrationId);
+        if (entry == null) {
+            return;
+        }
+        Set<Subscriber> subscriberSet = new HashSet<>();
+        if (entry.getDeptId() != null) {
+            subscriberSet.addAll(deptSubscriberMap.getOrDefault(entry.getDeptId(), Collections.emptySet()));
+        }
+        if (entry.getSkdId() != null) {
+            subscriberSet.addAll(skdSubscriberMap.getOrDefault(entry.getSkdId(), Collections.emptySet()));
+        }
+        if (subscriberSet.isEmpty()) {
+            return;
+        }
+
+        PmsDiagnosisPatientResult patientResult = new PmsDiagnosisPatientResult();
+        patientResult.setPatientId(entry.getPatientId());
+        patientResult.setPatientAge(entry.getPatientAgeStr());
+        patientResult.setRegistrationId(entry.getRegistrationId());
+        patientResult.setRegistrationStatus(entry.getStatus());
+        patientResult.setPatientName(entry.getPatientName());
+        patientResult.setPatientHomeAdress(entry.getPatientHomeAddress());
+        patientResult.setPatientGender(entry.getPatientGender());
+        patientResult.setPatientMedicalRecordNo(entry.getPatientMedicalRecordNo());
+
+        for (Subscriber subscriber : subscriberSet) {
+            PmsWorklistDeltaResult delta = new PmsWorklistDeltaResult();
+            delta.setRegistrationId(registrationId);
+            delta.setList(listOf(entry, subscriber));
+            if (!"removed".equals(delta.getList())) {
+                delta.setPatient(patientResult);
+            }
+            subscriber.send("delta", delta);
+        }
+    }
+
+    //网关（zuul）的读超时为150秒，长时间没有挂号变化时定时发送SSE注释行保持连接，同时清理已断开的连接
+    @Scheduled(initialDelayString = "${worklist.heartbeat-ms:30000}", fixedDelayString = "${worklist.heartbeat-ms:30000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscriberSet) {
+            subscriber.send(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    @Override
+    public int countDeptWait(Long staffId) {
+        DeptQueueRegistry.StaffSchedule staffSchedule = deptQueueRegistry.staffSchedule(staffId);
+        return staffSchedule == null ? 0 : deptQueueRegistry.countDeptWait(staffSchedule.getDeptId());
+    }
+
+    //与refreshPatient的分类规则一致：
+    //绑定了该医生今日排班的，按status分为个人待诊/诊中/已诊；未绑定、待诊且就诊日期在昨天到现在之间的，为科室待诊
+    private String listOf(DeptQueueRegistry.QueueEntry entry, Subscriber subscriber) {
+        if (!entry.isActive()) {
+            return "removed";
+        }
+        if (entry.getBindStatus() == 1) {
+            if (entry.getSkdId() != null && subscriber.skdIdSet.contains(entry.getSkdId())) {
+                if (entry.getStatus() == 1) {
+                    return "personalWait";
+                } else if (entry.getStatus() == 2) {
+                    return "personalDuring";
+                } else if (entry.getStatus() == 3) {
+                    return "personalEnd";
+                }
+            }
+            return "removed";
+        }
+        Date now = new Date();
+        if (Objects.equals(entry.getDeptId(), subscriber.deptId) && entry.inDeptWindow(DateUtil.getDateBefore(now, 1), now)) {
+            return "deptWait";
+        }
+        return "removed";
+    }
+
+    private void register(Subscriber subscriber) {
+        subscriberSet.add(subscriber);
+        if (subscriber.deptId != null) {
+            deptSubscriberMap.computeIfAbsent(subscriber.deptId, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+        for (Long skdId : subscriber.skdIdSet) {
+            skdSubscriberMap.computeIfAbsent(skdId, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscriberSet.remove(subscriber);
+        if (subscriber.deptId != null) {
+            removeFrom(deptSubscriberMap, subscriber.deptId, subscriber);
+        }
+        for (Long skdId : subscriber.skdIdSet) {
+            removeFrom(skdSubscriberMap, skdId, subscriber);
+        }
+    }
+
+    private void removeFrom(Map<Long, Set<Subscriber>> subscriberMap, Long key, Subscriber subscriber) {
+        subscriberMap.computeIfPresent(key, (k, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 一个医生工作站连接
+     */
+    private class Subscriber {
+        private final Long deptId;
+        private final Set<Long> skdIdSet;
+        private final SseEmitter emitter;
+
+        Subscriber(Long deptId, Set<Long> skdIdSet, SseEmitter emitter) {
+            this.deptId = deptId;
+            this.skdIdSet = skdIdSet;
+            this.emitter = emitter;
+        }
+
+        void send(String name, Object data) {
+            send(SseEmitter.event().name(name).data(data));
+        }
+
+        //同一连接的推送需要串行
+        synchronized void send(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                LOGGER.info("worklist subscriber disconnected deptId:{}", deptId);
+                unregister(this);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
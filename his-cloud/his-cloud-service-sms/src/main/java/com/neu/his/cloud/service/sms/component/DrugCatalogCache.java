@@ -0,0 +1,208 @@
+package com.neu.his.cloud.service.sms.component;
+
+import com.neu.his.cloud.service.sms.dto.dms.DmsDrugView;
+import com.neu.his.cloud.service.sms.mapper.DmsDosageMapper;
+import com.neu.his.cloud.service.sms.mapper.DmsDrugMapper;
+import com.neu.his.cloud.service.sms.model.DmsDosage;
+import com.neu.his.cloud.service.sms.model.DmsDosageExample;
+import com.neu.his.cloud.service.sms.model.DmsDrug;
+import com.neu.his.cloud.service.sms.model.DmsDrugExample;
+import com.neu.his.cloud.service.sms.util.LongObjectMap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 药品目录（药品+剂型）的只读缓存，与dms中的DrugCatalogCache相同，常用项查询药品名称、单价、规格、剂型时不再查询dms_drug
+ * <p>1.启动时全量加载，之后每隔reload-ms全量重新加载一次，兜底丢失的失效消息和剂型修改
+ * <p>2.缓存中没有的药品（其他实例刚新增的）从数据库加载后放入缓存（read-through）
+ * <p>3.dms中药品新增、修改、删除后发布到Redis频道INVALIDATE_CHANNEL，收到后重新加载这些药品
+ * <p>读取只访问volatile引用的LongObjectMap，不加锁；修改复制出新表后整体替换
+ * <p>com.neu.his.cloud.service.dms.component.DrugCatalogCache的副本（去掉了发布失效消息），以dms为准同步修改
+ */
+@Component
+public class DrugCatalogCache implements MessageListener {
+    private static Logger LOGGER = LoggerFactory.getLogger(DrugCatalogCache.class);
+
+    public static final String INVALIDATE_CHANNEL = "his:drug:catalog:invalidate";
+
+    @Autowired
+    private DmsDrugMapper dmsDrugMapper;
+    @Autowired
+    private DmsDosageMapper dmsDosageMapper;
+
+    private final long reloadMs;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final ScheduledExecutorService reloadExecutor;
+
+    private volatile LongObjectMap<DmsDrugView> drugMap = LongObjectMap.empty();
+    //每次重新加载、失效后加1，read-through期间发生过修改则不放入缓存，避免旧数据覆盖新数据
+    private volatile long version;
+
+    public DrugCatalogCache(@Value("${drug-catalog.reload-ms:600000}") long reloadMs, MeterRegistry meterRegistry) {
+        this.reloadMs = reloadMs;
+        this.hitCounter = meterRegistry.counter("his.drug.catalog.hit");
+        this.missCounter = meterRegistry.counter("his.drug.catalog.miss");
+        Gauge.builder("his.drug.catalog.hit.ratio", this, DrugCatalogCache::hitRatio).register(meterRegistry);
+        Gauge.builder("his.drug.catalog.size", this, cache -> cache.drugMap.size()).register(meterRegistry);
+        this.reloadExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "drug-catalog-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reload();
+        reloadExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                reload();
+            } catch (Exception e) {
+                LOGGER.warn("重新加载药品目录失败", e);
+            }
+        }, reloadMs, reloadMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        reloadExecutor.shutdownNow();
+    }
+
+    /**
+     * 查询单个药品，不存在时返回null
+     */
+    public DmsDrugView get(Long drugId) {
+        if (drugId == null) {
+            return null;
+        }
+        DmsDrugView drug = drugMap.get(drugId);
+        if (drug != null) {
+            hitCounter.increment();
+            return drug;
+        }
+        return getAll(Collections.singletonList(drugId)).get(drugId);
+    }
+
+    /**
+     * 批量查询药品，返回药品id->药品，不存在的药品不在结果中；缓存中没有的一次IN查询加载
+     */
+    public Map<Long, DmsDrugView> getAll(Collection<Long> drugIds) {
+        Map<Long, DmsDrugView> resultMap = new HashMap<>();
+        Set<Long> missIdSet = new LinkedHashSet<>();
+        LongObjectMap<DmsDrugView> currentMap = drugMap;
+        for (Long drugId : drugIds) {
+            if (drugId == null || resultMap.containsKey(drugId)) {
+                continue;
+            }
+            DmsDrugView drug = currentMap.get(drugId);
+            if (drug != null) {
+                resultMap.put(drugId, drug);
+            } else {
+                missIdSet.add(drugId);
+            }
+        }
+        hitCounter.increment(resultMap.size());
+        if (!missIdSet.isEmpty()) {
+            missCounter.increment(missIdSet.size());
+            long loadVersion = version;
+            Map<Long, DmsDrugView> loadedMap = load(new ArrayList<>(missIdSet));
+            resultMap.putAll(loadedMap);
+            if (!loadedMap.isEmpty()) {
+                putIfUnchanged(loadedMap, loadVersion);
+            }
+        }
+        return resultMap;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        List<Long> drugIds = new ArrayList<>();
+        for (String idStr : body.split(",")) {
+            if (!idStr.trim().isEmpty()) {
+                drugIds.add(Long.valueOf(idStr.trim()));
+            }
+        }
+        invalidate(drugIds);
+    }
+
+    /**
+     * 重新加载指定药品，数据库中已不存在的从缓存中移除
+     */
+    public synchronized void invalidate(Collection<Long> drugIds) {
+        Set<Long> drugIdSet = new HashSet<>(drugIds);
+        drugIdSet.remove(null);
+        Map<Long, DmsDrugView> loadedMap = load(new ArrayList<>(drugIdSet));
+        drugMap = drugMap.with(loadedMap, drugIdSet);
+        version++;
+        LOGGER.debug("药品目录失效，药品id:{}", drugIds);
+    }
+
+    public synchronized void reload() {
+        Map<Long, DmsDrugView> loadedMap = load(null);
+        drugMap = LongObjectMap.of(loadedMap);
+        version++;
+        LOGGER.debug("加载药品目录{}种", loadedMap.size());
+    }
+
+    private synchronized void putIfUnchanged(Map<Long, DmsDrugView> loadedMap, long loadVersion) {
+        if (version == loadVersion) {
+            drugMap = drugMap.with(loadedMap, Collections.emptySet());
+        }
+    }
+
+    //drugIds为null时加载全部药品，剂型一次查询
+    private Map<Long, DmsDrugView> load(List<Long> drugIds) {
+        DmsDrugExample drugExample = new DmsDrugExample();
+        if (drugIds != null) {
+            if (drugIds.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            drugExample.createCriteria().andIdIn(drugIds);
+        }
+        List<DmsDrug> drugList = dmsDrugMapper.selectByExample(drugExample);
+        Set<Long> dosageIdSet = new HashSet<>();
+        for (DmsDrug drug : drugList) {
+            if (drug.getDosageId() != null) {
+                dosageIdSet.add(drug.getDosageId());
+            }
+        }
+        Map<Long, DmsDosage> dosageMap = new HashMap<>();
+        if (!dosageIdSet.isEmpty()) {
+            DmsDosageExample dosageExample = new DmsDosageExample();
+            dosageExample.createCriteria().andIdIn(new ArrayList<>(dosageIdSet));
+            for (DmsDosage dosage : dmsDosageMapper.selectByExample(dosageExample)) {
+                dosageMap.put(dosage.getId(), dosage);
+            }
+        }
+        Map<Long, DmsDrugView> resultMap = new HashMap<>(drugList.size() * 2);
+        for (DmsDrug drug : drugList) {
+            resultMap.put(drug.getId(), DmsDrugView.of(drug, dosageMap.get(drug.getDosageId())));
+        }
+        return resultMap;
+    }
+
+    private double hitRatio() {
+        double hit = hitCounter.count();
+        double total = hit + missCounter.count();
+        return total == 0 ? 0 : hit / total;
+    }
+}
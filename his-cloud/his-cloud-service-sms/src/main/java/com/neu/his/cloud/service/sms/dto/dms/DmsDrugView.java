@@ -0,0 +1,103 @@
+package com.neu.his.cloud.service.sms.dto.dms;
+
+import com.neu.his.cloud.service.sms.model.DmsDosage;
+import com.neu.his.cloud.service.sms.model.DmsDrug;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * 药品目录缓存中的药品（含剂型），创建后不可修改，可在线程间共享；不含库存
+ * <p>com.neu.his.cloud.service.dms.dto.dms.DmsDrugView的副本，以dms为准同步修改
+ */
+@Getter
+@ToString
+public final class DmsDrugView implements Serializable {
+
+    @ApiModelProperty(value = "药品id" )
+    private final Long id;
+    @ApiModelProperty(value = "药品编码" )
+    private final String code;
+    @ApiModelProperty(value = "药品名称" )
+    private final String name;
+    @ApiModelProperty(value = "规格" )
+    private final String format;
+    @ApiModelProperty(value = "单价" )
+    private final BigDecimal price;
+    @ApiModelProperty(value = "单位" )
+    private final String unit;
+    @ApiModelProperty(value = "生产厂家" )
+    private final String manufacturer;
+    @ApiModelProperty(value = "剂型id" )
+    private final Long dosageId;
+    @ApiModelProperty(value = "药品类型id" )
+    private final Long typeId;
+    @ApiModelProperty(value = "助记码" )
+    private final String mnemonicCode;
+    @Getter(AccessLevel.NONE)
+    private final Long createTime;
+    @ApiModelProperty(value = "通用名" )
+    private final String genericName;
+    @ApiModelProperty(value = "状态" )
+    private final Integer status;
+    @ApiModelProperty(value = "剂型编码" )
+    private final String dosageCode;
+    @ApiModelProperty(value = "剂型名称" )
+    private final String dosageName;
+    @ApiModelProperty(value = "剂型状态" )
+    private final Integer dosageStatus;
+    @Getter(AccessLevel.NONE)
+    private final boolean hasDosage;
+
+    private DmsDrugView(DmsDrug drug, DmsDosage dosage) {
+        this.id = drug.getId();
+        this.code = drug.getCode();
+        this.name = drug.getName();
+        this.format = drug.getFormat();
+        this.price = drug.getPrice();
+        this.unit = drug.getUnit();
+        this.manufacturer = drug.getManufacturer();
+        this.dosageId = drug.getDosageId();
+        this.typeId = drug.getTypeId();
+        this.mnemonicCode = drug.getMnemonicCode();
+        this.createTime = drug.getCreateDate() == null ? null : drug.getCreateDate().getTime();
+        this.genericName = drug.getGenericName();
+        this.status = drug.getStatus();
+        this.dosageCode = dosage == null ? null : dosage.getCode();
+        this.dosageName = dosage == null ? null : dosage.getName();
+        this.dosageStatus = dosage == null ? null : dosage.getStatus();
+        this.hasDosage = dosage != null;
+    }
+
+    /**
+     * dosage为药品的剂型，没有时传null
+     */
+    public static DmsDrugView of(DmsDrug drug, DmsDosage dosage) {
+        return new DmsDrugView(drug, dosage);
+    }
+
+    @ApiModelProperty(value = "创建时间" )
+    public Date getCreateDate() {
+        return createTime == null ? null : new Date(createTime);
+    }
+
+    /**
+     * 剂型，每次返回新对象；药品没有剂型或剂型已删除时返回null
+     */
+    public DmsDosage toDosage() {
+        if (!hasDosage) {
+            return null;
+        }
+        DmsDosage dosage = new DmsDosage();
+        dosage.setId(dosageId);
+        dosage.setCode(dosageCode);
+        dosage.setName(dosageName);
+        dosage.setStatus(dosageStatus);
+        return dosage;
+    }
+}
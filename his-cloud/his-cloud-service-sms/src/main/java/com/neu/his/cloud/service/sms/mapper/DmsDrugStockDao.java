@@ -0,0 +1,19 @@
+package com.neu.his.cloud.service.sms.mapper;
+
+import com.neu.his.cloud.service.sms.model.DmsDrug;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * @ClassName: DmsDrugStockDao
+ * @description: 药品库存，药品的其他信息从DrugCatalogCache读取
+ */
+@Mapper
+public interface DmsDrugStockDao {
+    /**
+     * 查询药品库存，返回的DmsDrug只有id、stock
+     */
+    List<DmsDrug> listStock(@Param("drugIds") List<Long> drugIds);
+}
@@ -1,7 +1,9 @@
 package com.neu.his.cloud.service.sms.service.impl;
 
 import cn.hutool.core.collection.CollectionUtil;
+import com.neu.his.cloud.service.sms.component.DrugCatalogCache;
 import com.neu.his.cloud.service.sms.dto.dms.DmsDrugResult;
+import com.neu.his.cloud.service.sms.dto.dms.DmsDrugView;
 import com.neu.his.cloud.service.sms.dto.dms.DmsNonDrugResult;
 import com.neu.his.cloud.service.sms.dto.sms.SmsFrequentUsedResult;
 import com.neu.his.cloud.service.sms.mapper.*;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 
@@ -30,11 +33,11 @@ public class SmsFrequentUsedServiceImpl implements SmsFrequentUsedService {
     @Autowired
     private DmsDiseMapper dmsDiseMapper;
     @Autowired
-    private DmsDrugMapper dmsDrugMapper;
+    private DmsDrugStockDao dmsDrugStockDao;
     @Autowired
-    private SmsDeptMapper smsDeptMapper;
+    private DrugCatalogCache drugCatalogCache;
     @Autowired
-    private DmsDosageMapper dmsDosageMapper;
+    private SmsDeptMapper smsDeptMapper;
 
 
     @Override
@@ -312,15 +315,19 @@ public class SmsFrequentUsedServiceImpl implements SmsFrequentUsedService {
             case 6: //药
                 List<Long> drugIdStr = strToList(frequentUsed.getDrugIdList());
                 if(!drugIdStr.isEmpty()){
-                    DmsDrugExample drugExample=new DmsDrugExample();
-                    drugExample.createCriteria().andIdIn(drugIdStr);
-                    List<DmsDrug> dmsDrugList = dmsDrugMapper.selectByExample(drugExample);
+                    //库存随时变化，单独查询；药品信息、剂型从药品目录缓存读取
+                    List<DmsDrug> dmsDrugStockList = dmsDrugStockDao.listStock(drugIdStr);
+                    Map<Long, DmsDrugView> drugViewMap = drugCatalogCache.getAll(drugIdStr);
                     List<DmsDrugResult> smsDrugResultList = new ArrayList<>();
-                    for (DmsDrug dmsDrug : dmsDrugList) {
+                    for (DmsDrug dmsDrugStock : dmsDrugStockList) {
+                        DmsDrugView dmsDrug = drugViewMap.get(dmsDrugStock.getId());
+                        if(dmsDrug == null){
+                            continue;
+                        }
                         DmsDrugResult dmsDrugResult = new DmsDrugResult();
                         BeanUtils.copyProperties(dmsDrug, dmsDrugResult);
-                        DmsDosage dmsDosage=dmsDosageMapper.selectByPrimaryKey(dmsDrug.getDosageId());
-                        dmsDrugResult.setDosage(dmsDosage);
+                        dmsDrugResult.setStock(dmsDrugStock.getStock());
+                        dmsDrugResult.setDosage(dmsDrug.toDosage());
                         smsDrugResultList.add(dmsDrugResult);
                     }
                     result.setDrugList(smsDrugResultList);
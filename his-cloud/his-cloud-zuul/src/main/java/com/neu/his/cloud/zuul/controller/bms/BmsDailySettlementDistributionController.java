@@ -99,4 +99,15 @@ public class BmsDailySettlementDistributionController {
  private CommonResult  verifySettleFallbackInfo(Long verifyOperatorId, Long settleRecordId){
   return CommonResult.success(null,"请检查您的网络") ;
  }
+
+    @HystrixCommand(fallbackMethod = "verifySettleAggregateFallbackInfo")
+    @ApiOperation(value = "用发票重算校验收费员的日结累计统计（repair为true且不一致时重建）")
+    @RequestMapping(value = "/verifySettleAggregate", method = RequestMethod.GET)
+    @ResponseBody
+    public CommonResult verifySettleAggregate(@RequestParam("cashierId") Long cashierId, @RequestParam(value = "repair", required = false, defaultValue = "false") Boolean repair){
+        return apiPcBmsDailySettlementDistributionService.verifySettleAggregate(cashierId, repair);
+    }
+    private CommonResult verifySettleAggregateFallbackInfo(Long cashierId, Boolean repair){
+        return CommonResult.success(null,"请检查您的网络") ;
+    }
 }
@@ -39,6 +39,21 @@ public class BmsFeeDistributionController {
         return CommonResult.success(null,"请检查您的网络") ;
     }
 
+    @HystrixCommand(fallbackMethod = "listRegisteredPatientAfterFallbackInfo")
+    @ApiOperation(value = "游标分页查询挂号人")
+    @RequestMapping(value = "/listRegisteredPatientAfter", method = RequestMethod.GET)
+    @ResponseBody
+    public CommonResult<List<BmsRegistrationPatientResult>> listRegisteredPatientAfter(@RequestParam(required=false,name = "medicalRecordNo") String  medicalRecordNo,
+                                                                                       @RequestParam(required=false,name="queryDate")@DateTimeFormat(pattern = "yyyy-MM-dd") Date queryDate,
+                                                                                       @RequestParam(required=false,name="lastCreateTime")@DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") Date lastCreateTime,
+                                                                                       @RequestParam(required=false,name="lastId") Long lastId,
+                                                                                       @RequestParam(value = "pageSize", defaultValue = "5") Integer pageSize){
+       return apiPcBmsFeeDistributionService.listRegisteredPatientAfter(medicalRecordNo,queryDate,lastCreateTime,lastId,pageSize);
+    }
+    private CommonResult<List<BmsRegistrationPatientResult>> listRegisteredPatientAfterFallbackInfo(String  medicalRecordNo, Date queryDate, Date lastCreateTime, Long lastId, Integer pageSize){
+        return CommonResult.success(null,"请检查您的网络") ;
+    }
+
     @HystrixCommand(fallbackMethod = "chargeFallbackInfo")
     @ApiOperation(value = "收费")
     @RequestMapping(value = "/charge", method = RequestMethod.POST)
@@ -93,4 +108,15 @@ public class BmsFeeDistributionController {
     private CommonResult<List<BmsChargeResult>>  listChargeByRegistrationIdFallbackInfo( Long registrationId){
         return CommonResult.success(null,"请检查您的网络") ;
     }
+
+    @HystrixCommand(fallbackMethod = "getBillRecordListFallbackInfo")
+    @ApiOperation(value = "根据门诊号查询账单项目串（旧版格式：项目id,类型><）")
+    @RequestMapping(value = "/getBillRecordList", method = RequestMethod.GET)
+    @ResponseBody
+    public CommonResult getBillRecordList(@RequestParam("registrationId") Long registrationId){
+       return apiPcBmsFeeDistributionService.getBillRecordList(registrationId);
+    }
+    private CommonResult getBillRecordListFallbackInfo(Long registrationId){
+        return CommonResult.success(null,"请检查您的网络") ;
+    }
 }
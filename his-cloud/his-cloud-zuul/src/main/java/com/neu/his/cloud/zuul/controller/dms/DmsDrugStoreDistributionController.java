@@ -5,6 +5,7 @@ import com.netflix.hystrix.contrib.javanica.annotation.HystrixCommand;
 import com.neu.his.cloud.zuul.common.CommonResult;
 import com.neu.his.cloud.zuul.distribution.api.pc.dms.ApiPcDmsDrugStoreDistributionService;
 import com.neu.his.cloud.zuul.dto.dms.DmsRefundDrugListParam;
+import com.neu.his.cloud.zuul.dto.dms.DmsReleaseDrugResult;
 import com.neu.his.cloud.zuul.dto.pms.PmsDrugStorePatientListResult;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -13,6 +14,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Date;
+import java.util.List;
 
 @RestController
 @Api(tags = "DmsDrugStoreDistributionController", description = "药房工作台")
@@ -29,10 +31,11 @@ public class DmsDrugStoreDistributionController {
     @ResponseBody
     public CommonResult<PmsDrugStorePatientListResult> listPatient(@RequestParam(value = "medicalRecordNo",required = false) String medicalRecordNo,
                                                                    @RequestParam("queryDate") String queryDate,
-                                                                   @RequestParam("type") Integer type){
-        return  apiPcDmsDrugStoreDistributionService.listPatient(medicalRecordNo,queryDate,type);
+                                                                   @RequestParam("type") Integer type,
+                                                                   @RequestParam(value = "paidSince",required = false) String paidSince){
+        return  apiPcDmsDrugStoreDistributionService.listPatient(medicalRecordNo,queryDate,type,paidSince);
     }
-    private CommonResult<PmsDrugStorePatientListResult> listPatientFallbackInfo(String medicalRecordNo, String queryDate,Integer type){
+    private CommonResult<PmsDrugStorePatientListResult> listPatientFallbackInfo(String medicalRecordNo, String queryDate,Integer type,String paidSince){
         return CommonResult.success(null,"请检查您的网络") ;
     }
 
@@ -48,6 +51,18 @@ public class DmsDrugStoreDistributionController {
         return CommonResult.success(null,"请检查您的网络") ;
     }
 
+    @HystrixCommand(fallbackMethod = "releaseDrugBatchFallbackInfo")
+    @ApiOperation("批量发药")
+    @RequestMapping(value = "/releaseDrugBatch", method = RequestMethod.POST)
+    @ResponseBody
+    public CommonResult<List<DmsReleaseDrugResult>> releaseDrugBatch(@RequestParam("prescriptionIds") List<Long> prescriptionIds,
+                                                                     @RequestParam("type") Integer type){
+        return apiPcDmsDrugStoreDistributionService.releaseDrugBatch(prescriptionIds,type);
+    }
+    private CommonResult<List<DmsReleaseDrugResult>> releaseDrugBatchFallbackInfo(List<Long> prescriptionIds,Integer type){
+        return CommonResult.success(null,"请检查您的网络") ;
+    }
+
     @HystrixCommand(fallbackMethod = "refundDrugFallbackInfo")
     @ApiOperation("退药")
     @RequestMapping(value = "/refundDrug", method = RequestMethod.POST)
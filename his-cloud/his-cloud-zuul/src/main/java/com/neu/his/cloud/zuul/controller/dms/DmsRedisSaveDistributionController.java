@@ -7,6 +7,7 @@ import com.netflix.hystrix.contrib.javanica.annotation.HystrixCommand;
 import com.neu.his.cloud.zuul.common.CommonResult;
 import com.neu.his.cloud.zuul.distribution.api.pc.dms.ApiPcDmsRedisSaveDistributionService;
 import com.neu.his.cloud.zuul.dto.dms.DmsCaseHistoryParam;
+import com.neu.his.cloud.zuul.dto.dms.DmsDraftRestoreResult;
 import com.neu.his.cloud.zuul.dto.dms.DmsDrugRedisParam;
 import com.neu.his.cloud.zuul.dto.dms.DmsNonDrugRedisParam;
 import io.swagger.annotations.Api;
@@ -52,7 +53,7 @@ public class DmsRedisSaveDistributionController {
 
 
     @HystrixCommand(fallbackMethod = "saveDrugPrescriptionFallbackInfo")
-    @ApiOperation(value = "暂存药方（根据挂号号和类型（4成药、5草药））")
+    @ApiOperation(value = "暂存药方（根据挂号号和类型（4草药、5成药））")
     @RequestMapping(value = "/saveDrugPrescription", method = RequestMethod.POST)
     @ResponseBody
     public CommonResult saveDrugPrescription(@RequestBody List<DmsDrugRedisParam> dmsDrugRedisParam,
@@ -65,7 +66,7 @@ public class DmsRedisSaveDistributionController {
     }
 
     @HystrixCommand(fallbackMethod = "getDrugPrescriptionFallbackInfo")
-    @ApiOperation(value = "取出药方（根据挂号号和类型（4成药、5草药））")
+    @ApiOperation(value = "取出药方（根据挂号号和类型（4草药、5成药））")
     @RequestMapping(value = "/getDrugPrescription", method = RequestMethod.POST)
     @ResponseBody
     public CommonResult<List<DmsDrugRedisParam>> getDrugPrescription(@RequestParam("registrationId") Long registrationId,
@@ -101,4 +102,15 @@ public class DmsRedisSaveDistributionController {
     private CommonResult<DmsNonDrugRedisParam> getNonDrugFallbackInfo( Long registrationId,int type){
         return CommonResult.success(null,"请检查您的网络") ;
     }
+
+    @HystrixCommand(fallbackMethod = "restoreAllFallbackInfo")
+    @ApiOperation(value = "取出全部暂存（根据挂号号）")
+    @RequestMapping(value = "/restoreAll", method = RequestMethod.POST)
+    @ResponseBody
+    public CommonResult<DmsDraftRestoreResult> restoreAll(@RequestParam("registrationId") Long registrationId){
+        return apiPcDmsRedisSaveDistributionService.restoreAll(registrationId);
+    }
+    private CommonResult<DmsDraftRestoreResult> restoreAllFallbackInfo(Long registrationId){
+        return CommonResult.success(null,"请检查您的网络") ;
+    }
 }
@@ -36,4 +36,7 @@ public interface ApiPcBmsDailySettlementDistributionService {
 
     @RequestMapping(value = "/dailySettlement/verifySettle", method = RequestMethod.GET)
     public CommonResult  verifySettle(@RequestParam("verifyOperatorId") Long verifyOperatorId, @RequestParam("settleRecordId") Long settleRecordId);
+
+    @RequestMapping(value = "/dailySettlement/verifySettleAggregate", method = RequestMethod.GET)
+    CommonResult verifySettleAggregate(@RequestParam("cashierId") Long cashierId, @RequestParam("repair") Boolean repair);
 }
@@ -3,6 +3,7 @@ package com.neu.his.cloud.zuul.distribution.api.pc.dms;
 
 import com.neu.his.cloud.zuul.common.CommonResult;
 import com.neu.his.cloud.zuul.dto.dms.DmsRefundDrugListParam;
+import com.neu.his.cloud.zuul.dto.dms.DmsReleaseDrugResult;
 import com.neu.his.cloud.zuul.dto.pms.PmsDrugStorePatientListResult;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -12,6 +13,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Date;
+import java.util.List;
 
 
 @FeignClient(value = "his-cloud-api-pc")
@@ -20,13 +22,18 @@ public interface ApiPcDmsDrugStoreDistributionService {
     @RequestMapping(value = "/drugStore/listPatient", method = RequestMethod.POST)
     CommonResult<PmsDrugStorePatientListResult> listPatient(@RequestParam(value = "medicalRecordNo",required = false) String medicalRecordNo,
                                                                    @RequestParam("queryDate") String queryDate,
-                                                                   @RequestParam("type") Integer type);
+                                                                   @RequestParam("type") Integer type,
+                                                                   @RequestParam(value = "paidSince",required = false) String paidSince);
 
 
     @RequestMapping(value = "/drugStore/releaseDrug", method = RequestMethod.POST)
     CommonResult releaseDrug(@RequestParam("prescriptionId") Long prescriptionId,
                                     @RequestParam("type") Integer type);
 
+    @RequestMapping(value = "/drugStore/releaseDrugBatch", method = RequestMethod.POST)
+    CommonResult<List<DmsReleaseDrugResult>> releaseDrugBatch(@RequestParam("prescriptionIds") List<Long> prescriptionIds,
+                                                              @RequestParam("type") Integer type);
+
     @RequestMapping(value = "/drugStore/refundDrug", method = RequestMethod.POST)
     public CommonResult refundDrug(@RequestBody DmsRefundDrugListParam dmsRefundDrugListParam);
 
@@ -3,6 +3,7 @@ package com.neu.his.cloud.zuul.distribution.api.pc.dms;
 
 import com.neu.his.cloud.zuul.common.CommonResult;
 import com.neu.his.cloud.zuul.dto.dms.DmsCaseHistoryParam;
+import com.neu.his.cloud.zuul.dto.dms.DmsDraftRestoreResult;
 import com.neu.his.cloud.zuul.dto.dms.DmsDrugRedisParam;
 import com.neu.his.cloud.zuul.dto.dms.DmsNonDrugRedisParam;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -40,4 +41,7 @@ public interface ApiPcDmsRedisSaveDistributionService {
     @RequestMapping(value = "/redisSave/getNonDrug", method = RequestMethod.POST)
     CommonResult<DmsNonDrugRedisParam> getNonDrug(@RequestParam("registrationId") Long registrationId,
                                                   @RequestParam("type") int type);
+
+    @RequestMapping(value = "/redisSave/restoreAll", method = RequestMethod.POST)
+    CommonResult<DmsDraftRestoreResult> restoreAll(@RequestParam("registrationId") Long registrationId);
 }
@@ -15,7 +15,7 @@ public class BmsRefundRegChargeParam  implements Serializable {
     Long registrationId;
     @ApiModelProperty(value = "原发票号")
     Long oldInvoiceNo;
-    @ApiModelProperty(value = "冲红发票号")
+    @ApiModelProperty(value = "冲红发票号（由服务端分配，无需传入）")
     Long redInvoiceNo;
     @ApiModelProperty(value = "操作人id")
     Long operatorId;
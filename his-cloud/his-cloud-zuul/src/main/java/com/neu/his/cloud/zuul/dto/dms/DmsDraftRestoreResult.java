@@ -0,0 +1,23 @@
+package com.neu.his.cloud.zuul.dto.dms;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+@Setter
+@Getter
+@ToString
+public class DmsDraftRestoreResult implements Serializable {
+
+    @ApiModelProperty(value = "病历首页" )
+    private DmsCaseHistoryParam casePage;
+    @ApiModelProperty(value = "药方（key为类型：4草药、5成药）" )
+    private Map<Integer, List<DmsDrugRedisParam>> drugPrescriptionMap;
+    @ApiModelProperty(value = "非药品项目（key为类型：0检查、1检验、2处置）" )
+    private Map<Integer, DmsNonDrugRedisParam> nonDrugMap;
+}